@@ -0,0 +1,17 @@
+@echo off
+rem Starts the application packaged by the appcds profile with its class data sharing archive, see README.md.
+rem JAVA_HOME must point to the JDK that wrote the archive, JAVA_OPTS are passed to the JVM.
+setlocal
+set dir=%~dp0target
+set java=java
+if defined JAVA_HOME set java=%JAVA_HOME%\bin\java
+
+if not exist "%dir%\javasteam.jar" (
+    echo %dir%\javasteam.jar not found, build it with: mvn -P appcds -pl app/application -am package -DskipTests 1>&2
+    exit /b 1
+)
+
+set cds=
+if exist "%dir%\javasteam.jsa" set cds=-XX:SharedArchiveFile="%dir%\javasteam.jsa" -Xshare:auto
+
+"%java%" %cds% %JAVA_OPTS% -jar "%dir%\javasteam.jar" %*
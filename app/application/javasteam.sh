@@ -0,0 +1,18 @@
+#!/bin/sh
+# Starts the application packaged by the appcds profile with its class data sharing archive, see README.md.
+# JAVA_HOME must point to the JDK that wrote the archive, JAVA_OPTS are passed to the JVM.
+dir="$(cd "$(dirname "$0")" && pwd)/target"
+java="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+
+if [ ! -f "$dir/javasteam.jar" ]; then
+  echo "$dir/javasteam.jar not found, build it with: mvn -P appcds -pl app/application -am package -DskipTests" >&2
+  exit 1
+fi
+
+cds=""
+if [ -f "$dir/javasteam.jsa" ]; then
+  # Falls back to loading the classes from the jars if the archive does not match the JDK or the jars
+  cds="-XX:SharedArchiveFile=$dir/javasteam.jsa -Xshare:auto"
+fi
+
+exec "$java" $cds $JAVA_OPTS -jar "$dir/javasteam.jar" "$@"
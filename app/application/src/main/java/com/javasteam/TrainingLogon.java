@@ -0,0 +1,118 @@
+package com.javasteam;
+
+import com.javasteam.steam.LoginParameters;
+import com.javasteam.steam.SteamClient;
+import com.javasteam.steam.directory.CMDirectory;
+import com.javasteam.steam.session.AuthSession;
+import com.javasteam.utils.common.JsonUtils;
+import com.javasteam.webapi.endpoints.steamdirectory.SteamWebDirectoryRESTAPIClient;
+import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Training run for the class data sharing archive, see the {@code appcds} profile. Logs in to a
+ * fake CM server the way {@link BaseApplication} logs in to Steam, creates the Web API client and
+ * loads an auth session from JSON, so the classes of the logon path are loaded before the JVM exits
+ * and writes them to the archive given with {@code -XX:ArchiveClassesAtExit}. The fake CM server
+ * runs in another process, its classes stay out of the archive and the class path of this JVM is
+ * the one of the packaged application. Nothing is sent to Steam.
+ */
+@Slf4j
+public class TrainingLogon {
+  private static final String USERNAME = "training";
+  private static final String FAKE_CM_SERVER = "com.javasteam.fakecm.FakeCMServer";
+  private static final String PUBLIC_KEY = "Public key: ";
+
+  /**
+   * @param args the class path of the fake CM server
+   */
+  public static void main(String... args) throws Exception {
+    if (args.length != 1) {
+      System.err.println("Usage: TrainingLogon <fake CM server class path>");
+      System.exit(1);
+    }
+
+    long start = System.nanoTime();
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+
+    Process server =
+        new ProcessBuilder(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp",
+                args[0],
+                FAKE_CM_SERVER,
+                String.valueOf(port))
+            .redirectErrorStream(true)
+            .start();
+    int status = 0;
+    try {
+      logon(port, readPublicKey(server));
+      log.info("Training logon finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+    } catch (Exception e) {
+      log.error("Training logon failed", e);
+      status = 1;
+    } finally {
+      server.destroy();
+    }
+
+    // Client threads are not all daemons, exit so the archive is written
+    System.exit(status);
+  }
+
+  private static void logon(int port, PublicKey universeKey) {
+    SteamClient steamClient =
+        new SteamClient(1, CMDirectory.fixed(List.of(new SteamCMServer("127.0.0.1", port))));
+    steamClient.setUniverseKey(universeKey);
+    steamClient.login(LoginParameters.with(USERNAME, USERNAME));
+    steamClient.setGamesPlayed(List.of(730));
+
+    SteamWebDirectoryRESTAPIClient.getHttpInstance();
+    AuthSession session =
+        AuthSession.builder()
+            .username(USERNAME)
+            .accessToken("header.payload.signature")
+            .refreshToken("header.payload.signature")
+            .build();
+    JsonUtils.fromJson(JsonUtils.toJson(session), AuthSession.class);
+
+    steamClient.disconnect();
+  }
+
+  private static PublicKey readPublicKey(Process server) throws Exception {
+    var reader = new BufferedReader(new InputStreamReader(server.getInputStream()));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      int index = line.indexOf(PUBLIC_KEY);
+      if (index >= 0) {
+        byte[] key = Base64.getDecoder().decode(line.substring(index + PUBLIC_KEY.length()).trim());
+        // Keep draining the output so the server never blocks on a full pipe
+        Thread.ofVirtual().start(() -> drain(reader));
+        return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(key));
+      }
+    }
+    throw new IOException("Fake CM server exited before printing its public key");
+  }
+
+  private static void drain(BufferedReader reader) {
+    try {
+      while (reader.readLine() != null) {
+        // Discard
+      }
+    } catch (IOException ignored) {
+      // Server stopped
+    }
+  }
+}
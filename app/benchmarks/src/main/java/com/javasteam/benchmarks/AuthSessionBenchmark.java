@@ -0,0 +1,90 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.steam.session.AuthSession;
+import com.javasteam.utils.common.JsonUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading {@code sessions} stored auth sessions from JSON, which parses their token claims once,
+ * and checking the expiry and Steam ID of every loaded session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthSessionBenchmark {
+  private static final long STEAM_ID = 76561197960265728L;
+
+  @Param({"10000"})
+  private int sessions;
+
+  private String[] json;
+  private AuthSession[] loaded;
+
+  @Setup
+  public void setup() {
+    long expiration = System.currentTimeMillis() / 1000 + 3600;
+    json = new String[sessions];
+    loaded = new AuthSession[sessions];
+    for (int i = 0; i < sessions; i++) {
+      AuthSession session =
+          AuthSession.builder()
+              .username("user" + i)
+              .accessToken(jwt(STEAM_ID + i, expiration))
+              .refreshToken(jwt(STEAM_ID + i, expiration + 86400))
+              .machineId("bWFjaGluZQ==")
+              .build();
+      json[i] = JsonUtils.toJson(session);
+      loaded[i] = session;
+    }
+  }
+
+  @Benchmark
+  public AuthSession[] load() {
+    AuthSession[] result = new AuthSession[json.length];
+    for (int i = 0; i < json.length; i++) {
+      result[i] = JsonUtils.fromJson(json[i], AuthSession.class);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public long expiryChecks() {
+    long valid = 0;
+    for (AuthSession session : loaded) {
+      if (!session.isAccessTokenExpired() && !session.isRefreshTokenExpired()) {
+        valid += session.getSteamIdFromRefreshToken();
+      }
+    }
+    return valid;
+  }
+
+  private static String jwt(long steamId, long expiration) {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    String header = "{\"typ\":\"JWT\",\"alg\":\"EdDSA\"}";
+    String claims =
+        ("{\"iss\":\"steam\",\"sub\":\"%s\",\"aud\":[\"client\",\"web\"],\"exp\":%s,"
+                + "\"nbf\":0,\"iat\":0,\"jti\":\"id\",\"oat\":\"0\",\"per\":0,"
+                + "\"ip_subject\":\"127.0.0.1\",\"ip_confirmer\":\"127.0.0.1\"}")
+            .formatted(steamId, expiration);
+    return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8))
+        + "."
+        + encoder.encodeToString(claims.getBytes(StandardCharsets.UTF_8))
+        + ".signature";
+  }
+}
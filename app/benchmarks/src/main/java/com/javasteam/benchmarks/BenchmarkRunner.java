@@ -0,0 +1,22 @@
+package com.javasteam.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler enabled, so every result includes the allocation rate
+ * per operation. Accepts the regular JMH command line options, for example {@code java -jar
+ * benchmarks.jar Crypto -rf json -rff results.json}.
+ */
+public class BenchmarkRunner {
+  public static void main(String[] args) throws Exception {
+    new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,54 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.steam.crypto.Crypto;
+import com.javasteam.utils.common.ArrayUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Channel encryption of messages. The sizes cover a heartbeat, a typical message and a large multi
+ * message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CryptoBenchmark {
+  @Param({"36", "512", "16384"})
+  private int size;
+
+  private byte[] sessionKey;
+  private byte[] hmacSecret;
+  private byte[] plaintext;
+  private byte[] ciphertext;
+
+  @Setup
+  public void setup() {
+    sessionKey = Payloads.randomBytes(32);
+    hmacSecret = ArrayUtils.subarray(sessionKey, 0, 16);
+    plaintext = Payloads.randomBytes(size);
+    ciphertext = Crypto.encryptMessage(plaintext, sessionKey, hmacSecret);
+  }
+
+  @Benchmark
+  public byte[] encryptMessage() {
+    return Crypto.encryptMessage(plaintext, sessionKey, hmacSecret);
+  }
+
+  @Benchmark
+  public byte[] decryptMessage() {
+    return Crypto.decryptMessage(ciphertext, sessionKey, hmacSecret);
+  }
+}
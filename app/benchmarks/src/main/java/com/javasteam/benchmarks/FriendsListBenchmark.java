@@ -0,0 +1,99 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientFriendsList;
+
+import com.javasteam.steam.common.EFriendRelationship;
+import com.javasteam.steam.friends.FriendsList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applying a full friends list of {@link #FRIENDS} entries followed by {@link #DELTAS} incremental
+ * updates of one entry each, which add, change and remove relationships. Also measures a lookup in
+ * the resulting snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FriendsListBenchmark {
+  private static final int FRIENDS = 2000;
+  private static final int DELTAS = 5000;
+  private static final int[] DELTA_RELATIONSHIPS = {
+    EFriendRelationship.FRIEND.getCode(),
+    EFriendRelationship.NONE.getCode(),
+    EFriendRelationship.REQUEST_RECIPIENT.getCode(),
+    EFriendRelationship.IGNORED_FRIEND.getCode()
+  };
+
+  private CMsgClientFriendsList fullList;
+  private CMsgClientFriendsList[] deltas;
+  private FriendsList lookupList;
+  private long lookupSteamId;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    CMsgClientFriendsList.Builder full = CMsgClientFriendsList.newBuilder().setBincremental(false);
+    for (int i = 0; i < FRIENDS; i++) {
+      full.addFriends(friend(steamId(random), EFriendRelationship.FRIEND.getCode()));
+    }
+    fullList = full.build();
+
+    deltas = new CMsgClientFriendsList[DELTAS];
+    for (int i = 0; i < DELTAS; i++) {
+      long steamId =
+          random.nextBoolean()
+              ? fullList.getFriends(random.nextInt(FRIENDS)).getUlfriendid()
+              : steamId(random);
+      deltas[i] =
+          CMsgClientFriendsList.newBuilder()
+              .setBincremental(true)
+              .addFriends(
+                  friend(steamId, DELTA_RELATIONSHIPS[random.nextInt(DELTA_RELATIONSHIPS.length)]))
+              .build();
+    }
+
+    lookupList = new FriendsList();
+    lookupList.apply(fullList);
+    lookupSteamId = fullList.getFriends(FRIENDS / 2).getUlfriendid();
+  }
+
+  @Benchmark
+  public int fullListThenDeltas() {
+    FriendsList friendsList = new FriendsList();
+    friendsList.apply(fullList);
+    for (CMsgClientFriendsList delta : deltas) {
+      friendsList.apply(delta);
+    }
+    return friendsList.getSnapshot().size();
+  }
+
+  @Benchmark
+  public EFriendRelationship lookup() {
+    return lookupList.getSnapshot().getRelationship(lookupSteamId);
+  }
+
+  private static long steamId(Random random) {
+    return Payloads.STEAM_ID + random.nextInt(10_000_000);
+  }
+
+  private static CMsgClientFriendsList.Friend friend(long steamId, int relationship) {
+    return CMsgClientFriendsList.Friend.newBuilder()
+        .setUlfriendid(steamId)
+        .setEfriendrelationship(relationship)
+        .build();
+  }
+}
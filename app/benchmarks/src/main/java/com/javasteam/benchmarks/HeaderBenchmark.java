@@ -0,0 +1,86 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+
+import com.javasteam.models.Header;
+import com.javasteam.models.headers.ExtendedMessageHeader;
+import com.javasteam.models.headers.GCMessageHeader;
+import com.javasteam.models.headers.GCProtoMessageHeader;
+import com.javasteam.models.headers.MessageHeader;
+import com.javasteam.models.headers.ProtoMessageHeader;
+import com.javasteam.protobufs.GameCoordinatorMessages;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parsing and serializing of every header type in {@code com.javasteam.models.headers}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeaderBenchmark {
+  private static final int GC_MSG_TYPE = 9110;
+
+  @Param({"Message", "ExtendedMessage", "ProtoMessage", "GCMessage", "GCProtoMessage"})
+  private String type;
+
+  private Header header;
+  private byte[] bytes;
+  private Function<byte[], Header> parser;
+
+  @Setup
+  public void setup() {
+    switch (type) {
+      case "Message" -> {
+        header = MessageHeader.of(EMsg.k_EMsgChannelEncryptRequest_VALUE);
+        parser = MessageHeader::fromBytes;
+      }
+      case "ExtendedMessage" -> {
+        header = ExtendedMessageHeader.of(EMsg.k_EMsgClientLogOnResponse_VALUE);
+        parser = ExtendedMessageHeader::fromBytes;
+      }
+      case "ProtoMessage" -> {
+        header = ProtoMessageHeader.of(EMsg.k_EMsgClientPersonaState_VALUE, Payloads.protoHeader());
+        parser = ProtoMessageHeader::fromBytes;
+      }
+      case "GCMessage" -> {
+        header = new GCMessageHeader(GC_MSG_TYPE);
+        parser = data -> GCMessageHeader.fromBytes(GC_MSG_TYPE, data);
+      }
+      case "GCProtoMessage" -> {
+        header =
+            GCProtoMessageHeader.of(
+                GC_MSG_TYPE,
+                GameCoordinatorMessages.CMsgProtoBufHeader.newBuilder()
+                    .setClientSteamId(Payloads.STEAM_ID)
+                    .setClientSessionId(Payloads.SESSION_ID)
+                    .build());
+        parser = GCProtoMessageHeader::fromBytes;
+      }
+      default -> throw new IllegalArgumentException("Unknown header type " + type);
+    }
+    bytes = header.serialize();
+  }
+
+  @Benchmark
+  public Header fromBytes() {
+    return parser.apply(bytes);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return header.serialize();
+  }
+}
@@ -0,0 +1,124 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetPasswordRSAPublicKey_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetPasswordRSAPublicKey_Response;
+import static com.javasteam.protobufs.SteammessagesBase.CMsgProtoBufHeader;
+
+import com.javasteam.models.AbstractMessage;
+import com.javasteam.models.HasJob;
+import com.javasteam.models.Header;
+import com.javasteam.models.Job;
+import com.javasteam.steam.common.EResult;
+import com.javasteam.steam.handlers.HasJobSender;
+import com.javasteam.steam.handlers.JobIdAllocator;
+import com.javasteam.steam.service.UnifiedServiceClient;
+import com.javasteam.utils.collections.ConcurrentLongHashMap;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 32 threads issuing jobs at once. {@code lockFree} allocates the id with {@link JobIdAllocator}
+ * and tracks the job in a {@link ConcurrentLongHashMap} until its response, {@code
+ * synchronizedCounter} is the previous synchronized counter with a boxed {@link ConcurrentHashMap}.
+ * {@code serviceCall} is a full {@link UnifiedServiceClient} call that is answered as soon as it is
+ * sent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(32)
+@Fork(1)
+public class JobTableBenchmark {
+  private static final Object PENDING = new Object();
+  private static final byte[] RESPONSE =
+      CAuthentication_GetPasswordRSAPublicKey_Response.newBuilder()
+          .setPublickeyMod("c0ffee")
+          .build()
+          .toByteArray();
+  private final JobIdAllocator allocator = JobIdAllocator.create();
+  private final ConcurrentLongHashMap<Object> table = new ConcurrentLongHashMap<>();
+  private final Map<Long, Object> boxedTable = new ConcurrentHashMap<>();
+  private long counter;
+  private ScheduledExecutorService executor;
+  private UnifiedServiceClient serviceClient;
+  private CAuthentication_GetPasswordRSAPublicKey_Request request;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    var scheduler = new ScheduledThreadPoolExecutor(1);
+    scheduler.setRemoveOnCancelPolicy(true);
+    executor = scheduler;
+    serviceClient = UnifiedServiceClient.of(new AnsweringSender(), allocator::next, executor);
+    request =
+        CAuthentication_GetPasswordRSAPublicKey_Request.newBuilder()
+            .setAccountName("benchmark")
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public Object lockFree() {
+    long jobId = allocator.next();
+    table.put(jobId, PENDING);
+    return table.remove(jobId);
+  }
+
+  @Benchmark
+  public Object synchronizedCounter() {
+    long jobId = nextSynchronized();
+    boxedTable.put(jobId, PENDING);
+    return boxedTable.remove(jobId);
+  }
+
+  @Benchmark
+  public Object serviceCall() {
+    return serviceClient
+        .call(
+            "Authentication.GetPasswordRSAPublicKey#1",
+            request,
+            CAuthentication_GetPasswordRSAPublicKey_Response.parser(),
+            Duration.ofSeconds(30))
+        .join();
+  }
+
+  private synchronized long nextSynchronized() {
+    return ++counter;
+  }
+
+  /** Answers every job right away, like a CM server with no latency. */
+  private class AnsweringSender implements HasJobSender {
+    @Override
+    public <H extends Header & HasJob> Job sendJob(AbstractMessage<H, ?> message, Job job) {
+      var header =
+          CMsgProtoBufHeader.newBuilder()
+              .setJobidTarget(job.getSourceJobId())
+              .setEresult(EResult.OK)
+              .build();
+      serviceClient.onResponse(header, RESPONSE);
+      return job;
+    }
+  }
+}
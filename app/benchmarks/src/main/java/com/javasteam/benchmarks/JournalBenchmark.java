@@ -0,0 +1,108 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+
+import com.javasteam.utils.journal.JournalConfig;
+import com.javasteam.utils.journal.JournalHandler;
+import com.javasteam.utils.journal.MessageJournal;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Appending persona state messages to a {@link MessageJournal} in a temporary directory, from one
+ * and from four threads, and reading them back. Retention keeps the disk usage bounded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+  private static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+  private Path directory;
+  private MessageJournal journal;
+  private byte[] message;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-benchmark");
+    journal =
+        MessageJournal.open(
+            JournalConfig.builder()
+                .withDirectory(directory)
+                .withSegmentSize(SEGMENT_SIZE)
+                .withMaxSegments(8)
+                .build());
+    message = Payloads.personaStateMessage();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    journal.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public void append() {
+    journal.append(EMsg.k_EMsgClientPersonaState_VALUE, message);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void appendContended() {
+    journal.append(EMsg.k_EMsgClientPersonaState_VALUE, message);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ReadState.MESSAGES)
+  public void read(ReadState state, Blackhole blackhole) {
+    JournalHandler handler = (emsg, timestampMillis, data) -> blackhole.consume(data);
+    state.journal.reader().poll(handler, ReadState.MESSAGES);
+  }
+
+  /** A second journal that is filled once, so reading does not depend on the append benchmarks. */
+  @State(Scope.Benchmark)
+  public static class ReadState {
+    static final int MESSAGES = 10_000;
+    private final JournalBenchmark writer = new JournalBenchmark();
+    private MessageJournal journal;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+      writer.setup();
+      journal = writer.journal;
+      for (int i = 0; i < MESSAGES; i++) {
+        writer.append();
+      }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+      writer.tearDown();
+    }
+  }
+}
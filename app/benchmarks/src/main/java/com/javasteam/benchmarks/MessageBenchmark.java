@@ -0,0 +1,48 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientPersonaState;
+
+import com.javasteam.models.AbstractMessage;
+import com.javasteam.models.headers.ProtoMessageHeader;
+import com.javasteam.models.messages.Message;
+import com.javasteam.models.messages.ProtoMessage;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parsing of received messages, with and without parsing the body. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+  private final byte[] logonResponse = Payloads.logonResponseMessage();
+  private final byte[] personaState = Payloads.personaStateMessage();
+  private final byte[] channelEncryptRequest = Payloads.channelEncryptRequestMessage();
+
+  @Benchmark
+  public AbstractMessage<?, ?> protoMessageFromBytes() {
+    return ProtoMessage.fromBytes(logonResponse);
+  }
+
+  @Benchmark
+  public CMsgClientPersonaState protoMessageFromBytesWithBody() {
+    ProtoMessage<ProtoMessageHeader, CMsgClientPersonaState> message =
+        ProtoMessage.fromBytes(personaState);
+    return message.getBody(CMsgClientPersonaState.class);
+  }
+
+  @Benchmark
+  public AbstractMessage<?, ?> messageFromBytes() {
+    return Message.fromBytes(channelEncryptRequest);
+  }
+}
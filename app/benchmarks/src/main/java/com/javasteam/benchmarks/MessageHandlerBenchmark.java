@@ -0,0 +1,65 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+
+import com.javasteam.handlers.ListenerItem;
+import com.javasteam.models.messages.ProtoMessage;
+import com.javasteam.steam.handlers.MessageHandler;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fan out of a received message to its listeners. Listeners are registered for several EMsgs, like
+ * a client with a few features enabled, and all listeners of the dispatched EMsg do no work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageHandlerBenchmark {
+  private static final int[] OTHER_EMSGS = {
+    EMsg.k_EMsgClientLogOnResponse_VALUE,
+    EMsg.k_EMsgServiceMethodResponse_VALUE,
+    EMsg.k_EMsgClientFromGC_VALUE,
+    EMsg.k_EMsgMulti_VALUE
+  };
+
+  @Param({"1", "4", "16"})
+  private int listeners;
+
+  private MessageHandler handler;
+  private Object message;
+
+  @Setup
+  public void setup() {
+    handler = new MessageHandler(4);
+    for (int emsg : OTHER_EMSGS) {
+      handler.addMessageListener(
+          ListenerItem.builder(emsg, Function.identity(), msg -> {}).build());
+    }
+    for (int i = 0; i < listeners; i++) {
+      handler.addMessageListener(
+          ListenerItem.builder(EMsg.k_EMsgClientPersonaState_VALUE, Function.identity(), msg -> {})
+              .build());
+    }
+    message = ProtoMessage.fromBytes(Payloads.personaStateMessage());
+  }
+
+  @Benchmark
+  public void notifyListeners() {
+    handler.notifyListeners(EMsg.k_EMsgClientPersonaState_VALUE, message);
+  }
+}
@@ -0,0 +1,42 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.SteammessagesBase.CMsgMulti;
+
+import com.javasteam.steam.SteamCMClient;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Decoding of multi messages into the contained messages, as done by {@code onMulti}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiBenchmark {
+  @Param({"false", "true"})
+  private boolean zipped;
+
+  private CMsgMulti multi;
+
+  @Setup
+  public void setup() {
+    multi = Payloads.multi(zipped);
+  }
+
+  @Benchmark
+  public void decodeMulti(Blackhole blackhole) {
+    SteamCMClient.decodeMulti(multi, blackhole::consume);
+  }
+}
@@ -0,0 +1,63 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.steam.crypto.Crypto;
+import com.javasteam.utils.common.ArrayUtils;
+import com.javasteam.utils.common.RandomSource;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Outbound messages per second from 4 threads. {@code encryptMessage} is the channel encryption of
+ * a typical message, which draws its IV prefix from {@link RandomSource}. {@code drbgPrefix} and
+ * {@code strongPrefix} compare drawing the prefix from the thread DRBG with the previous {@link
+ * SecureRandom#getInstanceStrong()} per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class OutboundMessageBenchmark {
+  private static final int PREFIX_SIZE = 3;
+  private byte[] sessionKey;
+  private byte[] hmacSecret;
+  private byte[] plaintext;
+
+  @Setup
+  public void setup() {
+    sessionKey = Payloads.randomBytes(32);
+    hmacSecret = ArrayUtils.subarray(sessionKey, 0, 16);
+    plaintext = Payloads.randomBytes(512);
+  }
+
+  @Benchmark
+  public byte[] encryptMessage() {
+    return Crypto.encryptMessage(plaintext, sessionKey, hmacSecret);
+  }
+
+  @Benchmark
+  public byte[] drbgPrefix() {
+    return RandomSource.nextBytes(PREFIX_SIZE);
+  }
+
+  @Benchmark
+  public byte[] strongPrefix() throws NoSuchAlgorithmException {
+    byte[] prefix = new byte[PREFIX_SIZE];
+    SecureRandom.getInstanceStrong().nextBytes(prefix);
+    return prefix;
+  }
+}
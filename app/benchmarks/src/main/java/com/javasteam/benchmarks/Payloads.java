@@ -0,0 +1,154 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+import static com.javasteam.protobufs.SteammessagesBase.CMsgMulti;
+import static com.javasteam.protobufs.SteammessagesBase.CMsgProtoBufHeader;
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientPersonaState;
+import static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse;
+
+import com.google.protobuf.ByteString;
+import com.javasteam.models.headers.MessageHeader;
+import com.javasteam.models.headers.ProtoMessageHeader;
+import com.javasteam.models.messages.Message;
+import com.javasteam.models.messages.ProtoMessage;
+import com.javasteam.models.structs.ChannelEncryptRequest;
+import com.javasteam.utils.common.ArrayUtils;
+import com.javasteam.utils.common.ZipUtils;
+import com.javasteam.utils.serializer.Serializer;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+/**
+ * Payloads shaped like messages captured from a CM server. The field values are synthetic but the
+ * sizes and field counts match what the CM sends for a typical account, and they are generated from
+ * a fixed seed so runs are comparable.
+ */
+public class Payloads {
+  public static final long STEAM_ID = 76561197960287930L;
+  public static final int SESSION_ID = 1234567;
+  public static final int FRIEND_COUNT = 32;
+  public static final int MULTI_MESSAGE_COUNT = 16;
+
+  public static CMsgProtoBufHeader protoHeader() {
+    return CMsgProtoBufHeader.newBuilder()
+        .setSteamid(STEAM_ID)
+        .setClientSessionid(SESSION_ID)
+        .setJobidSource(-1)
+        .setJobidTarget(-1)
+        .build();
+  }
+
+  public static CMsgClientLogonResponse logonResponse() {
+    return CMsgClientLogonResponse.newBuilder()
+        .setEresult(1)
+        .setHeartbeatSeconds(9)
+        .setLegacyOutOfGameHeartbeatSeconds(9)
+        .setCellId(4)
+        .setClientSuppliedSteamid(STEAM_ID)
+        .setIpCountryCode("DE")
+        .setUserCountry("DE")
+        .setVanityUrl("javasteam")
+        .setAccountFlags(2101253)
+        .setCountLoginfailuresToMigrate(3)
+        .setCountDisconnectsToMigrate(3)
+        .setTokenId(8112954310453262563L)
+        .build();
+  }
+
+  public static CMsgClientPersonaState personaState(int friends) {
+    Random random = new Random(friends);
+    CMsgClientPersonaState.Builder builder =
+        CMsgClientPersonaState.newBuilder().setStatusFlags(1106);
+    for (int i = 0; i < friends; i++) {
+      byte[] avatarHash = new byte[20];
+      random.nextBytes(avatarHash);
+      builder.addFriends(
+          CMsgClientPersonaState.Friend.newBuilder()
+              .setFriendid(STEAM_ID + i)
+              .setPersonaState(random.nextInt(7))
+              .setGamePlayedAppId(i % 3 == 0 ? 730 : 0)
+              .setPlayerName("player_" + Long.toHexString(random.nextLong()))
+              .setAvatarHash(ByteString.copyFrom(avatarHash))
+              .setLastLogoff(1700000000 + random.nextInt(1000000))
+              .setLastLogon(1700000000 + random.nextInt(1000000))
+              .setLastSeenOnline(1700000000 + random.nextInt(1000000))
+              .setGameName(i % 3 == 0 ? "Counter-Strike 2" : "")
+              .setGameid(i % 3 == 0 ? 730 : 0)
+              .addRichPresence(
+                  CMsgClientPersonaState.Friend.KV
+                      .newBuilder()
+                      .setKey("status")
+                      .setValue("Competitive - Mirage [ 7 : 5 ]"))
+              .addRichPresence(
+                  CMsgClientPersonaState.Friend.KV
+                      .newBuilder()
+                      .setKey("steam_display")
+                      .setValue("#display_Competitive"))
+              .build());
+    }
+    return builder.build();
+  }
+
+  /** Serialized ClientLogOnResponse message, with the proto mask set. */
+  public static byte[] logonResponseMessage() {
+    return ProtoMessage.of(
+            ProtoMessageHeader.of(EMsg.k_EMsgClientLogOnResponse_VALUE, protoHeader()),
+            logonResponse())
+        .serialize();
+  }
+
+  /** Serialized ClientPersonaState message with {@link #FRIEND_COUNT} friends. */
+  public static byte[] personaStateMessage() {
+    return ProtoMessage.of(
+            ProtoMessageHeader.of(EMsg.k_EMsgClientPersonaState_VALUE, protoHeader()),
+            personaState(FRIEND_COUNT))
+        .serialize();
+  }
+
+  /** Serialized ChannelEncryptRequest message, the only non proto message a client receives. */
+  public static byte[] channelEncryptRequestMessage() {
+    byte[] challenge = new byte[16];
+    new Random(0).nextBytes(challenge);
+    return Message.of(
+            MessageHeader.of(EMsg.k_EMsgChannelEncryptRequest_VALUE),
+            new ChannelEncryptRequest(1, 1, challenge))
+        .serialize();
+  }
+
+  /**
+   * Multi message body containing {@link #MULTI_MESSAGE_COUNT} persona state messages.
+   *
+   * @param zipped true to compress the body like the CM does for large bodies
+   */
+  public static CMsgMulti multi(boolean zipped) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    for (int i = 0; i < MULTI_MESSAGE_COUNT; i++) {
+      byte[] message =
+          ProtoMessage.of(
+                  ProtoMessageHeader.of(EMsg.k_EMsgClientPersonaState_VALUE, protoHeader()),
+                  personaState(4))
+              .serialize();
+      body.writeBytes(
+          ArrayUtils.concat(
+              Serializer.pack(message.length, ByteBuffer::putInt, ByteOrder.LITTLE_ENDIAN, 4),
+              message));
+    }
+
+    byte[] bytes = body.toByteArray();
+    if (!zipped) {
+      return CMsgMulti.newBuilder().setMessageBody(ByteString.copyFrom(bytes)).build();
+    }
+    return CMsgMulti.newBuilder()
+        .setSizeUnzipped(bytes.length)
+        .setMessageBody(ByteString.copyFrom(ZipUtils.zip(bytes)))
+        .build();
+  }
+
+  public static byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    new Random(size).nextBytes(bytes);
+    return bytes;
+  }
+}
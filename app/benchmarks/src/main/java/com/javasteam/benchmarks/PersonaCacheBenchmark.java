@@ -0,0 +1,63 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientPersonaState;
+
+import com.javasteam.steam.persona.PersonaCache;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Applying persona state messages of {@link Payloads#FRIEND_COUNT} friends to a {@link
+ * PersonaCache} that already knows the friends, alternating between two states so every apply
+ * changes fields. A listener is registered so the coalescing path is included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonaCacheBenchmark {
+  private ScheduledExecutorService executor;
+  private PersonaCache cache;
+  private CMsgClientPersonaState[] messages;
+  private int index;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    executor = Executors.newSingleThreadScheduledExecutor();
+    cache = PersonaCache.of(executor, Duration.ofMillis(100));
+    cache.addListener(changes -> {});
+
+    CMsgClientPersonaState state = Payloads.personaState(Payloads.FRIEND_COUNT);
+    CMsgClientPersonaState.Builder changed = state.toBuilder();
+    changed.getFriendsBuilderList().forEach(friend -> friend.setPersonaState(0));
+    messages = new CMsgClientPersonaState[] {state, changed.build()};
+    cache.apply(state);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public int apply() {
+    cache.apply(messages[index++ & 1]);
+    return cache.size();
+  }
+}
@@ -0,0 +1,38 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientPersonaState;
+import static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse;
+
+import com.javasteam.utils.proto.ProtoUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parsing of message bodies through {@link ProtoUtils#parseFromBytes(byte[], Class)}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtoParseBenchmark {
+  private final byte[] logonResponse = Payloads.logonResponse().toByteArray();
+  private final byte[] personaState = Payloads.personaState(Payloads.FRIEND_COUNT).toByteArray();
+
+  @Benchmark
+  public CMsgClientLogonResponse parseLogonResponse() {
+    return ProtoUtils.parseFromBytes(logonResponse, CMsgClientLogonResponse.class);
+  }
+
+  @Benchmark
+  public CMsgClientPersonaState parsePersonaState() {
+    return ProtoUtils.parseFromBytes(personaState, CMsgClientPersonaState.class);
+  }
+}
@@ -0,0 +1,60 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.steam.connection.TCPConnection;
+import com.javasteam.steam.trace.ProtocolTracer;
+import com.javasteam.steam.trace.TraceConfig;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Messages per second through {@code BaseConnection.onRawMessage} with the protocol tracer off,
+ * sampling 1% of the messages, and capturing every message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProtocolTraceBenchmark {
+  @Param({"off", "sampled", "full"})
+  private String tracing;
+
+  private TCPConnection connection;
+  private byte[] message;
+
+  @Setup
+  public void setup() {
+    connection = new TCPConnection(1);
+    connection.setTracer(
+        switch (tracing) {
+          case "off" -> ProtocolTracer.disabled();
+          case "sampled" ->
+              ProtocolTracer.of(TraceConfig.builder().withDefaultSampleRate(0.01).build());
+          case "full" -> ProtocolTracer.of(TraceConfig.builder().build());
+          default -> throw new IllegalArgumentException("Unknown tracing mode " + tracing);
+        });
+    message = Payloads.personaStateMessage();
+  }
+
+  @TearDown
+  public void tearDown() {
+    connection.disconnect();
+  }
+
+  @Benchmark
+  public void onRawMessage() {
+    connection.onRawMessage(message);
+  }
+}
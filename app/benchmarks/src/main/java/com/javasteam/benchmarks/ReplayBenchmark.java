@@ -0,0 +1,106 @@
+package com.javasteam.benchmarks;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+
+import com.javasteam.models.headers.ProtoMessageHeader;
+import com.javasteam.models.messages.ProtoMessage;
+import com.javasteam.steam.SteamCMClient;
+import com.javasteam.steam.trace.CaptureWriter;
+import com.javasteam.steam.trace.ReplayMode;
+import com.javasteam.steam.trace.SessionReplay;
+import com.javasteam.steam.trace.TraceDirection;
+import com.javasteam.steam.trace.TraceRecord;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays a captured session through the decode and dispatch path of a client. Without a capture a
+ * synthetic session is used: a logon response, a persona state flood and zipped multi messages.
+ * Record a real session with {@code SteamCMClient.setSessionCapture} and pass it with {@code -p
+ * capture=session.cap}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplayBenchmark {
+  private static final int PERSONA_FLOOD = 200;
+  private static final int MULTIS = 50;
+
+  @Param({""})
+  private String capture;
+
+  private SessionReplay replay;
+  private SteamCMClient client;
+
+  @Setup
+  public void setup() throws IOException {
+    replay =
+        capture.isEmpty()
+            ? SessionReplay.load(syntheticCapture())
+            : SessionReplay.load(Path.of(capture));
+    client = new SteamCMClient(1);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.disconnect();
+  }
+
+  @Benchmark
+  public long replay() {
+    return replay.replay(client::onRawMessage, ReplayMode.FULL_SPEED).messages();
+  }
+
+  private static ByteArrayInputStream syntheticCapture() throws IOException {
+    byte[] multi =
+        ProtoMessage.of(
+                ProtoMessageHeader.of(EMsg.k_EMsgMulti_VALUE, Payloads.protoHeader()),
+                Payloads.multi(true))
+            .serialize();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (CaptureWriter writer = new CaptureWriter(bytes)) {
+      long timestamp = 0;
+      writer.write(
+          new TraceRecord(
+              timestamp,
+              TraceDirection.IN,
+              EMsg.k_EMsgClientLogOnResponse_VALUE,
+              Payloads.logonResponseMessage()));
+      byte[] personaState = Payloads.personaStateMessage();
+      for (int i = 0; i < PERSONA_FLOOD; i++) {
+        writer.write(
+            new TraceRecord(
+                timestamp += 50_000,
+                TraceDirection.IN,
+                EMsg.k_EMsgClientPersonaState_VALUE,
+                personaState));
+      }
+      for (int i = 0; i < MULTIS; i++) {
+        writer.write(
+            new TraceRecord(
+                timestamp += 200_000, TraceDirection.IN, EMsg.k_EMsgMulti_VALUE, multi));
+      }
+    }
+    return new ByteArrayInputStream(bytes.toByteArray());
+  }
+}
@@ -0,0 +1,47 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.utils.serializer.Serializer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Packing and unpacking of the packet header fields. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+  private final int value = 0x31305456;
+  private final byte[] packet = Payloads.randomBytes(64);
+
+  @Benchmark
+  public byte[] packInt() {
+    return Serializer.pack(value, ByteBuffer::putInt, ByteOrder.LITTLE_ENDIAN, 4);
+  }
+
+  @Benchmark
+  public int unpackInt() {
+    return Serializer.unpack(packet, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN);
+  }
+
+  @Benchmark
+  public int unpackIntAtOffset() {
+    return Serializer.unpack(packet, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN, 4);
+  }
+
+  @Benchmark
+  public long unpackLong() {
+    return Serializer.unpack(packet, ByteBuffer::getLong, ByteOrder.LITTLE_ENDIAN);
+  }
+}
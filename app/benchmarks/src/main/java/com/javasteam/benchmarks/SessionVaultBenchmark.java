@@ -0,0 +1,91 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.steam.session.AuthSession;
+import com.javasteam.steam.session.SessionVault;
+import com.javasteam.steam.session.SessionVaultConfig;
+import com.javasteam.utils.common.StorageUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Loading stored auth sessions at startup. {@code openVault} opens a {@link SessionVault} with
+ * {@code sessions} sessions, {@code readSessionFile} reads one session file of the previous format,
+ * which derives the key for every file, multiply it by {@code sessions} to compare.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionVaultBenchmark {
+  private static final String PASSWORD = "benchmark";
+
+  @Param({"1000"})
+  private int sessions;
+
+  private Path directory;
+  private Path sessionFile;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("session-vault");
+    try (SessionVault vault = SessionVault.open(SessionVaultConfig.of(directory, PASSWORD))) {
+      for (int i = 0; i < sessions; i++) {
+        vault.put(session("user" + i));
+      }
+    }
+
+    sessionFile = Files.createTempFile("session", ".bin");
+    StorageUtils.saveEncryptedFile(
+        sessionFile.toString(), PASSWORD, "{\"username\":\"user\"}".getBytes());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(file);
+      }
+    }
+    Files.delete(sessionFile);
+  }
+
+  @Benchmark
+  public int openVault() {
+    try (SessionVault vault = SessionVault.open(SessionVaultConfig.of(directory, PASSWORD))) {
+      return vault.size();
+    }
+  }
+
+  @Benchmark
+  public String readSessionFile() {
+    return StorageUtils.readEncryptedFile(sessionFile.toString(), PASSWORD);
+  }
+
+  private static AuthSession session(String username) {
+    return AuthSession.builder()
+        .username(username)
+        .accessToken("header.payload.signature")
+        .refreshToken("header.payload.signature")
+        .machineId("bWFjaGluZQ==")
+        .build();
+  }
+}
@@ -0,0 +1,167 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.fakecm.FakeCMServer;
+import com.javasteam.protobufs.EncryptedAppTicketOuterClass;
+import com.javasteam.protobufs.Enums;
+import com.javasteam.protobufs.EnumsClientserver;
+import com.javasteam.protobufs.GameCoordinatorMessages;
+import com.javasteam.protobufs.SteammessagesAuthSteamclient;
+import com.javasteam.protobufs.SteammessagesBase;
+import com.javasteam.protobufs.SteammessagesClientserver;
+import com.javasteam.protobufs.SteammessagesClientserver2;
+import com.javasteam.protobufs.SteammessagesClientserverFriends;
+import com.javasteam.protobufs.SteammessagesClientserverLogin;
+import com.javasteam.protobufs.SteammessagesUnifiedBaseSteamclient;
+import com.javasteam.steam.SteamClient;
+import com.javasteam.steam.directory.CMDirectory;
+import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.net.ServerSocket;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to the first logon in a fresh JVM, against a fake CM server running in another process so
+ * its classes do not count. Every fork measures one cold logon and reports the used metaspace and
+ * the number of loaded classes after it. {@code lazy} uses the generated protobufs as they are,
+ * their descriptors are only built when a message is printed or inspected by reflection. {@code
+ * eager} builds the descriptors of every generated file first, the cost of touching them.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(5)
+public class StartupBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Server {
+    @Param({"lazy", "eager"})
+    private String descriptors;
+
+    private Process process;
+    private int port;
+    private PublicKey publicKey;
+
+    @Setup(Level.Trial)
+    public void start() throws Exception {
+      try (ServerSocket socket = new ServerSocket(0)) {
+        port = socket.getLocalPort();
+      }
+
+      process =
+          new ProcessBuilder(
+                  Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                  "-cp",
+                  System.getProperty("java.class.path"),
+                  FakeCMServer.class.getName(),
+                  String.valueOf(port))
+              .redirectErrorStream(true)
+              .start();
+      publicKey = readPublicKey(process);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+      process.destroy();
+    }
+
+    private static PublicKey readPublicKey(Process process) throws Exception {
+      var reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        int index = line.indexOf("Public key: ");
+        if (index >= 0) {
+          byte[] key = Base64.getDecoder().decode(line.substring(index + 12).trim());
+          // Keep draining the output so the server never blocks on a full pipe
+          Thread.ofVirtual().start(() -> drain(reader));
+          return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(key));
+        }
+      }
+      throw new IOException("Fake CM server exited before printing its public key");
+    }
+
+    private static void drain(BufferedReader reader) {
+      try {
+        while (reader.readLine() != null) {
+          // Discard
+        }
+      } catch (IOException ignored) {
+        // Server stopped
+      }
+    }
+  }
+
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class Footprint {
+    public long metaspaceKb;
+    public long loadedClasses;
+    private SteamClient client;
+
+    @TearDown(Level.Iteration)
+    public void disconnect() {
+      if (client != null) {
+        client.disconnect();
+      }
+    }
+  }
+
+  @Benchmark
+  public SteamClient firstLogon(Server server, Footprint footprint) {
+    if (server.descriptors.equals("eager")) {
+      initializeDescriptors();
+    }
+
+    SteamClient client =
+        new SteamClient(1, CMDirectory.fixed(List.of(new SteamCMServer("127.0.0.1", server.port))));
+    client.setUniverseKey(server.publicKey);
+    client.loginAnonymous();
+
+    footprint.client = client;
+    footprint.loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+    footprint.metaspaceKb =
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getName().equals("Metaspace"))
+                .mapToLong(pool -> pool.getUsage().getUsed())
+                .sum()
+            / 1024;
+    return client;
+  }
+
+  private static void initializeDescriptors() {
+    EncryptedAppTicketOuterClass.getDescriptor();
+    Enums.getDescriptor();
+    EnumsClientserver.getDescriptor();
+    GameCoordinatorMessages.getDescriptor();
+    SteammessagesAuthSteamclient.getDescriptor();
+    SteammessagesBase.getDescriptor();
+    SteammessagesClientserver.getDescriptor();
+    SteammessagesClientserver2.getDescriptor();
+    SteammessagesClientserverFriends.getDescriptor();
+    SteammessagesClientserverLogin.getDescriptor();
+    SteammessagesUnifiedBaseSteamclient.getDescriptor();
+  }
+}
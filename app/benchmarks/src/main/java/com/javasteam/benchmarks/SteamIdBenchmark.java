@@ -0,0 +1,102 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.steam.steamid.SteamId;
+import com.javasteam.steam.steamid.SteamIds;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing and formatting {@link #COUNT} Steam IDs in the Steam2 and Steam3 forms, and resolving
+ * their parts with {@link SteamId#of(long)} compared to the primitive {@link SteamIds} accessors.
+ * Every invocation processes all ids, the scores are per invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SteamIdBenchmark {
+  private static final int COUNT = 1_000_000;
+  private long[] steamIds;
+  private String[] steam2;
+  private String[] steam3;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    steamIds = new long[COUNT];
+    steam2 = new String[COUNT];
+    steam3 = new String[COUNT];
+    for (int i = 0; i < COUNT; i++) {
+      steamIds[i] = SteamIds.ofIndividual(random.nextInt(Integer.MAX_VALUE));
+      steam2[i] = SteamIds.toSteam2(steamIds[i]);
+      steam3[i] = SteamIds.toSteam3(steamIds[i]);
+    }
+  }
+
+  @Benchmark
+  public void formatSteam2(Blackhole blackhole) {
+    for (long steamId : steamIds) {
+      blackhole.consume(SteamIds.toSteam2(steamId));
+    }
+  }
+
+  @Benchmark
+  public void formatSteam3(Blackhole blackhole) {
+    StringBuilder builder = new StringBuilder(24);
+    for (long steamId : steamIds) {
+      builder.setLength(0);
+      blackhole.consume(SteamIds.appendSteam3(builder, steamId).length());
+    }
+  }
+
+  @Benchmark
+  public long parseSteam2() {
+    long sum = 0;
+    for (String text : steam2) {
+      sum += SteamIds.parse(text);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long parseSteam3() {
+    long sum = 0;
+    for (String text : steam3) {
+      sum += SteamIds.parse(text);
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long resolveObject() {
+    long sum = 0;
+    for (long steamId : steamIds) {
+      SteamId id = SteamId.of(steamId);
+      sum += id.getAccountId() + id.getType().getCode() + id.getUniverse().getCode();
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public long resolvePrimitive() {
+    long sum = 0;
+    for (long steamId : steamIds) {
+      sum +=
+          SteamIds.accountId(steamId) + SteamIds.typeCode(steamId) + SteamIds.universeCode(steamId);
+    }
+    return sum;
+  }
+}
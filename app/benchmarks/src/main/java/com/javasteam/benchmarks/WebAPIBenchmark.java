@@ -0,0 +1,123 @@
+package com.javasteam.benchmarks;
+
+import com.javasteam.webapi.HttpAPIClientProvider;
+import com.javasteam.webapi.RESTAPIClientProvider;
+import com.javasteam.webapi.Response;
+import com.javasteam.webapi.endpoints.steamdirectory.SteamWebDirectoryRESTAPIClient;
+import com.javasteam.webapi.endpoints.steamdirectory.responses.CMListResponse;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The Web API backends against a local stub of {@code ISteamDirectory/GetCMList} returning {@code
+ * servers} servers. {@code createClient} is the cost of getting a client, which CXF pays on every
+ * {@code getInstance()}, {@code getCMList} the requests per second of one client and {@code
+ * getCMListAsync} of {@value #CONCURRENT_REQUESTS} concurrent requests.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WebAPIBenchmark {
+  private static final int CONCURRENT_REQUESTS = 16;
+
+  @Param({"cxf", "http"})
+  private String backend;
+
+  @Param({"100"})
+  private int servers;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private String baseUri;
+  private SteamWebDirectoryRESTAPIClient client;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    byte[] body =
+        IntStream.range(0, servers)
+            .mapToObj(i -> "\"10.0.%d.%d:27017\"".formatted(i / 256, i % 256))
+            .collect(
+                Collectors.joining(
+                    ",", "{\"response\":{\"serverlist\":[", "],\"result\":1,\"message\":\"\"}}"))
+            .getBytes(StandardCharsets.UTF_8);
+
+    // Without it the stub waits for delayed acks and every request takes 40 ms
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext(
+        "/ISteamDirectory/GetCMList/v1",
+        exchange -> {
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+          }
+        });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    client = createClient();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public SteamWebDirectoryRESTAPIClient createClient() {
+    return backend.equals("cxf")
+        ? RESTAPIClientProvider.getRESTAPIClient(SteamWebDirectoryRESTAPIClient.class, baseUri)
+        : HttpAPIClientProvider.getHttpAPIClient(SteamWebDirectoryRESTAPIClient.class, baseUri);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public Response<CMListResponse> getCMList() {
+    return client.getCMList(0);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @OperationsPerInvocation(CONCURRENT_REQUESTS)
+  public int getCMListAsync() {
+    CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENT_REQUESTS];
+    for (int i = 0; i < responses.length; i++) {
+      responses[i] = client.getCMListAsync(0).toCompletableFuture();
+    }
+    CompletableFuture.allOf(responses).join();
+    return responses.length;
+  }
+}
@@ -1,14 +1,19 @@
 package com.javasteam.handlers;
 
+import com.javasteam.metrics.MetricsRegistry;
 import com.javasteam.models.HasReadWriteLock;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,6 +26,7 @@ public class BaseMessageHandler<I> implements HasReadWriteLock {
   private static final int DEFAULT_THREADS = 10;
   private final List<ListenerItem<I, Object, Object>> listeners;
   private final List<FutureItem<I, Object, Object>> futures;
+  private final List<MessagePublisher<I, ?>> publishers = new CopyOnWriteArrayList<>();
   private final ScheduledExecutorService executor;
   private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
 
@@ -37,6 +43,15 @@ public class BaseMessageHandler<I> implements HasReadWriteLock {
   }
 
   private <R> void onMessage(I id, R msg) {
+    // Publishers buffer on the calling thread so their subscribers can push back on it
+    for (MessagePublisher<I, ?> publisher : publishers) {
+      try {
+        publisher.offer(id, msg);
+      } catch (Exception e) {
+        log.error("Error publishing message", e);
+      }
+    }
+
     // Handle listeners
     withReadLock(() -> listeners).stream()
         .filter(item -> Objects.equals(id, item.getId()))
@@ -50,15 +65,21 @@ public class BaseMessageHandler<I> implements HasReadWriteLock {
               }
             });
 
-    // Handle futures
-    withWriteLock(() -> futures).stream()
-        .filter(item -> Objects.equals(id, item.getId()))
+    // Handle futures, taken from the list under the lock since futures are added concurrently
+    List<FutureItem<I, Object, Object>> completed =
+        withWriteLock(
+            () -> {
+              List<FutureItem<I, Object, Object>> matching =
+                  futures.stream().filter(item -> Objects.equals(id, item.getId())).toList();
+              futures.removeAll(matching);
+              return matching;
+            });
+    completed.stream()
         .sorted((a, b) -> Integer.compare(b.getPriority(), a.getPriority()))
         .forEach(
             item -> {
               try {
                 item.getFuture().complete(item.getMapper().apply(msg));
-                futures.remove(item);
               } catch (Exception e) {
                 log.error("Error processing message", e);
               }
@@ -75,10 +96,32 @@ public class BaseMessageHandler<I> implements HasReadWriteLock {
     return item;
   }
 
+  /**
+   * Register the future of the item without waiting for it. Use this before sending the request
+   * that causes the message, so the message can not arrive before the future is registered.
+   *
+   * @param item the future item
+   * @return the future of the item
+   */
   @SuppressWarnings("unchecked")
+  public <T, R> CompletableFuture<T> expectMessage(FutureItem<I, R, T> item) {
+    withWriteLock(() -> futures.add((FutureItem<I, Object, Object>) item));
+    return item.getFuture();
+  }
+
   public <T, R> T addMessageFuture(FutureItem<I, R, T> item) {
+    expectMessage(item);
+    return awaitMessageFuture(item);
+  }
+
+  /**
+   * Wait for the future of an item registered with {@link #expectMessage(FutureItem)}.
+   *
+   * @param item the future item
+   * @return the mapped message
+   */
+  public <T, R> T awaitMessageFuture(FutureItem<I, R, T> item) {
     try {
-      withWriteLock(() -> futures.add((FutureItem<I, Object, Object>) item));
       if (item.getTimeoutMs() != null) {
         return item.getFuture()
             .get(item.getTimeoutMs(), java.util.concurrent.TimeUnit.MILLISECONDS);
@@ -89,6 +132,35 @@ public class BaseMessageHandler<I> implements HasReadWriteLock {
     }
   }
 
+  /**
+   * Create a publisher of the messages whose id matches the filter. Unlike listeners the messages
+   * are buffered per subscriber with a bounded buffer, see {@link PublisherConfig}. Close the
+   * publisher to remove it from this handler.
+   *
+   * @param filter the message ids to publish
+   * @param config the buffer configuration
+   * @return the publisher
+   */
+  @SuppressWarnings("unchecked")
+  public <T> MessagePublisher<I, T> addMessagePublisher(
+      Predicate<I> filter, PublisherConfig<T> config) {
+    MessagePublisher<I, T> publisher =
+        new MessagePublisher<>(filter, msg -> (T) msg, config, executor, publishers::remove);
+    publishers.add(publisher);
+    return publisher;
+  }
+
+  /**
+   * Register the metrics of this handler, the number of listener calls waiting for a thread.
+   *
+   * @param registry the registry
+   * @param name the name of the handler used as metric prefix
+   * @param tags the tags of the owner of this handler, as key value pairs
+   */
+  public void setMetricsRegistry(MetricsRegistry registry, String name, String... tags) {
+    registry.gauge(name + ".queue.depth", ((ThreadPoolExecutor) executor).getQueue()::size, tags);
+  }
+
   public <R> void removeListenerItem(ListenerItem<I, R, ?> item) {
     withWriteLock(() -> listeners.removeIf(i -> i.equals(item)));
   }
@@ -0,0 +1,316 @@
+package com.javasteam.handlers;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link Flow.Publisher} of the messages of a {@link BaseMessageHandler} that match a filter.
+ * Messages are offered to the subscribers on the thread that reads them, every subscriber has a
+ * bounded buffer and receives the messages at its own pace, as requested, on the configured
+ * executor. A full buffer is handled by the {@link OverflowPolicy} of the {@link PublisherConfig}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * MessagePublisher<Integer, AbstractMessage<ProtoHeader, CMsgClientPersonaState>> publisher =
+ *     client.messagePublisher(EMsg.k_EMsgClientPersonaState_VALUE, PublisherConfig.defaults());
+ * publisher.subscribe(subscriber);
+ * ...
+ * publisher.close();
+ * }</pre>
+ *
+ * @param <I> Type of the message id
+ * @param <T> Type of the published messages
+ */
+@Slf4j
+public class MessagePublisher<I, T> implements Flow.Publisher<T>, AutoCloseable {
+  private final Predicate<I> filter;
+  private final Function<Object, T> mapper;
+  private final PublisherConfig<T> config;
+  private final Executor executor;
+  private final Consumer<MessagePublisher<I, T>> onClose;
+  private final List<BufferedSubscription> subscriptions = new CopyOnWriteArrayList<>();
+  private final LongAdder dropped = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private volatile boolean closed;
+
+  MessagePublisher(
+      Predicate<I> filter,
+      Function<Object, T> mapper,
+      PublisherConfig<T> config,
+      Executor executor,
+      Consumer<MessagePublisher<I, T>> onClose) {
+    if (config.getBufferSize() < 1) {
+      throw new IllegalArgumentException("Buffer size must be positive");
+    }
+    if (config.getOverflowPolicy() == OverflowPolicy.COALESCE && config.getCoalesceKey() == null) {
+      throw new IllegalArgumentException("Coalesce policy requires a coalesce key");
+    }
+    // Blocked offers hold handler threads, delivering on them as well could deadlock
+    if (config.getOverflowPolicy() == OverflowPolicy.BLOCK && config.getExecutor() == null) {
+      throw new IllegalArgumentException("Block policy requires a delivery executor");
+    }
+
+    this.filter = filter;
+    this.mapper = mapper;
+    this.config = config;
+    this.executor = Objects.requireNonNullElse(config.getExecutor(), executor);
+    this.onClose = onClose;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super T> subscriber) {
+    Objects.requireNonNull(subscriber);
+    BufferedSubscription subscription = new BufferedSubscription(subscriber);
+    subscriber.onSubscribe(subscription);
+    if (closed) {
+      subscription.complete();
+      return;
+    }
+    subscriptions.add(subscription);
+  }
+
+  /** Offer a message to the subscribers if it matches the filter, called by the handler. */
+  void offer(I id, Object msg) {
+    if (subscriptions.isEmpty() || !filter.test(id)) {
+      return;
+    }
+
+    T item = mapper.apply(msg);
+    for (BufferedSubscription subscription : subscriptions) {
+      subscription.offer(item);
+    }
+  }
+
+  /** Stop publishing, the subscribers are completed once their buffered messages are delivered. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    onClose.accept(this);
+    subscriptions.forEach(BufferedSubscription::complete);
+    subscriptions.clear();
+  }
+
+  public int getSubscriberCount() {
+    return subscriptions.size();
+  }
+
+  /** Returns the number of messages dropped because a buffer was full. */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /** Returns the number of messages that replaced a buffered message with the same key. */
+  public long getCoalescedCount() {
+    return coalesced.sum();
+  }
+
+  private final class BufferedSubscription implements Flow.Subscription {
+    private final Flow.Subscriber<? super T> subscriber;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final ArrayDeque<T> queue = new ArrayDeque<>();
+    private final Map<Object, T> byKey = new LinkedHashMap<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile boolean completed;
+
+    private BufferedSubscription(Flow.Subscriber<? super T> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    private void offer(T item) {
+      lock.lock();
+      try {
+        if (!add(item)) {
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      drain();
+    }
+
+    /** Adds the item to the buffer, returns false if it was not added. */
+    private boolean add(T item) {
+      OverflowPolicy policy = config.getOverflowPolicy();
+      if (policy == OverflowPolicy.COALESCE) {
+        Object key = config.getCoalesceKey().apply(item);
+        if (byKey.replace(key, item) != null) {
+          coalesced.increment();
+          return false;
+        }
+        if (byKey.size() >= config.getBufferSize()) {
+          Iterator<T> oldest = byKey.values().iterator();
+          oldest.next();
+          oldest.remove();
+          dropped.increment();
+        }
+        byKey.put(key, item);
+        return true;
+      }
+
+      while (queue.size() >= config.getBufferSize() && !cancelled && !completed) {
+        if (policy == OverflowPolicy.DROP_OLDEST) {
+          queue.pollFirst();
+          dropped.increment();
+          continue;
+        }
+
+        try {
+          notFull.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          dropped.increment();
+          return false;
+        }
+      }
+
+      if (cancelled) {
+        return false;
+      }
+      if (completed) {
+        dropped.increment();
+        return false;
+      }
+      queue.addLast(item);
+      return true;
+    }
+
+    private T poll() {
+      lock.lock();
+      try {
+        if (config.getOverflowPolicy() == OverflowPolicy.COALESCE) {
+          Iterator<T> oldest = byKey.values().iterator();
+          if (!oldest.hasNext()) {
+            return null;
+          }
+          T item = oldest.next();
+          oldest.remove();
+          return item;
+        }
+
+        T item = queue.pollFirst();
+        if (item != null) {
+          notFull.signal();
+        }
+        return item;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private boolean isEmpty() {
+      lock.lock();
+      try {
+        return queue.isEmpty() && byKey.isEmpty();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        cancel();
+        subscriber.onError(new IllegalArgumentException("Requested %s messages".formatted(n)));
+        return;
+      }
+
+      requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      subscriptions.remove(this);
+      lock.lock();
+      try {
+        queue.clear();
+        byKey.clear();
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void complete() {
+      lock.lock();
+      try {
+        completed = true;
+        notFull.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      drain();
+    }
+
+    private void drain() {
+      if (wip.getAndIncrement() == 0) {
+        executor.execute(this::deliver);
+      }
+    }
+
+    /** Delivers the requested messages, only one thread at a time runs this for a subscription. */
+    private void deliver() {
+      int missed = 1;
+      while (true) {
+        long demand = requested.get();
+        long delivered = 0;
+        while (delivered != demand && !cancelled) {
+          T item = poll();
+          if (item == null) {
+            break;
+          }
+
+          try {
+            subscriber.onNext(item);
+          } catch (RuntimeException e) {
+            log.error("Subscriber failed to process message", e);
+            cancel();
+            subscriber.onError(e);
+            return;
+          }
+          delivered++;
+        }
+
+        if (delivered != 0 && demand != Long.MAX_VALUE) {
+          requested.addAndGet(-delivered);
+        }
+
+        if (completed && !cancelled && isEmpty()) {
+          cancelled = true;
+          subscriber.onComplete();
+          return;
+        }
+
+        missed = wip.addAndGet(-missed);
+        if (missed == 0) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.javasteam.handlers;
+
+/** What a {@link MessagePublisher} does when the buffer of a subscriber is full. */
+public enum OverflowPolicy {
+  /** Drop the oldest buffered message to make room for the new one. */
+  DROP_OLDEST,
+  /**
+   * Replace a buffered message that has the same key as the new one, keeping its position. Drops
+   * the oldest message if no buffered message has the key and the buffer is full.
+   */
+  COALESCE,
+  /**
+   * Block the thread offering the message until the subscriber makes room. Requires a {@link
+   * PublisherConfig#getExecutor() delivery executor}, the handler threads may all be blocked.
+   */
+  BLOCK
+}
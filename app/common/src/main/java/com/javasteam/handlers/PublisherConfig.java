@@ -0,0 +1,48 @@
+package com.javasteam.handlers;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration for a {@link MessagePublisher}. Every subscriber gets its own buffer of {@code
+ * bufferSize} messages, the {@code overflowPolicy} decides what happens when it is full. {@code
+ * coalesceKey} is required for {@link OverflowPolicy#COALESCE}. Messages are delivered on {@code
+ * executor}, the executor of the message handler if not set. {@link OverflowPolicy#BLOCK} requires
+ * an executor of its own.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * PublisherConfig<AbstractMessage<ProtoHeader, CMsgClientPersonaState>> config =
+ *     PublisherConfig.<AbstractMessage<ProtoHeader, CMsgClientPersonaState>>builder()
+ *         .withBufferSize(64)
+ *         .withOverflowPolicy(OverflowPolicy.BLOCK)
+ *         .withExecutor(Executors.newSingleThreadExecutor())
+ *         .build();
+ * }</pre>
+ *
+ * @param <T> Type of the published messages
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class PublisherConfig<T> {
+  public static final int DEFAULT_BUFFER_SIZE = 256;
+
+  @Builder.Default private final int bufferSize = DEFAULT_BUFFER_SIZE;
+  @Builder.Default private final OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+  private final Function<T, ?> coalesceKey;
+  private final Executor executor;
+
+  public static <T> PublisherConfig<T> defaults() {
+    return PublisherConfig.<T>builder().build();
+  }
+
+  public static <T> PublisherConfig<T> coalescing(Function<T, ?> coalesceKey) {
+    return PublisherConfig.<T>builder()
+        .withOverflowPolicy(OverflowPolicy.COALESCE)
+        .withCoalesceKey(coalesceKey)
+        .build();
+  }
+}
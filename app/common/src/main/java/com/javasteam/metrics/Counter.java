@@ -0,0 +1,10 @@
+package com.javasteam.metrics;
+
+/** A monotonically increasing counter. */
+public interface Counter {
+  void increment(long amount);
+
+  default void increment() {
+    increment(1);
+  }
+}
@@ -0,0 +1,6 @@
+package com.javasteam.metrics;
+
+/** A distribution of recorded values, for example latencies in nanoseconds. */
+public interface Histogram {
+  void record(long value);
+}
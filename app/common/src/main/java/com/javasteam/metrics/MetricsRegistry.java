@@ -0,0 +1,48 @@
+package com.javasteam.metrics;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Registry that creates the metrics of the library. Implement this interface to export the metrics
+ * to a monitoring system, or use {@link SimpleMetricsRegistry} to read them in process.
+ *
+ * <p>Tags are passed as key value pairs, for example {@code counter("cm.messages.in", "emsg",
+ * "ClientLogOnResponse")}. Metrics are resolved once by the callers and cached, so creating a
+ * metric does not have to be fast.
+ */
+public interface MetricsRegistry {
+  Counter counter(String name, String... tags);
+
+  Histogram histogram(String name, String... tags);
+
+  void gauge(String name, LongSupplier value, String... tags);
+
+  /**
+   * Returns false if the registry discards all values, callers skip measuring in that case.
+   *
+   * @return true if the registry records values
+   */
+  default boolean isEnabled() {
+    return true;
+  }
+
+  /**
+   * Append tags to the tags shared by the metrics of a component, for example the client tag of a
+   * connection.
+   *
+   * @param tags the shared tags
+   * @param more the tags to append
+   * @return the combined key value pairs
+   */
+  static String[] tags(String[] tags, String... more) {
+    String[] combined = Arrays.copyOf(tags, tags.length + more.length);
+    System.arraycopy(more, 0, combined, tags.length, more.length);
+    return combined;
+  }
+
+  /** Returns a registry that discards all values, used when metrics are disabled. */
+  static MetricsRegistry noop() {
+    return NoopMetricsRegistry.INSTANCE;
+  }
+}
@@ -0,0 +1,32 @@
+package com.javasteam.metrics;
+
+import java.util.function.LongSupplier;
+
+/** Registry that discards all values. */
+enum NoopMetricsRegistry implements MetricsRegistry, Counter, Histogram {
+  INSTANCE;
+
+  @Override
+  public Counter counter(String name, String... tags) {
+    return this;
+  }
+
+  @Override
+  public Histogram histogram(String name, String... tags) {
+    return this;
+  }
+
+  @Override
+  public void gauge(String name, LongSupplier value, String... tags) {}
+
+  @Override
+  public boolean isEnabled() {
+    return false;
+  }
+
+  @Override
+  public void increment(long amount) {}
+
+  @Override
+  public void record(long value) {}
+}
@@ -0,0 +1,86 @@
+package com.javasteam.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * In process registry backed by {@link LongAdder} counters and {@link LogLinearHistogram}s. Use
+ * {@link #snapshot()} to read or export the current values. Metrics are keyed by their name and
+ * tags, formatted as {@code name{key=value,...}}.
+ */
+public class SimpleMetricsRegistry implements MetricsRegistry {
+  private final Map<String, SimpleCounter> counters = new ConcurrentHashMap<>();
+  private final Map<String, LogLinearHistogram> histograms = new ConcurrentHashMap<>();
+  private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+
+  @Override
+  public Counter counter(String name, String... tags) {
+    return counters.computeIfAbsent(key(name, tags), k -> new SimpleCounter());
+  }
+
+  @Override
+  public Histogram histogram(String name, String... tags) {
+    return histograms.computeIfAbsent(key(name, tags), k -> new LogLinearHistogram());
+  }
+
+  @Override
+  public void gauge(String name, LongSupplier value, String... tags) {
+    gauges.put(key(name, tags), value);
+  }
+
+  public Snapshot snapshot() {
+    Map<String, Long> counterValues = new TreeMap<>();
+    counters.forEach((key, counter) -> counterValues.put(key, counter.value.sum()));
+
+    Map<String, Long> gaugeValues = new TreeMap<>();
+    gauges.forEach((key, gauge) -> gaugeValues.put(key, gauge.getAsLong()));
+
+    Map<String, LogLinearHistogram.HistogramSnapshot> histogramValues = new TreeMap<>();
+    histograms.forEach((key, histogram) -> histogramValues.put(key, histogram.snapshot()));
+
+    return new Snapshot(counterValues, gaugeValues, histogramValues);
+  }
+
+  private static String key(String name, String... tags) {
+    if (tags.length == 0) {
+      return name;
+    }
+
+    if (tags.length % 2 != 0) {
+      throw new IllegalArgumentException("Tags must be key value pairs");
+    }
+
+    StringBuilder builder = new StringBuilder(name).append('{');
+    for (int i = 0; i < tags.length; i += 2) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(tags[i]).append('=').append(tags[i + 1]);
+    }
+    return builder.append('}').toString();
+  }
+
+  /**
+   * Point in time values of all metrics, sorted by key.
+   *
+   * @param counters the counter values
+   * @param gauges the gauge values
+   * @param histograms the histogram summaries
+   */
+  public record Snapshot(
+      Map<String, Long> counters,
+      Map<String, Long> gauges,
+      Map<String, LogLinearHistogram.HistogramSnapshot> histograms) {}
+
+  private static class SimpleCounter implements Counter {
+    private final LongAdder value = new LongAdder();
+
+    @Override
+    public void increment(long amount) {
+      value.add(amount);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.javasteam.fakecm;
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/** Single threaded NIO selector loop. Tasks from other threads are run on the loop thread. */
+@Slf4j
+class EventLoop implements Runnable {
+  @Getter private final Selector selector;
+  private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+  private final Thread thread;
+  private volatile boolean running = true;
+
+  EventLoop(String name) throws IOException {
+    this.selector = Selector.open();
+    this.thread = Thread.ofPlatform().name(name).daemon().unstarted(this);
+  }
+
+  void start() {
+    thread.start();
+  }
+
+  void stop() {
+    running = false;
+    selector.wakeup();
+  }
+
+  void execute(Runnable task) {
+    tasks.add(task);
+    if (Thread.currentThread() != thread) {
+      selector.wakeup();
+    }
+  }
+
+  @Override
+  public void run() {
+    while (running) {
+      try {
+        // Tasks queued by the loop thread itself do not wake up the selector
+        if (tasks.isEmpty()) {
+          selector.select();
+        } else {
+          selector.selectNow();
+        }
+
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          SelectionKey key = keys.next();
+          keys.remove();
+          if (key.isValid()) {
+            ((Handler) key.attachment()).onReady(key);
+          }
+        }
+        runTasks();
+      } catch (Exception e) {
+        log.error("Error in event loop", e);
+      }
+    }
+
+    selector.keys().forEach(key -> ((Handler) key.attachment()).close());
+    try {
+      selector.close();
+    } catch (IOException e) {
+      log.warn("Failed to close selector", e);
+    }
+  }
+
+  private void runTasks() {
+    Runnable task;
+    while ((task = tasks.poll()) != null) {
+      try {
+        task.run();
+      } catch (Exception e) {
+        log.error("Error running event loop task", e);
+      }
+    }
+  }
+
+  /** Handles the ready operations of a registered channel. */
+  interface Handler {
+    void onReady(SelectionKey key);
+
+    void close();
+  }
+}
@@ -0,0 +1,57 @@
+package com.javasteam.fakecm;
+
+import java.security.KeyPair;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Configuration for a {@link FakeCMServer}. Service methods are answered by the handler registered
+ * for their job name, for example {@code Player.GetGameBadgeLevels#1}, the handler gets the request
+ * body and returns the response body. Unknown service methods are answered with an empty body.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * FakeCMConfig config =
+ *     FakeCMConfig.builder()
+ *         .withMultiBurst(MultiBurst.of(50, Duration.ofSeconds(1)))
+ *         .withGameCoordinator(GameCoordinatorScript.echo())
+ *         .withServiceMethod("Player.GetGameBadgeLevels#1", request -> new byte[0])
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class FakeCMConfig {
+  public static final String DEFAULT_HOST = "127.0.0.1";
+  public static final int DEFAULT_HEARTBEAT_SECONDS = 9;
+
+  @Builder.Default private final String host = DEFAULT_HOST;
+  @Builder.Default private final int port = 0;
+  @Builder.Default private final int eventLoops = Runtime.getRuntime().availableProcessors();
+  @Builder.Default private final int heartbeatSeconds = DEFAULT_HEARTBEAT_SECONDS;
+  @Builder.Default private final int logonResult = 1;
+
+  @Builder.Default
+  private final GameCoordinatorScript gameCoordinator = GameCoordinatorScript.silent();
+
+  @Singular private final Map<String, UnaryOperator<byte[]>> serviceMethods;
+  private final MultiBurst multiBurst;
+  private final KeyPair keyPair;
+
+  public static FakeCMConfig defaults() {
+    return FakeCMConfig.builder().build();
+  }
+
+  public Optional<MultiBurst> getMultiBurstOptional() {
+    return Optional.ofNullable(multiBurst);
+  }
+
+  public Optional<KeyPair> getKeyPairOptional() {
+    return Optional.ofNullable(keyPair);
+  }
+}
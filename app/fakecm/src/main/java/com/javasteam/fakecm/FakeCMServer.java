@@ -0,0 +1,207 @@
+package com.javasteam.fakecm;
+
+import com.javasteam.steam.steamid.SteamIds;
+import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fake Steam CM server for offline load, latency and reconnect testing. Speaks the VT01 framing,
+ * does the channel encryption handshake with its own RSA key, answers logons and service method
+ * jobs, relays game coordinator messages to a {@link GameCoordinatorScript} and can send periodic
+ * {@code CMsgMulti} bursts. Connections are served by a few NIO event loops, so one process can
+ * serve thousands of clients.
+ *
+ * <p>Clients connect to it with a fixed directory and the public key of the server:
+ *
+ * <pre>{@code
+ * try (FakeCMServer server = FakeCMServer.of(FakeCMConfig.defaults()).start()) {
+ *   SteamClient client = new SteamClient(4, CMDirectory.fixed(List.of(server.getServer())));
+ *   client.setUniverseKey(server.getPublicKey());
+ *   client.loginAnonymous();
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class FakeCMServer implements AutoCloseable, EventLoop.Handler {
+  private static final int RSA_KEY_SIZE = 1024;
+  private static final int DEFAULT_PORT = 27017;
+  @Getter private final FakeCMConfig config;
+  @Getter private final KeyPair keyPair;
+  @Getter private final FakeCMStats stats = new FakeCMStats();
+  @Getter private final ScheduledExecutorService timer;
+  private final EventLoop[] loops;
+  private final Set<FakeCMSession> sessions = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger accountIds = new AtomicInteger();
+  private final AtomicInteger sessionIds = new AtomicInteger();
+  private final AtomicInteger nextLoop = new AtomicInteger();
+  private ServerSocketChannel serverChannel;
+
+  private FakeCMServer(FakeCMConfig config) throws IOException {
+    this.config = config;
+    this.keyPair = config.getKeyPairOptional().orElseGet(FakeCMServer::generateKeyPair);
+    this.timer = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().daemon().factory());
+    this.loops = new EventLoop[Math.max(1, config.getEventLoops())];
+    for (int i = 0; i < loops.length; i++) {
+      loops[i] = new EventLoop("fakecm-loop-" + i);
+    }
+  }
+
+  public static FakeCMServer of(FakeCMConfig config) {
+    try {
+      return new FakeCMServer(config);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to create fake CM server", e);
+    }
+  }
+
+  /** Binds the server socket and starts the event loops. */
+  public FakeCMServer start() {
+    try {
+      serverChannel = ServerSocketChannel.open();
+      serverChannel.bind(new InetSocketAddress(config.getHost(), config.getPort()), 1024);
+      serverChannel.configureBlocking(false);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to bind fake CM server", e);
+    }
+
+    for (EventLoop loop : loops) {
+      loop.start();
+    }
+    loops[0].execute(
+        () -> {
+          try {
+            serverChannel.register(loops[0].getSelector(), SelectionKey.OP_ACCEPT, this);
+          } catch (IOException e) {
+            log.error("Failed to register server socket", e);
+          }
+        });
+
+    log.info("Fake CM server listening on {}:{}", config.getHost(), getPort());
+    return this;
+  }
+
+  public int getPort() {
+    return serverChannel.socket().getLocalPort();
+  }
+
+  /** Returns the address of this server, for example for {@code CMDirectory.fixed}. */
+  public SteamCMServer getServer() {
+    return new SteamCMServer(config.getHost(), getPort());
+  }
+
+  /** Returns the public key that clients must use to encrypt the session key. */
+  public PublicKey getPublicKey() {
+    return keyPair.getPublic();
+  }
+
+  /** Closes all client connections, used to test reconnects. */
+  public void disconnectAll() {
+    sessions.forEach(FakeCMSession::close);
+  }
+
+  @Override
+  public void onReady(SelectionKey key) {
+    try {
+      SocketChannel channel;
+      while ((channel = serverChannel.accept()) != null) {
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+        EventLoop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+        FakeCMSession session = new FakeCMSession(this, loop, channel);
+        sessions.add(session);
+        stats.onConnected();
+        loop.execute(
+            () -> {
+              try {
+                session.register();
+              } catch (IOException e) {
+                log.debug("Failed to register session", e);
+                session.close();
+              }
+            });
+      }
+    } catch (IOException e) {
+      log.error("Failed to accept connection", e);
+    }
+  }
+
+  void onSessionClosed(FakeCMSession session) {
+    if (sessions.remove(session)) {
+      stats.onDisconnected();
+    }
+  }
+
+  /** Returns the Steam ID sent by the client, or a new individual Steam ID if it has none. */
+  long assignSteamId(long requestedSteamId) {
+    if (SteamIds.accountId(requestedSteamId) != 0) {
+      return requestedSteamId;
+    }
+    return SteamIds.ofIndividual(accountIds.incrementAndGet());
+  }
+
+  int nextSessionId() {
+    return sessionIds.incrementAndGet();
+  }
+
+  @Override
+  public void close() {
+    disconnectAll();
+    for (EventLoop loop : loops) {
+      loop.stop();
+    }
+    timer.shutdownNow();
+    try {
+      if (serverChannel != null) {
+        serverChannel.close();
+      }
+    } catch (IOException e) {
+      log.warn("Failed to close server socket", e);
+    }
+  }
+
+  private static KeyPair generateKeyPair() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(RSA_KEY_SIZE);
+      return generator.generateKeyPair();
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("Failed to generate RSA key pair", e);
+    }
+  }
+
+  /**
+   * Runs a fake CM server until the process is stopped. Prints the public key, clients in other
+   * processes decode it with an {@code X509EncodedKeySpec}.
+   *
+   * @param args optional port, defaults to 27017
+   */
+  public static void main(String[] args) throws InterruptedException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    FakeCMServer server = FakeCMServer.of(FakeCMConfig.builder().withPort(port).build()).start();
+    log.info(
+        "Public key: {}", Base64.getEncoder().encodeToString(server.getPublicKey().getEncoded()));
+
+    while (true) {
+      Thread.sleep(10000);
+      log.info("Stats: {}", server.getStats());
+    }
+  }
+}
@@ -0,0 +1,364 @@
+package com.javasteam.fakecm;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+import static com.javasteam.protobufs.SteammessagesBase.CMsgMulti;
+import static com.javasteam.protobufs.SteammessagesBase.CMsgProtoBufHeader;
+import static com.javasteam.protobufs.SteammessagesClientserver2.CMsgGCClient;
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientPersonaState;
+import static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.GeneratedMessage;
+import com.javasteam.models.AbstractMessage;
+import com.javasteam.models.headers.MessageHeader;
+import com.javasteam.models.headers.ProtoMessageHeader;
+import com.javasteam.models.messages.Message;
+import com.javasteam.models.messages.ProtoMessage;
+import com.javasteam.models.structs.ChannelEncryptRequest;
+import com.javasteam.models.structs.ChannelEncryptResponse;
+import com.javasteam.models.structs.ChannelEncryptResult;
+import com.javasteam.steam.common.EResult;
+import com.javasteam.steam.common.SteamProtocol;
+import com.javasteam.steam.crypto.Crypto;
+import com.javasteam.utils.common.ArrayUtils;
+import com.javasteam.utils.common.CryptoUtils;
+import com.javasteam.utils.common.ZipUtils;
+import com.javasteam.utils.proto.ProtoUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A client connection of the {@link FakeCMServer}. Reads are handled on the event loop thread,
+ * messages can be sent from any thread.
+ */
+@Slf4j
+class FakeCMSession implements EventLoop.Handler {
+  private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+  private static final int CHALLENGE_SIZE = 16;
+  private static final int SESSION_KEY_SIZE = 32;
+  private final FakeCMServer server;
+  private final EventLoop loop;
+  private final SocketChannel channel;
+  private final Queue<ByteBuffer> writes = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private ByteBuffer readBuffer = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+  private SelectionKey key;
+  private byte[] challenge;
+  private volatile byte[] sessionKey;
+  private long steamId;
+  private int sessionId;
+  private ScheduledFuture<?> burst;
+
+  FakeCMSession(FakeCMServer server, EventLoop loop, SocketChannel channel) {
+    this.server = server;
+    this.loop = loop;
+    this.channel = channel;
+  }
+
+  /** Registers the channel with the event loop and starts the handshake, runs on the loop. */
+  void register() throws IOException {
+    key = channel.register(loop.getSelector(), SelectionKey.OP_READ, this);
+    challenge = CryptoUtils.getRandomBytes(CHALLENGE_SIZE);
+    send(
+        Message.of(
+            MessageHeader.of(EMsg.k_EMsgChannelEncryptRequest_VALUE),
+            new ChannelEncryptRequest(1, 1, challenge)));
+  }
+
+  @Override
+  public void onReady(SelectionKey key) {
+    try {
+      if (key.isReadable()) {
+        read();
+      }
+      if (key.isValid() && key.isWritable()) {
+        flush();
+      }
+    } catch (Exception e) {
+      log.debug("Closing session after error", e);
+      close();
+    }
+  }
+
+  private void read() throws IOException {
+    if (channel.read(readBuffer) < 0) {
+      close();
+      return;
+    }
+
+    readBuffer.flip();
+    readBuffer.order(ByteOrder.LITTLE_ENDIAN);
+    while (readBuffer.remaining() >= SteamProtocol.PACKET_HEADER_SIZE) {
+      int length = readBuffer.getInt(readBuffer.position());
+      int magic = readBuffer.getInt(readBuffer.position() + 4);
+      if (magic != SteamProtocol.PACKET_MAGIC) {
+        throw new IOException("Invalid packet magic %s".formatted(magic));
+      }
+
+      if (readBuffer.remaining() < SteamProtocol.PACKET_HEADER_SIZE + length) {
+        ensureCapacity(SteamProtocol.PACKET_HEADER_SIZE + length);
+        break;
+      }
+
+      byte[] data = new byte[length];
+      readBuffer.position(readBuffer.position() + SteamProtocol.PACKET_HEADER_SIZE);
+      readBuffer.get(data);
+      server.getStats().onFrameIn();
+      onFrame(data);
+    }
+    readBuffer.compact();
+  }
+
+  /** Grows the read buffer if a frame does not fit, must be called with the buffer flipped. */
+  private void ensureCapacity(int frameSize) {
+    if (frameSize > readBuffer.capacity()) {
+      ByteBuffer larger = ByteBuffer.allocate(frameSize);
+      larger.put(readBuffer);
+      larger.flip();
+      readBuffer = larger;
+    }
+  }
+
+  private void onFrame(byte[] data) {
+    byte[] message =
+        sessionKey != null
+            ? Crypto.decryptMessage(data, sessionKey, ArrayUtils.subarray(sessionKey, 0, 16))
+            : data;
+
+    int emsg =
+        ProtoUtils.clearProtoMask(ByteBuffer.wrap(message).order(ByteOrder.LITTLE_ENDIAN).getInt());
+    switch (emsg) {
+      case EMsg.k_EMsgChannelEncryptResponse_VALUE -> onChannelEncryptResponse(message);
+      case EMsg.k_EMsgClientLogon_VALUE -> onClientLogon(message);
+      case EMsg.k_EMsgServiceMethodCallFromClient_VALUE -> onServiceMethodCall(message);
+      case EMsg.k_EMsgClientToGC_VALUE -> onClientToGC(message);
+      case EMsg.k_EMsgClientLogOff_VALUE -> close();
+      default -> log.trace("Ignoring message with EMsg {}", emsg);
+    }
+  }
+
+  private void onChannelEncryptResponse(byte[] message) {
+    AbstractMessage<MessageHeader, ChannelEncryptResponse> msg = Message.fromBytes(message);
+    byte[] decrypted =
+        Crypto.decryptSessionKey(
+            msg.getBody(ChannelEncryptResponse.class).getKey(), server.getKeyPair().getPrivate());
+
+    boolean valid =
+        decrypted.length == SESSION_KEY_SIZE + CHALLENGE_SIZE
+            && ArrayUtils.equals(
+                ArrayUtils.subarray(decrypted, SESSION_KEY_SIZE, CHALLENGE_SIZE),
+                challenge,
+                0,
+                CHALLENGE_SIZE);
+
+    send(
+        Message.of(
+            MessageHeader.of(EMsg.k_EMsgChannelEncryptResult_VALUE),
+            new ChannelEncryptResult(valid ? EResult.OK : EResult.Fail)));
+    if (valid) {
+      sessionKey = ArrayUtils.subarray(decrypted, 0, SESSION_KEY_SIZE);
+    }
+  }
+
+  private void onClientLogon(byte[] message) {
+    ProtoMessageHeader header = ProtoMessageHeader.fromBytes(message);
+    steamId = server.assignSteamId(header.getProto().getSteamid());
+    sessionId = server.nextSessionId();
+    server.getStats().onLogon();
+
+    send(
+        EMsg.k_EMsgClientLogOnResponse_VALUE,
+        responseHeader(-1),
+        CMsgClientLogonResponse.newBuilder()
+            .setEresult(server.getConfig().getLogonResult())
+            .setHeartbeatSeconds(server.getConfig().getHeartbeatSeconds())
+            .setLegacyOutOfGameHeartbeatSeconds(server.getConfig().getHeartbeatSeconds())
+            .setClientSuppliedSteamid(steamId)
+            .setCellId(0)
+            .build());
+
+    server
+        .getConfig()
+        .getMultiBurstOptional()
+        .ifPresent(
+            multiBurst ->
+                burst =
+                    server
+                        .getTimer()
+                        .scheduleAtFixedRate(
+                            () -> sendMultiBurst(multiBurst),
+                            multiBurst.interval().toMillis(),
+                            multiBurst.interval().toMillis(),
+                            TimeUnit.MILLISECONDS));
+  }
+
+  private void onServiceMethodCall(byte[] message) {
+    ProtoMessageHeader header = ProtoMessageHeader.fromBytes(message);
+    byte[] body = ArrayUtils.subarray(message, header.getSize(), message.length - header.getSize());
+
+    UnaryOperator<byte[]> handler =
+        server.getConfig().getServiceMethods().get(header.getProto().getTargetJobName());
+    byte[] response = handler != null ? handler.apply(body) : new byte[0];
+
+    sendRaw(
+        ProtoMessage.fromBytes(
+                ProtoMessageHeader.of(
+                    EMsg.k_EMsgServiceMethodResponse_VALUE,
+                    responseHeader(header.getProto().getJobidSource())),
+                response)
+            .serialize());
+  }
+
+  private void onClientToGC(byte[] message) {
+    ProtoMessage<ProtoMessageHeader, CMsgGCClient> msg = ProtoMessage.fromBytes(message);
+    CMsgGCClient request = msg.getBody(CMsgGCClient.class);
+    GCMessage gcMessage =
+        new GCMessage(request.getAppid(), request.getMsgtype(), request.getPayload().toByteArray());
+
+    server
+        .getConfig()
+        .getGameCoordinator()
+        .onMessage(gcMessage)
+        .forEach(
+            reply ->
+                send(
+                    EMsg.k_EMsgClientFromGC_VALUE,
+                    responseHeader(-1),
+                    CMsgGCClient.newBuilder()
+                        .setAppid(reply.appId())
+                        .setMsgtype(reply.msgType())
+                        .setPayload(ByteString.copyFrom(reply.payload()))
+                        .build()));
+  }
+
+  private void sendMultiBurst(MultiBurst multiBurst) {
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    for (int i = 0; i < multiBurst.messages(); i++) {
+      byte[] message =
+          ProtoMessage.of(
+                  ProtoMessageHeader.of(EMsg.k_EMsgClientPersonaState_VALUE, responseHeader(-1)),
+                  CMsgClientPersonaState.newBuilder()
+                      .setStatusFlags(1106)
+                      .addFriends(
+                          CMsgClientPersonaState.Friend.newBuilder()
+                              .setFriendid(steamId + i + 1)
+                              .setPersonaState(1)
+                              .setPlayerName("friend_" + i))
+                      .build())
+              .serialize();
+      body.writeBytes(
+          ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(message.length).array());
+      body.writeBytes(message);
+    }
+
+    byte[] bytes = body.toByteArray();
+    CMsgMulti.Builder multi = CMsgMulti.newBuilder();
+    if (multiBurst.zipped()) {
+      multi.setSizeUnzipped(bytes.length).setMessageBody(ByteString.copyFrom(ZipUtils.zip(bytes)));
+    } else {
+      multi.setMessageBody(ByteString.copyFrom(bytes));
+    }
+    send(EMsg.k_EMsgMulti_VALUE, responseHeader(-1), multi.build());
+  }
+
+  private CMsgProtoBufHeader responseHeader(long targetJobId) {
+    return CMsgProtoBufHeader.newBuilder()
+        .setSteamid(steamId)
+        .setClientSessionid(sessionId)
+        .setJobidTarget(targetJobId)
+        .setEresult(EResult.OK)
+        .build();
+  }
+
+  private <T extends GeneratedMessage> void send(int emsg, CMsgProtoBufHeader header, T body) {
+    sendRaw(ProtoMessage.of(ProtoMessageHeader.of(emsg, header), body).serialize());
+  }
+
+  private void send(AbstractMessage<?, ?> message) {
+    sendRaw(message.serialize());
+  }
+
+  /** Encrypts and frames a message and queues it for writing, can be called from any thread. */
+  void sendRaw(byte[] message) {
+    if (closed.get()) {
+      return;
+    }
+
+    byte[] key = sessionKey;
+    byte[] data =
+        key != null
+            ? Crypto.encryptMessage(message, key, ArrayUtils.subarray(key, 0, 16))
+            : message;
+
+    ByteBuffer packet =
+        ByteBuffer.allocate(SteamProtocol.PACKET_HEADER_SIZE + data.length)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(data.length)
+            .putInt(SteamProtocol.PACKET_MAGIC)
+            .put(data)
+            .flip();
+    writes.add(packet);
+    server.getStats().onFrameOut();
+
+    if (flushScheduled.compareAndSet(false, true)) {
+      loop.execute(this::flushScheduled);
+    }
+  }
+
+  private void flushScheduled() {
+    flushScheduled.set(false);
+    try {
+      flush();
+    } catch (IOException e) {
+      log.debug("Closing session after write error", e);
+      close();
+    }
+  }
+
+  private void flush() throws IOException {
+    if (closed.get()) {
+      return;
+    }
+
+    ByteBuffer buffer;
+    while ((buffer = writes.peek()) != null) {
+      channel.write(buffer);
+      if (buffer.hasRemaining()) {
+        key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+        return;
+      }
+      writes.poll();
+    }
+    key.interestOps(SelectionKey.OP_READ);
+  }
+
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+
+    if (burst != null) {
+      burst.cancel(false);
+    }
+    try {
+      channel.close();
+    } catch (IOException e) {
+      log.debug("Failed to close channel", e);
+    }
+    writes.clear();
+    server.onSessionClosed(this);
+  }
+}
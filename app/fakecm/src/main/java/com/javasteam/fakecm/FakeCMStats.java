@@ -0,0 +1,60 @@
+package com.javasteam.fakecm;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counters of a {@link FakeCMServer}. */
+public class FakeCMStats {
+  private final LongAdder connections = new LongAdder();
+  private final LongAdder activeConnections = new LongAdder();
+  private final LongAdder logons = new LongAdder();
+  private final LongAdder framesIn = new LongAdder();
+  private final LongAdder framesOut = new LongAdder();
+
+  void onConnected() {
+    connections.increment();
+    activeConnections.increment();
+  }
+
+  void onDisconnected() {
+    activeConnections.decrement();
+  }
+
+  void onLogon() {
+    logons.increment();
+  }
+
+  void onFrameIn() {
+    framesIn.increment();
+  }
+
+  void onFrameOut() {
+    framesOut.increment();
+  }
+
+  public long getConnections() {
+    return connections.sum();
+  }
+
+  public long getActiveConnections() {
+    return activeConnections.sum();
+  }
+
+  public long getLogons() {
+    return logons.sum();
+  }
+
+  public long getFramesIn() {
+    return framesIn.sum();
+  }
+
+  public long getFramesOut() {
+    return framesOut.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "connections: %s, active: %s, logons: %s, frames in: %s, frames out: %s"
+        .formatted(
+            getConnections(), getActiveConnections(), getLogons(), getFramesIn(), getFramesOut());
+  }
+}
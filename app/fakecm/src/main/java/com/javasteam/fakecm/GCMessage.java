@@ -0,0 +1,10 @@
+package com.javasteam.fakecm;
+
+/**
+ * A message relayed to or from a game coordinator.
+ *
+ * @param appId the app id of the game coordinator
+ * @param msgType the GC message type, with the proto mask if the payload has a proto header
+ * @param payload the GC header followed by the message body
+ */
+public record GCMessage(int appId, int msgType, byte[] payload) {}
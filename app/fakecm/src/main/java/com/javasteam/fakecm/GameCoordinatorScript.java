@@ -0,0 +1,25 @@
+package com.javasteam.fakecm;
+
+import java.util.List;
+
+/** Scripted game coordinator that answers the {@code ClientToGC} messages of a client. */
+@FunctionalInterface
+public interface GameCoordinatorScript {
+  /**
+   * Called for every message a client sends to a game coordinator.
+   *
+   * @param message the message sent by the client
+   * @return the messages sent back to the client
+   */
+  List<GCMessage> onMessage(GCMessage message);
+
+  /** A game coordinator that never answers. */
+  static GameCoordinatorScript silent() {
+    return message -> List.of();
+  }
+
+  /** A game coordinator that sends every message back to the client. */
+  static GameCoordinatorScript echo() {
+    return List::of;
+  }
+}
@@ -0,0 +1,17 @@
+package com.javasteam.fakecm;
+
+import java.time.Duration;
+
+/**
+ * Periodic burst of {@code CMsgMulti} messages sent to every logged in client, like the persona
+ * state updates a CM sends for a large friends list.
+ *
+ * @param messages the number of persona state messages in every multi message
+ * @param interval the time between bursts
+ * @param zipped true to compress the multi message body
+ */
+public record MultiBurst(int messages, Duration interval, boolean zipped) {
+  public static MultiBurst of(int messages, Duration interval) {
+    return new MultiBurst(messages, interval, true);
+  }
+}
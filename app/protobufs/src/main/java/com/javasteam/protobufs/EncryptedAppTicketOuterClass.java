@@ -1,258 +1,224 @@
 // Generated by the protocol buffer compiler.  DO NOT EDIT!
 // source: encrypted_app_ticket.proto
 // Protobuf Java Version: 4.26.1
+
 package com.javasteam.protobufs;
 
 public final class EncryptedAppTicketOuterClass {
   private EncryptedAppTicketOuterClass() {}
-
   static {
     com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 26,
-        /* patch= */ 1,
-        /* suffix= */ "",
-        EncryptedAppTicketOuterClass.class.getName());
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      EncryptedAppTicketOuterClass.class.getName());
   }
-
-  public static void registerAllExtensions(com.google.protobuf.ExtensionRegistryLite registry) {}
-
-  public static void registerAllExtensions(com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions((com.google.protobuf.ExtensionRegistryLite) registry);
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
   }
 
-  public interface EncryptedAppTicketOrBuilder
-      extends
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface EncryptedAppTicketOrBuilder extends
       // @@protoc_insertion_point(interface_extends:EncryptedAppTicket)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint32 ticket_version_no = 1;</code>
-     *
      * @return Whether the ticketVersionNo field is set.
      */
     boolean hasTicketVersionNo();
-
     /**
      * <code>optional uint32 ticket_version_no = 1;</code>
-     *
      * @return The ticketVersionNo.
      */
     int getTicketVersionNo();
 
     /**
      * <code>optional uint32 crc_encryptedticket = 2;</code>
-     *
      * @return Whether the crcEncryptedticket field is set.
      */
     boolean hasCrcEncryptedticket();
-
     /**
      * <code>optional uint32 crc_encryptedticket = 2;</code>
-     *
      * @return The crcEncryptedticket.
      */
     int getCrcEncryptedticket();
 
     /**
      * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-     *
      * @return Whether the cbEncrypteduserdata field is set.
      */
     boolean hasCbEncrypteduserdata();
-
     /**
      * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-     *
      * @return The cbEncrypteduserdata.
      */
     int getCbEncrypteduserdata();
 
     /**
      * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-     *
      * @return Whether the cbEncryptedAppownershipticket field is set.
      */
     boolean hasCbEncryptedAppownershipticket();
-
     /**
      * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-     *
      * @return The cbEncryptedAppownershipticket.
      */
     int getCbEncryptedAppownershipticket();
 
     /**
      * <code>optional bytes encrypted_ticket = 5;</code>
-     *
      * @return Whether the encryptedTicket field is set.
      */
     boolean hasEncryptedTicket();
-
     /**
      * <code>optional bytes encrypted_ticket = 5;</code>
-     *
      * @return The encryptedTicket.
      */
     com.google.protobuf.ByteString getEncryptedTicket();
   }
-
-  /** Protobuf type {@code EncryptedAppTicket} */
-  public static final class EncryptedAppTicket extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code EncryptedAppTicket}
+   */
+  public static final class EncryptedAppTicket extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:EncryptedAppTicket)
       EncryptedAppTicketOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EncryptedAppTicket.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EncryptedAppTicket.class.getName());
     }
-
     // Use EncryptedAppTicket.newBuilder() to construct.
     private EncryptedAppTicket(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private EncryptedAppTicket() {
       encryptedTicket_ = com.google.protobuf.ByteString.EMPTY;
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_descriptor;
     }
 
-    @Override
-    protected FieldAccessorTable internalGetFieldAccessorTable() {
-      return EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(EncryptedAppTicket.class, Builder.class);
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket.class, com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket.Builder.class);
     }
 
     private int bitField0_;
     public static final int TICKET_VERSION_NO_FIELD_NUMBER = 1;
     private int ticketVersionNo_ = 0;
-
     /**
      * <code>optional uint32 ticket_version_no = 1;</code>
-     *
      * @return Whether the ticketVersionNo field is set.
      */
-    @Override
+    @java.lang.Override
     public boolean hasTicketVersionNo() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint32 ticket_version_no = 1;</code>
-     *
      * @return The ticketVersionNo.
      */
-    @Override
+    @java.lang.Override
     public int getTicketVersionNo() {
       return ticketVersionNo_;
     }
 
     public static final int CRC_ENCRYPTEDTICKET_FIELD_NUMBER = 2;
     private int crcEncryptedticket_ = 0;
-
     /**
      * <code>optional uint32 crc_encryptedticket = 2;</code>
-     *
      * @return Whether the crcEncryptedticket field is set.
      */
-    @Override
+    @java.lang.Override
     public boolean hasCrcEncryptedticket() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional uint32 crc_encryptedticket = 2;</code>
-     *
      * @return The crcEncryptedticket.
      */
-    @Override
+    @java.lang.Override
     public int getCrcEncryptedticket() {
       return crcEncryptedticket_;
     }
 
     public static final int CB_ENCRYPTEDUSERDATA_FIELD_NUMBER = 3;
     private int cbEncrypteduserdata_ = 0;
-
     /**
      * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-     *
      * @return Whether the cbEncrypteduserdata field is set.
      */
-    @Override
+    @java.lang.Override
     public boolean hasCbEncrypteduserdata() {
       return ((bitField0_ & 0x00000004) != 0);
     }
-
     /**
      * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-     *
      * @return The cbEncrypteduserdata.
      */
-    @Override
+    @java.lang.Override
     public int getCbEncrypteduserdata() {
       return cbEncrypteduserdata_;
     }
 
     public static final int CB_ENCRYPTED_APPOWNERSHIPTICKET_FIELD_NUMBER = 4;
     private int cbEncryptedAppownershipticket_ = 0;
-
     /**
      * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-     *
      * @return Whether the cbEncryptedAppownershipticket field is set.
      */
-    @Override
+    @java.lang.Override
     public boolean hasCbEncryptedAppownershipticket() {
       return ((bitField0_ & 0x00000008) != 0);
     }
-
     /**
      * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-     *
      * @return The cbEncryptedAppownershipticket.
      */
-    @Override
+    @java.lang.Override
     public int getCbEncryptedAppownershipticket() {
       return cbEncryptedAppownershipticket_;
     }
 
     public static final int ENCRYPTED_TICKET_FIELD_NUMBER = 5;
     private com.google.protobuf.ByteString encryptedTicket_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes encrypted_ticket = 5;</code>
-     *
      * @return Whether the encryptedTicket field is set.
      */
-    @Override
+    @java.lang.Override
     public boolean hasEncryptedTicket() {
       return ((bitField0_ & 0x00000010) != 0);
     }
-
     /**
      * <code>optional bytes encrypted_ticket = 5;</code>
-     *
      * @return The encryptedTicket.
      */
-    @Override
+    @java.lang.Override
     public com.google.protobuf.ByteString getEncryptedTicket() {
       return encryptedTicket_;
     }
 
     private byte memoizedIsInitialized = -1;
-
-    @Override
+    @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
       if (isInitialized == 1) return true;
@@ -262,8 +228,9 @@ public final class EncryptedAppTicketOuterClass {
       return true;
     }
 
-    @Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt32(1, ticketVersionNo_);
       }
@@ -282,71 +249,77 @@ public final class EncryptedAppTicketOuterClass {
       getUnknownFields().writeTo(output);
     }
 
-    @Override
+    @java.lang.Override
     public int getSerializedSize() {
       int size = memoizedSize;
       if (size != -1) return size;
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(1, ticketVersionNo_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, ticketVersionNo_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(2, crcEncryptedticket_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, crcEncryptedticket_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(3, cbEncrypteduserdata_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, cbEncrypteduserdata_);
       }
       if (((bitField0_ & 0x00000008) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeUInt32Size(
-                4, cbEncryptedAppownershipticket_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, cbEncryptedAppownershipticket_);
       }
       if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(5, encryptedTicket_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, encryptedTicket_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
     }
 
-    @Override
-    public boolean equals(final Object obj) {
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof EncryptedAppTicket)) {
+      if (!(obj instanceof com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket)) {
         return super.equals(obj);
       }
-      EncryptedAppTicket other = (EncryptedAppTicket) obj;
+      com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket other = (com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket) obj;
 
       if (hasTicketVersionNo() != other.hasTicketVersionNo()) return false;
       if (hasTicketVersionNo()) {
-        if (getTicketVersionNo() != other.getTicketVersionNo()) return false;
+        if (getTicketVersionNo()
+            != other.getTicketVersionNo()) return false;
       }
       if (hasCrcEncryptedticket() != other.hasCrcEncryptedticket()) return false;
       if (hasCrcEncryptedticket()) {
-        if (getCrcEncryptedticket() != other.getCrcEncryptedticket()) return false;
+        if (getCrcEncryptedticket()
+            != other.getCrcEncryptedticket()) return false;
       }
       if (hasCbEncrypteduserdata() != other.hasCbEncrypteduserdata()) return false;
       if (hasCbEncrypteduserdata()) {
-        if (getCbEncrypteduserdata() != other.getCbEncrypteduserdata()) return false;
+        if (getCbEncrypteduserdata()
+            != other.getCbEncrypteduserdata()) return false;
       }
-      if (hasCbEncryptedAppownershipticket() != other.hasCbEncryptedAppownershipticket())
-        return false;
+      if (hasCbEncryptedAppownershipticket() != other.hasCbEncryptedAppownershipticket()) return false;
       if (hasCbEncryptedAppownershipticket()) {
-        if (getCbEncryptedAppownershipticket() != other.getCbEncryptedAppownershipticket())
-          return false;
+        if (getCbEncryptedAppownershipticket()
+            != other.getCbEncryptedAppownershipticket()) return false;
       }
       if (hasEncryptedTicket() != other.hasEncryptedTicket()) return false;
       if (hasEncryptedTicket()) {
-        if (!getEncryptedTicket().equals(other.getEncryptedTicket())) return false;
+        if (!getEncryptedTicket()
+            .equals(other.getEncryptedTicket())) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
 
-    @Override
+    @java.lang.Override
     public int hashCode() {
       if (memoizedHashCode != 0) {
         return memoizedHashCode;
@@ -378,124 +351,129 @@ public final class EncryptedAppTicketOuterClass {
       return hash;
     }
 
-    public static EncryptedAppTicket parseFrom(java.nio.ByteBuffer data)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
+        java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static EncryptedAppTicket parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static EncryptedAppTicket parseFrom(com.google.protobuf.ByteString data)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
+        com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static EncryptedAppTicket parseFrom(
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static EncryptedAppTicket parseFrom(byte[] data)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static EncryptedAppTicket parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static EncryptedAppTicket parseFrom(java.io.InputStream input)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(java.io.InputStream input)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static EncryptedAppTicket parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static EncryptedAppTicket parseDelimitedFrom(java.io.InputStream input)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static EncryptedAppTicket parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static EncryptedAppTicket parseFrom(com.google.protobuf.CodedInputStream input)
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
+        com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static EncryptedAppTicket parseFrom(
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
-    }
-
-    @Override
-    public Builder newBuilderForType() {
-      return newBuilder();
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(EncryptedAppTicket prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
-    @Override
+    @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
-    @Override
-    protected Builder newBuilderForType(BuilderParent parent) {
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code EncryptedAppTicket} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code EncryptedAppTicket}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:EncryptedAppTicket)
-        EncryptedAppTicketOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_descriptor;
+        com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicketOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_descriptor;
       }
 
-      @Override
-      protected FieldAccessorTable internalGetFieldAccessorTable() {
-        return EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(EncryptedAppTicket.class, Builder.class);
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket.class, com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket.Builder.class);
       }
 
-      // Construct using EncryptedAppTicketOuterClass.EncryptedAppTicket.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket.newBuilder()
+      private Builder() {
 
-      private Builder(BuilderParent parent) {
-        super(parent);
       }
 
-      @Override
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
       public Builder clear() {
         super.clear();
         bitField0_ = 0;
@@ -507,36 +485,35 @@ public final class EncryptedAppTicketOuterClass {
         return this;
       }
 
-      @Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_descriptor;
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.EncryptedAppTicketOuterClass.internal_static_EncryptedAppTicket_descriptor;
       }
 
-      @Override
-      public EncryptedAppTicket getDefaultInstanceForType() {
-        return EncryptedAppTicket.getDefaultInstance();
+      @java.lang.Override
+      public com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket getDefaultInstanceForType() {
+        return com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket.getDefaultInstance();
       }
 
-      @Override
-      public EncryptedAppTicket build() {
-        EncryptedAppTicket result = buildPartial();
+      @java.lang.Override
+      public com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket build() {
+        com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      @Override
-      public EncryptedAppTicket buildPartial() {
-        EncryptedAppTicket result = new EncryptedAppTicket(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      @java.lang.Override
+      public com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket buildPartial() {
+        com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket result = new com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(EncryptedAppTicket result) {
+      private void buildPartial0(com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -562,18 +539,18 @@ public final class EncryptedAppTicketOuterClass {
         result.bitField0_ |= to_bitField0_;
       }
 
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof EncryptedAppTicket) {
-          return mergeFrom((EncryptedAppTicket) other);
+        if (other instanceof com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket) {
+          return mergeFrom((com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(EncryptedAppTicket other) {
-        if (other == EncryptedAppTicket.getDefaultInstance()) return this;
+      public Builder mergeFrom(com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket other) {
+        if (other == com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket.getDefaultInstance()) return this;
         if (other.hasTicketVersionNo()) {
           setTicketVersionNo(other.getTicketVersionNo());
         }
@@ -594,18 +571,18 @@ public final class EncryptedAppTicketOuterClass {
         return this;
       }
 
-      @Override
+      @java.lang.Override
       public final boolean isInitialized() {
         return true;
       }
 
-      @Override
+      @java.lang.Override
       public Builder mergeFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
         if (extensionRegistry == null) {
-          throw new NullPointerException();
+          throw new java.lang.NullPointerException();
         }
         try {
           boolean done = false;
@@ -615,43 +592,37 @@ public final class EncryptedAppTicketOuterClass {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  ticketVersionNo_ = input.readUInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              case 16:
-                {
-                  crcEncryptedticket_ = input.readUInt32();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 16
-              case 24:
-                {
-                  cbEncrypteduserdata_ = input.readUInt32();
-                  bitField0_ |= 0x00000004;
-                  break;
-                } // case 24
-              case 32:
-                {
-                  cbEncryptedAppownershipticket_ = input.readUInt32();
-                  bitField0_ |= 0x00000008;
-                  break;
-                } // case 32
-              case 42:
-                {
-                  encryptedTicket_ = input.readBytes();
-                  bitField0_ |= 0x00000010;
-                  break;
-                } // case 42
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                ticketVersionNo_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                crcEncryptedticket_ = input.readUInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                cbEncrypteduserdata_ = input.readUInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                cbEncryptedAppownershipticket_ = input.readUInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                encryptedTicket_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -661,34 +632,27 @@ public final class EncryptedAppTicketOuterClass {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private int ticketVersionNo_;
-
+      private int ticketVersionNo_ ;
       /**
        * <code>optional uint32 ticket_version_no = 1;</code>
-       *
        * @return Whether the ticketVersionNo field is set.
        */
-      @Override
+      @java.lang.Override
       public boolean hasTicketVersionNo() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint32 ticket_version_no = 1;</code>
-       *
        * @return The ticketVersionNo.
        */
-      @Override
+      @java.lang.Override
       public int getTicketVersionNo() {
         return ticketVersionNo_;
       }
-
       /**
        * <code>optional uint32 ticket_version_no = 1;</code>
-       *
        * @param value The ticketVersionNo to set.
        * @return This builder for chaining.
        */
@@ -699,10 +663,8 @@ public final class EncryptedAppTicketOuterClass {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 ticket_version_no = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearTicketVersionNo() {
@@ -712,31 +674,25 @@ public final class EncryptedAppTicketOuterClass {
         return this;
       }
 
-      private int crcEncryptedticket_;
-
+      private int crcEncryptedticket_ ;
       /**
        * <code>optional uint32 crc_encryptedticket = 2;</code>
-       *
        * @return Whether the crcEncryptedticket field is set.
        */
-      @Override
+      @java.lang.Override
       public boolean hasCrcEncryptedticket() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional uint32 crc_encryptedticket = 2;</code>
-       *
        * @return The crcEncryptedticket.
        */
-      @Override
+      @java.lang.Override
       public int getCrcEncryptedticket() {
         return crcEncryptedticket_;
       }
-
       /**
        * <code>optional uint32 crc_encryptedticket = 2;</code>
-       *
        * @param value The crcEncryptedticket to set.
        * @return This builder for chaining.
        */
@@ -747,10 +703,8 @@ public final class EncryptedAppTicketOuterClass {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 crc_encryptedticket = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCrcEncryptedticket() {
@@ -760,31 +714,25 @@ public final class EncryptedAppTicketOuterClass {
         return this;
       }
 
-      private int cbEncrypteduserdata_;
-
+      private int cbEncrypteduserdata_ ;
       /**
        * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-       *
        * @return Whether the cbEncrypteduserdata field is set.
        */
-      @Override
+      @java.lang.Override
       public boolean hasCbEncrypteduserdata() {
         return ((bitField0_ & 0x00000004) != 0);
       }
-
       /**
        * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-       *
        * @return The cbEncrypteduserdata.
        */
-      @Override
+      @java.lang.Override
       public int getCbEncrypteduserdata() {
         return cbEncrypteduserdata_;
       }
-
       /**
        * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-       *
        * @param value The cbEncrypteduserdata to set.
        * @return This builder for chaining.
        */
@@ -795,10 +743,8 @@ public final class EncryptedAppTicketOuterClass {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 cb_encrypteduserdata = 3;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCbEncrypteduserdata() {
@@ -808,31 +754,25 @@ public final class EncryptedAppTicketOuterClass {
         return this;
       }
 
-      private int cbEncryptedAppownershipticket_;
-
+      private int cbEncryptedAppownershipticket_ ;
       /**
        * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-       *
        * @return Whether the cbEncryptedAppownershipticket field is set.
        */
-      @Override
+      @java.lang.Override
       public boolean hasCbEncryptedAppownershipticket() {
         return ((bitField0_ & 0x00000008) != 0);
       }
-
       /**
        * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-       *
        * @return The cbEncryptedAppownershipticket.
        */
-      @Override
+      @java.lang.Override
       public int getCbEncryptedAppownershipticket() {
         return cbEncryptedAppownershipticket_;
       }
-
       /**
        * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-       *
        * @param value The cbEncryptedAppownershipticket to set.
        * @return This builder for chaining.
        */
@@ -843,10 +783,8 @@ public final class EncryptedAppTicketOuterClass {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 cb_encrypted_appownershipticket = 4;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCbEncryptedAppownershipticket() {
@@ -856,48 +794,37 @@ public final class EncryptedAppTicketOuterClass {
         return this;
       }
 
-      private com.google.protobuf.ByteString encryptedTicket_ =
-          com.google.protobuf.ByteString.EMPTY;
-
+      private com.google.protobuf.ByteString encryptedTicket_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes encrypted_ticket = 5;</code>
-       *
        * @return Whether the encryptedTicket field is set.
        */
-      @Override
+      @java.lang.Override
       public boolean hasEncryptedTicket() {
         return ((bitField0_ & 0x00000010) != 0);
       }
-
       /**
        * <code>optional bytes encrypted_ticket = 5;</code>
-       *
        * @return The encryptedTicket.
        */
-      @Override
+      @java.lang.Override
       public com.google.protobuf.ByteString getEncryptedTicket() {
         return encryptedTicket_;
       }
-
       /**
        * <code>optional bytes encrypted_ticket = 5;</code>
-       *
        * @param value The encryptedTicket to set.
        * @return This builder for chaining.
        */
       public Builder setEncryptedTicket(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         encryptedTicket_ = value;
         bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes encrypted_ticket = 5;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEncryptedTicket() {
@@ -911,88 +838,84 @@ public final class EncryptedAppTicketOuterClass {
     }
 
     // @@protoc_insertion_point(class_scope:EncryptedAppTicket)
-    private static final EncryptedAppTicket DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new EncryptedAppTicket();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket();
     }
 
-    public static EncryptedAppTicket getDefaultInstance() {
+    public static com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<EncryptedAppTicket> PARSER =
-        new com.google.protobuf.AbstractParser<EncryptedAppTicket>() {
-          @Override
-          public EncryptedAppTicket parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<EncryptedAppTicket>
+        PARSER = new com.google.protobuf.AbstractParser<EncryptedAppTicket>() {
+      @java.lang.Override
+      public EncryptedAppTicket parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<EncryptedAppTicket> parser() {
       return PARSER;
     }
 
-    @Override
+    @java.lang.Override
     public com.google.protobuf.Parser<EncryptedAppTicket> getParserForType() {
       return PARSER;
     }
 
-    @Override
-    public EncryptedAppTicket getDefaultInstanceForType() {
+    @java.lang.Override
+    public com.javasteam.protobufs.EncryptedAppTicketOuterClass.EncryptedAppTicket getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_EncryptedAppTicket_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_EncryptedAppTicket_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_EncryptedAppTicket_fieldAccessorTable;
 
-  public static com.google.protobuf.Descriptors.FileDescriptor getDescriptor() {
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
     return descriptor;
   }
-
-  private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
-
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
   static {
-    String[] descriptorData = {
-      "\n\032encrypted_app_ticket.proto\"\255\001\n\022Encrypt"
-          + "edAppTicket\022\031\n\021ticket_version_no\030\001 \001(\r\022\033"
-          + "\n\023crc_encryptedticket\030\002 \001(\r\022\034\n\024cb_encryp"
-          + "teduserdata\030\003 \001(\r\022\'\n\037cb_encrypted_appown"
-          + "ershipticket\030\004 \001(\r\022\030\n\020encrypted_ticket\030\005"
-          + " \001(\014B\005H\001\200\001\000"
+    java.lang.String[] descriptorData = {
+      "\n\032encrypted_app_ticket.proto\"\255\001\n\022Encrypt" +
+      "edAppTicket\022\031\n\021ticket_version_no\030\001 \001(\r\022\033" +
+      "\n\023crc_encryptedticket\030\002 \001(\r\022\034\n\024cb_encryp" +
+      "teduserdata\030\003 \001(\r\022\'\n\037cb_encrypted_appown" +
+      "ershipticket\030\004 \001(\r\022\030\n\020encrypted_ticket\030\005" +
+      " \001(\014B\036\n\027com.javasteam.protobufsH\001\200\001\000"
     };
-    descriptor =
-        com.google.protobuf.Descriptors.FileDescriptor.internalBuildGeneratedFileFrom(
-            descriptorData, new com.google.protobuf.Descriptors.FileDescriptor[] {});
-    internal_static_EncryptedAppTicket_descriptor = getDescriptor().getMessageTypes().get(0);
-    internal_static_EncryptedAppTicket_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_EncryptedAppTicket_descriptor,
-            new String[] {
-              "TicketVersionNo",
-              "CrcEncryptedticket",
-              "CbEncrypteduserdata",
-              "CbEncryptedAppownershipticket",
-              "EncryptedTicket",
-            });
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_EncryptedAppTicket_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_EncryptedAppTicket_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_EncryptedAppTicket_descriptor,
+        new java.lang.String[] { "TicketVersionNo", "CrcEncryptedticket", "CbEncrypteduserdata", "CbEncryptedAppownershipticket", "EncryptedTicket", });
     descriptor.resolveAllFeaturesImmutable();
   }
 
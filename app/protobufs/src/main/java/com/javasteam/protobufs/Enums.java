@@ -1,155 +1,223 @@
 // Generated by the protocol buffer compiler.  DO NOT EDIT!
 // source: enums.proto
 // Protobuf Java Version: 4.26.1
+
 package com.javasteam.protobufs;
 
 public final class Enums {
   private Enums() {}
-
   static {
     com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 26,
-        /* patch= */ 1,
-        /* suffix= */ "",
-        Enums.class.getName());
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      Enums.class.getName());
   }
-
-  public static void registerAllExtensions(com.google.protobuf.ExtensionRegistryLite registry) {}
-
-  public static void registerAllExtensions(com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions((com.google.protobuf.ExtensionRegistryLite) registry);
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
   }
 
-  /** Protobuf enum {@code EPublishedFileQueryType} */
-  public enum EPublishedFileQueryType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_PublishedFileQueryType_RankedByVote = 0;</code> */
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  /**
+   * Protobuf enum {@code EPublishedFileQueryType}
+   */
+  public enum EPublishedFileQueryType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_PublishedFileQueryType_RankedByVote = 0;</code>
+     */
     k_PublishedFileQueryType_RankedByVote(0),
-    /** <code>k_PublishedFileQueryType_RankedByPublicationDate = 1;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByPublicationDate = 1;</code>
+     */
     k_PublishedFileQueryType_RankedByPublicationDate(1),
-    /** <code>k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate = 2;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate = 2;</code>
+     */
     k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate(2),
-    /** <code>k_PublishedFileQueryType_RankedByTrend = 3;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTrend = 3;</code>
+     */
     k_PublishedFileQueryType_RankedByTrend(3),
-    /** <code>k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate = 4;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate = 4;</code>
+     */
     k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate(4),
-    /** <code>k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate = 5;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate = 5;</code>
+     */
     k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate(5),
-    /** <code>k_PublishedFileQueryType_RankedByNumTimesReported = 6;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByNumTimesReported = 6;</code>
+     */
     k_PublishedFileQueryType_RankedByNumTimesReported(6),
-    /** <code>k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate = 7;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate = 7;</code>
+     */
     k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate(7),
-    /** <code>k_PublishedFileQueryType_NotYetRated = 8;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_NotYetRated = 8;</code>
+     */
     k_PublishedFileQueryType_NotYetRated(8),
-    /** <code>k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions = 9;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions = 9;</code>
+     */
     k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions(9),
-    /** <code>k_PublishedFileQueryType_RankedByTotalVotesAsc = 10;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTotalVotesAsc = 10;</code>
+     */
     k_PublishedFileQueryType_RankedByTotalVotesAsc(10),
-    /** <code>k_PublishedFileQueryType_RankedByVotesUp = 11;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByVotesUp = 11;</code>
+     */
     k_PublishedFileQueryType_RankedByVotesUp(11),
-    /** <code>k_PublishedFileQueryType_RankedByTextSearch = 12;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTextSearch = 12;</code>
+     */
     k_PublishedFileQueryType_RankedByTextSearch(12),
-    /** <code>k_PublishedFileQueryType_RankedByPlaytimeTrend = 13;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByPlaytimeTrend = 13;</code>
+     */
     k_PublishedFileQueryType_RankedByPlaytimeTrend(13),
-    /** <code>k_PublishedFileQueryType_RankedByTotalPlaytime = 14;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTotalPlaytime = 14;</code>
+     */
     k_PublishedFileQueryType_RankedByTotalPlaytime(14),
-    /** <code>k_PublishedFileQueryType_RankedByAveragePlaytimeTrend = 15;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByAveragePlaytimeTrend = 15;</code>
+     */
     k_PublishedFileQueryType_RankedByAveragePlaytimeTrend(15),
-    /** <code>k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime = 16;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime = 16;</code>
+     */
     k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime(16),
-    /** <code>k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend = 17;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend = 17;</code>
+     */
     k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend(17),
-    /** <code>k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions = 18;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions = 18;</code>
+     */
     k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions(18),
-    /** <code>k_PublishedFileQueryType_RankedByInappropriateContentRating = 19;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByInappropriateContentRating = 19;</code>
+     */
     k_PublishedFileQueryType_RankedByInappropriateContentRating(19),
-    /** <code>k_PublishedFileQueryType_RankedByBanContentCheck = 20;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByBanContentCheck = 20;</code>
+     */
     k_PublishedFileQueryType_RankedByBanContentCheck(20),
-    /** <code>k_PublishedFileQueryType_RankedByLastUpdatedDate = 21;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByLastUpdatedDate = 21;</code>
+     */
     k_PublishedFileQueryType_RankedByLastUpdatedDate(21),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EPublishedFileQueryType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EPublishedFileQueryType.class.getName());
     }
-
-    /** <code>k_PublishedFileQueryType_RankedByVote = 0;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByVote = 0;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByVote_VALUE = 0;
-
-    /** <code>k_PublishedFileQueryType_RankedByPublicationDate = 1;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByPublicationDate = 1;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByPublicationDate_VALUE = 1;
-
-    /** <code>k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate = 2;</code> */
-    public static final int k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate_VALUE =
-        2;
-
-    /** <code>k_PublishedFileQueryType_RankedByTrend = 3;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate = 2;</code>
+     */
+    public static final int k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate_VALUE = 2;
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTrend = 3;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByTrend_VALUE = 3;
-
-    /** <code>k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate = 4;</code> */
-    public static final int
-        k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate_VALUE = 4;
-
-    /** <code>k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate = 5;</code> */
-    public static final int k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate_VALUE =
-        5;
-
-    /** <code>k_PublishedFileQueryType_RankedByNumTimesReported = 6;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate = 4;</code>
+     */
+    public static final int k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate_VALUE = 4;
+    /**
+     * <code>k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate = 5;</code>
+     */
+    public static final int k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate_VALUE = 5;
+    /**
+     * <code>k_PublishedFileQueryType_RankedByNumTimesReported = 6;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByNumTimesReported_VALUE = 6;
-
-    /** <code>k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate = 7;</code> */
-    public static final int
-        k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate_VALUE = 7;
-
-    /** <code>k_PublishedFileQueryType_NotYetRated = 8;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate = 7;</code>
+     */
+    public static final int k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate_VALUE = 7;
+    /**
+     * <code>k_PublishedFileQueryType_NotYetRated = 8;</code>
+     */
     public static final int k_PublishedFileQueryType_NotYetRated_VALUE = 8;
-
-    /** <code>k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions = 9;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions = 9;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions_VALUE = 9;
-
-    /** <code>k_PublishedFileQueryType_RankedByTotalVotesAsc = 10;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTotalVotesAsc = 10;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByTotalVotesAsc_VALUE = 10;
-
-    /** <code>k_PublishedFileQueryType_RankedByVotesUp = 11;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByVotesUp = 11;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByVotesUp_VALUE = 11;
-
-    /** <code>k_PublishedFileQueryType_RankedByTextSearch = 12;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTextSearch = 12;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByTextSearch_VALUE = 12;
-
-    /** <code>k_PublishedFileQueryType_RankedByPlaytimeTrend = 13;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByPlaytimeTrend = 13;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByPlaytimeTrend_VALUE = 13;
-
-    /** <code>k_PublishedFileQueryType_RankedByTotalPlaytime = 14;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByTotalPlaytime = 14;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByTotalPlaytime_VALUE = 14;
-
-    /** <code>k_PublishedFileQueryType_RankedByAveragePlaytimeTrend = 15;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByAveragePlaytimeTrend = 15;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByAveragePlaytimeTrend_VALUE = 15;
-
-    /** <code>k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime = 16;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime = 16;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime_VALUE = 16;
-
-    /** <code>k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend = 17;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend = 17;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend_VALUE = 17;
-
-    /** <code>k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions = 18;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions = 18;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions_VALUE = 18;
-
-    /** <code>k_PublishedFileQueryType_RankedByInappropriateContentRating = 19;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByInappropriateContentRating = 19;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByInappropriateContentRating_VALUE = 19;
-
-    /** <code>k_PublishedFileQueryType_RankedByBanContentCheck = 20;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByBanContentCheck = 20;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByBanContentCheck_VALUE = 20;
-
-    /** <code>k_PublishedFileQueryType_RankedByLastUpdatedDate = 21;</code> */
+    /**
+     * <code>k_PublishedFileQueryType_RankedByLastUpdatedDate = 21;</code>
+     */
     public static final int k_PublishedFileQueryType_RankedByLastUpdatedDate_VALUE = 21;
 
+
     public final int getNumber() {
       return value;
     }
@@ -159,7 +227,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EPublishedFileQueryType valueOf(int value) {
       return forNumber(value);
     }
@@ -170,52 +238,29 @@ public final class Enums {
      */
     public static EPublishedFileQueryType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_PublishedFileQueryType_RankedByVote;
-        case 1:
-          return k_PublishedFileQueryType_RankedByPublicationDate;
-        case 2:
-          return k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate;
-        case 3:
-          return k_PublishedFileQueryType_RankedByTrend;
-        case 4:
-          return k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate;
-        case 5:
-          return k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate;
-        case 6:
-          return k_PublishedFileQueryType_RankedByNumTimesReported;
-        case 7:
-          return k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate;
-        case 8:
-          return k_PublishedFileQueryType_NotYetRated;
-        case 9:
-          return k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions;
-        case 10:
-          return k_PublishedFileQueryType_RankedByTotalVotesAsc;
-        case 11:
-          return k_PublishedFileQueryType_RankedByVotesUp;
-        case 12:
-          return k_PublishedFileQueryType_RankedByTextSearch;
-        case 13:
-          return k_PublishedFileQueryType_RankedByPlaytimeTrend;
-        case 14:
-          return k_PublishedFileQueryType_RankedByTotalPlaytime;
-        case 15:
-          return k_PublishedFileQueryType_RankedByAveragePlaytimeTrend;
-        case 16:
-          return k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime;
-        case 17:
-          return k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend;
-        case 18:
-          return k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions;
-        case 19:
-          return k_PublishedFileQueryType_RankedByInappropriateContentRating;
-        case 20:
-          return k_PublishedFileQueryType_RankedByBanContentCheck;
-        case 21:
-          return k_PublishedFileQueryType_RankedByLastUpdatedDate;
-        default:
-          return null;
+        case 0: return k_PublishedFileQueryType_RankedByVote;
+        case 1: return k_PublishedFileQueryType_RankedByPublicationDate;
+        case 2: return k_PublishedFileQueryType_AcceptedForGameRankedByAcceptanceDate;
+        case 3: return k_PublishedFileQueryType_RankedByTrend;
+        case 4: return k_PublishedFileQueryType_FavoritedByFriendsRankedByPublicationDate;
+        case 5: return k_PublishedFileQueryType_CreatedByFriendsRankedByPublicationDate;
+        case 6: return k_PublishedFileQueryType_RankedByNumTimesReported;
+        case 7: return k_PublishedFileQueryType_CreatedByFollowedUsersRankedByPublicationDate;
+        case 8: return k_PublishedFileQueryType_NotYetRated;
+        case 9: return k_PublishedFileQueryType_RankedByTotalUniqueSubscriptions;
+        case 10: return k_PublishedFileQueryType_RankedByTotalVotesAsc;
+        case 11: return k_PublishedFileQueryType_RankedByVotesUp;
+        case 12: return k_PublishedFileQueryType_RankedByTextSearch;
+        case 13: return k_PublishedFileQueryType_RankedByPlaytimeTrend;
+        case 14: return k_PublishedFileQueryType_RankedByTotalPlaytime;
+        case 15: return k_PublishedFileQueryType_RankedByAveragePlaytimeTrend;
+        case 16: return k_PublishedFileQueryType_RankedByLifetimeAveragePlaytime;
+        case 17: return k_PublishedFileQueryType_RankedByPlaytimeSessionsTrend;
+        case 18: return k_PublishedFileQueryType_RankedByLifetimePlaytimeSessions;
+        case 19: return k_PublishedFileQueryType_RankedByInappropriateContentRating;
+        case 20: return k_PublishedFileQueryType_RankedByBanContentCheck;
+        case 21: return k_PublishedFileQueryType_RankedByLastUpdatedDate;
+        default: return null;
       }
     }
 
@@ -223,25 +268,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EPublishedFileQueryType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileQueryType>() {
-              public EPublishedFileQueryType findValueByNumber(int number) {
-                return EPublishedFileQueryType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EPublishedFileQueryType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileQueryType>() {
+            public EPublishedFileQueryType findValueByNumber(int number) {
+              return EPublishedFileQueryType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(0);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(0);
     }
 
     private static final EPublishedFileQueryType[] VALUES = values();
@@ -249,7 +294,8 @@ public final class Enums {
     public static EPublishedFileQueryType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -263,36 +309,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EPublishedFileQueryType)
   }
 
-  /** Protobuf enum {@code EPublishedFileInappropriateProvider} */
+  /**
+   * Protobuf enum {@code EPublishedFileInappropriateProvider}
+   */
   public enum EPublishedFileInappropriateProvider
       implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EPublishedFileInappropriateProvider_Invalid = 0;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateProvider_Invalid = 0;</code>
+     */
     k_EPublishedFileInappropriateProvider_Invalid(0),
-    /** <code>k_EPublishedFileInappropriateProvider_Google = 1;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateProvider_Google = 1;</code>
+     */
     k_EPublishedFileInappropriateProvider_Google(1),
-    /** <code>k_EPublishedFileInappropriateProvider_Amazon = 2;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateProvider_Amazon = 2;</code>
+     */
     k_EPublishedFileInappropriateProvider_Amazon(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EPublishedFileInappropriateProvider.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EPublishedFileInappropriateProvider.class.getName());
     }
-
-    /** <code>k_EPublishedFileInappropriateProvider_Invalid = 0;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateProvider_Invalid = 0;</code>
+     */
     public static final int k_EPublishedFileInappropriateProvider_Invalid_VALUE = 0;
-
-    /** <code>k_EPublishedFileInappropriateProvider_Google = 1;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateProvider_Google = 1;</code>
+     */
     public static final int k_EPublishedFileInappropriateProvider_Google_VALUE = 1;
-
-    /** <code>k_EPublishedFileInappropriateProvider_Amazon = 2;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateProvider_Amazon = 2;</code>
+     */
     public static final int k_EPublishedFileInappropriateProvider_Amazon_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -302,7 +360,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EPublishedFileInappropriateProvider valueOf(int value) {
       return forNumber(value);
     }
@@ -313,14 +371,10 @@ public final class Enums {
      */
     public static EPublishedFileInappropriateProvider forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EPublishedFileInappropriateProvider_Invalid;
-        case 1:
-          return k_EPublishedFileInappropriateProvider_Google;
-        case 2:
-          return k_EPublishedFileInappropriateProvider_Amazon;
-        default:
-          return null;
+        case 0: return k_EPublishedFileInappropriateProvider_Invalid;
+        case 1: return k_EPublishedFileInappropriateProvider_Google;
+        case 2: return k_EPublishedFileInappropriateProvider_Amazon;
+        default: return null;
       }
     }
 
@@ -328,26 +382,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
     private static final com.google.protobuf.Internal.EnumLiteMap<
-            EPublishedFileInappropriateProvider>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileInappropriateProvider>() {
-              public EPublishedFileInappropriateProvider findValueByNumber(int number) {
-                return EPublishedFileInappropriateProvider.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+        EPublishedFileInappropriateProvider> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileInappropriateProvider>() {
+            public EPublishedFileInappropriateProvider findValueByNumber(int number) {
+              return EPublishedFileInappropriateProvider.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(1);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(1);
     }
 
     private static final EPublishedFileInappropriateProvider[] VALUES = values();
@@ -355,7 +408,8 @@ public final class Enums {
     public static EPublishedFileInappropriateProvider valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -369,50 +423,72 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EPublishedFileInappropriateProvider)
   }
 
-  /** Protobuf enum {@code EPublishedFileInappropriateResult} */
-  public enum EPublishedFileInappropriateResult implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EPublishedFileInappropriateResult_NotScanned = 0;</code> */
+  /**
+   * Protobuf enum {@code EPublishedFileInappropriateResult}
+   */
+  public enum EPublishedFileInappropriateResult
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EPublishedFileInappropriateResult_NotScanned = 0;</code>
+     */
     k_EPublishedFileInappropriateResult_NotScanned(0),
-    /** <code>k_EPublishedFileInappropriateResult_VeryUnlikely = 1;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_VeryUnlikely = 1;</code>
+     */
     k_EPublishedFileInappropriateResult_VeryUnlikely(1),
-    /** <code>k_EPublishedFileInappropriateResult_Unlikely = 30;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_Unlikely = 30;</code>
+     */
     k_EPublishedFileInappropriateResult_Unlikely(30),
-    /** <code>k_EPublishedFileInappropriateResult_Possible = 50;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_Possible = 50;</code>
+     */
     k_EPublishedFileInappropriateResult_Possible(50),
-    /** <code>k_EPublishedFileInappropriateResult_Likely = 75;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_Likely = 75;</code>
+     */
     k_EPublishedFileInappropriateResult_Likely(75),
-    /** <code>k_EPublishedFileInappropriateResult_VeryLikely = 100;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_VeryLikely = 100;</code>
+     */
     k_EPublishedFileInappropriateResult_VeryLikely(100),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EPublishedFileInappropriateResult.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EPublishedFileInappropriateResult.class.getName());
     }
-
-    /** <code>k_EPublishedFileInappropriateResult_NotScanned = 0;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_NotScanned = 0;</code>
+     */
     public static final int k_EPublishedFileInappropriateResult_NotScanned_VALUE = 0;
-
-    /** <code>k_EPublishedFileInappropriateResult_VeryUnlikely = 1;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_VeryUnlikely = 1;</code>
+     */
     public static final int k_EPublishedFileInappropriateResult_VeryUnlikely_VALUE = 1;
-
-    /** <code>k_EPublishedFileInappropriateResult_Unlikely = 30;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_Unlikely = 30;</code>
+     */
     public static final int k_EPublishedFileInappropriateResult_Unlikely_VALUE = 30;
-
-    /** <code>k_EPublishedFileInappropriateResult_Possible = 50;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_Possible = 50;</code>
+     */
     public static final int k_EPublishedFileInappropriateResult_Possible_VALUE = 50;
-
-    /** <code>k_EPublishedFileInappropriateResult_Likely = 75;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_Likely = 75;</code>
+     */
     public static final int k_EPublishedFileInappropriateResult_Likely_VALUE = 75;
-
-    /** <code>k_EPublishedFileInappropriateResult_VeryLikely = 100;</code> */
+    /**
+     * <code>k_EPublishedFileInappropriateResult_VeryLikely = 100;</code>
+     */
     public static final int k_EPublishedFileInappropriateResult_VeryLikely_VALUE = 100;
 
+
     public final int getNumber() {
       return value;
     }
@@ -422,7 +498,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EPublishedFileInappropriateResult valueOf(int value) {
       return forNumber(value);
     }
@@ -433,20 +509,13 @@ public final class Enums {
      */
     public static EPublishedFileInappropriateResult forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EPublishedFileInappropriateResult_NotScanned;
-        case 1:
-          return k_EPublishedFileInappropriateResult_VeryUnlikely;
-        case 30:
-          return k_EPublishedFileInappropriateResult_Unlikely;
-        case 50:
-          return k_EPublishedFileInappropriateResult_Possible;
-        case 75:
-          return k_EPublishedFileInappropriateResult_Likely;
-        case 100:
-          return k_EPublishedFileInappropriateResult_VeryLikely;
-        default:
-          return null;
+        case 0: return k_EPublishedFileInappropriateResult_NotScanned;
+        case 1: return k_EPublishedFileInappropriateResult_VeryUnlikely;
+        case 30: return k_EPublishedFileInappropriateResult_Unlikely;
+        case 50: return k_EPublishedFileInappropriateResult_Possible;
+        case 75: return k_EPublishedFileInappropriateResult_Likely;
+        case 100: return k_EPublishedFileInappropriateResult_VeryLikely;
+        default: return null;
       }
     }
 
@@ -454,25 +523,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EPublishedFileInappropriateResult>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileInappropriateResult>() {
-              public EPublishedFileInappropriateResult findValueByNumber(int number) {
-                return EPublishedFileInappropriateResult.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EPublishedFileInappropriateResult> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileInappropriateResult>() {
+            public EPublishedFileInappropriateResult findValueByNumber(int number) {
+              return EPublishedFileInappropriateResult.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(2);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(2);
     }
 
     private static final EPublishedFileInappropriateResult[] VALUES = values();
@@ -480,7 +549,8 @@ public final class Enums {
     public static EPublishedFileInappropriateResult valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -494,70 +564,104 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EPublishedFileInappropriateResult)
   }
 
-  /** Protobuf enum {@code EPersonaStateFlag} */
-  public enum EPersonaStateFlag implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EPersonaStateFlag_HasRichPresence = 1;</code> */
+  /**
+   * Protobuf enum {@code EPersonaStateFlag}
+   */
+  public enum EPersonaStateFlag
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EPersonaStateFlag_HasRichPresence = 1;</code>
+     */
     k_EPersonaStateFlag_HasRichPresence(1),
-    /** <code>k_EPersonaStateFlag_InJoinableGame = 2;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_InJoinableGame = 2;</code>
+     */
     k_EPersonaStateFlag_InJoinableGame(2),
-    /** <code>k_EPersonaStateFlag_Golden = 4;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_Golden = 4;</code>
+     */
     k_EPersonaStateFlag_Golden(4),
-    /** <code>k_EPersonaStateFlag_RemotePlayTogether = 8;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_RemotePlayTogether = 8;</code>
+     */
     k_EPersonaStateFlag_RemotePlayTogether(8),
-    /** <code>k_EPersonaStateFlag_ClientTypeWeb = 256;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeWeb = 256;</code>
+     */
     k_EPersonaStateFlag_ClientTypeWeb(256),
-    /** <code>k_EPersonaStateFlag_ClientTypeMobile = 512;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeMobile = 512;</code>
+     */
     k_EPersonaStateFlag_ClientTypeMobile(512),
-    /** <code>k_EPersonaStateFlag_ClientTypeTenfoot = 1024;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeTenfoot = 1024;</code>
+     */
     k_EPersonaStateFlag_ClientTypeTenfoot(1024),
-    /** <code>k_EPersonaStateFlag_ClientTypeVR = 2048;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeVR = 2048;</code>
+     */
     k_EPersonaStateFlag_ClientTypeVR(2048),
-    /** <code>k_EPersonaStateFlag_LaunchTypeGamepad = 4096;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_LaunchTypeGamepad = 4096;</code>
+     */
     k_EPersonaStateFlag_LaunchTypeGamepad(4096),
-    /** <code>k_EPersonaStateFlag_LaunchTypeCompatTool = 8192;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_LaunchTypeCompatTool = 8192;</code>
+     */
     k_EPersonaStateFlag_LaunchTypeCompatTool(8192),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EPersonaStateFlag.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EPersonaStateFlag.class.getName());
     }
-
-    /** <code>k_EPersonaStateFlag_HasRichPresence = 1;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_HasRichPresence = 1;</code>
+     */
     public static final int k_EPersonaStateFlag_HasRichPresence_VALUE = 1;
-
-    /** <code>k_EPersonaStateFlag_InJoinableGame = 2;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_InJoinableGame = 2;</code>
+     */
     public static final int k_EPersonaStateFlag_InJoinableGame_VALUE = 2;
-
-    /** <code>k_EPersonaStateFlag_Golden = 4;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_Golden = 4;</code>
+     */
     public static final int k_EPersonaStateFlag_Golden_VALUE = 4;
-
-    /** <code>k_EPersonaStateFlag_RemotePlayTogether = 8;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_RemotePlayTogether = 8;</code>
+     */
     public static final int k_EPersonaStateFlag_RemotePlayTogether_VALUE = 8;
-
-    /** <code>k_EPersonaStateFlag_ClientTypeWeb = 256;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeWeb = 256;</code>
+     */
     public static final int k_EPersonaStateFlag_ClientTypeWeb_VALUE = 256;
-
-    /** <code>k_EPersonaStateFlag_ClientTypeMobile = 512;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeMobile = 512;</code>
+     */
     public static final int k_EPersonaStateFlag_ClientTypeMobile_VALUE = 512;
-
-    /** <code>k_EPersonaStateFlag_ClientTypeTenfoot = 1024;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeTenfoot = 1024;</code>
+     */
     public static final int k_EPersonaStateFlag_ClientTypeTenfoot_VALUE = 1024;
-
-    /** <code>k_EPersonaStateFlag_ClientTypeVR = 2048;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_ClientTypeVR = 2048;</code>
+     */
     public static final int k_EPersonaStateFlag_ClientTypeVR_VALUE = 2048;
-
-    /** <code>k_EPersonaStateFlag_LaunchTypeGamepad = 4096;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_LaunchTypeGamepad = 4096;</code>
+     */
     public static final int k_EPersonaStateFlag_LaunchTypeGamepad_VALUE = 4096;
-
-    /** <code>k_EPersonaStateFlag_LaunchTypeCompatTool = 8192;</code> */
+    /**
+     * <code>k_EPersonaStateFlag_LaunchTypeCompatTool = 8192;</code>
+     */
     public static final int k_EPersonaStateFlag_LaunchTypeCompatTool_VALUE = 8192;
 
+
     public final int getNumber() {
       return value;
     }
@@ -567,7 +671,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EPersonaStateFlag valueOf(int value) {
       return forNumber(value);
     }
@@ -578,28 +682,17 @@ public final class Enums {
      */
     public static EPersonaStateFlag forNumber(int value) {
       switch (value) {
-        case 1:
-          return k_EPersonaStateFlag_HasRichPresence;
-        case 2:
-          return k_EPersonaStateFlag_InJoinableGame;
-        case 4:
-          return k_EPersonaStateFlag_Golden;
-        case 8:
-          return k_EPersonaStateFlag_RemotePlayTogether;
-        case 256:
-          return k_EPersonaStateFlag_ClientTypeWeb;
-        case 512:
-          return k_EPersonaStateFlag_ClientTypeMobile;
-        case 1024:
-          return k_EPersonaStateFlag_ClientTypeTenfoot;
-        case 2048:
-          return k_EPersonaStateFlag_ClientTypeVR;
-        case 4096:
-          return k_EPersonaStateFlag_LaunchTypeGamepad;
-        case 8192:
-          return k_EPersonaStateFlag_LaunchTypeCompatTool;
-        default:
-          return null;
+        case 1: return k_EPersonaStateFlag_HasRichPresence;
+        case 2: return k_EPersonaStateFlag_InJoinableGame;
+        case 4: return k_EPersonaStateFlag_Golden;
+        case 8: return k_EPersonaStateFlag_RemotePlayTogether;
+        case 256: return k_EPersonaStateFlag_ClientTypeWeb;
+        case 512: return k_EPersonaStateFlag_ClientTypeMobile;
+        case 1024: return k_EPersonaStateFlag_ClientTypeTenfoot;
+        case 2048: return k_EPersonaStateFlag_ClientTypeVR;
+        case 4096: return k_EPersonaStateFlag_LaunchTypeGamepad;
+        case 8192: return k_EPersonaStateFlag_LaunchTypeCompatTool;
+        default: return null;
       }
     }
 
@@ -607,25 +700,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EPersonaStateFlag>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EPersonaStateFlag>() {
-              public EPersonaStateFlag findValueByNumber(int number) {
-                return EPersonaStateFlag.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EPersonaStateFlag> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EPersonaStateFlag>() {
+            public EPersonaStateFlag findValueByNumber(int number) {
+              return EPersonaStateFlag.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(3);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(3);
     }
 
     private static final EPersonaStateFlag[] VALUES = values();
@@ -633,7 +726,8 @@ public final class Enums {
     public static EPersonaStateFlag valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -647,45 +741,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EPersonaStateFlag)
   }
 
-  /** Protobuf enum {@code EContentCheckProvider} */
-  public enum EContentCheckProvider implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EContentCheckProvider_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EContentCheckProvider}
+   */
+  public enum EContentCheckProvider
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EContentCheckProvider_Invalid = 0;</code>
+     */
     k_EContentCheckProvider_Invalid(0),
-    /** <code>k_EContentCheckProvider_Google_DEPRECATED = 1;</code> */
+    /**
+     * <code>k_EContentCheckProvider_Google_DEPRECATED = 1;</code>
+     */
     k_EContentCheckProvider_Google_DEPRECATED(1),
-    /** <code>k_EContentCheckProvider_Amazon = 2;</code> */
+    /**
+     * <code>k_EContentCheckProvider_Amazon = 2;</code>
+     */
     k_EContentCheckProvider_Amazon(2),
-    /** <code>k_EContentCheckProvider_Local = 3;</code> */
+    /**
+     * <code>k_EContentCheckProvider_Local = 3;</code>
+     */
     k_EContentCheckProvider_Local(3),
-    /** <code>k_EContentCheckProvider_GoogleVertexAI = 4;</code> */
+    /**
+     * <code>k_EContentCheckProvider_GoogleVertexAI = 4;</code>
+     */
     k_EContentCheckProvider_GoogleVertexAI(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EContentCheckProvider.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EContentCheckProvider.class.getName());
     }
-
-    /** <code>k_EContentCheckProvider_Invalid = 0;</code> */
+    /**
+     * <code>k_EContentCheckProvider_Invalid = 0;</code>
+     */
     public static final int k_EContentCheckProvider_Invalid_VALUE = 0;
-
-    /** <code>k_EContentCheckProvider_Google_DEPRECATED = 1;</code> */
+    /**
+     * <code>k_EContentCheckProvider_Google_DEPRECATED = 1;</code>
+     */
     public static final int k_EContentCheckProvider_Google_DEPRECATED_VALUE = 1;
-
-    /** <code>k_EContentCheckProvider_Amazon = 2;</code> */
+    /**
+     * <code>k_EContentCheckProvider_Amazon = 2;</code>
+     */
     public static final int k_EContentCheckProvider_Amazon_VALUE = 2;
-
-    /** <code>k_EContentCheckProvider_Local = 3;</code> */
+    /**
+     * <code>k_EContentCheckProvider_Local = 3;</code>
+     */
     public static final int k_EContentCheckProvider_Local_VALUE = 3;
-
-    /** <code>k_EContentCheckProvider_GoogleVertexAI = 4;</code> */
+    /**
+     * <code>k_EContentCheckProvider_GoogleVertexAI = 4;</code>
+     */
     public static final int k_EContentCheckProvider_GoogleVertexAI_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -695,7 +808,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EContentCheckProvider valueOf(int value) {
       return forNumber(value);
     }
@@ -706,18 +819,12 @@ public final class Enums {
      */
     public static EContentCheckProvider forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EContentCheckProvider_Invalid;
-        case 1:
-          return k_EContentCheckProvider_Google_DEPRECATED;
-        case 2:
-          return k_EContentCheckProvider_Amazon;
-        case 3:
-          return k_EContentCheckProvider_Local;
-        case 4:
-          return k_EContentCheckProvider_GoogleVertexAI;
-        default:
-          return null;
+        case 0: return k_EContentCheckProvider_Invalid;
+        case 1: return k_EContentCheckProvider_Google_DEPRECATED;
+        case 2: return k_EContentCheckProvider_Amazon;
+        case 3: return k_EContentCheckProvider_Local;
+        case 4: return k_EContentCheckProvider_GoogleVertexAI;
+        default: return null;
       }
     }
 
@@ -725,25 +832,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EContentCheckProvider>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EContentCheckProvider>() {
-              public EContentCheckProvider findValueByNumber(int number) {
-                return EContentCheckProvider.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EContentCheckProvider> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EContentCheckProvider>() {
+            public EContentCheckProvider findValueByNumber(int number) {
+              return EContentCheckProvider.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(4);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(4);
     }
 
     private static final EContentCheckProvider[] VALUES = values();
@@ -751,7 +858,8 @@ public final class Enums {
     public static EContentCheckProvider valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -765,145 +873,224 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EContentCheckProvider)
   }
 
-  /** Protobuf enum {@code EProfileCustomizationType} */
-  public enum EProfileCustomizationType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EProfileCustomizationTypeInvalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EProfileCustomizationType}
+   */
+  public enum EProfileCustomizationType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EProfileCustomizationTypeInvalid = 0;</code>
+     */
     k_EProfileCustomizationTypeInvalid(0),
-    /** <code>k_EProfileCustomizationTypeRareAchievementShowcase = 1;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeRareAchievementShowcase = 1;</code>
+     */
     k_EProfileCustomizationTypeRareAchievementShowcase(1),
-    /** <code>k_EProfileCustomizationTypeGameCollector = 2;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeGameCollector = 2;</code>
+     */
     k_EProfileCustomizationTypeGameCollector(2),
-    /** <code>k_EProfileCustomizationTypeItemShowcase = 3;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeItemShowcase = 3;</code>
+     */
     k_EProfileCustomizationTypeItemShowcase(3),
-    /** <code>k_EProfileCustomizationTypeTradeShowcase = 4;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeTradeShowcase = 4;</code>
+     */
     k_EProfileCustomizationTypeTradeShowcase(4),
-    /** <code>k_EProfileCustomizationTypeBadges = 5;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeBadges = 5;</code>
+     */
     k_EProfileCustomizationTypeBadges(5),
-    /** <code>k_EProfileCustomizationTypeFavoriteGame = 6;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeFavoriteGame = 6;</code>
+     */
     k_EProfileCustomizationTypeFavoriteGame(6),
-    /** <code>k_EProfileCustomizationTypeScreenshotShowcase = 7;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeScreenshotShowcase = 7;</code>
+     */
     k_EProfileCustomizationTypeScreenshotShowcase(7),
-    /** <code>k_EProfileCustomizationTypeCustomText = 8;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeCustomText = 8;</code>
+     */
     k_EProfileCustomizationTypeCustomText(8),
-    /** <code>k_EProfileCustomizationTypeFavoriteGroup = 9;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeFavoriteGroup = 9;</code>
+     */
     k_EProfileCustomizationTypeFavoriteGroup(9),
-    /** <code>k_EProfileCustomizationTypeRecommendation = 10;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeRecommendation = 10;</code>
+     */
     k_EProfileCustomizationTypeRecommendation(10),
-    /** <code>k_EProfileCustomizationTypeWorkshopItem = 11;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeWorkshopItem = 11;</code>
+     */
     k_EProfileCustomizationTypeWorkshopItem(11),
-    /** <code>k_EProfileCustomizationTypeMyWorkshop = 12;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeMyWorkshop = 12;</code>
+     */
     k_EProfileCustomizationTypeMyWorkshop(12),
-    /** <code>k_EProfileCustomizationTypeArtworkShowcase = 13;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeArtworkShowcase = 13;</code>
+     */
     k_EProfileCustomizationTypeArtworkShowcase(13),
-    /** <code>k_EProfileCustomizationTypeVideoShowcase = 14;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeVideoShowcase = 14;</code>
+     */
     k_EProfileCustomizationTypeVideoShowcase(14),
-    /** <code>k_EProfileCustomizationTypeGuides = 15;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeGuides = 15;</code>
+     */
     k_EProfileCustomizationTypeGuides(15),
-    /** <code>k_EProfileCustomizationTypeMyGuides = 16;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeMyGuides = 16;</code>
+     */
     k_EProfileCustomizationTypeMyGuides(16),
-    /** <code>k_EProfileCustomizationTypeAchievements = 17;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeAchievements = 17;</code>
+     */
     k_EProfileCustomizationTypeAchievements(17),
-    /** <code>k_EProfileCustomizationTypeGreenlight = 18;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeGreenlight = 18;</code>
+     */
     k_EProfileCustomizationTypeGreenlight(18),
-    /** <code>k_EProfileCustomizationTypeMyGreenlight = 19;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeMyGreenlight = 19;</code>
+     */
     k_EProfileCustomizationTypeMyGreenlight(19),
-    /** <code>k_EProfileCustomizationTypeSalien = 20;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeSalien = 20;</code>
+     */
     k_EProfileCustomizationTypeSalien(20),
-    /** <code>k_EProfileCustomizationTypeLoyaltyRewardReactions = 21;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeLoyaltyRewardReactions = 21;</code>
+     */
     k_EProfileCustomizationTypeLoyaltyRewardReactions(21),
-    /** <code>k_EProfileCustomizationTypeSingleArtworkShowcase = 22;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeSingleArtworkShowcase = 22;</code>
+     */
     k_EProfileCustomizationTypeSingleArtworkShowcase(22),
-    /** <code>k_EProfileCustomizationTypeAchievementsCompletionist = 23;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeAchievementsCompletionist = 23;</code>
+     */
     k_EProfileCustomizationTypeAchievementsCompletionist(23),
-    /** <code>k_EProfileCustomizationTypeReplay = 24;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeReplay = 24;</code>
+     */
     k_EProfileCustomizationTypeReplay(24),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EProfileCustomizationType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EProfileCustomizationType.class.getName());
     }
-
-    /** <code>k_EProfileCustomizationTypeInvalid = 0;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeInvalid = 0;</code>
+     */
     public static final int k_EProfileCustomizationTypeInvalid_VALUE = 0;
-
-    /** <code>k_EProfileCustomizationTypeRareAchievementShowcase = 1;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeRareAchievementShowcase = 1;</code>
+     */
     public static final int k_EProfileCustomizationTypeRareAchievementShowcase_VALUE = 1;
-
-    /** <code>k_EProfileCustomizationTypeGameCollector = 2;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeGameCollector = 2;</code>
+     */
     public static final int k_EProfileCustomizationTypeGameCollector_VALUE = 2;
-
-    /** <code>k_EProfileCustomizationTypeItemShowcase = 3;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeItemShowcase = 3;</code>
+     */
     public static final int k_EProfileCustomizationTypeItemShowcase_VALUE = 3;
-
-    /** <code>k_EProfileCustomizationTypeTradeShowcase = 4;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeTradeShowcase = 4;</code>
+     */
     public static final int k_EProfileCustomizationTypeTradeShowcase_VALUE = 4;
-
-    /** <code>k_EProfileCustomizationTypeBadges = 5;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeBadges = 5;</code>
+     */
     public static final int k_EProfileCustomizationTypeBadges_VALUE = 5;
-
-    /** <code>k_EProfileCustomizationTypeFavoriteGame = 6;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeFavoriteGame = 6;</code>
+     */
     public static final int k_EProfileCustomizationTypeFavoriteGame_VALUE = 6;
-
-    /** <code>k_EProfileCustomizationTypeScreenshotShowcase = 7;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeScreenshotShowcase = 7;</code>
+     */
     public static final int k_EProfileCustomizationTypeScreenshotShowcase_VALUE = 7;
-
-    /** <code>k_EProfileCustomizationTypeCustomText = 8;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeCustomText = 8;</code>
+     */
     public static final int k_EProfileCustomizationTypeCustomText_VALUE = 8;
-
-    /** <code>k_EProfileCustomizationTypeFavoriteGroup = 9;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeFavoriteGroup = 9;</code>
+     */
     public static final int k_EProfileCustomizationTypeFavoriteGroup_VALUE = 9;
-
-    /** <code>k_EProfileCustomizationTypeRecommendation = 10;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeRecommendation = 10;</code>
+     */
     public static final int k_EProfileCustomizationTypeRecommendation_VALUE = 10;
-
-    /** <code>k_EProfileCustomizationTypeWorkshopItem = 11;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeWorkshopItem = 11;</code>
+     */
     public static final int k_EProfileCustomizationTypeWorkshopItem_VALUE = 11;
-
-    /** <code>k_EProfileCustomizationTypeMyWorkshop = 12;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeMyWorkshop = 12;</code>
+     */
     public static final int k_EProfileCustomizationTypeMyWorkshop_VALUE = 12;
-
-    /** <code>k_EProfileCustomizationTypeArtworkShowcase = 13;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeArtworkShowcase = 13;</code>
+     */
     public static final int k_EProfileCustomizationTypeArtworkShowcase_VALUE = 13;
-
-    /** <code>k_EProfileCustomizationTypeVideoShowcase = 14;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeVideoShowcase = 14;</code>
+     */
     public static final int k_EProfileCustomizationTypeVideoShowcase_VALUE = 14;
-
-    /** <code>k_EProfileCustomizationTypeGuides = 15;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeGuides = 15;</code>
+     */
     public static final int k_EProfileCustomizationTypeGuides_VALUE = 15;
-
-    /** <code>k_EProfileCustomizationTypeMyGuides = 16;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeMyGuides = 16;</code>
+     */
     public static final int k_EProfileCustomizationTypeMyGuides_VALUE = 16;
-
-    /** <code>k_EProfileCustomizationTypeAchievements = 17;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeAchievements = 17;</code>
+     */
     public static final int k_EProfileCustomizationTypeAchievements_VALUE = 17;
-
-    /** <code>k_EProfileCustomizationTypeGreenlight = 18;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeGreenlight = 18;</code>
+     */
     public static final int k_EProfileCustomizationTypeGreenlight_VALUE = 18;
-
-    /** <code>k_EProfileCustomizationTypeMyGreenlight = 19;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeMyGreenlight = 19;</code>
+     */
     public static final int k_EProfileCustomizationTypeMyGreenlight_VALUE = 19;
-
-    /** <code>k_EProfileCustomizationTypeSalien = 20;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeSalien = 20;</code>
+     */
     public static final int k_EProfileCustomizationTypeSalien_VALUE = 20;
-
-    /** <code>k_EProfileCustomizationTypeLoyaltyRewardReactions = 21;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeLoyaltyRewardReactions = 21;</code>
+     */
     public static final int k_EProfileCustomizationTypeLoyaltyRewardReactions_VALUE = 21;
-
-    /** <code>k_EProfileCustomizationTypeSingleArtworkShowcase = 22;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeSingleArtworkShowcase = 22;</code>
+     */
     public static final int k_EProfileCustomizationTypeSingleArtworkShowcase_VALUE = 22;
-
-    /** <code>k_EProfileCustomizationTypeAchievementsCompletionist = 23;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeAchievementsCompletionist = 23;</code>
+     */
     public static final int k_EProfileCustomizationTypeAchievementsCompletionist_VALUE = 23;
-
-    /** <code>k_EProfileCustomizationTypeReplay = 24;</code> */
+    /**
+     * <code>k_EProfileCustomizationTypeReplay = 24;</code>
+     */
     public static final int k_EProfileCustomizationTypeReplay_VALUE = 24;
 
+
     public final int getNumber() {
       return value;
     }
@@ -913,7 +1100,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EProfileCustomizationType valueOf(int value) {
       return forNumber(value);
     }
@@ -924,58 +1111,32 @@ public final class Enums {
      */
     public static EProfileCustomizationType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EProfileCustomizationTypeInvalid;
-        case 1:
-          return k_EProfileCustomizationTypeRareAchievementShowcase;
-        case 2:
-          return k_EProfileCustomizationTypeGameCollector;
-        case 3:
-          return k_EProfileCustomizationTypeItemShowcase;
-        case 4:
-          return k_EProfileCustomizationTypeTradeShowcase;
-        case 5:
-          return k_EProfileCustomizationTypeBadges;
-        case 6:
-          return k_EProfileCustomizationTypeFavoriteGame;
-        case 7:
-          return k_EProfileCustomizationTypeScreenshotShowcase;
-        case 8:
-          return k_EProfileCustomizationTypeCustomText;
-        case 9:
-          return k_EProfileCustomizationTypeFavoriteGroup;
-        case 10:
-          return k_EProfileCustomizationTypeRecommendation;
-        case 11:
-          return k_EProfileCustomizationTypeWorkshopItem;
-        case 12:
-          return k_EProfileCustomizationTypeMyWorkshop;
-        case 13:
-          return k_EProfileCustomizationTypeArtworkShowcase;
-        case 14:
-          return k_EProfileCustomizationTypeVideoShowcase;
-        case 15:
-          return k_EProfileCustomizationTypeGuides;
-        case 16:
-          return k_EProfileCustomizationTypeMyGuides;
-        case 17:
-          return k_EProfileCustomizationTypeAchievements;
-        case 18:
-          return k_EProfileCustomizationTypeGreenlight;
-        case 19:
-          return k_EProfileCustomizationTypeMyGreenlight;
-        case 20:
-          return k_EProfileCustomizationTypeSalien;
-        case 21:
-          return k_EProfileCustomizationTypeLoyaltyRewardReactions;
-        case 22:
-          return k_EProfileCustomizationTypeSingleArtworkShowcase;
-        case 23:
-          return k_EProfileCustomizationTypeAchievementsCompletionist;
-        case 24:
-          return k_EProfileCustomizationTypeReplay;
-        default:
-          return null;
+        case 0: return k_EProfileCustomizationTypeInvalid;
+        case 1: return k_EProfileCustomizationTypeRareAchievementShowcase;
+        case 2: return k_EProfileCustomizationTypeGameCollector;
+        case 3: return k_EProfileCustomizationTypeItemShowcase;
+        case 4: return k_EProfileCustomizationTypeTradeShowcase;
+        case 5: return k_EProfileCustomizationTypeBadges;
+        case 6: return k_EProfileCustomizationTypeFavoriteGame;
+        case 7: return k_EProfileCustomizationTypeScreenshotShowcase;
+        case 8: return k_EProfileCustomizationTypeCustomText;
+        case 9: return k_EProfileCustomizationTypeFavoriteGroup;
+        case 10: return k_EProfileCustomizationTypeRecommendation;
+        case 11: return k_EProfileCustomizationTypeWorkshopItem;
+        case 12: return k_EProfileCustomizationTypeMyWorkshop;
+        case 13: return k_EProfileCustomizationTypeArtworkShowcase;
+        case 14: return k_EProfileCustomizationTypeVideoShowcase;
+        case 15: return k_EProfileCustomizationTypeGuides;
+        case 16: return k_EProfileCustomizationTypeMyGuides;
+        case 17: return k_EProfileCustomizationTypeAchievements;
+        case 18: return k_EProfileCustomizationTypeGreenlight;
+        case 19: return k_EProfileCustomizationTypeMyGreenlight;
+        case 20: return k_EProfileCustomizationTypeSalien;
+        case 21: return k_EProfileCustomizationTypeLoyaltyRewardReactions;
+        case 22: return k_EProfileCustomizationTypeSingleArtworkShowcase;
+        case 23: return k_EProfileCustomizationTypeAchievementsCompletionist;
+        case 24: return k_EProfileCustomizationTypeReplay;
+        default: return null;
       }
     }
 
@@ -983,25 +1144,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EProfileCustomizationType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EProfileCustomizationType>() {
-              public EProfileCustomizationType findValueByNumber(int number) {
-                return EProfileCustomizationType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EProfileCustomizationType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EProfileCustomizationType>() {
+            public EProfileCustomizationType findValueByNumber(int number) {
+              return EProfileCustomizationType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(5);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(5);
     }
 
     private static final EProfileCustomizationType[] VALUES = values();
@@ -1009,7 +1170,8 @@ public final class Enums {
     public static EProfileCustomizationType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1023,40 +1185,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EProfileCustomizationType)
   }
 
-  /** Protobuf enum {@code EPublishedFileStorageSystem} */
-  public enum EPublishedFileStorageSystem implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EPublishedFileStorageSystemInvalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EPublishedFileStorageSystem}
+   */
+  public enum EPublishedFileStorageSystem
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EPublishedFileStorageSystemInvalid = 0;</code>
+     */
     k_EPublishedFileStorageSystemInvalid(0),
-    /** <code>k_EPublishedFileStorageSystemLegacyCloud = 1;</code> */
+    /**
+     * <code>k_EPublishedFileStorageSystemLegacyCloud = 1;</code>
+     */
     k_EPublishedFileStorageSystemLegacyCloud(1),
-    /** <code>k_EPublishedFileStorageSystemDepot = 2;</code> */
+    /**
+     * <code>k_EPublishedFileStorageSystemDepot = 2;</code>
+     */
     k_EPublishedFileStorageSystemDepot(2),
-    /** <code>k_EPublishedFileStorageSystemUGCCloud = 3;</code> */
+    /**
+     * <code>k_EPublishedFileStorageSystemUGCCloud = 3;</code>
+     */
     k_EPublishedFileStorageSystemUGCCloud(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EPublishedFileStorageSystem.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EPublishedFileStorageSystem.class.getName());
     }
-
-    /** <code>k_EPublishedFileStorageSystemInvalid = 0;</code> */
+    /**
+     * <code>k_EPublishedFileStorageSystemInvalid = 0;</code>
+     */
     public static final int k_EPublishedFileStorageSystemInvalid_VALUE = 0;
-
-    /** <code>k_EPublishedFileStorageSystemLegacyCloud = 1;</code> */
+    /**
+     * <code>k_EPublishedFileStorageSystemLegacyCloud = 1;</code>
+     */
     public static final int k_EPublishedFileStorageSystemLegacyCloud_VALUE = 1;
-
-    /** <code>k_EPublishedFileStorageSystemDepot = 2;</code> */
+    /**
+     * <code>k_EPublishedFileStorageSystemDepot = 2;</code>
+     */
     public static final int k_EPublishedFileStorageSystemDepot_VALUE = 2;
-
-    /** <code>k_EPublishedFileStorageSystemUGCCloud = 3;</code> */
+    /**
+     * <code>k_EPublishedFileStorageSystemUGCCloud = 3;</code>
+     */
     public static final int k_EPublishedFileStorageSystemUGCCloud_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1066,7 +1244,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EPublishedFileStorageSystem valueOf(int value) {
       return forNumber(value);
     }
@@ -1077,16 +1255,11 @@ public final class Enums {
      */
     public static EPublishedFileStorageSystem forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EPublishedFileStorageSystemInvalid;
-        case 1:
-          return k_EPublishedFileStorageSystemLegacyCloud;
-        case 2:
-          return k_EPublishedFileStorageSystemDepot;
-        case 3:
-          return k_EPublishedFileStorageSystemUGCCloud;
-        default:
-          return null;
+        case 0: return k_EPublishedFileStorageSystemInvalid;
+        case 1: return k_EPublishedFileStorageSystemLegacyCloud;
+        case 2: return k_EPublishedFileStorageSystemDepot;
+        case 3: return k_EPublishedFileStorageSystemUGCCloud;
+        default: return null;
       }
     }
 
@@ -1094,25 +1267,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EPublishedFileStorageSystem>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileStorageSystem>() {
-              public EPublishedFileStorageSystem findValueByNumber(int number) {
-                return EPublishedFileStorageSystem.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EPublishedFileStorageSystem> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EPublishedFileStorageSystem>() {
+            public EPublishedFileStorageSystem findValueByNumber(int number) {
+              return EPublishedFileStorageSystem.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(6);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(6);
     }
 
     private static final EPublishedFileStorageSystem[] VALUES = values();
@@ -1120,7 +1293,8 @@ public final class Enums {
     public static EPublishedFileStorageSystem valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1134,35 +1308,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EPublishedFileStorageSystem)
   }
 
-  /** Protobuf enum {@code ECloudStoragePersistState} */
-  public enum ECloudStoragePersistState implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ECloudStoragePersistStatePersisted = 0;</code> */
+  /**
+   * Protobuf enum {@code ECloudStoragePersistState}
+   */
+  public enum ECloudStoragePersistState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ECloudStoragePersistStatePersisted = 0;</code>
+     */
     k_ECloudStoragePersistStatePersisted(0),
-    /** <code>k_ECloudStoragePersistStateForgotten = 1;</code> */
+    /**
+     * <code>k_ECloudStoragePersistStateForgotten = 1;</code>
+     */
     k_ECloudStoragePersistStateForgotten(1),
-    /** <code>k_ECloudStoragePersistStateDeleted = 2;</code> */
+    /**
+     * <code>k_ECloudStoragePersistStateDeleted = 2;</code>
+     */
     k_ECloudStoragePersistStateDeleted(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ECloudStoragePersistState.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ECloudStoragePersistState.class.getName());
     }
-
-    /** <code>k_ECloudStoragePersistStatePersisted = 0;</code> */
+    /**
+     * <code>k_ECloudStoragePersistStatePersisted = 0;</code>
+     */
     public static final int k_ECloudStoragePersistStatePersisted_VALUE = 0;
-
-    /** <code>k_ECloudStoragePersistStateForgotten = 1;</code> */
+    /**
+     * <code>k_ECloudStoragePersistStateForgotten = 1;</code>
+     */
     public static final int k_ECloudStoragePersistStateForgotten_VALUE = 1;
-
-    /** <code>k_ECloudStoragePersistStateDeleted = 2;</code> */
+    /**
+     * <code>k_ECloudStoragePersistStateDeleted = 2;</code>
+     */
     public static final int k_ECloudStoragePersistStateDeleted_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1172,7 +1359,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ECloudStoragePersistState valueOf(int value) {
       return forNumber(value);
     }
@@ -1183,14 +1370,10 @@ public final class Enums {
      */
     public static ECloudStoragePersistState forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ECloudStoragePersistStatePersisted;
-        case 1:
-          return k_ECloudStoragePersistStateForgotten;
-        case 2:
-          return k_ECloudStoragePersistStateDeleted;
-        default:
-          return null;
+        case 0: return k_ECloudStoragePersistStatePersisted;
+        case 1: return k_ECloudStoragePersistStateForgotten;
+        case 2: return k_ECloudStoragePersistStateDeleted;
+        default: return null;
       }
     }
 
@@ -1198,25 +1381,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ECloudStoragePersistState>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ECloudStoragePersistState>() {
-              public ECloudStoragePersistState findValueByNumber(int number) {
-                return ECloudStoragePersistState.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ECloudStoragePersistState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ECloudStoragePersistState>() {
+            public ECloudStoragePersistState findValueByNumber(int number) {
+              return ECloudStoragePersistState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(7);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(7);
     }
 
     private static final ECloudStoragePersistState[] VALUES = values();
@@ -1224,7 +1407,8 @@ public final class Enums {
     public static ECloudStoragePersistState valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1238,50 +1422,72 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ECloudStoragePersistState)
   }
 
-  /** Protobuf enum {@code ESDCardFormatStage} */
-  public enum ESDCardFormatStage implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESDCardFormatStage_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESDCardFormatStage}
+   */
+  public enum ESDCardFormatStage
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESDCardFormatStage_Invalid = 0;</code>
+     */
     k_ESDCardFormatStage_Invalid(0),
-    /** <code>k_ESDCardFormatStage_Starting = 1;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Starting = 1;</code>
+     */
     k_ESDCardFormatStage_Starting(1),
-    /** <code>k_ESDCardFormatStage_Testing = 2;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Testing = 2;</code>
+     */
     k_ESDCardFormatStage_Testing(2),
-    /** <code>k_ESDCardFormatStage_Rescuing = 3;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Rescuing = 3;</code>
+     */
     k_ESDCardFormatStage_Rescuing(3),
-    /** <code>k_ESDCardFormatStage_Formatting = 4;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Formatting = 4;</code>
+     */
     k_ESDCardFormatStage_Formatting(4),
-    /** <code>k_ESDCardFormatStage_Finalizing = 5;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Finalizing = 5;</code>
+     */
     k_ESDCardFormatStage_Finalizing(5),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESDCardFormatStage.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESDCardFormatStage.class.getName());
     }
-
-    /** <code>k_ESDCardFormatStage_Invalid = 0;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Invalid = 0;</code>
+     */
     public static final int k_ESDCardFormatStage_Invalid_VALUE = 0;
-
-    /** <code>k_ESDCardFormatStage_Starting = 1;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Starting = 1;</code>
+     */
     public static final int k_ESDCardFormatStage_Starting_VALUE = 1;
-
-    /** <code>k_ESDCardFormatStage_Testing = 2;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Testing = 2;</code>
+     */
     public static final int k_ESDCardFormatStage_Testing_VALUE = 2;
-
-    /** <code>k_ESDCardFormatStage_Rescuing = 3;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Rescuing = 3;</code>
+     */
     public static final int k_ESDCardFormatStage_Rescuing_VALUE = 3;
-
-    /** <code>k_ESDCardFormatStage_Formatting = 4;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Formatting = 4;</code>
+     */
     public static final int k_ESDCardFormatStage_Formatting_VALUE = 4;
-
-    /** <code>k_ESDCardFormatStage_Finalizing = 5;</code> */
+    /**
+     * <code>k_ESDCardFormatStage_Finalizing = 5;</code>
+     */
     public static final int k_ESDCardFormatStage_Finalizing_VALUE = 5;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1291,7 +1497,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESDCardFormatStage valueOf(int value) {
       return forNumber(value);
     }
@@ -1302,20 +1508,13 @@ public final class Enums {
      */
     public static ESDCardFormatStage forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESDCardFormatStage_Invalid;
-        case 1:
-          return k_ESDCardFormatStage_Starting;
-        case 2:
-          return k_ESDCardFormatStage_Testing;
-        case 3:
-          return k_ESDCardFormatStage_Rescuing;
-        case 4:
-          return k_ESDCardFormatStage_Formatting;
-        case 5:
-          return k_ESDCardFormatStage_Finalizing;
-        default:
-          return null;
+        case 0: return k_ESDCardFormatStage_Invalid;
+        case 1: return k_ESDCardFormatStage_Starting;
+        case 2: return k_ESDCardFormatStage_Testing;
+        case 3: return k_ESDCardFormatStage_Rescuing;
+        case 4: return k_ESDCardFormatStage_Formatting;
+        case 5: return k_ESDCardFormatStage_Finalizing;
+        default: return null;
       }
     }
 
@@ -1323,25 +1522,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESDCardFormatStage>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESDCardFormatStage>() {
-              public ESDCardFormatStage findValueByNumber(int number) {
-                return ESDCardFormatStage.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESDCardFormatStage> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESDCardFormatStage>() {
+            public ESDCardFormatStage findValueByNumber(int number) {
+              return ESDCardFormatStage.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(8);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(8);
     }
 
     private static final ESDCardFormatStage[] VALUES = values();
@@ -1349,7 +1548,8 @@ public final class Enums {
     public static ESDCardFormatStage valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1363,55 +1563,80 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESDCardFormatStage)
   }
 
-  /** Protobuf enum {@code EStorageFormatStage} */
-  public enum EStorageFormatStage implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EStorageFormatStage_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EStorageFormatStage}
+   */
+  public enum EStorageFormatStage
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EStorageFormatStage_Invalid = 0;</code>
+     */
     k_EStorageFormatStage_Invalid(0),
-    /** <code>k_EStorageFormatStage_NotRunning = 1;</code> */
+    /**
+     * <code>k_EStorageFormatStage_NotRunning = 1;</code>
+     */
     k_EStorageFormatStage_NotRunning(1),
-    /** <code>k_EStorageFormatStage_Starting = 2;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Starting = 2;</code>
+     */
     k_EStorageFormatStage_Starting(2),
-    /** <code>k_EStorageFormatStage_Testing = 3;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Testing = 3;</code>
+     */
     k_EStorageFormatStage_Testing(3),
-    /** <code>k_EStorageFormatStage_Rescuing = 4;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Rescuing = 4;</code>
+     */
     k_EStorageFormatStage_Rescuing(4),
-    /** <code>k_EStorageFormatStage_Formatting = 5;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Formatting = 5;</code>
+     */
     k_EStorageFormatStage_Formatting(5),
-    /** <code>k_EStorageFormatStage_Finalizing = 6;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Finalizing = 6;</code>
+     */
     k_EStorageFormatStage_Finalizing(6),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EStorageFormatStage.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EStorageFormatStage.class.getName());
     }
-
-    /** <code>k_EStorageFormatStage_Invalid = 0;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Invalid = 0;</code>
+     */
     public static final int k_EStorageFormatStage_Invalid_VALUE = 0;
-
-    /** <code>k_EStorageFormatStage_NotRunning = 1;</code> */
+    /**
+     * <code>k_EStorageFormatStage_NotRunning = 1;</code>
+     */
     public static final int k_EStorageFormatStage_NotRunning_VALUE = 1;
-
-    /** <code>k_EStorageFormatStage_Starting = 2;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Starting = 2;</code>
+     */
     public static final int k_EStorageFormatStage_Starting_VALUE = 2;
-
-    /** <code>k_EStorageFormatStage_Testing = 3;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Testing = 3;</code>
+     */
     public static final int k_EStorageFormatStage_Testing_VALUE = 3;
-
-    /** <code>k_EStorageFormatStage_Rescuing = 4;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Rescuing = 4;</code>
+     */
     public static final int k_EStorageFormatStage_Rescuing_VALUE = 4;
-
-    /** <code>k_EStorageFormatStage_Formatting = 5;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Formatting = 5;</code>
+     */
     public static final int k_EStorageFormatStage_Formatting_VALUE = 5;
-
-    /** <code>k_EStorageFormatStage_Finalizing = 6;</code> */
+    /**
+     * <code>k_EStorageFormatStage_Finalizing = 6;</code>
+     */
     public static final int k_EStorageFormatStage_Finalizing_VALUE = 6;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1421,7 +1646,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EStorageFormatStage valueOf(int value) {
       return forNumber(value);
     }
@@ -1432,22 +1657,14 @@ public final class Enums {
      */
     public static EStorageFormatStage forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EStorageFormatStage_Invalid;
-        case 1:
-          return k_EStorageFormatStage_NotRunning;
-        case 2:
-          return k_EStorageFormatStage_Starting;
-        case 3:
-          return k_EStorageFormatStage_Testing;
-        case 4:
-          return k_EStorageFormatStage_Rescuing;
-        case 5:
-          return k_EStorageFormatStage_Formatting;
-        case 6:
-          return k_EStorageFormatStage_Finalizing;
-        default:
-          return null;
+        case 0: return k_EStorageFormatStage_Invalid;
+        case 1: return k_EStorageFormatStage_NotRunning;
+        case 2: return k_EStorageFormatStage_Starting;
+        case 3: return k_EStorageFormatStage_Testing;
+        case 4: return k_EStorageFormatStage_Rescuing;
+        case 5: return k_EStorageFormatStage_Formatting;
+        case 6: return k_EStorageFormatStage_Finalizing;
+        default: return null;
       }
     }
 
@@ -1455,25 +1672,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EStorageFormatStage>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EStorageFormatStage>() {
-              public EStorageFormatStage findValueByNumber(int number) {
-                return EStorageFormatStage.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EStorageFormatStage> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EStorageFormatStage>() {
+            public EStorageFormatStage findValueByNumber(int number) {
+              return EStorageFormatStage.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(9);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(9);
     }
 
     private static final EStorageFormatStage[] VALUES = values();
@@ -1481,7 +1698,8 @@ public final class Enums {
     public static EStorageFormatStage valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1495,35 +1713,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EStorageFormatStage)
   }
 
-  /** Protobuf enum {@code ESystemFanControlMode} */
-  public enum ESystemFanControlMode implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_SystemFanControlMode_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESystemFanControlMode}
+   */
+  public enum ESystemFanControlMode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_SystemFanControlMode_Invalid = 0;</code>
+     */
     k_SystemFanControlMode_Invalid(0),
-    /** <code>k_SystemFanControlMode_Disabled = 1;</code> */
+    /**
+     * <code>k_SystemFanControlMode_Disabled = 1;</code>
+     */
     k_SystemFanControlMode_Disabled(1),
-    /** <code>k_SystemFanControlMode_Default = 2;</code> */
+    /**
+     * <code>k_SystemFanControlMode_Default = 2;</code>
+     */
     k_SystemFanControlMode_Default(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESystemFanControlMode.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESystemFanControlMode.class.getName());
     }
-
-    /** <code>k_SystemFanControlMode_Invalid = 0;</code> */
+    /**
+     * <code>k_SystemFanControlMode_Invalid = 0;</code>
+     */
     public static final int k_SystemFanControlMode_Invalid_VALUE = 0;
-
-    /** <code>k_SystemFanControlMode_Disabled = 1;</code> */
+    /**
+     * <code>k_SystemFanControlMode_Disabled = 1;</code>
+     */
     public static final int k_SystemFanControlMode_Disabled_VALUE = 1;
-
-    /** <code>k_SystemFanControlMode_Default = 2;</code> */
+    /**
+     * <code>k_SystemFanControlMode_Default = 2;</code>
+     */
     public static final int k_SystemFanControlMode_Default_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1533,7 +1764,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESystemFanControlMode valueOf(int value) {
       return forNumber(value);
     }
@@ -1544,14 +1775,10 @@ public final class Enums {
      */
     public static ESystemFanControlMode forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_SystemFanControlMode_Invalid;
-        case 1:
-          return k_SystemFanControlMode_Disabled;
-        case 2:
-          return k_SystemFanControlMode_Default;
-        default:
-          return null;
+        case 0: return k_SystemFanControlMode_Invalid;
+        case 1: return k_SystemFanControlMode_Disabled;
+        case 2: return k_SystemFanControlMode_Default;
+        default: return null;
       }
     }
 
@@ -1559,25 +1786,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESystemFanControlMode>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESystemFanControlMode>() {
-              public ESystemFanControlMode findValueByNumber(int number) {
-                return ESystemFanControlMode.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESystemFanControlMode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESystemFanControlMode>() {
+            public ESystemFanControlMode findValueByNumber(int number) {
+              return ESystemFanControlMode.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(10);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(10);
     }
 
     private static final ESystemFanControlMode[] VALUES = values();
@@ -1585,7 +1812,8 @@ public final class Enums {
     public static ESystemFanControlMode valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1599,35 +1827,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESystemFanControlMode)
   }
 
-  /** Protobuf enum {@code EStartupMovieVariant} */
-  public enum EStartupMovieVariant implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EStartupMovieVariant_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EStartupMovieVariant}
+   */
+  public enum EStartupMovieVariant
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EStartupMovieVariant_Invalid = 0;</code>
+     */
     k_EStartupMovieVariant_Invalid(0),
-    /** <code>k_EStartupMovieVariant_Default = 1;</code> */
+    /**
+     * <code>k_EStartupMovieVariant_Default = 1;</code>
+     */
     k_EStartupMovieVariant_Default(1),
-    /** <code>k_EStartupMovieVariant_Orange = 2;</code> */
+    /**
+     * <code>k_EStartupMovieVariant_Orange = 2;</code>
+     */
     k_EStartupMovieVariant_Orange(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EStartupMovieVariant.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EStartupMovieVariant.class.getName());
     }
-
-    /** <code>k_EStartupMovieVariant_Invalid = 0;</code> */
+    /**
+     * <code>k_EStartupMovieVariant_Invalid = 0;</code>
+     */
     public static final int k_EStartupMovieVariant_Invalid_VALUE = 0;
-
-    /** <code>k_EStartupMovieVariant_Default = 1;</code> */
+    /**
+     * <code>k_EStartupMovieVariant_Default = 1;</code>
+     */
     public static final int k_EStartupMovieVariant_Default_VALUE = 1;
-
-    /** <code>k_EStartupMovieVariant_Orange = 2;</code> */
+    /**
+     * <code>k_EStartupMovieVariant_Orange = 2;</code>
+     */
     public static final int k_EStartupMovieVariant_Orange_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1637,7 +1878,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EStartupMovieVariant valueOf(int value) {
       return forNumber(value);
     }
@@ -1648,14 +1889,10 @@ public final class Enums {
      */
     public static EStartupMovieVariant forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EStartupMovieVariant_Invalid;
-        case 1:
-          return k_EStartupMovieVariant_Default;
-        case 2:
-          return k_EStartupMovieVariant_Orange;
-        default:
-          return null;
+        case 0: return k_EStartupMovieVariant_Invalid;
+        case 1: return k_EStartupMovieVariant_Default;
+        case 2: return k_EStartupMovieVariant_Orange;
+        default: return null;
       }
     }
 
@@ -1663,25 +1900,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EStartupMovieVariant>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EStartupMovieVariant>() {
-              public EStartupMovieVariant findValueByNumber(int number) {
-                return EStartupMovieVariant.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EStartupMovieVariant> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EStartupMovieVariant>() {
+            public EStartupMovieVariant findValueByNumber(int number) {
+              return EStartupMovieVariant.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(11);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(11);
     }
 
     private static final EStartupMovieVariant[] VALUES = values();
@@ -1689,7 +1926,8 @@ public final class Enums {
     public static EStartupMovieVariant valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1703,35 +1941,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EStartupMovieVariant)
   }
 
-  /** Protobuf enum {@code EColorGamutLabelSet} */
-  public enum EColorGamutLabelSet implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ColorGamutLabelSet_Default = 0;</code> */
+  /**
+   * Protobuf enum {@code EColorGamutLabelSet}
+   */
+  public enum EColorGamutLabelSet
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ColorGamutLabelSet_Default = 0;</code>
+     */
     k_ColorGamutLabelSet_Default(0),
-    /** <code>k_ColorGamutLabelSet_sRGB_Native = 1;</code> */
+    /**
+     * <code>k_ColorGamutLabelSet_sRGB_Native = 1;</code>
+     */
     k_ColorGamutLabelSet_sRGB_Native(1),
-    /** <code>k_ColorGamutLabelSet_Native_sRGB_Boosted = 2;</code> */
+    /**
+     * <code>k_ColorGamutLabelSet_Native_sRGB_Boosted = 2;</code>
+     */
     k_ColorGamutLabelSet_Native_sRGB_Boosted(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EColorGamutLabelSet.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EColorGamutLabelSet.class.getName());
     }
-
-    /** <code>k_ColorGamutLabelSet_Default = 0;</code> */
+    /**
+     * <code>k_ColorGamutLabelSet_Default = 0;</code>
+     */
     public static final int k_ColorGamutLabelSet_Default_VALUE = 0;
-
-    /** <code>k_ColorGamutLabelSet_sRGB_Native = 1;</code> */
+    /**
+     * <code>k_ColorGamutLabelSet_sRGB_Native = 1;</code>
+     */
     public static final int k_ColorGamutLabelSet_sRGB_Native_VALUE = 1;
-
-    /** <code>k_ColorGamutLabelSet_Native_sRGB_Boosted = 2;</code> */
+    /**
+     * <code>k_ColorGamutLabelSet_Native_sRGB_Boosted = 2;</code>
+     */
     public static final int k_ColorGamutLabelSet_Native_sRGB_Boosted_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1741,7 +1992,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EColorGamutLabelSet valueOf(int value) {
       return forNumber(value);
     }
@@ -1752,14 +2003,10 @@ public final class Enums {
      */
     public static EColorGamutLabelSet forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ColorGamutLabelSet_Default;
-        case 1:
-          return k_ColorGamutLabelSet_sRGB_Native;
-        case 2:
-          return k_ColorGamutLabelSet_Native_sRGB_Boosted;
-        default:
-          return null;
+        case 0: return k_ColorGamutLabelSet_Default;
+        case 1: return k_ColorGamutLabelSet_sRGB_Native;
+        case 2: return k_ColorGamutLabelSet_Native_sRGB_Boosted;
+        default: return null;
       }
     }
 
@@ -1767,25 +2014,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EColorGamutLabelSet>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EColorGamutLabelSet>() {
-              public EColorGamutLabelSet findValueByNumber(int number) {
-                return EColorGamutLabelSet.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EColorGamutLabelSet> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EColorGamutLabelSet>() {
+            public EColorGamutLabelSet findValueByNumber(int number) {
+              return EColorGamutLabelSet.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(12);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(12);
     }
 
     private static final EColorGamutLabelSet[] VALUES = values();
@@ -1793,7 +2040,8 @@ public final class Enums {
     public static EColorGamutLabelSet valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1807,80 +2055,120 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EColorGamutLabelSet)
   }
 
-  /** Protobuf enum {@code EBluetoothDeviceType} */
-  public enum EBluetoothDeviceType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_BluetoothDeviceType_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EBluetoothDeviceType}
+   */
+  public enum EBluetoothDeviceType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_BluetoothDeviceType_Invalid = 0;</code>
+     */
     k_BluetoothDeviceType_Invalid(0),
-    /** <code>k_BluetoothDeviceType_Unknown = 1;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Unknown = 1;</code>
+     */
     k_BluetoothDeviceType_Unknown(1),
-    /** <code>k_BluetoothDeviceType_Phone = 2;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Phone = 2;</code>
+     */
     k_BluetoothDeviceType_Phone(2),
-    /** <code>k_BluetoothDeviceType_Computer = 3;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Computer = 3;</code>
+     */
     k_BluetoothDeviceType_Computer(3),
-    /** <code>k_BluetoothDeviceType_Headset = 4;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Headset = 4;</code>
+     */
     k_BluetoothDeviceType_Headset(4),
-    /** <code>k_BluetoothDeviceType_Headphones = 5;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Headphones = 5;</code>
+     */
     k_BluetoothDeviceType_Headphones(5),
-    /** <code>k_BluetoothDeviceType_Speakers = 6;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Speakers = 6;</code>
+     */
     k_BluetoothDeviceType_Speakers(6),
-    /** <code>k_BluetoothDeviceType_OtherAudio = 7;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_OtherAudio = 7;</code>
+     */
     k_BluetoothDeviceType_OtherAudio(7),
-    /** <code>k_BluetoothDeviceType_Mouse = 8;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Mouse = 8;</code>
+     */
     k_BluetoothDeviceType_Mouse(8),
-    /** <code>k_BluetoothDeviceType_Joystick = 9;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Joystick = 9;</code>
+     */
     k_BluetoothDeviceType_Joystick(9),
-    /** <code>k_BluetoothDeviceType_Gamepad = 10;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Gamepad = 10;</code>
+     */
     k_BluetoothDeviceType_Gamepad(10),
-    /** <code>k_BluetoothDeviceType_Keyboard = 11;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Keyboard = 11;</code>
+     */
     k_BluetoothDeviceType_Keyboard(11),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EBluetoothDeviceType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EBluetoothDeviceType.class.getName());
     }
-
-    /** <code>k_BluetoothDeviceType_Invalid = 0;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Invalid = 0;</code>
+     */
     public static final int k_BluetoothDeviceType_Invalid_VALUE = 0;
-
-    /** <code>k_BluetoothDeviceType_Unknown = 1;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Unknown = 1;</code>
+     */
     public static final int k_BluetoothDeviceType_Unknown_VALUE = 1;
-
-    /** <code>k_BluetoothDeviceType_Phone = 2;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Phone = 2;</code>
+     */
     public static final int k_BluetoothDeviceType_Phone_VALUE = 2;
-
-    /** <code>k_BluetoothDeviceType_Computer = 3;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Computer = 3;</code>
+     */
     public static final int k_BluetoothDeviceType_Computer_VALUE = 3;
-
-    /** <code>k_BluetoothDeviceType_Headset = 4;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Headset = 4;</code>
+     */
     public static final int k_BluetoothDeviceType_Headset_VALUE = 4;
-
-    /** <code>k_BluetoothDeviceType_Headphones = 5;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Headphones = 5;</code>
+     */
     public static final int k_BluetoothDeviceType_Headphones_VALUE = 5;
-
-    /** <code>k_BluetoothDeviceType_Speakers = 6;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Speakers = 6;</code>
+     */
     public static final int k_BluetoothDeviceType_Speakers_VALUE = 6;
-
-    /** <code>k_BluetoothDeviceType_OtherAudio = 7;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_OtherAudio = 7;</code>
+     */
     public static final int k_BluetoothDeviceType_OtherAudio_VALUE = 7;
-
-    /** <code>k_BluetoothDeviceType_Mouse = 8;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Mouse = 8;</code>
+     */
     public static final int k_BluetoothDeviceType_Mouse_VALUE = 8;
-
-    /** <code>k_BluetoothDeviceType_Joystick = 9;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Joystick = 9;</code>
+     */
     public static final int k_BluetoothDeviceType_Joystick_VALUE = 9;
-
-    /** <code>k_BluetoothDeviceType_Gamepad = 10;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Gamepad = 10;</code>
+     */
     public static final int k_BluetoothDeviceType_Gamepad_VALUE = 10;
-
-    /** <code>k_BluetoothDeviceType_Keyboard = 11;</code> */
+    /**
+     * <code>k_BluetoothDeviceType_Keyboard = 11;</code>
+     */
     public static final int k_BluetoothDeviceType_Keyboard_VALUE = 11;
 
+
     public final int getNumber() {
       return value;
     }
@@ -1890,7 +2178,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EBluetoothDeviceType valueOf(int value) {
       return forNumber(value);
     }
@@ -1901,32 +2189,19 @@ public final class Enums {
      */
     public static EBluetoothDeviceType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_BluetoothDeviceType_Invalid;
-        case 1:
-          return k_BluetoothDeviceType_Unknown;
-        case 2:
-          return k_BluetoothDeviceType_Phone;
-        case 3:
-          return k_BluetoothDeviceType_Computer;
-        case 4:
-          return k_BluetoothDeviceType_Headset;
-        case 5:
-          return k_BluetoothDeviceType_Headphones;
-        case 6:
-          return k_BluetoothDeviceType_Speakers;
-        case 7:
-          return k_BluetoothDeviceType_OtherAudio;
-        case 8:
-          return k_BluetoothDeviceType_Mouse;
-        case 9:
-          return k_BluetoothDeviceType_Joystick;
-        case 10:
-          return k_BluetoothDeviceType_Gamepad;
-        case 11:
-          return k_BluetoothDeviceType_Keyboard;
-        default:
-          return null;
+        case 0: return k_BluetoothDeviceType_Invalid;
+        case 1: return k_BluetoothDeviceType_Unknown;
+        case 2: return k_BluetoothDeviceType_Phone;
+        case 3: return k_BluetoothDeviceType_Computer;
+        case 4: return k_BluetoothDeviceType_Headset;
+        case 5: return k_BluetoothDeviceType_Headphones;
+        case 6: return k_BluetoothDeviceType_Speakers;
+        case 7: return k_BluetoothDeviceType_OtherAudio;
+        case 8: return k_BluetoothDeviceType_Mouse;
+        case 9: return k_BluetoothDeviceType_Joystick;
+        case 10: return k_BluetoothDeviceType_Gamepad;
+        case 11: return k_BluetoothDeviceType_Keyboard;
+        default: return null;
       }
     }
 
@@ -1934,25 +2209,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EBluetoothDeviceType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EBluetoothDeviceType>() {
-              public EBluetoothDeviceType findValueByNumber(int number) {
-                return EBluetoothDeviceType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EBluetoothDeviceType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EBluetoothDeviceType>() {
+            public EBluetoothDeviceType findValueByNumber(int number) {
+              return EBluetoothDeviceType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(13);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(13);
     }
 
     private static final EBluetoothDeviceType[] VALUES = values();
@@ -1960,7 +2235,8 @@ public final class Enums {
     public static EBluetoothDeviceType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -1974,35 +2250,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EBluetoothDeviceType)
   }
 
-  /** Protobuf enum {@code ESystemAudioDirection} */
-  public enum ESystemAudioDirection implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_SystemAudioDirection_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESystemAudioDirection}
+   */
+  public enum ESystemAudioDirection
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_SystemAudioDirection_Invalid = 0;</code>
+     */
     k_SystemAudioDirection_Invalid(0),
-    /** <code>k_SystemAudioDirection_Input = 1;</code> */
+    /**
+     * <code>k_SystemAudioDirection_Input = 1;</code>
+     */
     k_SystemAudioDirection_Input(1),
-    /** <code>k_SystemAudioDirection_Output = 2;</code> */
+    /**
+     * <code>k_SystemAudioDirection_Output = 2;</code>
+     */
     k_SystemAudioDirection_Output(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESystemAudioDirection.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESystemAudioDirection.class.getName());
     }
-
-    /** <code>k_SystemAudioDirection_Invalid = 0;</code> */
+    /**
+     * <code>k_SystemAudioDirection_Invalid = 0;</code>
+     */
     public static final int k_SystemAudioDirection_Invalid_VALUE = 0;
-
-    /** <code>k_SystemAudioDirection_Input = 1;</code> */
+    /**
+     * <code>k_SystemAudioDirection_Input = 1;</code>
+     */
     public static final int k_SystemAudioDirection_Input_VALUE = 1;
-
-    /** <code>k_SystemAudioDirection_Output = 2;</code> */
+    /**
+     * <code>k_SystemAudioDirection_Output = 2;</code>
+     */
     public static final int k_SystemAudioDirection_Output_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2012,7 +2301,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESystemAudioDirection valueOf(int value) {
       return forNumber(value);
     }
@@ -2023,14 +2312,10 @@ public final class Enums {
      */
     public static ESystemAudioDirection forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_SystemAudioDirection_Invalid;
-        case 1:
-          return k_SystemAudioDirection_Input;
-        case 2:
-          return k_SystemAudioDirection_Output;
-        default:
-          return null;
+        case 0: return k_SystemAudioDirection_Invalid;
+        case 1: return k_SystemAudioDirection_Input;
+        case 2: return k_SystemAudioDirection_Output;
+        default: return null;
       }
     }
 
@@ -2038,25 +2323,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESystemAudioDirection>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioDirection>() {
-              public ESystemAudioDirection findValueByNumber(int number) {
-                return ESystemAudioDirection.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESystemAudioDirection> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioDirection>() {
+            public ESystemAudioDirection findValueByNumber(int number) {
+              return ESystemAudioDirection.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(14);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(14);
     }
 
     private static final ESystemAudioDirection[] VALUES = values();
@@ -2064,7 +2349,8 @@ public final class Enums {
     public static ESystemAudioDirection valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2078,70 +2364,104 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESystemAudioDirection)
   }
 
-  /** Protobuf enum {@code ESystemAudioChannel} */
-  public enum ESystemAudioChannel implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_SystemAudioChannel_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESystemAudioChannel}
+   */
+  public enum ESystemAudioChannel
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_SystemAudioChannel_Invalid = 0;</code>
+     */
     k_SystemAudioChannel_Invalid(0),
-    /** <code>k_SystemAudioChannel_Aggregated = 1;</code> */
+    /**
+     * <code>k_SystemAudioChannel_Aggregated = 1;</code>
+     */
     k_SystemAudioChannel_Aggregated(1),
-    /** <code>k_SystemAudioChannel_FrontLeft = 2;</code> */
+    /**
+     * <code>k_SystemAudioChannel_FrontLeft = 2;</code>
+     */
     k_SystemAudioChannel_FrontLeft(2),
-    /** <code>k_SystemAudioChannel_FrontRight = 3;</code> */
+    /**
+     * <code>k_SystemAudioChannel_FrontRight = 3;</code>
+     */
     k_SystemAudioChannel_FrontRight(3),
-    /** <code>k_SystemAudioChannel_LFE = 4;</code> */
+    /**
+     * <code>k_SystemAudioChannel_LFE = 4;</code>
+     */
     k_SystemAudioChannel_LFE(4),
-    /** <code>k_SystemAudioChannel_BackLeft = 5;</code> */
+    /**
+     * <code>k_SystemAudioChannel_BackLeft = 5;</code>
+     */
     k_SystemAudioChannel_BackLeft(5),
-    /** <code>k_SystemAudioChannel_BackRight = 6;</code> */
+    /**
+     * <code>k_SystemAudioChannel_BackRight = 6;</code>
+     */
     k_SystemAudioChannel_BackRight(6),
-    /** <code>k_SystemAudioChannel_FrontCenter = 7;</code> */
+    /**
+     * <code>k_SystemAudioChannel_FrontCenter = 7;</code>
+     */
     k_SystemAudioChannel_FrontCenter(7),
-    /** <code>k_SystemAudioChannel_Unknown = 8;</code> */
+    /**
+     * <code>k_SystemAudioChannel_Unknown = 8;</code>
+     */
     k_SystemAudioChannel_Unknown(8),
-    /** <code>k_SystemAudioChannel_Mono = 9;</code> */
+    /**
+     * <code>k_SystemAudioChannel_Mono = 9;</code>
+     */
     k_SystemAudioChannel_Mono(9),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESystemAudioChannel.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESystemAudioChannel.class.getName());
     }
-
-    /** <code>k_SystemAudioChannel_Invalid = 0;</code> */
+    /**
+     * <code>k_SystemAudioChannel_Invalid = 0;</code>
+     */
     public static final int k_SystemAudioChannel_Invalid_VALUE = 0;
-
-    /** <code>k_SystemAudioChannel_Aggregated = 1;</code> */
+    /**
+     * <code>k_SystemAudioChannel_Aggregated = 1;</code>
+     */
     public static final int k_SystemAudioChannel_Aggregated_VALUE = 1;
-
-    /** <code>k_SystemAudioChannel_FrontLeft = 2;</code> */
+    /**
+     * <code>k_SystemAudioChannel_FrontLeft = 2;</code>
+     */
     public static final int k_SystemAudioChannel_FrontLeft_VALUE = 2;
-
-    /** <code>k_SystemAudioChannel_FrontRight = 3;</code> */
+    /**
+     * <code>k_SystemAudioChannel_FrontRight = 3;</code>
+     */
     public static final int k_SystemAudioChannel_FrontRight_VALUE = 3;
-
-    /** <code>k_SystemAudioChannel_LFE = 4;</code> */
+    /**
+     * <code>k_SystemAudioChannel_LFE = 4;</code>
+     */
     public static final int k_SystemAudioChannel_LFE_VALUE = 4;
-
-    /** <code>k_SystemAudioChannel_BackLeft = 5;</code> */
+    /**
+     * <code>k_SystemAudioChannel_BackLeft = 5;</code>
+     */
     public static final int k_SystemAudioChannel_BackLeft_VALUE = 5;
-
-    /** <code>k_SystemAudioChannel_BackRight = 6;</code> */
+    /**
+     * <code>k_SystemAudioChannel_BackRight = 6;</code>
+     */
     public static final int k_SystemAudioChannel_BackRight_VALUE = 6;
-
-    /** <code>k_SystemAudioChannel_FrontCenter = 7;</code> */
+    /**
+     * <code>k_SystemAudioChannel_FrontCenter = 7;</code>
+     */
     public static final int k_SystemAudioChannel_FrontCenter_VALUE = 7;
-
-    /** <code>k_SystemAudioChannel_Unknown = 8;</code> */
+    /**
+     * <code>k_SystemAudioChannel_Unknown = 8;</code>
+     */
     public static final int k_SystemAudioChannel_Unknown_VALUE = 8;
-
-    /** <code>k_SystemAudioChannel_Mono = 9;</code> */
+    /**
+     * <code>k_SystemAudioChannel_Mono = 9;</code>
+     */
     public static final int k_SystemAudioChannel_Mono_VALUE = 9;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2151,7 +2471,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESystemAudioChannel valueOf(int value) {
       return forNumber(value);
     }
@@ -2162,28 +2482,17 @@ public final class Enums {
      */
     public static ESystemAudioChannel forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_SystemAudioChannel_Invalid;
-        case 1:
-          return k_SystemAudioChannel_Aggregated;
-        case 2:
-          return k_SystemAudioChannel_FrontLeft;
-        case 3:
-          return k_SystemAudioChannel_FrontRight;
-        case 4:
-          return k_SystemAudioChannel_LFE;
-        case 5:
-          return k_SystemAudioChannel_BackLeft;
-        case 6:
-          return k_SystemAudioChannel_BackRight;
-        case 7:
-          return k_SystemAudioChannel_FrontCenter;
-        case 8:
-          return k_SystemAudioChannel_Unknown;
-        case 9:
-          return k_SystemAudioChannel_Mono;
-        default:
-          return null;
+        case 0: return k_SystemAudioChannel_Invalid;
+        case 1: return k_SystemAudioChannel_Aggregated;
+        case 2: return k_SystemAudioChannel_FrontLeft;
+        case 3: return k_SystemAudioChannel_FrontRight;
+        case 4: return k_SystemAudioChannel_LFE;
+        case 5: return k_SystemAudioChannel_BackLeft;
+        case 6: return k_SystemAudioChannel_BackRight;
+        case 7: return k_SystemAudioChannel_FrontCenter;
+        case 8: return k_SystemAudioChannel_Unknown;
+        case 9: return k_SystemAudioChannel_Mono;
+        default: return null;
       }
     }
 
@@ -2191,25 +2500,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESystemAudioChannel>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioChannel>() {
-              public ESystemAudioChannel findValueByNumber(int number) {
-                return ESystemAudioChannel.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESystemAudioChannel> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioChannel>() {
+            public ESystemAudioChannel findValueByNumber(int number) {
+              return ESystemAudioChannel.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(15);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(15);
     }
 
     private static final ESystemAudioChannel[] VALUES = values();
@@ -2217,7 +2526,8 @@ public final class Enums {
     public static ESystemAudioChannel valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2231,45 +2541,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESystemAudioChannel)
   }
 
-  /** Protobuf enum {@code ESystemAudioPortType} */
-  public enum ESystemAudioPortType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_SystemAudioPortType_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESystemAudioPortType}
+   */
+  public enum ESystemAudioPortType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_SystemAudioPortType_Invalid = 0;</code>
+     */
     k_SystemAudioPortType_Invalid(0),
-    /** <code>k_SystemAudioPortType_Unknown = 1;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Unknown = 1;</code>
+     */
     k_SystemAudioPortType_Unknown(1),
-    /** <code>k_SystemAudioPortType_Audio32f = 2;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Audio32f = 2;</code>
+     */
     k_SystemAudioPortType_Audio32f(2),
-    /** <code>k_SystemAudioPortType_Midi8b = 3;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Midi8b = 3;</code>
+     */
     k_SystemAudioPortType_Midi8b(3),
-    /** <code>k_SystemAudioPortType_Video32RGBA = 4;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Video32RGBA = 4;</code>
+     */
     k_SystemAudioPortType_Video32RGBA(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESystemAudioPortType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESystemAudioPortType.class.getName());
     }
-
-    /** <code>k_SystemAudioPortType_Invalid = 0;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Invalid = 0;</code>
+     */
     public static final int k_SystemAudioPortType_Invalid_VALUE = 0;
-
-    /** <code>k_SystemAudioPortType_Unknown = 1;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Unknown = 1;</code>
+     */
     public static final int k_SystemAudioPortType_Unknown_VALUE = 1;
-
-    /** <code>k_SystemAudioPortType_Audio32f = 2;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Audio32f = 2;</code>
+     */
     public static final int k_SystemAudioPortType_Audio32f_VALUE = 2;
-
-    /** <code>k_SystemAudioPortType_Midi8b = 3;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Midi8b = 3;</code>
+     */
     public static final int k_SystemAudioPortType_Midi8b_VALUE = 3;
-
-    /** <code>k_SystemAudioPortType_Video32RGBA = 4;</code> */
+    /**
+     * <code>k_SystemAudioPortType_Video32RGBA = 4;</code>
+     */
     public static final int k_SystemAudioPortType_Video32RGBA_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2279,7 +2608,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESystemAudioPortType valueOf(int value) {
       return forNumber(value);
     }
@@ -2290,18 +2619,12 @@ public final class Enums {
      */
     public static ESystemAudioPortType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_SystemAudioPortType_Invalid;
-        case 1:
-          return k_SystemAudioPortType_Unknown;
-        case 2:
-          return k_SystemAudioPortType_Audio32f;
-        case 3:
-          return k_SystemAudioPortType_Midi8b;
-        case 4:
-          return k_SystemAudioPortType_Video32RGBA;
-        default:
-          return null;
+        case 0: return k_SystemAudioPortType_Invalid;
+        case 1: return k_SystemAudioPortType_Unknown;
+        case 2: return k_SystemAudioPortType_Audio32f;
+        case 3: return k_SystemAudioPortType_Midi8b;
+        case 4: return k_SystemAudioPortType_Video32RGBA;
+        default: return null;
       }
     }
 
@@ -2309,25 +2632,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESystemAudioPortType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioPortType>() {
-              public ESystemAudioPortType findValueByNumber(int number) {
-                return ESystemAudioPortType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESystemAudioPortType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioPortType>() {
+            public ESystemAudioPortType findValueByNumber(int number) {
+              return ESystemAudioPortType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(16);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(16);
     }
 
     private static final ESystemAudioPortType[] VALUES = values();
@@ -2335,7 +2658,8 @@ public final class Enums {
     public static ESystemAudioPortType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2349,35 +2673,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESystemAudioPortType)
   }
 
-  /** Protobuf enum {@code ESystemAudioPortDirection} */
-  public enum ESystemAudioPortDirection implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_SystemAudioPortDirection_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESystemAudioPortDirection}
+   */
+  public enum ESystemAudioPortDirection
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_SystemAudioPortDirection_Invalid = 0;</code>
+     */
     k_SystemAudioPortDirection_Invalid(0),
-    /** <code>k_SystemAudioPortDirection_Input = 1;</code> */
+    /**
+     * <code>k_SystemAudioPortDirection_Input = 1;</code>
+     */
     k_SystemAudioPortDirection_Input(1),
-    /** <code>k_SystemAudioPortDirection_Output = 2;</code> */
+    /**
+     * <code>k_SystemAudioPortDirection_Output = 2;</code>
+     */
     k_SystemAudioPortDirection_Output(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESystemAudioPortDirection.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESystemAudioPortDirection.class.getName());
     }
-
-    /** <code>k_SystemAudioPortDirection_Invalid = 0;</code> */
+    /**
+     * <code>k_SystemAudioPortDirection_Invalid = 0;</code>
+     */
     public static final int k_SystemAudioPortDirection_Invalid_VALUE = 0;
-
-    /** <code>k_SystemAudioPortDirection_Input = 1;</code> */
+    /**
+     * <code>k_SystemAudioPortDirection_Input = 1;</code>
+     */
     public static final int k_SystemAudioPortDirection_Input_VALUE = 1;
-
-    /** <code>k_SystemAudioPortDirection_Output = 2;</code> */
+    /**
+     * <code>k_SystemAudioPortDirection_Output = 2;</code>
+     */
     public static final int k_SystemAudioPortDirection_Output_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2387,7 +2724,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESystemAudioPortDirection valueOf(int value) {
       return forNumber(value);
     }
@@ -2398,14 +2735,10 @@ public final class Enums {
      */
     public static ESystemAudioPortDirection forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_SystemAudioPortDirection_Invalid;
-        case 1:
-          return k_SystemAudioPortDirection_Input;
-        case 2:
-          return k_SystemAudioPortDirection_Output;
-        default:
-          return null;
+        case 0: return k_SystemAudioPortDirection_Invalid;
+        case 1: return k_SystemAudioPortDirection_Input;
+        case 2: return k_SystemAudioPortDirection_Output;
+        default: return null;
       }
     }
 
@@ -2413,25 +2746,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESystemAudioPortDirection>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioPortDirection>() {
-              public ESystemAudioPortDirection findValueByNumber(int number) {
-                return ESystemAudioPortDirection.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESystemAudioPortDirection> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESystemAudioPortDirection>() {
+            public ESystemAudioPortDirection findValueByNumber(int number) {
+              return ESystemAudioPortDirection.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(17);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(17);
     }
 
     private static final ESystemAudioPortDirection[] VALUES = values();
@@ -2439,7 +2772,8 @@ public final class Enums {
     public static ESystemAudioPortDirection valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2453,35 +2787,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESystemAudioPortDirection)
   }
 
-  /** Protobuf enum {@code ESystemServiceState} */
-  public enum ESystemServiceState implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESystemServiceState_Unavailable = 0;</code> */
+  /**
+   * Protobuf enum {@code ESystemServiceState}
+   */
+  public enum ESystemServiceState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESystemServiceState_Unavailable = 0;</code>
+     */
     k_ESystemServiceState_Unavailable(0),
-    /** <code>k_ESystemServiceState_Disabled = 1;</code> */
+    /**
+     * <code>k_ESystemServiceState_Disabled = 1;</code>
+     */
     k_ESystemServiceState_Disabled(1),
-    /** <code>k_ESystemServiceState_Enabled = 2;</code> */
+    /**
+     * <code>k_ESystemServiceState_Enabled = 2;</code>
+     */
     k_ESystemServiceState_Enabled(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESystemServiceState.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESystemServiceState.class.getName());
     }
-
-    /** <code>k_ESystemServiceState_Unavailable = 0;</code> */
+    /**
+     * <code>k_ESystemServiceState_Unavailable = 0;</code>
+     */
     public static final int k_ESystemServiceState_Unavailable_VALUE = 0;
-
-    /** <code>k_ESystemServiceState_Disabled = 1;</code> */
+    /**
+     * <code>k_ESystemServiceState_Disabled = 1;</code>
+     */
     public static final int k_ESystemServiceState_Disabled_VALUE = 1;
-
-    /** <code>k_ESystemServiceState_Enabled = 2;</code> */
+    /**
+     * <code>k_ESystemServiceState_Enabled = 2;</code>
+     */
     public static final int k_ESystemServiceState_Enabled_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2491,7 +2838,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESystemServiceState valueOf(int value) {
       return forNumber(value);
     }
@@ -2502,14 +2849,10 @@ public final class Enums {
      */
     public static ESystemServiceState forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESystemServiceState_Unavailable;
-        case 1:
-          return k_ESystemServiceState_Disabled;
-        case 2:
-          return k_ESystemServiceState_Enabled;
-        default:
-          return null;
+        case 0: return k_ESystemServiceState_Unavailable;
+        case 1: return k_ESystemServiceState_Disabled;
+        case 2: return k_ESystemServiceState_Enabled;
+        default: return null;
       }
     }
 
@@ -2517,25 +2860,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESystemServiceState>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESystemServiceState>() {
-              public ESystemServiceState findValueByNumber(int number) {
-                return ESystemServiceState.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESystemServiceState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESystemServiceState>() {
+            public ESystemServiceState findValueByNumber(int number) {
+              return ESystemServiceState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(18);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(18);
     }
 
     private static final ESystemServiceState[] VALUES = values();
@@ -2543,7 +2886,8 @@ public final class Enums {
     public static ESystemServiceState valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2557,45 +2901,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESystemServiceState)
   }
 
-  /** Protobuf enum {@code EGraphicsPerfOverlayLevel} */
-  public enum EGraphicsPerfOverlayLevel implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EGraphicsPerfOverlayLevel_Hidden = 0;</code> */
+  /**
+   * Protobuf enum {@code EGraphicsPerfOverlayLevel}
+   */
+  public enum EGraphicsPerfOverlayLevel
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Hidden = 0;</code>
+     */
     k_EGraphicsPerfOverlayLevel_Hidden(0),
-    /** <code>k_EGraphicsPerfOverlayLevel_Basic = 1;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Basic = 1;</code>
+     */
     k_EGraphicsPerfOverlayLevel_Basic(1),
-    /** <code>k_EGraphicsPerfOverlayLevel_Medium = 2;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Medium = 2;</code>
+     */
     k_EGraphicsPerfOverlayLevel_Medium(2),
-    /** <code>k_EGraphicsPerfOverlayLevel_Full = 3;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Full = 3;</code>
+     */
     k_EGraphicsPerfOverlayLevel_Full(3),
-    /** <code>k_EGraphicsPerfOverlayLevel_Minimal = 4;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Minimal = 4;</code>
+     */
     k_EGraphicsPerfOverlayLevel_Minimal(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EGraphicsPerfOverlayLevel.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EGraphicsPerfOverlayLevel.class.getName());
     }
-
-    /** <code>k_EGraphicsPerfOverlayLevel_Hidden = 0;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Hidden = 0;</code>
+     */
     public static final int k_EGraphicsPerfOverlayLevel_Hidden_VALUE = 0;
-
-    /** <code>k_EGraphicsPerfOverlayLevel_Basic = 1;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Basic = 1;</code>
+     */
     public static final int k_EGraphicsPerfOverlayLevel_Basic_VALUE = 1;
-
-    /** <code>k_EGraphicsPerfOverlayLevel_Medium = 2;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Medium = 2;</code>
+     */
     public static final int k_EGraphicsPerfOverlayLevel_Medium_VALUE = 2;
-
-    /** <code>k_EGraphicsPerfOverlayLevel_Full = 3;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Full = 3;</code>
+     */
     public static final int k_EGraphicsPerfOverlayLevel_Full_VALUE = 3;
-
-    /** <code>k_EGraphicsPerfOverlayLevel_Minimal = 4;</code> */
+    /**
+     * <code>k_EGraphicsPerfOverlayLevel_Minimal = 4;</code>
+     */
     public static final int k_EGraphicsPerfOverlayLevel_Minimal_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2605,7 +2968,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EGraphicsPerfOverlayLevel valueOf(int value) {
       return forNumber(value);
     }
@@ -2616,18 +2979,12 @@ public final class Enums {
      */
     public static EGraphicsPerfOverlayLevel forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EGraphicsPerfOverlayLevel_Hidden;
-        case 1:
-          return k_EGraphicsPerfOverlayLevel_Basic;
-        case 2:
-          return k_EGraphicsPerfOverlayLevel_Medium;
-        case 3:
-          return k_EGraphicsPerfOverlayLevel_Full;
-        case 4:
-          return k_EGraphicsPerfOverlayLevel_Minimal;
-        default:
-          return null;
+        case 0: return k_EGraphicsPerfOverlayLevel_Hidden;
+        case 1: return k_EGraphicsPerfOverlayLevel_Basic;
+        case 2: return k_EGraphicsPerfOverlayLevel_Medium;
+        case 3: return k_EGraphicsPerfOverlayLevel_Full;
+        case 4: return k_EGraphicsPerfOverlayLevel_Minimal;
+        default: return null;
       }
     }
 
@@ -2635,25 +2992,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EGraphicsPerfOverlayLevel>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EGraphicsPerfOverlayLevel>() {
-              public EGraphicsPerfOverlayLevel findValueByNumber(int number) {
-                return EGraphicsPerfOverlayLevel.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EGraphicsPerfOverlayLevel> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EGraphicsPerfOverlayLevel>() {
+            public EGraphicsPerfOverlayLevel findValueByNumber(int number) {
+              return EGraphicsPerfOverlayLevel.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(19);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(19);
     }
 
     private static final EGraphicsPerfOverlayLevel[] VALUES = values();
@@ -2661,7 +3018,8 @@ public final class Enums {
     public static EGraphicsPerfOverlayLevel valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2675,50 +3033,72 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EGraphicsPerfOverlayLevel)
   }
 
-  /** Protobuf enum {@code EGPUPerformanceLevel} */
-  public enum EGPUPerformanceLevel implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EGPUPerformanceLevel_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EGPUPerformanceLevel}
+   */
+  public enum EGPUPerformanceLevel
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EGPUPerformanceLevel_Invalid = 0;</code>
+     */
     k_EGPUPerformanceLevel_Invalid(0),
-    /** <code>k_EGPUPerformanceLevel_Auto = 1;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Auto = 1;</code>
+     */
     k_EGPUPerformanceLevel_Auto(1),
-    /** <code>k_EGPUPerformanceLevel_Manual = 2;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Manual = 2;</code>
+     */
     k_EGPUPerformanceLevel_Manual(2),
-    /** <code>k_EGPUPerformanceLevel_Low = 3;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Low = 3;</code>
+     */
     k_EGPUPerformanceLevel_Low(3),
-    /** <code>k_EGPUPerformanceLevel_High = 4;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_High = 4;</code>
+     */
     k_EGPUPerformanceLevel_High(4),
-    /** <code>k_EGPUPerformanceLevel_Profiling = 5;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Profiling = 5;</code>
+     */
     k_EGPUPerformanceLevel_Profiling(5),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EGPUPerformanceLevel.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EGPUPerformanceLevel.class.getName());
     }
-
-    /** <code>k_EGPUPerformanceLevel_Invalid = 0;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Invalid = 0;</code>
+     */
     public static final int k_EGPUPerformanceLevel_Invalid_VALUE = 0;
-
-    /** <code>k_EGPUPerformanceLevel_Auto = 1;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Auto = 1;</code>
+     */
     public static final int k_EGPUPerformanceLevel_Auto_VALUE = 1;
-
-    /** <code>k_EGPUPerformanceLevel_Manual = 2;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Manual = 2;</code>
+     */
     public static final int k_EGPUPerformanceLevel_Manual_VALUE = 2;
-
-    /** <code>k_EGPUPerformanceLevel_Low = 3;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Low = 3;</code>
+     */
     public static final int k_EGPUPerformanceLevel_Low_VALUE = 3;
-
-    /** <code>k_EGPUPerformanceLevel_High = 4;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_High = 4;</code>
+     */
     public static final int k_EGPUPerformanceLevel_High_VALUE = 4;
-
-    /** <code>k_EGPUPerformanceLevel_Profiling = 5;</code> */
+    /**
+     * <code>k_EGPUPerformanceLevel_Profiling = 5;</code>
+     */
     public static final int k_EGPUPerformanceLevel_Profiling_VALUE = 5;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2728,7 +3108,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EGPUPerformanceLevel valueOf(int value) {
       return forNumber(value);
     }
@@ -2739,20 +3119,13 @@ public final class Enums {
      */
     public static EGPUPerformanceLevel forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EGPUPerformanceLevel_Invalid;
-        case 1:
-          return k_EGPUPerformanceLevel_Auto;
-        case 2:
-          return k_EGPUPerformanceLevel_Manual;
-        case 3:
-          return k_EGPUPerformanceLevel_Low;
-        case 4:
-          return k_EGPUPerformanceLevel_High;
-        case 5:
-          return k_EGPUPerformanceLevel_Profiling;
-        default:
-          return null;
+        case 0: return k_EGPUPerformanceLevel_Invalid;
+        case 1: return k_EGPUPerformanceLevel_Auto;
+        case 2: return k_EGPUPerformanceLevel_Manual;
+        case 3: return k_EGPUPerformanceLevel_Low;
+        case 4: return k_EGPUPerformanceLevel_High;
+        case 5: return k_EGPUPerformanceLevel_Profiling;
+        default: return null;
       }
     }
 
@@ -2760,25 +3133,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EGPUPerformanceLevel>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EGPUPerformanceLevel>() {
-              public EGPUPerformanceLevel findValueByNumber(int number) {
-                return EGPUPerformanceLevel.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EGPUPerformanceLevel> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EGPUPerformanceLevel>() {
+            public EGPUPerformanceLevel findValueByNumber(int number) {
+              return EGPUPerformanceLevel.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(20);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(20);
     }
 
     private static final EGPUPerformanceLevel[] VALUES = values();
@@ -2786,7 +3159,8 @@ public final class Enums {
     public static EGPUPerformanceLevel valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2800,50 +3174,72 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EGPUPerformanceLevel)
   }
 
-  /** Protobuf enum {@code EScalingFilter} */
-  public enum EScalingFilter implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EScalingFilter_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EScalingFilter}
+   */
+  public enum EScalingFilter
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EScalingFilter_Invalid = 0;</code>
+     */
     k_EScalingFilter_Invalid(0),
-    /** <code>k_EScalingFilter_FSR = 1;</code> */
+    /**
+     * <code>k_EScalingFilter_FSR = 1;</code>
+     */
     k_EScalingFilter_FSR(1),
-    /** <code>k_EScalingFilter_Nearest = 2;</code> */
+    /**
+     * <code>k_EScalingFilter_Nearest = 2;</code>
+     */
     k_EScalingFilter_Nearest(2),
-    /** <code>k_EScalingFilter_Integer = 3;</code> */
+    /**
+     * <code>k_EScalingFilter_Integer = 3;</code>
+     */
     k_EScalingFilter_Integer(3),
-    /** <code>k_EScalingFilter_Linear = 4;</code> */
+    /**
+     * <code>k_EScalingFilter_Linear = 4;</code>
+     */
     k_EScalingFilter_Linear(4),
-    /** <code>k_EScalingFilter_NIS = 5;</code> */
+    /**
+     * <code>k_EScalingFilter_NIS = 5;</code>
+     */
     k_EScalingFilter_NIS(5),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EScalingFilter.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EScalingFilter.class.getName());
     }
-
-    /** <code>k_EScalingFilter_Invalid = 0;</code> */
+    /**
+     * <code>k_EScalingFilter_Invalid = 0;</code>
+     */
     public static final int k_EScalingFilter_Invalid_VALUE = 0;
-
-    /** <code>k_EScalingFilter_FSR = 1;</code> */
+    /**
+     * <code>k_EScalingFilter_FSR = 1;</code>
+     */
     public static final int k_EScalingFilter_FSR_VALUE = 1;
-
-    /** <code>k_EScalingFilter_Nearest = 2;</code> */
+    /**
+     * <code>k_EScalingFilter_Nearest = 2;</code>
+     */
     public static final int k_EScalingFilter_Nearest_VALUE = 2;
-
-    /** <code>k_EScalingFilter_Integer = 3;</code> */
+    /**
+     * <code>k_EScalingFilter_Integer = 3;</code>
+     */
     public static final int k_EScalingFilter_Integer_VALUE = 3;
-
-    /** <code>k_EScalingFilter_Linear = 4;</code> */
+    /**
+     * <code>k_EScalingFilter_Linear = 4;</code>
+     */
     public static final int k_EScalingFilter_Linear_VALUE = 4;
-
-    /** <code>k_EScalingFilter_NIS = 5;</code> */
+    /**
+     * <code>k_EScalingFilter_NIS = 5;</code>
+     */
     public static final int k_EScalingFilter_NIS_VALUE = 5;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2853,7 +3249,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EScalingFilter valueOf(int value) {
       return forNumber(value);
     }
@@ -2864,51 +3260,48 @@ public final class Enums {
      */
     public static EScalingFilter forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EScalingFilter_Invalid;
-        case 1:
-          return k_EScalingFilter_FSR;
-        case 2:
-          return k_EScalingFilter_Nearest;
-        case 3:
-          return k_EScalingFilter_Integer;
-        case 4:
-          return k_EScalingFilter_Linear;
-        case 5:
-          return k_EScalingFilter_NIS;
-        default:
-          return null;
+        case 0: return k_EScalingFilter_Invalid;
+        case 1: return k_EScalingFilter_FSR;
+        case 2: return k_EScalingFilter_Nearest;
+        case 3: return k_EScalingFilter_Integer;
+        case 4: return k_EScalingFilter_Linear;
+        case 5: return k_EScalingFilter_NIS;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<EScalingFilter> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<EScalingFilter>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EScalingFilter> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<EScalingFilter>() {
-          public EScalingFilter findValueByNumber(int number) {
-            return EScalingFilter.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EScalingFilter> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EScalingFilter>() {
+            public EScalingFilter findValueByNumber(int number) {
+              return EScalingFilter.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(21);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(21);
     }
 
     private static final EScalingFilter[] VALUES = values();
 
-    public static EScalingFilter valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static EScalingFilter valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -2922,45 +3315,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EScalingFilter)
   }
 
-  /** Protobuf enum {@code ESplitScalingFilter} */
-  public enum ESplitScalingFilter implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESplitScalingFilter_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESplitScalingFilter}
+   */
+  public enum ESplitScalingFilter
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESplitScalingFilter_Invalid = 0;</code>
+     */
     k_ESplitScalingFilter_Invalid(0),
-    /** <code>k_ESplitScalingFilter_Linear = 1;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_Linear = 1;</code>
+     */
     k_ESplitScalingFilter_Linear(1),
-    /** <code>k_ESplitScalingFilter_Nearest = 2;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_Nearest = 2;</code>
+     */
     k_ESplitScalingFilter_Nearest(2),
-    /** <code>k_ESplitScalingFilter_FSR = 3;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_FSR = 3;</code>
+     */
     k_ESplitScalingFilter_FSR(3),
-    /** <code>k_ESplitScalingFilter_NIS = 4;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_NIS = 4;</code>
+     */
     k_ESplitScalingFilter_NIS(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESplitScalingFilter.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESplitScalingFilter.class.getName());
     }
-
-    /** <code>k_ESplitScalingFilter_Invalid = 0;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_Invalid = 0;</code>
+     */
     public static final int k_ESplitScalingFilter_Invalid_VALUE = 0;
-
-    /** <code>k_ESplitScalingFilter_Linear = 1;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_Linear = 1;</code>
+     */
     public static final int k_ESplitScalingFilter_Linear_VALUE = 1;
-
-    /** <code>k_ESplitScalingFilter_Nearest = 2;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_Nearest = 2;</code>
+     */
     public static final int k_ESplitScalingFilter_Nearest_VALUE = 2;
-
-    /** <code>k_ESplitScalingFilter_FSR = 3;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_FSR = 3;</code>
+     */
     public static final int k_ESplitScalingFilter_FSR_VALUE = 3;
-
-    /** <code>k_ESplitScalingFilter_NIS = 4;</code> */
+    /**
+     * <code>k_ESplitScalingFilter_NIS = 4;</code>
+     */
     public static final int k_ESplitScalingFilter_NIS_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -2970,7 +3382,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESplitScalingFilter valueOf(int value) {
       return forNumber(value);
     }
@@ -2981,18 +3393,12 @@ public final class Enums {
      */
     public static ESplitScalingFilter forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESplitScalingFilter_Invalid;
-        case 1:
-          return k_ESplitScalingFilter_Linear;
-        case 2:
-          return k_ESplitScalingFilter_Nearest;
-        case 3:
-          return k_ESplitScalingFilter_FSR;
-        case 4:
-          return k_ESplitScalingFilter_NIS;
-        default:
-          return null;
+        case 0: return k_ESplitScalingFilter_Invalid;
+        case 1: return k_ESplitScalingFilter_Linear;
+        case 2: return k_ESplitScalingFilter_Nearest;
+        case 3: return k_ESplitScalingFilter_FSR;
+        case 4: return k_ESplitScalingFilter_NIS;
+        default: return null;
       }
     }
 
@@ -3000,25 +3406,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESplitScalingFilter>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESplitScalingFilter>() {
-              public ESplitScalingFilter findValueByNumber(int number) {
-                return ESplitScalingFilter.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESplitScalingFilter> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESplitScalingFilter>() {
+            public ESplitScalingFilter findValueByNumber(int number) {
+              return ESplitScalingFilter.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(22);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(22);
     }
 
     private static final ESplitScalingFilter[] VALUES = values();
@@ -3026,7 +3432,8 @@ public final class Enums {
     public static ESplitScalingFilter valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3040,50 +3447,72 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESplitScalingFilter)
   }
 
-  /** Protobuf enum {@code ESplitScalingScaler} */
-  public enum ESplitScalingScaler implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESplitScalingScaler_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESplitScalingScaler}
+   */
+  public enum ESplitScalingScaler
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESplitScalingScaler_Invalid = 0;</code>
+     */
     k_ESplitScalingScaler_Invalid(0),
-    /** <code>k_ESplitScalingScaler_Auto = 1;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Auto = 1;</code>
+     */
     k_ESplitScalingScaler_Auto(1),
-    /** <code>k_ESplitScalingScaler_Integer = 2;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Integer = 2;</code>
+     */
     k_ESplitScalingScaler_Integer(2),
-    /** <code>k_ESplitScalingScaler_Fit = 3;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Fit = 3;</code>
+     */
     k_ESplitScalingScaler_Fit(3),
-    /** <code>k_ESplitScalingScaler_Fill = 4;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Fill = 4;</code>
+     */
     k_ESplitScalingScaler_Fill(4),
-    /** <code>k_ESplitScalingScaler_Stretch = 5;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Stretch = 5;</code>
+     */
     k_ESplitScalingScaler_Stretch(5),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESplitScalingScaler.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESplitScalingScaler.class.getName());
     }
-
-    /** <code>k_ESplitScalingScaler_Invalid = 0;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Invalid = 0;</code>
+     */
     public static final int k_ESplitScalingScaler_Invalid_VALUE = 0;
-
-    /** <code>k_ESplitScalingScaler_Auto = 1;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Auto = 1;</code>
+     */
     public static final int k_ESplitScalingScaler_Auto_VALUE = 1;
-
-    /** <code>k_ESplitScalingScaler_Integer = 2;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Integer = 2;</code>
+     */
     public static final int k_ESplitScalingScaler_Integer_VALUE = 2;
-
-    /** <code>k_ESplitScalingScaler_Fit = 3;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Fit = 3;</code>
+     */
     public static final int k_ESplitScalingScaler_Fit_VALUE = 3;
-
-    /** <code>k_ESplitScalingScaler_Fill = 4;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Fill = 4;</code>
+     */
     public static final int k_ESplitScalingScaler_Fill_VALUE = 4;
-
-    /** <code>k_ESplitScalingScaler_Stretch = 5;</code> */
+    /**
+     * <code>k_ESplitScalingScaler_Stretch = 5;</code>
+     */
     public static final int k_ESplitScalingScaler_Stretch_VALUE = 5;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3093,7 +3522,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESplitScalingScaler valueOf(int value) {
       return forNumber(value);
     }
@@ -3104,20 +3533,13 @@ public final class Enums {
      */
     public static ESplitScalingScaler forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESplitScalingScaler_Invalid;
-        case 1:
-          return k_ESplitScalingScaler_Auto;
-        case 2:
-          return k_ESplitScalingScaler_Integer;
-        case 3:
-          return k_ESplitScalingScaler_Fit;
-        case 4:
-          return k_ESplitScalingScaler_Fill;
-        case 5:
-          return k_ESplitScalingScaler_Stretch;
-        default:
-          return null;
+        case 0: return k_ESplitScalingScaler_Invalid;
+        case 1: return k_ESplitScalingScaler_Auto;
+        case 2: return k_ESplitScalingScaler_Integer;
+        case 3: return k_ESplitScalingScaler_Fit;
+        case 4: return k_ESplitScalingScaler_Fill;
+        case 5: return k_ESplitScalingScaler_Stretch;
+        default: return null;
       }
     }
 
@@ -3125,25 +3547,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESplitScalingScaler>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESplitScalingScaler>() {
-              public ESplitScalingScaler findValueByNumber(int number) {
-                return ESplitScalingScaler.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESplitScalingScaler> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESplitScalingScaler>() {
+            public ESplitScalingScaler findValueByNumber(int number) {
+              return ESplitScalingScaler.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(23);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(23);
     }
 
     private static final ESplitScalingScaler[] VALUES = values();
@@ -3151,7 +3573,8 @@ public final class Enums {
     public static ESplitScalingScaler valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3165,35 +3588,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESplitScalingScaler)
   }
 
-  /** Protobuf enum {@code EGamescopeBlurMode} */
-  public enum EGamescopeBlurMode implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EGamescopeBlurMode_Disabled = 0;</code> */
+  /**
+   * Protobuf enum {@code EGamescopeBlurMode}
+   */
+  public enum EGamescopeBlurMode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EGamescopeBlurMode_Disabled = 0;</code>
+     */
     k_EGamescopeBlurMode_Disabled(0),
-    /** <code>k_EGamescopeBlurMode_IfOccluded = 1;</code> */
+    /**
+     * <code>k_EGamescopeBlurMode_IfOccluded = 1;</code>
+     */
     k_EGamescopeBlurMode_IfOccluded(1),
-    /** <code>k_EGamescopeBlurMode_Always = 2;</code> */
+    /**
+     * <code>k_EGamescopeBlurMode_Always = 2;</code>
+     */
     k_EGamescopeBlurMode_Always(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EGamescopeBlurMode.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EGamescopeBlurMode.class.getName());
     }
-
-    /** <code>k_EGamescopeBlurMode_Disabled = 0;</code> */
+    /**
+     * <code>k_EGamescopeBlurMode_Disabled = 0;</code>
+     */
     public static final int k_EGamescopeBlurMode_Disabled_VALUE = 0;
-
-    /** <code>k_EGamescopeBlurMode_IfOccluded = 1;</code> */
+    /**
+     * <code>k_EGamescopeBlurMode_IfOccluded = 1;</code>
+     */
     public static final int k_EGamescopeBlurMode_IfOccluded_VALUE = 1;
-
-    /** <code>k_EGamescopeBlurMode_Always = 2;</code> */
+    /**
+     * <code>k_EGamescopeBlurMode_Always = 2;</code>
+     */
     public static final int k_EGamescopeBlurMode_Always_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3203,7 +3639,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EGamescopeBlurMode valueOf(int value) {
       return forNumber(value);
     }
@@ -3214,14 +3650,10 @@ public final class Enums {
      */
     public static EGamescopeBlurMode forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EGamescopeBlurMode_Disabled;
-        case 1:
-          return k_EGamescopeBlurMode_IfOccluded;
-        case 2:
-          return k_EGamescopeBlurMode_Always;
-        default:
-          return null;
+        case 0: return k_EGamescopeBlurMode_Disabled;
+        case 1: return k_EGamescopeBlurMode_IfOccluded;
+        case 2: return k_EGamescopeBlurMode_Always;
+        default: return null;
       }
     }
 
@@ -3229,25 +3661,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EGamescopeBlurMode>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EGamescopeBlurMode>() {
-              public EGamescopeBlurMode findValueByNumber(int number) {
-                return EGamescopeBlurMode.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EGamescopeBlurMode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EGamescopeBlurMode>() {
+            public EGamescopeBlurMode findValueByNumber(int number) {
+              return EGamescopeBlurMode.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(24);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(24);
     }
 
     private static final EGamescopeBlurMode[] VALUES = values();
@@ -3255,7 +3687,8 @@ public final class Enums {
     public static EGamescopeBlurMode valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3269,50 +3702,72 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EGamescopeBlurMode)
   }
 
-  /** Protobuf enum {@code ESLSHelper} */
-  public enum ESLSHelper implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESLSHelper_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESLSHelper}
+   */
+  public enum ESLSHelper
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESLSHelper_Invalid = 0;</code>
+     */
     k_ESLSHelper_Invalid(0),
-    /** <code>k_ESLSHelper_Minidump = 1;</code> */
+    /**
+     * <code>k_ESLSHelper_Minidump = 1;</code>
+     */
     k_ESLSHelper_Minidump(1),
-    /** <code>k_ESLSHelper_Kdump = 2;</code> */
+    /**
+     * <code>k_ESLSHelper_Kdump = 2;</code>
+     */
     k_ESLSHelper_Kdump(2),
-    /** <code>k_ESLSHelper_Journal = 3;</code> */
+    /**
+     * <code>k_ESLSHelper_Journal = 3;</code>
+     */
     k_ESLSHelper_Journal(3),
-    /** <code>k_ESLSHelper_Gpu = 4;</code> */
+    /**
+     * <code>k_ESLSHelper_Gpu = 4;</code>
+     */
     k_ESLSHelper_Gpu(4),
-    /** <code>k_ESLSHelper_SystemInfo = 5;</code> */
+    /**
+     * <code>k_ESLSHelper_SystemInfo = 5;</code>
+     */
     k_ESLSHelper_SystemInfo(5),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESLSHelper.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESLSHelper.class.getName());
     }
-
-    /** <code>k_ESLSHelper_Invalid = 0;</code> */
+    /**
+     * <code>k_ESLSHelper_Invalid = 0;</code>
+     */
     public static final int k_ESLSHelper_Invalid_VALUE = 0;
-
-    /** <code>k_ESLSHelper_Minidump = 1;</code> */
+    /**
+     * <code>k_ESLSHelper_Minidump = 1;</code>
+     */
     public static final int k_ESLSHelper_Minidump_VALUE = 1;
-
-    /** <code>k_ESLSHelper_Kdump = 2;</code> */
+    /**
+     * <code>k_ESLSHelper_Kdump = 2;</code>
+     */
     public static final int k_ESLSHelper_Kdump_VALUE = 2;
-
-    /** <code>k_ESLSHelper_Journal = 3;</code> */
+    /**
+     * <code>k_ESLSHelper_Journal = 3;</code>
+     */
     public static final int k_ESLSHelper_Journal_VALUE = 3;
-
-    /** <code>k_ESLSHelper_Gpu = 4;</code> */
+    /**
+     * <code>k_ESLSHelper_Gpu = 4;</code>
+     */
     public static final int k_ESLSHelper_Gpu_VALUE = 4;
-
-    /** <code>k_ESLSHelper_SystemInfo = 5;</code> */
+    /**
+     * <code>k_ESLSHelper_SystemInfo = 5;</code>
+     */
     public static final int k_ESLSHelper_SystemInfo_VALUE = 5;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3322,7 +3777,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESLSHelper valueOf(int value) {
       return forNumber(value);
     }
@@ -3333,51 +3788,48 @@ public final class Enums {
      */
     public static ESLSHelper forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESLSHelper_Invalid;
-        case 1:
-          return k_ESLSHelper_Minidump;
-        case 2:
-          return k_ESLSHelper_Kdump;
-        case 3:
-          return k_ESLSHelper_Journal;
-        case 4:
-          return k_ESLSHelper_Gpu;
-        case 5:
-          return k_ESLSHelper_SystemInfo;
-        default:
-          return null;
+        case 0: return k_ESLSHelper_Invalid;
+        case 1: return k_ESLSHelper_Minidump;
+        case 2: return k_ESLSHelper_Kdump;
+        case 3: return k_ESLSHelper_Journal;
+        case 4: return k_ESLSHelper_Gpu;
+        case 5: return k_ESLSHelper_SystemInfo;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<ESLSHelper> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<ESLSHelper>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESLSHelper> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<ESLSHelper>() {
-          public ESLSHelper findValueByNumber(int number) {
-            return ESLSHelper.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESLSHelper> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESLSHelper>() {
+            public ESLSHelper findValueByNumber(int number) {
+              return ESLSHelper.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(25);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(25);
     }
 
     private static final ESLSHelper[] VALUES = values();
 
-    public static ESLSHelper valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static ESLSHelper valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3391,45 +3843,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESLSHelper)
   }
 
-  /** Protobuf enum {@code EHDRVisualization} */
-  public enum EHDRVisualization implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EHDRVisualization_None = 0;</code> */
+  /**
+   * Protobuf enum {@code EHDRVisualization}
+   */
+  public enum EHDRVisualization
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EHDRVisualization_None = 0;</code>
+     */
     k_EHDRVisualization_None(0),
-    /** <code>k_EHDRVisualization_Heatmap = 1;</code> */
+    /**
+     * <code>k_EHDRVisualization_Heatmap = 1;</code>
+     */
     k_EHDRVisualization_Heatmap(1),
-    /** <code>k_EHDRVisualization_Analysis = 2;</code> */
+    /**
+     * <code>k_EHDRVisualization_Analysis = 2;</code>
+     */
     k_EHDRVisualization_Analysis(2),
-    /** <code>k_EHDRVisualization_HeatmapExtended = 3;</code> */
+    /**
+     * <code>k_EHDRVisualization_HeatmapExtended = 3;</code>
+     */
     k_EHDRVisualization_HeatmapExtended(3),
-    /** <code>k_EHDRVisualization_HeatmapClassic = 4;</code> */
+    /**
+     * <code>k_EHDRVisualization_HeatmapClassic = 4;</code>
+     */
     k_EHDRVisualization_HeatmapClassic(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EHDRVisualization.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EHDRVisualization.class.getName());
     }
-
-    /** <code>k_EHDRVisualization_None = 0;</code> */
+    /**
+     * <code>k_EHDRVisualization_None = 0;</code>
+     */
     public static final int k_EHDRVisualization_None_VALUE = 0;
-
-    /** <code>k_EHDRVisualization_Heatmap = 1;</code> */
+    /**
+     * <code>k_EHDRVisualization_Heatmap = 1;</code>
+     */
     public static final int k_EHDRVisualization_Heatmap_VALUE = 1;
-
-    /** <code>k_EHDRVisualization_Analysis = 2;</code> */
+    /**
+     * <code>k_EHDRVisualization_Analysis = 2;</code>
+     */
     public static final int k_EHDRVisualization_Analysis_VALUE = 2;
-
-    /** <code>k_EHDRVisualization_HeatmapExtended = 3;</code> */
+    /**
+     * <code>k_EHDRVisualization_HeatmapExtended = 3;</code>
+     */
     public static final int k_EHDRVisualization_HeatmapExtended_VALUE = 3;
-
-    /** <code>k_EHDRVisualization_HeatmapClassic = 4;</code> */
+    /**
+     * <code>k_EHDRVisualization_HeatmapClassic = 4;</code>
+     */
     public static final int k_EHDRVisualization_HeatmapClassic_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3439,7 +3910,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EHDRVisualization valueOf(int value) {
       return forNumber(value);
     }
@@ -3450,18 +3921,12 @@ public final class Enums {
      */
     public static EHDRVisualization forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EHDRVisualization_None;
-        case 1:
-          return k_EHDRVisualization_Heatmap;
-        case 2:
-          return k_EHDRVisualization_Analysis;
-        case 3:
-          return k_EHDRVisualization_HeatmapExtended;
-        case 4:
-          return k_EHDRVisualization_HeatmapClassic;
-        default:
-          return null;
+        case 0: return k_EHDRVisualization_None;
+        case 1: return k_EHDRVisualization_Heatmap;
+        case 2: return k_EHDRVisualization_Analysis;
+        case 3: return k_EHDRVisualization_HeatmapExtended;
+        case 4: return k_EHDRVisualization_HeatmapClassic;
+        default: return null;
       }
     }
 
@@ -3469,25 +3934,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EHDRVisualization>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EHDRVisualization>() {
-              public EHDRVisualization findValueByNumber(int number) {
-                return EHDRVisualization.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EHDRVisualization> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EHDRVisualization>() {
+            public EHDRVisualization findValueByNumber(int number) {
+              return EHDRVisualization.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(26);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(26);
     }
 
     private static final EHDRVisualization[] VALUES = values();
@@ -3495,7 +3960,8 @@ public final class Enums {
     public static EHDRVisualization valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3509,35 +3975,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EHDRVisualization)
   }
 
-  /** Protobuf enum {@code EHDRToneMapOperator} */
-  public enum EHDRToneMapOperator implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EHDRToneMapOperator_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EHDRToneMapOperator}
+   */
+  public enum EHDRToneMapOperator
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EHDRToneMapOperator_Invalid = 0;</code>
+     */
     k_EHDRToneMapOperator_Invalid(0),
-    /** <code>k_EHDRToneMapOperator_Uncharted = 1;</code> */
+    /**
+     * <code>k_EHDRToneMapOperator_Uncharted = 1;</code>
+     */
     k_EHDRToneMapOperator_Uncharted(1),
-    /** <code>k_EHDRToneMapOperator_Reinhard = 2;</code> */
+    /**
+     * <code>k_EHDRToneMapOperator_Reinhard = 2;</code>
+     */
     k_EHDRToneMapOperator_Reinhard(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EHDRToneMapOperator.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EHDRToneMapOperator.class.getName());
     }
-
-    /** <code>k_EHDRToneMapOperator_Invalid = 0;</code> */
+    /**
+     * <code>k_EHDRToneMapOperator_Invalid = 0;</code>
+     */
     public static final int k_EHDRToneMapOperator_Invalid_VALUE = 0;
-
-    /** <code>k_EHDRToneMapOperator_Uncharted = 1;</code> */
+    /**
+     * <code>k_EHDRToneMapOperator_Uncharted = 1;</code>
+     */
     public static final int k_EHDRToneMapOperator_Uncharted_VALUE = 1;
-
-    /** <code>k_EHDRToneMapOperator_Reinhard = 2;</code> */
+    /**
+     * <code>k_EHDRToneMapOperator_Reinhard = 2;</code>
+     */
     public static final int k_EHDRToneMapOperator_Reinhard_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3547,7 +4026,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EHDRToneMapOperator valueOf(int value) {
       return forNumber(value);
     }
@@ -3558,14 +4037,10 @@ public final class Enums {
      */
     public static EHDRToneMapOperator forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EHDRToneMapOperator_Invalid;
-        case 1:
-          return k_EHDRToneMapOperator_Uncharted;
-        case 2:
-          return k_EHDRToneMapOperator_Reinhard;
-        default:
-          return null;
+        case 0: return k_EHDRToneMapOperator_Invalid;
+        case 1: return k_EHDRToneMapOperator_Uncharted;
+        case 2: return k_EHDRToneMapOperator_Reinhard;
+        default: return null;
       }
     }
 
@@ -3573,25 +4048,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EHDRToneMapOperator>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EHDRToneMapOperator>() {
-              public EHDRToneMapOperator findValueByNumber(int number) {
-                return EHDRToneMapOperator.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EHDRToneMapOperator> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EHDRToneMapOperator>() {
+            public EHDRToneMapOperator findValueByNumber(int number) {
+              return EHDRToneMapOperator.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(27);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(27);
     }
 
     private static final EHDRToneMapOperator[] VALUES = values();
@@ -3599,7 +4074,8 @@ public final class Enums {
     public static EHDRToneMapOperator valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3613,40 +4089,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EHDRToneMapOperator)
   }
 
-  /** Protobuf enum {@code ECPUGovernor} */
-  public enum ECPUGovernor implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ECPUGovernor_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ECPUGovernor}
+   */
+  public enum ECPUGovernor
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ECPUGovernor_Invalid = 0;</code>
+     */
     k_ECPUGovernor_Invalid(0),
-    /** <code>k_ECPUGovernor_Perf = 1;</code> */
+    /**
+     * <code>k_ECPUGovernor_Perf = 1;</code>
+     */
     k_ECPUGovernor_Perf(1),
-    /** <code>k_ECPUGovernor_Powersave = 2;</code> */
+    /**
+     * <code>k_ECPUGovernor_Powersave = 2;</code>
+     */
     k_ECPUGovernor_Powersave(2),
-    /** <code>k_ECPUGovernor_Manual = 3;</code> */
+    /**
+     * <code>k_ECPUGovernor_Manual = 3;</code>
+     */
     k_ECPUGovernor_Manual(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ECPUGovernor.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ECPUGovernor.class.getName());
     }
-
-    /** <code>k_ECPUGovernor_Invalid = 0;</code> */
+    /**
+     * <code>k_ECPUGovernor_Invalid = 0;</code>
+     */
     public static final int k_ECPUGovernor_Invalid_VALUE = 0;
-
-    /** <code>k_ECPUGovernor_Perf = 1;</code> */
+    /**
+     * <code>k_ECPUGovernor_Perf = 1;</code>
+     */
     public static final int k_ECPUGovernor_Perf_VALUE = 1;
-
-    /** <code>k_ECPUGovernor_Powersave = 2;</code> */
+    /**
+     * <code>k_ECPUGovernor_Powersave = 2;</code>
+     */
     public static final int k_ECPUGovernor_Powersave_VALUE = 2;
-
-    /** <code>k_ECPUGovernor_Manual = 3;</code> */
+    /**
+     * <code>k_ECPUGovernor_Manual = 3;</code>
+     */
     public static final int k_ECPUGovernor_Manual_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3656,7 +4148,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ECPUGovernor valueOf(int value) {
       return forNumber(value);
     }
@@ -3667,47 +4159,46 @@ public final class Enums {
      */
     public static ECPUGovernor forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ECPUGovernor_Invalid;
-        case 1:
-          return k_ECPUGovernor_Perf;
-        case 2:
-          return k_ECPUGovernor_Powersave;
-        case 3:
-          return k_ECPUGovernor_Manual;
-        default:
-          return null;
+        case 0: return k_ECPUGovernor_Invalid;
+        case 1: return k_ECPUGovernor_Perf;
+        case 2: return k_ECPUGovernor_Powersave;
+        case 3: return k_ECPUGovernor_Manual;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<ECPUGovernor> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<ECPUGovernor>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ECPUGovernor> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<ECPUGovernor>() {
-          public ECPUGovernor findValueByNumber(int number) {
-            return ECPUGovernor.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ECPUGovernor> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ECPUGovernor>() {
+            public ECPUGovernor findValueByNumber(int number) {
+              return ECPUGovernor.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(28);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(28);
     }
 
     private static final ECPUGovernor[] VALUES = values();
 
-    public static ECPUGovernor valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static ECPUGovernor valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3721,60 +4212,88 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ECPUGovernor)
   }
 
-  /** Protobuf enum {@code EUpdaterType} */
-  public enum EUpdaterType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EUpdaterType_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EUpdaterType}
+   */
+  public enum EUpdaterType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EUpdaterType_Invalid = 0;</code>
+     */
     k_EUpdaterType_Invalid(0),
-    /** <code>k_EUpdaterType_Client = 1;</code> */
+    /**
+     * <code>k_EUpdaterType_Client = 1;</code>
+     */
     k_EUpdaterType_Client(1),
-    /** <code>k_EUpdaterType_OS = 2;</code> */
+    /**
+     * <code>k_EUpdaterType_OS = 2;</code>
+     */
     k_EUpdaterType_OS(2),
-    /** <code>k_EUpdaterType_BIOS = 3;</code> */
+    /**
+     * <code>k_EUpdaterType_BIOS = 3;</code>
+     */
     k_EUpdaterType_BIOS(3),
-    /** <code>k_EUpdaterType_Aggregated = 4;</code> */
+    /**
+     * <code>k_EUpdaterType_Aggregated = 4;</code>
+     */
     k_EUpdaterType_Aggregated(4),
-    /** <code>k_EUpdaterType_Test1 = 5;</code> */
+    /**
+     * <code>k_EUpdaterType_Test1 = 5;</code>
+     */
     k_EUpdaterType_Test1(5),
-    /** <code>k_EUpdaterType_Test2 = 6;</code> */
+    /**
+     * <code>k_EUpdaterType_Test2 = 6;</code>
+     */
     k_EUpdaterType_Test2(6),
-    /** <code>k_EUpdaterType_Dummy = 7;</code> */
+    /**
+     * <code>k_EUpdaterType_Dummy = 7;</code>
+     */
     k_EUpdaterType_Dummy(7),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EUpdaterType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EUpdaterType.class.getName());
     }
-
-    /** <code>k_EUpdaterType_Invalid = 0;</code> */
+    /**
+     * <code>k_EUpdaterType_Invalid = 0;</code>
+     */
     public static final int k_EUpdaterType_Invalid_VALUE = 0;
-
-    /** <code>k_EUpdaterType_Client = 1;</code> */
+    /**
+     * <code>k_EUpdaterType_Client = 1;</code>
+     */
     public static final int k_EUpdaterType_Client_VALUE = 1;
-
-    /** <code>k_EUpdaterType_OS = 2;</code> */
+    /**
+     * <code>k_EUpdaterType_OS = 2;</code>
+     */
     public static final int k_EUpdaterType_OS_VALUE = 2;
-
-    /** <code>k_EUpdaterType_BIOS = 3;</code> */
+    /**
+     * <code>k_EUpdaterType_BIOS = 3;</code>
+     */
     public static final int k_EUpdaterType_BIOS_VALUE = 3;
-
-    /** <code>k_EUpdaterType_Aggregated = 4;</code> */
+    /**
+     * <code>k_EUpdaterType_Aggregated = 4;</code>
+     */
     public static final int k_EUpdaterType_Aggregated_VALUE = 4;
-
-    /** <code>k_EUpdaterType_Test1 = 5;</code> */
+    /**
+     * <code>k_EUpdaterType_Test1 = 5;</code>
+     */
     public static final int k_EUpdaterType_Test1_VALUE = 5;
-
-    /** <code>k_EUpdaterType_Test2 = 6;</code> */
+    /**
+     * <code>k_EUpdaterType_Test2 = 6;</code>
+     */
     public static final int k_EUpdaterType_Test2_VALUE = 6;
-
-    /** <code>k_EUpdaterType_Dummy = 7;</code> */
+    /**
+     * <code>k_EUpdaterType_Dummy = 7;</code>
+     */
     public static final int k_EUpdaterType_Dummy_VALUE = 7;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3784,7 +4303,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EUpdaterType valueOf(int value) {
       return forNumber(value);
     }
@@ -3795,55 +4314,50 @@ public final class Enums {
      */
     public static EUpdaterType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EUpdaterType_Invalid;
-        case 1:
-          return k_EUpdaterType_Client;
-        case 2:
-          return k_EUpdaterType_OS;
-        case 3:
-          return k_EUpdaterType_BIOS;
-        case 4:
-          return k_EUpdaterType_Aggregated;
-        case 5:
-          return k_EUpdaterType_Test1;
-        case 6:
-          return k_EUpdaterType_Test2;
-        case 7:
-          return k_EUpdaterType_Dummy;
-        default:
-          return null;
+        case 0: return k_EUpdaterType_Invalid;
+        case 1: return k_EUpdaterType_Client;
+        case 2: return k_EUpdaterType_OS;
+        case 3: return k_EUpdaterType_BIOS;
+        case 4: return k_EUpdaterType_Aggregated;
+        case 5: return k_EUpdaterType_Test1;
+        case 6: return k_EUpdaterType_Test2;
+        case 7: return k_EUpdaterType_Dummy;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<EUpdaterType> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<EUpdaterType>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EUpdaterType> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<EUpdaterType>() {
-          public EUpdaterType findValueByNumber(int number) {
-            return EUpdaterType.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EUpdaterType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EUpdaterType>() {
+            public EUpdaterType findValueByNumber(int number) {
+              return EUpdaterType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(29);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(29);
     }
 
     private static final EUpdaterType[] VALUES = values();
 
-    public static EUpdaterType valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static EUpdaterType valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3857,55 +4371,80 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EUpdaterType)
   }
 
-  /** Protobuf enum {@code EUpdaterState} */
-  public enum EUpdaterState implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EUpdaterState_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EUpdaterState}
+   */
+  public enum EUpdaterState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EUpdaterState_Invalid = 0;</code>
+     */
     k_EUpdaterState_Invalid(0),
-    /** <code>k_EUpdaterState_UpToDate = 2;</code> */
+    /**
+     * <code>k_EUpdaterState_UpToDate = 2;</code>
+     */
     k_EUpdaterState_UpToDate(2),
-    /** <code>k_EUpdaterState_Checking = 3;</code> */
+    /**
+     * <code>k_EUpdaterState_Checking = 3;</code>
+     */
     k_EUpdaterState_Checking(3),
-    /** <code>k_EUpdaterState_Available = 4;</code> */
+    /**
+     * <code>k_EUpdaterState_Available = 4;</code>
+     */
     k_EUpdaterState_Available(4),
-    /** <code>k_EUpdaterState_Applying = 5;</code> */
+    /**
+     * <code>k_EUpdaterState_Applying = 5;</code>
+     */
     k_EUpdaterState_Applying(5),
-    /** <code>k_EUpdaterState_ClientRestartPending = 6;</code> */
+    /**
+     * <code>k_EUpdaterState_ClientRestartPending = 6;</code>
+     */
     k_EUpdaterState_ClientRestartPending(6),
-    /** <code>k_EUpdaterState_SystemRestartPending = 7;</code> */
+    /**
+     * <code>k_EUpdaterState_SystemRestartPending = 7;</code>
+     */
     k_EUpdaterState_SystemRestartPending(7),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EUpdaterState.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EUpdaterState.class.getName());
     }
-
-    /** <code>k_EUpdaterState_Invalid = 0;</code> */
+    /**
+     * <code>k_EUpdaterState_Invalid = 0;</code>
+     */
     public static final int k_EUpdaterState_Invalid_VALUE = 0;
-
-    /** <code>k_EUpdaterState_UpToDate = 2;</code> */
+    /**
+     * <code>k_EUpdaterState_UpToDate = 2;</code>
+     */
     public static final int k_EUpdaterState_UpToDate_VALUE = 2;
-
-    /** <code>k_EUpdaterState_Checking = 3;</code> */
+    /**
+     * <code>k_EUpdaterState_Checking = 3;</code>
+     */
     public static final int k_EUpdaterState_Checking_VALUE = 3;
-
-    /** <code>k_EUpdaterState_Available = 4;</code> */
+    /**
+     * <code>k_EUpdaterState_Available = 4;</code>
+     */
     public static final int k_EUpdaterState_Available_VALUE = 4;
-
-    /** <code>k_EUpdaterState_Applying = 5;</code> */
+    /**
+     * <code>k_EUpdaterState_Applying = 5;</code>
+     */
     public static final int k_EUpdaterState_Applying_VALUE = 5;
-
-    /** <code>k_EUpdaterState_ClientRestartPending = 6;</code> */
+    /**
+     * <code>k_EUpdaterState_ClientRestartPending = 6;</code>
+     */
     public static final int k_EUpdaterState_ClientRestartPending_VALUE = 6;
-
-    /** <code>k_EUpdaterState_SystemRestartPending = 7;</code> */
+    /**
+     * <code>k_EUpdaterState_SystemRestartPending = 7;</code>
+     */
     public static final int k_EUpdaterState_SystemRestartPending_VALUE = 7;
 
+
     public final int getNumber() {
       return value;
     }
@@ -3915,7 +4454,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EUpdaterState valueOf(int value) {
       return forNumber(value);
     }
@@ -3926,53 +4465,49 @@ public final class Enums {
      */
     public static EUpdaterState forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EUpdaterState_Invalid;
-        case 2:
-          return k_EUpdaterState_UpToDate;
-        case 3:
-          return k_EUpdaterState_Checking;
-        case 4:
-          return k_EUpdaterState_Available;
-        case 5:
-          return k_EUpdaterState_Applying;
-        case 6:
-          return k_EUpdaterState_ClientRestartPending;
-        case 7:
-          return k_EUpdaterState_SystemRestartPending;
-        default:
-          return null;
+        case 0: return k_EUpdaterState_Invalid;
+        case 2: return k_EUpdaterState_UpToDate;
+        case 3: return k_EUpdaterState_Checking;
+        case 4: return k_EUpdaterState_Available;
+        case 5: return k_EUpdaterState_Applying;
+        case 6: return k_EUpdaterState_ClientRestartPending;
+        case 7: return k_EUpdaterState_SystemRestartPending;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<EUpdaterState> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<EUpdaterState>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EUpdaterState> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<EUpdaterState>() {
-          public EUpdaterState findValueByNumber(int number) {
-            return EUpdaterState.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EUpdaterState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EUpdaterState>() {
+            public EUpdaterState findValueByNumber(int number) {
+              return EUpdaterState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(30);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(30);
     }
 
     private static final EUpdaterState[] VALUES = values();
 
-    public static EUpdaterState valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static EUpdaterState valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -3986,45 +4521,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EUpdaterState)
   }
 
-  /** Protobuf enum {@code EStorageBlockContentType} */
-  public enum EStorageBlockContentType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EStorageBlockContentType_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EStorageBlockContentType}
+   */
+  public enum EStorageBlockContentType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EStorageBlockContentType_Invalid = 0;</code>
+     */
     k_EStorageBlockContentType_Invalid(0),
-    /** <code>k_EStorageBlockContentType_Unknown = 1;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_Unknown = 1;</code>
+     */
     k_EStorageBlockContentType_Unknown(1),
-    /** <code>k_EStorageBlockContentType_FileSystem = 2;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_FileSystem = 2;</code>
+     */
     k_EStorageBlockContentType_FileSystem(2),
-    /** <code>k_EStorageBlockContentType_Crypto = 3;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_Crypto = 3;</code>
+     */
     k_EStorageBlockContentType_Crypto(3),
-    /** <code>k_EStorageBlockContentType_Raid = 4;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_Raid = 4;</code>
+     */
     k_EStorageBlockContentType_Raid(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EStorageBlockContentType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EStorageBlockContentType.class.getName());
     }
-
-    /** <code>k_EStorageBlockContentType_Invalid = 0;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_Invalid = 0;</code>
+     */
     public static final int k_EStorageBlockContentType_Invalid_VALUE = 0;
-
-    /** <code>k_EStorageBlockContentType_Unknown = 1;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_Unknown = 1;</code>
+     */
     public static final int k_EStorageBlockContentType_Unknown_VALUE = 1;
-
-    /** <code>k_EStorageBlockContentType_FileSystem = 2;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_FileSystem = 2;</code>
+     */
     public static final int k_EStorageBlockContentType_FileSystem_VALUE = 2;
-
-    /** <code>k_EStorageBlockContentType_Crypto = 3;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_Crypto = 3;</code>
+     */
     public static final int k_EStorageBlockContentType_Crypto_VALUE = 3;
-
-    /** <code>k_EStorageBlockContentType_Raid = 4;</code> */
+    /**
+     * <code>k_EStorageBlockContentType_Raid = 4;</code>
+     */
     public static final int k_EStorageBlockContentType_Raid_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4034,7 +4588,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EStorageBlockContentType valueOf(int value) {
       return forNumber(value);
     }
@@ -4045,18 +4599,12 @@ public final class Enums {
      */
     public static EStorageBlockContentType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EStorageBlockContentType_Invalid;
-        case 1:
-          return k_EStorageBlockContentType_Unknown;
-        case 2:
-          return k_EStorageBlockContentType_FileSystem;
-        case 3:
-          return k_EStorageBlockContentType_Crypto;
-        case 4:
-          return k_EStorageBlockContentType_Raid;
-        default:
-          return null;
+        case 0: return k_EStorageBlockContentType_Invalid;
+        case 1: return k_EStorageBlockContentType_Unknown;
+        case 2: return k_EStorageBlockContentType_FileSystem;
+        case 3: return k_EStorageBlockContentType_Crypto;
+        case 4: return k_EStorageBlockContentType_Raid;
+        default: return null;
       }
     }
 
@@ -4064,25 +4612,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EStorageBlockContentType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EStorageBlockContentType>() {
-              public EStorageBlockContentType findValueByNumber(int number) {
-                return EStorageBlockContentType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EStorageBlockContentType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EStorageBlockContentType>() {
+            public EStorageBlockContentType findValueByNumber(int number) {
+              return EStorageBlockContentType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(31);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(31);
     }
 
     private static final EStorageBlockContentType[] VALUES = values();
@@ -4090,7 +4638,8 @@ public final class Enums {
     public static EStorageBlockContentType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4104,40 +4653,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EStorageBlockContentType)
   }
 
-  /** Protobuf enum {@code EStorageBlockFileSystemType} */
-  public enum EStorageBlockFileSystemType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EStorageBlockFileSystemType_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EStorageBlockFileSystemType}
+   */
+  public enum EStorageBlockFileSystemType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EStorageBlockFileSystemType_Invalid = 0;</code>
+     */
     k_EStorageBlockFileSystemType_Invalid(0),
-    /** <code>k_EStorageBlockFileSystemType_Unknown = 1;</code> */
+    /**
+     * <code>k_EStorageBlockFileSystemType_Unknown = 1;</code>
+     */
     k_EStorageBlockFileSystemType_Unknown(1),
-    /** <code>k_EStorageBlockFileSystemType_VFat = 2;</code> */
+    /**
+     * <code>k_EStorageBlockFileSystemType_VFat = 2;</code>
+     */
     k_EStorageBlockFileSystemType_VFat(2),
-    /** <code>k_EStorageBlockFileSystemType_Ext4 = 3;</code> */
+    /**
+     * <code>k_EStorageBlockFileSystemType_Ext4 = 3;</code>
+     */
     k_EStorageBlockFileSystemType_Ext4(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EStorageBlockFileSystemType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EStorageBlockFileSystemType.class.getName());
     }
-
-    /** <code>k_EStorageBlockFileSystemType_Invalid = 0;</code> */
+    /**
+     * <code>k_EStorageBlockFileSystemType_Invalid = 0;</code>
+     */
     public static final int k_EStorageBlockFileSystemType_Invalid_VALUE = 0;
-
-    /** <code>k_EStorageBlockFileSystemType_Unknown = 1;</code> */
+    /**
+     * <code>k_EStorageBlockFileSystemType_Unknown = 1;</code>
+     */
     public static final int k_EStorageBlockFileSystemType_Unknown_VALUE = 1;
-
-    /** <code>k_EStorageBlockFileSystemType_VFat = 2;</code> */
+    /**
+     * <code>k_EStorageBlockFileSystemType_VFat = 2;</code>
+     */
     public static final int k_EStorageBlockFileSystemType_VFat_VALUE = 2;
-
-    /** <code>k_EStorageBlockFileSystemType_Ext4 = 3;</code> */
+    /**
+     * <code>k_EStorageBlockFileSystemType_Ext4 = 3;</code>
+     */
     public static final int k_EStorageBlockFileSystemType_Ext4_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4147,7 +4712,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EStorageBlockFileSystemType valueOf(int value) {
       return forNumber(value);
     }
@@ -4158,16 +4723,11 @@ public final class Enums {
      */
     public static EStorageBlockFileSystemType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EStorageBlockFileSystemType_Invalid;
-        case 1:
-          return k_EStorageBlockFileSystemType_Unknown;
-        case 2:
-          return k_EStorageBlockFileSystemType_VFat;
-        case 3:
-          return k_EStorageBlockFileSystemType_Ext4;
-        default:
-          return null;
+        case 0: return k_EStorageBlockFileSystemType_Invalid;
+        case 1: return k_EStorageBlockFileSystemType_Unknown;
+        case 2: return k_EStorageBlockFileSystemType_VFat;
+        case 3: return k_EStorageBlockFileSystemType_Ext4;
+        default: return null;
       }
     }
 
@@ -4175,25 +4735,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EStorageBlockFileSystemType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EStorageBlockFileSystemType>() {
-              public EStorageBlockFileSystemType findValueByNumber(int number) {
-                return EStorageBlockFileSystemType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EStorageBlockFileSystemType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EStorageBlockFileSystemType>() {
+            public EStorageBlockFileSystemType findValueByNumber(int number) {
+              return EStorageBlockFileSystemType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(32);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(32);
     }
 
     private static final EStorageBlockFileSystemType[] VALUES = values();
@@ -4201,7 +4761,8 @@ public final class Enums {
     public static EStorageBlockFileSystemType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4215,45 +4776,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EStorageBlockFileSystemType)
   }
 
-  /** Protobuf enum {@code EStorageDriveMediaType} */
-  public enum EStorageDriveMediaType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EStorageDriveMediaType_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code EStorageDriveMediaType}
+   */
+  public enum EStorageDriveMediaType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EStorageDriveMediaType_Invalid = 0;</code>
+     */
     k_EStorageDriveMediaType_Invalid(0),
-    /** <code>k_EStorageDriveMediaType_Unknown = 1;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_Unknown = 1;</code>
+     */
     k_EStorageDriveMediaType_Unknown(1),
-    /** <code>k_EStorageDriveMediaType_HDD = 2;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_HDD = 2;</code>
+     */
     k_EStorageDriveMediaType_HDD(2),
-    /** <code>k_EStorageDriveMediaType_SSD = 3;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_SSD = 3;</code>
+     */
     k_EStorageDriveMediaType_SSD(3),
-    /** <code>k_EStorageDriveMediaType_Removable = 4;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_Removable = 4;</code>
+     */
     k_EStorageDriveMediaType_Removable(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EStorageDriveMediaType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EStorageDriveMediaType.class.getName());
     }
-
-    /** <code>k_EStorageDriveMediaType_Invalid = 0;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_Invalid = 0;</code>
+     */
     public static final int k_EStorageDriveMediaType_Invalid_VALUE = 0;
-
-    /** <code>k_EStorageDriveMediaType_Unknown = 1;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_Unknown = 1;</code>
+     */
     public static final int k_EStorageDriveMediaType_Unknown_VALUE = 1;
-
-    /** <code>k_EStorageDriveMediaType_HDD = 2;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_HDD = 2;</code>
+     */
     public static final int k_EStorageDriveMediaType_HDD_VALUE = 2;
-
-    /** <code>k_EStorageDriveMediaType_SSD = 3;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_SSD = 3;</code>
+     */
     public static final int k_EStorageDriveMediaType_SSD_VALUE = 3;
-
-    /** <code>k_EStorageDriveMediaType_Removable = 4;</code> */
+    /**
+     * <code>k_EStorageDriveMediaType_Removable = 4;</code>
+     */
     public static final int k_EStorageDriveMediaType_Removable_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4263,7 +4843,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EStorageDriveMediaType valueOf(int value) {
       return forNumber(value);
     }
@@ -4274,18 +4854,12 @@ public final class Enums {
      */
     public static EStorageDriveMediaType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EStorageDriveMediaType_Invalid;
-        case 1:
-          return k_EStorageDriveMediaType_Unknown;
-        case 2:
-          return k_EStorageDriveMediaType_HDD;
-        case 3:
-          return k_EStorageDriveMediaType_SSD;
-        case 4:
-          return k_EStorageDriveMediaType_Removable;
-        default:
-          return null;
+        case 0: return k_EStorageDriveMediaType_Invalid;
+        case 1: return k_EStorageDriveMediaType_Unknown;
+        case 2: return k_EStorageDriveMediaType_HDD;
+        case 3: return k_EStorageDriveMediaType_SSD;
+        case 4: return k_EStorageDriveMediaType_Removable;
+        default: return null;
       }
     }
 
@@ -4293,25 +4867,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EStorageDriveMediaType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EStorageDriveMediaType>() {
-              public EStorageDriveMediaType findValueByNumber(int number) {
-                return EStorageDriveMediaType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EStorageDriveMediaType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EStorageDriveMediaType>() {
+            public EStorageDriveMediaType findValueByNumber(int number) {
+              return EStorageDriveMediaType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(33);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(33);
     }
 
     private static final EStorageDriveMediaType[] VALUES = values();
@@ -4319,7 +4893,8 @@ public final class Enums {
     public static EStorageDriveMediaType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4333,35 +4908,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EStorageDriveMediaType)
   }
 
-  /** Protobuf enum {@code ESystemDisplayCompatibilityMode} */
-  public enum ESystemDisplayCompatibilityMode implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESystemDisplayCompatibilityMode_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESystemDisplayCompatibilityMode}
+   */
+  public enum ESystemDisplayCompatibilityMode
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESystemDisplayCompatibilityMode_Invalid = 0;</code>
+     */
     k_ESystemDisplayCompatibilityMode_Invalid(0),
-    /** <code>k_ESystemDisplayCompatibilityMode_None = 1;</code> */
+    /**
+     * <code>k_ESystemDisplayCompatibilityMode_None = 1;</code>
+     */
     k_ESystemDisplayCompatibilityMode_None(1),
-    /** <code>k_ESystemDisplayCompatibilityMode_MinimalBandwith = 2;</code> */
+    /**
+     * <code>k_ESystemDisplayCompatibilityMode_MinimalBandwith = 2;</code>
+     */
     k_ESystemDisplayCompatibilityMode_MinimalBandwith(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESystemDisplayCompatibilityMode.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESystemDisplayCompatibilityMode.class.getName());
     }
-
-    /** <code>k_ESystemDisplayCompatibilityMode_Invalid = 0;</code> */
+    /**
+     * <code>k_ESystemDisplayCompatibilityMode_Invalid = 0;</code>
+     */
     public static final int k_ESystemDisplayCompatibilityMode_Invalid_VALUE = 0;
-
-    /** <code>k_ESystemDisplayCompatibilityMode_None = 1;</code> */
+    /**
+     * <code>k_ESystemDisplayCompatibilityMode_None = 1;</code>
+     */
     public static final int k_ESystemDisplayCompatibilityMode_None_VALUE = 1;
-
-    /** <code>k_ESystemDisplayCompatibilityMode_MinimalBandwith = 2;</code> */
+    /**
+     * <code>k_ESystemDisplayCompatibilityMode_MinimalBandwith = 2;</code>
+     */
     public static final int k_ESystemDisplayCompatibilityMode_MinimalBandwith_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4371,7 +4959,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESystemDisplayCompatibilityMode valueOf(int value) {
       return forNumber(value);
     }
@@ -4382,14 +4970,10 @@ public final class Enums {
      */
     public static ESystemDisplayCompatibilityMode forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESystemDisplayCompatibilityMode_Invalid;
-        case 1:
-          return k_ESystemDisplayCompatibilityMode_None;
-        case 2:
-          return k_ESystemDisplayCompatibilityMode_MinimalBandwith;
-        default:
-          return null;
+        case 0: return k_ESystemDisplayCompatibilityMode_Invalid;
+        case 1: return k_ESystemDisplayCompatibilityMode_None;
+        case 2: return k_ESystemDisplayCompatibilityMode_MinimalBandwith;
+        default: return null;
       }
     }
 
@@ -4397,25 +4981,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESystemDisplayCompatibilityMode>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESystemDisplayCompatibilityMode>() {
-              public ESystemDisplayCompatibilityMode findValueByNumber(int number) {
-                return ESystemDisplayCompatibilityMode.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESystemDisplayCompatibilityMode> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESystemDisplayCompatibilityMode>() {
+            public ESystemDisplayCompatibilityMode findValueByNumber(int number) {
+              return ESystemDisplayCompatibilityMode.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(34);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(34);
     }
 
     private static final ESystemDisplayCompatibilityMode[] VALUES = values();
@@ -4423,7 +5007,8 @@ public final class Enums {
     public static ESystemDisplayCompatibilityMode valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4437,40 +5022,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESystemDisplayCompatibilityMode)
   }
 
-  /** Protobuf enum {@code ESteamDeckCompatibilityCategory} */
-  public enum ESteamDeckCompatibilityCategory implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESteamDeckCompatibilityCategory_Unknown = 0;</code> */
+  /**
+   * Protobuf enum {@code ESteamDeckCompatibilityCategory}
+   */
+  public enum ESteamDeckCompatibilityCategory
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Unknown = 0;</code>
+     */
     k_ESteamDeckCompatibilityCategory_Unknown(0),
-    /** <code>k_ESteamDeckCompatibilityCategory_Unsupported = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Unsupported = 1;</code>
+     */
     k_ESteamDeckCompatibilityCategory_Unsupported(1),
-    /** <code>k_ESteamDeckCompatibilityCategory_Playable = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Playable = 2;</code>
+     */
     k_ESteamDeckCompatibilityCategory_Playable(2),
-    /** <code>k_ESteamDeckCompatibilityCategory_Verified = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Verified = 3;</code>
+     */
     k_ESteamDeckCompatibilityCategory_Verified(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESteamDeckCompatibilityCategory.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESteamDeckCompatibilityCategory.class.getName());
     }
-
-    /** <code>k_ESteamDeckCompatibilityCategory_Unknown = 0;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Unknown = 0;</code>
+     */
     public static final int k_ESteamDeckCompatibilityCategory_Unknown_VALUE = 0;
-
-    /** <code>k_ESteamDeckCompatibilityCategory_Unsupported = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Unsupported = 1;</code>
+     */
     public static final int k_ESteamDeckCompatibilityCategory_Unsupported_VALUE = 1;
-
-    /** <code>k_ESteamDeckCompatibilityCategory_Playable = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Playable = 2;</code>
+     */
     public static final int k_ESteamDeckCompatibilityCategory_Playable_VALUE = 2;
-
-    /** <code>k_ESteamDeckCompatibilityCategory_Verified = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityCategory_Verified = 3;</code>
+     */
     public static final int k_ESteamDeckCompatibilityCategory_Verified_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4480,7 +5081,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESteamDeckCompatibilityCategory valueOf(int value) {
       return forNumber(value);
     }
@@ -4491,16 +5092,11 @@ public final class Enums {
      */
     public static ESteamDeckCompatibilityCategory forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESteamDeckCompatibilityCategory_Unknown;
-        case 1:
-          return k_ESteamDeckCompatibilityCategory_Unsupported;
-        case 2:
-          return k_ESteamDeckCompatibilityCategory_Playable;
-        case 3:
-          return k_ESteamDeckCompatibilityCategory_Verified;
-        default:
-          return null;
+        case 0: return k_ESteamDeckCompatibilityCategory_Unknown;
+        case 1: return k_ESteamDeckCompatibilityCategory_Unsupported;
+        case 2: return k_ESteamDeckCompatibilityCategory_Playable;
+        case 3: return k_ESteamDeckCompatibilityCategory_Verified;
+        default: return null;
       }
     }
 
@@ -4508,25 +5104,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityCategory>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityCategory>() {
-              public ESteamDeckCompatibilityCategory findValueByNumber(int number) {
-                return ESteamDeckCompatibilityCategory.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESteamDeckCompatibilityCategory> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityCategory>() {
+            public ESteamDeckCompatibilityCategory findValueByNumber(int number) {
+              return ESteamDeckCompatibilityCategory.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(35);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(35);
     }
 
     private static final ESteamDeckCompatibilityCategory[] VALUES = values();
@@ -4534,7 +5130,8 @@ public final class Enums {
     public static ESteamDeckCompatibilityCategory valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4548,46 +5145,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESteamDeckCompatibilityCategory)
   }
 
-  /** Protobuf enum {@code ESteamDeckCompatibilityResultDisplayType} */
+  /**
+   * Protobuf enum {@code ESteamDeckCompatibilityResultDisplayType}
+   */
   public enum ESteamDeckCompatibilityResultDisplayType
       implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Invisible = 0;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Invisible = 0;</code>
+     */
     k_ESteamDeckCompatibilityResultDisplayType_Invisible(0),
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Informational = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Informational = 1;</code>
+     */
     k_ESteamDeckCompatibilityResultDisplayType_Informational(1),
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Unsupported = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Unsupported = 2;</code>
+     */
     k_ESteamDeckCompatibilityResultDisplayType_Unsupported(2),
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Playable = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Playable = 3;</code>
+     */
     k_ESteamDeckCompatibilityResultDisplayType_Playable(3),
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Verified = 4;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Verified = 4;</code>
+     */
     k_ESteamDeckCompatibilityResultDisplayType_Verified(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESteamDeckCompatibilityResultDisplayType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESteamDeckCompatibilityResultDisplayType.class.getName());
     }
-
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Invisible = 0;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Invisible = 0;</code>
+     */
     public static final int k_ESteamDeckCompatibilityResultDisplayType_Invisible_VALUE = 0;
-
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Informational = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Informational = 1;</code>
+     */
     public static final int k_ESteamDeckCompatibilityResultDisplayType_Informational_VALUE = 1;
-
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Unsupported = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Unsupported = 2;</code>
+     */
     public static final int k_ESteamDeckCompatibilityResultDisplayType_Unsupported_VALUE = 2;
-
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Playable = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Playable = 3;</code>
+     */
     public static final int k_ESteamDeckCompatibilityResultDisplayType_Playable_VALUE = 3;
-
-    /** <code>k_ESteamDeckCompatibilityResultDisplayType_Verified = 4;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityResultDisplayType_Verified = 4;</code>
+     */
     public static final int k_ESteamDeckCompatibilityResultDisplayType_Verified_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4597,7 +5212,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESteamDeckCompatibilityResultDisplayType valueOf(int value) {
       return forNumber(value);
     }
@@ -4608,18 +5223,12 @@ public final class Enums {
      */
     public static ESteamDeckCompatibilityResultDisplayType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESteamDeckCompatibilityResultDisplayType_Invisible;
-        case 1:
-          return k_ESteamDeckCompatibilityResultDisplayType_Informational;
-        case 2:
-          return k_ESteamDeckCompatibilityResultDisplayType_Unsupported;
-        case 3:
-          return k_ESteamDeckCompatibilityResultDisplayType_Playable;
-        case 4:
-          return k_ESteamDeckCompatibilityResultDisplayType_Verified;
-        default:
-          return null;
+        case 0: return k_ESteamDeckCompatibilityResultDisplayType_Invisible;
+        case 1: return k_ESteamDeckCompatibilityResultDisplayType_Informational;
+        case 2: return k_ESteamDeckCompatibilityResultDisplayType_Unsupported;
+        case 3: return k_ESteamDeckCompatibilityResultDisplayType_Playable;
+        case 4: return k_ESteamDeckCompatibilityResultDisplayType_Verified;
+        default: return null;
       }
     }
 
@@ -4627,27 +5236,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
     private static final com.google.protobuf.Internal.EnumLiteMap<
-            ESteamDeckCompatibilityResultDisplayType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<
-                ESteamDeckCompatibilityResultDisplayType>() {
-              public ESteamDeckCompatibilityResultDisplayType findValueByNumber(int number) {
-                return ESteamDeckCompatibilityResultDisplayType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+        ESteamDeckCompatibilityResultDisplayType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityResultDisplayType>() {
+            public ESteamDeckCompatibilityResultDisplayType findValueByNumber(int number) {
+              return ESteamDeckCompatibilityResultDisplayType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(36);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(36);
     }
 
     private static final ESteamDeckCompatibilityResultDisplayType[] VALUES = values();
@@ -4655,7 +5262,8 @@ public final class Enums {
     public static ESteamDeckCompatibilityResultDisplayType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4669,45 +5277,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESteamDeckCompatibilityResultDisplayType)
   }
 
-  /** Protobuf enum {@code ESteamDeckCompatibilityTestResult} */
-  public enum ESteamDeckCompatibilityTestResult implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESteamDeckCompatibilityTestResult_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ESteamDeckCompatibilityTestResult}
+   */
+  public enum ESteamDeckCompatibilityTestResult
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_Invalid = 0;</code>
+     */
     k_ESteamDeckCompatibilityTestResult_Invalid(0),
-    /** <code>k_ESteamDeckCompatibilityTestResult_NotApplicable = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_NotApplicable = 1;</code>
+     */
     k_ESteamDeckCompatibilityTestResult_NotApplicable(1),
-    /** <code>k_ESteamDeckCompatibilityTestResult_Pass = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_Pass = 2;</code>
+     */
     k_ESteamDeckCompatibilityTestResult_Pass(2),
-    /** <code>k_ESteamDeckCompatibilityTestResult_Fail = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_Fail = 3;</code>
+     */
     k_ESteamDeckCompatibilityTestResult_Fail(3),
-    /** <code>k_ESteamDeckCompatibilityTestResult_FailMinor = 4;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_FailMinor = 4;</code>
+     */
     k_ESteamDeckCompatibilityTestResult_FailMinor(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESteamDeckCompatibilityTestResult.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESteamDeckCompatibilityTestResult.class.getName());
     }
-
-    /** <code>k_ESteamDeckCompatibilityTestResult_Invalid = 0;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_Invalid = 0;</code>
+     */
     public static final int k_ESteamDeckCompatibilityTestResult_Invalid_VALUE = 0;
-
-    /** <code>k_ESteamDeckCompatibilityTestResult_NotApplicable = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_NotApplicable = 1;</code>
+     */
     public static final int k_ESteamDeckCompatibilityTestResult_NotApplicable_VALUE = 1;
-
-    /** <code>k_ESteamDeckCompatibilityTestResult_Pass = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_Pass = 2;</code>
+     */
     public static final int k_ESteamDeckCompatibilityTestResult_Pass_VALUE = 2;
-
-    /** <code>k_ESteamDeckCompatibilityTestResult_Fail = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_Fail = 3;</code>
+     */
     public static final int k_ESteamDeckCompatibilityTestResult_Fail_VALUE = 3;
-
-    /** <code>k_ESteamDeckCompatibilityTestResult_FailMinor = 4;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityTestResult_FailMinor = 4;</code>
+     */
     public static final int k_ESteamDeckCompatibilityTestResult_FailMinor_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4717,7 +5344,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESteamDeckCompatibilityTestResult valueOf(int value) {
       return forNumber(value);
     }
@@ -4728,18 +5355,12 @@ public final class Enums {
      */
     public static ESteamDeckCompatibilityTestResult forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESteamDeckCompatibilityTestResult_Invalid;
-        case 1:
-          return k_ESteamDeckCompatibilityTestResult_NotApplicable;
-        case 2:
-          return k_ESteamDeckCompatibilityTestResult_Pass;
-        case 3:
-          return k_ESteamDeckCompatibilityTestResult_Fail;
-        case 4:
-          return k_ESteamDeckCompatibilityTestResult_FailMinor;
-        default:
-          return null;
+        case 0: return k_ESteamDeckCompatibilityTestResult_Invalid;
+        case 1: return k_ESteamDeckCompatibilityTestResult_NotApplicable;
+        case 2: return k_ESteamDeckCompatibilityTestResult_Pass;
+        case 3: return k_ESteamDeckCompatibilityTestResult_Fail;
+        case 4: return k_ESteamDeckCompatibilityTestResult_FailMinor;
+        default: return null;
       }
     }
 
@@ -4747,25 +5368,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityTestResult>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityTestResult>() {
-              public ESteamDeckCompatibilityTestResult findValueByNumber(int number) {
-                return ESteamDeckCompatibilityTestResult.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESteamDeckCompatibilityTestResult> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityTestResult>() {
+            public ESteamDeckCompatibilityTestResult findValueByNumber(int number) {
+              return ESteamDeckCompatibilityTestResult.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(37);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(37);
     }
 
     private static final ESteamDeckCompatibilityTestResult[] VALUES = values();
@@ -4773,7 +5394,8 @@ public final class Enums {
     public static ESteamDeckCompatibilityTestResult valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4787,40 +5409,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESteamDeckCompatibilityTestResult)
   }
 
-  /** Protobuf enum {@code EACState} */
-  public enum EACState implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EACState_Unknown = 0;</code> */
+  /**
+   * Protobuf enum {@code EACState}
+   */
+  public enum EACState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EACState_Unknown = 0;</code>
+     */
     k_EACState_Unknown(0),
-    /** <code>k_EACState_Disconnected = 1;</code> */
+    /**
+     * <code>k_EACState_Disconnected = 1;</code>
+     */
     k_EACState_Disconnected(1),
-    /** <code>k_EACState_Connected = 2;</code> */
+    /**
+     * <code>k_EACState_Connected = 2;</code>
+     */
     k_EACState_Connected(2),
-    /** <code>k_EACState_ConnectedSlow = 3;</code> */
+    /**
+     * <code>k_EACState_ConnectedSlow = 3;</code>
+     */
     k_EACState_ConnectedSlow(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EACState.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EACState.class.getName());
     }
-
-    /** <code>k_EACState_Unknown = 0;</code> */
+    /**
+     * <code>k_EACState_Unknown = 0;</code>
+     */
     public static final int k_EACState_Unknown_VALUE = 0;
-
-    /** <code>k_EACState_Disconnected = 1;</code> */
+    /**
+     * <code>k_EACState_Disconnected = 1;</code>
+     */
     public static final int k_EACState_Disconnected_VALUE = 1;
-
-    /** <code>k_EACState_Connected = 2;</code> */
+    /**
+     * <code>k_EACState_Connected = 2;</code>
+     */
     public static final int k_EACState_Connected_VALUE = 2;
-
-    /** <code>k_EACState_ConnectedSlow = 3;</code> */
+    /**
+     * <code>k_EACState_ConnectedSlow = 3;</code>
+     */
     public static final int k_EACState_ConnectedSlow_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4830,7 +5468,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EACState valueOf(int value) {
       return forNumber(value);
     }
@@ -4841,47 +5479,46 @@ public final class Enums {
      */
     public static EACState forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EACState_Unknown;
-        case 1:
-          return k_EACState_Disconnected;
-        case 2:
-          return k_EACState_Connected;
-        case 3:
-          return k_EACState_ConnectedSlow;
-        default:
-          return null;
+        case 0: return k_EACState_Unknown;
+        case 1: return k_EACState_Disconnected;
+        case 2: return k_EACState_Connected;
+        case 3: return k_EACState_ConnectedSlow;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<EACState> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<EACState>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EACState> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<EACState>() {
-          public EACState findValueByNumber(int number) {
-            return EACState.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EACState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EACState>() {
+            public EACState findValueByNumber(int number) {
+              return EACState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(38);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(38);
     }
 
     private static final EACState[] VALUES = values();
 
-    public static EACState valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static EACState valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -4895,40 +5532,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EACState)
   }
 
-  /** Protobuf enum {@code EBatteryState} */
-  public enum EBatteryState implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EBatteryState_Unknown = 0;</code> */
+  /**
+   * Protobuf enum {@code EBatteryState}
+   */
+  public enum EBatteryState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EBatteryState_Unknown = 0;</code>
+     */
     k_EBatteryState_Unknown(0),
-    /** <code>k_EBatteryState_Discharging = 1;</code> */
+    /**
+     * <code>k_EBatteryState_Discharging = 1;</code>
+     */
     k_EBatteryState_Discharging(1),
-    /** <code>k_EBatteryState_Charging = 2;</code> */
+    /**
+     * <code>k_EBatteryState_Charging = 2;</code>
+     */
     k_EBatteryState_Charging(2),
-    /** <code>k_EBatteryState_Full = 3;</code> */
+    /**
+     * <code>k_EBatteryState_Full = 3;</code>
+     */
     k_EBatteryState_Full(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EBatteryState.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EBatteryState.class.getName());
     }
-
-    /** <code>k_EBatteryState_Unknown = 0;</code> */
+    /**
+     * <code>k_EBatteryState_Unknown = 0;</code>
+     */
     public static final int k_EBatteryState_Unknown_VALUE = 0;
-
-    /** <code>k_EBatteryState_Discharging = 1;</code> */
+    /**
+     * <code>k_EBatteryState_Discharging = 1;</code>
+     */
     public static final int k_EBatteryState_Discharging_VALUE = 1;
-
-    /** <code>k_EBatteryState_Charging = 2;</code> */
+    /**
+     * <code>k_EBatteryState_Charging = 2;</code>
+     */
     public static final int k_EBatteryState_Charging_VALUE = 2;
-
-    /** <code>k_EBatteryState_Full = 3;</code> */
+    /**
+     * <code>k_EBatteryState_Full = 3;</code>
+     */
     public static final int k_EBatteryState_Full_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -4938,7 +5591,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EBatteryState valueOf(int value) {
       return forNumber(value);
     }
@@ -4949,47 +5602,46 @@ public final class Enums {
      */
     public static EBatteryState forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EBatteryState_Unknown;
-        case 1:
-          return k_EBatteryState_Discharging;
-        case 2:
-          return k_EBatteryState_Charging;
-        case 3:
-          return k_EBatteryState_Full;
-        default:
-          return null;
+        case 0: return k_EBatteryState_Unknown;
+        case 1: return k_EBatteryState_Discharging;
+        case 2: return k_EBatteryState_Charging;
+        case 3: return k_EBatteryState_Full;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<EBatteryState> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<EBatteryState>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EBatteryState> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<EBatteryState>() {
-          public EBatteryState findValueByNumber(int number) {
-            return EBatteryState.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EBatteryState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EBatteryState>() {
+            public EBatteryState findValueByNumber(int number) {
+              return EBatteryState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(39);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(39);
     }
 
     private static final EBatteryState[] VALUES = values();
 
-    public static EBatteryState valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static EBatteryState valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5003,55 +5655,80 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EBatteryState)
   }
 
-  /** Protobuf enum {@code EOSBranch} */
-  public enum EOSBranch implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EOSBranch_Unknown = 0;</code> */
+  /**
+   * Protobuf enum {@code EOSBranch}
+   */
+  public enum EOSBranch
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EOSBranch_Unknown = 0;</code>
+     */
     k_EOSBranch_Unknown(0),
-    /** <code>k_EOSBranch_Release = 1;</code> */
+    /**
+     * <code>k_EOSBranch_Release = 1;</code>
+     */
     k_EOSBranch_Release(1),
-    /** <code>k_EOSBranch_ReleaseCandidate = 2;</code> */
+    /**
+     * <code>k_EOSBranch_ReleaseCandidate = 2;</code>
+     */
     k_EOSBranch_ReleaseCandidate(2),
-    /** <code>k_EOSBranch_Beta = 3;</code> */
+    /**
+     * <code>k_EOSBranch_Beta = 3;</code>
+     */
     k_EOSBranch_Beta(3),
-    /** <code>k_EOSBranch_BetaCandidate = 4;</code> */
+    /**
+     * <code>k_EOSBranch_BetaCandidate = 4;</code>
+     */
     k_EOSBranch_BetaCandidate(4),
-    /** <code>k_EOSBranch_Main = 5;</code> */
+    /**
+     * <code>k_EOSBranch_Main = 5;</code>
+     */
     k_EOSBranch_Main(5),
-    /** <code>k_EOSBranch_Staging = 6;</code> */
+    /**
+     * <code>k_EOSBranch_Staging = 6;</code>
+     */
     k_EOSBranch_Staging(6),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EOSBranch.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EOSBranch.class.getName());
     }
-
-    /** <code>k_EOSBranch_Unknown = 0;</code> */
+    /**
+     * <code>k_EOSBranch_Unknown = 0;</code>
+     */
     public static final int k_EOSBranch_Unknown_VALUE = 0;
-
-    /** <code>k_EOSBranch_Release = 1;</code> */
+    /**
+     * <code>k_EOSBranch_Release = 1;</code>
+     */
     public static final int k_EOSBranch_Release_VALUE = 1;
-
-    /** <code>k_EOSBranch_ReleaseCandidate = 2;</code> */
+    /**
+     * <code>k_EOSBranch_ReleaseCandidate = 2;</code>
+     */
     public static final int k_EOSBranch_ReleaseCandidate_VALUE = 2;
-
-    /** <code>k_EOSBranch_Beta = 3;</code> */
+    /**
+     * <code>k_EOSBranch_Beta = 3;</code>
+     */
     public static final int k_EOSBranch_Beta_VALUE = 3;
-
-    /** <code>k_EOSBranch_BetaCandidate = 4;</code> */
+    /**
+     * <code>k_EOSBranch_BetaCandidate = 4;</code>
+     */
     public static final int k_EOSBranch_BetaCandidate_VALUE = 4;
-
-    /** <code>k_EOSBranch_Main = 5;</code> */
+    /**
+     * <code>k_EOSBranch_Main = 5;</code>
+     */
     public static final int k_EOSBranch_Main_VALUE = 5;
-
-    /** <code>k_EOSBranch_Staging = 6;</code> */
+    /**
+     * <code>k_EOSBranch_Staging = 6;</code>
+     */
     public static final int k_EOSBranch_Staging_VALUE = 6;
 
+
     public final int getNumber() {
       return value;
     }
@@ -5061,7 +5738,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EOSBranch valueOf(int value) {
       return forNumber(value);
     }
@@ -5072,53 +5749,49 @@ public final class Enums {
      */
     public static EOSBranch forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EOSBranch_Unknown;
-        case 1:
-          return k_EOSBranch_Release;
-        case 2:
-          return k_EOSBranch_ReleaseCandidate;
-        case 3:
-          return k_EOSBranch_Beta;
-        case 4:
-          return k_EOSBranch_BetaCandidate;
-        case 5:
-          return k_EOSBranch_Main;
-        case 6:
-          return k_EOSBranch_Staging;
-        default:
-          return null;
+        case 0: return k_EOSBranch_Unknown;
+        case 1: return k_EOSBranch_Release;
+        case 2: return k_EOSBranch_ReleaseCandidate;
+        case 3: return k_EOSBranch_Beta;
+        case 4: return k_EOSBranch_BetaCandidate;
+        case 5: return k_EOSBranch_Main;
+        case 6: return k_EOSBranch_Staging;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<EOSBranch> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<EOSBranch>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EOSBranch> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<EOSBranch>() {
-          public EOSBranch findValueByNumber(int number) {
-            return EOSBranch.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EOSBranch> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EOSBranch>() {
+            public EOSBranch findValueByNumber(int number) {
+              return EOSBranch.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(40);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(40);
     }
 
     private static final EOSBranch[] VALUES = values();
 
-    public static EOSBranch valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static EOSBranch valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5132,110 +5805,168 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EOSBranch)
   }
 
-  /** Protobuf enum {@code ECommunityItemClass} */
-  public enum ECommunityItemClass implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ECommunityItemClass_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ECommunityItemClass}
+   */
+  public enum ECommunityItemClass
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ECommunityItemClass_Invalid = 0;</code>
+     */
     k_ECommunityItemClass_Invalid(0),
-    /** <code>k_ECommunityItemClass_Badge = 1;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Badge = 1;</code>
+     */
     k_ECommunityItemClass_Badge(1),
-    /** <code>k_ECommunityItemClass_GameCard = 2;</code> */
+    /**
+     * <code>k_ECommunityItemClass_GameCard = 2;</code>
+     */
     k_ECommunityItemClass_GameCard(2),
-    /** <code>k_ECommunityItemClass_ProfileBackground = 3;</code> */
+    /**
+     * <code>k_ECommunityItemClass_ProfileBackground = 3;</code>
+     */
     k_ECommunityItemClass_ProfileBackground(3),
-    /** <code>k_ECommunityItemClass_Emoticon = 4;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Emoticon = 4;</code>
+     */
     k_ECommunityItemClass_Emoticon(4),
-    /** <code>k_ECommunityItemClass_BoosterPack = 5;</code> */
+    /**
+     * <code>k_ECommunityItemClass_BoosterPack = 5;</code>
+     */
     k_ECommunityItemClass_BoosterPack(5),
-    /** <code>k_ECommunityItemClass_Consumable = 6;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Consumable = 6;</code>
+     */
     k_ECommunityItemClass_Consumable(6),
-    /** <code>k_ECommunityItemClass_GameGoo = 7;</code> */
+    /**
+     * <code>k_ECommunityItemClass_GameGoo = 7;</code>
+     */
     k_ECommunityItemClass_GameGoo(7),
-    /** <code>k_ECommunityItemClass_ProfileModifier = 8;</code> */
+    /**
+     * <code>k_ECommunityItemClass_ProfileModifier = 8;</code>
+     */
     k_ECommunityItemClass_ProfileModifier(8),
-    /** <code>k_ECommunityItemClass_Scene = 9;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Scene = 9;</code>
+     */
     k_ECommunityItemClass_Scene(9),
-    /** <code>k_ECommunityItemClass_SalienItem = 10;</code> */
+    /**
+     * <code>k_ECommunityItemClass_SalienItem = 10;</code>
+     */
     k_ECommunityItemClass_SalienItem(10),
-    /** <code>k_ECommunityItemClass_Sticker = 11;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Sticker = 11;</code>
+     */
     k_ECommunityItemClass_Sticker(11),
-    /** <code>k_ECommunityItemClass_ChatEffect = 12;</code> */
+    /**
+     * <code>k_ECommunityItemClass_ChatEffect = 12;</code>
+     */
     k_ECommunityItemClass_ChatEffect(12),
-    /** <code>k_ECommunityItemClass_MiniProfileBackground = 13;</code> */
+    /**
+     * <code>k_ECommunityItemClass_MiniProfileBackground = 13;</code>
+     */
     k_ECommunityItemClass_MiniProfileBackground(13),
-    /** <code>k_ECommunityItemClass_AvatarFrame = 14;</code> */
+    /**
+     * <code>k_ECommunityItemClass_AvatarFrame = 14;</code>
+     */
     k_ECommunityItemClass_AvatarFrame(14),
-    /** <code>k_ECommunityItemClass_AnimatedAvatar = 15;</code> */
+    /**
+     * <code>k_ECommunityItemClass_AnimatedAvatar = 15;</code>
+     */
     k_ECommunityItemClass_AnimatedAvatar(15),
-    /** <code>k_ECommunityItemClass_SteamDeckKeyboardSkin = 16;</code> */
+    /**
+     * <code>k_ECommunityItemClass_SteamDeckKeyboardSkin = 16;</code>
+     */
     k_ECommunityItemClass_SteamDeckKeyboardSkin(16),
-    /** <code>k_ECommunityItemClass_SteamDeckStartupMovie = 17;</code> */
+    /**
+     * <code>k_ECommunityItemClass_SteamDeckStartupMovie = 17;</code>
+     */
     k_ECommunityItemClass_SteamDeckStartupMovie(17),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ECommunityItemClass.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ECommunityItemClass.class.getName());
     }
-
-    /** <code>k_ECommunityItemClass_Invalid = 0;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Invalid = 0;</code>
+     */
     public static final int k_ECommunityItemClass_Invalid_VALUE = 0;
-
-    /** <code>k_ECommunityItemClass_Badge = 1;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Badge = 1;</code>
+     */
     public static final int k_ECommunityItemClass_Badge_VALUE = 1;
-
-    /** <code>k_ECommunityItemClass_GameCard = 2;</code> */
+    /**
+     * <code>k_ECommunityItemClass_GameCard = 2;</code>
+     */
     public static final int k_ECommunityItemClass_GameCard_VALUE = 2;
-
-    /** <code>k_ECommunityItemClass_ProfileBackground = 3;</code> */
+    /**
+     * <code>k_ECommunityItemClass_ProfileBackground = 3;</code>
+     */
     public static final int k_ECommunityItemClass_ProfileBackground_VALUE = 3;
-
-    /** <code>k_ECommunityItemClass_Emoticon = 4;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Emoticon = 4;</code>
+     */
     public static final int k_ECommunityItemClass_Emoticon_VALUE = 4;
-
-    /** <code>k_ECommunityItemClass_BoosterPack = 5;</code> */
+    /**
+     * <code>k_ECommunityItemClass_BoosterPack = 5;</code>
+     */
     public static final int k_ECommunityItemClass_BoosterPack_VALUE = 5;
-
-    /** <code>k_ECommunityItemClass_Consumable = 6;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Consumable = 6;</code>
+     */
     public static final int k_ECommunityItemClass_Consumable_VALUE = 6;
-
-    /** <code>k_ECommunityItemClass_GameGoo = 7;</code> */
+    /**
+     * <code>k_ECommunityItemClass_GameGoo = 7;</code>
+     */
     public static final int k_ECommunityItemClass_GameGoo_VALUE = 7;
-
-    /** <code>k_ECommunityItemClass_ProfileModifier = 8;</code> */
+    /**
+     * <code>k_ECommunityItemClass_ProfileModifier = 8;</code>
+     */
     public static final int k_ECommunityItemClass_ProfileModifier_VALUE = 8;
-
-    /** <code>k_ECommunityItemClass_Scene = 9;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Scene = 9;</code>
+     */
     public static final int k_ECommunityItemClass_Scene_VALUE = 9;
-
-    /** <code>k_ECommunityItemClass_SalienItem = 10;</code> */
+    /**
+     * <code>k_ECommunityItemClass_SalienItem = 10;</code>
+     */
     public static final int k_ECommunityItemClass_SalienItem_VALUE = 10;
-
-    /** <code>k_ECommunityItemClass_Sticker = 11;</code> */
+    /**
+     * <code>k_ECommunityItemClass_Sticker = 11;</code>
+     */
     public static final int k_ECommunityItemClass_Sticker_VALUE = 11;
-
-    /** <code>k_ECommunityItemClass_ChatEffect = 12;</code> */
+    /**
+     * <code>k_ECommunityItemClass_ChatEffect = 12;</code>
+     */
     public static final int k_ECommunityItemClass_ChatEffect_VALUE = 12;
-
-    /** <code>k_ECommunityItemClass_MiniProfileBackground = 13;</code> */
+    /**
+     * <code>k_ECommunityItemClass_MiniProfileBackground = 13;</code>
+     */
     public static final int k_ECommunityItemClass_MiniProfileBackground_VALUE = 13;
-
-    /** <code>k_ECommunityItemClass_AvatarFrame = 14;</code> */
+    /**
+     * <code>k_ECommunityItemClass_AvatarFrame = 14;</code>
+     */
     public static final int k_ECommunityItemClass_AvatarFrame_VALUE = 14;
-
-    /** <code>k_ECommunityItemClass_AnimatedAvatar = 15;</code> */
+    /**
+     * <code>k_ECommunityItemClass_AnimatedAvatar = 15;</code>
+     */
     public static final int k_ECommunityItemClass_AnimatedAvatar_VALUE = 15;
-
-    /** <code>k_ECommunityItemClass_SteamDeckKeyboardSkin = 16;</code> */
+    /**
+     * <code>k_ECommunityItemClass_SteamDeckKeyboardSkin = 16;</code>
+     */
     public static final int k_ECommunityItemClass_SteamDeckKeyboardSkin_VALUE = 16;
-
-    /** <code>k_ECommunityItemClass_SteamDeckStartupMovie = 17;</code> */
+    /**
+     * <code>k_ECommunityItemClass_SteamDeckStartupMovie = 17;</code>
+     */
     public static final int k_ECommunityItemClass_SteamDeckStartupMovie_VALUE = 17;
 
+
     public final int getNumber() {
       return value;
     }
@@ -5245,7 +5976,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ECommunityItemClass valueOf(int value) {
       return forNumber(value);
     }
@@ -5256,44 +5987,25 @@ public final class Enums {
      */
     public static ECommunityItemClass forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ECommunityItemClass_Invalid;
-        case 1:
-          return k_ECommunityItemClass_Badge;
-        case 2:
-          return k_ECommunityItemClass_GameCard;
-        case 3:
-          return k_ECommunityItemClass_ProfileBackground;
-        case 4:
-          return k_ECommunityItemClass_Emoticon;
-        case 5:
-          return k_ECommunityItemClass_BoosterPack;
-        case 6:
-          return k_ECommunityItemClass_Consumable;
-        case 7:
-          return k_ECommunityItemClass_GameGoo;
-        case 8:
-          return k_ECommunityItemClass_ProfileModifier;
-        case 9:
-          return k_ECommunityItemClass_Scene;
-        case 10:
-          return k_ECommunityItemClass_SalienItem;
-        case 11:
-          return k_ECommunityItemClass_Sticker;
-        case 12:
-          return k_ECommunityItemClass_ChatEffect;
-        case 13:
-          return k_ECommunityItemClass_MiniProfileBackground;
-        case 14:
-          return k_ECommunityItemClass_AvatarFrame;
-        case 15:
-          return k_ECommunityItemClass_AnimatedAvatar;
-        case 16:
-          return k_ECommunityItemClass_SteamDeckKeyboardSkin;
-        case 17:
-          return k_ECommunityItemClass_SteamDeckStartupMovie;
-        default:
-          return null;
+        case 0: return k_ECommunityItemClass_Invalid;
+        case 1: return k_ECommunityItemClass_Badge;
+        case 2: return k_ECommunityItemClass_GameCard;
+        case 3: return k_ECommunityItemClass_ProfileBackground;
+        case 4: return k_ECommunityItemClass_Emoticon;
+        case 5: return k_ECommunityItemClass_BoosterPack;
+        case 6: return k_ECommunityItemClass_Consumable;
+        case 7: return k_ECommunityItemClass_GameGoo;
+        case 8: return k_ECommunityItemClass_ProfileModifier;
+        case 9: return k_ECommunityItemClass_Scene;
+        case 10: return k_ECommunityItemClass_SalienItem;
+        case 11: return k_ECommunityItemClass_Sticker;
+        case 12: return k_ECommunityItemClass_ChatEffect;
+        case 13: return k_ECommunityItemClass_MiniProfileBackground;
+        case 14: return k_ECommunityItemClass_AvatarFrame;
+        case 15: return k_ECommunityItemClass_AnimatedAvatar;
+        case 16: return k_ECommunityItemClass_SteamDeckKeyboardSkin;
+        case 17: return k_ECommunityItemClass_SteamDeckStartupMovie;
+        default: return null;
       }
     }
 
@@ -5301,25 +6013,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ECommunityItemClass>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ECommunityItemClass>() {
-              public ECommunityItemClass findValueByNumber(int number) {
-                return ECommunityItemClass.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ECommunityItemClass> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ECommunityItemClass>() {
+            public ECommunityItemClass findValueByNumber(int number) {
+              return ECommunityItemClass.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(41);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(41);
     }
 
     private static final ECommunityItemClass[] VALUES = values();
@@ -5327,7 +6039,8 @@ public final class Enums {
     public static ECommunityItemClass valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5341,40 +6054,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ECommunityItemClass)
   }
 
-  /** Protobuf enum {@code ESteamDeckCompatibilityFeedback} */
-  public enum ESteamDeckCompatibilityFeedback implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESteamDeckCompatibilityFeedback_Unset = 0;</code> */
+  /**
+   * Protobuf enum {@code ESteamDeckCompatibilityFeedback}
+   */
+  public enum ESteamDeckCompatibilityFeedback
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Unset = 0;</code>
+     */
     k_ESteamDeckCompatibilityFeedback_Unset(0),
-    /** <code>k_ESteamDeckCompatibilityFeedback_Agree = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Agree = 1;</code>
+     */
     k_ESteamDeckCompatibilityFeedback_Agree(1),
-    /** <code>k_ESteamDeckCompatibilityFeedback_Disagree = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Disagree = 2;</code>
+     */
     k_ESteamDeckCompatibilityFeedback_Disagree(2),
-    /** <code>k_ESteamDeckCompatibilityFeedback_Ignore = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Ignore = 3;</code>
+     */
     k_ESteamDeckCompatibilityFeedback_Ignore(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESteamDeckCompatibilityFeedback.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESteamDeckCompatibilityFeedback.class.getName());
     }
-
-    /** <code>k_ESteamDeckCompatibilityFeedback_Unset = 0;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Unset = 0;</code>
+     */
     public static final int k_ESteamDeckCompatibilityFeedback_Unset_VALUE = 0;
-
-    /** <code>k_ESteamDeckCompatibilityFeedback_Agree = 1;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Agree = 1;</code>
+     */
     public static final int k_ESteamDeckCompatibilityFeedback_Agree_VALUE = 1;
-
-    /** <code>k_ESteamDeckCompatibilityFeedback_Disagree = 2;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Disagree = 2;</code>
+     */
     public static final int k_ESteamDeckCompatibilityFeedback_Disagree_VALUE = 2;
-
-    /** <code>k_ESteamDeckCompatibilityFeedback_Ignore = 3;</code> */
+    /**
+     * <code>k_ESteamDeckCompatibilityFeedback_Ignore = 3;</code>
+     */
     public static final int k_ESteamDeckCompatibilityFeedback_Ignore_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -5384,7 +6113,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESteamDeckCompatibilityFeedback valueOf(int value) {
       return forNumber(value);
     }
@@ -5395,16 +6124,11 @@ public final class Enums {
      */
     public static ESteamDeckCompatibilityFeedback forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ESteamDeckCompatibilityFeedback_Unset;
-        case 1:
-          return k_ESteamDeckCompatibilityFeedback_Agree;
-        case 2:
-          return k_ESteamDeckCompatibilityFeedback_Disagree;
-        case 3:
-          return k_ESteamDeckCompatibilityFeedback_Ignore;
-        default:
-          return null;
+        case 0: return k_ESteamDeckCompatibilityFeedback_Unset;
+        case 1: return k_ESteamDeckCompatibilityFeedback_Agree;
+        case 2: return k_ESteamDeckCompatibilityFeedback_Disagree;
+        case 3: return k_ESteamDeckCompatibilityFeedback_Ignore;
+        default: return null;
       }
     }
 
@@ -5412,25 +6136,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityFeedback>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityFeedback>() {
-              public ESteamDeckCompatibilityFeedback findValueByNumber(int number) {
-                return ESteamDeckCompatibilityFeedback.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESteamDeckCompatibilityFeedback> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESteamDeckCompatibilityFeedback>() {
+            public ESteamDeckCompatibilityFeedback findValueByNumber(int number) {
+              return ESteamDeckCompatibilityFeedback.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(42);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(42);
     }
 
     private static final ESteamDeckCompatibilityFeedback[] VALUES = values();
@@ -5438,7 +6162,8 @@ public final class Enums {
     public static ESteamDeckCompatibilityFeedback valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5452,35 +6177,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESteamDeckCompatibilityFeedback)
   }
 
-  /** Protobuf enum {@code EProvideDeckFeedbackPreference} */
-  public enum EProvideDeckFeedbackPreference implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EProvideDeckFeedbackPreference_Unset = 0;</code> */
+  /**
+   * Protobuf enum {@code EProvideDeckFeedbackPreference}
+   */
+  public enum EProvideDeckFeedbackPreference
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EProvideDeckFeedbackPreference_Unset = 0;</code>
+     */
     k_EProvideDeckFeedbackPreference_Unset(0),
-    /** <code>k_EProvideDeckFeedbackPreference_Yes = 1;</code> */
+    /**
+     * <code>k_EProvideDeckFeedbackPreference_Yes = 1;</code>
+     */
     k_EProvideDeckFeedbackPreference_Yes(1),
-    /** <code>k_EProvideDeckFeedbackPreference_No = 2;</code> */
+    /**
+     * <code>k_EProvideDeckFeedbackPreference_No = 2;</code>
+     */
     k_EProvideDeckFeedbackPreference_No(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EProvideDeckFeedbackPreference.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EProvideDeckFeedbackPreference.class.getName());
     }
-
-    /** <code>k_EProvideDeckFeedbackPreference_Unset = 0;</code> */
+    /**
+     * <code>k_EProvideDeckFeedbackPreference_Unset = 0;</code>
+     */
     public static final int k_EProvideDeckFeedbackPreference_Unset_VALUE = 0;
-
-    /** <code>k_EProvideDeckFeedbackPreference_Yes = 1;</code> */
+    /**
+     * <code>k_EProvideDeckFeedbackPreference_Yes = 1;</code>
+     */
     public static final int k_EProvideDeckFeedbackPreference_Yes_VALUE = 1;
-
-    /** <code>k_EProvideDeckFeedbackPreference_No = 2;</code> */
+    /**
+     * <code>k_EProvideDeckFeedbackPreference_No = 2;</code>
+     */
     public static final int k_EProvideDeckFeedbackPreference_No_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -5490,7 +6228,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EProvideDeckFeedbackPreference valueOf(int value) {
       return forNumber(value);
     }
@@ -5501,14 +6239,10 @@ public final class Enums {
      */
     public static EProvideDeckFeedbackPreference forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EProvideDeckFeedbackPreference_Unset;
-        case 1:
-          return k_EProvideDeckFeedbackPreference_Yes;
-        case 2:
-          return k_EProvideDeckFeedbackPreference_No;
-        default:
-          return null;
+        case 0: return k_EProvideDeckFeedbackPreference_Unset;
+        case 1: return k_EProvideDeckFeedbackPreference_Yes;
+        case 2: return k_EProvideDeckFeedbackPreference_No;
+        default: return null;
       }
     }
 
@@ -5516,25 +6250,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EProvideDeckFeedbackPreference>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EProvideDeckFeedbackPreference>() {
-              public EProvideDeckFeedbackPreference findValueByNumber(int number) {
-                return EProvideDeckFeedbackPreference.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EProvideDeckFeedbackPreference> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EProvideDeckFeedbackPreference>() {
+            public EProvideDeckFeedbackPreference findValueByNumber(int number) {
+              return EProvideDeckFeedbackPreference.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(43);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(43);
     }
 
     private static final EProvideDeckFeedbackPreference[] VALUES = values();
@@ -5542,7 +6276,8 @@ public final class Enums {
     public static EProvideDeckFeedbackPreference valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5556,90 +6291,136 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EProvideDeckFeedbackPreference)
   }
 
-  /** Protobuf enum {@code ETouchGesture} */
-  public enum ETouchGesture implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ETouchGestureNone = 0;</code> */
+  /**
+   * Protobuf enum {@code ETouchGesture}
+   */
+  public enum ETouchGesture
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ETouchGestureNone = 0;</code>
+     */
     k_ETouchGestureNone(0),
-    /** <code>k_ETouchGestureTouch = 1;</code> */
+    /**
+     * <code>k_ETouchGestureTouch = 1;</code>
+     */
     k_ETouchGestureTouch(1),
-    /** <code>k_ETouchGestureTap = 2;</code> */
+    /**
+     * <code>k_ETouchGestureTap = 2;</code>
+     */
     k_ETouchGestureTap(2),
-    /** <code>k_ETouchGestureDoubleTap = 3;</code> */
+    /**
+     * <code>k_ETouchGestureDoubleTap = 3;</code>
+     */
     k_ETouchGestureDoubleTap(3),
-    /** <code>k_ETouchGestureShortPress = 4;</code> */
+    /**
+     * <code>k_ETouchGestureShortPress = 4;</code>
+     */
     k_ETouchGestureShortPress(4),
-    /** <code>k_ETouchGestureLongPress = 5;</code> */
+    /**
+     * <code>k_ETouchGestureLongPress = 5;</code>
+     */
     k_ETouchGestureLongPress(5),
-    /** <code>k_ETouchGestureLongTap = 6;</code> */
+    /**
+     * <code>k_ETouchGestureLongTap = 6;</code>
+     */
     k_ETouchGestureLongTap(6),
-    /** <code>k_ETouchGestureTwoFingerTap = 7;</code> */
+    /**
+     * <code>k_ETouchGestureTwoFingerTap = 7;</code>
+     */
     k_ETouchGestureTwoFingerTap(7),
-    /** <code>k_ETouchGestureTapCancelled = 8;</code> */
+    /**
+     * <code>k_ETouchGestureTapCancelled = 8;</code>
+     */
     k_ETouchGestureTapCancelled(8),
-    /** <code>k_ETouchGesturePinchBegin = 9;</code> */
+    /**
+     * <code>k_ETouchGesturePinchBegin = 9;</code>
+     */
     k_ETouchGesturePinchBegin(9),
-    /** <code>k_ETouchGesturePinchUpdate = 10;</code> */
+    /**
+     * <code>k_ETouchGesturePinchUpdate = 10;</code>
+     */
     k_ETouchGesturePinchUpdate(10),
-    /** <code>k_ETouchGesturePinchEnd = 11;</code> */
+    /**
+     * <code>k_ETouchGesturePinchEnd = 11;</code>
+     */
     k_ETouchGesturePinchEnd(11),
-    /** <code>k_ETouchGestureFlingStart = 12;</code> */
+    /**
+     * <code>k_ETouchGestureFlingStart = 12;</code>
+     */
     k_ETouchGestureFlingStart(12),
-    /** <code>k_ETouchGestureFlingCancelled = 13;</code> */
+    /**
+     * <code>k_ETouchGestureFlingCancelled = 13;</code>
+     */
     k_ETouchGestureFlingCancelled(13),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ETouchGesture.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ETouchGesture.class.getName());
     }
-
-    /** <code>k_ETouchGestureNone = 0;</code> */
+    /**
+     * <code>k_ETouchGestureNone = 0;</code>
+     */
     public static final int k_ETouchGestureNone_VALUE = 0;
-
-    /** <code>k_ETouchGestureTouch = 1;</code> */
+    /**
+     * <code>k_ETouchGestureTouch = 1;</code>
+     */
     public static final int k_ETouchGestureTouch_VALUE = 1;
-
-    /** <code>k_ETouchGestureTap = 2;</code> */
+    /**
+     * <code>k_ETouchGestureTap = 2;</code>
+     */
     public static final int k_ETouchGestureTap_VALUE = 2;
-
-    /** <code>k_ETouchGestureDoubleTap = 3;</code> */
+    /**
+     * <code>k_ETouchGestureDoubleTap = 3;</code>
+     */
     public static final int k_ETouchGestureDoubleTap_VALUE = 3;
-
-    /** <code>k_ETouchGestureShortPress = 4;</code> */
+    /**
+     * <code>k_ETouchGestureShortPress = 4;</code>
+     */
     public static final int k_ETouchGestureShortPress_VALUE = 4;
-
-    /** <code>k_ETouchGestureLongPress = 5;</code> */
+    /**
+     * <code>k_ETouchGestureLongPress = 5;</code>
+     */
     public static final int k_ETouchGestureLongPress_VALUE = 5;
-
-    /** <code>k_ETouchGestureLongTap = 6;</code> */
+    /**
+     * <code>k_ETouchGestureLongTap = 6;</code>
+     */
     public static final int k_ETouchGestureLongTap_VALUE = 6;
-
-    /** <code>k_ETouchGestureTwoFingerTap = 7;</code> */
+    /**
+     * <code>k_ETouchGestureTwoFingerTap = 7;</code>
+     */
     public static final int k_ETouchGestureTwoFingerTap_VALUE = 7;
-
-    /** <code>k_ETouchGestureTapCancelled = 8;</code> */
+    /**
+     * <code>k_ETouchGestureTapCancelled = 8;</code>
+     */
     public static final int k_ETouchGestureTapCancelled_VALUE = 8;
-
-    /** <code>k_ETouchGesturePinchBegin = 9;</code> */
+    /**
+     * <code>k_ETouchGesturePinchBegin = 9;</code>
+     */
     public static final int k_ETouchGesturePinchBegin_VALUE = 9;
-
-    /** <code>k_ETouchGesturePinchUpdate = 10;</code> */
+    /**
+     * <code>k_ETouchGesturePinchUpdate = 10;</code>
+     */
     public static final int k_ETouchGesturePinchUpdate_VALUE = 10;
-
-    /** <code>k_ETouchGesturePinchEnd = 11;</code> */
+    /**
+     * <code>k_ETouchGesturePinchEnd = 11;</code>
+     */
     public static final int k_ETouchGesturePinchEnd_VALUE = 11;
-
-    /** <code>k_ETouchGestureFlingStart = 12;</code> */
+    /**
+     * <code>k_ETouchGestureFlingStart = 12;</code>
+     */
     public static final int k_ETouchGestureFlingStart_VALUE = 12;
-
-    /** <code>k_ETouchGestureFlingCancelled = 13;</code> */
+    /**
+     * <code>k_ETouchGestureFlingCancelled = 13;</code>
+     */
     public static final int k_ETouchGestureFlingCancelled_VALUE = 13;
 
+
     public final int getNumber() {
       return value;
     }
@@ -5649,7 +6430,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ETouchGesture valueOf(int value) {
       return forNumber(value);
     }
@@ -5660,67 +6441,56 @@ public final class Enums {
      */
     public static ETouchGesture forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ETouchGestureNone;
-        case 1:
-          return k_ETouchGestureTouch;
-        case 2:
-          return k_ETouchGestureTap;
-        case 3:
-          return k_ETouchGestureDoubleTap;
-        case 4:
-          return k_ETouchGestureShortPress;
-        case 5:
-          return k_ETouchGestureLongPress;
-        case 6:
-          return k_ETouchGestureLongTap;
-        case 7:
-          return k_ETouchGestureTwoFingerTap;
-        case 8:
-          return k_ETouchGestureTapCancelled;
-        case 9:
-          return k_ETouchGesturePinchBegin;
-        case 10:
-          return k_ETouchGesturePinchUpdate;
-        case 11:
-          return k_ETouchGesturePinchEnd;
-        case 12:
-          return k_ETouchGestureFlingStart;
-        case 13:
-          return k_ETouchGestureFlingCancelled;
-        default:
-          return null;
+        case 0: return k_ETouchGestureNone;
+        case 1: return k_ETouchGestureTouch;
+        case 2: return k_ETouchGestureTap;
+        case 3: return k_ETouchGestureDoubleTap;
+        case 4: return k_ETouchGestureShortPress;
+        case 5: return k_ETouchGestureLongPress;
+        case 6: return k_ETouchGestureLongTap;
+        case 7: return k_ETouchGestureTwoFingerTap;
+        case 8: return k_ETouchGestureTapCancelled;
+        case 9: return k_ETouchGesturePinchBegin;
+        case 10: return k_ETouchGesturePinchUpdate;
+        case 11: return k_ETouchGesturePinchEnd;
+        case 12: return k_ETouchGestureFlingStart;
+        case 13: return k_ETouchGestureFlingCancelled;
+        default: return null;
       }
     }
 
-    public static com.google.protobuf.Internal.EnumLiteMap<ETouchGesture> internalGetValueMap() {
+    public static com.google.protobuf.Internal.EnumLiteMap<ETouchGesture>
+        internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ETouchGesture> internalValueMap =
-        new com.google.protobuf.Internal.EnumLiteMap<ETouchGesture>() {
-          public ETouchGesture findValueByNumber(int number) {
-            return ETouchGesture.forNumber(number);
-          }
-        };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ETouchGesture> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ETouchGesture>() {
+            public ETouchGesture findValueByNumber(int number) {
+              return ETouchGesture.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(44);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(44);
     }
 
     private static final ETouchGesture[] VALUES = values();
 
-    public static ETouchGesture valueOf(com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+    public static ETouchGesture valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5734,35 +6504,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ETouchGesture)
   }
 
-  /** Protobuf enum {@code ESessionPersistence} */
-  public enum ESessionPersistence implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ESessionPersistence_Invalid = -1;</code> */
+  /**
+   * Protobuf enum {@code ESessionPersistence}
+   */
+  public enum ESessionPersistence
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ESessionPersistence_Invalid = -1;</code>
+     */
     k_ESessionPersistence_Invalid(-1),
-    /** <code>k_ESessionPersistence_Ephemeral = 0;</code> */
+    /**
+     * <code>k_ESessionPersistence_Ephemeral = 0;</code>
+     */
     k_ESessionPersistence_Ephemeral(0),
-    /** <code>k_ESessionPersistence_Persistent = 1;</code> */
+    /**
+     * <code>k_ESessionPersistence_Persistent = 1;</code>
+     */
     k_ESessionPersistence_Persistent(1),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ESessionPersistence.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ESessionPersistence.class.getName());
     }
-
-    /** <code>k_ESessionPersistence_Invalid = -1;</code> */
+    /**
+     * <code>k_ESessionPersistence_Invalid = -1;</code>
+     */
     public static final int k_ESessionPersistence_Invalid_VALUE = -1;
-
-    /** <code>k_ESessionPersistence_Ephemeral = 0;</code> */
+    /**
+     * <code>k_ESessionPersistence_Ephemeral = 0;</code>
+     */
     public static final int k_ESessionPersistence_Ephemeral_VALUE = 0;
-
-    /** <code>k_ESessionPersistence_Persistent = 1;</code> */
+    /**
+     * <code>k_ESessionPersistence_Persistent = 1;</code>
+     */
     public static final int k_ESessionPersistence_Persistent_VALUE = 1;
 
+
     public final int getNumber() {
       return value;
     }
@@ -5772,7 +6555,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ESessionPersistence valueOf(int value) {
       return forNumber(value);
     }
@@ -5783,14 +6566,10 @@ public final class Enums {
      */
     public static ESessionPersistence forNumber(int value) {
       switch (value) {
-        case -1:
-          return k_ESessionPersistence_Invalid;
-        case 0:
-          return k_ESessionPersistence_Ephemeral;
-        case 1:
-          return k_ESessionPersistence_Persistent;
-        default:
-          return null;
+        case -1: return k_ESessionPersistence_Invalid;
+        case 0: return k_ESessionPersistence_Ephemeral;
+        case 1: return k_ESessionPersistence_Persistent;
+        default: return null;
       }
     }
 
@@ -5798,25 +6577,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ESessionPersistence>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ESessionPersistence>() {
-              public ESessionPersistence findValueByNumber(int number) {
-                return ESessionPersistence.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ESessionPersistence> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ESessionPersistence>() {
+            public ESessionPersistence findValueByNumber(int number) {
+              return ESessionPersistence.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(45);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(45);
     }
 
     private static final ESessionPersistence[] VALUES = values();
@@ -5824,7 +6603,8 @@ public final class Enums {
     public static ESessionPersistence valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5838,40 +6618,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ESessionPersistence)
   }
 
-  /** Protobuf enum {@code ENewSteamAnnouncementState} */
-  public enum ENewSteamAnnouncementState implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ENewSteamAnnouncementState_Invalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ENewSteamAnnouncementState}
+   */
+  public enum ENewSteamAnnouncementState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ENewSteamAnnouncementState_Invalid = 0;</code>
+     */
     k_ENewSteamAnnouncementState_Invalid(0),
-    /** <code>k_ENewSteamAnnouncementState_AllRead = 1;</code> */
+    /**
+     * <code>k_ENewSteamAnnouncementState_AllRead = 1;</code>
+     */
     k_ENewSteamAnnouncementState_AllRead(1),
-    /** <code>k_ENewSteamAnnouncementState_NewAnnouncement = 2;</code> */
+    /**
+     * <code>k_ENewSteamAnnouncementState_NewAnnouncement = 2;</code>
+     */
     k_ENewSteamAnnouncementState_NewAnnouncement(2),
-    /** <code>k_ENewSteamAnnouncementState_FeaturedAnnouncement = 3;</code> */
+    /**
+     * <code>k_ENewSteamAnnouncementState_FeaturedAnnouncement = 3;</code>
+     */
     k_ENewSteamAnnouncementState_FeaturedAnnouncement(3),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ENewSteamAnnouncementState.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ENewSteamAnnouncementState.class.getName());
     }
-
-    /** <code>k_ENewSteamAnnouncementState_Invalid = 0;</code> */
+    /**
+     * <code>k_ENewSteamAnnouncementState_Invalid = 0;</code>
+     */
     public static final int k_ENewSteamAnnouncementState_Invalid_VALUE = 0;
-
-    /** <code>k_ENewSteamAnnouncementState_AllRead = 1;</code> */
+    /**
+     * <code>k_ENewSteamAnnouncementState_AllRead = 1;</code>
+     */
     public static final int k_ENewSteamAnnouncementState_AllRead_VALUE = 1;
-
-    /** <code>k_ENewSteamAnnouncementState_NewAnnouncement = 2;</code> */
+    /**
+     * <code>k_ENewSteamAnnouncementState_NewAnnouncement = 2;</code>
+     */
     public static final int k_ENewSteamAnnouncementState_NewAnnouncement_VALUE = 2;
-
-    /** <code>k_ENewSteamAnnouncementState_FeaturedAnnouncement = 3;</code> */
+    /**
+     * <code>k_ENewSteamAnnouncementState_FeaturedAnnouncement = 3;</code>
+     */
     public static final int k_ENewSteamAnnouncementState_FeaturedAnnouncement_VALUE = 3;
 
+
     public final int getNumber() {
       return value;
     }
@@ -5881,7 +6677,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ENewSteamAnnouncementState valueOf(int value) {
       return forNumber(value);
     }
@@ -5892,16 +6688,11 @@ public final class Enums {
      */
     public static ENewSteamAnnouncementState forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ENewSteamAnnouncementState_Invalid;
-        case 1:
-          return k_ENewSteamAnnouncementState_AllRead;
-        case 2:
-          return k_ENewSteamAnnouncementState_NewAnnouncement;
-        case 3:
-          return k_ENewSteamAnnouncementState_FeaturedAnnouncement;
-        default:
-          return null;
+        case 0: return k_ENewSteamAnnouncementState_Invalid;
+        case 1: return k_ENewSteamAnnouncementState_AllRead;
+        case 2: return k_ENewSteamAnnouncementState_NewAnnouncement;
+        case 3: return k_ENewSteamAnnouncementState_FeaturedAnnouncement;
+        default: return null;
       }
     }
 
@@ -5909,25 +6700,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ENewSteamAnnouncementState>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ENewSteamAnnouncementState>() {
-              public ENewSteamAnnouncementState findValueByNumber(int number) {
-                return ENewSteamAnnouncementState.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ENewSteamAnnouncementState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ENewSteamAnnouncementState>() {
+            public ENewSteamAnnouncementState findValueByNumber(int number) {
+              return ENewSteamAnnouncementState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(46);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(46);
     }
 
     private static final ENewSteamAnnouncementState[] VALUES = values();
@@ -5935,7 +6726,8 @@ public final class Enums {
     public static ENewSteamAnnouncementState valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -5949,130 +6741,200 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ENewSteamAnnouncementState)
   }
 
-  /** Protobuf enum {@code ECommentThreadType} */
-  public enum ECommentThreadType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ECommentThreadTypeInvalid = 0;</code> */
+  /**
+   * Protobuf enum {@code ECommentThreadType}
+   */
+  public enum ECommentThreadType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ECommentThreadTypeInvalid = 0;</code>
+     */
     k_ECommentThreadTypeInvalid(0),
-    /** <code>k_ECommentThreadTypeScreenshot_Deprecated = 1;</code> */
+    /**
+     * <code>k_ECommentThreadTypeScreenshot_Deprecated = 1;</code>
+     */
     k_ECommentThreadTypeScreenshot_Deprecated(1),
-    /** <code>k_ECommentThreadTypeWorkshopAccount_Developer = 2;</code> */
+    /**
+     * <code>k_ECommentThreadTypeWorkshopAccount_Developer = 2;</code>
+     */
     k_ECommentThreadTypeWorkshopAccount_Developer(2),
-    /** <code>k_ECommentThreadTypeWorkshopAccount_Public = 3;</code> */
+    /**
+     * <code>k_ECommentThreadTypeWorkshopAccount_Public = 3;</code>
+     */
     k_ECommentThreadTypeWorkshopAccount_Public(3),
-    /** <code>k_ECommentThreadTypePublishedFile_Developer = 4;</code> */
+    /**
+     * <code>k_ECommentThreadTypePublishedFile_Developer = 4;</code>
+     */
     k_ECommentThreadTypePublishedFile_Developer(4),
-    /** <code>k_ECommentThreadTypePublishedFile_Public = 5;</code> */
+    /**
+     * <code>k_ECommentThreadTypePublishedFile_Public = 5;</code>
+     */
     k_ECommentThreadTypePublishedFile_Public(5),
-    /** <code>k_ECommentThreadTypeTest = 6;</code> */
+    /**
+     * <code>k_ECommentThreadTypeTest = 6;</code>
+     */
     k_ECommentThreadTypeTest(6),
-    /** <code>k_ECommentThreadTypeForumTopic = 7;</code> */
+    /**
+     * <code>k_ECommentThreadTypeForumTopic = 7;</code>
+     */
     k_ECommentThreadTypeForumTopic(7),
-    /** <code>k_ECommentThreadTypeRecommendation = 8;</code> */
+    /**
+     * <code>k_ECommentThreadTypeRecommendation = 8;</code>
+     */
     k_ECommentThreadTypeRecommendation(8),
-    /** <code>k_ECommentThreadTypeVideo_Deprecated = 9;</code> */
+    /**
+     * <code>k_ECommentThreadTypeVideo_Deprecated = 9;</code>
+     */
     k_ECommentThreadTypeVideo_Deprecated(9),
-    /** <code>k_ECommentThreadTypeProfile = 10;</code> */
+    /**
+     * <code>k_ECommentThreadTypeProfile = 10;</code>
+     */
     k_ECommentThreadTypeProfile(10),
-    /** <code>k_ECommentThreadTypeNewsPost = 11;</code> */
+    /**
+     * <code>k_ECommentThreadTypeNewsPost = 11;</code>
+     */
     k_ECommentThreadTypeNewsPost(11),
-    /** <code>k_ECommentThreadTypeClan = 12;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClan = 12;</code>
+     */
     k_ECommentThreadTypeClan(12),
-    /** <code>k_ECommentThreadTypeClanAnnouncement = 13;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClanAnnouncement = 13;</code>
+     */
     k_ECommentThreadTypeClanAnnouncement(13),
-    /** <code>k_ECommentThreadTypeClanEvent = 14;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClanEvent = 14;</code>
+     */
     k_ECommentThreadTypeClanEvent(14),
-    /** <code>k_ECommentThreadTypeUserStatusPublished = 15;</code> */
+    /**
+     * <code>k_ECommentThreadTypeUserStatusPublished = 15;</code>
+     */
     k_ECommentThreadTypeUserStatusPublished(15),
-    /** <code>k_ECommentThreadTypeUserReceivedNewGame = 16;</code> */
+    /**
+     * <code>k_ECommentThreadTypeUserReceivedNewGame = 16;</code>
+     */
     k_ECommentThreadTypeUserReceivedNewGame(16),
-    /** <code>k_ECommentThreadTypePublishedFile_Announcement = 17;</code> */
+    /**
+     * <code>k_ECommentThreadTypePublishedFile_Announcement = 17;</code>
+     */
     k_ECommentThreadTypePublishedFile_Announcement(17),
-    /** <code>k_ECommentThreadTypeModeratorMessage = 18;</code> */
+    /**
+     * <code>k_ECommentThreadTypeModeratorMessage = 18;</code>
+     */
     k_ECommentThreadTypeModeratorMessage(18),
-    /** <code>k_ECommentThreadTypeClanCuratedApp = 19;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClanCuratedApp = 19;</code>
+     */
     k_ECommentThreadTypeClanCuratedApp(19),
-    /** <code>k_ECommentThreadTypeQAndASession = 20;</code> */
+    /**
+     * <code>k_ECommentThreadTypeQAndASession = 20;</code>
+     */
     k_ECommentThreadTypeQAndASession(20),
-    /** <code>k_ECommentThreadTypeMax = 21;</code> */
+    /**
+     * <code>k_ECommentThreadTypeMax = 21;</code>
+     */
     k_ECommentThreadTypeMax(21),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ECommentThreadType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ECommentThreadType.class.getName());
     }
-
-    /** <code>k_ECommentThreadTypeInvalid = 0;</code> */
+    /**
+     * <code>k_ECommentThreadTypeInvalid = 0;</code>
+     */
     public static final int k_ECommentThreadTypeInvalid_VALUE = 0;
-
-    /** <code>k_ECommentThreadTypeScreenshot_Deprecated = 1;</code> */
+    /**
+     * <code>k_ECommentThreadTypeScreenshot_Deprecated = 1;</code>
+     */
     public static final int k_ECommentThreadTypeScreenshot_Deprecated_VALUE = 1;
-
-    /** <code>k_ECommentThreadTypeWorkshopAccount_Developer = 2;</code> */
+    /**
+     * <code>k_ECommentThreadTypeWorkshopAccount_Developer = 2;</code>
+     */
     public static final int k_ECommentThreadTypeWorkshopAccount_Developer_VALUE = 2;
-
-    /** <code>k_ECommentThreadTypeWorkshopAccount_Public = 3;</code> */
+    /**
+     * <code>k_ECommentThreadTypeWorkshopAccount_Public = 3;</code>
+     */
     public static final int k_ECommentThreadTypeWorkshopAccount_Public_VALUE = 3;
-
-    /** <code>k_ECommentThreadTypePublishedFile_Developer = 4;</code> */
+    /**
+     * <code>k_ECommentThreadTypePublishedFile_Developer = 4;</code>
+     */
     public static final int k_ECommentThreadTypePublishedFile_Developer_VALUE = 4;
-
-    /** <code>k_ECommentThreadTypePublishedFile_Public = 5;</code> */
+    /**
+     * <code>k_ECommentThreadTypePublishedFile_Public = 5;</code>
+     */
     public static final int k_ECommentThreadTypePublishedFile_Public_VALUE = 5;
-
-    /** <code>k_ECommentThreadTypeTest = 6;</code> */
+    /**
+     * <code>k_ECommentThreadTypeTest = 6;</code>
+     */
     public static final int k_ECommentThreadTypeTest_VALUE = 6;
-
-    /** <code>k_ECommentThreadTypeForumTopic = 7;</code> */
+    /**
+     * <code>k_ECommentThreadTypeForumTopic = 7;</code>
+     */
     public static final int k_ECommentThreadTypeForumTopic_VALUE = 7;
-
-    /** <code>k_ECommentThreadTypeRecommendation = 8;</code> */
+    /**
+     * <code>k_ECommentThreadTypeRecommendation = 8;</code>
+     */
     public static final int k_ECommentThreadTypeRecommendation_VALUE = 8;
-
-    /** <code>k_ECommentThreadTypeVideo_Deprecated = 9;</code> */
+    /**
+     * <code>k_ECommentThreadTypeVideo_Deprecated = 9;</code>
+     */
     public static final int k_ECommentThreadTypeVideo_Deprecated_VALUE = 9;
-
-    /** <code>k_ECommentThreadTypeProfile = 10;</code> */
+    /**
+     * <code>k_ECommentThreadTypeProfile = 10;</code>
+     */
     public static final int k_ECommentThreadTypeProfile_VALUE = 10;
-
-    /** <code>k_ECommentThreadTypeNewsPost = 11;</code> */
+    /**
+     * <code>k_ECommentThreadTypeNewsPost = 11;</code>
+     */
     public static final int k_ECommentThreadTypeNewsPost_VALUE = 11;
-
-    /** <code>k_ECommentThreadTypeClan = 12;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClan = 12;</code>
+     */
     public static final int k_ECommentThreadTypeClan_VALUE = 12;
-
-    /** <code>k_ECommentThreadTypeClanAnnouncement = 13;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClanAnnouncement = 13;</code>
+     */
     public static final int k_ECommentThreadTypeClanAnnouncement_VALUE = 13;
-
-    /** <code>k_ECommentThreadTypeClanEvent = 14;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClanEvent = 14;</code>
+     */
     public static final int k_ECommentThreadTypeClanEvent_VALUE = 14;
-
-    /** <code>k_ECommentThreadTypeUserStatusPublished = 15;</code> */
+    /**
+     * <code>k_ECommentThreadTypeUserStatusPublished = 15;</code>
+     */
     public static final int k_ECommentThreadTypeUserStatusPublished_VALUE = 15;
-
-    /** <code>k_ECommentThreadTypeUserReceivedNewGame = 16;</code> */
+    /**
+     * <code>k_ECommentThreadTypeUserReceivedNewGame = 16;</code>
+     */
     public static final int k_ECommentThreadTypeUserReceivedNewGame_VALUE = 16;
-
-    /** <code>k_ECommentThreadTypePublishedFile_Announcement = 17;</code> */
+    /**
+     * <code>k_ECommentThreadTypePublishedFile_Announcement = 17;</code>
+     */
     public static final int k_ECommentThreadTypePublishedFile_Announcement_VALUE = 17;
-
-    /** <code>k_ECommentThreadTypeModeratorMessage = 18;</code> */
+    /**
+     * <code>k_ECommentThreadTypeModeratorMessage = 18;</code>
+     */
     public static final int k_ECommentThreadTypeModeratorMessage_VALUE = 18;
-
-    /** <code>k_ECommentThreadTypeClanCuratedApp = 19;</code> */
+    /**
+     * <code>k_ECommentThreadTypeClanCuratedApp = 19;</code>
+     */
     public static final int k_ECommentThreadTypeClanCuratedApp_VALUE = 19;
-
-    /** <code>k_ECommentThreadTypeQAndASession = 20;</code> */
+    /**
+     * <code>k_ECommentThreadTypeQAndASession = 20;</code>
+     */
     public static final int k_ECommentThreadTypeQAndASession_VALUE = 20;
-
-    /** <code>k_ECommentThreadTypeMax = 21;</code> */
+    /**
+     * <code>k_ECommentThreadTypeMax = 21;</code>
+     */
     public static final int k_ECommentThreadTypeMax_VALUE = 21;
 
+
     public final int getNumber() {
       return value;
     }
@@ -6082,7 +6944,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ECommentThreadType valueOf(int value) {
       return forNumber(value);
     }
@@ -6093,52 +6955,29 @@ public final class Enums {
      */
     public static ECommentThreadType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ECommentThreadTypeInvalid;
-        case 1:
-          return k_ECommentThreadTypeScreenshot_Deprecated;
-        case 2:
-          return k_ECommentThreadTypeWorkshopAccount_Developer;
-        case 3:
-          return k_ECommentThreadTypeWorkshopAccount_Public;
-        case 4:
-          return k_ECommentThreadTypePublishedFile_Developer;
-        case 5:
-          return k_ECommentThreadTypePublishedFile_Public;
-        case 6:
-          return k_ECommentThreadTypeTest;
-        case 7:
-          return k_ECommentThreadTypeForumTopic;
-        case 8:
-          return k_ECommentThreadTypeRecommendation;
-        case 9:
-          return k_ECommentThreadTypeVideo_Deprecated;
-        case 10:
-          return k_ECommentThreadTypeProfile;
-        case 11:
-          return k_ECommentThreadTypeNewsPost;
-        case 12:
-          return k_ECommentThreadTypeClan;
-        case 13:
-          return k_ECommentThreadTypeClanAnnouncement;
-        case 14:
-          return k_ECommentThreadTypeClanEvent;
-        case 15:
-          return k_ECommentThreadTypeUserStatusPublished;
-        case 16:
-          return k_ECommentThreadTypeUserReceivedNewGame;
-        case 17:
-          return k_ECommentThreadTypePublishedFile_Announcement;
-        case 18:
-          return k_ECommentThreadTypeModeratorMessage;
-        case 19:
-          return k_ECommentThreadTypeClanCuratedApp;
-        case 20:
-          return k_ECommentThreadTypeQAndASession;
-        case 21:
-          return k_ECommentThreadTypeMax;
-        default:
-          return null;
+        case 0: return k_ECommentThreadTypeInvalid;
+        case 1: return k_ECommentThreadTypeScreenshot_Deprecated;
+        case 2: return k_ECommentThreadTypeWorkshopAccount_Developer;
+        case 3: return k_ECommentThreadTypeWorkshopAccount_Public;
+        case 4: return k_ECommentThreadTypePublishedFile_Developer;
+        case 5: return k_ECommentThreadTypePublishedFile_Public;
+        case 6: return k_ECommentThreadTypeTest;
+        case 7: return k_ECommentThreadTypeForumTopic;
+        case 8: return k_ECommentThreadTypeRecommendation;
+        case 9: return k_ECommentThreadTypeVideo_Deprecated;
+        case 10: return k_ECommentThreadTypeProfile;
+        case 11: return k_ECommentThreadTypeNewsPost;
+        case 12: return k_ECommentThreadTypeClan;
+        case 13: return k_ECommentThreadTypeClanAnnouncement;
+        case 14: return k_ECommentThreadTypeClanEvent;
+        case 15: return k_ECommentThreadTypeUserStatusPublished;
+        case 16: return k_ECommentThreadTypeUserReceivedNewGame;
+        case 17: return k_ECommentThreadTypePublishedFile_Announcement;
+        case 18: return k_ECommentThreadTypeModeratorMessage;
+        case 19: return k_ECommentThreadTypeClanCuratedApp;
+        case 20: return k_ECommentThreadTypeQAndASession;
+        case 21: return k_ECommentThreadTypeMax;
+        default: return null;
       }
     }
 
@@ -6146,25 +6985,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ECommentThreadType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ECommentThreadType>() {
-              public ECommentThreadType findValueByNumber(int number) {
-                return ECommentThreadType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ECommentThreadType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ECommentThreadType>() {
+            public ECommentThreadType findValueByNumber(int number) {
+              return ECommentThreadType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(47);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(47);
     }
 
     private static final ECommentThreadType[] VALUES = values();
@@ -6172,7 +7011,8 @@ public final class Enums {
     public static ECommentThreadType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -6186,45 +7026,64 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ECommentThreadType)
   }
 
-  /** Protobuf enum {@code EBroadcastPermission} */
-  public enum EBroadcastPermission implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EBroadcastPermissionDisabled = 0;</code> */
+  /**
+   * Protobuf enum {@code EBroadcastPermission}
+   */
+  public enum EBroadcastPermission
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EBroadcastPermissionDisabled = 0;</code>
+     */
     k_EBroadcastPermissionDisabled(0),
-    /** <code>k_EBroadcastPermissionFriendsApprove = 1;</code> */
+    /**
+     * <code>k_EBroadcastPermissionFriendsApprove = 1;</code>
+     */
     k_EBroadcastPermissionFriendsApprove(1),
-    /** <code>k_EBroadcastPermissionFriendsAllowed = 2;</code> */
+    /**
+     * <code>k_EBroadcastPermissionFriendsAllowed = 2;</code>
+     */
     k_EBroadcastPermissionFriendsAllowed(2),
-    /** <code>k_EBroadcastPermissionPublic = 3;</code> */
+    /**
+     * <code>k_EBroadcastPermissionPublic = 3;</code>
+     */
     k_EBroadcastPermissionPublic(3),
-    /** <code>k_EBroadcastPermissionSubscribers = 4;</code> */
+    /**
+     * <code>k_EBroadcastPermissionSubscribers = 4;</code>
+     */
     k_EBroadcastPermissionSubscribers(4),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EBroadcastPermission.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EBroadcastPermission.class.getName());
     }
-
-    /** <code>k_EBroadcastPermissionDisabled = 0;</code> */
+    /**
+     * <code>k_EBroadcastPermissionDisabled = 0;</code>
+     */
     public static final int k_EBroadcastPermissionDisabled_VALUE = 0;
-
-    /** <code>k_EBroadcastPermissionFriendsApprove = 1;</code> */
+    /**
+     * <code>k_EBroadcastPermissionFriendsApprove = 1;</code>
+     */
     public static final int k_EBroadcastPermissionFriendsApprove_VALUE = 1;
-
-    /** <code>k_EBroadcastPermissionFriendsAllowed = 2;</code> */
+    /**
+     * <code>k_EBroadcastPermissionFriendsAllowed = 2;</code>
+     */
     public static final int k_EBroadcastPermissionFriendsAllowed_VALUE = 2;
-
-    /** <code>k_EBroadcastPermissionPublic = 3;</code> */
+    /**
+     * <code>k_EBroadcastPermissionPublic = 3;</code>
+     */
     public static final int k_EBroadcastPermissionPublic_VALUE = 3;
-
-    /** <code>k_EBroadcastPermissionSubscribers = 4;</code> */
+    /**
+     * <code>k_EBroadcastPermissionSubscribers = 4;</code>
+     */
     public static final int k_EBroadcastPermissionSubscribers_VALUE = 4;
 
+
     public final int getNumber() {
       return value;
     }
@@ -6234,7 +7093,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EBroadcastPermission valueOf(int value) {
       return forNumber(value);
     }
@@ -6245,18 +7104,12 @@ public final class Enums {
      */
     public static EBroadcastPermission forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EBroadcastPermissionDisabled;
-        case 1:
-          return k_EBroadcastPermissionFriendsApprove;
-        case 2:
-          return k_EBroadcastPermissionFriendsAllowed;
-        case 3:
-          return k_EBroadcastPermissionPublic;
-        case 4:
-          return k_EBroadcastPermissionSubscribers;
-        default:
-          return null;
+        case 0: return k_EBroadcastPermissionDisabled;
+        case 1: return k_EBroadcastPermissionFriendsApprove;
+        case 2: return k_EBroadcastPermissionFriendsAllowed;
+        case 3: return k_EBroadcastPermissionPublic;
+        case 4: return k_EBroadcastPermissionSubscribers;
+        default: return null;
       }
     }
 
@@ -6264,25 +7117,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EBroadcastPermission>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EBroadcastPermission>() {
-              public EBroadcastPermission findValueByNumber(int number) {
-                return EBroadcastPermission.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EBroadcastPermission> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EBroadcastPermission>() {
+            public EBroadcastPermission findValueByNumber(int number) {
+              return EBroadcastPermission.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(48);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(48);
     }
 
     private static final EBroadcastPermission[] VALUES = values();
@@ -6290,7 +7143,8 @@ public final class Enums {
     public static EBroadcastPermission valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -6304,30 +7158,40 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EBroadcastPermission)
   }
 
-  /** Protobuf enum {@code EBroadcastEncoderSetting} */
-  public enum EBroadcastEncoderSetting implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EBroadcastEncoderBestQuality = 0;</code> */
+  /**
+   * Protobuf enum {@code EBroadcastEncoderSetting}
+   */
+  public enum EBroadcastEncoderSetting
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EBroadcastEncoderBestQuality = 0;</code>
+     */
     k_EBroadcastEncoderBestQuality(0),
-    /** <code>k_EBroadcastEncoderBestPerformance = 1;</code> */
+    /**
+     * <code>k_EBroadcastEncoderBestPerformance = 1;</code>
+     */
     k_EBroadcastEncoderBestPerformance(1),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EBroadcastEncoderSetting.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EBroadcastEncoderSetting.class.getName());
     }
-
-    /** <code>k_EBroadcastEncoderBestQuality = 0;</code> */
+    /**
+     * <code>k_EBroadcastEncoderBestQuality = 0;</code>
+     */
     public static final int k_EBroadcastEncoderBestQuality_VALUE = 0;
-
-    /** <code>k_EBroadcastEncoderBestPerformance = 1;</code> */
+    /**
+     * <code>k_EBroadcastEncoderBestPerformance = 1;</code>
+     */
     public static final int k_EBroadcastEncoderBestPerformance_VALUE = 1;
 
+
     public final int getNumber() {
       return value;
     }
@@ -6337,7 +7201,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EBroadcastEncoderSetting valueOf(int value) {
       return forNumber(value);
     }
@@ -6348,12 +7212,9 @@ public final class Enums {
      */
     public static EBroadcastEncoderSetting forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EBroadcastEncoderBestQuality;
-        case 1:
-          return k_EBroadcastEncoderBestPerformance;
-        default:
-          return null;
+        case 0: return k_EBroadcastEncoderBestQuality;
+        case 1: return k_EBroadcastEncoderBestPerformance;
+        default: return null;
       }
     }
 
@@ -6361,25 +7222,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EBroadcastEncoderSetting>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EBroadcastEncoderSetting>() {
-              public EBroadcastEncoderSetting findValueByNumber(int number) {
-                return EBroadcastEncoderSetting.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EBroadcastEncoderSetting> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EBroadcastEncoderSetting>() {
+            public EBroadcastEncoderSetting findValueByNumber(int number) {
+              return EBroadcastEncoderSetting.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(49);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(49);
     }
 
     private static final EBroadcastEncoderSetting[] VALUES = values();
@@ -6387,7 +7248,8 @@ public final class Enums {
     public static EBroadcastEncoderSetting valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -6401,35 +7263,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EBroadcastEncoderSetting)
   }
 
-  /** Protobuf enum {@code ECloudGamingPlatform} */
-  public enum ECloudGamingPlatform implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ECloudGamingPlatformNone = 0;</code> */
+  /**
+   * Protobuf enum {@code ECloudGamingPlatform}
+   */
+  public enum ECloudGamingPlatform
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ECloudGamingPlatformNone = 0;</code>
+     */
     k_ECloudGamingPlatformNone(0),
-    /** <code>k_ECloudGamingPlatformValve = 1;</code> */
+    /**
+     * <code>k_ECloudGamingPlatformValve = 1;</code>
+     */
     k_ECloudGamingPlatformValve(1),
-    /** <code>k_ECloudGamingPlatformNVIDIA = 2;</code> */
+    /**
+     * <code>k_ECloudGamingPlatformNVIDIA = 2;</code>
+     */
     k_ECloudGamingPlatformNVIDIA(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ECloudGamingPlatform.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ECloudGamingPlatform.class.getName());
     }
-
-    /** <code>k_ECloudGamingPlatformNone = 0;</code> */
+    /**
+     * <code>k_ECloudGamingPlatformNone = 0;</code>
+     */
     public static final int k_ECloudGamingPlatformNone_VALUE = 0;
-
-    /** <code>k_ECloudGamingPlatformValve = 1;</code> */
+    /**
+     * <code>k_ECloudGamingPlatformValve = 1;</code>
+     */
     public static final int k_ECloudGamingPlatformValve_VALUE = 1;
-
-    /** <code>k_ECloudGamingPlatformNVIDIA = 2;</code> */
+    /**
+     * <code>k_ECloudGamingPlatformNVIDIA = 2;</code>
+     */
     public static final int k_ECloudGamingPlatformNVIDIA_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -6439,7 +7314,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ECloudGamingPlatform valueOf(int value) {
       return forNumber(value);
     }
@@ -6450,14 +7325,10 @@ public final class Enums {
      */
     public static ECloudGamingPlatform forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ECloudGamingPlatformNone;
-        case 1:
-          return k_ECloudGamingPlatformValve;
-        case 2:
-          return k_ECloudGamingPlatformNVIDIA;
-        default:
-          return null;
+        case 0: return k_ECloudGamingPlatformNone;
+        case 1: return k_ECloudGamingPlatformValve;
+        case 2: return k_ECloudGamingPlatformNVIDIA;
+        default: return null;
       }
     }
 
@@ -6465,25 +7336,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ECloudGamingPlatform>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ECloudGamingPlatform>() {
-              public ECloudGamingPlatform findValueByNumber(int number) {
-                return ECloudGamingPlatform.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ECloudGamingPlatform> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ECloudGamingPlatform>() {
+            public ECloudGamingPlatform findValueByNumber(int number) {
+              return ECloudGamingPlatform.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(50);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(50);
     }
 
     private static final ECloudGamingPlatform[] VALUES = values();
@@ -6491,7 +7362,8 @@ public final class Enums {
     public static ECloudGamingPlatform valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -6505,35 +7377,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ECloudGamingPlatform)
   }
 
-  /** Protobuf enum {@code ECompromiseDetectionType} */
-  public enum ECompromiseDetectionType implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_ECompromiseDetectionType_None = 0;</code> */
+  /**
+   * Protobuf enum {@code ECompromiseDetectionType}
+   */
+  public enum ECompromiseDetectionType
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_ECompromiseDetectionType_None = 0;</code>
+     */
     k_ECompromiseDetectionType_None(0),
-    /** <code>k_ECompromiseDetectionType_TradeEvent = 1;</code> */
+    /**
+     * <code>k_ECompromiseDetectionType_TradeEvent = 1;</code>
+     */
     k_ECompromiseDetectionType_TradeEvent(1),
-    /** <code>k_ECompromiseDetectionType_ApiCallRate = 2;</code> */
+    /**
+     * <code>k_ECompromiseDetectionType_ApiCallRate = 2;</code>
+     */
     k_ECompromiseDetectionType_ApiCallRate(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          ECompromiseDetectionType.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        ECompromiseDetectionType.class.getName());
     }
-
-    /** <code>k_ECompromiseDetectionType_None = 0;</code> */
+    /**
+     * <code>k_ECompromiseDetectionType_None = 0;</code>
+     */
     public static final int k_ECompromiseDetectionType_None_VALUE = 0;
-
-    /** <code>k_ECompromiseDetectionType_TradeEvent = 1;</code> */
+    /**
+     * <code>k_ECompromiseDetectionType_TradeEvent = 1;</code>
+     */
     public static final int k_ECompromiseDetectionType_TradeEvent_VALUE = 1;
-
-    /** <code>k_ECompromiseDetectionType_ApiCallRate = 2;</code> */
+    /**
+     * <code>k_ECompromiseDetectionType_ApiCallRate = 2;</code>
+     */
     public static final int k_ECompromiseDetectionType_ApiCallRate_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -6543,7 +7428,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static ECompromiseDetectionType valueOf(int value) {
       return forNumber(value);
     }
@@ -6554,14 +7439,10 @@ public final class Enums {
      */
     public static ECompromiseDetectionType forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_ECompromiseDetectionType_None;
-        case 1:
-          return k_ECompromiseDetectionType_TradeEvent;
-        case 2:
-          return k_ECompromiseDetectionType_ApiCallRate;
-        default:
-          return null;
+        case 0: return k_ECompromiseDetectionType_None;
+        case 1: return k_ECompromiseDetectionType_TradeEvent;
+        case 2: return k_ECompromiseDetectionType_ApiCallRate;
+        default: return null;
       }
     }
 
@@ -6569,25 +7450,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<ECompromiseDetectionType>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<ECompromiseDetectionType>() {
-              public ECompromiseDetectionType findValueByNumber(int number) {
-                return ECompromiseDetectionType.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        ECompromiseDetectionType> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<ECompromiseDetectionType>() {
+            public ECompromiseDetectionType findValueByNumber(int number) {
+              return ECompromiseDetectionType.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(51);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(51);
     }
 
     private static final ECompromiseDetectionType[] VALUES = values();
@@ -6595,7 +7476,8 @@ public final class Enums {
     public static ECompromiseDetectionType valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -6609,40 +7491,56 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:ECompromiseDetectionType)
   }
 
-  /** Protobuf enum {@code EAsyncGameSessionUserState} */
-  public enum EAsyncGameSessionUserState implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EAsyncGameSessionUserStateUnknown = -1;</code> */
+  /**
+   * Protobuf enum {@code EAsyncGameSessionUserState}
+   */
+  public enum EAsyncGameSessionUserState
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EAsyncGameSessionUserStateUnknown = -1;</code>
+     */
     k_EAsyncGameSessionUserStateUnknown(-1),
-    /** <code>k_EAsyncGameSessionUserStateWaitingForOthers = 0;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserStateWaitingForOthers = 0;</code>
+     */
     k_EAsyncGameSessionUserStateWaitingForOthers(0),
-    /** <code>k_EAsyncGameSessionUserStateReadyForAction = 1;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserStateReadyForAction = 1;</code>
+     */
     k_EAsyncGameSessionUserStateReadyForAction(1),
-    /** <code>k_EAsyncGameSessionUserStateDone = 2;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserStateDone = 2;</code>
+     */
     k_EAsyncGameSessionUserStateDone(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EAsyncGameSessionUserState.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EAsyncGameSessionUserState.class.getName());
     }
-
-    /** <code>k_EAsyncGameSessionUserStateUnknown = -1;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserStateUnknown = -1;</code>
+     */
     public static final int k_EAsyncGameSessionUserStateUnknown_VALUE = -1;
-
-    /** <code>k_EAsyncGameSessionUserStateWaitingForOthers = 0;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserStateWaitingForOthers = 0;</code>
+     */
     public static final int k_EAsyncGameSessionUserStateWaitingForOthers_VALUE = 0;
-
-    /** <code>k_EAsyncGameSessionUserStateReadyForAction = 1;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserStateReadyForAction = 1;</code>
+     */
     public static final int k_EAsyncGameSessionUserStateReadyForAction_VALUE = 1;
-
-    /** <code>k_EAsyncGameSessionUserStateDone = 2;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserStateDone = 2;</code>
+     */
     public static final int k_EAsyncGameSessionUserStateDone_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -6652,7 +7550,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EAsyncGameSessionUserState valueOf(int value) {
       return forNumber(value);
     }
@@ -6663,16 +7561,11 @@ public final class Enums {
      */
     public static EAsyncGameSessionUserState forNumber(int value) {
       switch (value) {
-        case -1:
-          return k_EAsyncGameSessionUserStateUnknown;
-        case 0:
-          return k_EAsyncGameSessionUserStateWaitingForOthers;
-        case 1:
-          return k_EAsyncGameSessionUserStateReadyForAction;
-        case 2:
-          return k_EAsyncGameSessionUserStateDone;
-        default:
-          return null;
+        case -1: return k_EAsyncGameSessionUserStateUnknown;
+        case 0: return k_EAsyncGameSessionUserStateWaitingForOthers;
+        case 1: return k_EAsyncGameSessionUserStateReadyForAction;
+        case 2: return k_EAsyncGameSessionUserStateDone;
+        default: return null;
       }
     }
 
@@ -6680,25 +7573,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EAsyncGameSessionUserState>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EAsyncGameSessionUserState>() {
-              public EAsyncGameSessionUserState findValueByNumber(int number) {
-                return EAsyncGameSessionUserState.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EAsyncGameSessionUserState> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EAsyncGameSessionUserState>() {
+            public EAsyncGameSessionUserState findValueByNumber(int number) {
+              return EAsyncGameSessionUserState.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(52);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(52);
     }
 
     private static final EAsyncGameSessionUserState[] VALUES = values();
@@ -6706,7 +7599,8 @@ public final class Enums {
     public static EAsyncGameSessionUserState valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -6720,35 +7614,48 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EAsyncGameSessionUserState)
   }
 
-  /** Protobuf enum {@code EAsyncGameSessionUserVisibility} */
-  public enum EAsyncGameSessionUserVisibility implements com.google.protobuf.ProtocolMessageEnum {
-    /** <code>k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList = 0;</code> */
+  /**
+   * Protobuf enum {@code EAsyncGameSessionUserVisibility}
+   */
+  public enum EAsyncGameSessionUserVisibility
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList = 0;</code>
+     */
     k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList(0),
-    /** <code>k_EAsyncGameSessionUserVisibilitySessionListOnly = 1;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserVisibilitySessionListOnly = 1;</code>
+     */
     k_EAsyncGameSessionUserVisibilitySessionListOnly(1),
-    /** <code>k_EAsyncGameSessionUserVisibilityDismissed = 2;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserVisibilityDismissed = 2;</code>
+     */
     k_EAsyncGameSessionUserVisibilityDismissed(2),
     ;
 
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          EAsyncGameSessionUserVisibility.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        EAsyncGameSessionUserVisibility.class.getName());
     }
-
-    /** <code>k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList = 0;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList = 0;</code>
+     */
     public static final int k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList_VALUE = 0;
-
-    /** <code>k_EAsyncGameSessionUserVisibilitySessionListOnly = 1;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserVisibilitySessionListOnly = 1;</code>
+     */
     public static final int k_EAsyncGameSessionUserVisibilitySessionListOnly_VALUE = 1;
-
-    /** <code>k_EAsyncGameSessionUserVisibilityDismissed = 2;</code> */
+    /**
+     * <code>k_EAsyncGameSessionUserVisibilityDismissed = 2;</code>
+     */
     public static final int k_EAsyncGameSessionUserVisibilityDismissed_VALUE = 2;
 
+
     public final int getNumber() {
       return value;
     }
@@ -6758,7 +7665,7 @@ public final class Enums {
      * @return The enum associated with the given numeric wire value.
      * @deprecated Use {@link #forNumber(int)} instead.
      */
-    @Deprecated
+    @java.lang.Deprecated
     public static EAsyncGameSessionUserVisibility valueOf(int value) {
       return forNumber(value);
     }
@@ -6769,14 +7676,10 @@ public final class Enums {
      */
     public static EAsyncGameSessionUserVisibility forNumber(int value) {
       switch (value) {
-        case 0:
-          return k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList;
-        case 1:
-          return k_EAsyncGameSessionUserVisibilitySessionListOnly;
-        case 2:
-          return k_EAsyncGameSessionUserVisibilityDismissed;
-        default:
-          return null;
+        case 0: return k_EAsyncGameSessionUserVisibilityEnvelopeAndSessionList;
+        case 1: return k_EAsyncGameSessionUserVisibilitySessionListOnly;
+        case 2: return k_EAsyncGameSessionUserVisibilityDismissed;
+        default: return null;
       }
     }
 
@@ -6784,25 +7687,25 @@ public final class Enums {
         internalGetValueMap() {
       return internalValueMap;
     }
-
-    private static final com.google.protobuf.Internal.EnumLiteMap<EAsyncGameSessionUserVisibility>
-        internalValueMap =
-            new com.google.protobuf.Internal.EnumLiteMap<EAsyncGameSessionUserVisibility>() {
-              public EAsyncGameSessionUserVisibility findValueByNumber(int number) {
-                return EAsyncGameSessionUserVisibility.forNumber(number);
-              }
-            };
-
-    public final com.google.protobuf.Descriptors.EnumValueDescriptor getValueDescriptor() {
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        EAsyncGameSessionUserVisibility> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<EAsyncGameSessionUserVisibility>() {
+            public EAsyncGameSessionUserVisibility findValueByNumber(int number) {
+              return EAsyncGameSessionUserVisibility.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
       return getDescriptor().getValues().get(ordinal());
     }
-
-    public final com.google.protobuf.Descriptors.EnumDescriptor getDescriptorForType() {
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
       return getDescriptor();
     }
-
-    public static final com.google.protobuf.Descriptors.EnumDescriptor getDescriptor() {
-      return Enums.getDescriptor().getEnumTypes().get(53);
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.Enums.getDescriptor().getEnumTypes().get(53);
     }
 
     private static final EAsyncGameSessionUserVisibility[] VALUES = values();
@@ -6810,7 +7713,8 @@ public final class Enums {
     public static EAsyncGameSessionUserVisibility valueOf(
         com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
       if (desc.getType() != getDescriptor()) {
-        throw new IllegalArgumentException("EnumValueDescriptor is not for this type.");
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
       }
       return VALUES[desc.getIndex()];
     }
@@ -6824,396 +7728,396 @@ public final class Enums {
     // @@protoc_insertion_point(enum_scope:EAsyncGameSessionUserVisibility)
   }
 
-  public static com.google.protobuf.Descriptors.FileDescriptor getDescriptor() {
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
     return descriptor;
   }
-
-  private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
-
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
   static {
-    String[] descriptorData = {
-      "\n\013enums.proto\032\030steammessages_base.proto*"
-          + "\200\n\n\027EPublishedFileQueryType\022)\n%k_Publish"
-          + "edFileQueryType_RankedByVote\020\000\0224\n0k_Publ"
-          + "ishedFileQueryType_RankedByPublicationDa"
-          + "te\020\001\022B\n>k_PublishedFileQueryType_Accepte"
-          + "dForGameRankedByAcceptanceDate\020\002\022*\n&k_Pu"
-          + "blishedFileQueryType_RankedByTrend\020\003\022F\nB"
-          + "k_PublishedFileQueryType_FavoritedByFrie"
-          + "ndsRankedByPublicationDate\020\004\022D\n@k_Publis"
-          + "hedFileQueryType_CreatedByFriendsRankedB"
-          + "yPublicationDate\020\005\0225\n1k_PublishedFileQue"
-          + "ryType_RankedByNumTimesReported\020\006\022J\nFk_P"
-          + "ublishedFileQueryType_CreatedByFollowedU"
-          + "sersRankedByPublicationDate\020\007\022(\n$k_Publi"
-          + "shedFileQueryType_NotYetRated\020\010\022=\n9k_Pub"
-          + "lishedFileQueryType_RankedByTotalUniqueS"
-          + "ubscriptions\020\t\0222\n.k_PublishedFileQueryTy"
-          + "pe_RankedByTotalVotesAsc\020\n\022,\n(k_Publishe"
-          + "dFileQueryType_RankedByVotesUp\020\013\022/\n+k_Pu"
-          + "blishedFileQueryType_RankedByTextSearch\020"
-          + "\014\0222\n.k_PublishedFileQueryType_RankedByPl"
-          + "aytimeTrend\020\r\0222\n.k_PublishedFileQueryTyp"
-          + "e_RankedByTotalPlaytime\020\016\0229\n5k_Published"
-          + "FileQueryType_RankedByAveragePlaytimeTre"
-          + "nd\020\017\022<\n8k_PublishedFileQueryType_RankedB"
-          + "yLifetimeAveragePlaytime\020\020\022:\n6k_Publishe"
-          + "dFileQueryType_RankedByPlaytimeSessionsT"
-          + "rend\020\021\022=\n9k_PublishedFileQueryType_Ranke"
-          + "dByLifetimePlaytimeSessions\020\022\022?\n;k_Publi"
-          + "shedFileQueryType_RankedByInappropriateC"
-          + "ontentRating\020\023\0224\n0k_PublishedFileQueryTy"
-          + "pe_RankedByBanContentCheck\020\024\0224\n0k_Publis"
-          + "hedFileQueryType_RankedByLastUpdatedDate"
-          + "\020\025*\274\001\n#EPublishedFileInappropriateProvid"
-          + "er\0221\n-k_EPublishedFileInappropriateProvi"
-          + "der_Invalid\020\000\0220\n,k_EPublishedFileInappro"
-          + "priateProvider_Google\020\001\0220\n,k_EPublishedF"
-          + "ileInappropriateProvider_Amazon\020\002*\325\002\n!EP"
-          + "ublishedFileInappropriateResult\0222\n.k_EPu"
-          + "blishedFileInappropriateResult_NotScanne"
-          + "d\020\000\0224\n0k_EPublishedFileInappropriateResu"
-          + "lt_VeryUnlikely\020\001\0220\n,k_EPublishedFileIna"
-          + "ppropriateResult_Unlikely\020\036\0220\n,k_EPublis"
-          + "hedFileInappropriateResult_Possible\0202\022.\n"
-          + "*k_EPublishedFileInappropriateResult_Lik"
-          + "ely\020K\0222\n.k_EPublishedFileInappropriateRe"
-          + "sult_VeryLikely\020d*\261\003\n\021EPersonaStateFlag\022"
-          + "\'\n#k_EPersonaStateFlag_HasRichPresence\020\001"
-          + "\022&\n\"k_EPersonaStateFlag_InJoinableGame\020\002"
-          + "\022\036\n\032k_EPersonaStateFlag_Golden\020\004\022*\n&k_EP"
-          + "ersonaStateFlag_RemotePlayTogether\020\010\022&\n!"
-          + "k_EPersonaStateFlag_ClientTypeWeb\020\200\002\022)\n$"
-          + "k_EPersonaStateFlag_ClientTypeMobile\020\200\004\022"
-          + "*\n%k_EPersonaStateFlag_ClientTypeTenfoot"
-          + "\020\200\010\022%\n k_EPersonaStateFlag_ClientTypeVR\020"
-          + "\200\020\022*\n%k_EPersonaStateFlag_LaunchTypeGame"
-          + "pad\020\200 \022-\n(k_EPersonaStateFlag_LaunchType"
-          + "CompatTool\020\200@*\336\001\n\025EContentCheckProvider\022"
-          + "#\n\037k_EContentCheckProvider_Invalid\020\000\022-\n)"
-          + "k_EContentCheckProvider_Google_DEPRECATE"
-          + "D\020\001\022\"\n\036k_EContentCheckProvider_Amazon\020\002\022"
-          + "!\n\035k_EContentCheckProvider_Local\020\003\022*\n&k_"
-          + "EContentCheckProvider_GoogleVertexAI\020\004*\223"
-          + "\t\n\031EProfileCustomizationType\022&\n\"k_EProfi"
-          + "leCustomizationTypeInvalid\020\000\0226\n2k_EProfi"
-          + "leCustomizationTypeRareAchievementShowca"
-          + "se\020\001\022,\n(k_EProfileCustomizationTypeGameC"
-          + "ollector\020\002\022+\n\'k_EProfileCustomizationTyp"
-          + "eItemShowcase\020\003\022,\n(k_EProfileCustomizati"
-          + "onTypeTradeShowcase\020\004\022%\n!k_EProfileCusto"
-          + "mizationTypeBadges\020\005\022+\n\'k_EProfileCustom"
-          + "izationTypeFavoriteGame\020\006\0221\n-k_EProfileC"
-          + "ustomizationTypeScreenshotShowcase\020\007\022)\n%"
-          + "k_EProfileCustomizationTypeCustomText\020\010\022"
-          + ",\n(k_EProfileCustomizationTypeFavoriteGr"
-          + "oup\020\t\022-\n)k_EProfileCustomizationTypeReco"
-          + "mmendation\020\n\022+\n\'k_EProfileCustomizationT"
-          + "ypeWorkshopItem\020\013\022)\n%k_EProfileCustomiza"
-          + "tionTypeMyWorkshop\020\014\022.\n*k_EProfileCustom"
-          + "izationTypeArtworkShowcase\020\r\022,\n(k_EProfi"
-          + "leCustomizationTypeVideoShowcase\020\016\022%\n!k_"
-          + "EProfileCustomizationTypeGuides\020\017\022\'\n#k_E"
-          + "ProfileCustomizationTypeMyGuides\020\020\022+\n\'k_"
-          + "EProfileCustomizationTypeAchievements\020\021\022"
-          + ")\n%k_EProfileCustomizationTypeGreenlight"
-          + "\020\022\022+\n\'k_EProfileCustomizationTypeMyGreen"
-          + "light\020\023\022%\n!k_EProfileCustomizationTypeSa"
-          + "lien\020\024\0225\n1k_EProfileCustomizationTypeLoy"
-          + "altyRewardReactions\020\025\0224\n0k_EProfileCusto"
-          + "mizationTypeSingleArtworkShowcase\020\026\0228\n4k"
-          + "_EProfileCustomizationTypeAchievementsCo"
-          + "mpletionist\020\027\022%\n!k_EProfileCustomization"
-          + "TypeReplay\020\030*\310\001\n\033EPublishedFileStorageSy"
-          + "stem\022(\n$k_EPublishedFileStorageSystemInv"
-          + "alid\020\000\022,\n(k_EPublishedFileStorageSystemL"
-          + "egacyCloud\020\001\022&\n\"k_EPublishedFileStorageS"
-          + "ystemDepot\020\002\022)\n%k_EPublishedFileStorageS"
-          + "ystemUGCCloud\020\003*\227\001\n\031ECloudStoragePersist"
-          + "State\022(\n$k_ECloudStoragePersistStatePers"
-          + "isted\020\000\022(\n$k_ECloudStoragePersistStateFo"
-          + "rgotten\020\001\022&\n\"k_ECloudStoragePersistState"
-          + "Deleted\020\002*\350\001\n\022ESDCardFormatStage\022 \n\034k_ES"
-          + "DCardFormatStage_Invalid\020\000\022!\n\035k_ESDCardF"
-          + "ormatStage_Starting\020\001\022 \n\034k_ESDCardFormat"
-          + "Stage_Testing\020\002\022!\n\035k_ESDCardFormatStage_"
-          + "Rescuing\020\003\022#\n\037k_ESDCardFormatStage_Forma"
-          + "tting\020\004\022#\n\037k_ESDCardFormatStage_Finalizi"
-          + "ng\020\005*\225\002\n\023EStorageFormatStage\022!\n\035k_EStora"
-          + "geFormatStage_Invalid\020\000\022$\n k_EStorageFor"
-          + "matStage_NotRunning\020\001\022\"\n\036k_EStorageForma"
-          + "tStage_Starting\020\002\022!\n\035k_EStorageFormatSta"
-          + "ge_Testing\020\003\022\"\n\036k_EStorageFormatStage_Re"
-          + "scuing\020\004\022$\n k_EStorageFormatStage_Format"
-          + "ting\020\005\022$\n k_EStorageFormatStage_Finalizi"
-          + "ng\020\006*\204\001\n\025ESystemFanControlMode\022\"\n\036k_Syst"
-          + "emFanControlMode_Invalid\020\000\022#\n\037k_SystemFa"
-          + "nControlMode_Disabled\020\001\022\"\n\036k_SystemFanCo"
-          + "ntrolMode_Default\020\002*\201\001\n\024EStartupMovieVar"
-          + "iant\022\"\n\036k_EStartupMovieVariant_Invalid\020\000"
-          + "\022\"\n\036k_EStartupMovieVariant_Default\020\001\022!\n\035"
-          + "k_EStartupMovieVariant_Orange\020\002*\213\001\n\023ECol"
-          + "orGamutLabelSet\022 \n\034k_ColorGamutLabelSet_"
-          + "Default\020\000\022$\n k_ColorGamutLabelSet_sRGB_N"
-          + "ative\020\001\022,\n(k_ColorGamutLabelSet_Native_s"
-          + "RGB_Boosted\020\002*\300\003\n\024EBluetoothDeviceType\022!"
-          + "\n\035k_BluetoothDeviceType_Invalid\020\000\022!\n\035k_B"
-          + "luetoothDeviceType_Unknown\020\001\022\037\n\033k_Blueto"
-          + "othDeviceType_Phone\020\002\022\"\n\036k_BluetoothDevi"
-          + "ceType_Computer\020\003\022!\n\035k_BluetoothDeviceTy"
-          + "pe_Headset\020\004\022$\n k_BluetoothDeviceType_He"
-          + "adphones\020\005\022\"\n\036k_BluetoothDeviceType_Spea"
-          + "kers\020\006\022$\n k_BluetoothDeviceType_OtherAud"
-          + "io\020\007\022\037\n\033k_BluetoothDeviceType_Mouse\020\010\022\"\n"
-          + "\036k_BluetoothDeviceType_Joystick\020\t\022!\n\035k_B"
-          + "luetoothDeviceType_Gamepad\020\n\022\"\n\036k_Blueto"
-          + "othDeviceType_Keyboard\020\013*\200\001\n\025ESystemAudi"
-          + "oDirection\022\"\n\036k_SystemAudioDirection_Inv"
-          + "alid\020\000\022 \n\034k_SystemAudioDirection_Input\020\001"
-          + "\022!\n\035k_SystemAudioDirection_Output\020\002*\361\002\n\023"
-          + "ESystemAudioChannel\022 \n\034k_SystemAudioChan"
-          + "nel_Invalid\020\000\022#\n\037k_SystemAudioChannel_Ag"
-          + "gregated\020\001\022\"\n\036k_SystemAudioChannel_Front"
-          + "Left\020\002\022#\n\037k_SystemAudioChannel_FrontRigh"
-          + "t\020\003\022\034\n\030k_SystemAudioChannel_LFE\020\004\022!\n\035k_S"
-          + "ystemAudioChannel_BackLeft\020\005\022\"\n\036k_System"
-          + "AudioChannel_BackRight\020\006\022$\n k_SystemAudi"
-          + "oChannel_FrontCenter\020\007\022 \n\034k_SystemAudioC"
-          + "hannel_Unknown\020\010\022\035\n\031k_SystemAudioChannel"
-          + "_Mono\020\t*\311\001\n\024ESystemAudioPortType\022!\n\035k_Sy"
-          + "stemAudioPortType_Invalid\020\000\022!\n\035k_SystemA"
-          + "udioPortType_Unknown\020\001\022\"\n\036k_SystemAudioP"
-          + "ortType_Audio32f\020\002\022 \n\034k_SystemAudioPortT"
-          + "ype_Midi8b\020\003\022%\n!k_SystemAudioPortType_Vi"
-          + "deo32RGBA\020\004*\220\001\n\031ESystemAudioPortDirectio"
-          + "n\022&\n\"k_SystemAudioPortDirection_Invalid\020"
-          + "\000\022$\n k_SystemAudioPortDirection_Input\020\001\022"
-          + "%\n!k_SystemAudioPortDirection_Output\020\002*\203"
-          + "\001\n\023ESystemServiceState\022%\n!k_ESystemServi"
-          + "ceState_Unavailable\020\000\022\"\n\036k_ESystemServic"
-          + "eState_Disabled\020\001\022!\n\035k_ESystemServiceSta"
-          + "te_Enabled\020\002*\341\001\n\031EGraphicsPerfOverlayLev"
-          + "el\022&\n\"k_EGraphicsPerfOverlayLevel_Hidden"
-          + "\020\000\022%\n!k_EGraphicsPerfOverlayLevel_Basic\020"
-          + "\001\022&\n\"k_EGraphicsPerfOverlayLevel_Medium\020"
-          + "\002\022$\n k_EGraphicsPerfOverlayLevel_Full\020\003\022"
-          + "\'\n#k_EGraphicsPerfOverlayLevel_Minimal\020\004"
-          + "*\345\001\n\024EGPUPerformanceLevel\022\"\n\036k_EGPUPerfo"
-          + "rmanceLevel_Invalid\020\000\022\037\n\033k_EGPUPerforman"
-          + "ceLevel_Auto\020\001\022!\n\035k_EGPUPerformanceLevel"
-          + "_Manual\020\002\022\036\n\032k_EGPUPerformanceLevel_Low\020"
-          + "\003\022\037\n\033k_EGPUPerformanceLevel_High\020\004\022$\n k_"
-          + "EGPUPerformanceLevel_Profiling\020\005*\273\001\n\016ESc"
-          + "alingFilter\022\034\n\030k_EScalingFilter_Invalid\020"
-          + "\000\022\030\n\024k_EScalingFilter_FSR\020\001\022\034\n\030k_EScalin"
-          + "gFilter_Nearest\020\002\022\034\n\030k_EScalingFilter_In"
-          + "teger\020\003\022\033\n\027k_EScalingFilter_Linear\020\004\022\030\n\024"
-          + "k_EScalingFilter_NIS\020\005*\273\001\n\023ESplitScaling"
-          + "Filter\022!\n\035k_ESplitScalingFilter_Invalid\020"
-          + "\000\022 \n\034k_ESplitScalingFilter_Linear\020\001\022!\n\035k"
-          + "_ESplitScalingFilter_Nearest\020\002\022\035\n\031k_ESpl"
-          + "itScalingFilter_FSR\020\003\022\035\n\031k_ESplitScaling"
-          + "Filter_NIS\020\004*\335\001\n\023ESplitScalingScaler\022!\n\035"
-          + "k_ESplitScalingScaler_Invalid\020\000\022\036\n\032k_ESp"
-          + "litScalingScaler_Auto\020\001\022!\n\035k_ESplitScali"
-          + "ngScaler_Integer\020\002\022\035\n\031k_ESplitScalingSca"
-          + "ler_Fit\020\003\022\036\n\032k_ESplitScalingScaler_Fill\020"
-          + "\004\022!\n\035k_ESplitScalingScaler_Stretch\020\005*}\n\022"
-          + "EGamescopeBlurMode\022!\n\035k_EGamescopeBlurMo"
-          + "de_Disabled\020\000\022#\n\037k_EGamescopeBlurMode_If"
-          + "Occluded\020\001\022\037\n\033k_EGamescopeBlurMode_Alway"
-          + "s\020\002*\246\001\n\nESLSHelper\022\030\n\024k_ESLSHelper_Inval"
-          + "id\020\000\022\031\n\025k_ESLSHelper_Minidump\020\001\022\026\n\022k_ESL"
-          + "SHelper_Kdump\020\002\022\030\n\024k_ESLSHelper_Journal\020"
-          + "\003\022\024\n\020k_ESLSHelper_Gpu\020\004\022\033\n\027k_ESLSHelper_"
-          + "SystemInfo\020\005*\305\001\n\021EHDRVisualization\022\034\n\030k_"
-          + "EHDRVisualization_None\020\000\022\037\n\033k_EHDRVisual"
-          + "ization_Heatmap\020\001\022 \n\034k_EHDRVisualization"
-          + "_Analysis\020\002\022\'\n#k_EHDRVisualization_Heatm"
-          + "apExtended\020\003\022&\n\"k_EHDRVisualization_Heat"
-          + "mapClassic\020\004*\201\001\n\023EHDRToneMapOperator\022!\n\035"
-          + "k_EHDRToneMapOperator_Invalid\020\000\022#\n\037k_EHD"
-          + "RToneMapOperator_Uncharted\020\001\022\"\n\036k_EHDRTo"
-          + "neMapOperator_Reinhard\020\002*|\n\014ECPUGovernor"
-          + "\022\032\n\026k_ECPUGovernor_Invalid\020\000\022\027\n\023k_ECPUGo"
-          + "vernor_Perf\020\001\022\034\n\030k_ECPUGovernor_Powersav"
-          + "e\020\002\022\031\n\025k_ECPUGovernor_Manual\020\003*\342\001\n\014EUpda"
-          + "terType\022\032\n\026k_EUpdaterType_Invalid\020\000\022\031\n\025k"
-          + "_EUpdaterType_Client\020\001\022\025\n\021k_EUpdaterType"
-          + "_OS\020\002\022\027\n\023k_EUpdaterType_BIOS\020\003\022\035\n\031k_EUpd"
-          + "aterType_Aggregated\020\004\022\030\n\024k_EUpdaterType_"
-          + "Test1\020\005\022\030\n\024k_EUpdaterType_Test2\020\006\022\030\n\024k_E"
-          + "UpdaterType_Dummy\020\007*\371\001\n\rEUpdaterState\022\033\n"
-          + "\027k_EUpdaterState_Invalid\020\000\022\034\n\030k_EUpdater"
-          + "State_UpToDate\020\002\022\034\n\030k_EUpdaterState_Chec"
-          + "king\020\003\022\035\n\031k_EUpdaterState_Available\020\004\022\034\n"
-          + "\030k_EUpdaterState_Applying\020\005\022(\n$k_EUpdate"
-          + "rState_ClientRestartPending\020\006\022(\n$k_EUpda"
-          + "terState_SystemRestartPending\020\007*\341\001\n\030ESto"
-          + "rageBlockContentType\022&\n\"k_EStorageBlockC"
-          + "ontentType_Invalid\020\000\022&\n\"k_EStorageBlockC"
-          + "ontentType_Unknown\020\001\022)\n%k_EStorageBlockC"
-          + "ontentType_FileSystem\020\002\022%\n!k_EStorageBlo"
-          + "ckContentType_Crypto\020\003\022#\n\037k_EStorageBloc"
-          + "kContentType_Raid\020\004*\303\001\n\033EStorageBlockFil"
-          + "eSystemType\022)\n%k_EStorageBlockFileSystem"
-          + "Type_Invalid\020\000\022)\n%k_EStorageBlockFileSys"
-          + "temType_Unknown\020\001\022&\n\"k_EStorageBlockFile"
-          + "SystemType_VFat\020\002\022&\n\"k_EStorageBlockFile"
-          + "SystemType_Ext4\020\003*\320\001\n\026EStorageDriveMedia"
-          + "Type\022$\n k_EStorageDriveMediaType_Invalid"
-          + "\020\000\022$\n k_EStorageDriveMediaType_Unknown\020\001"
-          + "\022 \n\034k_EStorageDriveMediaType_HDD\020\002\022 \n\034k_"
-          + "EStorageDriveMediaType_SSD\020\003\022&\n\"k_EStora"
-          + "geDriveMediaType_Removable\020\004*\263\001\n\037ESystem"
-          + "DisplayCompatibilityMode\022-\n)k_ESystemDis"
-          + "playCompatibilityMode_Invalid\020\000\022*\n&k_ESy"
-          + "stemDisplayCompatibilityMode_None\020\001\0225\n1k"
-          + "_ESystemDisplayCompatibilityMode_Minimal"
-          + "Bandwith\020\002*\343\001\n\037ESteamDeckCompatibilityCa"
-          + "tegory\022-\n)k_ESteamDeckCompatibilityCateg"
-          + "ory_Unknown\020\000\0221\n-k_ESteamDeckCompatibili"
-          + "tyCategory_Unsupported\020\001\022.\n*k_ESteamDeck"
-          + "CompatibilityCategory_Playable\020\002\022.\n*k_ES"
-          + "teamDeckCompatibilityCategory_Verified\020\003"
-          + "*\320\002\n(ESteamDeckCompatibilityResultDispla"
-          + "yType\0228\n4k_ESteamDeckCompatibilityResult"
-          + "DisplayType_Invisible\020\000\022<\n8k_ESteamDeckC"
-          + "ompatibilityResultDisplayType_Informatio"
-          + "nal\020\001\022:\n6k_ESteamDeckCompatibilityResult"
-          + "DisplayType_Unsupported\020\002\0227\n3k_ESteamDec"
-          + "kCompatibilityResultDisplayType_Playable"
-          + "\020\003\0227\n3k_ESteamDeckCompatibilityResultDis"
-          + "playType_Verified\020\004*\232\002\n!ESteamDeckCompat"
-          + "ibilityTestResult\022/\n+k_ESteamDeckCompati"
-          + "bilityTestResult_Invalid\020\000\0225\n1k_ESteamDe"
-          + "ckCompatibilityTestResult_NotApplicable\020"
-          + "\001\022,\n(k_ESteamDeckCompatibilityTestResult"
-          + "_Pass\020\002\022,\n(k_ESteamDeckCompatibilityTest"
-          + "Result_Fail\020\003\0221\n-k_ESteamDeckCompatibili"
-          + "tyTestResult_FailMinor\020\004*w\n\010EACState\022\026\n\022"
-          + "k_EACState_Unknown\020\000\022\033\n\027k_EACState_Disco"
-          + "nnected\020\001\022\030\n\024k_EACState_Connected\020\002\022\034\n\030k"
-          + "_EACState_ConnectedSlow\020\003*\205\001\n\rEBatterySt"
-          + "ate\022\033\n\027k_EBatteryState_Unknown\020\000\022\037\n\033k_EB"
-          + "atteryState_Discharging\020\001\022\034\n\030k_EBatteryS"
-          + "tate_Charging\020\002\022\030\n\024k_EBatteryState_Full\020"
-          + "\003*\303\001\n\tEOSBranch\022\027\n\023k_EOSBranch_Unknown\020\000"
-          + "\022\027\n\023k_EOSBranch_Release\020\001\022 \n\034k_EOSBranch"
-          + "_ReleaseCandidate\020\002\022\024\n\020k_EOSBranch_Beta\020"
-          + "\003\022\035\n\031k_EOSBranch_BetaCandidate\020\004\022\024\n\020k_EO"
-          + "SBranch_Main\020\005\022\027\n\023k_EOSBranch_Staging\020\006*"
-          + "\335\005\n\023ECommunityItemClass\022!\n\035k_ECommunityI"
-          + "temClass_Invalid\020\000\022\037\n\033k_ECommunityItemCl"
-          + "ass_Badge\020\001\022\"\n\036k_ECommunityItemClass_Gam"
-          + "eCard\020\002\022+\n\'k_ECommunityItemClass_Profile"
-          + "Background\020\003\022\"\n\036k_ECommunityItemClass_Em"
-          + "oticon\020\004\022%\n!k_ECommunityItemClass_Booste"
-          + "rPack\020\005\022$\n k_ECommunityItemClass_Consuma"
-          + "ble\020\006\022!\n\035k_ECommunityItemClass_GameGoo\020\007"
-          + "\022)\n%k_ECommunityItemClass_ProfileModifie"
-          + "r\020\010\022\037\n\033k_ECommunityItemClass_Scene\020\t\022$\n "
-          + "k_ECommunityItemClass_SalienItem\020\n\022!\n\035k_"
-          + "ECommunityItemClass_Sticker\020\013\022$\n k_EComm"
-          + "unityItemClass_ChatEffect\020\014\022/\n+k_ECommun"
-          + "ityItemClass_MiniProfileBackground\020\r\022%\n!"
-          + "k_ECommunityItemClass_AvatarFrame\020\016\022(\n$k"
-          + "_ECommunityItemClass_AnimatedAvatar\020\017\022/\n"
-          + "+k_ECommunityItemClass_SteamDeckKeyboard"
-          + "Skin\020\020\022/\n+k_ECommunityItemClass_SteamDec"
-          + "kStartupMovie\020\021*\331\001\n\037ESteamDeckCompatibil"
-          + "ityFeedback\022+\n\'k_ESteamDeckCompatibility"
-          + "Feedback_Unset\020\000\022+\n\'k_ESteamDeckCompatib"
-          + "ilityFeedback_Agree\020\001\022.\n*k_ESteamDeckCom"
-          + "patibilityFeedback_Disagree\020\002\022,\n(k_EStea"
-          + "mDeckCompatibilityFeedback_Ignore\020\003*\237\001\n\036"
-          + "EProvideDeckFeedbackPreference\022*\n&k_EPro"
-          + "videDeckFeedbackPreference_Unset\020\000\022(\n$k_"
-          + "EProvideDeckFeedbackPreference_Yes\020\001\022\'\n#"
-          + "k_EProvideDeckFeedbackPreference_No\020\002*\261\003"
-          + "\n\rETouchGesture\022\027\n\023k_ETouchGestureNone\020\000"
-          + "\022\030\n\024k_ETouchGestureTouch\020\001\022\026\n\022k_ETouchGe"
-          + "stureTap\020\002\022\034\n\030k_ETouchGestureDoubleTap\020\003"
-          + "\022\035\n\031k_ETouchGestureShortPress\020\004\022\034\n\030k_ETo"
-          + "uchGestureLongPress\020\005\022\032\n\026k_ETouchGesture"
-          + "LongTap\020\006\022\037\n\033k_ETouchGestureTwoFingerTap"
-          + "\020\007\022\037\n\033k_ETouchGestureTapCancelled\020\010\022\035\n\031k"
-          + "_ETouchGesturePinchBegin\020\t\022\036\n\032k_ETouchGe"
-          + "sturePinchUpdate\020\n\022\033\n\027k_ETouchGesturePin"
-          + "chEnd\020\013\022\035\n\031k_ETouchGestureFlingStart\020\014\022!"
-          + "\n\035k_ETouchGestureFlingCancelled\020\r*\214\001\n\023ES"
-          + "essionPersistence\022*\n\035k_ESessionPersisten"
-          + "ce_Invalid\020\377\377\377\377\377\377\377\377\377\001\022#\n\037k_ESessionPersi"
-          + "stence_Ephemeral\020\000\022$\n k_ESessionPersiste"
-          + "nce_Persistent\020\001*\331\001\n\032ENewSteamAnnounceme"
-          + "ntState\022(\n$k_ENewSteamAnnouncementState_"
-          + "Invalid\020\000\022(\n$k_ENewSteamAnnouncementStat"
-          + "e_AllRead\020\001\0220\n,k_ENewSteamAnnouncementSt"
-          + "ate_NewAnnouncement\020\002\0225\n1k_ENewSteamAnno"
-          + "uncementState_FeaturedAnnouncement\020\003*\213\007\n"
-          + "\022ECommentThreadType\022\037\n\033k_ECommentThreadT"
-          + "ypeInvalid\020\000\022-\n)k_ECommentThreadTypeScre"
-          + "enshot_Deprecated\020\001\0221\n-k_ECommentThreadT"
-          + "ypeWorkshopAccount_Developer\020\002\022.\n*k_ECom"
-          + "mentThreadTypeWorkshopAccount_Public\020\003\022/"
-          + "\n+k_ECommentThreadTypePublishedFile_Deve"
-          + "loper\020\004\022,\n(k_ECommentThreadTypePublished"
-          + "File_Public\020\005\022\034\n\030k_ECommentThreadTypeTes"
-          + "t\020\006\022\"\n\036k_ECommentThreadTypeForumTopic\020\007\022"
-          + "&\n\"k_ECommentThreadTypeRecommendation\020\010\022"
-          + "(\n$k_ECommentThreadTypeVideo_Deprecated\020"
-          + "\t\022\037\n\033k_ECommentThreadTypeProfile\020\n\022 \n\034k_"
-          + "ECommentThreadTypeNewsPost\020\013\022\034\n\030k_EComme"
-          + "ntThreadTypeClan\020\014\022(\n$k_ECommentThreadTy"
-          + "peClanAnnouncement\020\r\022!\n\035k_ECommentThread"
-          + "TypeClanEvent\020\016\022+\n\'k_ECommentThreadTypeU"
-          + "serStatusPublished\020\017\022+\n\'k_ECommentThread"
-          + "TypeUserReceivedNewGame\020\020\0222\n.k_ECommentT"
-          + "hreadTypePublishedFile_Announcement\020\021\022(\n"
-          + "$k_ECommentThreadTypeModeratorMessage\020\022\022"
-          + "&\n\"k_ECommentThreadTypeClanCuratedApp\020\023\022"
-          + "$\n k_ECommentThreadTypeQAndASession\020\024\022\033\n"
-          + "\027k_ECommentThreadTypeMax\020\025*\327\001\n\024EBroadcas"
-          + "tPermission\022\"\n\036k_EBroadcastPermissionDis"
-          + "abled\020\000\022(\n$k_EBroadcastPermissionFriends"
-          + "Approve\020\001\022(\n$k_EBroadcastPermissionFrien"
-          + "dsAllowed\020\002\022 \n\034k_EBroadcastPermissionPub"
-          + "lic\020\003\022%\n!k_EBroadcastPermissionSubscribe"
-          + "rs\020\004*f\n\030EBroadcastEncoderSetting\022\"\n\036k_EB"
-          + "roadcastEncoderBestQuality\020\000\022&\n\"k_EBroad"
-          + "castEncoderBestPerformance\020\001*y\n\024ECloudGa"
-          + "mingPlatform\022\036\n\032k_ECloudGamingPlatformNo"
-          + "ne\020\000\022\037\n\033k_ECloudGamingPlatformValve\020\001\022 \n"
-          + "\034k_ECloudGamingPlatformNVIDIA\020\002*\226\001\n\030ECom"
-          + "promiseDetectionType\022#\n\037k_ECompromiseDet"
-          + "ectionType_None\020\000\022)\n%k_ECompromiseDetect"
-          + "ionType_TradeEvent\020\001\022*\n&k_ECompromiseDet"
-          + "ectionType_ApiCallRate\020\002*\326\001\n\032EAsyncGameS"
-          + "essionUserState\0220\n#k_EAsyncGameSessionUs"
-          + "erStateUnknown\020\377\377\377\377\377\377\377\377\377\001\0220\n,k_EAsyncGam"
-          + "eSessionUserStateWaitingForOthers\020\000\022.\n*k"
-          + "_EAsyncGameSessionUserStateReadyForActio"
-          + "n\020\001\022$\n k_EAsyncGameSessionUserStateDone\020"
-          + "\002*\304\001\n\037EAsyncGameSessionUserVisibility\022;\n"
-          + "7k_EAsyncGameSessionUserVisibilityEnvelo"
-          + "peAndSessionList\020\000\0224\n0k_EAsyncGameSessio"
-          + "nUserVisibilitySessionListOnly\020\001\022.\n*k_EA"
-          + "syncGameSessionUserVisibilityDismissed\020\002"
-          + "B\tH\001\200\001\001\200\265\030\001"
+    java.lang.String[] descriptorData = {
+      "\n\013enums.proto\032\030steammessages_base.proto*" +
+      "\200\n\n\027EPublishedFileQueryType\022)\n%k_Publish" +
+      "edFileQueryType_RankedByVote\020\000\0224\n0k_Publ" +
+      "ishedFileQueryType_RankedByPublicationDa" +
+      "te\020\001\022B\n>k_PublishedFileQueryType_Accepte" +
+      "dForGameRankedByAcceptanceDate\020\002\022*\n&k_Pu" +
+      "blishedFileQueryType_RankedByTrend\020\003\022F\nB" +
+      "k_PublishedFileQueryType_FavoritedByFrie" +
+      "ndsRankedByPublicationDate\020\004\022D\n@k_Publis" +
+      "hedFileQueryType_CreatedByFriendsRankedB" +
+      "yPublicationDate\020\005\0225\n1k_PublishedFileQue" +
+      "ryType_RankedByNumTimesReported\020\006\022J\nFk_P" +
+      "ublishedFileQueryType_CreatedByFollowedU" +
+      "sersRankedByPublicationDate\020\007\022(\n$k_Publi" +
+      "shedFileQueryType_NotYetRated\020\010\022=\n9k_Pub" +
+      "lishedFileQueryType_RankedByTotalUniqueS" +
+      "ubscriptions\020\t\0222\n.k_PublishedFileQueryTy" +
+      "pe_RankedByTotalVotesAsc\020\n\022,\n(k_Publishe" +
+      "dFileQueryType_RankedByVotesUp\020\013\022/\n+k_Pu" +
+      "blishedFileQueryType_RankedByTextSearch\020" +
+      "\014\0222\n.k_PublishedFileQueryType_RankedByPl" +
+      "aytimeTrend\020\r\0222\n.k_PublishedFileQueryTyp" +
+      "e_RankedByTotalPlaytime\020\016\0229\n5k_Published" +
+      "FileQueryType_RankedByAveragePlaytimeTre" +
+      "nd\020\017\022<\n8k_PublishedFileQueryType_RankedB" +
+      "yLifetimeAveragePlaytime\020\020\022:\n6k_Publishe" +
+      "dFileQueryType_RankedByPlaytimeSessionsT" +
+      "rend\020\021\022=\n9k_PublishedFileQueryType_Ranke" +
+      "dByLifetimePlaytimeSessions\020\022\022?\n;k_Publi" +
+      "shedFileQueryType_RankedByInappropriateC" +
+      "ontentRating\020\023\0224\n0k_PublishedFileQueryTy" +
+      "pe_RankedByBanContentCheck\020\024\0224\n0k_Publis" +
+      "hedFileQueryType_RankedByLastUpdatedDate" +
+      "\020\025*\274\001\n#EPublishedFileInappropriateProvid" +
+      "er\0221\n-k_EPublishedFileInappropriateProvi" +
+      "der_Invalid\020\000\0220\n,k_EPublishedFileInappro" +
+      "priateProvider_Google\020\001\0220\n,k_EPublishedF" +
+      "ileInappropriateProvider_Amazon\020\002*\325\002\n!EP" +
+      "ublishedFileInappropriateResult\0222\n.k_EPu" +
+      "blishedFileInappropriateResult_NotScanne" +
+      "d\020\000\0224\n0k_EPublishedFileInappropriateResu" +
+      "lt_VeryUnlikely\020\001\0220\n,k_EPublishedFileIna" +
+      "ppropriateResult_Unlikely\020\036\0220\n,k_EPublis" +
+      "hedFileInappropriateResult_Possible\0202\022.\n" +
+      "*k_EPublishedFileInappropriateResult_Lik" +
+      "ely\020K\0222\n.k_EPublishedFileInappropriateRe" +
+      "sult_VeryLikely\020d*\261\003\n\021EPersonaStateFlag\022" +
+      "\'\n#k_EPersonaStateFlag_HasRichPresence\020\001" +
+      "\022&\n\"k_EPersonaStateFlag_InJoinableGame\020\002" +
+      "\022\036\n\032k_EPersonaStateFlag_Golden\020\004\022*\n&k_EP" +
+      "ersonaStateFlag_RemotePlayTogether\020\010\022&\n!" +
+      "k_EPersonaStateFlag_ClientTypeWeb\020\200\002\022)\n$" +
+      "k_EPersonaStateFlag_ClientTypeMobile\020\200\004\022" +
+      "*\n%k_EPersonaStateFlag_ClientTypeTenfoot" +
+      "\020\200\010\022%\n k_EPersonaStateFlag_ClientTypeVR\020" +
+      "\200\020\022*\n%k_EPersonaStateFlag_LaunchTypeGame" +
+      "pad\020\200 \022-\n(k_EPersonaStateFlag_LaunchType" +
+      "CompatTool\020\200@*\336\001\n\025EContentCheckProvider\022" +
+      "#\n\037k_EContentCheckProvider_Invalid\020\000\022-\n)" +
+      "k_EContentCheckProvider_Google_DEPRECATE" +
+      "D\020\001\022\"\n\036k_EContentCheckProvider_Amazon\020\002\022" +
+      "!\n\035k_EContentCheckProvider_Local\020\003\022*\n&k_" +
+      "EContentCheckProvider_GoogleVertexAI\020\004*\223" +
+      "\t\n\031EProfileCustomizationType\022&\n\"k_EProfi" +
+      "leCustomizationTypeInvalid\020\000\0226\n2k_EProfi" +
+      "leCustomizationTypeRareAchievementShowca" +
+      "se\020\001\022,\n(k_EProfileCustomizationTypeGameC" +
+      "ollector\020\002\022+\n\'k_EProfileCustomizationTyp" +
+      "eItemShowcase\020\003\022,\n(k_EProfileCustomizati" +
+      "onTypeTradeShowcase\020\004\022%\n!k_EProfileCusto" +
+      "mizationTypeBadges\020\005\022+\n\'k_EProfileCustom" +
+      "izationTypeFavoriteGame\020\006\0221\n-k_EProfileC" +
+      "ustomizationTypeScreenshotShowcase\020\007\022)\n%" +
+      "k_EProfileCustomizationTypeCustomText\020\010\022" +
+      ",\n(k_EProfileCustomizationTypeFavoriteGr" +
+      "oup\020\t\022-\n)k_EProfileCustomizationTypeReco" +
+      "mmendation\020\n\022+\n\'k_EProfileCustomizationT" +
+      "ypeWorkshopItem\020\013\022)\n%k_EProfileCustomiza" +
+      "tionTypeMyWorkshop\020\014\022.\n*k_EProfileCustom" +
+      "izationTypeArtworkShowcase\020\r\022,\n(k_EProfi" +
+      "leCustomizationTypeVideoShowcase\020\016\022%\n!k_" +
+      "EProfileCustomizationTypeGuides\020\017\022\'\n#k_E" +
+      "ProfileCustomizationTypeMyGuides\020\020\022+\n\'k_" +
+      "EProfileCustomizationTypeAchievements\020\021\022" +
+      ")\n%k_EProfileCustomizationTypeGreenlight" +
+      "\020\022\022+\n\'k_EProfileCustomizationTypeMyGreen" +
+      "light\020\023\022%\n!k_EProfileCustomizationTypeSa" +
+      "lien\020\024\0225\n1k_EProfileCustomizationTypeLoy" +
+      "altyRewardReactions\020\025\0224\n0k_EProfileCusto" +
+      "mizationTypeSingleArtworkShowcase\020\026\0228\n4k" +
+      "_EProfileCustomizationTypeAchievementsCo" +
+      "mpletionist\020\027\022%\n!k_EProfileCustomization" +
+      "TypeReplay\020\030*\310\001\n\033EPublishedFileStorageSy" +
+      "stem\022(\n$k_EPublishedFileStorageSystemInv" +
+      "alid\020\000\022,\n(k_EPublishedFileStorageSystemL" +
+      "egacyCloud\020\001\022&\n\"k_EPublishedFileStorageS" +
+      "ystemDepot\020\002\022)\n%k_EPublishedFileStorageS" +
+      "ystemUGCCloud\020\003*\227\001\n\031ECloudStoragePersist" +
+      "State\022(\n$k_ECloudStoragePersistStatePers" +
+      "isted\020\000\022(\n$k_ECloudStoragePersistStateFo" +
+      "rgotten\020\001\022&\n\"k_ECloudStoragePersistState" +
+      "Deleted\020\002*\350\001\n\022ESDCardFormatStage\022 \n\034k_ES" +
+      "DCardFormatStage_Invalid\020\000\022!\n\035k_ESDCardF" +
+      "ormatStage_Starting\020\001\022 \n\034k_ESDCardFormat" +
+      "Stage_Testing\020\002\022!\n\035k_ESDCardFormatStage_" +
+      "Rescuing\020\003\022#\n\037k_ESDCardFormatStage_Forma" +
+      "tting\020\004\022#\n\037k_ESDCardFormatStage_Finalizi" +
+      "ng\020\005*\225\002\n\023EStorageFormatStage\022!\n\035k_EStora" +
+      "geFormatStage_Invalid\020\000\022$\n k_EStorageFor" +
+      "matStage_NotRunning\020\001\022\"\n\036k_EStorageForma" +
+      "tStage_Starting\020\002\022!\n\035k_EStorageFormatSta" +
+      "ge_Testing\020\003\022\"\n\036k_EStorageFormatStage_Re" +
+      "scuing\020\004\022$\n k_EStorageFormatStage_Format" +
+      "ting\020\005\022$\n k_EStorageFormatStage_Finalizi" +
+      "ng\020\006*\204\001\n\025ESystemFanControlMode\022\"\n\036k_Syst" +
+      "emFanControlMode_Invalid\020\000\022#\n\037k_SystemFa" +
+      "nControlMode_Disabled\020\001\022\"\n\036k_SystemFanCo" +
+      "ntrolMode_Default\020\002*\201\001\n\024EStartupMovieVar" +
+      "iant\022\"\n\036k_EStartupMovieVariant_Invalid\020\000" +
+      "\022\"\n\036k_EStartupMovieVariant_Default\020\001\022!\n\035" +
+      "k_EStartupMovieVariant_Orange\020\002*\213\001\n\023ECol" +
+      "orGamutLabelSet\022 \n\034k_ColorGamutLabelSet_" +
+      "Default\020\000\022$\n k_ColorGamutLabelSet_sRGB_N" +
+      "ative\020\001\022,\n(k_ColorGamutLabelSet_Native_s" +
+      "RGB_Boosted\020\002*\300\003\n\024EBluetoothDeviceType\022!" +
+      "\n\035k_BluetoothDeviceType_Invalid\020\000\022!\n\035k_B" +
+      "luetoothDeviceType_Unknown\020\001\022\037\n\033k_Blueto" +
+      "othDeviceType_Phone\020\002\022\"\n\036k_BluetoothDevi" +
+      "ceType_Computer\020\003\022!\n\035k_BluetoothDeviceTy" +
+      "pe_Headset\020\004\022$\n k_BluetoothDeviceType_He" +
+      "adphones\020\005\022\"\n\036k_BluetoothDeviceType_Spea" +
+      "kers\020\006\022$\n k_BluetoothDeviceType_OtherAud" +
+      "io\020\007\022\037\n\033k_BluetoothDeviceType_Mouse\020\010\022\"\n" +
+      "\036k_BluetoothDeviceType_Joystick\020\t\022!\n\035k_B" +
+      "luetoothDeviceType_Gamepad\020\n\022\"\n\036k_Blueto" +
+      "othDeviceType_Keyboard\020\013*\200\001\n\025ESystemAudi" +
+      "oDirection\022\"\n\036k_SystemAudioDirection_Inv" +
+      "alid\020\000\022 \n\034k_SystemAudioDirection_Input\020\001" +
+      "\022!\n\035k_SystemAudioDirection_Output\020\002*\361\002\n\023" +
+      "ESystemAudioChannel\022 \n\034k_SystemAudioChan" +
+      "nel_Invalid\020\000\022#\n\037k_SystemAudioChannel_Ag" +
+      "gregated\020\001\022\"\n\036k_SystemAudioChannel_Front" +
+      "Left\020\002\022#\n\037k_SystemAudioChannel_FrontRigh" +
+      "t\020\003\022\034\n\030k_SystemAudioChannel_LFE\020\004\022!\n\035k_S" +
+      "ystemAudioChannel_BackLeft\020\005\022\"\n\036k_System" +
+      "AudioChannel_BackRight\020\006\022$\n k_SystemAudi" +
+      "oChannel_FrontCenter\020\007\022 \n\034k_SystemAudioC" +
+      "hannel_Unknown\020\010\022\035\n\031k_SystemAudioChannel" +
+      "_Mono\020\t*\311\001\n\024ESystemAudioPortType\022!\n\035k_Sy" +
+      "stemAudioPortType_Invalid\020\000\022!\n\035k_SystemA" +
+      "udioPortType_Unknown\020\001\022\"\n\036k_SystemAudioP" +
+      "ortType_Audio32f\020\002\022 \n\034k_SystemAudioPortT" +
+      "ype_Midi8b\020\003\022%\n!k_SystemAudioPortType_Vi" +
+      "deo32RGBA\020\004*\220\001\n\031ESystemAudioPortDirectio" +
+      "n\022&\n\"k_SystemAudioPortDirection_Invalid\020" +
+      "\000\022$\n k_SystemAudioPortDirection_Input\020\001\022" +
+      "%\n!k_SystemAudioPortDirection_Output\020\002*\203" +
+      "\001\n\023ESystemServiceState\022%\n!k_ESystemServi" +
+      "ceState_Unavailable\020\000\022\"\n\036k_ESystemServic" +
+      "eState_Disabled\020\001\022!\n\035k_ESystemServiceSta" +
+      "te_Enabled\020\002*\341\001\n\031EGraphicsPerfOverlayLev" +
+      "el\022&\n\"k_EGraphicsPerfOverlayLevel_Hidden" +
+      "\020\000\022%\n!k_EGraphicsPerfOverlayLevel_Basic\020" +
+      "\001\022&\n\"k_EGraphicsPerfOverlayLevel_Medium\020" +
+      "\002\022$\n k_EGraphicsPerfOverlayLevel_Full\020\003\022" +
+      "\'\n#k_EGraphicsPerfOverlayLevel_Minimal\020\004" +
+      "*\345\001\n\024EGPUPerformanceLevel\022\"\n\036k_EGPUPerfo" +
+      "rmanceLevel_Invalid\020\000\022\037\n\033k_EGPUPerforman" +
+      "ceLevel_Auto\020\001\022!\n\035k_EGPUPerformanceLevel" +
+      "_Manual\020\002\022\036\n\032k_EGPUPerformanceLevel_Low\020" +
+      "\003\022\037\n\033k_EGPUPerformanceLevel_High\020\004\022$\n k_" +
+      "EGPUPerformanceLevel_Profiling\020\005*\273\001\n\016ESc" +
+      "alingFilter\022\034\n\030k_EScalingFilter_Invalid\020" +
+      "\000\022\030\n\024k_EScalingFilter_FSR\020\001\022\034\n\030k_EScalin" +
+      "gFilter_Nearest\020\002\022\034\n\030k_EScalingFilter_In" +
+      "teger\020\003\022\033\n\027k_EScalingFilter_Linear\020\004\022\030\n\024" +
+      "k_EScalingFilter_NIS\020\005*\273\001\n\023ESplitScaling" +
+      "Filter\022!\n\035k_ESplitScalingFilter_Invalid\020" +
+      "\000\022 \n\034k_ESplitScalingFilter_Linear\020\001\022!\n\035k" +
+      "_ESplitScalingFilter_Nearest\020\002\022\035\n\031k_ESpl" +
+      "itScalingFilter_FSR\020\003\022\035\n\031k_ESplitScaling" +
+      "Filter_NIS\020\004*\335\001\n\023ESplitScalingScaler\022!\n\035" +
+      "k_ESplitScalingScaler_Invalid\020\000\022\036\n\032k_ESp" +
+      "litScalingScaler_Auto\020\001\022!\n\035k_ESplitScali" +
+      "ngScaler_Integer\020\002\022\035\n\031k_ESplitScalingSca" +
+      "ler_Fit\020\003\022\036\n\032k_ESplitScalingScaler_Fill\020" +
+      "\004\022!\n\035k_ESplitScalingScaler_Stretch\020\005*}\n\022" +
+      "EGamescopeBlurMode\022!\n\035k_EGamescopeBlurMo" +
+      "de_Disabled\020\000\022#\n\037k_EGamescopeBlurMode_If" +
+      "Occluded\020\001\022\037\n\033k_EGamescopeBlurMode_Alway" +
+      "s\020\002*\246\001\n\nESLSHelper\022\030\n\024k_ESLSHelper_Inval" +
+      "id\020\000\022\031\n\025k_ESLSHelper_Minidump\020\001\022\026\n\022k_ESL" +
+      "SHelper_Kdump\020\002\022\030\n\024k_ESLSHelper_Journal\020" +
+      "\003\022\024\n\020k_ESLSHelper_Gpu\020\004\022\033\n\027k_ESLSHelper_" +
+      "SystemInfo\020\005*\305\001\n\021EHDRVisualization\022\034\n\030k_" +
+      "EHDRVisualization_None\020\000\022\037\n\033k_EHDRVisual" +
+      "ization_Heatmap\020\001\022 \n\034k_EHDRVisualization" +
+      "_Analysis\020\002\022\'\n#k_EHDRVisualization_Heatm" +
+      "apExtended\020\003\022&\n\"k_EHDRVisualization_Heat" +
+      "mapClassic\020\004*\201\001\n\023EHDRToneMapOperator\022!\n\035" +
+      "k_EHDRToneMapOperator_Invalid\020\000\022#\n\037k_EHD" +
+      "RToneMapOperator_Uncharted\020\001\022\"\n\036k_EHDRTo" +
+      "neMapOperator_Reinhard\020\002*|\n\014ECPUGovernor" +
+      "\022\032\n\026k_ECPUGovernor_Invalid\020\000\022\027\n\023k_ECPUGo" +
+      "vernor_Perf\020\001\022\034\n\030k_ECPUGovernor_Powersav" +
+      "e\020\002\022\031\n\025k_ECPUGovernor_Manual\020\003*\342\001\n\014EUpda" +
+      "terType\022\032\n\026k_EUpdaterType_Invalid\020\000\022\031\n\025k" +
+      "_EUpdaterType_Client\020\001\022\025\n\021k_EUpdaterType" +
+      "_OS\020\002\022\027\n\023k_EUpdaterType_BIOS\020\003\022\035\n\031k_EUpd" +
+      "aterType_Aggregated\020\004\022\030\n\024k_EUpdaterType_" +
+      "Test1\020\005\022\030\n\024k_EUpdaterType_Test2\020\006\022\030\n\024k_E" +
+      "UpdaterType_Dummy\020\007*\371\001\n\rEUpdaterState\022\033\n" +
+      "\027k_EUpdaterState_Invalid\020\000\022\034\n\030k_EUpdater" +
+      "State_UpToDate\020\002\022\034\n\030k_EUpdaterState_Chec" +
+      "king\020\003\022\035\n\031k_EUpdaterState_Available\020\004\022\034\n" +
+      "\030k_EUpdaterState_Applying\020\005\022(\n$k_EUpdate" +
+      "rState_ClientRestartPending\020\006\022(\n$k_EUpda" +
+      "terState_SystemRestartPending\020\007*\341\001\n\030ESto" +
+      "rageBlockContentType\022&\n\"k_EStorageBlockC" +
+      "ontentType_Invalid\020\000\022&\n\"k_EStorageBlockC" +
+      "ontentType_Unknown\020\001\022)\n%k_EStorageBlockC" +
+      "ontentType_FileSystem\020\002\022%\n!k_EStorageBlo" +
+      "ckContentType_Crypto\020\003\022#\n\037k_EStorageBloc" +
+      "kContentType_Raid\020\004*\303\001\n\033EStorageBlockFil" +
+      "eSystemType\022)\n%k_EStorageBlockFileSystem" +
+      "Type_Invalid\020\000\022)\n%k_EStorageBlockFileSys" +
+      "temType_Unknown\020\001\022&\n\"k_EStorageBlockFile" +
+      "SystemType_VFat\020\002\022&\n\"k_EStorageBlockFile" +
+      "SystemType_Ext4\020\003*\320\001\n\026EStorageDriveMedia" +
+      "Type\022$\n k_EStorageDriveMediaType_Invalid" +
+      "\020\000\022$\n k_EStorageDriveMediaType_Unknown\020\001" +
+      "\022 \n\034k_EStorageDriveMediaType_HDD\020\002\022 \n\034k_" +
+      "EStorageDriveMediaType_SSD\020\003\022&\n\"k_EStora" +
+      "geDriveMediaType_Removable\020\004*\263\001\n\037ESystem" +
+      "DisplayCompatibilityMode\022-\n)k_ESystemDis" +
+      "playCompatibilityMode_Invalid\020\000\022*\n&k_ESy" +
+      "stemDisplayCompatibilityMode_None\020\001\0225\n1k" +
+      "_ESystemDisplayCompatibilityMode_Minimal" +
+      "Bandwith\020\002*\343\001\n\037ESteamDeckCompatibilityCa" +
+      "tegory\022-\n)k_ESteamDeckCompatibilityCateg" +
+      "ory_Unknown\020\000\0221\n-k_ESteamDeckCompatibili" +
+      "tyCategory_Unsupported\020\001\022.\n*k_ESteamDeck" +
+      "CompatibilityCategory_Playable\020\002\022.\n*k_ES" +
+      "teamDeckCompatibilityCategory_Verified\020\003" +
+      "*\320\002\n(ESteamDeckCompatibilityResultDispla" +
+      "yType\0228\n4k_ESteamDeckCompatibilityResult" +
+      "DisplayType_Invisible\020\000\022<\n8k_ESteamDeckC" +
+      "ompatibilityResultDisplayType_Informatio" +
+      "nal\020\001\022:\n6k_ESteamDeckCompatibilityResult" +
+      "DisplayType_Unsupported\020\002\0227\n3k_ESteamDec" +
+      "kCompatibilityResultDisplayType_Playable" +
+      "\020\003\0227\n3k_ESteamDeckCompatibilityResultDis" +
+      "playType_Verified\020\004*\232\002\n!ESteamDeckCompat" +
+      "ibilityTestResult\022/\n+k_ESteamDeckCompati" +
+      "bilityTestResult_Invalid\020\000\0225\n1k_ESteamDe" +
+      "ckCompatibilityTestResult_NotApplicable\020" +
+      "\001\022,\n(k_ESteamDeckCompatibilityTestResult" +
+      "_Pass\020\002\022,\n(k_ESteamDeckCompatibilityTest" +
+      "Result_Fail\020\003\0221\n-k_ESteamDeckCompatibili" +
+      "tyTestResult_FailMinor\020\004*w\n\010EACState\022\026\n\022" +
+      "k_EACState_Unknown\020\000\022\033\n\027k_EACState_Disco" +
+      "nnected\020\001\022\030\n\024k_EACState_Connected\020\002\022\034\n\030k" +
+      "_EACState_ConnectedSlow\020\003*\205\001\n\rEBatterySt" +
+      "ate\022\033\n\027k_EBatteryState_Unknown\020\000\022\037\n\033k_EB" +
+      "atteryState_Discharging\020\001\022\034\n\030k_EBatteryS" +
+      "tate_Charging\020\002\022\030\n\024k_EBatteryState_Full\020" +
+      "\003*\303\001\n\tEOSBranch\022\027\n\023k_EOSBranch_Unknown\020\000" +
+      "\022\027\n\023k_EOSBranch_Release\020\001\022 \n\034k_EOSBranch" +
+      "_ReleaseCandidate\020\002\022\024\n\020k_EOSBranch_Beta\020" +
+      "\003\022\035\n\031k_EOSBranch_BetaCandidate\020\004\022\024\n\020k_EO" +
+      "SBranch_Main\020\005\022\027\n\023k_EOSBranch_Staging\020\006*" +
+      "\335\005\n\023ECommunityItemClass\022!\n\035k_ECommunityI" +
+      "temClass_Invalid\020\000\022\037\n\033k_ECommunityItemCl" +
+      "ass_Badge\020\001\022\"\n\036k_ECommunityItemClass_Gam" +
+      "eCard\020\002\022+\n\'k_ECommunityItemClass_Profile" +
+      "Background\020\003\022\"\n\036k_ECommunityItemClass_Em" +
+      "oticon\020\004\022%\n!k_ECommunityItemClass_Booste" +
+      "rPack\020\005\022$\n k_ECommunityItemClass_Consuma" +
+      "ble\020\006\022!\n\035k_ECommunityItemClass_GameGoo\020\007" +
+      "\022)\n%k_ECommunityItemClass_ProfileModifie" +
+      "r\020\010\022\037\n\033k_ECommunityItemClass_Scene\020\t\022$\n " +
+      "k_ECommunityItemClass_SalienItem\020\n\022!\n\035k_" +
+      "ECommunityItemClass_Sticker\020\013\022$\n k_EComm" +
+      "unityItemClass_ChatEffect\020\014\022/\n+k_ECommun" +
+      "ityItemClass_MiniProfileBackground\020\r\022%\n!" +
+      "k_ECommunityItemClass_AvatarFrame\020\016\022(\n$k" +
+      "_ECommunityItemClass_AnimatedAvatar\020\017\022/\n" +
+      "+k_ECommunityItemClass_SteamDeckKeyboard" +
+      "Skin\020\020\022/\n+k_ECommunityItemClass_SteamDec" +
+      "kStartupMovie\020\021*\331\001\n\037ESteamDeckCompatibil" +
+      "ityFeedback\022+\n\'k_ESteamDeckCompatibility" +
+      "Feedback_Unset\020\000\022+\n\'k_ESteamDeckCompatib" +
+      "ilityFeedback_Agree\020\001\022.\n*k_ESteamDeckCom" +
+      "patibilityFeedback_Disagree\020\002\022,\n(k_EStea" +
+      "mDeckCompatibilityFeedback_Ignore\020\003*\237\001\n\036" +
+      "EProvideDeckFeedbackPreference\022*\n&k_EPro" +
+      "videDeckFeedbackPreference_Unset\020\000\022(\n$k_" +
+      "EProvideDeckFeedbackPreference_Yes\020\001\022\'\n#" +
+      "k_EProvideDeckFeedbackPreference_No\020\002*\261\003" +
+      "\n\rETouchGesture\022\027\n\023k_ETouchGestureNone\020\000" +
+      "\022\030\n\024k_ETouchGestureTouch\020\001\022\026\n\022k_ETouchGe" +
+      "stureTap\020\002\022\034\n\030k_ETouchGestureDoubleTap\020\003" +
+      "\022\035\n\031k_ETouchGestureShortPress\020\004\022\034\n\030k_ETo" +
+      "uchGestureLongPress\020\005\022\032\n\026k_ETouchGesture" +
+      "LongTap\020\006\022\037\n\033k_ETouchGestureTwoFingerTap" +
+      "\020\007\022\037\n\033k_ETouchGestureTapCancelled\020\010\022\035\n\031k" +
+      "_ETouchGesturePinchBegin\020\t\022\036\n\032k_ETouchGe" +
+      "sturePinchUpdate\020\n\022\033\n\027k_ETouchGesturePin" +
+      "chEnd\020\013\022\035\n\031k_ETouchGestureFlingStart\020\014\022!" +
+      "\n\035k_ETouchGestureFlingCancelled\020\r*\214\001\n\023ES" +
+      "essionPersistence\022*\n\035k_ESessionPersisten" +
+      "ce_Invalid\020\377\377\377\377\377\377\377\377\377\001\022#\n\037k_ESessionPersi" +
+      "stence_Ephemeral\020\000\022$\n k_ESessionPersiste" +
+      "nce_Persistent\020\001*\331\001\n\032ENewSteamAnnounceme" +
+      "ntState\022(\n$k_ENewSteamAnnouncementState_" +
+      "Invalid\020\000\022(\n$k_ENewSteamAnnouncementStat" +
+      "e_AllRead\020\001\0220\n,k_ENewSteamAnnouncementSt" +
+      "ate_NewAnnouncement\020\002\0225\n1k_ENewSteamAnno" +
+      "uncementState_FeaturedAnnouncement\020\003*\213\007\n" +
+      "\022ECommentThreadType\022\037\n\033k_ECommentThreadT" +
+      "ypeInvalid\020\000\022-\n)k_ECommentThreadTypeScre" +
+      "enshot_Deprecated\020\001\0221\n-k_ECommentThreadT" +
+      "ypeWorkshopAccount_Developer\020\002\022.\n*k_ECom" +
+      "mentThreadTypeWorkshopAccount_Public\020\003\022/" +
+      "\n+k_ECommentThreadTypePublishedFile_Deve" +
+      "loper\020\004\022,\n(k_ECommentThreadTypePublished" +
+      "File_Public\020\005\022\034\n\030k_ECommentThreadTypeTes" +
+      "t\020\006\022\"\n\036k_ECommentThreadTypeForumTopic\020\007\022" +
+      "&\n\"k_ECommentThreadTypeRecommendation\020\010\022" +
+      "(\n$k_ECommentThreadTypeVideo_Deprecated\020" +
+      "\t\022\037\n\033k_ECommentThreadTypeProfile\020\n\022 \n\034k_" +
+      "ECommentThreadTypeNewsPost\020\013\022\034\n\030k_EComme" +
+      "ntThreadTypeClan\020\014\022(\n$k_ECommentThreadTy" +
+      "peClanAnnouncement\020\r\022!\n\035k_ECommentThread" +
+      "TypeClanEvent\020\016\022+\n\'k_ECommentThreadTypeU" +
+      "serStatusPublished\020\017\022+\n\'k_ECommentThread" +
+      "TypeUserReceivedNewGame\020\020\0222\n.k_ECommentT" +
+      "hreadTypePublishedFile_Announcement\020\021\022(\n" +
+      "$k_ECommentThreadTypeModeratorMessage\020\022\022" +
+      "&\n\"k_ECommentThreadTypeClanCuratedApp\020\023\022" +
+      "$\n k_ECommentThreadTypeQAndASession\020\024\022\033\n" +
+      "\027k_ECommentThreadTypeMax\020\025*\327\001\n\024EBroadcas" +
+      "tPermission\022\"\n\036k_EBroadcastPermissionDis" +
+      "abled\020\000\022(\n$k_EBroadcastPermissionFriends" +
+      "Approve\020\001\022(\n$k_EBroadcastPermissionFrien" +
+      "dsAllowed\020\002\022 \n\034k_EBroadcastPermissionPub" +
+      "lic\020\003\022%\n!k_EBroadcastPermissionSubscribe" +
+      "rs\020\004*f\n\030EBroadcastEncoderSetting\022\"\n\036k_EB" +
+      "roadcastEncoderBestQuality\020\000\022&\n\"k_EBroad" +
+      "castEncoderBestPerformance\020\001*y\n\024ECloudGa" +
+      "mingPlatform\022\036\n\032k_ECloudGamingPlatformNo" +
+      "ne\020\000\022\037\n\033k_ECloudGamingPlatformValve\020\001\022 \n" +
+      "\034k_ECloudGamingPlatformNVIDIA\020\002*\226\001\n\030ECom" +
+      "promiseDetectionType\022#\n\037k_ECompromiseDet" +
+      "ectionType_None\020\000\022)\n%k_ECompromiseDetect" +
+      "ionType_TradeEvent\020\001\022*\n&k_ECompromiseDet" +
+      "ectionType_ApiCallRate\020\002*\326\001\n\032EAsyncGameS" +
+      "essionUserState\0220\n#k_EAsyncGameSessionUs" +
+      "erStateUnknown\020\377\377\377\377\377\377\377\377\377\001\0220\n,k_EAsyncGam" +
+      "eSessionUserStateWaitingForOthers\020\000\022.\n*k" +
+      "_EAsyncGameSessionUserStateReadyForActio" +
+      "n\020\001\022$\n k_EAsyncGameSessionUserStateDone\020" +
+      "\002*\304\001\n\037EAsyncGameSessionUserVisibility\022;\n" +
+      "7k_EAsyncGameSessionUserVisibilityEnvelo" +
+      "peAndSessionList\020\000\0224\n0k_EAsyncGameSessio" +
+      "nUserVisibilitySessionListOnly\020\001\022.\n*k_EA" +
+      "syncGameSessionUserVisibilityDismissed\020\002" +
+      "B\"\n\027com.javasteam.protobufsH\001\200\001\001\200\265\030\001"
     };
-    descriptor =
-        com.google.protobuf.Descriptors.FileDescriptor.internalBuildGeneratedFileFrom(
-            descriptorData,
-            new com.google.protobuf.Descriptors.FileDescriptor[] {
-              SteammessagesBase.getDescriptor(),
-            });
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.javasteam.protobufs.SteammessagesBase.getDescriptor(),
+        });
     descriptor.resolveAllFeaturesImmutable();
-    SteammessagesBase.getDescriptor();
+    com.javasteam.protobufs.SteammessagesBase.getDescriptor();
     com.google.protobuf.ExtensionRegistry registry =
         com.google.protobuf.ExtensionRegistry.newInstance();
-    registry.add(SteammessagesBase.forcePhpGeneration);
-    com.google.protobuf.Descriptors.FileDescriptor.internalUpdateFileDescriptor(
-        descriptor, registry);
+    registry.add(com.javasteam.protobufs.SteammessagesBase.forcePhpGeneration);
+    com.google.protobuf.Descriptors.FileDescriptor
+        .internalUpdateFileDescriptor(descriptor, registry);
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -1,102 +1,94 @@
 // Generated by the protocol buffer compiler.  DO NOT EDIT!
 // source: steammessages_clientserver_login.proto
 // Protobuf Java Version: 4.26.1
+
 package com.javasteam.protobufs;
 
-@SuppressWarnings("all")
 public final class SteammessagesClientserverLogin {
   private SteammessagesClientserverLogin() {}
-
   static {
     com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-        /* major= */ 4,
-        /* minor= */ 26,
-        /* patch= */ 1,
-        /* suffix= */ "",
-        SteammessagesClientserverLogin.class.getName());
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      SteammessagesClientserverLogin.class.getName());
   }
-
-  public static void registerAllExtensions(com.google.protobuf.ExtensionRegistryLite registry) {}
-
-  public static void registerAllExtensions(com.google.protobuf.ExtensionRegistry registry) {
-    registerAllExtensions((com.google.protobuf.ExtensionRegistryLite) registry);
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
   }
 
-  public interface CMsgClientHeartBeatOrBuilder
-      extends
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface CMsgClientHeartBeatOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientHeartBeat)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional bool send_reply = 1;</code>
-     *
      * @return Whether the sendReply field is set.
      */
     boolean hasSendReply();
-
     /**
      * <code>optional bool send_reply = 1;</code>
-     *
      * @return The sendReply.
      */
     boolean getSendReply();
   }
-
-  /** Protobuf type {@code CMsgClientHeartBeat} */
-  public static final class CMsgClientHeartBeat extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientHeartBeat}
+   */
+  public static final class CMsgClientHeartBeat extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientHeartBeat)
       CMsgClientHeartBeatOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientHeartBeat.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientHeartBeat.class.getName());
     }
-
     // Use CMsgClientHeartBeat.newBuilder() to construct.
     private CMsgClientHeartBeat(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientHeartBeat() {
+    }
 
-    private CMsgClientHeartBeat() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientHeartBeat.class,
-              SteammessagesClientserverLogin.CMsgClientHeartBeat.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat.Builder.class);
     }
 
     private int bitField0_;
     public static final int SEND_REPLY_FIELD_NUMBER = 1;
     private boolean sendReply_ = false;
-
     /**
      * <code>optional bool send_reply = 1;</code>
-     *
      * @return Whether the sendReply field is set.
      */
     @java.lang.Override
     public boolean hasSendReply() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional bool send_reply = 1;</code>
-     *
      * @return The sendReply.
      */
     @java.lang.Override
@@ -105,7 +97,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -117,7 +108,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeBool(1, sendReply_);
       }
@@ -131,7 +123,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(1, sendReply_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, sendReply_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -141,17 +134,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientHeartBeat)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientHeartBeat other =
-          (SteammessagesClientserverLogin.CMsgClientHeartBeat) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat) obj;
 
       if (hasSendReply() != other.hasSendReply()) return false;
       if (hasSendReply()) {
-        if (getSendReply() != other.getSendReply()) return false;
+        if (getSendReply()
+            != other.getSendReply()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -166,134 +159,136 @@ public final class SteammessagesClientserverLogin {
       hash = (19 * hash) + getDescriptor().hashCode();
       if (hasSendReply()) {
         hash = (37 * hash) + SEND_REPLY_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getSendReply());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSendReply());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(SteammessagesClientserverLogin.CMsgClientHeartBeat prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientHeartBeat} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientHeartBeat}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientHeartBeat)
-        SteammessagesClientserverLogin.CMsgClientHeartBeatOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeatOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientHeartBeat.class,
-                SteammessagesClientserverLogin.CMsgClientHeartBeat.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientHeartBeat.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -303,18 +298,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHeartBeat_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientHeartBeat getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientHeartBeat.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientHeartBeat build() {
-        SteammessagesClientserverLogin.CMsgClientHeartBeat result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -322,17 +318,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientHeartBeat buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientHeartBeat result =
-            new SteammessagesClientserverLogin.CMsgClientHeartBeat(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientHeartBeat result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -344,17 +337,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientHeartBeat) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientHeartBeat) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientHeartBeat other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientHeartBeat.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat.getDefaultInstance()) return this;
         if (other.hasSendReply()) {
           setSendReply(other.getSendReply());
         }
@@ -384,19 +376,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  sendReply_ = input.readBool();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                sendReply_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -406,34 +396,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private boolean sendReply_;
-
+      private boolean sendReply_ ;
       /**
        * <code>optional bool send_reply = 1;</code>
-       *
        * @return Whether the sendReply field is set.
        */
       @java.lang.Override
       public boolean hasSendReply() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional bool send_reply = 1;</code>
-       *
        * @return The sendReply.
        */
       @java.lang.Override
       public boolean getSendReply() {
         return sendReply_;
       }
-
       /**
        * <code>optional bool send_reply = 1;</code>
-       *
        * @param value The sendReply to set.
        * @return This builder for chaining.
        */
@@ -444,10 +427,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool send_reply = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSendReply() {
@@ -461,38 +442,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientHeartBeat)
-    private static final SteammessagesClientserverLogin.CMsgClientHeartBeat DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientHeartBeat();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHeartBeat getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientHeartBeat> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientHeartBeat>() {
-          @java.lang.Override
-          public CMsgClientHeartBeat parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientHeartBeat>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientHeartBeat>() {
+      @java.lang.Override
+      public CMsgClientHeartBeat parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientHeartBeat> parser() {
       return PARSER;
@@ -504,89 +483,77 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientHeartBeat getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientServerTimestampRequestOrBuilder
-      extends
+  public interface CMsgClientServerTimestampRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientServerTimestampRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return Whether the clientRequestTimestamp field is set.
      */
     boolean hasClientRequestTimestamp();
-
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return The clientRequestTimestamp.
      */
     long getClientRequestTimestamp();
   }
-
-  /** Protobuf type {@code CMsgClientServerTimestampRequest} */
-  public static final class CMsgClientServerTimestampRequest
-      extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientServerTimestampRequest}
+   */
+  public static final class CMsgClientServerTimestampRequest extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientServerTimestampRequest)
       CMsgClientServerTimestampRequestOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientServerTimestampRequest.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientServerTimestampRequest.class.getName());
     }
-
     // Use CMsgClientServerTimestampRequest.newBuilder() to construct.
-    private CMsgClientServerTimestampRequest(
-        com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    private CMsgClientServerTimestampRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientServerTimestampRequest() {
+    }
 
-    private CMsgClientServerTimestampRequest() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientServerTimestampRequest_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientServerTimestampRequest_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.class,
-              SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.Builder.class);
     }
 
     private int bitField0_;
     public static final int CLIENT_REQUEST_TIMESTAMP_FIELD_NUMBER = 1;
     private long clientRequestTimestamp_ = 0L;
-
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return Whether the clientRequestTimestamp field is set.
      */
     @java.lang.Override
     public boolean hasClientRequestTimestamp() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return The clientRequestTimestamp.
      */
     @java.lang.Override
@@ -595,7 +562,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -607,7 +573,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt64(1, clientRequestTimestamp_);
       }
@@ -621,7 +588,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(1, clientRequestTimestamp_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, clientRequestTimestamp_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -631,17 +599,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientServerTimestampRequest)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientServerTimestampRequest other =
-          (SteammessagesClientserverLogin.CMsgClientServerTimestampRequest) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest) obj;
 
       if (hasClientRequestTimestamp() != other.hasClientRequestTimestamp()) return false;
       if (hasClientRequestTimestamp()) {
-        if (getClientRequestTimestamp() != other.getClientRequestTimestamp()) return false;
+        if (getClientRequestTimestamp()
+            != other.getClientRequestTimestamp()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -656,139 +624,136 @@ public final class SteammessagesClientserverLogin {
       hash = (19 * hash) + getDescriptor().hashCode();
       if (hasClientRequestTimestamp()) {
         hash = (37 * hash) + CLIENT_REQUEST_TIMESTAMP_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getClientRequestTimestamp());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClientRequestTimestamp());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
-        byte[] data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest
-        parseDelimitedFrom(java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest
-        parseDelimitedFrom(
-            java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientServerTimestampRequest prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientServerTimestampRequest} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientServerTimestampRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientServerTimestampRequest)
-        SteammessagesClientserverLogin.CMsgClientServerTimestampRequestOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientServerTimestampRequest_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientServerTimestampRequest_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.class,
-                SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.Builder.class);
       }
 
-      // Construct using
-      // SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -798,20 +763,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientServerTimestampRequest_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampRequest_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientServerTimestampRequest
-          getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientServerTimestampRequest build() {
-        SteammessagesClientserverLogin.CMsgClientServerTimestampRequest result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -819,18 +783,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientServerTimestampRequest buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientServerTimestampRequest result =
-            new SteammessagesClientserverLogin.CMsgClientServerTimestampRequest(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(
-          SteammessagesClientserverLogin.CMsgClientServerTimestampRequest result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -842,19 +802,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientServerTimestampRequest) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientServerTimestampRequest) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(
-          SteammessagesClientserverLogin.CMsgClientServerTimestampRequest other) {
-        if (other
-            == SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest.getDefaultInstance()) return this;
         if (other.hasClientRequestTimestamp()) {
           setClientRequestTimestamp(other.getClientRequestTimestamp());
         }
@@ -884,19 +841,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  clientRequestTimestamp_ = input.readUInt64();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                clientRequestTimestamp_ = input.readUInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -906,34 +861,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private long clientRequestTimestamp_;
-
+      private long clientRequestTimestamp_ ;
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @return Whether the clientRequestTimestamp field is set.
        */
       @java.lang.Override
       public boolean hasClientRequestTimestamp() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @return The clientRequestTimestamp.
        */
       @java.lang.Override
       public long getClientRequestTimestamp() {
         return clientRequestTimestamp_;
       }
-
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @param value The clientRequestTimestamp to set.
        * @return This builder for chaining.
        */
@@ -944,10 +892,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientRequestTimestamp() {
@@ -961,40 +907,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientServerTimestampRequest)
-    private static final SteammessagesClientserverLogin.CMsgClientServerTimestampRequest
-        DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientServerTimestampRequest();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampRequest
-        getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientServerTimestampRequest> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientServerTimestampRequest>() {
-          @java.lang.Override
-          public CMsgClientServerTimestampRequest parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientServerTimestampRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientServerTimestampRequest>() {
+      @java.lang.Override
+      public CMsgClientServerTimestampRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientServerTimestampRequest> parser() {
       return PARSER;
@@ -1006,104 +948,88 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientServerTimestampRequest
-        getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientServerTimestampResponseOrBuilder
-      extends
+  public interface CMsgClientServerTimestampResponseOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientServerTimestampResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return Whether the clientRequestTimestamp field is set.
      */
     boolean hasClientRequestTimestamp();
-
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return The clientRequestTimestamp.
      */
     long getClientRequestTimestamp();
 
     /**
      * <code>optional uint64 server_timestamp_ms = 2;</code>
-     *
      * @return Whether the serverTimestampMs field is set.
      */
     boolean hasServerTimestampMs();
-
     /**
      * <code>optional uint64 server_timestamp_ms = 2;</code>
-     *
      * @return The serverTimestampMs.
      */
     long getServerTimestampMs();
   }
-
-  /** Protobuf type {@code CMsgClientServerTimestampResponse} */
-  public static final class CMsgClientServerTimestampResponse
-      extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientServerTimestampResponse}
+   */
+  public static final class CMsgClientServerTimestampResponse extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientServerTimestampResponse)
       CMsgClientServerTimestampResponseOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientServerTimestampResponse.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientServerTimestampResponse.class.getName());
     }
-
     // Use CMsgClientServerTimestampResponse.newBuilder() to construct.
-    private CMsgClientServerTimestampResponse(
-        com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    private CMsgClientServerTimestampResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientServerTimestampResponse() {
+    }
 
-    private CMsgClientServerTimestampResponse() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientServerTimestampResponse_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientServerTimestampResponse_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.class,
-              SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.Builder.class);
     }
 
     private int bitField0_;
     public static final int CLIENT_REQUEST_TIMESTAMP_FIELD_NUMBER = 1;
     private long clientRequestTimestamp_ = 0L;
-
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return Whether the clientRequestTimestamp field is set.
      */
     @java.lang.Override
     public boolean hasClientRequestTimestamp() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint64 client_request_timestamp = 1;</code>
-     *
      * @return The clientRequestTimestamp.
      */
     @java.lang.Override
@@ -1113,20 +1039,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int SERVER_TIMESTAMP_MS_FIELD_NUMBER = 2;
     private long serverTimestampMs_ = 0L;
-
     /**
      * <code>optional uint64 server_timestamp_ms = 2;</code>
-     *
      * @return Whether the serverTimestampMs field is set.
      */
     @java.lang.Override
     public boolean hasServerTimestampMs() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional uint64 server_timestamp_ms = 2;</code>
-     *
      * @return The serverTimestampMs.
      */
     @java.lang.Override
@@ -1135,7 +1057,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -1147,7 +1068,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt64(1, clientRequestTimestamp_);
       }
@@ -1164,10 +1086,12 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(1, clientRequestTimestamp_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, clientRequestTimestamp_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(2, serverTimestampMs_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, serverTimestampMs_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -1177,21 +1101,22 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientServerTimestampResponse)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientServerTimestampResponse other =
-          (SteammessagesClientserverLogin.CMsgClientServerTimestampResponse) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse) obj;
 
       if (hasClientRequestTimestamp() != other.hasClientRequestTimestamp()) return false;
       if (hasClientRequestTimestamp()) {
-        if (getClientRequestTimestamp() != other.getClientRequestTimestamp()) return false;
+        if (getClientRequestTimestamp()
+            != other.getClientRequestTimestamp()) return false;
       }
       if (hasServerTimestampMs() != other.hasServerTimestampMs()) return false;
       if (hasServerTimestampMs()) {
-        if (getServerTimestampMs() != other.getServerTimestampMs()) return false;
+        if (getServerTimestampMs()
+            != other.getServerTimestampMs()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -1206,143 +1131,141 @@ public final class SteammessagesClientserverLogin {
       hash = (19 * hash) + getDescriptor().hashCode();
       if (hasClientRequestTimestamp()) {
         hash = (37 * hash) + CLIENT_REQUEST_TIMESTAMP_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getClientRequestTimestamp());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClientRequestTimestamp());
       }
       if (hasServerTimestampMs()) {
         hash = (37 * hash) + SERVER_TIMESTAMP_MS_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getServerTimestampMs());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getServerTimestampMs());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
-        byte[] data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-        parseDelimitedFrom(java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-        parseDelimitedFrom(
-            java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientServerTimestampResponse prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientServerTimestampResponse} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientServerTimestampResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientServerTimestampResponse)
-        SteammessagesClientserverLogin.CMsgClientServerTimestampResponseOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientServerTimestampResponse_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientServerTimestampResponse_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.class,
-                SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.Builder.class);
       }
 
-      // Construct using
-      // SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.newBuilder()
+      private Builder() {
+
+      }
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-      }
 
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -1353,21 +1276,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientServerTimestampResponse_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientServerTimestampResponse_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-          getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-            .getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientServerTimestampResponse build() {
-        SteammessagesClientserverLogin.CMsgClientServerTimestampResponse result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -1375,18 +1296,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientServerTimestampResponse buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientServerTimestampResponse result =
-            new SteammessagesClientserverLogin.CMsgClientServerTimestampResponse(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(
-          SteammessagesClientserverLogin.CMsgClientServerTimestampResponse result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -1402,20 +1319,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientServerTimestampResponse) {
-          return mergeFrom(
-              (SteammessagesClientserverLogin.CMsgClientServerTimestampResponse) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(
-          SteammessagesClientserverLogin.CMsgClientServerTimestampResponse other) {
-        if (other
-            == SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-                .getDefaultInstance()) return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse.getDefaultInstance()) return this;
         if (other.hasClientRequestTimestamp()) {
           setClientRequestTimestamp(other.getClientRequestTimestamp());
         }
@@ -1448,25 +1361,22 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  clientRequestTimestamp_ = input.readUInt64();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              case 16:
-                {
-                  serverTimestampMs_ = input.readUInt64();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 16
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                clientRequestTimestamp_ = input.readUInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                serverTimestampMs_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -1476,34 +1386,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private long clientRequestTimestamp_;
-
+      private long clientRequestTimestamp_ ;
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @return Whether the clientRequestTimestamp field is set.
        */
       @java.lang.Override
       public boolean hasClientRequestTimestamp() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @return The clientRequestTimestamp.
        */
       @java.lang.Override
       public long getClientRequestTimestamp() {
         return clientRequestTimestamp_;
       }
-
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @param value The clientRequestTimestamp to set.
        * @return This builder for chaining.
        */
@@ -1514,10 +1417,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 client_request_timestamp = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientRequestTimestamp() {
@@ -1527,31 +1428,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private long serverTimestampMs_;
-
+      private long serverTimestampMs_ ;
       /**
        * <code>optional uint64 server_timestamp_ms = 2;</code>
-       *
        * @return Whether the serverTimestampMs field is set.
        */
       @java.lang.Override
       public boolean hasServerTimestampMs() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional uint64 server_timestamp_ms = 2;</code>
-       *
        * @return The serverTimestampMs.
        */
       @java.lang.Override
       public long getServerTimestampMs() {
         return serverTimestampMs_;
       }
-
       /**
        * <code>optional uint64 server_timestamp_ms = 2;</code>
-       *
        * @param value The serverTimestampMs to set.
        * @return This builder for chaining.
        */
@@ -1562,10 +1457,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 server_timestamp_ms = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearServerTimestampMs() {
@@ -1579,40 +1472,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientServerTimestampResponse)
-    private static final SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-        DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientServerTimestampResponse();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-        getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientServerTimestampResponse> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientServerTimestampResponse>() {
-          @java.lang.Override
-          public CMsgClientServerTimestampResponse parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientServerTimestampResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientServerTimestampResponse>() {
+      @java.lang.Override
+      public CMsgClientServerTimestampResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientServerTimestampResponse> parser() {
       return PARSER;
@@ -1624,144 +1513,122 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientServerTimestampResponse
-        getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientServerTimestampResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientSecretOrBuilder
-      extends
+  public interface CMsgClientSecretOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientSecret)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint32 version = 1;</code>
-     *
      * @return Whether the version field is set.
      */
     boolean hasVersion();
-
     /**
      * <code>optional uint32 version = 1;</code>
-     *
      * @return The version.
      */
     int getVersion();
 
     /**
      * <code>optional uint32 appid = 2;</code>
-     *
      * @return Whether the appid field is set.
      */
     boolean hasAppid();
-
     /**
      * <code>optional uint32 appid = 2;</code>
-     *
      * @return The appid.
      */
     int getAppid();
 
     /**
      * <code>optional uint32 deviceid = 3;</code>
-     *
      * @return Whether the deviceid field is set.
      */
     boolean hasDeviceid();
-
     /**
      * <code>optional uint32 deviceid = 3;</code>
-     *
      * @return The deviceid.
      */
     int getDeviceid();
 
     /**
      * <code>optional fixed64 nonce = 4;</code>
-     *
      * @return Whether the nonce field is set.
      */
     boolean hasNonce();
-
     /**
      * <code>optional fixed64 nonce = 4;</code>
-     *
      * @return The nonce.
      */
     long getNonce();
 
     /**
      * <code>optional bytes hmac = 5;</code>
-     *
      * @return Whether the hmac field is set.
      */
     boolean hasHmac();
-
     /**
      * <code>optional bytes hmac = 5;</code>
-     *
      * @return The hmac.
      */
     com.google.protobuf.ByteString getHmac();
   }
-
-  /** Protobuf type {@code CMsgClientSecret} */
-  public static final class CMsgClientSecret extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientSecret}
+   */
+  public static final class CMsgClientSecret extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientSecret)
       CMsgClientSecretOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientSecret.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientSecret.class.getName());
     }
-
     // Use CMsgClientSecret.newBuilder() to construct.
     private CMsgClientSecret(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientSecret() {
       hmac_ = com.google.protobuf.ByteString.EMPTY;
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientSecret_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientSecret_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientSecret_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientSecret_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientSecret.class,
-              SteammessagesClientserverLogin.CMsgClientSecret.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.Builder.class);
     }
 
     private int bitField0_;
     public static final int VERSION_FIELD_NUMBER = 1;
     private int version_ = 0;
-
     /**
      * <code>optional uint32 version = 1;</code>
-     *
      * @return Whether the version field is set.
      */
     @java.lang.Override
     public boolean hasVersion() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint32 version = 1;</code>
-     *
      * @return The version.
      */
     @java.lang.Override
@@ -1771,20 +1638,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int APPID_FIELD_NUMBER = 2;
     private int appid_ = 0;
-
     /**
      * <code>optional uint32 appid = 2;</code>
-     *
      * @return Whether the appid field is set.
      */
     @java.lang.Override
     public boolean hasAppid() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional uint32 appid = 2;</code>
-     *
      * @return The appid.
      */
     @java.lang.Override
@@ -1794,20 +1657,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int DEVICEID_FIELD_NUMBER = 3;
     private int deviceid_ = 0;
-
     /**
      * <code>optional uint32 deviceid = 3;</code>
-     *
      * @return Whether the deviceid field is set.
      */
     @java.lang.Override
     public boolean hasDeviceid() {
       return ((bitField0_ & 0x00000004) != 0);
     }
-
     /**
      * <code>optional uint32 deviceid = 3;</code>
-     *
      * @return The deviceid.
      */
     @java.lang.Override
@@ -1817,20 +1676,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int NONCE_FIELD_NUMBER = 4;
     private long nonce_ = 0L;
-
     /**
      * <code>optional fixed64 nonce = 4;</code>
-     *
      * @return Whether the nonce field is set.
      */
     @java.lang.Override
     public boolean hasNonce() {
       return ((bitField0_ & 0x00000008) != 0);
     }
-
     /**
      * <code>optional fixed64 nonce = 4;</code>
-     *
      * @return The nonce.
      */
     @java.lang.Override
@@ -1840,20 +1695,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int HMAC_FIELD_NUMBER = 5;
     private com.google.protobuf.ByteString hmac_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes hmac = 5;</code>
-     *
      * @return Whether the hmac field is set.
      */
     @java.lang.Override
     public boolean hasHmac() {
       return ((bitField0_ & 0x00000010) != 0);
     }
-
     /**
      * <code>optional bytes hmac = 5;</code>
-     *
      * @return The hmac.
      */
     @java.lang.Override
@@ -1862,7 +1713,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -1874,7 +1724,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt32(1, version_);
       }
@@ -1900,19 +1751,24 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(1, version_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, version_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(2, appid_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, appid_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(3, deviceid_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, deviceid_);
       }
       if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(4, nonce_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(4, nonce_);
       }
       if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(5, hmac_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, hmac_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -1922,33 +1778,37 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientSecret)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientSecret other =
-          (SteammessagesClientserverLogin.CMsgClientSecret) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret) obj;
 
       if (hasVersion() != other.hasVersion()) return false;
       if (hasVersion()) {
-        if (getVersion() != other.getVersion()) return false;
+        if (getVersion()
+            != other.getVersion()) return false;
       }
       if (hasAppid() != other.hasAppid()) return false;
       if (hasAppid()) {
-        if (getAppid() != other.getAppid()) return false;
+        if (getAppid()
+            != other.getAppid()) return false;
       }
       if (hasDeviceid() != other.hasDeviceid()) return false;
       if (hasDeviceid()) {
-        if (getDeviceid() != other.getDeviceid()) return false;
+        if (getDeviceid()
+            != other.getDeviceid()) return false;
       }
       if (hasNonce() != other.hasNonce()) return false;
       if (hasNonce()) {
-        if (getNonce() != other.getNonce()) return false;
+        if (getNonce()
+            != other.getNonce()) return false;
       }
       if (hasHmac() != other.hasHmac()) return false;
       if (hasHmac()) {
-        if (!getHmac().equals(other.getHmac())) return false;
+        if (!getHmac()
+            .equals(other.getHmac())) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -1975,7 +1835,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasNonce()) {
         hash = (37 * hash) + NONCE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getNonce());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getNonce());
       }
       if (hasHmac()) {
         hash = (37 * hash) + HMAC_FIELD_NUMBER;
@@ -1986,127 +1847,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(SteammessagesClientserverLogin.CMsgClientSecret prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientSecret} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientSecret}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientSecret)
-        SteammessagesClientserverLogin.CMsgClientSecretOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientSecret_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecretOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientSecret_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientSecret_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientSecret_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientSecret.class,
-                SteammessagesClientserverLogin.CMsgClientSecret.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientSecret.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -2120,18 +1982,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientSecret_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientSecret_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientSecret getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientSecret build() {
-        SteammessagesClientserverLogin.CMsgClientSecret result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2139,17 +2002,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientSecret buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientSecret result =
-            new SteammessagesClientserverLogin.CMsgClientSecret(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientSecret result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -2177,17 +2037,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientSecret) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientSecret) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientSecret other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance()) return this;
         if (other.hasVersion()) {
           setVersion(other.getVersion());
         }
@@ -2229,43 +2088,37 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  version_ = input.readUInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              case 16:
-                {
-                  appid_ = input.readUInt32();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 16
-              case 24:
-                {
-                  deviceid_ = input.readUInt32();
-                  bitField0_ |= 0x00000004;
-                  break;
-                } // case 24
-              case 33:
-                {
-                  nonce_ = input.readFixed64();
-                  bitField0_ |= 0x00000008;
-                  break;
-                } // case 33
-              case 42:
-                {
-                  hmac_ = input.readBytes();
-                  bitField0_ |= 0x00000010;
-                  break;
-                } // case 42
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                version_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                deviceid_ = input.readUInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 33: {
+                nonce_ = input.readFixed64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 33
+              case 42: {
+                hmac_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2275,34 +2128,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private int version_;
-
+      private int version_ ;
       /**
        * <code>optional uint32 version = 1;</code>
-       *
        * @return Whether the version field is set.
        */
       @java.lang.Override
       public boolean hasVersion() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint32 version = 1;</code>
-       *
        * @return The version.
        */
       @java.lang.Override
       public int getVersion() {
         return version_;
       }
-
       /**
        * <code>optional uint32 version = 1;</code>
-       *
        * @param value The version to set.
        * @return This builder for chaining.
        */
@@ -2313,10 +2159,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 version = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearVersion() {
@@ -2326,31 +2170,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int appid_;
-
+      private int appid_ ;
       /**
        * <code>optional uint32 appid = 2;</code>
-       *
        * @return Whether the appid field is set.
        */
       @java.lang.Override
       public boolean hasAppid() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional uint32 appid = 2;</code>
-       *
        * @return The appid.
        */
       @java.lang.Override
       public int getAppid() {
         return appid_;
       }
-
       /**
        * <code>optional uint32 appid = 2;</code>
-       *
        * @param value The appid to set.
        * @return This builder for chaining.
        */
@@ -2361,10 +2199,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 appid = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAppid() {
@@ -2374,31 +2210,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int deviceid_;
-
+      private int deviceid_ ;
       /**
        * <code>optional uint32 deviceid = 3;</code>
-       *
        * @return Whether the deviceid field is set.
        */
       @java.lang.Override
       public boolean hasDeviceid() {
         return ((bitField0_ & 0x00000004) != 0);
       }
-
       /**
        * <code>optional uint32 deviceid = 3;</code>
-       *
        * @return The deviceid.
        */
       @java.lang.Override
       public int getDeviceid() {
         return deviceid_;
       }
-
       /**
        * <code>optional uint32 deviceid = 3;</code>
-       *
        * @param value The deviceid to set.
        * @return This builder for chaining.
        */
@@ -2409,10 +2239,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 deviceid = 3;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearDeviceid() {
@@ -2422,31 +2250,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private long nonce_;
-
+      private long nonce_ ;
       /**
        * <code>optional fixed64 nonce = 4;</code>
-       *
        * @return Whether the nonce field is set.
        */
       @java.lang.Override
       public boolean hasNonce() {
         return ((bitField0_ & 0x00000008) != 0);
       }
-
       /**
        * <code>optional fixed64 nonce = 4;</code>
-       *
        * @return The nonce.
        */
       @java.lang.Override
       public long getNonce() {
         return nonce_;
       }
-
       /**
        * <code>optional fixed64 nonce = 4;</code>
-       *
        * @param value The nonce to set.
        * @return This builder for chaining.
        */
@@ -2457,10 +2279,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed64 nonce = 4;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearNonce() {
@@ -2471,46 +2291,36 @@ public final class SteammessagesClientserverLogin {
       }
 
       private com.google.protobuf.ByteString hmac_ = com.google.protobuf.ByteString.EMPTY;
-
       /**
        * <code>optional bytes hmac = 5;</code>
-       *
        * @return Whether the hmac field is set.
        */
       @java.lang.Override
       public boolean hasHmac() {
         return ((bitField0_ & 0x00000010) != 0);
       }
-
       /**
        * <code>optional bytes hmac = 5;</code>
-       *
        * @return The hmac.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getHmac() {
         return hmac_;
       }
-
       /**
        * <code>optional bytes hmac = 5;</code>
-       *
        * @param value The hmac to set.
        * @return This builder for chaining.
        */
       public Builder setHmac(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         hmac_ = value;
         bitField0_ |= 0x00000010;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes hmac = 5;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearHmac() {
@@ -2524,38 +2334,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientSecret)
-    private static final SteammessagesClientserverLogin.CMsgClientSecret DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientSecret();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientSecret getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientSecret> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientSecret>() {
-          @java.lang.Override
-          public CMsgClientSecret parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientSecret>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientSecret>() {
+      @java.lang.Override
+      public CMsgClientSecret parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientSecret> parser() {
       return PARSER;
@@ -2567,85 +2375,77 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientSecret getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientHelloOrBuilder
-      extends
+  public interface CMsgClientHelloOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientHello)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return Whether the protocolVersion field is set.
      */
     boolean hasProtocolVersion();
-
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return The protocolVersion.
      */
     int getProtocolVersion();
   }
-
-  /** Protobuf type {@code CMsgClientHello} */
-  public static final class CMsgClientHello extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientHello}
+   */
+  public static final class CMsgClientHello extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientHello)
       CMsgClientHelloOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientHello.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientHello.class.getName());
     }
-
     // Use CMsgClientHello.newBuilder() to construct.
     private CMsgClientHello(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientHello() {
+    }
 
-    private CMsgClientHello() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientHello_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHello_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientHello_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHello_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientHello.class,
-              SteammessagesClientserverLogin.CMsgClientHello.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello.Builder.class);
     }
 
     private int bitField0_;
     public static final int PROTOCOL_VERSION_FIELD_NUMBER = 1;
     private int protocolVersion_ = 0;
-
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return Whether the protocolVersion field is set.
      */
     @java.lang.Override
     public boolean hasProtocolVersion() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return The protocolVersion.
      */
     @java.lang.Override
@@ -2654,7 +2454,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -2666,7 +2465,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt32(1, protocolVersion_);
       }
@@ -2680,7 +2480,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(1, protocolVersion_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, protocolVersion_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -2690,17 +2491,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientHello)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientHello other =
-          (SteammessagesClientserverLogin.CMsgClientHello) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello) obj;
 
       if (hasProtocolVersion() != other.hasProtocolVersion()) return false;
       if (hasProtocolVersion()) {
-        if (getProtocolVersion() != other.getProtocolVersion()) return false;
+        if (getProtocolVersion()
+            != other.getProtocolVersion()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -2722,127 +2523,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(java.nio.ByteBuffer data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+        java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHello parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHello parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientHello parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(SteammessagesClientserverLogin.CMsgClientHello prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientHello} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientHello}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientHello)
-        SteammessagesClientserverLogin.CMsgClientHelloOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientHello_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHelloOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHello_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientHello_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHello_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientHello.class,
-                SteammessagesClientserverLogin.CMsgClientHello.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientHello.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -2852,18 +2654,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientHello_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientHello_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientHello getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientHello.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientHello build() {
-        SteammessagesClientserverLogin.CMsgClientHello result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2871,17 +2674,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientHello buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientHello result =
-            new SteammessagesClientserverLogin.CMsgClientHello(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientHello result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -2893,17 +2693,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientHello) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientHello) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientHello other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientHello.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello.getDefaultInstance()) return this;
         if (other.hasProtocolVersion()) {
           setProtocolVersion(other.getProtocolVersion());
         }
@@ -2933,19 +2732,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  protocolVersion_ = input.readUInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                protocolVersion_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -2955,34 +2752,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private int protocolVersion_;
-
+      private int protocolVersion_ ;
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @return Whether the protocolVersion field is set.
        */
       @java.lang.Override
       public boolean hasProtocolVersion() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @return The protocolVersion.
        */
       @java.lang.Override
       public int getProtocolVersion() {
         return protocolVersion_;
       }
-
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @param value The protocolVersion to set.
        * @return This builder for chaining.
        */
@@ -2993,10 +2783,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearProtocolVersion() {
@@ -3010,38 +2798,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientHello)
-    private static final SteammessagesClientserverLogin.CMsgClientHello DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientHello();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientHello getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientHello> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientHello>() {
-          @java.lang.Override
-          public CMsgClientHello parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientHello>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientHello>() {
+      @java.lang.Override
+      public CMsgClientHello parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientHello> parser() {
       return PARSER;
@@ -3053,972 +2839,784 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientHello getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHello getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientLogonOrBuilder
-      extends
+  public interface CMsgClientLogonOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientLogon)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return Whether the protocolVersion field is set.
      */
     boolean hasProtocolVersion();
-
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return The protocolVersion.
      */
     int getProtocolVersion();
 
     /**
      * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-     *
      * @return Whether the deprecatedObfustucatedPrivateIp field is set.
      */
     boolean hasDeprecatedObfustucatedPrivateIp();
-
     /**
      * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-     *
      * @return The deprecatedObfustucatedPrivateIp.
      */
     int getDeprecatedObfustucatedPrivateIp();
 
     /**
      * <code>optional uint32 cell_id = 3;</code>
-     *
      * @return Whether the cellId field is set.
      */
     boolean hasCellId();
-
     /**
      * <code>optional uint32 cell_id = 3;</code>
-     *
      * @return The cellId.
      */
     int getCellId();
 
     /**
      * <code>optional uint32 last_session_id = 4;</code>
-     *
      * @return Whether the lastSessionId field is set.
      */
     boolean hasLastSessionId();
-
     /**
      * <code>optional uint32 last_session_id = 4;</code>
-     *
      * @return The lastSessionId.
      */
     int getLastSessionId();
 
     /**
      * <code>optional uint32 client_package_version = 5;</code>
-     *
      * @return Whether the clientPackageVersion field is set.
      */
     boolean hasClientPackageVersion();
-
     /**
      * <code>optional uint32 client_package_version = 5;</code>
-     *
      * @return The clientPackageVersion.
      */
     int getClientPackageVersion();
 
     /**
      * <code>optional string client_language = 6;</code>
-     *
      * @return Whether the clientLanguage field is set.
      */
     boolean hasClientLanguage();
-
     /**
      * <code>optional string client_language = 6;</code>
-     *
      * @return The clientLanguage.
      */
     java.lang.String getClientLanguage();
-
     /**
      * <code>optional string client_language = 6;</code>
-     *
      * @return The bytes for clientLanguage.
      */
-    com.google.protobuf.ByteString getClientLanguageBytes();
+    com.google.protobuf.ByteString
+        getClientLanguageBytes();
 
     /**
      * <code>optional uint32 client_os_type = 7;</code>
-     *
      * @return Whether the clientOsType field is set.
      */
     boolean hasClientOsType();
-
     /**
      * <code>optional uint32 client_os_type = 7;</code>
-     *
      * @return The clientOsType.
      */
     int getClientOsType();
 
     /**
      * <code>optional bool should_remember_password = 8 [default = false];</code>
-     *
      * @return Whether the shouldRememberPassword field is set.
      */
     boolean hasShouldRememberPassword();
-
     /**
      * <code>optional bool should_remember_password = 8 [default = false];</code>
-     *
      * @return The shouldRememberPassword.
      */
     boolean getShouldRememberPassword();
 
     /**
      * <code>optional string wine_version = 9;</code>
-     *
      * @return Whether the wineVersion field is set.
      */
     boolean hasWineVersion();
-
     /**
      * <code>optional string wine_version = 9;</code>
-     *
      * @return The wineVersion.
      */
     java.lang.String getWineVersion();
-
     /**
      * <code>optional string wine_version = 9;</code>
-     *
      * @return The bytes for wineVersion.
      */
-    com.google.protobuf.ByteString getWineVersionBytes();
+    com.google.protobuf.ByteString
+        getWineVersionBytes();
 
     /**
      * <code>optional uint32 deprecated_10 = 10;</code>
-     *
      * @return Whether the deprecated10 field is set.
      */
     boolean hasDeprecated10();
-
     /**
      * <code>optional uint32 deprecated_10 = 10;</code>
-     *
      * @return The deprecated10.
      */
     int getDeprecated10();
 
     /**
      * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
-     *
      * @return Whether the obfuscatedPrivateIp field is set.
      */
     boolean hasObfuscatedPrivateIp();
-
     /**
      * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
-     *
      * @return The obfuscatedPrivateIp.
      */
-    SteammessagesBase.CMsgIPAddress getObfuscatedPrivateIp();
-
-    /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
-    SteammessagesBase.CMsgIPAddressOrBuilder getObfuscatedPrivateIpOrBuilder();
+    com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getObfuscatedPrivateIp();
+    /**
+     * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+     */
+    com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getObfuscatedPrivateIpOrBuilder();
 
     /**
      * <code>optional uint32 deprecated_public_ip = 20;</code>
-     *
      * @return Whether the deprecatedPublicIp field is set.
      */
     boolean hasDeprecatedPublicIp();
-
     /**
      * <code>optional uint32 deprecated_public_ip = 20;</code>
-     *
      * @return The deprecatedPublicIp.
      */
     int getDeprecatedPublicIp();
 
     /**
      * <code>optional uint32 qos_level = 21;</code>
-     *
      * @return Whether the qosLevel field is set.
      */
     boolean hasQosLevel();
-
     /**
      * <code>optional uint32 qos_level = 21;</code>
-     *
      * @return The qosLevel.
      */
     int getQosLevel();
 
     /**
      * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-     *
      * @return Whether the clientSuppliedSteamId field is set.
      */
     boolean hasClientSuppliedSteamId();
-
     /**
      * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-     *
      * @return The clientSuppliedSteamId.
      */
     long getClientSuppliedSteamId();
 
     /**
      * <code>optional .CMsgIPAddress public_ip = 23;</code>
-     *
      * @return Whether the publicIp field is set.
      */
     boolean hasPublicIp();
-
     /**
      * <code>optional .CMsgIPAddress public_ip = 23;</code>
-     *
      * @return The publicIp.
      */
-    SteammessagesBase.CMsgIPAddress getPublicIp();
-
-    /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
-    SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder();
+    com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getPublicIp();
+    /**
+     * <code>optional .CMsgIPAddress public_ip = 23;</code>
+     */
+    com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder();
 
     /**
      * <code>optional bytes machine_id = 30;</code>
-     *
      * @return Whether the machineId field is set.
      */
     boolean hasMachineId();
-
     /**
      * <code>optional bytes machine_id = 30;</code>
-     *
      * @return The machineId.
      */
     com.google.protobuf.ByteString getMachineId();
 
     /**
      * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-     *
      * @return Whether the launcherType field is set.
      */
     boolean hasLauncherType();
-
     /**
      * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-     *
      * @return The launcherType.
      */
     int getLauncherType();
 
     /**
      * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-     *
      * @return Whether the uiMode field is set.
      */
     boolean hasUiMode();
-
     /**
      * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-     *
      * @return The uiMode.
      */
     int getUiMode();
 
     /**
      * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-     *
      * @return Whether the chatMode field is set.
      */
     boolean hasChatMode();
-
     /**
      * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-     *
      * @return The chatMode.
      */
     int getChatMode();
 
     /**
      * <code>optional bytes steam2_auth_ticket = 41;</code>
-     *
      * @return Whether the steam2AuthTicket field is set.
      */
     boolean hasSteam2AuthTicket();
-
     /**
      * <code>optional bytes steam2_auth_ticket = 41;</code>
-     *
      * @return The steam2AuthTicket.
      */
     com.google.protobuf.ByteString getSteam2AuthTicket();
 
     /**
      * <code>optional string email_address = 42;</code>
-     *
      * @return Whether the emailAddress field is set.
      */
     boolean hasEmailAddress();
-
     /**
      * <code>optional string email_address = 42;</code>
-     *
      * @return The emailAddress.
      */
     java.lang.String getEmailAddress();
-
     /**
      * <code>optional string email_address = 42;</code>
-     *
      * @return The bytes for emailAddress.
      */
-    com.google.protobuf.ByteString getEmailAddressBytes();
+    com.google.protobuf.ByteString
+        getEmailAddressBytes();
 
     /**
      * <code>optional fixed32 rtime32_account_creation = 43;</code>
-     *
      * @return Whether the rtime32AccountCreation field is set.
      */
     boolean hasRtime32AccountCreation();
-
     /**
      * <code>optional fixed32 rtime32_account_creation = 43;</code>
-     *
      * @return The rtime32AccountCreation.
      */
     int getRtime32AccountCreation();
 
     /**
      * <code>optional string account_name = 50;</code>
-     *
      * @return Whether the accountName field is set.
      */
     boolean hasAccountName();
-
     /**
      * <code>optional string account_name = 50;</code>
-     *
      * @return The accountName.
      */
     java.lang.String getAccountName();
-
     /**
      * <code>optional string account_name = 50;</code>
-     *
      * @return The bytes for accountName.
      */
-    com.google.protobuf.ByteString getAccountNameBytes();
+    com.google.protobuf.ByteString
+        getAccountNameBytes();
 
     /**
      * <code>optional string password = 51;</code>
-     *
      * @return Whether the password field is set.
      */
     boolean hasPassword();
-
     /**
      * <code>optional string password = 51;</code>
-     *
      * @return The password.
      */
     java.lang.String getPassword();
-
     /**
      * <code>optional string password = 51;</code>
-     *
      * @return The bytes for password.
      */
-    com.google.protobuf.ByteString getPasswordBytes();
+    com.google.protobuf.ByteString
+        getPasswordBytes();
 
     /**
      * <code>optional string game_server_token = 52;</code>
-     *
      * @return Whether the gameServerToken field is set.
      */
     boolean hasGameServerToken();
-
     /**
      * <code>optional string game_server_token = 52;</code>
-     *
      * @return The gameServerToken.
      */
     java.lang.String getGameServerToken();
-
     /**
      * <code>optional string game_server_token = 52;</code>
-     *
      * @return The bytes for gameServerToken.
      */
-    com.google.protobuf.ByteString getGameServerTokenBytes();
+    com.google.protobuf.ByteString
+        getGameServerTokenBytes();
 
     /**
      * <code>optional string login_key = 60;</code>
-     *
      * @return Whether the loginKey field is set.
      */
     boolean hasLoginKey();
-
     /**
      * <code>optional string login_key = 60;</code>
-     *
      * @return The loginKey.
      */
     java.lang.String getLoginKey();
-
     /**
      * <code>optional string login_key = 60;</code>
-     *
      * @return The bytes for loginKey.
      */
-    com.google.protobuf.ByteString getLoginKeyBytes();
+    com.google.protobuf.ByteString
+        getLoginKeyBytes();
 
     /**
      * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-     *
      * @return Whether the wasConvertedDeprecatedMsg field is set.
      */
     boolean hasWasConvertedDeprecatedMsg();
-
     /**
      * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-     *
      * @return The wasConvertedDeprecatedMsg.
      */
     boolean getWasConvertedDeprecatedMsg();
 
     /**
      * <code>optional string anon_user_target_account_name = 80;</code>
-     *
      * @return Whether the anonUserTargetAccountName field is set.
      */
     boolean hasAnonUserTargetAccountName();
-
     /**
      * <code>optional string anon_user_target_account_name = 80;</code>
-     *
      * @return The anonUserTargetAccountName.
      */
     java.lang.String getAnonUserTargetAccountName();
-
     /**
      * <code>optional string anon_user_target_account_name = 80;</code>
-     *
      * @return The bytes for anonUserTargetAccountName.
      */
-    com.google.protobuf.ByteString getAnonUserTargetAccountNameBytes();
+    com.google.protobuf.ByteString
+        getAnonUserTargetAccountNameBytes();
 
     /**
      * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-     *
      * @return Whether the resolvedUserSteamId field is set.
      */
     boolean hasResolvedUserSteamId();
-
     /**
      * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-     *
      * @return The resolvedUserSteamId.
      */
     long getResolvedUserSteamId();
 
     /**
      * <code>optional int32 eresult_sentryfile = 82;</code>
-     *
      * @return Whether the eresultSentryfile field is set.
      */
     boolean hasEresultSentryfile();
-
     /**
      * <code>optional int32 eresult_sentryfile = 82;</code>
-     *
      * @return The eresultSentryfile.
      */
     int getEresultSentryfile();
 
     /**
      * <code>optional bytes sha_sentryfile = 83;</code>
-     *
      * @return Whether the shaSentryfile field is set.
      */
     boolean hasShaSentryfile();
-
     /**
      * <code>optional bytes sha_sentryfile = 83;</code>
-     *
      * @return The shaSentryfile.
      */
     com.google.protobuf.ByteString getShaSentryfile();
 
     /**
      * <code>optional string auth_code = 84;</code>
-     *
      * @return Whether the authCode field is set.
      */
     boolean hasAuthCode();
-
     /**
      * <code>optional string auth_code = 84;</code>
-     *
      * @return The authCode.
      */
     java.lang.String getAuthCode();
-
     /**
      * <code>optional string auth_code = 84;</code>
-     *
      * @return The bytes for authCode.
      */
-    com.google.protobuf.ByteString getAuthCodeBytes();
+    com.google.protobuf.ByteString
+        getAuthCodeBytes();
 
     /**
      * <code>optional int32 otp_type = 85;</code>
-     *
      * @return Whether the otpType field is set.
      */
     boolean hasOtpType();
-
     /**
      * <code>optional int32 otp_type = 85;</code>
-     *
      * @return The otpType.
      */
     int getOtpType();
 
     /**
      * <code>optional uint32 otp_value = 86;</code>
-     *
      * @return Whether the otpValue field is set.
      */
     boolean hasOtpValue();
-
     /**
      * <code>optional uint32 otp_value = 86;</code>
-     *
      * @return The otpValue.
      */
     int getOtpValue();
 
     /**
      * <code>optional string otp_identifier = 87;</code>
-     *
      * @return Whether the otpIdentifier field is set.
      */
     boolean hasOtpIdentifier();
-
     /**
      * <code>optional string otp_identifier = 87;</code>
-     *
      * @return The otpIdentifier.
      */
     java.lang.String getOtpIdentifier();
-
     /**
      * <code>optional string otp_identifier = 87;</code>
-     *
      * @return The bytes for otpIdentifier.
      */
-    com.google.protobuf.ByteString getOtpIdentifierBytes();
+    com.google.protobuf.ByteString
+        getOtpIdentifierBytes();
 
     /**
      * <code>optional bool steam2_ticket_request = 88;</code>
-     *
      * @return Whether the steam2TicketRequest field is set.
      */
     boolean hasSteam2TicketRequest();
-
     /**
      * <code>optional bool steam2_ticket_request = 88;</code>
-     *
      * @return The steam2TicketRequest.
      */
     boolean getSteam2TicketRequest();
 
     /**
      * <code>optional bytes sony_psn_ticket = 90;</code>
-     *
      * @return Whether the sonyPsnTicket field is set.
      */
     boolean hasSonyPsnTicket();
-
     /**
      * <code>optional bytes sony_psn_ticket = 90;</code>
-     *
      * @return The sonyPsnTicket.
      */
     com.google.protobuf.ByteString getSonyPsnTicket();
 
     /**
      * <code>optional string sony_psn_service_id = 91;</code>
-     *
      * @return Whether the sonyPsnServiceId field is set.
      */
     boolean hasSonyPsnServiceId();
-
     /**
      * <code>optional string sony_psn_service_id = 91;</code>
-     *
      * @return The sonyPsnServiceId.
      */
     java.lang.String getSonyPsnServiceId();
-
     /**
      * <code>optional string sony_psn_service_id = 91;</code>
-     *
      * @return The bytes for sonyPsnServiceId.
      */
-    com.google.protobuf.ByteString getSonyPsnServiceIdBytes();
+    com.google.protobuf.ByteString
+        getSonyPsnServiceIdBytes();
 
     /**
      * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-     *
      * @return Whether the createNewPsnLinkedAccountIfNeeded field is set.
      */
     boolean hasCreateNewPsnLinkedAccountIfNeeded();
-
     /**
      * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-     *
      * @return The createNewPsnLinkedAccountIfNeeded.
      */
     boolean getCreateNewPsnLinkedAccountIfNeeded();
 
     /**
      * <code>optional string sony_psn_name = 93;</code>
-     *
      * @return Whether the sonyPsnName field is set.
      */
     boolean hasSonyPsnName();
-
     /**
      * <code>optional string sony_psn_name = 93;</code>
-     *
      * @return The sonyPsnName.
      */
     java.lang.String getSonyPsnName();
-
     /**
      * <code>optional string sony_psn_name = 93;</code>
-     *
      * @return The bytes for sonyPsnName.
      */
-    com.google.protobuf.ByteString getSonyPsnNameBytes();
+    com.google.protobuf.ByteString
+        getSonyPsnNameBytes();
 
     /**
      * <code>optional int32 game_server_app_id = 94;</code>
-     *
      * @return Whether the gameServerAppId field is set.
      */
     boolean hasGameServerAppId();
-
     /**
      * <code>optional int32 game_server_app_id = 94;</code>
-     *
      * @return The gameServerAppId.
      */
     int getGameServerAppId();
 
     /**
      * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-     *
      * @return Whether the steamguardDontRememberComputer field is set.
      */
     boolean hasSteamguardDontRememberComputer();
-
     /**
      * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-     *
      * @return The steamguardDontRememberComputer.
      */
     boolean getSteamguardDontRememberComputer();
 
     /**
      * <code>optional string machine_name = 96;</code>
-     *
      * @return Whether the machineName field is set.
      */
     boolean hasMachineName();
-
     /**
      * <code>optional string machine_name = 96;</code>
-     *
      * @return The machineName.
      */
     java.lang.String getMachineName();
-
     /**
      * <code>optional string machine_name = 96;</code>
-     *
      * @return The bytes for machineName.
      */
-    com.google.protobuf.ByteString getMachineNameBytes();
+    com.google.protobuf.ByteString
+        getMachineNameBytes();
 
     /**
      * <code>optional string machine_name_userchosen = 97;</code>
-     *
      * @return Whether the machineNameUserchosen field is set.
      */
     boolean hasMachineNameUserchosen();
-
     /**
      * <code>optional string machine_name_userchosen = 97;</code>
-     *
      * @return The machineNameUserchosen.
      */
     java.lang.String getMachineNameUserchosen();
-
     /**
      * <code>optional string machine_name_userchosen = 97;</code>
-     *
      * @return The bytes for machineNameUserchosen.
      */
-    com.google.protobuf.ByteString getMachineNameUserchosenBytes();
+    com.google.protobuf.ByteString
+        getMachineNameUserchosenBytes();
 
     /**
      * <code>optional string country_override = 98;</code>
-     *
      * @return Whether the countryOverride field is set.
      */
     boolean hasCountryOverride();
-
     /**
      * <code>optional string country_override = 98;</code>
-     *
      * @return The countryOverride.
      */
     java.lang.String getCountryOverride();
-
     /**
      * <code>optional string country_override = 98;</code>
-     *
      * @return The bytes for countryOverride.
      */
-    com.google.protobuf.ByteString getCountryOverrideBytes();
+    com.google.protobuf.ByteString
+        getCountryOverrideBytes();
 
     /**
      * <code>optional bool is_steam_box = 99;</code>
-     *
      * @return Whether the isSteamBox field is set.
      */
     boolean hasIsSteamBox();
-
     /**
      * <code>optional bool is_steam_box = 99;</code>
-     *
      * @return The isSteamBox.
      */
     boolean getIsSteamBox();
 
     /**
      * <code>optional uint64 client_instance_id = 100;</code>
-     *
      * @return Whether the clientInstanceId field is set.
      */
     boolean hasClientInstanceId();
-
     /**
      * <code>optional uint64 client_instance_id = 100;</code>
-     *
      * @return The clientInstanceId.
      */
     long getClientInstanceId();
 
     /**
      * <code>optional string two_factor_code = 101;</code>
-     *
      * @return Whether the twoFactorCode field is set.
      */
     boolean hasTwoFactorCode();
-
     /**
      * <code>optional string two_factor_code = 101;</code>
-     *
      * @return The twoFactorCode.
      */
     java.lang.String getTwoFactorCode();
-
     /**
      * <code>optional string two_factor_code = 101;</code>
-     *
      * @return The bytes for twoFactorCode.
      */
-    com.google.protobuf.ByteString getTwoFactorCodeBytes();
+    com.google.protobuf.ByteString
+        getTwoFactorCodeBytes();
 
     /**
      * <code>optional bool supports_rate_limit_response = 102;</code>
-     *
      * @return Whether the supportsRateLimitResponse field is set.
      */
     boolean hasSupportsRateLimitResponse();
-
     /**
      * <code>optional bool supports_rate_limit_response = 102;</code>
-     *
      * @return The supportsRateLimitResponse.
      */
     boolean getSupportsRateLimitResponse();
 
     /**
      * <code>optional string web_logon_nonce = 103;</code>
-     *
      * @return Whether the webLogonNonce field is set.
      */
     boolean hasWebLogonNonce();
-
     /**
      * <code>optional string web_logon_nonce = 103;</code>
-     *
      * @return The webLogonNonce.
      */
     java.lang.String getWebLogonNonce();
-
     /**
      * <code>optional string web_logon_nonce = 103;</code>
-     *
      * @return The bytes for webLogonNonce.
      */
-    com.google.protobuf.ByteString getWebLogonNonceBytes();
+    com.google.protobuf.ByteString
+        getWebLogonNonceBytes();
 
     /**
      * <code>optional int32 priority_reason = 104;</code>
-     *
      * @return Whether the priorityReason field is set.
      */
     boolean hasPriorityReason();
-
     /**
      * <code>optional int32 priority_reason = 104;</code>
-     *
      * @return The priorityReason.
      */
     int getPriorityReason();
 
     /**
      * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
-     *
      * @return Whether the embeddedClientSecret field is set.
      */
     boolean hasEmbeddedClientSecret();
-
     /**
      * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
-     *
      * @return The embeddedClientSecret.
      */
-    SteammessagesClientserverLogin.CMsgClientSecret getEmbeddedClientSecret();
-
-    /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
-    SteammessagesClientserverLogin.CMsgClientSecretOrBuilder getEmbeddedClientSecretOrBuilder();
+    com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret getEmbeddedClientSecret();
+    /**
+     * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+     */
+    com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecretOrBuilder getEmbeddedClientSecretOrBuilder();
 
     /**
      * <code>optional bool disable_partner_autogrants = 106;</code>
-     *
      * @return Whether the disablePartnerAutogrants field is set.
      */
     boolean hasDisablePartnerAutogrants();
-
     /**
      * <code>optional bool disable_partner_autogrants = 106;</code>
-     *
      * @return The disablePartnerAutogrants.
      */
     boolean getDisablePartnerAutogrants();
 
     /**
      * <code>optional bool is_steam_deck = 107;</code>
-     *
      * @return Whether the isSteamDeck field is set.
      */
     boolean hasIsSteamDeck();
-
     /**
      * <code>optional bool is_steam_deck = 107;</code>
-     *
      * @return The isSteamDeck.
      */
     boolean getIsSteamDeck();
 
     /**
      * <code>optional string access_token = 108;</code>
-     *
      * @return Whether the accessToken field is set.
      */
     boolean hasAccessToken();
-
     /**
      * <code>optional string access_token = 108;</code>
-     *
      * @return The accessToken.
      */
     java.lang.String getAccessToken();
-
     /**
      * <code>optional string access_token = 108;</code>
-     *
      * @return The bytes for accessToken.
      */
-    com.google.protobuf.ByteString getAccessTokenBytes();
+    com.google.protobuf.ByteString
+        getAccessTokenBytes();
 
     /**
      * <code>optional bool is_chrome_os = 109;</code>
-     *
      * @return Whether the isChromeOs field is set.
      */
     boolean hasIsChromeOs();
-
     /**
      * <code>optional bool is_chrome_os = 109;</code>
-     *
      * @return The isChromeOs.
      */
     boolean getIsChromeOs();
 
     /**
      * <code>optional bool is_tesla = 110;</code>
-     *
      * @return Whether the isTesla field is set.
      */
     boolean hasIsTesla();
-
     /**
      * <code>optional bool is_tesla = 110;</code>
-     *
      * @return The isTesla.
      */
     boolean getIsTesla();
   }
-
-  /** Protobuf type {@code CMsgClientLogon} */
-  public static final class CMsgClientLogon extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientLogon}
+   */
+  public static final class CMsgClientLogon extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientLogon)
       CMsgClientLogonOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientLogon.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientLogon.class.getName());
     }
-
     // Use CMsgClientLogon.newBuilder() to construct.
     private CMsgClientLogon(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientLogon() {
       clientLanguage_ = "";
       wineVersion_ = "";
@@ -4044,37 +3642,33 @@ public final class SteammessagesClientserverLogin {
       accessToken_ = "";
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientLogon_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogon_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientLogon_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogon_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientLogon.class,
-              SteammessagesClientserverLogin.CMsgClientLogon.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon.Builder.class);
     }
 
     private int bitField0_;
     private int bitField1_;
     public static final int PROTOCOL_VERSION_FIELD_NUMBER = 1;
     private int protocolVersion_ = 0;
-
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return Whether the protocolVersion field is set.
      */
     @java.lang.Override
     public boolean hasProtocolVersion() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint32 protocol_version = 1;</code>
-     *
      * @return The protocolVersion.
      */
     @java.lang.Override
@@ -4084,20 +3678,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int DEPRECATED_OBFUSTUCATED_PRIVATE_IP_FIELD_NUMBER = 2;
     private int deprecatedObfustucatedPrivateIp_ = 0;
-
     /**
      * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-     *
      * @return Whether the deprecatedObfustucatedPrivateIp field is set.
      */
     @java.lang.Override
     public boolean hasDeprecatedObfustucatedPrivateIp() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-     *
      * @return The deprecatedObfustucatedPrivateIp.
      */
     @java.lang.Override
@@ -4107,20 +3697,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CELL_ID_FIELD_NUMBER = 3;
     private int cellId_ = 0;
-
     /**
      * <code>optional uint32 cell_id = 3;</code>
-     *
      * @return Whether the cellId field is set.
      */
     @java.lang.Override
     public boolean hasCellId() {
       return ((bitField0_ & 0x00000004) != 0);
     }
-
     /**
      * <code>optional uint32 cell_id = 3;</code>
-     *
      * @return The cellId.
      */
     @java.lang.Override
@@ -4130,20 +3716,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int LAST_SESSION_ID_FIELD_NUMBER = 4;
     private int lastSessionId_ = 0;
-
     /**
      * <code>optional uint32 last_session_id = 4;</code>
-     *
      * @return Whether the lastSessionId field is set.
      */
     @java.lang.Override
     public boolean hasLastSessionId() {
       return ((bitField0_ & 0x00000008) != 0);
     }
-
     /**
      * <code>optional uint32 last_session_id = 4;</code>
-     *
      * @return The lastSessionId.
      */
     @java.lang.Override
@@ -4153,20 +3735,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CLIENT_PACKAGE_VERSION_FIELD_NUMBER = 5;
     private int clientPackageVersion_ = 0;
-
     /**
      * <code>optional uint32 client_package_version = 5;</code>
-     *
      * @return Whether the clientPackageVersion field is set.
      */
     @java.lang.Override
     public boolean hasClientPackageVersion() {
       return ((bitField0_ & 0x00000010) != 0);
     }
-
     /**
      * <code>optional uint32 client_package_version = 5;</code>
-     *
      * @return The clientPackageVersion.
      */
     @java.lang.Override
@@ -4175,23 +3753,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int CLIENT_LANGUAGE_FIELD_NUMBER = 6;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object clientLanguage_ = "";
-
     /**
      * <code>optional string client_language = 6;</code>
-     *
      * @return Whether the clientLanguage field is set.
      */
     @java.lang.Override
     public boolean hasClientLanguage() {
       return ((bitField0_ & 0x00000020) != 0);
     }
-
     /**
      * <code>optional string client_language = 6;</code>
-     *
      * @return The clientLanguage.
      */
     @java.lang.Override
@@ -4200,7 +3773,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           clientLanguage_ = s;
@@ -4208,18 +3782,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string client_language = 6;</code>
-     *
      * @return The bytes for clientLanguage.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getClientLanguageBytes() {
+    public com.google.protobuf.ByteString
+        getClientLanguageBytes() {
       java.lang.Object ref = clientLanguage_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         clientLanguage_ = b;
         return b;
       } else {
@@ -4229,20 +3803,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CLIENT_OS_TYPE_FIELD_NUMBER = 7;
     private int clientOsType_ = 0;
-
     /**
      * <code>optional uint32 client_os_type = 7;</code>
-     *
      * @return Whether the clientOsType field is set.
      */
     @java.lang.Override
     public boolean hasClientOsType() {
       return ((bitField0_ & 0x00000040) != 0);
     }
-
     /**
      * <code>optional uint32 client_os_type = 7;</code>
-     *
      * @return The clientOsType.
      */
     @java.lang.Override
@@ -4252,20 +3822,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int SHOULD_REMEMBER_PASSWORD_FIELD_NUMBER = 8;
     private boolean shouldRememberPassword_ = false;
-
     /**
      * <code>optional bool should_remember_password = 8 [default = false];</code>
-     *
      * @return Whether the shouldRememberPassword field is set.
      */
     @java.lang.Override
     public boolean hasShouldRememberPassword() {
       return ((bitField0_ & 0x00000080) != 0);
     }
-
     /**
      * <code>optional bool should_remember_password = 8 [default = false];</code>
-     *
      * @return The shouldRememberPassword.
      */
     @java.lang.Override
@@ -4274,23 +3840,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int WINE_VERSION_FIELD_NUMBER = 9;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object wineVersion_ = "";
-
     /**
      * <code>optional string wine_version = 9;</code>
-     *
      * @return Whether the wineVersion field is set.
      */
     @java.lang.Override
     public boolean hasWineVersion() {
       return ((bitField0_ & 0x00000100) != 0);
     }
-
     /**
      * <code>optional string wine_version = 9;</code>
-     *
      * @return The wineVersion.
      */
     @java.lang.Override
@@ -4299,7 +3860,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           wineVersion_ = s;
@@ -4307,18 +3869,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string wine_version = 9;</code>
-     *
      * @return The bytes for wineVersion.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getWineVersionBytes() {
+    public com.google.protobuf.ByteString
+        getWineVersionBytes() {
       java.lang.Object ref = wineVersion_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         wineVersion_ = b;
         return b;
       } else {
@@ -4328,20 +3890,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int DEPRECATED_10_FIELD_NUMBER = 10;
     private int deprecated10_ = 0;
-
     /**
      * <code>optional uint32 deprecated_10 = 10;</code>
-     *
      * @return Whether the deprecated10 field is set.
      */
     @java.lang.Override
     public boolean hasDeprecated10() {
       return ((bitField0_ & 0x00000200) != 0);
     }
-
     /**
      * <code>optional uint32 deprecated_10 = 10;</code>
-     *
      * @return The deprecated10.
      */
     @java.lang.Override
@@ -4350,54 +3908,43 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int OBFUSCATED_PRIVATE_IP_FIELD_NUMBER = 11;
-    private SteammessagesBase.CMsgIPAddress obfuscatedPrivateIp_;
-
+    private com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress obfuscatedPrivateIp_;
     /**
      * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
-     *
      * @return Whether the obfuscatedPrivateIp field is set.
      */
     @java.lang.Override
     public boolean hasObfuscatedPrivateIp() {
       return ((bitField0_ & 0x00000400) != 0);
     }
-
     /**
      * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
-     *
      * @return The obfuscatedPrivateIp.
      */
     @java.lang.Override
-    public SteammessagesBase.CMsgIPAddress getObfuscatedPrivateIp() {
-      return obfuscatedPrivateIp_ == null
-          ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-          : obfuscatedPrivateIp_;
+    public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getObfuscatedPrivateIp() {
+      return obfuscatedPrivateIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : obfuscatedPrivateIp_;
     }
-
-    /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
+    /**
+     * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+     */
     @java.lang.Override
-    public SteammessagesBase.CMsgIPAddressOrBuilder getObfuscatedPrivateIpOrBuilder() {
-      return obfuscatedPrivateIp_ == null
-          ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-          : obfuscatedPrivateIp_;
+    public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getObfuscatedPrivateIpOrBuilder() {
+      return obfuscatedPrivateIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : obfuscatedPrivateIp_;
     }
 
     public static final int DEPRECATED_PUBLIC_IP_FIELD_NUMBER = 20;
     private int deprecatedPublicIp_ = 0;
-
     /**
      * <code>optional uint32 deprecated_public_ip = 20;</code>
-     *
      * @return Whether the deprecatedPublicIp field is set.
      */
     @java.lang.Override
     public boolean hasDeprecatedPublicIp() {
       return ((bitField0_ & 0x00000800) != 0);
     }
-
     /**
      * <code>optional uint32 deprecated_public_ip = 20;</code>
-     *
      * @return The deprecatedPublicIp.
      */
     @java.lang.Override
@@ -4407,20 +3954,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int QOS_LEVEL_FIELD_NUMBER = 21;
     private int qosLevel_ = 0;
-
     /**
      * <code>optional uint32 qos_level = 21;</code>
-     *
      * @return Whether the qosLevel field is set.
      */
     @java.lang.Override
     public boolean hasQosLevel() {
       return ((bitField0_ & 0x00001000) != 0);
     }
-
     /**
      * <code>optional uint32 qos_level = 21;</code>
-     *
      * @return The qosLevel.
      */
     @java.lang.Override
@@ -4430,20 +3973,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CLIENT_SUPPLIED_STEAM_ID_FIELD_NUMBER = 22;
     private long clientSuppliedSteamId_ = 0L;
-
     /**
      * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-     *
      * @return Whether the clientSuppliedSteamId field is set.
      */
     @java.lang.Override
     public boolean hasClientSuppliedSteamId() {
       return ((bitField0_ & 0x00002000) != 0);
     }
-
     /**
      * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-     *
      * @return The clientSuppliedSteamId.
      */
     @java.lang.Override
@@ -4452,50 +3991,43 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int PUBLIC_IP_FIELD_NUMBER = 23;
-    private SteammessagesBase.CMsgIPAddress publicIp_;
-
+    private com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress publicIp_;
     /**
      * <code>optional .CMsgIPAddress public_ip = 23;</code>
-     *
      * @return Whether the publicIp field is set.
      */
     @java.lang.Override
     public boolean hasPublicIp() {
       return ((bitField0_ & 0x00004000) != 0);
     }
-
     /**
      * <code>optional .CMsgIPAddress public_ip = 23;</code>
-     *
      * @return The publicIp.
      */
     @java.lang.Override
-    public SteammessagesBase.CMsgIPAddress getPublicIp() {
-      return publicIp_ == null ? SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
+    public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getPublicIp() {
+      return publicIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
     }
-
-    /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
+    /**
+     * <code>optional .CMsgIPAddress public_ip = 23;</code>
+     */
     @java.lang.Override
-    public SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
-      return publicIp_ == null ? SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
+    public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
+      return publicIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
     }
 
     public static final int MACHINE_ID_FIELD_NUMBER = 30;
     private com.google.protobuf.ByteString machineId_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes machine_id = 30;</code>
-     *
      * @return Whether the machineId field is set.
      */
     @java.lang.Override
     public boolean hasMachineId() {
       return ((bitField0_ & 0x00008000) != 0);
     }
-
     /**
      * <code>optional bytes machine_id = 30;</code>
-     *
      * @return The machineId.
      */
     @java.lang.Override
@@ -4505,20 +4037,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int LAUNCHER_TYPE_FIELD_NUMBER = 31;
     private int launcherType_ = 0;
-
     /**
      * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-     *
      * @return Whether the launcherType field is set.
      */
     @java.lang.Override
     public boolean hasLauncherType() {
       return ((bitField0_ & 0x00010000) != 0);
     }
-
     /**
      * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-     *
      * @return The launcherType.
      */
     @java.lang.Override
@@ -4528,20 +4056,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int UI_MODE_FIELD_NUMBER = 32;
     private int uiMode_ = 0;
-
     /**
      * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-     *
      * @return Whether the uiMode field is set.
      */
     @java.lang.Override
     public boolean hasUiMode() {
       return ((bitField0_ & 0x00020000) != 0);
     }
-
     /**
      * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-     *
      * @return The uiMode.
      */
     @java.lang.Override
@@ -4551,20 +4075,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CHAT_MODE_FIELD_NUMBER = 33;
     private int chatMode_ = 0;
-
     /**
      * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-     *
      * @return Whether the chatMode field is set.
      */
     @java.lang.Override
     public boolean hasChatMode() {
       return ((bitField0_ & 0x00040000) != 0);
     }
-
     /**
      * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-     *
      * @return The chatMode.
      */
     @java.lang.Override
@@ -4574,20 +4094,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int STEAM2_AUTH_TICKET_FIELD_NUMBER = 41;
     private com.google.protobuf.ByteString steam2AuthTicket_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes steam2_auth_ticket = 41;</code>
-     *
      * @return Whether the steam2AuthTicket field is set.
      */
     @java.lang.Override
     public boolean hasSteam2AuthTicket() {
       return ((bitField0_ & 0x00080000) != 0);
     }
-
     /**
      * <code>optional bytes steam2_auth_ticket = 41;</code>
-     *
      * @return The steam2AuthTicket.
      */
     @java.lang.Override
@@ -4596,23 +4112,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int EMAIL_ADDRESS_FIELD_NUMBER = 42;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object emailAddress_ = "";
-
     /**
      * <code>optional string email_address = 42;</code>
-     *
      * @return Whether the emailAddress field is set.
      */
     @java.lang.Override
     public boolean hasEmailAddress() {
       return ((bitField0_ & 0x00100000) != 0);
     }
-
     /**
      * <code>optional string email_address = 42;</code>
-     *
      * @return The emailAddress.
      */
     @java.lang.Override
@@ -4621,7 +4132,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           emailAddress_ = s;
@@ -4629,18 +4141,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string email_address = 42;</code>
-     *
      * @return The bytes for emailAddress.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getEmailAddressBytes() {
+    public com.google.protobuf.ByteString
+        getEmailAddressBytes() {
       java.lang.Object ref = emailAddress_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         emailAddress_ = b;
         return b;
       } else {
@@ -4650,20 +4162,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int RTIME32_ACCOUNT_CREATION_FIELD_NUMBER = 43;
     private int rtime32AccountCreation_ = 0;
-
     /**
      * <code>optional fixed32 rtime32_account_creation = 43;</code>
-     *
      * @return Whether the rtime32AccountCreation field is set.
      */
     @java.lang.Override
     public boolean hasRtime32AccountCreation() {
       return ((bitField0_ & 0x00200000) != 0);
     }
-
     /**
      * <code>optional fixed32 rtime32_account_creation = 43;</code>
-     *
      * @return The rtime32AccountCreation.
      */
     @java.lang.Override
@@ -4672,23 +4180,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int ACCOUNT_NAME_FIELD_NUMBER = 50;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object accountName_ = "";
-
     /**
      * <code>optional string account_name = 50;</code>
-     *
      * @return Whether the accountName field is set.
      */
     @java.lang.Override
     public boolean hasAccountName() {
       return ((bitField0_ & 0x00400000) != 0);
     }
-
     /**
      * <code>optional string account_name = 50;</code>
-     *
      * @return The accountName.
      */
     @java.lang.Override
@@ -4697,7 +4200,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           accountName_ = s;
@@ -4705,18 +4209,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string account_name = 50;</code>
-     *
      * @return The bytes for accountName.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getAccountNameBytes() {
+    public com.google.protobuf.ByteString
+        getAccountNameBytes() {
       java.lang.Object ref = accountName_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         accountName_ = b;
         return b;
       } else {
@@ -4725,23 +4229,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int PASSWORD_FIELD_NUMBER = 51;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object password_ = "";
-
     /**
      * <code>optional string password = 51;</code>
-     *
      * @return Whether the password field is set.
      */
     @java.lang.Override
     public boolean hasPassword() {
       return ((bitField0_ & 0x00800000) != 0);
     }
-
     /**
      * <code>optional string password = 51;</code>
-     *
      * @return The password.
      */
     @java.lang.Override
@@ -4750,7 +4249,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           password_ = s;
@@ -4758,18 +4258,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string password = 51;</code>
-     *
      * @return The bytes for password.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getPasswordBytes() {
+    public com.google.protobuf.ByteString
+        getPasswordBytes() {
       java.lang.Object ref = password_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         password_ = b;
         return b;
       } else {
@@ -4778,23 +4278,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int GAME_SERVER_TOKEN_FIELD_NUMBER = 52;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object gameServerToken_ = "";
-
     /**
      * <code>optional string game_server_token = 52;</code>
-     *
      * @return Whether the gameServerToken field is set.
      */
     @java.lang.Override
     public boolean hasGameServerToken() {
       return ((bitField0_ & 0x01000000) != 0);
     }
-
     /**
      * <code>optional string game_server_token = 52;</code>
-     *
      * @return The gameServerToken.
      */
     @java.lang.Override
@@ -4803,7 +4298,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           gameServerToken_ = s;
@@ -4811,18 +4307,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string game_server_token = 52;</code>
-     *
      * @return The bytes for gameServerToken.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getGameServerTokenBytes() {
+    public com.google.protobuf.ByteString
+        getGameServerTokenBytes() {
       java.lang.Object ref = gameServerToken_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         gameServerToken_ = b;
         return b;
       } else {
@@ -4831,23 +4327,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int LOGIN_KEY_FIELD_NUMBER = 60;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object loginKey_ = "";
-
     /**
      * <code>optional string login_key = 60;</code>
-     *
      * @return Whether the loginKey field is set.
      */
     @java.lang.Override
     public boolean hasLoginKey() {
       return ((bitField0_ & 0x02000000) != 0);
     }
-
     /**
      * <code>optional string login_key = 60;</code>
-     *
      * @return The loginKey.
      */
     @java.lang.Override
@@ -4856,7 +4347,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           loginKey_ = s;
@@ -4864,18 +4356,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string login_key = 60;</code>
-     *
      * @return The bytes for loginKey.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getLoginKeyBytes() {
+    public com.google.protobuf.ByteString
+        getLoginKeyBytes() {
       java.lang.Object ref = loginKey_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         loginKey_ = b;
         return b;
       } else {
@@ -4885,20 +4377,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int WAS_CONVERTED_DEPRECATED_MSG_FIELD_NUMBER = 70;
     private boolean wasConvertedDeprecatedMsg_ = false;
-
     /**
      * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-     *
      * @return Whether the wasConvertedDeprecatedMsg field is set.
      */
     @java.lang.Override
     public boolean hasWasConvertedDeprecatedMsg() {
       return ((bitField0_ & 0x04000000) != 0);
     }
-
     /**
      * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-     *
      * @return The wasConvertedDeprecatedMsg.
      */
     @java.lang.Override
@@ -4907,23 +4395,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int ANON_USER_TARGET_ACCOUNT_NAME_FIELD_NUMBER = 80;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object anonUserTargetAccountName_ = "";
-
     /**
      * <code>optional string anon_user_target_account_name = 80;</code>
-     *
      * @return Whether the anonUserTargetAccountName field is set.
      */
     @java.lang.Override
     public boolean hasAnonUserTargetAccountName() {
       return ((bitField0_ & 0x08000000) != 0);
     }
-
     /**
      * <code>optional string anon_user_target_account_name = 80;</code>
-     *
      * @return The anonUserTargetAccountName.
      */
     @java.lang.Override
@@ -4932,7 +4415,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           anonUserTargetAccountName_ = s;
@@ -4940,18 +4424,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string anon_user_target_account_name = 80;</code>
-     *
      * @return The bytes for anonUserTargetAccountName.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getAnonUserTargetAccountNameBytes() {
+    public com.google.protobuf.ByteString
+        getAnonUserTargetAccountNameBytes() {
       java.lang.Object ref = anonUserTargetAccountName_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         anonUserTargetAccountName_ = b;
         return b;
       } else {
@@ -4961,20 +4445,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int RESOLVED_USER_STEAM_ID_FIELD_NUMBER = 81;
     private long resolvedUserSteamId_ = 0L;
-
     /**
      * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-     *
      * @return Whether the resolvedUserSteamId field is set.
      */
     @java.lang.Override
     public boolean hasResolvedUserSteamId() {
       return ((bitField0_ & 0x10000000) != 0);
     }
-
     /**
      * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-     *
      * @return The resolvedUserSteamId.
      */
     @java.lang.Override
@@ -4984,20 +4464,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int ERESULT_SENTRYFILE_FIELD_NUMBER = 82;
     private int eresultSentryfile_ = 0;
-
     /**
      * <code>optional int32 eresult_sentryfile = 82;</code>
-     *
      * @return Whether the eresultSentryfile field is set.
      */
     @java.lang.Override
     public boolean hasEresultSentryfile() {
       return ((bitField0_ & 0x20000000) != 0);
     }
-
     /**
      * <code>optional int32 eresult_sentryfile = 82;</code>
-     *
      * @return The eresultSentryfile.
      */
     @java.lang.Override
@@ -5007,20 +4483,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int SHA_SENTRYFILE_FIELD_NUMBER = 83;
     private com.google.protobuf.ByteString shaSentryfile_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes sha_sentryfile = 83;</code>
-     *
      * @return Whether the shaSentryfile field is set.
      */
     @java.lang.Override
     public boolean hasShaSentryfile() {
       return ((bitField0_ & 0x40000000) != 0);
     }
-
     /**
      * <code>optional bytes sha_sentryfile = 83;</code>
-     *
      * @return The shaSentryfile.
      */
     @java.lang.Override
@@ -5029,23 +4501,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int AUTH_CODE_FIELD_NUMBER = 84;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object authCode_ = "";
-
     /**
      * <code>optional string auth_code = 84;</code>
-     *
      * @return Whether the authCode field is set.
      */
     @java.lang.Override
     public boolean hasAuthCode() {
       return ((bitField0_ & 0x80000000) != 0);
     }
-
     /**
      * <code>optional string auth_code = 84;</code>
-     *
      * @return The authCode.
      */
     @java.lang.Override
@@ -5054,7 +4521,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           authCode_ = s;
@@ -5062,18 +4530,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string auth_code = 84;</code>
-     *
      * @return The bytes for authCode.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getAuthCodeBytes() {
+    public com.google.protobuf.ByteString
+        getAuthCodeBytes() {
       java.lang.Object ref = authCode_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         authCode_ = b;
         return b;
       } else {
@@ -5083,20 +4551,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int OTP_TYPE_FIELD_NUMBER = 85;
     private int otpType_ = 0;
-
     /**
      * <code>optional int32 otp_type = 85;</code>
-     *
      * @return Whether the otpType field is set.
      */
     @java.lang.Override
     public boolean hasOtpType() {
       return ((bitField1_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional int32 otp_type = 85;</code>
-     *
      * @return The otpType.
      */
     @java.lang.Override
@@ -5106,20 +4570,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int OTP_VALUE_FIELD_NUMBER = 86;
     private int otpValue_ = 0;
-
     /**
      * <code>optional uint32 otp_value = 86;</code>
-     *
      * @return Whether the otpValue field is set.
      */
     @java.lang.Override
     public boolean hasOtpValue() {
       return ((bitField1_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional uint32 otp_value = 86;</code>
-     *
      * @return The otpValue.
      */
     @java.lang.Override
@@ -5128,23 +4588,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int OTP_IDENTIFIER_FIELD_NUMBER = 87;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object otpIdentifier_ = "";
-
     /**
      * <code>optional string otp_identifier = 87;</code>
-     *
      * @return Whether the otpIdentifier field is set.
      */
     @java.lang.Override
     public boolean hasOtpIdentifier() {
       return ((bitField1_ & 0x00000004) != 0);
     }
-
     /**
      * <code>optional string otp_identifier = 87;</code>
-     *
      * @return The otpIdentifier.
      */
     @java.lang.Override
@@ -5153,7 +4608,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           otpIdentifier_ = s;
@@ -5161,18 +4617,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string otp_identifier = 87;</code>
-     *
      * @return The bytes for otpIdentifier.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getOtpIdentifierBytes() {
+    public com.google.protobuf.ByteString
+        getOtpIdentifierBytes() {
       java.lang.Object ref = otpIdentifier_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         otpIdentifier_ = b;
         return b;
       } else {
@@ -5182,20 +4638,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int STEAM2_TICKET_REQUEST_FIELD_NUMBER = 88;
     private boolean steam2TicketRequest_ = false;
-
     /**
      * <code>optional bool steam2_ticket_request = 88;</code>
-     *
      * @return Whether the steam2TicketRequest field is set.
      */
     @java.lang.Override
     public boolean hasSteam2TicketRequest() {
       return ((bitField1_ & 0x00000008) != 0);
     }
-
     /**
      * <code>optional bool steam2_ticket_request = 88;</code>
-     *
      * @return The steam2TicketRequest.
      */
     @java.lang.Override
@@ -5205,20 +4657,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int SONY_PSN_TICKET_FIELD_NUMBER = 90;
     private com.google.protobuf.ByteString sonyPsnTicket_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes sony_psn_ticket = 90;</code>
-     *
      * @return Whether the sonyPsnTicket field is set.
      */
     @java.lang.Override
     public boolean hasSonyPsnTicket() {
       return ((bitField1_ & 0x00000010) != 0);
     }
-
     /**
      * <code>optional bytes sony_psn_ticket = 90;</code>
-     *
      * @return The sonyPsnTicket.
      */
     @java.lang.Override
@@ -5227,23 +4675,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int SONY_PSN_SERVICE_ID_FIELD_NUMBER = 91;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object sonyPsnServiceId_ = "";
-
     /**
      * <code>optional string sony_psn_service_id = 91;</code>
-     *
      * @return Whether the sonyPsnServiceId field is set.
      */
     @java.lang.Override
     public boolean hasSonyPsnServiceId() {
       return ((bitField1_ & 0x00000020) != 0);
     }
-
     /**
      * <code>optional string sony_psn_service_id = 91;</code>
-     *
      * @return The sonyPsnServiceId.
      */
     @java.lang.Override
@@ -5252,7 +4695,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           sonyPsnServiceId_ = s;
@@ -5260,18 +4704,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string sony_psn_service_id = 91;</code>
-     *
      * @return The bytes for sonyPsnServiceId.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getSonyPsnServiceIdBytes() {
+    public com.google.protobuf.ByteString
+        getSonyPsnServiceIdBytes() {
       java.lang.Object ref = sonyPsnServiceId_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         sonyPsnServiceId_ = b;
         return b;
       } else {
@@ -5281,20 +4725,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CREATE_NEW_PSN_LINKED_ACCOUNT_IF_NEEDED_FIELD_NUMBER = 92;
     private boolean createNewPsnLinkedAccountIfNeeded_ = false;
-
     /**
      * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-     *
      * @return Whether the createNewPsnLinkedAccountIfNeeded field is set.
      */
     @java.lang.Override
     public boolean hasCreateNewPsnLinkedAccountIfNeeded() {
       return ((bitField1_ & 0x00000040) != 0);
     }
-
     /**
      * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-     *
      * @return The createNewPsnLinkedAccountIfNeeded.
      */
     @java.lang.Override
@@ -5303,23 +4743,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int SONY_PSN_NAME_FIELD_NUMBER = 93;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object sonyPsnName_ = "";
-
     /**
      * <code>optional string sony_psn_name = 93;</code>
-     *
      * @return Whether the sonyPsnName field is set.
      */
     @java.lang.Override
     public boolean hasSonyPsnName() {
       return ((bitField1_ & 0x00000080) != 0);
     }
-
     /**
      * <code>optional string sony_psn_name = 93;</code>
-     *
      * @return The sonyPsnName.
      */
     @java.lang.Override
@@ -5328,7 +4763,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           sonyPsnName_ = s;
@@ -5336,18 +4772,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string sony_psn_name = 93;</code>
-     *
      * @return The bytes for sonyPsnName.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getSonyPsnNameBytes() {
+    public com.google.protobuf.ByteString
+        getSonyPsnNameBytes() {
       java.lang.Object ref = sonyPsnName_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         sonyPsnName_ = b;
         return b;
       } else {
@@ -5357,20 +4793,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int GAME_SERVER_APP_ID_FIELD_NUMBER = 94;
     private int gameServerAppId_ = 0;
-
     /**
      * <code>optional int32 game_server_app_id = 94;</code>
-     *
      * @return Whether the gameServerAppId field is set.
      */
     @java.lang.Override
     public boolean hasGameServerAppId() {
       return ((bitField1_ & 0x00000100) != 0);
     }
-
     /**
      * <code>optional int32 game_server_app_id = 94;</code>
-     *
      * @return The gameServerAppId.
      */
     @java.lang.Override
@@ -5380,20 +4812,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int STEAMGUARD_DONT_REMEMBER_COMPUTER_FIELD_NUMBER = 95;
     private boolean steamguardDontRememberComputer_ = false;
-
     /**
      * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-     *
      * @return Whether the steamguardDontRememberComputer field is set.
      */
     @java.lang.Override
     public boolean hasSteamguardDontRememberComputer() {
       return ((bitField1_ & 0x00000200) != 0);
     }
-
     /**
      * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-     *
      * @return The steamguardDontRememberComputer.
      */
     @java.lang.Override
@@ -5402,23 +4830,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int MACHINE_NAME_FIELD_NUMBER = 96;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object machineName_ = "";
-
     /**
      * <code>optional string machine_name = 96;</code>
-     *
      * @return Whether the machineName field is set.
      */
     @java.lang.Override
     public boolean hasMachineName() {
       return ((bitField1_ & 0x00000400) != 0);
     }
-
     /**
      * <code>optional string machine_name = 96;</code>
-     *
      * @return The machineName.
      */
     @java.lang.Override
@@ -5427,7 +4850,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           machineName_ = s;
@@ -5435,18 +4859,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string machine_name = 96;</code>
-     *
      * @return The bytes for machineName.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getMachineNameBytes() {
+    public com.google.protobuf.ByteString
+        getMachineNameBytes() {
       java.lang.Object ref = machineName_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         machineName_ = b;
         return b;
       } else {
@@ -5455,23 +4879,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int MACHINE_NAME_USERCHOSEN_FIELD_NUMBER = 97;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object machineNameUserchosen_ = "";
-
     /**
      * <code>optional string machine_name_userchosen = 97;</code>
-     *
      * @return Whether the machineNameUserchosen field is set.
      */
     @java.lang.Override
     public boolean hasMachineNameUserchosen() {
       return ((bitField1_ & 0x00000800) != 0);
     }
-
     /**
      * <code>optional string machine_name_userchosen = 97;</code>
-     *
      * @return The machineNameUserchosen.
      */
     @java.lang.Override
@@ -5480,7 +4899,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           machineNameUserchosen_ = s;
@@ -5488,18 +4908,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string machine_name_userchosen = 97;</code>
-     *
      * @return The bytes for machineNameUserchosen.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getMachineNameUserchosenBytes() {
+    public com.google.protobuf.ByteString
+        getMachineNameUserchosenBytes() {
       java.lang.Object ref = machineNameUserchosen_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         machineNameUserchosen_ = b;
         return b;
       } else {
@@ -5508,23 +4928,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int COUNTRY_OVERRIDE_FIELD_NUMBER = 98;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object countryOverride_ = "";
-
     /**
      * <code>optional string country_override = 98;</code>
-     *
      * @return Whether the countryOverride field is set.
      */
     @java.lang.Override
     public boolean hasCountryOverride() {
       return ((bitField1_ & 0x00001000) != 0);
     }
-
     /**
      * <code>optional string country_override = 98;</code>
-     *
      * @return The countryOverride.
      */
     @java.lang.Override
@@ -5533,7 +4948,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           countryOverride_ = s;
@@ -5541,18 +4957,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string country_override = 98;</code>
-     *
      * @return The bytes for countryOverride.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getCountryOverrideBytes() {
+    public com.google.protobuf.ByteString
+        getCountryOverrideBytes() {
       java.lang.Object ref = countryOverride_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         countryOverride_ = b;
         return b;
       } else {
@@ -5562,20 +4978,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int IS_STEAM_BOX_FIELD_NUMBER = 99;
     private boolean isSteamBox_ = false;
-
     /**
      * <code>optional bool is_steam_box = 99;</code>
-     *
      * @return Whether the isSteamBox field is set.
      */
     @java.lang.Override
     public boolean hasIsSteamBox() {
       return ((bitField1_ & 0x00002000) != 0);
     }
-
     /**
      * <code>optional bool is_steam_box = 99;</code>
-     *
      * @return The isSteamBox.
      */
     @java.lang.Override
@@ -5585,20 +4997,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CLIENT_INSTANCE_ID_FIELD_NUMBER = 100;
     private long clientInstanceId_ = 0L;
-
     /**
      * <code>optional uint64 client_instance_id = 100;</code>
-     *
      * @return Whether the clientInstanceId field is set.
      */
     @java.lang.Override
     public boolean hasClientInstanceId() {
       return ((bitField1_ & 0x00004000) != 0);
     }
-
     /**
      * <code>optional uint64 client_instance_id = 100;</code>
-     *
      * @return The clientInstanceId.
      */
     @java.lang.Override
@@ -5607,23 +5015,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int TWO_FACTOR_CODE_FIELD_NUMBER = 101;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object twoFactorCode_ = "";
-
     /**
      * <code>optional string two_factor_code = 101;</code>
-     *
      * @return Whether the twoFactorCode field is set.
      */
     @java.lang.Override
     public boolean hasTwoFactorCode() {
       return ((bitField1_ & 0x00008000) != 0);
     }
-
     /**
      * <code>optional string two_factor_code = 101;</code>
-     *
      * @return The twoFactorCode.
      */
     @java.lang.Override
@@ -5632,7 +5035,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           twoFactorCode_ = s;
@@ -5640,18 +5044,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string two_factor_code = 101;</code>
-     *
      * @return The bytes for twoFactorCode.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getTwoFactorCodeBytes() {
+    public com.google.protobuf.ByteString
+        getTwoFactorCodeBytes() {
       java.lang.Object ref = twoFactorCode_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         twoFactorCode_ = b;
         return b;
       } else {
@@ -5661,20 +5065,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int SUPPORTS_RATE_LIMIT_RESPONSE_FIELD_NUMBER = 102;
     private boolean supportsRateLimitResponse_ = false;
-
     /**
      * <code>optional bool supports_rate_limit_response = 102;</code>
-     *
      * @return Whether the supportsRateLimitResponse field is set.
      */
     @java.lang.Override
     public boolean hasSupportsRateLimitResponse() {
       return ((bitField1_ & 0x00010000) != 0);
     }
-
     /**
      * <code>optional bool supports_rate_limit_response = 102;</code>
-     *
      * @return The supportsRateLimitResponse.
      */
     @java.lang.Override
@@ -5683,23 +5083,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int WEB_LOGON_NONCE_FIELD_NUMBER = 103;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object webLogonNonce_ = "";
-
     /**
      * <code>optional string web_logon_nonce = 103;</code>
-     *
      * @return Whether the webLogonNonce field is set.
      */
     @java.lang.Override
     public boolean hasWebLogonNonce() {
       return ((bitField1_ & 0x00020000) != 0);
     }
-
     /**
      * <code>optional string web_logon_nonce = 103;</code>
-     *
      * @return The webLogonNonce.
      */
     @java.lang.Override
@@ -5708,7 +5103,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           webLogonNonce_ = s;
@@ -5716,18 +5112,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string web_logon_nonce = 103;</code>
-     *
      * @return The bytes for webLogonNonce.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getWebLogonNonceBytes() {
+    public com.google.protobuf.ByteString
+        getWebLogonNonceBytes() {
       java.lang.Object ref = webLogonNonce_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         webLogonNonce_ = b;
         return b;
       } else {
@@ -5737,20 +5133,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int PRIORITY_REASON_FIELD_NUMBER = 104;
     private int priorityReason_ = 0;
-
     /**
      * <code>optional int32 priority_reason = 104;</code>
-     *
      * @return Whether the priorityReason field is set.
      */
     @java.lang.Override
     public boolean hasPriorityReason() {
       return ((bitField1_ & 0x00040000) != 0);
     }
-
     /**
      * <code>optional int32 priority_reason = 104;</code>
-     *
      * @return The priorityReason.
      */
     @java.lang.Override
@@ -5759,55 +5151,43 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int EMBEDDED_CLIENT_SECRET_FIELD_NUMBER = 105;
-    private SteammessagesClientserverLogin.CMsgClientSecret embeddedClientSecret_;
-
+    private com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret embeddedClientSecret_;
     /**
      * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
-     *
      * @return Whether the embeddedClientSecret field is set.
      */
     @java.lang.Override
     public boolean hasEmbeddedClientSecret() {
       return ((bitField1_ & 0x00080000) != 0);
     }
-
     /**
      * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
-     *
      * @return The embeddedClientSecret.
      */
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientSecret getEmbeddedClientSecret() {
-      return embeddedClientSecret_ == null
-          ? SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance()
-          : embeddedClientSecret_;
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret getEmbeddedClientSecret() {
+      return embeddedClientSecret_ == null ? com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance() : embeddedClientSecret_;
     }
-
-    /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
+    /**
+     * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+     */
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientSecretOrBuilder
-        getEmbeddedClientSecretOrBuilder() {
-      return embeddedClientSecret_ == null
-          ? SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance()
-          : embeddedClientSecret_;
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecretOrBuilder getEmbeddedClientSecretOrBuilder() {
+      return embeddedClientSecret_ == null ? com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance() : embeddedClientSecret_;
     }
 
     public static final int DISABLE_PARTNER_AUTOGRANTS_FIELD_NUMBER = 106;
     private boolean disablePartnerAutogrants_ = false;
-
     /**
      * <code>optional bool disable_partner_autogrants = 106;</code>
-     *
      * @return Whether the disablePartnerAutogrants field is set.
      */
     @java.lang.Override
     public boolean hasDisablePartnerAutogrants() {
       return ((bitField1_ & 0x00100000) != 0);
     }
-
     /**
      * <code>optional bool disable_partner_autogrants = 106;</code>
-     *
      * @return The disablePartnerAutogrants.
      */
     @java.lang.Override
@@ -5817,20 +5197,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int IS_STEAM_DECK_FIELD_NUMBER = 107;
     private boolean isSteamDeck_ = false;
-
     /**
      * <code>optional bool is_steam_deck = 107;</code>
-     *
      * @return Whether the isSteamDeck field is set.
      */
     @java.lang.Override
     public boolean hasIsSteamDeck() {
       return ((bitField1_ & 0x00200000) != 0);
     }
-
     /**
      * <code>optional bool is_steam_deck = 107;</code>
-     *
      * @return The isSteamDeck.
      */
     @java.lang.Override
@@ -5839,23 +5215,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int ACCESS_TOKEN_FIELD_NUMBER = 108;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object accessToken_ = "";
-
     /**
      * <code>optional string access_token = 108;</code>
-     *
      * @return Whether the accessToken field is set.
      */
     @java.lang.Override
     public boolean hasAccessToken() {
       return ((bitField1_ & 0x00400000) != 0);
     }
-
     /**
      * <code>optional string access_token = 108;</code>
-     *
      * @return The accessToken.
      */
     @java.lang.Override
@@ -5864,7 +5235,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           accessToken_ = s;
@@ -5872,18 +5244,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string access_token = 108;</code>
-     *
      * @return The bytes for accessToken.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getAccessTokenBytes() {
+    public com.google.protobuf.ByteString
+        getAccessTokenBytes() {
       java.lang.Object ref = accessToken_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         accessToken_ = b;
         return b;
       } else {
@@ -5893,20 +5265,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int IS_CHROME_OS_FIELD_NUMBER = 109;
     private boolean isChromeOs_ = false;
-
     /**
      * <code>optional bool is_chrome_os = 109;</code>
-     *
      * @return Whether the isChromeOs field is set.
      */
     @java.lang.Override
     public boolean hasIsChromeOs() {
       return ((bitField1_ & 0x00800000) != 0);
     }
-
     /**
      * <code>optional bool is_chrome_os = 109;</code>
-     *
      * @return The isChromeOs.
      */
     @java.lang.Override
@@ -5916,20 +5284,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int IS_TESLA_FIELD_NUMBER = 110;
     private boolean isTesla_ = false;
-
     /**
      * <code>optional bool is_tesla = 110;</code>
-     *
      * @return Whether the isTesla field is set.
      */
     @java.lang.Override
     public boolean hasIsTesla() {
       return ((bitField1_ & 0x01000000) != 0);
     }
-
     /**
      * <code>optional bool is_tesla = 110;</code>
-     *
      * @return The isTesla.
      */
     @java.lang.Override
@@ -5938,7 +5302,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -5950,7 +5313,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt32(1, protocolVersion_);
       }
@@ -6132,75 +5496,89 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(1, protocolVersion_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, protocolVersion_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeUInt32Size(
-                2, deprecatedObfustucatedPrivateIp_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, deprecatedObfustucatedPrivateIp_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(3, cellId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, cellId_);
       }
       if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(4, lastSessionId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, lastSessionId_);
       }
       if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(5, clientPackageVersion_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, clientPackageVersion_);
       }
       if (((bitField0_ & 0x00000020) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(6, clientLanguage_);
       }
       if (((bitField0_ & 0x00000040) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(7, clientOsType_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, clientOsType_);
       }
       if (((bitField0_ & 0x00000080) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(8, shouldRememberPassword_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, shouldRememberPassword_);
       }
       if (((bitField0_ & 0x00000100) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(9, wineVersion_);
       }
       if (((bitField0_ & 0x00000200) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(10, deprecated10_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(10, deprecated10_);
       }
       if (((bitField0_ & 0x00000400) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeMessageSize(11, getObfuscatedPrivateIp());
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, getObfuscatedPrivateIp());
       }
       if (((bitField0_ & 0x00000800) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(20, deprecatedPublicIp_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(20, deprecatedPublicIp_);
       }
       if (((bitField0_ & 0x00001000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(21, qosLevel_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(21, qosLevel_);
       }
       if (((bitField0_ & 0x00002000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeFixed64Size(22, clientSuppliedSteamId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(22, clientSuppliedSteamId_);
       }
       if (((bitField0_ & 0x00004000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeMessageSize(23, getPublicIp());
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(23, getPublicIp());
       }
       if (((bitField0_ & 0x00008000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(30, machineId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(30, machineId_);
       }
       if (((bitField0_ & 0x00010000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(31, launcherType_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(31, launcherType_);
       }
       if (((bitField0_ & 0x00020000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(32, uiMode_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(32, uiMode_);
       }
       if (((bitField0_ & 0x00040000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(33, chatMode_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(33, chatMode_);
       }
       if (((bitField0_ & 0x00080000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(41, steam2AuthTicket_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(41, steam2AuthTicket_);
       }
       if (((bitField0_ & 0x00100000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(42, emailAddress_);
       }
       if (((bitField0_ & 0x00200000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeFixed32Size(43, rtime32AccountCreation_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(43, rtime32AccountCreation_);
       }
       if (((bitField0_ & 0x00400000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(50, accountName_);
@@ -6215,58 +5593,63 @@ public final class SteammessagesClientserverLogin {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(60, loginKey_);
       }
       if (((bitField0_ & 0x04000000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeBoolSize(70, wasConvertedDeprecatedMsg_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(70, wasConvertedDeprecatedMsg_);
       }
       if (((bitField0_ & 0x08000000) != 0)) {
-        size +=
-            com.google.protobuf.GeneratedMessage.computeStringSize(80, anonUserTargetAccountName_);
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(80, anonUserTargetAccountName_);
       }
       if (((bitField0_ & 0x10000000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(81, resolvedUserSteamId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(81, resolvedUserSteamId_);
       }
       if (((bitField0_ & 0x20000000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(82, eresultSentryfile_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(82, eresultSentryfile_);
       }
       if (((bitField0_ & 0x40000000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(83, shaSentryfile_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(83, shaSentryfile_);
       }
       if (((bitField0_ & 0x80000000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(84, authCode_);
       }
       if (((bitField1_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(85, otpType_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(85, otpType_);
       }
       if (((bitField1_ & 0x00000002) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(86, otpValue_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(86, otpValue_);
       }
       if (((bitField1_ & 0x00000004) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(87, otpIdentifier_);
       }
       if (((bitField1_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(88, steam2TicketRequest_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(88, steam2TicketRequest_);
       }
       if (((bitField1_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(90, sonyPsnTicket_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(90, sonyPsnTicket_);
       }
       if (((bitField1_ & 0x00000020) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(91, sonyPsnServiceId_);
       }
       if (((bitField1_ & 0x00000040) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeBoolSize(
-                92, createNewPsnLinkedAccountIfNeeded_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(92, createNewPsnLinkedAccountIfNeeded_);
       }
       if (((bitField1_ & 0x00000080) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(93, sonyPsnName_);
       }
       if (((bitField1_ & 0x00000100) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(94, gameServerAppId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(94, gameServerAppId_);
       }
       if (((bitField1_ & 0x00000200) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeBoolSize(
-                95, steamguardDontRememberComputer_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(95, steamguardDontRememberComputer_);
       }
       if (((bitField1_ & 0x00000400) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(96, machineName_);
@@ -6278,44 +5661,49 @@ public final class SteammessagesClientserverLogin {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(98, countryOverride_);
       }
       if (((bitField1_ & 0x00002000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(99, isSteamBox_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(99, isSteamBox_);
       }
       if (((bitField1_ & 0x00004000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(100, clientInstanceId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(100, clientInstanceId_);
       }
       if (((bitField1_ & 0x00008000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(101, twoFactorCode_);
       }
       if (((bitField1_ & 0x00010000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeBoolSize(102, supportsRateLimitResponse_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(102, supportsRateLimitResponse_);
       }
       if (((bitField1_ & 0x00020000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(103, webLogonNonce_);
       }
       if (((bitField1_ & 0x00040000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(104, priorityReason_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(104, priorityReason_);
       }
       if (((bitField1_ & 0x00080000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeMessageSize(
-                105, getEmbeddedClientSecret());
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(105, getEmbeddedClientSecret());
       }
       if (((bitField1_ & 0x00100000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeBoolSize(106, disablePartnerAutogrants_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(106, disablePartnerAutogrants_);
       }
       if (((bitField1_ & 0x00200000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(107, isSteamDeck_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(107, isSteamDeck_);
       }
       if (((bitField1_ & 0x00400000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(108, accessToken_);
       }
       if (((bitField1_ & 0x00800000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(109, isChromeOs_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(109, isChromeOs_);
       }
       if (((bitField1_ & 0x01000000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(110, isTesla_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(110, isTesla_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -6325,248 +5713,297 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientLogon)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientLogon other =
-          (SteammessagesClientserverLogin.CMsgClientLogon) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon) obj;
 
       if (hasProtocolVersion() != other.hasProtocolVersion()) return false;
       if (hasProtocolVersion()) {
-        if (getProtocolVersion() != other.getProtocolVersion()) return false;
+        if (getProtocolVersion()
+            != other.getProtocolVersion()) return false;
       }
-      if (hasDeprecatedObfustucatedPrivateIp() != other.hasDeprecatedObfustucatedPrivateIp())
-        return false;
+      if (hasDeprecatedObfustucatedPrivateIp() != other.hasDeprecatedObfustucatedPrivateIp()) return false;
       if (hasDeprecatedObfustucatedPrivateIp()) {
-        if (getDeprecatedObfustucatedPrivateIp() != other.getDeprecatedObfustucatedPrivateIp())
-          return false;
+        if (getDeprecatedObfustucatedPrivateIp()
+            != other.getDeprecatedObfustucatedPrivateIp()) return false;
       }
       if (hasCellId() != other.hasCellId()) return false;
       if (hasCellId()) {
-        if (getCellId() != other.getCellId()) return false;
+        if (getCellId()
+            != other.getCellId()) return false;
       }
       if (hasLastSessionId() != other.hasLastSessionId()) return false;
       if (hasLastSessionId()) {
-        if (getLastSessionId() != other.getLastSessionId()) return false;
+        if (getLastSessionId()
+            != other.getLastSessionId()) return false;
       }
       if (hasClientPackageVersion() != other.hasClientPackageVersion()) return false;
       if (hasClientPackageVersion()) {
-        if (getClientPackageVersion() != other.getClientPackageVersion()) return false;
+        if (getClientPackageVersion()
+            != other.getClientPackageVersion()) return false;
       }
       if (hasClientLanguage() != other.hasClientLanguage()) return false;
       if (hasClientLanguage()) {
-        if (!getClientLanguage().equals(other.getClientLanguage())) return false;
+        if (!getClientLanguage()
+            .equals(other.getClientLanguage())) return false;
       }
       if (hasClientOsType() != other.hasClientOsType()) return false;
       if (hasClientOsType()) {
-        if (getClientOsType() != other.getClientOsType()) return false;
+        if (getClientOsType()
+            != other.getClientOsType()) return false;
       }
       if (hasShouldRememberPassword() != other.hasShouldRememberPassword()) return false;
       if (hasShouldRememberPassword()) {
-        if (getShouldRememberPassword() != other.getShouldRememberPassword()) return false;
+        if (getShouldRememberPassword()
+            != other.getShouldRememberPassword()) return false;
       }
       if (hasWineVersion() != other.hasWineVersion()) return false;
       if (hasWineVersion()) {
-        if (!getWineVersion().equals(other.getWineVersion())) return false;
+        if (!getWineVersion()
+            .equals(other.getWineVersion())) return false;
       }
       if (hasDeprecated10() != other.hasDeprecated10()) return false;
       if (hasDeprecated10()) {
-        if (getDeprecated10() != other.getDeprecated10()) return false;
+        if (getDeprecated10()
+            != other.getDeprecated10()) return false;
       }
       if (hasObfuscatedPrivateIp() != other.hasObfuscatedPrivateIp()) return false;
       if (hasObfuscatedPrivateIp()) {
-        if (!getObfuscatedPrivateIp().equals(other.getObfuscatedPrivateIp())) return false;
+        if (!getObfuscatedPrivateIp()
+            .equals(other.getObfuscatedPrivateIp())) return false;
       }
       if (hasDeprecatedPublicIp() != other.hasDeprecatedPublicIp()) return false;
       if (hasDeprecatedPublicIp()) {
-        if (getDeprecatedPublicIp() != other.getDeprecatedPublicIp()) return false;
+        if (getDeprecatedPublicIp()
+            != other.getDeprecatedPublicIp()) return false;
       }
       if (hasQosLevel() != other.hasQosLevel()) return false;
       if (hasQosLevel()) {
-        if (getQosLevel() != other.getQosLevel()) return false;
+        if (getQosLevel()
+            != other.getQosLevel()) return false;
       }
       if (hasClientSuppliedSteamId() != other.hasClientSuppliedSteamId()) return false;
       if (hasClientSuppliedSteamId()) {
-        if (getClientSuppliedSteamId() != other.getClientSuppliedSteamId()) return false;
+        if (getClientSuppliedSteamId()
+            != other.getClientSuppliedSteamId()) return false;
       }
       if (hasPublicIp() != other.hasPublicIp()) return false;
       if (hasPublicIp()) {
-        if (!getPublicIp().equals(other.getPublicIp())) return false;
+        if (!getPublicIp()
+            .equals(other.getPublicIp())) return false;
       }
       if (hasMachineId() != other.hasMachineId()) return false;
       if (hasMachineId()) {
-        if (!getMachineId().equals(other.getMachineId())) return false;
+        if (!getMachineId()
+            .equals(other.getMachineId())) return false;
       }
       if (hasLauncherType() != other.hasLauncherType()) return false;
       if (hasLauncherType()) {
-        if (getLauncherType() != other.getLauncherType()) return false;
+        if (getLauncherType()
+            != other.getLauncherType()) return false;
       }
       if (hasUiMode() != other.hasUiMode()) return false;
       if (hasUiMode()) {
-        if (getUiMode() != other.getUiMode()) return false;
+        if (getUiMode()
+            != other.getUiMode()) return false;
       }
       if (hasChatMode() != other.hasChatMode()) return false;
       if (hasChatMode()) {
-        if (getChatMode() != other.getChatMode()) return false;
+        if (getChatMode()
+            != other.getChatMode()) return false;
       }
       if (hasSteam2AuthTicket() != other.hasSteam2AuthTicket()) return false;
       if (hasSteam2AuthTicket()) {
-        if (!getSteam2AuthTicket().equals(other.getSteam2AuthTicket())) return false;
+        if (!getSteam2AuthTicket()
+            .equals(other.getSteam2AuthTicket())) return false;
       }
       if (hasEmailAddress() != other.hasEmailAddress()) return false;
       if (hasEmailAddress()) {
-        if (!getEmailAddress().equals(other.getEmailAddress())) return false;
+        if (!getEmailAddress()
+            .equals(other.getEmailAddress())) return false;
       }
       if (hasRtime32AccountCreation() != other.hasRtime32AccountCreation()) return false;
       if (hasRtime32AccountCreation()) {
-        if (getRtime32AccountCreation() != other.getRtime32AccountCreation()) return false;
+        if (getRtime32AccountCreation()
+            != other.getRtime32AccountCreation()) return false;
       }
       if (hasAccountName() != other.hasAccountName()) return false;
       if (hasAccountName()) {
-        if (!getAccountName().equals(other.getAccountName())) return false;
+        if (!getAccountName()
+            .equals(other.getAccountName())) return false;
       }
       if (hasPassword() != other.hasPassword()) return false;
       if (hasPassword()) {
-        if (!getPassword().equals(other.getPassword())) return false;
+        if (!getPassword()
+            .equals(other.getPassword())) return false;
       }
       if (hasGameServerToken() != other.hasGameServerToken()) return false;
       if (hasGameServerToken()) {
-        if (!getGameServerToken().equals(other.getGameServerToken())) return false;
+        if (!getGameServerToken()
+            .equals(other.getGameServerToken())) return false;
       }
       if (hasLoginKey() != other.hasLoginKey()) return false;
       if (hasLoginKey()) {
-        if (!getLoginKey().equals(other.getLoginKey())) return false;
+        if (!getLoginKey()
+            .equals(other.getLoginKey())) return false;
       }
       if (hasWasConvertedDeprecatedMsg() != other.hasWasConvertedDeprecatedMsg()) return false;
       if (hasWasConvertedDeprecatedMsg()) {
-        if (getWasConvertedDeprecatedMsg() != other.getWasConvertedDeprecatedMsg()) return false;
+        if (getWasConvertedDeprecatedMsg()
+            != other.getWasConvertedDeprecatedMsg()) return false;
       }
       if (hasAnonUserTargetAccountName() != other.hasAnonUserTargetAccountName()) return false;
       if (hasAnonUserTargetAccountName()) {
-        if (!getAnonUserTargetAccountName().equals(other.getAnonUserTargetAccountName()))
-          return false;
+        if (!getAnonUserTargetAccountName()
+            .equals(other.getAnonUserTargetAccountName())) return false;
       }
       if (hasResolvedUserSteamId() != other.hasResolvedUserSteamId()) return false;
       if (hasResolvedUserSteamId()) {
-        if (getResolvedUserSteamId() != other.getResolvedUserSteamId()) return false;
+        if (getResolvedUserSteamId()
+            != other.getResolvedUserSteamId()) return false;
       }
       if (hasEresultSentryfile() != other.hasEresultSentryfile()) return false;
       if (hasEresultSentryfile()) {
-        if (getEresultSentryfile() != other.getEresultSentryfile()) return false;
+        if (getEresultSentryfile()
+            != other.getEresultSentryfile()) return false;
       }
       if (hasShaSentryfile() != other.hasShaSentryfile()) return false;
       if (hasShaSentryfile()) {
-        if (!getShaSentryfile().equals(other.getShaSentryfile())) return false;
+        if (!getShaSentryfile()
+            .equals(other.getShaSentryfile())) return false;
       }
       if (hasAuthCode() != other.hasAuthCode()) return false;
       if (hasAuthCode()) {
-        if (!getAuthCode().equals(other.getAuthCode())) return false;
+        if (!getAuthCode()
+            .equals(other.getAuthCode())) return false;
       }
       if (hasOtpType() != other.hasOtpType()) return false;
       if (hasOtpType()) {
-        if (getOtpType() != other.getOtpType()) return false;
+        if (getOtpType()
+            != other.getOtpType()) return false;
       }
       if (hasOtpValue() != other.hasOtpValue()) return false;
       if (hasOtpValue()) {
-        if (getOtpValue() != other.getOtpValue()) return false;
+        if (getOtpValue()
+            != other.getOtpValue()) return false;
       }
       if (hasOtpIdentifier() != other.hasOtpIdentifier()) return false;
       if (hasOtpIdentifier()) {
-        if (!getOtpIdentifier().equals(other.getOtpIdentifier())) return false;
+        if (!getOtpIdentifier()
+            .equals(other.getOtpIdentifier())) return false;
       }
       if (hasSteam2TicketRequest() != other.hasSteam2TicketRequest()) return false;
       if (hasSteam2TicketRequest()) {
-        if (getSteam2TicketRequest() != other.getSteam2TicketRequest()) return false;
+        if (getSteam2TicketRequest()
+            != other.getSteam2TicketRequest()) return false;
       }
       if (hasSonyPsnTicket() != other.hasSonyPsnTicket()) return false;
       if (hasSonyPsnTicket()) {
-        if (!getSonyPsnTicket().equals(other.getSonyPsnTicket())) return false;
+        if (!getSonyPsnTicket()
+            .equals(other.getSonyPsnTicket())) return false;
       }
       if (hasSonyPsnServiceId() != other.hasSonyPsnServiceId()) return false;
       if (hasSonyPsnServiceId()) {
-        if (!getSonyPsnServiceId().equals(other.getSonyPsnServiceId())) return false;
+        if (!getSonyPsnServiceId()
+            .equals(other.getSonyPsnServiceId())) return false;
       }
-      if (hasCreateNewPsnLinkedAccountIfNeeded() != other.hasCreateNewPsnLinkedAccountIfNeeded())
-        return false;
+      if (hasCreateNewPsnLinkedAccountIfNeeded() != other.hasCreateNewPsnLinkedAccountIfNeeded()) return false;
       if (hasCreateNewPsnLinkedAccountIfNeeded()) {
-        if (getCreateNewPsnLinkedAccountIfNeeded() != other.getCreateNewPsnLinkedAccountIfNeeded())
-          return false;
+        if (getCreateNewPsnLinkedAccountIfNeeded()
+            != other.getCreateNewPsnLinkedAccountIfNeeded()) return false;
       }
       if (hasSonyPsnName() != other.hasSonyPsnName()) return false;
       if (hasSonyPsnName()) {
-        if (!getSonyPsnName().equals(other.getSonyPsnName())) return false;
+        if (!getSonyPsnName()
+            .equals(other.getSonyPsnName())) return false;
       }
       if (hasGameServerAppId() != other.hasGameServerAppId()) return false;
       if (hasGameServerAppId()) {
-        if (getGameServerAppId() != other.getGameServerAppId()) return false;
+        if (getGameServerAppId()
+            != other.getGameServerAppId()) return false;
       }
-      if (hasSteamguardDontRememberComputer() != other.hasSteamguardDontRememberComputer())
-        return false;
+      if (hasSteamguardDontRememberComputer() != other.hasSteamguardDontRememberComputer()) return false;
       if (hasSteamguardDontRememberComputer()) {
-        if (getSteamguardDontRememberComputer() != other.getSteamguardDontRememberComputer())
-          return false;
+        if (getSteamguardDontRememberComputer()
+            != other.getSteamguardDontRememberComputer()) return false;
       }
       if (hasMachineName() != other.hasMachineName()) return false;
       if (hasMachineName()) {
-        if (!getMachineName().equals(other.getMachineName())) return false;
+        if (!getMachineName()
+            .equals(other.getMachineName())) return false;
       }
       if (hasMachineNameUserchosen() != other.hasMachineNameUserchosen()) return false;
       if (hasMachineNameUserchosen()) {
-        if (!getMachineNameUserchosen().equals(other.getMachineNameUserchosen())) return false;
+        if (!getMachineNameUserchosen()
+            .equals(other.getMachineNameUserchosen())) return false;
       }
       if (hasCountryOverride() != other.hasCountryOverride()) return false;
       if (hasCountryOverride()) {
-        if (!getCountryOverride().equals(other.getCountryOverride())) return false;
+        if (!getCountryOverride()
+            .equals(other.getCountryOverride())) return false;
       }
       if (hasIsSteamBox() != other.hasIsSteamBox()) return false;
       if (hasIsSteamBox()) {
-        if (getIsSteamBox() != other.getIsSteamBox()) return false;
+        if (getIsSteamBox()
+            != other.getIsSteamBox()) return false;
       }
       if (hasClientInstanceId() != other.hasClientInstanceId()) return false;
       if (hasClientInstanceId()) {
-        if (getClientInstanceId() != other.getClientInstanceId()) return false;
+        if (getClientInstanceId()
+            != other.getClientInstanceId()) return false;
       }
       if (hasTwoFactorCode() != other.hasTwoFactorCode()) return false;
       if (hasTwoFactorCode()) {
-        if (!getTwoFactorCode().equals(other.getTwoFactorCode())) return false;
+        if (!getTwoFactorCode()
+            .equals(other.getTwoFactorCode())) return false;
       }
       if (hasSupportsRateLimitResponse() != other.hasSupportsRateLimitResponse()) return false;
       if (hasSupportsRateLimitResponse()) {
-        if (getSupportsRateLimitResponse() != other.getSupportsRateLimitResponse()) return false;
+        if (getSupportsRateLimitResponse()
+            != other.getSupportsRateLimitResponse()) return false;
       }
       if (hasWebLogonNonce() != other.hasWebLogonNonce()) return false;
       if (hasWebLogonNonce()) {
-        if (!getWebLogonNonce().equals(other.getWebLogonNonce())) return false;
+        if (!getWebLogonNonce()
+            .equals(other.getWebLogonNonce())) return false;
       }
       if (hasPriorityReason() != other.hasPriorityReason()) return false;
       if (hasPriorityReason()) {
-        if (getPriorityReason() != other.getPriorityReason()) return false;
+        if (getPriorityReason()
+            != other.getPriorityReason()) return false;
       }
       if (hasEmbeddedClientSecret() != other.hasEmbeddedClientSecret()) return false;
       if (hasEmbeddedClientSecret()) {
-        if (!getEmbeddedClientSecret().equals(other.getEmbeddedClientSecret())) return false;
+        if (!getEmbeddedClientSecret()
+            .equals(other.getEmbeddedClientSecret())) return false;
       }
       if (hasDisablePartnerAutogrants() != other.hasDisablePartnerAutogrants()) return false;
       if (hasDisablePartnerAutogrants()) {
-        if (getDisablePartnerAutogrants() != other.getDisablePartnerAutogrants()) return false;
+        if (getDisablePartnerAutogrants()
+            != other.getDisablePartnerAutogrants()) return false;
       }
       if (hasIsSteamDeck() != other.hasIsSteamDeck()) return false;
       if (hasIsSteamDeck()) {
-        if (getIsSteamDeck() != other.getIsSteamDeck()) return false;
+        if (getIsSteamDeck()
+            != other.getIsSteamDeck()) return false;
       }
       if (hasAccessToken() != other.hasAccessToken()) return false;
       if (hasAccessToken()) {
-        if (!getAccessToken().equals(other.getAccessToken())) return false;
+        if (!getAccessToken()
+            .equals(other.getAccessToken())) return false;
       }
       if (hasIsChromeOs() != other.hasIsChromeOs()) return false;
       if (hasIsChromeOs()) {
-        if (getIsChromeOs() != other.getIsChromeOs()) return false;
+        if (getIsChromeOs()
+            != other.getIsChromeOs()) return false;
       }
       if (hasIsTesla() != other.hasIsTesla()) return false;
       if (hasIsTesla()) {
-        if (getIsTesla() != other.getIsTesla()) return false;
+        if (getIsTesla()
+            != other.getIsTesla()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -6609,7 +6046,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasShouldRememberPassword()) {
         hash = (37 * hash) + SHOULD_REMEMBER_PASSWORD_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getShouldRememberPassword());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getShouldRememberPassword());
       }
       if (hasWineVersion()) {
         hash = (37 * hash) + WINE_VERSION_FIELD_NUMBER;
@@ -6633,7 +6071,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasClientSuppliedSteamId()) {
         hash = (37 * hash) + CLIENT_SUPPLIED_STEAM_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getClientSuppliedSteamId());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClientSuppliedSteamId());
       }
       if (hasPublicIp()) {
         hash = (37 * hash) + PUBLIC_IP_FIELD_NUMBER;
@@ -6685,8 +6124,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasWasConvertedDeprecatedMsg()) {
         hash = (37 * hash) + WAS_CONVERTED_DEPRECATED_MSG_FIELD_NUMBER;
-        hash =
-            (53 * hash) + com.google.protobuf.Internal.hashBoolean(getWasConvertedDeprecatedMsg());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getWasConvertedDeprecatedMsg());
       }
       if (hasAnonUserTargetAccountName()) {
         hash = (37 * hash) + ANON_USER_TARGET_ACCOUNT_NAME_FIELD_NUMBER;
@@ -6694,7 +6133,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasResolvedUserSteamId()) {
         hash = (37 * hash) + RESOLVED_USER_STEAM_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getResolvedUserSteamId());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getResolvedUserSteamId());
       }
       if (hasEresultSentryfile()) {
         hash = (37 * hash) + ERESULT_SENTRYFILE_FIELD_NUMBER;
@@ -6722,7 +6162,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasSteam2TicketRequest()) {
         hash = (37 * hash) + STEAM2_TICKET_REQUEST_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getSteam2TicketRequest());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSteam2TicketRequest());
       }
       if (hasSonyPsnTicket()) {
         hash = (37 * hash) + SONY_PSN_TICKET_FIELD_NUMBER;
@@ -6734,9 +6175,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasCreateNewPsnLinkedAccountIfNeeded()) {
         hash = (37 * hash) + CREATE_NEW_PSN_LINKED_ACCOUNT_IF_NEEDED_FIELD_NUMBER;
-        hash =
-            (53 * hash)
-                + com.google.protobuf.Internal.hashBoolean(getCreateNewPsnLinkedAccountIfNeeded());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getCreateNewPsnLinkedAccountIfNeeded());
       }
       if (hasSonyPsnName()) {
         hash = (37 * hash) + SONY_PSN_NAME_FIELD_NUMBER;
@@ -6748,9 +6188,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasSteamguardDontRememberComputer()) {
         hash = (37 * hash) + STEAMGUARD_DONT_REMEMBER_COMPUTER_FIELD_NUMBER;
-        hash =
-            (53 * hash)
-                + com.google.protobuf.Internal.hashBoolean(getSteamguardDontRememberComputer());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSteamguardDontRememberComputer());
       }
       if (hasMachineName()) {
         hash = (37 * hash) + MACHINE_NAME_FIELD_NUMBER;
@@ -6766,11 +6205,13 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasIsSteamBox()) {
         hash = (37 * hash) + IS_STEAM_BOX_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getIsSteamBox());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsSteamBox());
       }
       if (hasClientInstanceId()) {
         hash = (37 * hash) + CLIENT_INSTANCE_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getClientInstanceId());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClientInstanceId());
       }
       if (hasTwoFactorCode()) {
         hash = (37 * hash) + TWO_FACTOR_CODE_FIELD_NUMBER;
@@ -6778,8 +6219,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasSupportsRateLimitResponse()) {
         hash = (37 * hash) + SUPPORTS_RATE_LIMIT_RESPONSE_FIELD_NUMBER;
-        hash =
-            (53 * hash) + com.google.protobuf.Internal.hashBoolean(getSupportsRateLimitResponse());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getSupportsRateLimitResponse());
       }
       if (hasWebLogonNonce()) {
         hash = (37 * hash) + WEB_LOGON_NONCE_FIELD_NUMBER;
@@ -6795,12 +6236,13 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasDisablePartnerAutogrants()) {
         hash = (37 * hash) + DISABLE_PARTNER_AUTOGRANTS_FIELD_NUMBER;
-        hash =
-            (53 * hash) + com.google.protobuf.Internal.hashBoolean(getDisablePartnerAutogrants());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getDisablePartnerAutogrants());
       }
       if (hasIsSteamDeck()) {
         hash = (37 * hash) + IS_STEAM_DECK_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getIsSteamDeck());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsSteamDeck());
       }
       if (hasAccessToken()) {
         hash = (37 * hash) + ACCESS_TOKEN_FIELD_NUMBER;
@@ -6808,149 +6250,149 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasIsChromeOs()) {
         hash = (37 * hash) + IS_CHROME_OS_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getIsChromeOs());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsChromeOs());
       }
       if (hasIsTesla()) {
         hash = (37 * hash) + IS_TESLA_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getIsTesla());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsTesla());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(java.nio.ByteBuffer data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+        java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(SteammessagesClientserverLogin.CMsgClientLogon prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientLogon} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientLogon}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientLogon)
-        SteammessagesClientserverLogin.CMsgClientLogonOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogon_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogon_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogon_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogon_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientLogon.class,
-                SteammessagesClientserverLogin.CMsgClientLogon.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientLogon.newBuilder()
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
         maybeForceBuilderInitialization();
       }
-
       private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
           getObfuscatedPrivateIpFieldBuilder();
           getPublicIpFieldBuilder();
           getEmbeddedClientSecretFieldBuilder();
         }
       }
-
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -7029,18 +6471,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogon_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogon_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogon getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientLogon.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogon build() {
-        SteammessagesClientserverLogin.CMsgClientLogon result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7048,20 +6491,15 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogon buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientLogon result =
-            new SteammessagesClientserverLogin.CMsgClientLogon(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
-        if (bitField1_ != 0) {
-          buildPartial1(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        if (bitField1_ != 0) { buildPartial1(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientLogon result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -7105,10 +6543,9 @@ public final class SteammessagesClientserverLogin {
           to_bitField0_ |= 0x00000200;
         }
         if (((from_bitField0_ & 0x00000400) != 0)) {
-          result.obfuscatedPrivateIp_ =
-              obfuscatedPrivateIpBuilder_ == null
-                  ? obfuscatedPrivateIp_
-                  : obfuscatedPrivateIpBuilder_.build();
+          result.obfuscatedPrivateIp_ = obfuscatedPrivateIpBuilder_ == null
+              ? obfuscatedPrivateIp_
+              : obfuscatedPrivateIpBuilder_.build();
           to_bitField0_ |= 0x00000400;
         }
         if (((from_bitField0_ & 0x00000800) != 0)) {
@@ -7124,7 +6561,9 @@ public final class SteammessagesClientserverLogin {
           to_bitField0_ |= 0x00002000;
         }
         if (((from_bitField0_ & 0x00004000) != 0)) {
-          result.publicIp_ = publicIpBuilder_ == null ? publicIp_ : publicIpBuilder_.build();
+          result.publicIp_ = publicIpBuilder_ == null
+              ? publicIp_
+              : publicIpBuilder_.build();
           to_bitField0_ |= 0x00004000;
         }
         if (((from_bitField0_ & 0x00008000) != 0)) {
@@ -7198,7 +6637,7 @@ public final class SteammessagesClientserverLogin {
         result.bitField0_ |= to_bitField0_;
       }
 
-      private void buildPartial1(SteammessagesClientserverLogin.CMsgClientLogon result) {
+      private void buildPartial1(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon result) {
         int from_bitField1_ = bitField1_;
         int to_bitField1_ = 0;
         if (((from_bitField1_ & 0x00000001) != 0)) {
@@ -7278,10 +6717,9 @@ public final class SteammessagesClientserverLogin {
           to_bitField1_ |= 0x00040000;
         }
         if (((from_bitField1_ & 0x00080000) != 0)) {
-          result.embeddedClientSecret_ =
-              embeddedClientSecretBuilder_ == null
-                  ? embeddedClientSecret_
-                  : embeddedClientSecretBuilder_.build();
+          result.embeddedClientSecret_ = embeddedClientSecretBuilder_ == null
+              ? embeddedClientSecret_
+              : embeddedClientSecretBuilder_.build();
           to_bitField1_ |= 0x00080000;
         }
         if (((from_bitField1_ & 0x00100000) != 0)) {
@@ -7309,17 +6747,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientLogon) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientLogon) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientLogon other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientLogon.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon.getDefaultInstance()) return this;
         if (other.hasProtocolVersion()) {
           setProtocolVersion(other.getProtocolVersion());
         }
@@ -7553,357 +6990,303 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  protocolVersion_ = input.readUInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              case 16:
-                {
-                  deprecatedObfustucatedPrivateIp_ = input.readUInt32();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 16
-              case 24:
-                {
-                  cellId_ = input.readUInt32();
-                  bitField0_ |= 0x00000004;
-                  break;
-                } // case 24
-              case 32:
-                {
-                  lastSessionId_ = input.readUInt32();
-                  bitField0_ |= 0x00000008;
-                  break;
-                } // case 32
-              case 40:
-                {
-                  clientPackageVersion_ = input.readUInt32();
-                  bitField0_ |= 0x00000010;
-                  break;
-                } // case 40
-              case 50:
-                {
-                  clientLanguage_ = input.readBytes();
-                  bitField0_ |= 0x00000020;
-                  break;
-                } // case 50
-              case 56:
-                {
-                  clientOsType_ = input.readUInt32();
-                  bitField0_ |= 0x00000040;
-                  break;
-                } // case 56
-              case 64:
-                {
-                  shouldRememberPassword_ = input.readBool();
-                  bitField0_ |= 0x00000080;
-                  break;
-                } // case 64
-              case 74:
-                {
-                  wineVersion_ = input.readBytes();
-                  bitField0_ |= 0x00000100;
-                  break;
-                } // case 74
-              case 80:
-                {
-                  deprecated10_ = input.readUInt32();
-                  bitField0_ |= 0x00000200;
-                  break;
-                } // case 80
-              case 90:
-                {
-                  input.readMessage(
-                      getObfuscatedPrivateIpFieldBuilder().getBuilder(), extensionRegistry);
-                  bitField0_ |= 0x00000400;
-                  break;
-                } // case 90
-              case 160:
-                {
-                  deprecatedPublicIp_ = input.readUInt32();
-                  bitField0_ |= 0x00000800;
-                  break;
-                } // case 160
-              case 168:
-                {
-                  qosLevel_ = input.readUInt32();
-                  bitField0_ |= 0x00001000;
-                  break;
-                } // case 168
-              case 177:
-                {
-                  clientSuppliedSteamId_ = input.readFixed64();
-                  bitField0_ |= 0x00002000;
-                  break;
-                } // case 177
-              case 186:
-                {
-                  input.readMessage(getPublicIpFieldBuilder().getBuilder(), extensionRegistry);
-                  bitField0_ |= 0x00004000;
-                  break;
-                } // case 186
-              case 242:
-                {
-                  machineId_ = input.readBytes();
-                  bitField0_ |= 0x00008000;
-                  break;
-                } // case 242
-              case 248:
-                {
-                  launcherType_ = input.readUInt32();
-                  bitField0_ |= 0x00010000;
-                  break;
-                } // case 248
-              case 256:
-                {
-                  uiMode_ = input.readUInt32();
-                  bitField0_ |= 0x00020000;
-                  break;
-                } // case 256
-              case 264:
-                {
-                  chatMode_ = input.readUInt32();
-                  bitField0_ |= 0x00040000;
-                  break;
-                } // case 264
-              case 330:
-                {
-                  steam2AuthTicket_ = input.readBytes();
-                  bitField0_ |= 0x00080000;
-                  break;
-                } // case 330
-              case 338:
-                {
-                  emailAddress_ = input.readBytes();
-                  bitField0_ |= 0x00100000;
-                  break;
-                } // case 338
-              case 349:
-                {
-                  rtime32AccountCreation_ = input.readFixed32();
-                  bitField0_ |= 0x00200000;
-                  break;
-                } // case 349
-              case 402:
-                {
-                  accountName_ = input.readBytes();
-                  bitField0_ |= 0x00400000;
-                  break;
-                } // case 402
-              case 410:
-                {
-                  password_ = input.readBytes();
-                  bitField0_ |= 0x00800000;
-                  break;
-                } // case 410
-              case 418:
-                {
-                  gameServerToken_ = input.readBytes();
-                  bitField0_ |= 0x01000000;
-                  break;
-                } // case 418
-              case 482:
-                {
-                  loginKey_ = input.readBytes();
-                  bitField0_ |= 0x02000000;
-                  break;
-                } // case 482
-              case 560:
-                {
-                  wasConvertedDeprecatedMsg_ = input.readBool();
-                  bitField0_ |= 0x04000000;
-                  break;
-                } // case 560
-              case 642:
-                {
-                  anonUserTargetAccountName_ = input.readBytes();
-                  bitField0_ |= 0x08000000;
-                  break;
-                } // case 642
-              case 649:
-                {
-                  resolvedUserSteamId_ = input.readFixed64();
-                  bitField0_ |= 0x10000000;
-                  break;
-                } // case 649
-              case 656:
-                {
-                  eresultSentryfile_ = input.readInt32();
-                  bitField0_ |= 0x20000000;
-                  break;
-                } // case 656
-              case 666:
-                {
-                  shaSentryfile_ = input.readBytes();
-                  bitField0_ |= 0x40000000;
-                  break;
-                } // case 666
-              case 674:
-                {
-                  authCode_ = input.readBytes();
-                  bitField0_ |= 0x80000000;
-                  break;
-                } // case 674
-              case 680:
-                {
-                  otpType_ = input.readInt32();
-                  bitField1_ |= 0x00000001;
-                  break;
-                } // case 680
-              case 688:
-                {
-                  otpValue_ = input.readUInt32();
-                  bitField1_ |= 0x00000002;
-                  break;
-                } // case 688
-              case 698:
-                {
-                  otpIdentifier_ = input.readBytes();
-                  bitField1_ |= 0x00000004;
-                  break;
-                } // case 698
-              case 704:
-                {
-                  steam2TicketRequest_ = input.readBool();
-                  bitField1_ |= 0x00000008;
-                  break;
-                } // case 704
-              case 722:
-                {
-                  sonyPsnTicket_ = input.readBytes();
-                  bitField1_ |= 0x00000010;
-                  break;
-                } // case 722
-              case 730:
-                {
-                  sonyPsnServiceId_ = input.readBytes();
-                  bitField1_ |= 0x00000020;
-                  break;
-                } // case 730
-              case 736:
-                {
-                  createNewPsnLinkedAccountIfNeeded_ = input.readBool();
-                  bitField1_ |= 0x00000040;
-                  break;
-                } // case 736
-              case 746:
-                {
-                  sonyPsnName_ = input.readBytes();
-                  bitField1_ |= 0x00000080;
-                  break;
-                } // case 746
-              case 752:
-                {
-                  gameServerAppId_ = input.readInt32();
-                  bitField1_ |= 0x00000100;
-                  break;
-                } // case 752
-              case 760:
-                {
-                  steamguardDontRememberComputer_ = input.readBool();
-                  bitField1_ |= 0x00000200;
-                  break;
-                } // case 760
-              case 770:
-                {
-                  machineName_ = input.readBytes();
-                  bitField1_ |= 0x00000400;
-                  break;
-                } // case 770
-              case 778:
-                {
-                  machineNameUserchosen_ = input.readBytes();
-                  bitField1_ |= 0x00000800;
-                  break;
-                } // case 778
-              case 786:
-                {
-                  countryOverride_ = input.readBytes();
-                  bitField1_ |= 0x00001000;
-                  break;
-                } // case 786
-              case 792:
-                {
-                  isSteamBox_ = input.readBool();
-                  bitField1_ |= 0x00002000;
-                  break;
-                } // case 792
-              case 800:
-                {
-                  clientInstanceId_ = input.readUInt64();
-                  bitField1_ |= 0x00004000;
-                  break;
-                } // case 800
-              case 810:
-                {
-                  twoFactorCode_ = input.readBytes();
-                  bitField1_ |= 0x00008000;
-                  break;
-                } // case 810
-              case 816:
-                {
-                  supportsRateLimitResponse_ = input.readBool();
-                  bitField1_ |= 0x00010000;
-                  break;
-                } // case 816
-              case 826:
-                {
-                  webLogonNonce_ = input.readBytes();
-                  bitField1_ |= 0x00020000;
-                  break;
-                } // case 826
-              case 832:
-                {
-                  priorityReason_ = input.readInt32();
-                  bitField1_ |= 0x00040000;
-                  break;
-                } // case 832
-              case 842:
-                {
-                  input.readMessage(
-                      getEmbeddedClientSecretFieldBuilder().getBuilder(), extensionRegistry);
-                  bitField1_ |= 0x00080000;
-                  break;
-                } // case 842
-              case 848:
-                {
-                  disablePartnerAutogrants_ = input.readBool();
-                  bitField1_ |= 0x00100000;
-                  break;
-                } // case 848
-              case 856:
-                {
-                  isSteamDeck_ = input.readBool();
-                  bitField1_ |= 0x00200000;
-                  break;
-                } // case 856
-              case 866:
-                {
-                  accessToken_ = input.readBytes();
-                  bitField1_ |= 0x00400000;
-                  break;
-                } // case 866
-              case 872:
-                {
-                  isChromeOs_ = input.readBool();
-                  bitField1_ |= 0x00800000;
-                  break;
-                } // case 872
-              case 880:
-                {
-                  isTesla_ = input.readBool();
-                  bitField1_ |= 0x01000000;
-                  break;
-                } // case 880
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                protocolVersion_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                deprecatedObfustucatedPrivateIp_ = input.readUInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                cellId_ = input.readUInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                lastSessionId_ = input.readUInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                clientPackageVersion_ = input.readUInt32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 50: {
+                clientLanguage_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 56: {
+                clientOsType_ = input.readUInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                shouldRememberPassword_ = input.readBool();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 74: {
+                wineVersion_ = input.readBytes();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 80: {
+                deprecated10_ = input.readUInt32();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              case 90: {
+                input.readMessage(
+                    getObfuscatedPrivateIpFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 90
+              case 160: {
+                deprecatedPublicIp_ = input.readUInt32();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 160
+              case 168: {
+                qosLevel_ = input.readUInt32();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 168
+              case 177: {
+                clientSuppliedSteamId_ = input.readFixed64();
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 177
+              case 186: {
+                input.readMessage(
+                    getPublicIpFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 186
+              case 242: {
+                machineId_ = input.readBytes();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 242
+              case 248: {
+                launcherType_ = input.readUInt32();
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 248
+              case 256: {
+                uiMode_ = input.readUInt32();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 256
+              case 264: {
+                chatMode_ = input.readUInt32();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 264
+              case 330: {
+                steam2AuthTicket_ = input.readBytes();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 330
+              case 338: {
+                emailAddress_ = input.readBytes();
+                bitField0_ |= 0x00100000;
+                break;
+              } // case 338
+              case 349: {
+                rtime32AccountCreation_ = input.readFixed32();
+                bitField0_ |= 0x00200000;
+                break;
+              } // case 349
+              case 402: {
+                accountName_ = input.readBytes();
+                bitField0_ |= 0x00400000;
+                break;
+              } // case 402
+              case 410: {
+                password_ = input.readBytes();
+                bitField0_ |= 0x00800000;
+                break;
+              } // case 410
+              case 418: {
+                gameServerToken_ = input.readBytes();
+                bitField0_ |= 0x01000000;
+                break;
+              } // case 418
+              case 482: {
+                loginKey_ = input.readBytes();
+                bitField0_ |= 0x02000000;
+                break;
+              } // case 482
+              case 560: {
+                wasConvertedDeprecatedMsg_ = input.readBool();
+                bitField0_ |= 0x04000000;
+                break;
+              } // case 560
+              case 642: {
+                anonUserTargetAccountName_ = input.readBytes();
+                bitField0_ |= 0x08000000;
+                break;
+              } // case 642
+              case 649: {
+                resolvedUserSteamId_ = input.readFixed64();
+                bitField0_ |= 0x10000000;
+                break;
+              } // case 649
+              case 656: {
+                eresultSentryfile_ = input.readInt32();
+                bitField0_ |= 0x20000000;
+                break;
+              } // case 656
+              case 666: {
+                shaSentryfile_ = input.readBytes();
+                bitField0_ |= 0x40000000;
+                break;
+              } // case 666
+              case 674: {
+                authCode_ = input.readBytes();
+                bitField0_ |= 0x80000000;
+                break;
+              } // case 674
+              case 680: {
+                otpType_ = input.readInt32();
+                bitField1_ |= 0x00000001;
+                break;
+              } // case 680
+              case 688: {
+                otpValue_ = input.readUInt32();
+                bitField1_ |= 0x00000002;
+                break;
+              } // case 688
+              case 698: {
+                otpIdentifier_ = input.readBytes();
+                bitField1_ |= 0x00000004;
+                break;
+              } // case 698
+              case 704: {
+                steam2TicketRequest_ = input.readBool();
+                bitField1_ |= 0x00000008;
+                break;
+              } // case 704
+              case 722: {
+                sonyPsnTicket_ = input.readBytes();
+                bitField1_ |= 0x00000010;
+                break;
+              } // case 722
+              case 730: {
+                sonyPsnServiceId_ = input.readBytes();
+                bitField1_ |= 0x00000020;
+                break;
+              } // case 730
+              case 736: {
+                createNewPsnLinkedAccountIfNeeded_ = input.readBool();
+                bitField1_ |= 0x00000040;
+                break;
+              } // case 736
+              case 746: {
+                sonyPsnName_ = input.readBytes();
+                bitField1_ |= 0x00000080;
+                break;
+              } // case 746
+              case 752: {
+                gameServerAppId_ = input.readInt32();
+                bitField1_ |= 0x00000100;
+                break;
+              } // case 752
+              case 760: {
+                steamguardDontRememberComputer_ = input.readBool();
+                bitField1_ |= 0x00000200;
+                break;
+              } // case 760
+              case 770: {
+                machineName_ = input.readBytes();
+                bitField1_ |= 0x00000400;
+                break;
+              } // case 770
+              case 778: {
+                machineNameUserchosen_ = input.readBytes();
+                bitField1_ |= 0x00000800;
+                break;
+              } // case 778
+              case 786: {
+                countryOverride_ = input.readBytes();
+                bitField1_ |= 0x00001000;
+                break;
+              } // case 786
+              case 792: {
+                isSteamBox_ = input.readBool();
+                bitField1_ |= 0x00002000;
+                break;
+              } // case 792
+              case 800: {
+                clientInstanceId_ = input.readUInt64();
+                bitField1_ |= 0x00004000;
+                break;
+              } // case 800
+              case 810: {
+                twoFactorCode_ = input.readBytes();
+                bitField1_ |= 0x00008000;
+                break;
+              } // case 810
+              case 816: {
+                supportsRateLimitResponse_ = input.readBool();
+                bitField1_ |= 0x00010000;
+                break;
+              } // case 816
+              case 826: {
+                webLogonNonce_ = input.readBytes();
+                bitField1_ |= 0x00020000;
+                break;
+              } // case 826
+              case 832: {
+                priorityReason_ = input.readInt32();
+                bitField1_ |= 0x00040000;
+                break;
+              } // case 832
+              case 842: {
+                input.readMessage(
+                    getEmbeddedClientSecretFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField1_ |= 0x00080000;
+                break;
+              } // case 842
+              case 848: {
+                disablePartnerAutogrants_ = input.readBool();
+                bitField1_ |= 0x00100000;
+                break;
+              } // case 848
+              case 856: {
+                isSteamDeck_ = input.readBool();
+                bitField1_ |= 0x00200000;
+                break;
+              } // case 856
+              case 866: {
+                accessToken_ = input.readBytes();
+                bitField1_ |= 0x00400000;
+                break;
+              } // case 866
+              case 872: {
+                isChromeOs_ = input.readBool();
+                bitField1_ |= 0x00800000;
+                break;
+              } // case 872
+              case 880: {
+                isTesla_ = input.readBool();
+                bitField1_ |= 0x01000000;
+                break;
+              } // case 880
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -7913,35 +7296,28 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
       private int bitField1_;
 
-      private int protocolVersion_;
-
+      private int protocolVersion_ ;
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @return Whether the protocolVersion field is set.
        */
       @java.lang.Override
       public boolean hasProtocolVersion() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @return The protocolVersion.
        */
       @java.lang.Override
       public int getProtocolVersion() {
         return protocolVersion_;
       }
-
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @param value The protocolVersion to set.
        * @return This builder for chaining.
        */
@@ -7952,10 +7328,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 protocol_version = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearProtocolVersion() {
@@ -7965,31 +7339,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int deprecatedObfustucatedPrivateIp_;
-
+      private int deprecatedObfustucatedPrivateIp_ ;
       /**
        * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-       *
        * @return Whether the deprecatedObfustucatedPrivateIp field is set.
        */
       @java.lang.Override
       public boolean hasDeprecatedObfustucatedPrivateIp() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-       *
        * @return The deprecatedObfustucatedPrivateIp.
        */
       @java.lang.Override
       public int getDeprecatedObfustucatedPrivateIp() {
         return deprecatedObfustucatedPrivateIp_;
       }
-
       /**
        * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-       *
        * @param value The deprecatedObfustucatedPrivateIp to set.
        * @return This builder for chaining.
        */
@@ -8000,10 +7368,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 deprecated_obfustucated_private_ip = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearDeprecatedObfustucatedPrivateIp() {
@@ -8013,31 +7379,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int cellId_;
-
+      private int cellId_ ;
       /**
        * <code>optional uint32 cell_id = 3;</code>
-       *
        * @return Whether the cellId field is set.
        */
       @java.lang.Override
       public boolean hasCellId() {
         return ((bitField0_ & 0x00000004) != 0);
       }
-
       /**
        * <code>optional uint32 cell_id = 3;</code>
-       *
        * @return The cellId.
        */
       @java.lang.Override
       public int getCellId() {
         return cellId_;
       }
-
       /**
        * <code>optional uint32 cell_id = 3;</code>
-       *
        * @param value The cellId to set.
        * @return This builder for chaining.
        */
@@ -8048,10 +7408,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 cell_id = 3;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCellId() {
@@ -8061,31 +7419,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int lastSessionId_;
-
+      private int lastSessionId_ ;
       /**
        * <code>optional uint32 last_session_id = 4;</code>
-       *
        * @return Whether the lastSessionId field is set.
        */
       @java.lang.Override
       public boolean hasLastSessionId() {
         return ((bitField0_ & 0x00000008) != 0);
       }
-
       /**
        * <code>optional uint32 last_session_id = 4;</code>
-       *
        * @return The lastSessionId.
        */
       @java.lang.Override
       public int getLastSessionId() {
         return lastSessionId_;
       }
-
       /**
        * <code>optional uint32 last_session_id = 4;</code>
-       *
        * @param value The lastSessionId to set.
        * @return This builder for chaining.
        */
@@ -8096,10 +7448,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 last_session_id = 4;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearLastSessionId() {
@@ -8109,31 +7459,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int clientPackageVersion_;
-
+      private int clientPackageVersion_ ;
       /**
        * <code>optional uint32 client_package_version = 5;</code>
-       *
        * @return Whether the clientPackageVersion field is set.
        */
       @java.lang.Override
       public boolean hasClientPackageVersion() {
         return ((bitField0_ & 0x00000010) != 0);
       }
-
       /**
        * <code>optional uint32 client_package_version = 5;</code>
-       *
        * @return The clientPackageVersion.
        */
       @java.lang.Override
       public int getClientPackageVersion() {
         return clientPackageVersion_;
       }
-
       /**
        * <code>optional uint32 client_package_version = 5;</code>
-       *
        * @param value The clientPackageVersion to set.
        * @return This builder for chaining.
        */
@@ -8144,10 +7488,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 client_package_version = 5;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientPackageVersion() {
@@ -8158,25 +7500,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object clientLanguage_ = "";
-
       /**
        * <code>optional string client_language = 6;</code>
-       *
        * @return Whether the clientLanguage field is set.
        */
       public boolean hasClientLanguage() {
         return ((bitField0_ & 0x00000020) != 0);
       }
-
       /**
        * <code>optional string client_language = 6;</code>
-       *
        * @return The clientLanguage.
        */
       public java.lang.String getClientLanguage() {
         java.lang.Object ref = clientLanguage_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             clientLanguage_ = s;
@@ -8186,43 +7525,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string client_language = 6;</code>
-       *
        * @return The bytes for clientLanguage.
        */
-      public com.google.protobuf.ByteString getClientLanguageBytes() {
+      public com.google.protobuf.ByteString
+          getClientLanguageBytes() {
         java.lang.Object ref = clientLanguage_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           clientLanguage_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string client_language = 6;</code>
-       *
        * @param value The clientLanguage to set.
        * @return This builder for chaining.
        */
-      public Builder setClientLanguage(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setClientLanguage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         clientLanguage_ = value;
         bitField0_ |= 0x00000020;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string client_language = 6;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientLanguage() {
@@ -8231,48 +7565,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string client_language = 6;</code>
-       *
        * @param value The bytes for clientLanguage to set.
        * @return This builder for chaining.
        */
-      public Builder setClientLanguageBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setClientLanguageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         clientLanguage_ = value;
         bitField0_ |= 0x00000020;
         onChanged();
         return this;
       }
 
-      private int clientOsType_;
-
+      private int clientOsType_ ;
       /**
        * <code>optional uint32 client_os_type = 7;</code>
-       *
        * @return Whether the clientOsType field is set.
        */
       @java.lang.Override
       public boolean hasClientOsType() {
         return ((bitField0_ & 0x00000040) != 0);
       }
-
       /**
        * <code>optional uint32 client_os_type = 7;</code>
-       *
        * @return The clientOsType.
        */
       @java.lang.Override
       public int getClientOsType() {
         return clientOsType_;
       }
-
       /**
        * <code>optional uint32 client_os_type = 7;</code>
-       *
        * @param value The clientOsType to set.
        * @return This builder for chaining.
        */
@@ -8283,10 +7608,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 client_os_type = 7;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientOsType() {
@@ -8296,31 +7619,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean shouldRememberPassword_;
-
+      private boolean shouldRememberPassword_ ;
       /**
        * <code>optional bool should_remember_password = 8 [default = false];</code>
-       *
        * @return Whether the shouldRememberPassword field is set.
        */
       @java.lang.Override
       public boolean hasShouldRememberPassword() {
         return ((bitField0_ & 0x00000080) != 0);
       }
-
       /**
        * <code>optional bool should_remember_password = 8 [default = false];</code>
-       *
        * @return The shouldRememberPassword.
        */
       @java.lang.Override
       public boolean getShouldRememberPassword() {
         return shouldRememberPassword_;
       }
-
       /**
        * <code>optional bool should_remember_password = 8 [default = false];</code>
-       *
        * @param value The shouldRememberPassword to set.
        * @return This builder for chaining.
        */
@@ -8331,10 +7648,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool should_remember_password = 8 [default = false];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearShouldRememberPassword() {
@@ -8345,25 +7660,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object wineVersion_ = "";
-
       /**
        * <code>optional string wine_version = 9;</code>
-       *
        * @return Whether the wineVersion field is set.
        */
       public boolean hasWineVersion() {
         return ((bitField0_ & 0x00000100) != 0);
       }
-
       /**
        * <code>optional string wine_version = 9;</code>
-       *
        * @return The wineVersion.
        */
       public java.lang.String getWineVersion() {
         java.lang.Object ref = wineVersion_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             wineVersion_ = s;
@@ -8373,43 +7685,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string wine_version = 9;</code>
-       *
        * @return The bytes for wineVersion.
        */
-      public com.google.protobuf.ByteString getWineVersionBytes() {
+      public com.google.protobuf.ByteString
+          getWineVersionBytes() {
         java.lang.Object ref = wineVersion_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           wineVersion_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string wine_version = 9;</code>
-       *
        * @param value The wineVersion to set.
        * @return This builder for chaining.
        */
-      public Builder setWineVersion(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setWineVersion(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         wineVersion_ = value;
         bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string wine_version = 9;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearWineVersion() {
@@ -8418,48 +7725,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string wine_version = 9;</code>
-       *
        * @param value The bytes for wineVersion to set.
        * @return This builder for chaining.
        */
-      public Builder setWineVersionBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setWineVersionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         wineVersion_ = value;
         bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
 
-      private int deprecated10_;
-
+      private int deprecated10_ ;
       /**
        * <code>optional uint32 deprecated_10 = 10;</code>
-       *
        * @return Whether the deprecated10 field is set.
        */
       @java.lang.Override
       public boolean hasDeprecated10() {
         return ((bitField0_ & 0x00000200) != 0);
       }
-
       /**
        * <code>optional uint32 deprecated_10 = 10;</code>
-       *
        * @return The deprecated10.
        */
       @java.lang.Override
       public int getDeprecated10() {
         return deprecated10_;
       }
-
       /**
        * <code>optional uint32 deprecated_10 = 10;</code>
-       *
        * @param value The deprecated10 to set.
        * @return This builder for chaining.
        */
@@ -8470,10 +7768,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 deprecated_10 = 10;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearDeprecated10() {
@@ -8483,39 +7779,31 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private SteammessagesBase.CMsgIPAddress obfuscatedPrivateIp_;
+      private com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress obfuscatedPrivateIp_;
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesBase.CMsgIPAddress,
-              SteammessagesBase.CMsgIPAddress.Builder,
-              SteammessagesBase.CMsgIPAddressOrBuilder>
-          obfuscatedPrivateIpBuilder_;
-
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder> obfuscatedPrivateIpBuilder_;
       /**
        * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
-       *
        * @return Whether the obfuscatedPrivateIp field is set.
        */
       public boolean hasObfuscatedPrivateIp() {
         return ((bitField0_ & 0x00000400) != 0);
       }
-
       /**
        * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
-       *
        * @return The obfuscatedPrivateIp.
        */
-      public SteammessagesBase.CMsgIPAddress getObfuscatedPrivateIp() {
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getObfuscatedPrivateIp() {
         if (obfuscatedPrivateIpBuilder_ == null) {
-          return obfuscatedPrivateIp_ == null
-              ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-              : obfuscatedPrivateIp_;
+          return obfuscatedPrivateIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : obfuscatedPrivateIp_;
         } else {
           return obfuscatedPrivateIpBuilder_.getMessage();
         }
       }
-
-      /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
-      public Builder setObfuscatedPrivateIp(SteammessagesBase.CMsgIPAddress value) {
+      /**
+       * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+       */
+      public Builder setObfuscatedPrivateIp(com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress value) {
         if (obfuscatedPrivateIpBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -8528,10 +7816,11 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
+      /**
+       * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+       */
       public Builder setObfuscatedPrivateIp(
-          SteammessagesBase.CMsgIPAddress.Builder builderForValue) {
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder builderForValue) {
         if (obfuscatedPrivateIpBuilder_ == null) {
           obfuscatedPrivateIp_ = builderForValue.build();
         } else {
@@ -8541,13 +7830,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
-      public Builder mergeObfuscatedPrivateIp(SteammessagesBase.CMsgIPAddress value) {
+      /**
+       * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+       */
+      public Builder mergeObfuscatedPrivateIp(com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress value) {
         if (obfuscatedPrivateIpBuilder_ == null) {
-          if (((bitField0_ & 0x00000400) != 0)
-              && obfuscatedPrivateIp_ != null
-              && obfuscatedPrivateIp_ != SteammessagesBase.CMsgIPAddress.getDefaultInstance()) {
+          if (((bitField0_ & 0x00000400) != 0) &&
+            obfuscatedPrivateIp_ != null &&
+            obfuscatedPrivateIp_ != com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance()) {
             getObfuscatedPrivateIpBuilder().mergeFrom(value);
           } else {
             obfuscatedPrivateIp_ = value;
@@ -8561,8 +7851,9 @@ public final class SteammessagesClientserverLogin {
         }
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
+      /**
+       * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+       */
       public Builder clearObfuscatedPrivateIp() {
         bitField0_ = (bitField0_ & ~0x00000400);
         obfuscatedPrivateIp_ = null;
@@ -8573,68 +7864,61 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
-      public SteammessagesBase.CMsgIPAddress.Builder getObfuscatedPrivateIpBuilder() {
+      /**
+       * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder getObfuscatedPrivateIpBuilder() {
         bitField0_ |= 0x00000400;
         onChanged();
         return getObfuscatedPrivateIpFieldBuilder().getBuilder();
       }
-
-      /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
-      public SteammessagesBase.CMsgIPAddressOrBuilder getObfuscatedPrivateIpOrBuilder() {
+      /**
+       * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getObfuscatedPrivateIpOrBuilder() {
         if (obfuscatedPrivateIpBuilder_ != null) {
           return obfuscatedPrivateIpBuilder_.getMessageOrBuilder();
         } else {
-          return obfuscatedPrivateIp_ == null
-              ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-              : obfuscatedPrivateIp_;
+          return obfuscatedPrivateIp_ == null ?
+              com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : obfuscatedPrivateIp_;
         }
       }
-
-      /** <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code> */
+      /**
+       * <code>optional .CMsgIPAddress obfuscated_private_ip = 11;</code>
+       */
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesBase.CMsgIPAddress,
-              SteammessagesBase.CMsgIPAddress.Builder,
-              SteammessagesBase.CMsgIPAddressOrBuilder>
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder> 
           getObfuscatedPrivateIpFieldBuilder() {
         if (obfuscatedPrivateIpBuilder_ == null) {
-          obfuscatedPrivateIpBuilder_ =
-              new com.google.protobuf.SingleFieldBuilder<
-                  SteammessagesBase.CMsgIPAddress,
-                  SteammessagesBase.CMsgIPAddress.Builder,
-                  SteammessagesBase.CMsgIPAddressOrBuilder>(
-                  getObfuscatedPrivateIp(), getParentForChildren(), isClean());
+          obfuscatedPrivateIpBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder>(
+                  getObfuscatedPrivateIp(),
+                  getParentForChildren(),
+                  isClean());
           obfuscatedPrivateIp_ = null;
         }
         return obfuscatedPrivateIpBuilder_;
       }
 
-      private int deprecatedPublicIp_;
-
+      private int deprecatedPublicIp_ ;
       /**
        * <code>optional uint32 deprecated_public_ip = 20;</code>
-       *
        * @return Whether the deprecatedPublicIp field is set.
        */
       @java.lang.Override
       public boolean hasDeprecatedPublicIp() {
         return ((bitField0_ & 0x00000800) != 0);
       }
-
       /**
        * <code>optional uint32 deprecated_public_ip = 20;</code>
-       *
        * @return The deprecatedPublicIp.
        */
       @java.lang.Override
       public int getDeprecatedPublicIp() {
         return deprecatedPublicIp_;
       }
-
       /**
        * <code>optional uint32 deprecated_public_ip = 20;</code>
-       *
        * @param value The deprecatedPublicIp to set.
        * @return This builder for chaining.
        */
@@ -8645,10 +7929,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 deprecated_public_ip = 20;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearDeprecatedPublicIp() {
@@ -8658,31 +7940,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int qosLevel_;
-
+      private int qosLevel_ ;
       /**
        * <code>optional uint32 qos_level = 21;</code>
-       *
        * @return Whether the qosLevel field is set.
        */
       @java.lang.Override
       public boolean hasQosLevel() {
         return ((bitField0_ & 0x00001000) != 0);
       }
-
       /**
        * <code>optional uint32 qos_level = 21;</code>
-       *
        * @return The qosLevel.
        */
       @java.lang.Override
       public int getQosLevel() {
         return qosLevel_;
       }
-
       /**
        * <code>optional uint32 qos_level = 21;</code>
-       *
        * @param value The qosLevel to set.
        * @return This builder for chaining.
        */
@@ -8693,10 +7969,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 qos_level = 21;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearQosLevel() {
@@ -8706,31 +7980,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private long clientSuppliedSteamId_;
-
+      private long clientSuppliedSteamId_ ;
       /**
        * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-       *
        * @return Whether the clientSuppliedSteamId field is set.
        */
       @java.lang.Override
       public boolean hasClientSuppliedSteamId() {
         return ((bitField0_ & 0x00002000) != 0);
       }
-
       /**
        * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-       *
        * @return The clientSuppliedSteamId.
        */
       @java.lang.Override
       public long getClientSuppliedSteamId() {
         return clientSuppliedSteamId_;
       }
-
       /**
        * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-       *
        * @param value The clientSuppliedSteamId to set.
        * @return This builder for chaining.
        */
@@ -8741,10 +8009,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed64 client_supplied_steam_id = 22;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientSuppliedSteamId() {
@@ -8754,39 +8020,31 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private SteammessagesBase.CMsgIPAddress publicIp_;
+      private com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress publicIp_;
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesBase.CMsgIPAddress,
-              SteammessagesBase.CMsgIPAddress.Builder,
-              SteammessagesBase.CMsgIPAddressOrBuilder>
-          publicIpBuilder_;
-
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder> publicIpBuilder_;
       /**
        * <code>optional .CMsgIPAddress public_ip = 23;</code>
-       *
        * @return Whether the publicIp field is set.
        */
       public boolean hasPublicIp() {
         return ((bitField0_ & 0x00004000) != 0);
       }
-
       /**
        * <code>optional .CMsgIPAddress public_ip = 23;</code>
-       *
        * @return The publicIp.
        */
-      public SteammessagesBase.CMsgIPAddress getPublicIp() {
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getPublicIp() {
         if (publicIpBuilder_ == null) {
-          return publicIp_ == null
-              ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-              : publicIp_;
+          return publicIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
         } else {
           return publicIpBuilder_.getMessage();
         }
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
-      public Builder setPublicIp(SteammessagesBase.CMsgIPAddress value) {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 23;</code>
+       */
+      public Builder setPublicIp(com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress value) {
         if (publicIpBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -8799,9 +8057,11 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
-      public Builder setPublicIp(SteammessagesBase.CMsgIPAddress.Builder builderForValue) {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 23;</code>
+       */
+      public Builder setPublicIp(
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder builderForValue) {
         if (publicIpBuilder_ == null) {
           publicIp_ = builderForValue.build();
         } else {
@@ -8811,13 +8071,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
-      public Builder mergePublicIp(SteammessagesBase.CMsgIPAddress value) {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 23;</code>
+       */
+      public Builder mergePublicIp(com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress value) {
         if (publicIpBuilder_ == null) {
-          if (((bitField0_ & 0x00004000) != 0)
-              && publicIp_ != null
-              && publicIp_ != SteammessagesBase.CMsgIPAddress.getDefaultInstance()) {
+          if (((bitField0_ & 0x00004000) != 0) &&
+            publicIp_ != null &&
+            publicIp_ != com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance()) {
             getPublicIpBuilder().mergeFrom(value);
           } else {
             publicIp_ = value;
@@ -8831,8 +8092,9 @@ public final class SteammessagesClientserverLogin {
         }
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 23;</code>
+       */
       public Builder clearPublicIp() {
         bitField0_ = (bitField0_ & ~0x00004000);
         publicIp_ = null;
@@ -8843,84 +8105,73 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
-      public SteammessagesBase.CMsgIPAddress.Builder getPublicIpBuilder() {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 23;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder getPublicIpBuilder() {
         bitField0_ |= 0x00004000;
         onChanged();
         return getPublicIpFieldBuilder().getBuilder();
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
-      public SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 23;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
         if (publicIpBuilder_ != null) {
           return publicIpBuilder_.getMessageOrBuilder();
         } else {
-          return publicIp_ == null
-              ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-              : publicIp_;
+          return publicIp_ == null ?
+              com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
         }
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 23;</code> */
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 23;</code>
+       */
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesBase.CMsgIPAddress,
-              SteammessagesBase.CMsgIPAddress.Builder,
-              SteammessagesBase.CMsgIPAddressOrBuilder>
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder> 
           getPublicIpFieldBuilder() {
         if (publicIpBuilder_ == null) {
-          publicIpBuilder_ =
-              new com.google.protobuf.SingleFieldBuilder<
-                  SteammessagesBase.CMsgIPAddress,
-                  SteammessagesBase.CMsgIPAddress.Builder,
-                  SteammessagesBase.CMsgIPAddressOrBuilder>(
-                  getPublicIp(), getParentForChildren(), isClean());
+          publicIpBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder>(
+                  getPublicIp(),
+                  getParentForChildren(),
+                  isClean());
           publicIp_ = null;
         }
         return publicIpBuilder_;
       }
 
       private com.google.protobuf.ByteString machineId_ = com.google.protobuf.ByteString.EMPTY;
-
       /**
        * <code>optional bytes machine_id = 30;</code>
-       *
        * @return Whether the machineId field is set.
        */
       @java.lang.Override
       public boolean hasMachineId() {
         return ((bitField0_ & 0x00008000) != 0);
       }
-
       /**
        * <code>optional bytes machine_id = 30;</code>
-       *
        * @return The machineId.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getMachineId() {
         return machineId_;
       }
-
       /**
        * <code>optional bytes machine_id = 30;</code>
-       *
        * @param value The machineId to set.
        * @return This builder for chaining.
        */
       public Builder setMachineId(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         machineId_ = value;
         bitField0_ |= 0x00008000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes machine_id = 30;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearMachineId() {
@@ -8930,31 +8181,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int launcherType_;
-
+      private int launcherType_ ;
       /**
        * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-       *
        * @return Whether the launcherType field is set.
        */
       @java.lang.Override
       public boolean hasLauncherType() {
         return ((bitField0_ & 0x00010000) != 0);
       }
-
       /**
        * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-       *
        * @return The launcherType.
        */
       @java.lang.Override
       public int getLauncherType() {
         return launcherType_;
       }
-
       /**
        * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-       *
        * @param value The launcherType to set.
        * @return This builder for chaining.
        */
@@ -8965,10 +8210,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 launcher_type = 31 [default = 0];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearLauncherType() {
@@ -8978,31 +8221,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int uiMode_;
-
+      private int uiMode_ ;
       /**
        * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-       *
        * @return Whether the uiMode field is set.
        */
       @java.lang.Override
       public boolean hasUiMode() {
         return ((bitField0_ & 0x00020000) != 0);
       }
-
       /**
        * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-       *
        * @return The uiMode.
        */
       @java.lang.Override
       public int getUiMode() {
         return uiMode_;
       }
-
       /**
        * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-       *
        * @param value The uiMode to set.
        * @return This builder for chaining.
        */
@@ -9013,10 +8250,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 ui_mode = 32 [default = 0];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearUiMode() {
@@ -9026,31 +8261,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int chatMode_;
-
+      private int chatMode_ ;
       /**
        * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-       *
        * @return Whether the chatMode field is set.
        */
       @java.lang.Override
       public boolean hasChatMode() {
         return ((bitField0_ & 0x00040000) != 0);
       }
-
       /**
        * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-       *
        * @return The chatMode.
        */
       @java.lang.Override
       public int getChatMode() {
         return chatMode_;
       }
-
       /**
        * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-       *
        * @param value The chatMode to set.
        * @return This builder for chaining.
        */
@@ -9061,10 +8290,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 chat_mode = 33 [default = 0];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearChatMode() {
@@ -9074,48 +8301,37 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private com.google.protobuf.ByteString steam2AuthTicket_ =
-          com.google.protobuf.ByteString.EMPTY;
-
+      private com.google.protobuf.ByteString steam2AuthTicket_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes steam2_auth_ticket = 41;</code>
-       *
        * @return Whether the steam2AuthTicket field is set.
        */
       @java.lang.Override
       public boolean hasSteam2AuthTicket() {
         return ((bitField0_ & 0x00080000) != 0);
       }
-
       /**
        * <code>optional bytes steam2_auth_ticket = 41;</code>
-       *
        * @return The steam2AuthTicket.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getSteam2AuthTicket() {
         return steam2AuthTicket_;
       }
-
       /**
        * <code>optional bytes steam2_auth_ticket = 41;</code>
-       *
        * @param value The steam2AuthTicket to set.
        * @return This builder for chaining.
        */
       public Builder setSteam2AuthTicket(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         steam2AuthTicket_ = value;
         bitField0_ |= 0x00080000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes steam2_auth_ticket = 41;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSteam2AuthTicket() {
@@ -9126,25 +8342,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object emailAddress_ = "";
-
       /**
        * <code>optional string email_address = 42;</code>
-       *
        * @return Whether the emailAddress field is set.
        */
       public boolean hasEmailAddress() {
         return ((bitField0_ & 0x00100000) != 0);
       }
-
       /**
        * <code>optional string email_address = 42;</code>
-       *
        * @return The emailAddress.
        */
       public java.lang.String getEmailAddress() {
         java.lang.Object ref = emailAddress_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             emailAddress_ = s;
@@ -9154,43 +8367,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string email_address = 42;</code>
-       *
        * @return The bytes for emailAddress.
        */
-      public com.google.protobuf.ByteString getEmailAddressBytes() {
+      public com.google.protobuf.ByteString
+          getEmailAddressBytes() {
         java.lang.Object ref = emailAddress_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           emailAddress_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string email_address = 42;</code>
-       *
        * @param value The emailAddress to set.
        * @return This builder for chaining.
        */
-      public Builder setEmailAddress(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setEmailAddress(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         emailAddress_ = value;
         bitField0_ |= 0x00100000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string email_address = 42;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEmailAddress() {
@@ -9199,48 +8407,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string email_address = 42;</code>
-       *
        * @param value The bytes for emailAddress to set.
        * @return This builder for chaining.
        */
-      public Builder setEmailAddressBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setEmailAddressBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         emailAddress_ = value;
         bitField0_ |= 0x00100000;
         onChanged();
         return this;
       }
 
-      private int rtime32AccountCreation_;
-
+      private int rtime32AccountCreation_ ;
       /**
        * <code>optional fixed32 rtime32_account_creation = 43;</code>
-       *
        * @return Whether the rtime32AccountCreation field is set.
        */
       @java.lang.Override
       public boolean hasRtime32AccountCreation() {
         return ((bitField0_ & 0x00200000) != 0);
       }
-
       /**
        * <code>optional fixed32 rtime32_account_creation = 43;</code>
-       *
        * @return The rtime32AccountCreation.
        */
       @java.lang.Override
       public int getRtime32AccountCreation() {
         return rtime32AccountCreation_;
       }
-
       /**
        * <code>optional fixed32 rtime32_account_creation = 43;</code>
-       *
        * @param value The rtime32AccountCreation to set.
        * @return This builder for chaining.
        */
@@ -9251,10 +8450,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed32 rtime32_account_creation = 43;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearRtime32AccountCreation() {
@@ -9265,25 +8462,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object accountName_ = "";
-
       /**
        * <code>optional string account_name = 50;</code>
-       *
        * @return Whether the accountName field is set.
        */
       public boolean hasAccountName() {
         return ((bitField0_ & 0x00400000) != 0);
       }
-
       /**
        * <code>optional string account_name = 50;</code>
-       *
        * @return The accountName.
        */
       public java.lang.String getAccountName() {
         java.lang.Object ref = accountName_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             accountName_ = s;
@@ -9293,43 +8487,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string account_name = 50;</code>
-       *
        * @return The bytes for accountName.
        */
-      public com.google.protobuf.ByteString getAccountNameBytes() {
+      public com.google.protobuf.ByteString
+          getAccountNameBytes() {
         java.lang.Object ref = accountName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           accountName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string account_name = 50;</code>
-       *
        * @param value The accountName to set.
        * @return This builder for chaining.
        */
-      public Builder setAccountName(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAccountName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         accountName_ = value;
         bitField0_ |= 0x00400000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string account_name = 50;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAccountName() {
@@ -9338,17 +8527,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string account_name = 50;</code>
-       *
        * @param value The bytes for accountName to set.
        * @return This builder for chaining.
        */
-      public Builder setAccountNameBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAccountNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         accountName_ = value;
         bitField0_ |= 0x00400000;
         onChanged();
@@ -9356,25 +8542,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object password_ = "";
-
       /**
        * <code>optional string password = 51;</code>
-       *
        * @return Whether the password field is set.
        */
       public boolean hasPassword() {
         return ((bitField0_ & 0x00800000) != 0);
       }
-
       /**
        * <code>optional string password = 51;</code>
-       *
        * @return The password.
        */
       public java.lang.String getPassword() {
         java.lang.Object ref = password_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             password_ = s;
@@ -9384,43 +8567,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string password = 51;</code>
-       *
        * @return The bytes for password.
        */
-      public com.google.protobuf.ByteString getPasswordBytes() {
+      public com.google.protobuf.ByteString
+          getPasswordBytes() {
         java.lang.Object ref = password_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           password_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string password = 51;</code>
-       *
        * @param value The password to set.
        * @return This builder for chaining.
        */
-      public Builder setPassword(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setPassword(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         password_ = value;
         bitField0_ |= 0x00800000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string password = 51;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearPassword() {
@@ -9429,17 +8607,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string password = 51;</code>
-       *
        * @param value The bytes for password to set.
        * @return This builder for chaining.
        */
-      public Builder setPasswordBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         password_ = value;
         bitField0_ |= 0x00800000;
         onChanged();
@@ -9447,25 +8622,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object gameServerToken_ = "";
-
       /**
        * <code>optional string game_server_token = 52;</code>
-       *
        * @return Whether the gameServerToken field is set.
        */
       public boolean hasGameServerToken() {
         return ((bitField0_ & 0x01000000) != 0);
       }
-
       /**
        * <code>optional string game_server_token = 52;</code>
-       *
        * @return The gameServerToken.
        */
       public java.lang.String getGameServerToken() {
         java.lang.Object ref = gameServerToken_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             gameServerToken_ = s;
@@ -9475,43 +8647,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string game_server_token = 52;</code>
-       *
        * @return The bytes for gameServerToken.
        */
-      public com.google.protobuf.ByteString getGameServerTokenBytes() {
+      public com.google.protobuf.ByteString
+          getGameServerTokenBytes() {
         java.lang.Object ref = gameServerToken_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           gameServerToken_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string game_server_token = 52;</code>
-       *
        * @param value The gameServerToken to set.
        * @return This builder for chaining.
        */
-      public Builder setGameServerToken(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setGameServerToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         gameServerToken_ = value;
         bitField0_ |= 0x01000000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string game_server_token = 52;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearGameServerToken() {
@@ -9520,17 +8687,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string game_server_token = 52;</code>
-       *
        * @param value The bytes for gameServerToken to set.
        * @return This builder for chaining.
        */
-      public Builder setGameServerTokenBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setGameServerTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         gameServerToken_ = value;
         bitField0_ |= 0x01000000;
         onChanged();
@@ -9538,25 +8702,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object loginKey_ = "";
-
       /**
        * <code>optional string login_key = 60;</code>
-       *
        * @return Whether the loginKey field is set.
        */
       public boolean hasLoginKey() {
         return ((bitField0_ & 0x02000000) != 0);
       }
-
       /**
        * <code>optional string login_key = 60;</code>
-       *
        * @return The loginKey.
        */
       public java.lang.String getLoginKey() {
         java.lang.Object ref = loginKey_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             loginKey_ = s;
@@ -9566,43 +8727,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string login_key = 60;</code>
-       *
        * @return The bytes for loginKey.
        */
-      public com.google.protobuf.ByteString getLoginKeyBytes() {
+      public com.google.protobuf.ByteString
+          getLoginKeyBytes() {
         java.lang.Object ref = loginKey_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           loginKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string login_key = 60;</code>
-       *
        * @param value The loginKey to set.
        * @return This builder for chaining.
        */
-      public Builder setLoginKey(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setLoginKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         loginKey_ = value;
         bitField0_ |= 0x02000000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string login_key = 60;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearLoginKey() {
@@ -9611,48 +8767,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string login_key = 60;</code>
-       *
        * @param value The bytes for loginKey to set.
        * @return This builder for chaining.
        */
-      public Builder setLoginKeyBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setLoginKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         loginKey_ = value;
         bitField0_ |= 0x02000000;
         onChanged();
         return this;
       }
 
-      private boolean wasConvertedDeprecatedMsg_;
-
+      private boolean wasConvertedDeprecatedMsg_ ;
       /**
        * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-       *
        * @return Whether the wasConvertedDeprecatedMsg field is set.
        */
       @java.lang.Override
       public boolean hasWasConvertedDeprecatedMsg() {
         return ((bitField0_ & 0x04000000) != 0);
       }
-
       /**
        * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-       *
        * @return The wasConvertedDeprecatedMsg.
        */
       @java.lang.Override
       public boolean getWasConvertedDeprecatedMsg() {
         return wasConvertedDeprecatedMsg_;
       }
-
       /**
        * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-       *
        * @param value The wasConvertedDeprecatedMsg to set.
        * @return This builder for chaining.
        */
@@ -9663,10 +8810,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool was_converted_deprecated_msg = 70 [default = false];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearWasConvertedDeprecatedMsg() {
@@ -9677,25 +8822,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object anonUserTargetAccountName_ = "";
-
       /**
        * <code>optional string anon_user_target_account_name = 80;</code>
-       *
        * @return Whether the anonUserTargetAccountName field is set.
        */
       public boolean hasAnonUserTargetAccountName() {
         return ((bitField0_ & 0x08000000) != 0);
       }
-
       /**
        * <code>optional string anon_user_target_account_name = 80;</code>
-       *
        * @return The anonUserTargetAccountName.
        */
       public java.lang.String getAnonUserTargetAccountName() {
         java.lang.Object ref = anonUserTargetAccountName_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             anonUserTargetAccountName_ = s;
@@ -9705,43 +8847,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string anon_user_target_account_name = 80;</code>
-       *
        * @return The bytes for anonUserTargetAccountName.
        */
-      public com.google.protobuf.ByteString getAnonUserTargetAccountNameBytes() {
+      public com.google.protobuf.ByteString
+          getAnonUserTargetAccountNameBytes() {
         java.lang.Object ref = anonUserTargetAccountName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           anonUserTargetAccountName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string anon_user_target_account_name = 80;</code>
-       *
        * @param value The anonUserTargetAccountName to set.
        * @return This builder for chaining.
        */
-      public Builder setAnonUserTargetAccountName(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAnonUserTargetAccountName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         anonUserTargetAccountName_ = value;
         bitField0_ |= 0x08000000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string anon_user_target_account_name = 80;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAnonUserTargetAccountName() {
@@ -9750,48 +8887,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string anon_user_target_account_name = 80;</code>
-       *
        * @param value The bytes for anonUserTargetAccountName to set.
        * @return This builder for chaining.
        */
-      public Builder setAnonUserTargetAccountNameBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAnonUserTargetAccountNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         anonUserTargetAccountName_ = value;
         bitField0_ |= 0x08000000;
         onChanged();
         return this;
       }
 
-      private long resolvedUserSteamId_;
-
+      private long resolvedUserSteamId_ ;
       /**
        * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-       *
        * @return Whether the resolvedUserSteamId field is set.
        */
       @java.lang.Override
       public boolean hasResolvedUserSteamId() {
         return ((bitField0_ & 0x10000000) != 0);
       }
-
       /**
        * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-       *
        * @return The resolvedUserSteamId.
        */
       @java.lang.Override
       public long getResolvedUserSteamId() {
         return resolvedUserSteamId_;
       }
-
       /**
        * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-       *
        * @param value The resolvedUserSteamId to set.
        * @return This builder for chaining.
        */
@@ -9802,10 +8930,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed64 resolved_user_steam_id = 81;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearResolvedUserSteamId() {
@@ -9815,31 +8941,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int eresultSentryfile_;
-
+      private int eresultSentryfile_ ;
       /**
        * <code>optional int32 eresult_sentryfile = 82;</code>
-       *
        * @return Whether the eresultSentryfile field is set.
        */
       @java.lang.Override
       public boolean hasEresultSentryfile() {
         return ((bitField0_ & 0x20000000) != 0);
       }
-
       /**
        * <code>optional int32 eresult_sentryfile = 82;</code>
-       *
        * @return The eresultSentryfile.
        */
       @java.lang.Override
       public int getEresultSentryfile() {
         return eresultSentryfile_;
       }
-
       /**
        * <code>optional int32 eresult_sentryfile = 82;</code>
-       *
        * @param value The eresultSentryfile to set.
        * @return This builder for chaining.
        */
@@ -9850,10 +8970,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 eresult_sentryfile = 82;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEresultSentryfile() {
@@ -9864,46 +8982,36 @@ public final class SteammessagesClientserverLogin {
       }
 
       private com.google.protobuf.ByteString shaSentryfile_ = com.google.protobuf.ByteString.EMPTY;
-
       /**
        * <code>optional bytes sha_sentryfile = 83;</code>
-       *
        * @return Whether the shaSentryfile field is set.
        */
       @java.lang.Override
       public boolean hasShaSentryfile() {
         return ((bitField0_ & 0x40000000) != 0);
       }
-
       /**
        * <code>optional bytes sha_sentryfile = 83;</code>
-       *
        * @return The shaSentryfile.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getShaSentryfile() {
         return shaSentryfile_;
       }
-
       /**
        * <code>optional bytes sha_sentryfile = 83;</code>
-       *
        * @param value The shaSentryfile to set.
        * @return This builder for chaining.
        */
       public Builder setShaSentryfile(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         shaSentryfile_ = value;
         bitField0_ |= 0x40000000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes sha_sentryfile = 83;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearShaSentryfile() {
@@ -9914,25 +9022,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object authCode_ = "";
-
       /**
        * <code>optional string auth_code = 84;</code>
-       *
        * @return Whether the authCode field is set.
        */
       public boolean hasAuthCode() {
         return ((bitField0_ & 0x80000000) != 0);
       }
-
       /**
        * <code>optional string auth_code = 84;</code>
-       *
        * @return The authCode.
        */
       public java.lang.String getAuthCode() {
         java.lang.Object ref = authCode_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             authCode_ = s;
@@ -9942,43 +9047,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string auth_code = 84;</code>
-       *
        * @return The bytes for authCode.
        */
-      public com.google.protobuf.ByteString getAuthCodeBytes() {
+      public com.google.protobuf.ByteString
+          getAuthCodeBytes() {
         java.lang.Object ref = authCode_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           authCode_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string auth_code = 84;</code>
-       *
        * @param value The authCode to set.
        * @return This builder for chaining.
        */
-      public Builder setAuthCode(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAuthCode(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         authCode_ = value;
         bitField0_ |= 0x80000000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string auth_code = 84;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAuthCode() {
@@ -9987,48 +9087,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string auth_code = 84;</code>
-       *
        * @param value The bytes for authCode to set.
        * @return This builder for chaining.
        */
-      public Builder setAuthCodeBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAuthCodeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         authCode_ = value;
         bitField0_ |= 0x80000000;
         onChanged();
         return this;
       }
 
-      private int otpType_;
-
+      private int otpType_ ;
       /**
        * <code>optional int32 otp_type = 85;</code>
-       *
        * @return Whether the otpType field is set.
        */
       @java.lang.Override
       public boolean hasOtpType() {
         return ((bitField1_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional int32 otp_type = 85;</code>
-       *
        * @return The otpType.
        */
       @java.lang.Override
       public int getOtpType() {
         return otpType_;
       }
-
       /**
        * <code>optional int32 otp_type = 85;</code>
-       *
        * @param value The otpType to set.
        * @return This builder for chaining.
        */
@@ -10039,10 +9130,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 otp_type = 85;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearOtpType() {
@@ -10052,31 +9141,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int otpValue_;
-
+      private int otpValue_ ;
       /**
        * <code>optional uint32 otp_value = 86;</code>
-       *
        * @return Whether the otpValue field is set.
        */
       @java.lang.Override
       public boolean hasOtpValue() {
         return ((bitField1_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional uint32 otp_value = 86;</code>
-       *
        * @return The otpValue.
        */
       @java.lang.Override
       public int getOtpValue() {
         return otpValue_;
       }
-
       /**
        * <code>optional uint32 otp_value = 86;</code>
-       *
        * @param value The otpValue to set.
        * @return This builder for chaining.
        */
@@ -10087,10 +9170,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 otp_value = 86;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearOtpValue() {
@@ -10101,25 +9182,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object otpIdentifier_ = "";
-
       /**
        * <code>optional string otp_identifier = 87;</code>
-       *
        * @return Whether the otpIdentifier field is set.
        */
       public boolean hasOtpIdentifier() {
         return ((bitField1_ & 0x00000004) != 0);
       }
-
       /**
        * <code>optional string otp_identifier = 87;</code>
-       *
        * @return The otpIdentifier.
        */
       public java.lang.String getOtpIdentifier() {
         java.lang.Object ref = otpIdentifier_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             otpIdentifier_ = s;
@@ -10129,43 +9207,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string otp_identifier = 87;</code>
-       *
        * @return The bytes for otpIdentifier.
        */
-      public com.google.protobuf.ByteString getOtpIdentifierBytes() {
+      public com.google.protobuf.ByteString
+          getOtpIdentifierBytes() {
         java.lang.Object ref = otpIdentifier_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           otpIdentifier_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string otp_identifier = 87;</code>
-       *
        * @param value The otpIdentifier to set.
        * @return This builder for chaining.
        */
-      public Builder setOtpIdentifier(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setOtpIdentifier(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         otpIdentifier_ = value;
         bitField1_ |= 0x00000004;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string otp_identifier = 87;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearOtpIdentifier() {
@@ -10174,48 +9247,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string otp_identifier = 87;</code>
-       *
        * @param value The bytes for otpIdentifier to set.
        * @return This builder for chaining.
        */
-      public Builder setOtpIdentifierBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setOtpIdentifierBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         otpIdentifier_ = value;
         bitField1_ |= 0x00000004;
         onChanged();
         return this;
       }
 
-      private boolean steam2TicketRequest_;
-
+      private boolean steam2TicketRequest_ ;
       /**
        * <code>optional bool steam2_ticket_request = 88;</code>
-       *
        * @return Whether the steam2TicketRequest field is set.
        */
       @java.lang.Override
       public boolean hasSteam2TicketRequest() {
         return ((bitField1_ & 0x00000008) != 0);
       }
-
       /**
        * <code>optional bool steam2_ticket_request = 88;</code>
-       *
        * @return The steam2TicketRequest.
        */
       @java.lang.Override
       public boolean getSteam2TicketRequest() {
         return steam2TicketRequest_;
       }
-
       /**
        * <code>optional bool steam2_ticket_request = 88;</code>
-       *
        * @param value The steam2TicketRequest to set.
        * @return This builder for chaining.
        */
@@ -10226,10 +9290,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool steam2_ticket_request = 88;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSteam2TicketRequest() {
@@ -10240,46 +9302,36 @@ public final class SteammessagesClientserverLogin {
       }
 
       private com.google.protobuf.ByteString sonyPsnTicket_ = com.google.protobuf.ByteString.EMPTY;
-
       /**
        * <code>optional bytes sony_psn_ticket = 90;</code>
-       *
        * @return Whether the sonyPsnTicket field is set.
        */
       @java.lang.Override
       public boolean hasSonyPsnTicket() {
         return ((bitField1_ & 0x00000010) != 0);
       }
-
       /**
        * <code>optional bytes sony_psn_ticket = 90;</code>
-       *
        * @return The sonyPsnTicket.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getSonyPsnTicket() {
         return sonyPsnTicket_;
       }
-
       /**
        * <code>optional bytes sony_psn_ticket = 90;</code>
-       *
        * @param value The sonyPsnTicket to set.
        * @return This builder for chaining.
        */
       public Builder setSonyPsnTicket(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         sonyPsnTicket_ = value;
         bitField1_ |= 0x00000010;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes sony_psn_ticket = 90;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSonyPsnTicket() {
@@ -10290,25 +9342,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object sonyPsnServiceId_ = "";
-
       /**
        * <code>optional string sony_psn_service_id = 91;</code>
-       *
        * @return Whether the sonyPsnServiceId field is set.
        */
       public boolean hasSonyPsnServiceId() {
         return ((bitField1_ & 0x00000020) != 0);
       }
-
       /**
        * <code>optional string sony_psn_service_id = 91;</code>
-       *
        * @return The sonyPsnServiceId.
        */
       public java.lang.String getSonyPsnServiceId() {
         java.lang.Object ref = sonyPsnServiceId_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             sonyPsnServiceId_ = s;
@@ -10318,43 +9367,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string sony_psn_service_id = 91;</code>
-       *
        * @return The bytes for sonyPsnServiceId.
        */
-      public com.google.protobuf.ByteString getSonyPsnServiceIdBytes() {
+      public com.google.protobuf.ByteString
+          getSonyPsnServiceIdBytes() {
         java.lang.Object ref = sonyPsnServiceId_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           sonyPsnServiceId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string sony_psn_service_id = 91;</code>
-       *
        * @param value The sonyPsnServiceId to set.
        * @return This builder for chaining.
        */
-      public Builder setSonyPsnServiceId(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setSonyPsnServiceId(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         sonyPsnServiceId_ = value;
         bitField1_ |= 0x00000020;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string sony_psn_service_id = 91;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSonyPsnServiceId() {
@@ -10363,48 +9407,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string sony_psn_service_id = 91;</code>
-       *
        * @param value The bytes for sonyPsnServiceId to set.
        * @return This builder for chaining.
        */
-      public Builder setSonyPsnServiceIdBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setSonyPsnServiceIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         sonyPsnServiceId_ = value;
         bitField1_ |= 0x00000020;
         onChanged();
         return this;
       }
 
-      private boolean createNewPsnLinkedAccountIfNeeded_;
-
+      private boolean createNewPsnLinkedAccountIfNeeded_ ;
       /**
        * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-       *
        * @return Whether the createNewPsnLinkedAccountIfNeeded field is set.
        */
       @java.lang.Override
       public boolean hasCreateNewPsnLinkedAccountIfNeeded() {
         return ((bitField1_ & 0x00000040) != 0);
       }
-
       /**
        * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-       *
        * @return The createNewPsnLinkedAccountIfNeeded.
        */
       @java.lang.Override
       public boolean getCreateNewPsnLinkedAccountIfNeeded() {
         return createNewPsnLinkedAccountIfNeeded_;
       }
-
       /**
        * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-       *
        * @param value The createNewPsnLinkedAccountIfNeeded to set.
        * @return This builder for chaining.
        */
@@ -10415,10 +9450,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool create_new_psn_linked_account_if_needed = 92 [default = false];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCreateNewPsnLinkedAccountIfNeeded() {
@@ -10429,25 +9462,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object sonyPsnName_ = "";
-
       /**
        * <code>optional string sony_psn_name = 93;</code>
-       *
        * @return Whether the sonyPsnName field is set.
        */
       public boolean hasSonyPsnName() {
         return ((bitField1_ & 0x00000080) != 0);
       }
-
       /**
        * <code>optional string sony_psn_name = 93;</code>
-       *
        * @return The sonyPsnName.
        */
       public java.lang.String getSonyPsnName() {
         java.lang.Object ref = sonyPsnName_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             sonyPsnName_ = s;
@@ -10457,43 +9487,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string sony_psn_name = 93;</code>
-       *
        * @return The bytes for sonyPsnName.
        */
-      public com.google.protobuf.ByteString getSonyPsnNameBytes() {
+      public com.google.protobuf.ByteString
+          getSonyPsnNameBytes() {
         java.lang.Object ref = sonyPsnName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           sonyPsnName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string sony_psn_name = 93;</code>
-       *
        * @param value The sonyPsnName to set.
        * @return This builder for chaining.
        */
-      public Builder setSonyPsnName(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setSonyPsnName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         sonyPsnName_ = value;
         bitField1_ |= 0x00000080;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string sony_psn_name = 93;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSonyPsnName() {
@@ -10502,48 +9527,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string sony_psn_name = 93;</code>
-       *
        * @param value The bytes for sonyPsnName to set.
        * @return This builder for chaining.
        */
-      public Builder setSonyPsnNameBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setSonyPsnNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         sonyPsnName_ = value;
         bitField1_ |= 0x00000080;
         onChanged();
         return this;
       }
 
-      private int gameServerAppId_;
-
+      private int gameServerAppId_ ;
       /**
        * <code>optional int32 game_server_app_id = 94;</code>
-       *
        * @return Whether the gameServerAppId field is set.
        */
       @java.lang.Override
       public boolean hasGameServerAppId() {
         return ((bitField1_ & 0x00000100) != 0);
       }
-
       /**
        * <code>optional int32 game_server_app_id = 94;</code>
-       *
        * @return The gameServerAppId.
        */
       @java.lang.Override
       public int getGameServerAppId() {
         return gameServerAppId_;
       }
-
       /**
        * <code>optional int32 game_server_app_id = 94;</code>
-       *
        * @param value The gameServerAppId to set.
        * @return This builder for chaining.
        */
@@ -10554,10 +9570,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 game_server_app_id = 94;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearGameServerAppId() {
@@ -10567,31 +9581,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean steamguardDontRememberComputer_;
-
+      private boolean steamguardDontRememberComputer_ ;
       /**
        * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-       *
        * @return Whether the steamguardDontRememberComputer field is set.
        */
       @java.lang.Override
       public boolean hasSteamguardDontRememberComputer() {
         return ((bitField1_ & 0x00000200) != 0);
       }
-
       /**
        * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-       *
        * @return The steamguardDontRememberComputer.
        */
       @java.lang.Override
       public boolean getSteamguardDontRememberComputer() {
         return steamguardDontRememberComputer_;
       }
-
       /**
        * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-       *
        * @param value The steamguardDontRememberComputer to set.
        * @return This builder for chaining.
        */
@@ -10602,10 +9610,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool steamguard_dont_remember_computer = 95;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSteamguardDontRememberComputer() {
@@ -10616,25 +9622,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object machineName_ = "";
-
       /**
        * <code>optional string machine_name = 96;</code>
-       *
        * @return Whether the machineName field is set.
        */
       public boolean hasMachineName() {
         return ((bitField1_ & 0x00000400) != 0);
       }
-
       /**
        * <code>optional string machine_name = 96;</code>
-       *
        * @return The machineName.
        */
       public java.lang.String getMachineName() {
         java.lang.Object ref = machineName_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             machineName_ = s;
@@ -10644,43 +9647,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string machine_name = 96;</code>
-       *
        * @return The bytes for machineName.
        */
-      public com.google.protobuf.ByteString getMachineNameBytes() {
+      public com.google.protobuf.ByteString
+          getMachineNameBytes() {
         java.lang.Object ref = machineName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           machineName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string machine_name = 96;</code>
-       *
        * @param value The machineName to set.
        * @return This builder for chaining.
        */
-      public Builder setMachineName(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setMachineName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         machineName_ = value;
         bitField1_ |= 0x00000400;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string machine_name = 96;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearMachineName() {
@@ -10689,17 +9687,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string machine_name = 96;</code>
-       *
        * @param value The bytes for machineName to set.
        * @return This builder for chaining.
        */
-      public Builder setMachineNameBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setMachineNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         machineName_ = value;
         bitField1_ |= 0x00000400;
         onChanged();
@@ -10707,25 +9702,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object machineNameUserchosen_ = "";
-
       /**
        * <code>optional string machine_name_userchosen = 97;</code>
-       *
        * @return Whether the machineNameUserchosen field is set.
        */
       public boolean hasMachineNameUserchosen() {
         return ((bitField1_ & 0x00000800) != 0);
       }
-
       /**
        * <code>optional string machine_name_userchosen = 97;</code>
-       *
        * @return The machineNameUserchosen.
        */
       public java.lang.String getMachineNameUserchosen() {
         java.lang.Object ref = machineNameUserchosen_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             machineNameUserchosen_ = s;
@@ -10735,43 +9727,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string machine_name_userchosen = 97;</code>
-       *
        * @return The bytes for machineNameUserchosen.
        */
-      public com.google.protobuf.ByteString getMachineNameUserchosenBytes() {
+      public com.google.protobuf.ByteString
+          getMachineNameUserchosenBytes() {
         java.lang.Object ref = machineNameUserchosen_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           machineNameUserchosen_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string machine_name_userchosen = 97;</code>
-       *
        * @param value The machineNameUserchosen to set.
        * @return This builder for chaining.
        */
-      public Builder setMachineNameUserchosen(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setMachineNameUserchosen(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         machineNameUserchosen_ = value;
         bitField1_ |= 0x00000800;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string machine_name_userchosen = 97;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearMachineNameUserchosen() {
@@ -10780,17 +9767,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string machine_name_userchosen = 97;</code>
-       *
        * @param value The bytes for machineNameUserchosen to set.
        * @return This builder for chaining.
        */
-      public Builder setMachineNameUserchosenBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setMachineNameUserchosenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         machineNameUserchosen_ = value;
         bitField1_ |= 0x00000800;
         onChanged();
@@ -10798,25 +9782,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object countryOverride_ = "";
-
       /**
        * <code>optional string country_override = 98;</code>
-       *
        * @return Whether the countryOverride field is set.
        */
       public boolean hasCountryOverride() {
         return ((bitField1_ & 0x00001000) != 0);
       }
-
       /**
        * <code>optional string country_override = 98;</code>
-       *
        * @return The countryOverride.
        */
       public java.lang.String getCountryOverride() {
         java.lang.Object ref = countryOverride_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             countryOverride_ = s;
@@ -10826,43 +9807,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string country_override = 98;</code>
-       *
        * @return The bytes for countryOverride.
        */
-      public com.google.protobuf.ByteString getCountryOverrideBytes() {
+      public com.google.protobuf.ByteString
+          getCountryOverrideBytes() {
         java.lang.Object ref = countryOverride_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           countryOverride_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string country_override = 98;</code>
-       *
        * @param value The countryOverride to set.
        * @return This builder for chaining.
        */
-      public Builder setCountryOverride(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setCountryOverride(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         countryOverride_ = value;
         bitField1_ |= 0x00001000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string country_override = 98;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCountryOverride() {
@@ -10871,48 +9847,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string country_override = 98;</code>
-       *
        * @param value The bytes for countryOverride to set.
        * @return This builder for chaining.
        */
-      public Builder setCountryOverrideBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setCountryOverrideBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         countryOverride_ = value;
         bitField1_ |= 0x00001000;
         onChanged();
         return this;
       }
 
-      private boolean isSteamBox_;
-
+      private boolean isSteamBox_ ;
       /**
        * <code>optional bool is_steam_box = 99;</code>
-       *
        * @return Whether the isSteamBox field is set.
        */
       @java.lang.Override
       public boolean hasIsSteamBox() {
         return ((bitField1_ & 0x00002000) != 0);
       }
-
       /**
        * <code>optional bool is_steam_box = 99;</code>
-       *
        * @return The isSteamBox.
        */
       @java.lang.Override
       public boolean getIsSteamBox() {
         return isSteamBox_;
       }
-
       /**
        * <code>optional bool is_steam_box = 99;</code>
-       *
        * @param value The isSteamBox to set.
        * @return This builder for chaining.
        */
@@ -10923,10 +9890,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool is_steam_box = 99;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIsSteamBox() {
@@ -10936,31 +9901,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private long clientInstanceId_;
-
+      private long clientInstanceId_ ;
       /**
        * <code>optional uint64 client_instance_id = 100;</code>
-       *
        * @return Whether the clientInstanceId field is set.
        */
       @java.lang.Override
       public boolean hasClientInstanceId() {
         return ((bitField1_ & 0x00004000) != 0);
       }
-
       /**
        * <code>optional uint64 client_instance_id = 100;</code>
-       *
        * @return The clientInstanceId.
        */
       @java.lang.Override
       public long getClientInstanceId() {
         return clientInstanceId_;
       }
-
       /**
        * <code>optional uint64 client_instance_id = 100;</code>
-       *
        * @param value The clientInstanceId to set.
        * @return This builder for chaining.
        */
@@ -10971,10 +9930,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 client_instance_id = 100;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientInstanceId() {
@@ -10985,25 +9942,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object twoFactorCode_ = "";
-
       /**
        * <code>optional string two_factor_code = 101;</code>
-       *
        * @return Whether the twoFactorCode field is set.
        */
       public boolean hasTwoFactorCode() {
         return ((bitField1_ & 0x00008000) != 0);
       }
-
       /**
        * <code>optional string two_factor_code = 101;</code>
-       *
        * @return The twoFactorCode.
        */
       public java.lang.String getTwoFactorCode() {
         java.lang.Object ref = twoFactorCode_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             twoFactorCode_ = s;
@@ -11013,43 +9967,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string two_factor_code = 101;</code>
-       *
        * @return The bytes for twoFactorCode.
        */
-      public com.google.protobuf.ByteString getTwoFactorCodeBytes() {
+      public com.google.protobuf.ByteString
+          getTwoFactorCodeBytes() {
         java.lang.Object ref = twoFactorCode_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           twoFactorCode_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string two_factor_code = 101;</code>
-       *
        * @param value The twoFactorCode to set.
        * @return This builder for chaining.
        */
-      public Builder setTwoFactorCode(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setTwoFactorCode(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         twoFactorCode_ = value;
         bitField1_ |= 0x00008000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string two_factor_code = 101;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearTwoFactorCode() {
@@ -11058,48 +10007,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string two_factor_code = 101;</code>
-       *
        * @param value The bytes for twoFactorCode to set.
        * @return This builder for chaining.
        */
-      public Builder setTwoFactorCodeBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setTwoFactorCodeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         twoFactorCode_ = value;
         bitField1_ |= 0x00008000;
         onChanged();
         return this;
       }
 
-      private boolean supportsRateLimitResponse_;
-
+      private boolean supportsRateLimitResponse_ ;
       /**
        * <code>optional bool supports_rate_limit_response = 102;</code>
-       *
        * @return Whether the supportsRateLimitResponse field is set.
        */
       @java.lang.Override
       public boolean hasSupportsRateLimitResponse() {
         return ((bitField1_ & 0x00010000) != 0);
       }
-
       /**
        * <code>optional bool supports_rate_limit_response = 102;</code>
-       *
        * @return The supportsRateLimitResponse.
        */
       @java.lang.Override
       public boolean getSupportsRateLimitResponse() {
         return supportsRateLimitResponse_;
       }
-
       /**
        * <code>optional bool supports_rate_limit_response = 102;</code>
-       *
        * @param value The supportsRateLimitResponse to set.
        * @return This builder for chaining.
        */
@@ -11110,10 +10050,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool supports_rate_limit_response = 102;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSupportsRateLimitResponse() {
@@ -11124,25 +10062,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object webLogonNonce_ = "";
-
       /**
        * <code>optional string web_logon_nonce = 103;</code>
-       *
        * @return Whether the webLogonNonce field is set.
        */
       public boolean hasWebLogonNonce() {
         return ((bitField1_ & 0x00020000) != 0);
       }
-
       /**
        * <code>optional string web_logon_nonce = 103;</code>
-       *
        * @return The webLogonNonce.
        */
       public java.lang.String getWebLogonNonce() {
         java.lang.Object ref = webLogonNonce_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             webLogonNonce_ = s;
@@ -11152,43 +10087,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string web_logon_nonce = 103;</code>
-       *
        * @return The bytes for webLogonNonce.
        */
-      public com.google.protobuf.ByteString getWebLogonNonceBytes() {
+      public com.google.protobuf.ByteString
+          getWebLogonNonceBytes() {
         java.lang.Object ref = webLogonNonce_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           webLogonNonce_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string web_logon_nonce = 103;</code>
-       *
        * @param value The webLogonNonce to set.
        * @return This builder for chaining.
        */
-      public Builder setWebLogonNonce(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setWebLogonNonce(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         webLogonNonce_ = value;
         bitField1_ |= 0x00020000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string web_logon_nonce = 103;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearWebLogonNonce() {
@@ -11197,48 +10127,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string web_logon_nonce = 103;</code>
-       *
        * @param value The bytes for webLogonNonce to set.
        * @return This builder for chaining.
        */
-      public Builder setWebLogonNonceBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setWebLogonNonceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         webLogonNonce_ = value;
         bitField1_ |= 0x00020000;
         onChanged();
         return this;
       }
 
-      private int priorityReason_;
-
+      private int priorityReason_ ;
       /**
        * <code>optional int32 priority_reason = 104;</code>
-       *
        * @return Whether the priorityReason field is set.
        */
       @java.lang.Override
       public boolean hasPriorityReason() {
         return ((bitField1_ & 0x00040000) != 0);
       }
-
       /**
        * <code>optional int32 priority_reason = 104;</code>
-       *
        * @return The priorityReason.
        */
       @java.lang.Override
       public int getPriorityReason() {
         return priorityReason_;
       }
-
       /**
        * <code>optional int32 priority_reason = 104;</code>
-       *
        * @param value The priorityReason to set.
        * @return This builder for chaining.
        */
@@ -11249,10 +10170,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 priority_reason = 104;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearPriorityReason() {
@@ -11262,40 +10181,31 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private SteammessagesClientserverLogin.CMsgClientSecret embeddedClientSecret_;
+      private com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret embeddedClientSecret_;
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesClientserverLogin.CMsgClientSecret,
-              SteammessagesClientserverLogin.CMsgClientSecret.Builder,
-              SteammessagesClientserverLogin.CMsgClientSecretOrBuilder>
-          embeddedClientSecretBuilder_;
-
+          com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.Builder, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecretOrBuilder> embeddedClientSecretBuilder_;
       /**
        * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
-       *
        * @return Whether the embeddedClientSecret field is set.
        */
       public boolean hasEmbeddedClientSecret() {
         return ((bitField1_ & 0x00080000) != 0);
       }
-
       /**
        * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
-       *
        * @return The embeddedClientSecret.
        */
-      public SteammessagesClientserverLogin.CMsgClientSecret getEmbeddedClientSecret() {
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret getEmbeddedClientSecret() {
         if (embeddedClientSecretBuilder_ == null) {
-          return embeddedClientSecret_ == null
-              ? SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance()
-              : embeddedClientSecret_;
+          return embeddedClientSecret_ == null ? com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance() : embeddedClientSecret_;
         } else {
           return embeddedClientSecretBuilder_.getMessage();
         }
       }
-
-      /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
-      public Builder setEmbeddedClientSecret(
-          SteammessagesClientserverLogin.CMsgClientSecret value) {
+      /**
+       * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+       */
+      public Builder setEmbeddedClientSecret(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret value) {
         if (embeddedClientSecretBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -11308,10 +10218,11 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
+      /**
+       * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+       */
       public Builder setEmbeddedClientSecret(
-          SteammessagesClientserverLogin.CMsgClientSecret.Builder builderForValue) {
+          com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.Builder builderForValue) {
         if (embeddedClientSecretBuilder_ == null) {
           embeddedClientSecret_ = builderForValue.build();
         } else {
@@ -11321,15 +10232,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
-      public Builder mergeEmbeddedClientSecret(
-          SteammessagesClientserverLogin.CMsgClientSecret value) {
+      /**
+       * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+       */
+      public Builder mergeEmbeddedClientSecret(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret value) {
         if (embeddedClientSecretBuilder_ == null) {
-          if (((bitField1_ & 0x00080000) != 0)
-              && embeddedClientSecret_ != null
-              && embeddedClientSecret_
-                  != SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance()) {
+          if (((bitField1_ & 0x00080000) != 0) &&
+            embeddedClientSecret_ != null &&
+            embeddedClientSecret_ != com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance()) {
             getEmbeddedClientSecretBuilder().mergeFrom(value);
           } else {
             embeddedClientSecret_ = value;
@@ -11343,8 +10253,9 @@ public final class SteammessagesClientserverLogin {
         }
         return this;
       }
-
-      /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
+      /**
+       * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+       */
       public Builder clearEmbeddedClientSecret() {
         bitField1_ = (bitField1_ & ~0x00080000);
         embeddedClientSecret_ = null;
@@ -11355,70 +10266,61 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
-      public SteammessagesClientserverLogin.CMsgClientSecret.Builder
-          getEmbeddedClientSecretBuilder() {
+      /**
+       * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.Builder getEmbeddedClientSecretBuilder() {
         bitField1_ |= 0x00080000;
         onChanged();
         return getEmbeddedClientSecretFieldBuilder().getBuilder();
       }
-
-      /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
-      public SteammessagesClientserverLogin.CMsgClientSecretOrBuilder
-          getEmbeddedClientSecretOrBuilder() {
+      /**
+       * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecretOrBuilder getEmbeddedClientSecretOrBuilder() {
         if (embeddedClientSecretBuilder_ != null) {
           return embeddedClientSecretBuilder_.getMessageOrBuilder();
         } else {
-          return embeddedClientSecret_ == null
-              ? SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance()
-              : embeddedClientSecret_;
+          return embeddedClientSecret_ == null ?
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.getDefaultInstance() : embeddedClientSecret_;
         }
       }
-
-      /** <code>optional .CMsgClientSecret embedded_client_secret = 105;</code> */
+      /**
+       * <code>optional .CMsgClientSecret embedded_client_secret = 105;</code>
+       */
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesClientserverLogin.CMsgClientSecret,
-              SteammessagesClientserverLogin.CMsgClientSecret.Builder,
-              SteammessagesClientserverLogin.CMsgClientSecretOrBuilder>
+          com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.Builder, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecretOrBuilder> 
           getEmbeddedClientSecretFieldBuilder() {
         if (embeddedClientSecretBuilder_ == null) {
-          embeddedClientSecretBuilder_ =
-              new com.google.protobuf.SingleFieldBuilder<
-                  SteammessagesClientserverLogin.CMsgClientSecret,
-                  SteammessagesClientserverLogin.CMsgClientSecret.Builder,
-                  SteammessagesClientserverLogin.CMsgClientSecretOrBuilder>(
-                  getEmbeddedClientSecret(), getParentForChildren(), isClean());
+          embeddedClientSecretBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecret.Builder, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientSecretOrBuilder>(
+                  getEmbeddedClientSecret(),
+                  getParentForChildren(),
+                  isClean());
           embeddedClientSecret_ = null;
         }
         return embeddedClientSecretBuilder_;
       }
 
-      private boolean disablePartnerAutogrants_;
-
+      private boolean disablePartnerAutogrants_ ;
       /**
        * <code>optional bool disable_partner_autogrants = 106;</code>
-       *
        * @return Whether the disablePartnerAutogrants field is set.
        */
       @java.lang.Override
       public boolean hasDisablePartnerAutogrants() {
         return ((bitField1_ & 0x00100000) != 0);
       }
-
       /**
        * <code>optional bool disable_partner_autogrants = 106;</code>
-       *
        * @return The disablePartnerAutogrants.
        */
       @java.lang.Override
       public boolean getDisablePartnerAutogrants() {
         return disablePartnerAutogrants_;
       }
-
       /**
        * <code>optional bool disable_partner_autogrants = 106;</code>
-       *
        * @param value The disablePartnerAutogrants to set.
        * @return This builder for chaining.
        */
@@ -11429,10 +10331,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool disable_partner_autogrants = 106;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearDisablePartnerAutogrants() {
@@ -11442,31 +10342,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean isSteamDeck_;
-
+      private boolean isSteamDeck_ ;
       /**
        * <code>optional bool is_steam_deck = 107;</code>
-       *
        * @return Whether the isSteamDeck field is set.
        */
       @java.lang.Override
       public boolean hasIsSteamDeck() {
         return ((bitField1_ & 0x00200000) != 0);
       }
-
       /**
        * <code>optional bool is_steam_deck = 107;</code>
-       *
        * @return The isSteamDeck.
        */
       @java.lang.Override
       public boolean getIsSteamDeck() {
         return isSteamDeck_;
       }
-
       /**
        * <code>optional bool is_steam_deck = 107;</code>
-       *
        * @param value The isSteamDeck to set.
        * @return This builder for chaining.
        */
@@ -11477,10 +10371,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool is_steam_deck = 107;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIsSteamDeck() {
@@ -11491,25 +10383,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object accessToken_ = "";
-
       /**
        * <code>optional string access_token = 108;</code>
-       *
        * @return Whether the accessToken field is set.
        */
       public boolean hasAccessToken() {
         return ((bitField1_ & 0x00400000) != 0);
       }
-
       /**
        * <code>optional string access_token = 108;</code>
-       *
        * @return The accessToken.
        */
       public java.lang.String getAccessToken() {
         java.lang.Object ref = accessToken_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             accessToken_ = s;
@@ -11519,43 +10408,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string access_token = 108;</code>
-       *
        * @return The bytes for accessToken.
        */
-      public com.google.protobuf.ByteString getAccessTokenBytes() {
+      public com.google.protobuf.ByteString
+          getAccessTokenBytes() {
         java.lang.Object ref = accessToken_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           accessToken_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string access_token = 108;</code>
-       *
        * @param value The accessToken to set.
        * @return This builder for chaining.
        */
-      public Builder setAccessToken(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAccessToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         accessToken_ = value;
         bitField1_ |= 0x00400000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string access_token = 108;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAccessToken() {
@@ -11564,48 +10448,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string access_token = 108;</code>
-       *
        * @param value The bytes for accessToken to set.
        * @return This builder for chaining.
        */
-      public Builder setAccessTokenBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAccessTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         accessToken_ = value;
         bitField1_ |= 0x00400000;
         onChanged();
         return this;
       }
 
-      private boolean isChromeOs_;
-
+      private boolean isChromeOs_ ;
       /**
        * <code>optional bool is_chrome_os = 109;</code>
-       *
        * @return Whether the isChromeOs field is set.
        */
       @java.lang.Override
       public boolean hasIsChromeOs() {
         return ((bitField1_ & 0x00800000) != 0);
       }
-
       /**
        * <code>optional bool is_chrome_os = 109;</code>
-       *
        * @return The isChromeOs.
        */
       @java.lang.Override
       public boolean getIsChromeOs() {
         return isChromeOs_;
       }
-
       /**
        * <code>optional bool is_chrome_os = 109;</code>
-       *
        * @param value The isChromeOs to set.
        * @return This builder for chaining.
        */
@@ -11616,10 +10491,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool is_chrome_os = 109;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIsChromeOs() {
@@ -11629,31 +10502,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean isTesla_;
-
+      private boolean isTesla_ ;
       /**
        * <code>optional bool is_tesla = 110;</code>
-       *
        * @return Whether the isTesla field is set.
        */
       @java.lang.Override
       public boolean hasIsTesla() {
         return ((bitField1_ & 0x01000000) != 0);
       }
-
       /**
        * <code>optional bool is_tesla = 110;</code>
-       *
        * @return The isTesla.
        */
       @java.lang.Override
       public boolean getIsTesla() {
         return isTesla_;
       }
-
       /**
        * <code>optional bool is_tesla = 110;</code>
-       *
        * @param value The isTesla to set.
        * @return This builder for chaining.
        */
@@ -11664,10 +10531,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool is_tesla = 110;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIsTesla() {
@@ -11681,38 +10546,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientLogon)
-    private static final SteammessagesClientserverLogin.CMsgClientLogon DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientLogon();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogon getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientLogon> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientLogon>() {
-          @java.lang.Override
-          public CMsgClientLogon parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientLogon>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientLogon>() {
+      @java.lang.Override
+      public CMsgClientLogon parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientLogon> parser() {
       return PARSER;
@@ -11724,455 +10587,368 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientLogon getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientLogonResponseOrBuilder
-      extends
+  public interface CMsgClientLogonResponseOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientLogonResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return Whether the eresult field is set.
      */
     boolean hasEresult();
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return The eresult.
      */
     int getEresult();
 
     /**
      * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-     *
      * @return Whether the legacyOutOfGameHeartbeatSeconds field is set.
      */
     boolean hasLegacyOutOfGameHeartbeatSeconds();
-
     /**
      * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-     *
      * @return The legacyOutOfGameHeartbeatSeconds.
      */
     int getLegacyOutOfGameHeartbeatSeconds();
 
     /**
      * <code>optional int32 heartbeat_seconds = 3;</code>
-     *
      * @return Whether the heartbeatSeconds field is set.
      */
     boolean hasHeartbeatSeconds();
-
     /**
      * <code>optional int32 heartbeat_seconds = 3;</code>
-     *
      * @return The heartbeatSeconds.
      */
     int getHeartbeatSeconds();
 
     /**
      * <code>optional uint32 deprecated_public_ip = 4;</code>
-     *
      * @return Whether the deprecatedPublicIp field is set.
      */
     boolean hasDeprecatedPublicIp();
-
     /**
      * <code>optional uint32 deprecated_public_ip = 4;</code>
-     *
      * @return The deprecatedPublicIp.
      */
     int getDeprecatedPublicIp();
 
     /**
      * <code>optional fixed32 rtime32_server_time = 5;</code>
-     *
      * @return Whether the rtime32ServerTime field is set.
      */
     boolean hasRtime32ServerTime();
-
     /**
      * <code>optional fixed32 rtime32_server_time = 5;</code>
-     *
      * @return The rtime32ServerTime.
      */
     int getRtime32ServerTime();
 
     /**
      * <code>optional uint32 account_flags = 6;</code>
-     *
      * @return Whether the accountFlags field is set.
      */
     boolean hasAccountFlags();
-
     /**
      * <code>optional uint32 account_flags = 6;</code>
-     *
      * @return The accountFlags.
      */
     int getAccountFlags();
 
     /**
      * <code>optional uint32 cell_id = 7;</code>
-     *
      * @return Whether the cellId field is set.
      */
     boolean hasCellId();
-
     /**
      * <code>optional uint32 cell_id = 7;</code>
-     *
      * @return The cellId.
      */
     int getCellId();
 
     /**
      * <code>optional string email_domain = 8;</code>
-     *
      * @return Whether the emailDomain field is set.
      */
     boolean hasEmailDomain();
-
     /**
      * <code>optional string email_domain = 8;</code>
-     *
      * @return The emailDomain.
      */
     java.lang.String getEmailDomain();
-
     /**
      * <code>optional string email_domain = 8;</code>
-     *
      * @return The bytes for emailDomain.
      */
-    com.google.protobuf.ByteString getEmailDomainBytes();
+    com.google.protobuf.ByteString
+        getEmailDomainBytes();
 
     /**
      * <code>optional bytes steam2_ticket = 9;</code>
-     *
      * @return Whether the steam2Ticket field is set.
      */
     boolean hasSteam2Ticket();
-
     /**
      * <code>optional bytes steam2_ticket = 9;</code>
-     *
      * @return The steam2Ticket.
      */
     com.google.protobuf.ByteString getSteam2Ticket();
 
     /**
      * <code>optional int32 eresult_extended = 10;</code>
-     *
      * @return Whether the eresultExtended field is set.
      */
     boolean hasEresultExtended();
-
     /**
      * <code>optional int32 eresult_extended = 10;</code>
-     *
      * @return The eresultExtended.
      */
     int getEresultExtended();
 
     /**
      * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-     *
      * @return Whether the cellIdPingThreshold field is set.
      */
     boolean hasCellIdPingThreshold();
-
     /**
      * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-     *
      * @return The cellIdPingThreshold.
      */
     int getCellIdPingThreshold();
 
     /**
      * <code>optional bool deprecated_use_pics = 13;</code>
-     *
      * @return Whether the deprecatedUsePics field is set.
      */
     boolean hasDeprecatedUsePics();
-
     /**
      * <code>optional bool deprecated_use_pics = 13;</code>
-     *
      * @return The deprecatedUsePics.
      */
     boolean getDeprecatedUsePics();
 
     /**
      * <code>optional string vanity_url = 14;</code>
-     *
      * @return Whether the vanityUrl field is set.
      */
     boolean hasVanityUrl();
-
     /**
      * <code>optional string vanity_url = 14;</code>
-     *
      * @return The vanityUrl.
      */
     java.lang.String getVanityUrl();
-
     /**
      * <code>optional string vanity_url = 14;</code>
-     *
      * @return The bytes for vanityUrl.
      */
-    com.google.protobuf.ByteString getVanityUrlBytes();
+    com.google.protobuf.ByteString
+        getVanityUrlBytes();
 
     /**
      * <code>optional .CMsgIPAddress public_ip = 15;</code>
-     *
      * @return Whether the publicIp field is set.
      */
     boolean hasPublicIp();
-
     /**
      * <code>optional .CMsgIPAddress public_ip = 15;</code>
-     *
      * @return The publicIp.
      */
-    SteammessagesBase.CMsgIPAddress getPublicIp();
-
-    /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
-    SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder();
+    com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getPublicIp();
+    /**
+     * <code>optional .CMsgIPAddress public_ip = 15;</code>
+     */
+    com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder();
 
     /**
      * <code>optional string user_country = 16;</code>
-     *
      * @return Whether the userCountry field is set.
      */
     boolean hasUserCountry();
-
     /**
      * <code>optional string user_country = 16;</code>
-     *
      * @return The userCountry.
      */
     java.lang.String getUserCountry();
-
     /**
      * <code>optional string user_country = 16;</code>
-     *
      * @return The bytes for userCountry.
      */
-    com.google.protobuf.ByteString getUserCountryBytes();
+    com.google.protobuf.ByteString
+        getUserCountryBytes();
 
     /**
      * <code>optional fixed64 client_supplied_steamid = 20;</code>
-     *
      * @return Whether the clientSuppliedSteamid field is set.
      */
     boolean hasClientSuppliedSteamid();
-
     /**
      * <code>optional fixed64 client_supplied_steamid = 20;</code>
-     *
      * @return The clientSuppliedSteamid.
      */
     long getClientSuppliedSteamid();
 
     /**
      * <code>optional string ip_country_code = 21;</code>
-     *
      * @return Whether the ipCountryCode field is set.
      */
     boolean hasIpCountryCode();
-
     /**
      * <code>optional string ip_country_code = 21;</code>
-     *
      * @return The ipCountryCode.
      */
     java.lang.String getIpCountryCode();
-
     /**
      * <code>optional string ip_country_code = 21;</code>
-     *
      * @return The bytes for ipCountryCode.
      */
-    com.google.protobuf.ByteString getIpCountryCodeBytes();
+    com.google.protobuf.ByteString
+        getIpCountryCodeBytes();
 
     /**
      * <code>optional bytes parental_settings = 22;</code>
-     *
      * @return Whether the parentalSettings field is set.
      */
     boolean hasParentalSettings();
-
     /**
      * <code>optional bytes parental_settings = 22;</code>
-     *
      * @return The parentalSettings.
      */
     com.google.protobuf.ByteString getParentalSettings();
 
     /**
      * <code>optional bytes parental_setting_signature = 23;</code>
-     *
      * @return Whether the parentalSettingSignature field is set.
      */
     boolean hasParentalSettingSignature();
-
     /**
      * <code>optional bytes parental_setting_signature = 23;</code>
-     *
      * @return The parentalSettingSignature.
      */
     com.google.protobuf.ByteString getParentalSettingSignature();
 
     /**
      * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-     *
      * @return Whether the countLoginfailuresToMigrate field is set.
      */
     boolean hasCountLoginfailuresToMigrate();
-
     /**
      * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-     *
      * @return The countLoginfailuresToMigrate.
      */
     int getCountLoginfailuresToMigrate();
 
     /**
      * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-     *
      * @return Whether the countDisconnectsToMigrate field is set.
      */
     boolean hasCountDisconnectsToMigrate();
-
     /**
      * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-     *
      * @return The countDisconnectsToMigrate.
      */
     int getCountDisconnectsToMigrate();
 
     /**
      * <code>optional int32 ogs_data_report_time_window = 26;</code>
-     *
      * @return Whether the ogsDataReportTimeWindow field is set.
      */
     boolean hasOgsDataReportTimeWindow();
-
     /**
      * <code>optional int32 ogs_data_report_time_window = 26;</code>
-     *
      * @return The ogsDataReportTimeWindow.
      */
     int getOgsDataReportTimeWindow();
 
     /**
      * <code>optional uint64 client_instance_id = 27;</code>
-     *
      * @return Whether the clientInstanceId field is set.
      */
     boolean hasClientInstanceId();
-
     /**
      * <code>optional uint64 client_instance_id = 27;</code>
-     *
      * @return The clientInstanceId.
      */
     long getClientInstanceId();
 
     /**
      * <code>optional bool force_client_update_check = 28;</code>
-     *
      * @return Whether the forceClientUpdateCheck field is set.
      */
     boolean hasForceClientUpdateCheck();
-
     /**
      * <code>optional bool force_client_update_check = 28;</code>
-     *
      * @return The forceClientUpdateCheck.
      */
     boolean getForceClientUpdateCheck();
 
     /**
      * <code>optional string agreement_session_url = 29;</code>
-     *
      * @return Whether the agreementSessionUrl field is set.
      */
     boolean hasAgreementSessionUrl();
-
     /**
      * <code>optional string agreement_session_url = 29;</code>
-     *
      * @return The agreementSessionUrl.
      */
     java.lang.String getAgreementSessionUrl();
-
     /**
      * <code>optional string agreement_session_url = 29;</code>
-     *
      * @return The bytes for agreementSessionUrl.
      */
-    com.google.protobuf.ByteString getAgreementSessionUrlBytes();
+    com.google.protobuf.ByteString
+        getAgreementSessionUrlBytes();
 
     /**
      * <code>optional uint64 token_id = 30;</code>
-     *
      * @return Whether the tokenId field is set.
      */
     boolean hasTokenId();
-
     /**
      * <code>optional uint64 token_id = 30;</code>
-     *
      * @return The tokenId.
      */
     long getTokenId();
 
     /**
      * <code>optional uint64 family_group_id = 31;</code>
-     *
      * @return Whether the familyGroupId field is set.
      */
     boolean hasFamilyGroupId();
-
     /**
      * <code>optional uint64 family_group_id = 31;</code>
-     *
      * @return The familyGroupId.
      */
     long getFamilyGroupId();
   }
-
-  /** Protobuf type {@code CMsgClientLogonResponse} */
-  public static final class CMsgClientLogonResponse extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientLogonResponse}
+   */
+  public static final class CMsgClientLogonResponse extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientLogonResponse)
       CMsgClientLogonResponseOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientLogonResponse.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientLogonResponse.class.getName());
     }
-
     // Use CMsgClientLogonResponse.newBuilder() to construct.
     private CMsgClientLogonResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientLogonResponse() {
       eresult_ = 2;
       emailDomain_ = "";
@@ -12185,37 +10961,32 @@ public final class SteammessagesClientserverLogin {
       agreementSessionUrl_ = "";
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientLogonResponse_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientLogonResponse.class,
-              SteammessagesClientserverLogin.CMsgClientLogonResponse.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse.Builder.class);
     }
 
     private int bitField0_;
     public static final int ERESULT_FIELD_NUMBER = 1;
     private int eresult_ = 2;
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return Whether the eresult field is set.
      */
     @java.lang.Override
     public boolean hasEresult() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return The eresult.
      */
     @java.lang.Override
@@ -12225,20 +10996,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int LEGACY_OUT_OF_GAME_HEARTBEAT_SECONDS_FIELD_NUMBER = 2;
     private int legacyOutOfGameHeartbeatSeconds_ = 0;
-
     /**
      * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-     *
      * @return Whether the legacyOutOfGameHeartbeatSeconds field is set.
      */
     @java.lang.Override
     public boolean hasLegacyOutOfGameHeartbeatSeconds() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-     *
      * @return The legacyOutOfGameHeartbeatSeconds.
      */
     @java.lang.Override
@@ -12248,20 +11015,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int HEARTBEAT_SECONDS_FIELD_NUMBER = 3;
     private int heartbeatSeconds_ = 0;
-
     /**
      * <code>optional int32 heartbeat_seconds = 3;</code>
-     *
      * @return Whether the heartbeatSeconds field is set.
      */
     @java.lang.Override
     public boolean hasHeartbeatSeconds() {
       return ((bitField0_ & 0x00000004) != 0);
     }
-
     /**
      * <code>optional int32 heartbeat_seconds = 3;</code>
-     *
      * @return The heartbeatSeconds.
      */
     @java.lang.Override
@@ -12271,20 +11034,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int DEPRECATED_PUBLIC_IP_FIELD_NUMBER = 4;
     private int deprecatedPublicIp_ = 0;
-
     /**
      * <code>optional uint32 deprecated_public_ip = 4;</code>
-     *
      * @return Whether the deprecatedPublicIp field is set.
      */
     @java.lang.Override
     public boolean hasDeprecatedPublicIp() {
       return ((bitField0_ & 0x00000008) != 0);
     }
-
     /**
      * <code>optional uint32 deprecated_public_ip = 4;</code>
-     *
      * @return The deprecatedPublicIp.
      */
     @java.lang.Override
@@ -12294,20 +11053,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int RTIME32_SERVER_TIME_FIELD_NUMBER = 5;
     private int rtime32ServerTime_ = 0;
-
     /**
      * <code>optional fixed32 rtime32_server_time = 5;</code>
-     *
      * @return Whether the rtime32ServerTime field is set.
      */
     @java.lang.Override
     public boolean hasRtime32ServerTime() {
       return ((bitField0_ & 0x00000010) != 0);
     }
-
     /**
      * <code>optional fixed32 rtime32_server_time = 5;</code>
-     *
      * @return The rtime32ServerTime.
      */
     @java.lang.Override
@@ -12317,20 +11072,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int ACCOUNT_FLAGS_FIELD_NUMBER = 6;
     private int accountFlags_ = 0;
-
     /**
      * <code>optional uint32 account_flags = 6;</code>
-     *
      * @return Whether the accountFlags field is set.
      */
     @java.lang.Override
     public boolean hasAccountFlags() {
       return ((bitField0_ & 0x00000020) != 0);
     }
-
     /**
      * <code>optional uint32 account_flags = 6;</code>
-     *
      * @return The accountFlags.
      */
     @java.lang.Override
@@ -12340,20 +11091,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CELL_ID_FIELD_NUMBER = 7;
     private int cellId_ = 0;
-
     /**
      * <code>optional uint32 cell_id = 7;</code>
-     *
      * @return Whether the cellId field is set.
      */
     @java.lang.Override
     public boolean hasCellId() {
       return ((bitField0_ & 0x00000040) != 0);
     }
-
     /**
      * <code>optional uint32 cell_id = 7;</code>
-     *
      * @return The cellId.
      */
     @java.lang.Override
@@ -12362,23 +11109,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int EMAIL_DOMAIN_FIELD_NUMBER = 8;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object emailDomain_ = "";
-
     /**
      * <code>optional string email_domain = 8;</code>
-     *
      * @return Whether the emailDomain field is set.
      */
     @java.lang.Override
     public boolean hasEmailDomain() {
       return ((bitField0_ & 0x00000080) != 0);
     }
-
     /**
      * <code>optional string email_domain = 8;</code>
-     *
      * @return The emailDomain.
      */
     @java.lang.Override
@@ -12387,7 +11129,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           emailDomain_ = s;
@@ -12395,18 +11138,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string email_domain = 8;</code>
-     *
      * @return The bytes for emailDomain.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getEmailDomainBytes() {
+    public com.google.protobuf.ByteString
+        getEmailDomainBytes() {
       java.lang.Object ref = emailDomain_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         emailDomain_ = b;
         return b;
       } else {
@@ -12416,20 +11159,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int STEAM2_TICKET_FIELD_NUMBER = 9;
     private com.google.protobuf.ByteString steam2Ticket_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes steam2_ticket = 9;</code>
-     *
      * @return Whether the steam2Ticket field is set.
      */
     @java.lang.Override
     public boolean hasSteam2Ticket() {
       return ((bitField0_ & 0x00000100) != 0);
     }
-
     /**
      * <code>optional bytes steam2_ticket = 9;</code>
-     *
      * @return The steam2Ticket.
      */
     @java.lang.Override
@@ -12439,20 +11178,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int ERESULT_EXTENDED_FIELD_NUMBER = 10;
     private int eresultExtended_ = 0;
-
     /**
      * <code>optional int32 eresult_extended = 10;</code>
-     *
      * @return Whether the eresultExtended field is set.
      */
     @java.lang.Override
     public boolean hasEresultExtended() {
       return ((bitField0_ & 0x00000200) != 0);
     }
-
     /**
      * <code>optional int32 eresult_extended = 10;</code>
-     *
      * @return The eresultExtended.
      */
     @java.lang.Override
@@ -12462,20 +11197,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CELL_ID_PING_THRESHOLD_FIELD_NUMBER = 12;
     private int cellIdPingThreshold_ = 0;
-
     /**
      * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-     *
      * @return Whether the cellIdPingThreshold field is set.
      */
     @java.lang.Override
     public boolean hasCellIdPingThreshold() {
       return ((bitField0_ & 0x00000400) != 0);
     }
-
     /**
      * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-     *
      * @return The cellIdPingThreshold.
      */
     @java.lang.Override
@@ -12485,20 +11216,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int DEPRECATED_USE_PICS_FIELD_NUMBER = 13;
     private boolean deprecatedUsePics_ = false;
-
     /**
      * <code>optional bool deprecated_use_pics = 13;</code>
-     *
      * @return Whether the deprecatedUsePics field is set.
      */
     @java.lang.Override
     public boolean hasDeprecatedUsePics() {
       return ((bitField0_ & 0x00000800) != 0);
     }
-
     /**
      * <code>optional bool deprecated_use_pics = 13;</code>
-     *
      * @return The deprecatedUsePics.
      */
     @java.lang.Override
@@ -12507,23 +11234,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int VANITY_URL_FIELD_NUMBER = 14;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object vanityUrl_ = "";
-
     /**
      * <code>optional string vanity_url = 14;</code>
-     *
      * @return Whether the vanityUrl field is set.
      */
     @java.lang.Override
     public boolean hasVanityUrl() {
       return ((bitField0_ & 0x00001000) != 0);
     }
-
     /**
      * <code>optional string vanity_url = 14;</code>
-     *
      * @return The vanityUrl.
      */
     @java.lang.Override
@@ -12532,7 +11254,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           vanityUrl_ = s;
@@ -12540,18 +11263,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string vanity_url = 14;</code>
-     *
      * @return The bytes for vanityUrl.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getVanityUrlBytes() {
+    public com.google.protobuf.ByteString
+        getVanityUrlBytes() {
       java.lang.Object ref = vanityUrl_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         vanityUrl_ = b;
         return b;
       } else {
@@ -12560,52 +11283,44 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int PUBLIC_IP_FIELD_NUMBER = 15;
-    private SteammessagesBase.CMsgIPAddress publicIp_;
-
+    private com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress publicIp_;
     /**
      * <code>optional .CMsgIPAddress public_ip = 15;</code>
-     *
      * @return Whether the publicIp field is set.
      */
     @java.lang.Override
     public boolean hasPublicIp() {
       return ((bitField0_ & 0x00002000) != 0);
     }
-
     /**
      * <code>optional .CMsgIPAddress public_ip = 15;</code>
-     *
      * @return The publicIp.
      */
     @java.lang.Override
-    public SteammessagesBase.CMsgIPAddress getPublicIp() {
-      return publicIp_ == null ? SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
+    public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getPublicIp() {
+      return publicIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
     }
-
-    /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
+    /**
+     * <code>optional .CMsgIPAddress public_ip = 15;</code>
+     */
     @java.lang.Override
-    public SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
-      return publicIp_ == null ? SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
+    public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
+      return publicIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
     }
 
     public static final int USER_COUNTRY_FIELD_NUMBER = 16;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object userCountry_ = "";
-
     /**
      * <code>optional string user_country = 16;</code>
-     *
      * @return Whether the userCountry field is set.
      */
     @java.lang.Override
     public boolean hasUserCountry() {
       return ((bitField0_ & 0x00004000) != 0);
     }
-
     /**
      * <code>optional string user_country = 16;</code>
-     *
      * @return The userCountry.
      */
     @java.lang.Override
@@ -12614,7 +11329,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           userCountry_ = s;
@@ -12622,18 +11338,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string user_country = 16;</code>
-     *
      * @return The bytes for userCountry.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getUserCountryBytes() {
+    public com.google.protobuf.ByteString
+        getUserCountryBytes() {
       java.lang.Object ref = userCountry_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         userCountry_ = b;
         return b;
       } else {
@@ -12643,20 +11359,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CLIENT_SUPPLIED_STEAMID_FIELD_NUMBER = 20;
     private long clientSuppliedSteamid_ = 0L;
-
     /**
      * <code>optional fixed64 client_supplied_steamid = 20;</code>
-     *
      * @return Whether the clientSuppliedSteamid field is set.
      */
     @java.lang.Override
     public boolean hasClientSuppliedSteamid() {
       return ((bitField0_ & 0x00008000) != 0);
     }
-
     /**
      * <code>optional fixed64 client_supplied_steamid = 20;</code>
-     *
      * @return The clientSuppliedSteamid.
      */
     @java.lang.Override
@@ -12665,23 +11377,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int IP_COUNTRY_CODE_FIELD_NUMBER = 21;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object ipCountryCode_ = "";
-
     /**
      * <code>optional string ip_country_code = 21;</code>
-     *
      * @return Whether the ipCountryCode field is set.
      */
     @java.lang.Override
     public boolean hasIpCountryCode() {
       return ((bitField0_ & 0x00010000) != 0);
     }
-
     /**
      * <code>optional string ip_country_code = 21;</code>
-     *
      * @return The ipCountryCode.
      */
     @java.lang.Override
@@ -12690,7 +11397,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           ipCountryCode_ = s;
@@ -12698,18 +11406,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string ip_country_code = 21;</code>
-     *
      * @return The bytes for ipCountryCode.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getIpCountryCodeBytes() {
+    public com.google.protobuf.ByteString
+        getIpCountryCodeBytes() {
       java.lang.Object ref = ipCountryCode_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         ipCountryCode_ = b;
         return b;
       } else {
@@ -12719,20 +11427,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int PARENTAL_SETTINGS_FIELD_NUMBER = 22;
     private com.google.protobuf.ByteString parentalSettings_ = com.google.protobuf.ByteString.EMPTY;
-
     /**
      * <code>optional bytes parental_settings = 22;</code>
-     *
      * @return Whether the parentalSettings field is set.
      */
     @java.lang.Override
     public boolean hasParentalSettings() {
       return ((bitField0_ & 0x00020000) != 0);
     }
-
     /**
      * <code>optional bytes parental_settings = 22;</code>
-     *
      * @return The parentalSettings.
      */
     @java.lang.Override
@@ -12741,22 +11445,17 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int PARENTAL_SETTING_SIGNATURE_FIELD_NUMBER = 23;
-    private com.google.protobuf.ByteString parentalSettingSignature_ =
-        com.google.protobuf.ByteString.EMPTY;
-
+    private com.google.protobuf.ByteString parentalSettingSignature_ = com.google.protobuf.ByteString.EMPTY;
     /**
      * <code>optional bytes parental_setting_signature = 23;</code>
-     *
      * @return Whether the parentalSettingSignature field is set.
      */
     @java.lang.Override
     public boolean hasParentalSettingSignature() {
       return ((bitField0_ & 0x00040000) != 0);
     }
-
     /**
      * <code>optional bytes parental_setting_signature = 23;</code>
-     *
      * @return The parentalSettingSignature.
      */
     @java.lang.Override
@@ -12766,20 +11465,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int COUNT_LOGINFAILURES_TO_MIGRATE_FIELD_NUMBER = 24;
     private int countLoginfailuresToMigrate_ = 0;
-
     /**
      * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-     *
      * @return Whether the countLoginfailuresToMigrate field is set.
      */
     @java.lang.Override
     public boolean hasCountLoginfailuresToMigrate() {
       return ((bitField0_ & 0x00080000) != 0);
     }
-
     /**
      * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-     *
      * @return The countLoginfailuresToMigrate.
      */
     @java.lang.Override
@@ -12789,20 +11484,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int COUNT_DISCONNECTS_TO_MIGRATE_FIELD_NUMBER = 25;
     private int countDisconnectsToMigrate_ = 0;
-
     /**
      * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-     *
      * @return Whether the countDisconnectsToMigrate field is set.
      */
     @java.lang.Override
     public boolean hasCountDisconnectsToMigrate() {
       return ((bitField0_ & 0x00100000) != 0);
     }
-
     /**
      * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-     *
      * @return The countDisconnectsToMigrate.
      */
     @java.lang.Override
@@ -12812,20 +11503,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int OGS_DATA_REPORT_TIME_WINDOW_FIELD_NUMBER = 26;
     private int ogsDataReportTimeWindow_ = 0;
-
     /**
      * <code>optional int32 ogs_data_report_time_window = 26;</code>
-     *
      * @return Whether the ogsDataReportTimeWindow field is set.
      */
     @java.lang.Override
     public boolean hasOgsDataReportTimeWindow() {
       return ((bitField0_ & 0x00200000) != 0);
     }
-
     /**
      * <code>optional int32 ogs_data_report_time_window = 26;</code>
-     *
      * @return The ogsDataReportTimeWindow.
      */
     @java.lang.Override
@@ -12835,20 +11522,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int CLIENT_INSTANCE_ID_FIELD_NUMBER = 27;
     private long clientInstanceId_ = 0L;
-
     /**
      * <code>optional uint64 client_instance_id = 27;</code>
-     *
      * @return Whether the clientInstanceId field is set.
      */
     @java.lang.Override
     public boolean hasClientInstanceId() {
       return ((bitField0_ & 0x00400000) != 0);
     }
-
     /**
      * <code>optional uint64 client_instance_id = 27;</code>
-     *
      * @return The clientInstanceId.
      */
     @java.lang.Override
@@ -12858,20 +11541,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int FORCE_CLIENT_UPDATE_CHECK_FIELD_NUMBER = 28;
     private boolean forceClientUpdateCheck_ = false;
-
     /**
      * <code>optional bool force_client_update_check = 28;</code>
-     *
      * @return Whether the forceClientUpdateCheck field is set.
      */
     @java.lang.Override
     public boolean hasForceClientUpdateCheck() {
       return ((bitField0_ & 0x00800000) != 0);
     }
-
     /**
      * <code>optional bool force_client_update_check = 28;</code>
-     *
      * @return The forceClientUpdateCheck.
      */
     @java.lang.Override
@@ -12880,23 +11559,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int AGREEMENT_SESSION_URL_FIELD_NUMBER = 29;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object agreementSessionUrl_ = "";
-
     /**
      * <code>optional string agreement_session_url = 29;</code>
-     *
      * @return Whether the agreementSessionUrl field is set.
      */
     @java.lang.Override
     public boolean hasAgreementSessionUrl() {
       return ((bitField0_ & 0x01000000) != 0);
     }
-
     /**
      * <code>optional string agreement_session_url = 29;</code>
-     *
      * @return The agreementSessionUrl.
      */
     @java.lang.Override
@@ -12905,7 +11579,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           agreementSessionUrl_ = s;
@@ -12913,18 +11588,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string agreement_session_url = 29;</code>
-     *
      * @return The bytes for agreementSessionUrl.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getAgreementSessionUrlBytes() {
+    public com.google.protobuf.ByteString
+        getAgreementSessionUrlBytes() {
       java.lang.Object ref = agreementSessionUrl_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         agreementSessionUrl_ = b;
         return b;
       } else {
@@ -12934,20 +11609,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int TOKEN_ID_FIELD_NUMBER = 30;
     private long tokenId_ = 0L;
-
     /**
      * <code>optional uint64 token_id = 30;</code>
-     *
      * @return Whether the tokenId field is set.
      */
     @java.lang.Override
     public boolean hasTokenId() {
       return ((bitField0_ & 0x02000000) != 0);
     }
-
     /**
      * <code>optional uint64 token_id = 30;</code>
-     *
      * @return The tokenId.
      */
     @java.lang.Override
@@ -12957,20 +11628,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int FAMILY_GROUP_ID_FIELD_NUMBER = 31;
     private long familyGroupId_ = 0L;
-
     /**
      * <code>optional uint64 family_group_id = 31;</code>
-     *
      * @return Whether the familyGroupId field is set.
      */
     @java.lang.Override
     public boolean hasFamilyGroupId() {
       return ((bitField0_ & 0x04000000) != 0);
     }
-
     /**
      * <code>optional uint64 family_group_id = 31;</code>
-     *
      * @return The familyGroupId.
      */
     @java.lang.Override
@@ -12979,7 +11646,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -12991,7 +11657,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeInt32(1, eresult_);
       }
@@ -13083,93 +11750,107 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(1, eresult_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, eresult_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeInt32Size(
-                2, legacyOutOfGameHeartbeatSeconds_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, legacyOutOfGameHeartbeatSeconds_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(3, heartbeatSeconds_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, heartbeatSeconds_);
       }
       if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(4, deprecatedPublicIp_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, deprecatedPublicIp_);
       }
       if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeFixed32Size(5, rtime32ServerTime_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, rtime32ServerTime_);
       }
       if (((bitField0_ & 0x00000020) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(6, accountFlags_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, accountFlags_);
       }
       if (((bitField0_ & 0x00000040) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(7, cellId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, cellId_);
       }
       if (((bitField0_ & 0x00000080) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(8, emailDomain_);
       }
       if (((bitField0_ & 0x00000100) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(9, steam2Ticket_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(9, steam2Ticket_);
       }
       if (((bitField0_ & 0x00000200) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(10, eresultExtended_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(10, eresultExtended_);
       }
       if (((bitField0_ & 0x00000400) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(12, cellIdPingThreshold_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(12, cellIdPingThreshold_);
       }
       if (((bitField0_ & 0x00000800) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(13, deprecatedUsePics_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(13, deprecatedUsePics_);
       }
       if (((bitField0_ & 0x00001000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(14, vanityUrl_);
       }
       if (((bitField0_ & 0x00002000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeMessageSize(15, getPublicIp());
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(15, getPublicIp());
       }
       if (((bitField0_ & 0x00004000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(16, userCountry_);
       }
       if (((bitField0_ & 0x00008000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeFixed64Size(20, clientSuppliedSteamid_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(20, clientSuppliedSteamid_);
       }
       if (((bitField0_ & 0x00010000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(21, ipCountryCode_);
       }
       if (((bitField0_ & 0x00020000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBytesSize(22, parentalSettings_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(22, parentalSettings_);
       }
       if (((bitField0_ & 0x00040000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeBytesSize(23, parentalSettingSignature_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(23, parentalSettingSignature_);
       }
       if (((bitField0_ & 0x00080000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeInt32Size(
-                24, countLoginfailuresToMigrate_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(24, countLoginfailuresToMigrate_);
       }
       if (((bitField0_ & 0x00100000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeInt32Size(25, countDisconnectsToMigrate_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(25, countDisconnectsToMigrate_);
       }
       if (((bitField0_ & 0x00200000) != 0)) {
-        size +=
-            com.google.protobuf.CodedOutputStream.computeInt32Size(26, ogsDataReportTimeWindow_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(26, ogsDataReportTimeWindow_);
       }
       if (((bitField0_ & 0x00400000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(27, clientInstanceId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(27, clientInstanceId_);
       }
       if (((bitField0_ & 0x00800000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(28, forceClientUpdateCheck_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(28, forceClientUpdateCheck_);
       }
       if (((bitField0_ & 0x01000000) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(29, agreementSessionUrl_);
       }
       if (((bitField0_ & 0x02000000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(30, tokenId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(30, tokenId_);
       }
       if (((bitField0_ & 0x04000000) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(31, familyGroupId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(31, familyGroupId_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -13179,125 +11860,147 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientLogonResponse)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientLogonResponse other =
-          (SteammessagesClientserverLogin.CMsgClientLogonResponse) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse) obj;
 
       if (hasEresult() != other.hasEresult()) return false;
       if (hasEresult()) {
-        if (getEresult() != other.getEresult()) return false;
+        if (getEresult()
+            != other.getEresult()) return false;
       }
-      if (hasLegacyOutOfGameHeartbeatSeconds() != other.hasLegacyOutOfGameHeartbeatSeconds())
-        return false;
+      if (hasLegacyOutOfGameHeartbeatSeconds() != other.hasLegacyOutOfGameHeartbeatSeconds()) return false;
       if (hasLegacyOutOfGameHeartbeatSeconds()) {
-        if (getLegacyOutOfGameHeartbeatSeconds() != other.getLegacyOutOfGameHeartbeatSeconds())
-          return false;
+        if (getLegacyOutOfGameHeartbeatSeconds()
+            != other.getLegacyOutOfGameHeartbeatSeconds()) return false;
       }
       if (hasHeartbeatSeconds() != other.hasHeartbeatSeconds()) return false;
       if (hasHeartbeatSeconds()) {
-        if (getHeartbeatSeconds() != other.getHeartbeatSeconds()) return false;
+        if (getHeartbeatSeconds()
+            != other.getHeartbeatSeconds()) return false;
       }
       if (hasDeprecatedPublicIp() != other.hasDeprecatedPublicIp()) return false;
       if (hasDeprecatedPublicIp()) {
-        if (getDeprecatedPublicIp() != other.getDeprecatedPublicIp()) return false;
+        if (getDeprecatedPublicIp()
+            != other.getDeprecatedPublicIp()) return false;
       }
       if (hasRtime32ServerTime() != other.hasRtime32ServerTime()) return false;
       if (hasRtime32ServerTime()) {
-        if (getRtime32ServerTime() != other.getRtime32ServerTime()) return false;
+        if (getRtime32ServerTime()
+            != other.getRtime32ServerTime()) return false;
       }
       if (hasAccountFlags() != other.hasAccountFlags()) return false;
       if (hasAccountFlags()) {
-        if (getAccountFlags() != other.getAccountFlags()) return false;
+        if (getAccountFlags()
+            != other.getAccountFlags()) return false;
       }
       if (hasCellId() != other.hasCellId()) return false;
       if (hasCellId()) {
-        if (getCellId() != other.getCellId()) return false;
+        if (getCellId()
+            != other.getCellId()) return false;
       }
       if (hasEmailDomain() != other.hasEmailDomain()) return false;
       if (hasEmailDomain()) {
-        if (!getEmailDomain().equals(other.getEmailDomain())) return false;
+        if (!getEmailDomain()
+            .equals(other.getEmailDomain())) return false;
       }
       if (hasSteam2Ticket() != other.hasSteam2Ticket()) return false;
       if (hasSteam2Ticket()) {
-        if (!getSteam2Ticket().equals(other.getSteam2Ticket())) return false;
+        if (!getSteam2Ticket()
+            .equals(other.getSteam2Ticket())) return false;
       }
       if (hasEresultExtended() != other.hasEresultExtended()) return false;
       if (hasEresultExtended()) {
-        if (getEresultExtended() != other.getEresultExtended()) return false;
+        if (getEresultExtended()
+            != other.getEresultExtended()) return false;
       }
       if (hasCellIdPingThreshold() != other.hasCellIdPingThreshold()) return false;
       if (hasCellIdPingThreshold()) {
-        if (getCellIdPingThreshold() != other.getCellIdPingThreshold()) return false;
+        if (getCellIdPingThreshold()
+            != other.getCellIdPingThreshold()) return false;
       }
       if (hasDeprecatedUsePics() != other.hasDeprecatedUsePics()) return false;
       if (hasDeprecatedUsePics()) {
-        if (getDeprecatedUsePics() != other.getDeprecatedUsePics()) return false;
+        if (getDeprecatedUsePics()
+            != other.getDeprecatedUsePics()) return false;
       }
       if (hasVanityUrl() != other.hasVanityUrl()) return false;
       if (hasVanityUrl()) {
-        if (!getVanityUrl().equals(other.getVanityUrl())) return false;
+        if (!getVanityUrl()
+            .equals(other.getVanityUrl())) return false;
       }
       if (hasPublicIp() != other.hasPublicIp()) return false;
       if (hasPublicIp()) {
-        if (!getPublicIp().equals(other.getPublicIp())) return false;
+        if (!getPublicIp()
+            .equals(other.getPublicIp())) return false;
       }
       if (hasUserCountry() != other.hasUserCountry()) return false;
       if (hasUserCountry()) {
-        if (!getUserCountry().equals(other.getUserCountry())) return false;
+        if (!getUserCountry()
+            .equals(other.getUserCountry())) return false;
       }
       if (hasClientSuppliedSteamid() != other.hasClientSuppliedSteamid()) return false;
       if (hasClientSuppliedSteamid()) {
-        if (getClientSuppliedSteamid() != other.getClientSuppliedSteamid()) return false;
+        if (getClientSuppliedSteamid()
+            != other.getClientSuppliedSteamid()) return false;
       }
       if (hasIpCountryCode() != other.hasIpCountryCode()) return false;
       if (hasIpCountryCode()) {
-        if (!getIpCountryCode().equals(other.getIpCountryCode())) return false;
+        if (!getIpCountryCode()
+            .equals(other.getIpCountryCode())) return false;
       }
       if (hasParentalSettings() != other.hasParentalSettings()) return false;
       if (hasParentalSettings()) {
-        if (!getParentalSettings().equals(other.getParentalSettings())) return false;
+        if (!getParentalSettings()
+            .equals(other.getParentalSettings())) return false;
       }
       if (hasParentalSettingSignature() != other.hasParentalSettingSignature()) return false;
       if (hasParentalSettingSignature()) {
-        if (!getParentalSettingSignature().equals(other.getParentalSettingSignature()))
-          return false;
+        if (!getParentalSettingSignature()
+            .equals(other.getParentalSettingSignature())) return false;
       }
       if (hasCountLoginfailuresToMigrate() != other.hasCountLoginfailuresToMigrate()) return false;
       if (hasCountLoginfailuresToMigrate()) {
-        if (getCountLoginfailuresToMigrate() != other.getCountLoginfailuresToMigrate())
-          return false;
+        if (getCountLoginfailuresToMigrate()
+            != other.getCountLoginfailuresToMigrate()) return false;
       }
       if (hasCountDisconnectsToMigrate() != other.hasCountDisconnectsToMigrate()) return false;
       if (hasCountDisconnectsToMigrate()) {
-        if (getCountDisconnectsToMigrate() != other.getCountDisconnectsToMigrate()) return false;
+        if (getCountDisconnectsToMigrate()
+            != other.getCountDisconnectsToMigrate()) return false;
       }
       if (hasOgsDataReportTimeWindow() != other.hasOgsDataReportTimeWindow()) return false;
       if (hasOgsDataReportTimeWindow()) {
-        if (getOgsDataReportTimeWindow() != other.getOgsDataReportTimeWindow()) return false;
+        if (getOgsDataReportTimeWindow()
+            != other.getOgsDataReportTimeWindow()) return false;
       }
       if (hasClientInstanceId() != other.hasClientInstanceId()) return false;
       if (hasClientInstanceId()) {
-        if (getClientInstanceId() != other.getClientInstanceId()) return false;
+        if (getClientInstanceId()
+            != other.getClientInstanceId()) return false;
       }
       if (hasForceClientUpdateCheck() != other.hasForceClientUpdateCheck()) return false;
       if (hasForceClientUpdateCheck()) {
-        if (getForceClientUpdateCheck() != other.getForceClientUpdateCheck()) return false;
+        if (getForceClientUpdateCheck()
+            != other.getForceClientUpdateCheck()) return false;
       }
       if (hasAgreementSessionUrl() != other.hasAgreementSessionUrl()) return false;
       if (hasAgreementSessionUrl()) {
-        if (!getAgreementSessionUrl().equals(other.getAgreementSessionUrl())) return false;
+        if (!getAgreementSessionUrl()
+            .equals(other.getAgreementSessionUrl())) return false;
       }
       if (hasTokenId() != other.hasTokenId()) return false;
       if (hasTokenId()) {
-        if (getTokenId() != other.getTokenId()) return false;
+        if (getTokenId()
+            != other.getTokenId()) return false;
       }
       if (hasFamilyGroupId() != other.hasFamilyGroupId()) return false;
       if (hasFamilyGroupId()) {
-        if (getFamilyGroupId() != other.getFamilyGroupId()) return false;
+        if (getFamilyGroupId()
+            != other.getFamilyGroupId()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -13356,7 +12059,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasDeprecatedUsePics()) {
         hash = (37 * hash) + DEPRECATED_USE_PICS_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getDeprecatedUsePics());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getDeprecatedUsePics());
       }
       if (hasVanityUrl()) {
         hash = (37 * hash) + VANITY_URL_FIELD_NUMBER;
@@ -13372,7 +12076,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasClientSuppliedSteamid()) {
         hash = (37 * hash) + CLIENT_SUPPLIED_STEAMID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getClientSuppliedSteamid());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClientSuppliedSteamid());
       }
       if (hasIpCountryCode()) {
         hash = (37 * hash) + IP_COUNTRY_CODE_FIELD_NUMBER;
@@ -13400,11 +12105,13 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasClientInstanceId()) {
         hash = (37 * hash) + CLIENT_INSTANCE_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getClientInstanceId());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClientInstanceId());
       }
       if (hasForceClientUpdateCheck()) {
         hash = (37 * hash) + FORCE_CLIENT_UPDATE_CHECK_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getForceClientUpdateCheck());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getForceClientUpdateCheck());
       }
       if (hasAgreementSessionUrl()) {
         hash = (37 * hash) + AGREEMENT_SESSION_URL_FIELD_NUMBER;
@@ -13412,149 +12119,147 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasTokenId()) {
         hash = (37 * hash) + TOKEN_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getTokenId());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTokenId());
       }
       if (hasFamilyGroupId()) {
         hash = (37 * hash) + FAMILY_GROUP_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getFamilyGroupId());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFamilyGroupId());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientLogonResponse prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientLogonResponse} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientLogonResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientLogonResponse)
-        SteammessagesClientserverLogin.CMsgClientLogonResponseOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientLogonResponse_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientLogonResponse.class,
-                SteammessagesClientserverLogin.CMsgClientLogonResponse.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientLogonResponse.newBuilder()
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
         maybeForceBuilderInitialization();
       }
-
       private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
           getPublicIpFieldBuilder();
         }
       }
-
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -13594,18 +12299,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogonResponse_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogonResponse getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientLogonResponse.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogonResponse build() {
-        SteammessagesClientserverLogin.CMsgClientLogonResponse result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -13613,17 +12319,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogonResponse buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientLogonResponse result =
-            new SteammessagesClientserverLogin.CMsgClientLogonResponse(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientLogonResponse result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -13679,7 +12382,9 @@ public final class SteammessagesClientserverLogin {
           to_bitField0_ |= 0x00001000;
         }
         if (((from_bitField0_ & 0x00002000) != 0)) {
-          result.publicIp_ = publicIpBuilder_ == null ? publicIp_ : publicIpBuilder_.build();
+          result.publicIp_ = publicIpBuilder_ == null
+              ? publicIp_
+              : publicIpBuilder_.build();
           to_bitField0_ |= 0x00002000;
         }
         if (((from_bitField0_ & 0x00004000) != 0)) {
@@ -13739,17 +12444,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientLogonResponse) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientLogonResponse) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientLogonResponse other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientLogonResponse.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse.getDefaultInstance()) return this;
         if (other.hasEresult()) {
           setEresult(other.getEresult());
         }
@@ -13867,212 +12571,179 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  eresult_ = input.readInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              case 16:
-                {
-                  legacyOutOfGameHeartbeatSeconds_ = input.readInt32();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 16
-              case 24:
-                {
-                  heartbeatSeconds_ = input.readInt32();
-                  bitField0_ |= 0x00000004;
-                  break;
-                } // case 24
-              case 32:
-                {
-                  deprecatedPublicIp_ = input.readUInt32();
-                  bitField0_ |= 0x00000008;
-                  break;
-                } // case 32
-              case 45:
-                {
-                  rtime32ServerTime_ = input.readFixed32();
-                  bitField0_ |= 0x00000010;
-                  break;
-                } // case 45
-              case 48:
-                {
-                  accountFlags_ = input.readUInt32();
-                  bitField0_ |= 0x00000020;
-                  break;
-                } // case 48
-              case 56:
-                {
-                  cellId_ = input.readUInt32();
-                  bitField0_ |= 0x00000040;
-                  break;
-                } // case 56
-              case 66:
-                {
-                  emailDomain_ = input.readBytes();
-                  bitField0_ |= 0x00000080;
-                  break;
-                } // case 66
-              case 74:
-                {
-                  steam2Ticket_ = input.readBytes();
-                  bitField0_ |= 0x00000100;
-                  break;
-                } // case 74
-              case 80:
-                {
-                  eresultExtended_ = input.readInt32();
-                  bitField0_ |= 0x00000200;
-                  break;
-                } // case 80
-              case 96:
-                {
-                  cellIdPingThreshold_ = input.readUInt32();
-                  bitField0_ |= 0x00000400;
-                  break;
-                } // case 96
-              case 104:
-                {
-                  deprecatedUsePics_ = input.readBool();
-                  bitField0_ |= 0x00000800;
-                  break;
-                } // case 104
-              case 114:
-                {
-                  vanityUrl_ = input.readBytes();
-                  bitField0_ |= 0x00001000;
-                  break;
-                } // case 114
-              case 122:
-                {
-                  input.readMessage(getPublicIpFieldBuilder().getBuilder(), extensionRegistry);
-                  bitField0_ |= 0x00002000;
-                  break;
-                } // case 122
-              case 130:
-                {
-                  userCountry_ = input.readBytes();
-                  bitField0_ |= 0x00004000;
-                  break;
-                } // case 130
-              case 161:
-                {
-                  clientSuppliedSteamid_ = input.readFixed64();
-                  bitField0_ |= 0x00008000;
-                  break;
-                } // case 161
-              case 170:
-                {
-                  ipCountryCode_ = input.readBytes();
-                  bitField0_ |= 0x00010000;
-                  break;
-                } // case 170
-              case 178:
-                {
-                  parentalSettings_ = input.readBytes();
-                  bitField0_ |= 0x00020000;
-                  break;
-                } // case 178
-              case 186:
-                {
-                  parentalSettingSignature_ = input.readBytes();
-                  bitField0_ |= 0x00040000;
-                  break;
-                } // case 186
-              case 192:
-                {
-                  countLoginfailuresToMigrate_ = input.readInt32();
-                  bitField0_ |= 0x00080000;
-                  break;
-                } // case 192
-              case 200:
-                {
-                  countDisconnectsToMigrate_ = input.readInt32();
-                  bitField0_ |= 0x00100000;
-                  break;
-                } // case 200
-              case 208:
-                {
-                  ogsDataReportTimeWindow_ = input.readInt32();
-                  bitField0_ |= 0x00200000;
-                  break;
-                } // case 208
-              case 216:
-                {
-                  clientInstanceId_ = input.readUInt64();
-                  bitField0_ |= 0x00400000;
-                  break;
-                } // case 216
-              case 224:
-                {
-                  forceClientUpdateCheck_ = input.readBool();
-                  bitField0_ |= 0x00800000;
-                  break;
-                } // case 224
-              case 234:
-                {
-                  agreementSessionUrl_ = input.readBytes();
-                  bitField0_ |= 0x01000000;
-                  break;
-                } // case 234
-              case 240:
-                {
-                  tokenId_ = input.readUInt64();
-                  bitField0_ |= 0x02000000;
-                  break;
-                } // case 240
-              case 248:
-                {
-                  familyGroupId_ = input.readUInt64();
-                  bitField0_ |= 0x04000000;
-                  break;
-                } // case 248
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-
-      private int bitField0_;
-
-      private int eresult_ = 2;
-
-      /**
-       * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
+              case 8: {
+                eresult_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                legacyOutOfGameHeartbeatSeconds_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                heartbeatSeconds_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                deprecatedPublicIp_ = input.readUInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 45: {
+                rtime32ServerTime_ = input.readFixed32();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 45
+              case 48: {
+                accountFlags_ = input.readUInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                cellId_ = input.readUInt32();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 66: {
+                emailDomain_ = input.readBytes();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 66
+              case 74: {
+                steam2Ticket_ = input.readBytes();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 74
+              case 80: {
+                eresultExtended_ = input.readInt32();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 80
+              case 96: {
+                cellIdPingThreshold_ = input.readUInt32();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 96
+              case 104: {
+                deprecatedUsePics_ = input.readBool();
+                bitField0_ |= 0x00000800;
+                break;
+              } // case 104
+              case 114: {
+                vanityUrl_ = input.readBytes();
+                bitField0_ |= 0x00001000;
+                break;
+              } // case 114
+              case 122: {
+                input.readMessage(
+                    getPublicIpFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 122
+              case 130: {
+                userCountry_ = input.readBytes();
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 130
+              case 161: {
+                clientSuppliedSteamid_ = input.readFixed64();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 161
+              case 170: {
+                ipCountryCode_ = input.readBytes();
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 170
+              case 178: {
+                parentalSettings_ = input.readBytes();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 178
+              case 186: {
+                parentalSettingSignature_ = input.readBytes();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 186
+              case 192: {
+                countLoginfailuresToMigrate_ = input.readInt32();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 192
+              case 200: {
+                countDisconnectsToMigrate_ = input.readInt32();
+                bitField0_ |= 0x00100000;
+                break;
+              } // case 200
+              case 208: {
+                ogsDataReportTimeWindow_ = input.readInt32();
+                bitField0_ |= 0x00200000;
+                break;
+              } // case 208
+              case 216: {
+                clientInstanceId_ = input.readUInt64();
+                bitField0_ |= 0x00400000;
+                break;
+              } // case 216
+              case 224: {
+                forceClientUpdateCheck_ = input.readBool();
+                bitField0_ |= 0x00800000;
+                break;
+              } // case 224
+              case 234: {
+                agreementSessionUrl_ = input.readBytes();
+                bitField0_ |= 0x01000000;
+                break;
+              } // case 234
+              case 240: {
+                tokenId_ = input.readUInt64();
+                bitField0_ |= 0x02000000;
+                break;
+              } // case 240
+              case 248: {
+                familyGroupId_ = input.readUInt64();
+                bitField0_ |= 0x04000000;
+                break;
+              } // case 248
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int eresult_ = 2;
+      /**
+       * <code>optional int32 eresult = 1 [default = 2];</code>
        * @return Whether the eresult field is set.
        */
       @java.lang.Override
       public boolean hasEresult() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return The eresult.
        */
       @java.lang.Override
       public int getEresult() {
         return eresult_;
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @param value The eresult to set.
        * @return This builder for chaining.
        */
@@ -14083,10 +12754,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEresult() {
@@ -14096,31 +12765,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int legacyOutOfGameHeartbeatSeconds_;
-
+      private int legacyOutOfGameHeartbeatSeconds_ ;
       /**
        * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-       *
        * @return Whether the legacyOutOfGameHeartbeatSeconds field is set.
        */
       @java.lang.Override
       public boolean hasLegacyOutOfGameHeartbeatSeconds() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-       *
        * @return The legacyOutOfGameHeartbeatSeconds.
        */
       @java.lang.Override
       public int getLegacyOutOfGameHeartbeatSeconds() {
         return legacyOutOfGameHeartbeatSeconds_;
       }
-
       /**
        * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-       *
        * @param value The legacyOutOfGameHeartbeatSeconds to set.
        * @return This builder for chaining.
        */
@@ -14131,10 +12794,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 legacy_out_of_game_heartbeat_seconds = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearLegacyOutOfGameHeartbeatSeconds() {
@@ -14144,31 +12805,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int heartbeatSeconds_;
-
+      private int heartbeatSeconds_ ;
       /**
        * <code>optional int32 heartbeat_seconds = 3;</code>
-       *
        * @return Whether the heartbeatSeconds field is set.
        */
       @java.lang.Override
       public boolean hasHeartbeatSeconds() {
         return ((bitField0_ & 0x00000004) != 0);
       }
-
       /**
        * <code>optional int32 heartbeat_seconds = 3;</code>
-       *
        * @return The heartbeatSeconds.
        */
       @java.lang.Override
       public int getHeartbeatSeconds() {
         return heartbeatSeconds_;
       }
-
       /**
        * <code>optional int32 heartbeat_seconds = 3;</code>
-       *
        * @param value The heartbeatSeconds to set.
        * @return This builder for chaining.
        */
@@ -14179,10 +12834,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 heartbeat_seconds = 3;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearHeartbeatSeconds() {
@@ -14192,31 +12845,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int deprecatedPublicIp_;
-
+      private int deprecatedPublicIp_ ;
       /**
        * <code>optional uint32 deprecated_public_ip = 4;</code>
-       *
        * @return Whether the deprecatedPublicIp field is set.
        */
       @java.lang.Override
       public boolean hasDeprecatedPublicIp() {
         return ((bitField0_ & 0x00000008) != 0);
       }
-
       /**
        * <code>optional uint32 deprecated_public_ip = 4;</code>
-       *
        * @return The deprecatedPublicIp.
        */
       @java.lang.Override
       public int getDeprecatedPublicIp() {
         return deprecatedPublicIp_;
       }
-
       /**
        * <code>optional uint32 deprecated_public_ip = 4;</code>
-       *
        * @param value The deprecatedPublicIp to set.
        * @return This builder for chaining.
        */
@@ -14227,10 +12874,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 deprecated_public_ip = 4;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearDeprecatedPublicIp() {
@@ -14240,31 +12885,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int rtime32ServerTime_;
-
+      private int rtime32ServerTime_ ;
       /**
        * <code>optional fixed32 rtime32_server_time = 5;</code>
-       *
        * @return Whether the rtime32ServerTime field is set.
        */
       @java.lang.Override
       public boolean hasRtime32ServerTime() {
         return ((bitField0_ & 0x00000010) != 0);
       }
-
       /**
        * <code>optional fixed32 rtime32_server_time = 5;</code>
-       *
        * @return The rtime32ServerTime.
        */
       @java.lang.Override
       public int getRtime32ServerTime() {
         return rtime32ServerTime_;
       }
-
       /**
        * <code>optional fixed32 rtime32_server_time = 5;</code>
-       *
        * @param value The rtime32ServerTime to set.
        * @return This builder for chaining.
        */
@@ -14275,10 +12914,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed32 rtime32_server_time = 5;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearRtime32ServerTime() {
@@ -14288,31 +12925,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int accountFlags_;
-
+      private int accountFlags_ ;
       /**
        * <code>optional uint32 account_flags = 6;</code>
-       *
        * @return Whether the accountFlags field is set.
        */
       @java.lang.Override
       public boolean hasAccountFlags() {
         return ((bitField0_ & 0x00000020) != 0);
       }
-
       /**
        * <code>optional uint32 account_flags = 6;</code>
-       *
        * @return The accountFlags.
        */
       @java.lang.Override
       public int getAccountFlags() {
         return accountFlags_;
       }
-
       /**
        * <code>optional uint32 account_flags = 6;</code>
-       *
        * @param value The accountFlags to set.
        * @return This builder for chaining.
        */
@@ -14323,10 +12954,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 account_flags = 6;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAccountFlags() {
@@ -14336,31 +12965,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int cellId_;
-
+      private int cellId_ ;
       /**
        * <code>optional uint32 cell_id = 7;</code>
-       *
        * @return Whether the cellId field is set.
        */
       @java.lang.Override
       public boolean hasCellId() {
         return ((bitField0_ & 0x00000040) != 0);
       }
-
       /**
        * <code>optional uint32 cell_id = 7;</code>
-       *
        * @return The cellId.
        */
       @java.lang.Override
       public int getCellId() {
         return cellId_;
       }
-
       /**
        * <code>optional uint32 cell_id = 7;</code>
-       *
        * @param value The cellId to set.
        * @return This builder for chaining.
        */
@@ -14371,10 +12994,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 cell_id = 7;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCellId() {
@@ -14385,25 +13006,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object emailDomain_ = "";
-
       /**
        * <code>optional string email_domain = 8;</code>
-       *
        * @return Whether the emailDomain field is set.
        */
       public boolean hasEmailDomain() {
         return ((bitField0_ & 0x00000080) != 0);
       }
-
       /**
        * <code>optional string email_domain = 8;</code>
-       *
        * @return The emailDomain.
        */
       public java.lang.String getEmailDomain() {
         java.lang.Object ref = emailDomain_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             emailDomain_ = s;
@@ -14413,43 +13031,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string email_domain = 8;</code>
-       *
        * @return The bytes for emailDomain.
        */
-      public com.google.protobuf.ByteString getEmailDomainBytes() {
+      public com.google.protobuf.ByteString
+          getEmailDomainBytes() {
         java.lang.Object ref = emailDomain_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           emailDomain_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string email_domain = 8;</code>
-       *
        * @param value The emailDomain to set.
        * @return This builder for chaining.
        */
-      public Builder setEmailDomain(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setEmailDomain(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         emailDomain_ = value;
         bitField0_ |= 0x00000080;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string email_domain = 8;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEmailDomain() {
@@ -14458,17 +13071,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string email_domain = 8;</code>
-       *
        * @param value The bytes for emailDomain to set.
        * @return This builder for chaining.
        */
-      public Builder setEmailDomainBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setEmailDomainBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         emailDomain_ = value;
         bitField0_ |= 0x00000080;
         onChanged();
@@ -14476,46 +13086,36 @@ public final class SteammessagesClientserverLogin {
       }
 
       private com.google.protobuf.ByteString steam2Ticket_ = com.google.protobuf.ByteString.EMPTY;
-
       /**
        * <code>optional bytes steam2_ticket = 9;</code>
-       *
        * @return Whether the steam2Ticket field is set.
        */
       @java.lang.Override
       public boolean hasSteam2Ticket() {
         return ((bitField0_ & 0x00000100) != 0);
       }
-
       /**
        * <code>optional bytes steam2_ticket = 9;</code>
-       *
        * @return The steam2Ticket.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getSteam2Ticket() {
         return steam2Ticket_;
       }
-
       /**
        * <code>optional bytes steam2_ticket = 9;</code>
-       *
        * @param value The steam2Ticket to set.
        * @return This builder for chaining.
        */
       public Builder setSteam2Ticket(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         steam2Ticket_ = value;
         bitField0_ |= 0x00000100;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes steam2_ticket = 9;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSteam2Ticket() {
@@ -14525,31 +13125,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int eresultExtended_;
-
+      private int eresultExtended_ ;
       /**
        * <code>optional int32 eresult_extended = 10;</code>
-       *
        * @return Whether the eresultExtended field is set.
        */
       @java.lang.Override
       public boolean hasEresultExtended() {
         return ((bitField0_ & 0x00000200) != 0);
       }
-
       /**
        * <code>optional int32 eresult_extended = 10;</code>
-       *
        * @return The eresultExtended.
        */
       @java.lang.Override
       public int getEresultExtended() {
         return eresultExtended_;
       }
-
       /**
        * <code>optional int32 eresult_extended = 10;</code>
-       *
        * @param value The eresultExtended to set.
        * @return This builder for chaining.
        */
@@ -14560,10 +13154,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 eresult_extended = 10;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEresultExtended() {
@@ -14573,31 +13165,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int cellIdPingThreshold_;
-
+      private int cellIdPingThreshold_ ;
       /**
        * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-       *
        * @return Whether the cellIdPingThreshold field is set.
        */
       @java.lang.Override
       public boolean hasCellIdPingThreshold() {
         return ((bitField0_ & 0x00000400) != 0);
       }
-
       /**
        * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-       *
        * @return The cellIdPingThreshold.
        */
       @java.lang.Override
       public int getCellIdPingThreshold() {
         return cellIdPingThreshold_;
       }
-
       /**
        * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-       *
        * @param value The cellIdPingThreshold to set.
        * @return This builder for chaining.
        */
@@ -14608,10 +13194,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 cell_id_ping_threshold = 12;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCellIdPingThreshold() {
@@ -14621,31 +13205,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean deprecatedUsePics_;
-
+      private boolean deprecatedUsePics_ ;
       /**
        * <code>optional bool deprecated_use_pics = 13;</code>
-       *
        * @return Whether the deprecatedUsePics field is set.
        */
       @java.lang.Override
       public boolean hasDeprecatedUsePics() {
         return ((bitField0_ & 0x00000800) != 0);
       }
-
       /**
        * <code>optional bool deprecated_use_pics = 13;</code>
-       *
        * @return The deprecatedUsePics.
        */
       @java.lang.Override
       public boolean getDeprecatedUsePics() {
         return deprecatedUsePics_;
       }
-
       /**
        * <code>optional bool deprecated_use_pics = 13;</code>
-       *
        * @param value The deprecatedUsePics to set.
        * @return This builder for chaining.
        */
@@ -14656,10 +13234,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool deprecated_use_pics = 13;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearDeprecatedUsePics() {
@@ -14670,25 +13246,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object vanityUrl_ = "";
-
       /**
        * <code>optional string vanity_url = 14;</code>
-       *
        * @return Whether the vanityUrl field is set.
        */
       public boolean hasVanityUrl() {
         return ((bitField0_ & 0x00001000) != 0);
       }
-
       /**
        * <code>optional string vanity_url = 14;</code>
-       *
        * @return The vanityUrl.
        */
       public java.lang.String getVanityUrl() {
         java.lang.Object ref = vanityUrl_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             vanityUrl_ = s;
@@ -14698,43 +13271,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string vanity_url = 14;</code>
-       *
        * @return The bytes for vanityUrl.
        */
-      public com.google.protobuf.ByteString getVanityUrlBytes() {
+      public com.google.protobuf.ByteString
+          getVanityUrlBytes() {
         java.lang.Object ref = vanityUrl_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           vanityUrl_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string vanity_url = 14;</code>
-       *
        * @param value The vanityUrl to set.
        * @return This builder for chaining.
        */
-      public Builder setVanityUrl(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setVanityUrl(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         vanityUrl_ = value;
         bitField0_ |= 0x00001000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string vanity_url = 14;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearVanityUrl() {
@@ -14743,56 +13311,45 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string vanity_url = 14;</code>
-       *
        * @param value The bytes for vanityUrl to set.
        * @return This builder for chaining.
        */
-      public Builder setVanityUrlBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setVanityUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         vanityUrl_ = value;
         bitField0_ |= 0x00001000;
         onChanged();
         return this;
       }
 
-      private SteammessagesBase.CMsgIPAddress publicIp_;
+      private com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress publicIp_;
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesBase.CMsgIPAddress,
-              SteammessagesBase.CMsgIPAddress.Builder,
-              SteammessagesBase.CMsgIPAddressOrBuilder>
-          publicIpBuilder_;
-
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder> publicIpBuilder_;
       /**
        * <code>optional .CMsgIPAddress public_ip = 15;</code>
-       *
        * @return Whether the publicIp field is set.
        */
       public boolean hasPublicIp() {
         return ((bitField0_ & 0x00002000) != 0);
       }
-
       /**
        * <code>optional .CMsgIPAddress public_ip = 15;</code>
-       *
        * @return The publicIp.
        */
-      public SteammessagesBase.CMsgIPAddress getPublicIp() {
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress getPublicIp() {
         if (publicIpBuilder_ == null) {
-          return publicIp_ == null
-              ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-              : publicIp_;
+          return publicIp_ == null ? com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
         } else {
           return publicIpBuilder_.getMessage();
         }
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
-      public Builder setPublicIp(SteammessagesBase.CMsgIPAddress value) {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 15;</code>
+       */
+      public Builder setPublicIp(com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress value) {
         if (publicIpBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
@@ -14805,9 +13362,11 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
-      public Builder setPublicIp(SteammessagesBase.CMsgIPAddress.Builder builderForValue) {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 15;</code>
+       */
+      public Builder setPublicIp(
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder builderForValue) {
         if (publicIpBuilder_ == null) {
           publicIp_ = builderForValue.build();
         } else {
@@ -14817,13 +13376,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
-      public Builder mergePublicIp(SteammessagesBase.CMsgIPAddress value) {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 15;</code>
+       */
+      public Builder mergePublicIp(com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress value) {
         if (publicIpBuilder_ == null) {
-          if (((bitField0_ & 0x00002000) != 0)
-              && publicIp_ != null
-              && publicIp_ != SteammessagesBase.CMsgIPAddress.getDefaultInstance()) {
+          if (((bitField0_ & 0x00002000) != 0) &&
+            publicIp_ != null &&
+            publicIp_ != com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance()) {
             getPublicIpBuilder().mergeFrom(value);
           } else {
             publicIp_ = value;
@@ -14837,8 +13397,9 @@ public final class SteammessagesClientserverLogin {
         }
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 15;</code>
+       */
       public Builder clearPublicIp() {
         bitField0_ = (bitField0_ & ~0x00002000);
         publicIp_ = null;
@@ -14849,63 +13410,59 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
-      public SteammessagesBase.CMsgIPAddress.Builder getPublicIpBuilder() {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 15;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder getPublicIpBuilder() {
         bitField0_ |= 0x00002000;
         onChanged();
         return getPublicIpFieldBuilder().getBuilder();
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
-      public SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 15;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder getPublicIpOrBuilder() {
         if (publicIpBuilder_ != null) {
           return publicIpBuilder_.getMessageOrBuilder();
         } else {
-          return publicIp_ == null
-              ? SteammessagesBase.CMsgIPAddress.getDefaultInstance()
-              : publicIp_;
+          return publicIp_ == null ?
+              com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.getDefaultInstance() : publicIp_;
         }
       }
-
-      /** <code>optional .CMsgIPAddress public_ip = 15;</code> */
+      /**
+       * <code>optional .CMsgIPAddress public_ip = 15;</code>
+       */
       private com.google.protobuf.SingleFieldBuilder<
-              SteammessagesBase.CMsgIPAddress,
-              SteammessagesBase.CMsgIPAddress.Builder,
-              SteammessagesBase.CMsgIPAddressOrBuilder>
+          com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder> 
           getPublicIpFieldBuilder() {
         if (publicIpBuilder_ == null) {
-          publicIpBuilder_ =
-              new com.google.protobuf.SingleFieldBuilder<
-                  SteammessagesBase.CMsgIPAddress,
-                  SteammessagesBase.CMsgIPAddress.Builder,
-                  SteammessagesBase.CMsgIPAddressOrBuilder>(
-                  getPublicIp(), getParentForChildren(), isClean());
+          publicIpBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddress.Builder, com.javasteam.protobufs.SteammessagesBase.CMsgIPAddressOrBuilder>(
+                  getPublicIp(),
+                  getParentForChildren(),
+                  isClean());
           publicIp_ = null;
         }
         return publicIpBuilder_;
       }
 
       private java.lang.Object userCountry_ = "";
-
       /**
        * <code>optional string user_country = 16;</code>
-       *
        * @return Whether the userCountry field is set.
        */
       public boolean hasUserCountry() {
         return ((bitField0_ & 0x00004000) != 0);
       }
-
       /**
        * <code>optional string user_country = 16;</code>
-       *
        * @return The userCountry.
        */
       public java.lang.String getUserCountry() {
         java.lang.Object ref = userCountry_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             userCountry_ = s;
@@ -14915,43 +13472,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string user_country = 16;</code>
-       *
        * @return The bytes for userCountry.
        */
-      public com.google.protobuf.ByteString getUserCountryBytes() {
+      public com.google.protobuf.ByteString
+          getUserCountryBytes() {
         java.lang.Object ref = userCountry_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           userCountry_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string user_country = 16;</code>
-       *
        * @param value The userCountry to set.
        * @return This builder for chaining.
        */
-      public Builder setUserCountry(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setUserCountry(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         userCountry_ = value;
         bitField0_ |= 0x00004000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string user_country = 16;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearUserCountry() {
@@ -14960,48 +13512,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string user_country = 16;</code>
-       *
        * @param value The bytes for userCountry to set.
        * @return This builder for chaining.
        */
-      public Builder setUserCountryBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setUserCountryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         userCountry_ = value;
         bitField0_ |= 0x00004000;
         onChanged();
         return this;
       }
 
-      private long clientSuppliedSteamid_;
-
+      private long clientSuppliedSteamid_ ;
       /**
        * <code>optional fixed64 client_supplied_steamid = 20;</code>
-       *
        * @return Whether the clientSuppliedSteamid field is set.
        */
       @java.lang.Override
       public boolean hasClientSuppliedSteamid() {
         return ((bitField0_ & 0x00008000) != 0);
       }
-
       /**
        * <code>optional fixed64 client_supplied_steamid = 20;</code>
-       *
        * @return The clientSuppliedSteamid.
        */
       @java.lang.Override
       public long getClientSuppliedSteamid() {
         return clientSuppliedSteamid_;
       }
-
       /**
        * <code>optional fixed64 client_supplied_steamid = 20;</code>
-       *
        * @param value The clientSuppliedSteamid to set.
        * @return This builder for chaining.
        */
@@ -15012,10 +13555,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed64 client_supplied_steamid = 20;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientSuppliedSteamid() {
@@ -15026,25 +13567,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object ipCountryCode_ = "";
-
       /**
        * <code>optional string ip_country_code = 21;</code>
-       *
        * @return Whether the ipCountryCode field is set.
        */
       public boolean hasIpCountryCode() {
         return ((bitField0_ & 0x00010000) != 0);
       }
-
       /**
        * <code>optional string ip_country_code = 21;</code>
-       *
        * @return The ipCountryCode.
        */
       public java.lang.String getIpCountryCode() {
         java.lang.Object ref = ipCountryCode_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             ipCountryCode_ = s;
@@ -15054,43 +13592,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string ip_country_code = 21;</code>
-       *
        * @return The bytes for ipCountryCode.
        */
-      public com.google.protobuf.ByteString getIpCountryCodeBytes() {
+      public com.google.protobuf.ByteString
+          getIpCountryCodeBytes() {
         java.lang.Object ref = ipCountryCode_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           ipCountryCode_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string ip_country_code = 21;</code>
-       *
        * @param value The ipCountryCode to set.
        * @return This builder for chaining.
        */
-      public Builder setIpCountryCode(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setIpCountryCode(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         ipCountryCode_ = value;
         bitField0_ |= 0x00010000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string ip_country_code = 21;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIpCountryCode() {
@@ -15099,65 +13632,51 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string ip_country_code = 21;</code>
-       *
        * @param value The bytes for ipCountryCode to set.
        * @return This builder for chaining.
        */
-      public Builder setIpCountryCodeBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setIpCountryCodeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         ipCountryCode_ = value;
         bitField0_ |= 0x00010000;
         onChanged();
         return this;
       }
 
-      private com.google.protobuf.ByteString parentalSettings_ =
-          com.google.protobuf.ByteString.EMPTY;
-
+      private com.google.protobuf.ByteString parentalSettings_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes parental_settings = 22;</code>
-       *
        * @return Whether the parentalSettings field is set.
        */
       @java.lang.Override
       public boolean hasParentalSettings() {
         return ((bitField0_ & 0x00020000) != 0);
       }
-
       /**
        * <code>optional bytes parental_settings = 22;</code>
-       *
        * @return The parentalSettings.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getParentalSettings() {
         return parentalSettings_;
       }
-
       /**
        * <code>optional bytes parental_settings = 22;</code>
-       *
        * @param value The parentalSettings to set.
        * @return This builder for chaining.
        */
       public Builder setParentalSettings(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         parentalSettings_ = value;
         bitField0_ |= 0x00020000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes parental_settings = 22;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearParentalSettings() {
@@ -15167,48 +13686,37 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private com.google.protobuf.ByteString parentalSettingSignature_ =
-          com.google.protobuf.ByteString.EMPTY;
-
+      private com.google.protobuf.ByteString parentalSettingSignature_ = com.google.protobuf.ByteString.EMPTY;
       /**
        * <code>optional bytes parental_setting_signature = 23;</code>
-       *
        * @return Whether the parentalSettingSignature field is set.
        */
       @java.lang.Override
       public boolean hasParentalSettingSignature() {
         return ((bitField0_ & 0x00040000) != 0);
       }
-
       /**
        * <code>optional bytes parental_setting_signature = 23;</code>
-       *
        * @return The parentalSettingSignature.
        */
       @java.lang.Override
       public com.google.protobuf.ByteString getParentalSettingSignature() {
         return parentalSettingSignature_;
       }
-
       /**
        * <code>optional bytes parental_setting_signature = 23;</code>
-       *
        * @param value The parentalSettingSignature to set.
        * @return This builder for chaining.
        */
       public Builder setParentalSettingSignature(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+        if (value == null) { throw new NullPointerException(); }
         parentalSettingSignature_ = value;
         bitField0_ |= 0x00040000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bytes parental_setting_signature = 23;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearParentalSettingSignature() {
@@ -15218,31 +13726,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int countLoginfailuresToMigrate_;
-
+      private int countLoginfailuresToMigrate_ ;
       /**
        * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-       *
        * @return Whether the countLoginfailuresToMigrate field is set.
        */
       @java.lang.Override
       public boolean hasCountLoginfailuresToMigrate() {
         return ((bitField0_ & 0x00080000) != 0);
       }
-
       /**
        * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-       *
        * @return The countLoginfailuresToMigrate.
        */
       @java.lang.Override
       public int getCountLoginfailuresToMigrate() {
         return countLoginfailuresToMigrate_;
       }
-
       /**
        * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-       *
        * @param value The countLoginfailuresToMigrate to set.
        * @return This builder for chaining.
        */
@@ -15253,10 +13755,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 count_loginfailures_to_migrate = 24;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCountLoginfailuresToMigrate() {
@@ -15266,31 +13766,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int countDisconnectsToMigrate_;
-
+      private int countDisconnectsToMigrate_ ;
       /**
        * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-       *
        * @return Whether the countDisconnectsToMigrate field is set.
        */
       @java.lang.Override
       public boolean hasCountDisconnectsToMigrate() {
         return ((bitField0_ & 0x00100000) != 0);
       }
-
       /**
        * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-       *
        * @return The countDisconnectsToMigrate.
        */
       @java.lang.Override
       public int getCountDisconnectsToMigrate() {
         return countDisconnectsToMigrate_;
       }
-
       /**
        * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-       *
        * @param value The countDisconnectsToMigrate to set.
        * @return This builder for chaining.
        */
@@ -15301,10 +13795,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 count_disconnects_to_migrate = 25;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCountDisconnectsToMigrate() {
@@ -15314,31 +13806,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int ogsDataReportTimeWindow_;
-
+      private int ogsDataReportTimeWindow_ ;
       /**
        * <code>optional int32 ogs_data_report_time_window = 26;</code>
-       *
        * @return Whether the ogsDataReportTimeWindow field is set.
        */
       @java.lang.Override
       public boolean hasOgsDataReportTimeWindow() {
         return ((bitField0_ & 0x00200000) != 0);
       }
-
       /**
        * <code>optional int32 ogs_data_report_time_window = 26;</code>
-       *
        * @return The ogsDataReportTimeWindow.
        */
       @java.lang.Override
       public int getOgsDataReportTimeWindow() {
         return ogsDataReportTimeWindow_;
       }
-
       /**
        * <code>optional int32 ogs_data_report_time_window = 26;</code>
-       *
        * @param value The ogsDataReportTimeWindow to set.
        * @return This builder for chaining.
        */
@@ -15349,10 +13835,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 ogs_data_report_time_window = 26;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearOgsDataReportTimeWindow() {
@@ -15362,31 +13846,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private long clientInstanceId_;
-
+      private long clientInstanceId_ ;
       /**
        * <code>optional uint64 client_instance_id = 27;</code>
-       *
        * @return Whether the clientInstanceId field is set.
        */
       @java.lang.Override
       public boolean hasClientInstanceId() {
         return ((bitField0_ & 0x00400000) != 0);
       }
-
       /**
        * <code>optional uint64 client_instance_id = 27;</code>
-       *
        * @return The clientInstanceId.
        */
       @java.lang.Override
       public long getClientInstanceId() {
         return clientInstanceId_;
       }
-
       /**
        * <code>optional uint64 client_instance_id = 27;</code>
-       *
        * @param value The clientInstanceId to set.
        * @return This builder for chaining.
        */
@@ -15397,10 +13875,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 client_instance_id = 27;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearClientInstanceId() {
@@ -15410,31 +13886,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean forceClientUpdateCheck_;
-
+      private boolean forceClientUpdateCheck_ ;
       /**
        * <code>optional bool force_client_update_check = 28;</code>
-       *
        * @return Whether the forceClientUpdateCheck field is set.
        */
       @java.lang.Override
       public boolean hasForceClientUpdateCheck() {
         return ((bitField0_ & 0x00800000) != 0);
       }
-
       /**
        * <code>optional bool force_client_update_check = 28;</code>
-       *
        * @return The forceClientUpdateCheck.
        */
       @java.lang.Override
       public boolean getForceClientUpdateCheck() {
         return forceClientUpdateCheck_;
       }
-
       /**
        * <code>optional bool force_client_update_check = 28;</code>
-       *
        * @param value The forceClientUpdateCheck to set.
        * @return This builder for chaining.
        */
@@ -15445,10 +13915,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool force_client_update_check = 28;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearForceClientUpdateCheck() {
@@ -15459,25 +13927,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object agreementSessionUrl_ = "";
-
       /**
        * <code>optional string agreement_session_url = 29;</code>
-       *
        * @return Whether the agreementSessionUrl field is set.
        */
       public boolean hasAgreementSessionUrl() {
         return ((bitField0_ & 0x01000000) != 0);
       }
-
       /**
        * <code>optional string agreement_session_url = 29;</code>
-       *
        * @return The agreementSessionUrl.
        */
       public java.lang.String getAgreementSessionUrl() {
         java.lang.Object ref = agreementSessionUrl_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             agreementSessionUrl_ = s;
@@ -15487,43 +13952,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string agreement_session_url = 29;</code>
-       *
        * @return The bytes for agreementSessionUrl.
        */
-      public com.google.protobuf.ByteString getAgreementSessionUrlBytes() {
+      public com.google.protobuf.ByteString
+          getAgreementSessionUrlBytes() {
         java.lang.Object ref = agreementSessionUrl_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           agreementSessionUrl_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string agreement_session_url = 29;</code>
-       *
        * @param value The agreementSessionUrl to set.
        * @return This builder for chaining.
        */
-      public Builder setAgreementSessionUrl(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAgreementSessionUrl(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         agreementSessionUrl_ = value;
         bitField0_ |= 0x01000000;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string agreement_session_url = 29;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAgreementSessionUrl() {
@@ -15532,48 +13992,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string agreement_session_url = 29;</code>
-       *
        * @param value The bytes for agreementSessionUrl to set.
        * @return This builder for chaining.
        */
-      public Builder setAgreementSessionUrlBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setAgreementSessionUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         agreementSessionUrl_ = value;
         bitField0_ |= 0x01000000;
         onChanged();
         return this;
       }
 
-      private long tokenId_;
-
+      private long tokenId_ ;
       /**
        * <code>optional uint64 token_id = 30;</code>
-       *
        * @return Whether the tokenId field is set.
        */
       @java.lang.Override
       public boolean hasTokenId() {
         return ((bitField0_ & 0x02000000) != 0);
       }
-
       /**
        * <code>optional uint64 token_id = 30;</code>
-       *
        * @return The tokenId.
        */
       @java.lang.Override
       public long getTokenId() {
         return tokenId_;
       }
-
       /**
        * <code>optional uint64 token_id = 30;</code>
-       *
        * @param value The tokenId to set.
        * @return This builder for chaining.
        */
@@ -15584,10 +14035,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 token_id = 30;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearTokenId() {
@@ -15597,31 +14046,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private long familyGroupId_;
-
+      private long familyGroupId_ ;
       /**
        * <code>optional uint64 family_group_id = 31;</code>
-       *
        * @return Whether the familyGroupId field is set.
        */
       @java.lang.Override
       public boolean hasFamilyGroupId() {
         return ((bitField0_ & 0x04000000) != 0);
       }
-
       /**
        * <code>optional uint64 family_group_id = 31;</code>
-       *
        * @return The familyGroupId.
        */
       @java.lang.Override
       public long getFamilyGroupId() {
         return familyGroupId_;
       }
-
       /**
        * <code>optional uint64 family_group_id = 31;</code>
-       *
        * @param value The familyGroupId to set.
        * @return This builder for chaining.
        */
@@ -15632,10 +14075,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 family_group_id = 31;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearFamilyGroupId() {
@@ -15649,38 +14090,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientLogonResponse)
-    private static final SteammessagesClientserverLogin.CMsgClientLogonResponse DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientLogonResponse();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogonResponse getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientLogonResponse> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientLogonResponse>() {
-          @java.lang.Override
-          public CMsgClientLogonResponse parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientLogonResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientLogonResponse>() {
+      @java.lang.Override
+      public CMsgClientLogonResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientLogonResponse> parser() {
       return PARSER;
@@ -15692,92 +14131,78 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientLogonResponse getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientRequestWebAPIAuthenticateUserNonceOrBuilder
-      extends
+  public interface CMsgClientRequestWebAPIAuthenticateUserNonceOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientRequestWebAPIAuthenticateUserNonce)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional int32 token_type = 1 [default = -1];</code>
-     *
      * @return Whether the tokenType field is set.
      */
     boolean hasTokenType();
-
     /**
      * <code>optional int32 token_type = 1 [default = -1];</code>
-     *
      * @return The tokenType.
      */
     int getTokenType();
   }
-
-  /** Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonce} */
-  public static final class CMsgClientRequestWebAPIAuthenticateUserNonce
-      extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonce}
+   */
+  public static final class CMsgClientRequestWebAPIAuthenticateUserNonce extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientRequestWebAPIAuthenticateUserNonce)
       CMsgClientRequestWebAPIAuthenticateUserNonceOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientRequestWebAPIAuthenticateUserNonce.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientRequestWebAPIAuthenticateUserNonce.class.getName());
     }
-
     // Use CMsgClientRequestWebAPIAuthenticateUserNonce.newBuilder() to construct.
-    private CMsgClientRequestWebAPIAuthenticateUserNonce(
-        com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    private CMsgClientRequestWebAPIAuthenticateUserNonce(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientRequestWebAPIAuthenticateUserNonce() {
       tokenType_ = -1;
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.class,
-              SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.Builder
-                  .class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.Builder.class);
     }
 
     private int bitField0_;
     public static final int TOKEN_TYPE_FIELD_NUMBER = 1;
     private int tokenType_ = -1;
-
     /**
      * <code>optional int32 token_type = 1 [default = -1];</code>
-     *
      * @return Whether the tokenType field is set.
      */
     @java.lang.Override
     public boolean hasTokenType() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional int32 token_type = 1 [default = -1];</code>
-     *
      * @return The tokenType.
      */
     @java.lang.Override
@@ -15786,7 +14211,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -15798,7 +14222,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeInt32(1, tokenType_);
       }
@@ -15812,7 +14237,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(1, tokenType_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, tokenType_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -15822,18 +14248,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj
-          instanceof SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce other =
-          (SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce) obj;
 
       if (hasTokenType() != other.hasTokenType()) return false;
       if (hasTokenType()) {
-        if (getTokenType() != other.getTokenType()) return false;
+        if (getTokenType()
+            != other.getTokenType()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -15855,138 +14280,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(java.nio.ByteBuffer data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(
-            java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(com.google.protobuf.ByteString data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(
-            com.google.protobuf.ByteString data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(byte[] data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(
-            java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseDelimitedFrom(java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseDelimitedFrom(
-            java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        parseFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonce} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonce}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientRequestWebAPIAuthenticateUserNonce)
-        SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.class,
-                SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.Builder
-                    .class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.Builder.class);
       }
 
-      // Construct using
-      // SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -15996,22 +14411,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-          getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-            .getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce build() {
-        SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce result =
-            buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -16019,19 +14431,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-          buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce result =
-            new SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(
-          SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -16043,22 +14450,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other
-            instanceof
-            SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce) {
-          return mergeFrom(
-              (SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(
-          SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce other) {
-        if (other
-            == SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-                .getDefaultInstance()) return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce.getDefaultInstance()) return this;
         if (other.hasTokenType()) {
           setTokenType(other.getTokenType());
         }
@@ -16088,19 +14489,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  tokenType_ = input.readInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                tokenType_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -16110,34 +14509,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
       private int tokenType_ = -1;
-
       /**
        * <code>optional int32 token_type = 1 [default = -1];</code>
-       *
        * @return Whether the tokenType field is set.
        */
       @java.lang.Override
       public boolean hasTokenType() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional int32 token_type = 1 [default = -1];</code>
-       *
        * @return The tokenType.
        */
       @java.lang.Override
       public int getTokenType() {
         return tokenType_;
       }
-
       /**
        * <code>optional int32 token_type = 1 [default = -1];</code>
-       *
        * @param value The tokenType to set.
        * @return This builder for chaining.
        */
@@ -16148,10 +14540,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 token_type = 1 [default = -1];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearTokenType() {
@@ -16165,180 +14555,149 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientRequestWebAPIAuthenticateUserNonce)
-    private static final SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE =
-          new SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
     private static final com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonce>
-        PARSER =
-            new com.google.protobuf.AbstractParser<CMsgClientRequestWebAPIAuthenticateUserNonce>() {
-              @java.lang.Override
-              public CMsgClientRequestWebAPIAuthenticateUserNonce parsePartialFrom(
-                  com.google.protobuf.CodedInputStream input,
-                  com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                  throws com.google.protobuf.InvalidProtocolBufferException {
-                Builder builder = newBuilder();
-                try {
-                  builder.mergeFrom(input, extensionRegistry);
-                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                  throw e.setUnfinishedMessage(builder.buildPartial());
-                } catch (com.google.protobuf.UninitializedMessageException e) {
-                  throw e.asInvalidProtocolBufferException()
-                      .setUnfinishedMessage(builder.buildPartial());
-                } catch (java.io.IOException e) {
-                  throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                      .setUnfinishedMessage(builder.buildPartial());
-                }
-                return builder.buildPartial();
-              }
-            };
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientRequestWebAPIAuthenticateUserNonce>() {
+      @java.lang.Override
+      public CMsgClientRequestWebAPIAuthenticateUserNonce parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
-    public static com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonce>
-        parser() {
+    public static com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonce> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonce>
-        getParserForType() {
+    public com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonce> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce
-        getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonce getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientRequestWebAPIAuthenticateUserNonceResponseOrBuilder
-      extends
+  public interface CMsgClientRequestWebAPIAuthenticateUserNonceResponseOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientRequestWebAPIAuthenticateUserNonceResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return Whether the eresult field is set.
      */
     boolean hasEresult();
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return The eresult.
      */
     int getEresult();
 
     /**
      * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-     *
      * @return Whether the webapiAuthenticateUserNonce field is set.
      */
     boolean hasWebapiAuthenticateUserNonce();
-
     /**
      * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-     *
      * @return The webapiAuthenticateUserNonce.
      */
     java.lang.String getWebapiAuthenticateUserNonce();
-
     /**
      * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-     *
      * @return The bytes for webapiAuthenticateUserNonce.
      */
-    com.google.protobuf.ByteString getWebapiAuthenticateUserNonceBytes();
+    com.google.protobuf.ByteString
+        getWebapiAuthenticateUserNonceBytes();
 
     /**
      * <code>optional int32 token_type = 3 [default = -1];</code>
-     *
      * @return Whether the tokenType field is set.
      */
     boolean hasTokenType();
-
     /**
      * <code>optional int32 token_type = 3 [default = -1];</code>
-     *
      * @return The tokenType.
      */
     int getTokenType();
   }
-
-  /** Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonceResponse} */
-  public static final class CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-      extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonceResponse}
+   */
+  public static final class CMsgClientRequestWebAPIAuthenticateUserNonceResponse extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientRequestWebAPIAuthenticateUserNonceResponse)
       CMsgClientRequestWebAPIAuthenticateUserNonceResponseOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientRequestWebAPIAuthenticateUserNonceResponse.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientRequestWebAPIAuthenticateUserNonceResponse.class.getName());
     }
-
     // Use CMsgClientRequestWebAPIAuthenticateUserNonceResponse.newBuilder() to construct.
-    private CMsgClientRequestWebAPIAuthenticateUserNonceResponse(
-        com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+    private CMsgClientRequestWebAPIAuthenticateUserNonceResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientRequestWebAPIAuthenticateUserNonceResponse() {
       eresult_ = 2;
       webapiAuthenticateUserNonce_ = "";
       tokenType_ = -1;
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-                  .class,
-              SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-                  .Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.Builder.class);
     }
 
     private int bitField0_;
     public static final int ERESULT_FIELD_NUMBER = 1;
     private int eresult_ = 2;
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return Whether the eresult field is set.
      */
     @java.lang.Override
     public boolean hasEresult() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return The eresult.
      */
     @java.lang.Override
@@ -16347,23 +14706,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int WEBAPI_AUTHENTICATE_USER_NONCE_FIELD_NUMBER = 11;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object webapiAuthenticateUserNonce_ = "";
-
     /**
      * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-     *
      * @return Whether the webapiAuthenticateUserNonce field is set.
      */
     @java.lang.Override
     public boolean hasWebapiAuthenticateUserNonce() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-     *
      * @return The webapiAuthenticateUserNonce.
      */
     @java.lang.Override
@@ -16372,7 +14726,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           webapiAuthenticateUserNonce_ = s;
@@ -16380,18 +14735,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-     *
      * @return The bytes for webapiAuthenticateUserNonce.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getWebapiAuthenticateUserNonceBytes() {
+    public com.google.protobuf.ByteString
+        getWebapiAuthenticateUserNonceBytes() {
       java.lang.Object ref = webapiAuthenticateUserNonce_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         webapiAuthenticateUserNonce_ = b;
         return b;
       } else {
@@ -16401,20 +14756,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int TOKEN_TYPE_FIELD_NUMBER = 3;
     private int tokenType_ = -1;
-
     /**
      * <code>optional int32 token_type = 3 [default = -1];</code>
-     *
      * @return Whether the tokenType field is set.
      */
     @java.lang.Override
     public boolean hasTokenType() {
       return ((bitField0_ & 0x00000004) != 0);
     }
-
     /**
      * <code>optional int32 token_type = 3 [default = -1];</code>
-     *
      * @return The tokenType.
      */
     @java.lang.Override
@@ -16423,7 +14774,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -16435,7 +14785,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeInt32(1, eresult_);
       }
@@ -16455,15 +14806,15 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(1, eresult_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, eresult_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(3, tokenType_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, tokenType_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
-        size +=
-            com.google.protobuf.GeneratedMessage.computeStringSize(
-                11, webapiAuthenticateUserNonce_);
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(11, webapiAuthenticateUserNonce_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -16473,28 +14824,27 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj
-          instanceof
-          SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse other =
-          (SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse) obj;
 
       if (hasEresult() != other.hasEresult()) return false;
       if (hasEresult()) {
-        if (getEresult() != other.getEresult()) return false;
+        if (getEresult()
+            != other.getEresult()) return false;
       }
       if (hasWebapiAuthenticateUserNonce() != other.hasWebapiAuthenticateUserNonce()) return false;
       if (hasWebapiAuthenticateUserNonce()) {
-        if (!getWebapiAuthenticateUserNonce().equals(other.getWebapiAuthenticateUserNonce()))
-          return false;
+        if (!getWebapiAuthenticateUserNonce()
+            .equals(other.getWebapiAuthenticateUserNonce())) return false;
       }
       if (hasTokenType() != other.hasTokenType()) return false;
       if (hasTokenType()) {
-        if (getTokenType() != other.getTokenType()) return false;
+        if (getTokenType()
+            != other.getTokenType()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -16524,153 +14874,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(java.nio.ByteBuffer data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(
-            java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(com.google.protobuf.ByteString data)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(
-            com.google.protobuf.ByteString data,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(byte[] data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(
-            java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseDelimitedFrom(java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseDelimitedFrom(
-            java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        parseFrom(
-            com.google.protobuf.CodedInputStream input,
-            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-            throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-            prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonceResponse} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientRequestWebAPIAuthenticateUserNonceResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientRequestWebAPIAuthenticateUserNonceResponse)
-        SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponseOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-                    .class,
-                SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-                    .Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.Builder.class);
       }
 
-      // Construct using
-      // SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.newBuilder()
+      private Builder() {
+
+      }
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-      }
 
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -16682,23 +15007,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-          getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-            .getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-          build() {
-        SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse result =
-            buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -16706,21 +15027,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-          buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse result =
-            new SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse(
-                this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(
-          SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-              result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -16740,24 +15054,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other
-            instanceof
-            SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse) {
-          return mergeFrom(
-              (SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse)
-                  other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(
-          SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-              other) {
-        if (other
-            == SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-                .getDefaultInstance()) return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse.getDefaultInstance()) return this;
         if (other.hasEresult()) {
           setEresult(other.getEresult());
         }
@@ -16795,31 +15101,27 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  eresult_ = input.readInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              case 24:
-                {
-                  tokenType_ = input.readInt32();
-                  bitField0_ |= 0x00000004;
-                  break;
-                } // case 24
-              case 90:
-                {
-                  webapiAuthenticateUserNonce_ = input.readBytes();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 90
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                eresult_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 24: {
+                tokenType_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 90: {
+                webapiAuthenticateUserNonce_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 90
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -16829,34 +15131,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
       private int eresult_ = 2;
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return Whether the eresult field is set.
        */
       @java.lang.Override
       public boolean hasEresult() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return The eresult.
        */
       @java.lang.Override
       public int getEresult() {
         return eresult_;
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @param value The eresult to set.
        * @return This builder for chaining.
        */
@@ -16867,10 +15162,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEresult() {
@@ -16881,25 +15174,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object webapiAuthenticateUserNonce_ = "";
-
       /**
        * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-       *
        * @return Whether the webapiAuthenticateUserNonce field is set.
        */
       public boolean hasWebapiAuthenticateUserNonce() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-       *
        * @return The webapiAuthenticateUserNonce.
        */
       public java.lang.String getWebapiAuthenticateUserNonce() {
         java.lang.Object ref = webapiAuthenticateUserNonce_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             webapiAuthenticateUserNonce_ = s;
@@ -16909,43 +15199,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-       *
        * @return The bytes for webapiAuthenticateUserNonce.
        */
-      public com.google.protobuf.ByteString getWebapiAuthenticateUserNonceBytes() {
+      public com.google.protobuf.ByteString
+          getWebapiAuthenticateUserNonceBytes() {
         java.lang.Object ref = webapiAuthenticateUserNonce_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           webapiAuthenticateUserNonce_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-       *
        * @param value The webapiAuthenticateUserNonce to set.
        * @return This builder for chaining.
        */
-      public Builder setWebapiAuthenticateUserNonce(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setWebapiAuthenticateUserNonce(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         webapiAuthenticateUserNonce_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearWebapiAuthenticateUserNonce() {
@@ -16954,17 +15239,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string webapi_authenticate_user_nonce = 11;</code>
-       *
        * @param value The bytes for webapiAuthenticateUserNonce to set.
        * @return This builder for chaining.
        */
-      public Builder setWebapiAuthenticateUserNonceBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setWebapiAuthenticateUserNonceBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         webapiAuthenticateUserNonce_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
@@ -16972,30 +15254,24 @@ public final class SteammessagesClientserverLogin {
       }
 
       private int tokenType_ = -1;
-
       /**
        * <code>optional int32 token_type = 3 [default = -1];</code>
-       *
        * @return Whether the tokenType field is set.
        */
       @java.lang.Override
       public boolean hasTokenType() {
         return ((bitField0_ & 0x00000004) != 0);
       }
-
       /**
        * <code>optional int32 token_type = 3 [default = -1];</code>
-       *
        * @return The tokenType.
        */
       @java.lang.Override
       public int getTokenType() {
         return tokenType_;
       }
-
       /**
        * <code>optional int32 token_type = 3 [default = -1];</code>
-       *
        * @param value The tokenType to set.
        * @return This builder for chaining.
        */
@@ -17006,10 +15282,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 token_type = 3 [default = -1];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearTokenType() {
@@ -17023,109 +15297,95 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientRequestWebAPIAuthenticateUserNonceResponse)
-    private static final SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE =
-          new SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse();
     }
 
-    public static SteammessagesClientserverLogin
-            .CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<
-            CMsgClientRequestWebAPIAuthenticateUserNonceResponse>
-        PARSER =
-            new com.google.protobuf.AbstractParser<
-                CMsgClientRequestWebAPIAuthenticateUserNonceResponse>() {
-              @java.lang.Override
-              public CMsgClientRequestWebAPIAuthenticateUserNonceResponse parsePartialFrom(
-                  com.google.protobuf.CodedInputStream input,
-                  com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-                  throws com.google.protobuf.InvalidProtocolBufferException {
-                Builder builder = newBuilder();
-                try {
-                  builder.mergeFrom(input, extensionRegistry);
-                } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-                  throw e.setUnfinishedMessage(builder.buildPartial());
-                } catch (com.google.protobuf.UninitializedMessageException e) {
-                  throw e.asInvalidProtocolBufferException()
-                      .setUnfinishedMessage(builder.buildPartial());
-                } catch (java.io.IOException e) {
-                  throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                      .setUnfinishedMessage(builder.buildPartial());
-                }
-                return builder.buildPartial();
-              }
-            };
+    private static final com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonceResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientRequestWebAPIAuthenticateUserNonceResponse>() {
+      @java.lang.Override
+      public CMsgClientRequestWebAPIAuthenticateUserNonceResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
-    public static com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonceResponse>
-        parser() {
+    public static com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonceResponse> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonceResponse>
-        getParserForType() {
+    public com.google.protobuf.Parser<CMsgClientRequestWebAPIAuthenticateUserNonceResponse> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse
-        getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientRequestWebAPIAuthenticateUserNonceResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientLogOffOrBuilder
-      extends
+  public interface CMsgClientLogOffOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientLogOff)
-      com.google.protobuf.MessageOrBuilder {}
-
-  /** Protobuf type {@code CMsgClientLogOff} */
-  public static final class CMsgClientLogOff extends com.google.protobuf.GeneratedMessage
-      implements
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code CMsgClientLogOff}
+   */
+  public static final class CMsgClientLogOff extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientLogOff)
       CMsgClientLogOffOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientLogOff.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientLogOff.class.getName());
     }
-
     // Use CMsgClientLogOff.newBuilder() to construct.
     private CMsgClientLogOff(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientLogOff() {
+    }
 
-    private CMsgClientLogOff() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientLogOff.class,
-              SteammessagesClientserverLogin.CMsgClientLogOff.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff.Builder.class);
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -17137,7 +15397,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       getUnknownFields().writeTo(output);
     }
 
@@ -17155,13 +15416,12 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientLogOff)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientLogOff other =
-          (SteammessagesClientserverLogin.CMsgClientLogOff) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff) obj;
 
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -17179,127 +15439,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(SteammessagesClientserverLogin.CMsgClientLogOff prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientLogOff} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientLogOff}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientLogOff)
-        SteammessagesClientserverLogin.CMsgClientLogOffOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOffOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientLogOff.class,
-                SteammessagesClientserverLogin.CMsgClientLogOff.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientLogOff.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -17307,18 +15568,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLogOff_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogOff getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientLogOff.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogOff build() {
-        SteammessagesClientserverLogin.CMsgClientLogOff result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -17326,26 +15588,24 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLogOff buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientLogOff result =
-            new SteammessagesClientserverLogin.CMsgClientLogOff(this);
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff(this);
         onBuilt();
         return result;
       }
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientLogOff) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientLogOff) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientLogOff other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientLogOff.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff.getDefaultInstance()) return this;
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -17372,13 +15632,12 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -17393,38 +15652,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientLogOff)
-    private static final SteammessagesClientserverLogin.CMsgClientLogOff DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientLogOff();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLogOff getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientLogOff> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientLogOff>() {
-          @java.lang.Override
-          public CMsgClientLogOff parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientLogOff>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientLogOff>() {
+      @java.lang.Override
+      public CMsgClientLogOff parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientLogOff> parser() {
       return PARSER;
@@ -17436,87 +15693,78 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientLogOff getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogOff getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientLoggedOffOrBuilder
-      extends
+  public interface CMsgClientLoggedOffOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientLoggedOff)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return Whether the eresult field is set.
      */
     boolean hasEresult();
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return The eresult.
      */
     int getEresult();
   }
-
-  /** Protobuf type {@code CMsgClientLoggedOff} */
-  public static final class CMsgClientLoggedOff extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientLoggedOff}
+   */
+  public static final class CMsgClientLoggedOff extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientLoggedOff)
       CMsgClientLoggedOffOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientLoggedOff.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientLoggedOff.class.getName());
     }
-
     // Use CMsgClientLoggedOff.newBuilder() to construct.
     private CMsgClientLoggedOff(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientLoggedOff() {
       eresult_ = 2;
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientLoggedOff.class,
-              SteammessagesClientserverLogin.CMsgClientLoggedOff.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff.Builder.class);
     }
 
     private int bitField0_;
     public static final int ERESULT_FIELD_NUMBER = 1;
     private int eresult_ = 2;
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return Whether the eresult field is set.
      */
     @java.lang.Override
     public boolean hasEresult() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional int32 eresult = 1 [default = 2];</code>
-     *
      * @return The eresult.
      */
     @java.lang.Override
@@ -17525,7 +15773,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -17537,7 +15784,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeInt32(1, eresult_);
       }
@@ -17551,7 +15799,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(1, eresult_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, eresult_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -17561,17 +15810,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientLoggedOff)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientLoggedOff other =
-          (SteammessagesClientserverLogin.CMsgClientLoggedOff) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff) obj;
 
       if (hasEresult() != other.hasEresult()) return false;
       if (hasEresult()) {
-        if (getEresult() != other.getEresult()) return false;
+        if (getEresult()
+            != other.getEresult()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -17593,127 +15842,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(SteammessagesClientserverLogin.CMsgClientLoggedOff prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientLoggedOff} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientLoggedOff}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientLoggedOff)
-        SteammessagesClientserverLogin.CMsgClientLoggedOffOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOffOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientLoggedOff.class,
-                SteammessagesClientserverLogin.CMsgClientLoggedOff.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientLoggedOff.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -17723,18 +15973,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientLoggedOff_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLoggedOff getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientLoggedOff.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLoggedOff build() {
-        SteammessagesClientserverLogin.CMsgClientLoggedOff result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -17742,17 +15993,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientLoggedOff buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientLoggedOff result =
-            new SteammessagesClientserverLogin.CMsgClientLoggedOff(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientLoggedOff result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -17764,17 +16012,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientLoggedOff) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientLoggedOff) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientLoggedOff other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientLoggedOff.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff.getDefaultInstance()) return this;
         if (other.hasEresult()) {
           setEresult(other.getEresult());
         }
@@ -17804,19 +16051,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  eresult_ = input.readInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                eresult_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -17826,34 +16071,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
       private int eresult_ = 2;
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return Whether the eresult field is set.
        */
       @java.lang.Override
       public boolean hasEresult() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return The eresult.
        */
       @java.lang.Override
       public int getEresult() {
         return eresult_;
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @param value The eresult to set.
        * @return This builder for chaining.
        */
@@ -17864,10 +16102,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 eresult = 1 [default = 2];</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearEresult() {
@@ -17881,38 +16117,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientLoggedOff)
-    private static final SteammessagesClientserverLogin.CMsgClientLoggedOff DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientLoggedOff();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientLoggedOff getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientLoggedOff> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientLoggedOff>() {
-          @java.lang.Override
-          public CMsgClientLoggedOff parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientLoggedOff>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientLoggedOff>() {
+      @java.lang.Override
+      public CMsgClientLoggedOff parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientLoggedOff> parser() {
       return PARSER;
@@ -17924,108 +16158,95 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientLoggedOff getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLoggedOff getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientNewLoginKeyOrBuilder
-      extends
+  public interface CMsgClientNewLoginKeyOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientNewLoginKey)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return Whether the uniqueId field is set.
      */
     boolean hasUniqueId();
-
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return The uniqueId.
      */
     int getUniqueId();
 
     /**
      * <code>optional string login_key = 2;</code>
-     *
      * @return Whether the loginKey field is set.
      */
     boolean hasLoginKey();
-
     /**
      * <code>optional string login_key = 2;</code>
-     *
      * @return The loginKey.
      */
     java.lang.String getLoginKey();
-
     /**
      * <code>optional string login_key = 2;</code>
-     *
      * @return The bytes for loginKey.
      */
-    com.google.protobuf.ByteString getLoginKeyBytes();
+    com.google.protobuf.ByteString
+        getLoginKeyBytes();
   }
-
-  /** Protobuf type {@code CMsgClientNewLoginKey} */
-  public static final class CMsgClientNewLoginKey extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientNewLoginKey}
+   */
+  public static final class CMsgClientNewLoginKey extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientNewLoginKey)
       CMsgClientNewLoginKeyOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientNewLoginKey.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientNewLoginKey.class.getName());
     }
-
     // Use CMsgClientNewLoginKey.newBuilder() to construct.
     private CMsgClientNewLoginKey(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientNewLoginKey() {
       loginKey_ = "";
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientNewLoginKey.class,
-              SteammessagesClientserverLogin.CMsgClientNewLoginKey.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey.Builder.class);
     }
 
     private int bitField0_;
     public static final int UNIQUE_ID_FIELD_NUMBER = 1;
     private int uniqueId_ = 0;
-
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return Whether the uniqueId field is set.
      */
     @java.lang.Override
     public boolean hasUniqueId() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return The uniqueId.
      */
     @java.lang.Override
@@ -18034,23 +16255,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int LOGIN_KEY_FIELD_NUMBER = 2;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object loginKey_ = "";
-
     /**
      * <code>optional string login_key = 2;</code>
-     *
      * @return Whether the loginKey field is set.
      */
     @java.lang.Override
     public boolean hasLoginKey() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional string login_key = 2;</code>
-     *
      * @return The loginKey.
      */
     @java.lang.Override
@@ -18059,7 +16275,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           loginKey_ = s;
@@ -18067,18 +16284,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string login_key = 2;</code>
-     *
      * @return The bytes for loginKey.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getLoginKeyBytes() {
+    public com.google.protobuf.ByteString
+        getLoginKeyBytes() {
       java.lang.Object ref = loginKey_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         loginKey_ = b;
         return b;
       } else {
@@ -18087,7 +16304,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -18099,7 +16315,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt32(1, uniqueId_);
       }
@@ -18116,7 +16333,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(1, uniqueId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, uniqueId_);
       }
       if (((bitField0_ & 0x00000002) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(2, loginKey_);
@@ -18129,21 +16347,22 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientNewLoginKey)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientNewLoginKey other =
-          (SteammessagesClientserverLogin.CMsgClientNewLoginKey) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey) obj;
 
       if (hasUniqueId() != other.hasUniqueId()) return false;
       if (hasUniqueId()) {
-        if (getUniqueId() != other.getUniqueId()) return false;
+        if (getUniqueId()
+            != other.getUniqueId()) return false;
       }
       if (hasLoginKey() != other.hasLoginKey()) return false;
       if (hasLoginKey()) {
-        if (!getLoginKey().equals(other.getLoginKey())) return false;
+        if (!getLoginKey()
+            .equals(other.getLoginKey())) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -18169,129 +16388,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientNewLoginKey prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientNewLoginKey} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientNewLoginKey}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientNewLoginKey)
-        SteammessagesClientserverLogin.CMsgClientNewLoginKeyOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientNewLoginKey_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientNewLoginKey.class,
-                SteammessagesClientserverLogin.CMsgClientNewLoginKey.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientNewLoginKey.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey.newBuilder()
+      private Builder() {
+
+      }
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-      }
 
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -18302,18 +16520,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKey_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientNewLoginKey getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientNewLoginKey.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientNewLoginKey build() {
-        SteammessagesClientserverLogin.CMsgClientNewLoginKey result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -18321,17 +16540,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientNewLoginKey buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientNewLoginKey result =
-            new SteammessagesClientserverLogin.CMsgClientNewLoginKey(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientNewLoginKey result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -18347,17 +16563,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientNewLoginKey) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientNewLoginKey) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientNewLoginKey other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientNewLoginKey.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey.getDefaultInstance()) return this;
         if (other.hasUniqueId()) {
           setUniqueId(other.getUniqueId());
         }
@@ -18392,25 +16607,22 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  uniqueId_ = input.readUInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              case 18:
-                {
-                  loginKey_ = input.readBytes();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 18
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                uniqueId_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                loginKey_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -18420,34 +16632,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private int uniqueId_;
-
+      private int uniqueId_ ;
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @return Whether the uniqueId field is set.
        */
       @java.lang.Override
       public boolean hasUniqueId() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @return The uniqueId.
        */
       @java.lang.Override
       public int getUniqueId() {
         return uniqueId_;
       }
-
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @param value The uniqueId to set.
        * @return This builder for chaining.
        */
@@ -18458,10 +16663,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearUniqueId() {
@@ -18472,25 +16675,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object loginKey_ = "";
-
       /**
        * <code>optional string login_key = 2;</code>
-       *
        * @return Whether the loginKey field is set.
        */
       public boolean hasLoginKey() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional string login_key = 2;</code>
-       *
        * @return The loginKey.
        */
       public java.lang.String getLoginKey() {
         java.lang.Object ref = loginKey_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             loginKey_ = s;
@@ -18500,43 +16700,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string login_key = 2;</code>
-       *
        * @return The bytes for loginKey.
        */
-      public com.google.protobuf.ByteString getLoginKeyBytes() {
+      public com.google.protobuf.ByteString
+          getLoginKeyBytes() {
         java.lang.Object ref = loginKey_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           loginKey_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string login_key = 2;</code>
-       *
        * @param value The loginKey to set.
        * @return This builder for chaining.
        */
-      public Builder setLoginKey(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setLoginKey(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         loginKey_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string login_key = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearLoginKey() {
@@ -18545,17 +16740,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string login_key = 2;</code>
-       *
        * @param value The bytes for loginKey to set.
        * @return This builder for chaining.
        */
-      public Builder setLoginKeyBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setLoginKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         loginKey_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
@@ -18566,38 +16758,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientNewLoginKey)
-    private static final SteammessagesClientserverLogin.CMsgClientNewLoginKey DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientNewLoginKey();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKey getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientNewLoginKey> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientNewLoginKey>() {
-          @java.lang.Override
-          public CMsgClientNewLoginKey parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientNewLoginKey>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientNewLoginKey>() {
+      @java.lang.Override
+      public CMsgClientNewLoginKey parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientNewLoginKey> parser() {
       return PARSER;
@@ -18609,88 +16799,77 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientNewLoginKey getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKey getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientNewLoginKeyAcceptedOrBuilder
-      extends
+  public interface CMsgClientNewLoginKeyAcceptedOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientNewLoginKeyAccepted)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return Whether the uniqueId field is set.
      */
     boolean hasUniqueId();
-
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return The uniqueId.
      */
     int getUniqueId();
   }
-
-  /** Protobuf type {@code CMsgClientNewLoginKeyAccepted} */
-  public static final class CMsgClientNewLoginKeyAccepted
-      extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientNewLoginKeyAccepted}
+   */
+  public static final class CMsgClientNewLoginKeyAccepted extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientNewLoginKeyAccepted)
       CMsgClientNewLoginKeyAcceptedOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientNewLoginKeyAccepted.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientNewLoginKeyAccepted.class.getName());
     }
-
     // Use CMsgClientNewLoginKeyAccepted.newBuilder() to construct.
     private CMsgClientNewLoginKeyAccepted(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientNewLoginKeyAccepted() {
+    }
 
-    private CMsgClientNewLoginKeyAccepted() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientNewLoginKeyAccepted_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKeyAccepted_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.class,
-              SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.Builder.class);
     }
 
     private int bitField0_;
     public static final int UNIQUE_ID_FIELD_NUMBER = 1;
     private int uniqueId_ = 0;
-
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return Whether the uniqueId field is set.
      */
     @java.lang.Override
     public boolean hasUniqueId() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional uint32 unique_id = 1;</code>
-     *
      * @return The uniqueId.
      */
     @java.lang.Override
@@ -18699,7 +16878,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -18711,7 +16889,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeUInt32(1, uniqueId_);
       }
@@ -18725,7 +16904,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(1, uniqueId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, uniqueId_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -18735,17 +16915,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted other =
-          (SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted) obj;
 
       if (hasUniqueId() != other.hasUniqueId()) return false;
       if (hasUniqueId()) {
-        if (getUniqueId() != other.getUniqueId()) return false;
+        if (getUniqueId()
+            != other.getUniqueId()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -18767,130 +16947,128 @@ public final class SteammessagesClientserverLogin {
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
-        byte[] data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientNewLoginKeyAccepted} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientNewLoginKeyAccepted}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientNewLoginKeyAccepted)
-        SteammessagesClientserverLogin.CMsgClientNewLoginKeyAcceptedOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAcceptedOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientNewLoginKeyAccepted_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKeyAccepted_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.class,
-                SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -18900,20 +17078,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted
-          getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted build() {
-        SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -18921,18 +17098,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted result =
-            new SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(
-          SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -18944,18 +17117,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted other) {
-        if (other
-            == SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted.getDefaultInstance()) return this;
         if (other.hasUniqueId()) {
           setUniqueId(other.getUniqueId());
         }
@@ -18985,19 +17156,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 8:
-                {
-                  uniqueId_ = input.readUInt32();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 8
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 8: {
+                uniqueId_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -19007,34 +17176,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private int uniqueId_;
-
+      private int uniqueId_ ;
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @return Whether the uniqueId field is set.
        */
       @java.lang.Override
       public boolean hasUniqueId() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @return The uniqueId.
        */
       @java.lang.Override
       public int getUniqueId() {
         return uniqueId_;
       }
-
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @param value The uniqueId to set.
        * @return This builder for chaining.
        */
@@ -19045,10 +17207,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 unique_id = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearUniqueId() {
@@ -19062,40 +17222,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientNewLoginKeyAccepted)
-    private static final SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted
-        DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted
-        getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientNewLoginKeyAccepted> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientNewLoginKeyAccepted>() {
-          @java.lang.Override
-          public CMsgClientNewLoginKeyAccepted parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientNewLoginKeyAccepted>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientNewLoginKeyAccepted>() {
+      @java.lang.Override
+      public CMsgClientNewLoginKeyAccepted parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientNewLoginKeyAccepted> parser() {
       return PARSER;
@@ -19107,222 +17263,182 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted
-        getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientNewLoginKeyAccepted getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientAccountInfoOrBuilder
-      extends
+  public interface CMsgClientAccountInfoOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientAccountInfo)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional string persona_name = 1;</code>
-     *
      * @return Whether the personaName field is set.
      */
     boolean hasPersonaName();
-
     /**
      * <code>optional string persona_name = 1;</code>
-     *
      * @return The personaName.
      */
     java.lang.String getPersonaName();
-
     /**
      * <code>optional string persona_name = 1;</code>
-     *
      * @return The bytes for personaName.
      */
-    com.google.protobuf.ByteString getPersonaNameBytes();
+    com.google.protobuf.ByteString
+        getPersonaNameBytes();
 
     /**
      * <code>optional string ip_country = 2;</code>
-     *
      * @return Whether the ipCountry field is set.
      */
     boolean hasIpCountry();
-
     /**
      * <code>optional string ip_country = 2;</code>
-     *
      * @return The ipCountry.
      */
     java.lang.String getIpCountry();
-
     /**
      * <code>optional string ip_country = 2;</code>
-     *
      * @return The bytes for ipCountry.
      */
-    com.google.protobuf.ByteString getIpCountryBytes();
+    com.google.protobuf.ByteString
+        getIpCountryBytes();
 
     /**
      * <code>optional int32 count_authed_computers = 5;</code>
-     *
      * @return Whether the countAuthedComputers field is set.
      */
     boolean hasCountAuthedComputers();
-
     /**
      * <code>optional int32 count_authed_computers = 5;</code>
-     *
      * @return The countAuthedComputers.
      */
     int getCountAuthedComputers();
 
     /**
      * <code>optional uint32 account_flags = 7;</code>
-     *
      * @return Whether the accountFlags field is set.
      */
     boolean hasAccountFlags();
-
     /**
      * <code>optional uint32 account_flags = 7;</code>
-     *
      * @return The accountFlags.
      */
     int getAccountFlags();
 
     /**
      * <code>optional uint64 facebook_id = 8;</code>
-     *
      * @return Whether the facebookId field is set.
      */
     boolean hasFacebookId();
-
     /**
      * <code>optional uint64 facebook_id = 8;</code>
-     *
      * @return The facebookId.
      */
     long getFacebookId();
 
     /**
      * <code>optional string facebook_name = 9;</code>
-     *
      * @return Whether the facebookName field is set.
      */
     boolean hasFacebookName();
-
     /**
      * <code>optional string facebook_name = 9;</code>
-     *
      * @return The facebookName.
      */
     java.lang.String getFacebookName();
-
     /**
      * <code>optional string facebook_name = 9;</code>
-     *
      * @return The bytes for facebookName.
      */
-    com.google.protobuf.ByteString getFacebookNameBytes();
+    com.google.protobuf.ByteString
+        getFacebookNameBytes();
 
     /**
      * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-     *
      * @return Whether the steamguardMachineNameUserChosen field is set.
      */
     boolean hasSteamguardMachineNameUserChosen();
-
     /**
      * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-     *
      * @return The steamguardMachineNameUserChosen.
      */
     java.lang.String getSteamguardMachineNameUserChosen();
-
     /**
      * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-     *
      * @return The bytes for steamguardMachineNameUserChosen.
      */
-    com.google.protobuf.ByteString getSteamguardMachineNameUserChosenBytes();
+    com.google.protobuf.ByteString
+        getSteamguardMachineNameUserChosenBytes();
 
     /**
      * <code>optional bool is_phone_verified = 16;</code>
-     *
      * @return Whether the isPhoneVerified field is set.
      */
     boolean hasIsPhoneVerified();
-
     /**
      * <code>optional bool is_phone_verified = 16;</code>
-     *
      * @return The isPhoneVerified.
      */
     boolean getIsPhoneVerified();
 
     /**
      * <code>optional uint32 two_factor_state = 17;</code>
-     *
      * @return Whether the twoFactorState field is set.
      */
     boolean hasTwoFactorState();
-
     /**
      * <code>optional uint32 two_factor_state = 17;</code>
-     *
      * @return The twoFactorState.
      */
     int getTwoFactorState();
 
     /**
      * <code>optional bool is_phone_identifying = 18;</code>
-     *
      * @return Whether the isPhoneIdentifying field is set.
      */
     boolean hasIsPhoneIdentifying();
-
     /**
      * <code>optional bool is_phone_identifying = 18;</code>
-     *
      * @return The isPhoneIdentifying.
      */
     boolean getIsPhoneIdentifying();
 
     /**
      * <code>optional bool is_phone_needing_reverify = 19;</code>
-     *
      * @return Whether the isPhoneNeedingReverify field is set.
      */
     boolean hasIsPhoneNeedingReverify();
-
     /**
      * <code>optional bool is_phone_needing_reverify = 19;</code>
-     *
      * @return The isPhoneNeedingReverify.
      */
     boolean getIsPhoneNeedingReverify();
   }
-
-  /** Protobuf type {@code CMsgClientAccountInfo} */
-  public static final class CMsgClientAccountInfo extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientAccountInfo}
+   */
+  public static final class CMsgClientAccountInfo extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientAccountInfo)
       CMsgClientAccountInfoOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientAccountInfo.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientAccountInfo.class.getName());
     }
-
     // Use CMsgClientAccountInfo.newBuilder() to construct.
     private CMsgClientAccountInfo(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
-
     private CMsgClientAccountInfo() {
       personaName_ = "";
       ipCountry_ = "";
@@ -19330,38 +17446,33 @@ public final class SteammessagesClientserverLogin {
       steamguardMachineNameUserChosen_ = "";
     }
 
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientAccountInfo.class,
-              SteammessagesClientserverLogin.CMsgClientAccountInfo.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo.Builder.class);
     }
 
     private int bitField0_;
     public static final int PERSONA_NAME_FIELD_NUMBER = 1;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object personaName_ = "";
-
     /**
      * <code>optional string persona_name = 1;</code>
-     *
      * @return Whether the personaName field is set.
      */
     @java.lang.Override
     public boolean hasPersonaName() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional string persona_name = 1;</code>
-     *
      * @return The personaName.
      */
     @java.lang.Override
@@ -19370,7 +17481,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           personaName_ = s;
@@ -19378,18 +17490,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string persona_name = 1;</code>
-     *
      * @return The bytes for personaName.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getPersonaNameBytes() {
+    public com.google.protobuf.ByteString
+        getPersonaNameBytes() {
       java.lang.Object ref = personaName_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         personaName_ = b;
         return b;
       } else {
@@ -19398,23 +17510,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int IP_COUNTRY_FIELD_NUMBER = 2;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object ipCountry_ = "";
-
     /**
      * <code>optional string ip_country = 2;</code>
-     *
      * @return Whether the ipCountry field is set.
      */
     @java.lang.Override
     public boolean hasIpCountry() {
       return ((bitField0_ & 0x00000002) != 0);
     }
-
     /**
      * <code>optional string ip_country = 2;</code>
-     *
      * @return The ipCountry.
      */
     @java.lang.Override
@@ -19423,7 +17530,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           ipCountry_ = s;
@@ -19431,18 +17539,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string ip_country = 2;</code>
-     *
      * @return The bytes for ipCountry.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getIpCountryBytes() {
+    public com.google.protobuf.ByteString
+        getIpCountryBytes() {
       java.lang.Object ref = ipCountry_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         ipCountry_ = b;
         return b;
       } else {
@@ -19452,20 +17560,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int COUNT_AUTHED_COMPUTERS_FIELD_NUMBER = 5;
     private int countAuthedComputers_ = 0;
-
     /**
      * <code>optional int32 count_authed_computers = 5;</code>
-     *
      * @return Whether the countAuthedComputers field is set.
      */
     @java.lang.Override
     public boolean hasCountAuthedComputers() {
       return ((bitField0_ & 0x00000004) != 0);
     }
-
     /**
      * <code>optional int32 count_authed_computers = 5;</code>
-     *
      * @return The countAuthedComputers.
      */
     @java.lang.Override
@@ -19475,20 +17579,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int ACCOUNT_FLAGS_FIELD_NUMBER = 7;
     private int accountFlags_ = 0;
-
     /**
      * <code>optional uint32 account_flags = 7;</code>
-     *
      * @return Whether the accountFlags field is set.
      */
     @java.lang.Override
     public boolean hasAccountFlags() {
       return ((bitField0_ & 0x00000008) != 0);
     }
-
     /**
      * <code>optional uint32 account_flags = 7;</code>
-     *
      * @return The accountFlags.
      */
     @java.lang.Override
@@ -19498,20 +17598,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int FACEBOOK_ID_FIELD_NUMBER = 8;
     private long facebookId_ = 0L;
-
     /**
      * <code>optional uint64 facebook_id = 8;</code>
-     *
      * @return Whether the facebookId field is set.
      */
     @java.lang.Override
     public boolean hasFacebookId() {
       return ((bitField0_ & 0x00000010) != 0);
     }
-
     /**
      * <code>optional uint64 facebook_id = 8;</code>
-     *
      * @return The facebookId.
      */
     @java.lang.Override
@@ -19520,23 +17616,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int FACEBOOK_NAME_FIELD_NUMBER = 9;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object facebookName_ = "";
-
     /**
      * <code>optional string facebook_name = 9;</code>
-     *
      * @return Whether the facebookName field is set.
      */
     @java.lang.Override
     public boolean hasFacebookName() {
       return ((bitField0_ & 0x00000020) != 0);
     }
-
     /**
      * <code>optional string facebook_name = 9;</code>
-     *
      * @return The facebookName.
      */
     @java.lang.Override
@@ -19545,7 +17636,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           facebookName_ = s;
@@ -19553,18 +17645,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string facebook_name = 9;</code>
-     *
      * @return The bytes for facebookName.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getFacebookNameBytes() {
+    public com.google.protobuf.ByteString
+        getFacebookNameBytes() {
       java.lang.Object ref = facebookName_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         facebookName_ = b;
         return b;
       } else {
@@ -19573,23 +17665,18 @@ public final class SteammessagesClientserverLogin {
     }
 
     public static final int STEAMGUARD_MACHINE_NAME_USER_CHOSEN_FIELD_NUMBER = 15;
-
     @SuppressWarnings("serial")
     private volatile java.lang.Object steamguardMachineNameUserChosen_ = "";
-
     /**
      * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-     *
      * @return Whether the steamguardMachineNameUserChosen field is set.
      */
     @java.lang.Override
     public boolean hasSteamguardMachineNameUserChosen() {
       return ((bitField0_ & 0x00000040) != 0);
     }
-
     /**
      * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-     *
      * @return The steamguardMachineNameUserChosen.
      */
     @java.lang.Override
@@ -19598,7 +17685,8 @@ public final class SteammessagesClientserverLogin {
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
-        com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
           steamguardMachineNameUserChosen_ = s;
@@ -19606,18 +17694,18 @@ public final class SteammessagesClientserverLogin {
         return s;
       }
     }
-
     /**
      * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-     *
      * @return The bytes for steamguardMachineNameUserChosen.
      */
     @java.lang.Override
-    public com.google.protobuf.ByteString getSteamguardMachineNameUserChosenBytes() {
+    public com.google.protobuf.ByteString
+        getSteamguardMachineNameUserChosenBytes() {
       java.lang.Object ref = steamguardMachineNameUserChosen_;
       if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b =
-            com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
         steamguardMachineNameUserChosen_ = b;
         return b;
       } else {
@@ -19627,20 +17715,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int IS_PHONE_VERIFIED_FIELD_NUMBER = 16;
     private boolean isPhoneVerified_ = false;
-
     /**
      * <code>optional bool is_phone_verified = 16;</code>
-     *
      * @return Whether the isPhoneVerified field is set.
      */
     @java.lang.Override
     public boolean hasIsPhoneVerified() {
       return ((bitField0_ & 0x00000080) != 0);
     }
-
     /**
      * <code>optional bool is_phone_verified = 16;</code>
-     *
      * @return The isPhoneVerified.
      */
     @java.lang.Override
@@ -19650,20 +17734,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int TWO_FACTOR_STATE_FIELD_NUMBER = 17;
     private int twoFactorState_ = 0;
-
     /**
      * <code>optional uint32 two_factor_state = 17;</code>
-     *
      * @return Whether the twoFactorState field is set.
      */
     @java.lang.Override
     public boolean hasTwoFactorState() {
       return ((bitField0_ & 0x00000100) != 0);
     }
-
     /**
      * <code>optional uint32 two_factor_state = 17;</code>
-     *
      * @return The twoFactorState.
      */
     @java.lang.Override
@@ -19673,20 +17753,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int IS_PHONE_IDENTIFYING_FIELD_NUMBER = 18;
     private boolean isPhoneIdentifying_ = false;
-
     /**
      * <code>optional bool is_phone_identifying = 18;</code>
-     *
      * @return Whether the isPhoneIdentifying field is set.
      */
     @java.lang.Override
     public boolean hasIsPhoneIdentifying() {
       return ((bitField0_ & 0x00000200) != 0);
     }
-
     /**
      * <code>optional bool is_phone_identifying = 18;</code>
-     *
      * @return The isPhoneIdentifying.
      */
     @java.lang.Override
@@ -19696,20 +17772,16 @@ public final class SteammessagesClientserverLogin {
 
     public static final int IS_PHONE_NEEDING_REVERIFY_FIELD_NUMBER = 19;
     private boolean isPhoneNeedingReverify_ = false;
-
     /**
      * <code>optional bool is_phone_needing_reverify = 19;</code>
-     *
      * @return Whether the isPhoneNeedingReverify field is set.
      */
     @java.lang.Override
     public boolean hasIsPhoneNeedingReverify() {
       return ((bitField0_ & 0x00000400) != 0);
     }
-
     /**
      * <code>optional bool is_phone_needing_reverify = 19;</code>
-     *
      * @return The isPhoneNeedingReverify.
      */
     @java.lang.Override
@@ -19718,7 +17790,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -19730,7 +17801,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessage.writeString(output, 1, personaName_);
       }
@@ -19750,8 +17822,7 @@ public final class SteammessagesClientserverLogin {
         com.google.protobuf.GeneratedMessage.writeString(output, 9, facebookName_);
       }
       if (((bitField0_ & 0x00000040) != 0)) {
-        com.google.protobuf.GeneratedMessage.writeString(
-            output, 15, steamguardMachineNameUserChosen_);
+        com.google.protobuf.GeneratedMessage.writeString(output, 15, steamguardMachineNameUserChosen_);
       }
       if (((bitField0_ & 0x00000080) != 0)) {
         output.writeBool(16, isPhoneVerified_);
@@ -19781,33 +17852,38 @@ public final class SteammessagesClientserverLogin {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(2, ipCountry_);
       }
       if (((bitField0_ & 0x00000004) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeInt32Size(5, countAuthedComputers_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, countAuthedComputers_);
       }
       if (((bitField0_ & 0x00000008) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(7, accountFlags_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(7, accountFlags_);
       }
       if (((bitField0_ & 0x00000010) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt64Size(8, facebookId_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, facebookId_);
       }
       if (((bitField0_ & 0x00000020) != 0)) {
         size += com.google.protobuf.GeneratedMessage.computeStringSize(9, facebookName_);
       }
       if (((bitField0_ & 0x00000040) != 0)) {
-        size +=
-            com.google.protobuf.GeneratedMessage.computeStringSize(
-                15, steamguardMachineNameUserChosen_);
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(15, steamguardMachineNameUserChosen_);
       }
       if (((bitField0_ & 0x00000080) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(16, isPhoneVerified_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(16, isPhoneVerified_);
       }
       if (((bitField0_ & 0x00000100) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeUInt32Size(17, twoFactorState_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(17, twoFactorState_);
       }
       if (((bitField0_ & 0x00000200) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(18, isPhoneIdentifying_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(18, isPhoneIdentifying_);
       }
       if (((bitField0_ & 0x00000400) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeBoolSize(19, isPhoneNeedingReverify_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(19, isPhoneNeedingReverify_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -19817,59 +17893,67 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientAccountInfo)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientAccountInfo other =
-          (SteammessagesClientserverLogin.CMsgClientAccountInfo) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo) obj;
 
       if (hasPersonaName() != other.hasPersonaName()) return false;
       if (hasPersonaName()) {
-        if (!getPersonaName().equals(other.getPersonaName())) return false;
+        if (!getPersonaName()
+            .equals(other.getPersonaName())) return false;
       }
       if (hasIpCountry() != other.hasIpCountry()) return false;
       if (hasIpCountry()) {
-        if (!getIpCountry().equals(other.getIpCountry())) return false;
+        if (!getIpCountry()
+            .equals(other.getIpCountry())) return false;
       }
       if (hasCountAuthedComputers() != other.hasCountAuthedComputers()) return false;
       if (hasCountAuthedComputers()) {
-        if (getCountAuthedComputers() != other.getCountAuthedComputers()) return false;
+        if (getCountAuthedComputers()
+            != other.getCountAuthedComputers()) return false;
       }
       if (hasAccountFlags() != other.hasAccountFlags()) return false;
       if (hasAccountFlags()) {
-        if (getAccountFlags() != other.getAccountFlags()) return false;
+        if (getAccountFlags()
+            != other.getAccountFlags()) return false;
       }
       if (hasFacebookId() != other.hasFacebookId()) return false;
       if (hasFacebookId()) {
-        if (getFacebookId() != other.getFacebookId()) return false;
+        if (getFacebookId()
+            != other.getFacebookId()) return false;
       }
       if (hasFacebookName() != other.hasFacebookName()) return false;
       if (hasFacebookName()) {
-        if (!getFacebookName().equals(other.getFacebookName())) return false;
+        if (!getFacebookName()
+            .equals(other.getFacebookName())) return false;
       }
-      if (hasSteamguardMachineNameUserChosen() != other.hasSteamguardMachineNameUserChosen())
-        return false;
+      if (hasSteamguardMachineNameUserChosen() != other.hasSteamguardMachineNameUserChosen()) return false;
       if (hasSteamguardMachineNameUserChosen()) {
         if (!getSteamguardMachineNameUserChosen()
             .equals(other.getSteamguardMachineNameUserChosen())) return false;
       }
       if (hasIsPhoneVerified() != other.hasIsPhoneVerified()) return false;
       if (hasIsPhoneVerified()) {
-        if (getIsPhoneVerified() != other.getIsPhoneVerified()) return false;
+        if (getIsPhoneVerified()
+            != other.getIsPhoneVerified()) return false;
       }
       if (hasTwoFactorState() != other.hasTwoFactorState()) return false;
       if (hasTwoFactorState()) {
-        if (getTwoFactorState() != other.getTwoFactorState()) return false;
+        if (getTwoFactorState()
+            != other.getTwoFactorState()) return false;
       }
       if (hasIsPhoneIdentifying() != other.hasIsPhoneIdentifying()) return false;
       if (hasIsPhoneIdentifying()) {
-        if (getIsPhoneIdentifying() != other.getIsPhoneIdentifying()) return false;
+        if (getIsPhoneIdentifying()
+            != other.getIsPhoneIdentifying()) return false;
       }
       if (hasIsPhoneNeedingReverify() != other.hasIsPhoneNeedingReverify()) return false;
       if (hasIsPhoneNeedingReverify()) {
-        if (getIsPhoneNeedingReverify() != other.getIsPhoneNeedingReverify()) return false;
+        if (getIsPhoneNeedingReverify()
+            != other.getIsPhoneNeedingReverify()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -19900,7 +17984,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasFacebookId()) {
         hash = (37 * hash) + FACEBOOK_ID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getFacebookId());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFacebookId());
       }
       if (hasFacebookName()) {
         hash = (37 * hash) + FACEBOOK_NAME_FIELD_NUMBER;
@@ -19912,7 +17997,8 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasIsPhoneVerified()) {
         hash = (37 * hash) + IS_PHONE_VERIFIED_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getIsPhoneVerified());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsPhoneVerified());
       }
       if (hasTwoFactorState()) {
         hash = (37 * hash) + TWO_FACTOR_STATE_FIELD_NUMBER;
@@ -19920,140 +18006,141 @@ public final class SteammessagesClientserverLogin {
       }
       if (hasIsPhoneIdentifying()) {
         hash = (37 * hash) + IS_PHONE_IDENTIFYING_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getIsPhoneIdentifying());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsPhoneIdentifying());
       }
       if (hasIsPhoneNeedingReverify()) {
         hash = (37 * hash) + IS_PHONE_NEEDING_REVERIFY_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(getIsPhoneNeedingReverify());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsPhoneNeedingReverify());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientAccountInfo prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientAccountInfo} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientAccountInfo}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientAccountInfo)
-        SteammessagesClientserverLogin.CMsgClientAccountInfoOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientAccountInfo_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientAccountInfo.class,
-                SteammessagesClientserverLogin.CMsgClientAccountInfo.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientAccountInfo.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -20073,18 +18160,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientAccountInfo_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientAccountInfo getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientAccountInfo.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientAccountInfo build() {
-        SteammessagesClientserverLogin.CMsgClientAccountInfo result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -20092,17 +18180,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientAccountInfo buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientAccountInfo result =
-            new SteammessagesClientserverLogin.CMsgClientAccountInfo(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientAccountInfo result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -20154,17 +18239,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientAccountInfo) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientAccountInfo) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientAccountInfo other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientAccountInfo.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo.getDefaultInstance()) return this;
         if (other.hasPersonaName()) {
           personaName_ = other.personaName_;
           bitField0_ |= 0x00000001;
@@ -20232,79 +18316,67 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 10:
-                {
-                  personaName_ = input.readBytes();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 10
-              case 18:
-                {
-                  ipCountry_ = input.readBytes();
-                  bitField0_ |= 0x00000002;
-                  break;
-                } // case 18
-              case 40:
-                {
-                  countAuthedComputers_ = input.readInt32();
-                  bitField0_ |= 0x00000004;
-                  break;
-                } // case 40
-              case 56:
-                {
-                  accountFlags_ = input.readUInt32();
-                  bitField0_ |= 0x00000008;
-                  break;
-                } // case 56
-              case 64:
-                {
-                  facebookId_ = input.readUInt64();
-                  bitField0_ |= 0x00000010;
-                  break;
-                } // case 64
-              case 74:
-                {
-                  facebookName_ = input.readBytes();
-                  bitField0_ |= 0x00000020;
-                  break;
-                } // case 74
-              case 122:
-                {
-                  steamguardMachineNameUserChosen_ = input.readBytes();
-                  bitField0_ |= 0x00000040;
-                  break;
-                } // case 122
-              case 128:
-                {
-                  isPhoneVerified_ = input.readBool();
-                  bitField0_ |= 0x00000080;
-                  break;
-                } // case 128
-              case 136:
-                {
-                  twoFactorState_ = input.readUInt32();
-                  bitField0_ |= 0x00000100;
-                  break;
-                } // case 136
-              case 144:
-                {
-                  isPhoneIdentifying_ = input.readBool();
-                  bitField0_ |= 0x00000200;
-                  break;
-                } // case 144
-              case 152:
-                {
-                  isPhoneNeedingReverify_ = input.readBool();
-                  bitField0_ |= 0x00000400;
-                  break;
-                } // case 152
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 10: {
+                personaName_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                ipCountry_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 40: {
+                countAuthedComputers_ = input.readInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 40
+              case 56: {
+                accountFlags_ = input.readUInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 56
+              case 64: {
+                facebookId_ = input.readUInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 64
+              case 74: {
+                facebookName_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 74
+              case 122: {
+                steamguardMachineNameUserChosen_ = input.readBytes();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 122
+              case 128: {
+                isPhoneVerified_ = input.readBool();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 128
+              case 136: {
+                twoFactorState_ = input.readUInt32();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 136
+              case 144: {
+                isPhoneIdentifying_ = input.readBool();
+                bitField0_ |= 0x00000200;
+                break;
+              } // case 144
+              case 152: {
+                isPhoneNeedingReverify_ = input.readBool();
+                bitField0_ |= 0x00000400;
+                break;
+              } // case 152
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -20314,29 +18386,25 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
       private java.lang.Object personaName_ = "";
-
       /**
        * <code>optional string persona_name = 1;</code>
-       *
        * @return Whether the personaName field is set.
        */
       public boolean hasPersonaName() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional string persona_name = 1;</code>
-       *
        * @return The personaName.
        */
       public java.lang.String getPersonaName() {
         java.lang.Object ref = personaName_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             personaName_ = s;
@@ -20346,43 +18414,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string persona_name = 1;</code>
-       *
        * @return The bytes for personaName.
        */
-      public com.google.protobuf.ByteString getPersonaNameBytes() {
+      public com.google.protobuf.ByteString
+          getPersonaNameBytes() {
         java.lang.Object ref = personaName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           personaName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string persona_name = 1;</code>
-       *
        * @param value The personaName to set.
        * @return This builder for chaining.
        */
-      public Builder setPersonaName(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setPersonaName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         personaName_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string persona_name = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearPersonaName() {
@@ -20391,17 +18454,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string persona_name = 1;</code>
-       *
        * @param value The bytes for personaName to set.
        * @return This builder for chaining.
        */
-      public Builder setPersonaNameBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setPersonaNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         personaName_ = value;
         bitField0_ |= 0x00000001;
         onChanged();
@@ -20409,25 +18469,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object ipCountry_ = "";
-
       /**
        * <code>optional string ip_country = 2;</code>
-       *
        * @return Whether the ipCountry field is set.
        */
       public boolean hasIpCountry() {
         return ((bitField0_ & 0x00000002) != 0);
       }
-
       /**
        * <code>optional string ip_country = 2;</code>
-       *
        * @return The ipCountry.
        */
       public java.lang.String getIpCountry() {
         java.lang.Object ref = ipCountry_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             ipCountry_ = s;
@@ -20437,43 +18494,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string ip_country = 2;</code>
-       *
        * @return The bytes for ipCountry.
        */
-      public com.google.protobuf.ByteString getIpCountryBytes() {
+      public com.google.protobuf.ByteString
+          getIpCountryBytes() {
         java.lang.Object ref = ipCountry_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           ipCountry_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string ip_country = 2;</code>
-       *
        * @param value The ipCountry to set.
        * @return This builder for chaining.
        */
-      public Builder setIpCountry(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setIpCountry(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         ipCountry_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string ip_country = 2;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIpCountry() {
@@ -20482,48 +18534,39 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string ip_country = 2;</code>
-       *
        * @param value The bytes for ipCountry to set.
        * @return This builder for chaining.
        */
-      public Builder setIpCountryBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setIpCountryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         ipCountry_ = value;
         bitField0_ |= 0x00000002;
         onChanged();
         return this;
       }
 
-      private int countAuthedComputers_;
-
+      private int countAuthedComputers_ ;
       /**
        * <code>optional int32 count_authed_computers = 5;</code>
-       *
        * @return Whether the countAuthedComputers field is set.
        */
       @java.lang.Override
       public boolean hasCountAuthedComputers() {
         return ((bitField0_ & 0x00000004) != 0);
       }
-
       /**
        * <code>optional int32 count_authed_computers = 5;</code>
-       *
        * @return The countAuthedComputers.
        */
       @java.lang.Override
       public int getCountAuthedComputers() {
         return countAuthedComputers_;
       }
-
       /**
        * <code>optional int32 count_authed_computers = 5;</code>
-       *
        * @param value The countAuthedComputers to set.
        * @return This builder for chaining.
        */
@@ -20534,10 +18577,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional int32 count_authed_computers = 5;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearCountAuthedComputers() {
@@ -20547,31 +18588,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int accountFlags_;
-
+      private int accountFlags_ ;
       /**
        * <code>optional uint32 account_flags = 7;</code>
-       *
        * @return Whether the accountFlags field is set.
        */
       @java.lang.Override
       public boolean hasAccountFlags() {
         return ((bitField0_ & 0x00000008) != 0);
       }
-
       /**
        * <code>optional uint32 account_flags = 7;</code>
-       *
        * @return The accountFlags.
        */
       @java.lang.Override
       public int getAccountFlags() {
         return accountFlags_;
       }
-
       /**
        * <code>optional uint32 account_flags = 7;</code>
-       *
        * @param value The accountFlags to set.
        * @return This builder for chaining.
        */
@@ -20582,10 +18617,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 account_flags = 7;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearAccountFlags() {
@@ -20595,31 +18628,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private long facebookId_;
-
+      private long facebookId_ ;
       /**
        * <code>optional uint64 facebook_id = 8;</code>
-       *
        * @return Whether the facebookId field is set.
        */
       @java.lang.Override
       public boolean hasFacebookId() {
         return ((bitField0_ & 0x00000010) != 0);
       }
-
       /**
        * <code>optional uint64 facebook_id = 8;</code>
-       *
        * @return The facebookId.
        */
       @java.lang.Override
       public long getFacebookId() {
         return facebookId_;
       }
-
       /**
        * <code>optional uint64 facebook_id = 8;</code>
-       *
        * @param value The facebookId to set.
        * @return This builder for chaining.
        */
@@ -20630,10 +18657,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint64 facebook_id = 8;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearFacebookId() {
@@ -20644,25 +18669,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object facebookName_ = "";
-
       /**
        * <code>optional string facebook_name = 9;</code>
-       *
        * @return Whether the facebookName field is set.
        */
       public boolean hasFacebookName() {
         return ((bitField0_ & 0x00000020) != 0);
       }
-
       /**
        * <code>optional string facebook_name = 9;</code>
-       *
        * @return The facebookName.
        */
       public java.lang.String getFacebookName() {
         java.lang.Object ref = facebookName_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             facebookName_ = s;
@@ -20672,43 +18694,38 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string facebook_name = 9;</code>
-       *
        * @return The bytes for facebookName.
        */
-      public com.google.protobuf.ByteString getFacebookNameBytes() {
+      public com.google.protobuf.ByteString
+          getFacebookNameBytes() {
         java.lang.Object ref = facebookName_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           facebookName_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string facebook_name = 9;</code>
-       *
        * @param value The facebookName to set.
        * @return This builder for chaining.
        */
-      public Builder setFacebookName(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setFacebookName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         facebookName_ = value;
         bitField0_ |= 0x00000020;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string facebook_name = 9;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearFacebookName() {
@@ -20717,17 +18734,14 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string facebook_name = 9;</code>
-       *
        * @param value The bytes for facebookName to set.
        * @return This builder for chaining.
        */
-      public Builder setFacebookNameBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setFacebookNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         facebookName_ = value;
         bitField0_ |= 0x00000020;
         onChanged();
@@ -20735,25 +18749,22 @@ public final class SteammessagesClientserverLogin {
       }
 
       private java.lang.Object steamguardMachineNameUserChosen_ = "";
-
       /**
        * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-       *
        * @return Whether the steamguardMachineNameUserChosen field is set.
        */
       public boolean hasSteamguardMachineNameUserChosen() {
         return ((bitField0_ & 0x00000040) != 0);
       }
-
       /**
        * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-       *
        * @return The steamguardMachineNameUserChosen.
        */
       public java.lang.String getSteamguardMachineNameUserChosen() {
         java.lang.Object ref = steamguardMachineNameUserChosen_;
         if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs = (com.google.protobuf.ByteString) ref;
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
           if (bs.isValidUtf8()) {
             steamguardMachineNameUserChosen_ = s;
@@ -20763,94 +18774,79 @@ public final class SteammessagesClientserverLogin {
           return (java.lang.String) ref;
         }
       }
-
       /**
        * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-       *
        * @return The bytes for steamguardMachineNameUserChosen.
        */
-      public com.google.protobuf.ByteString getSteamguardMachineNameUserChosenBytes() {
+      public com.google.protobuf.ByteString
+          getSteamguardMachineNameUserChosenBytes() {
         java.lang.Object ref = steamguardMachineNameUserChosen_;
         if (ref instanceof String) {
-          com.google.protobuf.ByteString b =
-              com.google.protobuf.ByteString.copyFromUtf8((java.lang.String) ref);
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
           steamguardMachineNameUserChosen_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
-
       /**
        * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-       *
        * @param value The steamguardMachineNameUserChosen to set.
        * @return This builder for chaining.
        */
-      public Builder setSteamguardMachineNameUserChosen(java.lang.String value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setSteamguardMachineNameUserChosen(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
         steamguardMachineNameUserChosen_ = value;
         bitField0_ |= 0x00000040;
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSteamguardMachineNameUserChosen() {
-        steamguardMachineNameUserChosen_ =
-            getDefaultInstance().getSteamguardMachineNameUserChosen();
+        steamguardMachineNameUserChosen_ = getDefaultInstance().getSteamguardMachineNameUserChosen();
         bitField0_ = (bitField0_ & ~0x00000040);
         onChanged();
         return this;
       }
-
       /**
        * <code>optional string steamguard_machine_name_user_chosen = 15;</code>
-       *
        * @param value The bytes for steamguardMachineNameUserChosen to set.
        * @return This builder for chaining.
        */
-      public Builder setSteamguardMachineNameUserChosenBytes(com.google.protobuf.ByteString value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
+      public Builder setSteamguardMachineNameUserChosenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
         steamguardMachineNameUserChosen_ = value;
         bitField0_ |= 0x00000040;
         onChanged();
         return this;
       }
 
-      private boolean isPhoneVerified_;
-
+      private boolean isPhoneVerified_ ;
       /**
        * <code>optional bool is_phone_verified = 16;</code>
-       *
        * @return Whether the isPhoneVerified field is set.
        */
       @java.lang.Override
       public boolean hasIsPhoneVerified() {
         return ((bitField0_ & 0x00000080) != 0);
       }
-
       /**
        * <code>optional bool is_phone_verified = 16;</code>
-       *
        * @return The isPhoneVerified.
        */
       @java.lang.Override
       public boolean getIsPhoneVerified() {
         return isPhoneVerified_;
       }
-
       /**
        * <code>optional bool is_phone_verified = 16;</code>
-       *
        * @param value The isPhoneVerified to set.
        * @return This builder for chaining.
        */
@@ -20861,10 +18857,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool is_phone_verified = 16;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIsPhoneVerified() {
@@ -20874,31 +18868,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private int twoFactorState_;
-
+      private int twoFactorState_ ;
       /**
        * <code>optional uint32 two_factor_state = 17;</code>
-       *
        * @return Whether the twoFactorState field is set.
        */
       @java.lang.Override
       public boolean hasTwoFactorState() {
         return ((bitField0_ & 0x00000100) != 0);
       }
-
       /**
        * <code>optional uint32 two_factor_state = 17;</code>
-       *
        * @return The twoFactorState.
        */
       @java.lang.Override
       public int getTwoFactorState() {
         return twoFactorState_;
       }
-
       /**
        * <code>optional uint32 two_factor_state = 17;</code>
-       *
        * @param value The twoFactorState to set.
        * @return This builder for chaining.
        */
@@ -20909,10 +18897,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional uint32 two_factor_state = 17;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearTwoFactorState() {
@@ -20922,31 +18908,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean isPhoneIdentifying_;
-
+      private boolean isPhoneIdentifying_ ;
       /**
        * <code>optional bool is_phone_identifying = 18;</code>
-       *
        * @return Whether the isPhoneIdentifying field is set.
        */
       @java.lang.Override
       public boolean hasIsPhoneIdentifying() {
         return ((bitField0_ & 0x00000200) != 0);
       }
-
       /**
        * <code>optional bool is_phone_identifying = 18;</code>
-       *
        * @return The isPhoneIdentifying.
        */
       @java.lang.Override
       public boolean getIsPhoneIdentifying() {
         return isPhoneIdentifying_;
       }
-
       /**
        * <code>optional bool is_phone_identifying = 18;</code>
-       *
        * @param value The isPhoneIdentifying to set.
        * @return This builder for chaining.
        */
@@ -20957,10 +18937,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool is_phone_identifying = 18;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIsPhoneIdentifying() {
@@ -20970,31 +18948,25 @@ public final class SteammessagesClientserverLogin {
         return this;
       }
 
-      private boolean isPhoneNeedingReverify_;
-
+      private boolean isPhoneNeedingReverify_ ;
       /**
        * <code>optional bool is_phone_needing_reverify = 19;</code>
-       *
        * @return Whether the isPhoneNeedingReverify field is set.
        */
       @java.lang.Override
       public boolean hasIsPhoneNeedingReverify() {
         return ((bitField0_ & 0x00000400) != 0);
       }
-
       /**
        * <code>optional bool is_phone_needing_reverify = 19;</code>
-       *
        * @return The isPhoneNeedingReverify.
        */
       @java.lang.Override
       public boolean getIsPhoneNeedingReverify() {
         return isPhoneNeedingReverify_;
       }
-
       /**
        * <code>optional bool is_phone_needing_reverify = 19;</code>
-       *
        * @param value The isPhoneNeedingReverify to set.
        * @return This builder for chaining.
        */
@@ -21005,10 +18977,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional bool is_phone_needing_reverify = 19;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearIsPhoneNeedingReverify() {
@@ -21022,38 +18992,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientAccountInfo)
-    private static final SteammessagesClientserverLogin.CMsgClientAccountInfo DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientAccountInfo();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientAccountInfo getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientAccountInfo> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientAccountInfo>() {
-          @java.lang.Override
-          public CMsgClientAccountInfo parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientAccountInfo>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientAccountInfo>() {
+      @java.lang.Override
+      public CMsgClientAccountInfo parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientAccountInfo> parser() {
       return PARSER;
@@ -21065,86 +19033,77 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientAccountInfo getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientAccountInfo getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientChallengeRequestOrBuilder
-      extends
+  public interface CMsgClientChallengeRequestOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientChallengeRequest)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional fixed64 steamid = 1;</code>
-     *
      * @return Whether the steamid field is set.
      */
     boolean hasSteamid();
-
     /**
      * <code>optional fixed64 steamid = 1;</code>
-     *
      * @return The steamid.
      */
     long getSteamid();
   }
-
-  /** Protobuf type {@code CMsgClientChallengeRequest} */
-  public static final class CMsgClientChallengeRequest extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientChallengeRequest}
+   */
+  public static final class CMsgClientChallengeRequest extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientChallengeRequest)
       CMsgClientChallengeRequestOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientChallengeRequest.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientChallengeRequest.class.getName());
     }
-
     // Use CMsgClientChallengeRequest.newBuilder() to construct.
     private CMsgClientChallengeRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientChallengeRequest() {
+    }
 
-    private CMsgClientChallengeRequest() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientChallengeRequest_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientChallengeRequest.class,
-              SteammessagesClientserverLogin.CMsgClientChallengeRequest.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest.Builder.class);
     }
 
     private int bitField0_;
     public static final int STEAMID_FIELD_NUMBER = 1;
     private long steamid_ = 0L;
-
     /**
      * <code>optional fixed64 steamid = 1;</code>
-     *
      * @return Whether the steamid field is set.
      */
     @java.lang.Override
     public boolean hasSteamid() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional fixed64 steamid = 1;</code>
-     *
      * @return The steamid.
      */
     @java.lang.Override
@@ -21153,7 +19112,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -21165,7 +19123,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeFixed64(1, steamid_);
       }
@@ -21179,7 +19138,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(1, steamid_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(1, steamid_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -21189,17 +19149,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientChallengeRequest)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientChallengeRequest other =
-          (SteammessagesClientserverLogin.CMsgClientChallengeRequest) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest) obj;
 
       if (hasSteamid() != other.hasSteamid()) return false;
       if (hasSteamid()) {
-        if (getSteamid() != other.getSteamid()) return false;
+        if (getSteamid()
+            != other.getSteamid()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -21214,136 +19174,136 @@ public final class SteammessagesClientserverLogin {
       hash = (19 * hash) + getDescriptor().hashCode();
       if (hasSteamid()) {
         hash = (37 * hash) + STEAMID_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getSteamid());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientChallengeRequest prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientChallengeRequest} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientChallengeRequest}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientChallengeRequest)
-        SteammessagesClientserverLogin.CMsgClientChallengeRequestOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientChallengeRequest_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientChallengeRequest.class,
-                SteammessagesClientserverLogin.CMsgClientChallengeRequest.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientChallengeRequest.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest.newBuilder()
+      private Builder() {
+
+      }
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
         super(parent);
-      }
 
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -21353,18 +19313,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeRequest_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientChallengeRequest getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientChallengeRequest.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientChallengeRequest build() {
-        SteammessagesClientserverLogin.CMsgClientChallengeRequest result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -21372,17 +19333,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientChallengeRequest buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientChallengeRequest result =
-            new SteammessagesClientserverLogin.CMsgClientChallengeRequest(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(SteammessagesClientserverLogin.CMsgClientChallengeRequest result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -21394,17 +19352,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientChallengeRequest) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientChallengeRequest) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientChallengeRequest other) {
-        if (other == SteammessagesClientserverLogin.CMsgClientChallengeRequest.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest.getDefaultInstance()) return this;
         if (other.hasSteamid()) {
           setSteamid(other.getSteamid());
         }
@@ -21434,19 +19391,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 9:
-                {
-                  steamid_ = input.readFixed64();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 9
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 9: {
+                steamid_ = input.readFixed64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 9
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -21456,34 +19411,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private long steamid_;
-
+      private long steamid_ ;
       /**
        * <code>optional fixed64 steamid = 1;</code>
-       *
        * @return Whether the steamid field is set.
        */
       @java.lang.Override
       public boolean hasSteamid() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional fixed64 steamid = 1;</code>
-       *
        * @return The steamid.
        */
       @java.lang.Override
       public long getSteamid() {
         return steamid_;
       }
-
       /**
        * <code>optional fixed64 steamid = 1;</code>
-       *
        * @param value The steamid to set.
        * @return This builder for chaining.
        */
@@ -21494,10 +19442,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed64 steamid = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearSteamid() {
@@ -21511,38 +19457,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientChallengeRequest)
-    private static final SteammessagesClientserverLogin.CMsgClientChallengeRequest DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientChallengeRequest();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeRequest getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientChallengeRequest> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientChallengeRequest>() {
-          @java.lang.Override
-          public CMsgClientChallengeRequest parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientChallengeRequest>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientChallengeRequest>() {
+      @java.lang.Override
+      public CMsgClientChallengeRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientChallengeRequest> parser() {
       return PARSER;
@@ -21554,86 +19498,77 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientChallengeRequest getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeRequest getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
-  public interface CMsgClientChallengeResponseOrBuilder
-      extends
+  public interface CMsgClientChallengeResponseOrBuilder extends
       // @@protoc_insertion_point(interface_extends:CMsgClientChallengeResponse)
       com.google.protobuf.MessageOrBuilder {
 
     /**
      * <code>optional fixed64 challenge = 1;</code>
-     *
      * @return Whether the challenge field is set.
      */
     boolean hasChallenge();
-
     /**
      * <code>optional fixed64 challenge = 1;</code>
-     *
      * @return The challenge.
      */
     long getChallenge();
   }
-
-  /** Protobuf type {@code CMsgClientChallengeResponse} */
-  public static final class CMsgClientChallengeResponse extends com.google.protobuf.GeneratedMessage
-      implements
+  /**
+   * Protobuf type {@code CMsgClientChallengeResponse}
+   */
+  public static final class CMsgClientChallengeResponse extends
+      com.google.protobuf.GeneratedMessage implements
       // @@protoc_insertion_point(message_implements:CMsgClientChallengeResponse)
       CMsgClientChallengeResponseOrBuilder {
-    private static final long serialVersionUID = 0L;
-
+  private static final long serialVersionUID = 0L;
     static {
       com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
-          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
-          /* major= */ 4,
-          /* minor= */ 26,
-          /* patch= */ 1,
-          /* suffix= */ "",
-          CMsgClientChallengeResponse.class.getName());
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CMsgClientChallengeResponse.class.getName());
     }
-
     // Use CMsgClientChallengeResponse.newBuilder() to construct.
     private CMsgClientChallengeResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
     }
+    private CMsgClientChallengeResponse() {
+    }
 
-    private CMsgClientChallengeResponse() {}
-
-    public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-      return SteammessagesClientserverLogin.internal_static_CMsgClientChallengeResponse_descriptor;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeResponse_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return SteammessagesClientserverLogin
-          .internal_static_CMsgClientChallengeResponse_fieldAccessorTable
+      return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeResponse_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              SteammessagesClientserverLogin.CMsgClientChallengeResponse.class,
-              SteammessagesClientserverLogin.CMsgClientChallengeResponse.Builder.class);
+              com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse.Builder.class);
     }
 
     private int bitField0_;
     public static final int CHALLENGE_FIELD_NUMBER = 1;
     private long challenge_ = 0L;
-
     /**
      * <code>optional fixed64 challenge = 1;</code>
-     *
      * @return Whether the challenge field is set.
      */
     @java.lang.Override
     public boolean hasChallenge() {
       return ((bitField0_ & 0x00000001) != 0);
     }
-
     /**
      * <code>optional fixed64 challenge = 1;</code>
-     *
      * @return The challenge.
      */
     @java.lang.Override
@@ -21642,7 +19577,6 @@ public final class SteammessagesClientserverLogin {
     }
 
     private byte memoizedIsInitialized = -1;
-
     @java.lang.Override
     public final boolean isInitialized() {
       byte isInitialized = memoizedIsInitialized;
@@ -21654,7 +19588,8 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public void writeTo(com.google.protobuf.CodedOutputStream output) throws java.io.IOException {
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
       if (((bitField0_ & 0x00000001) != 0)) {
         output.writeFixed64(1, challenge_);
       }
@@ -21668,7 +19603,8 @@ public final class SteammessagesClientserverLogin {
 
       size = 0;
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream.computeFixed64Size(1, challenge_);
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(1, challenge_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -21678,17 +19614,17 @@ public final class SteammessagesClientserverLogin {
     @java.lang.Override
     public boolean equals(final java.lang.Object obj) {
       if (obj == this) {
-        return true;
+       return true;
       }
-      if (!(obj instanceof SteammessagesClientserverLogin.CMsgClientChallengeResponse)) {
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse)) {
         return super.equals(obj);
       }
-      SteammessagesClientserverLogin.CMsgClientChallengeResponse other =
-          (SteammessagesClientserverLogin.CMsgClientChallengeResponse) obj;
+      com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse other = (com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse) obj;
 
       if (hasChallenge() != other.hasChallenge()) return false;
       if (hasChallenge()) {
-        if (getChallenge() != other.getChallenge()) return false;
+        if (getChallenge()
+            != other.getChallenge()) return false;
       }
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
@@ -21703,137 +19639,136 @@ public final class SteammessagesClientserverLogin {
       hash = (19 * hash) + getDescriptor().hashCode();
       if (hasChallenge()) {
         hash = (37 * hash) + CHALLENGE_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(getChallenge());
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getChallenge());
       }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
-        java.nio.ByteBuffer data) throws com.google.protobuf.InvalidProtocolBufferException {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
-        java.nio.ByteBuffer data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(byte[] data)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
-        byte[] data, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseDelimitedFrom(
-        java.io.InputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseDelimitedFrom(
-        java.io.InputStream input, com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseDelimitedWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
-        com.google.protobuf.CodedInputStream input) throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(PARSER, input);
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
     }
-
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
-      return com.google.protobuf.GeneratedMessage.parseWithIOException(
-          PARSER, input, extensionRegistry);
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
     }
 
     @java.lang.Override
-    public Builder newBuilderForType() {
-      return newBuilder();
-    }
-
+    public Builder newBuilderForType() { return newBuilder(); }
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-
-    public static Builder newBuilder(
-        SteammessagesClientserverLogin.CMsgClientChallengeResponse prototype) {
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
-
     @java.lang.Override
     public Builder toBuilder() {
-      return this == DEFAULT_INSTANCE ? new Builder() : new Builder().mergeFrom(this);
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
     }
 
     @java.lang.Override
-    protected Builder newBuilderForType(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
       Builder builder = new Builder(parent);
       return builder;
     }
-
-    /** Protobuf type {@code CMsgClientChallengeResponse} */
-    public static final class Builder extends com.google.protobuf.GeneratedMessage.Builder<Builder>
-        implements
+    /**
+     * Protobuf type {@code CMsgClientChallengeResponse}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
         // @@protoc_insertion_point(builder_implements:CMsgClientChallengeResponse)
-        SteammessagesClientserverLogin.CMsgClientChallengeResponseOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor getDescriptor() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientChallengeResponse_descriptor;
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeResponse_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientChallengeResponse_fieldAccessorTable
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeResponse_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                SteammessagesClientserverLogin.CMsgClientChallengeResponse.class,
-                SteammessagesClientserverLogin.CMsgClientChallengeResponse.Builder.class);
+                com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse.class, com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse.Builder.class);
       }
 
-      // Construct using SteammessagesClientserverLogin.CMsgClientChallengeResponse.newBuilder()
-      private Builder() {}
+      // Construct using com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse.newBuilder()
+      private Builder() {
 
-      private Builder(com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
       }
 
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
       @java.lang.Override
       public Builder clear() {
         super.clear();
@@ -21843,20 +19778,19 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public com.google.protobuf.Descriptors.Descriptor getDescriptorForType() {
-        return SteammessagesClientserverLogin
-            .internal_static_CMsgClientChallengeResponse_descriptor;
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.internal_static_CMsgClientChallengeResponse_descriptor;
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientChallengeResponse
-          getDefaultInstanceForType() {
-        return SteammessagesClientserverLogin.CMsgClientChallengeResponse.getDefaultInstance();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse.getDefaultInstance();
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientChallengeResponse build() {
-        SteammessagesClientserverLogin.CMsgClientChallengeResponse result = buildPartial();
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse build() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -21864,18 +19798,14 @@ public final class SteammessagesClientserverLogin {
       }
 
       @java.lang.Override
-      public SteammessagesClientserverLogin.CMsgClientChallengeResponse buildPartial() {
-        SteammessagesClientserverLogin.CMsgClientChallengeResponse result =
-            new SteammessagesClientserverLogin.CMsgClientChallengeResponse(this);
-        if (bitField0_ != 0) {
-          buildPartial0(result);
-        }
+      public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse buildPartial() {
+        com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse result = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
         onBuilt();
         return result;
       }
 
-      private void buildPartial0(
-          SteammessagesClientserverLogin.CMsgClientChallengeResponse result) {
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse result) {
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) != 0)) {
@@ -21887,18 +19817,16 @@ public final class SteammessagesClientserverLogin {
 
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof SteammessagesClientserverLogin.CMsgClientChallengeResponse) {
-          return mergeFrom((SteammessagesClientserverLogin.CMsgClientChallengeResponse) other);
+        if (other instanceof com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(SteammessagesClientserverLogin.CMsgClientChallengeResponse other) {
-        if (other
-            == SteammessagesClientserverLogin.CMsgClientChallengeResponse.getDefaultInstance())
-          return this;
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse other) {
+        if (other == com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse.getDefaultInstance()) return this;
         if (other.hasChallenge()) {
           setChallenge(other.getChallenge());
         }
@@ -21928,19 +19856,17 @@ public final class SteammessagesClientserverLogin {
               case 0:
                 done = true;
                 break;
-              case 9:
-                {
-                  challenge_ = input.readFixed64();
-                  bitField0_ |= 0x00000001;
-                  break;
-                } // case 9
-              default:
-                {
-                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                    done = true; // was an endgroup tag
-                  }
-                  break;
-                } // default:
+              case 9: {
+                challenge_ = input.readFixed64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 9
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
             } // switch (tag)
           } // while (!done)
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
@@ -21950,34 +19876,27 @@ public final class SteammessagesClientserverLogin {
         } // finally
         return this;
       }
-
       private int bitField0_;
 
-      private long challenge_;
-
+      private long challenge_ ;
       /**
        * <code>optional fixed64 challenge = 1;</code>
-       *
        * @return Whether the challenge field is set.
        */
       @java.lang.Override
       public boolean hasChallenge() {
         return ((bitField0_ & 0x00000001) != 0);
       }
-
       /**
        * <code>optional fixed64 challenge = 1;</code>
-       *
        * @return The challenge.
        */
       @java.lang.Override
       public long getChallenge() {
         return challenge_;
       }
-
       /**
        * <code>optional fixed64 challenge = 1;</code>
-       *
        * @param value The challenge to set.
        * @return This builder for chaining.
        */
@@ -21988,10 +19907,8 @@ public final class SteammessagesClientserverLogin {
         onChanged();
         return this;
       }
-
       /**
        * <code>optional fixed64 challenge = 1;</code>
-       *
        * @return This builder for chaining.
        */
       public Builder clearChallenge() {
@@ -22005,39 +19922,36 @@ public final class SteammessagesClientserverLogin {
     }
 
     // @@protoc_insertion_point(class_scope:CMsgClientChallengeResponse)
-    private static final SteammessagesClientserverLogin.CMsgClientChallengeResponse
-        DEFAULT_INSTANCE;
-
+    private static final com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new SteammessagesClientserverLogin.CMsgClientChallengeResponse();
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse();
     }
 
-    public static SteammessagesClientserverLogin.CMsgClientChallengeResponse getDefaultInstance() {
+    public static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<CMsgClientChallengeResponse> PARSER =
-        new com.google.protobuf.AbstractParser<CMsgClientChallengeResponse>() {
-          @java.lang.Override
-          public CMsgClientChallengeResponse parsePartialFrom(
-              com.google.protobuf.CodedInputStream input,
-              com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-              throws com.google.protobuf.InvalidProtocolBufferException {
-            Builder builder = newBuilder();
-            try {
-              builder.mergeFrom(input, extensionRegistry);
-            } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-              throw e.setUnfinishedMessage(builder.buildPartial());
-            } catch (com.google.protobuf.UninitializedMessageException e) {
-              throw e.asInvalidProtocolBufferException()
-                  .setUnfinishedMessage(builder.buildPartial());
-            } catch (java.io.IOException e) {
-              throw new com.google.protobuf.InvalidProtocolBufferException(e)
-                  .setUnfinishedMessage(builder.buildPartial());
-            }
-            return builder.buildPartial();
-          }
-        };
+    private static final com.google.protobuf.Parser<CMsgClientChallengeResponse>
+        PARSER = new com.google.protobuf.AbstractParser<CMsgClientChallengeResponse>() {
+      @java.lang.Override
+      public CMsgClientChallengeResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
 
     public static com.google.protobuf.Parser<CMsgClientChallengeResponse> parser() {
       return PARSER;
@@ -22049,393 +19963,298 @@ public final class SteammessagesClientserverLogin {
     }
 
     @java.lang.Override
-    public SteammessagesClientserverLogin.CMsgClientChallengeResponse getDefaultInstanceForType() {
+    public com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientChallengeResponse getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
+
   }
 
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientHeartBeat_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientHeartBeat_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientHeartBeat_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientServerTimestampRequest_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientServerTimestampRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientServerTimestampRequest_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientServerTimestampResponse_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientServerTimestampResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientServerTimestampResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientSecret_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientSecret_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientSecret_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientHello_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientHello_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientHello_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientLogon_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientLogon_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientLogon_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientLogonResponse_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientLogonResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientLogonResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientLogOff_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientLogOff_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientLogOff_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientLoggedOff_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientLoggedOff_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientLoggedOff_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientNewLoginKey_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientNewLoginKey_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientNewLoginKey_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientNewLoginKeyAccepted_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientNewLoginKeyAccepted_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientAccountInfo_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientAccountInfo_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientAccountInfo_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientChallengeRequest_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientChallengeRequest_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientChallengeRequest_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
-      internal_static_CMsgClientChallengeResponse_descriptor;
-  private static final com.google.protobuf.GeneratedMessage.FieldAccessorTable
+    internal_static_CMsgClientChallengeResponse_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_CMsgClientChallengeResponse_fieldAccessorTable;
 
-  public static com.google.protobuf.Descriptors.FileDescriptor getDescriptor() {
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
     return descriptor;
   }
-
-  private static com.google.protobuf.Descriptors.FileDescriptor descriptor;
-
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n&steammessages_clientserver_login.proto"
-          + "\032\030steammessages_base.proto\")\n\023CMsgClient"
-          + "HeartBeat\022\022\n\nsend_reply\030\001 \001(\010\"D\n CMsgCli"
-          + "entServerTimestampRequest\022 \n\030client_requ"
-          + "est_timestamp\030\001 \001(\004\"b\n!CMsgClientServerT"
-          + "imestampResponse\022 \n\030client_request_times"
-          + "tamp\030\001 \001(\004\022\033\n\023server_timestamp_ms\030\002 \001(\004\""
-          + "a\n\020CMsgClientSecret\022\017\n\007version\030\001 \001(\r\022\r\n\005"
-          + "appid\030\002 \001(\r\022\020\n\010deviceid\030\003 \001(\r\022\r\n\005nonce\030\004"
-          + " \001(\006\022\014\n\004hmac\030\005 \001(\014\"+\n\017CMsgClientHello\022\030\n"
-          + "\020protocol_version\030\001 \001(\r\"\323\014\n\017CMsgClientLo"
-          + "gon\022\030\n\020protocol_version\030\001 \001(\r\022*\n\"depreca"
-          + "ted_obfustucated_private_ip\030\002 \001(\r\022\017\n\007cel"
-          + "l_id\030\003 \001(\r\022\027\n\017last_session_id\030\004 \001(\r\022\036\n\026c"
-          + "lient_package_version\030\005 \001(\r\022\027\n\017client_la"
-          + "nguage\030\006 \001(\t\022\026\n\016client_os_type\030\007 \001(\r\022\'\n\030"
-          + "should_remember_password\030\010 \001(\010:\005false\022\024\n"
-          + "\014wine_version\030\t \001(\t\022\025\n\rdeprecated_10\030\n \001"
-          + "(\r\022-\n\025obfuscated_private_ip\030\013 \001(\0132\016.CMsg"
-          + "IPAddress\022\034\n\024deprecated_public_ip\030\024 \001(\r\022"
-          + "\021\n\tqos_level\030\025 \001(\r\022 \n\030client_supplied_st"
-          + "eam_id\030\026 \001(\006\022!\n\tpublic_ip\030\027 \001(\0132\016.CMsgIP"
-          + "Address\022\022\n\nmachine_id\030\036 \001(\014\022\030\n\rlauncher_"
-          + "type\030\037 \001(\r:\0010\022\022\n\007ui_mode\030  \001(\r:\0010\022\024\n\tcha"
-          + "t_mode\030! \001(\r:\0010\022\032\n\022steam2_auth_ticket\030) "
-          + "\001(\014\022\025\n\remail_address\030* \001(\t\022 \n\030rtime32_ac"
-          + "count_creation\030+ \001(\007\022\024\n\014account_name\0302 \001"
-          + "(\t\022\020\n\010password\0303 \001(\t\022\031\n\021game_server_toke"
-          + "n\0304 \001(\t\022\021\n\tlogin_key\030< \001(\t\022+\n\034was_conver"
-          + "ted_deprecated_msg\030F \001(\010:\005false\022%\n\035anon_"
-          + "user_target_account_name\030P \001(\t\022\036\n\026resolv"
-          + "ed_user_steam_id\030Q \001(\006\022\032\n\022eresult_sentry"
-          + "file\030R \001(\005\022\026\n\016sha_sentryfile\030S \001(\014\022\021\n\tau"
-          + "th_code\030T \001(\t\022\020\n\010otp_type\030U \001(\005\022\021\n\totp_v"
-          + "alue\030V \001(\r\022\026\n\016otp_identifier\030W \001(\t\022\035\n\025st"
-          + "eam2_ticket_request\030X \001(\010\022\027\n\017sony_psn_ti"
-          + "cket\030Z \001(\014\022\033\n\023sony_psn_service_id\030[ \001(\t\022"
-          + "6\n\'create_new_psn_linked_account_if_need"
-          + "ed\030\\ \001(\010:\005false\022\025\n\rsony_psn_name\030] \001(\t\022\032"
-          + "\n\022game_server_app_id\030^ \001(\005\022)\n!steamguard"
-          + "_dont_remember_computer\030_ \001(\010\022\024\n\014machine"
-          + "_name\030` \001(\t\022\037\n\027machine_name_userchosen\030a"
-          + " \001(\t\022\030\n\020country_override\030b \001(\t\022\024\n\014is_ste"
-          + "am_box\030c \001(\010\022\032\n\022client_instance_id\030d \001(\004"
-          + "\022\027\n\017two_factor_code\030e \001(\t\022$\n\034supports_ra"
-          + "te_limit_response\030f \001(\010\022\027\n\017web_logon_non"
-          + "ce\030g \001(\t\022\027\n\017priority_reason\030h \001(\005\0221\n\026emb"
-          + "edded_client_secret\030i \001(\0132\021.CMsgClientSe"
-          + "cret\022\"\n\032disable_partner_autogrants\030j \001(\010"
-          + "\022\025\n\ris_steam_deck\030k \001(\010\022\024\n\014access_token\030"
-          + "l \001(\t\022\024\n\014is_chrome_os\030m \001(\010\022\020\n\010is_tesla\030"
-          + "n \001(\010\"\237\006\n\027CMsgClientLogonResponse\022\022\n\007ere"
-          + "sult\030\001 \001(\005:\0012\022,\n$legacy_out_of_game_hear"
-          + "tbeat_seconds\030\002 \001(\005\022\031\n\021heartbeat_seconds"
-          + "\030\003 \001(\005\022\034\n\024deprecated_public_ip\030\004 \001(\r\022\033\n\023"
-          + "rtime32_server_time\030\005 \001(\007\022\025\n\raccount_fla"
-          + "gs\030\006 \001(\r\022\017\n\007cell_id\030\007 \001(\r\022\024\n\014email_domai"
-          + "n\030\010 \001(\t\022\025\n\rsteam2_ticket\030\t \001(\014\022\030\n\020eresul"
-          + "t_extended\030\n \001(\005\022\036\n\026cell_id_ping_thresho"
-          + "ld\030\014 \001(\r\022\033\n\023deprecated_use_pics\030\r \001(\010\022\022\n"
-          + "\nvanity_url\030\016 \001(\t\022!\n\tpublic_ip\030\017 \001(\0132\016.C"
-          + "MsgIPAddress\022\024\n\014user_country\030\020 \001(\t\022\037\n\027cl"
-          + "ient_supplied_steamid\030\024 \001(\006\022\027\n\017ip_countr"
-          + "y_code\030\025 \001(\t\022\031\n\021parental_settings\030\026 \001(\014\022"
-          + "\"\n\032parental_setting_signature\030\027 \001(\014\022&\n\036c"
-          + "ount_loginfailures_to_migrate\030\030 \001(\005\022$\n\034c"
-          + "ount_disconnects_to_migrate\030\031 \001(\005\022#\n\033ogs"
-          + "_data_report_time_window\030\032 \001(\005\022\032\n\022client"
-          + "_instance_id\030\033 \001(\004\022!\n\031force_client_updat"
-          + "e_check\030\034 \001(\010\022\035\n\025agreement_session_url\030\035"
-          + " \001(\t\022\020\n\010token_id\030\036 \001(\004\022\027\n\017family_group_i"
-          + "d\030\037 \001(\004\"F\n,CMsgClientRequestWebAPIAuthen"
-          + "ticateUserNonce\022\026\n\ntoken_type\030\001 \001(\005:\002-1\""
-          + "\212\001\n4CMsgClientRequestWebAPIAuthenticateU"
-          + "serNonceResponse\022\022\n\007eresult\030\001 \001(\005:\0012\022&\n\036"
-          + "webapi_authenticate_user_nonce\030\013 \001(\t\022\026\n\n"
-          + "token_type\030\003 \001(\005:\002-1\"\022\n\020CMsgClientLogOff"
-          + "\")\n\023CMsgClientLoggedOff\022\022\n\007eresult\030\001 \001(\005"
-          + ":\0012\"=\n\025CMsgClientNewLoginKey\022\021\n\tunique_i"
-          + "d\030\001 \001(\r\022\021\n\tlogin_key\030\002 \001(\t\"2\n\035CMsgClient"
-          + "NewLoginKeyAccepted\022\021\n\tunique_id\030\001 \001(\r\"\307"
-          + "\002\n\025CMsgClientAccountInfo\022\024\n\014persona_name"
-          + "\030\001 \001(\t\022\022\n\nip_country\030\002 \001(\t\022\036\n\026count_auth"
-          + "ed_computers\030\005 \001(\005\022\025\n\raccount_flags\030\007 \001("
-          + "\r\022\023\n\013facebook_id\030\010 \001(\004\022\025\n\rfacebook_name\030"
-          + "\t \001(\t\022+\n#steamguard_machine_name_user_ch"
-          + "osen\030\017 \001(\t\022\031\n\021is_phone_verified\030\020 \001(\010\022\030\n"
-          + "\020two_factor_state\030\021 \001(\r\022\034\n\024is_phone_iden"
-          + "tifying\030\022 \001(\010\022!\n\031is_phone_needing_reveri"
-          + "fy\030\023 \001(\010\"-\n\032CMsgClientChallengeRequest\022\017"
-          + "\n\007steamid\030\001 \001(\006\"0\n\033CMsgClientChallengeRe"
-          + "sponse\022\021\n\tchallenge\030\001 \001(\006B\005H\001\200\001\000"
+      "\n&steammessages_clientserver_login.proto" +
+      "\032\030steammessages_base.proto\")\n\023CMsgClient" +
+      "HeartBeat\022\022\n\nsend_reply\030\001 \001(\010\"D\n CMsgCli" +
+      "entServerTimestampRequest\022 \n\030client_requ" +
+      "est_timestamp\030\001 \001(\004\"b\n!CMsgClientServerT" +
+      "imestampResponse\022 \n\030client_request_times" +
+      "tamp\030\001 \001(\004\022\033\n\023server_timestamp_ms\030\002 \001(\004\"" +
+      "a\n\020CMsgClientSecret\022\017\n\007version\030\001 \001(\r\022\r\n\005" +
+      "appid\030\002 \001(\r\022\020\n\010deviceid\030\003 \001(\r\022\r\n\005nonce\030\004" +
+      " \001(\006\022\014\n\004hmac\030\005 \001(\014\"+\n\017CMsgClientHello\022\030\n" +
+      "\020protocol_version\030\001 \001(\r\"\323\014\n\017CMsgClientLo" +
+      "gon\022\030\n\020protocol_version\030\001 \001(\r\022*\n\"depreca" +
+      "ted_obfustucated_private_ip\030\002 \001(\r\022\017\n\007cel" +
+      "l_id\030\003 \001(\r\022\027\n\017last_session_id\030\004 \001(\r\022\036\n\026c" +
+      "lient_package_version\030\005 \001(\r\022\027\n\017client_la" +
+      "nguage\030\006 \001(\t\022\026\n\016client_os_type\030\007 \001(\r\022\'\n\030" +
+      "should_remember_password\030\010 \001(\010:\005false\022\024\n" +
+      "\014wine_version\030\t \001(\t\022\025\n\rdeprecated_10\030\n \001" +
+      "(\r\022-\n\025obfuscated_private_ip\030\013 \001(\0132\016.CMsg" +
+      "IPAddress\022\034\n\024deprecated_public_ip\030\024 \001(\r\022" +
+      "\021\n\tqos_level\030\025 \001(\r\022 \n\030client_supplied_st" +
+      "eam_id\030\026 \001(\006\022!\n\tpublic_ip\030\027 \001(\0132\016.CMsgIP" +
+      "Address\022\022\n\nmachine_id\030\036 \001(\014\022\030\n\rlauncher_" +
+      "type\030\037 \001(\r:\0010\022\022\n\007ui_mode\030  \001(\r:\0010\022\024\n\tcha" +
+      "t_mode\030! \001(\r:\0010\022\032\n\022steam2_auth_ticket\030) " +
+      "\001(\014\022\025\n\remail_address\030* \001(\t\022 \n\030rtime32_ac" +
+      "count_creation\030+ \001(\007\022\024\n\014account_name\0302 \001" +
+      "(\t\022\020\n\010password\0303 \001(\t\022\031\n\021game_server_toke" +
+      "n\0304 \001(\t\022\021\n\tlogin_key\030< \001(\t\022+\n\034was_conver" +
+      "ted_deprecated_msg\030F \001(\010:\005false\022%\n\035anon_" +
+      "user_target_account_name\030P \001(\t\022\036\n\026resolv" +
+      "ed_user_steam_id\030Q \001(\006\022\032\n\022eresult_sentry" +
+      "file\030R \001(\005\022\026\n\016sha_sentryfile\030S \001(\014\022\021\n\tau" +
+      "th_code\030T \001(\t\022\020\n\010otp_type\030U \001(\005\022\021\n\totp_v" +
+      "alue\030V \001(\r\022\026\n\016otp_identifier\030W \001(\t\022\035\n\025st" +
+      "eam2_ticket_request\030X \001(\010\022\027\n\017sony_psn_ti" +
+      "cket\030Z \001(\014\022\033\n\023sony_psn_service_id\030[ \001(\t\022" +
+      "6\n\'create_new_psn_linked_account_if_need" +
+      "ed\030\\ \001(\010:\005false\022\025\n\rsony_psn_name\030] \001(\t\022\032" +
+      "\n\022game_server_app_id\030^ \001(\005\022)\n!steamguard" +
+      "_dont_remember_computer\030_ \001(\010\022\024\n\014machine" +
+      "_name\030` \001(\t\022\037\n\027machine_name_userchosen\030a" +
+      " \001(\t\022\030\n\020country_override\030b \001(\t\022\024\n\014is_ste" +
+      "am_box\030c \001(\010\022\032\n\022client_instance_id\030d \001(\004" +
+      "\022\027\n\017two_factor_code\030e \001(\t\022$\n\034supports_ra" +
+      "te_limit_response\030f \001(\010\022\027\n\017web_logon_non" +
+      "ce\030g \001(\t\022\027\n\017priority_reason\030h \001(\005\0221\n\026emb" +
+      "edded_client_secret\030i \001(\0132\021.CMsgClientSe" +
+      "cret\022\"\n\032disable_partner_autogrants\030j \001(\010" +
+      "\022\025\n\ris_steam_deck\030k \001(\010\022\024\n\014access_token\030" +
+      "l \001(\t\022\024\n\014is_chrome_os\030m \001(\010\022\020\n\010is_tesla\030" +
+      "n \001(\010\"\237\006\n\027CMsgClientLogonResponse\022\022\n\007ere" +
+      "sult\030\001 \001(\005:\0012\022,\n$legacy_out_of_game_hear" +
+      "tbeat_seconds\030\002 \001(\005\022\031\n\021heartbeat_seconds" +
+      "\030\003 \001(\005\022\034\n\024deprecated_public_ip\030\004 \001(\r\022\033\n\023" +
+      "rtime32_server_time\030\005 \001(\007\022\025\n\raccount_fla" +
+      "gs\030\006 \001(\r\022\017\n\007cell_id\030\007 \001(\r\022\024\n\014email_domai" +
+      "n\030\010 \001(\t\022\025\n\rsteam2_ticket\030\t \001(\014\022\030\n\020eresul" +
+      "t_extended\030\n \001(\005\022\036\n\026cell_id_ping_thresho" +
+      "ld\030\014 \001(\r\022\033\n\023deprecated_use_pics\030\r \001(\010\022\022\n" +
+      "\nvanity_url\030\016 \001(\t\022!\n\tpublic_ip\030\017 \001(\0132\016.C" +
+      "MsgIPAddress\022\024\n\014user_country\030\020 \001(\t\022\037\n\027cl" +
+      "ient_supplied_steamid\030\024 \001(\006\022\027\n\017ip_countr" +
+      "y_code\030\025 \001(\t\022\031\n\021parental_settings\030\026 \001(\014\022" +
+      "\"\n\032parental_setting_signature\030\027 \001(\014\022&\n\036c" +
+      "ount_loginfailures_to_migrate\030\030 \001(\005\022$\n\034c" +
+      "ount_disconnects_to_migrate\030\031 \001(\005\022#\n\033ogs" +
+      "_data_report_time_window\030\032 \001(\005\022\032\n\022client" +
+      "_instance_id\030\033 \001(\004\022!\n\031force_client_updat" +
+      "e_check\030\034 \001(\010\022\035\n\025agreement_session_url\030\035" +
+      " \001(\t\022\020\n\010token_id\030\036 \001(\004\022\027\n\017family_group_i" +
+      "d\030\037 \001(\004\"F\n,CMsgClientRequestWebAPIAuthen" +
+      "ticateUserNonce\022\026\n\ntoken_type\030\001 \001(\005:\002-1\"" +
+      "\212\001\n4CMsgClientRequestWebAPIAuthenticateU" +
+      "serNonceResponse\022\022\n\007eresult\030\001 \001(\005:\0012\022&\n\036" +
+      "webapi_authenticate_user_nonce\030\013 \001(\t\022\026\n\n" +
+      "token_type\030\003 \001(\005:\002-1\"\022\n\020CMsgClientLogOff" +
+      "\")\n\023CMsgClientLoggedOff\022\022\n\007eresult\030\001 \001(\005" +
+      ":\0012\"=\n\025CMsgClientNewLoginKey\022\021\n\tunique_i" +
+      "d\030\001 \001(\r\022\021\n\tlogin_key\030\002 \001(\t\"2\n\035CMsgClient" +
+      "NewLoginKeyAccepted\022\021\n\tunique_id\030\001 \001(\r\"\307" +
+      "\002\n\025CMsgClientAccountInfo\022\024\n\014persona_name" +
+      "\030\001 \001(\t\022\022\n\nip_country\030\002 \001(\t\022\036\n\026count_auth" +
+      "ed_computers\030\005 \001(\005\022\025\n\raccount_flags\030\007 \001(" +
+      "\r\022\023\n\013facebook_id\030\010 \001(\004\022\025\n\rfacebook_name\030" +
+      "\t \001(\t\022+\n#steamguard_machine_name_user_ch" +
+      "osen\030\017 \001(\t\022\031\n\021is_phone_verified\030\020 \001(\010\022\030\n" +
+      "\020two_factor_state\030\021 \001(\r\022\034\n\024is_phone_iden" +
+      "tifying\030\022 \001(\010\022!\n\031is_phone_needing_reveri" +
+      "fy\030\023 \001(\010\"-\n\032CMsgClientChallengeRequest\022\017" +
+      "\n\007steamid\030\001 \001(\006\"0\n\033CMsgClientChallengeRe" +
+      "sponse\022\021\n\tchallenge\030\001 \001(\006B\036\n\027com.javaste" +
+      "am.protobufsH\001\200\001\000"
     };
-    descriptor =
-        com.google.protobuf.Descriptors.FileDescriptor.internalBuildGeneratedFileFrom(
-            descriptorData,
-            new com.google.protobuf.Descriptors.FileDescriptor[] {
-              SteammessagesBase.getDescriptor(),
-            });
-    internal_static_CMsgClientHeartBeat_descriptor = getDescriptor().getMessageTypes().get(0);
-    internal_static_CMsgClientHeartBeat_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientHeartBeat_descriptor,
-            new java.lang.String[] {
-              "SendReply",
-            });
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.javasteam.protobufs.SteammessagesBase.getDescriptor(),
+        });
+    internal_static_CMsgClientHeartBeat_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CMsgClientHeartBeat_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientHeartBeat_descriptor,
+        new java.lang.String[] { "SendReply", });
     internal_static_CMsgClientServerTimestampRequest_descriptor =
-        getDescriptor().getMessageTypes().get(1);
-    internal_static_CMsgClientServerTimestampRequest_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientServerTimestampRequest_descriptor,
-            new java.lang.String[] {
-              "ClientRequestTimestamp",
-            });
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CMsgClientServerTimestampRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientServerTimestampRequest_descriptor,
+        new java.lang.String[] { "ClientRequestTimestamp", });
     internal_static_CMsgClientServerTimestampResponse_descriptor =
-        getDescriptor().getMessageTypes().get(2);
-    internal_static_CMsgClientServerTimestampResponse_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientServerTimestampResponse_descriptor,
-            new java.lang.String[] {
-              "ClientRequestTimestamp", "ServerTimestampMs",
-            });
-    internal_static_CMsgClientSecret_descriptor = getDescriptor().getMessageTypes().get(3);
-    internal_static_CMsgClientSecret_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientSecret_descriptor,
-            new java.lang.String[] {
-              "Version", "Appid", "Deviceid", "Nonce", "Hmac",
-            });
-    internal_static_CMsgClientHello_descriptor = getDescriptor().getMessageTypes().get(4);
-    internal_static_CMsgClientHello_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientHello_descriptor,
-            new java.lang.String[] {
-              "ProtocolVersion",
-            });
-    internal_static_CMsgClientLogon_descriptor = getDescriptor().getMessageTypes().get(5);
-    internal_static_CMsgClientLogon_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientLogon_descriptor,
-            new java.lang.String[] {
-              "ProtocolVersion",
-              "DeprecatedObfustucatedPrivateIp",
-              "CellId",
-              "LastSessionId",
-              "ClientPackageVersion",
-              "ClientLanguage",
-              "ClientOsType",
-              "ShouldRememberPassword",
-              "WineVersion",
-              "Deprecated10",
-              "ObfuscatedPrivateIp",
-              "DeprecatedPublicIp",
-              "QosLevel",
-              "ClientSuppliedSteamId",
-              "PublicIp",
-              "MachineId",
-              "LauncherType",
-              "UiMode",
-              "ChatMode",
-              "Steam2AuthTicket",
-              "EmailAddress",
-              "Rtime32AccountCreation",
-              "AccountName",
-              "Password",
-              "GameServerToken",
-              "LoginKey",
-              "WasConvertedDeprecatedMsg",
-              "AnonUserTargetAccountName",
-              "ResolvedUserSteamId",
-              "EresultSentryfile",
-              "ShaSentryfile",
-              "AuthCode",
-              "OtpType",
-              "OtpValue",
-              "OtpIdentifier",
-              "Steam2TicketRequest",
-              "SonyPsnTicket",
-              "SonyPsnServiceId",
-              "CreateNewPsnLinkedAccountIfNeeded",
-              "SonyPsnName",
-              "GameServerAppId",
-              "SteamguardDontRememberComputer",
-              "MachineName",
-              "MachineNameUserchosen",
-              "CountryOverride",
-              "IsSteamBox",
-              "ClientInstanceId",
-              "TwoFactorCode",
-              "SupportsRateLimitResponse",
-              "WebLogonNonce",
-              "PriorityReason",
-              "EmbeddedClientSecret",
-              "DisablePartnerAutogrants",
-              "IsSteamDeck",
-              "AccessToken",
-              "IsChromeOs",
-              "IsTesla",
-            });
-    internal_static_CMsgClientLogonResponse_descriptor = getDescriptor().getMessageTypes().get(6);
-    internal_static_CMsgClientLogonResponse_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientLogonResponse_descriptor,
-            new java.lang.String[] {
-              "Eresult",
-              "LegacyOutOfGameHeartbeatSeconds",
-              "HeartbeatSeconds",
-              "DeprecatedPublicIp",
-              "Rtime32ServerTime",
-              "AccountFlags",
-              "CellId",
-              "EmailDomain",
-              "Steam2Ticket",
-              "EresultExtended",
-              "CellIdPingThreshold",
-              "DeprecatedUsePics",
-              "VanityUrl",
-              "PublicIp",
-              "UserCountry",
-              "ClientSuppliedSteamid",
-              "IpCountryCode",
-              "ParentalSettings",
-              "ParentalSettingSignature",
-              "CountLoginfailuresToMigrate",
-              "CountDisconnectsToMigrate",
-              "OgsDataReportTimeWindow",
-              "ClientInstanceId",
-              "ForceClientUpdateCheck",
-              "AgreementSessionUrl",
-              "TokenId",
-              "FamilyGroupId",
-            });
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_CMsgClientServerTimestampResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientServerTimestampResponse_descriptor,
+        new java.lang.String[] { "ClientRequestTimestamp", "ServerTimestampMs", });
+    internal_static_CMsgClientSecret_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_CMsgClientSecret_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientSecret_descriptor,
+        new java.lang.String[] { "Version", "Appid", "Deviceid", "Nonce", "Hmac", });
+    internal_static_CMsgClientHello_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_CMsgClientHello_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientHello_descriptor,
+        new java.lang.String[] { "ProtocolVersion", });
+    internal_static_CMsgClientLogon_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_CMsgClientLogon_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientLogon_descriptor,
+        new java.lang.String[] { "ProtocolVersion", "DeprecatedObfustucatedPrivateIp", "CellId", "LastSessionId", "ClientPackageVersion", "ClientLanguage", "ClientOsType", "ShouldRememberPassword", "WineVersion", "Deprecated10", "ObfuscatedPrivateIp", "DeprecatedPublicIp", "QosLevel", "ClientSuppliedSteamId", "PublicIp", "MachineId", "LauncherType", "UiMode", "ChatMode", "Steam2AuthTicket", "EmailAddress", "Rtime32AccountCreation", "AccountName", "Password", "GameServerToken", "LoginKey", "WasConvertedDeprecatedMsg", "AnonUserTargetAccountName", "ResolvedUserSteamId", "EresultSentryfile", "ShaSentryfile", "AuthCode", "OtpType", "OtpValue", "OtpIdentifier", "Steam2TicketRequest", "SonyPsnTicket", "SonyPsnServiceId", "CreateNewPsnLinkedAccountIfNeeded", "SonyPsnName", "GameServerAppId", "SteamguardDontRememberComputer", "MachineName", "MachineNameUserchosen", "CountryOverride", "IsSteamBox", "ClientInstanceId", "TwoFactorCode", "SupportsRateLimitResponse", "WebLogonNonce", "PriorityReason", "EmbeddedClientSecret", "DisablePartnerAutogrants", "IsSteamDeck", "AccessToken", "IsChromeOs", "IsTesla", });
+    internal_static_CMsgClientLogonResponse_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_CMsgClientLogonResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientLogonResponse_descriptor,
+        new java.lang.String[] { "Eresult", "LegacyOutOfGameHeartbeatSeconds", "HeartbeatSeconds", "DeprecatedPublicIp", "Rtime32ServerTime", "AccountFlags", "CellId", "EmailDomain", "Steam2Ticket", "EresultExtended", "CellIdPingThreshold", "DeprecatedUsePics", "VanityUrl", "PublicIp", "UserCountry", "ClientSuppliedSteamid", "IpCountryCode", "ParentalSettings", "ParentalSettingSignature", "CountLoginfailuresToMigrate", "CountDisconnectsToMigrate", "OgsDataReportTimeWindow", "ClientInstanceId", "ForceClientUpdateCheck", "AgreementSessionUrl", "TokenId", "FamilyGroupId", });
     internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor =
-        getDescriptor().getMessageTypes().get(7);
-    internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor,
-            new java.lang.String[] {
-              "TokenType",
-            });
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientRequestWebAPIAuthenticateUserNonce_descriptor,
+        new java.lang.String[] { "TokenType", });
     internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor =
-        getDescriptor().getMessageTypes().get(8);
-    internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor,
-            new java.lang.String[] {
-              "Eresult", "WebapiAuthenticateUserNonce", "TokenType",
-            });
-    internal_static_CMsgClientLogOff_descriptor = getDescriptor().getMessageTypes().get(9);
-    internal_static_CMsgClientLogOff_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientLogOff_descriptor, new java.lang.String[] {});
-    internal_static_CMsgClientLoggedOff_descriptor = getDescriptor().getMessageTypes().get(10);
-    internal_static_CMsgClientLoggedOff_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientLoggedOff_descriptor,
-            new java.lang.String[] {
-              "Eresult",
-            });
-    internal_static_CMsgClientNewLoginKey_descriptor = getDescriptor().getMessageTypes().get(11);
-    internal_static_CMsgClientNewLoginKey_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientNewLoginKey_descriptor,
-            new java.lang.String[] {
-              "UniqueId", "LoginKey",
-            });
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientRequestWebAPIAuthenticateUserNonceResponse_descriptor,
+        new java.lang.String[] { "Eresult", "WebapiAuthenticateUserNonce", "TokenType", });
+    internal_static_CMsgClientLogOff_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_CMsgClientLogOff_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientLogOff_descriptor,
+        new java.lang.String[] { });
+    internal_static_CMsgClientLoggedOff_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_CMsgClientLoggedOff_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientLoggedOff_descriptor,
+        new java.lang.String[] { "Eresult", });
+    internal_static_CMsgClientNewLoginKey_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_CMsgClientNewLoginKey_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientNewLoginKey_descriptor,
+        new java.lang.String[] { "UniqueId", "LoginKey", });
     internal_static_CMsgClientNewLoginKeyAccepted_descriptor =
-        getDescriptor().getMessageTypes().get(12);
-    internal_static_CMsgClientNewLoginKeyAccepted_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientNewLoginKeyAccepted_descriptor,
-            new java.lang.String[] {
-              "UniqueId",
-            });
-    internal_static_CMsgClientAccountInfo_descriptor = getDescriptor().getMessageTypes().get(13);
-    internal_static_CMsgClientAccountInfo_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientAccountInfo_descriptor,
-            new java.lang.String[] {
-              "PersonaName",
-              "IpCountry",
-              "CountAuthedComputers",
-              "AccountFlags",
-              "FacebookId",
-              "FacebookName",
-              "SteamguardMachineNameUserChosen",
-              "IsPhoneVerified",
-              "TwoFactorState",
-              "IsPhoneIdentifying",
-              "IsPhoneNeedingReverify",
-            });
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_CMsgClientNewLoginKeyAccepted_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientNewLoginKeyAccepted_descriptor,
+        new java.lang.String[] { "UniqueId", });
+    internal_static_CMsgClientAccountInfo_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_CMsgClientAccountInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientAccountInfo_descriptor,
+        new java.lang.String[] { "PersonaName", "IpCountry", "CountAuthedComputers", "AccountFlags", "FacebookId", "FacebookName", "SteamguardMachineNameUserChosen", "IsPhoneVerified", "TwoFactorState", "IsPhoneIdentifying", "IsPhoneNeedingReverify", });
     internal_static_CMsgClientChallengeRequest_descriptor =
-        getDescriptor().getMessageTypes().get(14);
-    internal_static_CMsgClientChallengeRequest_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientChallengeRequest_descriptor,
-            new java.lang.String[] {
-              "Steamid",
-            });
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_CMsgClientChallengeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientChallengeRequest_descriptor,
+        new java.lang.String[] { "Steamid", });
     internal_static_CMsgClientChallengeResponse_descriptor =
-        getDescriptor().getMessageTypes().get(15);
-    internal_static_CMsgClientChallengeResponse_fieldAccessorTable =
-        new com.google.protobuf.GeneratedMessage.FieldAccessorTable(
-            internal_static_CMsgClientChallengeResponse_descriptor,
-            new java.lang.String[] {
-              "Challenge",
-            });
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_CMsgClientChallengeResponse_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CMsgClientChallengeResponse_descriptor,
+        new java.lang.String[] { "Challenge", });
     descriptor.resolveAllFeaturesImmutable();
-    SteammessagesBase.getDescriptor();
+    com.javasteam.protobufs.SteammessagesBase.getDescriptor();
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -0,0 +1,19531 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: steammessages_econ.steamclient.proto
+// Protobuf Java Version: 4.26.1
+
+package com.javasteam.protobufs;
+
+public final class SteammessagesEconSteamclient {
+  private SteammessagesEconSteamclient() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      SteammessagesEconSteamclient.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface CEcon_GetInventoryItemsWithDescriptions_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_GetInventoryItemsWithDescriptions_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional fixed64 steamid = 1;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional fixed64 steamid = 1;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 contextid = 3;</code>
+     * @return Whether the contextid field is set.
+     */
+    boolean hasContextid();
+    /**
+     * <code>optional uint64 contextid = 3;</code>
+     * @return The contextid.
+     */
+    long getContextid();
+
+    /**
+     * <code>optional bool get_descriptions = 4;</code>
+     * @return Whether the getDescriptions field is set.
+     */
+    boolean hasGetDescriptions();
+    /**
+     * <code>optional bool get_descriptions = 4;</code>
+     * @return The getDescriptions.
+     */
+    boolean getGetDescriptions();
+
+    /**
+     * <code>optional bool for_trade_offer_verification = 10;</code>
+     * @return Whether the forTradeOfferVerification field is set.
+     */
+    boolean hasForTradeOfferVerification();
+    /**
+     * <code>optional bool for_trade_offer_verification = 10;</code>
+     * @return The forTradeOfferVerification.
+     */
+    boolean getForTradeOfferVerification();
+
+    /**
+     * <code>optional string language = 5;</code>
+     * @return Whether the language field is set.
+     */
+    boolean hasLanguage();
+    /**
+     * <code>optional string language = 5;</code>
+     * @return The language.
+     */
+    java.lang.String getLanguage();
+    /**
+     * <code>optional string language = 5;</code>
+     * @return The bytes for language.
+     */
+    com.google.protobuf.ByteString
+        getLanguageBytes();
+
+    /**
+     * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+     * @return Whether the filters field is set.
+     */
+    boolean hasFilters();
+    /**
+     * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+     * @return The filters.
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions getFilters();
+    /**
+     * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptionsOrBuilder getFiltersOrBuilder();
+
+    /**
+     * <code>optional uint64 start_assetid = 8;</code>
+     * @return Whether the startAssetid field is set.
+     */
+    boolean hasStartAssetid();
+    /**
+     * <code>optional uint64 start_assetid = 8;</code>
+     * @return The startAssetid.
+     */
+    long getStartAssetid();
+
+    /**
+     * <code>optional int32 count = 9;</code>
+     * @return Whether the count field is set.
+     */
+    boolean hasCount();
+    /**
+     * <code>optional int32 count = 9;</code>
+     * @return The count.
+     */
+    int getCount();
+  }
+  /**
+   * Protobuf type {@code CEcon_GetInventoryItemsWithDescriptions_Request}
+   */
+  public static final class CEcon_GetInventoryItemsWithDescriptions_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_GetInventoryItemsWithDescriptions_Request)
+      CEcon_GetInventoryItemsWithDescriptions_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_GetInventoryItemsWithDescriptions_Request.class.getName());
+    }
+    // Use CEcon_GetInventoryItemsWithDescriptions_Request.newBuilder() to construct.
+    private CEcon_GetInventoryItemsWithDescriptions_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_GetInventoryItemsWithDescriptions_Request() {
+      language_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.Builder.class);
+    }
+
+    public interface FilterOptionsOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>repeated uint64 assetids = 1;</code>
+       * @return A list containing the assetids.
+       */
+      java.util.List<java.lang.Long> getAssetidsList();
+      /**
+       * <code>repeated uint64 assetids = 1;</code>
+       * @return The count of assetids.
+       */
+      int getAssetidsCount();
+      /**
+       * <code>repeated uint64 assetids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The assetids at the given index.
+       */
+      long getAssetids(int index);
+
+      /**
+       * <code>repeated uint32 currencyids = 2;</code>
+       * @return A list containing the currencyids.
+       */
+      java.util.List<java.lang.Integer> getCurrencyidsList();
+      /**
+       * <code>repeated uint32 currencyids = 2;</code>
+       * @return The count of currencyids.
+       */
+      int getCurrencyidsCount();
+      /**
+       * <code>repeated uint32 currencyids = 2;</code>
+       * @param index The index of the element to return.
+       * @return The currencyids at the given index.
+       */
+      int getCurrencyids(int index);
+
+      /**
+       * <code>optional bool tradable_only = 3;</code>
+       * @return Whether the tradableOnly field is set.
+       */
+      boolean hasTradableOnly();
+      /**
+       * <code>optional bool tradable_only = 3;</code>
+       * @return The tradableOnly.
+       */
+      boolean getTradableOnly();
+
+      /**
+       * <code>optional bool marketable_only = 4;</code>
+       * @return Whether the marketableOnly field is set.
+       */
+      boolean hasMarketableOnly();
+      /**
+       * <code>optional bool marketable_only = 4;</code>
+       * @return The marketableOnly.
+       */
+      boolean getMarketableOnly();
+    }
+    /**
+     * Protobuf type {@code CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions}
+     */
+    public static final class FilterOptions extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions)
+        FilterOptionsOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 26,
+          /* patch= */ 1,
+          /* suffix= */ "",
+          FilterOptions.class.getName());
+      }
+      // Use FilterOptions.newBuilder() to construct.
+      private FilterOptions(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private FilterOptions() {
+        assetids_ = emptyLongList();
+        currencyids_ = emptyIntList();
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int ASSETIDS_FIELD_NUMBER = 1;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.Internal.LongList assetids_ =
+          emptyLongList();
+      /**
+       * <code>repeated uint64 assetids = 1;</code>
+       * @return A list containing the assetids.
+       */
+      @java.lang.Override
+      public java.util.List<java.lang.Long>
+          getAssetidsList() {
+        return assetids_;
+      }
+      /**
+       * <code>repeated uint64 assetids = 1;</code>
+       * @return The count of assetids.
+       */
+      public int getAssetidsCount() {
+        return assetids_.size();
+      }
+      /**
+       * <code>repeated uint64 assetids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The assetids at the given index.
+       */
+      public long getAssetids(int index) {
+        return assetids_.getLong(index);
+      }
+
+      public static final int CURRENCYIDS_FIELD_NUMBER = 2;
+      @SuppressWarnings("serial")
+      private com.google.protobuf.Internal.IntList currencyids_ =
+          emptyIntList();
+      /**
+       * <code>repeated uint32 currencyids = 2;</code>
+       * @return A list containing the currencyids.
+       */
+      @java.lang.Override
+      public java.util.List<java.lang.Integer>
+          getCurrencyidsList() {
+        return currencyids_;
+      }
+      /**
+       * <code>repeated uint32 currencyids = 2;</code>
+       * @return The count of currencyids.
+       */
+      public int getCurrencyidsCount() {
+        return currencyids_.size();
+      }
+      /**
+       * <code>repeated uint32 currencyids = 2;</code>
+       * @param index The index of the element to return.
+       * @return The currencyids at the given index.
+       */
+      public int getCurrencyids(int index) {
+        return currencyids_.getInt(index);
+      }
+
+      public static final int TRADABLE_ONLY_FIELD_NUMBER = 3;
+      private boolean tradableOnly_ = false;
+      /**
+       * <code>optional bool tradable_only = 3;</code>
+       * @return Whether the tradableOnly field is set.
+       */
+      @java.lang.Override
+      public boolean hasTradableOnly() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional bool tradable_only = 3;</code>
+       * @return The tradableOnly.
+       */
+      @java.lang.Override
+      public boolean getTradableOnly() {
+        return tradableOnly_;
+      }
+
+      public static final int MARKETABLE_ONLY_FIELD_NUMBER = 4;
+      private boolean marketableOnly_ = false;
+      /**
+       * <code>optional bool marketable_only = 4;</code>
+       * @return Whether the marketableOnly field is set.
+       */
+      @java.lang.Override
+      public boolean hasMarketableOnly() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bool marketable_only = 4;</code>
+       * @return The marketableOnly.
+       */
+      @java.lang.Override
+      public boolean getMarketableOnly() {
+        return marketableOnly_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        for (int i = 0; i < assetids_.size(); i++) {
+          output.writeUInt64(1, assetids_.getLong(i));
+        }
+        for (int i = 0; i < currencyids_.size(); i++) {
+          output.writeUInt32(2, currencyids_.getInt(i));
+        }
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeBool(3, tradableOnly_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeBool(4, marketableOnly_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        {
+          int dataSize = 0;
+          for (int i = 0; i < assetids_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeUInt64SizeNoTag(assetids_.getLong(i));
+          }
+          size += dataSize;
+          size += 1 * getAssetidsList().size();
+        }
+        {
+          int dataSize = 0;
+          for (int i = 0; i < currencyids_.size(); i++) {
+            dataSize += com.google.protobuf.CodedOutputStream
+              .computeUInt32SizeNoTag(currencyids_.getInt(i));
+          }
+          size += dataSize;
+          size += 1 * getCurrencyidsList().size();
+        }
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(3, tradableOnly_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(4, marketableOnly_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions)) {
+          return super.equals(obj);
+        }
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions) obj;
+
+        if (!getAssetidsList()
+            .equals(other.getAssetidsList())) return false;
+        if (!getCurrencyidsList()
+            .equals(other.getCurrencyidsList())) return false;
+        if (hasTradableOnly() != other.hasTradableOnly()) return false;
+        if (hasTradableOnly()) {
+          if (getTradableOnly()
+              != other.getTradableOnly()) return false;
+        }
+        if (hasMarketableOnly() != other.hasMarketableOnly()) return false;
+        if (hasMarketableOnly()) {
+          if (getMarketableOnly()
+              != other.getMarketableOnly()) return false;
+        }
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (getAssetidsCount() > 0) {
+          hash = (37 * hash) + ASSETIDS_FIELD_NUMBER;
+          hash = (53 * hash) + getAssetidsList().hashCode();
+        }
+        if (getCurrencyidsCount() > 0) {
+          hash = (37 * hash) + CURRENCYIDS_FIELD_NUMBER;
+          hash = (53 * hash) + getCurrencyidsList().hashCode();
+        }
+        if (hasTradableOnly()) {
+          hash = (37 * hash) + TRADABLE_ONLY_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+              getTradableOnly());
+        }
+        if (hasMarketableOnly()) {
+          hash = (37 * hash) + MARKETABLE_ONLY_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+              getMarketableOnly());
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions)
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptionsOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.Builder.class);
+        }
+
+        // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          assetids_ = emptyLongList();
+          currencyids_ = emptyIntList();
+          tradableOnly_ = false;
+          marketableOnly_ = false;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_descriptor;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions getDefaultInstanceForType() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions build() {
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions buildPartial() {
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions result) {
+          int from_bitField0_ = bitField0_;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            assetids_.makeImmutable();
+            result.assetids_ = assetids_;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            currencyids_.makeImmutable();
+            result.currencyids_ = currencyids_;
+          }
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.tradableOnly_ = tradableOnly_;
+            to_bitField0_ |= 0x00000001;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.marketableOnly_ = marketableOnly_;
+            to_bitField0_ |= 0x00000002;
+          }
+          result.bitField0_ |= to_bitField0_;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions) {
+            return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions other) {
+          if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.getDefaultInstance()) return this;
+          if (!other.assetids_.isEmpty()) {
+            if (assetids_.isEmpty()) {
+              assetids_ = other.assetids_;
+              assetids_.makeImmutable();
+              bitField0_ |= 0x00000001;
+            } else {
+              ensureAssetidsIsMutable();
+              assetids_.addAll(other.assetids_);
+            }
+            onChanged();
+          }
+          if (!other.currencyids_.isEmpty()) {
+            if (currencyids_.isEmpty()) {
+              currencyids_ = other.currencyids_;
+              currencyids_.makeImmutable();
+              bitField0_ |= 0x00000002;
+            } else {
+              ensureCurrencyidsIsMutable();
+              currencyids_.addAll(other.currencyids_);
+            }
+            onChanged();
+          }
+          if (other.hasTradableOnly()) {
+            setTradableOnly(other.getTradableOnly());
+          }
+          if (other.hasMarketableOnly()) {
+            setMarketableOnly(other.getMarketableOnly());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 8: {
+                  long v = input.readUInt64();
+                  ensureAssetidsIsMutable();
+                  assetids_.addLong(v);
+                  break;
+                } // case 8
+                case 10: {
+                  int length = input.readRawVarint32();
+                  int limit = input.pushLimit(length);
+                  ensureAssetidsIsMutable();
+                  while (input.getBytesUntilLimit() > 0) {
+                    assetids_.addLong(input.readUInt64());
+                  }
+                  input.popLimit(limit);
+                  break;
+                } // case 10
+                case 16: {
+                  int v = input.readUInt32();
+                  ensureCurrencyidsIsMutable();
+                  currencyids_.addInt(v);
+                  break;
+                } // case 16
+                case 18: {
+                  int length = input.readRawVarint32();
+                  int limit = input.pushLimit(length);
+                  ensureCurrencyidsIsMutable();
+                  while (input.getBytesUntilLimit() > 0) {
+                    currencyids_.addInt(input.readUInt32());
+                  }
+                  input.popLimit(limit);
+                  break;
+                } // case 18
+                case 24: {
+                  tradableOnly_ = input.readBool();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 24
+                case 32: {
+                  marketableOnly_ = input.readBool();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 32
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private com.google.protobuf.Internal.LongList assetids_ = emptyLongList();
+        private void ensureAssetidsIsMutable() {
+          if (!assetids_.isModifiable()) {
+            assetids_ = makeMutableCopy(assetids_);
+          }
+          bitField0_ |= 0x00000001;
+        }
+        /**
+         * <code>repeated uint64 assetids = 1;</code>
+         * @return A list containing the assetids.
+         */
+        public java.util.List<java.lang.Long>
+            getAssetidsList() {
+          assetids_.makeImmutable();
+          return assetids_;
+        }
+        /**
+         * <code>repeated uint64 assetids = 1;</code>
+         * @return The count of assetids.
+         */
+        public int getAssetidsCount() {
+          return assetids_.size();
+        }
+        /**
+         * <code>repeated uint64 assetids = 1;</code>
+         * @param index The index of the element to return.
+         * @return The assetids at the given index.
+         */
+        public long getAssetids(int index) {
+          return assetids_.getLong(index);
+        }
+        /**
+         * <code>repeated uint64 assetids = 1;</code>
+         * @param index The index to set the value at.
+         * @param value The assetids to set.
+         * @return This builder for chaining.
+         */
+        public Builder setAssetids(
+            int index, long value) {
+
+          ensureAssetidsIsMutable();
+          assetids_.setLong(index, value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint64 assetids = 1;</code>
+         * @param value The assetids to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAssetids(long value) {
+
+          ensureAssetidsIsMutable();
+          assetids_.addLong(value);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint64 assetids = 1;</code>
+         * @param values The assetids to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllAssetids(
+            java.lang.Iterable<? extends java.lang.Long> values) {
+          ensureAssetidsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, assetids_);
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint64 assetids = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearAssetids() {
+          assetids_ = emptyLongList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+          return this;
+        }
+
+        private com.google.protobuf.Internal.IntList currencyids_ = emptyIntList();
+        private void ensureCurrencyidsIsMutable() {
+          if (!currencyids_.isModifiable()) {
+            currencyids_ = makeMutableCopy(currencyids_);
+          }
+          bitField0_ |= 0x00000002;
+        }
+        /**
+         * <code>repeated uint32 currencyids = 2;</code>
+         * @return A list containing the currencyids.
+         */
+        public java.util.List<java.lang.Integer>
+            getCurrencyidsList() {
+          currencyids_.makeImmutable();
+          return currencyids_;
+        }
+        /**
+         * <code>repeated uint32 currencyids = 2;</code>
+         * @return The count of currencyids.
+         */
+        public int getCurrencyidsCount() {
+          return currencyids_.size();
+        }
+        /**
+         * <code>repeated uint32 currencyids = 2;</code>
+         * @param index The index of the element to return.
+         * @return The currencyids at the given index.
+         */
+        public int getCurrencyids(int index) {
+          return currencyids_.getInt(index);
+        }
+        /**
+         * <code>repeated uint32 currencyids = 2;</code>
+         * @param index The index to set the value at.
+         * @param value The currencyids to set.
+         * @return This builder for chaining.
+         */
+        public Builder setCurrencyids(
+            int index, int value) {
+
+          ensureCurrencyidsIsMutable();
+          currencyids_.setInt(index, value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 currencyids = 2;</code>
+         * @param value The currencyids to add.
+         * @return This builder for chaining.
+         */
+        public Builder addCurrencyids(int value) {
+
+          ensureCurrencyidsIsMutable();
+          currencyids_.addInt(value);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 currencyids = 2;</code>
+         * @param values The currencyids to add.
+         * @return This builder for chaining.
+         */
+        public Builder addAllCurrencyids(
+            java.lang.Iterable<? extends java.lang.Integer> values) {
+          ensureCurrencyidsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, currencyids_);
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>repeated uint32 currencyids = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearCurrencyids() {
+          currencyids_ = emptyIntList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+          return this;
+        }
+
+        private boolean tradableOnly_ ;
+        /**
+         * <code>optional bool tradable_only = 3;</code>
+         * @return Whether the tradableOnly field is set.
+         */
+        @java.lang.Override
+        public boolean hasTradableOnly() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <code>optional bool tradable_only = 3;</code>
+         * @return The tradableOnly.
+         */
+        @java.lang.Override
+        public boolean getTradableOnly() {
+          return tradableOnly_;
+        }
+        /**
+         * <code>optional bool tradable_only = 3;</code>
+         * @param value The tradableOnly to set.
+         * @return This builder for chaining.
+         */
+        public Builder setTradableOnly(boolean value) {
+
+          tradableOnly_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool tradable_only = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearTradableOnly() {
+          bitField0_ = (bitField0_ & ~0x00000004);
+          tradableOnly_ = false;
+          onChanged();
+          return this;
+        }
+
+        private boolean marketableOnly_ ;
+        /**
+         * <code>optional bool marketable_only = 4;</code>
+         * @return Whether the marketableOnly field is set.
+         */
+        @java.lang.Override
+        public boolean hasMarketableOnly() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <code>optional bool marketable_only = 4;</code>
+         * @return The marketableOnly.
+         */
+        @java.lang.Override
+        public boolean getMarketableOnly() {
+          return marketableOnly_;
+        }
+        /**
+         * <code>optional bool marketable_only = 4;</code>
+         * @param value The marketableOnly to set.
+         * @return This builder for chaining.
+         */
+        public Builder setMarketableOnly(boolean value) {
+
+          marketableOnly_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool marketable_only = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearMarketableOnly() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          marketableOnly_ = false;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions)
+      }
+
+      // @@protoc_insertion_point(class_scope:CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions)
+      private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions();
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<FilterOptions>
+          PARSER = new com.google.protobuf.AbstractParser<FilterOptions>() {
+        @java.lang.Override
+        public FilterOptions parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<FilterOptions> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<FilterOptions> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int STEAMID_FIELD_NUMBER = 1;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional fixed64 steamid = 1;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional fixed64 steamid = 1;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    public static final int APPID_FIELD_NUMBER = 2;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int CONTEXTID_FIELD_NUMBER = 3;
+    private long contextid_ = 0L;
+    /**
+     * <code>optional uint64 contextid = 3;</code>
+     * @return Whether the contextid field is set.
+     */
+    @java.lang.Override
+    public boolean hasContextid() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint64 contextid = 3;</code>
+     * @return The contextid.
+     */
+    @java.lang.Override
+    public long getContextid() {
+      return contextid_;
+    }
+
+    public static final int GET_DESCRIPTIONS_FIELD_NUMBER = 4;
+    private boolean getDescriptions_ = false;
+    /**
+     * <code>optional bool get_descriptions = 4;</code>
+     * @return Whether the getDescriptions field is set.
+     */
+    @java.lang.Override
+    public boolean hasGetDescriptions() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional bool get_descriptions = 4;</code>
+     * @return The getDescriptions.
+     */
+    @java.lang.Override
+    public boolean getGetDescriptions() {
+      return getDescriptions_;
+    }
+
+    public static final int FOR_TRADE_OFFER_VERIFICATION_FIELD_NUMBER = 10;
+    private boolean forTradeOfferVerification_ = false;
+    /**
+     * <code>optional bool for_trade_offer_verification = 10;</code>
+     * @return Whether the forTradeOfferVerification field is set.
+     */
+    @java.lang.Override
+    public boolean hasForTradeOfferVerification() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional bool for_trade_offer_verification = 10;</code>
+     * @return The forTradeOfferVerification.
+     */
+    @java.lang.Override
+    public boolean getForTradeOfferVerification() {
+      return forTradeOfferVerification_;
+    }
+
+    public static final int LANGUAGE_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object language_ = "";
+    /**
+     * <code>optional string language = 5;</code>
+     * @return Whether the language field is set.
+     */
+    @java.lang.Override
+    public boolean hasLanguage() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string language = 5;</code>
+     * @return The language.
+     */
+    @java.lang.Override
+    public java.lang.String getLanguage() {
+      java.lang.Object ref = language_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          language_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string language = 5;</code>
+     * @return The bytes for language.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLanguageBytes() {
+      java.lang.Object ref = language_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        language_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int FILTERS_FIELD_NUMBER = 6;
+    private com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters_;
+    /**
+     * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+     * @return Whether the filters field is set.
+     */
+    @java.lang.Override
+    public boolean hasFilters() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+     * @return The filters.
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions getFilters() {
+      return filters_ == null ? com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.getDefaultInstance() : filters_;
+    }
+    /**
+     * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptionsOrBuilder getFiltersOrBuilder() {
+      return filters_ == null ? com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.getDefaultInstance() : filters_;
+    }
+
+    public static final int START_ASSETID_FIELD_NUMBER = 8;
+    private long startAssetid_ = 0L;
+    /**
+     * <code>optional uint64 start_assetid = 8;</code>
+     * @return Whether the startAssetid field is set.
+     */
+    @java.lang.Override
+    public boolean hasStartAssetid() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional uint64 start_assetid = 8;</code>
+     * @return The startAssetid.
+     */
+    @java.lang.Override
+    public long getStartAssetid() {
+      return startAssetid_;
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 9;
+    private int count_ = 0;
+    /**
+     * <code>optional int32 count = 9;</code>
+     * @return Whether the count field is set.
+     */
+    @java.lang.Override
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional int32 count = 9;</code>
+     * @return The count.
+     */
+    @java.lang.Override
+    public int getCount() {
+      return count_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeFixed64(1, steamid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt32(2, appid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, contextid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(4, getDescriptions_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, language_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeMessage(6, getFilters());
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeUInt64(8, startAssetid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt32(9, count_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeBool(10, forTradeOfferVerification_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(1, steamid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, appid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, contextid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, getDescriptions_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, language_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, getFilters());
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(8, startAssetid_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, count_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(10, forTradeOfferVerification_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request) obj;
+
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasContextid() != other.hasContextid()) return false;
+      if (hasContextid()) {
+        if (getContextid()
+            != other.getContextid()) return false;
+      }
+      if (hasGetDescriptions() != other.hasGetDescriptions()) return false;
+      if (hasGetDescriptions()) {
+        if (getGetDescriptions()
+            != other.getGetDescriptions()) return false;
+      }
+      if (hasForTradeOfferVerification() != other.hasForTradeOfferVerification()) return false;
+      if (hasForTradeOfferVerification()) {
+        if (getForTradeOfferVerification()
+            != other.getForTradeOfferVerification()) return false;
+      }
+      if (hasLanguage() != other.hasLanguage()) return false;
+      if (hasLanguage()) {
+        if (!getLanguage()
+            .equals(other.getLanguage())) return false;
+      }
+      if (hasFilters() != other.hasFilters()) return false;
+      if (hasFilters()) {
+        if (!getFilters()
+            .equals(other.getFilters())) return false;
+      }
+      if (hasStartAssetid() != other.hasStartAssetid()) return false;
+      if (hasStartAssetid()) {
+        if (getStartAssetid()
+            != other.getStartAssetid()) return false;
+      }
+      if (hasCount() != other.hasCount()) return false;
+      if (hasCount()) {
+        if (getCount()
+            != other.getCount()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasContextid()) {
+        hash = (37 * hash) + CONTEXTID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getContextid());
+      }
+      if (hasGetDescriptions()) {
+        hash = (37 * hash) + GET_DESCRIPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getGetDescriptions());
+      }
+      if (hasForTradeOfferVerification()) {
+        hash = (37 * hash) + FOR_TRADE_OFFER_VERIFICATION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getForTradeOfferVerification());
+      }
+      if (hasLanguage()) {
+        hash = (37 * hash) + LANGUAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getLanguage().hashCode();
+      }
+      if (hasFilters()) {
+        hash = (37 * hash) + FILTERS_FIELD_NUMBER;
+        hash = (53 * hash) + getFilters().hashCode();
+      }
+      if (hasStartAssetid()) {
+        hash = (37 * hash) + START_ASSETID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getStartAssetid());
+      }
+      if (hasCount()) {
+        hash = (37 * hash) + COUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getCount();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_GetInventoryItemsWithDescriptions_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_GetInventoryItemsWithDescriptions_Request)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getFiltersFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        steamid_ = 0L;
+        appid_ = 0;
+        contextid_ = 0L;
+        getDescriptions_ = false;
+        forTradeOfferVerification_ = false;
+        language_ = "";
+        filters_ = null;
+        if (filtersBuilder_ != null) {
+          filtersBuilder_.dispose();
+          filtersBuilder_ = null;
+        }
+        startAssetid_ = 0L;
+        count_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.contextid_ = contextid_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.getDescriptions_ = getDescriptions_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.forTradeOfferVerification_ = forTradeOfferVerification_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.language_ = language_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.filters_ = filtersBuilder_ == null
+              ? filters_
+              : filtersBuilder_.build();
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.startAssetid_ = startAssetid_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.count_ = count_;
+          to_bitField0_ |= 0x00000100;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.getDefaultInstance()) return this;
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasContextid()) {
+          setContextid(other.getContextid());
+        }
+        if (other.hasGetDescriptions()) {
+          setGetDescriptions(other.getGetDescriptions());
+        }
+        if (other.hasForTradeOfferVerification()) {
+          setForTradeOfferVerification(other.getForTradeOfferVerification());
+        }
+        if (other.hasLanguage()) {
+          language_ = other.language_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (other.hasFilters()) {
+          mergeFilters(other.getFilters());
+        }
+        if (other.hasStartAssetid()) {
+          setStartAssetid(other.getStartAssetid());
+        }
+        if (other.hasCount()) {
+          setCount(other.getCount());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 9: {
+                steamid_ = input.readFixed64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 9
+              case 16: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                contextid_ = input.readUInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                getDescriptions_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                language_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 42
+              case 50: {
+                input.readMessage(
+                    getFiltersFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 50
+              case 64: {
+                startAssetid_ = input.readUInt64();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 72: {
+                count_ = input.readInt32();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 80: {
+                forTradeOfferVerification_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 80
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long steamid_ ;
+      /**
+       * <code>optional fixed64 steamid = 1;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional fixed64 steamid = 1;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional fixed64 steamid = 1;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed64 steamid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long contextid_ ;
+      /**
+       * <code>optional uint64 contextid = 3;</code>
+       * @return Whether the contextid field is set.
+       */
+      @java.lang.Override
+      public boolean hasContextid() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional uint64 contextid = 3;</code>
+       * @return The contextid.
+       */
+      @java.lang.Override
+      public long getContextid() {
+        return contextid_;
+      }
+      /**
+       * <code>optional uint64 contextid = 3;</code>
+       * @param value The contextid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContextid(long value) {
+
+        contextid_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 contextid = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContextid() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        contextid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean getDescriptions_ ;
+      /**
+       * <code>optional bool get_descriptions = 4;</code>
+       * @return Whether the getDescriptions field is set.
+       */
+      @java.lang.Override
+      public boolean hasGetDescriptions() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional bool get_descriptions = 4;</code>
+       * @return The getDescriptions.
+       */
+      @java.lang.Override
+      public boolean getGetDescriptions() {
+        return getDescriptions_;
+      }
+      /**
+       * <code>optional bool get_descriptions = 4;</code>
+       * @param value The getDescriptions to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGetDescriptions(boolean value) {
+
+        getDescriptions_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool get_descriptions = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGetDescriptions() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        getDescriptions_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean forTradeOfferVerification_ ;
+      /**
+       * <code>optional bool for_trade_offer_verification = 10;</code>
+       * @return Whether the forTradeOfferVerification field is set.
+       */
+      @java.lang.Override
+      public boolean hasForTradeOfferVerification() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional bool for_trade_offer_verification = 10;</code>
+       * @return The forTradeOfferVerification.
+       */
+      @java.lang.Override
+      public boolean getForTradeOfferVerification() {
+        return forTradeOfferVerification_;
+      }
+      /**
+       * <code>optional bool for_trade_offer_verification = 10;</code>
+       * @param value The forTradeOfferVerification to set.
+       * @return This builder for chaining.
+       */
+      public Builder setForTradeOfferVerification(boolean value) {
+
+        forTradeOfferVerification_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool for_trade_offer_verification = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearForTradeOfferVerification() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        forTradeOfferVerification_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object language_ = "";
+      /**
+       * <code>optional string language = 5;</code>
+       * @return Whether the language field is set.
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional string language = 5;</code>
+       * @return The language.
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string language = 5;</code>
+       * @return The bytes for language.
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string language = 5;</code>
+       * @param value The language to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLanguage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        language_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string language = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLanguage() {
+        language_ = getDefaultInstance().getLanguage();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string language = 5;</code>
+       * @param value The bytes for language to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLanguageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        language_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptionsOrBuilder> filtersBuilder_;
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       * @return Whether the filters field is set.
+       */
+      public boolean hasFilters() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       * @return The filters.
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions getFilters() {
+        if (filtersBuilder_ == null) {
+          return filters_ == null ? com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.getDefaultInstance() : filters_;
+        } else {
+          return filtersBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       */
+      public Builder setFilters(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions value) {
+        if (filtersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          filters_ = value;
+        } else {
+          filtersBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       */
+      public Builder setFilters(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.Builder builderForValue) {
+        if (filtersBuilder_ == null) {
+          filters_ = builderForValue.build();
+        } else {
+          filtersBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       */
+      public Builder mergeFilters(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions value) {
+        if (filtersBuilder_ == null) {
+          if (((bitField0_ & 0x00000040) != 0) &&
+            filters_ != null &&
+            filters_ != com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.getDefaultInstance()) {
+            getFiltersBuilder().mergeFrom(value);
+          } else {
+            filters_ = value;
+          }
+        } else {
+          filtersBuilder_.mergeFrom(value);
+        }
+        if (filters_ != null) {
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       */
+      public Builder clearFilters() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        filters_ = null;
+        if (filtersBuilder_ != null) {
+          filtersBuilder_.dispose();
+          filtersBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.Builder getFiltersBuilder() {
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return getFiltersFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptionsOrBuilder getFiltersOrBuilder() {
+        if (filtersBuilder_ != null) {
+          return filtersBuilder_.getMessageOrBuilder();
+        } else {
+          return filters_ == null ?
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.getDefaultInstance() : filters_;
+        }
+      }
+      /**
+       * <code>optional .CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions filters = 6;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptionsOrBuilder> 
+          getFiltersFieldBuilder() {
+        if (filtersBuilder_ == null) {
+          filtersBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptions.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request.FilterOptionsOrBuilder>(
+                  getFilters(),
+                  getParentForChildren(),
+                  isClean());
+          filters_ = null;
+        }
+        return filtersBuilder_;
+      }
+
+      private long startAssetid_ ;
+      /**
+       * <code>optional uint64 start_assetid = 8;</code>
+       * @return Whether the startAssetid field is set.
+       */
+      @java.lang.Override
+      public boolean hasStartAssetid() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional uint64 start_assetid = 8;</code>
+       * @return The startAssetid.
+       */
+      @java.lang.Override
+      public long getStartAssetid() {
+        return startAssetid_;
+      }
+      /**
+       * <code>optional uint64 start_assetid = 8;</code>
+       * @param value The startAssetid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setStartAssetid(long value) {
+
+        startAssetid_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 start_assetid = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearStartAssetid() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        startAssetid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int count_ ;
+      /**
+       * <code>optional int32 count = 9;</code>
+       * @return Whether the count field is set.
+       */
+      @java.lang.Override
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional int32 count = 9;</code>
+       * @return The count.
+       */
+      @java.lang.Override
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <code>optional int32 count = 9;</code>
+       * @param value The count to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCount(int value) {
+
+        count_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 count = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        count_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_GetInventoryItemsWithDescriptions_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_GetInventoryItemsWithDescriptions_Request)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_GetInventoryItemsWithDescriptions_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_GetInventoryItemsWithDescriptions_Request>() {
+      @java.lang.Override
+      public CEcon_GetInventoryItemsWithDescriptions_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_GetInventoryItemsWithDescriptions_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_GetInventoryItemsWithDescriptions_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_AssetOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_Asset)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 contextid = 2;</code>
+     * @return Whether the contextid field is set.
+     */
+    boolean hasContextid();
+    /**
+     * <code>optional uint64 contextid = 2;</code>
+     * @return The contextid.
+     */
+    long getContextid();
+
+    /**
+     * <code>optional uint64 assetid = 3;</code>
+     * @return Whether the assetid field is set.
+     */
+    boolean hasAssetid();
+    /**
+     * <code>optional uint64 assetid = 3;</code>
+     * @return The assetid.
+     */
+    long getAssetid();
+
+    /**
+     * <code>optional uint64 classid = 4;</code>
+     * @return Whether the classid field is set.
+     */
+    boolean hasClassid();
+    /**
+     * <code>optional uint64 classid = 4;</code>
+     * @return The classid.
+     */
+    long getClassid();
+
+    /**
+     * <code>optional uint64 instanceid = 5;</code>
+     * @return Whether the instanceid field is set.
+     */
+    boolean hasInstanceid();
+    /**
+     * <code>optional uint64 instanceid = 5;</code>
+     * @return The instanceid.
+     */
+    long getInstanceid();
+
+    /**
+     * <code>optional uint32 currencyid = 6;</code>
+     * @return Whether the currencyid field is set.
+     */
+    boolean hasCurrencyid();
+    /**
+     * <code>optional uint32 currencyid = 6;</code>
+     * @return The currencyid.
+     */
+    int getCurrencyid();
+
+    /**
+     * <code>optional int64 amount = 7;</code>
+     * @return Whether the amount field is set.
+     */
+    boolean hasAmount();
+    /**
+     * <code>optional int64 amount = 7;</code>
+     * @return The amount.
+     */
+    long getAmount();
+
+    /**
+     * <code>optional bool missing = 8;</code>
+     * @return Whether the missing field is set.
+     */
+    boolean hasMissing();
+    /**
+     * <code>optional bool missing = 8;</code>
+     * @return The missing.
+     */
+    boolean getMissing();
+
+    /**
+     * <code>optional int64 est_usd = 9;</code>
+     * @return Whether the estUsd field is set.
+     */
+    boolean hasEstUsd();
+    /**
+     * <code>optional int64 est_usd = 9;</code>
+     * @return The estUsd.
+     */
+    long getEstUsd();
+  }
+  /**
+   * Protobuf type {@code CEcon_Asset}
+   */
+  public static final class CEcon_Asset extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_Asset)
+      CEcon_AssetOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_Asset.class.getName());
+    }
+    // Use CEcon_Asset.newBuilder() to construct.
+    private CEcon_Asset(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_Asset() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_Asset_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_Asset_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int CONTEXTID_FIELD_NUMBER = 2;
+    private long contextid_ = 0L;
+    /**
+     * <code>optional uint64 contextid = 2;</code>
+     * @return Whether the contextid field is set.
+     */
+    @java.lang.Override
+    public boolean hasContextid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 contextid = 2;</code>
+     * @return The contextid.
+     */
+    @java.lang.Override
+    public long getContextid() {
+      return contextid_;
+    }
+
+    public static final int ASSETID_FIELD_NUMBER = 3;
+    private long assetid_ = 0L;
+    /**
+     * <code>optional uint64 assetid = 3;</code>
+     * @return Whether the assetid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAssetid() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint64 assetid = 3;</code>
+     * @return The assetid.
+     */
+    @java.lang.Override
+    public long getAssetid() {
+      return assetid_;
+    }
+
+    public static final int CLASSID_FIELD_NUMBER = 4;
+    private long classid_ = 0L;
+    /**
+     * <code>optional uint64 classid = 4;</code>
+     * @return Whether the classid field is set.
+     */
+    @java.lang.Override
+    public boolean hasClassid() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional uint64 classid = 4;</code>
+     * @return The classid.
+     */
+    @java.lang.Override
+    public long getClassid() {
+      return classid_;
+    }
+
+    public static final int INSTANCEID_FIELD_NUMBER = 5;
+    private long instanceid_ = 0L;
+    /**
+     * <code>optional uint64 instanceid = 5;</code>
+     * @return Whether the instanceid field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstanceid() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional uint64 instanceid = 5;</code>
+     * @return The instanceid.
+     */
+    @java.lang.Override
+    public long getInstanceid() {
+      return instanceid_;
+    }
+
+    public static final int CURRENCYID_FIELD_NUMBER = 6;
+    private int currencyid_ = 0;
+    /**
+     * <code>optional uint32 currencyid = 6;</code>
+     * @return Whether the currencyid field is set.
+     */
+    @java.lang.Override
+    public boolean hasCurrencyid() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional uint32 currencyid = 6;</code>
+     * @return The currencyid.
+     */
+    @java.lang.Override
+    public int getCurrencyid() {
+      return currencyid_;
+    }
+
+    public static final int AMOUNT_FIELD_NUMBER = 7;
+    private long amount_ = 0L;
+    /**
+     * <code>optional int64 amount = 7;</code>
+     * @return Whether the amount field is set.
+     */
+    @java.lang.Override
+    public boolean hasAmount() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional int64 amount = 7;</code>
+     * @return The amount.
+     */
+    @java.lang.Override
+    public long getAmount() {
+      return amount_;
+    }
+
+    public static final int MISSING_FIELD_NUMBER = 8;
+    private boolean missing_ = false;
+    /**
+     * <code>optional bool missing = 8;</code>
+     * @return Whether the missing field is set.
+     */
+    @java.lang.Override
+    public boolean hasMissing() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional bool missing = 8;</code>
+     * @return The missing.
+     */
+    @java.lang.Override
+    public boolean getMissing() {
+      return missing_;
+    }
+
+    public static final int EST_USD_FIELD_NUMBER = 9;
+    private long estUsd_ = 0L;
+    /**
+     * <code>optional int64 est_usd = 9;</code>
+     * @return Whether the estUsd field is set.
+     */
+    @java.lang.Override
+    public boolean hasEstUsd() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional int64 est_usd = 9;</code>
+     * @return The estUsd.
+     */
+    @java.lang.Override
+    public long getEstUsd() {
+      return estUsd_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, contextid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, assetid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeUInt64(4, classid_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeUInt64(5, instanceid_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeUInt32(6, currencyid_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        output.writeInt64(7, amount_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeBool(8, missing_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        output.writeInt64(9, estUsd_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, contextid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, assetid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, classid_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, instanceid_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, currencyid_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(7, amount_);
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, missing_);
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(9, estUsd_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasContextid() != other.hasContextid()) return false;
+      if (hasContextid()) {
+        if (getContextid()
+            != other.getContextid()) return false;
+      }
+      if (hasAssetid() != other.hasAssetid()) return false;
+      if (hasAssetid()) {
+        if (getAssetid()
+            != other.getAssetid()) return false;
+      }
+      if (hasClassid() != other.hasClassid()) return false;
+      if (hasClassid()) {
+        if (getClassid()
+            != other.getClassid()) return false;
+      }
+      if (hasInstanceid() != other.hasInstanceid()) return false;
+      if (hasInstanceid()) {
+        if (getInstanceid()
+            != other.getInstanceid()) return false;
+      }
+      if (hasCurrencyid() != other.hasCurrencyid()) return false;
+      if (hasCurrencyid()) {
+        if (getCurrencyid()
+            != other.getCurrencyid()) return false;
+      }
+      if (hasAmount() != other.hasAmount()) return false;
+      if (hasAmount()) {
+        if (getAmount()
+            != other.getAmount()) return false;
+      }
+      if (hasMissing() != other.hasMissing()) return false;
+      if (hasMissing()) {
+        if (getMissing()
+            != other.getMissing()) return false;
+      }
+      if (hasEstUsd() != other.hasEstUsd()) return false;
+      if (hasEstUsd()) {
+        if (getEstUsd()
+            != other.getEstUsd()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasContextid()) {
+        hash = (37 * hash) + CONTEXTID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getContextid());
+      }
+      if (hasAssetid()) {
+        hash = (37 * hash) + ASSETID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getAssetid());
+      }
+      if (hasClassid()) {
+        hash = (37 * hash) + CLASSID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClassid());
+      }
+      if (hasInstanceid()) {
+        hash = (37 * hash) + INSTANCEID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getInstanceid());
+      }
+      if (hasCurrencyid()) {
+        hash = (37 * hash) + CURRENCYID_FIELD_NUMBER;
+        hash = (53 * hash) + getCurrencyid();
+      }
+      if (hasAmount()) {
+        hash = (37 * hash) + AMOUNT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getAmount());
+      }
+      if (hasMissing()) {
+        hash = (37 * hash) + MISSING_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getMissing());
+      }
+      if (hasEstUsd()) {
+        hash = (37 * hash) + EST_USD_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getEstUsd());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_Asset}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_Asset)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_Asset_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_Asset_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        contextid_ = 0L;
+        assetid_ = 0L;
+        classid_ = 0L;
+        instanceid_ = 0L;
+        currencyid_ = 0;
+        amount_ = 0L;
+        missing_ = false;
+        estUsd_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_Asset_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.contextid_ = contextid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.assetid_ = assetid_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.classid_ = classid_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.instanceid_ = instanceid_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.currencyid_ = currencyid_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.amount_ = amount_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.missing_ = missing_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.estUsd_ = estUsd_;
+          to_bitField0_ |= 0x00000100;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasContextid()) {
+          setContextid(other.getContextid());
+        }
+        if (other.hasAssetid()) {
+          setAssetid(other.getAssetid());
+        }
+        if (other.hasClassid()) {
+          setClassid(other.getClassid());
+        }
+        if (other.hasInstanceid()) {
+          setInstanceid(other.getInstanceid());
+        }
+        if (other.hasCurrencyid()) {
+          setCurrencyid(other.getCurrencyid());
+        }
+        if (other.hasAmount()) {
+          setAmount(other.getAmount());
+        }
+        if (other.hasMissing()) {
+          setMissing(other.getMissing());
+        }
+        if (other.hasEstUsd()) {
+          setEstUsd(other.getEstUsd());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                contextid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                assetid_ = input.readUInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                classid_ = input.readUInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                instanceid_ = input.readUInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                currencyid_ = input.readUInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                amount_ = input.readInt64();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                missing_ = input.readBool();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              case 72: {
+                estUsd_ = input.readInt64();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long contextid_ ;
+      /**
+       * <code>optional uint64 contextid = 2;</code>
+       * @return Whether the contextid field is set.
+       */
+      @java.lang.Override
+      public boolean hasContextid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 contextid = 2;</code>
+       * @return The contextid.
+       */
+      @java.lang.Override
+      public long getContextid() {
+        return contextid_;
+      }
+      /**
+       * <code>optional uint64 contextid = 2;</code>
+       * @param value The contextid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setContextid(long value) {
+
+        contextid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 contextid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearContextid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        contextid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long assetid_ ;
+      /**
+       * <code>optional uint64 assetid = 3;</code>
+       * @return Whether the assetid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAssetid() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional uint64 assetid = 3;</code>
+       * @return The assetid.
+       */
+      @java.lang.Override
+      public long getAssetid() {
+        return assetid_;
+      }
+      /**
+       * <code>optional uint64 assetid = 3;</code>
+       * @param value The assetid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAssetid(long value) {
+
+        assetid_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 assetid = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAssetid() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        assetid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long classid_ ;
+      /**
+       * <code>optional uint64 classid = 4;</code>
+       * @return Whether the classid field is set.
+       */
+      @java.lang.Override
+      public boolean hasClassid() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional uint64 classid = 4;</code>
+       * @return The classid.
+       */
+      @java.lang.Override
+      public long getClassid() {
+        return classid_;
+      }
+      /**
+       * <code>optional uint64 classid = 4;</code>
+       * @param value The classid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassid(long value) {
+
+        classid_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 classid = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClassid() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        classid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long instanceid_ ;
+      /**
+       * <code>optional uint64 instanceid = 5;</code>
+       * @return Whether the instanceid field is set.
+       */
+      @java.lang.Override
+      public boolean hasInstanceid() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional uint64 instanceid = 5;</code>
+       * @return The instanceid.
+       */
+      @java.lang.Override
+      public long getInstanceid() {
+        return instanceid_;
+      }
+      /**
+       * <code>optional uint64 instanceid = 5;</code>
+       * @param value The instanceid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceid(long value) {
+
+        instanceid_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 instanceid = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInstanceid() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        instanceid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int currencyid_ ;
+      /**
+       * <code>optional uint32 currencyid = 6;</code>
+       * @return Whether the currencyid field is set.
+       */
+      @java.lang.Override
+      public boolean hasCurrencyid() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional uint32 currencyid = 6;</code>
+       * @return The currencyid.
+       */
+      @java.lang.Override
+      public int getCurrencyid() {
+        return currencyid_;
+      }
+      /**
+       * <code>optional uint32 currencyid = 6;</code>
+       * @param value The currencyid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCurrencyid(int value) {
+
+        currencyid_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 currencyid = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCurrencyid() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        currencyid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long amount_ ;
+      /**
+       * <code>optional int64 amount = 7;</code>
+       * @return Whether the amount field is set.
+       */
+      @java.lang.Override
+      public boolean hasAmount() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional int64 amount = 7;</code>
+       * @return The amount.
+       */
+      @java.lang.Override
+      public long getAmount() {
+        return amount_;
+      }
+      /**
+       * <code>optional int64 amount = 7;</code>
+       * @param value The amount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAmount(long value) {
+
+        amount_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 amount = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAmount() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        amount_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean missing_ ;
+      /**
+       * <code>optional bool missing = 8;</code>
+       * @return Whether the missing field is set.
+       */
+      @java.lang.Override
+      public boolean hasMissing() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional bool missing = 8;</code>
+       * @return The missing.
+       */
+      @java.lang.Override
+      public boolean getMissing() {
+        return missing_;
+      }
+      /**
+       * <code>optional bool missing = 8;</code>
+       * @param value The missing to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMissing(boolean value) {
+
+        missing_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool missing = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMissing() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        missing_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long estUsd_ ;
+      /**
+       * <code>optional int64 est_usd = 9;</code>
+       * @return Whether the estUsd field is set.
+       */
+      @java.lang.Override
+      public boolean hasEstUsd() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional int64 est_usd = 9;</code>
+       * @return The estUsd.
+       */
+      @java.lang.Override
+      public long getEstUsd() {
+        return estUsd_;
+      }
+      /**
+       * <code>optional int64 est_usd = 9;</code>
+       * @param value The estUsd to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEstUsd(long value) {
+
+        estUsd_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 est_usd = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEstUsd() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        estUsd_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_Asset)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_Asset)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_Asset>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_Asset>() {
+      @java.lang.Override
+      public CEcon_Asset parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_Asset> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_Asset> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEconItem_DescriptionLineOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEconItem_DescriptionLine)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string type = 1;</code>
+     * @return Whether the type field is set.
+     */
+    boolean hasType();
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>optional string value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    boolean hasValue();
+    /**
+     * <code>optional string value = 2;</code>
+     * @return The value.
+     */
+    java.lang.String getValue();
+    /**
+     * <code>optional string value = 2;</code>
+     * @return The bytes for value.
+     */
+    com.google.protobuf.ByteString
+        getValueBytes();
+
+    /**
+     * <code>optional string color = 3;</code>
+     * @return Whether the color field is set.
+     */
+    boolean hasColor();
+    /**
+     * <code>optional string color = 3;</code>
+     * @return The color.
+     */
+    java.lang.String getColor();
+    /**
+     * <code>optional string color = 3;</code>
+     * @return The bytes for color.
+     */
+    com.google.protobuf.ByteString
+        getColorBytes();
+
+    /**
+     * <code>optional string label = 4;</code>
+     * @return Whether the label field is set.
+     */
+    boolean hasLabel();
+    /**
+     * <code>optional string label = 4;</code>
+     * @return The label.
+     */
+    java.lang.String getLabel();
+    /**
+     * <code>optional string label = 4;</code>
+     * @return The bytes for label.
+     */
+    com.google.protobuf.ByteString
+        getLabelBytes();
+  }
+  /**
+   * Protobuf type {@code CEconItem_DescriptionLine}
+   */
+  public static final class CEconItem_DescriptionLine extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEconItem_DescriptionLine)
+      CEconItem_DescriptionLineOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEconItem_DescriptionLine.class.getName());
+    }
+    // Use CEconItem_DescriptionLine.newBuilder() to construct.
+    private CEconItem_DescriptionLine(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEconItem_DescriptionLine() {
+      type_ = "";
+      value_ = "";
+      color_ = "";
+      label_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_DescriptionLine_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_DescriptionLine_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <code>optional string type = 1;</code>
+     * @return Whether the type field is set.
+     */
+    @java.lang.Override
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string type = 1;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VALUE_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object value_ = "";
+    /**
+     * <code>optional string value = 2;</code>
+     * @return Whether the value field is set.
+     */
+    @java.lang.Override
+    public boolean hasValue() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string value = 2;</code>
+     * @return The value.
+     */
+    @java.lang.Override
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string value = 2;</code>
+     * @return The bytes for value.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLOR_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object color_ = "";
+    /**
+     * <code>optional string color = 3;</code>
+     * @return Whether the color field is set.
+     */
+    @java.lang.Override
+    public boolean hasColor() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string color = 3;</code>
+     * @return The color.
+     */
+    @java.lang.Override
+    public java.lang.String getColor() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          color_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string color = 3;</code>
+     * @return The bytes for color.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getColorBytes() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        color_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LABEL_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object label_ = "";
+    /**
+     * <code>optional string label = 4;</code>
+     * @return Whether the label field is set.
+     */
+    @java.lang.Override
+    public boolean hasLabel() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string label = 4;</code>
+     * @return The label.
+     */
+    @java.lang.Override
+    public java.lang.String getLabel() {
+      java.lang.Object ref = label_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          label_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string label = 4;</code>
+     * @return The bytes for label.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLabelBytes() {
+      java.lang.Object ref = label_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        label_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, type_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, color_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, label_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, type_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, value_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, color_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, label_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine) obj;
+
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (!getType()
+            .equals(other.getType())) return false;
+      }
+      if (hasValue() != other.hasValue()) return false;
+      if (hasValue()) {
+        if (!getValue()
+            .equals(other.getValue())) return false;
+      }
+      if (hasColor() != other.hasColor()) return false;
+      if (hasColor()) {
+        if (!getColor()
+            .equals(other.getColor())) return false;
+      }
+      if (hasLabel() != other.hasLabel()) return false;
+      if (hasLabel()) {
+        if (!getLabel()
+            .equals(other.getLabel())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+      }
+      if (hasValue()) {
+        hash = (37 * hash) + VALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getValue().hashCode();
+      }
+      if (hasColor()) {
+        hash = (37 * hash) + COLOR_FIELD_NUMBER;
+        hash = (53 * hash) + getColor().hashCode();
+      }
+      if (hasLabel()) {
+        hash = (37 * hash) + LABEL_FIELD_NUMBER;
+        hash = (53 * hash) + getLabel().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEconItem_DescriptionLine}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEconItem_DescriptionLine)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_DescriptionLine_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_DescriptionLine_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        type_ = "";
+        value_ = "";
+        color_ = "";
+        label_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_DescriptionLine_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.type_ = type_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.value_ = value_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.color_ = color_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.label_ = label_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.getDefaultInstance()) return this;
+        if (other.hasType()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasValue()) {
+          value_ = other.value_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasColor()) {
+          color_ = other.color_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasLabel()) {
+          label_ = other.label_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                type_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                value_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                color_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                label_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>optional string type = 1;</code>
+       * @return Whether the type field is set.
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            type_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 1;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object value_ = "";
+      /**
+       * <code>optional string value = 2;</code>
+       * @return Whether the value field is set.
+       */
+      public boolean hasValue() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       * @return The value.
+       */
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            value_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       * @return The bytes for value.
+       */
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       * @param value The value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        value_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearValue() {
+        value_ = getDefaultInstance().getValue();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string value = 2;</code>
+       * @param value The bytes for value to set.
+       * @return This builder for chaining.
+       */
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        value_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object color_ = "";
+      /**
+       * <code>optional string color = 3;</code>
+       * @return Whether the color field is set.
+       */
+      public boolean hasColor() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string color = 3;</code>
+       * @return The color.
+       */
+      public java.lang.String getColor() {
+        java.lang.Object ref = color_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            color_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string color = 3;</code>
+       * @return The bytes for color.
+       */
+      public com.google.protobuf.ByteString
+          getColorBytes() {
+        java.lang.Object ref = color_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          color_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string color = 3;</code>
+       * @param value The color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        color_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string color = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearColor() {
+        color_ = getDefaultInstance().getColor();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string color = 3;</code>
+       * @param value The bytes for color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        color_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object label_ = "";
+      /**
+       * <code>optional string label = 4;</code>
+       * @return Whether the label field is set.
+       */
+      public boolean hasLabel() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string label = 4;</code>
+       * @return The label.
+       */
+      public java.lang.String getLabel() {
+        java.lang.Object ref = label_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            label_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string label = 4;</code>
+       * @return The bytes for label.
+       */
+      public com.google.protobuf.ByteString
+          getLabelBytes() {
+        java.lang.Object ref = label_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          label_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string label = 4;</code>
+       * @param value The label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabel(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        label_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string label = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLabel() {
+        label_ = getDefaultInstance().getLabel();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string label = 4;</code>
+       * @param value The bytes for label to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLabelBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        label_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEconItem_DescriptionLine)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEconItem_DescriptionLine)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEconItem_DescriptionLine>
+        PARSER = new com.google.protobuf.AbstractParser<CEconItem_DescriptionLine>() {
+      @java.lang.Override
+      public CEconItem_DescriptionLine parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEconItem_DescriptionLine> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEconItem_DescriptionLine> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEconItem_ActionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEconItem_Action)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string link = 1;</code>
+     * @return Whether the link field is set.
+     */
+    boolean hasLink();
+    /**
+     * <code>optional string link = 1;</code>
+     * @return The link.
+     */
+    java.lang.String getLink();
+    /**
+     * <code>optional string link = 1;</code>
+     * @return The bytes for link.
+     */
+    com.google.protobuf.ByteString
+        getLinkBytes();
+
+    /**
+     * <code>optional string name = 2;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>optional string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+  }
+  /**
+   * Protobuf type {@code CEconItem_Action}
+   */
+  public static final class CEconItem_Action extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEconItem_Action)
+      CEconItem_ActionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEconItem_Action.class.getName());
+    }
+    // Use CEconItem_Action.newBuilder() to construct.
+    private CEconItem_Action(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEconItem_Action() {
+      link_ = "";
+      name_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Action_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Action_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int LINK_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object link_ = "";
+    /**
+     * <code>optional string link = 1;</code>
+     * @return Whether the link field is set.
+     */
+    @java.lang.Override
+    public boolean hasLink() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string link = 1;</code>
+     * @return The link.
+     */
+    @java.lang.Override
+    public java.lang.String getLink() {
+      java.lang.Object ref = link_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          link_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string link = 1;</code>
+     * @return The bytes for link.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLinkBytes() {
+      java.lang.Object ref = link_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        link_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>optional string name = 2;</code>
+     * @return Whether the name field is set.
+     */
+    @java.lang.Override
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, link_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, name_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, link_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, name_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action) obj;
+
+      if (hasLink() != other.hasLink()) return false;
+      if (hasLink()) {
+        if (!getLink()
+            .equals(other.getLink())) return false;
+      }
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasLink()) {
+        hash = (37 * hash) + LINK_FIELD_NUMBER;
+        hash = (53 * hash) + getLink().hashCode();
+      }
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEconItem_Action}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEconItem_Action)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Action_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Action_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        link_ = "";
+        name_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Action_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.link_ = link_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.name_ = name_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance()) return this;
+        if (other.hasLink()) {
+          link_ = other.link_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasName()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                link_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 18: {
+                name_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object link_ = "";
+      /**
+       * <code>optional string link = 1;</code>
+       * @return Whether the link field is set.
+       */
+      public boolean hasLink() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string link = 1;</code>
+       * @return The link.
+       */
+      public java.lang.String getLink() {
+        java.lang.Object ref = link_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            link_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string link = 1;</code>
+       * @return The bytes for link.
+       */
+      public com.google.protobuf.ByteString
+          getLinkBytes() {
+        java.lang.Object ref = link_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          link_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string link = 1;</code>
+       * @param value The link to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLink(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        link_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string link = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLink() {
+        link_ = getDefaultInstance().getLink();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string link = 1;</code>
+       * @param value The bytes for link to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLinkBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        link_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 2;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEconItem_Action)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEconItem_Action)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEconItem_Action>
+        PARSER = new com.google.protobuf.AbstractParser<CEconItem_Action>() {
+      @java.lang.Override
+      public CEconItem_Action parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEconItem_Action> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEconItem_Action> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEconItem_DescriptionOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEconItem_Description)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional int32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 classid = 2;</code>
+     * @return Whether the classid field is set.
+     */
+    boolean hasClassid();
+    /**
+     * <code>optional uint64 classid = 2;</code>
+     * @return The classid.
+     */
+    long getClassid();
+
+    /**
+     * <code>optional uint64 instanceid = 3;</code>
+     * @return Whether the instanceid field is set.
+     */
+    boolean hasInstanceid();
+    /**
+     * <code>optional uint64 instanceid = 3;</code>
+     * @return The instanceid.
+     */
+    long getInstanceid();
+
+    /**
+     * <code>optional bool currency = 4;</code>
+     * @return Whether the currency field is set.
+     */
+    boolean hasCurrency();
+    /**
+     * <code>optional bool currency = 4;</code>
+     * @return The currency.
+     */
+    boolean getCurrency();
+
+    /**
+     * <code>optional string background_color = 5;</code>
+     * @return Whether the backgroundColor field is set.
+     */
+    boolean hasBackgroundColor();
+    /**
+     * <code>optional string background_color = 5;</code>
+     * @return The backgroundColor.
+     */
+    java.lang.String getBackgroundColor();
+    /**
+     * <code>optional string background_color = 5;</code>
+     * @return The bytes for backgroundColor.
+     */
+    com.google.protobuf.ByteString
+        getBackgroundColorBytes();
+
+    /**
+     * <code>optional string icon_url = 6;</code>
+     * @return Whether the iconUrl field is set.
+     */
+    boolean hasIconUrl();
+    /**
+     * <code>optional string icon_url = 6;</code>
+     * @return The iconUrl.
+     */
+    java.lang.String getIconUrl();
+    /**
+     * <code>optional string icon_url = 6;</code>
+     * @return The bytes for iconUrl.
+     */
+    com.google.protobuf.ByteString
+        getIconUrlBytes();
+
+    /**
+     * <code>optional string icon_url_large = 7;</code>
+     * @return Whether the iconUrlLarge field is set.
+     */
+    boolean hasIconUrlLarge();
+    /**
+     * <code>optional string icon_url_large = 7;</code>
+     * @return The iconUrlLarge.
+     */
+    java.lang.String getIconUrlLarge();
+    /**
+     * <code>optional string icon_url_large = 7;</code>
+     * @return The bytes for iconUrlLarge.
+     */
+    com.google.protobuf.ByteString
+        getIconUrlLargeBytes();
+
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> 
+        getDescriptionsList();
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getDescriptions(int index);
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    int getDescriptionsCount();
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+        getDescriptionsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder getDescriptionsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool tradable = 9;</code>
+     * @return Whether the tradable field is set.
+     */
+    boolean hasTradable();
+    /**
+     * <code>optional bool tradable = 9;</code>
+     * @return The tradable.
+     */
+    boolean getTradable();
+
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> 
+        getActionsList();
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getActions(int index);
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    int getActionsCount();
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+        getActionsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getActionsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> 
+        getOwnerDescriptionsList();
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getOwnerDescriptions(int index);
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    int getOwnerDescriptionsCount();
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+        getOwnerDescriptionsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder getOwnerDescriptionsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> 
+        getOwnerActionsList();
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getOwnerActions(int index);
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    int getOwnerActionsCount();
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+        getOwnerActionsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getOwnerActionsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @return A list containing the fraudwarnings.
+     */
+    java.util.List<java.lang.String>
+        getFraudwarningsList();
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @return The count of fraudwarnings.
+     */
+    int getFraudwarningsCount();
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @param index The index of the element to return.
+     * @return The fraudwarnings at the given index.
+     */
+    java.lang.String getFraudwarnings(int index);
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the fraudwarnings at the given index.
+     */
+    com.google.protobuf.ByteString
+        getFraudwarningsBytes(int index);
+
+    /**
+     * <code>optional string name = 14;</code>
+     * @return Whether the name field is set.
+     */
+    boolean hasName();
+    /**
+     * <code>optional string name = 14;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>optional string name = 14;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>optional string name_color = 15;</code>
+     * @return Whether the nameColor field is set.
+     */
+    boolean hasNameColor();
+    /**
+     * <code>optional string name_color = 15;</code>
+     * @return The nameColor.
+     */
+    java.lang.String getNameColor();
+    /**
+     * <code>optional string name_color = 15;</code>
+     * @return The bytes for nameColor.
+     */
+    com.google.protobuf.ByteString
+        getNameColorBytes();
+
+    /**
+     * <code>optional string type = 16;</code>
+     * @return Whether the type field is set.
+     */
+    boolean hasType();
+    /**
+     * <code>optional string type = 16;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>optional string type = 16;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>optional string market_name = 17;</code>
+     * @return Whether the marketName field is set.
+     */
+    boolean hasMarketName();
+    /**
+     * <code>optional string market_name = 17;</code>
+     * @return The marketName.
+     */
+    java.lang.String getMarketName();
+    /**
+     * <code>optional string market_name = 17;</code>
+     * @return The bytes for marketName.
+     */
+    com.google.protobuf.ByteString
+        getMarketNameBytes();
+
+    /**
+     * <code>optional string market_hash_name = 18;</code>
+     * @return Whether the marketHashName field is set.
+     */
+    boolean hasMarketHashName();
+    /**
+     * <code>optional string market_hash_name = 18;</code>
+     * @return The marketHashName.
+     */
+    java.lang.String getMarketHashName();
+    /**
+     * <code>optional string market_hash_name = 18;</code>
+     * @return The bytes for marketHashName.
+     */
+    com.google.protobuf.ByteString
+        getMarketHashNameBytes();
+
+    /**
+     * <code>optional string market_fee = 19;</code>
+     * @return Whether the marketFee field is set.
+     */
+    boolean hasMarketFee();
+    /**
+     * <code>optional string market_fee = 19;</code>
+     * @return The marketFee.
+     */
+    java.lang.String getMarketFee();
+    /**
+     * <code>optional string market_fee = 19;</code>
+     * @return The bytes for marketFee.
+     */
+    com.google.protobuf.ByteString
+        getMarketFeeBytes();
+
+    /**
+     * <code>optional int32 market_fee_app = 28;</code>
+     * @return Whether the marketFeeApp field is set.
+     */
+    boolean hasMarketFeeApp();
+    /**
+     * <code>optional int32 market_fee_app = 28;</code>
+     * @return The marketFeeApp.
+     */
+    int getMarketFeeApp();
+
+    /**
+     * <code>optional .CEconItem_Description contained_item = 20;</code>
+     * @return Whether the containedItem field is set.
+     */
+    boolean hasContainedItem();
+    /**
+     * <code>optional .CEconItem_Description contained_item = 20;</code>
+     * @return The containedItem.
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getContainedItem();
+    /**
+     * <code>optional .CEconItem_Description contained_item = 20;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getContainedItemOrBuilder();
+
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> 
+        getMarketActionsList();
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getMarketActions(int index);
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    int getMarketActionsCount();
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+        getMarketActionsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getMarketActionsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool commodity = 22;</code>
+     * @return Whether the commodity field is set.
+     */
+    boolean hasCommodity();
+    /**
+     * <code>optional bool commodity = 22;</code>
+     * @return The commodity.
+     */
+    boolean getCommodity();
+
+    /**
+     * <code>optional int32 market_tradable_restriction = 23;</code>
+     * @return Whether the marketTradableRestriction field is set.
+     */
+    boolean hasMarketTradableRestriction();
+    /**
+     * <code>optional int32 market_tradable_restriction = 23;</code>
+     * @return The marketTradableRestriction.
+     */
+    int getMarketTradableRestriction();
+
+    /**
+     * <code>optional int32 market_marketable_restriction = 24;</code>
+     * @return Whether the marketMarketableRestriction field is set.
+     */
+    boolean hasMarketMarketableRestriction();
+    /**
+     * <code>optional int32 market_marketable_restriction = 24;</code>
+     * @return The marketMarketableRestriction.
+     */
+    int getMarketMarketableRestriction();
+
+    /**
+     * <code>optional bool marketable = 25;</code>
+     * @return Whether the marketable field is set.
+     */
+    boolean hasMarketable();
+    /**
+     * <code>optional bool marketable = 25;</code>
+     * @return The marketable.
+     */
+    boolean getMarketable();
+
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag> 
+        getTagsList();
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag getTags(int index);
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    int getTagsCount();
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder> 
+        getTagsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder getTagsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional string item_expiration = 27;</code>
+     * @return Whether the itemExpiration field is set.
+     */
+    boolean hasItemExpiration();
+    /**
+     * <code>optional string item_expiration = 27;</code>
+     * @return The itemExpiration.
+     */
+    java.lang.String getItemExpiration();
+    /**
+     * <code>optional string item_expiration = 27;</code>
+     * @return The bytes for itemExpiration.
+     */
+    com.google.protobuf.ByteString
+        getItemExpirationBytes();
+
+    /**
+     * <code>optional string market_buy_country_restriction = 30;</code>
+     * @return Whether the marketBuyCountryRestriction field is set.
+     */
+    boolean hasMarketBuyCountryRestriction();
+    /**
+     * <code>optional string market_buy_country_restriction = 30;</code>
+     * @return The marketBuyCountryRestriction.
+     */
+    java.lang.String getMarketBuyCountryRestriction();
+    /**
+     * <code>optional string market_buy_country_restriction = 30;</code>
+     * @return The bytes for marketBuyCountryRestriction.
+     */
+    com.google.protobuf.ByteString
+        getMarketBuyCountryRestrictionBytes();
+
+    /**
+     * <code>optional string market_sell_country_restriction = 31;</code>
+     * @return Whether the marketSellCountryRestriction field is set.
+     */
+    boolean hasMarketSellCountryRestriction();
+    /**
+     * <code>optional string market_sell_country_restriction = 31;</code>
+     * @return The marketSellCountryRestriction.
+     */
+    java.lang.String getMarketSellCountryRestriction();
+    /**
+     * <code>optional string market_sell_country_restriction = 31;</code>
+     * @return The bytes for marketSellCountryRestriction.
+     */
+    com.google.protobuf.ByteString
+        getMarketSellCountryRestrictionBytes();
+  }
+  /**
+   * Protobuf type {@code CEconItem_Description}
+   */
+  public static final class CEconItem_Description extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEconItem_Description)
+      CEconItem_DescriptionOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEconItem_Description.class.getName());
+    }
+    // Use CEconItem_Description.newBuilder() to construct.
+    private CEconItem_Description(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEconItem_Description() {
+      backgroundColor_ = "";
+      iconUrl_ = "";
+      iconUrlLarge_ = "";
+      descriptions_ = java.util.Collections.emptyList();
+      actions_ = java.util.Collections.emptyList();
+      ownerDescriptions_ = java.util.Collections.emptyList();
+      ownerActions_ = java.util.Collections.emptyList();
+      fraudwarnings_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      name_ = "";
+      nameColor_ = "";
+      type_ = "";
+      marketName_ = "";
+      marketHashName_ = "";
+      marketFee_ = "";
+      marketActions_ = java.util.Collections.emptyList();
+      tags_ = java.util.Collections.emptyList();
+      itemExpiration_ = "";
+      marketBuyCountryRestriction_ = "";
+      marketSellCountryRestriction_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Description_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Description_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional int32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int CLASSID_FIELD_NUMBER = 2;
+    private long classid_ = 0L;
+    /**
+     * <code>optional uint64 classid = 2;</code>
+     * @return Whether the classid field is set.
+     */
+    @java.lang.Override
+    public boolean hasClassid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 classid = 2;</code>
+     * @return The classid.
+     */
+    @java.lang.Override
+    public long getClassid() {
+      return classid_;
+    }
+
+    public static final int INSTANCEID_FIELD_NUMBER = 3;
+    private long instanceid_ = 0L;
+    /**
+     * <code>optional uint64 instanceid = 3;</code>
+     * @return Whether the instanceid field is set.
+     */
+    @java.lang.Override
+    public boolean hasInstanceid() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint64 instanceid = 3;</code>
+     * @return The instanceid.
+     */
+    @java.lang.Override
+    public long getInstanceid() {
+      return instanceid_;
+    }
+
+    public static final int CURRENCY_FIELD_NUMBER = 4;
+    private boolean currency_ = false;
+    /**
+     * <code>optional bool currency = 4;</code>
+     * @return Whether the currency field is set.
+     */
+    @java.lang.Override
+    public boolean hasCurrency() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional bool currency = 4;</code>
+     * @return The currency.
+     */
+    @java.lang.Override
+    public boolean getCurrency() {
+      return currency_;
+    }
+
+    public static final int BACKGROUND_COLOR_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object backgroundColor_ = "";
+    /**
+     * <code>optional string background_color = 5;</code>
+     * @return Whether the backgroundColor field is set.
+     */
+    @java.lang.Override
+    public boolean hasBackgroundColor() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string background_color = 5;</code>
+     * @return The backgroundColor.
+     */
+    @java.lang.Override
+    public java.lang.String getBackgroundColor() {
+      java.lang.Object ref = backgroundColor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          backgroundColor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string background_color = 5;</code>
+     * @return The bytes for backgroundColor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getBackgroundColorBytes() {
+      java.lang.Object ref = backgroundColor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        backgroundColor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ICON_URL_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object iconUrl_ = "";
+    /**
+     * <code>optional string icon_url = 6;</code>
+     * @return Whether the iconUrl field is set.
+     */
+    @java.lang.Override
+    public boolean hasIconUrl() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string icon_url = 6;</code>
+     * @return The iconUrl.
+     */
+    @java.lang.Override
+    public java.lang.String getIconUrl() {
+      java.lang.Object ref = iconUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          iconUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string icon_url = 6;</code>
+     * @return The bytes for iconUrl.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIconUrlBytes() {
+      java.lang.Object ref = iconUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        iconUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ICON_URL_LARGE_FIELD_NUMBER = 7;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object iconUrlLarge_ = "";
+    /**
+     * <code>optional string icon_url_large = 7;</code>
+     * @return Whether the iconUrlLarge field is set.
+     */
+    @java.lang.Override
+    public boolean hasIconUrlLarge() {
+      return ((bitField0_ & 0x00000040) != 0);
+    }
+    /**
+     * <code>optional string icon_url_large = 7;</code>
+     * @return The iconUrlLarge.
+     */
+    @java.lang.Override
+    public java.lang.String getIconUrlLarge() {
+      java.lang.Object ref = iconUrlLarge_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          iconUrlLarge_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string icon_url_large = 7;</code>
+     * @return The bytes for iconUrlLarge.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIconUrlLargeBytes() {
+      java.lang.Object ref = iconUrlLarge_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        iconUrlLarge_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int DESCRIPTIONS_FIELD_NUMBER = 8;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> descriptions_;
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> getDescriptionsList() {
+      return descriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+        getDescriptionsOrBuilderList() {
+      return descriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    @java.lang.Override
+    public int getDescriptionsCount() {
+      return descriptions_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getDescriptions(int index) {
+      return descriptions_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder getDescriptionsOrBuilder(
+        int index) {
+      return descriptions_.get(index);
+    }
+
+    public static final int TRADABLE_FIELD_NUMBER = 9;
+    private boolean tradable_ = false;
+    /**
+     * <code>optional bool tradable = 9;</code>
+     * @return Whether the tradable field is set.
+     */
+    @java.lang.Override
+    public boolean hasTradable() {
+      return ((bitField0_ & 0x00000080) != 0);
+    }
+    /**
+     * <code>optional bool tradable = 9;</code>
+     * @return The tradable.
+     */
+    @java.lang.Override
+    public boolean getTradable() {
+      return tradable_;
+    }
+
+    public static final int ACTIONS_FIELD_NUMBER = 10;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> actions_;
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> getActionsList() {
+      return actions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+        getActionsOrBuilderList() {
+      return actions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    @java.lang.Override
+    public int getActionsCount() {
+      return actions_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getActions(int index) {
+      return actions_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_Action actions = 10;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getActionsOrBuilder(
+        int index) {
+      return actions_.get(index);
+    }
+
+    public static final int OWNER_DESCRIPTIONS_FIELD_NUMBER = 11;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> ownerDescriptions_;
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> getOwnerDescriptionsList() {
+      return ownerDescriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+        getOwnerDescriptionsOrBuilderList() {
+      return ownerDescriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    @java.lang.Override
+    public int getOwnerDescriptionsCount() {
+      return ownerDescriptions_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getOwnerDescriptions(int index) {
+      return ownerDescriptions_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder getOwnerDescriptionsOrBuilder(
+        int index) {
+      return ownerDescriptions_.get(index);
+    }
+
+    public static final int OWNER_ACTIONS_FIELD_NUMBER = 12;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> ownerActions_;
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> getOwnerActionsList() {
+      return ownerActions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+        getOwnerActionsOrBuilderList() {
+      return ownerActions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    @java.lang.Override
+    public int getOwnerActionsCount() {
+      return ownerActions_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getOwnerActions(int index) {
+      return ownerActions_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getOwnerActionsOrBuilder(
+        int index) {
+      return ownerActions_.get(index);
+    }
+
+    public static final int FRAUDWARNINGS_FIELD_NUMBER = 13;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList fraudwarnings_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @return A list containing the fraudwarnings.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getFraudwarningsList() {
+      return fraudwarnings_;
+    }
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @return The count of fraudwarnings.
+     */
+    public int getFraudwarningsCount() {
+      return fraudwarnings_.size();
+    }
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @param index The index of the element to return.
+     * @return The fraudwarnings at the given index.
+     */
+    public java.lang.String getFraudwarnings(int index) {
+      return fraudwarnings_.get(index);
+    }
+    /**
+     * <code>repeated string fraudwarnings = 13;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the fraudwarnings at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getFraudwarningsBytes(int index) {
+      return fraudwarnings_.getByteString(index);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 14;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object name_ = "";
+    /**
+     * <code>optional string name = 14;</code>
+     * @return Whether the name field is set.
+     */
+    @java.lang.Override
+    public boolean hasName() {
+      return ((bitField0_ & 0x00000100) != 0);
+    }
+    /**
+     * <code>optional string name = 14;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          name_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name = 14;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_COLOR_FIELD_NUMBER = 15;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object nameColor_ = "";
+    /**
+     * <code>optional string name_color = 15;</code>
+     * @return Whether the nameColor field is set.
+     */
+    @java.lang.Override
+    public boolean hasNameColor() {
+      return ((bitField0_ & 0x00000200) != 0);
+    }
+    /**
+     * <code>optional string name_color = 15;</code>
+     * @return The nameColor.
+     */
+    @java.lang.Override
+    public java.lang.String getNameColor() {
+      java.lang.Object ref = nameColor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          nameColor_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string name_color = 15;</code>
+     * @return The bytes for nameColor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameColorBytes() {
+      java.lang.Object ref = nameColor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        nameColor_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 16;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object type_ = "";
+    /**
+     * <code>optional string type = 16;</code>
+     * @return Whether the type field is set.
+     */
+    @java.lang.Override
+    public boolean hasType() {
+      return ((bitField0_ & 0x00000400) != 0);
+    }
+    /**
+     * <code>optional string type = 16;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          type_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string type = 16;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MARKET_NAME_FIELD_NUMBER = 17;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object marketName_ = "";
+    /**
+     * <code>optional string market_name = 17;</code>
+     * @return Whether the marketName field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketName() {
+      return ((bitField0_ & 0x00000800) != 0);
+    }
+    /**
+     * <code>optional string market_name = 17;</code>
+     * @return The marketName.
+     */
+    @java.lang.Override
+    public java.lang.String getMarketName() {
+      java.lang.Object ref = marketName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          marketName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string market_name = 17;</code>
+     * @return The bytes for marketName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMarketNameBytes() {
+      java.lang.Object ref = marketName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        marketName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MARKET_HASH_NAME_FIELD_NUMBER = 18;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object marketHashName_ = "";
+    /**
+     * <code>optional string market_hash_name = 18;</code>
+     * @return Whether the marketHashName field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketHashName() {
+      return ((bitField0_ & 0x00001000) != 0);
+    }
+    /**
+     * <code>optional string market_hash_name = 18;</code>
+     * @return The marketHashName.
+     */
+    @java.lang.Override
+    public java.lang.String getMarketHashName() {
+      java.lang.Object ref = marketHashName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          marketHashName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string market_hash_name = 18;</code>
+     * @return The bytes for marketHashName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMarketHashNameBytes() {
+      java.lang.Object ref = marketHashName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        marketHashName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MARKET_FEE_FIELD_NUMBER = 19;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object marketFee_ = "";
+    /**
+     * <code>optional string market_fee = 19;</code>
+     * @return Whether the marketFee field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketFee() {
+      return ((bitField0_ & 0x00002000) != 0);
+    }
+    /**
+     * <code>optional string market_fee = 19;</code>
+     * @return The marketFee.
+     */
+    @java.lang.Override
+    public java.lang.String getMarketFee() {
+      java.lang.Object ref = marketFee_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          marketFee_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string market_fee = 19;</code>
+     * @return The bytes for marketFee.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMarketFeeBytes() {
+      java.lang.Object ref = marketFee_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        marketFee_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MARKET_FEE_APP_FIELD_NUMBER = 28;
+    private int marketFeeApp_ = 0;
+    /**
+     * <code>optional int32 market_fee_app = 28;</code>
+     * @return Whether the marketFeeApp field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketFeeApp() {
+      return ((bitField0_ & 0x00004000) != 0);
+    }
+    /**
+     * <code>optional int32 market_fee_app = 28;</code>
+     * @return The marketFeeApp.
+     */
+    @java.lang.Override
+    public int getMarketFeeApp() {
+      return marketFeeApp_;
+    }
+
+    public static final int CONTAINED_ITEM_FIELD_NUMBER = 20;
+    private com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description containedItem_;
+    /**
+     * <code>optional .CEconItem_Description contained_item = 20;</code>
+     * @return Whether the containedItem field is set.
+     */
+    @java.lang.Override
+    public boolean hasContainedItem() {
+      return ((bitField0_ & 0x00008000) != 0);
+    }
+    /**
+     * <code>optional .CEconItem_Description contained_item = 20;</code>
+     * @return The containedItem.
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getContainedItem() {
+      return containedItem_ == null ? com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance() : containedItem_;
+    }
+    /**
+     * <code>optional .CEconItem_Description contained_item = 20;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getContainedItemOrBuilder() {
+      return containedItem_ == null ? com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance() : containedItem_;
+    }
+
+    public static final int MARKET_ACTIONS_FIELD_NUMBER = 21;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> marketActions_;
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> getMarketActionsList() {
+      return marketActions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+        getMarketActionsOrBuilderList() {
+      return marketActions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    @java.lang.Override
+    public int getMarketActionsCount() {
+      return marketActions_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getMarketActions(int index) {
+      return marketActions_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_Action market_actions = 21;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getMarketActionsOrBuilder(
+        int index) {
+      return marketActions_.get(index);
+    }
+
+    public static final int COMMODITY_FIELD_NUMBER = 22;
+    private boolean commodity_ = false;
+    /**
+     * <code>optional bool commodity = 22;</code>
+     * @return Whether the commodity field is set.
+     */
+    @java.lang.Override
+    public boolean hasCommodity() {
+      return ((bitField0_ & 0x00010000) != 0);
+    }
+    /**
+     * <code>optional bool commodity = 22;</code>
+     * @return The commodity.
+     */
+    @java.lang.Override
+    public boolean getCommodity() {
+      return commodity_;
+    }
+
+    public static final int MARKET_TRADABLE_RESTRICTION_FIELD_NUMBER = 23;
+    private int marketTradableRestriction_ = 0;
+    /**
+     * <code>optional int32 market_tradable_restriction = 23;</code>
+     * @return Whether the marketTradableRestriction field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketTradableRestriction() {
+      return ((bitField0_ & 0x00020000) != 0);
+    }
+    /**
+     * <code>optional int32 market_tradable_restriction = 23;</code>
+     * @return The marketTradableRestriction.
+     */
+    @java.lang.Override
+    public int getMarketTradableRestriction() {
+      return marketTradableRestriction_;
+    }
+
+    public static final int MARKET_MARKETABLE_RESTRICTION_FIELD_NUMBER = 24;
+    private int marketMarketableRestriction_ = 0;
+    /**
+     * <code>optional int32 market_marketable_restriction = 24;</code>
+     * @return Whether the marketMarketableRestriction field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketMarketableRestriction() {
+      return ((bitField0_ & 0x00040000) != 0);
+    }
+    /**
+     * <code>optional int32 market_marketable_restriction = 24;</code>
+     * @return The marketMarketableRestriction.
+     */
+    @java.lang.Override
+    public int getMarketMarketableRestriction() {
+      return marketMarketableRestriction_;
+    }
+
+    public static final int MARKETABLE_FIELD_NUMBER = 25;
+    private boolean marketable_ = false;
+    /**
+     * <code>optional bool marketable = 25;</code>
+     * @return Whether the marketable field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketable() {
+      return ((bitField0_ & 0x00080000) != 0);
+    }
+    /**
+     * <code>optional bool marketable = 25;</code>
+     * @return The marketable.
+     */
+    @java.lang.Override
+    public boolean getMarketable() {
+      return marketable_;
+    }
+
+    public static final int TAGS_FIELD_NUMBER = 26;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag> tags_;
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag> getTagsList() {
+      return tags_;
+    }
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder> 
+        getTagsOrBuilderList() {
+      return tags_;
+    }
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    @java.lang.Override
+    public int getTagsCount() {
+      return tags_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag getTags(int index) {
+      return tags_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_Tag tags = 26;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder getTagsOrBuilder(
+        int index) {
+      return tags_.get(index);
+    }
+
+    public static final int ITEM_EXPIRATION_FIELD_NUMBER = 27;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object itemExpiration_ = "";
+    /**
+     * <code>optional string item_expiration = 27;</code>
+     * @return Whether the itemExpiration field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemExpiration() {
+      return ((bitField0_ & 0x00100000) != 0);
+    }
+    /**
+     * <code>optional string item_expiration = 27;</code>
+     * @return The itemExpiration.
+     */
+    @java.lang.Override
+    public java.lang.String getItemExpiration() {
+      java.lang.Object ref = itemExpiration_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          itemExpiration_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string item_expiration = 27;</code>
+     * @return The bytes for itemExpiration.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getItemExpirationBytes() {
+      java.lang.Object ref = itemExpiration_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        itemExpiration_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MARKET_BUY_COUNTRY_RESTRICTION_FIELD_NUMBER = 30;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object marketBuyCountryRestriction_ = "";
+    /**
+     * <code>optional string market_buy_country_restriction = 30;</code>
+     * @return Whether the marketBuyCountryRestriction field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketBuyCountryRestriction() {
+      return ((bitField0_ & 0x00200000) != 0);
+    }
+    /**
+     * <code>optional string market_buy_country_restriction = 30;</code>
+     * @return The marketBuyCountryRestriction.
+     */
+    @java.lang.Override
+    public java.lang.String getMarketBuyCountryRestriction() {
+      java.lang.Object ref = marketBuyCountryRestriction_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          marketBuyCountryRestriction_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string market_buy_country_restriction = 30;</code>
+     * @return The bytes for marketBuyCountryRestriction.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMarketBuyCountryRestrictionBytes() {
+      java.lang.Object ref = marketBuyCountryRestriction_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        marketBuyCountryRestriction_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MARKET_SELL_COUNTRY_RESTRICTION_FIELD_NUMBER = 31;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object marketSellCountryRestriction_ = "";
+    /**
+     * <code>optional string market_sell_country_restriction = 31;</code>
+     * @return Whether the marketSellCountryRestriction field is set.
+     */
+    @java.lang.Override
+    public boolean hasMarketSellCountryRestriction() {
+      return ((bitField0_ & 0x00400000) != 0);
+    }
+    /**
+     * <code>optional string market_sell_country_restriction = 31;</code>
+     * @return The marketSellCountryRestriction.
+     */
+    @java.lang.Override
+    public java.lang.String getMarketSellCountryRestriction() {
+      java.lang.Object ref = marketSellCountryRestriction_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          marketSellCountryRestriction_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string market_sell_country_restriction = 31;</code>
+     * @return The bytes for marketSellCountryRestriction.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getMarketSellCountryRestrictionBytes() {
+      java.lang.Object ref = marketSellCountryRestriction_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        marketSellCountryRestriction_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, classid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, instanceid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBool(4, currency_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, backgroundColor_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 6, iconUrl_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 7, iconUrlLarge_);
+      }
+      for (int i = 0; i < descriptions_.size(); i++) {
+        output.writeMessage(8, descriptions_.get(i));
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        output.writeBool(9, tradable_);
+      }
+      for (int i = 0; i < actions_.size(); i++) {
+        output.writeMessage(10, actions_.get(i));
+      }
+      for (int i = 0; i < ownerDescriptions_.size(); i++) {
+        output.writeMessage(11, ownerDescriptions_.get(i));
+      }
+      for (int i = 0; i < ownerActions_.size(); i++) {
+        output.writeMessage(12, ownerActions_.get(i));
+      }
+      for (int i = 0; i < fraudwarnings_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 13, fraudwarnings_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 14, name_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 15, nameColor_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 16, type_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 17, marketName_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 18, marketHashName_);
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 19, marketFee_);
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        output.writeMessage(20, getContainedItem());
+      }
+      for (int i = 0; i < marketActions_.size(); i++) {
+        output.writeMessage(21, marketActions_.get(i));
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        output.writeBool(22, commodity_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        output.writeInt32(23, marketTradableRestriction_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        output.writeInt32(24, marketMarketableRestriction_);
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        output.writeBool(25, marketable_);
+      }
+      for (int i = 0; i < tags_.size(); i++) {
+        output.writeMessage(26, tags_.get(i));
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 27, itemExpiration_);
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        output.writeInt32(28, marketFeeApp_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 30, marketBuyCountryRestriction_);
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 31, marketSellCountryRestriction_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, classid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, instanceid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, currency_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, backgroundColor_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, iconUrl_);
+      }
+      if (((bitField0_ & 0x00000040) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(7, iconUrlLarge_);
+      }
+      for (int i = 0; i < descriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, descriptions_.get(i));
+      }
+      if (((bitField0_ & 0x00000080) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(9, tradable_);
+      }
+      for (int i = 0; i < actions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, actions_.get(i));
+      }
+      for (int i = 0; i < ownerDescriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, ownerDescriptions_.get(i));
+      }
+      for (int i = 0; i < ownerActions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(12, ownerActions_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < fraudwarnings_.size(); i++) {
+          dataSize += computeStringSizeNoTag(fraudwarnings_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getFraudwarningsList().size();
+      }
+      if (((bitField0_ & 0x00000100) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(14, name_);
+      }
+      if (((bitField0_ & 0x00000200) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(15, nameColor_);
+      }
+      if (((bitField0_ & 0x00000400) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(16, type_);
+      }
+      if (((bitField0_ & 0x00000800) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(17, marketName_);
+      }
+      if (((bitField0_ & 0x00001000) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(18, marketHashName_);
+      }
+      if (((bitField0_ & 0x00002000) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(19, marketFee_);
+      }
+      if (((bitField0_ & 0x00008000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(20, getContainedItem());
+      }
+      for (int i = 0; i < marketActions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(21, marketActions_.get(i));
+      }
+      if (((bitField0_ & 0x00010000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(22, commodity_);
+      }
+      if (((bitField0_ & 0x00020000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(23, marketTradableRestriction_);
+      }
+      if (((bitField0_ & 0x00040000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(24, marketMarketableRestriction_);
+      }
+      if (((bitField0_ & 0x00080000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(25, marketable_);
+      }
+      for (int i = 0; i < tags_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(26, tags_.get(i));
+      }
+      if (((bitField0_ & 0x00100000) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(27, itemExpiration_);
+      }
+      if (((bitField0_ & 0x00004000) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(28, marketFeeApp_);
+      }
+      if (((bitField0_ & 0x00200000) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(30, marketBuyCountryRestriction_);
+      }
+      if (((bitField0_ & 0x00400000) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(31, marketSellCountryRestriction_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasClassid() != other.hasClassid()) return false;
+      if (hasClassid()) {
+        if (getClassid()
+            != other.getClassid()) return false;
+      }
+      if (hasInstanceid() != other.hasInstanceid()) return false;
+      if (hasInstanceid()) {
+        if (getInstanceid()
+            != other.getInstanceid()) return false;
+      }
+      if (hasCurrency() != other.hasCurrency()) return false;
+      if (hasCurrency()) {
+        if (getCurrency()
+            != other.getCurrency()) return false;
+      }
+      if (hasBackgroundColor() != other.hasBackgroundColor()) return false;
+      if (hasBackgroundColor()) {
+        if (!getBackgroundColor()
+            .equals(other.getBackgroundColor())) return false;
+      }
+      if (hasIconUrl() != other.hasIconUrl()) return false;
+      if (hasIconUrl()) {
+        if (!getIconUrl()
+            .equals(other.getIconUrl())) return false;
+      }
+      if (hasIconUrlLarge() != other.hasIconUrlLarge()) return false;
+      if (hasIconUrlLarge()) {
+        if (!getIconUrlLarge()
+            .equals(other.getIconUrlLarge())) return false;
+      }
+      if (!getDescriptionsList()
+          .equals(other.getDescriptionsList())) return false;
+      if (hasTradable() != other.hasTradable()) return false;
+      if (hasTradable()) {
+        if (getTradable()
+            != other.getTradable()) return false;
+      }
+      if (!getActionsList()
+          .equals(other.getActionsList())) return false;
+      if (!getOwnerDescriptionsList()
+          .equals(other.getOwnerDescriptionsList())) return false;
+      if (!getOwnerActionsList()
+          .equals(other.getOwnerActionsList())) return false;
+      if (!getFraudwarningsList()
+          .equals(other.getFraudwarningsList())) return false;
+      if (hasName() != other.hasName()) return false;
+      if (hasName()) {
+        if (!getName()
+            .equals(other.getName())) return false;
+      }
+      if (hasNameColor() != other.hasNameColor()) return false;
+      if (hasNameColor()) {
+        if (!getNameColor()
+            .equals(other.getNameColor())) return false;
+      }
+      if (hasType() != other.hasType()) return false;
+      if (hasType()) {
+        if (!getType()
+            .equals(other.getType())) return false;
+      }
+      if (hasMarketName() != other.hasMarketName()) return false;
+      if (hasMarketName()) {
+        if (!getMarketName()
+            .equals(other.getMarketName())) return false;
+      }
+      if (hasMarketHashName() != other.hasMarketHashName()) return false;
+      if (hasMarketHashName()) {
+        if (!getMarketHashName()
+            .equals(other.getMarketHashName())) return false;
+      }
+      if (hasMarketFee() != other.hasMarketFee()) return false;
+      if (hasMarketFee()) {
+        if (!getMarketFee()
+            .equals(other.getMarketFee())) return false;
+      }
+      if (hasMarketFeeApp() != other.hasMarketFeeApp()) return false;
+      if (hasMarketFeeApp()) {
+        if (getMarketFeeApp()
+            != other.getMarketFeeApp()) return false;
+      }
+      if (hasContainedItem() != other.hasContainedItem()) return false;
+      if (hasContainedItem()) {
+        if (!getContainedItem()
+            .equals(other.getContainedItem())) return false;
+      }
+      if (!getMarketActionsList()
+          .equals(other.getMarketActionsList())) return false;
+      if (hasCommodity() != other.hasCommodity()) return false;
+      if (hasCommodity()) {
+        if (getCommodity()
+            != other.getCommodity()) return false;
+      }
+      if (hasMarketTradableRestriction() != other.hasMarketTradableRestriction()) return false;
+      if (hasMarketTradableRestriction()) {
+        if (getMarketTradableRestriction()
+            != other.getMarketTradableRestriction()) return false;
+      }
+      if (hasMarketMarketableRestriction() != other.hasMarketMarketableRestriction()) return false;
+      if (hasMarketMarketableRestriction()) {
+        if (getMarketMarketableRestriction()
+            != other.getMarketMarketableRestriction()) return false;
+      }
+      if (hasMarketable() != other.hasMarketable()) return false;
+      if (hasMarketable()) {
+        if (getMarketable()
+            != other.getMarketable()) return false;
+      }
+      if (!getTagsList()
+          .equals(other.getTagsList())) return false;
+      if (hasItemExpiration() != other.hasItemExpiration()) return false;
+      if (hasItemExpiration()) {
+        if (!getItemExpiration()
+            .equals(other.getItemExpiration())) return false;
+      }
+      if (hasMarketBuyCountryRestriction() != other.hasMarketBuyCountryRestriction()) return false;
+      if (hasMarketBuyCountryRestriction()) {
+        if (!getMarketBuyCountryRestriction()
+            .equals(other.getMarketBuyCountryRestriction())) return false;
+      }
+      if (hasMarketSellCountryRestriction() != other.hasMarketSellCountryRestriction()) return false;
+      if (hasMarketSellCountryRestriction()) {
+        if (!getMarketSellCountryRestriction()
+            .equals(other.getMarketSellCountryRestriction())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasClassid()) {
+        hash = (37 * hash) + CLASSID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getClassid());
+      }
+      if (hasInstanceid()) {
+        hash = (37 * hash) + INSTANCEID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getInstanceid());
+      }
+      if (hasCurrency()) {
+        hash = (37 * hash) + CURRENCY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getCurrency());
+      }
+      if (hasBackgroundColor()) {
+        hash = (37 * hash) + BACKGROUND_COLOR_FIELD_NUMBER;
+        hash = (53 * hash) + getBackgroundColor().hashCode();
+      }
+      if (hasIconUrl()) {
+        hash = (37 * hash) + ICON_URL_FIELD_NUMBER;
+        hash = (53 * hash) + getIconUrl().hashCode();
+      }
+      if (hasIconUrlLarge()) {
+        hash = (37 * hash) + ICON_URL_LARGE_FIELD_NUMBER;
+        hash = (53 * hash) + getIconUrlLarge().hashCode();
+      }
+      if (getDescriptionsCount() > 0) {
+        hash = (37 * hash) + DESCRIPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getDescriptionsList().hashCode();
+      }
+      if (hasTradable()) {
+        hash = (37 * hash) + TRADABLE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getTradable());
+      }
+      if (getActionsCount() > 0) {
+        hash = (37 * hash) + ACTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getActionsList().hashCode();
+      }
+      if (getOwnerDescriptionsCount() > 0) {
+        hash = (37 * hash) + OWNER_DESCRIPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getOwnerDescriptionsList().hashCode();
+      }
+      if (getOwnerActionsCount() > 0) {
+        hash = (37 * hash) + OWNER_ACTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getOwnerActionsList().hashCode();
+      }
+      if (getFraudwarningsCount() > 0) {
+        hash = (37 * hash) + FRAUDWARNINGS_FIELD_NUMBER;
+        hash = (53 * hash) + getFraudwarningsList().hashCode();
+      }
+      if (hasName()) {
+        hash = (37 * hash) + NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getName().hashCode();
+      }
+      if (hasNameColor()) {
+        hash = (37 * hash) + NAME_COLOR_FIELD_NUMBER;
+        hash = (53 * hash) + getNameColor().hashCode();
+      }
+      if (hasType()) {
+        hash = (37 * hash) + TYPE_FIELD_NUMBER;
+        hash = (53 * hash) + getType().hashCode();
+      }
+      if (hasMarketName()) {
+        hash = (37 * hash) + MARKET_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketName().hashCode();
+      }
+      if (hasMarketHashName()) {
+        hash = (37 * hash) + MARKET_HASH_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketHashName().hashCode();
+      }
+      if (hasMarketFee()) {
+        hash = (37 * hash) + MARKET_FEE_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketFee().hashCode();
+      }
+      if (hasMarketFeeApp()) {
+        hash = (37 * hash) + MARKET_FEE_APP_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketFeeApp();
+      }
+      if (hasContainedItem()) {
+        hash = (37 * hash) + CONTAINED_ITEM_FIELD_NUMBER;
+        hash = (53 * hash) + getContainedItem().hashCode();
+      }
+      if (getMarketActionsCount() > 0) {
+        hash = (37 * hash) + MARKET_ACTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketActionsList().hashCode();
+      }
+      if (hasCommodity()) {
+        hash = (37 * hash) + COMMODITY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getCommodity());
+      }
+      if (hasMarketTradableRestriction()) {
+        hash = (37 * hash) + MARKET_TRADABLE_RESTRICTION_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketTradableRestriction();
+      }
+      if (hasMarketMarketableRestriction()) {
+        hash = (37 * hash) + MARKET_MARKETABLE_RESTRICTION_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketMarketableRestriction();
+      }
+      if (hasMarketable()) {
+        hash = (37 * hash) + MARKETABLE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getMarketable());
+      }
+      if (getTagsCount() > 0) {
+        hash = (37 * hash) + TAGS_FIELD_NUMBER;
+        hash = (53 * hash) + getTagsList().hashCode();
+      }
+      if (hasItemExpiration()) {
+        hash = (37 * hash) + ITEM_EXPIRATION_FIELD_NUMBER;
+        hash = (53 * hash) + getItemExpiration().hashCode();
+      }
+      if (hasMarketBuyCountryRestriction()) {
+        hash = (37 * hash) + MARKET_BUY_COUNTRY_RESTRICTION_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketBuyCountryRestriction().hashCode();
+      }
+      if (hasMarketSellCountryRestriction()) {
+        hash = (37 * hash) + MARKET_SELL_COUNTRY_RESTRICTION_FIELD_NUMBER;
+        hash = (53 * hash) + getMarketSellCountryRestriction().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEconItem_Description}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEconItem_Description)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Description_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Description_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getDescriptionsFieldBuilder();
+          getActionsFieldBuilder();
+          getOwnerDescriptionsFieldBuilder();
+          getOwnerActionsFieldBuilder();
+          getContainedItemFieldBuilder();
+          getMarketActionsFieldBuilder();
+          getTagsFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        classid_ = 0L;
+        instanceid_ = 0L;
+        currency_ = false;
+        backgroundColor_ = "";
+        iconUrl_ = "";
+        iconUrlLarge_ = "";
+        if (descriptionsBuilder_ == null) {
+          descriptions_ = java.util.Collections.emptyList();
+        } else {
+          descriptions_ = null;
+          descriptionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000080);
+        tradable_ = false;
+        if (actionsBuilder_ == null) {
+          actions_ = java.util.Collections.emptyList();
+        } else {
+          actions_ = null;
+          actionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000200);
+        if (ownerDescriptionsBuilder_ == null) {
+          ownerDescriptions_ = java.util.Collections.emptyList();
+        } else {
+          ownerDescriptions_ = null;
+          ownerDescriptionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000400);
+        if (ownerActionsBuilder_ == null) {
+          ownerActions_ = java.util.Collections.emptyList();
+        } else {
+          ownerActions_ = null;
+          ownerActionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000800);
+        fraudwarnings_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        name_ = "";
+        nameColor_ = "";
+        type_ = "";
+        marketName_ = "";
+        marketHashName_ = "";
+        marketFee_ = "";
+        marketFeeApp_ = 0;
+        containedItem_ = null;
+        if (containedItemBuilder_ != null) {
+          containedItemBuilder_.dispose();
+          containedItemBuilder_ = null;
+        }
+        if (marketActionsBuilder_ == null) {
+          marketActions_ = java.util.Collections.emptyList();
+        } else {
+          marketActions_ = null;
+          marketActionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00200000);
+        commodity_ = false;
+        marketTradableRestriction_ = 0;
+        marketMarketableRestriction_ = 0;
+        marketable_ = false;
+        if (tagsBuilder_ == null) {
+          tags_ = java.util.Collections.emptyList();
+        } else {
+          tags_ = null;
+          tagsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x04000000);
+        itemExpiration_ = "";
+        marketBuyCountryRestriction_ = "";
+        marketSellCountryRestriction_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Description_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description result) {
+        if (descriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000080) != 0)) {
+            descriptions_ = java.util.Collections.unmodifiableList(descriptions_);
+            bitField0_ = (bitField0_ & ~0x00000080);
+          }
+          result.descriptions_ = descriptions_;
+        } else {
+          result.descriptions_ = descriptionsBuilder_.build();
+        }
+        if (actionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000200) != 0)) {
+            actions_ = java.util.Collections.unmodifiableList(actions_);
+            bitField0_ = (bitField0_ & ~0x00000200);
+          }
+          result.actions_ = actions_;
+        } else {
+          result.actions_ = actionsBuilder_.build();
+        }
+        if (ownerDescriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000400) != 0)) {
+            ownerDescriptions_ = java.util.Collections.unmodifiableList(ownerDescriptions_);
+            bitField0_ = (bitField0_ & ~0x00000400);
+          }
+          result.ownerDescriptions_ = ownerDescriptions_;
+        } else {
+          result.ownerDescriptions_ = ownerDescriptionsBuilder_.build();
+        }
+        if (ownerActionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000800) != 0)) {
+            ownerActions_ = java.util.Collections.unmodifiableList(ownerActions_);
+            bitField0_ = (bitField0_ & ~0x00000800);
+          }
+          result.ownerActions_ = ownerActions_;
+        } else {
+          result.ownerActions_ = ownerActionsBuilder_.build();
+        }
+        if (marketActionsBuilder_ == null) {
+          if (((bitField0_ & 0x00200000) != 0)) {
+            marketActions_ = java.util.Collections.unmodifiableList(marketActions_);
+            bitField0_ = (bitField0_ & ~0x00200000);
+          }
+          result.marketActions_ = marketActions_;
+        } else {
+          result.marketActions_ = marketActionsBuilder_.build();
+        }
+        if (tagsBuilder_ == null) {
+          if (((bitField0_ & 0x04000000) != 0)) {
+            tags_ = java.util.Collections.unmodifiableList(tags_);
+            bitField0_ = (bitField0_ & ~0x04000000);
+          }
+          result.tags_ = tags_;
+        } else {
+          result.tags_ = tagsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.classid_ = classid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.instanceid_ = instanceid_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.currency_ = currency_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.backgroundColor_ = backgroundColor_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.iconUrl_ = iconUrl_;
+          to_bitField0_ |= 0x00000020;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.iconUrlLarge_ = iconUrlLarge_;
+          to_bitField0_ |= 0x00000040;
+        }
+        if (((from_bitField0_ & 0x00000100) != 0)) {
+          result.tradable_ = tradable_;
+          to_bitField0_ |= 0x00000080;
+        }
+        if (((from_bitField0_ & 0x00001000) != 0)) {
+          fraudwarnings_.makeImmutable();
+          result.fraudwarnings_ = fraudwarnings_;
+        }
+        if (((from_bitField0_ & 0x00002000) != 0)) {
+          result.name_ = name_;
+          to_bitField0_ |= 0x00000100;
+        }
+        if (((from_bitField0_ & 0x00004000) != 0)) {
+          result.nameColor_ = nameColor_;
+          to_bitField0_ |= 0x00000200;
+        }
+        if (((from_bitField0_ & 0x00008000) != 0)) {
+          result.type_ = type_;
+          to_bitField0_ |= 0x00000400;
+        }
+        if (((from_bitField0_ & 0x00010000) != 0)) {
+          result.marketName_ = marketName_;
+          to_bitField0_ |= 0x00000800;
+        }
+        if (((from_bitField0_ & 0x00020000) != 0)) {
+          result.marketHashName_ = marketHashName_;
+          to_bitField0_ |= 0x00001000;
+        }
+        if (((from_bitField0_ & 0x00040000) != 0)) {
+          result.marketFee_ = marketFee_;
+          to_bitField0_ |= 0x00002000;
+        }
+        if (((from_bitField0_ & 0x00080000) != 0)) {
+          result.marketFeeApp_ = marketFeeApp_;
+          to_bitField0_ |= 0x00004000;
+        }
+        if (((from_bitField0_ & 0x00100000) != 0)) {
+          result.containedItem_ = containedItemBuilder_ == null
+              ? containedItem_
+              : containedItemBuilder_.build();
+          to_bitField0_ |= 0x00008000;
+        }
+        if (((from_bitField0_ & 0x00400000) != 0)) {
+          result.commodity_ = commodity_;
+          to_bitField0_ |= 0x00010000;
+        }
+        if (((from_bitField0_ & 0x00800000) != 0)) {
+          result.marketTradableRestriction_ = marketTradableRestriction_;
+          to_bitField0_ |= 0x00020000;
+        }
+        if (((from_bitField0_ & 0x01000000) != 0)) {
+          result.marketMarketableRestriction_ = marketMarketableRestriction_;
+          to_bitField0_ |= 0x00040000;
+        }
+        if (((from_bitField0_ & 0x02000000) != 0)) {
+          result.marketable_ = marketable_;
+          to_bitField0_ |= 0x00080000;
+        }
+        if (((from_bitField0_ & 0x08000000) != 0)) {
+          result.itemExpiration_ = itemExpiration_;
+          to_bitField0_ |= 0x00100000;
+        }
+        if (((from_bitField0_ & 0x10000000) != 0)) {
+          result.marketBuyCountryRestriction_ = marketBuyCountryRestriction_;
+          to_bitField0_ |= 0x00200000;
+        }
+        if (((from_bitField0_ & 0x20000000) != 0)) {
+          result.marketSellCountryRestriction_ = marketSellCountryRestriction_;
+          to_bitField0_ |= 0x00400000;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasClassid()) {
+          setClassid(other.getClassid());
+        }
+        if (other.hasInstanceid()) {
+          setInstanceid(other.getInstanceid());
+        }
+        if (other.hasCurrency()) {
+          setCurrency(other.getCurrency());
+        }
+        if (other.hasBackgroundColor()) {
+          backgroundColor_ = other.backgroundColor_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasIconUrl()) {
+          iconUrl_ = other.iconUrl_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        if (other.hasIconUrlLarge()) {
+          iconUrlLarge_ = other.iconUrlLarge_;
+          bitField0_ |= 0x00000040;
+          onChanged();
+        }
+        if (descriptionsBuilder_ == null) {
+          if (!other.descriptions_.isEmpty()) {
+            if (descriptions_.isEmpty()) {
+              descriptions_ = other.descriptions_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+            } else {
+              ensureDescriptionsIsMutable();
+              descriptions_.addAll(other.descriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.descriptions_.isEmpty()) {
+            if (descriptionsBuilder_.isEmpty()) {
+              descriptionsBuilder_.dispose();
+              descriptionsBuilder_ = null;
+              descriptions_ = other.descriptions_;
+              bitField0_ = (bitField0_ & ~0x00000080);
+              descriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDescriptionsFieldBuilder() : null;
+            } else {
+              descriptionsBuilder_.addAllMessages(other.descriptions_);
+            }
+          }
+        }
+        if (other.hasTradable()) {
+          setTradable(other.getTradable());
+        }
+        if (actionsBuilder_ == null) {
+          if (!other.actions_.isEmpty()) {
+            if (actions_.isEmpty()) {
+              actions_ = other.actions_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+            } else {
+              ensureActionsIsMutable();
+              actions_.addAll(other.actions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.actions_.isEmpty()) {
+            if (actionsBuilder_.isEmpty()) {
+              actionsBuilder_.dispose();
+              actionsBuilder_ = null;
+              actions_ = other.actions_;
+              bitField0_ = (bitField0_ & ~0x00000200);
+              actionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getActionsFieldBuilder() : null;
+            } else {
+              actionsBuilder_.addAllMessages(other.actions_);
+            }
+          }
+        }
+        if (ownerDescriptionsBuilder_ == null) {
+          if (!other.ownerDescriptions_.isEmpty()) {
+            if (ownerDescriptions_.isEmpty()) {
+              ownerDescriptions_ = other.ownerDescriptions_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+            } else {
+              ensureOwnerDescriptionsIsMutable();
+              ownerDescriptions_.addAll(other.ownerDescriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.ownerDescriptions_.isEmpty()) {
+            if (ownerDescriptionsBuilder_.isEmpty()) {
+              ownerDescriptionsBuilder_.dispose();
+              ownerDescriptionsBuilder_ = null;
+              ownerDescriptions_ = other.ownerDescriptions_;
+              bitField0_ = (bitField0_ & ~0x00000400);
+              ownerDescriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getOwnerDescriptionsFieldBuilder() : null;
+            } else {
+              ownerDescriptionsBuilder_.addAllMessages(other.ownerDescriptions_);
+            }
+          }
+        }
+        if (ownerActionsBuilder_ == null) {
+          if (!other.ownerActions_.isEmpty()) {
+            if (ownerActions_.isEmpty()) {
+              ownerActions_ = other.ownerActions_;
+              bitField0_ = (bitField0_ & ~0x00000800);
+            } else {
+              ensureOwnerActionsIsMutable();
+              ownerActions_.addAll(other.ownerActions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.ownerActions_.isEmpty()) {
+            if (ownerActionsBuilder_.isEmpty()) {
+              ownerActionsBuilder_.dispose();
+              ownerActionsBuilder_ = null;
+              ownerActions_ = other.ownerActions_;
+              bitField0_ = (bitField0_ & ~0x00000800);
+              ownerActionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getOwnerActionsFieldBuilder() : null;
+            } else {
+              ownerActionsBuilder_.addAllMessages(other.ownerActions_);
+            }
+          }
+        }
+        if (!other.fraudwarnings_.isEmpty()) {
+          if (fraudwarnings_.isEmpty()) {
+            fraudwarnings_ = other.fraudwarnings_;
+            bitField0_ |= 0x00001000;
+          } else {
+            ensureFraudwarningsIsMutable();
+            fraudwarnings_.addAll(other.fraudwarnings_);
+          }
+          onChanged();
+        }
+        if (other.hasName()) {
+          name_ = other.name_;
+          bitField0_ |= 0x00002000;
+          onChanged();
+        }
+        if (other.hasNameColor()) {
+          nameColor_ = other.nameColor_;
+          bitField0_ |= 0x00004000;
+          onChanged();
+        }
+        if (other.hasType()) {
+          type_ = other.type_;
+          bitField0_ |= 0x00008000;
+          onChanged();
+        }
+        if (other.hasMarketName()) {
+          marketName_ = other.marketName_;
+          bitField0_ |= 0x00010000;
+          onChanged();
+        }
+        if (other.hasMarketHashName()) {
+          marketHashName_ = other.marketHashName_;
+          bitField0_ |= 0x00020000;
+          onChanged();
+        }
+        if (other.hasMarketFee()) {
+          marketFee_ = other.marketFee_;
+          bitField0_ |= 0x00040000;
+          onChanged();
+        }
+        if (other.hasMarketFeeApp()) {
+          setMarketFeeApp(other.getMarketFeeApp());
+        }
+        if (other.hasContainedItem()) {
+          mergeContainedItem(other.getContainedItem());
+        }
+        if (marketActionsBuilder_ == null) {
+          if (!other.marketActions_.isEmpty()) {
+            if (marketActions_.isEmpty()) {
+              marketActions_ = other.marketActions_;
+              bitField0_ = (bitField0_ & ~0x00200000);
+            } else {
+              ensureMarketActionsIsMutable();
+              marketActions_.addAll(other.marketActions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.marketActions_.isEmpty()) {
+            if (marketActionsBuilder_.isEmpty()) {
+              marketActionsBuilder_.dispose();
+              marketActionsBuilder_ = null;
+              marketActions_ = other.marketActions_;
+              bitField0_ = (bitField0_ & ~0x00200000);
+              marketActionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMarketActionsFieldBuilder() : null;
+            } else {
+              marketActionsBuilder_.addAllMessages(other.marketActions_);
+            }
+          }
+        }
+        if (other.hasCommodity()) {
+          setCommodity(other.getCommodity());
+        }
+        if (other.hasMarketTradableRestriction()) {
+          setMarketTradableRestriction(other.getMarketTradableRestriction());
+        }
+        if (other.hasMarketMarketableRestriction()) {
+          setMarketMarketableRestriction(other.getMarketMarketableRestriction());
+        }
+        if (other.hasMarketable()) {
+          setMarketable(other.getMarketable());
+        }
+        if (tagsBuilder_ == null) {
+          if (!other.tags_.isEmpty()) {
+            if (tags_.isEmpty()) {
+              tags_ = other.tags_;
+              bitField0_ = (bitField0_ & ~0x04000000);
+            } else {
+              ensureTagsIsMutable();
+              tags_.addAll(other.tags_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.tags_.isEmpty()) {
+            if (tagsBuilder_.isEmpty()) {
+              tagsBuilder_.dispose();
+              tagsBuilder_ = null;
+              tags_ = other.tags_;
+              bitField0_ = (bitField0_ & ~0x04000000);
+              tagsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTagsFieldBuilder() : null;
+            } else {
+              tagsBuilder_.addAllMessages(other.tags_);
+            }
+          }
+        }
+        if (other.hasItemExpiration()) {
+          itemExpiration_ = other.itemExpiration_;
+          bitField0_ |= 0x08000000;
+          onChanged();
+        }
+        if (other.hasMarketBuyCountryRestriction()) {
+          marketBuyCountryRestriction_ = other.marketBuyCountryRestriction_;
+          bitField0_ |= 0x10000000;
+          onChanged();
+        }
+        if (other.hasMarketSellCountryRestriction()) {
+          marketSellCountryRestriction_ = other.marketSellCountryRestriction_;
+          bitField0_ |= 0x20000000;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                classid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                instanceid_ = input.readUInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                currency_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 42: {
+                backgroundColor_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                iconUrl_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              case 58: {
+                iconUrlLarge_ = input.readBytes();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 58
+              case 66: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.parser(),
+                        extensionRegistry);
+                if (descriptionsBuilder_ == null) {
+                  ensureDescriptionsIsMutable();
+                  descriptions_.add(m);
+                } else {
+                  descriptionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 66
+              case 72: {
+                tradable_ = input.readBool();
+                bitField0_ |= 0x00000100;
+                break;
+              } // case 72
+              case 82: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.parser(),
+                        extensionRegistry);
+                if (actionsBuilder_ == null) {
+                  ensureActionsIsMutable();
+                  actions_.add(m);
+                } else {
+                  actionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 82
+              case 90: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.parser(),
+                        extensionRegistry);
+                if (ownerDescriptionsBuilder_ == null) {
+                  ensureOwnerDescriptionsIsMutable();
+                  ownerDescriptions_.add(m);
+                } else {
+                  ownerDescriptionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 90
+              case 98: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.parser(),
+                        extensionRegistry);
+                if (ownerActionsBuilder_ == null) {
+                  ensureOwnerActionsIsMutable();
+                  ownerActions_.add(m);
+                } else {
+                  ownerActionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 98
+              case 106: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                ensureFraudwarningsIsMutable();
+                fraudwarnings_.add(bs);
+                break;
+              } // case 106
+              case 114: {
+                name_ = input.readBytes();
+                bitField0_ |= 0x00002000;
+                break;
+              } // case 114
+              case 122: {
+                nameColor_ = input.readBytes();
+                bitField0_ |= 0x00004000;
+                break;
+              } // case 122
+              case 130: {
+                type_ = input.readBytes();
+                bitField0_ |= 0x00008000;
+                break;
+              } // case 130
+              case 138: {
+                marketName_ = input.readBytes();
+                bitField0_ |= 0x00010000;
+                break;
+              } // case 138
+              case 146: {
+                marketHashName_ = input.readBytes();
+                bitField0_ |= 0x00020000;
+                break;
+              } // case 146
+              case 154: {
+                marketFee_ = input.readBytes();
+                bitField0_ |= 0x00040000;
+                break;
+              } // case 154
+              case 162: {
+                input.readMessage(
+                    getContainedItemFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00100000;
+                break;
+              } // case 162
+              case 170: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.parser(),
+                        extensionRegistry);
+                if (marketActionsBuilder_ == null) {
+                  ensureMarketActionsIsMutable();
+                  marketActions_.add(m);
+                } else {
+                  marketActionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 170
+              case 176: {
+                commodity_ = input.readBool();
+                bitField0_ |= 0x00400000;
+                break;
+              } // case 176
+              case 184: {
+                marketTradableRestriction_ = input.readInt32();
+                bitField0_ |= 0x00800000;
+                break;
+              } // case 184
+              case 192: {
+                marketMarketableRestriction_ = input.readInt32();
+                bitField0_ |= 0x01000000;
+                break;
+              } // case 192
+              case 200: {
+                marketable_ = input.readBool();
+                bitField0_ |= 0x02000000;
+                break;
+              } // case 200
+              case 210: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.parser(),
+                        extensionRegistry);
+                if (tagsBuilder_ == null) {
+                  ensureTagsIsMutable();
+                  tags_.add(m);
+                } else {
+                  tagsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 210
+              case 218: {
+                itemExpiration_ = input.readBytes();
+                bitField0_ |= 0x08000000;
+                break;
+              } // case 218
+              case 224: {
+                marketFeeApp_ = input.readInt32();
+                bitField0_ |= 0x00080000;
+                break;
+              } // case 224
+              case 242: {
+                marketBuyCountryRestriction_ = input.readBytes();
+                bitField0_ |= 0x10000000;
+                break;
+              } // case 242
+              case 250: {
+                marketSellCountryRestriction_ = input.readBytes();
+                bitField0_ |= 0x20000000;
+                break;
+              } // case 250
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional int32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional int32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional int32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long classid_ ;
+      /**
+       * <code>optional uint64 classid = 2;</code>
+       * @return Whether the classid field is set.
+       */
+      @java.lang.Override
+      public boolean hasClassid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 classid = 2;</code>
+       * @return The classid.
+       */
+      @java.lang.Override
+      public long getClassid() {
+        return classid_;
+      }
+      /**
+       * <code>optional uint64 classid = 2;</code>
+       * @param value The classid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setClassid(long value) {
+
+        classid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 classid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearClassid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        classid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long instanceid_ ;
+      /**
+       * <code>optional uint64 instanceid = 3;</code>
+       * @return Whether the instanceid field is set.
+       */
+      @java.lang.Override
+      public boolean hasInstanceid() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional uint64 instanceid = 3;</code>
+       * @return The instanceid.
+       */
+      @java.lang.Override
+      public long getInstanceid() {
+        return instanceid_;
+      }
+      /**
+       * <code>optional uint64 instanceid = 3;</code>
+       * @param value The instanceid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInstanceid(long value) {
+
+        instanceid_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 instanceid = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInstanceid() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        instanceid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean currency_ ;
+      /**
+       * <code>optional bool currency = 4;</code>
+       * @return Whether the currency field is set.
+       */
+      @java.lang.Override
+      public boolean hasCurrency() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional bool currency = 4;</code>
+       * @return The currency.
+       */
+      @java.lang.Override
+      public boolean getCurrency() {
+        return currency_;
+      }
+      /**
+       * <code>optional bool currency = 4;</code>
+       * @param value The currency to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCurrency(boolean value) {
+
+        currency_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool currency = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCurrency() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        currency_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object backgroundColor_ = "";
+      /**
+       * <code>optional string background_color = 5;</code>
+       * @return Whether the backgroundColor field is set.
+       */
+      public boolean hasBackgroundColor() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string background_color = 5;</code>
+       * @return The backgroundColor.
+       */
+      public java.lang.String getBackgroundColor() {
+        java.lang.Object ref = backgroundColor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            backgroundColor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string background_color = 5;</code>
+       * @return The bytes for backgroundColor.
+       */
+      public com.google.protobuf.ByteString
+          getBackgroundColorBytes() {
+        java.lang.Object ref = backgroundColor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          backgroundColor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string background_color = 5;</code>
+       * @param value The backgroundColor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBackgroundColor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        backgroundColor_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string background_color = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearBackgroundColor() {
+        backgroundColor_ = getDefaultInstance().getBackgroundColor();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string background_color = 5;</code>
+       * @param value The bytes for backgroundColor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setBackgroundColorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        backgroundColor_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object iconUrl_ = "";
+      /**
+       * <code>optional string icon_url = 6;</code>
+       * @return Whether the iconUrl field is set.
+       */
+      public boolean hasIconUrl() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional string icon_url = 6;</code>
+       * @return The iconUrl.
+       */
+      public java.lang.String getIconUrl() {
+        java.lang.Object ref = iconUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            iconUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string icon_url = 6;</code>
+       * @return The bytes for iconUrl.
+       */
+      public com.google.protobuf.ByteString
+          getIconUrlBytes() {
+        java.lang.Object ref = iconUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          iconUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string icon_url = 6;</code>
+       * @param value The iconUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIconUrl(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        iconUrl_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string icon_url = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIconUrl() {
+        iconUrl_ = getDefaultInstance().getIconUrl();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string icon_url = 6;</code>
+       * @param value The bytes for iconUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIconUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        iconUrl_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object iconUrlLarge_ = "";
+      /**
+       * <code>optional string icon_url_large = 7;</code>
+       * @return Whether the iconUrlLarge field is set.
+       */
+      public boolean hasIconUrlLarge() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional string icon_url_large = 7;</code>
+       * @return The iconUrlLarge.
+       */
+      public java.lang.String getIconUrlLarge() {
+        java.lang.Object ref = iconUrlLarge_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            iconUrlLarge_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string icon_url_large = 7;</code>
+       * @return The bytes for iconUrlLarge.
+       */
+      public com.google.protobuf.ByteString
+          getIconUrlLargeBytes() {
+        java.lang.Object ref = iconUrlLarge_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          iconUrlLarge_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string icon_url_large = 7;</code>
+       * @param value The iconUrlLarge to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIconUrlLarge(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        iconUrlLarge_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string icon_url_large = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIconUrlLarge() {
+        iconUrlLarge_ = getDefaultInstance().getIconUrlLarge();
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string icon_url_large = 7;</code>
+       * @param value The bytes for iconUrlLarge to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIconUrlLargeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        iconUrlLarge_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> descriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureDescriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000080) != 0)) {
+          descriptions_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine>(descriptions_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> descriptionsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> getDescriptionsList() {
+        if (descriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(descriptions_);
+        } else {
+          return descriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public int getDescriptionsCount() {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.size();
+        } else {
+          return descriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getDescriptions(int index) {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.get(index);
+        } else {
+          return descriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder setDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.set(index, value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder setDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder addDescriptions(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.add(value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder addDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.add(index, value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder addDescriptions(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder addDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder addAllDescriptions(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> values) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, descriptions_);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder clearDescriptions() {
+        if (descriptionsBuilder_ == null) {
+          descriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000080);
+          onChanged();
+        } else {
+          descriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public Builder removeDescriptions(int index) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.remove(index);
+          onChanged();
+        } else {
+          descriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder getDescriptionsBuilder(
+          int index) {
+        return getDescriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder getDescriptionsOrBuilder(
+          int index) {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.get(index);  } else {
+          return descriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+           getDescriptionsOrBuilderList() {
+        if (descriptionsBuilder_ != null) {
+          return descriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(descriptions_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder addDescriptionsBuilder() {
+        return getDescriptionsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder addDescriptionsBuilder(
+          int index) {
+        return getDescriptionsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine descriptions = 8;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder> 
+           getDescriptionsBuilderList() {
+        return getDescriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+          getDescriptionsFieldBuilder() {
+        if (descriptionsBuilder_ == null) {
+          descriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder>(
+                  descriptions_,
+                  ((bitField0_ & 0x00000080) != 0),
+                  getParentForChildren(),
+                  isClean());
+          descriptions_ = null;
+        }
+        return descriptionsBuilder_;
+      }
+
+      private boolean tradable_ ;
+      /**
+       * <code>optional bool tradable = 9;</code>
+       * @return Whether the tradable field is set.
+       */
+      @java.lang.Override
+      public boolean hasTradable() {
+        return ((bitField0_ & 0x00000100) != 0);
+      }
+      /**
+       * <code>optional bool tradable = 9;</code>
+       * @return The tradable.
+       */
+      @java.lang.Override
+      public boolean getTradable() {
+        return tradable_;
+      }
+      /**
+       * <code>optional bool tradable = 9;</code>
+       * @param value The tradable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTradable(boolean value) {
+
+        tradable_ = value;
+        bitField0_ |= 0x00000100;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool tradable = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTradable() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        tradable_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> actions_ =
+        java.util.Collections.emptyList();
+      private void ensureActionsIsMutable() {
+        if (!((bitField0_ & 0x00000200) != 0)) {
+          actions_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action>(actions_);
+          bitField0_ |= 0x00000200;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> actionsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> getActionsList() {
+        if (actionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(actions_);
+        } else {
+          return actionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public int getActionsCount() {
+        if (actionsBuilder_ == null) {
+          return actions_.size();
+        } else {
+          return actionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getActions(int index) {
+        if (actionsBuilder_ == null) {
+          return actions_.get(index);
+        } else {
+          return actionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder setActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (actionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActionsIsMutable();
+          actions_.set(index, value);
+          onChanged();
+        } else {
+          actionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder setActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (actionsBuilder_ == null) {
+          ensureActionsIsMutable();
+          actions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          actionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder addActions(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (actionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActionsIsMutable();
+          actions_.add(value);
+          onChanged();
+        } else {
+          actionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder addActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (actionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureActionsIsMutable();
+          actions_.add(index, value);
+          onChanged();
+        } else {
+          actionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder addActions(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (actionsBuilder_ == null) {
+          ensureActionsIsMutable();
+          actions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          actionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder addActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (actionsBuilder_ == null) {
+          ensureActionsIsMutable();
+          actions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          actionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder addAllActions(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> values) {
+        if (actionsBuilder_ == null) {
+          ensureActionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, actions_);
+          onChanged();
+        } else {
+          actionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder clearActions() {
+        if (actionsBuilder_ == null) {
+          actions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000200);
+          onChanged();
+        } else {
+          actionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public Builder removeActions(int index) {
+        if (actionsBuilder_ == null) {
+          ensureActionsIsMutable();
+          actions_.remove(index);
+          onChanged();
+        } else {
+          actionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder getActionsBuilder(
+          int index) {
+        return getActionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getActionsOrBuilder(
+          int index) {
+        if (actionsBuilder_ == null) {
+          return actions_.get(index);  } else {
+          return actionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+           getActionsOrBuilderList() {
+        if (actionsBuilder_ != null) {
+          return actionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(actions_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder addActionsBuilder() {
+        return getActionsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder addActionsBuilder(
+          int index) {
+        return getActionsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Action actions = 10;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder> 
+           getActionsBuilderList() {
+        return getActionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+          getActionsFieldBuilder() {
+        if (actionsBuilder_ == null) {
+          actionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder>(
+                  actions_,
+                  ((bitField0_ & 0x00000200) != 0),
+                  getParentForChildren(),
+                  isClean());
+          actions_ = null;
+        }
+        return actionsBuilder_;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> ownerDescriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureOwnerDescriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000400) != 0)) {
+          ownerDescriptions_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine>(ownerDescriptions_);
+          bitField0_ |= 0x00000400;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> ownerDescriptionsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> getOwnerDescriptionsList() {
+        if (ownerDescriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(ownerDescriptions_);
+        } else {
+          return ownerDescriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public int getOwnerDescriptionsCount() {
+        if (ownerDescriptionsBuilder_ == null) {
+          return ownerDescriptions_.size();
+        } else {
+          return ownerDescriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine getOwnerDescriptions(int index) {
+        if (ownerDescriptionsBuilder_ == null) {
+          return ownerDescriptions_.get(index);
+        } else {
+          return ownerDescriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder setOwnerDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine value) {
+        if (ownerDescriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOwnerDescriptionsIsMutable();
+          ownerDescriptions_.set(index, value);
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder setOwnerDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder builderForValue) {
+        if (ownerDescriptionsBuilder_ == null) {
+          ensureOwnerDescriptionsIsMutable();
+          ownerDescriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder addOwnerDescriptions(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine value) {
+        if (ownerDescriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOwnerDescriptionsIsMutable();
+          ownerDescriptions_.add(value);
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder addOwnerDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine value) {
+        if (ownerDescriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOwnerDescriptionsIsMutable();
+          ownerDescriptions_.add(index, value);
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder addOwnerDescriptions(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder builderForValue) {
+        if (ownerDescriptionsBuilder_ == null) {
+          ensureOwnerDescriptionsIsMutable();
+          ownerDescriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder addOwnerDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder builderForValue) {
+        if (ownerDescriptionsBuilder_ == null) {
+          ensureOwnerDescriptionsIsMutable();
+          ownerDescriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder addAllOwnerDescriptions(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine> values) {
+        if (ownerDescriptionsBuilder_ == null) {
+          ensureOwnerDescriptionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, ownerDescriptions_);
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder clearOwnerDescriptions() {
+        if (ownerDescriptionsBuilder_ == null) {
+          ownerDescriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000400);
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public Builder removeOwnerDescriptions(int index) {
+        if (ownerDescriptionsBuilder_ == null) {
+          ensureOwnerDescriptionsIsMutable();
+          ownerDescriptions_.remove(index);
+          onChanged();
+        } else {
+          ownerDescriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder getOwnerDescriptionsBuilder(
+          int index) {
+        return getOwnerDescriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder getOwnerDescriptionsOrBuilder(
+          int index) {
+        if (ownerDescriptionsBuilder_ == null) {
+          return ownerDescriptions_.get(index);  } else {
+          return ownerDescriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+           getOwnerDescriptionsOrBuilderList() {
+        if (ownerDescriptionsBuilder_ != null) {
+          return ownerDescriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(ownerDescriptions_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder addOwnerDescriptionsBuilder() {
+        return getOwnerDescriptionsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder addOwnerDescriptionsBuilder(
+          int index) {
+        return getOwnerDescriptionsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_DescriptionLine owner_descriptions = 11;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder> 
+           getOwnerDescriptionsBuilderList() {
+        return getOwnerDescriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder> 
+          getOwnerDescriptionsFieldBuilder() {
+        if (ownerDescriptionsBuilder_ == null) {
+          ownerDescriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLine.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionLineOrBuilder>(
+                  ownerDescriptions_,
+                  ((bitField0_ & 0x00000400) != 0),
+                  getParentForChildren(),
+                  isClean());
+          ownerDescriptions_ = null;
+        }
+        return ownerDescriptionsBuilder_;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> ownerActions_ =
+        java.util.Collections.emptyList();
+      private void ensureOwnerActionsIsMutable() {
+        if (!((bitField0_ & 0x00000800) != 0)) {
+          ownerActions_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action>(ownerActions_);
+          bitField0_ |= 0x00000800;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> ownerActionsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> getOwnerActionsList() {
+        if (ownerActionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(ownerActions_);
+        } else {
+          return ownerActionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public int getOwnerActionsCount() {
+        if (ownerActionsBuilder_ == null) {
+          return ownerActions_.size();
+        } else {
+          return ownerActionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getOwnerActions(int index) {
+        if (ownerActionsBuilder_ == null) {
+          return ownerActions_.get(index);
+        } else {
+          return ownerActionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder setOwnerActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (ownerActionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOwnerActionsIsMutable();
+          ownerActions_.set(index, value);
+          onChanged();
+        } else {
+          ownerActionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder setOwnerActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (ownerActionsBuilder_ == null) {
+          ensureOwnerActionsIsMutable();
+          ownerActions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          ownerActionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder addOwnerActions(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (ownerActionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOwnerActionsIsMutable();
+          ownerActions_.add(value);
+          onChanged();
+        } else {
+          ownerActionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder addOwnerActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (ownerActionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureOwnerActionsIsMutable();
+          ownerActions_.add(index, value);
+          onChanged();
+        } else {
+          ownerActionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder addOwnerActions(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (ownerActionsBuilder_ == null) {
+          ensureOwnerActionsIsMutable();
+          ownerActions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          ownerActionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder addOwnerActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (ownerActionsBuilder_ == null) {
+          ensureOwnerActionsIsMutable();
+          ownerActions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          ownerActionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder addAllOwnerActions(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> values) {
+        if (ownerActionsBuilder_ == null) {
+          ensureOwnerActionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, ownerActions_);
+          onChanged();
+        } else {
+          ownerActionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder clearOwnerActions() {
+        if (ownerActionsBuilder_ == null) {
+          ownerActions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000800);
+          onChanged();
+        } else {
+          ownerActionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public Builder removeOwnerActions(int index) {
+        if (ownerActionsBuilder_ == null) {
+          ensureOwnerActionsIsMutable();
+          ownerActions_.remove(index);
+          onChanged();
+        } else {
+          ownerActionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder getOwnerActionsBuilder(
+          int index) {
+        return getOwnerActionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getOwnerActionsOrBuilder(
+          int index) {
+        if (ownerActionsBuilder_ == null) {
+          return ownerActions_.get(index);  } else {
+          return ownerActionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+           getOwnerActionsOrBuilderList() {
+        if (ownerActionsBuilder_ != null) {
+          return ownerActionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(ownerActions_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder addOwnerActionsBuilder() {
+        return getOwnerActionsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder addOwnerActionsBuilder(
+          int index) {
+        return getOwnerActionsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Action owner_actions = 12;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder> 
+           getOwnerActionsBuilderList() {
+        return getOwnerActionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+          getOwnerActionsFieldBuilder() {
+        if (ownerActionsBuilder_ == null) {
+          ownerActionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder>(
+                  ownerActions_,
+                  ((bitField0_ & 0x00000800) != 0),
+                  getParentForChildren(),
+                  isClean());
+          ownerActions_ = null;
+        }
+        return ownerActionsBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringArrayList fraudwarnings_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureFraudwarningsIsMutable() {
+        if (!fraudwarnings_.isModifiable()) {
+          fraudwarnings_ = new com.google.protobuf.LazyStringArrayList(fraudwarnings_);
+        }
+        bitField0_ |= 0x00001000;
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @return A list containing the fraudwarnings.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getFraudwarningsList() {
+        fraudwarnings_.makeImmutable();
+        return fraudwarnings_;
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @return The count of fraudwarnings.
+       */
+      public int getFraudwarningsCount() {
+        return fraudwarnings_.size();
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @param index The index of the element to return.
+       * @return The fraudwarnings at the given index.
+       */
+      public java.lang.String getFraudwarnings(int index) {
+        return fraudwarnings_.get(index);
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the fraudwarnings at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getFraudwarningsBytes(int index) {
+        return fraudwarnings_.getByteString(index);
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @param index The index to set the value at.
+       * @param value The fraudwarnings to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFraudwarnings(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFraudwarningsIsMutable();
+        fraudwarnings_.set(index, value);
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @param value The fraudwarnings to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFraudwarnings(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFraudwarningsIsMutable();
+        fraudwarnings_.add(value);
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @param values The fraudwarnings to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllFraudwarnings(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureFraudwarningsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, fraudwarnings_);
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFraudwarnings() {
+        fraudwarnings_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00001000);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string fraudwarnings = 13;</code>
+       * @param value The bytes of the fraudwarnings to add.
+       * @return This builder for chaining.
+       */
+      public Builder addFraudwarningsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureFraudwarningsIsMutable();
+        fraudwarnings_.add(value);
+        bitField0_ |= 0x00001000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>optional string name = 14;</code>
+       * @return Whether the name field is set.
+       */
+      public boolean hasName() {
+        return ((bitField0_ & 0x00002000) != 0);
+      }
+      /**
+       * <code>optional string name = 14;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            name_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 14;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name = 14;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 14;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        name_ = getDefaultInstance().getName();
+        bitField0_ = (bitField0_ & ~0x00002000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name = 14;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        name_ = value;
+        bitField0_ |= 0x00002000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object nameColor_ = "";
+      /**
+       * <code>optional string name_color = 15;</code>
+       * @return Whether the nameColor field is set.
+       */
+      public boolean hasNameColor() {
+        return ((bitField0_ & 0x00004000) != 0);
+      }
+      /**
+       * <code>optional string name_color = 15;</code>
+       * @return The nameColor.
+       */
+      public java.lang.String getNameColor() {
+        java.lang.Object ref = nameColor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            nameColor_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string name_color = 15;</code>
+       * @return The bytes for nameColor.
+       */
+      public com.google.protobuf.ByteString
+          getNameColorBytes() {
+        java.lang.Object ref = nameColor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          nameColor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string name_color = 15;</code>
+       * @param value The nameColor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameColor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        nameColor_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name_color = 15;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNameColor() {
+        nameColor_ = getDefaultInstance().getNameColor();
+        bitField0_ = (bitField0_ & ~0x00004000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string name_color = 15;</code>
+       * @param value The bytes for nameColor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameColorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        nameColor_ = value;
+        bitField0_ |= 0x00004000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>optional string type = 16;</code>
+       * @return Whether the type field is set.
+       */
+      public boolean hasType() {
+        return ((bitField0_ & 0x00008000) != 0);
+      }
+      /**
+       * <code>optional string type = 16;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            type_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 16;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string type = 16;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 16;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        type_ = getDefaultInstance().getType();
+        bitField0_ = (bitField0_ & ~0x00008000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string type = 16;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        type_ = value;
+        bitField0_ |= 0x00008000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object marketName_ = "";
+      /**
+       * <code>optional string market_name = 17;</code>
+       * @return Whether the marketName field is set.
+       */
+      public boolean hasMarketName() {
+        return ((bitField0_ & 0x00010000) != 0);
+      }
+      /**
+       * <code>optional string market_name = 17;</code>
+       * @return The marketName.
+       */
+      public java.lang.String getMarketName() {
+        java.lang.Object ref = marketName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            marketName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string market_name = 17;</code>
+       * @return The bytes for marketName.
+       */
+      public com.google.protobuf.ByteString
+          getMarketNameBytes() {
+        java.lang.Object ref = marketName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          marketName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string market_name = 17;</code>
+       * @param value The marketName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketName_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_name = 17;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketName() {
+        marketName_ = getDefaultInstance().getMarketName();
+        bitField0_ = (bitField0_ & ~0x00010000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_name = 17;</code>
+       * @param value The bytes for marketName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketName_ = value;
+        bitField0_ |= 0x00010000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object marketHashName_ = "";
+      /**
+       * <code>optional string market_hash_name = 18;</code>
+       * @return Whether the marketHashName field is set.
+       */
+      public boolean hasMarketHashName() {
+        return ((bitField0_ & 0x00020000) != 0);
+      }
+      /**
+       * <code>optional string market_hash_name = 18;</code>
+       * @return The marketHashName.
+       */
+      public java.lang.String getMarketHashName() {
+        java.lang.Object ref = marketHashName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            marketHashName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string market_hash_name = 18;</code>
+       * @return The bytes for marketHashName.
+       */
+      public com.google.protobuf.ByteString
+          getMarketHashNameBytes() {
+        java.lang.Object ref = marketHashName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          marketHashName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string market_hash_name = 18;</code>
+       * @param value The marketHashName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketHashName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketHashName_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_hash_name = 18;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketHashName() {
+        marketHashName_ = getDefaultInstance().getMarketHashName();
+        bitField0_ = (bitField0_ & ~0x00020000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_hash_name = 18;</code>
+       * @param value The bytes for marketHashName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketHashNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketHashName_ = value;
+        bitField0_ |= 0x00020000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object marketFee_ = "";
+      /**
+       * <code>optional string market_fee = 19;</code>
+       * @return Whether the marketFee field is set.
+       */
+      public boolean hasMarketFee() {
+        return ((bitField0_ & 0x00040000) != 0);
+      }
+      /**
+       * <code>optional string market_fee = 19;</code>
+       * @return The marketFee.
+       */
+      public java.lang.String getMarketFee() {
+        java.lang.Object ref = marketFee_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            marketFee_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string market_fee = 19;</code>
+       * @return The bytes for marketFee.
+       */
+      public com.google.protobuf.ByteString
+          getMarketFeeBytes() {
+        java.lang.Object ref = marketFee_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          marketFee_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string market_fee = 19;</code>
+       * @param value The marketFee to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketFee(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketFee_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_fee = 19;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketFee() {
+        marketFee_ = getDefaultInstance().getMarketFee();
+        bitField0_ = (bitField0_ & ~0x00040000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_fee = 19;</code>
+       * @param value The bytes for marketFee to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketFeeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketFee_ = value;
+        bitField0_ |= 0x00040000;
+        onChanged();
+        return this;
+      }
+
+      private int marketFeeApp_ ;
+      /**
+       * <code>optional int32 market_fee_app = 28;</code>
+       * @return Whether the marketFeeApp field is set.
+       */
+      @java.lang.Override
+      public boolean hasMarketFeeApp() {
+        return ((bitField0_ & 0x00080000) != 0);
+      }
+      /**
+       * <code>optional int32 market_fee_app = 28;</code>
+       * @return The marketFeeApp.
+       */
+      @java.lang.Override
+      public int getMarketFeeApp() {
+        return marketFeeApp_;
+      }
+      /**
+       * <code>optional int32 market_fee_app = 28;</code>
+       * @param value The marketFeeApp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketFeeApp(int value) {
+
+        marketFeeApp_ = value;
+        bitField0_ |= 0x00080000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 market_fee_app = 28;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketFeeApp() {
+        bitField0_ = (bitField0_ & ~0x00080000);
+        marketFeeApp_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description containedItem_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> containedItemBuilder_;
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       * @return Whether the containedItem field is set.
+       */
+      public boolean hasContainedItem() {
+        return ((bitField0_ & 0x00100000) != 0);
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       * @return The containedItem.
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getContainedItem() {
+        if (containedItemBuilder_ == null) {
+          return containedItem_ == null ? com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance() : containedItem_;
+        } else {
+          return containedItemBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       */
+      public Builder setContainedItem(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (containedItemBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          containedItem_ = value;
+        } else {
+          containedItemBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       */
+      public Builder setContainedItem(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder builderForValue) {
+        if (containedItemBuilder_ == null) {
+          containedItem_ = builderForValue.build();
+        } else {
+          containedItemBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       */
+      public Builder mergeContainedItem(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (containedItemBuilder_ == null) {
+          if (((bitField0_ & 0x00100000) != 0) &&
+            containedItem_ != null &&
+            containedItem_ != com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance()) {
+            getContainedItemBuilder().mergeFrom(value);
+          } else {
+            containedItem_ = value;
+          }
+        } else {
+          containedItemBuilder_.mergeFrom(value);
+        }
+        if (containedItem_ != null) {
+          bitField0_ |= 0x00100000;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       */
+      public Builder clearContainedItem() {
+        bitField0_ = (bitField0_ & ~0x00100000);
+        containedItem_ = null;
+        if (containedItemBuilder_ != null) {
+          containedItemBuilder_.dispose();
+          containedItemBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder getContainedItemBuilder() {
+        bitField0_ |= 0x00100000;
+        onChanged();
+        return getContainedItemFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getContainedItemOrBuilder() {
+        if (containedItemBuilder_ != null) {
+          return containedItemBuilder_.getMessageOrBuilder();
+        } else {
+          return containedItem_ == null ?
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance() : containedItem_;
+        }
+      }
+      /**
+       * <code>optional .CEconItem_Description contained_item = 20;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+          getContainedItemFieldBuilder() {
+        if (containedItemBuilder_ == null) {
+          containedItemBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder>(
+                  getContainedItem(),
+                  getParentForChildren(),
+                  isClean());
+          containedItem_ = null;
+        }
+        return containedItemBuilder_;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> marketActions_ =
+        java.util.Collections.emptyList();
+      private void ensureMarketActionsIsMutable() {
+        if (!((bitField0_ & 0x00200000) != 0)) {
+          marketActions_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action>(marketActions_);
+          bitField0_ |= 0x00200000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> marketActionsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> getMarketActionsList() {
+        if (marketActionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(marketActions_);
+        } else {
+          return marketActionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public int getMarketActionsCount() {
+        if (marketActionsBuilder_ == null) {
+          return marketActions_.size();
+        } else {
+          return marketActionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action getMarketActions(int index) {
+        if (marketActionsBuilder_ == null) {
+          return marketActions_.get(index);
+        } else {
+          return marketActionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder setMarketActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (marketActionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMarketActionsIsMutable();
+          marketActions_.set(index, value);
+          onChanged();
+        } else {
+          marketActionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder setMarketActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (marketActionsBuilder_ == null) {
+          ensureMarketActionsIsMutable();
+          marketActions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          marketActionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder addMarketActions(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (marketActionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMarketActionsIsMutable();
+          marketActions_.add(value);
+          onChanged();
+        } else {
+          marketActionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder addMarketActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action value) {
+        if (marketActionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMarketActionsIsMutable();
+          marketActions_.add(index, value);
+          onChanged();
+        } else {
+          marketActionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder addMarketActions(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (marketActionsBuilder_ == null) {
+          ensureMarketActionsIsMutable();
+          marketActions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          marketActionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder addMarketActions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder builderForValue) {
+        if (marketActionsBuilder_ == null) {
+          ensureMarketActionsIsMutable();
+          marketActions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          marketActionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder addAllMarketActions(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action> values) {
+        if (marketActionsBuilder_ == null) {
+          ensureMarketActionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, marketActions_);
+          onChanged();
+        } else {
+          marketActionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder clearMarketActions() {
+        if (marketActionsBuilder_ == null) {
+          marketActions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00200000);
+          onChanged();
+        } else {
+          marketActionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public Builder removeMarketActions(int index) {
+        if (marketActionsBuilder_ == null) {
+          ensureMarketActionsIsMutable();
+          marketActions_.remove(index);
+          onChanged();
+        } else {
+          marketActionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder getMarketActionsBuilder(
+          int index) {
+        return getMarketActionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder getMarketActionsOrBuilder(
+          int index) {
+        if (marketActionsBuilder_ == null) {
+          return marketActions_.get(index);  } else {
+          return marketActionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+           getMarketActionsOrBuilderList() {
+        if (marketActionsBuilder_ != null) {
+          return marketActionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(marketActions_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder addMarketActionsBuilder() {
+        return getMarketActionsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder addMarketActionsBuilder(
+          int index) {
+        return getMarketActionsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Action market_actions = 21;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder> 
+           getMarketActionsBuilderList() {
+        return getMarketActionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder> 
+          getMarketActionsFieldBuilder() {
+        if (marketActionsBuilder_ == null) {
+          marketActionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Action.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_ActionOrBuilder>(
+                  marketActions_,
+                  ((bitField0_ & 0x00200000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          marketActions_ = null;
+        }
+        return marketActionsBuilder_;
+      }
+
+      private boolean commodity_ ;
+      /**
+       * <code>optional bool commodity = 22;</code>
+       * @return Whether the commodity field is set.
+       */
+      @java.lang.Override
+      public boolean hasCommodity() {
+        return ((bitField0_ & 0x00400000) != 0);
+      }
+      /**
+       * <code>optional bool commodity = 22;</code>
+       * @return The commodity.
+       */
+      @java.lang.Override
+      public boolean getCommodity() {
+        return commodity_;
+      }
+      /**
+       * <code>optional bool commodity = 22;</code>
+       * @param value The commodity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCommodity(boolean value) {
+
+        commodity_ = value;
+        bitField0_ |= 0x00400000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool commodity = 22;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCommodity() {
+        bitField0_ = (bitField0_ & ~0x00400000);
+        commodity_ = false;
+        onChanged();
+        return this;
+      }
+
+      private int marketTradableRestriction_ ;
+      /**
+       * <code>optional int32 market_tradable_restriction = 23;</code>
+       * @return Whether the marketTradableRestriction field is set.
+       */
+      @java.lang.Override
+      public boolean hasMarketTradableRestriction() {
+        return ((bitField0_ & 0x00800000) != 0);
+      }
+      /**
+       * <code>optional int32 market_tradable_restriction = 23;</code>
+       * @return The marketTradableRestriction.
+       */
+      @java.lang.Override
+      public int getMarketTradableRestriction() {
+        return marketTradableRestriction_;
+      }
+      /**
+       * <code>optional int32 market_tradable_restriction = 23;</code>
+       * @param value The marketTradableRestriction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketTradableRestriction(int value) {
+
+        marketTradableRestriction_ = value;
+        bitField0_ |= 0x00800000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 market_tradable_restriction = 23;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketTradableRestriction() {
+        bitField0_ = (bitField0_ & ~0x00800000);
+        marketTradableRestriction_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int marketMarketableRestriction_ ;
+      /**
+       * <code>optional int32 market_marketable_restriction = 24;</code>
+       * @return Whether the marketMarketableRestriction field is set.
+       */
+      @java.lang.Override
+      public boolean hasMarketMarketableRestriction() {
+        return ((bitField0_ & 0x01000000) != 0);
+      }
+      /**
+       * <code>optional int32 market_marketable_restriction = 24;</code>
+       * @return The marketMarketableRestriction.
+       */
+      @java.lang.Override
+      public int getMarketMarketableRestriction() {
+        return marketMarketableRestriction_;
+      }
+      /**
+       * <code>optional int32 market_marketable_restriction = 24;</code>
+       * @param value The marketMarketableRestriction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketMarketableRestriction(int value) {
+
+        marketMarketableRestriction_ = value;
+        bitField0_ |= 0x01000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 market_marketable_restriction = 24;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketMarketableRestriction() {
+        bitField0_ = (bitField0_ & ~0x01000000);
+        marketMarketableRestriction_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private boolean marketable_ ;
+      /**
+       * <code>optional bool marketable = 25;</code>
+       * @return Whether the marketable field is set.
+       */
+      @java.lang.Override
+      public boolean hasMarketable() {
+        return ((bitField0_ & 0x02000000) != 0);
+      }
+      /**
+       * <code>optional bool marketable = 25;</code>
+       * @return The marketable.
+       */
+      @java.lang.Override
+      public boolean getMarketable() {
+        return marketable_;
+      }
+      /**
+       * <code>optional bool marketable = 25;</code>
+       * @param value The marketable to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketable(boolean value) {
+
+        marketable_ = value;
+        bitField0_ |= 0x02000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool marketable = 25;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketable() {
+        bitField0_ = (bitField0_ & ~0x02000000);
+        marketable_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag> tags_ =
+        java.util.Collections.emptyList();
+      private void ensureTagsIsMutable() {
+        if (!((bitField0_ & 0x04000000) != 0)) {
+          tags_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag>(tags_);
+          bitField0_ |= 0x04000000;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder> tagsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag> getTagsList() {
+        if (tagsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(tags_);
+        } else {
+          return tagsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public int getTagsCount() {
+        if (tagsBuilder_ == null) {
+          return tags_.size();
+        } else {
+          return tagsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag getTags(int index) {
+        if (tagsBuilder_ == null) {
+          return tags_.get(index);
+        } else {
+          return tagsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder setTags(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag value) {
+        if (tagsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTagsIsMutable();
+          tags_.set(index, value);
+          onChanged();
+        } else {
+          tagsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder setTags(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder builderForValue) {
+        if (tagsBuilder_ == null) {
+          ensureTagsIsMutable();
+          tags_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          tagsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder addTags(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag value) {
+        if (tagsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTagsIsMutable();
+          tags_.add(value);
+          onChanged();
+        } else {
+          tagsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder addTags(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag value) {
+        if (tagsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTagsIsMutable();
+          tags_.add(index, value);
+          onChanged();
+        } else {
+          tagsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder addTags(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder builderForValue) {
+        if (tagsBuilder_ == null) {
+          ensureTagsIsMutable();
+          tags_.add(builderForValue.build());
+          onChanged();
+        } else {
+          tagsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder addTags(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder builderForValue) {
+        if (tagsBuilder_ == null) {
+          ensureTagsIsMutable();
+          tags_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          tagsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder addAllTags(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag> values) {
+        if (tagsBuilder_ == null) {
+          ensureTagsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, tags_);
+          onChanged();
+        } else {
+          tagsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder clearTags() {
+        if (tagsBuilder_ == null) {
+          tags_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x04000000);
+          onChanged();
+        } else {
+          tagsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public Builder removeTags(int index) {
+        if (tagsBuilder_ == null) {
+          ensureTagsIsMutable();
+          tags_.remove(index);
+          onChanged();
+        } else {
+          tagsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder getTagsBuilder(
+          int index) {
+        return getTagsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder getTagsOrBuilder(
+          int index) {
+        if (tagsBuilder_ == null) {
+          return tags_.get(index);  } else {
+          return tagsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder> 
+           getTagsOrBuilderList() {
+        if (tagsBuilder_ != null) {
+          return tagsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(tags_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder addTagsBuilder() {
+        return getTagsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder addTagsBuilder(
+          int index) {
+        return getTagsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Tag tags = 26;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder> 
+           getTagsBuilderList() {
+        return getTagsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder> 
+          getTagsFieldBuilder() {
+        if (tagsBuilder_ == null) {
+          tagsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder>(
+                  tags_,
+                  ((bitField0_ & 0x04000000) != 0),
+                  getParentForChildren(),
+                  isClean());
+          tags_ = null;
+        }
+        return tagsBuilder_;
+      }
+
+      private java.lang.Object itemExpiration_ = "";
+      /**
+       * <code>optional string item_expiration = 27;</code>
+       * @return Whether the itemExpiration field is set.
+       */
+      public boolean hasItemExpiration() {
+        return ((bitField0_ & 0x08000000) != 0);
+      }
+      /**
+       * <code>optional string item_expiration = 27;</code>
+       * @return The itemExpiration.
+       */
+      public java.lang.String getItemExpiration() {
+        java.lang.Object ref = itemExpiration_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            itemExpiration_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string item_expiration = 27;</code>
+       * @return The bytes for itemExpiration.
+       */
+      public com.google.protobuf.ByteString
+          getItemExpirationBytes() {
+        java.lang.Object ref = itemExpiration_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          itemExpiration_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string item_expiration = 27;</code>
+       * @param value The itemExpiration to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemExpiration(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        itemExpiration_ = value;
+        bitField0_ |= 0x08000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string item_expiration = 27;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemExpiration() {
+        itemExpiration_ = getDefaultInstance().getItemExpiration();
+        bitField0_ = (bitField0_ & ~0x08000000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string item_expiration = 27;</code>
+       * @param value The bytes for itemExpiration to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemExpirationBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        itemExpiration_ = value;
+        bitField0_ |= 0x08000000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object marketBuyCountryRestriction_ = "";
+      /**
+       * <code>optional string market_buy_country_restriction = 30;</code>
+       * @return Whether the marketBuyCountryRestriction field is set.
+       */
+      public boolean hasMarketBuyCountryRestriction() {
+        return ((bitField0_ & 0x10000000) != 0);
+      }
+      /**
+       * <code>optional string market_buy_country_restriction = 30;</code>
+       * @return The marketBuyCountryRestriction.
+       */
+      public java.lang.String getMarketBuyCountryRestriction() {
+        java.lang.Object ref = marketBuyCountryRestriction_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            marketBuyCountryRestriction_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string market_buy_country_restriction = 30;</code>
+       * @return The bytes for marketBuyCountryRestriction.
+       */
+      public com.google.protobuf.ByteString
+          getMarketBuyCountryRestrictionBytes() {
+        java.lang.Object ref = marketBuyCountryRestriction_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          marketBuyCountryRestriction_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string market_buy_country_restriction = 30;</code>
+       * @param value The marketBuyCountryRestriction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketBuyCountryRestriction(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketBuyCountryRestriction_ = value;
+        bitField0_ |= 0x10000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_buy_country_restriction = 30;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketBuyCountryRestriction() {
+        marketBuyCountryRestriction_ = getDefaultInstance().getMarketBuyCountryRestriction();
+        bitField0_ = (bitField0_ & ~0x10000000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_buy_country_restriction = 30;</code>
+       * @param value The bytes for marketBuyCountryRestriction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketBuyCountryRestrictionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketBuyCountryRestriction_ = value;
+        bitField0_ |= 0x10000000;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object marketSellCountryRestriction_ = "";
+      /**
+       * <code>optional string market_sell_country_restriction = 31;</code>
+       * @return Whether the marketSellCountryRestriction field is set.
+       */
+      public boolean hasMarketSellCountryRestriction() {
+        return ((bitField0_ & 0x20000000) != 0);
+      }
+      /**
+       * <code>optional string market_sell_country_restriction = 31;</code>
+       * @return The marketSellCountryRestriction.
+       */
+      public java.lang.String getMarketSellCountryRestriction() {
+        java.lang.Object ref = marketSellCountryRestriction_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            marketSellCountryRestriction_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string market_sell_country_restriction = 31;</code>
+       * @return The bytes for marketSellCountryRestriction.
+       */
+      public com.google.protobuf.ByteString
+          getMarketSellCountryRestrictionBytes() {
+        java.lang.Object ref = marketSellCountryRestriction_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          marketSellCountryRestriction_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string market_sell_country_restriction = 31;</code>
+       * @param value The marketSellCountryRestriction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketSellCountryRestriction(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketSellCountryRestriction_ = value;
+        bitField0_ |= 0x20000000;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_sell_country_restriction = 31;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMarketSellCountryRestriction() {
+        marketSellCountryRestriction_ = getDefaultInstance().getMarketSellCountryRestriction();
+        bitField0_ = (bitField0_ & ~0x20000000);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string market_sell_country_restriction = 31;</code>
+       * @param value The bytes for marketSellCountryRestriction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMarketSellCountryRestrictionBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        marketSellCountryRestriction_ = value;
+        bitField0_ |= 0x20000000;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEconItem_Description)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEconItem_Description)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEconItem_Description>
+        PARSER = new com.google.protobuf.AbstractParser<CEconItem_Description>() {
+      @java.lang.Override
+      public CEconItem_Description parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEconItem_Description> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEconItem_Description> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEconItem_TagOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEconItem_Tag)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional string category = 2;</code>
+     * @return Whether the category field is set.
+     */
+    boolean hasCategory();
+    /**
+     * <code>optional string category = 2;</code>
+     * @return The category.
+     */
+    java.lang.String getCategory();
+    /**
+     * <code>optional string category = 2;</code>
+     * @return The bytes for category.
+     */
+    com.google.protobuf.ByteString
+        getCategoryBytes();
+
+    /**
+     * <code>optional string internal_name = 3;</code>
+     * @return Whether the internalName field is set.
+     */
+    boolean hasInternalName();
+    /**
+     * <code>optional string internal_name = 3;</code>
+     * @return The internalName.
+     */
+    java.lang.String getInternalName();
+    /**
+     * <code>optional string internal_name = 3;</code>
+     * @return The bytes for internalName.
+     */
+    com.google.protobuf.ByteString
+        getInternalNameBytes();
+
+    /**
+     * <code>optional string localized_category_name = 4;</code>
+     * @return Whether the localizedCategoryName field is set.
+     */
+    boolean hasLocalizedCategoryName();
+    /**
+     * <code>optional string localized_category_name = 4;</code>
+     * @return The localizedCategoryName.
+     */
+    java.lang.String getLocalizedCategoryName();
+    /**
+     * <code>optional string localized_category_name = 4;</code>
+     * @return The bytes for localizedCategoryName.
+     */
+    com.google.protobuf.ByteString
+        getLocalizedCategoryNameBytes();
+
+    /**
+     * <code>optional string localized_tag_name = 5;</code>
+     * @return Whether the localizedTagName field is set.
+     */
+    boolean hasLocalizedTagName();
+    /**
+     * <code>optional string localized_tag_name = 5;</code>
+     * @return The localizedTagName.
+     */
+    java.lang.String getLocalizedTagName();
+    /**
+     * <code>optional string localized_tag_name = 5;</code>
+     * @return The bytes for localizedTagName.
+     */
+    com.google.protobuf.ByteString
+        getLocalizedTagNameBytes();
+
+    /**
+     * <code>optional string color = 6;</code>
+     * @return Whether the color field is set.
+     */
+    boolean hasColor();
+    /**
+     * <code>optional string color = 6;</code>
+     * @return The color.
+     */
+    java.lang.String getColor();
+    /**
+     * <code>optional string color = 6;</code>
+     * @return The bytes for color.
+     */
+    com.google.protobuf.ByteString
+        getColorBytes();
+  }
+  /**
+   * Protobuf type {@code CEconItem_Tag}
+   */
+  public static final class CEconItem_Tag extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEconItem_Tag)
+      CEconItem_TagOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEconItem_Tag.class.getName());
+    }
+    // Use CEconItem_Tag.newBuilder() to construct.
+    private CEconItem_Tag(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEconItem_Tag() {
+      category_ = "";
+      internalName_ = "";
+      localizedCategoryName_ = "";
+      localizedTagName_ = "";
+      color_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Tag_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Tag_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int CATEGORY_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object category_ = "";
+    /**
+     * <code>optional string category = 2;</code>
+     * @return Whether the category field is set.
+     */
+    @java.lang.Override
+    public boolean hasCategory() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string category = 2;</code>
+     * @return The category.
+     */
+    @java.lang.Override
+    public java.lang.String getCategory() {
+      java.lang.Object ref = category_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          category_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string category = 2;</code>
+     * @return The bytes for category.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCategoryBytes() {
+      java.lang.Object ref = category_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        category_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int INTERNAL_NAME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object internalName_ = "";
+    /**
+     * <code>optional string internal_name = 3;</code>
+     * @return Whether the internalName field is set.
+     */
+    @java.lang.Override
+    public boolean hasInternalName() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string internal_name = 3;</code>
+     * @return The internalName.
+     */
+    @java.lang.Override
+    public java.lang.String getInternalName() {
+      java.lang.Object ref = internalName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          internalName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string internal_name = 3;</code>
+     * @return The bytes for internalName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getInternalNameBytes() {
+      java.lang.Object ref = internalName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        internalName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOCALIZED_CATEGORY_NAME_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object localizedCategoryName_ = "";
+    /**
+     * <code>optional string localized_category_name = 4;</code>
+     * @return Whether the localizedCategoryName field is set.
+     */
+    @java.lang.Override
+    public boolean hasLocalizedCategoryName() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string localized_category_name = 4;</code>
+     * @return The localizedCategoryName.
+     */
+    @java.lang.Override
+    public java.lang.String getLocalizedCategoryName() {
+      java.lang.Object ref = localizedCategoryName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          localizedCategoryName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string localized_category_name = 4;</code>
+     * @return The bytes for localizedCategoryName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLocalizedCategoryNameBytes() {
+      java.lang.Object ref = localizedCategoryName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        localizedCategoryName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int LOCALIZED_TAG_NAME_FIELD_NUMBER = 5;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object localizedTagName_ = "";
+    /**
+     * <code>optional string localized_tag_name = 5;</code>
+     * @return Whether the localizedTagName field is set.
+     */
+    @java.lang.Override
+    public boolean hasLocalizedTagName() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional string localized_tag_name = 5;</code>
+     * @return The localizedTagName.
+     */
+    @java.lang.Override
+    public java.lang.String getLocalizedTagName() {
+      java.lang.Object ref = localizedTagName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          localizedTagName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string localized_tag_name = 5;</code>
+     * @return The bytes for localizedTagName.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLocalizedTagNameBytes() {
+      java.lang.Object ref = localizedTagName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        localizedTagName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLOR_FIELD_NUMBER = 6;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object color_ = "";
+    /**
+     * <code>optional string color = 6;</code>
+     * @return Whether the color field is set.
+     */
+    @java.lang.Override
+    public boolean hasColor() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional string color = 6;</code>
+     * @return The color.
+     */
+    @java.lang.Override
+    public java.lang.String getColor() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          color_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string color = 6;</code>
+     * @return The bytes for color.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getColorBytes() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        color_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, category_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, internalName_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, localizedCategoryName_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 5, localizedTagName_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 6, color_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, category_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, internalName_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, localizedCategoryName_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(5, localizedTagName_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(6, color_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasCategory() != other.hasCategory()) return false;
+      if (hasCategory()) {
+        if (!getCategory()
+            .equals(other.getCategory())) return false;
+      }
+      if (hasInternalName() != other.hasInternalName()) return false;
+      if (hasInternalName()) {
+        if (!getInternalName()
+            .equals(other.getInternalName())) return false;
+      }
+      if (hasLocalizedCategoryName() != other.hasLocalizedCategoryName()) return false;
+      if (hasLocalizedCategoryName()) {
+        if (!getLocalizedCategoryName()
+            .equals(other.getLocalizedCategoryName())) return false;
+      }
+      if (hasLocalizedTagName() != other.hasLocalizedTagName()) return false;
+      if (hasLocalizedTagName()) {
+        if (!getLocalizedTagName()
+            .equals(other.getLocalizedTagName())) return false;
+      }
+      if (hasColor() != other.hasColor()) return false;
+      if (hasColor()) {
+        if (!getColor()
+            .equals(other.getColor())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasCategory()) {
+        hash = (37 * hash) + CATEGORY_FIELD_NUMBER;
+        hash = (53 * hash) + getCategory().hashCode();
+      }
+      if (hasInternalName()) {
+        hash = (37 * hash) + INTERNAL_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getInternalName().hashCode();
+      }
+      if (hasLocalizedCategoryName()) {
+        hash = (37 * hash) + LOCALIZED_CATEGORY_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getLocalizedCategoryName().hashCode();
+      }
+      if (hasLocalizedTagName()) {
+        hash = (37 * hash) + LOCALIZED_TAG_NAME_FIELD_NUMBER;
+        hash = (53 * hash) + getLocalizedTagName().hashCode();
+      }
+      if (hasColor()) {
+        hash = (37 * hash) + COLOR_FIELD_NUMBER;
+        hash = (53 * hash) + getColor().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEconItem_Tag}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEconItem_Tag)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_TagOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Tag_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Tag_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        category_ = "";
+        internalName_ = "";
+        localizedCategoryName_ = "";
+        localizedTagName_ = "";
+        color_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEconItem_Tag_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.category_ = category_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.internalName_ = internalName_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.localizedCategoryName_ = localizedCategoryName_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.localizedTagName_ = localizedTagName_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.color_ = color_;
+          to_bitField0_ |= 0x00000020;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasCategory()) {
+          category_ = other.category_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        if (other.hasInternalName()) {
+          internalName_ = other.internalName_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasLocalizedCategoryName()) {
+          localizedCategoryName_ = other.localizedCategoryName_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasLocalizedTagName()) {
+          localizedTagName_ = other.localizedTagName_;
+          bitField0_ |= 0x00000010;
+          onChanged();
+        }
+        if (other.hasColor()) {
+          color_ = other.color_;
+          bitField0_ |= 0x00000020;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                category_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              case 26: {
+                internalName_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                localizedCategoryName_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                localizedTagName_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 50: {
+                color_ = input.readBytes();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 50
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object category_ = "";
+      /**
+       * <code>optional string category = 2;</code>
+       * @return Whether the category field is set.
+       */
+      public boolean hasCategory() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string category = 2;</code>
+       * @return The category.
+       */
+      public java.lang.String getCategory() {
+        java.lang.Object ref = category_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            category_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string category = 2;</code>
+       * @return The bytes for category.
+       */
+      public com.google.protobuf.ByteString
+          getCategoryBytes() {
+        java.lang.Object ref = category_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          category_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string category = 2;</code>
+       * @param value The category to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCategory(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        category_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string category = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCategory() {
+        category_ = getDefaultInstance().getCategory();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string category = 2;</code>
+       * @param value The bytes for category to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCategoryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        category_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object internalName_ = "";
+      /**
+       * <code>optional string internal_name = 3;</code>
+       * @return Whether the internalName field is set.
+       */
+      public boolean hasInternalName() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string internal_name = 3;</code>
+       * @return The internalName.
+       */
+      public java.lang.String getInternalName() {
+        java.lang.Object ref = internalName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            internalName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string internal_name = 3;</code>
+       * @return The bytes for internalName.
+       */
+      public com.google.protobuf.ByteString
+          getInternalNameBytes() {
+        java.lang.Object ref = internalName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          internalName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string internal_name = 3;</code>
+       * @param value The internalName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInternalName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        internalName_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string internal_name = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearInternalName() {
+        internalName_ = getDefaultInstance().getInternalName();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string internal_name = 3;</code>
+       * @param value The bytes for internalName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setInternalNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        internalName_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object localizedCategoryName_ = "";
+      /**
+       * <code>optional string localized_category_name = 4;</code>
+       * @return Whether the localizedCategoryName field is set.
+       */
+      public boolean hasLocalizedCategoryName() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string localized_category_name = 4;</code>
+       * @return The localizedCategoryName.
+       */
+      public java.lang.String getLocalizedCategoryName() {
+        java.lang.Object ref = localizedCategoryName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            localizedCategoryName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string localized_category_name = 4;</code>
+       * @return The bytes for localizedCategoryName.
+       */
+      public com.google.protobuf.ByteString
+          getLocalizedCategoryNameBytes() {
+        java.lang.Object ref = localizedCategoryName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          localizedCategoryName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string localized_category_name = 4;</code>
+       * @param value The localizedCategoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocalizedCategoryName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        localizedCategoryName_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string localized_category_name = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLocalizedCategoryName() {
+        localizedCategoryName_ = getDefaultInstance().getLocalizedCategoryName();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string localized_category_name = 4;</code>
+       * @param value The bytes for localizedCategoryName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocalizedCategoryNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        localizedCategoryName_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object localizedTagName_ = "";
+      /**
+       * <code>optional string localized_tag_name = 5;</code>
+       * @return Whether the localizedTagName field is set.
+       */
+      public boolean hasLocalizedTagName() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional string localized_tag_name = 5;</code>
+       * @return The localizedTagName.
+       */
+      public java.lang.String getLocalizedTagName() {
+        java.lang.Object ref = localizedTagName_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            localizedTagName_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string localized_tag_name = 5;</code>
+       * @return The bytes for localizedTagName.
+       */
+      public com.google.protobuf.ByteString
+          getLocalizedTagNameBytes() {
+        java.lang.Object ref = localizedTagName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          localizedTagName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string localized_tag_name = 5;</code>
+       * @param value The localizedTagName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocalizedTagName(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        localizedTagName_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string localized_tag_name = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLocalizedTagName() {
+        localizedTagName_ = getDefaultInstance().getLocalizedTagName();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string localized_tag_name = 5;</code>
+       * @param value The bytes for localizedTagName to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLocalizedTagNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        localizedTagName_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object color_ = "";
+      /**
+       * <code>optional string color = 6;</code>
+       * @return Whether the color field is set.
+       */
+      public boolean hasColor() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional string color = 6;</code>
+       * @return The color.
+       */
+      public java.lang.String getColor() {
+        java.lang.Object ref = color_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            color_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string color = 6;</code>
+       * @return The bytes for color.
+       */
+      public com.google.protobuf.ByteString
+          getColorBytes() {
+        java.lang.Object ref = color_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          color_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string color = 6;</code>
+       * @param value The color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColor(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        color_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string color = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearColor() {
+        color_ = getDefaultInstance().getColor();
+        bitField0_ = (bitField0_ & ~0x00000020);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string color = 6;</code>
+       * @param value The bytes for color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        color_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEconItem_Tag)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEconItem_Tag)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEconItem_Tag>
+        PARSER = new com.google.protobuf.AbstractParser<CEconItem_Tag>() {
+      @java.lang.Override
+      public CEconItem_Tag parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEconItem_Tag> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEconItem_Tag> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Tag getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_GetInventoryItemsWithDescriptions_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_GetInventoryItemsWithDescriptions_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> 
+        getAssetsList();
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getAssets(int index);
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    int getAssetsCount();
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+        getAssetsOrBuilderList();
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder getAssetsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> 
+        getDescriptionsList();
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDescriptions(int index);
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    int getDescriptionsCount();
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+        getDescriptionsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getDescriptionsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> 
+        getMissingAssetsList();
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getMissingAssets(int index);
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    int getMissingAssetsCount();
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+        getMissingAssetsOrBuilderList();
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder getMissingAssetsOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool more_items = 4;</code>
+     * @return Whether the moreItems field is set.
+     */
+    boolean hasMoreItems();
+    /**
+     * <code>optional bool more_items = 4;</code>
+     * @return The moreItems.
+     */
+    boolean getMoreItems();
+
+    /**
+     * <code>optional uint64 last_assetid = 5;</code>
+     * @return Whether the lastAssetid field is set.
+     */
+    boolean hasLastAssetid();
+    /**
+     * <code>optional uint64 last_assetid = 5;</code>
+     * @return The lastAssetid.
+     */
+    long getLastAssetid();
+
+    /**
+     * <code>optional uint32 total_inventory_count = 6;</code>
+     * @return Whether the totalInventoryCount field is set.
+     */
+    boolean hasTotalInventoryCount();
+    /**
+     * <code>optional uint32 total_inventory_count = 6;</code>
+     * @return The totalInventoryCount.
+     */
+    int getTotalInventoryCount();
+  }
+  /**
+   * Protobuf type {@code CEcon_GetInventoryItemsWithDescriptions_Response}
+   */
+  public static final class CEcon_GetInventoryItemsWithDescriptions_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_GetInventoryItemsWithDescriptions_Response)
+      CEcon_GetInventoryItemsWithDescriptions_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_GetInventoryItemsWithDescriptions_Response.class.getName());
+    }
+    // Use CEcon_GetInventoryItemsWithDescriptions_Response.newBuilder() to construct.
+    private CEcon_GetInventoryItemsWithDescriptions_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_GetInventoryItemsWithDescriptions_Response() {
+      assets_ = java.util.Collections.emptyList();
+      descriptions_ = java.util.Collections.emptyList();
+      missingAssets_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ASSETS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> assets_;
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> getAssetsList() {
+      return assets_;
+    }
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+        getAssetsOrBuilderList() {
+      return assets_;
+    }
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    @java.lang.Override
+    public int getAssetsCount() {
+      return assets_.size();
+    }
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getAssets(int index) {
+      return assets_.get(index);
+    }
+    /**
+     * <code>repeated .CEcon_Asset assets = 1;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder getAssetsOrBuilder(
+        int index) {
+      return assets_.get(index);
+    }
+
+    public static final int DESCRIPTIONS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> descriptions_;
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> getDescriptionsList() {
+      return descriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+        getDescriptionsOrBuilderList() {
+      return descriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    @java.lang.Override
+    public int getDescriptionsCount() {
+      return descriptions_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDescriptions(int index) {
+      return descriptions_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 2;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getDescriptionsOrBuilder(
+        int index) {
+      return descriptions_.get(index);
+    }
+
+    public static final int MISSING_ASSETS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> missingAssets_;
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> getMissingAssetsList() {
+      return missingAssets_;
+    }
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+        getMissingAssetsOrBuilderList() {
+      return missingAssets_;
+    }
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    @java.lang.Override
+    public int getMissingAssetsCount() {
+      return missingAssets_.size();
+    }
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getMissingAssets(int index) {
+      return missingAssets_.get(index);
+    }
+    /**
+     * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder getMissingAssetsOrBuilder(
+        int index) {
+      return missingAssets_.get(index);
+    }
+
+    public static final int MORE_ITEMS_FIELD_NUMBER = 4;
+    private boolean moreItems_ = false;
+    /**
+     * <code>optional bool more_items = 4;</code>
+     * @return Whether the moreItems field is set.
+     */
+    @java.lang.Override
+    public boolean hasMoreItems() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional bool more_items = 4;</code>
+     * @return The moreItems.
+     */
+    @java.lang.Override
+    public boolean getMoreItems() {
+      return moreItems_;
+    }
+
+    public static final int LAST_ASSETID_FIELD_NUMBER = 5;
+    private long lastAssetid_ = 0L;
+    /**
+     * <code>optional uint64 last_assetid = 5;</code>
+     * @return Whether the lastAssetid field is set.
+     */
+    @java.lang.Override
+    public boolean hasLastAssetid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 last_assetid = 5;</code>
+     * @return The lastAssetid.
+     */
+    @java.lang.Override
+    public long getLastAssetid() {
+      return lastAssetid_;
+    }
+
+    public static final int TOTAL_INVENTORY_COUNT_FIELD_NUMBER = 6;
+    private int totalInventoryCount_ = 0;
+    /**
+     * <code>optional uint32 total_inventory_count = 6;</code>
+     * @return Whether the totalInventoryCount field is set.
+     */
+    @java.lang.Override
+    public boolean hasTotalInventoryCount() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint32 total_inventory_count = 6;</code>
+     * @return The totalInventoryCount.
+     */
+    @java.lang.Override
+    public int getTotalInventoryCount() {
+      return totalInventoryCount_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < assets_.size(); i++) {
+        output.writeMessage(1, assets_.get(i));
+      }
+      for (int i = 0; i < descriptions_.size(); i++) {
+        output.writeMessage(2, descriptions_.get(i));
+      }
+      for (int i = 0; i < missingAssets_.size(); i++) {
+        output.writeMessage(3, missingAssets_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeBool(4, moreItems_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(5, lastAssetid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt32(6, totalInventoryCount_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < assets_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, assets_.get(i));
+      }
+      for (int i = 0; i < descriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, descriptions_.get(i));
+      }
+      for (int i = 0; i < missingAssets_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, missingAssets_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, moreItems_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, lastAssetid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, totalInventoryCount_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response) obj;
+
+      if (!getAssetsList()
+          .equals(other.getAssetsList())) return false;
+      if (!getDescriptionsList()
+          .equals(other.getDescriptionsList())) return false;
+      if (!getMissingAssetsList()
+          .equals(other.getMissingAssetsList())) return false;
+      if (hasMoreItems() != other.hasMoreItems()) return false;
+      if (hasMoreItems()) {
+        if (getMoreItems()
+            != other.getMoreItems()) return false;
+      }
+      if (hasLastAssetid() != other.hasLastAssetid()) return false;
+      if (hasLastAssetid()) {
+        if (getLastAssetid()
+            != other.getLastAssetid()) return false;
+      }
+      if (hasTotalInventoryCount() != other.hasTotalInventoryCount()) return false;
+      if (hasTotalInventoryCount()) {
+        if (getTotalInventoryCount()
+            != other.getTotalInventoryCount()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getAssetsCount() > 0) {
+        hash = (37 * hash) + ASSETS_FIELD_NUMBER;
+        hash = (53 * hash) + getAssetsList().hashCode();
+      }
+      if (getDescriptionsCount() > 0) {
+        hash = (37 * hash) + DESCRIPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getDescriptionsList().hashCode();
+      }
+      if (getMissingAssetsCount() > 0) {
+        hash = (37 * hash) + MISSING_ASSETS_FIELD_NUMBER;
+        hash = (53 * hash) + getMissingAssetsList().hashCode();
+      }
+      if (hasMoreItems()) {
+        hash = (37 * hash) + MORE_ITEMS_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getMoreItems());
+      }
+      if (hasLastAssetid()) {
+        hash = (37 * hash) + LAST_ASSETID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getLastAssetid());
+      }
+      if (hasTotalInventoryCount()) {
+        hash = (37 * hash) + TOTAL_INVENTORY_COUNT_FIELD_NUMBER;
+        hash = (53 * hash) + getTotalInventoryCount();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_GetInventoryItemsWithDescriptions_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_GetInventoryItemsWithDescriptions_Response)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (assetsBuilder_ == null) {
+          assets_ = java.util.Collections.emptyList();
+        } else {
+          assets_ = null;
+          assetsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (descriptionsBuilder_ == null) {
+          descriptions_ = java.util.Collections.emptyList();
+        } else {
+          descriptions_ = null;
+          descriptionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (missingAssetsBuilder_ == null) {
+          missingAssets_ = java.util.Collections.emptyList();
+        } else {
+          missingAssets_ = null;
+          missingAssetsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        moreItems_ = false;
+        lastAssetid_ = 0L;
+        totalInventoryCount_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response result) {
+        if (assetsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            assets_ = java.util.Collections.unmodifiableList(assets_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.assets_ = assets_;
+        } else {
+          result.assets_ = assetsBuilder_.build();
+        }
+        if (descriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            descriptions_ = java.util.Collections.unmodifiableList(descriptions_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.descriptions_ = descriptions_;
+        } else {
+          result.descriptions_ = descriptionsBuilder_.build();
+        }
+        if (missingAssetsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            missingAssets_ = java.util.Collections.unmodifiableList(missingAssets_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.missingAssets_ = missingAssets_;
+        } else {
+          result.missingAssets_ = missingAssetsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.moreItems_ = moreItems_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.lastAssetid_ = lastAssetid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.totalInventoryCount_ = totalInventoryCount_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response.getDefaultInstance()) return this;
+        if (assetsBuilder_ == null) {
+          if (!other.assets_.isEmpty()) {
+            if (assets_.isEmpty()) {
+              assets_ = other.assets_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureAssetsIsMutable();
+              assets_.addAll(other.assets_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.assets_.isEmpty()) {
+            if (assetsBuilder_.isEmpty()) {
+              assetsBuilder_.dispose();
+              assetsBuilder_ = null;
+              assets_ = other.assets_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              assetsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getAssetsFieldBuilder() : null;
+            } else {
+              assetsBuilder_.addAllMessages(other.assets_);
+            }
+          }
+        }
+        if (descriptionsBuilder_ == null) {
+          if (!other.descriptions_.isEmpty()) {
+            if (descriptions_.isEmpty()) {
+              descriptions_ = other.descriptions_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureDescriptionsIsMutable();
+              descriptions_.addAll(other.descriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.descriptions_.isEmpty()) {
+            if (descriptionsBuilder_.isEmpty()) {
+              descriptionsBuilder_.dispose();
+              descriptionsBuilder_ = null;
+              descriptions_ = other.descriptions_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              descriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDescriptionsFieldBuilder() : null;
+            } else {
+              descriptionsBuilder_.addAllMessages(other.descriptions_);
+            }
+          }
+        }
+        if (missingAssetsBuilder_ == null) {
+          if (!other.missingAssets_.isEmpty()) {
+            if (missingAssets_.isEmpty()) {
+              missingAssets_ = other.missingAssets_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureMissingAssetsIsMutable();
+              missingAssets_.addAll(other.missingAssets_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.missingAssets_.isEmpty()) {
+            if (missingAssetsBuilder_.isEmpty()) {
+              missingAssetsBuilder_.dispose();
+              missingAssetsBuilder_ = null;
+              missingAssets_ = other.missingAssets_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              missingAssetsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getMissingAssetsFieldBuilder() : null;
+            } else {
+              missingAssetsBuilder_.addAllMessages(other.missingAssets_);
+            }
+          }
+        }
+        if (other.hasMoreItems()) {
+          setMoreItems(other.getMoreItems());
+        }
+        if (other.hasLastAssetid()) {
+          setLastAssetid(other.getLastAssetid());
+        }
+        if (other.hasTotalInventoryCount()) {
+          setTotalInventoryCount(other.getTotalInventoryCount());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.parser(),
+                        extensionRegistry);
+                if (assetsBuilder_ == null) {
+                  ensureAssetsIsMutable();
+                  assets_.add(m);
+                } else {
+                  assetsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              case 18: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.parser(),
+                        extensionRegistry);
+                if (descriptionsBuilder_ == null) {
+                  ensureDescriptionsIsMutable();
+                  descriptions_.add(m);
+                } else {
+                  descriptionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.parser(),
+                        extensionRegistry);
+                if (missingAssetsBuilder_ == null) {
+                  ensureMissingAssetsIsMutable();
+                  missingAssets_.add(m);
+                } else {
+                  missingAssetsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 32: {
+                moreItems_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                lastAssetid_ = input.readUInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                totalInventoryCount_ = input.readUInt32();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> assets_ =
+        java.util.Collections.emptyList();
+      private void ensureAssetsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          assets_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset>(assets_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> assetsBuilder_;
+
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> getAssetsList() {
+        if (assetsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(assets_);
+        } else {
+          return assetsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public int getAssetsCount() {
+        if (assetsBuilder_ == null) {
+          return assets_.size();
+        } else {
+          return assetsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getAssets(int index) {
+        if (assetsBuilder_ == null) {
+          return assets_.get(index);
+        } else {
+          return assetsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder setAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset value) {
+        if (assetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAssetsIsMutable();
+          assets_.set(index, value);
+          onChanged();
+        } else {
+          assetsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder setAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder builderForValue) {
+        if (assetsBuilder_ == null) {
+          ensureAssetsIsMutable();
+          assets_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          assetsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder addAssets(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset value) {
+        if (assetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAssetsIsMutable();
+          assets_.add(value);
+          onChanged();
+        } else {
+          assetsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder addAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset value) {
+        if (assetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureAssetsIsMutable();
+          assets_.add(index, value);
+          onChanged();
+        } else {
+          assetsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder addAssets(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder builderForValue) {
+        if (assetsBuilder_ == null) {
+          ensureAssetsIsMutable();
+          assets_.add(builderForValue.build());
+          onChanged();
+        } else {
+          assetsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder addAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder builderForValue) {
+        if (assetsBuilder_ == null) {
+          ensureAssetsIsMutable();
+          assets_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          assetsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder addAllAssets(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> values) {
+        if (assetsBuilder_ == null) {
+          ensureAssetsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, assets_);
+          onChanged();
+        } else {
+          assetsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder clearAssets() {
+        if (assetsBuilder_ == null) {
+          assets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          assetsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public Builder removeAssets(int index) {
+        if (assetsBuilder_ == null) {
+          ensureAssetsIsMutable();
+          assets_.remove(index);
+          onChanged();
+        } else {
+          assetsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder getAssetsBuilder(
+          int index) {
+        return getAssetsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder getAssetsOrBuilder(
+          int index) {
+        if (assetsBuilder_ == null) {
+          return assets_.get(index);  } else {
+          return assetsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+           getAssetsOrBuilderList() {
+        if (assetsBuilder_ != null) {
+          return assetsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(assets_);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder addAssetsBuilder() {
+        return getAssetsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder addAssetsBuilder(
+          int index) {
+        return getAssetsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEcon_Asset assets = 1;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder> 
+           getAssetsBuilderList() {
+        return getAssetsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+          getAssetsFieldBuilder() {
+        if (assetsBuilder_ == null) {
+          assetsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder>(
+                  assets_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          assets_ = null;
+        }
+        return assetsBuilder_;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> descriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureDescriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          descriptions_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description>(descriptions_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> descriptionsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> getDescriptionsList() {
+        if (descriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(descriptions_);
+        } else {
+          return descriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public int getDescriptionsCount() {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.size();
+        } else {
+          return descriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDescriptions(int index) {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.get(index);
+        } else {
+          return descriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder setDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.set(index, value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder setDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder addDescriptions(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.add(value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder addDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.add(index, value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder addDescriptions(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder addDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder addAllDescriptions(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> values) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, descriptions_);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder clearDescriptions() {
+        if (descriptionsBuilder_ == null) {
+          descriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          descriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public Builder removeDescriptions(int index) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.remove(index);
+          onChanged();
+        } else {
+          descriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder getDescriptionsBuilder(
+          int index) {
+        return getDescriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getDescriptionsOrBuilder(
+          int index) {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.get(index);  } else {
+          return descriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+           getDescriptionsOrBuilderList() {
+        if (descriptionsBuilder_ != null) {
+          return descriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(descriptions_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder addDescriptionsBuilder() {
+        return getDescriptionsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder addDescriptionsBuilder(
+          int index) {
+        return getDescriptionsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 2;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder> 
+           getDescriptionsBuilderList() {
+        return getDescriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+          getDescriptionsFieldBuilder() {
+        if (descriptionsBuilder_ == null) {
+          descriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder>(
+                  descriptions_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          descriptions_ = null;
+        }
+        return descriptionsBuilder_;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> missingAssets_ =
+        java.util.Collections.emptyList();
+      private void ensureMissingAssetsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          missingAssets_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset>(missingAssets_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> missingAssetsBuilder_;
+
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> getMissingAssetsList() {
+        if (missingAssetsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(missingAssets_);
+        } else {
+          return missingAssetsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public int getMissingAssetsCount() {
+        if (missingAssetsBuilder_ == null) {
+          return missingAssets_.size();
+        } else {
+          return missingAssetsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset getMissingAssets(int index) {
+        if (missingAssetsBuilder_ == null) {
+          return missingAssets_.get(index);
+        } else {
+          return missingAssetsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder setMissingAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset value) {
+        if (missingAssetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMissingAssetsIsMutable();
+          missingAssets_.set(index, value);
+          onChanged();
+        } else {
+          missingAssetsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder setMissingAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder builderForValue) {
+        if (missingAssetsBuilder_ == null) {
+          ensureMissingAssetsIsMutable();
+          missingAssets_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          missingAssetsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder addMissingAssets(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset value) {
+        if (missingAssetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMissingAssetsIsMutable();
+          missingAssets_.add(value);
+          onChanged();
+        } else {
+          missingAssetsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder addMissingAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset value) {
+        if (missingAssetsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureMissingAssetsIsMutable();
+          missingAssets_.add(index, value);
+          onChanged();
+        } else {
+          missingAssetsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder addMissingAssets(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder builderForValue) {
+        if (missingAssetsBuilder_ == null) {
+          ensureMissingAssetsIsMutable();
+          missingAssets_.add(builderForValue.build());
+          onChanged();
+        } else {
+          missingAssetsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder addMissingAssets(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder builderForValue) {
+        if (missingAssetsBuilder_ == null) {
+          ensureMissingAssetsIsMutable();
+          missingAssets_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          missingAssetsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder addAllMissingAssets(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset> values) {
+        if (missingAssetsBuilder_ == null) {
+          ensureMissingAssetsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, missingAssets_);
+          onChanged();
+        } else {
+          missingAssetsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder clearMissingAssets() {
+        if (missingAssetsBuilder_ == null) {
+          missingAssets_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          missingAssetsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public Builder removeMissingAssets(int index) {
+        if (missingAssetsBuilder_ == null) {
+          ensureMissingAssetsIsMutable();
+          missingAssets_.remove(index);
+          onChanged();
+        } else {
+          missingAssetsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder getMissingAssetsBuilder(
+          int index) {
+        return getMissingAssetsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder getMissingAssetsOrBuilder(
+          int index) {
+        if (missingAssetsBuilder_ == null) {
+          return missingAssets_.get(index);  } else {
+          return missingAssetsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+           getMissingAssetsOrBuilderList() {
+        if (missingAssetsBuilder_ != null) {
+          return missingAssetsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(missingAssets_);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder addMissingAssetsBuilder() {
+        return getMissingAssetsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder addMissingAssetsBuilder(
+          int index) {
+        return getMissingAssetsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEcon_Asset missing_assets = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder> 
+           getMissingAssetsBuilderList() {
+        return getMissingAssetsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder> 
+          getMissingAssetsFieldBuilder() {
+        if (missingAssetsBuilder_ == null) {
+          missingAssetsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_Asset.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_AssetOrBuilder>(
+                  missingAssets_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          missingAssets_ = null;
+        }
+        return missingAssetsBuilder_;
+      }
+
+      private boolean moreItems_ ;
+      /**
+       * <code>optional bool more_items = 4;</code>
+       * @return Whether the moreItems field is set.
+       */
+      @java.lang.Override
+      public boolean hasMoreItems() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional bool more_items = 4;</code>
+       * @return The moreItems.
+       */
+      @java.lang.Override
+      public boolean getMoreItems() {
+        return moreItems_;
+      }
+      /**
+       * <code>optional bool more_items = 4;</code>
+       * @param value The moreItems to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMoreItems(boolean value) {
+
+        moreItems_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool more_items = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMoreItems() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        moreItems_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long lastAssetid_ ;
+      /**
+       * <code>optional uint64 last_assetid = 5;</code>
+       * @return Whether the lastAssetid field is set.
+       */
+      @java.lang.Override
+      public boolean hasLastAssetid() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional uint64 last_assetid = 5;</code>
+       * @return The lastAssetid.
+       */
+      @java.lang.Override
+      public long getLastAssetid() {
+        return lastAssetid_;
+      }
+      /**
+       * <code>optional uint64 last_assetid = 5;</code>
+       * @param value The lastAssetid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastAssetid(long value) {
+
+        lastAssetid_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 last_assetid = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastAssetid() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        lastAssetid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int totalInventoryCount_ ;
+      /**
+       * <code>optional uint32 total_inventory_count = 6;</code>
+       * @return Whether the totalInventoryCount field is set.
+       */
+      @java.lang.Override
+      public boolean hasTotalInventoryCount() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional uint32 total_inventory_count = 6;</code>
+       * @return The totalInventoryCount.
+       */
+      @java.lang.Override
+      public int getTotalInventoryCount() {
+        return totalInventoryCount_;
+      }
+      /**
+       * <code>optional uint32 total_inventory_count = 6;</code>
+       * @param value The totalInventoryCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTotalInventoryCount(int value) {
+
+        totalInventoryCount_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 total_inventory_count = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTotalInventoryCount() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        totalInventoryCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_GetInventoryItemsWithDescriptions_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_GetInventoryItemsWithDescriptions_Response)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_GetInventoryItemsWithDescriptions_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_GetInventoryItemsWithDescriptions_Response>() {
+      @java.lang.Override
+      public CEcon_GetInventoryItemsWithDescriptions_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_GetInventoryItemsWithDescriptions_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_GetInventoryItemsWithDescriptions_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_GetTradeOfferAccessToken_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_GetTradeOfferAccessToken_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional bool generate_new_token = 1;</code>
+     * @return Whether the generateNewToken field is set.
+     */
+    boolean hasGenerateNewToken();
+    /**
+     * <code>optional bool generate_new_token = 1;</code>
+     * @return The generateNewToken.
+     */
+    boolean getGenerateNewToken();
+  }
+  /**
+   * Protobuf type {@code CEcon_GetTradeOfferAccessToken_Request}
+   */
+  public static final class CEcon_GetTradeOfferAccessToken_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_GetTradeOfferAccessToken_Request)
+      CEcon_GetTradeOfferAccessToken_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_GetTradeOfferAccessToken_Request.class.getName());
+    }
+    // Use CEcon_GetTradeOfferAccessToken_Request.newBuilder() to construct.
+    private CEcon_GetTradeOfferAccessToken_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_GetTradeOfferAccessToken_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int GENERATE_NEW_TOKEN_FIELD_NUMBER = 1;
+    private boolean generateNewToken_ = false;
+    /**
+     * <code>optional bool generate_new_token = 1;</code>
+     * @return Whether the generateNewToken field is set.
+     */
+    @java.lang.Override
+    public boolean hasGenerateNewToken() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional bool generate_new_token = 1;</code>
+     * @return The generateNewToken.
+     */
+    @java.lang.Override
+    public boolean getGenerateNewToken() {
+      return generateNewToken_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeBool(1, generateNewToken_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, generateNewToken_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request) obj;
+
+      if (hasGenerateNewToken() != other.hasGenerateNewToken()) return false;
+      if (hasGenerateNewToken()) {
+        if (getGenerateNewToken()
+            != other.getGenerateNewToken()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasGenerateNewToken()) {
+        hash = (37 * hash) + GENERATE_NEW_TOKEN_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getGenerateNewToken());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_GetTradeOfferAccessToken_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_GetTradeOfferAccessToken_Request)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        generateNewToken_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.generateNewToken_ = generateNewToken_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request.getDefaultInstance()) return this;
+        if (other.hasGenerateNewToken()) {
+          setGenerateNewToken(other.getGenerateNewToken());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                generateNewToken_ = input.readBool();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean generateNewToken_ ;
+      /**
+       * <code>optional bool generate_new_token = 1;</code>
+       * @return Whether the generateNewToken field is set.
+       */
+      @java.lang.Override
+      public boolean hasGenerateNewToken() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional bool generate_new_token = 1;</code>
+       * @return The generateNewToken.
+       */
+      @java.lang.Override
+      public boolean getGenerateNewToken() {
+        return generateNewToken_;
+      }
+      /**
+       * <code>optional bool generate_new_token = 1;</code>
+       * @param value The generateNewToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGenerateNewToken(boolean value) {
+
+        generateNewToken_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool generate_new_token = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGenerateNewToken() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        generateNewToken_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_GetTradeOfferAccessToken_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_GetTradeOfferAccessToken_Request)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_GetTradeOfferAccessToken_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_GetTradeOfferAccessToken_Request>() {
+      @java.lang.Override
+      public CEcon_GetTradeOfferAccessToken_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_GetTradeOfferAccessToken_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_GetTradeOfferAccessToken_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_GetTradeOfferAccessToken_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_GetTradeOfferAccessToken_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string trade_offer_access_token = 1;</code>
+     * @return Whether the tradeOfferAccessToken field is set.
+     */
+    boolean hasTradeOfferAccessToken();
+    /**
+     * <code>optional string trade_offer_access_token = 1;</code>
+     * @return The tradeOfferAccessToken.
+     */
+    java.lang.String getTradeOfferAccessToken();
+    /**
+     * <code>optional string trade_offer_access_token = 1;</code>
+     * @return The bytes for tradeOfferAccessToken.
+     */
+    com.google.protobuf.ByteString
+        getTradeOfferAccessTokenBytes();
+  }
+  /**
+   * Protobuf type {@code CEcon_GetTradeOfferAccessToken_Response}
+   */
+  public static final class CEcon_GetTradeOfferAccessToken_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_GetTradeOfferAccessToken_Response)
+      CEcon_GetTradeOfferAccessToken_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_GetTradeOfferAccessToken_Response.class.getName());
+    }
+    // Use CEcon_GetTradeOfferAccessToken_Response.newBuilder() to construct.
+    private CEcon_GetTradeOfferAccessToken_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_GetTradeOfferAccessToken_Response() {
+      tradeOfferAccessToken_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TRADE_OFFER_ACCESS_TOKEN_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tradeOfferAccessToken_ = "";
+    /**
+     * <code>optional string trade_offer_access_token = 1;</code>
+     * @return Whether the tradeOfferAccessToken field is set.
+     */
+    @java.lang.Override
+    public boolean hasTradeOfferAccessToken() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string trade_offer_access_token = 1;</code>
+     * @return The tradeOfferAccessToken.
+     */
+    @java.lang.Override
+    public java.lang.String getTradeOfferAccessToken() {
+      java.lang.Object ref = tradeOfferAccessToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tradeOfferAccessToken_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string trade_offer_access_token = 1;</code>
+     * @return The bytes for tradeOfferAccessToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTradeOfferAccessTokenBytes() {
+      java.lang.Object ref = tradeOfferAccessToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tradeOfferAccessToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, tradeOfferAccessToken_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, tradeOfferAccessToken_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response) obj;
+
+      if (hasTradeOfferAccessToken() != other.hasTradeOfferAccessToken()) return false;
+      if (hasTradeOfferAccessToken()) {
+        if (!getTradeOfferAccessToken()
+            .equals(other.getTradeOfferAccessToken())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasTradeOfferAccessToken()) {
+        hash = (37 * hash) + TRADE_OFFER_ACCESS_TOKEN_FIELD_NUMBER;
+        hash = (53 * hash) + getTradeOfferAccessToken().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_GetTradeOfferAccessToken_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_GetTradeOfferAccessToken_Response)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        tradeOfferAccessToken_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetTradeOfferAccessToken_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.tradeOfferAccessToken_ = tradeOfferAccessToken_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response.getDefaultInstance()) return this;
+        if (other.hasTradeOfferAccessToken()) {
+          tradeOfferAccessToken_ = other.tradeOfferAccessToken_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                tradeOfferAccessToken_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object tradeOfferAccessToken_ = "";
+      /**
+       * <code>optional string trade_offer_access_token = 1;</code>
+       * @return Whether the tradeOfferAccessToken field is set.
+       */
+      public boolean hasTradeOfferAccessToken() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string trade_offer_access_token = 1;</code>
+       * @return The tradeOfferAccessToken.
+       */
+      public java.lang.String getTradeOfferAccessToken() {
+        java.lang.Object ref = tradeOfferAccessToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tradeOfferAccessToken_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string trade_offer_access_token = 1;</code>
+       * @return The bytes for tradeOfferAccessToken.
+       */
+      public com.google.protobuf.ByteString
+          getTradeOfferAccessTokenBytes() {
+        java.lang.Object ref = tradeOfferAccessToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tradeOfferAccessToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string trade_offer_access_token = 1;</code>
+       * @param value The tradeOfferAccessToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTradeOfferAccessToken(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tradeOfferAccessToken_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trade_offer_access_token = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTradeOfferAccessToken() {
+        tradeOfferAccessToken_ = getDefaultInstance().getTradeOfferAccessToken();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string trade_offer_access_token = 1;</code>
+       * @param value The bytes for tradeOfferAccessToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTradeOfferAccessTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        tradeOfferAccessToken_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_GetTradeOfferAccessToken_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_GetTradeOfferAccessToken_Response)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_GetTradeOfferAccessToken_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_GetTradeOfferAccessToken_Response>() {
+      @java.lang.Override
+      public CEcon_GetTradeOfferAccessToken_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_GetTradeOfferAccessToken_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_GetTradeOfferAccessToken_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_ClientGetItemShopOverlayAuthURL_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_ClientGetItemShopOverlayAuthURL_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string return_url = 1;</code>
+     * @return Whether the returnUrl field is set.
+     */
+    boolean hasReturnUrl();
+    /**
+     * <code>optional string return_url = 1;</code>
+     * @return The returnUrl.
+     */
+    java.lang.String getReturnUrl();
+    /**
+     * <code>optional string return_url = 1;</code>
+     * @return The bytes for returnUrl.
+     */
+    com.google.protobuf.ByteString
+        getReturnUrlBytes();
+  }
+  /**
+   * Protobuf type {@code CEcon_ClientGetItemShopOverlayAuthURL_Request}
+   */
+  public static final class CEcon_ClientGetItemShopOverlayAuthURL_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_ClientGetItemShopOverlayAuthURL_Request)
+      CEcon_ClientGetItemShopOverlayAuthURL_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_ClientGetItemShopOverlayAuthURL_Request.class.getName());
+    }
+    // Use CEcon_ClientGetItemShopOverlayAuthURL_Request.newBuilder() to construct.
+    private CEcon_ClientGetItemShopOverlayAuthURL_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_ClientGetItemShopOverlayAuthURL_Request() {
+      returnUrl_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int RETURN_URL_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object returnUrl_ = "";
+    /**
+     * <code>optional string return_url = 1;</code>
+     * @return Whether the returnUrl field is set.
+     */
+    @java.lang.Override
+    public boolean hasReturnUrl() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string return_url = 1;</code>
+     * @return The returnUrl.
+     */
+    @java.lang.Override
+    public java.lang.String getReturnUrl() {
+      java.lang.Object ref = returnUrl_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          returnUrl_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string return_url = 1;</code>
+     * @return The bytes for returnUrl.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getReturnUrlBytes() {
+      java.lang.Object ref = returnUrl_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        returnUrl_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, returnUrl_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, returnUrl_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request) obj;
+
+      if (hasReturnUrl() != other.hasReturnUrl()) return false;
+      if (hasReturnUrl()) {
+        if (!getReturnUrl()
+            .equals(other.getReturnUrl())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasReturnUrl()) {
+        hash = (37 * hash) + RETURN_URL_FIELD_NUMBER;
+        hash = (53 * hash) + getReturnUrl().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_ClientGetItemShopOverlayAuthURL_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_ClientGetItemShopOverlayAuthURL_Request)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        returnUrl_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.returnUrl_ = returnUrl_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request.getDefaultInstance()) return this;
+        if (other.hasReturnUrl()) {
+          returnUrl_ = other.returnUrl_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                returnUrl_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object returnUrl_ = "";
+      /**
+       * <code>optional string return_url = 1;</code>
+       * @return Whether the returnUrl field is set.
+       */
+      public boolean hasReturnUrl() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string return_url = 1;</code>
+       * @return The returnUrl.
+       */
+      public java.lang.String getReturnUrl() {
+        java.lang.Object ref = returnUrl_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            returnUrl_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string return_url = 1;</code>
+       * @return The bytes for returnUrl.
+       */
+      public com.google.protobuf.ByteString
+          getReturnUrlBytes() {
+        java.lang.Object ref = returnUrl_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          returnUrl_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string return_url = 1;</code>
+       * @param value The returnUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReturnUrl(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        returnUrl_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string return_url = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReturnUrl() {
+        returnUrl_ = getDefaultInstance().getReturnUrl();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string return_url = 1;</code>
+       * @param value The bytes for returnUrl to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReturnUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        returnUrl_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_ClientGetItemShopOverlayAuthURL_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_ClientGetItemShopOverlayAuthURL_Request)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_ClientGetItemShopOverlayAuthURL_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_ClientGetItemShopOverlayAuthURL_Request>() {
+      @java.lang.Override
+      public CEcon_ClientGetItemShopOverlayAuthURL_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_ClientGetItemShopOverlayAuthURL_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_ClientGetItemShopOverlayAuthURL_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_ClientGetItemShopOverlayAuthURL_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_ClientGetItemShopOverlayAuthURL_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string url = 1;</code>
+     * @return Whether the url field is set.
+     */
+    boolean hasUrl();
+    /**
+     * <code>optional string url = 1;</code>
+     * @return The url.
+     */
+    java.lang.String getUrl();
+    /**
+     * <code>optional string url = 1;</code>
+     * @return The bytes for url.
+     */
+    com.google.protobuf.ByteString
+        getUrlBytes();
+  }
+  /**
+   * Protobuf type {@code CEcon_ClientGetItemShopOverlayAuthURL_Response}
+   */
+  public static final class CEcon_ClientGetItemShopOverlayAuthURL_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_ClientGetItemShopOverlayAuthURL_Response)
+      CEcon_ClientGetItemShopOverlayAuthURL_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_ClientGetItemShopOverlayAuthURL_Response.class.getName());
+    }
+    // Use CEcon_ClientGetItemShopOverlayAuthURL_Response.newBuilder() to construct.
+    private CEcon_ClientGetItemShopOverlayAuthURL_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_ClientGetItemShopOverlayAuthURL_Response() {
+      url_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int URL_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object url_ = "";
+    /**
+     * <code>optional string url = 1;</code>
+     * @return Whether the url field is set.
+     */
+    @java.lang.Override
+    public boolean hasUrl() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string url = 1;</code>
+     * @return The url.
+     */
+    @java.lang.Override
+    public java.lang.String getUrl() {
+      java.lang.Object ref = url_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          url_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string url = 1;</code>
+     * @return The bytes for url.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUrlBytes() {
+      java.lang.Object ref = url_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        url_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, url_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, url_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response) obj;
+
+      if (hasUrl() != other.hasUrl()) return false;
+      if (hasUrl()) {
+        if (!getUrl()
+            .equals(other.getUrl())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasUrl()) {
+        hash = (37 * hash) + URL_FIELD_NUMBER;
+        hash = (53 * hash) + getUrl().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_ClientGetItemShopOverlayAuthURL_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_ClientGetItemShopOverlayAuthURL_Response)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        url_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.url_ = url_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response.getDefaultInstance()) return this;
+        if (other.hasUrl()) {
+          url_ = other.url_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                url_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object url_ = "";
+      /**
+       * <code>optional string url = 1;</code>
+       * @return Whether the url field is set.
+       */
+      public boolean hasUrl() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string url = 1;</code>
+       * @return The url.
+       */
+      public java.lang.String getUrl() {
+        java.lang.Object ref = url_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            url_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string url = 1;</code>
+       * @return The bytes for url.
+       */
+      public com.google.protobuf.ByteString
+          getUrlBytes() {
+        java.lang.Object ref = url_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          url_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string url = 1;</code>
+       * @param value The url to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUrl(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        url_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string url = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUrl() {
+        url_ = getDefaultInstance().getUrl();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string url = 1;</code>
+       * @param value The bytes for url to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUrlBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        url_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_ClientGetItemShopOverlayAuthURL_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_ClientGetItemShopOverlayAuthURL_Response)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_ClientGetItemShopOverlayAuthURL_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_ClientGetItemShopOverlayAuthURL_Response>() {
+      @java.lang.Override
+      public CEcon_ClientGetItemShopOverlayAuthURL_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_ClientGetItemShopOverlayAuthURL_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_ClientGetItemShopOverlayAuthURL_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_GetAssetClassInfo_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_GetAssetClassInfo_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string language = 1;</code>
+     * @return Whether the language field is set.
+     */
+    boolean hasLanguage();
+    /**
+     * <code>optional string language = 1;</code>
+     * @return The language.
+     */
+    java.lang.String getLanguage();
+    /**
+     * <code>optional string language = 1;</code>
+     * @return The bytes for language.
+     */
+    com.google.protobuf.ByteString
+        getLanguageBytes();
+
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class> 
+        getClassesList();
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class getClasses(int index);
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    int getClassesCount();
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder> 
+        getClassesOrBuilderList();
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder getClassesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional bool high_pri = 4;</code>
+     * @return Whether the highPri field is set.
+     */
+    boolean hasHighPri();
+    /**
+     * <code>optional bool high_pri = 4;</code>
+     * @return The highPri.
+     */
+    boolean getHighPri();
+  }
+  /**
+   * Protobuf type {@code CEcon_GetAssetClassInfo_Request}
+   */
+  public static final class CEcon_GetAssetClassInfo_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_GetAssetClassInfo_Request)
+      CEcon_GetAssetClassInfo_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_GetAssetClassInfo_Request.class.getName());
+    }
+    // Use CEcon_GetAssetClassInfo_Request.newBuilder() to construct.
+    private CEcon_GetAssetClassInfo_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_GetAssetClassInfo_Request() {
+      language_ = "";
+      classes_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Builder.class);
+    }
+
+    public interface ClassOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:CEcon_GetAssetClassInfo_Request.Class)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional uint64 classid = 1;</code>
+       * @return Whether the classid field is set.
+       */
+      boolean hasClassid();
+      /**
+       * <code>optional uint64 classid = 1;</code>
+       * @return The classid.
+       */
+      long getClassid();
+
+      /**
+       * <code>optional uint64 instanceid = 2;</code>
+       * @return Whether the instanceid field is set.
+       */
+      boolean hasInstanceid();
+      /**
+       * <code>optional uint64 instanceid = 2;</code>
+       * @return The instanceid.
+       */
+      long getInstanceid();
+    }
+    /**
+     * Protobuf type {@code CEcon_GetAssetClassInfo_Request.Class}
+     */
+    public static final class Class extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:CEcon_GetAssetClassInfo_Request.Class)
+        ClassOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 26,
+          /* patch= */ 1,
+          /* suffix= */ "",
+          Class.class.getName());
+      }
+      // Use Class.newBuilder() to construct.
+      private Class(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private Class() {
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_Class_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_Class_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int CLASSID_FIELD_NUMBER = 1;
+      private long classid_ = 0L;
+      /**
+       * <code>optional uint64 classid = 1;</code>
+       * @return Whether the classid field is set.
+       */
+      @java.lang.Override
+      public boolean hasClassid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint64 classid = 1;</code>
+       * @return The classid.
+       */
+      @java.lang.Override
+      public long getClassid() {
+        return classid_;
+      }
+
+      public static final int INSTANCEID_FIELD_NUMBER = 2;
+      private long instanceid_ = 0L;
+      /**
+       * <code>optional uint64 instanceid = 2;</code>
+       * @return Whether the instanceid field is set.
+       */
+      @java.lang.Override
+      public boolean hasInstanceid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 instanceid = 2;</code>
+       * @return The instanceid.
+       */
+      @java.lang.Override
+      public long getInstanceid() {
+        return instanceid_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeUInt64(1, classid_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeUInt64(2, instanceid_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(1, classid_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(2, instanceid_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class)) {
+          return super.equals(obj);
+        }
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class) obj;
+
+        if (hasClassid() != other.hasClassid()) return false;
+        if (hasClassid()) {
+          if (getClassid()
+              != other.getClassid()) return false;
+        }
+        if (hasInstanceid() != other.hasInstanceid()) return false;
+        if (hasInstanceid()) {
+          if (getInstanceid()
+              != other.getInstanceid()) return false;
+        }
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasClassid()) {
+          hash = (37 * hash) + CLASSID_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getClassid());
+        }
+        if (hasInstanceid()) {
+          hash = (37 * hash) + INSTANCEID_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getInstanceid());
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code CEcon_GetAssetClassInfo_Request.Class}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:CEcon_GetAssetClassInfo_Request.Class)
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_Class_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_Class_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder.class);
+        }
+
+        // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          classid_ = 0L;
+          instanceid_ = 0L;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_Class_descriptor;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class getDefaultInstanceForType() {
+          return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class build() {
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class buildPartial() {
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class result) {
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.classid_ = classid_;
+            to_bitField0_ |= 0x00000001;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.instanceid_ = instanceid_;
+            to_bitField0_ |= 0x00000002;
+          }
+          result.bitField0_ |= to_bitField0_;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class) {
+            return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class other) {
+          if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.getDefaultInstance()) return this;
+          if (other.hasClassid()) {
+            setClassid(other.getClassid());
+          }
+          if (other.hasInstanceid()) {
+            setInstanceid(other.getInstanceid());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 8: {
+                  classid_ = input.readUInt64();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 8
+                case 16: {
+                  instanceid_ = input.readUInt64();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 16
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private long classid_ ;
+        /**
+         * <code>optional uint64 classid = 1;</code>
+         * @return Whether the classid field is set.
+         */
+        @java.lang.Override
+        public boolean hasClassid() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>optional uint64 classid = 1;</code>
+         * @return The classid.
+         */
+        @java.lang.Override
+        public long getClassid() {
+          return classid_;
+        }
+        /**
+         * <code>optional uint64 classid = 1;</code>
+         * @param value The classid to set.
+         * @return This builder for chaining.
+         */
+        public Builder setClassid(long value) {
+
+          classid_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint64 classid = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearClassid() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          classid_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private long instanceid_ ;
+        /**
+         * <code>optional uint64 instanceid = 2;</code>
+         * @return Whether the instanceid field is set.
+         */
+        @java.lang.Override
+        public boolean hasInstanceid() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <code>optional uint64 instanceid = 2;</code>
+         * @return The instanceid.
+         */
+        @java.lang.Override
+        public long getInstanceid() {
+          return instanceid_;
+        }
+        /**
+         * <code>optional uint64 instanceid = 2;</code>
+         * @param value The instanceid to set.
+         * @return This builder for chaining.
+         */
+        public Builder setInstanceid(long value) {
+
+          instanceid_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint64 instanceid = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearInstanceid() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          instanceid_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:CEcon_GetAssetClassInfo_Request.Class)
+      }
+
+      // @@protoc_insertion_point(class_scope:CEcon_GetAssetClassInfo_Request.Class)
+      private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class();
+      }
+
+      public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<Class>
+          PARSER = new com.google.protobuf.AbstractParser<Class>() {
+        @java.lang.Override
+        public Class parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<Class> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<Class> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int LANGUAGE_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object language_ = "";
+    /**
+     * <code>optional string language = 1;</code>
+     * @return Whether the language field is set.
+     */
+    @java.lang.Override
+    public boolean hasLanguage() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string language = 1;</code>
+     * @return The language.
+     */
+    @java.lang.Override
+    public java.lang.String getLanguage() {
+      java.lang.Object ref = language_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          language_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string language = 1;</code>
+     * @return The bytes for language.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getLanguageBytes() {
+      java.lang.Object ref = language_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        language_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int APPID_FIELD_NUMBER = 2;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 2;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int CLASSES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class> classes_;
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class> getClassesList() {
+      return classes_;
+    }
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder> 
+        getClassesOrBuilderList() {
+      return classes_;
+    }
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    @java.lang.Override
+    public int getClassesCount() {
+      return classes_.size();
+    }
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class getClasses(int index) {
+      return classes_.get(index);
+    }
+    /**
+     * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder getClassesOrBuilder(
+        int index) {
+      return classes_.get(index);
+    }
+
+    public static final int HIGH_PRI_FIELD_NUMBER = 4;
+    private boolean highPri_ = false;
+    /**
+     * <code>optional bool high_pri = 4;</code>
+     * @return Whether the highPri field is set.
+     */
+    @java.lang.Override
+    public boolean hasHighPri() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional bool high_pri = 4;</code>
+     * @return The highPri.
+     */
+    @java.lang.Override
+    public boolean getHighPri() {
+      return highPri_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, language_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt32(2, appid_);
+      }
+      for (int i = 0; i < classes_.size(); i++) {
+        output.writeMessage(3, classes_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeBool(4, highPri_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, language_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, appid_);
+      }
+      for (int i = 0; i < classes_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, classes_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, highPri_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request) obj;
+
+      if (hasLanguage() != other.hasLanguage()) return false;
+      if (hasLanguage()) {
+        if (!getLanguage()
+            .equals(other.getLanguage())) return false;
+      }
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (!getClassesList()
+          .equals(other.getClassesList())) return false;
+      if (hasHighPri() != other.hasHighPri()) return false;
+      if (hasHighPri()) {
+        if (getHighPri()
+            != other.getHighPri()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasLanguage()) {
+        hash = (37 * hash) + LANGUAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getLanguage().hashCode();
+      }
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (getClassesCount() > 0) {
+        hash = (37 * hash) + CLASSES_FIELD_NUMBER;
+        hash = (53 * hash) + getClassesList().hashCode();
+      }
+      if (hasHighPri()) {
+        hash = (37 * hash) + HIGH_PRI_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getHighPri());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_GetAssetClassInfo_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_GetAssetClassInfo_Request)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        language_ = "";
+        appid_ = 0;
+        if (classesBuilder_ == null) {
+          classes_ = java.util.Collections.emptyList();
+        } else {
+          classes_ = null;
+          classesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        highPri_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request result) {
+        if (classesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            classes_ = java.util.Collections.unmodifiableList(classes_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.classes_ = classes_;
+        } else {
+          result.classes_ = classesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.language_ = language_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.highPri_ = highPri_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.getDefaultInstance()) return this;
+        if (other.hasLanguage()) {
+          language_ = other.language_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (classesBuilder_ == null) {
+          if (!other.classes_.isEmpty()) {
+            if (classes_.isEmpty()) {
+              classes_ = other.classes_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureClassesIsMutable();
+              classes_.addAll(other.classes_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.classes_.isEmpty()) {
+            if (classesBuilder_.isEmpty()) {
+              classesBuilder_.dispose();
+              classesBuilder_ = null;
+              classes_ = other.classes_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              classesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getClassesFieldBuilder() : null;
+            } else {
+              classesBuilder_.addAllMessages(other.classes_);
+            }
+          }
+        }
+        if (other.hasHighPri()) {
+          setHighPri(other.getHighPri());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                language_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.parser(),
+                        extensionRegistry);
+                if (classesBuilder_ == null) {
+                  ensureClassesIsMutable();
+                  classes_.add(m);
+                } else {
+                  classesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 32: {
+                highPri_ = input.readBool();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object language_ = "";
+      /**
+       * <code>optional string language = 1;</code>
+       * @return Whether the language field is set.
+       */
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string language = 1;</code>
+       * @return The language.
+       */
+      public java.lang.String getLanguage() {
+        java.lang.Object ref = language_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            language_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string language = 1;</code>
+       * @return The bytes for language.
+       */
+      public com.google.protobuf.ByteString
+          getLanguageBytes() {
+        java.lang.Object ref = language_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          language_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string language = 1;</code>
+       * @param value The language to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLanguage(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        language_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string language = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLanguage() {
+        language_ = getDefaultInstance().getLanguage();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string language = 1;</code>
+       * @param value The bytes for language to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLanguageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        language_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class> classes_ =
+        java.util.Collections.emptyList();
+      private void ensureClassesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          classes_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class>(classes_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder> classesBuilder_;
+
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class> getClassesList() {
+        if (classesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(classes_);
+        } else {
+          return classesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public int getClassesCount() {
+        if (classesBuilder_ == null) {
+          return classes_.size();
+        } else {
+          return classesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class getClasses(int index) {
+        if (classesBuilder_ == null) {
+          return classes_.get(index);
+        } else {
+          return classesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder setClasses(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class value) {
+        if (classesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassesIsMutable();
+          classes_.set(index, value);
+          onChanged();
+        } else {
+          classesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder setClasses(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder builderForValue) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          classesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder addClasses(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class value) {
+        if (classesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassesIsMutable();
+          classes_.add(value);
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder addClasses(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class value) {
+        if (classesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureClassesIsMutable();
+          classes_.add(index, value);
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder addClasses(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder builderForValue) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.add(builderForValue.build());
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder addClasses(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder builderForValue) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          classesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder addAllClasses(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class> values) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, classes_);
+          onChanged();
+        } else {
+          classesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder clearClasses() {
+        if (classesBuilder_ == null) {
+          classes_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          classesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public Builder removeClasses(int index) {
+        if (classesBuilder_ == null) {
+          ensureClassesIsMutable();
+          classes_.remove(index);
+          onChanged();
+        } else {
+          classesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder getClassesBuilder(
+          int index) {
+        return getClassesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder getClassesOrBuilder(
+          int index) {
+        if (classesBuilder_ == null) {
+          return classes_.get(index);  } else {
+          return classesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder> 
+           getClassesOrBuilderList() {
+        if (classesBuilder_ != null) {
+          return classesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(classes_);
+        }
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder addClassesBuilder() {
+        return getClassesFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder addClassesBuilder(
+          int index) {
+        return getClassesFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEcon_GetAssetClassInfo_Request.Class classes = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder> 
+           getClassesBuilderList() {
+        return getClassesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder> 
+          getClassesFieldBuilder() {
+        if (classesBuilder_ == null) {
+          classesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.Class.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request.ClassOrBuilder>(
+                  classes_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          classes_ = null;
+        }
+        return classesBuilder_;
+      }
+
+      private boolean highPri_ ;
+      /**
+       * <code>optional bool high_pri = 4;</code>
+       * @return Whether the highPri field is set.
+       */
+      @java.lang.Override
+      public boolean hasHighPri() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional bool high_pri = 4;</code>
+       * @return The highPri.
+       */
+      @java.lang.Override
+      public boolean getHighPri() {
+        return highPri_;
+      }
+      /**
+       * <code>optional bool high_pri = 4;</code>
+       * @param value The highPri to set.
+       * @return This builder for chaining.
+       */
+      public Builder setHighPri(boolean value) {
+
+        highPri_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool high_pri = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearHighPri() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        highPri_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_GetAssetClassInfo_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_GetAssetClassInfo_Request)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_GetAssetClassInfo_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_GetAssetClassInfo_Request>() {
+      @java.lang.Override
+      public CEcon_GetAssetClassInfo_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_GetAssetClassInfo_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_GetAssetClassInfo_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CEcon_GetAssetClassInfo_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CEcon_GetAssetClassInfo_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> 
+        getDescriptionsList();
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDescriptions(int index);
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    int getDescriptionsCount();
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+        getDescriptionsOrBuilderList();
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getDescriptionsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code CEcon_GetAssetClassInfo_Response}
+   */
+  public static final class CEcon_GetAssetClassInfo_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CEcon_GetAssetClassInfo_Response)
+      CEcon_GetAssetClassInfo_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CEcon_GetAssetClassInfo_Response.class.getName());
+    }
+    // Use CEcon_GetAssetClassInfo_Response.newBuilder() to construct.
+    private CEcon_GetAssetClassInfo_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CEcon_GetAssetClassInfo_Response() {
+      descriptions_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response.Builder.class);
+    }
+
+    public static final int DESCRIPTIONS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> descriptions_;
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> getDescriptionsList() {
+      return descriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+        getDescriptionsOrBuilderList() {
+      return descriptions_;
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    @java.lang.Override
+    public int getDescriptionsCount() {
+      return descriptions_.size();
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDescriptions(int index) {
+      return descriptions_.get(index);
+    }
+    /**
+     * <code>repeated .CEconItem_Description descriptions = 1;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getDescriptionsOrBuilder(
+        int index) {
+      return descriptions_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < descriptions_.size(); i++) {
+        output.writeMessage(1, descriptions_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < descriptions_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, descriptions_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response other = (com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response) obj;
+
+      if (!getDescriptionsList()
+          .equals(other.getDescriptionsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getDescriptionsCount() > 0) {
+        hash = (37 * hash) + DESCRIPTIONS_FIELD_NUMBER;
+        hash = (53 * hash) + getDescriptionsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CEcon_GetAssetClassInfo_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CEcon_GetAssetClassInfo_Response)
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response.class, com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        if (descriptionsBuilder_ == null) {
+          descriptions_ = java.util.Collections.emptyList();
+        } else {
+          descriptions_ = null;
+          descriptionsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.internal_static_CEcon_GetAssetClassInfo_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response build() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response result = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response result) {
+        if (descriptionsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            descriptions_ = java.util.Collections.unmodifiableList(descriptions_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.descriptions_ = descriptions_;
+        } else {
+          result.descriptions_ = descriptionsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response result) {
+        int from_bitField0_ = bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response.getDefaultInstance()) return this;
+        if (descriptionsBuilder_ == null) {
+          if (!other.descriptions_.isEmpty()) {
+            if (descriptions_.isEmpty()) {
+              descriptions_ = other.descriptions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureDescriptionsIsMutable();
+              descriptions_.addAll(other.descriptions_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.descriptions_.isEmpty()) {
+            if (descriptionsBuilder_.isEmpty()) {
+              descriptionsBuilder_.dispose();
+              descriptionsBuilder_ = null;
+              descriptions_ = other.descriptions_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              descriptionsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getDescriptionsFieldBuilder() : null;
+            } else {
+              descriptionsBuilder_.addAllMessages(other.descriptions_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.parser(),
+                        extensionRegistry);
+                if (descriptionsBuilder_ == null) {
+                  ensureDescriptionsIsMutable();
+                  descriptions_.add(m);
+                } else {
+                  descriptionsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> descriptions_ =
+        java.util.Collections.emptyList();
+      private void ensureDescriptionsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          descriptions_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description>(descriptions_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> descriptionsBuilder_;
+
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> getDescriptionsList() {
+        if (descriptionsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(descriptions_);
+        } else {
+          return descriptionsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public int getDescriptionsCount() {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.size();
+        } else {
+          return descriptionsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description getDescriptions(int index) {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.get(index);
+        } else {
+          return descriptionsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder setDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.set(index, value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder setDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder addDescriptions(com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.add(value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder addDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description value) {
+        if (descriptionsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureDescriptionsIsMutable();
+          descriptions_.add(index, value);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder addDescriptions(
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.add(builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder addDescriptions(
+          int index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder builderForValue) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          descriptionsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder addAllDescriptions(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description> values) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, descriptions_);
+          onChanged();
+        } else {
+          descriptionsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder clearDescriptions() {
+        if (descriptionsBuilder_ == null) {
+          descriptions_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          descriptionsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public Builder removeDescriptions(int index) {
+        if (descriptionsBuilder_ == null) {
+          ensureDescriptionsIsMutable();
+          descriptions_.remove(index);
+          onChanged();
+        } else {
+          descriptionsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder getDescriptionsBuilder(
+          int index) {
+        return getDescriptionsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder getDescriptionsOrBuilder(
+          int index) {
+        if (descriptionsBuilder_ == null) {
+          return descriptions_.get(index);  } else {
+          return descriptionsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+           getDescriptionsOrBuilderList() {
+        if (descriptionsBuilder_ != null) {
+          return descriptionsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(descriptions_);
+        }
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder addDescriptionsBuilder() {
+        return getDescriptionsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder addDescriptionsBuilder(
+          int index) {
+        return getDescriptionsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CEconItem_Description descriptions = 1;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder> 
+           getDescriptionsBuilderList() {
+        return getDescriptionsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder> 
+          getDescriptionsFieldBuilder() {
+        if (descriptionsBuilder_ == null) {
+          descriptionsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_Description.Builder, com.javasteam.protobufs.SteammessagesEconSteamclient.CEconItem_DescriptionOrBuilder>(
+                  descriptions_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          descriptions_ = null;
+        }
+        return descriptionsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CEcon_GetAssetClassInfo_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CEcon_GetAssetClassInfo_Response)
+    private static final com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CEcon_GetAssetClassInfo_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CEcon_GetAssetClassInfo_Response>() {
+      @java.lang.Override
+      public CEcon_GetAssetClassInfo_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CEcon_GetAssetClassInfo_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CEcon_GetAssetClassInfo_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_Asset_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_Asset_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEconItem_DescriptionLine_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEconItem_DescriptionLine_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEconItem_Action_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEconItem_Action_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEconItem_Description_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEconItem_Description_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEconItem_Tag_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEconItem_Tag_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetTradeOfferAccessToken_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetTradeOfferAccessToken_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetTradeOfferAccessToken_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetTradeOfferAccessToken_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetAssetClassInfo_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetAssetClassInfo_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetAssetClassInfo_Request_Class_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetAssetClassInfo_Request_Class_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CEcon_GetAssetClassInfo_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CEcon_GetAssetClassInfo_Response_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n$steammessages_econ.steamclient.proto\032\030" +
+      "steammessages_base.proto\032,steammessages_" +
+      "unified_base.steamclient.proto\"\225\003\n/CEcon" +
+      "_GetInventoryItemsWithDescriptions_Reque" +
+      "st\022\017\n\007steamid\030\001 \001(\006\022\r\n\005appid\030\002 \001(\r\022\021\n\tco" +
+      "ntextid\030\003 \001(\004\022\030\n\020get_descriptions\030\004 \001(\010\022" +
+      "$\n\034for_trade_offer_verification\030\n \001(\010\022\020\n" +
+      "\010language\030\005 \001(\t\022O\n\007filters\030\006 \001(\0132>.CEcon" +
+      "_GetInventoryItemsWithDescriptions_Reque" +
+      "st.FilterOptions\022\025\n\rstart_assetid\030\010 \001(\004\022" +
+      "\r\n\005count\030\t \001(\005\032f\n\rFilterOptions\022\020\n\010asset" +
+      "ids\030\001 \003(\004\022\023\n\013currencyids\030\002 \003(\r\022\025\n\rtradab" +
+      "le_only\030\003 \001(\010\022\027\n\017marketable_only\030\004 \001(\010\"\253" +
+      "\001\n\013CEcon_Asset\022\r\n\005appid\030\001 \001(\r\022\021\n\tcontext" +
+      "id\030\002 \001(\004\022\017\n\007assetid\030\003 \001(\004\022\017\n\007classid\030\004 \001" +
+      "(\004\022\022\n\ninstanceid\030\005 \001(\004\022\022\n\ncurrencyid\030\006 \001" +
+      "(\r\022\016\n\006amount\030\007 \001(\003\022\017\n\007missing\030\010 \001(\010\022\017\n\007e" +
+      "st_usd\030\t \001(\003\"V\n\031CEconItem_DescriptionLin" +
+      "e\022\014\n\004type\030\001 \001(\t\022\r\n\005value\030\002 \001(\t\022\r\n\005color\030" +
+      "\003 \001(\t\022\r\n\005label\030\004 \001(\t\".\n\020CEconItem_Action" +
+      "\022\014\n\004link\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\"\343\006\n\025CEconIt" +
+      "em_Description\022\r\n\005appid\030\001 \001(\005\022\017\n\007classid" +
+      "\030\002 \001(\004\022\022\n\ninstanceid\030\003 \001(\004\022\020\n\010currency\030\004" +
+      " \001(\010\022\030\n\020background_color\030\005 \001(\t\022\020\n\010icon_u" +
+      "rl\030\006 \001(\t\022\026\n\016icon_url_large\030\007 \001(\t\0220\n\014desc" +
+      "riptions\030\010 \003(\0132\032.CEconItem_DescriptionLi" +
+      "ne\022\020\n\010tradable\030\t \001(\010\022\"\n\007actions\030\n \003(\0132\021." +
+      "CEconItem_Action\0226\n\022owner_descriptions\030\013" +
+      " \003(\0132\032.CEconItem_DescriptionLine\022(\n\rowne" +
+      "r_actions\030\014 \003(\0132\021.CEconItem_Action\022\025\n\rfr" +
+      "audwarnings\030\r \003(\t\022\014\n\004name\030\016 \001(\t\022\022\n\nname_" +
+      "color\030\017 \001(\t\022\014\n\004type\030\020 \001(\t\022\023\n\013market_name" +
+      "\030\021 \001(\t\022\030\n\020market_hash_name\030\022 \001(\t\022\022\n\nmark" +
+      "et_fee\030\023 \001(\t\022\026\n\016market_fee_app\030\034 \001(\005\022.\n\016" +
+      "contained_item\030\024 \001(\0132\026.CEconItem_Descrip" +
+      "tion\022)\n\016market_actions\030\025 \003(\0132\021.CEconItem" +
+      "_Action\022\021\n\tcommodity\030\026 \001(\010\022#\n\033market_tra" +
+      "dable_restriction\030\027 \001(\005\022%\n\035market_market" +
+      "able_restriction\030\030 \001(\005\022\022\n\nmarketable\030\031 \001" +
+      "(\010\022\034\n\004tags\030\032 \003(\0132\016.CEconItem_Tag\022\027\n\017item" +
+      "_expiration\030\033 \001(\t\022&\n\036market_buy_country_" +
+      "restriction\030\036 \001(\t\022\'\n\037market_sell_country" +
+      "_restriction\030\037 \001(\t\"\223\001\n\rCEconItem_Tag\022\r\n\005" +
+      "appid\030\001 \001(\r\022\020\n\010category\030\002 \001(\t\022\025\n\rinterna" +
+      "l_name\030\003 \001(\t\022\037\n\027localized_category_name\030" +
+      "\004 \001(\t\022\032\n\022localized_tag_name\030\005 \001(\t\022\r\n\005col" +
+      "or\030\006 \001(\t\"\355\001\n0CEcon_GetInventoryItemsWith" +
+      "Descriptions_Response\022\034\n\006assets\030\001 \003(\0132\014." +
+      "CEcon_Asset\022,\n\014descriptions\030\002 \003(\0132\026.CEco" +
+      "nItem_Description\022$\n\016missing_assets\030\003 \003(" +
+      "\0132\014.CEcon_Asset\022\022\n\nmore_items\030\004 \001(\010\022\024\n\014l" +
+      "ast_assetid\030\005 \001(\004\022\035\n\025total_inventory_cou" +
+      "nt\030\006 \001(\r\"D\n&CEcon_GetTradeOfferAccessTok" +
+      "en_Request\022\032\n\022generate_new_token\030\001 \001(\010\"K" +
+      "\n\'CEcon_GetTradeOfferAccessToken_Respons" +
+      "e\022 \n\030trade_offer_access_token\030\001 \001(\t\"C\n-C" +
+      "Econ_ClientGetItemShopOverlayAuthURL_Req" +
+      "uest\022\022\n\nreturn_url\030\001 \001(\t\"=\n.CEcon_Client" +
+      "GetItemShopOverlayAuthURL_Response\022\013\n\003ur" +
+      "l\030\001 \001(\t\"\273\001\n\037CEcon_GetAssetClassInfo_Requ" +
+      "est\022\020\n\010language\030\001 \001(\t\022\r\n\005appid\030\002 \001(\r\0227\n\007" +
+      "classes\030\003 \003(\0132&.CEcon_GetAssetClassInfo_" +
+      "Request.Class\022\020\n\010high_pri\030\004 \001(\010\032,\n\005Class" +
+      "\022\017\n\007classid\030\001 \001(\004\022\022\n\ninstanceid\030\002 \001(\004\"P\n" +
+      " CEcon_GetAssetClassInfo_Response\022,\n\014des" +
+      "criptions\030\001 \003(\0132\026.CEconItem_Description2" +
+      "\337\003\n\004Econ\022\210\001\n!GetInventoryItemsWithDescri" +
+      "ptions\0220.CEcon_GetInventoryItemsWithDesc" +
+      "riptions_Request\0321.CEcon_GetInventoryIte" +
+      "msWithDescriptions_Response\022m\n\030GetTradeO" +
+      "fferAccessToken\022\'.CEcon_GetTradeOfferAcc" +
+      "essToken_Request\032(.CEcon_GetTradeOfferAc" +
+      "cessToken_Response\022\202\001\n\037ClientGetItemShop" +
+      "OverlayAuthURL\022..CEcon_ClientGetItemShop" +
+      "OverlayAuthURL_Request\032/.CEcon_ClientGet" +
+      "ItemShopOverlayAuthURL_Response\022X\n\021GetAs" +
+      "setClassInfo\022 .CEcon_GetAssetClassInfo_R" +
+      "equest\032!.CEcon_GetAssetClassInfo_Respons" +
+      "eB\034\n\027com.javasteam.protobufs\200\001\001"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.javasteam.protobufs.SteammessagesBase.getDescriptor(),
+          com.javasteam.protobufs.SteammessagesUnifiedBaseSteamclient.getDescriptor(),
+        });
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_descriptor,
+        new java.lang.String[] { "Steamid", "Appid", "Contextid", "GetDescriptions", "ForTradeOfferVerification", "Language", "Filters", "StartAssetid", "Count", });
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_descriptor =
+      internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_descriptor.getNestedTypes().get(0);
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetInventoryItemsWithDescriptions_Request_FilterOptions_descriptor,
+        new java.lang.String[] { "Assetids", "Currencyids", "TradableOnly", "MarketableOnly", });
+    internal_static_CEcon_Asset_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CEcon_Asset_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_Asset_descriptor,
+        new java.lang.String[] { "Appid", "Contextid", "Assetid", "Classid", "Instanceid", "Currencyid", "Amount", "Missing", "EstUsd", });
+    internal_static_CEconItem_DescriptionLine_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_CEconItem_DescriptionLine_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEconItem_DescriptionLine_descriptor,
+        new java.lang.String[] { "Type", "Value", "Color", "Label", });
+    internal_static_CEconItem_Action_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_CEconItem_Action_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEconItem_Action_descriptor,
+        new java.lang.String[] { "Link", "Name", });
+    internal_static_CEconItem_Description_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_CEconItem_Description_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEconItem_Description_descriptor,
+        new java.lang.String[] { "Appid", "Classid", "Instanceid", "Currency", "BackgroundColor", "IconUrl", "IconUrlLarge", "Descriptions", "Tradable", "Actions", "OwnerDescriptions", "OwnerActions", "Fraudwarnings", "Name", "NameColor", "Type", "MarketName", "MarketHashName", "MarketFee", "MarketFeeApp", "ContainedItem", "MarketActions", "Commodity", "MarketTradableRestriction", "MarketMarketableRestriction", "Marketable", "Tags", "ItemExpiration", "MarketBuyCountryRestriction", "MarketSellCountryRestriction", });
+    internal_static_CEconItem_Tag_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_CEconItem_Tag_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEconItem_Tag_descriptor,
+        new java.lang.String[] { "Appid", "Category", "InternalName", "LocalizedCategoryName", "LocalizedTagName", "Color", });
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetInventoryItemsWithDescriptions_Response_descriptor,
+        new java.lang.String[] { "Assets", "Descriptions", "MissingAssets", "MoreItems", "LastAssetid", "TotalInventoryCount", });
+    internal_static_CEcon_GetTradeOfferAccessToken_Request_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_CEcon_GetTradeOfferAccessToken_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetTradeOfferAccessToken_Request_descriptor,
+        new java.lang.String[] { "GenerateNewToken", });
+    internal_static_CEcon_GetTradeOfferAccessToken_Response_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_CEcon_GetTradeOfferAccessToken_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetTradeOfferAccessToken_Response_descriptor,
+        new java.lang.String[] { "TradeOfferAccessToken", });
+    internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Request_descriptor,
+        new java.lang.String[] { "ReturnUrl", });
+    internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_ClientGetItemShopOverlayAuthURL_Response_descriptor,
+        new java.lang.String[] { "Url", });
+    internal_static_CEcon_GetAssetClassInfo_Request_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_CEcon_GetAssetClassInfo_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetAssetClassInfo_Request_descriptor,
+        new java.lang.String[] { "Language", "Appid", "Classes", "HighPri", });
+    internal_static_CEcon_GetAssetClassInfo_Request_Class_descriptor =
+      internal_static_CEcon_GetAssetClassInfo_Request_descriptor.getNestedTypes().get(0);
+    internal_static_CEcon_GetAssetClassInfo_Request_Class_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetAssetClassInfo_Request_Class_descriptor,
+        new java.lang.String[] { "Classid", "Instanceid", });
+    internal_static_CEcon_GetAssetClassInfo_Response_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_CEcon_GetAssetClassInfo_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CEcon_GetAssetClassInfo_Response_descriptor,
+        new java.lang.String[] { "Descriptions", });
+    descriptor.resolveAllFeaturesImmutable();
+    com.javasteam.protobufs.SteammessagesBase.getDescriptor();
+    com.javasteam.protobufs.SteammessagesUnifiedBaseSteamclient.getDescriptor();
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,18037 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: steammessages_inventory.steamclient.proto
+// Protobuf Java Version: 4.26.1
+
+package com.javasteam.protobufs;
+
+public final class SteammessagesInventorySteamclient {
+  private SteammessagesInventorySteamclient() {}
+  static {
+    com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+      com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+      /* major= */ 4,
+      /* minor= */ 26,
+      /* patch= */ 1,
+      /* suffix= */ "",
+      SteammessagesInventorySteamclient.class.getName());
+  }
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface CInventory_GetInventory_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_GetInventory_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+  }
+  /**
+   * Protobuf type {@code CInventory_GetInventory_Request}
+   */
+  public static final class CInventory_GetInventory_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_GetInventory_Request)
+      CInventory_GetInventory_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_GetInventory_Request.class.getName());
+    }
+    // Use CInventory_GetInventory_Request.newBuilder() to construct.
+    private CInventory_GetInventory_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_GetInventory_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetInventory_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetInventory_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 2;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, steamid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, steamid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_GetInventory_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_GetInventory_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetInventory_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetInventory_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        steamid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetInventory_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                steamid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_GetInventory_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_GetInventory_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_GetInventory_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_GetInventory_Request>() {
+      @java.lang.Override
+      public CInventory_GetInventory_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_GetInventory_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_GetInventory_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string etag = 1;</code>
+     * @return Whether the etag field is set.
+     */
+    boolean hasEtag();
+    /**
+     * <code>optional string etag = 1;</code>
+     * @return The etag.
+     */
+    java.lang.String getEtag();
+    /**
+     * <code>optional string etag = 1;</code>
+     * @return The bytes for etag.
+     */
+    com.google.protobuf.ByteString
+        getEtagBytes();
+
+    /**
+     * <code>repeated uint64 removeditemids = 2;</code>
+     * @return A list containing the removeditemids.
+     */
+    java.util.List<java.lang.Long> getRemoveditemidsList();
+    /**
+     * <code>repeated uint64 removeditemids = 2;</code>
+     * @return The count of removeditemids.
+     */
+    int getRemoveditemidsCount();
+    /**
+     * <code>repeated uint64 removeditemids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The removeditemids at the given index.
+     */
+    long getRemoveditemids(int index);
+
+    /**
+     * <code>optional string item_json = 3;</code>
+     * @return Whether the itemJson field is set.
+     */
+    boolean hasItemJson();
+    /**
+     * <code>optional string item_json = 3;</code>
+     * @return The itemJson.
+     */
+    java.lang.String getItemJson();
+    /**
+     * <code>optional string item_json = 3;</code>
+     * @return The bytes for itemJson.
+     */
+    com.google.protobuf.ByteString
+        getItemJsonBytes();
+
+    /**
+     * <code>optional string itemdef_json = 4;</code>
+     * @return Whether the itemdefJson field is set.
+     */
+    boolean hasItemdefJson();
+    /**
+     * <code>optional string itemdef_json = 4;</code>
+     * @return The itemdefJson.
+     */
+    java.lang.String getItemdefJson();
+    /**
+     * <code>optional string itemdef_json = 4;</code>
+     * @return The bytes for itemdefJson.
+     */
+    com.google.protobuf.ByteString
+        getItemdefJsonBytes();
+
+    /**
+     * <code>optional bytes ticket = 5;</code>
+     * @return Whether the ticket field is set.
+     */
+    boolean hasTicket();
+    /**
+     * <code>optional bytes ticket = 5;</code>
+     * @return The ticket.
+     */
+    com.google.protobuf.ByteString getTicket();
+
+    /**
+     * <code>optional bool replayed = 6;</code>
+     * @return Whether the replayed field is set.
+     */
+    boolean hasReplayed();
+    /**
+     * <code>optional bool replayed = 6;</code>
+     * @return The replayed.
+     */
+    boolean getReplayed();
+  }
+  /**
+   * Protobuf type {@code CInventory_Response}
+   */
+  public static final class CInventory_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_Response)
+      CInventory_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_Response.class.getName());
+    }
+    // Use CInventory_Response.newBuilder() to construct.
+    private CInventory_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_Response() {
+      etag_ = "";
+      removeditemids_ = emptyLongList();
+      itemJson_ = "";
+      itemdefJson_ = "";
+      ticket_ = com.google.protobuf.ByteString.EMPTY;
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ETAG_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object etag_ = "";
+    /**
+     * <code>optional string etag = 1;</code>
+     * @return Whether the etag field is set.
+     */
+    @java.lang.Override
+    public boolean hasEtag() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string etag = 1;</code>
+     * @return The etag.
+     */
+    @java.lang.Override
+    public java.lang.String getEtag() {
+      java.lang.Object ref = etag_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          etag_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string etag = 1;</code>
+     * @return The bytes for etag.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEtagBytes() {
+      java.lang.Object ref = etag_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        etag_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REMOVEDITEMIDS_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList removeditemids_ =
+        emptyLongList();
+    /**
+     * <code>repeated uint64 removeditemids = 2;</code>
+     * @return A list containing the removeditemids.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getRemoveditemidsList() {
+      return removeditemids_;
+    }
+    /**
+     * <code>repeated uint64 removeditemids = 2;</code>
+     * @return The count of removeditemids.
+     */
+    public int getRemoveditemidsCount() {
+      return removeditemids_.size();
+    }
+    /**
+     * <code>repeated uint64 removeditemids = 2;</code>
+     * @param index The index of the element to return.
+     * @return The removeditemids at the given index.
+     */
+    public long getRemoveditemids(int index) {
+      return removeditemids_.getLong(index);
+    }
+
+    public static final int ITEM_JSON_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object itemJson_ = "";
+    /**
+     * <code>optional string item_json = 3;</code>
+     * @return Whether the itemJson field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemJson() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string item_json = 3;</code>
+     * @return The itemJson.
+     */
+    @java.lang.Override
+    public java.lang.String getItemJson() {
+      java.lang.Object ref = itemJson_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          itemJson_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string item_json = 3;</code>
+     * @return The bytes for itemJson.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getItemJsonBytes() {
+      java.lang.Object ref = itemJson_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        itemJson_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int ITEMDEF_JSON_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object itemdefJson_ = "";
+    /**
+     * <code>optional string itemdef_json = 4;</code>
+     * @return Whether the itemdefJson field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemdefJson() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string itemdef_json = 4;</code>
+     * @return The itemdefJson.
+     */
+    @java.lang.Override
+    public java.lang.String getItemdefJson() {
+      java.lang.Object ref = itemdefJson_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          itemdefJson_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string itemdef_json = 4;</code>
+     * @return The bytes for itemdefJson.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getItemdefJsonBytes() {
+      java.lang.Object ref = itemdefJson_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        itemdefJson_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TICKET_FIELD_NUMBER = 5;
+    private com.google.protobuf.ByteString ticket_ = com.google.protobuf.ByteString.EMPTY;
+    /**
+     * <code>optional bytes ticket = 5;</code>
+     * @return Whether the ticket field is set.
+     */
+    @java.lang.Override
+    public boolean hasTicket() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional bytes ticket = 5;</code>
+     * @return The ticket.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString getTicket() {
+      return ticket_;
+    }
+
+    public static final int REPLAYED_FIELD_NUMBER = 6;
+    private boolean replayed_ = false;
+    /**
+     * <code>optional bool replayed = 6;</code>
+     * @return Whether the replayed field is set.
+     */
+    @java.lang.Override
+    public boolean hasReplayed() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional bool replayed = 6;</code>
+     * @return The replayed.
+     */
+    @java.lang.Override
+    public boolean getReplayed() {
+      return replayed_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 1, etag_);
+      }
+      for (int i = 0; i < removeditemids_.size(); i++) {
+        output.writeUInt64(2, removeditemids_.getLong(i));
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, itemJson_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, itemdefJson_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeBytes(5, ticket_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeBool(6, replayed_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(1, etag_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removeditemids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(removeditemids_.getLong(i));
+        }
+        size += dataSize;
+        size += 1 * getRemoveditemidsList().size();
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, itemJson_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, itemdefJson_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(5, ticket_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, replayed_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response) obj;
+
+      if (hasEtag() != other.hasEtag()) return false;
+      if (hasEtag()) {
+        if (!getEtag()
+            .equals(other.getEtag())) return false;
+      }
+      if (!getRemoveditemidsList()
+          .equals(other.getRemoveditemidsList())) return false;
+      if (hasItemJson() != other.hasItemJson()) return false;
+      if (hasItemJson()) {
+        if (!getItemJson()
+            .equals(other.getItemJson())) return false;
+      }
+      if (hasItemdefJson() != other.hasItemdefJson()) return false;
+      if (hasItemdefJson()) {
+        if (!getItemdefJson()
+            .equals(other.getItemdefJson())) return false;
+      }
+      if (hasTicket() != other.hasTicket()) return false;
+      if (hasTicket()) {
+        if (!getTicket()
+            .equals(other.getTicket())) return false;
+      }
+      if (hasReplayed() != other.hasReplayed()) return false;
+      if (hasReplayed()) {
+        if (getReplayed()
+            != other.getReplayed()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasEtag()) {
+        hash = (37 * hash) + ETAG_FIELD_NUMBER;
+        hash = (53 * hash) + getEtag().hashCode();
+      }
+      if (getRemoveditemidsCount() > 0) {
+        hash = (37 * hash) + REMOVEDITEMIDS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemoveditemidsList().hashCode();
+      }
+      if (hasItemJson()) {
+        hash = (37 * hash) + ITEM_JSON_FIELD_NUMBER;
+        hash = (53 * hash) + getItemJson().hashCode();
+      }
+      if (hasItemdefJson()) {
+        hash = (37 * hash) + ITEMDEF_JSON_FIELD_NUMBER;
+        hash = (53 * hash) + getItemdefJson().hashCode();
+      }
+      if (hasTicket()) {
+        hash = (37 * hash) + TICKET_FIELD_NUMBER;
+        hash = (53 * hash) + getTicket().hashCode();
+      }
+      if (hasReplayed()) {
+        hash = (37 * hash) + REPLAYED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getReplayed());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_Response)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        etag_ = "";
+        removeditemids_ = emptyLongList();
+        itemJson_ = "";
+        itemdefJson_ = "";
+        ticket_ = com.google.protobuf.ByteString.EMPTY;
+        replayed_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.etag_ = etag_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          removeditemids_.makeImmutable();
+          result.removeditemids_ = removeditemids_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.itemJson_ = itemJson_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.itemdefJson_ = itemdefJson_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.ticket_ = ticket_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.replayed_ = replayed_;
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.getDefaultInstance()) return this;
+        if (other.hasEtag()) {
+          etag_ = other.etag_;
+          bitField0_ |= 0x00000001;
+          onChanged();
+        }
+        if (!other.removeditemids_.isEmpty()) {
+          if (removeditemids_.isEmpty()) {
+            removeditemids_ = other.removeditemids_;
+            removeditemids_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureRemoveditemidsIsMutable();
+            removeditemids_.addAll(other.removeditemids_);
+          }
+          onChanged();
+        }
+        if (other.hasItemJson()) {
+          itemJson_ = other.itemJson_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        if (other.hasItemdefJson()) {
+          itemdefJson_ = other.itemdefJson_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasTicket()) {
+          setTicket(other.getTicket());
+        }
+        if (other.hasReplayed()) {
+          setReplayed(other.getReplayed());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                etag_ = input.readBytes();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 10
+              case 16: {
+                long v = input.readUInt64();
+                ensureRemoveditemidsIsMutable();
+                removeditemids_.addLong(v);
+                break;
+              } // case 16
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureRemoveditemidsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  removeditemids_.addLong(input.readUInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 26: {
+                itemJson_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              case 34: {
+                itemdefJson_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 42: {
+                ticket_ = input.readBytes();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 42
+              case 48: {
+                replayed_ = input.readBool();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object etag_ = "";
+      /**
+       * <code>optional string etag = 1;</code>
+       * @return Whether the etag field is set.
+       */
+      public boolean hasEtag() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string etag = 1;</code>
+       * @return The etag.
+       */
+      public java.lang.String getEtag() {
+        java.lang.Object ref = etag_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            etag_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string etag = 1;</code>
+       * @return The bytes for etag.
+       */
+      public com.google.protobuf.ByteString
+          getEtagBytes() {
+        java.lang.Object ref = etag_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          etag_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string etag = 1;</code>
+       * @param value The etag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEtag(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        etag_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string etag = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEtag() {
+        etag_ = getDefaultInstance().getEtag();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string etag = 1;</code>
+       * @param value The bytes for etag to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEtagBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        etag_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList removeditemids_ = emptyLongList();
+      private void ensureRemoveditemidsIsMutable() {
+        if (!removeditemids_.isModifiable()) {
+          removeditemids_ = makeMutableCopy(removeditemids_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated uint64 removeditemids = 2;</code>
+       * @return A list containing the removeditemids.
+       */
+      public java.util.List<java.lang.Long>
+          getRemoveditemidsList() {
+        removeditemids_.makeImmutable();
+        return removeditemids_;
+      }
+      /**
+       * <code>repeated uint64 removeditemids = 2;</code>
+       * @return The count of removeditemids.
+       */
+      public int getRemoveditemidsCount() {
+        return removeditemids_.size();
+      }
+      /**
+       * <code>repeated uint64 removeditemids = 2;</code>
+       * @param index The index of the element to return.
+       * @return The removeditemids at the given index.
+       */
+      public long getRemoveditemids(int index) {
+        return removeditemids_.getLong(index);
+      }
+      /**
+       * <code>repeated uint64 removeditemids = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The removeditemids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemoveditemids(
+          int index, long value) {
+
+        ensureRemoveditemidsIsMutable();
+        removeditemids_.setLong(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 removeditemids = 2;</code>
+       * @param value The removeditemids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemoveditemids(long value) {
+
+        ensureRemoveditemidsIsMutable();
+        removeditemids_.addLong(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 removeditemids = 2;</code>
+       * @param values The removeditemids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemoveditemids(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureRemoveditemidsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removeditemids_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 removeditemids = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemoveditemids() {
+        removeditemids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object itemJson_ = "";
+      /**
+       * <code>optional string item_json = 3;</code>
+       * @return Whether the itemJson field is set.
+       */
+      public boolean hasItemJson() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string item_json = 3;</code>
+       * @return The itemJson.
+       */
+      public java.lang.String getItemJson() {
+        java.lang.Object ref = itemJson_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            itemJson_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string item_json = 3;</code>
+       * @return The bytes for itemJson.
+       */
+      public com.google.protobuf.ByteString
+          getItemJsonBytes() {
+        java.lang.Object ref = itemJson_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          itemJson_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string item_json = 3;</code>
+       * @param value The itemJson to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemJson(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        itemJson_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string item_json = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemJson() {
+        itemJson_ = getDefaultInstance().getItemJson();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string item_json = 3;</code>
+       * @param value The bytes for itemJson to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemJsonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        itemJson_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object itemdefJson_ = "";
+      /**
+       * <code>optional string itemdef_json = 4;</code>
+       * @return Whether the itemdefJson field is set.
+       */
+      public boolean hasItemdefJson() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string itemdef_json = 4;</code>
+       * @return The itemdefJson.
+       */
+      public java.lang.String getItemdefJson() {
+        java.lang.Object ref = itemdefJson_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            itemdefJson_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string itemdef_json = 4;</code>
+       * @return The bytes for itemdefJson.
+       */
+      public com.google.protobuf.ByteString
+          getItemdefJsonBytes() {
+        java.lang.Object ref = itemdefJson_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          itemdefJson_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string itemdef_json = 4;</code>
+       * @param value The itemdefJson to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemdefJson(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        itemdefJson_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string itemdef_json = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemdefJson() {
+        itemdefJson_ = getDefaultInstance().getItemdefJson();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string itemdef_json = 4;</code>
+       * @param value The bytes for itemdefJson to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemdefJsonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        itemdefJson_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.ByteString ticket_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes ticket = 5;</code>
+       * @return Whether the ticket field is set.
+       */
+      @java.lang.Override
+      public boolean hasTicket() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional bytes ticket = 5;</code>
+       * @return The ticket.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString getTicket() {
+        return ticket_;
+      }
+      /**
+       * <code>optional bytes ticket = 5;</code>
+       * @param value The ticket to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTicket(com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ticket_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes ticket = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTicket() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        ticket_ = getDefaultInstance().getTicket();
+        onChanged();
+        return this;
+      }
+
+      private boolean replayed_ ;
+      /**
+       * <code>optional bool replayed = 6;</code>
+       * @return Whether the replayed field is set.
+       */
+      @java.lang.Override
+      public boolean hasReplayed() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional bool replayed = 6;</code>
+       * @return The replayed.
+       */
+      @java.lang.Override
+      public boolean getReplayed() {
+        return replayed_;
+      }
+      /**
+       * <code>optional bool replayed = 6;</code>
+       * @param value The replayed to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReplayed(boolean value) {
+
+        replayed_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool replayed = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReplayed() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        replayed_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_Response)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_Response>() {
+      @java.lang.Override
+      public CInventory_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_ExchangeItem_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_ExchangeItem_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+
+    /**
+     * <code>repeated uint64 materialsitemid = 3;</code>
+     * @return A list containing the materialsitemid.
+     */
+    java.util.List<java.lang.Long> getMaterialsitemidList();
+    /**
+     * <code>repeated uint64 materialsitemid = 3;</code>
+     * @return The count of materialsitemid.
+     */
+    int getMaterialsitemidCount();
+    /**
+     * <code>repeated uint64 materialsitemid = 3;</code>
+     * @param index The index of the element to return.
+     * @return The materialsitemid at the given index.
+     */
+    long getMaterialsitemid(int index);
+
+    /**
+     * <code>repeated uint32 materialsquantity = 4;</code>
+     * @return A list containing the materialsquantity.
+     */
+    java.util.List<java.lang.Integer> getMaterialsquantityList();
+    /**
+     * <code>repeated uint32 materialsquantity = 4;</code>
+     * @return The count of materialsquantity.
+     */
+    int getMaterialsquantityCount();
+    /**
+     * <code>repeated uint32 materialsquantity = 4;</code>
+     * @param index The index of the element to return.
+     * @return The materialsquantity at the given index.
+     */
+    int getMaterialsquantity(int index);
+
+    /**
+     * <code>optional uint64 outputitemdefid = 5;</code>
+     * @return Whether the outputitemdefid field is set.
+     */
+    boolean hasOutputitemdefid();
+    /**
+     * <code>optional uint64 outputitemdefid = 5;</code>
+     * @return The outputitemdefid.
+     */
+    long getOutputitemdefid();
+  }
+  /**
+   * Protobuf type {@code CInventory_ExchangeItem_Request}
+   */
+  public static final class CInventory_ExchangeItem_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_ExchangeItem_Request)
+      CInventory_ExchangeItem_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_ExchangeItem_Request.class.getName());
+    }
+    // Use CInventory_ExchangeItem_Request.newBuilder() to construct.
+    private CInventory_ExchangeItem_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_ExchangeItem_Request() {
+      materialsitemid_ = emptyLongList();
+      materialsquantity_ = emptyIntList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ExchangeItem_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ExchangeItem_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 2;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    public static final int MATERIALSITEMID_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList materialsitemid_ =
+        emptyLongList();
+    /**
+     * <code>repeated uint64 materialsitemid = 3;</code>
+     * @return A list containing the materialsitemid.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getMaterialsitemidList() {
+      return materialsitemid_;
+    }
+    /**
+     * <code>repeated uint64 materialsitemid = 3;</code>
+     * @return The count of materialsitemid.
+     */
+    public int getMaterialsitemidCount() {
+      return materialsitemid_.size();
+    }
+    /**
+     * <code>repeated uint64 materialsitemid = 3;</code>
+     * @param index The index of the element to return.
+     * @return The materialsitemid at the given index.
+     */
+    public long getMaterialsitemid(int index) {
+      return materialsitemid_.getLong(index);
+    }
+
+    public static final int MATERIALSQUANTITY_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.IntList materialsquantity_ =
+        emptyIntList();
+    /**
+     * <code>repeated uint32 materialsquantity = 4;</code>
+     * @return A list containing the materialsquantity.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+        getMaterialsquantityList() {
+      return materialsquantity_;
+    }
+    /**
+     * <code>repeated uint32 materialsquantity = 4;</code>
+     * @return The count of materialsquantity.
+     */
+    public int getMaterialsquantityCount() {
+      return materialsquantity_.size();
+    }
+    /**
+     * <code>repeated uint32 materialsquantity = 4;</code>
+     * @param index The index of the element to return.
+     * @return The materialsquantity at the given index.
+     */
+    public int getMaterialsquantity(int index) {
+      return materialsquantity_.getInt(index);
+    }
+
+    public static final int OUTPUTITEMDEFID_FIELD_NUMBER = 5;
+    private long outputitemdefid_ = 0L;
+    /**
+     * <code>optional uint64 outputitemdefid = 5;</code>
+     * @return Whether the outputitemdefid field is set.
+     */
+    @java.lang.Override
+    public boolean hasOutputitemdefid() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint64 outputitemdefid = 5;</code>
+     * @return The outputitemdefid.
+     */
+    @java.lang.Override
+    public long getOutputitemdefid() {
+      return outputitemdefid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, steamid_);
+      }
+      for (int i = 0; i < materialsitemid_.size(); i++) {
+        output.writeUInt64(3, materialsitemid_.getLong(i));
+      }
+      for (int i = 0; i < materialsquantity_.size(); i++) {
+        output.writeUInt32(4, materialsquantity_.getInt(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(5, outputitemdefid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, steamid_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < materialsitemid_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(materialsitemid_.getLong(i));
+        }
+        size += dataSize;
+        size += 1 * getMaterialsitemidList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < materialsquantity_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(materialsquantity_.getInt(i));
+        }
+        size += dataSize;
+        size += 1 * getMaterialsquantityList().size();
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, outputitemdefid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (!getMaterialsitemidList()
+          .equals(other.getMaterialsitemidList())) return false;
+      if (!getMaterialsquantityList()
+          .equals(other.getMaterialsquantityList())) return false;
+      if (hasOutputitemdefid() != other.hasOutputitemdefid()) return false;
+      if (hasOutputitemdefid()) {
+        if (getOutputitemdefid()
+            != other.getOutputitemdefid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      if (getMaterialsitemidCount() > 0) {
+        hash = (37 * hash) + MATERIALSITEMID_FIELD_NUMBER;
+        hash = (53 * hash) + getMaterialsitemidList().hashCode();
+      }
+      if (getMaterialsquantityCount() > 0) {
+        hash = (37 * hash) + MATERIALSQUANTITY_FIELD_NUMBER;
+        hash = (53 * hash) + getMaterialsquantityList().hashCode();
+      }
+      if (hasOutputitemdefid()) {
+        hash = (37 * hash) + OUTPUTITEMDEFID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getOutputitemdefid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_ExchangeItem_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_ExchangeItem_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ExchangeItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ExchangeItem_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        steamid_ = 0L;
+        materialsitemid_ = emptyLongList();
+        materialsquantity_ = emptyIntList();
+        outputitemdefid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ExchangeItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          materialsitemid_.makeImmutable();
+          result.materialsitemid_ = materialsitemid_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          materialsquantity_.makeImmutable();
+          result.materialsquantity_ = materialsquantity_;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.outputitemdefid_ = outputitemdefid_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        if (!other.materialsitemid_.isEmpty()) {
+          if (materialsitemid_.isEmpty()) {
+            materialsitemid_ = other.materialsitemid_;
+            materialsitemid_.makeImmutable();
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureMaterialsitemidIsMutable();
+            materialsitemid_.addAll(other.materialsitemid_);
+          }
+          onChanged();
+        }
+        if (!other.materialsquantity_.isEmpty()) {
+          if (materialsquantity_.isEmpty()) {
+            materialsquantity_ = other.materialsquantity_;
+            materialsquantity_.makeImmutable();
+            bitField0_ |= 0x00000008;
+          } else {
+            ensureMaterialsquantityIsMutable();
+            materialsquantity_.addAll(other.materialsquantity_);
+          }
+          onChanged();
+        }
+        if (other.hasOutputitemdefid()) {
+          setOutputitemdefid(other.getOutputitemdefid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                steamid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                long v = input.readUInt64();
+                ensureMaterialsitemidIsMutable();
+                materialsitemid_.addLong(v);
+                break;
+              } // case 24
+              case 26: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureMaterialsitemidIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  materialsitemid_.addLong(input.readUInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 26
+              case 32: {
+                int v = input.readUInt32();
+                ensureMaterialsquantityIsMutable();
+                materialsquantity_.addInt(v);
+                break;
+              } // case 32
+              case 34: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureMaterialsquantityIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  materialsquantity_.addInt(input.readUInt32());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 34
+              case 40: {
+                outputitemdefid_ = input.readUInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList materialsitemid_ = emptyLongList();
+      private void ensureMaterialsitemidIsMutable() {
+        if (!materialsitemid_.isModifiable()) {
+          materialsitemid_ = makeMutableCopy(materialsitemid_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated uint64 materialsitemid = 3;</code>
+       * @return A list containing the materialsitemid.
+       */
+      public java.util.List<java.lang.Long>
+          getMaterialsitemidList() {
+        materialsitemid_.makeImmutable();
+        return materialsitemid_;
+      }
+      /**
+       * <code>repeated uint64 materialsitemid = 3;</code>
+       * @return The count of materialsitemid.
+       */
+      public int getMaterialsitemidCount() {
+        return materialsitemid_.size();
+      }
+      /**
+       * <code>repeated uint64 materialsitemid = 3;</code>
+       * @param index The index of the element to return.
+       * @return The materialsitemid at the given index.
+       */
+      public long getMaterialsitemid(int index) {
+        return materialsitemid_.getLong(index);
+      }
+      /**
+       * <code>repeated uint64 materialsitemid = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The materialsitemid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaterialsitemid(
+          int index, long value) {
+
+        ensureMaterialsitemidIsMutable();
+        materialsitemid_.setLong(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 materialsitemid = 3;</code>
+       * @param value The materialsitemid to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMaterialsitemid(long value) {
+
+        ensureMaterialsitemidIsMutable();
+        materialsitemid_.addLong(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 materialsitemid = 3;</code>
+       * @param values The materialsitemid to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMaterialsitemid(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureMaterialsitemidIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, materialsitemid_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 materialsitemid = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaterialsitemid() {
+        materialsitemid_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.IntList materialsquantity_ = emptyIntList();
+      private void ensureMaterialsquantityIsMutable() {
+        if (!materialsquantity_.isModifiable()) {
+          materialsquantity_ = makeMutableCopy(materialsquantity_);
+        }
+        bitField0_ |= 0x00000008;
+      }
+      /**
+       * <code>repeated uint32 materialsquantity = 4;</code>
+       * @return A list containing the materialsquantity.
+       */
+      public java.util.List<java.lang.Integer>
+          getMaterialsquantityList() {
+        materialsquantity_.makeImmutable();
+        return materialsquantity_;
+      }
+      /**
+       * <code>repeated uint32 materialsquantity = 4;</code>
+       * @return The count of materialsquantity.
+       */
+      public int getMaterialsquantityCount() {
+        return materialsquantity_.size();
+      }
+      /**
+       * <code>repeated uint32 materialsquantity = 4;</code>
+       * @param index The index of the element to return.
+       * @return The materialsquantity at the given index.
+       */
+      public int getMaterialsquantity(int index) {
+        return materialsquantity_.getInt(index);
+      }
+      /**
+       * <code>repeated uint32 materialsquantity = 4;</code>
+       * @param index The index to set the value at.
+       * @param value The materialsquantity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaterialsquantity(
+          int index, int value) {
+
+        ensureMaterialsquantityIsMutable();
+        materialsquantity_.setInt(index, value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 materialsquantity = 4;</code>
+       * @param value The materialsquantity to add.
+       * @return This builder for chaining.
+       */
+      public Builder addMaterialsquantity(int value) {
+
+        ensureMaterialsquantityIsMutable();
+        materialsquantity_.addInt(value);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 materialsquantity = 4;</code>
+       * @param values The materialsquantity to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllMaterialsquantity(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureMaterialsquantityIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, materialsquantity_);
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint32 materialsquantity = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaterialsquantity() {
+        materialsquantity_ = emptyIntList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+
+      private long outputitemdefid_ ;
+      /**
+       * <code>optional uint64 outputitemdefid = 5;</code>
+       * @return Whether the outputitemdefid field is set.
+       */
+      @java.lang.Override
+      public boolean hasOutputitemdefid() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional uint64 outputitemdefid = 5;</code>
+       * @return The outputitemdefid.
+       */
+      @java.lang.Override
+      public long getOutputitemdefid() {
+        return outputitemdefid_;
+      }
+      /**
+       * <code>optional uint64 outputitemdefid = 5;</code>
+       * @param value The outputitemdefid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOutputitemdefid(long value) {
+
+        outputitemdefid_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 outputitemdefid = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOutputitemdefid() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        outputitemdefid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_ExchangeItem_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_ExchangeItem_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_ExchangeItem_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_ExchangeItem_Request>() {
+      @java.lang.Override
+      public CInventory_ExchangeItem_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_ExchangeItem_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_ExchangeItem_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_GetEligiblePromoItemDefIDs_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_GetEligiblePromoItemDefIDs_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+  }
+  /**
+   * Protobuf type {@code CInventory_GetEligiblePromoItemDefIDs_Request}
+   */
+  public static final class CInventory_GetEligiblePromoItemDefIDs_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_GetEligiblePromoItemDefIDs_Request)
+      CInventory_GetEligiblePromoItemDefIDs_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_GetEligiblePromoItemDefIDs_Request.class.getName());
+    }
+    // Use CInventory_GetEligiblePromoItemDefIDs_Request.newBuilder() to construct.
+    private CInventory_GetEligiblePromoItemDefIDs_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_GetEligiblePromoItemDefIDs_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 2;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, steamid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, steamid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_GetEligiblePromoItemDefIDs_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_GetEligiblePromoItemDefIDs_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        steamid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                steamid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_GetEligiblePromoItemDefIDs_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_GetEligiblePromoItemDefIDs_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_GetEligiblePromoItemDefIDs_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_GetEligiblePromoItemDefIDs_Request>() {
+      @java.lang.Override
+      public CInventory_GetEligiblePromoItemDefIDs_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_GetEligiblePromoItemDefIDs_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_GetEligiblePromoItemDefIDs_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_GetEligiblePromoItemDefIDs_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_GetEligiblePromoItemDefIDs_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated uint64 itemdefids = 1;</code>
+     * @return A list containing the itemdefids.
+     */
+    java.util.List<java.lang.Long> getItemdefidsList();
+    /**
+     * <code>repeated uint64 itemdefids = 1;</code>
+     * @return The count of itemdefids.
+     */
+    int getItemdefidsCount();
+    /**
+     * <code>repeated uint64 itemdefids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The itemdefids at the given index.
+     */
+    long getItemdefids(int index);
+  }
+  /**
+   * Protobuf type {@code CInventory_GetEligiblePromoItemDefIDs_Response}
+   */
+  public static final class CInventory_GetEligiblePromoItemDefIDs_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_GetEligiblePromoItemDefIDs_Response)
+      CInventory_GetEligiblePromoItemDefIDs_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_GetEligiblePromoItemDefIDs_Response.class.getName());
+    }
+    // Use CInventory_GetEligiblePromoItemDefIDs_Response.newBuilder() to construct.
+    private CInventory_GetEligiblePromoItemDefIDs_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_GetEligiblePromoItemDefIDs_Response() {
+      itemdefids_ = emptyLongList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response.Builder.class);
+    }
+
+    public static final int ITEMDEFIDS_FIELD_NUMBER = 1;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList itemdefids_ =
+        emptyLongList();
+    /**
+     * <code>repeated uint64 itemdefids = 1;</code>
+     * @return A list containing the itemdefids.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getItemdefidsList() {
+      return itemdefids_;
+    }
+    /**
+     * <code>repeated uint64 itemdefids = 1;</code>
+     * @return The count of itemdefids.
+     */
+    public int getItemdefidsCount() {
+      return itemdefids_.size();
+    }
+    /**
+     * <code>repeated uint64 itemdefids = 1;</code>
+     * @param index The index of the element to return.
+     * @return The itemdefids at the given index.
+     */
+    public long getItemdefids(int index) {
+      return itemdefids_.getLong(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < itemdefids_.size(); i++) {
+        output.writeUInt64(1, itemdefids_.getLong(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < itemdefids_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(itemdefids_.getLong(i));
+        }
+        size += dataSize;
+        size += 1 * getItemdefidsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response) obj;
+
+      if (!getItemdefidsList()
+          .equals(other.getItemdefidsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getItemdefidsCount() > 0) {
+        hash = (37 * hash) + ITEMDEFIDS_FIELD_NUMBER;
+        hash = (53 * hash) + getItemdefidsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_GetEligiblePromoItemDefIDs_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_GetEligiblePromoItemDefIDs_Response)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        itemdefids_ = emptyLongList();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response result) {
+        int from_bitField0_ = bitField0_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          itemdefids_.makeImmutable();
+          result.itemdefids_ = itemdefids_;
+        }
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response.getDefaultInstance()) return this;
+        if (!other.itemdefids_.isEmpty()) {
+          if (itemdefids_.isEmpty()) {
+            itemdefids_ = other.itemdefids_;
+            itemdefids_.makeImmutable();
+            bitField0_ |= 0x00000001;
+          } else {
+            ensureItemdefidsIsMutable();
+            itemdefids_.addAll(other.itemdefids_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                long v = input.readUInt64();
+                ensureItemdefidsIsMutable();
+                itemdefids_.addLong(v);
+                break;
+              } // case 8
+              case 10: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureItemdefidsIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  itemdefids_.addLong(input.readUInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.Internal.LongList itemdefids_ = emptyLongList();
+      private void ensureItemdefidsIsMutable() {
+        if (!itemdefids_.isModifiable()) {
+          itemdefids_ = makeMutableCopy(itemdefids_);
+        }
+        bitField0_ |= 0x00000001;
+      }
+      /**
+       * <code>repeated uint64 itemdefids = 1;</code>
+       * @return A list containing the itemdefids.
+       */
+      public java.util.List<java.lang.Long>
+          getItemdefidsList() {
+        itemdefids_.makeImmutable();
+        return itemdefids_;
+      }
+      /**
+       * <code>repeated uint64 itemdefids = 1;</code>
+       * @return The count of itemdefids.
+       */
+      public int getItemdefidsCount() {
+        return itemdefids_.size();
+      }
+      /**
+       * <code>repeated uint64 itemdefids = 1;</code>
+       * @param index The index of the element to return.
+       * @return The itemdefids at the given index.
+       */
+      public long getItemdefids(int index) {
+        return itemdefids_.getLong(index);
+      }
+      /**
+       * <code>repeated uint64 itemdefids = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The itemdefids to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemdefids(
+          int index, long value) {
+
+        ensureItemdefidsIsMutable();
+        itemdefids_.setLong(index, value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 itemdefids = 1;</code>
+       * @param value The itemdefids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItemdefids(long value) {
+
+        ensureItemdefidsIsMutable();
+        itemdefids_.addLong(value);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 itemdefids = 1;</code>
+       * @param values The itemdefids to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllItemdefids(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureItemdefidsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, itemdefids_);
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 itemdefids = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemdefids() {
+        itemdefids_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_GetEligiblePromoItemDefIDs_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_GetEligiblePromoItemDefIDs_Response)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_GetEligiblePromoItemDefIDs_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_GetEligiblePromoItemDefIDs_Response>() {
+      @java.lang.Override
+      public CInventory_GetEligiblePromoItemDefIDs_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_GetEligiblePromoItemDefIDs_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_GetEligiblePromoItemDefIDs_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_AddItem_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_AddItem_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>repeated uint64 itemdefid = 2;</code>
+     * @return A list containing the itemdefid.
+     */
+    java.util.List<java.lang.Long> getItemdefidList();
+    /**
+     * <code>repeated uint64 itemdefid = 2;</code>
+     * @return The count of itemdefid.
+     */
+    int getItemdefidCount();
+    /**
+     * <code>repeated uint64 itemdefid = 2;</code>
+     * @param index The index of the element to return.
+     * @return The itemdefid at the given index.
+     */
+    long getItemdefid(int index);
+
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @return A list containing the itempropsjson.
+     */
+    java.util.List<java.lang.String>
+        getItempropsjsonList();
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @return The count of itempropsjson.
+     */
+    int getItempropsjsonCount();
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @param index The index of the element to return.
+     * @return The itempropsjson at the given index.
+     */
+    java.lang.String getItempropsjson(int index);
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the itempropsjson at the given index.
+     */
+    com.google.protobuf.ByteString
+        getItempropsjsonBytes(int index);
+
+    /**
+     * <code>optional uint64 steamid = 4;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional uint64 steamid = 4;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+
+    /**
+     * <code>optional bool notify = 5;</code>
+     * @return Whether the notify field is set.
+     */
+    boolean hasNotify();
+    /**
+     * <code>optional bool notify = 5;</code>
+     * @return The notify.
+     */
+    boolean getNotify();
+
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return Whether the requestid field is set.
+     */
+    boolean hasRequestid();
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return The requestid.
+     */
+    long getRequestid();
+
+    /**
+     * <code>optional bool trade_restriction = 7;</code>
+     * @return Whether the tradeRestriction field is set.
+     */
+    boolean hasTradeRestriction();
+    /**
+     * <code>optional bool trade_restriction = 7;</code>
+     * @return The tradeRestriction.
+     */
+    boolean getTradeRestriction();
+
+    /**
+     * <code>optional bool is_purchase = 8 [default = false];</code>
+     * @return Whether the isPurchase field is set.
+     */
+    boolean hasIsPurchase();
+    /**
+     * <code>optional bool is_purchase = 8 [default = false];</code>
+     * @return The isPurchase.
+     */
+    boolean getIsPurchase();
+  }
+  /**
+   * Protobuf type {@code CInventory_AddItem_Request}
+   */
+  public static final class CInventory_AddItem_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_AddItem_Request)
+      CInventory_AddItem_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_AddItem_Request.class.getName());
+    }
+    // Use CInventory_AddItem_Request.newBuilder() to construct.
+    private CInventory_AddItem_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_AddItem_Request() {
+      itemdefid_ = emptyLongList();
+      itempropsjson_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_AddItem_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_AddItem_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int ITEMDEFID_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.Internal.LongList itemdefid_ =
+        emptyLongList();
+    /**
+     * <code>repeated uint64 itemdefid = 2;</code>
+     * @return A list containing the itemdefid.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Long>
+        getItemdefidList() {
+      return itemdefid_;
+    }
+    /**
+     * <code>repeated uint64 itemdefid = 2;</code>
+     * @return The count of itemdefid.
+     */
+    public int getItemdefidCount() {
+      return itemdefid_.size();
+    }
+    /**
+     * <code>repeated uint64 itemdefid = 2;</code>
+     * @param index The index of the element to return.
+     * @return The itemdefid at the given index.
+     */
+    public long getItemdefid(int index) {
+      return itemdefid_.getLong(index);
+    }
+
+    public static final int ITEMPROPSJSON_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private com.google.protobuf.LazyStringArrayList itempropsjson_ =
+        com.google.protobuf.LazyStringArrayList.emptyList();
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @return A list containing the itempropsjson.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getItempropsjsonList() {
+      return itempropsjson_;
+    }
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @return The count of itempropsjson.
+     */
+    public int getItempropsjsonCount() {
+      return itempropsjson_.size();
+    }
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @param index The index of the element to return.
+     * @return The itempropsjson at the given index.
+     */
+    public java.lang.String getItempropsjson(int index) {
+      return itempropsjson_.get(index);
+    }
+    /**
+     * <code>repeated string itempropsjson = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the itempropsjson at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getItempropsjsonBytes(int index) {
+      return itempropsjson_.getByteString(index);
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 4;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional uint64 steamid = 4;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 steamid = 4;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    public static final int NOTIFY_FIELD_NUMBER = 5;
+    private boolean notify_ = false;
+    /**
+     * <code>optional bool notify = 5;</code>
+     * @return Whether the notify field is set.
+     */
+    @java.lang.Override
+    public boolean hasNotify() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional bool notify = 5;</code>
+     * @return The notify.
+     */
+    @java.lang.Override
+    public boolean getNotify() {
+      return notify_;
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 6;
+    private long requestid_ = 0L;
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return Whether the requestid field is set.
+     */
+    @java.lang.Override
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return The requestid.
+     */
+    @java.lang.Override
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    public static final int TRADE_RESTRICTION_FIELD_NUMBER = 7;
+    private boolean tradeRestriction_ = false;
+    /**
+     * <code>optional bool trade_restriction = 7;</code>
+     * @return Whether the tradeRestriction field is set.
+     */
+    @java.lang.Override
+    public boolean hasTradeRestriction() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional bool trade_restriction = 7;</code>
+     * @return The tradeRestriction.
+     */
+    @java.lang.Override
+    public boolean getTradeRestriction() {
+      return tradeRestriction_;
+    }
+
+    public static final int IS_PURCHASE_FIELD_NUMBER = 8;
+    private boolean isPurchase_ = false;
+    /**
+     * <code>optional bool is_purchase = 8 [default = false];</code>
+     * @return Whether the isPurchase field is set.
+     */
+    @java.lang.Override
+    public boolean hasIsPurchase() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional bool is_purchase = 8 [default = false];</code>
+     * @return The isPurchase.
+     */
+    @java.lang.Override
+    public boolean getIsPurchase() {
+      return isPurchase_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      for (int i = 0; i < itemdefid_.size(); i++) {
+        output.writeUInt64(2, itemdefid_.getLong(i));
+      }
+      for (int i = 0; i < itempropsjson_.size(); i++) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, itempropsjson_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(4, steamid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeBool(5, notify_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeUInt64(6, requestid_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeBool(7, tradeRestriction_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeBool(8, isPurchase_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < itemdefid_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeUInt64SizeNoTag(itemdefid_.getLong(i));
+        }
+        size += dataSize;
+        size += 1 * getItemdefidList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < itempropsjson_.size(); i++) {
+          dataSize += computeStringSizeNoTag(itempropsjson_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getItempropsjsonList().size();
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(4, steamid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(5, notify_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, requestid_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(7, tradeRestriction_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(8, isPurchase_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (!getItemdefidList()
+          .equals(other.getItemdefidList())) return false;
+      if (!getItempropsjsonList()
+          .equals(other.getItempropsjsonList())) return false;
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (hasNotify() != other.hasNotify()) return false;
+      if (hasNotify()) {
+        if (getNotify()
+            != other.getNotify()) return false;
+      }
+      if (hasRequestid() != other.hasRequestid()) return false;
+      if (hasRequestid()) {
+        if (getRequestid()
+            != other.getRequestid()) return false;
+      }
+      if (hasTradeRestriction() != other.hasTradeRestriction()) return false;
+      if (hasTradeRestriction()) {
+        if (getTradeRestriction()
+            != other.getTradeRestriction()) return false;
+      }
+      if (hasIsPurchase() != other.hasIsPurchase()) return false;
+      if (hasIsPurchase()) {
+        if (getIsPurchase()
+            != other.getIsPurchase()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (getItemdefidCount() > 0) {
+        hash = (37 * hash) + ITEMDEFID_FIELD_NUMBER;
+        hash = (53 * hash) + getItemdefidList().hashCode();
+      }
+      if (getItempropsjsonCount() > 0) {
+        hash = (37 * hash) + ITEMPROPSJSON_FIELD_NUMBER;
+        hash = (53 * hash) + getItempropsjsonList().hashCode();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      if (hasNotify()) {
+        hash = (37 * hash) + NOTIFY_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getNotify());
+      }
+      if (hasRequestid()) {
+        hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getRequestid());
+      }
+      if (hasTradeRestriction()) {
+        hash = (37 * hash) + TRADE_RESTRICTION_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getTradeRestriction());
+      }
+      if (hasIsPurchase()) {
+        hash = (37 * hash) + IS_PURCHASE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getIsPurchase());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_AddItem_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_AddItem_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_AddItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_AddItem_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        itemdefid_ = emptyLongList();
+        itempropsjson_ =
+            com.google.protobuf.LazyStringArrayList.emptyList();
+        steamid_ = 0L;
+        notify_ = false;
+        requestid_ = 0L;
+        tradeRestriction_ = false;
+        isPurchase_ = false;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_AddItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          itemdefid_.makeImmutable();
+          result.itemdefid_ = itemdefid_;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          itempropsjson_.makeImmutable();
+          result.itempropsjson_ = itempropsjson_;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.notify_ = notify_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.requestid_ = requestid_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000040) != 0)) {
+          result.tradeRestriction_ = tradeRestriction_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000080) != 0)) {
+          result.isPurchase_ = isPurchase_;
+          to_bitField0_ |= 0x00000020;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (!other.itemdefid_.isEmpty()) {
+          if (itemdefid_.isEmpty()) {
+            itemdefid_ = other.itemdefid_;
+            itemdefid_.makeImmutable();
+            bitField0_ |= 0x00000002;
+          } else {
+            ensureItemdefidIsMutable();
+            itemdefid_.addAll(other.itemdefid_);
+          }
+          onChanged();
+        }
+        if (!other.itempropsjson_.isEmpty()) {
+          if (itempropsjson_.isEmpty()) {
+            itempropsjson_ = other.itempropsjson_;
+            bitField0_ |= 0x00000004;
+          } else {
+            ensureItempropsjsonIsMutable();
+            itempropsjson_.addAll(other.itempropsjson_);
+          }
+          onChanged();
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        if (other.hasNotify()) {
+          setNotify(other.getNotify());
+        }
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        if (other.hasTradeRestriction()) {
+          setTradeRestriction(other.getTradeRestriction());
+        }
+        if (other.hasIsPurchase()) {
+          setIsPurchase(other.getIsPurchase());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                long v = input.readUInt64();
+                ensureItemdefidIsMutable();
+                itemdefid_.addLong(v);
+                break;
+              } // case 16
+              case 18: {
+                int length = input.readRawVarint32();
+                int limit = input.pushLimit(length);
+                ensureItemdefidIsMutable();
+                while (input.getBytesUntilLimit() > 0) {
+                  itemdefid_.addLong(input.readUInt64());
+                }
+                input.popLimit(limit);
+                break;
+              } // case 18
+              case 26: {
+                com.google.protobuf.ByteString bs = input.readBytes();
+                ensureItempropsjsonIsMutable();
+                itempropsjson_.add(bs);
+                break;
+              } // case 26
+              case 32: {
+                steamid_ = input.readUInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 40: {
+                notify_ = input.readBool();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                requestid_ = input.readUInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              case 56: {
+                tradeRestriction_ = input.readBool();
+                bitField0_ |= 0x00000040;
+                break;
+              } // case 56
+              case 64: {
+                isPurchase_ = input.readBool();
+                bitField0_ |= 0x00000080;
+                break;
+              } // case 64
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.Internal.LongList itemdefid_ = emptyLongList();
+      private void ensureItemdefidIsMutable() {
+        if (!itemdefid_.isModifiable()) {
+          itemdefid_ = makeMutableCopy(itemdefid_);
+        }
+        bitField0_ |= 0x00000002;
+      }
+      /**
+       * <code>repeated uint64 itemdefid = 2;</code>
+       * @return A list containing the itemdefid.
+       */
+      public java.util.List<java.lang.Long>
+          getItemdefidList() {
+        itemdefid_.makeImmutable();
+        return itemdefid_;
+      }
+      /**
+       * <code>repeated uint64 itemdefid = 2;</code>
+       * @return The count of itemdefid.
+       */
+      public int getItemdefidCount() {
+        return itemdefid_.size();
+      }
+      /**
+       * <code>repeated uint64 itemdefid = 2;</code>
+       * @param index The index of the element to return.
+       * @return The itemdefid at the given index.
+       */
+      public long getItemdefid(int index) {
+        return itemdefid_.getLong(index);
+      }
+      /**
+       * <code>repeated uint64 itemdefid = 2;</code>
+       * @param index The index to set the value at.
+       * @param value The itemdefid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemdefid(
+          int index, long value) {
+
+        ensureItemdefidIsMutable();
+        itemdefid_.setLong(index, value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 itemdefid = 2;</code>
+       * @param value The itemdefid to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItemdefid(long value) {
+
+        ensureItemdefidIsMutable();
+        itemdefid_.addLong(value);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 itemdefid = 2;</code>
+       * @param values The itemdefid to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllItemdefid(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureItemdefidIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, itemdefid_);
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated uint64 itemdefid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemdefid() {
+        itemdefid_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringArrayList itempropsjson_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+      private void ensureItempropsjsonIsMutable() {
+        if (!itempropsjson_.isModifiable()) {
+          itempropsjson_ = new com.google.protobuf.LazyStringArrayList(itempropsjson_);
+        }
+        bitField0_ |= 0x00000004;
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @return A list containing the itempropsjson.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getItempropsjsonList() {
+        itempropsjson_.makeImmutable();
+        return itempropsjson_;
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @return The count of itempropsjson.
+       */
+      public int getItempropsjsonCount() {
+        return itempropsjson_.size();
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @param index The index of the element to return.
+       * @return The itempropsjson at the given index.
+       */
+      public java.lang.String getItempropsjson(int index) {
+        return itempropsjson_.get(index);
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the itempropsjson at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getItempropsjsonBytes(int index) {
+        return itempropsjson_.getByteString(index);
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The itempropsjson to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItempropsjson(
+          int index, java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureItempropsjsonIsMutable();
+        itempropsjson_.set(index, value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @param value The itempropsjson to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItempropsjson(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureItempropsjsonIsMutable();
+        itempropsjson_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @param values The itempropsjson to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllItempropsjson(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureItempropsjsonIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, itempropsjson_);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItempropsjson() {
+        itempropsjson_ =
+          com.google.protobuf.LazyStringArrayList.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000004);;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string itempropsjson = 3;</code>
+       * @param value The bytes of the itempropsjson to add.
+       * @return This builder for chaining.
+       */
+      public Builder addItempropsjsonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        ensureItempropsjsonIsMutable();
+        itempropsjson_.add(value);
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional uint64 steamid = 4;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional uint64 steamid = 4;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional uint64 steamid = 4;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 steamid = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean notify_ ;
+      /**
+       * <code>optional bool notify = 5;</code>
+       * @return Whether the notify field is set.
+       */
+      @java.lang.Override
+      public boolean hasNotify() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional bool notify = 5;</code>
+       * @return The notify.
+       */
+      @java.lang.Override
+      public boolean getNotify() {
+        return notify_;
+      }
+      /**
+       * <code>optional bool notify = 5;</code>
+       * @param value The notify to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNotify(boolean value) {
+
+        notify_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool notify = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearNotify() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        notify_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @return Whether the requestid field is set.
+       */
+      @java.lang.Override
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @return The requestid.
+       */
+      @java.lang.Override
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @param value The requestid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestid(long value) {
+
+        requestid_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private boolean tradeRestriction_ ;
+      /**
+       * <code>optional bool trade_restriction = 7;</code>
+       * @return Whether the tradeRestriction field is set.
+       */
+      @java.lang.Override
+      public boolean hasTradeRestriction() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional bool trade_restriction = 7;</code>
+       * @return The tradeRestriction.
+       */
+      @java.lang.Override
+      public boolean getTradeRestriction() {
+        return tradeRestriction_;
+      }
+      /**
+       * <code>optional bool trade_restriction = 7;</code>
+       * @param value The tradeRestriction to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTradeRestriction(boolean value) {
+
+        tradeRestriction_ = value;
+        bitField0_ |= 0x00000040;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool trade_restriction = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTradeRestriction() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        tradeRestriction_ = false;
+        onChanged();
+        return this;
+      }
+
+      private boolean isPurchase_ ;
+      /**
+       * <code>optional bool is_purchase = 8 [default = false];</code>
+       * @return Whether the isPurchase field is set.
+       */
+      @java.lang.Override
+      public boolean hasIsPurchase() {
+        return ((bitField0_ & 0x00000080) != 0);
+      }
+      /**
+       * <code>optional bool is_purchase = 8 [default = false];</code>
+       * @return The isPurchase.
+       */
+      @java.lang.Override
+      public boolean getIsPurchase() {
+        return isPurchase_;
+      }
+      /**
+       * <code>optional bool is_purchase = 8 [default = false];</code>
+       * @param value The isPurchase to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsPurchase(boolean value) {
+
+        isPurchase_ = value;
+        bitField0_ |= 0x00000080;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool is_purchase = 8 [default = false];</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsPurchase() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        isPurchase_ = false;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_AddItem_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_AddItem_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_AddItem_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_AddItem_Request>() {
+      @java.lang.Override
+      public CInventory_AddItem_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_AddItem_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_AddItem_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_ModifyItems_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_ModifyItems_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate> 
+        getUpdatesList();
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate getUpdates(int index);
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    int getUpdatesCount();
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder> 
+        getUpdatesOrBuilderList();
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder getUpdatesOrBuilder(
+        int index);
+
+    /**
+     * <code>optional uint32 timestamp = 4;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional uint32 timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    int getTimestamp();
+  }
+  /**
+   * Protobuf type {@code CInventory_ModifyItems_Request}
+   */
+  public static final class CInventory_ModifyItems_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_ModifyItems_Request)
+      CInventory_ModifyItems_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_ModifyItems_Request.class.getName());
+    }
+    // Use CInventory_ModifyItems_Request.newBuilder() to construct.
+    private CInventory_ModifyItems_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_ModifyItems_Request() {
+      updates_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.Builder.class);
+    }
+
+    public interface ItemPropertyUpdateOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:CInventory_ModifyItems_Request.ItemPropertyUpdate)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional uint64 itemid = 1;</code>
+       * @return Whether the itemid field is set.
+       */
+      boolean hasItemid();
+      /**
+       * <code>optional uint64 itemid = 1;</code>
+       * @return The itemid.
+       */
+      long getItemid();
+
+      /**
+       * <code>optional bool remove_property = 2;</code>
+       * @return Whether the removeProperty field is set.
+       */
+      boolean hasRemoveProperty();
+      /**
+       * <code>optional bool remove_property = 2;</code>
+       * @return The removeProperty.
+       */
+      boolean getRemoveProperty();
+
+      /**
+       * <code>optional string property_name = 3;</code>
+       * @return Whether the propertyName field is set.
+       */
+      boolean hasPropertyName();
+      /**
+       * <code>optional string property_name = 3;</code>
+       * @return The propertyName.
+       */
+      java.lang.String getPropertyName();
+      /**
+       * <code>optional string property_name = 3;</code>
+       * @return The bytes for propertyName.
+       */
+      com.google.protobuf.ByteString
+          getPropertyNameBytes();
+
+      /**
+       * <code>optional bool property_value_bool = 4;</code>
+       * @return Whether the propertyValueBool field is set.
+       */
+      boolean hasPropertyValueBool();
+      /**
+       * <code>optional bool property_value_bool = 4;</code>
+       * @return The propertyValueBool.
+       */
+      boolean getPropertyValueBool();
+
+      /**
+       * <code>optional int64 property_value_int = 5;</code>
+       * @return Whether the propertyValueInt field is set.
+       */
+      boolean hasPropertyValueInt();
+      /**
+       * <code>optional int64 property_value_int = 5;</code>
+       * @return The propertyValueInt.
+       */
+      long getPropertyValueInt();
+
+      /**
+       * <code>optional string property_value_string = 6;</code>
+       * @return Whether the propertyValueString field is set.
+       */
+      boolean hasPropertyValueString();
+      /**
+       * <code>optional string property_value_string = 6;</code>
+       * @return The propertyValueString.
+       */
+      java.lang.String getPropertyValueString();
+      /**
+       * <code>optional string property_value_string = 6;</code>
+       * @return The bytes for propertyValueString.
+       */
+      com.google.protobuf.ByteString
+          getPropertyValueStringBytes();
+
+      /**
+       * <code>optional float property_value_float = 7;</code>
+       * @return Whether the propertyValueFloat field is set.
+       */
+      boolean hasPropertyValueFloat();
+      /**
+       * <code>optional float property_value_float = 7;</code>
+       * @return The propertyValueFloat.
+       */
+      float getPropertyValueFloat();
+    }
+    /**
+     * Protobuf type {@code CInventory_ModifyItems_Request.ItemPropertyUpdate}
+     */
+    public static final class ItemPropertyUpdate extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:CInventory_ModifyItems_Request.ItemPropertyUpdate)
+        ItemPropertyUpdateOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 26,
+          /* patch= */ 1,
+          /* suffix= */ "",
+          ItemPropertyUpdate.class.getName());
+      }
+      // Use ItemPropertyUpdate.newBuilder() to construct.
+      private ItemPropertyUpdate(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private ItemPropertyUpdate() {
+        propertyName_ = "";
+        propertyValueString_ = "";
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int ITEMID_FIELD_NUMBER = 1;
+      private long itemid_ = 0L;
+      /**
+       * <code>optional uint64 itemid = 1;</code>
+       * @return Whether the itemid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint64 itemid = 1;</code>
+       * @return The itemid.
+       */
+      @java.lang.Override
+      public long getItemid() {
+        return itemid_;
+      }
+
+      public static final int REMOVE_PROPERTY_FIELD_NUMBER = 2;
+      private boolean removeProperty_ = false;
+      /**
+       * <code>optional bool remove_property = 2;</code>
+       * @return Whether the removeProperty field is set.
+       */
+      @java.lang.Override
+      public boolean hasRemoveProperty() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional bool remove_property = 2;</code>
+       * @return The removeProperty.
+       */
+      @java.lang.Override
+      public boolean getRemoveProperty() {
+        return removeProperty_;
+      }
+
+      public static final int PROPERTY_NAME_FIELD_NUMBER = 3;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object propertyName_ = "";
+      /**
+       * <code>optional string property_name = 3;</code>
+       * @return Whether the propertyName field is set.
+       */
+      @java.lang.Override
+      public boolean hasPropertyName() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string property_name = 3;</code>
+       * @return The propertyName.
+       */
+      @java.lang.Override
+      public java.lang.String getPropertyName() {
+        java.lang.Object ref = propertyName_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            propertyName_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string property_name = 3;</code>
+       * @return The bytes for propertyName.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getPropertyNameBytes() {
+        java.lang.Object ref = propertyName_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          propertyName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PROPERTY_VALUE_BOOL_FIELD_NUMBER = 4;
+      private boolean propertyValueBool_ = false;
+      /**
+       * <code>optional bool property_value_bool = 4;</code>
+       * @return Whether the propertyValueBool field is set.
+       */
+      @java.lang.Override
+      public boolean hasPropertyValueBool() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional bool property_value_bool = 4;</code>
+       * @return The propertyValueBool.
+       */
+      @java.lang.Override
+      public boolean getPropertyValueBool() {
+        return propertyValueBool_;
+      }
+
+      public static final int PROPERTY_VALUE_INT_FIELD_NUMBER = 5;
+      private long propertyValueInt_ = 0L;
+      /**
+       * <code>optional int64 property_value_int = 5;</code>
+       * @return Whether the propertyValueInt field is set.
+       */
+      @java.lang.Override
+      public boolean hasPropertyValueInt() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional int64 property_value_int = 5;</code>
+       * @return The propertyValueInt.
+       */
+      @java.lang.Override
+      public long getPropertyValueInt() {
+        return propertyValueInt_;
+      }
+
+      public static final int PROPERTY_VALUE_STRING_FIELD_NUMBER = 6;
+      @SuppressWarnings("serial")
+      private volatile java.lang.Object propertyValueString_ = "";
+      /**
+       * <code>optional string property_value_string = 6;</code>
+       * @return Whether the propertyValueString field is set.
+       */
+      @java.lang.Override
+      public boolean hasPropertyValueString() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional string property_value_string = 6;</code>
+       * @return The propertyValueString.
+       */
+      @java.lang.Override
+      public java.lang.String getPropertyValueString() {
+        java.lang.Object ref = propertyValueString_;
+        if (ref instanceof java.lang.String) {
+          return (java.lang.String) ref;
+        } else {
+          com.google.protobuf.ByteString bs = 
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            propertyValueString_ = s;
+          }
+          return s;
+        }
+      }
+      /**
+       * <code>optional string property_value_string = 6;</code>
+       * @return The bytes for propertyValueString.
+       */
+      @java.lang.Override
+      public com.google.protobuf.ByteString
+          getPropertyValueStringBytes() {
+        java.lang.Object ref = propertyValueString_;
+        if (ref instanceof java.lang.String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          propertyValueString_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+
+      public static final int PROPERTY_VALUE_FLOAT_FIELD_NUMBER = 7;
+      private float propertyValueFloat_ = 0F;
+      /**
+       * <code>optional float property_value_float = 7;</code>
+       * @return Whether the propertyValueFloat field is set.
+       */
+      @java.lang.Override
+      public boolean hasPropertyValueFloat() {
+        return ((bitField0_ & 0x00000040) != 0);
+      }
+      /**
+       * <code>optional float property_value_float = 7;</code>
+       * @return The propertyValueFloat.
+       */
+      @java.lang.Override
+      public float getPropertyValueFloat() {
+        return propertyValueFloat_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeUInt64(1, itemid_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeBool(2, removeProperty_);
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 3, propertyName_);
+        }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          output.writeBool(4, propertyValueBool_);
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          output.writeInt64(5, propertyValueInt_);
+        }
+        if (((bitField0_ & 0x00000020) != 0)) {
+          com.google.protobuf.GeneratedMessage.writeString(output, 6, propertyValueString_);
+        }
+        if (((bitField0_ & 0x00000040) != 0)) {
+          output.writeFloat(7, propertyValueFloat_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(1, itemid_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(2, removeProperty_);
+        }
+        if (((bitField0_ & 0x00000004) != 0)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(3, propertyName_);
+        }
+        if (((bitField0_ & 0x00000008) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeBoolSize(4, propertyValueBool_);
+        }
+        if (((bitField0_ & 0x00000010) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeInt64Size(5, propertyValueInt_);
+        }
+        if (((bitField0_ & 0x00000020) != 0)) {
+          size += com.google.protobuf.GeneratedMessage.computeStringSize(6, propertyValueString_);
+        }
+        if (((bitField0_ & 0x00000040) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeFloatSize(7, propertyValueFloat_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate)) {
+          return super.equals(obj);
+        }
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate) obj;
+
+        if (hasItemid() != other.hasItemid()) return false;
+        if (hasItemid()) {
+          if (getItemid()
+              != other.getItemid()) return false;
+        }
+        if (hasRemoveProperty() != other.hasRemoveProperty()) return false;
+        if (hasRemoveProperty()) {
+          if (getRemoveProperty()
+              != other.getRemoveProperty()) return false;
+        }
+        if (hasPropertyName() != other.hasPropertyName()) return false;
+        if (hasPropertyName()) {
+          if (!getPropertyName()
+              .equals(other.getPropertyName())) return false;
+        }
+        if (hasPropertyValueBool() != other.hasPropertyValueBool()) return false;
+        if (hasPropertyValueBool()) {
+          if (getPropertyValueBool()
+              != other.getPropertyValueBool()) return false;
+        }
+        if (hasPropertyValueInt() != other.hasPropertyValueInt()) return false;
+        if (hasPropertyValueInt()) {
+          if (getPropertyValueInt()
+              != other.getPropertyValueInt()) return false;
+        }
+        if (hasPropertyValueString() != other.hasPropertyValueString()) return false;
+        if (hasPropertyValueString()) {
+          if (!getPropertyValueString()
+              .equals(other.getPropertyValueString())) return false;
+        }
+        if (hasPropertyValueFloat() != other.hasPropertyValueFloat()) return false;
+        if (hasPropertyValueFloat()) {
+          if (java.lang.Float.floatToIntBits(getPropertyValueFloat())
+              != java.lang.Float.floatToIntBits(
+                  other.getPropertyValueFloat())) return false;
+        }
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasItemid()) {
+          hash = (37 * hash) + ITEMID_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getItemid());
+        }
+        if (hasRemoveProperty()) {
+          hash = (37 * hash) + REMOVE_PROPERTY_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+              getRemoveProperty());
+        }
+        if (hasPropertyName()) {
+          hash = (37 * hash) + PROPERTY_NAME_FIELD_NUMBER;
+          hash = (53 * hash) + getPropertyName().hashCode();
+        }
+        if (hasPropertyValueBool()) {
+          hash = (37 * hash) + PROPERTY_VALUE_BOOL_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+              getPropertyValueBool());
+        }
+        if (hasPropertyValueInt()) {
+          hash = (37 * hash) + PROPERTY_VALUE_INT_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getPropertyValueInt());
+        }
+        if (hasPropertyValueString()) {
+          hash = (37 * hash) + PROPERTY_VALUE_STRING_FIELD_NUMBER;
+          hash = (53 * hash) + getPropertyValueString().hashCode();
+        }
+        if (hasPropertyValueFloat()) {
+          hash = (37 * hash) + PROPERTY_VALUE_FLOAT_FIELD_NUMBER;
+          hash = (53 * hash) + java.lang.Float.floatToIntBits(
+              getPropertyValueFloat());
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code CInventory_ModifyItems_Request.ItemPropertyUpdate}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:CInventory_ModifyItems_Request.ItemPropertyUpdate)
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder.class);
+        }
+
+        // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          itemid_ = 0L;
+          removeProperty_ = false;
+          propertyName_ = "";
+          propertyValueBool_ = false;
+          propertyValueInt_ = 0L;
+          propertyValueString_ = "";
+          propertyValueFloat_ = 0F;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_descriptor;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate getDefaultInstanceForType() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate build() {
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate buildPartial() {
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate result) {
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.itemid_ = itemid_;
+            to_bitField0_ |= 0x00000001;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.removeProperty_ = removeProperty_;
+            to_bitField0_ |= 0x00000002;
+          }
+          if (((from_bitField0_ & 0x00000004) != 0)) {
+            result.propertyName_ = propertyName_;
+            to_bitField0_ |= 0x00000004;
+          }
+          if (((from_bitField0_ & 0x00000008) != 0)) {
+            result.propertyValueBool_ = propertyValueBool_;
+            to_bitField0_ |= 0x00000008;
+          }
+          if (((from_bitField0_ & 0x00000010) != 0)) {
+            result.propertyValueInt_ = propertyValueInt_;
+            to_bitField0_ |= 0x00000010;
+          }
+          if (((from_bitField0_ & 0x00000020) != 0)) {
+            result.propertyValueString_ = propertyValueString_;
+            to_bitField0_ |= 0x00000020;
+          }
+          if (((from_bitField0_ & 0x00000040) != 0)) {
+            result.propertyValueFloat_ = propertyValueFloat_;
+            to_bitField0_ |= 0x00000040;
+          }
+          result.bitField0_ |= to_bitField0_;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate) {
+            return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate other) {
+          if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.getDefaultInstance()) return this;
+          if (other.hasItemid()) {
+            setItemid(other.getItemid());
+          }
+          if (other.hasRemoveProperty()) {
+            setRemoveProperty(other.getRemoveProperty());
+          }
+          if (other.hasPropertyName()) {
+            propertyName_ = other.propertyName_;
+            bitField0_ |= 0x00000004;
+            onChanged();
+          }
+          if (other.hasPropertyValueBool()) {
+            setPropertyValueBool(other.getPropertyValueBool());
+          }
+          if (other.hasPropertyValueInt()) {
+            setPropertyValueInt(other.getPropertyValueInt());
+          }
+          if (other.hasPropertyValueString()) {
+            propertyValueString_ = other.propertyValueString_;
+            bitField0_ |= 0x00000020;
+            onChanged();
+          }
+          if (other.hasPropertyValueFloat()) {
+            setPropertyValueFloat(other.getPropertyValueFloat());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 8: {
+                  itemid_ = input.readUInt64();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 8
+                case 16: {
+                  removeProperty_ = input.readBool();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 16
+                case 26: {
+                  propertyName_ = input.readBytes();
+                  bitField0_ |= 0x00000004;
+                  break;
+                } // case 26
+                case 32: {
+                  propertyValueBool_ = input.readBool();
+                  bitField0_ |= 0x00000008;
+                  break;
+                } // case 32
+                case 40: {
+                  propertyValueInt_ = input.readInt64();
+                  bitField0_ |= 0x00000010;
+                  break;
+                } // case 40
+                case 50: {
+                  propertyValueString_ = input.readBytes();
+                  bitField0_ |= 0x00000020;
+                  break;
+                } // case 50
+                case 61: {
+                  propertyValueFloat_ = input.readFloat();
+                  bitField0_ |= 0x00000040;
+                  break;
+                } // case 61
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private long itemid_ ;
+        /**
+         * <code>optional uint64 itemid = 1;</code>
+         * @return Whether the itemid field is set.
+         */
+        @java.lang.Override
+        public boolean hasItemid() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>optional uint64 itemid = 1;</code>
+         * @return The itemid.
+         */
+        @java.lang.Override
+        public long getItemid() {
+          return itemid_;
+        }
+        /**
+         * <code>optional uint64 itemid = 1;</code>
+         * @param value The itemid to set.
+         * @return This builder for chaining.
+         */
+        public Builder setItemid(long value) {
+
+          itemid_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint64 itemid = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearItemid() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          itemid_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private boolean removeProperty_ ;
+        /**
+         * <code>optional bool remove_property = 2;</code>
+         * @return Whether the removeProperty field is set.
+         */
+        @java.lang.Override
+        public boolean hasRemoveProperty() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <code>optional bool remove_property = 2;</code>
+         * @return The removeProperty.
+         */
+        @java.lang.Override
+        public boolean getRemoveProperty() {
+          return removeProperty_;
+        }
+        /**
+         * <code>optional bool remove_property = 2;</code>
+         * @param value The removeProperty to set.
+         * @return This builder for chaining.
+         */
+        public Builder setRemoveProperty(boolean value) {
+
+          removeProperty_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool remove_property = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearRemoveProperty() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          removeProperty_ = false;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object propertyName_ = "";
+        /**
+         * <code>optional string property_name = 3;</code>
+         * @return Whether the propertyName field is set.
+         */
+        public boolean hasPropertyName() {
+          return ((bitField0_ & 0x00000004) != 0);
+        }
+        /**
+         * <code>optional string property_name = 3;</code>
+         * @return The propertyName.
+         */
+        public java.lang.String getPropertyName() {
+          java.lang.Object ref = propertyName_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              propertyName_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string property_name = 3;</code>
+         * @return The bytes for propertyName.
+         */
+        public com.google.protobuf.ByteString
+            getPropertyNameBytes() {
+          java.lang.Object ref = propertyName_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            propertyName_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string property_name = 3;</code>
+         * @param value The propertyName to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPropertyName(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          propertyName_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string property_name = 3;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPropertyName() {
+          propertyName_ = getDefaultInstance().getPropertyName();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string property_name = 3;</code>
+         * @param value The bytes for propertyName to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPropertyNameBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          propertyName_ = value;
+          bitField0_ |= 0x00000004;
+          onChanged();
+          return this;
+        }
+
+        private boolean propertyValueBool_ ;
+        /**
+         * <code>optional bool property_value_bool = 4;</code>
+         * @return Whether the propertyValueBool field is set.
+         */
+        @java.lang.Override
+        public boolean hasPropertyValueBool() {
+          return ((bitField0_ & 0x00000008) != 0);
+        }
+        /**
+         * <code>optional bool property_value_bool = 4;</code>
+         * @return The propertyValueBool.
+         */
+        @java.lang.Override
+        public boolean getPropertyValueBool() {
+          return propertyValueBool_;
+        }
+        /**
+         * <code>optional bool property_value_bool = 4;</code>
+         * @param value The propertyValueBool to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPropertyValueBool(boolean value) {
+
+          propertyValueBool_ = value;
+          bitField0_ |= 0x00000008;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional bool property_value_bool = 4;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPropertyValueBool() {
+          bitField0_ = (bitField0_ & ~0x00000008);
+          propertyValueBool_ = false;
+          onChanged();
+          return this;
+        }
+
+        private long propertyValueInt_ ;
+        /**
+         * <code>optional int64 property_value_int = 5;</code>
+         * @return Whether the propertyValueInt field is set.
+         */
+        @java.lang.Override
+        public boolean hasPropertyValueInt() {
+          return ((bitField0_ & 0x00000010) != 0);
+        }
+        /**
+         * <code>optional int64 property_value_int = 5;</code>
+         * @return The propertyValueInt.
+         */
+        @java.lang.Override
+        public long getPropertyValueInt() {
+          return propertyValueInt_;
+        }
+        /**
+         * <code>optional int64 property_value_int = 5;</code>
+         * @param value The propertyValueInt to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPropertyValueInt(long value) {
+
+          propertyValueInt_ = value;
+          bitField0_ |= 0x00000010;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional int64 property_value_int = 5;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPropertyValueInt() {
+          bitField0_ = (bitField0_ & ~0x00000010);
+          propertyValueInt_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private java.lang.Object propertyValueString_ = "";
+        /**
+         * <code>optional string property_value_string = 6;</code>
+         * @return Whether the propertyValueString field is set.
+         */
+        public boolean hasPropertyValueString() {
+          return ((bitField0_ & 0x00000020) != 0);
+        }
+        /**
+         * <code>optional string property_value_string = 6;</code>
+         * @return The propertyValueString.
+         */
+        public java.lang.String getPropertyValueString() {
+          java.lang.Object ref = propertyValueString_;
+          if (!(ref instanceof java.lang.String)) {
+            com.google.protobuf.ByteString bs =
+                (com.google.protobuf.ByteString) ref;
+            java.lang.String s = bs.toStringUtf8();
+            if (bs.isValidUtf8()) {
+              propertyValueString_ = s;
+            }
+            return s;
+          } else {
+            return (java.lang.String) ref;
+          }
+        }
+        /**
+         * <code>optional string property_value_string = 6;</code>
+         * @return The bytes for propertyValueString.
+         */
+        public com.google.protobuf.ByteString
+            getPropertyValueStringBytes() {
+          java.lang.Object ref = propertyValueString_;
+          if (ref instanceof String) {
+            com.google.protobuf.ByteString b = 
+                com.google.protobuf.ByteString.copyFromUtf8(
+                    (java.lang.String) ref);
+            propertyValueString_ = b;
+            return b;
+          } else {
+            return (com.google.protobuf.ByteString) ref;
+          }
+        }
+        /**
+         * <code>optional string property_value_string = 6;</code>
+         * @param value The propertyValueString to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPropertyValueString(
+            java.lang.String value) {
+          if (value == null) { throw new NullPointerException(); }
+          propertyValueString_ = value;
+          bitField0_ |= 0x00000020;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string property_value_string = 6;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPropertyValueString() {
+          propertyValueString_ = getDefaultInstance().getPropertyValueString();
+          bitField0_ = (bitField0_ & ~0x00000020);
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional string property_value_string = 6;</code>
+         * @param value The bytes for propertyValueString to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPropertyValueStringBytes(
+            com.google.protobuf.ByteString value) {
+          if (value == null) { throw new NullPointerException(); }
+          propertyValueString_ = value;
+          bitField0_ |= 0x00000020;
+          onChanged();
+          return this;
+        }
+
+        private float propertyValueFloat_ ;
+        /**
+         * <code>optional float property_value_float = 7;</code>
+         * @return Whether the propertyValueFloat field is set.
+         */
+        @java.lang.Override
+        public boolean hasPropertyValueFloat() {
+          return ((bitField0_ & 0x00000040) != 0);
+        }
+        /**
+         * <code>optional float property_value_float = 7;</code>
+         * @return The propertyValueFloat.
+         */
+        @java.lang.Override
+        public float getPropertyValueFloat() {
+          return propertyValueFloat_;
+        }
+        /**
+         * <code>optional float property_value_float = 7;</code>
+         * @param value The propertyValueFloat to set.
+         * @return This builder for chaining.
+         */
+        public Builder setPropertyValueFloat(float value) {
+
+          propertyValueFloat_ = value;
+          bitField0_ |= 0x00000040;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional float property_value_float = 7;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearPropertyValueFloat() {
+          bitField0_ = (bitField0_ & ~0x00000040);
+          propertyValueFloat_ = 0F;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:CInventory_ModifyItems_Request.ItemPropertyUpdate)
+      }
+
+      // @@protoc_insertion_point(class_scope:CInventory_ModifyItems_Request.ItemPropertyUpdate)
+      private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate();
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<ItemPropertyUpdate>
+          PARSER = new com.google.protobuf.AbstractParser<ItemPropertyUpdate>() {
+        @java.lang.Override
+        public ItemPropertyUpdate parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<ItemPropertyUpdate> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<ItemPropertyUpdate> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 2;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 steamid = 2;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    public static final int UPDATES_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate> updates_;
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate> getUpdatesList() {
+      return updates_;
+    }
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder> 
+        getUpdatesOrBuilderList() {
+      return updates_;
+    }
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    @java.lang.Override
+    public int getUpdatesCount() {
+      return updates_.size();
+    }
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate getUpdates(int index) {
+      return updates_.get(index);
+    }
+    /**
+     * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder getUpdatesOrBuilder(
+        int index) {
+      return updates_.get(index);
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 4;
+    private int timestamp_ = 0;
+    /**
+     * <code>optional uint32 timestamp = 4;</code>
+     * @return Whether the timestamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint32 timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public int getTimestamp() {
+      return timestamp_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, steamid_);
+      }
+      for (int i = 0; i < updates_.size(); i++) {
+        output.writeMessage(3, updates_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt32(4, timestamp_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, steamid_);
+      }
+      for (int i = 0; i < updates_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, updates_.get(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, timestamp_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (!getUpdatesList()
+          .equals(other.getUpdatesList())) return false;
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      if (getUpdatesCount() > 0) {
+        hash = (37 * hash) + UPDATES_FIELD_NUMBER;
+        hash = (53 * hash) + getUpdatesList().hashCode();
+      }
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + getTimestamp();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_ModifyItems_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_ModifyItems_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        steamid_ = 0L;
+        if (updatesBuilder_ == null) {
+          updates_ = java.util.Collections.emptyList();
+        } else {
+          updates_ = null;
+          updatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        timestamp_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ModifyItems_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request result) {
+        if (updatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            updates_ = java.util.Collections.unmodifiableList(updates_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.updates_ = updates_;
+        } else {
+          result.updates_ = updatesBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        if (updatesBuilder_ == null) {
+          if (!other.updates_.isEmpty()) {
+            if (updates_.isEmpty()) {
+              updates_ = other.updates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureUpdatesIsMutable();
+              updates_.addAll(other.updates_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.updates_.isEmpty()) {
+            if (updatesBuilder_.isEmpty()) {
+              updatesBuilder_.dispose();
+              updatesBuilder_ = null;
+              updates_ = other.updates_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              updatesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getUpdatesFieldBuilder() : null;
+            } else {
+              updatesBuilder_.addAllMessages(other.updates_);
+            }
+          }
+        }
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                steamid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.parser(),
+                        extensionRegistry);
+                if (updatesBuilder_ == null) {
+                  ensureUpdatesIsMutable();
+                  updates_.add(m);
+                } else {
+                  updatesBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 32: {
+                timestamp_ = input.readUInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 steamid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate> updates_ =
+        java.util.Collections.emptyList();
+      private void ensureUpdatesIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          updates_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate>(updates_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder> updatesBuilder_;
+
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate> getUpdatesList() {
+        if (updatesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(updates_);
+        } else {
+          return updatesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public int getUpdatesCount() {
+        if (updatesBuilder_ == null) {
+          return updates_.size();
+        } else {
+          return updatesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate getUpdates(int index) {
+        if (updatesBuilder_ == null) {
+          return updates_.get(index);
+        } else {
+          return updatesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder setUpdates(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate value) {
+        if (updatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatesIsMutable();
+          updates_.set(index, value);
+          onChanged();
+        } else {
+          updatesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder setUpdates(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder builderForValue) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder addUpdates(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate value) {
+        if (updatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatesIsMutable();
+          updates_.add(value);
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder addUpdates(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate value) {
+        if (updatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureUpdatesIsMutable();
+          updates_.add(index, value);
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder addUpdates(
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder builderForValue) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.add(builderForValue.build());
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder addUpdates(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder builderForValue) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          updatesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder addAllUpdates(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate> values) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, updates_);
+          onChanged();
+        } else {
+          updatesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder clearUpdates() {
+        if (updatesBuilder_ == null) {
+          updates_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          updatesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public Builder removeUpdates(int index) {
+        if (updatesBuilder_ == null) {
+          ensureUpdatesIsMutable();
+          updates_.remove(index);
+          onChanged();
+        } else {
+          updatesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder getUpdatesBuilder(
+          int index) {
+        return getUpdatesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder getUpdatesOrBuilder(
+          int index) {
+        if (updatesBuilder_ == null) {
+          return updates_.get(index);  } else {
+          return updatesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder> 
+           getUpdatesOrBuilderList() {
+        if (updatesBuilder_ != null) {
+          return updatesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(updates_);
+        }
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder addUpdatesBuilder() {
+        return getUpdatesFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder addUpdatesBuilder(
+          int index) {
+        return getUpdatesFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CInventory_ModifyItems_Request.ItemPropertyUpdate updates = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder> 
+           getUpdatesBuilderList() {
+        return getUpdatesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder> 
+          getUpdatesFieldBuilder() {
+        if (updatesBuilder_ == null) {
+          updatesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdate.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request.ItemPropertyUpdateOrBuilder>(
+                  updates_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          updates_ = null;
+        }
+        return updatesBuilder_;
+      }
+
+      private int timestamp_ ;
+      /**
+       * <code>optional uint32 timestamp = 4;</code>
+       * @return Whether the timestamp field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional uint32 timestamp = 4;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public int getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional uint32 timestamp = 4;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(int value) {
+
+        timestamp_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 timestamp = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        timestamp_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_ModifyItems_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_ModifyItems_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_ModifyItems_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_ModifyItems_Request>() {
+      @java.lang.Override
+      public CInventory_ModifyItems_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_ModifyItems_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_ModifyItems_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_ConsumePlaytime_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_ConsumePlaytime_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return Whether the itemdefid field is set.
+     */
+    boolean hasItemdefid();
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return The itemdefid.
+     */
+    long getItemdefid();
+  }
+  /**
+   * Protobuf type {@code CInventory_ConsumePlaytime_Request}
+   */
+  public static final class CInventory_ConsumePlaytime_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_ConsumePlaytime_Request)
+      CInventory_ConsumePlaytime_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_ConsumePlaytime_Request.class.getName());
+    }
+    // Use CInventory_ConsumePlaytime_Request.newBuilder() to construct.
+    private CInventory_ConsumePlaytime_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_ConsumePlaytime_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumePlaytime_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumePlaytime_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int ITEMDEFID_FIELD_NUMBER = 2;
+    private long itemdefid_ = 0L;
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return Whether the itemdefid field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemdefid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return The itemdefid.
+     */
+    @java.lang.Override
+    public long getItemdefid() {
+      return itemdefid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, itemdefid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, itemdefid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasItemdefid() != other.hasItemdefid()) return false;
+      if (hasItemdefid()) {
+        if (getItemdefid()
+            != other.getItemdefid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasItemdefid()) {
+        hash = (37 * hash) + ITEMDEFID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getItemdefid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_ConsumePlaytime_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_ConsumePlaytime_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumePlaytime_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumePlaytime_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        itemdefid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumePlaytime_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.itemdefid_ = itemdefid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasItemdefid()) {
+          setItemdefid(other.getItemdefid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                itemdefid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long itemdefid_ ;
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @return Whether the itemdefid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemdefid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @return The itemdefid.
+       */
+      @java.lang.Override
+      public long getItemdefid() {
+        return itemdefid_;
+      }
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @param value The itemdefid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemdefid(long value) {
+
+        itemdefid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemdefid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        itemdefid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_ConsumePlaytime_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_ConsumePlaytime_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_ConsumePlaytime_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_ConsumePlaytime_Request>() {
+      @java.lang.Override
+      public CInventory_ConsumePlaytime_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_ConsumePlaytime_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_ConsumePlaytime_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_ConsumeItem_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_ConsumeItem_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return Whether the itemid field is set.
+     */
+    boolean hasItemid();
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return The itemid.
+     */
+    long getItemid();
+
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return Whether the quantity field is set.
+     */
+    boolean hasQuantity();
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return The quantity.
+     */
+    int getQuantity();
+
+    /**
+     * <code>optional string timestamp = 4;</code>
+     * @return Whether the timestamp field is set.
+     */
+    boolean hasTimestamp();
+    /**
+     * <code>optional string timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    java.lang.String getTimestamp();
+    /**
+     * <code>optional string timestamp = 4;</code>
+     * @return The bytes for timestamp.
+     */
+    com.google.protobuf.ByteString
+        getTimestampBytes();
+
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return Whether the requestid field is set.
+     */
+    boolean hasRequestid();
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return The requestid.
+     */
+    long getRequestid();
+  }
+  /**
+   * Protobuf type {@code CInventory_ConsumeItem_Request}
+   */
+  public static final class CInventory_ConsumeItem_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_ConsumeItem_Request)
+      CInventory_ConsumeItem_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_ConsumeItem_Request.class.getName());
+    }
+    // Use CInventory_ConsumeItem_Request.newBuilder() to construct.
+    private CInventory_ConsumeItem_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_ConsumeItem_Request() {
+      timestamp_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumeItem_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumeItem_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int ITEMID_FIELD_NUMBER = 2;
+    private long itemid_ = 0L;
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return Whether the itemid field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return The itemid.
+     */
+    @java.lang.Override
+    public long getItemid() {
+      return itemid_;
+    }
+
+    public static final int QUANTITY_FIELD_NUMBER = 3;
+    private int quantity_ = 0;
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return Whether the quantity field is set.
+     */
+    @java.lang.Override
+    public boolean hasQuantity() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return The quantity.
+     */
+    @java.lang.Override
+    public int getQuantity() {
+      return quantity_;
+    }
+
+    public static final int TIMESTAMP_FIELD_NUMBER = 4;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object timestamp_ = "";
+    /**
+     * <code>optional string timestamp = 4;</code>
+     * @return Whether the timestamp field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional string timestamp = 4;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public java.lang.String getTimestamp() {
+      java.lang.Object ref = timestamp_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          timestamp_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string timestamp = 4;</code>
+     * @return The bytes for timestamp.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTimestampBytes() {
+      java.lang.Object ref = timestamp_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        timestamp_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 5;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    public static final int REQUESTID_FIELD_NUMBER = 6;
+    private long requestid_ = 0L;
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return Whether the requestid field is set.
+     */
+    @java.lang.Override
+    public boolean hasRequestid() {
+      return ((bitField0_ & 0x00000020) != 0);
+    }
+    /**
+     * <code>optional uint64 requestid = 6;</code>
+     * @return The requestid.
+     */
+    @java.lang.Override
+    public long getRequestid() {
+      return requestid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, itemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt32(3, quantity_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 4, timestamp_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeUInt64(5, steamid_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        output.writeUInt64(6, requestid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, itemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, quantity_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(4, timestamp_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, steamid_);
+      }
+      if (((bitField0_ & 0x00000020) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(6, requestid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasItemid() != other.hasItemid()) return false;
+      if (hasItemid()) {
+        if (getItemid()
+            != other.getItemid()) return false;
+      }
+      if (hasQuantity() != other.hasQuantity()) return false;
+      if (hasQuantity()) {
+        if (getQuantity()
+            != other.getQuantity()) return false;
+      }
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (!getTimestamp()
+            .equals(other.getTimestamp())) return false;
+      }
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (hasRequestid() != other.hasRequestid()) return false;
+      if (hasRequestid()) {
+        if (getRequestid()
+            != other.getRequestid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasItemid()) {
+        hash = (37 * hash) + ITEMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getItemid());
+      }
+      if (hasQuantity()) {
+        hash = (37 * hash) + QUANTITY_FIELD_NUMBER;
+        hash = (53 * hash) + getQuantity();
+      }
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + getTimestamp().hashCode();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      if (hasRequestid()) {
+        hash = (37 * hash) + REQUESTID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getRequestid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_ConsumeItem_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_ConsumeItem_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumeItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumeItem_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        itemid_ = 0L;
+        quantity_ = 0;
+        timestamp_ = "";
+        steamid_ = 0L;
+        requestid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_ConsumeItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.itemid_ = itemid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.quantity_ = quantity_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000010;
+        }
+        if (((from_bitField0_ & 0x00000020) != 0)) {
+          result.requestid_ = requestid_;
+          to_bitField0_ |= 0x00000020;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasItemid()) {
+          setItemid(other.getItemid());
+        }
+        if (other.hasQuantity()) {
+          setQuantity(other.getQuantity());
+        }
+        if (other.hasTimestamp()) {
+          timestamp_ = other.timestamp_;
+          bitField0_ |= 0x00000008;
+          onChanged();
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        if (other.hasRequestid()) {
+          setRequestid(other.getRequestid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                itemid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                quantity_ = input.readUInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 34: {
+                timestamp_ = input.readBytes();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 34
+              case 40: {
+                steamid_ = input.readUInt64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 40
+              case 48: {
+                requestid_ = input.readUInt64();
+                bitField0_ |= 0x00000020;
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long itemid_ ;
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @return Whether the itemid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @return The itemid.
+       */
+      @java.lang.Override
+      public long getItemid() {
+        return itemid_;
+      }
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @param value The itemid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemid(long value) {
+
+        itemid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        itemid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int quantity_ ;
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @return Whether the quantity field is set.
+       */
+      @java.lang.Override
+      public boolean hasQuantity() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @return The quantity.
+       */
+      @java.lang.Override
+      public int getQuantity() {
+        return quantity_;
+      }
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @param value The quantity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQuantity(int value) {
+
+        quantity_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQuantity() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        quantity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object timestamp_ = "";
+      /**
+       * <code>optional string timestamp = 4;</code>
+       * @return Whether the timestamp field is set.
+       */
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string timestamp = 4;</code>
+       * @return The timestamp.
+       */
+      public java.lang.String getTimestamp() {
+        java.lang.Object ref = timestamp_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            timestamp_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string timestamp = 4;</code>
+       * @return The bytes for timestamp.
+       */
+      public com.google.protobuf.ByteString
+          getTimestampBytes() {
+        java.lang.Object ref = timestamp_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          timestamp_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string timestamp = 4;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        timestamp_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string timestamp = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        timestamp_ = getDefaultInstance().getTimestamp();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string timestamp = 4;</code>
+       * @param value The bytes for timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestampBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        timestamp_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long requestid_ ;
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @return Whether the requestid field is set.
+       */
+      @java.lang.Override
+      public boolean hasRequestid() {
+        return ((bitField0_ & 0x00000020) != 0);
+      }
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @return The requestid.
+       */
+      @java.lang.Override
+      public long getRequestid() {
+        return requestid_;
+      }
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @param value The requestid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRequestid(long value) {
+
+        requestid_ = value;
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 requestid = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRequestid() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        requestid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_ConsumeItem_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_ConsumeItem_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_ConsumeItem_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_ConsumeItem_Request>() {
+      @java.lang.Override
+      public CInventory_ConsumeItem_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_ConsumeItem_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_ConsumeItem_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_DevSetNextDrop_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_DevSetNextDrop_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return Whether the itemdefid field is set.
+     */
+    boolean hasItemdefid();
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return The itemdefid.
+     */
+    long getItemdefid();
+
+    /**
+     * <code>optional string droptime = 3;</code>
+     * @return Whether the droptime field is set.
+     */
+    boolean hasDroptime();
+    /**
+     * <code>optional string droptime = 3;</code>
+     * @return The droptime.
+     */
+    java.lang.String getDroptime();
+    /**
+     * <code>optional string droptime = 3;</code>
+     * @return The bytes for droptime.
+     */
+    com.google.protobuf.ByteString
+        getDroptimeBytes();
+  }
+  /**
+   * Protobuf type {@code CInventory_DevSetNextDrop_Request}
+   */
+  public static final class CInventory_DevSetNextDrop_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_DevSetNextDrop_Request)
+      CInventory_DevSetNextDrop_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_DevSetNextDrop_Request.class.getName());
+    }
+    // Use CInventory_DevSetNextDrop_Request.newBuilder() to construct.
+    private CInventory_DevSetNextDrop_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_DevSetNextDrop_Request() {
+      droptime_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_DevSetNextDrop_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_DevSetNextDrop_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int ITEMDEFID_FIELD_NUMBER = 2;
+    private long itemdefid_ = 0L;
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return Whether the itemdefid field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemdefid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 itemdefid = 2;</code>
+     * @return The itemdefid.
+     */
+    @java.lang.Override
+    public long getItemdefid() {
+      return itemdefid_;
+    }
+
+    public static final int DROPTIME_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object droptime_ = "";
+    /**
+     * <code>optional string droptime = 3;</code>
+     * @return Whether the droptime field is set.
+     */
+    @java.lang.Override
+    public boolean hasDroptime() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string droptime = 3;</code>
+     * @return The droptime.
+     */
+    @java.lang.Override
+    public java.lang.String getDroptime() {
+      java.lang.Object ref = droptime_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          droptime_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string droptime = 3;</code>
+     * @return The bytes for droptime.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDroptimeBytes() {
+      java.lang.Object ref = droptime_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        droptime_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, itemdefid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, droptime_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, itemdefid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, droptime_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasItemdefid() != other.hasItemdefid()) return false;
+      if (hasItemdefid()) {
+        if (getItemdefid()
+            != other.getItemdefid()) return false;
+      }
+      if (hasDroptime() != other.hasDroptime()) return false;
+      if (hasDroptime()) {
+        if (!getDroptime()
+            .equals(other.getDroptime())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasItemdefid()) {
+        hash = (37 * hash) + ITEMDEFID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getItemdefid());
+      }
+      if (hasDroptime()) {
+        hash = (37 * hash) + DROPTIME_FIELD_NUMBER;
+        hash = (53 * hash) + getDroptime().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_DevSetNextDrop_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_DevSetNextDrop_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_DevSetNextDrop_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_DevSetNextDrop_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        itemdefid_ = 0L;
+        droptime_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_DevSetNextDrop_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.itemdefid_ = itemdefid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.droptime_ = droptime_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasItemdefid()) {
+          setItemdefid(other.getItemdefid());
+        }
+        if (other.hasDroptime()) {
+          droptime_ = other.droptime_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                itemdefid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                droptime_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long itemdefid_ ;
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @return Whether the itemdefid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemdefid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @return The itemdefid.
+       */
+      @java.lang.Override
+      public long getItemdefid() {
+        return itemdefid_;
+      }
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @param value The itemdefid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemdefid(long value) {
+
+        itemdefid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 itemdefid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemdefid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        itemdefid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object droptime_ = "";
+      /**
+       * <code>optional string droptime = 3;</code>
+       * @return Whether the droptime field is set.
+       */
+      public boolean hasDroptime() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string droptime = 3;</code>
+       * @return The droptime.
+       */
+      public java.lang.String getDroptime() {
+        java.lang.Object ref = droptime_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            droptime_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string droptime = 3;</code>
+       * @return The bytes for droptime.
+       */
+      public com.google.protobuf.ByteString
+          getDroptimeBytes() {
+        java.lang.Object ref = droptime_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          droptime_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string droptime = 3;</code>
+       * @param value The droptime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDroptime(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        droptime_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string droptime = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDroptime() {
+        droptime_ = getDefaultInstance().getDroptime();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string droptime = 3;</code>
+       * @param value The bytes for droptime to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDroptimeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        droptime_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_DevSetNextDrop_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_DevSetNextDrop_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_DevSetNextDrop_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_DevSetNextDrop_Request>() {
+      @java.lang.Override
+      public CInventory_DevSetNextDrop_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_DevSetNextDrop_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_DevSetNextDrop_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_SplitItemStack_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_SplitItemStack_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return Whether the itemid field is set.
+     */
+    boolean hasItemid();
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return The itemid.
+     */
+    long getItemid();
+
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return Whether the quantity field is set.
+     */
+    boolean hasQuantity();
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return The quantity.
+     */
+    int getQuantity();
+
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+  }
+  /**
+   * Protobuf type {@code CInventory_SplitItemStack_Request}
+   */
+  public static final class CInventory_SplitItemStack_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_SplitItemStack_Request)
+      CInventory_SplitItemStack_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_SplitItemStack_Request.class.getName());
+    }
+    // Use CInventory_SplitItemStack_Request.newBuilder() to construct.
+    private CInventory_SplitItemStack_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_SplitItemStack_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_SplitItemStack_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_SplitItemStack_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int ITEMID_FIELD_NUMBER = 2;
+    private long itemid_ = 0L;
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return Whether the itemid field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 itemid = 2;</code>
+     * @return The itemid.
+     */
+    @java.lang.Override
+    public long getItemid() {
+      return itemid_;
+    }
+
+    public static final int QUANTITY_FIELD_NUMBER = 3;
+    private int quantity_ = 0;
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return Whether the quantity field is set.
+     */
+    @java.lang.Override
+    public boolean hasQuantity() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint32 quantity = 3;</code>
+     * @return The quantity.
+     */
+    @java.lang.Override
+    public int getQuantity() {
+      return quantity_;
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 5;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional uint64 steamid = 5;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, itemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt32(3, quantity_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeUInt64(5, steamid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, itemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, quantity_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(5, steamid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasItemid() != other.hasItemid()) return false;
+      if (hasItemid()) {
+        if (getItemid()
+            != other.getItemid()) return false;
+      }
+      if (hasQuantity() != other.hasQuantity()) return false;
+      if (hasQuantity()) {
+        if (getQuantity()
+            != other.getQuantity()) return false;
+      }
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasItemid()) {
+        hash = (37 * hash) + ITEMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getItemid());
+      }
+      if (hasQuantity()) {
+        hash = (37 * hash) + QUANTITY_FIELD_NUMBER;
+        hash = (53 * hash) + getQuantity();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_SplitItemStack_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_SplitItemStack_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_SplitItemStack_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_SplitItemStack_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        itemid_ = 0L;
+        quantity_ = 0;
+        steamid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_SplitItemStack_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.itemid_ = itemid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.quantity_ = quantity_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasItemid()) {
+          setItemid(other.getItemid());
+        }
+        if (other.hasQuantity()) {
+          setQuantity(other.getQuantity());
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                itemid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                quantity_ = input.readUInt32();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 40: {
+                steamid_ = input.readUInt64();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 40
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long itemid_ ;
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @return Whether the itemid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @return The itemid.
+       */
+      @java.lang.Override
+      public long getItemid() {
+        return itemid_;
+      }
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @param value The itemid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemid(long value) {
+
+        itemid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 itemid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        itemid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int quantity_ ;
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @return Whether the quantity field is set.
+       */
+      @java.lang.Override
+      public boolean hasQuantity() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @return The quantity.
+       */
+      @java.lang.Override
+      public int getQuantity() {
+        return quantity_;
+      }
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @param value The quantity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQuantity(int value) {
+
+        quantity_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 quantity = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQuantity() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        quantity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 steamid = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_SplitItemStack_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_SplitItemStack_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_SplitItemStack_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_SplitItemStack_Request>() {
+      @java.lang.Override
+      public CInventory_SplitItemStack_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_SplitItemStack_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_SplitItemStack_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_CombineItemStacks_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_CombineItemStacks_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional uint64 fromitemid = 2;</code>
+     * @return Whether the fromitemid field is set.
+     */
+    boolean hasFromitemid();
+    /**
+     * <code>optional uint64 fromitemid = 2;</code>
+     * @return The fromitemid.
+     */
+    long getFromitemid();
+
+    /**
+     * <code>optional uint64 destitemid = 3;</code>
+     * @return Whether the destitemid field is set.
+     */
+    boolean hasDestitemid();
+    /**
+     * <code>optional uint64 destitemid = 3;</code>
+     * @return The destitemid.
+     */
+    long getDestitemid();
+
+    /**
+     * <code>optional uint32 quantity = 4;</code>
+     * @return Whether the quantity field is set.
+     */
+    boolean hasQuantity();
+    /**
+     * <code>optional uint32 quantity = 4;</code>
+     * @return The quantity.
+     */
+    int getQuantity();
+
+    /**
+     * <code>optional fixed64 steamid = 7;</code>
+     * @return Whether the steamid field is set.
+     */
+    boolean hasSteamid();
+    /**
+     * <code>optional fixed64 steamid = 7;</code>
+     * @return The steamid.
+     */
+    long getSteamid();
+  }
+  /**
+   * Protobuf type {@code CInventory_CombineItemStacks_Request}
+   */
+  public static final class CInventory_CombineItemStacks_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_CombineItemStacks_Request)
+      CInventory_CombineItemStacks_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_CombineItemStacks_Request.class.getName());
+    }
+    // Use CInventory_CombineItemStacks_Request.newBuilder() to construct.
+    private CInventory_CombineItemStacks_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_CombineItemStacks_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_CombineItemStacks_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_CombineItemStacks_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int FROMITEMID_FIELD_NUMBER = 2;
+    private long fromitemid_ = 0L;
+    /**
+     * <code>optional uint64 fromitemid = 2;</code>
+     * @return Whether the fromitemid field is set.
+     */
+    @java.lang.Override
+    public boolean hasFromitemid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 fromitemid = 2;</code>
+     * @return The fromitemid.
+     */
+    @java.lang.Override
+    public long getFromitemid() {
+      return fromitemid_;
+    }
+
+    public static final int DESTITEMID_FIELD_NUMBER = 3;
+    private long destitemid_ = 0L;
+    /**
+     * <code>optional uint64 destitemid = 3;</code>
+     * @return Whether the destitemid field is set.
+     */
+    @java.lang.Override
+    public boolean hasDestitemid() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint64 destitemid = 3;</code>
+     * @return The destitemid.
+     */
+    @java.lang.Override
+    public long getDestitemid() {
+      return destitemid_;
+    }
+
+    public static final int QUANTITY_FIELD_NUMBER = 4;
+    private int quantity_ = 0;
+    /**
+     * <code>optional uint32 quantity = 4;</code>
+     * @return Whether the quantity field is set.
+     */
+    @java.lang.Override
+    public boolean hasQuantity() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional uint32 quantity = 4;</code>
+     * @return The quantity.
+     */
+    @java.lang.Override
+    public int getQuantity() {
+      return quantity_;
+    }
+
+    public static final int STEAMID_FIELD_NUMBER = 7;
+    private long steamid_ = 0L;
+    /**
+     * <code>optional fixed64 steamid = 7;</code>
+     * @return Whether the steamid field is set.
+     */
+    @java.lang.Override
+    public boolean hasSteamid() {
+      return ((bitField0_ & 0x00000010) != 0);
+    }
+    /**
+     * <code>optional fixed64 steamid = 7;</code>
+     * @return The steamid.
+     */
+    @java.lang.Override
+    public long getSteamid() {
+      return steamid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, fromitemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, destitemid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeUInt32(4, quantity_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        output.writeFixed64(7, steamid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, fromitemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, destitemid_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, quantity_);
+      }
+      if (((bitField0_ & 0x00000010) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(7, steamid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasFromitemid() != other.hasFromitemid()) return false;
+      if (hasFromitemid()) {
+        if (getFromitemid()
+            != other.getFromitemid()) return false;
+      }
+      if (hasDestitemid() != other.hasDestitemid()) return false;
+      if (hasDestitemid()) {
+        if (getDestitemid()
+            != other.getDestitemid()) return false;
+      }
+      if (hasQuantity() != other.hasQuantity()) return false;
+      if (hasQuantity()) {
+        if (getQuantity()
+            != other.getQuantity()) return false;
+      }
+      if (hasSteamid() != other.hasSteamid()) return false;
+      if (hasSteamid()) {
+        if (getSteamid()
+            != other.getSteamid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasFromitemid()) {
+        hash = (37 * hash) + FROMITEMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getFromitemid());
+      }
+      if (hasDestitemid()) {
+        hash = (37 * hash) + DESTITEMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getDestitemid());
+      }
+      if (hasQuantity()) {
+        hash = (37 * hash) + QUANTITY_FIELD_NUMBER;
+        hash = (53 * hash) + getQuantity();
+      }
+      if (hasSteamid()) {
+        hash = (37 * hash) + STEAMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getSteamid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_CombineItemStacks_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_CombineItemStacks_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_CombineItemStacks_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_CombineItemStacks_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        fromitemid_ = 0L;
+        destitemid_ = 0L;
+        quantity_ = 0;
+        steamid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_CombineItemStacks_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.fromitemid_ = fromitemid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.destitemid_ = destitemid_;
+          to_bitField0_ |= 0x00000004;
+        }
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.quantity_ = quantity_;
+          to_bitField0_ |= 0x00000008;
+        }
+        if (((from_bitField0_ & 0x00000010) != 0)) {
+          result.steamid_ = steamid_;
+          to_bitField0_ |= 0x00000010;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasFromitemid()) {
+          setFromitemid(other.getFromitemid());
+        }
+        if (other.hasDestitemid()) {
+          setDestitemid(other.getDestitemid());
+        }
+        if (other.hasQuantity()) {
+          setQuantity(other.getQuantity());
+        }
+        if (other.hasSteamid()) {
+          setSteamid(other.getSteamid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                fromitemid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                destitemid_ = input.readUInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              case 32: {
+                quantity_ = input.readUInt32();
+                bitField0_ |= 0x00000008;
+                break;
+              } // case 32
+              case 57: {
+                steamid_ = input.readFixed64();
+                bitField0_ |= 0x00000010;
+                break;
+              } // case 57
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long fromitemid_ ;
+      /**
+       * <code>optional uint64 fromitemid = 2;</code>
+       * @return Whether the fromitemid field is set.
+       */
+      @java.lang.Override
+      public boolean hasFromitemid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 fromitemid = 2;</code>
+       * @return The fromitemid.
+       */
+      @java.lang.Override
+      public long getFromitemid() {
+        return fromitemid_;
+      }
+      /**
+       * <code>optional uint64 fromitemid = 2;</code>
+       * @param value The fromitemid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setFromitemid(long value) {
+
+        fromitemid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 fromitemid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearFromitemid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fromitemid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long destitemid_ ;
+      /**
+       * <code>optional uint64 destitemid = 3;</code>
+       * @return Whether the destitemid field is set.
+       */
+      @java.lang.Override
+      public boolean hasDestitemid() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional uint64 destitemid = 3;</code>
+       * @return The destitemid.
+       */
+      @java.lang.Override
+      public long getDestitemid() {
+        return destitemid_;
+      }
+      /**
+       * <code>optional uint64 destitemid = 3;</code>
+       * @param value The destitemid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDestitemid(long value) {
+
+        destitemid_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 destitemid = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDestitemid() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        destitemid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int quantity_ ;
+      /**
+       * <code>optional uint32 quantity = 4;</code>
+       * @return Whether the quantity field is set.
+       */
+      @java.lang.Override
+      public boolean hasQuantity() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional uint32 quantity = 4;</code>
+       * @return The quantity.
+       */
+      @java.lang.Override
+      public int getQuantity() {
+        return quantity_;
+      }
+      /**
+       * <code>optional uint32 quantity = 4;</code>
+       * @param value The quantity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setQuantity(int value) {
+
+        quantity_ = value;
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 quantity = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearQuantity() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        quantity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long steamid_ ;
+      /**
+       * <code>optional fixed64 steamid = 7;</code>
+       * @return Whether the steamid field is set.
+       */
+      @java.lang.Override
+      public boolean hasSteamid() {
+        return ((bitField0_ & 0x00000010) != 0);
+      }
+      /**
+       * <code>optional fixed64 steamid = 7;</code>
+       * @return The steamid.
+       */
+      @java.lang.Override
+      public long getSteamid() {
+        return steamid_;
+      }
+      /**
+       * <code>optional fixed64 steamid = 7;</code>
+       * @param value The steamid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSteamid(long value) {
+
+        steamid_ = value;
+        bitField0_ |= 0x00000010;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed64 steamid = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSteamid() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        steamid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_CombineItemStacks_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_CombineItemStacks_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_CombineItemStacks_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_CombineItemStacks_Request>() {
+      @java.lang.Override
+      public CInventory_CombineItemStacks_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_CombineItemStacks_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_CombineItemStacks_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_GetItemDefMeta_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_GetItemDefMeta_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+  }
+  /**
+   * Protobuf type {@code CInventory_GetItemDefMeta_Request}
+   */
+  public static final class CInventory_GetItemDefMeta_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_GetItemDefMeta_Request)
+      CInventory_GetItemDefMeta_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_GetItemDefMeta_Request.class.getName());
+    }
+    // Use CInventory_GetItemDefMeta_Request.newBuilder() to construct.
+    private CInventory_GetItemDefMeta_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_GetItemDefMeta_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_GetItemDefMeta_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_GetItemDefMeta_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_GetItemDefMeta_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_GetItemDefMeta_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_GetItemDefMeta_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_GetItemDefMeta_Request>() {
+      @java.lang.Override
+      public CInventory_GetItemDefMeta_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_GetItemDefMeta_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_GetItemDefMeta_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_GetItemDefMeta_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_GetItemDefMeta_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 modified = 1;</code>
+     * @return Whether the modified field is set.
+     */
+    boolean hasModified();
+    /**
+     * <code>optional uint32 modified = 1;</code>
+     * @return The modified.
+     */
+    int getModified();
+
+    /**
+     * <code>optional string digest = 2;</code>
+     * @return Whether the digest field is set.
+     */
+    boolean hasDigest();
+    /**
+     * <code>optional string digest = 2;</code>
+     * @return The digest.
+     */
+    java.lang.String getDigest();
+    /**
+     * <code>optional string digest = 2;</code>
+     * @return The bytes for digest.
+     */
+    com.google.protobuf.ByteString
+        getDigestBytes();
+  }
+  /**
+   * Protobuf type {@code CInventory_GetItemDefMeta_Response}
+   */
+  public static final class CInventory_GetItemDefMeta_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_GetItemDefMeta_Response)
+      CInventory_GetItemDefMeta_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_GetItemDefMeta_Response.class.getName());
+    }
+    // Use CInventory_GetItemDefMeta_Response.newBuilder() to construct.
+    private CInventory_GetItemDefMeta_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_GetItemDefMeta_Response() {
+      digest_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int MODIFIED_FIELD_NUMBER = 1;
+    private int modified_ = 0;
+    /**
+     * <code>optional uint32 modified = 1;</code>
+     * @return Whether the modified field is set.
+     */
+    @java.lang.Override
+    public boolean hasModified() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 modified = 1;</code>
+     * @return The modified.
+     */
+    @java.lang.Override
+    public int getModified() {
+      return modified_;
+    }
+
+    public static final int DIGEST_FIELD_NUMBER = 2;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object digest_ = "";
+    /**
+     * <code>optional string digest = 2;</code>
+     * @return Whether the digest field is set.
+     */
+    @java.lang.Override
+    public boolean hasDigest() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string digest = 2;</code>
+     * @return The digest.
+     */
+    @java.lang.Override
+    public java.lang.String getDigest() {
+      java.lang.Object ref = digest_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          digest_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string digest = 2;</code>
+     * @return The bytes for digest.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getDigestBytes() {
+      java.lang.Object ref = digest_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        digest_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, modified_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 2, digest_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, modified_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(2, digest_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response) obj;
+
+      if (hasModified() != other.hasModified()) return false;
+      if (hasModified()) {
+        if (getModified()
+            != other.getModified()) return false;
+      }
+      if (hasDigest() != other.hasDigest()) return false;
+      if (hasDigest()) {
+        if (!getDigest()
+            .equals(other.getDigest())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasModified()) {
+        hash = (37 * hash) + MODIFIED_FIELD_NUMBER;
+        hash = (53 * hash) + getModified();
+      }
+      if (hasDigest()) {
+        hash = (37 * hash) + DIGEST_FIELD_NUMBER;
+        hash = (53 * hash) + getDigest().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_GetItemDefMeta_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_GetItemDefMeta_Response)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        modified_ = 0;
+        digest_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetItemDefMeta_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.modified_ = modified_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.digest_ = digest_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response.getDefaultInstance()) return this;
+        if (other.hasModified()) {
+          setModified(other.getModified());
+        }
+        if (other.hasDigest()) {
+          digest_ = other.digest_;
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                modified_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                digest_ = input.readBytes();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int modified_ ;
+      /**
+       * <code>optional uint32 modified = 1;</code>
+       * @return Whether the modified field is set.
+       */
+      @java.lang.Override
+      public boolean hasModified() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 modified = 1;</code>
+       * @return The modified.
+       */
+      @java.lang.Override
+      public int getModified() {
+        return modified_;
+      }
+      /**
+       * <code>optional uint32 modified = 1;</code>
+       * @param value The modified to set.
+       * @return This builder for chaining.
+       */
+      public Builder setModified(int value) {
+
+        modified_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 modified = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearModified() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        modified_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object digest_ = "";
+      /**
+       * <code>optional string digest = 2;</code>
+       * @return Whether the digest field is set.
+       */
+      public boolean hasDigest() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string digest = 2;</code>
+       * @return The digest.
+       */
+      public java.lang.String getDigest() {
+        java.lang.Object ref = digest_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            digest_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string digest = 2;</code>
+       * @return The bytes for digest.
+       */
+      public com.google.protobuf.ByteString
+          getDigestBytes() {
+        java.lang.Object ref = digest_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          digest_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string digest = 2;</code>
+       * @param value The digest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDigest(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        digest_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string digest = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDigest() {
+        digest_ = getDefaultInstance().getDigest();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string digest = 2;</code>
+       * @param value The bytes for digest to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDigestBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        digest_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_GetItemDefMeta_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_GetItemDefMeta_Response)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_GetItemDefMeta_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_GetItemDefMeta_Response>() {
+      @java.lang.Override
+      public CInventory_GetItemDefMeta_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_GetItemDefMeta_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_GetItemDefMeta_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_GetUserPurchaseInfo_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_GetUserPurchaseInfo_Request)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code CInventory_GetUserPurchaseInfo_Request}
+   */
+  public static final class CInventory_GetUserPurchaseInfo_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_GetUserPurchaseInfo_Request)
+      CInventory_GetUserPurchaseInfo_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_GetUserPurchaseInfo_Request.class.getName());
+    }
+    // Use CInventory_GetUserPurchaseInfo_Request.newBuilder() to construct.
+    private CInventory_GetUserPurchaseInfo_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_GetUserPurchaseInfo_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request) obj;
+
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_GetUserPurchaseInfo_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_GetUserPurchaseInfo_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_GetUserPurchaseInfo_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_GetUserPurchaseInfo_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_GetUserPurchaseInfo_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_GetUserPurchaseInfo_Request>() {
+      @java.lang.Override
+      public CInventory_GetUserPurchaseInfo_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_GetUserPurchaseInfo_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_GetUserPurchaseInfo_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_GetUserPurchaseInfo_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_GetUserPurchaseInfo_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional int32 ecurrency = 1;</code>
+     * @return Whether the ecurrency field is set.
+     */
+    boolean hasEcurrency();
+    /**
+     * <code>optional int32 ecurrency = 1;</code>
+     * @return The ecurrency.
+     */
+    int getEcurrency();
+  }
+  /**
+   * Protobuf type {@code CInventory_GetUserPurchaseInfo_Response}
+   */
+  public static final class CInventory_GetUserPurchaseInfo_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_GetUserPurchaseInfo_Response)
+      CInventory_GetUserPurchaseInfo_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_GetUserPurchaseInfo_Response.class.getName());
+    }
+    // Use CInventory_GetUserPurchaseInfo_Response.newBuilder() to construct.
+    private CInventory_GetUserPurchaseInfo_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_GetUserPurchaseInfo_Response() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ECURRENCY_FIELD_NUMBER = 1;
+    private int ecurrency_ = 0;
+    /**
+     * <code>optional int32 ecurrency = 1;</code>
+     * @return Whether the ecurrency field is set.
+     */
+    @java.lang.Override
+    public boolean hasEcurrency() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int32 ecurrency = 1;</code>
+     * @return The ecurrency.
+     */
+    @java.lang.Override
+    public int getEcurrency() {
+      return ecurrency_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(1, ecurrency_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, ecurrency_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response) obj;
+
+      if (hasEcurrency() != other.hasEcurrency()) return false;
+      if (hasEcurrency()) {
+        if (getEcurrency()
+            != other.getEcurrency()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasEcurrency()) {
+        hash = (37 * hash) + ECURRENCY_FIELD_NUMBER;
+        hash = (53 * hash) + getEcurrency();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_GetUserPurchaseInfo_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_GetUserPurchaseInfo_Response)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        ecurrency_ = 0;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_GetUserPurchaseInfo_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.ecurrency_ = ecurrency_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response.getDefaultInstance()) return this;
+        if (other.hasEcurrency()) {
+          setEcurrency(other.getEcurrency());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                ecurrency_ = input.readInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int ecurrency_ ;
+      /**
+       * <code>optional int32 ecurrency = 1;</code>
+       * @return Whether the ecurrency field is set.
+       */
+      @java.lang.Override
+      public boolean hasEcurrency() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional int32 ecurrency = 1;</code>
+       * @return The ecurrency.
+       */
+      @java.lang.Override
+      public int getEcurrency() {
+        return ecurrency_;
+      }
+      /**
+       * <code>optional int32 ecurrency = 1;</code>
+       * @param value The ecurrency to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEcurrency(int value) {
+
+        ecurrency_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 ecurrency = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEcurrency() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        ecurrency_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_GetUserPurchaseInfo_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_GetUserPurchaseInfo_Response)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_GetUserPurchaseInfo_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_GetUserPurchaseInfo_Response>() {
+      @java.lang.Override
+      public CInventory_GetUserPurchaseInfo_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_GetUserPurchaseInfo_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_GetUserPurchaseInfo_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_PurchaseInit_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_PurchaseInit_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return Whether the language field is set.
+     */
+    boolean hasLanguage();
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return The language.
+     */
+    int getLanguage();
+
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem> 
+        getLineItemsList();
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem getLineItems(int index);
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    int getLineItemsCount();
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    java.util.List<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder> 
+        getLineItemsOrBuilderList();
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder getLineItemsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code CInventory_PurchaseInit_Request}
+   */
+  public static final class CInventory_PurchaseInit_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_PurchaseInit_Request)
+      CInventory_PurchaseInit_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_PurchaseInit_Request.class.getName());
+    }
+    // Use CInventory_PurchaseInit_Request.newBuilder() to construct.
+    private CInventory_PurchaseInit_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_PurchaseInit_Request() {
+      lineItems_ = java.util.Collections.emptyList();
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.Builder.class);
+    }
+
+    public interface LineItemOrBuilder extends
+        // @@protoc_insertion_point(interface_extends:CInventory_PurchaseInit_Request.LineItem)
+        com.google.protobuf.MessageOrBuilder {
+
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @return Whether the itemdefid field is set.
+       */
+      boolean hasItemdefid();
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @return The itemdefid.
+       */
+      long getItemdefid();
+
+      /**
+       * <code>optional uint32 quantity = 2;</code>
+       * @return Whether the quantity field is set.
+       */
+      boolean hasQuantity();
+      /**
+       * <code>optional uint32 quantity = 2;</code>
+       * @return The quantity.
+       */
+      int getQuantity();
+    }
+    /**
+     * Protobuf type {@code CInventory_PurchaseInit_Request.LineItem}
+     */
+    public static final class LineItem extends
+        com.google.protobuf.GeneratedMessage implements
+        // @@protoc_insertion_point(message_implements:CInventory_PurchaseInit_Request.LineItem)
+        LineItemOrBuilder {
+    private static final long serialVersionUID = 0L;
+      static {
+        com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+          com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+          /* major= */ 4,
+          /* minor= */ 26,
+          /* patch= */ 1,
+          /* suffix= */ "",
+          LineItem.class.getName());
+      }
+      // Use LineItem.newBuilder() to construct.
+      private LineItem(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+        super(builder);
+      }
+      private LineItem() {
+      }
+
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_LineItem_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_LineItem_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder.class);
+      }
+
+      private int bitField0_;
+      public static final int ITEMDEFID_FIELD_NUMBER = 1;
+      private long itemdefid_ = 0L;
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @return Whether the itemdefid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemdefid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @return The itemdefid.
+       */
+      @java.lang.Override
+      public long getItemdefid() {
+        return itemdefid_;
+      }
+
+      public static final int QUANTITY_FIELD_NUMBER = 2;
+      private int quantity_ = 0;
+      /**
+       * <code>optional uint32 quantity = 2;</code>
+       * @return Whether the quantity field is set.
+       */
+      @java.lang.Override
+      public boolean hasQuantity() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint32 quantity = 2;</code>
+       * @return The quantity.
+       */
+      @java.lang.Override
+      public int getQuantity() {
+        return quantity_;
+      }
+
+      private byte memoizedIsInitialized = -1;
+      @java.lang.Override
+      public final boolean isInitialized() {
+        byte isInitialized = memoizedIsInitialized;
+        if (isInitialized == 1) return true;
+        if (isInitialized == 0) return false;
+
+        memoizedIsInitialized = 1;
+        return true;
+      }
+
+      @java.lang.Override
+      public void writeTo(com.google.protobuf.CodedOutputStream output)
+                          throws java.io.IOException {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          output.writeUInt64(1, itemdefid_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          output.writeUInt32(2, quantity_);
+        }
+        getUnknownFields().writeTo(output);
+      }
+
+      @java.lang.Override
+      public int getSerializedSize() {
+        int size = memoizedSize;
+        if (size != -1) return size;
+
+        size = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt64Size(1, itemdefid_);
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32Size(2, quantity_);
+        }
+        size += getUnknownFields().getSerializedSize();
+        memoizedSize = size;
+        return size;
+      }
+
+      @java.lang.Override
+      public boolean equals(final java.lang.Object obj) {
+        if (obj == this) {
+         return true;
+        }
+        if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem)) {
+          return super.equals(obj);
+        }
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem) obj;
+
+        if (hasItemdefid() != other.hasItemdefid()) return false;
+        if (hasItemdefid()) {
+          if (getItemdefid()
+              != other.getItemdefid()) return false;
+        }
+        if (hasQuantity() != other.hasQuantity()) return false;
+        if (hasQuantity()) {
+          if (getQuantity()
+              != other.getQuantity()) return false;
+        }
+        if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+        return true;
+      }
+
+      @java.lang.Override
+      public int hashCode() {
+        if (memoizedHashCode != 0) {
+          return memoizedHashCode;
+        }
+        int hash = 41;
+        hash = (19 * hash) + getDescriptor().hashCode();
+        if (hasItemdefid()) {
+          hash = (37 * hash) + ITEMDEFID_FIELD_NUMBER;
+          hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+              getItemdefid());
+        }
+        if (hasQuantity()) {
+          hash = (37 * hash) + QUANTITY_FIELD_NUMBER;
+          hash = (53 * hash) + getQuantity();
+        }
+        hash = (29 * hash) + getUnknownFields().hashCode();
+        memoizedHashCode = hash;
+        return hash;
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          java.nio.ByteBuffer data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          java.nio.ByteBuffer data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          com.google.protobuf.ByteString data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          com.google.protobuf.ByteString data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(byte[] data)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          byte[] data,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return PARSER.parseFrom(data, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseDelimitedFrom(java.io.InputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input);
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseDelimitedFrom(
+          java.io.InputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          com.google.protobuf.CodedInputStream input)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input);
+      }
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem parseFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        return com.google.protobuf.GeneratedMessage
+            .parseWithIOException(PARSER, input, extensionRegistry);
+      }
+
+      @java.lang.Override
+      public Builder newBuilderForType() { return newBuilder(); }
+      public static Builder newBuilder() {
+        return DEFAULT_INSTANCE.toBuilder();
+      }
+      public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem prototype) {
+        return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+      }
+      @java.lang.Override
+      public Builder toBuilder() {
+        return this == DEFAULT_INSTANCE
+            ? new Builder() : new Builder().mergeFrom(this);
+      }
+
+      @java.lang.Override
+      protected Builder newBuilderForType(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        Builder builder = new Builder(parent);
+        return builder;
+      }
+      /**
+       * Protobuf type {@code CInventory_PurchaseInit_Request.LineItem}
+       */
+      public static final class Builder extends
+          com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+          // @@protoc_insertion_point(builder_implements:CInventory_PurchaseInit_Request.LineItem)
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder {
+        public static final com.google.protobuf.Descriptors.Descriptor
+            getDescriptor() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_LineItem_descriptor;
+        }
+
+        @java.lang.Override
+        protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+            internalGetFieldAccessorTable() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_LineItem_fieldAccessorTable
+              .ensureFieldAccessorsInitialized(
+                  com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder.class);
+        }
+
+        // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.newBuilder()
+        private Builder() {
+
+        }
+
+        private Builder(
+            com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+          super(parent);
+
+        }
+        @java.lang.Override
+        public Builder clear() {
+          super.clear();
+          bitField0_ = 0;
+          itemdefid_ = 0L;
+          quantity_ = 0;
+          return this;
+        }
+
+        @java.lang.Override
+        public com.google.protobuf.Descriptors.Descriptor
+            getDescriptorForType() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_LineItem_descriptor;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem getDefaultInstanceForType() {
+          return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.getDefaultInstance();
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem build() {
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem result = buildPartial();
+          if (!result.isInitialized()) {
+            throw newUninitializedMessageException(result);
+          }
+          return result;
+        }
+
+        @java.lang.Override
+        public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem buildPartial() {
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem(this);
+          if (bitField0_ != 0) { buildPartial0(result); }
+          onBuilt();
+          return result;
+        }
+
+        private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem result) {
+          int from_bitField0_ = bitField0_;
+          int to_bitField0_ = 0;
+          if (((from_bitField0_ & 0x00000001) != 0)) {
+            result.itemdefid_ = itemdefid_;
+            to_bitField0_ |= 0x00000001;
+          }
+          if (((from_bitField0_ & 0x00000002) != 0)) {
+            result.quantity_ = quantity_;
+            to_bitField0_ |= 0x00000002;
+          }
+          result.bitField0_ |= to_bitField0_;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(com.google.protobuf.Message other) {
+          if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem) {
+            return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem)other);
+          } else {
+            super.mergeFrom(other);
+            return this;
+          }
+        }
+
+        public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem other) {
+          if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.getDefaultInstance()) return this;
+          if (other.hasItemdefid()) {
+            setItemdefid(other.getItemdefid());
+          }
+          if (other.hasQuantity()) {
+            setQuantity(other.getQuantity());
+          }
+          this.mergeUnknownFields(other.getUnknownFields());
+          onChanged();
+          return this;
+        }
+
+        @java.lang.Override
+        public final boolean isInitialized() {
+          return true;
+        }
+
+        @java.lang.Override
+        public Builder mergeFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws java.io.IOException {
+          if (extensionRegistry == null) {
+            throw new java.lang.NullPointerException();
+          }
+          try {
+            boolean done = false;
+            while (!done) {
+              int tag = input.readTag();
+              switch (tag) {
+                case 0:
+                  done = true;
+                  break;
+                case 8: {
+                  itemdefid_ = input.readUInt64();
+                  bitField0_ |= 0x00000001;
+                  break;
+                } // case 8
+                case 16: {
+                  quantity_ = input.readUInt32();
+                  bitField0_ |= 0x00000002;
+                  break;
+                } // case 16
+                default: {
+                  if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                    done = true; // was an endgroup tag
+                  }
+                  break;
+                } // default:
+              } // switch (tag)
+            } // while (!done)
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.unwrapIOException();
+          } finally {
+            onChanged();
+          } // finally
+          return this;
+        }
+        private int bitField0_;
+
+        private long itemdefid_ ;
+        /**
+         * <code>optional uint64 itemdefid = 1;</code>
+         * @return Whether the itemdefid field is set.
+         */
+        @java.lang.Override
+        public boolean hasItemdefid() {
+          return ((bitField0_ & 0x00000001) != 0);
+        }
+        /**
+         * <code>optional uint64 itemdefid = 1;</code>
+         * @return The itemdefid.
+         */
+        @java.lang.Override
+        public long getItemdefid() {
+          return itemdefid_;
+        }
+        /**
+         * <code>optional uint64 itemdefid = 1;</code>
+         * @param value The itemdefid to set.
+         * @return This builder for chaining.
+         */
+        public Builder setItemdefid(long value) {
+
+          itemdefid_ = value;
+          bitField0_ |= 0x00000001;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint64 itemdefid = 1;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearItemdefid() {
+          bitField0_ = (bitField0_ & ~0x00000001);
+          itemdefid_ = 0L;
+          onChanged();
+          return this;
+        }
+
+        private int quantity_ ;
+        /**
+         * <code>optional uint32 quantity = 2;</code>
+         * @return Whether the quantity field is set.
+         */
+        @java.lang.Override
+        public boolean hasQuantity() {
+          return ((bitField0_ & 0x00000002) != 0);
+        }
+        /**
+         * <code>optional uint32 quantity = 2;</code>
+         * @return The quantity.
+         */
+        @java.lang.Override
+        public int getQuantity() {
+          return quantity_;
+        }
+        /**
+         * <code>optional uint32 quantity = 2;</code>
+         * @param value The quantity to set.
+         * @return This builder for chaining.
+         */
+        public Builder setQuantity(int value) {
+
+          quantity_ = value;
+          bitField0_ |= 0x00000002;
+          onChanged();
+          return this;
+        }
+        /**
+         * <code>optional uint32 quantity = 2;</code>
+         * @return This builder for chaining.
+         */
+        public Builder clearQuantity() {
+          bitField0_ = (bitField0_ & ~0x00000002);
+          quantity_ = 0;
+          onChanged();
+          return this;
+        }
+
+        // @@protoc_insertion_point(builder_scope:CInventory_PurchaseInit_Request.LineItem)
+      }
+
+      // @@protoc_insertion_point(class_scope:CInventory_PurchaseInit_Request.LineItem)
+      private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem DEFAULT_INSTANCE;
+      static {
+        DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem();
+      }
+
+      public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem getDefaultInstance() {
+        return DEFAULT_INSTANCE;
+      }
+
+      private static final com.google.protobuf.Parser<LineItem>
+          PARSER = new com.google.protobuf.AbstractParser<LineItem>() {
+        @java.lang.Override
+        public LineItem parsePartialFrom(
+            com.google.protobuf.CodedInputStream input,
+            com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+            throws com.google.protobuf.InvalidProtocolBufferException {
+          Builder builder = newBuilder();
+          try {
+            builder.mergeFrom(input, extensionRegistry);
+          } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+            throw e.setUnfinishedMessage(builder.buildPartial());
+          } catch (com.google.protobuf.UninitializedMessageException e) {
+            throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+          } catch (java.io.IOException e) {
+            throw new com.google.protobuf.InvalidProtocolBufferException(e)
+                .setUnfinishedMessage(builder.buildPartial());
+          }
+          return builder.buildPartial();
+        }
+      };
+
+      public static com.google.protobuf.Parser<LineItem> parser() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Parser<LineItem> getParserForType() {
+        return PARSER;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem getDefaultInstanceForType() {
+        return DEFAULT_INSTANCE;
+      }
+
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int LANGUAGE_FIELD_NUMBER = 2;
+    private int language_ = 0;
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return Whether the language field is set.
+     */
+    @java.lang.Override
+    public boolean hasLanguage() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return The language.
+     */
+    @java.lang.Override
+    public int getLanguage() {
+      return language_;
+    }
+
+    public static final int LINE_ITEMS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem> lineItems_;
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem> getLineItemsList() {
+      return lineItems_;
+    }
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder> 
+        getLineItemsOrBuilderList() {
+      return lineItems_;
+    }
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    @java.lang.Override
+    public int getLineItemsCount() {
+      return lineItems_.size();
+    }
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem getLineItems(int index) {
+      return lineItems_.get(index);
+    }
+    /**
+     * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder getLineItemsOrBuilder(
+        int index) {
+      return lineItems_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, language_);
+      }
+      for (int i = 0; i < lineItems_.size(); i++) {
+        output.writeMessage(3, lineItems_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, language_);
+      }
+      for (int i = 0; i < lineItems_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, lineItems_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasLanguage() != other.hasLanguage()) return false;
+      if (hasLanguage()) {
+        if (getLanguage()
+            != other.getLanguage()) return false;
+      }
+      if (!getLineItemsList()
+          .equals(other.getLineItemsList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasLanguage()) {
+        hash = (37 * hash) + LANGUAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getLanguage();
+      }
+      if (getLineItemsCount() > 0) {
+        hash = (37 * hash) + LINE_ITEMS_FIELD_NUMBER;
+        hash = (53 * hash) + getLineItemsList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_PurchaseInit_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_PurchaseInit_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        language_ = 0;
+        if (lineItemsBuilder_ == null) {
+          lineItems_ = java.util.Collections.emptyList();
+        } else {
+          lineItems_ = null;
+          lineItemsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request(this);
+        buildPartialRepeatedFields(result);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartialRepeatedFields(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request result) {
+        if (lineItemsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) != 0)) {
+            lineItems_ = java.util.Collections.unmodifiableList(lineItems_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.lineItems_ = lineItems_;
+        } else {
+          result.lineItems_ = lineItemsBuilder_.build();
+        }
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.language_ = language_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasLanguage()) {
+          setLanguage(other.getLanguage());
+        }
+        if (lineItemsBuilder_ == null) {
+          if (!other.lineItems_.isEmpty()) {
+            if (lineItems_.isEmpty()) {
+              lineItems_ = other.lineItems_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureLineItemsIsMutable();
+              lineItems_.addAll(other.lineItems_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.lineItems_.isEmpty()) {
+            if (lineItemsBuilder_.isEmpty()) {
+              lineItemsBuilder_.dispose();
+              lineItemsBuilder_ = null;
+              lineItems_ = other.lineItems_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              lineItemsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getLineItemsFieldBuilder() : null;
+            } else {
+              lineItemsBuilder_.addAllMessages(other.lineItems_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                language_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 26: {
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem m =
+                    input.readMessage(
+                        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.parser(),
+                        extensionRegistry);
+                if (lineItemsBuilder_ == null) {
+                  ensureLineItemsIsMutable();
+                  lineItems_.add(m);
+                } else {
+                  lineItemsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int language_ ;
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @return Whether the language field is set.
+       */
+      @java.lang.Override
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @return The language.
+       */
+      @java.lang.Override
+      public int getLanguage() {
+        return language_;
+      }
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @param value The language to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLanguage(int value) {
+
+        language_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLanguage() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        language_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem> lineItems_ =
+        java.util.Collections.emptyList();
+      private void ensureLineItemsIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          lineItems_ = new java.util.ArrayList<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem>(lineItems_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder> lineItemsBuilder_;
+
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem> getLineItemsList() {
+        if (lineItemsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(lineItems_);
+        } else {
+          return lineItemsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public int getLineItemsCount() {
+        if (lineItemsBuilder_ == null) {
+          return lineItems_.size();
+        } else {
+          return lineItemsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem getLineItems(int index) {
+        if (lineItemsBuilder_ == null) {
+          return lineItems_.get(index);
+        } else {
+          return lineItemsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder setLineItems(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem value) {
+        if (lineItemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLineItemsIsMutable();
+          lineItems_.set(index, value);
+          onChanged();
+        } else {
+          lineItemsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder setLineItems(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder builderForValue) {
+        if (lineItemsBuilder_ == null) {
+          ensureLineItemsIsMutable();
+          lineItems_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          lineItemsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder addLineItems(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem value) {
+        if (lineItemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLineItemsIsMutable();
+          lineItems_.add(value);
+          onChanged();
+        } else {
+          lineItemsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder addLineItems(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem value) {
+        if (lineItemsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureLineItemsIsMutable();
+          lineItems_.add(index, value);
+          onChanged();
+        } else {
+          lineItemsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder addLineItems(
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder builderForValue) {
+        if (lineItemsBuilder_ == null) {
+          ensureLineItemsIsMutable();
+          lineItems_.add(builderForValue.build());
+          onChanged();
+        } else {
+          lineItemsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder addLineItems(
+          int index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder builderForValue) {
+        if (lineItemsBuilder_ == null) {
+          ensureLineItemsIsMutable();
+          lineItems_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          lineItemsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder addAllLineItems(
+          java.lang.Iterable<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem> values) {
+        if (lineItemsBuilder_ == null) {
+          ensureLineItemsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, lineItems_);
+          onChanged();
+        } else {
+          lineItemsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder clearLineItems() {
+        if (lineItemsBuilder_ == null) {
+          lineItems_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          lineItemsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public Builder removeLineItems(int index) {
+        if (lineItemsBuilder_ == null) {
+          ensureLineItemsIsMutable();
+          lineItems_.remove(index);
+          onChanged();
+        } else {
+          lineItemsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder getLineItemsBuilder(
+          int index) {
+        return getLineItemsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder getLineItemsOrBuilder(
+          int index) {
+        if (lineItemsBuilder_ == null) {
+          return lineItems_.get(index);  } else {
+          return lineItemsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public java.util.List<? extends com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder> 
+           getLineItemsOrBuilderList() {
+        if (lineItemsBuilder_ != null) {
+          return lineItemsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(lineItems_);
+        }
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder addLineItemsBuilder() {
+        return getLineItemsFieldBuilder().addBuilder(
+            com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder addLineItemsBuilder(
+          int index) {
+        return getLineItemsFieldBuilder().addBuilder(
+            index, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .CInventory_PurchaseInit_Request.LineItem line_items = 3;</code>
+       */
+      public java.util.List<com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder> 
+           getLineItemsBuilderList() {
+        return getLineItemsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder> 
+          getLineItemsFieldBuilder() {
+        if (lineItemsBuilder_ == null) {
+          lineItemsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItem.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request.LineItemOrBuilder>(
+                  lineItems_,
+                  ((bitField0_ & 0x00000004) != 0),
+                  getParentForChildren(),
+                  isClean());
+          lineItems_ = null;
+        }
+        return lineItemsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_PurchaseInit_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_PurchaseInit_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_PurchaseInit_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_PurchaseInit_Request>() {
+      @java.lang.Override
+      public CInventory_PurchaseInit_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_PurchaseInit_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_PurchaseInit_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_PurchaseInit_ResponseOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_PurchaseInit_Response)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint64 orderid = 1;</code>
+     * @return Whether the orderid field is set.
+     */
+    boolean hasOrderid();
+    /**
+     * <code>optional uint64 orderid = 1;</code>
+     * @return The orderid.
+     */
+    long getOrderid();
+
+    /**
+     * <code>optional uint64 transid = 2;</code>
+     * @return Whether the transid field is set.
+     */
+    boolean hasTransid();
+    /**
+     * <code>optional uint64 transid = 2;</code>
+     * @return The transid.
+     */
+    long getTransid();
+  }
+  /**
+   * Protobuf type {@code CInventory_PurchaseInit_Response}
+   */
+  public static final class CInventory_PurchaseInit_Response extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_PurchaseInit_Response)
+      CInventory_PurchaseInit_ResponseOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_PurchaseInit_Response.class.getName());
+    }
+    // Use CInventory_PurchaseInit_Response.newBuilder() to construct.
+    private CInventory_PurchaseInit_Response(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_PurchaseInit_Response() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Response_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Response_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ORDERID_FIELD_NUMBER = 1;
+    private long orderid_ = 0L;
+    /**
+     * <code>optional uint64 orderid = 1;</code>
+     * @return Whether the orderid field is set.
+     */
+    @java.lang.Override
+    public boolean hasOrderid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint64 orderid = 1;</code>
+     * @return The orderid.
+     */
+    @java.lang.Override
+    public long getOrderid() {
+      return orderid_;
+    }
+
+    public static final int TRANSID_FIELD_NUMBER = 2;
+    private long transid_ = 0L;
+    /**
+     * <code>optional uint64 transid = 2;</code>
+     * @return Whether the transid field is set.
+     */
+    @java.lang.Override
+    public boolean hasTransid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional uint64 transid = 2;</code>
+     * @return The transid.
+     */
+    @java.lang.Override
+    public long getTransid() {
+      return transid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt64(1, orderid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeUInt64(2, transid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, orderid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(2, transid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response) obj;
+
+      if (hasOrderid() != other.hasOrderid()) return false;
+      if (hasOrderid()) {
+        if (getOrderid()
+            != other.getOrderid()) return false;
+      }
+      if (hasTransid() != other.hasTransid()) return false;
+      if (hasTransid()) {
+        if (getTransid()
+            != other.getTransid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasOrderid()) {
+        hash = (37 * hash) + ORDERID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getOrderid());
+      }
+      if (hasTransid()) {
+        hash = (37 * hash) + TRANSID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTransid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_PurchaseInit_Response}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_PurchaseInit_Response)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_ResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Response_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Response_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        orderid_ = 0L;
+        transid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseInit_Response_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.orderid_ = orderid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.transid_ = transid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response.getDefaultInstance()) return this;
+        if (other.hasOrderid()) {
+          setOrderid(other.getOrderid());
+        }
+        if (other.hasTransid()) {
+          setTransid(other.getTransid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                orderid_ = input.readUInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                transid_ = input.readUInt64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long orderid_ ;
+      /**
+       * <code>optional uint64 orderid = 1;</code>
+       * @return Whether the orderid field is set.
+       */
+      @java.lang.Override
+      public boolean hasOrderid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint64 orderid = 1;</code>
+       * @return The orderid.
+       */
+      @java.lang.Override
+      public long getOrderid() {
+        return orderid_;
+      }
+      /**
+       * <code>optional uint64 orderid = 1;</code>
+       * @param value The orderid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderid(long value) {
+
+        orderid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 orderid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrderid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        orderid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long transid_ ;
+      /**
+       * <code>optional uint64 transid = 2;</code>
+       * @return Whether the transid field is set.
+       */
+      @java.lang.Override
+      public boolean hasTransid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional uint64 transid = 2;</code>
+       * @return The transid.
+       */
+      @java.lang.Override
+      public long getTransid() {
+        return transid_;
+      }
+      /**
+       * <code>optional uint64 transid = 2;</code>
+       * @param value The transid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTransid(long value) {
+
+        transid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 transid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTransid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        transid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_PurchaseInit_Response)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_PurchaseInit_Response)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_PurchaseInit_Response>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_PurchaseInit_Response>() {
+      @java.lang.Override
+      public CInventory_PurchaseInit_Response parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_PurchaseInit_Response> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_PurchaseInit_Response> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_PurchaseFinalize_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_PurchaseFinalize_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return Whether the language field is set.
+     */
+    boolean hasLanguage();
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return The language.
+     */
+    int getLanguage();
+
+    /**
+     * <code>optional uint64 orderid = 3;</code>
+     * @return Whether the orderid field is set.
+     */
+    boolean hasOrderid();
+    /**
+     * <code>optional uint64 orderid = 3;</code>
+     * @return The orderid.
+     */
+    long getOrderid();
+  }
+  /**
+   * Protobuf type {@code CInventory_PurchaseFinalize_Request}
+   */
+  public static final class CInventory_PurchaseFinalize_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_PurchaseFinalize_Request)
+      CInventory_PurchaseFinalize_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_PurchaseFinalize_Request.class.getName());
+    }
+    // Use CInventory_PurchaseFinalize_Request.newBuilder() to construct.
+    private CInventory_PurchaseFinalize_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_PurchaseFinalize_Request() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseFinalize_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseFinalize_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int LANGUAGE_FIELD_NUMBER = 2;
+    private int language_ = 0;
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return Whether the language field is set.
+     */
+    @java.lang.Override
+    public boolean hasLanguage() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 language = 2;</code>
+     * @return The language.
+     */
+    @java.lang.Override
+    public int getLanguage() {
+      return language_;
+    }
+
+    public static final int ORDERID_FIELD_NUMBER = 3;
+    private long orderid_ = 0L;
+    /**
+     * <code>optional uint64 orderid = 3;</code>
+     * @return Whether the orderid field is set.
+     */
+    @java.lang.Override
+    public boolean hasOrderid() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional uint64 orderid = 3;</code>
+     * @return The orderid.
+     */
+    @java.lang.Override
+    public long getOrderid() {
+      return orderid_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, language_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        output.writeUInt64(3, orderid_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, language_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(3, orderid_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasLanguage() != other.hasLanguage()) return false;
+      if (hasLanguage()) {
+        if (getLanguage()
+            != other.getLanguage()) return false;
+      }
+      if (hasOrderid() != other.hasOrderid()) return false;
+      if (hasOrderid()) {
+        if (getOrderid()
+            != other.getOrderid()) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasLanguage()) {
+        hash = (37 * hash) + LANGUAGE_FIELD_NUMBER;
+        hash = (53 * hash) + getLanguage();
+      }
+      if (hasOrderid()) {
+        hash = (37 * hash) + ORDERID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getOrderid());
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_PurchaseFinalize_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_PurchaseFinalize_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseFinalize_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseFinalize_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        language_ = 0;
+        orderid_ = 0L;
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_PurchaseFinalize_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.language_ = language_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.orderid_ = orderid_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasLanguage()) {
+          setLanguage(other.getLanguage());
+        }
+        if (other.hasOrderid()) {
+          setOrderid(other.getOrderid());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 16: {
+                language_ = input.readInt32();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 16
+              case 24: {
+                orderid_ = input.readUInt64();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int language_ ;
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @return Whether the language field is set.
+       */
+      @java.lang.Override
+      public boolean hasLanguage() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @return The language.
+       */
+      @java.lang.Override
+      public int getLanguage() {
+        return language_;
+      }
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @param value The language to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLanguage(int value) {
+
+        language_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 language = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLanguage() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        language_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long orderid_ ;
+      /**
+       * <code>optional uint64 orderid = 3;</code>
+       * @return Whether the orderid field is set.
+       */
+      @java.lang.Override
+      public boolean hasOrderid() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional uint64 orderid = 3;</code>
+       * @return The orderid.
+       */
+      @java.lang.Override
+      public long getOrderid() {
+        return orderid_;
+      }
+      /**
+       * <code>optional uint64 orderid = 3;</code>
+       * @param value The orderid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOrderid(long value) {
+
+        orderid_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 orderid = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOrderid() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        orderid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_PurchaseFinalize_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_PurchaseFinalize_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_PurchaseFinalize_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_PurchaseFinalize_Request>() {
+      @java.lang.Override
+      public CInventory_PurchaseFinalize_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_PurchaseFinalize_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_PurchaseFinalize_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventory_InspectItem_RequestOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventory_InspectItem_Request)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint64 itemdefid = 1;</code>
+     * @return Whether the itemdefid field is set.
+     */
+    boolean hasItemdefid();
+    /**
+     * <code>optional uint64 itemdefid = 1;</code>
+     * @return The itemdefid.
+     */
+    long getItemdefid();
+
+    /**
+     * <code>optional fixed64 itemid = 2;</code>
+     * @return Whether the itemid field is set.
+     */
+    boolean hasItemid();
+    /**
+     * <code>optional fixed64 itemid = 2;</code>
+     * @return The itemid.
+     */
+    long getItemid();
+
+    /**
+     * <code>optional string tags = 3;</code>
+     * @return Whether the tags field is set.
+     */
+    boolean hasTags();
+    /**
+     * <code>optional string tags = 3;</code>
+     * @return The tags.
+     */
+    java.lang.String getTags();
+    /**
+     * <code>optional string tags = 3;</code>
+     * @return The bytes for tags.
+     */
+    com.google.protobuf.ByteString
+        getTagsBytes();
+  }
+  /**
+   * Protobuf type {@code CInventory_InspectItem_Request}
+   */
+  public static final class CInventory_InspectItem_Request extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventory_InspectItem_Request)
+      CInventory_InspectItem_RequestOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventory_InspectItem_Request.class.getName());
+    }
+    // Use CInventory_InspectItem_Request.newBuilder() to construct.
+    private CInventory_InspectItem_Request(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventory_InspectItem_Request() {
+      tags_ = "";
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_InspectItem_Request_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_InspectItem_Request_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int ITEMDEFID_FIELD_NUMBER = 1;
+    private long itemdefid_ = 0L;
+    /**
+     * <code>optional uint64 itemdefid = 1;</code>
+     * @return Whether the itemdefid field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemdefid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint64 itemdefid = 1;</code>
+     * @return The itemdefid.
+     */
+    @java.lang.Override
+    public long getItemdefid() {
+      return itemdefid_;
+    }
+
+    public static final int ITEMID_FIELD_NUMBER = 2;
+    private long itemid_ = 0L;
+    /**
+     * <code>optional fixed64 itemid = 2;</code>
+     * @return Whether the itemid field is set.
+     */
+    @java.lang.Override
+    public boolean hasItemid() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional fixed64 itemid = 2;</code>
+     * @return The itemid.
+     */
+    @java.lang.Override
+    public long getItemid() {
+      return itemid_;
+    }
+
+    public static final int TAGS_FIELD_NUMBER = 3;
+    @SuppressWarnings("serial")
+    private volatile java.lang.Object tags_ = "";
+    /**
+     * <code>optional string tags = 3;</code>
+     * @return Whether the tags field is set.
+     */
+    @java.lang.Override
+    public boolean hasTags() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string tags = 3;</code>
+     * @return The tags.
+     */
+    @java.lang.Override
+    public java.lang.String getTags() {
+      java.lang.Object ref = tags_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          tags_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string tags = 3;</code>
+     * @return The bytes for tags.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTagsBytes() {
+      java.lang.Object ref = tags_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        tags_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt64(1, itemdefid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeFixed64(2, itemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessage.writeString(output, 3, tags_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt64Size(1, itemdefid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(2, itemid_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessage.computeStringSize(3, tags_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request) obj;
+
+      if (hasItemdefid() != other.hasItemdefid()) return false;
+      if (hasItemdefid()) {
+        if (getItemdefid()
+            != other.getItemdefid()) return false;
+      }
+      if (hasItemid() != other.hasItemid()) return false;
+      if (hasItemid()) {
+        if (getItemid()
+            != other.getItemid()) return false;
+      }
+      if (hasTags() != other.hasTags()) return false;
+      if (hasTags()) {
+        if (!getTags()
+            .equals(other.getTags())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasItemdefid()) {
+        hash = (37 * hash) + ITEMDEFID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getItemdefid());
+      }
+      if (hasItemid()) {
+        hash = (37 * hash) + ITEMID_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getItemid());
+      }
+      if (hasTags()) {
+        hash = (37 * hash) + TAGS_FIELD_NUMBER;
+        hash = (53 * hash) + getTags().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventory_InspectItem_Request}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventory_InspectItem_Request)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_RequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_InspectItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_InspectItem_Request_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        itemdefid_ = 0L;
+        itemid_ = 0L;
+        tags_ = "";
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventory_InspectItem_Request_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.itemdefid_ = itemdefid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.itemid_ = itemid_;
+          to_bitField0_ |= 0x00000002;
+        }
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          result.tags_ = tags_;
+          to_bitField0_ |= 0x00000004;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request.getDefaultInstance()) return this;
+        if (other.hasItemdefid()) {
+          setItemdefid(other.getItemdefid());
+        }
+        if (other.hasItemid()) {
+          setItemid(other.getItemid());
+        }
+        if (other.hasTags()) {
+          tags_ = other.tags_;
+          bitField0_ |= 0x00000004;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                itemdefid_ = input.readUInt64();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 17: {
+                itemid_ = input.readFixed64();
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 17
+              case 26: {
+                tags_ = input.readBytes();
+                bitField0_ |= 0x00000004;
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private long itemdefid_ ;
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @return Whether the itemdefid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemdefid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @return The itemdefid.
+       */
+      @java.lang.Override
+      public long getItemdefid() {
+        return itemdefid_;
+      }
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @param value The itemdefid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemdefid(long value) {
+
+        itemdefid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint64 itemdefid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemdefid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        itemdefid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long itemid_ ;
+      /**
+       * <code>optional fixed64 itemid = 2;</code>
+       * @return Whether the itemid field is set.
+       */
+      @java.lang.Override
+      public boolean hasItemid() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional fixed64 itemid = 2;</code>
+       * @return The itemid.
+       */
+      @java.lang.Override
+      public long getItemid() {
+        return itemid_;
+      }
+      /**
+       * <code>optional fixed64 itemid = 2;</code>
+       * @param value The itemid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setItemid(long value) {
+
+        itemid_ = value;
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed64 itemid = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearItemid() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        itemid_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object tags_ = "";
+      /**
+       * <code>optional string tags = 3;</code>
+       * @return Whether the tags field is set.
+       */
+      public boolean hasTags() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string tags = 3;</code>
+       * @return The tags.
+       */
+      public java.lang.String getTags() {
+        java.lang.Object ref = tags_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          if (bs.isValidUtf8()) {
+            tags_ = s;
+          }
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string tags = 3;</code>
+       * @return The bytes for tags.
+       */
+      public com.google.protobuf.ByteString
+          getTagsBytes() {
+        java.lang.Object ref = tags_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          tags_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string tags = 3;</code>
+       * @param value The tags to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTags(
+          java.lang.String value) {
+        if (value == null) { throw new NullPointerException(); }
+        tags_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tags = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTags() {
+        tags_ = getDefaultInstance().getTags();
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string tags = 3;</code>
+       * @param value The bytes for tags to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTagsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) { throw new NullPointerException(); }
+        tags_ = value;
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventory_InspectItem_Request)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventory_InspectItem_Request)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventory_InspectItem_Request>
+        PARSER = new com.google.protobuf.AbstractParser<CInventory_InspectItem_Request>() {
+      @java.lang.Override
+      public CInventory_InspectItem_Request parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventory_InspectItem_Request> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventory_InspectItem_Request> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CInventoryClient_NewItems_NotificationOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CInventoryClient_NewItems_Notification)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    boolean hasAppid();
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    int getAppid();
+
+    /**
+     * <code>optional .CInventory_Response inventory_response = 2;</code>
+     * @return Whether the inventoryResponse field is set.
+     */
+    boolean hasInventoryResponse();
+    /**
+     * <code>optional .CInventory_Response inventory_response = 2;</code>
+     * @return The inventoryResponse.
+     */
+    com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response getInventoryResponse();
+    /**
+     * <code>optional .CInventory_Response inventory_response = 2;</code>
+     */
+    com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ResponseOrBuilder getInventoryResponseOrBuilder();
+  }
+  /**
+   * Protobuf type {@code CInventoryClient_NewItems_Notification}
+   */
+  public static final class CInventoryClient_NewItems_Notification extends
+      com.google.protobuf.GeneratedMessage implements
+      // @@protoc_insertion_point(message_implements:CInventoryClient_NewItems_Notification)
+      CInventoryClient_NewItems_NotificationOrBuilder {
+  private static final long serialVersionUID = 0L;
+    static {
+      com.google.protobuf.RuntimeVersion.validateProtobufGencodeVersion(
+        com.google.protobuf.RuntimeVersion.RuntimeDomain.PUBLIC,
+        /* major= */ 4,
+        /* minor= */ 26,
+        /* patch= */ 1,
+        /* suffix= */ "",
+        CInventoryClient_NewItems_Notification.class.getName());
+    }
+    // Use CInventoryClient_NewItems_Notification.newBuilder() to construct.
+    private CInventoryClient_NewItems_Notification(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+    }
+    private CInventoryClient_NewItems_Notification() {
+    }
+
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventoryClient_NewItems_Notification_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventoryClient_NewItems_Notification_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int APPID_FIELD_NUMBER = 1;
+    private int appid_ = 0;
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return Whether the appid field is set.
+     */
+    @java.lang.Override
+    public boolean hasAppid() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional uint32 appid = 1;</code>
+     * @return The appid.
+     */
+    @java.lang.Override
+    public int getAppid() {
+      return appid_;
+    }
+
+    public static final int INVENTORY_RESPONSE_FIELD_NUMBER = 2;
+    private com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response inventoryResponse_;
+    /**
+     * <code>optional .CInventory_Response inventory_response = 2;</code>
+     * @return Whether the inventoryResponse field is set.
+     */
+    @java.lang.Override
+    public boolean hasInventoryResponse() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional .CInventory_Response inventory_response = 2;</code>
+     * @return The inventoryResponse.
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response getInventoryResponse() {
+      return inventoryResponse_ == null ? com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.getDefaultInstance() : inventoryResponse_;
+    }
+    /**
+     * <code>optional .CInventory_Response inventory_response = 2;</code>
+     */
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ResponseOrBuilder getInventoryResponseOrBuilder() {
+      return inventoryResponse_ == null ? com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.getDefaultInstance() : inventoryResponse_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeUInt32(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeMessage(2, getInventoryResponse());
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, appid_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, getInventoryResponse());
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification)) {
+        return super.equals(obj);
+      }
+      com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification other = (com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification) obj;
+
+      if (hasAppid() != other.hasAppid()) return false;
+      if (hasAppid()) {
+        if (getAppid()
+            != other.getAppid()) return false;
+      }
+      if (hasInventoryResponse() != other.hasInventoryResponse()) return false;
+      if (hasInventoryResponse()) {
+        if (!getInventoryResponse()
+            .equals(other.getInventoryResponse())) return false;
+      }
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasAppid()) {
+        hash = (37 * hash) + APPID_FIELD_NUMBER;
+        hash = (53 * hash) + getAppid();
+      }
+      if (hasInventoryResponse()) {
+        hash = (37 * hash) + INVENTORY_RESPONSE_FIELD_NUMBER;
+        hash = (53 * hash) + getInventoryResponse().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input);
+    }
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessage
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CInventoryClient_NewItems_Notification}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CInventoryClient_NewItems_Notification)
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_NotificationOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventoryClient_NewItems_Notification_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventoryClient_NewItems_Notification_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification.class, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification.Builder.class);
+      }
+
+      // Construct using com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage
+                .alwaysUseFieldBuilders) {
+          getInventoryResponseFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        bitField0_ = 0;
+        appid_ = 0;
+        inventoryResponse_ = null;
+        if (inventoryResponseBuilder_ != null) {
+          inventoryResponseBuilder_.dispose();
+          inventoryResponseBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.internal_static_CInventoryClient_NewItems_Notification_descriptor;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification getDefaultInstanceForType() {
+        return com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification build() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification buildPartial() {
+        com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification result = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification(this);
+        if (bitField0_ != 0) { buildPartial0(result); }
+        onBuilt();
+        return result;
+      }
+
+      private void buildPartial0(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification result) {
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.appid_ = appid_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.inventoryResponse_ = inventoryResponseBuilder_ == null
+              ? inventoryResponse_
+              : inventoryResponseBuilder_.build();
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ |= to_bitField0_;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification) {
+          return mergeFrom((com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification other) {
+        if (other == com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification.getDefaultInstance()) return this;
+        if (other.hasAppid()) {
+          setAppid(other.getAppid());
+        }
+        if (other.hasInventoryResponse()) {
+          mergeInventoryResponse(other.getInventoryResponse());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                appid_ = input.readUInt32();
+                bitField0_ |= 0x00000001;
+                break;
+              } // case 8
+              case 18: {
+                input.readMessage(
+                    getInventoryResponseFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                bitField0_ |= 0x00000002;
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int appid_ ;
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return Whether the appid field is set.
+       */
+      @java.lang.Override
+      public boolean hasAppid() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return The appid.
+       */
+      @java.lang.Override
+      public int getAppid() {
+        return appid_;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @param value The appid to set.
+       * @return This builder for chaining.
+       */
+      public Builder setAppid(int value) {
+
+        appid_ = value;
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 appid = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearAppid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        appid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response inventoryResponse_;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ResponseOrBuilder> inventoryResponseBuilder_;
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       * @return Whether the inventoryResponse field is set.
+       */
+      public boolean hasInventoryResponse() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       * @return The inventoryResponse.
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response getInventoryResponse() {
+        if (inventoryResponseBuilder_ == null) {
+          return inventoryResponse_ == null ? com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.getDefaultInstance() : inventoryResponse_;
+        } else {
+          return inventoryResponseBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       */
+      public Builder setInventoryResponse(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response value) {
+        if (inventoryResponseBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          inventoryResponse_ = value;
+        } else {
+          inventoryResponseBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       */
+      public Builder setInventoryResponse(
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.Builder builderForValue) {
+        if (inventoryResponseBuilder_ == null) {
+          inventoryResponse_ = builderForValue.build();
+        } else {
+          inventoryResponseBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       */
+      public Builder mergeInventoryResponse(com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response value) {
+        if (inventoryResponseBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0) &&
+            inventoryResponse_ != null &&
+            inventoryResponse_ != com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.getDefaultInstance()) {
+            getInventoryResponseBuilder().mergeFrom(value);
+          } else {
+            inventoryResponse_ = value;
+          }
+        } else {
+          inventoryResponseBuilder_.mergeFrom(value);
+        }
+        if (inventoryResponse_ != null) {
+          bitField0_ |= 0x00000002;
+          onChanged();
+        }
+        return this;
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       */
+      public Builder clearInventoryResponse() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        inventoryResponse_ = null;
+        if (inventoryResponseBuilder_ != null) {
+          inventoryResponseBuilder_.dispose();
+          inventoryResponseBuilder_ = null;
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.Builder getInventoryResponseBuilder() {
+        bitField0_ |= 0x00000002;
+        onChanged();
+        return getInventoryResponseFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       */
+      public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ResponseOrBuilder getInventoryResponseOrBuilder() {
+        if (inventoryResponseBuilder_ != null) {
+          return inventoryResponseBuilder_.getMessageOrBuilder();
+        } else {
+          return inventoryResponse_ == null ?
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.getDefaultInstance() : inventoryResponse_;
+        }
+      }
+      /**
+       * <code>optional .CInventory_Response inventory_response = 2;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ResponseOrBuilder> 
+          getInventoryResponseFieldBuilder() {
+        if (inventoryResponseBuilder_ == null) {
+          inventoryResponseBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response.Builder, com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ResponseOrBuilder>(
+                  getInventoryResponse(),
+                  getParentForChildren(),
+                  isClean());
+          inventoryResponse_ = null;
+        }
+        return inventoryResponseBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:CInventoryClient_NewItems_Notification)
+    }
+
+    // @@protoc_insertion_point(class_scope:CInventoryClient_NewItems_Notification)
+    private static final com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification();
+    }
+
+    public static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CInventoryClient_NewItems_Notification>
+        PARSER = new com.google.protobuf.AbstractParser<CInventoryClient_NewItems_Notification>() {
+      @java.lang.Override
+      public CInventoryClient_NewItems_Notification parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<CInventoryClient_NewItems_Notification> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CInventoryClient_NewItems_Notification> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_GetInventory_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_GetInventory_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_ExchangeItem_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_ExchangeItem_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_AddItem_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_AddItem_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_ModifyItems_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_ModifyItems_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_ConsumePlaytime_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_ConsumePlaytime_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_ConsumeItem_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_ConsumeItem_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_DevSetNextDrop_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_DevSetNextDrop_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_SplitItemStack_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_SplitItemStack_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_CombineItemStacks_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_CombineItemStacks_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_GetItemDefMeta_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_GetItemDefMeta_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_GetItemDefMeta_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_GetItemDefMeta_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_GetUserPurchaseInfo_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_GetUserPurchaseInfo_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_GetUserPurchaseInfo_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_GetUserPurchaseInfo_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_PurchaseInit_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_PurchaseInit_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_PurchaseInit_Request_LineItem_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_PurchaseInit_Request_LineItem_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_PurchaseInit_Response_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_PurchaseInit_Response_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_PurchaseFinalize_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_PurchaseFinalize_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventory_InspectItem_Request_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventory_InspectItem_Request_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CInventoryClient_NewItems_Notification_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_CInventoryClient_NewItems_Notification_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n)steammessages_inventory.steamclient.pr" +
+      "oto\032\030steammessages_base.proto\032,steammess" +
+      "ages_unified_base.steamclient.proto\"A\n\037C" +
+      "Inventory_GetInventory_Request\022\r\n\005appid\030" +
+      "\001 \001(\r\022\017\n\007steamid\030\002 \001(\004\"\206\001\n\023CInventory_Re" +
+      "sponse\022\014\n\004etag\030\001 \001(\t\022\026\n\016removeditemids\030\002" +
+      " \003(\004\022\021\n\titem_json\030\003 \001(\t\022\024\n\014itemdef_json\030" +
+      "\004 \001(\t\022\016\n\006ticket\030\005 \001(\014\022\020\n\010replayed\030\006 \001(\010\"" +
+      "\216\001\n\037CInventory_ExchangeItem_Request\022\r\n\005a" +
+      "ppid\030\001 \001(\r\022\017\n\007steamid\030\002 \001(\004\022\027\n\017materials" +
+      "itemid\030\003 \003(\004\022\031\n\021materialsquantity\030\004 \003(\r\022" +
+      "\027\n\017outputitemdefid\030\005 \001(\004\"O\n-CInventory_G" +
+      "etEligiblePromoItemDefIDs_Request\022\r\n\005app" +
+      "id\030\001 \001(\r\022\017\n\007steamid\030\002 \001(\004\"D\n.CInventory_" +
+      "GetEligiblePromoItemDefIDs_Response\022\022\n\ni" +
+      "temdefids\030\001 \003(\004\"\300\001\n\032CInventory_AddItem_R" +
+      "equest\022\r\n\005appid\030\001 \001(\r\022\021\n\titemdefid\030\002 \003(\004" +
+      "\022\025\n\ritempropsjson\030\003 \003(\t\022\017\n\007steamid\030\004 \001(\004" +
+      "\022\016\n\006notify\030\005 \001(\010\022\021\n\trequestid\030\006 \001(\004\022\031\n\021t" +
+      "rade_restriction\030\007 \001(\010\022\032\n\013is_purchase\030\010 " +
+      "\001(\010:\005false\"\345\002\n\036CInventory_ModifyItems_Re" +
+      "quest\022\r\n\005appid\030\001 \001(\r\022\017\n\007steamid\030\002 \001(\004\022C\n" +
+      "\007updates\030\003 \003(\01322.CInventory_ModifyItems_" +
+      "Request.ItemPropertyUpdate\022\021\n\ttimestamp\030" +
+      "\004 \001(\r\032\312\001\n\022ItemPropertyUpdate\022\016\n\006itemid\030\001" +
+      " \001(\004\022\027\n\017remove_property\030\002 \001(\010\022\025\n\rpropert" +
+      "y_name\030\003 \001(\t\022\033\n\023property_value_bool\030\004 \001(" +
+      "\010\022\032\n\022property_value_int\030\005 \001(\003\022\035\n\025propert" +
+      "y_value_string\030\006 \001(\t\022\034\n\024property_value_f" +
+      "loat\030\007 \001(\002\"F\n\"CInventory_ConsumePlaytime" +
+      "_Request\022\r\n\005appid\030\001 \001(\r\022\021\n\titemdefid\030\002 \001" +
+      "(\004\"\210\001\n\036CInventory_ConsumeItem_Request\022\r\n" +
+      "\005appid\030\001 \001(\r\022\016\n\006itemid\030\002 \001(\004\022\020\n\010quantity" +
+      "\030\003 \001(\r\022\021\n\ttimestamp\030\004 \001(\t\022\017\n\007steamid\030\005 \001" +
+      "(\004\022\021\n\trequestid\030\006 \001(\004\"W\n!CInventory_DevS" +
+      "etNextDrop_Request\022\r\n\005appid\030\001 \001(\r\022\021\n\tite" +
+      "mdefid\030\002 \001(\004\022\020\n\010droptime\030\003 \001(\t\"e\n!CInven" +
+      "tory_SplitItemStack_Request\022\r\n\005appid\030\001 \001" +
+      "(\r\022\016\n\006itemid\030\002 \001(\004\022\020\n\010quantity\030\003 \001(\r\022\017\n\007" +
+      "steamid\030\005 \001(\004\"\200\001\n$CInventory_CombineItem" +
+      "Stacks_Request\022\r\n\005appid\030\001 \001(\r\022\022\n\nfromite" +
+      "mid\030\002 \001(\004\022\022\n\ndestitemid\030\003 \001(\004\022\020\n\010quantit" +
+      "y\030\004 \001(\r\022\017\n\007steamid\030\007 \001(\006\"2\n!CInventory_G" +
+      "etItemDefMeta_Request\022\r\n\005appid\030\001 \001(\r\"F\n\"" +
+      "CInventory_GetItemDefMeta_Response\022\020\n\010mo" +
+      "dified\030\001 \001(\r\022\016\n\006digest\030\002 \001(\t\"(\n&CInvento" +
+      "ry_GetUserPurchaseInfo_Request\"<\n\'CInven" +
+      "tory_GetUserPurchaseInfo_Response\022\021\n\tecu" +
+      "rrency\030\001 \001(\005\"\262\001\n\037CInventory_PurchaseInit" +
+      "_Request\022\r\n\005appid\030\001 \001(\r\022\020\n\010language\030\002 \001(" +
+      "\005\022=\n\nline_items\030\003 \003(\0132).CInventory_Purch" +
+      "aseInit_Request.LineItem\032/\n\010LineItem\022\021\n\t" +
+      "itemdefid\030\001 \001(\004\022\020\n\010quantity\030\002 \001(\r\"D\n CIn" +
+      "ventory_PurchaseInit_Response\022\017\n\007orderid" +
+      "\030\001 \001(\004\022\017\n\007transid\030\002 \001(\004\"W\n#CInventory_Pu" +
+      "rchaseFinalize_Request\022\r\n\005appid\030\001 \001(\r\022\020\n" +
+      "\010language\030\002 \001(\005\022\017\n\007orderid\030\003 \001(\004\"Q\n\036CInv" +
+      "entory_InspectItem_Request\022\021\n\titemdefid\030" +
+      "\001 \001(\004\022\016\n\006itemid\030\002 \001(\006\022\014\n\004tags\030\003 \001(\t\"i\n&C" +
+      "InventoryClient_NewItems_Notification\022\r\n" +
+      "\005appid\030\001 \001(\r\0220\n\022inventory_response\030\002 \001(\013" +
+      "2\024.CInventory_Response2\233\n\n\tInventory\022F\n\014" +
+      "GetInventory\022 .CInventory_GetInventory_R" +
+      "equest\032\024.CInventory_Response\022F\n\014Exchange" +
+      "Item\022 .CInventory_ExchangeItem_Request\032\024" +
+      ".CInventory_Response\022}\n\032GetEligiblePromo" +
+      "ItemDefIDs\022..CInventory_GetEligiblePromo" +
+      "ItemDefIDs_Request\032/.CInventory_GetEligi" +
+      "blePromoItemDefIDs_Response\022A\n\014AddPromoI" +
+      "tem\022\033.CInventory_AddItem_Request\032\024.CInve" +
+      "ntory_Response\022H\n\017SafeModifyItems\022\037.CInv" +
+      "entory_ModifyItems_Request\032\024.CInventory_" +
+      "Response\022L\n\017ConsumePlaytime\022#.CInventory" +
+      "_ConsumePlaytime_Request\032\024.CInventory_Re" +
+      "sponse\022D\n\013ConsumeItem\022\037.CInventory_Consu" +
+      "meItem_Request\032\024.CInventory_Response\022D\n\017" +
+      "DevGenerateItem\022\033.CInventory_AddItem_Req" +
+      "uest\032\024.CInventory_Response\022J\n\016DevSetNext" +
+      "Drop\022\".CInventory_DevSetNextDrop_Request" +
+      "\032\024.CInventory_Response\022J\n\016SplitItemStack" +
+      "\022\".CInventory_SplitItemStack_Request\032\024.C" +
+      "Inventory_Response\022P\n\021CombineItemStacks\022" +
+      "%.CInventory_CombineItemStacks_Request\032\024" +
+      ".CInventory_Response\022Y\n\016GetItemDefMeta\022\"" +
+      ".CInventory_GetItemDefMeta_Request\032#.CIn" +
+      "ventory_GetItemDefMeta_Response\022h\n\023GetUs" +
+      "erPurchaseInfo\022\'.CInventory_GetUserPurch" +
+      "aseInfo_Request\032(.CInventory_GetUserPurc" +
+      "haseInfo_Response\022S\n\014PurchaseInit\022 .CInv" +
+      "entory_PurchaseInit_Request\032!.CInventory" +
+      "_PurchaseInit_Response\022N\n\020PurchaseFinali" +
+      "ze\022$.CInventory_PurchaseFinalize_Request" +
+      "\032\024.CInventory_Response\022D\n\013InspectItem\022\037." +
+      "CInventory_InspectItem_Request\032\024.CInvent" +
+      "ory_Response2_\n\017InventoryClient\022F\n\016Notif" +
+      "yNewItems\022\'.CInventoryClient_NewItems_No" +
+      "tification\032\013.NoResponse\032\004\300\265\030\002B\034\n\027com.jav" +
+      "asteam.protobufs\200\001\001"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+          com.javasteam.protobufs.SteammessagesBase.getDescriptor(),
+          com.javasteam.protobufs.SteammessagesUnifiedBaseSteamclient.getDescriptor(),
+        });
+    internal_static_CInventory_GetInventory_Request_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_CInventory_GetInventory_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_GetInventory_Request_descriptor,
+        new java.lang.String[] { "Appid", "Steamid", });
+    internal_static_CInventory_Response_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_CInventory_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_Response_descriptor,
+        new java.lang.String[] { "Etag", "Removeditemids", "ItemJson", "ItemdefJson", "Ticket", "Replayed", });
+    internal_static_CInventory_ExchangeItem_Request_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_CInventory_ExchangeItem_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_ExchangeItem_Request_descriptor,
+        new java.lang.String[] { "Appid", "Steamid", "Materialsitemid", "Materialsquantity", "Outputitemdefid", });
+    internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_GetEligiblePromoItemDefIDs_Request_descriptor,
+        new java.lang.String[] { "Appid", "Steamid", });
+    internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_GetEligiblePromoItemDefIDs_Response_descriptor,
+        new java.lang.String[] { "Itemdefids", });
+    internal_static_CInventory_AddItem_Request_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_CInventory_AddItem_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_AddItem_Request_descriptor,
+        new java.lang.String[] { "Appid", "Itemdefid", "Itempropsjson", "Steamid", "Notify", "Requestid", "TradeRestriction", "IsPurchase", });
+    internal_static_CInventory_ModifyItems_Request_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_CInventory_ModifyItems_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_ModifyItems_Request_descriptor,
+        new java.lang.String[] { "Appid", "Steamid", "Updates", "Timestamp", });
+    internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_descriptor =
+      internal_static_CInventory_ModifyItems_Request_descriptor.getNestedTypes().get(0);
+    internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_ModifyItems_Request_ItemPropertyUpdate_descriptor,
+        new java.lang.String[] { "Itemid", "RemoveProperty", "PropertyName", "PropertyValueBool", "PropertyValueInt", "PropertyValueString", "PropertyValueFloat", });
+    internal_static_CInventory_ConsumePlaytime_Request_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_CInventory_ConsumePlaytime_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_ConsumePlaytime_Request_descriptor,
+        new java.lang.String[] { "Appid", "Itemdefid", });
+    internal_static_CInventory_ConsumeItem_Request_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_CInventory_ConsumeItem_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_ConsumeItem_Request_descriptor,
+        new java.lang.String[] { "Appid", "Itemid", "Quantity", "Timestamp", "Steamid", "Requestid", });
+    internal_static_CInventory_DevSetNextDrop_Request_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_CInventory_DevSetNextDrop_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_DevSetNextDrop_Request_descriptor,
+        new java.lang.String[] { "Appid", "Itemdefid", "Droptime", });
+    internal_static_CInventory_SplitItemStack_Request_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_CInventory_SplitItemStack_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_SplitItemStack_Request_descriptor,
+        new java.lang.String[] { "Appid", "Itemid", "Quantity", "Steamid", });
+    internal_static_CInventory_CombineItemStacks_Request_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_CInventory_CombineItemStacks_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_CombineItemStacks_Request_descriptor,
+        new java.lang.String[] { "Appid", "Fromitemid", "Destitemid", "Quantity", "Steamid", });
+    internal_static_CInventory_GetItemDefMeta_Request_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_CInventory_GetItemDefMeta_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_GetItemDefMeta_Request_descriptor,
+        new java.lang.String[] { "Appid", });
+    internal_static_CInventory_GetItemDefMeta_Response_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_CInventory_GetItemDefMeta_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_GetItemDefMeta_Response_descriptor,
+        new java.lang.String[] { "Modified", "Digest", });
+    internal_static_CInventory_GetUserPurchaseInfo_Request_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_CInventory_GetUserPurchaseInfo_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_GetUserPurchaseInfo_Request_descriptor,
+        new java.lang.String[] { });
+    internal_static_CInventory_GetUserPurchaseInfo_Response_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_CInventory_GetUserPurchaseInfo_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_GetUserPurchaseInfo_Response_descriptor,
+        new java.lang.String[] { "Ecurrency", });
+    internal_static_CInventory_PurchaseInit_Request_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_CInventory_PurchaseInit_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_PurchaseInit_Request_descriptor,
+        new java.lang.String[] { "Appid", "Language", "LineItems", });
+    internal_static_CInventory_PurchaseInit_Request_LineItem_descriptor =
+      internal_static_CInventory_PurchaseInit_Request_descriptor.getNestedTypes().get(0);
+    internal_static_CInventory_PurchaseInit_Request_LineItem_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_PurchaseInit_Request_LineItem_descriptor,
+        new java.lang.String[] { "Itemdefid", "Quantity", });
+    internal_static_CInventory_PurchaseInit_Response_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_CInventory_PurchaseInit_Response_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_PurchaseInit_Response_descriptor,
+        new java.lang.String[] { "Orderid", "Transid", });
+    internal_static_CInventory_PurchaseFinalize_Request_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_CInventory_PurchaseFinalize_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_PurchaseFinalize_Request_descriptor,
+        new java.lang.String[] { "Appid", "Language", "Orderid", });
+    internal_static_CInventory_InspectItem_Request_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_CInventory_InspectItem_Request_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventory_InspectItem_Request_descriptor,
+        new java.lang.String[] { "Itemdefid", "Itemid", "Tags", });
+    internal_static_CInventoryClient_NewItems_Notification_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_CInventoryClient_NewItems_Notification_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+        internal_static_CInventoryClient_NewItems_Notification_descriptor,
+        new java.lang.String[] { "Appid", "InventoryResponse", });
+    descriptor.resolveAllFeaturesImmutable();
+    com.javasteam.protobufs.SteammessagesBase.getDescriptor();
+    com.javasteam.protobufs.SteammessagesUnifiedBaseSteamclient.getDescriptor();
+    com.google.protobuf.ExtensionRegistry registry =
+        com.google.protobuf.ExtensionRegistry.newInstance();
+    registry.add(com.javasteam.protobufs.SteammessagesUnifiedBaseSteamclient.serviceExecutionSite);
+    com.google.protobuf.Descriptors.FileDescriptor
+        .internalUpdateFileDescriptor(descriptor, registry);
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
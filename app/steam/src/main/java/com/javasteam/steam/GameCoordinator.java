@@ -44,7 +44,7 @@ public class GameCoordinator implements HasMessageHandler {
     CMsgGCClient response = msg.getBody(CMsgGCClient.class);
 
     if (response.getAppid() != appId) {
-      log.warn("Received message for appid %s, expected %s".formatted(response.getAppid(), appId));
+      log.warn("Received message for appid {}, expected {}", response.getAppid(), appId);
       return;
     }
 
@@ -87,7 +87,7 @@ public class GameCoordinator implements HasMessageHandler {
         ProtoMessage.of(ProtoMessageHeader.of(EMsg.k_EMsgClientToGC_VALUE, header), proto);
 
     log.debug("Sending message to GC: {}", message);
-    steamClient.sendMessage(message);
+    steamClient.sendMessage(message, emsg);
   }
 
   @Override
@@ -0,0 +1,17 @@
+package com.javasteam.steam;
+
+import lombok.Getter;
+
+/**
+ * Thrown when the channel handshake or the logon fails with a result other than {@link
+ * com.javasteam.steam.common.EResult#OK}.
+ */
+@Getter
+public class LoginException extends RuntimeException {
+  private final int result;
+
+  public LoginException(String message, int result) {
+    super("%s, EResult: %s".formatted(message, result));
+    this.result = result;
+  }
+}
@@ -5,6 +5,7 @@ import static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientL
 import com.google.protobuf.ByteString;
 import com.javasteam.steam.common.EResult;
 import com.javasteam.steam.session.AuthSession;
+import com.javasteam.steam.session.SessionVault;
 import com.javasteam.utils.common.StorageUtils;
 import java.util.function.Consumer;
 import lombok.AccessLevel;
@@ -70,6 +71,30 @@ public class LoginParameters {
         sessionFilePath);
   }
 
+  /**
+   * Log in with the refresh token of an existing auth session, used to resume a session after a
+   * reconnect.
+   */
+  public static LoginParameters withAuthSession(AuthSession authSession) {
+    return new LoginParameters(
+        builder -> {
+          builder.setAccessToken(authSession.getRefreshToken());
+          builder.setMachineId(ByteString.copyFrom(authSession.getMachineId()));
+        },
+        authSession,
+        null);
+  }
+
+  /** Log in with the auth session of the user stored in the vault. */
+  public static LoginParameters withSessionVault(SessionVault vault, String username) {
+    AuthSession authSession =
+        vault
+            .get(username)
+            .orElseThrow(
+                () -> new RuntimeException("No auth session for user %s".formatted(username)));
+    return withAuthSession(authSession);
+  }
+
   public static LoginParameters withLoginKey(String username, String loginKey) {
     return new LoginParameters(
         builder -> {
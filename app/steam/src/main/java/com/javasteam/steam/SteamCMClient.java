@@ -3,6 +3,8 @@ package com.javasteam.steam;
 import static com.javasteam.protobufs.EnumsClientserver.EMsg;
 import static com.javasteam.protobufs.SteammessagesBase.CMsgMulti;
 
+import com.javasteam.handlers.FutureItem;
+import com.javasteam.metrics.MetricsRegistry;
 import com.javasteam.models.AbstractMessage;
 import com.javasteam.models.Header;
 import com.javasteam.models.ProtoHeader;
@@ -14,56 +16,164 @@ import com.javasteam.models.structs.ChannelEncryptResult;
 import com.javasteam.steam.common.EResult;
 import com.javasteam.steam.connection.TCPConnection;
 import com.javasteam.steam.crypto.Crypto;
+import com.javasteam.steam.directory.CMDirectory;
+import com.javasteam.steam.directory.CMServerConnector;
 import com.javasteam.steam.handlers.HasMessageHandler;
+import com.javasteam.steam.scheduler.SendScheduler;
+import com.javasteam.steam.trace.ProtocolTracer;
+import com.javasteam.steam.trace.SessionCapture;
 import com.javasteam.utils.common.ArrayUtils;
 import com.javasteam.utils.common.CryptoUtils;
 import com.javasteam.utils.common.ZipUtils;
+import com.javasteam.utils.journal.MessageJournal;
 import com.javasteam.utils.serializer.Serializer;
-import com.javasteam.webapi.endpoints.steamdirectory.SteamWebDirectoryRESTAPIClient;
 import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
 import java.net.InetAddress;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.security.PublicKey;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Basic Steam CM client that connects to a CM server and listens for messages. Handles the channel
  * encryption process and multi msg processing. The client can be used to send and receive messages
- * from the CM server. Uses the {@link TCPConnection} class for the connection.
+ * from the CM server. Uses the {@link TCPConnection} class for the connection and a shared {@link
+ * CMDirectory} for the server list.
  */
 @Slf4j
 public class SteamCMClient implements HasMessageHandler {
-  private final List<SteamCMServer> cmList;
+  private static final int HANDSHAKE_TIMEOUT_MS = 10000;
+  private static final int MAX_HELD_MESSAGES = 1000;
+  private static final Set<Integer> HANDSHAKE_MESSAGES =
+      Set.of(EMsg.k_EMsgChannelEncryptResponse_VALUE, EMsg.k_EMsgClientLogon_VALUE);
+  private static final AtomicInteger CLIENT_IDS = new AtomicInteger();
+  private final String clientId = "client-" + CLIENT_IDS.incrementAndGet();
+  private final CMDirectory cmDirectory;
   private final TCPConnection socket;
+  private final Deque<HeldMessage> heldMessages = new ArrayDeque<>();
+  private volatile boolean holdingMessages;
+  @Getter private SteamCMServer connectedServer;
+
+  /**
+   * Server tried first on connect, the directory ranking is used after it. A reconnect of {@link
+   * SteamClient} clears it.
+   */
+  @Getter @Setter private volatile SteamCMServer preferredServer;
+
+  @Getter private volatile long connectNanos;
+  @Getter private volatile long handshakeNanos;
   private byte[] sessionKey;
+  @Getter @Setter private SendScheduler sendScheduler;
+  @Setter private PublicKey universeKey = Crypto.getUniversePublicKey();
 
   public SteamCMClient(int threads) {
-    this.cmList =
-        SteamWebDirectoryRESTAPIClient.getInstance().getCMList(0).getResponse().getServerlist();
+    this(threads, CMDirectory.getShared());
+  }
+
+  public SteamCMClient(int threads, CMDirectory cmDirectory) {
+    this.cmDirectory = cmDirectory;
     this.socket = new TCPConnection(threads);
     this.initializeListeners();
   }
 
   public <H extends Header, T> void sendMessage(AbstractMessage<H, T> msg) {
-    this.socket.write(msg);
+    sendMessage(msg, SendScheduler.NO_GC_MSG_TYPE);
+  }
+
+  /**
+   * Send a message, going through the {@link SendScheduler} if one is set.
+   *
+   * @param msg the message to send
+   * @param gcMsgType the game coordinator message type used for rate limiting or {@link
+   *     SendScheduler#NO_GC_MSG_TYPE}
+   */
+  public <H extends Header, T> void sendMessage(AbstractMessage<H, T> msg, int gcMsgType) {
+    if (holdingMessages && !HANDSHAKE_MESSAGES.contains(msg.getEMsg())) {
+      synchronized (heldMessages) {
+        if (heldMessages.size() >= MAX_HELD_MESSAGES) {
+          var dropped = heldMessages.pollFirst();
+          log.warn("Too many messages held while reconnecting, dropped EMsg {}", dropped.emsg());
+        }
+        // Prepared on release, the session of the new connection is known only then
+        heldMessages.addLast(
+            new HeldMessage(
+                msg.getEMsg(),
+                () -> {
+                  prepareMessage(msg);
+                  dispatch(msg, gcMsgType);
+                }));
+      }
+      return;
+    }
+
+    prepareMessage(msg);
+    dispatch(msg, gcMsgType);
+  }
+
+  /** Hook to modify a message before it is sent, also called for replayed messages. */
+  protected <H extends Header, T> void prepareMessage(AbstractMessage<H, T> msg) {}
+
+  private <H extends Header, T> void dispatch(AbstractMessage<H, T> msg, int gcMsgType) {
+    if (sendScheduler == null) {
+      this.socket.write(msg);
+      return;
+    }
+    sendScheduler.submit(msg.getEMsg(), gcMsgType, () -> this.socket.write(msg));
+  }
+
+  /**
+   * Hold outgoing messages until {@link #releaseMessages()} is called. Used while reconnecting,
+   * handshake and logon messages are still sent.
+   */
+  protected void holdMessages() {
+    holdingMessages = true;
+  }
+
+  /** Stop holding messages and replay the held messages in order. */
+  protected void releaseMessages() {
+    holdingMessages = false;
+
+    List<HeldMessage> replay;
+    synchronized (heldMessages) {
+      replay = new ArrayList<>(heldMessages);
+      heldMessages.clear();
+    }
+
+    log.debug("Replaying {} held messages", replay.size());
+    replay.forEach(message -> message.replay().run());
+  }
+
+  protected void discardHeldMessages() {
+    holdingMessages = false;
+    synchronized (heldMessages) {
+      heldMessages.clear();
+    }
   }
 
   private void initializeListeners() {
     this.addMessageListener(EMsg.k_EMsgChannelEncryptRequest_VALUE, this::onChannelEncryptRequest);
-    this.addMessageListener(EMsg.k_EMsgChannelEncryptResult_VALUE, this::onChannelEncryptResult);
     this.addMessageListener(EMsg.k_EMsgMulti_VALUE, this::onMulti);
   }
 
   private void onChannelEncryptRequest(AbstractMessage<MessageHeader, ChannelEncryptRequest> msg) {
     ChannelEncryptRequest request = msg.getBody(ChannelEncryptRequest.class);
 
-    this.sessionKey = CryptoUtils.getRandomBytes(32);
+    this.sessionKey = CryptoUtils.getStrongRandomBytes(32);
     log.trace("Generated session key: {}", Arrays.toString(sessionKey));
 
-    byte[] encryptedSessionKey = Crypto.encryptSessionKey(sessionKey, request.getChallenge());
+    byte[] encryptedSessionKey =
+        Crypto.encryptSessionKey(sessionKey, request.getChallenge(), universeKey);
     int crc = CryptoUtils.calculateCRC32(encryptedSessionKey);
 
     ChannelEncryptResponse res = new ChannelEncryptResponse(1, 128, encryptedSessionKey, crc, 0);
@@ -72,22 +182,18 @@ public class SteamCMClient implements HasMessageHandler {
     this.sendMessage(response);
   }
 
-  private void onChannelEncryptResult(AbstractMessage<MessageHeader, ChannelEncryptResult> msg) {
-    ChannelEncryptResult result = msg.getBody(ChannelEncryptResult.class);
-
-    if (result.getResult() == EResult.OK) {
-      this.socket.setSessionKey(this.sessionKey);
-      log.debug("Channel encryption successful");
-    } else {
-      log.error("Channel encryption failed");
-    }
-  }
-
   private void onMulti(AbstractMessage<ProtoHeader, CMsgMulti> msg) {
     log.debug("Received multi message:\n{}", msg);
+    decodeMulti(msg.getBody(CMsgMulti.class), socket::onRawMessage);
+  }
 
-    CMsgMulti multi = msg.getBody(CMsgMulti.class);
-
+  /**
+   * Decode the messages of a multi message, decompressing the body if needed.
+   *
+   * @param multi the multi message body
+   * @param consumer called with every contained message in order
+   */
+  public static void decodeMulti(CMsgMulti multi, Consumer<byte[]> consumer) {
     byte[] messages = multi.getMessageBody().toByteArray();
     if (multi.getSizeUnzipped() != 0) {
       messages = ZipUtils.unzip(multi.getMessageBody().toByteArray());
@@ -101,30 +207,124 @@ public class SteamCMClient implements HasMessageHandler {
               ArrayUtils.subarray(messages, index, 4), ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN);
 
       byte[] message = ArrayUtils.subarray(messages, index + 4, messageSize);
-      socket.onRawMessage(message);
+      consumer.accept(message);
       index += 4 + messageSize;
     }
   }
 
+  /**
+   * Set the registry that receives the connection metrics, tagged with a generated client name.
+   *
+   * @param registry the registry, {@link MetricsRegistry#noop()} disables the metrics
+   */
+  public void setMetricsRegistry(MetricsRegistry registry) {
+    setMetricsRegistry(registry, clientId);
+  }
+
+  /**
+   * Set the registry that receives the connection metrics. Every metric is tagged with {@code
+   * "client"} so the metrics of clients sharing a registry can be told apart.
+   *
+   * @param registry the registry, {@link MetricsRegistry#noop()} disables the metrics
+   * @param client the value of the client tag, for example the account name
+   */
+  public void setMetricsRegistry(MetricsRegistry registry, String client) {
+    socket.setMetricsRegistry(registry, "client", client);
+  }
+
+  /**
+   * Set the tracer that captures the messages of the connection.
+   *
+   * @param tracer the tracer, {@link ProtocolTracer#disabled()} disables tracing
+   */
+  public void setProtocolTracer(ProtocolTracer tracer) {
+    socket.setTracer(tracer);
+  }
+
+  /**
+   * Set the capture that records every decrypted message of the connection. Multi messages are
+   * captured once, as received, so replaying the capture expands them again.
+   *
+   * @param capture the capture, null stops capturing
+   */
+  public void setSessionCapture(SessionCapture capture) {
+    socket.setCapture(capture);
+  }
+
+  /**
+   * Set the journal that persists every received message, including the messages of multi messages.
+   * A journal can be shared by many clients.
+   *
+   * @param journal the journal, null stops journaling
+   */
+  public void setMessageJournal(MessageJournal journal) {
+    socket.setJournal(journal);
+  }
+
+  /**
+   * Process a decrypted message as if it was received from the CM server. Used to replay captured
+   * sessions with {@link com.javasteam.steam.trace.SessionReplay}.
+   *
+   * @param message the decrypted message bytes
+   */
+  public void onRawMessage(byte[] message) {
+    socket.onRawMessage(message);
+  }
+
   protected void connect() {
     if (socket.isConnected()) {
       log.debug("Tried to connect to Steam CM server while already connected");
       return;
     }
 
-    Collections.shuffle(cmList);
-    for (SteamCMServer server : cmList) {
-      try {
-        socket.setSessionKey(null);
-        socket.connect(server.getHost(), server.getPort());
-        log.info("Connected to Steam CM server: {}", server);
-        break;
-      } catch (Exception e) {
-        log.error("Failed to connect to Steam CM server: {}", server);
-      }
+    connectNanos = 0;
+    handshakeNanos = 0;
+    long start = System.nanoTime();
+    var connected = CMServerConnector.of(cmDirectory).connect(getConnectCandidates());
+    connectNanos = System.nanoTime() - start;
+    start = System.nanoTime();
+
+    // Expect the result before the socket is used, a fast server can answer before connect returns
+    var encryptResult =
+        FutureItem.<Integer, AbstractMessage<MessageHeader, ChannelEncryptResult>>builder(
+                EMsg.k_EMsgChannelEncryptResult_VALUE)
+            .withTimeoutMs((long) HANDSHAKE_TIMEOUT_MS)
+            .build();
+    getMessageHandler().expectMessage(encryptResult);
+    socket.setSessionKey(null);
+    try {
+      socket.connect(connected.socket());
+    } catch (RuntimeException e) {
+      encryptResult.getFuture().cancel(false);
+      throw e;
+    }
+    this.connectedServer = connected.server();
+    log.info("Connected to Steam CM server: {}", connected.server());
+
+    AbstractMessage<MessageHeader, ChannelEncryptResult> msg =
+        getMessageHandler().awaitMessageFuture(encryptResult);
+
+    // Set the key before returning so that the next message is already encrypted
+    ChannelEncryptResult result = msg.getBody(ChannelEncryptResult.class);
+    if (result.getResult() != EResult.OK) {
+      throw new LoginException("Channel encryption failed", result.getResult());
+    }
+    this.socket.setSessionKey(this.sessionKey);
+    handshakeNanos = System.nanoTime() - start;
+    log.debug("Channel encryption successful");
+  }
+
+  private List<SteamCMServer> getConnectCandidates() {
+    List<SteamCMServer> servers = cmDirectory.getServersByLatency();
+    SteamCMServer preferred = this.preferredServer;
+    if (preferred == null) {
+      return servers;
     }
 
-    waitForMessage(EMsg.k_EMsgChannelEncryptResult_VALUE);
+    List<SteamCMServer> candidates = new ArrayList<>(servers.size() + 1);
+    candidates.add(preferred);
+    servers.stream().filter(server -> !server.equals(preferred)).forEach(candidates::add);
+    return candidates;
   }
 
   public boolean isConnected() {
@@ -139,8 +339,57 @@ public class SteamCMClient implements HasMessageHandler {
     socket.disconnect();
   }
 
+  /** Moves the connected server to the end of the directory ranking so a reconnect avoids it. */
+  protected void avoidConnectedServer() {
+    if (connectedServer != null) {
+      cmDirectory.recordFailure(connectedServer);
+    }
+  }
+
+  public void addConnectionLostListener(Runnable listener) {
+    socket.addConnectionLostListener(listener);
+  }
+
+  public long getLastReceivedNanos() {
+    return socket.getLastReceivedNanos();
+  }
+
+  public long getLastSentNanos() {
+    return socket.getLastSentNanos();
+  }
+
+  /**
+   * Send an already serialized message without waiting for the write. The write is submitted to the
+   * send scheduler if one is set, otherwise it runs on the executor. Not sent while messages are
+   * held.
+   *
+   * @param emsg the EMsg of the message
+   * @param data the serialized header and body
+   * @param executor runs the write when there is no send scheduler
+   */
+  protected void sendSerialized(int emsg, byte[] data, Executor executor) {
+    if (holdingMessages) {
+      return;
+    }
+
+    Runnable write =
+        () -> {
+          if (!holdingMessages) {
+            socket.write(emsg, data);
+          }
+        };
+    SendScheduler scheduler = this.sendScheduler;
+    if (scheduler == null) {
+      executor.execute(write);
+    } else {
+      scheduler.submit(emsg, write);
+    }
+  }
+
   @Override
   public HasMessageHandler getInstance() {
     return this.socket;
   }
+
+  private record HeldMessage(int emsg, Runnable replay) {}
 }
@@ -7,38 +7,58 @@ import static com.javasteam.protobufs.SteammessagesClientserver.CMsgClientGamesP
 import static com.javasteam.protobufs.SteammessagesClientserver2.CMsgClientServiceCall;
 import static com.javasteam.protobufs.SteammessagesClientserver2.CMsgClientServiceCallResponse;
 import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientChangeStatus;
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientFriendsList;
 import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientPersonaState;
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientRequestFriendData;
+import static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientHeartBeat;
 import static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogon;
 import static com.javasteam.protobufs.SteammessagesClientserverLogin.CMsgClientLogonResponse;
 
-import com.google.protobuf.GeneratedMessage;
+import com.javasteam.handlers.FutureItem;
+import com.javasteam.metrics.MetricsRegistry;
 import com.javasteam.models.AbstractMessage;
 import com.javasteam.models.HasJob;
 import com.javasteam.models.HasSessionContext;
 import com.javasteam.models.Header;
 import com.javasteam.models.Job;
-import com.javasteam.models.ProtoHeader;
 import com.javasteam.models.headers.ProtoMessageHeader;
 import com.javasteam.models.messages.ProtoMessage;
+import com.javasteam.steam.common.EFriendRelationship;
 import com.javasteam.steam.common.EPersonaState;
 import com.javasteam.steam.common.EResult;
 import com.javasteam.steam.common.SteamProtocol;
+import com.javasteam.steam.connection.ConnectionSupervisor;
+import com.javasteam.steam.connection.HeartbeatService;
+import com.javasteam.steam.connection.ReconnectPolicy;
+import com.javasteam.steam.directory.CMDirectory;
+import com.javasteam.steam.friends.FriendsList;
+import com.javasteam.steam.friends.FriendsSnapshot;
+import com.javasteam.steam.friends.RelationshipChange;
 import com.javasteam.steam.handlers.HasJobHandler;
 import com.javasteam.steam.handlers.HasJobSender;
 import com.javasteam.steam.handlers.JobHandler;
+import com.javasteam.steam.login.LoginTimings;
+import com.javasteam.steam.persona.FriendDataRequester;
+import com.javasteam.steam.persona.PersonaCache;
+import com.javasteam.steam.service.UnifiedServiceClient;
 import com.javasteam.steam.session.AuthSession;
 import com.javasteam.steam.session.AuthSessionService;
+import com.javasteam.steam.session.SessionVault;
 import com.javasteam.steam.session.SteamSessionContext;
+import com.javasteam.steam.session.TokenRefreshScheduler;
 import com.javasteam.steam.steamid.SteamId;
 import com.javasteam.steam.steamid.Type;
 import com.javasteam.steam.steamid.Universe;
 import com.javasteam.utils.serializer.Serializer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -58,24 +78,66 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobSender {
   private static final int DEFAULT_THREADS = 10;
-  private static final int AUTH_SESSION_REFRESH_INTERVAL = 12;
+  private static final long LOGON_TIMEOUT_MS = 30000;
+  private static final Duration PERSONA_COALESCE_WINDOW = Duration.ofMillis(100);
   private SteamSessionContext sessionContext;
   private final ScheduledExecutorService executor;
   private final JobHandler jobHandler;
-  private final AuthSessionService<SteamClient> authSessionService;
+  private final AuthSessionService authSessionService;
+  @Getter private final UnifiedServiceClient serviceClient;
+  private final ConnectionSupervisor supervisor;
+  // Incremented by disconnect, a reconnect started before it must not keep its connection
+  private final AtomicInteger disconnects = new AtomicInteger();
+  private LoginParameters loginParameters;
+  private HeartbeatService.Registration heartbeat;
+  private volatile byte[] heartbeatMessage;
+  private volatile long heartbeatIntervalNanos;
+
+  /** Service that sends the heartbeats of the client, shared by default. */
+  @Setter private volatile HeartbeatService heartbeatService = HeartbeatService.getShared();
+
+  @Getter private final PersonaCache personaCache;
+  @Getter private final FriendsList friendsList = new FriendsList();
+  private final FriendDataRequester friendDataRequester;
+
+  /** Vault that stores the created auth sessions, session files are used if not set. */
+  @Setter private volatile SessionVault sessionVault;
+
+  /** Scheduler that refreshes the access token of the auth session, shared by default. */
+  @Setter
+  private volatile TokenRefreshScheduler tokenRefreshScheduler = TokenRefreshScheduler.getShared();
+
+  private TokenRefreshScheduler.Registration tokenRefresh;
+  private volatile long logonNanos;
 
   public SteamClient(int threads) {
-    super(threads);
+    this(threads, CMDirectory.getShared());
+  }
+
+  public SteamClient(int threads, CMDirectory cmDirectory) {
+    super(threads, cmDirectory);
     this.addMessageListeners();
     this.jobHandler = new JobHandler(threads);
     this.sessionContext = new SteamSessionContext();
-    this.executor = Executors.newSingleThreadScheduledExecutor();
-    this.authSessionService = AuthSessionService.of(this, this::onAuthSession);
-    this.executor.scheduleAtFixedRate(
-        this::refreshAuthSession,
-        AUTH_SESSION_REFRESH_INTERVAL,
-        AUTH_SESSION_REFRESH_INTERVAL,
-        TimeUnit.HOURS);
+    var scheduler = new ScheduledThreadPoolExecutor(1);
+    // Answered service calls cancel their deadline, remove it from the queue right away
+    scheduler.setRemoveOnCancelPolicy(true);
+    this.executor = scheduler;
+    this.personaCache = PersonaCache.of(executor, PERSONA_COALESCE_WINDOW);
+    this.friendDataRequester = FriendDataRequester.of(executor, this::sendFriendDataRequest);
+    this.friendsList.addListener(this::onRelationshipChanges);
+    this.serviceClient = UnifiedServiceClient.of(this, jobHandler::getNextJobId, executor);
+    this.authSessionService = AuthSessionService.of(serviceClient, this::onAuthSession);
+    this.supervisor =
+        ConnectionSupervisor.of(
+            executor,
+            ReconnectPolicy.defaults(),
+            this::resume,
+            this::onConnectionLost,
+            this::closeAbandonedConnection,
+            super::isConnected,
+            this::getLastReceivedNanos);
+    this.addConnectionLostListener(() -> supervisor.onConnectionLost("connection closed"));
   }
 
   public SteamClient() {
@@ -85,80 +147,145 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
   private void addMessageListeners() {
     this.addMessageListener(EMsg.k_EMsgClientLogOnResponse_VALUE, this::onClientLogonResponse);
     this.addMessageListener(EMsg.k_EMsgClientPersonaState_VALUE, this::onClientPersonaState);
+    this.addMessageListener(EMsg.k_EMsgClientFriendsList_VALUE, this::onClientFriendsList);
     this.addMessageListener(EMsg.k_EMsgServiceMethodResponse_VALUE, this::onServiceMethodResponse);
     this.addMessageListener(EMsg.k_EMsgClientServiceCall_VALUE, this::onClientServiceCall);
     this.addMessageListener(
         EMsg.k_EMsgClientServiceCallResponse_VALUE, this::onClientServiceCallResponse);
   }
 
-  private void refreshAuthSession() {
-    sessionContext
-        .getAuthSession()
-        .ifPresent(
-            session -> {
-              log.info("Refreshing auth session for user: {}", session.getUsername());
-              authSessionService.updateAccessToken(session, true);
-            });
+  /**
+   * Sets the auth session of the client and refreshes its access token before it expires, replacing
+   * the refreshes of the previous session.
+   */
+  private void setAuthSession(AuthSession authSession) {
+    sessionContext.setAuthSession(authSession);
+    synchronized (this) {
+      var current = tokenRefresh;
+      if (current != null && !current.isCancelled() && current.getSession() == authSession) {
+        return;
+      }
+
+      if (current != null) {
+        current.cancel();
+      }
+      tokenRefresh =
+          tokenRefreshScheduler.register(
+              authSession, session -> authSessionService.updateAccessTokenAsync(session, true));
+    }
+  }
+
+  private synchronized void cancelTokenRefresh() {
+    if (tokenRefresh != null) {
+      tokenRefresh.cancel();
+      tokenRefresh = null;
+    }
   }
 
   private void onClientPersonaState(
       AbstractMessage<ProtoMessageHeader, CMsgClientPersonaState> msg) {
-    log.info("Received client persona state:\n{}", msg);
+    log.debug("Received client persona state:\n{}", msg);
+    personaCache.apply(msg.getBody(CMsgClientPersonaState.class));
+  }
+
+  private void onClientFriendsList(AbstractMessage<ProtoMessageHeader, CMsgClientFriendsList> msg) {
+    log.debug("Received client friends list:\n{}", msg);
+    friendsList.apply(msg.getBody(CMsgClientFriendsList.class));
+  }
+
+  private void onRelationshipChanges(FriendsSnapshot snapshot, List<RelationshipChange> changes) {
+    for (RelationshipChange change : changes) {
+      if (change.current() == EFriendRelationship.NONE) {
+        personaCache.remove(change.steamId());
+      }
+    }
   }
 
   private void onServiceMethodResponse(AbstractMessage<ProtoMessageHeader, byte[]> msg) {
-    log.info("Received service method response:\n{}", msg);
+    log.debug("Received service method response:\n{}", msg);
     var headerProto = msg.getHeader().getProto();
     var bodyBytes = msg.getBody(bytes -> bytes);
-    this.jobHandler.notifyListeners(headerProto.getJobidTarget(), bodyBytes);
+    // Responses to calls of the service client are not jobs of the job handler
+    if (!this.serviceClient.onResponse(headerProto, bodyBytes)) {
+      this.jobHandler.notifyListeners(headerProto.getJobidTarget(), bodyBytes);
+    }
   }
 
   private void onClientServiceCall(AbstractMessage<ProtoMessageHeader, CMsgClientServiceCall> msg) {
-    log.info("Received client service call:\n{}", msg);
+    log.debug("Received client service call:\n{}", msg);
   }
 
   private void onClientServiceCallResponse(
       AbstractMessage<ProtoMessageHeader, CMsgClientServiceCallResponse> msg) {
-    log.info("Received client service call response:\n{}", msg);
+    log.debug("Received client service call response:\n{}", msg);
   }
 
   public void onClientLogonResponse(
       AbstractMessage<ProtoMessageHeader, CMsgClientLogonResponse> msg) {
-    log.info("Received client logon response:\n{}", msg);
+    log.debug("Received client logon response:\n{}", msg);
 
     CMsgClientLogonResponse response = msg.getBody(CMsgClientLogonResponse.class);
 
     if (response.getEresult() != EResult.OK) {
-      throw new RuntimeException("Failed to log in, EResult: " + response.getEresult());
+      throw new LoginException("Failed to log in", response.getEresult());
     }
 
     this.sessionContext.setSteamId(SteamId.of(response.getClientSuppliedSteamid()));
     this.sessionContext.setSessionId(msg.getHeader().getProto().getClientSessionid());
 
     log.info("Starting client heartbeat, interval: {} seconds", response.getHeartbeatSeconds());
-    int heartbeatInterval = response.getHeartbeatSeconds();
-    this.executor.scheduleAtFixedRate(
-        this::sendHeartbeat,
-        heartbeatInterval,
-        heartbeatInterval,
-        java.util.concurrent.TimeUnit.SECONDS);
+    Duration heartbeatInterval = Duration.ofSeconds(response.getHeartbeatSeconds());
+    // The heartbeat only changes with the session, encode it once per logon
+    var message =
+        ProtoMessage.of(
+            ProtoMessageHeader.of(
+                EMsg.k_EMsgClientHeartBeat_VALUE, CMsgProtoBufHeader.getDefaultInstance()),
+            CMsgClientHeartBeat.getDefaultInstance());
+    prepareMessage(message);
+    this.heartbeatMessage = message.serialize();
+    this.heartbeatIntervalNanos = heartbeatInterval.toNanos();
+    synchronized (this) {
+      cancelHeartbeat();
+      this.heartbeat = heartbeatService.register(heartbeatInterval, this::sendHeartbeat);
+    }
   }
 
-  private void sendHeartbeat() {
-    log.trace("Sending client heartbeat");
+  private synchronized void cancelHeartbeat() {
+    if (heartbeat != null) {
+      heartbeat.cancel();
+      heartbeat = null;
+    }
+  }
 
-    CMsgClientLogonResponse response = CMsgClientLogonResponse.newBuilder().build();
+  private void sendHeartbeat() {
+    if (!super.isConnected()) {
+      // Without a reconnect nothing else cancels the heartbeat of the closed connection
+      if (!supervisor.onConnectionLost("heartbeat could not be sent")
+          && !supervisor.isReconnecting()) {
+        cancelHeartbeat();
+      }
+      return;
+    }
 
-    CMsgProtoBufHeader header = CMsgProtoBufHeader.newBuilder().build();
+    // Other traffic keeps the session alive as well
+    if (System.nanoTime() - getLastSentNanos() < heartbeatIntervalNanos / 2) {
+      log.trace("Skipping client heartbeat, sent other messages recently");
+      return;
+    }
 
-    var message =
-        ProtoMessage.of(ProtoMessageHeader.of(EMsg.k_EMsgClientHeartBeat_VALUE, header), response);
-    this.sendMessage(message);
+    log.trace("Sending client heartbeat");
+    // The wheel thread only decides, the write runs on the send path of this client
+    sendSerialized(EMsg.k_EMsgClientHeartBeat_VALUE, heartbeatMessage, executor);
   }
 
   public void loginAnonymous() {
     preLogin();
+    this.loginParameters = null;
+    logonAnonymous();
+    supervisor.onConnected();
+  }
 
+  private void logonAnonymous() {
     SteamId steamId = SteamId.of(Universe.PUBLIC, Type.ANON_USER);
     this.sessionContext.setSteamId(steamId);
     log.info("Logging in anonymously with Steam ID: {}", steamId);
@@ -176,14 +303,29 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
         ProtoMessage.of(
             ProtoMessageHeader.of(EMsg.k_EMsgClientLogon_VALUE, headerProto), logonMessage);
 
-    log.info("Sending client logon message:\n{}", message);
-    this.sendMessage(message);
-    this.waitForMessage(EMsg.k_EMsgClientLogOnResponse_VALUE);
+    log.debug("Sending client logon message:\n{}", message);
+    sendLogon(message);
   }
 
   public void login(LoginParameters loginParameters) {
+    logonNanos = 0;
     preLogin();
+    this.loginParameters = loginParameters;
+    long start = System.nanoTime();
+    try {
+      logon(loginParameters, true);
+    } finally {
+      logonNanos = System.nanoTime() - start;
+    }
+    supervisor.onConnected();
+  }
 
+  /** Returns the time spent in each phase of the last login, also set when the login failed. */
+  public LoginTimings getLastLoginTimings() {
+    return new LoginTimings(getConnectNanos(), getHandshakeNanos(), logonNanos);
+  }
+
+  private void logon(LoginParameters loginParameters, boolean createAuthSession) {
     int ipv4Address =
         Serializer.unpack(getLocalAddress().getAddress(), ByteBuffer::getInt, ByteOrder.BIG_ENDIAN);
     int obfuscatedAddress = ipv4Address ^ SteamProtocol.ADDRESS_MASK;
@@ -203,7 +345,7 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
       log.info("Parsed previous auth session for user: {}", authSession.getUsername());
       this.sessionContext.setUsername(authSession.getUsername());
       this.sessionContext.setSteamId(SteamId.of(authSession.getSteamIdFromRefreshToken()));
-      this.sessionContext.setAuthSession(authSession);
+      this.setAuthSession(authSession);
 
       if (authSession.isRefreshTokenExpired()) {
         log.warn("Refresh token in auth session of user {} is expired", authSession.getUsername());
@@ -228,15 +370,22 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
             ProtoMessageHeader.of(EMsg.k_EMsgClientLogon_VALUE, headerProto), logonMessage);
 
     log.debug("Sending client logon message:\n{}", message);
-    this.sendMessage(message);
-    this.waitForMessage(EMsg.k_EMsgClientLogOnResponse_VALUE);
+    sendLogon(message);
 
-    if (shouldCreateAuthSession(logonMessage)) {
+    if (createAuthSession && shouldCreateAuthSession(logonMessage)) {
       log.info("Creating auth session for user: {}", logonMessage.getAccountName());
-      authSessionService.createAuthSession(
-          logonMessage.getAccountName(),
-          logonMessage.getPassword(),
-          loginParameters.getAuthSessionSaveFilePath());
+      SessionVault vault = this.sessionVault;
+      if (vault != null) {
+        authSessionService.createAuthSession(
+            logonMessage.getAccountName(),
+            logonMessage.getPassword(),
+            vault.saver(logonMessage.getAccountName()));
+      } else {
+        authSessionService.createAuthSession(
+            logonMessage.getAccountName(),
+            logonMessage.getPassword(),
+            loginParameters.getAuthSessionSaveFilePath());
+      }
     }
   }
 
@@ -248,7 +397,30 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
     var message =
         ProtoMessage.of(ProtoMessageHeader.of(EMsg.k_EMsgClientChangeStatus_VALUE, header), proto);
 
-    log.info("Sending change status message: {}", message);
+    log.debug("Sending change status message: {}", message);
+    sendMessage(message);
+  }
+
+  /**
+   * Request the persona data of users, the responses update the {@link #getPersonaCache() persona
+   * cache}. Requests are batched, see {@link FriendDataRequester}.
+   *
+   * @param steamIds the 64 bit Steam IDs
+   */
+  public void requestFriendData(long... steamIds) {
+    for (long steamId : steamIds) {
+      friendDataRequester.request(steamId);
+    }
+  }
+
+  private void sendFriendDataRequest(CMsgClientRequestFriendData request) {
+    var header = CMsgProtoBufHeader.newBuilder(CMsgProtoBufHeader.getDefaultInstance()).build();
+
+    var message =
+        ProtoMessage.of(
+            ProtoMessageHeader.of(EMsg.k_EMsgClientRequestFriendData_VALUE, header), request);
+
+    log.debug("Sending request friend data message for {} users", request.getFriendsCount());
     sendMessage(message);
   }
 
@@ -268,11 +440,90 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
     var message =
         ProtoMessage.of(ProtoMessageHeader.of(EMsg.k_EMsgClientGamesPlayed_VALUE, header), proto);
 
-    log.info("Sending games played message: {}", message);
+    log.debug("Sending games played message: {}", message);
 
     sendMessage(message);
   }
 
+  /** Sends the logon and waits for the response, which is expected before the logon is sent. */
+  private void sendLogon(ProtoMessage<ProtoMessageHeader, CMsgClientLogon> message) {
+    var logonResponse =
+        FutureItem.<Integer, AbstractMessage<ProtoMessageHeader, CMsgClientLogonResponse>>builder(
+                EMsg.k_EMsgClientLogOnResponse_VALUE)
+            .withTimeoutMs(LOGON_TIMEOUT_MS)
+            .build();
+    getMessageHandler().expectMessage(logonResponse);
+    this.sendMessage(message);
+
+    AbstractMessage<ProtoMessageHeader, CMsgClientLogonResponse> msg =
+        getMessageHandler().awaitMessageFuture(logonResponse);
+
+    int result = msg.getBody(CMsgClientLogonResponse.class).getEresult();
+    if (result != EResult.OK) {
+      throw new LoginException("Failed to log in", result);
+    }
+  }
+
+  @Override
+  public void setMetricsRegistry(MetricsRegistry registry, String client) {
+    super.setMetricsRegistry(registry, client);
+    jobHandler.setMetricsRegistry(registry, "job.listeners", "client", client);
+  }
+
+  /**
+   * Sets the policy used to reconnect when the connection is lost. Use {@link
+   * ReconnectPolicy#disabled()} to turn off automatic reconnects.
+   *
+   * @param reconnectPolicy the reconnect policy
+   */
+  public void setReconnectPolicy(ReconnectPolicy reconnectPolicy) {
+    supervisor.setPolicy(reconnectPolicy);
+  }
+
+  private void onConnectionLost() {
+    cancelHeartbeat();
+    holdMessages();
+  }
+
+  /**
+   * Reconnects to a different CM server and logs on again. Uses the refresh token of the auth
+   * session if there is one, otherwise the parameters of the last login. Held messages are replayed
+   * after the logon. Stops between the steps if the client was disconnected in the meantime.
+   */
+  private void resume() {
+    int generation = disconnects.get();
+    // The preferred server is usually the one that was lost, follow the directory ranking instead
+    setPreferredServer(null);
+    avoidConnectedServer();
+    super.disconnect();
+    this.connect();
+    ensureNotDisconnected(generation);
+
+    if (sessionContext.getAuthSession().isPresent()) {
+      logon(LoginParameters.withAuthSession(sessionContext.getAuthSession().get()), false);
+    } else if (loginParameters != null) {
+      logon(loginParameters, false);
+    } else {
+      logonAnonymous();
+    }
+
+    ensureNotDisconnected(generation);
+    releaseMessages();
+  }
+
+  private void ensureNotDisconnected(int generation) {
+    if (disconnects.get() != generation) {
+      closeAbandonedConnection();
+      throw new IllegalStateException("Client was disconnected while reconnecting");
+    }
+  }
+
+  private void closeAbandonedConnection() {
+    cancelHeartbeat();
+    cancelTokenRefresh();
+    super.disconnect();
+  }
+
   private void preLogin() {
     if (this.isConnected()) {
       throw new RuntimeException("Client is already connected");
@@ -283,7 +534,7 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
 
   private void onAuthSession(AuthSession authSession) {
     log.info("Received auth session: \n{}", authSession);
-    sessionContext.setAuthSession(authSession);
+    setAuthSession(authSession);
   }
 
   private boolean shouldCreateAuthSession(CMsgClientLogon logonMessage) {
@@ -292,22 +543,23 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
         && sessionContext.getAuthSession().isPresent();
   }
 
-  public <H extends ProtoHeader, T extends GeneratedMessage> void sendMessage(
-      ProtoMessage<H, T> msg) {
+  @Override
+  protected <H extends Header, T> void prepareMessage(AbstractMessage<H, T> msg) {
     if (msg.getHeader() instanceof HasSessionContext header) {
       sessionContext
           .getSteamIdOptional()
           .ifPresent(steamId -> header.setSteamId(steamId.toSteamId64()));
       sessionContext.getSessionIdOptional().ifPresent(header::setSessionId);
     }
-    super.sendMessage(msg);
   }
 
   @Override
-  public synchronized <H extends Header & HasJob> Job sendJob(
-      AbstractMessage<H, ?> message, Job job) {
-    job.setSourceJobId(getJobHandler().getNextJobId());
+  public <H extends Header & HasJob> Job sendJob(AbstractMessage<H, ?> message, Job job) {
+    if (job.getSourceJobId() == null || job.getSourceJobId() < 0) {
+      job.setSourceJobId(getJobHandler().getNextJobId());
+    }
     message.getHeader().setJob(job);
+    getJobHandler().onJobSent(job);
     sendMessage(message);
     return job;
   }
@@ -319,8 +571,15 @@ public class SteamClient extends SteamCMClient implements HasJobHandler, HasJobS
 
   @Override
   public void disconnect() {
+    disconnects.incrementAndGet();
+    supervisor.stop();
+    cancelHeartbeat();
+    cancelTokenRefresh();
+    discardHeldMessages();
     super.disconnect();
     this.sessionContext = new SteamSessionContext();
+    this.friendsList.clear();
+    this.serviceClient.failAll(new IllegalStateException("Disconnected"));
   }
 
   @Override
@@ -0,0 +1,49 @@
+package com.javasteam.steam.common;
+
+import java.util.Arrays;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Represents the relationship with another user or a group.
+ *
+ * @see <a
+ *     href=https://partner.steamgames.com/doc/api/ISteamFriends#EFriendRelationship>EFriendRelationship</a>
+ */
+@Getter
+@AllArgsConstructor
+public enum EFriendRelationship {
+  /** A code this library does not know, kept apart from {@link #NONE} so it is not a removal. */
+  UNKNOWN(-1),
+  NONE(0),
+  BLOCKED(1),
+  REQUEST_RECIPIENT(2),
+  FRIEND(3),
+  REQUEST_INITIATOR(4),
+  IGNORED(5),
+  IGNORED_FRIEND(6),
+  SUGGESTED_FRIEND(7),
+  MAX(8);
+
+  private final int code;
+
+  private static final EFriendRelationship[] BY_CODE = byCode();
+
+  /** Returns the relationship of the code, unknown codes are {@link #UNKNOWN}. */
+  public static EFriendRelationship of(int code) {
+    EFriendRelationship relationship = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    return relationship == null ? UNKNOWN : relationship;
+  }
+
+  private static EFriendRelationship[] byCode() {
+    EFriendRelationship[] byCode =
+        new EFriendRelationship
+            [Arrays.stream(values()).mapToInt(EFriendRelationship::getCode).max().orElse(0) + 1];
+    for (EFriendRelationship relationship : values()) {
+      if (relationship.code >= 0) {
+        byCode[relationship.code] = relationship;
+      }
+    }
+    return byCode;
+  }
+}
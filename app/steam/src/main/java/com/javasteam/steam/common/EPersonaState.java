@@ -1,5 +1,6 @@
 package com.javasteam.steam.common;
 
+import java.util.Arrays;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -21,4 +22,22 @@ public enum EPersonaState {
   MAX(7);
 
   private final int code;
+
+  private static final EPersonaState[] BY_CODE = byCode();
+
+  /** Returns the persona state of the code, unknown codes are {@link #OFFLINE}. */
+  public static EPersonaState of(int code) {
+    EPersonaState state = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    return state == null ? OFFLINE : state;
+  }
+
+  private static EPersonaState[] byCode() {
+    EPersonaState[] byCode =
+        new EPersonaState
+            [Arrays.stream(values()).mapToInt(EPersonaState::getCode).max().orElse(0) + 1];
+    for (EPersonaState state : values()) {
+      byCode[state.code] = state;
+    }
+    return byCode;
+  }
 }
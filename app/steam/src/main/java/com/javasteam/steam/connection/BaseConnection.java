@@ -1,22 +1,30 @@
 package com.javasteam.steam.connection;
 
+import com.javasteam.metrics.MetricsRegistry;
 import com.javasteam.models.AbstractMessage;
 import com.javasteam.models.Header;
 import com.javasteam.models.messages.Message;
 import com.javasteam.models.messages.ProtoMessage;
 import com.javasteam.steam.common.SteamProtocol;
 import com.javasteam.steam.crypto.Crypto;
+import com.javasteam.steam.crypto.HmacVerificationException;
 import com.javasteam.steam.handlers.HasMessageHandler;
 import com.javasteam.steam.handlers.MessageHandler;
+import com.javasteam.steam.trace.ProtocolTracer;
+import com.javasteam.steam.trace.SessionCapture;
+import com.javasteam.steam.trace.TraceDirection;
 import com.javasteam.utils.common.ArrayUtils;
+import com.javasteam.utils.journal.MessageJournal;
 import com.javasteam.utils.proto.ProtoUtils;
 import com.javasteam.utils.serializer.Serializer;
 import java.net.InetAddress;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -28,56 +36,93 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class BaseConnection implements HasMessageHandler {
   @Setter private byte[] sessionKey;
+  @Getter private volatile long lastReceivedNanos = System.nanoTime();
+  @Getter private volatile long lastSentNanos = System.nanoTime();
+  private volatile ConnectionMetrics metrics = ConnectionMetrics.disabled();
+  @Setter private volatile ProtocolTracer tracer = ProtocolTracer.disabled();
+  @Setter private volatile SessionCapture capture;
+  @Setter private volatile MessageJournal journal;
   private final MessageHandler listeners;
+  private final List<Runnable> connectionLostListeners = new CopyOnWriteArrayList<>();
   private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
 
   public BaseConnection() {
     this.listeners = new MessageHandler();
-    this.executor.scheduleWithFixedDelay(
-        this::read, 0, 100, java.util.concurrent.TimeUnit.MILLISECONDS);
   }
 
   public BaseConnection(int threads) {
     this.listeners = new MessageHandler(threads);
+  }
+
+  /**
+   * Start the reader. Subclasses call this at the end of their constructor, the reader uses their
+   * fields and would otherwise run before they are initialized.
+   */
+  protected void startReading() {
     this.executor.scheduleWithFixedDelay(
         this::read, 0, 100, java.util.concurrent.TimeUnit.MILLISECONDS);
   }
 
+  /** Reads packets until the connection is closed, instead of one packet per scheduled run. */
   private void read() {
-    if (!isConnected()) {
-      return;
+    while (isConnected()) {
+      try {
+        if (!readPacket()) {
+          return;
+        }
+      } catch (RuntimeException e) {
+        log.error("Failed to process packet", e);
+      }
+    }
+  }
+
+  private boolean readPacket() {
+    Optional<byte[]> header = readData(SteamProtocol.PACKET_HEADER_SIZE);
+    if (header.isEmpty()) {
+      log.warn("Connection closed or EOF received");
+      return false;
+    }
+
+    byte[] headerBytes = header.get();
+    log.trace("Received header: [{}] {}", headerBytes.length, headerBytes);
+
+    int messageLength = Serializer.unpack(headerBytes, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN);
+    int messageMagic =
+        Serializer.unpack(headerBytes, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN, 4);
+    // The stream is out of sync after a bad header, the following packets can not be read
+    if (messageMagic != SteamProtocol.PACKET_MAGIC) {
+      log.error(
+          "Invalid message magic {}, expected {}, closing connection",
+          messageMagic,
+          SteamProtocol.PACKET_MAGIC);
+      abort();
+      return false;
     }
 
-    readData(SteamProtocol.PACKET_HEADER_SIZE)
-        .ifPresentOrElse(
-            headerBytes -> {
-              log.trace("Received header: [{}] {}", headerBytes.length, headerBytes);
-
-              int messageLength =
-                  Serializer.unpack(headerBytes, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN);
-              int messageMagic =
-                  Serializer.unpack(headerBytes, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN, 4);
-              if (messageMagic != SteamProtocol.PACKET_MAGIC) {
-                log.error(
-                    "Invalid message magic %s, expected %s"
-                        .formatted(messageMagic, SteamProtocol.PACKET_MAGIC));
-                throw new RuntimeException(
-                    "Invalid message magic %s, expected %s"
-                        .formatted(messageMagic, SteamProtocol.PACKET_MAGIC));
-              }
-
-              readData(messageLength)
-                  .ifPresent(
-                      bodyData -> {
-                        byte[] packet = ArrayUtils.concat(headerBytes, bodyData);
-                        log.trace("Received message: [{}] {}", packet.length, packet);
-                        this.onRawPacket(packet);
-                      });
-            },
-            () -> log.warn("Connection closed or EOF received"));
+    if (messageLength < 0) {
+      log.error("Invalid message length {}, closing connection", messageLength);
+      abort();
+      return false;
+    }
+
+    Optional<byte[]> body = readData(messageLength);
+    body.ifPresent(
+        bodyData -> {
+          byte[] packet = ArrayUtils.concat(headerBytes, bodyData);
+          log.trace("Received message: [{}] {}", packet.length, packet);
+          this.onRawPacket(packet);
+        });
+    return body.isPresent();
   }
 
   private void onRawPacket(byte[] packet) {
+    this.lastReceivedNanos = System.nanoTime();
+    ConnectionMetrics metrics = this.metrics;
+    if (metrics.isEnabled()) {
+      metrics.getFramesIn().increment();
+      metrics.getBytesIn().increment(packet.length);
+    }
+
     byte[] message =
         ArrayUtils.subarray(
             packet,
@@ -86,34 +131,93 @@ public abstract class BaseConnection implements HasMessageHandler {
 
     if (this.sessionKey != null) {
       byte[] channelHmac = ArrayUtils.subarray(this.sessionKey, 0, 16);
-      byte[] decryptedMessage = Crypto.decryptMessage(message, this.sessionKey, channelHmac);
+      byte[] decryptedMessage = decrypt(metrics, message, channelHmac);
       log.trace("Decrypted message: [{}] {}", decryptedMessage.length, decryptedMessage);
       message = decryptedMessage;
     }
 
+    SessionCapture capture = this.capture;
+    if (capture != null) {
+      int EMsgId = Serializer.unpack(message, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN);
+      capture.record(TraceDirection.IN, ProtoUtils.clearProtoMask(EMsgId), message);
+    }
+
     this.onRawMessage(message);
   }
 
+  private byte[] decrypt(ConnectionMetrics metrics, byte[] message, byte[] channelHmac) {
+    if (!metrics.isEnabled()) {
+      return Crypto.decryptMessage(message, this.sessionKey, channelHmac);
+    }
+
+    long start = System.nanoTime();
+    try {
+      return Crypto.decryptMessage(message, this.sessionKey, channelHmac);
+    } catch (HmacVerificationException e) {
+      metrics.getHmacFailures().increment();
+      throw e;
+    } catch (RuntimeException e) {
+      metrics.getDecryptFailures().increment();
+      throw e;
+    } finally {
+      metrics.getDecryptNanos().record(System.nanoTime() - start);
+    }
+  }
+
   @SuppressWarnings({"unchecked", "rawtypes"})
   public void onRawMessage(byte[] message) {
     int EMsgId = Serializer.unpack(message, ByteBuffer::getInt, ByteOrder.LITTLE_ENDIAN);
     int EMsg = ProtoUtils.clearProtoMask(EMsgId);
-    log.info(
-        "Received message with EMsgId {} ({}): [{} bytes]",
-        EMsg,
-        ProtoUtils.resolveEMsg(EMsg).map(Enum::name).orElse("Unknown"),
-        message.length);
+    ProtocolTracer tracer = this.tracer;
+    if (tracer.isEnabled()) {
+      tracer.trace(TraceDirection.IN, EMsg, message);
+    }
+
+    MessageJournal journal = this.journal;
+    if (journal != null) {
+      journal.append(EMsg, message);
+    }
 
+    ConnectionMetrics metrics = this.metrics;
+    long start = metrics.isEnabled() ? System.nanoTime() : 0;
     AbstractMessage<? extends Header, Object> msg =
         ProtoUtils.isProto(EMsgId)
             ? (AbstractMessage) ProtoMessage.fromBytes(message)
             : (AbstractMessage) Message.fromBytes(message);
 
+    if (!metrics.isEnabled()) {
+      listeners.notifyListeners(EMsg, msg);
+      return;
+    }
+
+    long parsed = System.nanoTime();
     listeners.notifyListeners(EMsg, msg);
+    metrics.getMessagesIn(EMsg).increment();
+    metrics.getParseNanos().record(parsed - start);
+    metrics.getDispatchNanos().record(System.nanoTime() - parsed);
   }
 
   public <H extends Header, T> void write(AbstractMessage<H, T> msg) {
-    byte[] data = msg.serialize();
+    write(msg.getEMsg(), msg.serialize());
+  }
+
+  /**
+   * Write an already serialized message, for messages that are sent often with the same content.
+   *
+   * @param emsg the EMsg of the message
+   * @param data the serialized header and body
+   */
+  public void write(int emsg, byte[] data) {
+    ProtocolTracer tracer = this.tracer;
+    if (tracer.isEnabled()) {
+      tracer.trace(TraceDirection.OUT, emsg, data);
+    }
+
+    SessionCapture capture = this.capture;
+    if (capture != null) {
+      capture.record(TraceDirection.OUT, emsg, data);
+    }
+
     if (this.sessionKey != null) {
       data =
           Crypto.encryptMessage(data, this.sessionKey, ArrayUtils.subarray(this.sessionKey, 0, 16));
@@ -127,6 +231,45 @@ public abstract class BaseConnection implements HasMessageHandler {
             data);
     log.trace("Sending packet: [{}] {}", packet.length, packet);
     writeData(packet);
+    lastSentNanos = System.nanoTime();
+
+    ConnectionMetrics metrics = this.metrics;
+    if (metrics.isEnabled()) {
+      metrics.getFramesOut().increment();
+      metrics.getBytesOut().increment(packet.length);
+    }
+  }
+
+  /**
+   * Set the registry that receives the metrics of this connection and its message handler.
+   *
+   * @param registry the registry, {@link MetricsRegistry#noop()} disables the metrics
+   * @param tags the tags added to every metric of this connection, as key value pairs
+   */
+  public void setMetricsRegistry(MetricsRegistry registry, String... tags) {
+    this.metrics = ConnectionMetrics.of(registry, tags);
+    listeners.setMetricsRegistry(registry, "cm.listeners", tags);
+  }
+
+  /**
+   * Add a listener that is called when the connection is closed by the remote end or fails. Not
+   * called when {@link #disconnect()} is used.
+   *
+   * @param listener the listener
+   */
+  public void addConnectionLostListener(Runnable listener) {
+    connectionLostListeners.add(listener);
+  }
+
+  protected void onConnectionLost() {
+    connectionLostListeners.forEach(
+        listener -> {
+          try {
+            listener.run();
+          } catch (Exception e) {
+            log.error("Error processing connection lost listener", e);
+          }
+        });
   }
 
   public abstract void connect(String host, int port, int timeout);
@@ -141,6 +284,12 @@ public abstract class BaseConnection implements HasMessageHandler {
 
   protected abstract void writeData(byte[] data);
 
+  /**
+   * Close the connection after a protocol error and notify the connection lost listeners, as when
+   * the remote end closes it.
+   */
+  protected abstract void abort();
+
   @Override
   public MessageHandler getMessageHandler() {
     return listeners;
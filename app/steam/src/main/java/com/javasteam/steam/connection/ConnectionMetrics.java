@@ -0,0 +1,74 @@
+package com.javasteam.steam.connection;
+
+import com.javasteam.metrics.Counter;
+import com.javasteam.metrics.Histogram;
+import com.javasteam.metrics.MetricsRegistry;
+import com.javasteam.utils.proto.ProtoUtils;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+
+/**
+ * Metrics of a connection, resolved once from a {@link MetricsRegistry}. Callers check {@link
+ * #isEnabled()} before measuring, so a disabled registry costs a single branch per packet.
+ */
+@Getter
+public class ConnectionMetrics {
+  private static final ConnectionMetrics DISABLED = new ConnectionMetrics(MetricsRegistry.noop());
+  private final MetricsRegistry registry;
+  private final String[] tags;
+  private final boolean enabled;
+  private final Counter framesIn;
+  private final Counter framesOut;
+  private final Counter bytesIn;
+  private final Counter bytesOut;
+  private final Counter decryptFailures;
+  private final Counter hmacFailures;
+  private final Histogram decryptNanos;
+  private final Histogram parseNanos;
+  private final Histogram dispatchNanos;
+  private final Map<Integer, Counter> messagesIn = new ConcurrentHashMap<>();
+
+  private ConnectionMetrics(MetricsRegistry registry, String... tags) {
+    this.registry = registry;
+    this.tags = tags;
+    this.enabled = registry.isEnabled();
+    this.framesIn = registry.counter("cm.frames.in", tags);
+    this.framesOut = registry.counter("cm.frames.out", tags);
+    this.bytesIn = registry.counter("cm.bytes.in", tags);
+    this.bytesOut = registry.counter("cm.bytes.out", tags);
+    this.decryptFailures = registry.counter("cm.decrypt.failures", tags);
+    this.hmacFailures = registry.counter("cm.hmac.failures", tags);
+    this.decryptNanos = registry.histogram("cm.decrypt.nanos", tags);
+    this.parseNanos = registry.histogram("cm.parse.nanos", tags);
+    this.dispatchNanos = registry.histogram("cm.dispatch.nanos", tags);
+  }
+
+  /**
+   * Resolve the metrics of a connection.
+   *
+   * @param registry the registry
+   * @param tags the tags added to every metric of the connection, as key value pairs
+   * @return the metrics
+   */
+  public static ConnectionMetrics of(MetricsRegistry registry, String... tags) {
+    return registry.isEnabled() ? new ConnectionMetrics(registry, tags) : DISABLED;
+  }
+
+  public static ConnectionMetrics disabled() {
+    return DISABLED;
+  }
+
+  /** Returns the counter of received messages with the given EMsg. */
+  public Counter getMessagesIn(int emsg) {
+    return messagesIn.computeIfAbsent(
+        emsg,
+        id ->
+            registry.counter(
+                "cm.messages.in",
+                MetricsRegistry.tags(
+                    tags,
+                    "emsg",
+                    ProtoUtils.resolveEMsg(id).map(Enum::name).orElse(String.valueOf(id)))));
+  }
+}
@@ -0,0 +1,192 @@
+package com.javasteam.steam.connection;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Supervises the lifecycle of a logged in connection. A watchdog detects a lost connection from a
+ * closed socket or an optional idle timeout. When the connection is lost the supervisor reconnects
+ * using the configured {@link ReconnectPolicy}, retrying with a jittered exponential backoff until
+ * the reconnect action succeeds. The blocking reconnect runs on a thread of its own, so it does not
+ * hold up the other tasks of the client's scheduler.
+ */
+@Slf4j
+public class ConnectionSupervisor {
+  private static final long WATCHDOG_INTERVAL_MS = 1000;
+  private static final long LIMITER_RETRY_MS = 500;
+  private static final ExecutorService RECONNECT_EXECUTOR =
+      Executors.newCachedThreadPool(Thread.ofPlatform().name("reconnect-", 0).daemon().factory());
+  private final ScheduledExecutorService executor;
+  private final Runnable reconnect;
+  private final Runnable onConnectionLost;
+  private final Runnable abandon;
+  private final BooleanSupplier isAlive;
+  private final LongSupplier lastReceivedNanos;
+  private final AtomicReference<State> state = new AtomicReference<>(State.IDLE);
+  @Getter @Setter private ReconnectPolicy policy;
+  private ScheduledFuture<?> watchdog;
+
+  private ConnectionSupervisor(
+      ScheduledExecutorService executor,
+      ReconnectPolicy policy,
+      Runnable reconnect,
+      Runnable onConnectionLost,
+      Runnable abandon,
+      BooleanSupplier isAlive,
+      LongSupplier lastReceivedNanos) {
+    this.executor = executor;
+    this.policy = policy;
+    this.reconnect = reconnect;
+    this.onConnectionLost = onConnectionLost;
+    this.abandon = abandon;
+    this.isAlive = isAlive;
+    this.lastReceivedNanos = lastReceivedNanos;
+  }
+
+  /**
+   * Create a supervisor.
+   *
+   * @param executor executor used for the watchdog and to schedule the reconnect attempts
+   * @param policy the reconnect policy
+   * @param reconnect action that reconnects and logs on again, throws on failure
+   * @param onConnectionLost action that runs once when the connection is detected as lost
+   * @param abandon action that closes the connection of a reconnect that finished after {@link
+   *     #stop()}
+   * @param isAlive returns false when the socket is closed
+   * @param lastReceivedNanos returns the {@link System#nanoTime()} of the last received packet
+   * @return the supervisor
+   */
+  public static ConnectionSupervisor of(
+      ScheduledExecutorService executor,
+      ReconnectPolicy policy,
+      Runnable reconnect,
+      Runnable onConnectionLost,
+      Runnable abandon,
+      BooleanSupplier isAlive,
+      LongSupplier lastReceivedNanos) {
+    return new ConnectionSupervisor(
+        executor, policy, reconnect, onConnectionLost, abandon, isAlive, lastReceivedNanos);
+  }
+
+  /** Starts supervising, called after a successful logon. */
+  public synchronized void onConnected() {
+    state.set(State.CONNECTED);
+    if (watchdog == null) {
+      watchdog =
+          executor.scheduleWithFixedDelay(
+              this::check, WATCHDOG_INTERVAL_MS, WATCHDOG_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /** Stops supervising, called when the client disconnects on purpose. */
+  public synchronized void stop() {
+    state.set(State.IDLE);
+    if (watchdog != null) {
+      watchdog.cancel(false);
+      watchdog = null;
+    }
+  }
+
+  /**
+   * Reports a lost connection. Starts reconnecting if the connection was being supervised.
+   *
+   * @param reason the reason used for logging
+   * @return true if this call started reconnecting
+   */
+  public boolean onConnectionLost(String reason) {
+    if (!policy.isEnabled() || !state.compareAndSet(State.CONNECTED, State.RECONNECTING)) {
+      return false;
+    }
+
+    log.warn("Connection lost ({}), reconnecting", reason);
+    try {
+      onConnectionLost.run();
+    } catch (Exception e) {
+      log.error("Failed to handle lost connection", e);
+    }
+    scheduleAttempt(0);
+    return true;
+  }
+
+  public boolean isReconnecting() {
+    return state.get() == State.RECONNECTING;
+  }
+
+  private void check() {
+    if (state.get() != State.CONNECTED) {
+      return;
+    }
+
+    if (!isAlive.getAsBoolean()) {
+      onConnectionLost("socket closed");
+      return;
+    }
+
+    long idleTimeoutNanos = policy.getIdleTimeout().toNanos();
+    if (idleTimeoutNanos > 0
+        && System.nanoTime() - lastReceivedNanos.getAsLong() > idleTimeoutNanos) {
+      onConnectionLost("no messages received for %s".formatted(policy.getIdleTimeout()));
+    }
+  }
+
+  private void scheduleAttempt(int attempt) {
+    long delay = policy.getBackoffMillis(attempt);
+    log.debug("Reconnect attempt {} in {} ms", attempt + 1, delay);
+    executor.schedule(
+        () -> RECONNECT_EXECUTOR.execute(() -> attempt(attempt)), delay, TimeUnit.MILLISECONDS);
+  }
+
+  private void attempt(int attempt) {
+    if (state.get() != State.RECONNECTING) {
+      return;
+    }
+
+    if (!policy.getLimiter().tryAcquire()) {
+      long delay = LIMITER_RETRY_MS + ThreadLocalRandom.current().nextLong(LIMITER_RETRY_MS);
+      executor.schedule(
+          () -> RECONNECT_EXECUTOR.execute(() -> attempt(attempt)), delay, TimeUnit.MILLISECONDS);
+      return;
+    }
+
+    try {
+      reconnect.run();
+      if (state.compareAndSet(State.RECONNECTING, State.CONNECTED)) {
+        log.info("Reconnected after {} attempt(s)", attempt + 1);
+      } else {
+        // Stopped while reconnecting, nothing supervises the new connection
+        log.info("Supervisor stopped during reconnect, closing the new connection");
+        abandon.run();
+      }
+    } catch (Exception e) {
+      if (state.get() != State.RECONNECTING) {
+        log.debug("Reconnect attempt {} stopped: {}", attempt + 1, e.getMessage());
+        return;
+      }
+      log.warn("Reconnect attempt {} failed: {}", attempt + 1, e.getMessage());
+      if (policy.isExhausted(attempt + 1)) {
+        log.error("Giving up reconnecting after {} attempts", attempt + 1);
+        state.compareAndSet(State.RECONNECTING, State.IDLE);
+      } else {
+        scheduleAttempt(attempt + 1);
+      }
+    } finally {
+      policy.getLimiter().release();
+    }
+  }
+
+  private enum State {
+    IDLE,
+    CONNECTED,
+    RECONNECTING
+  }
+}
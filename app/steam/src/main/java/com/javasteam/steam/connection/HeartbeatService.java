@@ -0,0 +1,159 @@
+package com.javasteam.steam.connection;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the heartbeats of many clients from one thread using a hashed timing wheel. Every tick the
+ * heartbeats that are due in the current slot are sent as a batch, so the cost of a tick does not
+ * depend on the number of registered clients. The first heartbeat of a client is delayed by a
+ * random part of its interval, so clients that logged in together do not beat together.
+ *
+ * <p>Only the wheel thread touches the slots, registrations are handed over through a queue and
+ * placed on the next tick. Heartbeats run on the wheel thread and must not block, a heartbeat that
+ * writes to a socket hands the write to another thread.
+ */
+@Slf4j
+public class HeartbeatService implements AutoCloseable {
+  public static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private final long tickNanos;
+  private final Queue<Registration>[] wheel;
+  private final Queue<Registration> added = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger registered = new AtomicInteger();
+  private final ScheduledThreadPoolExecutor executor;
+  // Only accessed by the wheel thread
+  private long tick;
+
+  @SuppressWarnings("unchecked")
+  private HeartbeatService(Duration tick, int wheelSize) {
+    this.tickNanos = tick.toNanos();
+    this.wheel = new Queue[wheelSize];
+    for (int i = 0; i < wheelSize; i++) {
+      wheel[i] = new ArrayDeque<>();
+    }
+    this.executor =
+        new ScheduledThreadPoolExecutor(
+            1, Thread.ofPlatform().name("heartbeat-wheel").daemon().factory());
+    this.executor.scheduleAtFixedRate(this::onTick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /** Returns the service shared by all clients, its thread is created on first use. */
+  public static HeartbeatService getShared() {
+    return Shared.INSTANCE;
+  }
+
+  /**
+   * Create a service with its own wheel thread.
+   *
+   * @param tick the resolution of the heartbeat intervals
+   * @param wheelSize the number of slots, intervals up to {@code tick * wheelSize} need no extra
+   *     rounds
+   * @return the service
+   */
+  public static HeartbeatService of(Duration tick, int wheelSize) {
+    return new HeartbeatService(tick, wheelSize);
+  }
+
+  /**
+   * Call the heartbeat every interval until the registration is cancelled.
+   *
+   * @param interval the heartbeat interval
+   * @param heartbeat sends the heartbeat, runs on the wheel thread
+   * @return the registration
+   */
+  public Registration register(Duration interval, Runnable heartbeat) {
+    long intervalTicks = Math.max(1, interval.toNanos() / tickNanos);
+    var registration =
+        new Registration(
+            heartbeat, intervalTicks, 1 + ThreadLocalRandom.current().nextLong(intervalTicks));
+    registered.incrementAndGet();
+    added.add(registration);
+    return registration;
+  }
+
+  public int getRegisteredCount() {
+    return registered.get();
+  }
+
+  /** Stop the wheel thread, no more heartbeats are sent. */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+
+  private void onTick() {
+    long now = ++tick;
+    Registration registration;
+    while ((registration = added.poll()) != null) {
+      registration.dueTick = now + registration.firstDelayTicks;
+      schedule(registration);
+    }
+
+    Queue<Registration> slot = wheel[(int) (now % wheel.length)];
+    // Heartbeats that are rescheduled into this slot are only due in a later round
+    for (int i = slot.size(); i > 0; i--) {
+      registration = slot.poll();
+      if (registration.cancelled) {
+        continue;
+      }
+
+      if (registration.dueTick > now) {
+        slot.add(registration);
+        continue;
+      }
+
+      try {
+        registration.heartbeat.run();
+      } catch (RuntimeException e) {
+        log.error("Error sending heartbeat", e);
+      }
+      registration.dueTick = now + registration.intervalTicks;
+      schedule(registration);
+    }
+  }
+
+  private void schedule(Registration registration) {
+    wheel[(int) (registration.dueTick % wheel.length)].add(registration);
+  }
+
+  /** A registered heartbeat. */
+  public final class Registration {
+    private final Runnable heartbeat;
+    private final long intervalTicks;
+    private final long firstDelayTicks;
+    private long dueTick;
+    private volatile boolean cancelled;
+
+    private Registration(Runnable heartbeat, long intervalTicks, long firstDelayTicks) {
+      this.heartbeat = heartbeat;
+      this.intervalTicks = intervalTicks;
+      this.firstDelayTicks = firstDelayTicks;
+    }
+
+    /** Stop the heartbeat, it is removed from the wheel when its slot is reached. */
+    public synchronized void cancel() {
+      if (!cancelled) {
+        cancelled = true;
+        registered.decrementAndGet();
+      }
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+
+  private static class Shared {
+    private static final HeartbeatService INSTANCE =
+        new HeartbeatService(DEFAULT_TICK, DEFAULT_WHEEL_SIZE);
+  }
+}
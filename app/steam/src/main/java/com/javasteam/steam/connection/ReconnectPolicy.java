@@ -0,0 +1,53 @@
+package com.javasteam.steam.connection;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration for the {@link ConnectionSupervisor}. Reconnect attempts are delayed with an
+ * exponential backoff using full jitter, so reconnects of a client pool are spread out. The number
+ * of reconnects running at the same time is limited by a semaphore that is shared by all clients in
+ * the process unless configured otherwise.
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class ReconnectPolicy {
+  public static final int DEFAULT_GLOBAL_CONCURRENCY = 8;
+  private static final Semaphore SHARED_LIMITER = new Semaphore(DEFAULT_GLOBAL_CONCURRENCY);
+
+  @Builder.Default private final boolean enabled = true;
+  @Builder.Default private final Duration initialBackoff = Duration.ofSeconds(1);
+  @Builder.Default private final Duration maxBackoff = Duration.ofMinutes(2);
+  @Builder.Default private final int maxAttempts = 0;
+  @Builder.Default private final Duration idleTimeout = Duration.ZERO;
+  @Builder.Default private final Semaphore limiter = SHARED_LIMITER;
+
+  public static ReconnectPolicy defaults() {
+    return ReconnectPolicy.builder().build();
+  }
+
+  public static ReconnectPolicy disabled() {
+    return ReconnectPolicy.builder().withEnabled(false).build();
+  }
+
+  /**
+   * Returns the delay before the given attempt, a random value between zero and the exponential
+   * backoff of the attempt.
+   *
+   * @param attempt the attempt, starting from 0
+   * @return the delay in milliseconds
+   */
+  public long getBackoffMillis(int attempt) {
+    long backoff = initialBackoff.toMillis() << Math.min(attempt, 20);
+    long capped = Math.min(maxBackoff.toMillis(), backoff);
+    return ThreadLocalRandom.current().nextLong(capped + 1);
+  }
+
+  /** Returns true if the given number of failed attempts means the supervisor should give up. */
+  public boolean isExhausted(int attempts) {
+    return maxAttempts > 0 && attempts >= maxAttempts;
+  }
+}
@@ -3,6 +3,7 @@ package com.javasteam.steam.connection;
 import com.javasteam.models.HasReadWriteLock;
 import java.io.*;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.util.Optional;
@@ -18,13 +19,16 @@ public class TCPConnection extends BaseConnection implements HasReadWriteLock {
   private ConnectionContext context;
   private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
   private static final int DEFAULT_SOCKET_TIMEOUT = 0;
+  private static final int DEFAULT_CONNECT_TIMEOUT = 5000;
 
   public TCPConnection() {
     super();
+    startReading();
   }
 
   public TCPConnection(int threads) {
     super(threads);
+    startReading();
   }
 
   public InetAddress getLocalAddress() {
@@ -46,7 +50,8 @@ public class TCPConnection extends BaseConnection implements HasReadWriteLock {
     withWriteLock(
         () -> {
           try {
-            Socket socket = new Socket(host, port);
+            Socket socket = new Socket();
+            socket.connect(new InetSocketAddress(host, port), DEFAULT_CONNECT_TIMEOUT);
             socket.setSoTimeout(timeout);
             context = ConnectionContext.create(socket);
           } catch (IOException e) {
@@ -55,6 +60,30 @@ public class TCPConnection extends BaseConnection implements HasReadWriteLock {
         });
   }
 
+  /**
+   * Use an already connected socket for this connection. The socket is closed if it can not be
+   * used.
+   *
+   * @param socket the connected socket
+   * @throws RuntimeException if the socket can not be used
+   */
+  public void connect(Socket socket) {
+    withWriteLock(
+        () -> {
+          try {
+            socket.setSoTimeout(DEFAULT_SOCKET_TIMEOUT);
+            context = ConnectionContext.create(socket);
+          } catch (IOException e) {
+            try {
+              socket.close();
+            } catch (IOException closeException) {
+              e.addSuppressed(closeException);
+            }
+            throw new RuntimeException("Failed to use connected socket %s".formatted(socket), e);
+          }
+        });
+  }
+
   @Override
   public void disconnect() {
     withWriteLock(
@@ -89,6 +118,7 @@ public class TCPConnection extends BaseConnection implements HasReadWriteLock {
               } catch (SocketException | EOFException e) {
                 connectionContext.close();
                 log.warn("Connection closed or EOF received");
+                onContextLost(connectionContext);
                 return null;
               } catch (IOException e) {
                 log.error("Failed to read data", e);
@@ -107,10 +137,29 @@ public class TCPConnection extends BaseConnection implements HasReadWriteLock {
                 connectionContext.getWriter().flush();
               } catch (IOException e) {
                 log.error("Failed to write data", e);
+                connectionContext.close();
+                onContextLost(connectionContext);
               }
             });
   }
 
+  @Override
+  protected void abort() {
+    getContext()
+        .ifPresent(
+            connectionContext -> {
+              connectionContext.close();
+              onContextLost(connectionContext);
+            });
+  }
+
+  /** Notifies connection lost listeners if the lost context is still the current one. */
+  private void onContextLost(ConnectionContext connectionContext) {
+    if (withReadLock(() -> context == connectionContext)) {
+      onConnectionLost();
+    }
+  }
+
   @Override
   public ReentrantReadWriteLock getLock() {
     return lock;
@@ -25,9 +25,11 @@ public class Crypto {
           + "gdTckPv+T1JzZsuVcNfFjrocejN1oWI0Rrtgt4Bo+hOneoo3S57G9F1fOpn5nsQ6"
           + "6WOiu4gZKODnFMBCiQIBEQ==";
 
+  private static final PublicKey UNIVERSE_PUBLIC_KEY = parsePublicKey(UNIVERSE_KEY);
   private static final int BLOCK_SIZE = 16; // Block size for AES
   private static final int HMAC_HASH_SIZE = 13; // Size of the HMAC hash
   private static final int PREFIX_SIZE = 3; // Size of the prefix
+  private static final String SESSION_KEY_CIPHER = "RSA/ECB/OAEPWithSHA-1AndMGF1Padding";
 
   /**
    * Decrypt message using AES/ECB/NoPadding, AES/CBC/PKCS5Padding and HMAC SHA-1
@@ -57,7 +59,7 @@ public class Crypto {
             hmacSecret);
 
     if (!ArrayUtils.equals(hmacHash, iv, 0, HMAC_HASH_SIZE)) {
-      throw new RuntimeException("Failed to verify HMAC");
+      throw new HmacVerificationException("Failed to verify HMAC");
     }
 
     return message;
@@ -92,19 +94,25 @@ public class Crypto {
    * @return the encrypted session key
    */
   public static byte[] encryptSessionKey(byte[] sessionKey, byte[] hmacSecret) {
-    try {
-      KeyFactory keyFactory = KeyFactory.getInstance("RSA");
-      byte[] keyBytes = java.util.Base64.getDecoder().decode(Crypto.UNIVERSE_KEY);
-      X509EncodedKeySpec keySpec = new X509EncodedKeySpec(keyBytes);
-      PublicKey publicKey = keyFactory.generatePublic(keySpec);
+    return encryptSessionKey(sessionKey, hmacSecret, UNIVERSE_PUBLIC_KEY);
+  }
 
-      Cipher cipher = Cipher.getInstance("RSA/ECB/OAEPWithSHA-1AndMGF1Padding");
+  /**
+   * Encrypt session key using RSA/ECB/OAEPWithSHA-1AndMGF1Padding with the given public key
+   *
+   * @param hmacSecret the HMAC to use
+   * @param publicKey the public key of the universe
+   * @return the encrypted session key
+   */
+  public static byte[] encryptSessionKey(
+      byte[] sessionKey, byte[] hmacSecret, PublicKey publicKey) {
+    try {
+      Cipher cipher = Cipher.getInstance(SESSION_KEY_CIPHER);
       cipher.init(Cipher.ENCRYPT_MODE, publicKey);
 
       return cipher.doFinal(ArrayUtils.concat(sessionKey, hmacSecret));
     } catch (NoSuchAlgorithmException
         | NoSuchPaddingException
-        | InvalidKeySpecException
         | InvalidKeyException
         | BadPaddingException
         | IllegalBlockSizeException e) {
@@ -112,6 +120,43 @@ public class Crypto {
     }
   }
 
+  /**
+   * Decrypt a session key encrypted with {@link #encryptSessionKey(byte[], byte[], PublicKey)},
+   * used by servers that hold the private key of the universe
+   *
+   * @param encryptedSessionKey the encrypted session key
+   * @param privateKey the private key of the universe
+   * @return the session key followed by the HMAC secret
+   */
+  public static byte[] decryptSessionKey(byte[] encryptedSessionKey, PrivateKey privateKey) {
+    try {
+      Cipher cipher = Cipher.getInstance(SESSION_KEY_CIPHER);
+      cipher.init(Cipher.DECRYPT_MODE, privateKey);
+
+      return cipher.doFinal(encryptedSessionKey);
+    } catch (NoSuchAlgorithmException
+        | NoSuchPaddingException
+        | InvalidKeyException
+        | BadPaddingException
+        | IllegalBlockSizeException e) {
+      throw new RuntimeException("Failed to decrypt session key", e);
+    }
+  }
+
+  /** Returns the public key of the public Steam universe. */
+  public static PublicKey getUniversePublicKey() {
+    return UNIVERSE_PUBLIC_KEY;
+  }
+
+  private static PublicKey parsePublicKey(String key) {
+    try {
+      byte[] keyBytes = java.util.Base64.getDecoder().decode(key);
+      return KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(keyBytes));
+    } catch (NoSuchAlgorithmException | InvalidKeySpecException e) {
+      throw new RuntimeException("Failed to parse public key", e);
+    }
+  }
+
   /**
    * Create an RSA public key from the given modulus and exponent
    *
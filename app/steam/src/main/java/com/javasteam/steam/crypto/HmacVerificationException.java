@@ -0,0 +1,11 @@
+package com.javasteam.steam.crypto;
+
+/**
+ * Thrown when a message decrypts but its HMAC does not match, the message was tampered with or
+ * encrypted with a different session key.
+ */
+public class HmacVerificationException extends RuntimeException {
+  public HmacVerificationException(String message) {
+    super(message);
+  }
+}
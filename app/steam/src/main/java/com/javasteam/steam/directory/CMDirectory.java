@@ -0,0 +1,272 @@
+package com.javasteam.steam.directory;
+
+import com.javasteam.utils.common.StorageUtils;
+import com.javasteam.webapi.endpoints.steamdirectory.SteamWebDirectoryRESTAPIClient;
+import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Shared directory of Steam CM servers. The server list is fetched from the Steam Web API once and
+ * cached for a TTL, so a pool of clients only does one fetch. The list is also written to a
+ * snapshot file that is used on a cold start, a stale snapshot is served while the list is
+ * refreshed in the background.
+ *
+ * <p>After a fetch or loading the snapshot the directory probes the connect latency of the servers
+ * in parallel, {@link #getServersByLatency()} returns the fastest servers first.
+ */
+@Slf4j
+public class CMDirectory {
+  public static final Duration DEFAULT_TTL = Duration.ofMinutes(30);
+  public static final int DEFAULT_PROBE_COUNT = 20;
+  public static final int DEFAULT_PROBE_TIMEOUT_MS = 2000;
+  private static final CMDirectory SHARED =
+      new CMDirectory(
+          CMDirectory::fetchFromWebAPI, getDefaultSnapshotPath(), DEFAULT_TTL, DEFAULT_PROBE_COUNT);
+
+  private final Supplier<List<SteamCMServer>> fetcher;
+  private final Path snapshotPath;
+  private final Duration ttl;
+  private final int probeCount;
+  private final Map<SteamCMServer, Long> latencies = new ConcurrentHashMap<>();
+  private final ReentrantLock fetchLock = new ReentrantLock();
+  private final AtomicBoolean refreshing = new AtomicBoolean(false);
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private volatile List<SteamCMServer> servers = List.of();
+  private volatile long fetchedAtMillis;
+
+  private CMDirectory(
+      Supplier<List<SteamCMServer>> fetcher, Path snapshotPath, Duration ttl, int probeCount) {
+    this.fetcher = fetcher;
+    this.snapshotPath = snapshotPath;
+    this.ttl = ttl;
+    this.probeCount = probeCount;
+  }
+
+  /** Returns the directory shared by all clients in this process. */
+  public static CMDirectory getShared() {
+    return SHARED;
+  }
+
+  public static CMDirectory of(
+      Supplier<List<SteamCMServer>> fetcher, Path snapshotPath, Duration ttl) {
+    return new CMDirectory(fetcher, snapshotPath, ttl, DEFAULT_PROBE_COUNT);
+  }
+
+  /** Creates a directory with a fixed server list, for example for a local CM server. */
+  public static CMDirectory fixed(List<SteamCMServer> servers) {
+    CMDirectory directory = new CMDirectory(() -> servers, null, Duration.ofDays(365), 0);
+    directory.update(servers);
+    return directory;
+  }
+
+  /**
+   * Returns the cached server list. Blocks only when there is no cached list and no snapshot, in
+   * which case the list is fetched once for all callers.
+   *
+   * @return the list of CM servers
+   */
+  public List<SteamCMServer> getServers() {
+    if (servers.isEmpty()) {
+      fetchLock.lock();
+      try {
+        if (servers.isEmpty()) {
+          if (loadSnapshot()) {
+            probeAsync();
+          } else {
+            refresh();
+          }
+        }
+      } finally {
+        fetchLock.unlock();
+      }
+    }
+
+    if (isExpired()) {
+      refreshAsync();
+    }
+    return servers;
+  }
+
+  /**
+   * Returns the servers ordered by measured connect latency. Servers that have not been probed
+   * follow in random order, servers that failed to connect come last.
+   *
+   * @return the ordered list of CM servers
+   */
+  public List<SteamCMServer> getServersByLatency() {
+    Map<SteamCMServer, Long> measured = Map.copyOf(latencies);
+    List<SteamCMServer> probed = new ArrayList<>();
+    List<SteamCMServer> unprobed = new ArrayList<>();
+    List<SteamCMServer> failed = new ArrayList<>();
+    for (SteamCMServer server : getServers()) {
+      Long latency = measured.get(server);
+      if (latency == null) {
+        unprobed.add(server);
+      } else if (latency == Long.MAX_VALUE) {
+        failed.add(server);
+      } else {
+        probed.add(server);
+      }
+    }
+
+    probed.sort(Comparator.comparingLong(measured::get));
+    Collections.shuffle(unprobed);
+    probed.addAll(unprobed);
+    probed.addAll(failed);
+    return probed;
+  }
+
+  /** Records a measured connect latency, used to order the servers. */
+  public void recordLatency(SteamCMServer server, long latencyNanos) {
+    latencies.put(server, latencyNanos);
+  }
+
+  /** Moves a server to the end of the latency ranking, for example after a failed connect. */
+  public void recordFailure(SteamCMServer server) {
+    latencies.put(server, Long.MAX_VALUE);
+  }
+
+  /** Fetches the server list, blocking until done. */
+  public void refresh() {
+    try {
+      List<SteamCMServer> fetched = fetcher.get();
+      if (fetched == null || fetched.isEmpty()) {
+        log.warn("Fetched an empty CM server list, keeping the cached list");
+        return;
+      }
+
+      update(fetched);
+      saveSnapshot(fetched);
+      probeAsync();
+      log.debug("Fetched {} CM servers", fetched.size());
+    } catch (Exception e) {
+      log.error("Failed to fetch CM server list", e);
+    }
+  }
+
+  private void refreshAsync() {
+    if (refreshing.compareAndSet(false, true)) {
+      executor.execute(
+          () -> {
+            try {
+              refresh();
+            } finally {
+              refreshing.set(false);
+            }
+          });
+    }
+  }
+
+  private void update(List<SteamCMServer> servers) {
+    this.servers = List.copyOf(servers);
+    this.fetchedAtMillis = System.currentTimeMillis();
+  }
+
+  private boolean isExpired() {
+    return System.currentTimeMillis() - fetchedAtMillis > ttl.toMillis();
+  }
+
+  /** Probes the connect latency of a random sample of the servers in parallel. */
+  private void probeAsync() {
+    List<SteamCMServer> sample = new ArrayList<>(servers);
+    Collections.shuffle(sample);
+    sample.stream().limit(probeCount).forEach(server -> executor.execute(() -> probe(server)));
+  }
+
+  private void probe(SteamCMServer server) {
+    long start = System.nanoTime();
+    try (Socket socket = new Socket()) {
+      socket.connect(
+          new InetSocketAddress(server.getHost(), server.getPort()), DEFAULT_PROBE_TIMEOUT_MS);
+      recordLatency(server, System.nanoTime() - start);
+    } catch (Exception e) {
+      log.trace("Failed to probe CM server {}", server, e);
+      recordFailure(server);
+    }
+  }
+
+  private boolean loadSnapshot() {
+    if (snapshotPath == null || !Files.exists(snapshotPath)) {
+      return false;
+    }
+
+    try {
+      String[] lines =
+          new String(StorageUtils.readFile(snapshotPath.toString()), StandardCharsets.UTF_8)
+              .split("\n");
+      List<SteamCMServer> snapshot = new ArrayList<>();
+      for (int i = 1; i < lines.length; i++) {
+        int separator = lines[i].lastIndexOf(':');
+        if (separator > 0) {
+          snapshot.add(
+              new SteamCMServer(
+                  lines[i].substring(0, separator),
+                  Integer.parseInt(lines[i].substring(separator + 1).trim())));
+        }
+      }
+
+      if (snapshot.isEmpty()) {
+        return false;
+      }
+
+      this.servers = List.copyOf(snapshot);
+      this.fetchedAtMillis = Long.parseLong(lines[0].trim());
+      log.debug("Loaded {} CM servers from snapshot {}", snapshot.size(), snapshotPath);
+      return true;
+    } catch (Exception e) {
+      log.warn("Failed to load CM server snapshot {}", snapshotPath, e);
+      return false;
+    }
+  }
+
+  private void saveSnapshot(List<SteamCMServer> servers) {
+    if (snapshotPath == null) {
+      return;
+    }
+
+    StringBuilder builder = new StringBuilder().append(fetchedAtMillis).append('\n');
+    servers.forEach(
+        server ->
+            builder.append(server.getHost()).append(':').append(server.getPort()).append('\n'));
+
+    // Written to a temporary file and moved, so a crash never leaves a truncated snapshot
+    Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+    try {
+      Files.createDirectories(snapshotPath.toAbsolutePath().getParent());
+      Files.write(temp, builder.toString().getBytes(StandardCharsets.UTF_8));
+      Files.move(
+          temp, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (Exception e) {
+      log.warn("Failed to save CM server snapshot {}", snapshotPath, e);
+    }
+  }
+
+  private static List<SteamCMServer> fetchFromWebAPI() {
+    return SteamWebDirectoryRESTAPIClient.getHttpInstance()
+        .getCMList(0)
+        .getResponse()
+        .getServerlist();
+  }
+
+  private static Path getDefaultSnapshotPath() {
+    return Path.of(StorageUtils.getHomeDirectory(), ".javasteam", "cm_servers.txt");
+  }
+}
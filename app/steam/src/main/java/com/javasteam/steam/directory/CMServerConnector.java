@@ -0,0 +1,128 @@
+package com.javasteam.steam.directory;
+
+import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connects to the first reachable CM server using a happy eyeballs style race. The first candidate
+ * is tried right away, every {@code attemptDelay} another candidate is started in parallel, and a
+ * failed attempt starts the next candidate immediately. The first socket to connect wins and the
+ * other attempts are closed.
+ */
+@Slf4j
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CMServerConnector {
+  public static final Duration DEFAULT_ATTEMPT_DELAY = Duration.ofMillis(250);
+  public static final int DEFAULT_CONNECT_TIMEOUT_MS = 5000;
+  public static final int DEFAULT_MAX_ATTEMPTS = 8;
+
+  private final CMDirectory directory;
+  private final Duration attemptDelay;
+  private final int connectTimeoutMs;
+  private final int maxAttempts;
+
+  public static CMServerConnector of(CMDirectory directory) {
+    return new CMServerConnector(
+        directory, DEFAULT_ATTEMPT_DELAY, DEFAULT_CONNECT_TIMEOUT_MS, DEFAULT_MAX_ATTEMPTS);
+  }
+
+  public static CMServerConnector of(
+      CMDirectory directory, Duration attemptDelay, int connectTimeoutMs, int maxAttempts) {
+    return new CMServerConnector(directory, attemptDelay, connectTimeoutMs, maxAttempts);
+  }
+
+  /**
+   * Races connections to the given candidates.
+   *
+   * @param candidates the servers to try, in order of preference
+   * @return the connected socket and the server it is connected to
+   */
+  public Connected connect(List<SteamCMServer> candidates) {
+    AtomicBoolean won = new AtomicBoolean(false);
+    List<Future<Connected>> attempts = new ArrayList<>();
+    Iterator<SteamCMServer> iterator = candidates.stream().limit(maxAttempts).iterator();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      CompletionService<Connected> completionService = new ExecutorCompletionService<>(executor);
+      int pending = 0;
+
+      while (pending > 0 || iterator.hasNext()) {
+        if (pending == 0) {
+          SteamCMServer server = iterator.next();
+          attempts.add(completionService.submit(() -> attempt(server, won)));
+          pending++;
+        }
+
+        Future<Connected> done =
+            iterator.hasNext()
+                ? completionService.poll(attemptDelay.toNanos(), TimeUnit.NANOSECONDS)
+                : completionService.take();
+
+        if (done == null) {
+          SteamCMServer server = iterator.next();
+          attempts.add(completionService.submit(() -> attempt(server, won)));
+          pending++;
+          continue;
+        }
+
+        pending--;
+        try {
+          Connected connected = done.get();
+          attempts.forEach(attempt -> attempt.cancel(true));
+          return connected;
+        } catch (ExecutionException e) {
+          log.debug("Connect attempt failed: {}", e.getCause().getMessage());
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      won.set(true);
+    }
+
+    throw new RuntimeException("Failed to connect to any Steam CM server");
+  }
+
+  private Connected attempt(SteamCMServer server, AtomicBoolean won) throws IOException {
+    long start = System.nanoTime();
+    Socket socket = new Socket();
+    try {
+      socket.connect(new InetSocketAddress(server.getHost(), server.getPort()), connectTimeoutMs);
+    } catch (IOException e) {
+      socket.close();
+      directory.recordFailure(server);
+      throw new IOException("Failed to connect to %s".formatted(server), e);
+    }
+
+    directory.recordLatency(server, System.nanoTime() - start);
+    if (!won.compareAndSet(false, true)) {
+      socket.close();
+      throw new IOException("Lost connect race to %s".formatted(server));
+    }
+    return new Connected(server, socket);
+  }
+
+  /**
+   * Result of a won connect race.
+   *
+   * @param server the server the socket is connected to
+   * @param socket the connected socket
+   */
+  public record Connected(SteamCMServer server, Socket socket) {}
+}
@@ -0,0 +1,138 @@
+package com.javasteam.steam.friends;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientFriendsList;
+
+import com.javasteam.steam.common.EFriendRelationship;
+import com.javasteam.utils.collections.LongIntHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relationships of an account, kept up to date from {@code ClientFriendsList} messages. A full list
+ * replaces the relationships, an incremental list only changes the contained Steam IDs and removes
+ * those with relationship {@link EFriendRelationship#NONE}.
+ *
+ * <p>Updates build a new {@link FriendsSnapshot} by merging the sorted changes into the sorted
+ * snapshot, then publish it. Readers use the current snapshot without locking.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * FriendsSnapshot friends = client.getFriendsList().getSnapshot();
+ * for (long steamId : friends.getSteamIds(EFriendRelationship.FRIEND)) {
+ *   // Handle friend
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class FriendsList {
+  private final List<FriendsListener> listeners = new CopyOnWriteArrayList<>();
+  private volatile FriendsSnapshot snapshot = FriendsSnapshot.EMPTY;
+
+  /** Returns the current relationships. */
+  public FriendsSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Apply a friends list message.
+   *
+   * @param message the full or incremental friends list
+   */
+  public synchronized void apply(CMsgClientFriendsList message) {
+    // The last entry of a Steam ID in the message wins
+    LongIntHashMap updates = new LongIntHashMap(message.getFriendsCount());
+    for (CMsgClientFriendsList.Friend friend : message.getFriendsList()) {
+      updates.put(friend.getUlfriendid(), friend.getEfriendrelationship(), 0);
+    }
+    long[] updatedIds = updates.keys();
+    Arrays.sort(updatedIds);
+
+    FriendsSnapshot current = snapshot;
+    long[] currentIds = current.steamIds();
+    byte[] currentRelationships = current.relationships();
+    boolean incremental = message.getBincremental();
+
+    long[] steamIds = new long[currentIds.length + updatedIds.length];
+    byte[] relationships = new byte[steamIds.length];
+    List<RelationshipChange> changes = new ArrayList<>();
+    int size = 0;
+    int i = 0;
+    int j = 0;
+    while (i < currentIds.length || j < updatedIds.length) {
+      if (j == updatedIds.length || (i < currentIds.length && currentIds[i] < updatedIds[j])) {
+        // Not in the message, kept by incremental updates and removed by full lists
+        if (incremental) {
+          steamIds[size] = currentIds[i];
+          relationships[size++] = currentRelationships[i];
+        } else {
+          changes.add(change(currentIds[i], currentRelationships[i], 0));
+        }
+        i++;
+        continue;
+      }
+
+      long steamId = updatedIds[j++];
+      int previous = 0;
+      if (i < currentIds.length && currentIds[i] == steamId) {
+        previous = currentRelationships[i++];
+      }
+      int relationship = updates.get(steamId, 0);
+      if (relationship != EFriendRelationship.NONE.getCode()) {
+        steamIds[size] = steamId;
+        relationships[size++] = (byte) relationship;
+      }
+      if (relationship != previous) {
+        changes.add(change(steamId, previous, relationship));
+      }
+    }
+
+    snapshot =
+        new FriendsSnapshot(
+            Arrays.copyOf(steamIds, size),
+            Arrays.copyOf(relationships, size),
+            message.hasMaxFriendCount() ? message.getMaxFriendCount() : current.getMaxFriendCount(),
+            message.hasActiveFriendCount()
+                ? message.getActiveFriendCount()
+                : current.getActiveFriendCount(),
+            message.hasFriendsLimitHit()
+                ? message.getFriendsLimitHit()
+                : current.isFriendsLimitHit());
+
+    if (!changes.isEmpty()) {
+      notifyListeners(snapshot, changes);
+    }
+  }
+
+  /** Remove all relationships, for example when the client logs off. */
+  public synchronized void clear() {
+    snapshot = FriendsSnapshot.EMPTY;
+  }
+
+  public void addListener(FriendsListener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(FriendsListener listener) {
+    listeners.remove(listener);
+  }
+
+  private static RelationshipChange change(long steamId, int previous, int current) {
+    return new RelationshipChange(
+        steamId, EFriendRelationship.of(previous), EFriendRelationship.of(current));
+  }
+
+  private void notifyListeners(FriendsSnapshot snapshot, List<RelationshipChange> changes) {
+    List<RelationshipChange> unmodifiable = List.copyOf(changes);
+    for (FriendsListener listener : listeners) {
+      try {
+        listener.onChanges(snapshot, unmodifiable);
+      } catch (Exception e) {
+        log.error("Friends listener failed", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.javasteam.steam.friends;
+
+import java.util.List;
+
+/** Receives the changes of a {@link FriendsList}. */
+@FunctionalInterface
+public interface FriendsListener {
+  /**
+   * Called after an update was applied.
+   *
+   * @param snapshot the snapshot that contains the changes
+   * @param changes the changed relationships
+   */
+  void onChanges(FriendsSnapshot snapshot, List<RelationshipChange> changes);
+}
@@ -0,0 +1,74 @@
+package com.javasteam.steam.friends;
+
+import com.javasteam.steam.common.EFriendRelationship;
+import java.util.Arrays;
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the relationships of an account. The Steam IDs are kept in a sorted
+ * primitive array with a parallel array of relationship codes, lookups use a binary search.
+ */
+public class FriendsSnapshot {
+  static final FriendsSnapshot EMPTY = new FriendsSnapshot(new long[0], new byte[0], 0, 0, false);
+  private final long[] steamIds;
+  private final byte[] relationships;
+  @Getter private final int maxFriendCount;
+  @Getter private final int activeFriendCount;
+  @Getter private final boolean friendsLimitHit;
+
+  FriendsSnapshot(
+      long[] steamIds,
+      byte[] relationships,
+      int maxFriendCount,
+      int activeFriendCount,
+      boolean friendsLimitHit) {
+    this.steamIds = steamIds;
+    this.relationships = relationships;
+    this.maxFriendCount = maxFriendCount;
+    this.activeFriendCount = activeFriendCount;
+    this.friendsLimitHit = friendsLimitHit;
+  }
+
+  /** Returns the relationship, {@link EFriendRelationship#NONE} for unknown Steam IDs. */
+  public EFriendRelationship getRelationship(long steamId) {
+    int index = Arrays.binarySearch(steamIds, steamId);
+    return index < 0 ? EFriendRelationship.NONE : EFriendRelationship.of(relationships[index]);
+  }
+
+  public boolean isFriend(long steamId) {
+    return getRelationship(steamId) == EFriendRelationship.FRIEND;
+  }
+
+  public boolean contains(long steamId) {
+    return Arrays.binarySearch(steamIds, steamId) >= 0;
+  }
+
+  public int size() {
+    return steamIds.length;
+  }
+
+  /** Returns the sorted Steam IDs of all relationships. */
+  public long[] getSteamIds() {
+    return steamIds.clone();
+  }
+
+  /** Returns the sorted Steam IDs with the relationship. */
+  public long[] getSteamIds(EFriendRelationship relationship) {
+    long[] result = new long[steamIds.length];
+    int count = 0;
+    for (int i = 0; i < steamIds.length; i++) {
+      if (relationships[i] == relationship.getCode()) {
+        result[count++] = steamIds[i];
+      }
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  long[] steamIds() {
+    return steamIds;
+  }
+
+  byte[] relationships() {
+    return relationships;
+  }
+}
@@ -0,0 +1,14 @@
+package com.javasteam.steam.friends;
+
+import com.javasteam.steam.common.EFriendRelationship;
+
+/**
+ * A changed relationship of a {@link FriendsList}.
+ *
+ * @param steamId the Steam ID of the user or group
+ * @param previous the previous relationship, {@link EFriendRelationship#NONE} if it is new
+ * @param current the current relationship, {@link EFriendRelationship#NONE} if it was removed and
+ *     {@link EFriendRelationship#UNKNOWN} for codes this library does not know
+ */
+public record RelationshipChange(
+    long steamId, EFriendRelationship previous, EFriendRelationship current) {}
@@ -2,9 +2,12 @@ package com.javasteam.steam.handlers;
 
 import com.javasteam.handlers.FutureItem;
 import com.javasteam.handlers.ListenerItem;
+import com.javasteam.handlers.MessagePublisher;
+import com.javasteam.handlers.PublisherConfig;
 import com.javasteam.models.AbstractMessage;
 import com.javasteam.models.Header;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Helper interface to delegate {@link MessageHandler} methods. Implement either of the methods
@@ -46,4 +49,29 @@ public interface HasMessageHandler {
     return (AbstractMessage<H, T>)
         getMessageHandler().addMessageFuture(FutureItem.builder(id).build());
   }
+
+  /**
+   * Create a publisher of the messages with the EMsg, delivered with backpressure. Close it to stop
+   * publishing.
+   *
+   * @param emsg the EMsg of the messages
+   * @param config the buffer configuration of the subscribers
+   * @return the publisher
+   */
+  default <H extends Header, T> MessagePublisher<Integer, AbstractMessage<H, T>> messagePublisher(
+      int emsg, PublisherConfig<AbstractMessage<H, T>> config) {
+    return messagePublisher(id -> id == emsg, config);
+  }
+
+  /** Create a publisher of the messages with the EMsg using the default configuration. */
+  default <H extends Header, T> MessagePublisher<Integer, AbstractMessage<H, T>> messagePublisher(
+      int emsg) {
+    return messagePublisher(emsg, PublisherConfig.defaults());
+  }
+
+  /** Create a publisher of the messages whose EMsg matches the filter. */
+  default <H extends Header, T> MessagePublisher<Integer, AbstractMessage<H, T>> messagePublisher(
+      Predicate<Integer> filter, PublisherConfig<AbstractMessage<H, T>> config) {
+    return getMessageHandler().addMessagePublisher(filter, config);
+  }
 }
@@ -1,13 +1,24 @@
 package com.javasteam.steam.handlers;
 
 import com.javasteam.handlers.BaseMessageHandler;
-import java.util.concurrent.atomic.AtomicInteger;
+import com.javasteam.metrics.Histogram;
+import com.javasteam.metrics.MetricsRegistry;
+import com.javasteam.models.Job;
+import com.javasteam.utils.collections.ConcurrentLongHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 
 /** A class for handling incoming and outgoing jobs. */
 @Slf4j
 public class JobHandler extends BaseMessageHandler<Long> {
-  private final AtomicInteger jobIdCounter = new AtomicInteger(0);
+  private static final int MAX_PENDING_JOBS = 10000;
+  private static final String UNKNOWN_JOB_NAME = "unknown";
+  private final JobIdAllocator jobIds = JobIdAllocator.create();
+  private final ConcurrentLongHashMap<PendingJob> pendingJobs = new ConcurrentLongHashMap<>();
+  private final Map<String, Histogram> roundTrips = new ConcurrentHashMap<>();
+  private volatile MetricsRegistry registry = MetricsRegistry.noop();
+  private volatile String[] tags = new String[0];
 
   public JobHandler() {
     super();
@@ -17,7 +28,54 @@ public class JobHandler extends BaseMessageHandler<Long> {
     super(threads);
   }
 
-  public synchronized long getNextJobId() {
-    return jobIdCounter.incrementAndGet();
+  /** Returns a new unique job id, lock free so jobs can be sent from many threads at once. */
+  public long getNextJobId() {
+    return jobIds.next();
   }
+
+  /**
+   * Start measuring the round trip time of a sent job, recorded per job name when the response is
+   * received.
+   *
+   * @param job the sent job
+   */
+  public void onJobSent(Job job) {
+    if (!registry.isEnabled()) {
+      return;
+    }
+
+    if (pendingJobs.size() >= MAX_PENDING_JOBS) {
+      log.debug("Too many jobs without a response, clearing round trip measurements");
+      pendingJobs.clear();
+    }
+
+    pendingJobs.put(
+        job.getSourceJobId(),
+        new PendingJob(job.getJobNameOptional().orElse(UNKNOWN_JOB_NAME), System.nanoTime()));
+  }
+
+  @Override
+  public <R> void notifyListeners(Long id, R msg) {
+    PendingJob job = id == null || pendingJobs.isEmpty() ? null : pendingJobs.remove(id);
+    if (job != null) {
+      roundTrips
+          .computeIfAbsent(
+              job.name(),
+              name -> registry.histogram("job.rtt.nanos", MetricsRegistry.tags(tags, "job", name)))
+          .record(System.nanoTime() - job.sentNanos());
+    }
+
+    super.notifyListeners(id, msg);
+  }
+
+  @Override
+  public void setMetricsRegistry(MetricsRegistry registry, String name, String... tags) {
+    super.setMetricsRegistry(registry, name, tags);
+    this.registry = registry;
+    this.tags = tags;
+    this.roundTrips.clear();
+    this.pendingJobs.clear();
+  }
+
+  private record PendingJob(String name, long sentNanos) {}
 }
@@ -0,0 +1,43 @@
+package com.javasteam.steam.handlers;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free allocator of 64-bit job ids. The ids are handed out by padded counters that are picked
+ * by the calling thread, counter {@code i} of {@code n} returns {@code i + 1}, {@code i + 1 + n}
+ * and so on, so threads sending jobs at the same time rarely touch the same cache line. Ids are
+ * unique and positive, but not ordered across threads.
+ */
+public class JobIdAllocator {
+  // 16 longs is 128 bytes, enough to keep two counters off the same (or adjacent) cache line
+  private static final int PADDING = 16;
+  private final AtomicLongArray counters;
+  private final int shards;
+  private final int shardMask;
+
+  private JobIdAllocator(int shards) {
+    this.shards = shards;
+    this.shardMask = shards - 1;
+    this.counters = new AtomicLongArray(shards * PADDING);
+  }
+
+  public static JobIdAllocator create() {
+    return of(Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Create an allocator.
+   *
+   * @param concurrency the expected number of threads sending jobs, rounded up to a power of two
+   * @return the allocator
+   */
+  public static JobIdAllocator of(int concurrency) {
+    return new JobIdAllocator(Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1);
+  }
+
+  public long next() {
+    int shard = (int) Thread.currentThread().threadId() & shardMask;
+    long sequence = counters.getAndIncrement(shard * PADDING);
+    return sequence * shards + shard + 1;
+  }
+}
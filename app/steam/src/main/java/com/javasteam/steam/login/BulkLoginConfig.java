@@ -0,0 +1,51 @@
+package com.javasteam.steam.login;
+
+import com.javasteam.steam.SteamClient;
+import com.javasteam.steam.common.EResult;
+import com.javasteam.steam.directory.CMDirectory;
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration for a {@link BulkLoginOrchestrator}. At most {@code maxInFlight} logins run at the
+ * same time, spread round robin over the {@code serverSpread} fastest servers of the directory.
+ * Logins that fail with one of the {@code retryableResults} are retried on the next server after a
+ * jittered exponential backoff, up to {@code maxAttempts} attempts.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * BulkLoginConfig config =
+ *     BulkLoginConfig.builder()
+ *         .withMaxInFlight(32)
+ *         .withClientFactory(() -> new SteamClient(2))
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class BulkLoginConfig {
+  public static final int DEFAULT_MAX_IN_FLIGHT = 16;
+  public static final int DEFAULT_SERVER_SPREAD = 8;
+  public static final int DEFAULT_MAX_ATTEMPTS = 4;
+  public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofSeconds(1);
+  public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(30);
+  public static final Set<Integer> DEFAULT_RETRYABLE_RESULTS =
+      Set.of(EResult.TryAnotherCM, EResult.ServiceUnavailable);
+
+  @Builder.Default private final int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+  @Builder.Default private final int serverSpread = DEFAULT_SERVER_SPREAD;
+  @Builder.Default private final int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+  @Builder.Default private final Duration initialBackoff = DEFAULT_INITIAL_BACKOFF;
+  @Builder.Default private final Duration maxBackoff = DEFAULT_MAX_BACKOFF;
+  @Builder.Default private final Set<Integer> retryableResults = DEFAULT_RETRYABLE_RESULTS;
+  @Builder.Default private final CMDirectory cmDirectory = CMDirectory.getShared();
+  @Builder.Default private final Supplier<SteamClient> clientFactory = SteamClient::new;
+
+  public static BulkLoginConfig defaults() {
+    return BulkLoginConfig.builder().build();
+  }
+}
@@ -0,0 +1,226 @@
+package com.javasteam.steam.login;
+
+import com.javasteam.metrics.Counter;
+import com.javasteam.metrics.Histogram;
+import com.javasteam.metrics.MetricsRegistry;
+import com.javasteam.steam.LoginException;
+import com.javasteam.steam.LoginParameters;
+import com.javasteam.steam.SteamClient;
+import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs in many accounts concurrently. Logins run on a pool of {@link
+ * BulkLoginConfig#getMaxInFlight()} threads, so a large batch is admitted a few at a time and does
+ * not trip the rate limits of the CM servers. Logins are spread over the fastest servers of the
+ * directory and retried on the next server when Steam asks to, a login waiting for its retry does
+ * not hold a thread. See {@link BulkLoginConfig}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (BulkLoginOrchestrator orchestrator = BulkLoginOrchestrator.of(BulkLoginConfig.defaults())) {
+ *   List<BulkLoginResult> results = orchestrator.loginAll(parameters).join();
+ *   ...
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class BulkLoginOrchestrator implements AutoCloseable {
+  private final BulkLoginConfig config;
+  private final ExecutorService executor;
+  private final ScheduledExecutorService retryScheduler;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicLong nextServer = new AtomicLong();
+  private volatile Histogram connectTimes;
+  private volatile Histogram handshakeTimes;
+  private volatile Histogram logonTimes;
+  private volatile Counter retries;
+  private volatile Counter failures;
+
+  private BulkLoginOrchestrator(BulkLoginConfig config) {
+    this.config = config;
+    this.executor =
+        Executors.newFixedThreadPool(
+            config.getMaxInFlight(), Thread.ofPlatform().name("bulk-login-", 0).daemon().factory());
+    this.retryScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("bulk-login-retry").daemon().factory());
+    setMetricsRegistry(MetricsRegistry.noop());
+  }
+
+  public static BulkLoginOrchestrator of(BulkLoginConfig config) {
+    return new BulkLoginOrchestrator(config);
+  }
+
+  /**
+   * Log in all accounts. The future completes when every login succeeded or gave up, the results
+   * are in the order of the parameters.
+   *
+   * @param parameters the login parameters of the accounts
+   * @return a future with the result of every login
+   */
+  public CompletableFuture<List<BulkLoginResult>> loginAll(List<LoginParameters> parameters) {
+    List<CompletableFuture<BulkLoginResult>> logins = parameters.stream().map(this::login).toList();
+    return CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> logins.stream().map(CompletableFuture::join).toList());
+  }
+
+  /**
+   * Log in one account once a thread is free.
+   *
+   * @param parameters the login parameters of the account
+   * @return a future with the result of the login, it does not complete exceptionally
+   */
+  public CompletableFuture<BulkLoginResult> login(LoginParameters parameters) {
+    var login = new Login(parameters, getServers(), nextServer.getAndIncrement());
+    executor.execute(login::attempt);
+    return login.result;
+  }
+
+  public int getInFlightCount() {
+    return inFlight.get();
+  }
+
+  /**
+   * Record the phase times of every attempt in "login.connect.nanos", "login.handshake.nanos" and
+   * "login.logon.nanos", retried attempts in "login.retries" and failed logins in "login.failures".
+   *
+   * @param registry the registry
+   */
+  public void setMetricsRegistry(MetricsRegistry registry) {
+    this.connectTimes = registry.histogram("login.connect.nanos");
+    this.handshakeTimes = registry.histogram("login.handshake.nanos");
+    this.logonTimes = registry.histogram("login.logon.nanos");
+    this.retries = registry.counter("login.retries");
+    this.failures = registry.counter("login.failures");
+    registry.gauge("login.inflight", this::getInFlightCount);
+  }
+
+  /** Stop accepting logins, logins that already started still complete. */
+  @Override
+  public void close() {
+    retryScheduler.shutdown();
+    executor.shutdown();
+  }
+
+  private List<SteamCMServer> getServers() {
+    List<SteamCMServer> servers = config.getCmDirectory().getServersByLatency();
+    return servers.subList(0, Math.min(servers.size(), config.getServerSpread()));
+  }
+
+  private boolean isRetryable(RuntimeException error) {
+    return error instanceof LoginException loginException
+        && config.getRetryableResults().contains(loginException.getResult());
+  }
+
+  private long getBackoffMillis(int attempt) {
+    long backoff = config.getInitialBackoff().toMillis() << Math.min(attempt - 1, 20);
+    long capped = Math.min(config.getMaxBackoff().toMillis(), backoff);
+    return ThreadLocalRandom.current().nextLong(capped + 1);
+  }
+
+  private LoginTimings record(SteamClient client) {
+    LoginTimings timings = client.getLastLoginTimings();
+    if (timings.connectNanos() > 0) {
+      connectTimes.record(timings.connectNanos());
+    }
+    if (timings.handshakeNanos() > 0) {
+      handshakeTimes.record(timings.handshakeNanos());
+    }
+    if (timings.logonNanos() > 0) {
+      logonTimes.record(timings.logonNanos());
+    }
+    return timings;
+  }
+
+  /** One account being logged in, every retry moves on to the next server of the spread. */
+  private class Login {
+    private final LoginParameters parameters;
+    private final List<SteamCMServer> servers;
+    private final long firstServer;
+    private final CompletableFuture<BulkLoginResult> result = new CompletableFuture<>();
+    private SteamClient client;
+    private int attempts;
+
+    private Login(LoginParameters parameters, List<SteamCMServer> servers, long firstServer) {
+      this.parameters = parameters;
+      this.servers = servers;
+      this.firstServer = firstServer;
+    }
+
+    private void attempt() {
+      attempts++;
+      SteamCMServer server =
+          servers.isEmpty()
+              ? null
+              : servers.get((int) ((firstServer + attempts - 1) % servers.size()));
+
+      RuntimeException error;
+      inFlight.incrementAndGet();
+      try {
+        if (client == null) {
+          client = config.getClientFactory().get();
+        }
+        client.setPreferredServer(server);
+        client.login(parameters);
+        result.complete(
+            new BulkLoginResult(
+                parameters, client, client.getConnectedServer(), attempts, record(client), null));
+        return;
+      } catch (RuntimeException e) {
+        error = e;
+      } finally {
+        inFlight.decrementAndGet();
+      }
+
+      LoginTimings timings = client == null ? LoginTimings.NONE : record(client);
+      if (client != null) {
+        client.disconnect();
+      }
+      if (attempts >= config.getMaxAttempts() || !isRetryable(error)) {
+        fail(server, timings, error);
+        return;
+      }
+
+      if (server != null) {
+        config.getCmDirectory().recordFailure(server);
+      }
+      long backoff = getBackoffMillis(attempts);
+      log.debug(
+          "Login attempt {} failed, retrying in {} ms: {}", attempts, backoff, error.getMessage());
+      retries.increment();
+      try {
+        retryScheduler.schedule(
+            () -> retry(server, timings, error), backoff, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        fail(server, timings, error);
+      }
+    }
+
+    /** Runs the next attempt, the login fails if the orchestrator was closed during the backoff. */
+    private void retry(SteamCMServer server, LoginTimings timings, RuntimeException error) {
+      try {
+        executor.execute(this::attempt);
+      } catch (RejectedExecutionException e) {
+        fail(server, timings, error);
+      }
+    }
+
+    private void fail(SteamCMServer server, LoginTimings timings, Throwable error) {
+      failures.increment();
+      log.warn("Login failed after {} attempts", attempts, error);
+      result.complete(new BulkLoginResult(parameters, null, server, attempts, timings, error));
+    }
+  }
+}
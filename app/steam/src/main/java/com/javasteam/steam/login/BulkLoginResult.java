@@ -0,0 +1,27 @@
+package com.javasteam.steam.login;
+
+import com.javasteam.steam.LoginParameters;
+import com.javasteam.steam.SteamClient;
+import com.javasteam.webapi.endpoints.steamdirectory.models.SteamCMServer;
+
+/**
+ * Result of one login of a {@link BulkLoginOrchestrator}.
+ *
+ * @param parameters the login parameters
+ * @param client the logged in client, null if the login failed
+ * @param server the server of the last attempt
+ * @param attempts the number of attempts
+ * @param timings the phase timings of the last attempt
+ * @param error the error of the last attempt, null if the login succeeded
+ */
+public record BulkLoginResult(
+    LoginParameters parameters,
+    SteamClient client,
+    SteamCMServer server,
+    int attempts,
+    LoginTimings timings,
+    Throwable error) {
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
@@ -0,0 +1,16 @@
+package com.javasteam.steam.login;
+
+/**
+ * Time spent in each phase of a login, zero for phases that were not reached.
+ *
+ * @param connectNanos connecting the socket to a CM server
+ * @param handshakeNanos the channel encryption handshake
+ * @param logonNanos sending the logon until the logon response
+ */
+public record LoginTimings(long connectNanos, long handshakeNanos, long logonNanos) {
+  public static final LoginTimings NONE = new LoginTimings(0, 0, 0);
+
+  public long totalNanos() {
+    return connectNanos + handshakeNanos + logonNanos;
+  }
+}
@@ -0,0 +1,99 @@
+package com.javasteam.steam.persona;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientRequestFriendData;
+
+import com.javasteam.utils.collections.LongIntHashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batches persona data requests into {@code ClientRequestFriendData} messages. Requests made within
+ * the flush delay are deduplicated and sent together, in messages of at most {@link
+ * #MAX_BATCH_SIZE} Steam IDs.
+ */
+@Slf4j
+public class FriendDataRequester {
+  /** Status, player name, presence, last seen, game extra info and rich presence. */
+  public static final int DEFAULT_REQUESTED_FLAGS = 1 | 2 | 16 | 64 | 256 | 4096;
+
+  public static final int MAX_BATCH_SIZE = 100;
+  private static final long FLUSH_DELAY_MS = 50;
+  private final ScheduledExecutorService executor;
+  private final Consumer<CMsgClientRequestFriendData> sender;
+  private final LongIntHashMap pending = new LongIntHashMap();
+  private boolean flushScheduled;
+
+  private FriendDataRequester(
+      ScheduledExecutorService executor, Consumer<CMsgClientRequestFriendData> sender) {
+    this.executor = executor;
+    this.sender = sender;
+  }
+
+  /**
+   * Create a requester.
+   *
+   * @param executor executor that sends the batches
+   * @param sender sends a request message
+   * @return the requester
+   */
+  public static FriendDataRequester of(
+      ScheduledExecutorService executor, Consumer<CMsgClientRequestFriendData> sender) {
+    return new FriendDataRequester(executor, sender);
+  }
+
+  public void request(long steamId) {
+    request(steamId, DEFAULT_REQUESTED_FLAGS);
+  }
+
+  /**
+   * Request persona data.
+   *
+   * @param steamId the Steam ID
+   * @param flags the requested {@code EClientPersonaStateFlag}s, merged with earlier pending
+   *     requests of the Steam ID
+   */
+  public void request(long steamId, int flags) {
+    synchronized (pending) {
+      pending.put(steamId, pending.get(steamId, 0) | flags, 0);
+      if (!flushScheduled) {
+        flushScheduled = true;
+        executor.schedule(this::flush, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+      }
+    }
+  }
+
+  /** Send the pending requests now. */
+  public void flush() {
+    Map<Integer, List<Long>> byFlags = new LinkedHashMap<>();
+    synchronized (pending) {
+      pending.forEach(
+          (steamId, flags) ->
+              byFlags.computeIfAbsent(flags, key -> new ArrayList<>()).add(steamId));
+      pending.clear();
+      flushScheduled = false;
+    }
+
+    byFlags.forEach(
+        (flags, steamIds) -> {
+          for (int start = 0; start < steamIds.size(); start += MAX_BATCH_SIZE) {
+            List<Long> batch =
+                steamIds.subList(start, Math.min(steamIds.size(), start + MAX_BATCH_SIZE));
+            try {
+              sender.accept(
+                  CMsgClientRequestFriendData.newBuilder()
+                      .setPersonaStateRequested(flags)
+                      .addAllFriends(batch)
+                      .build());
+            } catch (Exception e) {
+              log.error("Failed to request friend data for {} Steam IDs", batch.size(), e);
+            }
+          }
+        });
+  }
+}
@@ -0,0 +1,34 @@
+package com.javasteam.steam.persona;
+
+import com.javasteam.steam.common.EPersonaState;
+import java.util.Map;
+
+/**
+ * Snapshot of a cached persona. Fields that were never received have their default value.
+ *
+ * @param steamId the Steam ID
+ * @param state the persona state
+ * @param stateFlags the persona state flags
+ * @param name the persona name
+ * @param avatarHash the SHA-1 hash of the avatar
+ * @param gamePlayedAppId the app id of the played game, 0 if not playing
+ * @param gameId the game id of the played game
+ * @param gameName the name of the played non Steam game
+ * @param lastLogoff the last logoff time in epoch seconds
+ * @param lastLogon the last logon time in epoch seconds
+ * @param lastSeenOnline the last seen online time in epoch seconds
+ * @param richPresence the rich presence key values
+ */
+public record Persona(
+    long steamId,
+    EPersonaState state,
+    int stateFlags,
+    String name,
+    byte[] avatarHash,
+    int gamePlayedAppId,
+    long gameId,
+    String gameName,
+    int lastLogoff,
+    int lastLogon,
+    int lastSeenOnline,
+    Map<String, String> richPresence) {}
@@ -0,0 +1,355 @@
+package com.javasteam.steam.persona;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientPersonaState;
+
+import com.javasteam.models.HasReadWriteLock;
+import com.javasteam.steam.common.EPersonaState;
+import com.javasteam.utils.collections.LongIntHashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the persona states received in {@code ClientPersonaState} messages, keyed by the
+ * primitive 64 bit Steam ID. Every update only changes the fields it contains. The personas are
+ * stored in columns of primitive arrays, a persona without rich presence takes around 150 bytes.
+ *
+ * <p>Listeners receive the changed fields. With a coalescing window the changes of a persona within
+ * the window are merged into one change and delivered on the executor, so a flood of persona
+ * updates results in one notification per persona.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * client.getPersonaCache().addListener(changes -> changes.stream()
+ *     .filter(change -> change.has(PersonaField.STATE))
+ *     .forEach(change -> log.info("{} is {}", change.steamId(),
+ *         client.getPersonaCache().get(change.steamId()).orElseThrow().state())));
+ * }</pre>
+ */
+@Slf4j
+public class PersonaCache implements HasReadWriteLock {
+  /** Status flag of a persona state message that contains rich presence. */
+  public static final int RICH_PRESENCE_FLAG = 4096;
+
+  private static final int INITIAL_CAPACITY = 64;
+  private static final int MISSING = -1;
+  private static final String[] NO_RICH_PRESENCE = new String[0];
+
+  @Getter private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+  private final ScheduledExecutorService executor;
+  private final long coalesceWindowNanos;
+  private final List<PersonaListener> listeners = new CopyOnWriteArrayList<>();
+  private final LongIntHashMap slots = new LongIntHashMap(INITIAL_CAPACITY);
+  private final LongIntHashMap pendingChanges = new LongIntHashMap();
+  private boolean flushScheduled;
+  private int[] freeSlots = new int[0];
+  private int freeSlotCount;
+  private int slotCount;
+
+  private long[] steamIds = new long[INITIAL_CAPACITY];
+  private byte[] states = new byte[INITIAL_CAPACITY];
+  private int[] stateFlags = new int[INITIAL_CAPACITY];
+  private String[] names = new String[INITIAL_CAPACITY];
+  private byte[][] avatarHashes = new byte[INITIAL_CAPACITY][];
+  private int[] gamePlayedAppIds = new int[INITIAL_CAPACITY];
+  private long[] gameIds = new long[INITIAL_CAPACITY];
+  private String[] gameNames = new String[INITIAL_CAPACITY];
+  private int[] lastLogoffs = new int[INITIAL_CAPACITY];
+  private int[] lastLogons = new int[INITIAL_CAPACITY];
+  private int[] lastSeenOnlines = new int[INITIAL_CAPACITY];
+  private String[][] richPresence = new String[INITIAL_CAPACITY][];
+
+  private PersonaCache(ScheduledExecutorService executor, Duration coalesceWindow) {
+    this.executor = executor;
+    this.coalesceWindowNanos = coalesceWindow.toNanos();
+  }
+
+  /**
+   * Create a cache.
+   *
+   * @param executor executor that delivers coalesced changes
+   * @param coalesceWindow the window in which changes are merged, zero notifies the listeners on
+   *     the thread that applies the update
+   * @return the cache
+   */
+  public static PersonaCache of(ScheduledExecutorService executor, Duration coalesceWindow) {
+    return new PersonaCache(executor, coalesceWindow);
+  }
+
+  /**
+   * Apply a persona state message.
+   *
+   * @param message the message
+   */
+  public void apply(CMsgClientPersonaState message) {
+    boolean withRichPresence = (message.getStatusFlags() & RICH_PRESENCE_FLAG) != 0;
+    List<PersonaChange> changes = new ArrayList<>(message.getFriendsCount());
+    withWriteLock(
+        () -> {
+          for (CMsgClientPersonaState.Friend friend : message.getFriendsList()) {
+            int fields = merge(friend, withRichPresence);
+            if (fields != 0) {
+              changes.add(new PersonaChange(friend.getFriendid(), fields));
+            }
+          }
+        });
+
+    if (!changes.isEmpty() && !listeners.isEmpty()) {
+      publish(changes);
+    }
+  }
+
+  public Optional<Persona> get(long steamId) {
+    return withReadLock(
+        () -> {
+          int slot = slots.get(steamId, MISSING);
+          return slot == MISSING ? Optional.<Persona>empty() : Optional.of(snapshot(slot));
+        });
+  }
+
+  /** Returns the persona state without creating a snapshot. */
+  public Optional<EPersonaState> getState(long steamId) {
+    return withReadLock(
+        () -> {
+          int slot = slots.get(steamId, MISSING);
+          return slot == MISSING
+              ? Optional.<EPersonaState>empty()
+              : Optional.of(EPersonaState.of(states[slot]));
+        });
+  }
+
+  public boolean contains(long steamId) {
+    return withReadLock(() -> slots.containsKey(steamId));
+  }
+
+  public int size() {
+    return withReadLock(slots::size);
+  }
+
+  /** Returns the Steam IDs of the cached personas. */
+  public long[] getSteamIds() {
+    return withReadLock(slots::keys);
+  }
+
+  /** Remove a persona, for example when a friend is removed. */
+  public void remove(long steamId) {
+    withWriteLock(
+        () -> {
+          int slot = slots.remove(steamId, MISSING);
+          if (slot == MISSING) {
+            return;
+          }
+
+          names[slot] = null;
+          avatarHashes[slot] = null;
+          gameNames[slot] = null;
+          richPresence[slot] = null;
+          if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, Math.max(16, freeSlotCount * 2));
+          }
+          freeSlots[freeSlotCount++] = slot;
+        });
+  }
+
+  public void addListener(PersonaListener listener) {
+    listeners.add(listener);
+  }
+
+  public void removeListener(PersonaListener listener) {
+    listeners.remove(listener);
+  }
+
+  /** Merge the present fields into the slot of the persona, returns the changed fields. */
+  private int merge(CMsgClientPersonaState.Friend friend, boolean withRichPresence) {
+    int slot = slots.get(friend.getFriendid(), MISSING);
+    int fields = 0;
+    if (slot == MISSING) {
+      slot = allocate(friend.getFriendid());
+      fields = PersonaField.STATE.getMask();
+    }
+
+    if (friend.hasPersonaState() && states[slot] != friend.getPersonaState()) {
+      states[slot] = (byte) friend.getPersonaState();
+      fields |= PersonaField.STATE.getMask();
+    }
+    if (friend.hasPersonaStateFlags() && stateFlags[slot] != friend.getPersonaStateFlags()) {
+      stateFlags[slot] = friend.getPersonaStateFlags();
+      fields |= PersonaField.STATE.getMask();
+    }
+    if (friend.hasPlayerName() && !friend.getPlayerName().equals(names[slot])) {
+      names[slot] = friend.getPlayerName();
+      fields |= PersonaField.NAME.getMask();
+    }
+    if (friend.hasAvatarHash()) {
+      byte[] avatarHash = friend.getAvatarHash().toByteArray();
+      if (!Arrays.equals(avatarHash, avatarHashes[slot])) {
+        avatarHashes[slot] = avatarHash;
+        fields |= PersonaField.AVATAR.getMask();
+      }
+    }
+    if (friend.hasGamePlayedAppId() && gamePlayedAppIds[slot] != friend.getGamePlayedAppId()) {
+      gamePlayedAppIds[slot] = friend.getGamePlayedAppId();
+      fields |= PersonaField.GAME.getMask();
+    }
+    if (friend.hasGameid() && gameIds[slot] != friend.getGameid()) {
+      gameIds[slot] = friend.getGameid();
+      fields |= PersonaField.GAME.getMask();
+    }
+    if (friend.hasGameName()) {
+      // The cache stores no game name as null, an empty name is no change
+      String gameName = friend.getGameName().isEmpty() ? null : friend.getGameName();
+      if (!Objects.equals(gameName, gameNames[slot])) {
+        gameNames[slot] = gameName;
+        fields |= PersonaField.GAME.getMask();
+      }
+    }
+    if (friend.hasLastLogoff() && lastLogoffs[slot] != friend.getLastLogoff()) {
+      lastLogoffs[slot] = friend.getLastLogoff();
+      fields |= PersonaField.LAST_SEEN.getMask();
+    }
+    if (friend.hasLastLogon() && lastLogons[slot] != friend.getLastLogon()) {
+      lastLogons[slot] = friend.getLastLogon();
+      fields |= PersonaField.LAST_SEEN.getMask();
+    }
+    if (friend.hasLastSeenOnline() && lastSeenOnlines[slot] != friend.getLastSeenOnline()) {
+      lastSeenOnlines[slot] = friend.getLastSeenOnline();
+      fields |= PersonaField.LAST_SEEN.getMask();
+    }
+    if (withRichPresence) {
+      String[] values = flattenRichPresence(friend);
+      if (!Arrays.equals(
+          values, richPresence[slot] == null ? NO_RICH_PRESENCE : richPresence[slot])) {
+        richPresence[slot] = values.length == 0 ? null : values;
+        fields |= PersonaField.RICH_PRESENCE.getMask();
+      }
+    }
+    return fields;
+  }
+
+  private static String[] flattenRichPresence(CMsgClientPersonaState.Friend friend) {
+    if (friend.getRichPresenceCount() == 0) {
+      return NO_RICH_PRESENCE;
+    }
+
+    String[] values = new String[friend.getRichPresenceCount() * 2];
+    for (int i = 0; i < friend.getRichPresenceCount(); i++) {
+      values[i * 2] = friend.getRichPresence(i).getKey();
+      values[i * 2 + 1] = friend.getRichPresence(i).getValue();
+    }
+    return values;
+  }
+
+  private int allocate(long steamId) {
+    int slot;
+    if (freeSlotCount > 0) {
+      slot = freeSlots[--freeSlotCount];
+      states[slot] = 0;
+      stateFlags[slot] = 0;
+      gamePlayedAppIds[slot] = 0;
+      gameIds[slot] = 0;
+      lastLogoffs[slot] = 0;
+      lastLogons[slot] = 0;
+      lastSeenOnlines[slot] = 0;
+    } else {
+      if (slotCount == steamIds.length) {
+        grow(steamIds.length * 2);
+      }
+      slot = slotCount++;
+    }
+
+    steamIds[slot] = steamId;
+    slots.put(steamId, slot, MISSING);
+    return slot;
+  }
+
+  private void grow(int capacity) {
+    steamIds = Arrays.copyOf(steamIds, capacity);
+    states = Arrays.copyOf(states, capacity);
+    stateFlags = Arrays.copyOf(stateFlags, capacity);
+    names = Arrays.copyOf(names, capacity);
+    avatarHashes = Arrays.copyOf(avatarHashes, capacity);
+    gamePlayedAppIds = Arrays.copyOf(gamePlayedAppIds, capacity);
+    gameIds = Arrays.copyOf(gameIds, capacity);
+    gameNames = Arrays.copyOf(gameNames, capacity);
+    lastLogoffs = Arrays.copyOf(lastLogoffs, capacity);
+    lastLogons = Arrays.copyOf(lastLogons, capacity);
+    lastSeenOnlines = Arrays.copyOf(lastSeenOnlines, capacity);
+    richPresence = Arrays.copyOf(richPresence, capacity);
+  }
+
+  private Persona snapshot(int slot) {
+    Map<String, String> presence = new LinkedHashMap<>();
+    String[] values = richPresence[slot];
+    if (values != null) {
+      for (int i = 0; i < values.length; i += 2) {
+        presence.put(values[i], values[i + 1]);
+      }
+    }
+
+    return new Persona(
+        steamIds[slot],
+        EPersonaState.of(states[slot]),
+        stateFlags[slot],
+        names[slot],
+        avatarHashes[slot] == null ? null : avatarHashes[slot].clone(),
+        gamePlayedAppIds[slot],
+        gameIds[slot],
+        gameNames[slot],
+        lastLogoffs[slot],
+        lastLogons[slot],
+        lastSeenOnlines[slot],
+        presence);
+  }
+
+  private void publish(List<PersonaChange> changes) {
+    if (coalesceWindowNanos <= 0) {
+      notifyListeners(changes);
+      return;
+    }
+
+    synchronized (pendingChanges) {
+      for (PersonaChange change : changes) {
+        int fields = pendingChanges.get(change.steamId(), 0);
+        pendingChanges.put(change.steamId(), fields | change.fields(), 0);
+      }
+      if (!flushScheduled) {
+        flushScheduled = true;
+        executor.schedule(this::flush, coalesceWindowNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  private void flush() {
+    List<PersonaChange> changes;
+    synchronized (pendingChanges) {
+      changes = new ArrayList<>(pendingChanges.size());
+      pendingChanges.forEach((steamId, fields) -> changes.add(new PersonaChange(steamId, fields)));
+      pendingChanges.clear();
+      flushScheduled = false;
+    }
+    notifyListeners(changes);
+  }
+
+  private void notifyListeners(List<PersonaChange> changes) {
+    List<PersonaChange> unmodifiable = List.copyOf(changes);
+    for (PersonaListener listener : listeners) {
+      try {
+        listener.onChanges(unmodifiable);
+      } catch (Exception e) {
+        log.error("Persona listener failed", e);
+      }
+    }
+  }
+}
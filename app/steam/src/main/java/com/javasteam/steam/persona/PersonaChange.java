@@ -0,0 +1,13 @@
+package com.javasteam.steam.persona;
+
+/**
+ * The fields of a persona that changed since the last notification.
+ *
+ * @param steamId the Steam ID of the persona
+ * @param fields the changed fields, a mask of {@link PersonaField#getMask()}
+ */
+public record PersonaChange(long steamId, int fields) {
+  public boolean has(PersonaField field) {
+    return (fields & field.getMask()) != 0;
+  }
+}
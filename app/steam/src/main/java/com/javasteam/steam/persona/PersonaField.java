@@ -0,0 +1,21 @@
+package com.javasteam.steam.persona;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Groups of persona fields, used as bits in the change masks of a {@link PersonaCache}. */
+@Getter
+@AllArgsConstructor
+public enum PersonaField {
+  /** Persona state and persona state flags. */
+  STATE(1),
+  NAME(1 << 1),
+  AVATAR(1 << 2),
+  /** Played app id, game id and game name. */
+  GAME(1 << 3),
+  /** Last logoff, last logon and last seen online times. */
+  LAST_SEEN(1 << 4),
+  RICH_PRESENCE(1 << 5);
+
+  private final int mask;
+}
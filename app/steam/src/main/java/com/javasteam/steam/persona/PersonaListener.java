@@ -0,0 +1,14 @@
+package com.javasteam.steam.persona;
+
+import java.util.List;
+
+/** Receives the coalesced persona changes of a {@link PersonaCache}. */
+@FunctionalInterface
+public interface PersonaListener {
+  /**
+   * Called with the changes since the last call, at most one change per persona.
+   *
+   * @param changes the changes
+   */
+  void onChanges(List<PersonaChange> changes);
+}
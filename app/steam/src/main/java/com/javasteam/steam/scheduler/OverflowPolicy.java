@@ -0,0 +1,9 @@
+package com.javasteam.steam.scheduler;
+
+/** Defines what the {@link SendScheduler} does when its bounded send queue is full. */
+public enum OverflowPolicy {
+  /** Drop the submitted message. */
+  SHED,
+  /** Block the submitting thread until there is room in the queue. */
+  DELAY
+}
@@ -0,0 +1,24 @@
+package com.javasteam.steam.scheduler;
+
+/**
+ * Configuration of a single token bucket.
+ *
+ * @param burst maximum number of messages that can be sent at once
+ * @param permitsPerSecond rate at which the bucket is refilled
+ */
+public record RateLimit(long burst, double permitsPerSecond) {
+  public RateLimit {
+    if (burst < 1 || permitsPerSecond <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid rate limit, burst: %s, permitsPerSecond: %s".formatted(burst, permitsPerSecond));
+    }
+  }
+
+  public static RateLimit perSecond(double permitsPerSecond, long burst) {
+    return new RateLimit(burst, permitsPerSecond);
+  }
+
+  public static RateLimit perSecond(double permitsPerSecond) {
+    return new RateLimit(Math.max(1, (long) Math.ceil(permitsPerSecond)), permitsPerSecond);
+  }
+}
@@ -0,0 +1,12 @@
+package com.javasteam.steam.scheduler;
+
+/**
+ * Priority lane of an outgoing message in the {@link SendScheduler}. Messages in the {@link #HIGH}
+ * lane always go first and bypass rate limits, {@link #LOW} messages are the first to be shed when
+ * the send queue is full.
+ */
+public enum SendPriority {
+  LOW,
+  NORMAL,
+  HIGH
+}
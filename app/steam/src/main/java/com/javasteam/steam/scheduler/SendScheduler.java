@@ -0,0 +1,290 @@
+package com.javasteam.steam.scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Send scheduler that sits in front of a connection and rate limits outgoing messages. Messages are
+ * put in priority lanes, {@link SendPriority#HIGH} messages (heartbeats, logon) are always sent
+ * first and bypass the rate limits. Other messages wait until the token buckets of the account,
+ * their EMsg and their game coordinator message type allow them to be sent.
+ *
+ * <p>Use {@link #of(SendSchedulerConfig)} to create a scheduler that dispatches messages on its own
+ * thread. {@link #manual(SendSchedulerConfig, LongSupplier)} creates a scheduler without a thread
+ * and with a custom clock, messages are then only dispatched when calling {@link #drain()}. This
+ * makes it possible to verify the throughput deterministically.
+ */
+@Slf4j
+public class SendScheduler {
+  public static final int NO_GC_MSG_TYPE = -1;
+  private final SendSchedulerConfig config;
+  private final LongSupplier clock;
+  private final Map<SendPriority, Deque<SendTask>> lanes = new EnumMap<>(SendPriority.class);
+  private final Map<Integer, TokenBucket> emsgBuckets = new HashMap<>();
+  private final Map<Integer, TokenBucket> gcMsgBuckets = new HashMap<>();
+  private final TokenBucket accountBucket;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition hasWork = lock.newCondition();
+  private final Condition notFull = lock.newCondition();
+  private final ExecutorService executor;
+  @Getter private final SendSchedulerStats stats = new SendSchedulerStats();
+  private volatile boolean running = true;
+  private long nanosUntilNextTask;
+  private int queued;
+
+  private SendScheduler(SendSchedulerConfig config, LongSupplier clock, boolean startDispatcher) {
+    this.config = config;
+    this.clock = clock;
+    this.accountBucket =
+        config.getAccountLimitOptional().map(limit -> new TokenBucket(limit, clock)).orElse(null);
+    for (SendPriority priority : SendPriority.values()) {
+      lanes.put(priority, new ArrayDeque<>());
+    }
+
+    if (startDispatcher) {
+      this.executor =
+          Executors.newSingleThreadExecutor(
+              Thread.ofPlatform().name("send-scheduler").daemon().factory());
+      this.executor.execute(this::dispatchLoop);
+    } else {
+      this.executor = null;
+    }
+  }
+
+  public static SendScheduler of(SendSchedulerConfig config) {
+    return new SendScheduler(config, System::nanoTime, true);
+  }
+
+  /**
+   * Creates a scheduler without a dispatcher thread. Messages are sent when calling {@link
+   * #drain()}, using the given clock for the rate limits. Only {@link OverflowPolicy#SHED} is
+   * supported, a submit waiting for room could only be released by a drain of the same thread.
+   *
+   * @param config the scheduler configuration
+   * @param clock clock returning the current time in nanoseconds
+   * @return the scheduler
+   * @throws IllegalArgumentException if the overflow policy is {@link OverflowPolicy#DELAY}
+   */
+  public static SendScheduler manual(SendSchedulerConfig config, LongSupplier clock) {
+    if (config.getOverflowPolicy() == OverflowPolicy.DELAY) {
+      throw new IllegalArgumentException("A manual send scheduler can not delay submits");
+    }
+    return new SendScheduler(config, clock, false);
+  }
+
+  /**
+   * Submit a message to be sent.
+   *
+   * @param emsg the EMsg of the message
+   * @param gcMsgType the game coordinator message type or {@link #NO_GC_MSG_TYPE}
+   * @param send the action that writes the message to the connection
+   * @return false if the message was shed because the queue was full
+   */
+  public boolean submit(int emsg, int gcMsgType, Runnable send) {
+    SendPriority priority = config.getPriority(emsg);
+    SendTask task = new SendTask(emsg, gcMsgType, priority, send, clock.getAsLong());
+
+    lock.lock();
+    try {
+      if (priority != SendPriority.HIGH) {
+        while (queued >= config.getQueueCapacity()) {
+          if (priority == SendPriority.NORMAL && shedOldestLowPriorityTask()) {
+            break;
+          }
+
+          if (config.getOverflowPolicy() == OverflowPolicy.SHED) {
+            stats.onShed();
+            log.warn("Send queue is full, shedding message with EMsg {}", emsg);
+            return false;
+          }
+          notFull.await();
+        }
+        queued++;
+      }
+
+      lanes.get(priority).addLast(task);
+      hasWork.signal();
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public boolean submit(int emsg, Runnable send) {
+    return submit(emsg, NO_GC_MSG_TYPE, send);
+  }
+
+  /**
+   * Sends all messages that the rate limits allow at the current time of the clock.
+   *
+   * @return the number of sent messages
+   */
+  public int drain() {
+    int count = 0;
+    SendTask task;
+    while ((task = withLock(this::nextTask)) != null) {
+      send(task);
+      count++;
+    }
+    return count;
+  }
+
+  public int getQueuedCount() {
+    return withLock(() -> lanes.values().stream().mapToInt(Deque::size).sum());
+  }
+
+  public void shutdown() {
+    running = false;
+    if (executor != null) {
+      withLock(hasWork::signalAll);
+      executor.shutdown();
+    }
+  }
+
+  private void dispatchLoop() {
+    while (running) {
+      SendTask task;
+      lock.lock();
+      try {
+        while ((task = nextTask()) == null && running) {
+          if (nanosUntilNextTask == Long.MAX_VALUE) {
+            hasWork.await();
+          } else {
+            hasWork.awaitNanos(nanosUntilNextTask);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      } finally {
+        lock.unlock();
+      }
+
+      if (task != null) {
+        send(task);
+      }
+    }
+  }
+
+  private void send(SendTask task) {
+    stats.onSent(clock.getAsLong() - task.enqueuedNanos());
+    try {
+      task.send().run();
+    } catch (Exception e) {
+      log.error("Failed to send message with EMsg {}", task.emsg(), e);
+    }
+  }
+
+  /** Finds the next task that can be sent, must be called while holding the lock. */
+  private SendTask nextTask() {
+    nanosUntilNextTask = Long.MAX_VALUE;
+
+    SendTask highPriorityTask = lanes.get(SendPriority.HIGH).pollFirst();
+    if (highPriorityTask != null) {
+      return highPriorityTask;
+    }
+
+    if (queued == 0) {
+      return null;
+    }
+
+    long accountWait = waitOf(accountBucket);
+    if (accountWait > 0) {
+      nanosUntilNextTask = accountWait;
+      return null;
+    }
+
+    // Only the head of a lane may be sent, a lane keeps the order of its messages
+    for (SendPriority priority : new SendPriority[] {SendPriority.NORMAL, SendPriority.LOW}) {
+      Deque<SendTask> lane = lanes.get(priority);
+      SendTask task = lane.peekFirst();
+      if (task == null) {
+        continue;
+      }
+
+      TokenBucket emsgBucket = getBucket(emsgBuckets, config.getEmsgLimits(), task.emsg());
+      TokenBucket gcMsgBucket = getBucket(gcMsgBuckets, config.getGcMsgLimits(), task.gcMsgType());
+      long wait = Math.max(waitOf(emsgBucket), waitOf(gcMsgBucket));
+      if (wait > 0) {
+        nanosUntilNextTask = Math.min(nanosUntilNextTask, wait);
+        continue;
+      }
+
+      lane.pollFirst();
+      consume(accountBucket);
+      consume(emsgBucket);
+      consume(gcMsgBucket);
+      queued--;
+      notFull.signal();
+      return task;
+    }
+
+    return null;
+  }
+
+  private boolean shedOldestLowPriorityTask() {
+    SendTask task = lanes.get(SendPriority.LOW).pollFirst();
+    if (task == null) {
+      return false;
+    }
+
+    queued--;
+    stats.onShed();
+    log.warn("Send queue is full, shedding low priority message with EMsg {}", task.emsg());
+    return true;
+  }
+
+  private TokenBucket getBucket(
+      Map<Integer, TokenBucket> buckets, Map<Integer, RateLimit> limits, int key) {
+    RateLimit limit = limits.get(key);
+    if (limit == null) {
+      return null;
+    }
+    return buckets.computeIfAbsent(key, k -> new TokenBucket(limit, clock));
+  }
+
+  private static long waitOf(TokenBucket bucket) {
+    return bucket != null ? bucket.nanosUntilAvailable() : 0;
+  }
+
+  private static void consume(TokenBucket bucket) {
+    if (bucket != null) {
+      bucket.consume();
+    }
+  }
+
+  private void withLock(Runnable runnable) {
+    lock.lock();
+    try {
+      runnable.run();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private <T> T withLock(Supplier<T> supplier) {
+    lock.lock();
+    try {
+      return supplier.get();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private record SendTask(
+      int emsg, int gcMsgType, SendPriority priority, Runnable send, long enqueuedNanos) {}
+}
@@ -0,0 +1,57 @@
+package com.javasteam.steam.scheduler;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+
+import java.util.Map;
+import java.util.Optional;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Configuration for a {@link SendScheduler}. Rate limits can be configured per EMsg, per game
+ * coordinator message type and for the whole account. Messages without a configured priority use
+ * {@link #DEFAULT_PRIORITIES} and fall back to {@link SendPriority#NORMAL}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * SendSchedulerConfig config =
+ *     SendSchedulerConfig.builder()
+ *         .withAccountLimit(RateLimit.perSecond(50))
+ *         .withGcMsgLimit(9172, RateLimit.perSecond(1))
+ *         .withPriority(EMsg.k_EMsgClientGamesPlayed_VALUE, SendPriority.LOW)
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class SendSchedulerConfig {
+  public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+  public static final Map<Integer, SendPriority> DEFAULT_PRIORITIES =
+      Map.of(
+          EMsg.k_EMsgChannelEncryptResponse_VALUE, SendPriority.HIGH,
+          EMsg.k_EMsgClientHeartBeat_VALUE, SendPriority.HIGH,
+          EMsg.k_EMsgClientLogon_VALUE, SendPriority.HIGH,
+          EMsg.k_EMsgClientLogOff_VALUE, SendPriority.HIGH);
+
+  @Singular private final Map<Integer, RateLimit> emsgLimits;
+  @Singular private final Map<Integer, RateLimit> gcMsgLimits;
+  @Singular private final Map<Integer, SendPriority> priorities;
+  private final RateLimit accountLimit;
+  @Builder.Default private final int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+  @Builder.Default private final OverflowPolicy overflowPolicy = OverflowPolicy.SHED;
+
+  public static SendSchedulerConfig defaults() {
+    return SendSchedulerConfig.builder().build();
+  }
+
+  public SendPriority getPriority(int emsg) {
+    return priorities.getOrDefault(
+        emsg, DEFAULT_PRIORITIES.getOrDefault(emsg, SendPriority.NORMAL));
+  }
+
+  public Optional<RateLimit> getAccountLimitOptional() {
+    return Optional.ofNullable(accountLimit);
+  }
+}
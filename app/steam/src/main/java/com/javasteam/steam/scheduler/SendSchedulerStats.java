@@ -0,0 +1,50 @@
+package com.javasteam.steam.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Counters of a {@link SendScheduler}, including the time messages spent queued. */
+public class SendSchedulerStats {
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder shed = new LongAdder();
+  private final LongAdder queuedNanos = new LongAdder();
+  private final AtomicLong maxQueuedNanos = new AtomicLong();
+
+  void onSent(long nanosQueued) {
+    sent.increment();
+    queuedNanos.add(nanosQueued);
+    maxQueuedNanos.accumulateAndGet(nanosQueued, Math::max);
+  }
+
+  void onShed() {
+    shed.increment();
+  }
+
+  public long getSentCount() {
+    return sent.sum();
+  }
+
+  public long getShedCount() {
+    return shed.sum();
+  }
+
+  /** Total time in nanoseconds the sent messages spent queued. */
+  public long getQueuedNanos() {
+    return queuedNanos.sum();
+  }
+
+  public long getMaxQueuedNanos() {
+    return maxQueuedNanos.get();
+  }
+
+  public double getAverageQueuedNanos() {
+    long count = getSentCount();
+    return count == 0 ? 0 : (double) getQueuedNanos() / count;
+  }
+
+  @Override
+  public String toString() {
+    return "SendSchedulerStats(sent=%s, shed=%s, avgQueuedNanos=%.0f, maxQueuedNanos=%s)"
+        .formatted(getSentCount(), getShedCount(), getAverageQueuedNanos(), getMaxQueuedNanos());
+  }
+}
@@ -0,0 +1,43 @@
+package com.javasteam.steam.scheduler;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket used by the {@link SendScheduler}. Not thread safe, the scheduler only accesses the
+ * buckets while holding its lock.
+ */
+class TokenBucket {
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+  private final RateLimit limit;
+  private final LongSupplier clock;
+  private double tokens;
+  private long lastRefillNanos;
+
+  TokenBucket(RateLimit limit, LongSupplier clock) {
+    this.limit = limit;
+    this.clock = clock;
+    this.tokens = limit.burst();
+    this.lastRefillNanos = clock.getAsLong();
+  }
+
+  /** Returns the time in nanoseconds until a token is available, 0 if one is available now. */
+  long nanosUntilAvailable() {
+    refill();
+    if (tokens >= 1) {
+      return 0;
+    }
+    return (long) Math.ceil((1 - tokens) / limit.permitsPerSecond() * NANOS_PER_SECOND);
+  }
+
+  void consume() {
+    refill();
+    tokens -= 1;
+  }
+
+  private void refill() {
+    long now = clock.getAsLong();
+    double refilled = (now - lastRefillNanos) * limit.permitsPerSecond() / NANOS_PER_SECOND;
+    tokens = Math.min(limit.burst(), tokens + refilled);
+    lastRefillNanos = now;
+  }
+}
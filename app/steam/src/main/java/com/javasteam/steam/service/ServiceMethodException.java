@@ -0,0 +1,21 @@
+package com.javasteam.steam.service;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a service method call fails with a result other than {@link
+ * com.javasteam.steam.common.EResult#OK}.
+ */
+@Getter
+public class ServiceMethodException extends RuntimeException {
+  private final String method;
+  private final int result;
+
+  public ServiceMethodException(String method, int result, String errorMessage) {
+    super(
+        "Service method %s failed, EResult: %s%s"
+            .formatted(method, result, errorMessage.isEmpty() ? "" : ", " + errorMessage));
+    this.method = method;
+    this.result = result;
+  }
+}
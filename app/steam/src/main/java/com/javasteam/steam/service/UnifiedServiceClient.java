@@ -0,0 +1,193 @@
+package com.javasteam.steam.service;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+import static com.javasteam.protobufs.SteammessagesBase.CMsgProtoBufHeader;
+
+import com.google.protobuf.GeneratedMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import com.javasteam.models.Job;
+import com.javasteam.models.headers.ProtoMessageHeader;
+import com.javasteam.models.messages.ProtoMessage;
+import com.javasteam.steam.common.EResult;
+import com.javasteam.steam.handlers.HasJobSender;
+import com.javasteam.utils.collections.ConcurrentLongHashMap;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Client for unified service methods, for example {@code Player.GetOwnedGames#1}. Every call gets
+ * its own job id and a future that completes with the response, so any number of calls can be in
+ * flight at once. Calls fail with a {@link ServiceMethodException} if the result is not OK and with
+ * a {@link TimeoutException} when the deadline passes.
+ *
+ * <p>The typed stubs in {@code com.javasteam.steam.service.stubs} are generated from the service
+ * definitions of the proto files, see {@code protobuf-generation/ServiceStubGenerator.java}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * AuthenticationService authentication = AuthenticationService.of(client.getServiceClient());
+ * authentication
+ *     .getPasswordRSAPublicKey(request, Duration.ofSeconds(5))
+ *     .thenAccept(response -> log.info("Received key {}", response.getPublickeyMod()));
+ * }</pre>
+ */
+@Slf4j
+public class UnifiedServiceClient {
+  public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(30);
+  private static final int REALM = 1;
+  private final HasJobSender sender;
+  private final LongSupplier jobIds;
+  private final ScheduledExecutorService executor;
+  private final ConcurrentLongHashMap<PendingCall<?>> pendingCalls = new ConcurrentLongHashMap<>();
+
+  private UnifiedServiceClient(
+      HasJobSender sender, LongSupplier jobIds, ScheduledExecutorService executor) {
+    this.sender = sender;
+    this.jobIds = jobIds;
+    this.executor = executor;
+  }
+
+  /**
+   * Create a service client.
+   *
+   * @param sender sends the service method calls
+   * @param jobIds allocates the source job ids
+   * @param executor executor used for the deadlines
+   * @return the service client
+   */
+  public static UnifiedServiceClient of(
+      HasJobSender sender, LongSupplier jobIds, ScheduledExecutorService executor) {
+    return new UnifiedServiceClient(sender, jobIds, executor);
+  }
+
+  /**
+   * Call a service method.
+   *
+   * @param method the method name, {@code Service.Method#1}
+   * @param request the request body
+   * @param parser parser of the response body
+   * @param deadline the time to wait for the response
+   * @return a future that completes with the response
+   */
+  public <T extends Message> CompletableFuture<T> call(
+      String method, GeneratedMessage request, Parser<T> parser, Duration deadline) {
+    long jobId = jobIds.getAsLong();
+    Job job = Job.of(method, REALM);
+    job.setSourceJobId(jobId);
+
+    PendingCall<T> call = new PendingCall<>(method, parser, new CompletableFuture<>());
+    pendingCalls.put(jobId, call);
+    // A response that arrives before the timeout is scheduled makes the timeout a no-op
+    call.timeout =
+        executor.schedule(() -> timeout(jobId, deadline), deadline.toNanos(), TimeUnit.NANOSECONDS);
+
+    try {
+      sender.sendJob(ProtoMessage.of(createHeader(), request), job);
+    } catch (RuntimeException e) {
+      pendingCalls.remove(jobId);
+      call.cancelTimeout();
+      call.future.completeExceptionally(e);
+    }
+    return call.future;
+  }
+
+  /**
+   * Call a service method that has no response, like a notification.
+   *
+   * @param method the method name, {@code Service.Method#1}
+   * @param request the request body
+   */
+  public void notify(String method, GeneratedMessage request) {
+    sender.sendJob(ProtoMessage.of(createHeader(), request), Job.of(method, REALM));
+  }
+
+  /**
+   * Complete the call of a service method response.
+   *
+   * @param header the header of the response
+   * @param body the response body
+   * @return false if the response is not for a call of this client
+   */
+  public boolean onResponse(CMsgProtoBufHeader header, byte[] body) {
+    PendingCall<?> call = pendingCalls.remove(header.getJobidTarget());
+    if (call == null) {
+      return false;
+    }
+
+    call.cancelTimeout();
+    if (header.getEresult() != EResult.OK) {
+      call.future.completeExceptionally(
+          new ServiceMethodException(call.method, header.getEresult(), header.getErrorMessage()));
+      return true;
+    }
+
+    call.complete(body);
+    return true;
+  }
+
+  /** Fail all calls in flight, for example when the connection is closed. */
+  public void failAll(Throwable cause) {
+    for (long jobId : pendingCalls.keys()) {
+      PendingCall<?> call = pendingCalls.remove(jobId);
+      if (call != null) {
+        call.cancelTimeout();
+        call.future.completeExceptionally(cause);
+      }
+    }
+  }
+
+  public int getInFlightCount() {
+    return pendingCalls.size();
+  }
+
+  private void timeout(long jobId, Duration deadline) {
+    PendingCall<?> call = pendingCalls.remove(jobId);
+    if (call != null) {
+      call.future.completeExceptionally(
+          new TimeoutException(
+              "Service method %s timed out after %s".formatted(call.method, deadline)));
+    }
+  }
+
+  private ProtoMessageHeader createHeader() {
+    return ProtoMessageHeader.of(
+        EMsg.k_EMsgServiceMethodCallFromClient_VALUE, CMsgProtoBufHeader.getDefaultInstance());
+  }
+
+  private static final class PendingCall<T extends Message> {
+    private final String method;
+    private final Parser<T> parser;
+    private final CompletableFuture<T> future;
+    private volatile ScheduledFuture<?> timeout;
+
+    private PendingCall(String method, Parser<T> parser, CompletableFuture<T> future) {
+      this.method = method;
+      this.parser = parser;
+      this.future = future;
+    }
+
+    private void cancelTimeout() {
+      ScheduledFuture<?> timeout = this.timeout;
+      if (timeout != null) {
+        timeout.cancel(false);
+      }
+    }
+
+    private void complete(byte[] body) {
+      try {
+        future.complete(parser.parseFrom(body));
+      } catch (InvalidProtocolBufferException e) {
+        future.completeExceptionally(e);
+      }
+    }
+  }
+}
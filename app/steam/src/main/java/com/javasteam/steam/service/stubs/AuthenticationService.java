@@ -0,0 +1,272 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_AccessToken_GenerateForApp_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_AccessToken_GenerateForApp_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_BeginAuthSessionViaCredentials_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_BeginAuthSessionViaCredentials_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_BeginAuthSessionViaQR_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_BeginAuthSessionViaQR_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetAuthSessionInfo_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetAuthSessionInfo_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetAuthSessionsForAccount_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetAuthSessionsForAccount_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetPasswordRSAPublicKey_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_GetPasswordRSAPublicKey_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_MigrateMobileSession_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_MigrateMobileSession_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_PollAuthSessionStatus_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_PollAuthSessionStatus_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_RefreshToken_Enumerate_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_RefreshToken_Enumerate_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_RefreshToken_Revoke_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_RefreshToken_Revoke_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_Token_Revoke_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_Token_Revoke_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_UpdateAuthSessionWithMobileConfirmation_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_UpdateAuthSessionWithMobileConfirmation_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_UpdateAuthSessionWithSteamGuardCode_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_UpdateAuthSessionWithSteamGuardCode_Response;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stub of the {@code Authentication} unified service, generated from {@code
+ * steammessages_auth.steamclient.proto} by {@code protobuf-generation/ServiceStubGenerator.java}.
+ * Do not edit.
+ */
+public class AuthenticationService {
+  private final UnifiedServiceClient client;
+
+  private AuthenticationService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static AuthenticationService of(UnifiedServiceClient client) {
+    return new AuthenticationService(client);
+  }
+
+  /** Calls {@code Authentication.GetPasswordRSAPublicKey#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_GetPasswordRSAPublicKey_Response>
+      getPasswordRSAPublicKey(CAuthentication_GetPasswordRSAPublicKey_Request request) {
+    return getPasswordRSAPublicKey(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.GetPasswordRSAPublicKey#1}. */
+  public CompletableFuture<CAuthentication_GetPasswordRSAPublicKey_Response>
+      getPasswordRSAPublicKey(
+          CAuthentication_GetPasswordRSAPublicKey_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.GetPasswordRSAPublicKey#1",
+        request,
+        CAuthentication_GetPasswordRSAPublicKey_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.BeginAuthSessionViaQR#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_BeginAuthSessionViaQR_Response> beginAuthSessionViaQR(
+      CAuthentication_BeginAuthSessionViaQR_Request request) {
+    return beginAuthSessionViaQR(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.BeginAuthSessionViaQR#1}. */
+  public CompletableFuture<CAuthentication_BeginAuthSessionViaQR_Response> beginAuthSessionViaQR(
+      CAuthentication_BeginAuthSessionViaQR_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.BeginAuthSessionViaQR#1",
+        request,
+        CAuthentication_BeginAuthSessionViaQR_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.BeginAuthSessionViaCredentials#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_BeginAuthSessionViaCredentials_Response>
+      beginAuthSessionViaCredentials(
+          CAuthentication_BeginAuthSessionViaCredentials_Request request) {
+    return beginAuthSessionViaCredentials(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.BeginAuthSessionViaCredentials#1}. */
+  public CompletableFuture<CAuthentication_BeginAuthSessionViaCredentials_Response>
+      beginAuthSessionViaCredentials(
+          CAuthentication_BeginAuthSessionViaCredentials_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.BeginAuthSessionViaCredentials#1",
+        request,
+        CAuthentication_BeginAuthSessionViaCredentials_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.PollAuthSessionStatus#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_PollAuthSessionStatus_Response> pollAuthSessionStatus(
+      CAuthentication_PollAuthSessionStatus_Request request) {
+    return pollAuthSessionStatus(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.PollAuthSessionStatus#1}. */
+  public CompletableFuture<CAuthentication_PollAuthSessionStatus_Response> pollAuthSessionStatus(
+      CAuthentication_PollAuthSessionStatus_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.PollAuthSessionStatus#1",
+        request,
+        CAuthentication_PollAuthSessionStatus_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.GetAuthSessionInfo#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_GetAuthSessionInfo_Response> getAuthSessionInfo(
+      CAuthentication_GetAuthSessionInfo_Request request) {
+    return getAuthSessionInfo(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.GetAuthSessionInfo#1}. */
+  public CompletableFuture<CAuthentication_GetAuthSessionInfo_Response> getAuthSessionInfo(
+      CAuthentication_GetAuthSessionInfo_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.GetAuthSessionInfo#1",
+        request,
+        CAuthentication_GetAuthSessionInfo_Response.parser(),
+        deadline);
+  }
+
+  /**
+   * Calls {@code Authentication.UpdateAuthSessionWithMobileConfirmation#1} with the default
+   * deadline.
+   */
+  public CompletableFuture<CAuthentication_UpdateAuthSessionWithMobileConfirmation_Response>
+      updateAuthSessionWithMobileConfirmation(
+          CAuthentication_UpdateAuthSessionWithMobileConfirmation_Request request) {
+    return updateAuthSessionWithMobileConfirmation(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.UpdateAuthSessionWithMobileConfirmation#1}. */
+  public CompletableFuture<CAuthentication_UpdateAuthSessionWithMobileConfirmation_Response>
+      updateAuthSessionWithMobileConfirmation(
+          CAuthentication_UpdateAuthSessionWithMobileConfirmation_Request request,
+          Duration deadline) {
+    return client.call(
+        "Authentication.UpdateAuthSessionWithMobileConfirmation#1",
+        request,
+        CAuthentication_UpdateAuthSessionWithMobileConfirmation_Response.parser(),
+        deadline);
+  }
+
+  /**
+   * Calls {@code Authentication.UpdateAuthSessionWithSteamGuardCode#1} with the default deadline.
+   */
+  public CompletableFuture<CAuthentication_UpdateAuthSessionWithSteamGuardCode_Response>
+      updateAuthSessionWithSteamGuardCode(
+          CAuthentication_UpdateAuthSessionWithSteamGuardCode_Request request) {
+    return updateAuthSessionWithSteamGuardCode(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.UpdateAuthSessionWithSteamGuardCode#1}. */
+  public CompletableFuture<CAuthentication_UpdateAuthSessionWithSteamGuardCode_Response>
+      updateAuthSessionWithSteamGuardCode(
+          CAuthentication_UpdateAuthSessionWithSteamGuardCode_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.UpdateAuthSessionWithSteamGuardCode#1",
+        request,
+        CAuthentication_UpdateAuthSessionWithSteamGuardCode_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.GenerateAccessTokenForApp#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_AccessToken_GenerateForApp_Response>
+      generateAccessTokenForApp(CAuthentication_AccessToken_GenerateForApp_Request request) {
+    return generateAccessTokenForApp(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.GenerateAccessTokenForApp#1}. */
+  public CompletableFuture<CAuthentication_AccessToken_GenerateForApp_Response>
+      generateAccessTokenForApp(
+          CAuthentication_AccessToken_GenerateForApp_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.GenerateAccessTokenForApp#1",
+        request,
+        CAuthentication_AccessToken_GenerateForApp_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.EnumerateTokens#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_RefreshToken_Enumerate_Response> enumerateTokens(
+      CAuthentication_RefreshToken_Enumerate_Request request) {
+    return enumerateTokens(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.EnumerateTokens#1}. */
+  public CompletableFuture<CAuthentication_RefreshToken_Enumerate_Response> enumerateTokens(
+      CAuthentication_RefreshToken_Enumerate_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.EnumerateTokens#1",
+        request,
+        CAuthentication_RefreshToken_Enumerate_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.GetAuthSessionsForAccount#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_GetAuthSessionsForAccount_Response>
+      getAuthSessionsForAccount(CAuthentication_GetAuthSessionsForAccount_Request request) {
+    return getAuthSessionsForAccount(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.GetAuthSessionsForAccount#1}. */
+  public CompletableFuture<CAuthentication_GetAuthSessionsForAccount_Response>
+      getAuthSessionsForAccount(
+          CAuthentication_GetAuthSessionsForAccount_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.GetAuthSessionsForAccount#1",
+        request,
+        CAuthentication_GetAuthSessionsForAccount_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.MigrateMobileSession#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_MigrateMobileSession_Response> migrateMobileSession(
+      CAuthentication_MigrateMobileSession_Request request) {
+    return migrateMobileSession(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.MigrateMobileSession#1}. */
+  public CompletableFuture<CAuthentication_MigrateMobileSession_Response> migrateMobileSession(
+      CAuthentication_MigrateMobileSession_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.MigrateMobileSession#1",
+        request,
+        CAuthentication_MigrateMobileSession_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.RevokeToken#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_Token_Revoke_Response> revokeToken(
+      CAuthentication_Token_Revoke_Request request) {
+    return revokeToken(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.RevokeToken#1}. */
+  public CompletableFuture<CAuthentication_Token_Revoke_Response> revokeToken(
+      CAuthentication_Token_Revoke_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.RevokeToken#1",
+        request,
+        CAuthentication_Token_Revoke_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Authentication.RevokeRefreshToken#1} with the default deadline. */
+  public CompletableFuture<CAuthentication_RefreshToken_Revoke_Response> revokeRefreshToken(
+      CAuthentication_RefreshToken_Revoke_Request request) {
+    return revokeRefreshToken(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Authentication.RevokeRefreshToken#1}. */
+  public CompletableFuture<CAuthentication_RefreshToken_Revoke_Response> revokeRefreshToken(
+      CAuthentication_RefreshToken_Revoke_Request request, Duration deadline) {
+    return client.call(
+        "Authentication.RevokeRefreshToken#1",
+        request,
+        CAuthentication_RefreshToken_Revoke_Response.parser(),
+        deadline);
+  }
+}
@@ -0,0 +1,100 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_GetTokenHistory_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_GetTokenHistory_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_QueryRefreshTokenByID_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_QueryRefreshTokenByID_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_QueryRefreshTokensByAccount_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_QueryRefreshTokensByAccount_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_RevokeToken_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticationSupport_RevokeToken_Response;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stub of the {@code AuthenticationSupport} unified service, generated from {@code
+ * steammessages_auth.steamclient.proto} by {@code protobuf-generation/ServiceStubGenerator.java}.
+ * Do not edit.
+ */
+public class AuthenticationSupportService {
+  private final UnifiedServiceClient client;
+
+  private AuthenticationSupportService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static AuthenticationSupportService of(UnifiedServiceClient client) {
+    return new AuthenticationSupportService(client);
+  }
+
+  /**
+   * Calls {@code AuthenticationSupport.QueryRefreshTokensByAccount#1} with the default deadline.
+   */
+  public CompletableFuture<CAuthenticationSupport_QueryRefreshTokensByAccount_Response>
+      queryRefreshTokensByAccount(
+          CAuthenticationSupport_QueryRefreshTokensByAccount_Request request) {
+    return queryRefreshTokensByAccount(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code AuthenticationSupport.QueryRefreshTokensByAccount#1}. */
+  public CompletableFuture<CAuthenticationSupport_QueryRefreshTokensByAccount_Response>
+      queryRefreshTokensByAccount(
+          CAuthenticationSupport_QueryRefreshTokensByAccount_Request request, Duration deadline) {
+    return client.call(
+        "AuthenticationSupport.QueryRefreshTokensByAccount#1",
+        request,
+        CAuthenticationSupport_QueryRefreshTokensByAccount_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code AuthenticationSupport.QueryRefreshTokenByID#1} with the default deadline. */
+  public CompletableFuture<CAuthenticationSupport_QueryRefreshTokenByID_Response>
+      queryRefreshTokenByID(CAuthenticationSupport_QueryRefreshTokenByID_Request request) {
+    return queryRefreshTokenByID(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code AuthenticationSupport.QueryRefreshTokenByID#1}. */
+  public CompletableFuture<CAuthenticationSupport_QueryRefreshTokenByID_Response>
+      queryRefreshTokenByID(
+          CAuthenticationSupport_QueryRefreshTokenByID_Request request, Duration deadline) {
+    return client.call(
+        "AuthenticationSupport.QueryRefreshTokenByID#1",
+        request,
+        CAuthenticationSupport_QueryRefreshTokenByID_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code AuthenticationSupport.RevokeToken#1} with the default deadline. */
+  public CompletableFuture<CAuthenticationSupport_RevokeToken_Response> revokeToken(
+      CAuthenticationSupport_RevokeToken_Request request) {
+    return revokeToken(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code AuthenticationSupport.RevokeToken#1}. */
+  public CompletableFuture<CAuthenticationSupport_RevokeToken_Response> revokeToken(
+      CAuthenticationSupport_RevokeToken_Request request, Duration deadline) {
+    return client.call(
+        "AuthenticationSupport.RevokeToken#1",
+        request,
+        CAuthenticationSupport_RevokeToken_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code AuthenticationSupport.GetTokenHistory#1} with the default deadline. */
+  public CompletableFuture<CAuthenticationSupport_GetTokenHistory_Response> getTokenHistory(
+      CAuthenticationSupport_GetTokenHistory_Request request) {
+    return getTokenHistory(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code AuthenticationSupport.GetTokenHistory#1}. */
+  public CompletableFuture<CAuthenticationSupport_GetTokenHistory_Response> getTokenHistory(
+      CAuthenticationSupport_GetTokenHistory_Request request, Duration deadline) {
+    return client.call(
+        "AuthenticationSupport.GetTokenHistory#1",
+        request,
+        CAuthenticationSupport_GetTokenHistory_Response.parser(),
+        deadline);
+  }
+}
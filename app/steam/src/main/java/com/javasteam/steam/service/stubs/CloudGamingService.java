@@ -0,0 +1,56 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CCloudGaming_CreateNonce_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CCloudGaming_CreateNonce_Response;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CCloudGaming_GetTimeRemaining_Request;
+import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CCloudGaming_GetTimeRemaining_Response;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stub of the {@code CloudGaming} unified service, generated from {@code
+ * steammessages_auth.steamclient.proto} by {@code protobuf-generation/ServiceStubGenerator.java}.
+ * Do not edit.
+ */
+public class CloudGamingService {
+  private final UnifiedServiceClient client;
+
+  private CloudGamingService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static CloudGamingService of(UnifiedServiceClient client) {
+    return new CloudGamingService(client);
+  }
+
+  /** Calls {@code CloudGaming.CreateNonce#1} with the default deadline. */
+  public CompletableFuture<CCloudGaming_CreateNonce_Response> createNonce(
+      CCloudGaming_CreateNonce_Request request) {
+    return createNonce(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code CloudGaming.CreateNonce#1}. */
+  public CompletableFuture<CCloudGaming_CreateNonce_Response> createNonce(
+      CCloudGaming_CreateNonce_Request request, Duration deadline) {
+    return client.call(
+        "CloudGaming.CreateNonce#1", request, CCloudGaming_CreateNonce_Response.parser(), deadline);
+  }
+
+  /** Calls {@code CloudGaming.GetTimeRemaining#1} with the default deadline. */
+  public CompletableFuture<CCloudGaming_GetTimeRemaining_Response> getTimeRemaining(
+      CCloudGaming_GetTimeRemaining_Request request) {
+    return getTimeRemaining(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code CloudGaming.GetTimeRemaining#1}. */
+  public CompletableFuture<CCloudGaming_GetTimeRemaining_Response> getTimeRemaining(
+      CCloudGaming_GetTimeRemaining_Request request, Duration deadline) {
+    return client.call(
+        "CloudGaming.GetTimeRemaining#1",
+        request,
+        CCloudGaming_GetTimeRemaining_Response.parser(),
+        deadline);
+  }
+}
@@ -0,0 +1,94 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Request;
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_ClientGetItemShopOverlayAuthURL_Response;
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Request;
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetAssetClassInfo_Response;
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Request;
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetInventoryItemsWithDescriptions_Response;
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Request;
+import static com.javasteam.protobufs.SteammessagesEconSteamclient.CEcon_GetTradeOfferAccessToken_Response;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stub of the {@code Econ} unified service, generated from {@code
+ * steammessages_econ.steamclient.proto} by {@code protobuf-generation/ServiceStubGenerator.java}.
+ * Do not edit.
+ */
+public class EconService {
+  private final UnifiedServiceClient client;
+
+  private EconService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static EconService of(UnifiedServiceClient client) {
+    return new EconService(client);
+  }
+
+  /** Calls {@code Econ.GetInventoryItemsWithDescriptions#1} with the default deadline. */
+  public CompletableFuture<CEcon_GetInventoryItemsWithDescriptions_Response>
+      getInventoryItemsWithDescriptions(CEcon_GetInventoryItemsWithDescriptions_Request request) {
+    return getInventoryItemsWithDescriptions(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Econ.GetInventoryItemsWithDescriptions#1}. */
+  public CompletableFuture<CEcon_GetInventoryItemsWithDescriptions_Response>
+      getInventoryItemsWithDescriptions(
+          CEcon_GetInventoryItemsWithDescriptions_Request request, Duration deadline) {
+    return client.call(
+        "Econ.GetInventoryItemsWithDescriptions#1",
+        request,
+        CEcon_GetInventoryItemsWithDescriptions_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Econ.GetTradeOfferAccessToken#1} with the default deadline. */
+  public CompletableFuture<CEcon_GetTradeOfferAccessToken_Response> getTradeOfferAccessToken(
+      CEcon_GetTradeOfferAccessToken_Request request) {
+    return getTradeOfferAccessToken(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Econ.GetTradeOfferAccessToken#1}. */
+  public CompletableFuture<CEcon_GetTradeOfferAccessToken_Response> getTradeOfferAccessToken(
+      CEcon_GetTradeOfferAccessToken_Request request, Duration deadline) {
+    return client.call(
+        "Econ.GetTradeOfferAccessToken#1",
+        request,
+        CEcon_GetTradeOfferAccessToken_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Econ.ClientGetItemShopOverlayAuthURL#1} with the default deadline. */
+  public CompletableFuture<CEcon_ClientGetItemShopOverlayAuthURL_Response>
+      clientGetItemShopOverlayAuthURL(CEcon_ClientGetItemShopOverlayAuthURL_Request request) {
+    return clientGetItemShopOverlayAuthURL(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Econ.ClientGetItemShopOverlayAuthURL#1}. */
+  public CompletableFuture<CEcon_ClientGetItemShopOverlayAuthURL_Response>
+      clientGetItemShopOverlayAuthURL(
+          CEcon_ClientGetItemShopOverlayAuthURL_Request request, Duration deadline) {
+    return client.call(
+        "Econ.ClientGetItemShopOverlayAuthURL#1",
+        request,
+        CEcon_ClientGetItemShopOverlayAuthURL_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Econ.GetAssetClassInfo#1} with the default deadline. */
+  public CompletableFuture<CEcon_GetAssetClassInfo_Response> getAssetClassInfo(
+      CEcon_GetAssetClassInfo_Request request) {
+    return getAssetClassInfo(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Econ.GetAssetClassInfo#1}. */
+  public CompletableFuture<CEcon_GetAssetClassInfo_Response> getAssetClassInfo(
+      CEcon_GetAssetClassInfo_Request request, Duration deadline) {
+    return client.call(
+        "Econ.GetAssetClassInfo#1", request, CEcon_GetAssetClassInfo_Response.parser(), deadline);
+  }
+}
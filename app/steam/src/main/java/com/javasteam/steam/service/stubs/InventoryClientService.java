@@ -0,0 +1,27 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventoryClient_NewItems_Notification;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+
+/**
+ * Stub of the {@code InventoryClient} unified service, generated from {@code
+ * steammessages_inventory.steamclient.proto} by {@code
+ * protobuf-generation/ServiceStubGenerator.java}. Do not edit.
+ */
+public class InventoryClientService {
+  private final UnifiedServiceClient client;
+
+  private InventoryClientService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static InventoryClientService of(UnifiedServiceClient client) {
+    return new InventoryClientService(client);
+  }
+
+  /** Sends {@code InventoryClient.NotifyNewItems#1}, which has no response. */
+  public void notifyNewItems(CInventoryClient_NewItems_Notification request) {
+    client.notify("InventoryClient.NotifyNewItems#1", request);
+  }
+}
@@ -0,0 +1,255 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_AddItem_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_CombineItemStacks_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumeItem_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ConsumePlaytime_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_DevSetNextDrop_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ExchangeItem_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetEligiblePromoItemDefIDs_Response;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetInventory_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetItemDefMeta_Response;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_GetUserPurchaseInfo_Response;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_InspectItem_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_ModifyItems_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseFinalize_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Request;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_PurchaseInit_Response;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_Response;
+import static com.javasteam.protobufs.SteammessagesInventorySteamclient.CInventory_SplitItemStack_Request;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stub of the {@code Inventory} unified service, generated from {@code
+ * steammessages_inventory.steamclient.proto} by {@code
+ * protobuf-generation/ServiceStubGenerator.java}. Do not edit.
+ */
+public class InventoryService {
+  private final UnifiedServiceClient client;
+
+  private InventoryService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static InventoryService of(UnifiedServiceClient client) {
+    return new InventoryService(client);
+  }
+
+  /** Calls {@code Inventory.GetInventory#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> getInventory(
+      CInventory_GetInventory_Request request) {
+    return getInventory(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.GetInventory#1}. */
+  public CompletableFuture<CInventory_Response> getInventory(
+      CInventory_GetInventory_Request request, Duration deadline) {
+    return client.call("Inventory.GetInventory#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.ExchangeItem#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> exchangeItem(
+      CInventory_ExchangeItem_Request request) {
+    return exchangeItem(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.ExchangeItem#1}. */
+  public CompletableFuture<CInventory_Response> exchangeItem(
+      CInventory_ExchangeItem_Request request, Duration deadline) {
+    return client.call("Inventory.ExchangeItem#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.GetEligiblePromoItemDefIDs#1} with the default deadline. */
+  public CompletableFuture<CInventory_GetEligiblePromoItemDefIDs_Response>
+      getEligiblePromoItemDefIDs(CInventory_GetEligiblePromoItemDefIDs_Request request) {
+    return getEligiblePromoItemDefIDs(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.GetEligiblePromoItemDefIDs#1}. */
+  public CompletableFuture<CInventory_GetEligiblePromoItemDefIDs_Response>
+      getEligiblePromoItemDefIDs(
+          CInventory_GetEligiblePromoItemDefIDs_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.GetEligiblePromoItemDefIDs#1",
+        request,
+        CInventory_GetEligiblePromoItemDefIDs_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Inventory.AddPromoItem#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> addPromoItem(CInventory_AddItem_Request request) {
+    return addPromoItem(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.AddPromoItem#1}. */
+  public CompletableFuture<CInventory_Response> addPromoItem(
+      CInventory_AddItem_Request request, Duration deadline) {
+    return client.call("Inventory.AddPromoItem#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.SafeModifyItems#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> safeModifyItems(
+      CInventory_ModifyItems_Request request) {
+    return safeModifyItems(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.SafeModifyItems#1}. */
+  public CompletableFuture<CInventory_Response> safeModifyItems(
+      CInventory_ModifyItems_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.SafeModifyItems#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.ConsumePlaytime#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> consumePlaytime(
+      CInventory_ConsumePlaytime_Request request) {
+    return consumePlaytime(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.ConsumePlaytime#1}. */
+  public CompletableFuture<CInventory_Response> consumePlaytime(
+      CInventory_ConsumePlaytime_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.ConsumePlaytime#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.ConsumeItem#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> consumeItem(
+      CInventory_ConsumeItem_Request request) {
+    return consumeItem(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.ConsumeItem#1}. */
+  public CompletableFuture<CInventory_Response> consumeItem(
+      CInventory_ConsumeItem_Request request, Duration deadline) {
+    return client.call("Inventory.ConsumeItem#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.DevGenerateItem#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> devGenerateItem(
+      CInventory_AddItem_Request request) {
+    return devGenerateItem(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.DevGenerateItem#1}. */
+  public CompletableFuture<CInventory_Response> devGenerateItem(
+      CInventory_AddItem_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.DevGenerateItem#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.DevSetNextDrop#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> devSetNextDrop(
+      CInventory_DevSetNextDrop_Request request) {
+    return devSetNextDrop(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.DevSetNextDrop#1}. */
+  public CompletableFuture<CInventory_Response> devSetNextDrop(
+      CInventory_DevSetNextDrop_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.DevSetNextDrop#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.SplitItemStack#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> splitItemStack(
+      CInventory_SplitItemStack_Request request) {
+    return splitItemStack(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.SplitItemStack#1}. */
+  public CompletableFuture<CInventory_Response> splitItemStack(
+      CInventory_SplitItemStack_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.SplitItemStack#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.CombineItemStacks#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> combineItemStacks(
+      CInventory_CombineItemStacks_Request request) {
+    return combineItemStacks(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.CombineItemStacks#1}. */
+  public CompletableFuture<CInventory_Response> combineItemStacks(
+      CInventory_CombineItemStacks_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.CombineItemStacks#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.GetItemDefMeta#1} with the default deadline. */
+  public CompletableFuture<CInventory_GetItemDefMeta_Response> getItemDefMeta(
+      CInventory_GetItemDefMeta_Request request) {
+    return getItemDefMeta(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.GetItemDefMeta#1}. */
+  public CompletableFuture<CInventory_GetItemDefMeta_Response> getItemDefMeta(
+      CInventory_GetItemDefMeta_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.GetItemDefMeta#1",
+        request,
+        CInventory_GetItemDefMeta_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Inventory.GetUserPurchaseInfo#1} with the default deadline. */
+  public CompletableFuture<CInventory_GetUserPurchaseInfo_Response> getUserPurchaseInfo(
+      CInventory_GetUserPurchaseInfo_Request request) {
+    return getUserPurchaseInfo(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.GetUserPurchaseInfo#1}. */
+  public CompletableFuture<CInventory_GetUserPurchaseInfo_Response> getUserPurchaseInfo(
+      CInventory_GetUserPurchaseInfo_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.GetUserPurchaseInfo#1",
+        request,
+        CInventory_GetUserPurchaseInfo_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Inventory.PurchaseInit#1} with the default deadline. */
+  public CompletableFuture<CInventory_PurchaseInit_Response> purchaseInit(
+      CInventory_PurchaseInit_Request request) {
+    return purchaseInit(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.PurchaseInit#1}. */
+  public CompletableFuture<CInventory_PurchaseInit_Response> purchaseInit(
+      CInventory_PurchaseInit_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.PurchaseInit#1", request, CInventory_PurchaseInit_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.PurchaseFinalize#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> purchaseFinalize(
+      CInventory_PurchaseFinalize_Request request) {
+    return purchaseFinalize(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.PurchaseFinalize#1}. */
+  public CompletableFuture<CInventory_Response> purchaseFinalize(
+      CInventory_PurchaseFinalize_Request request, Duration deadline) {
+    return client.call(
+        "Inventory.PurchaseFinalize#1", request, CInventory_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Inventory.InspectItem#1} with the default deadline. */
+  public CompletableFuture<CInventory_Response> inspectItem(
+      CInventory_InspectItem_Request request) {
+    return inspectItem(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Inventory.InspectItem#1}. */
+  public CompletableFuture<CInventory_Response> inspectItem(
+      CInventory_InspectItem_Request request, Duration deadline) {
+    return client.call("Inventory.InspectItem#1", request, CInventory_Response.parser(), deadline);
+  }
+}
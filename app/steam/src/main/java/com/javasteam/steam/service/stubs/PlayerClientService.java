@@ -0,0 +1,76 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_CommunityPreferencesChanged_Notification;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_FriendEquippedProfileItemsChanged_Notification;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_FriendNicknameChanged_Notification;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_LastPlayedTimes_Notification;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_NewSteamAnnouncementState_Notification;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_PerFriendPreferencesChanged_Notification;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_PrivacySettingsChanged_Notification;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_TextFilterWordsChanged_Notification;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+
+/**
+ * Stub of the {@code PlayerClient} unified service, generated from {@code
+ * steammessages_player.steamclient.proto} by {@code protobuf-generation/ServiceStubGenerator.java}.
+ * Do not edit.
+ */
+public class PlayerClientService {
+  private final UnifiedServiceClient client;
+
+  private PlayerClientService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static PlayerClientService of(UnifiedServiceClient client) {
+    return new PlayerClientService(client);
+  }
+
+  /** Sends {@code PlayerClient.NotifyLastPlayedTimes#1}, which has no response. */
+  public void notifyLastPlayedTimes(CPlayer_LastPlayedTimes_Notification request) {
+    client.notify("PlayerClient.NotifyLastPlayedTimes#1", request);
+  }
+
+  /** Sends {@code PlayerClient.NotifyFriendNicknameChanged#1}, which has no response. */
+  public void notifyFriendNicknameChanged(CPlayer_FriendNicknameChanged_Notification request) {
+    client.notify("PlayerClient.NotifyFriendNicknameChanged#1", request);
+  }
+
+  /**
+   * Sends {@code PlayerClient.NotifyFriendEquippedProfileItemsChanged#1}, which has no response.
+   */
+  public void notifyFriendEquippedProfileItemsChanged(
+      CPlayer_FriendEquippedProfileItemsChanged_Notification request) {
+    client.notify("PlayerClient.NotifyFriendEquippedProfileItemsChanged#1", request);
+  }
+
+  /** Sends {@code PlayerClient.NotifyNewSteamAnnouncementState#1}, which has no response. */
+  public void notifyNewSteamAnnouncementState(
+      CPlayer_NewSteamAnnouncementState_Notification request) {
+    client.notify("PlayerClient.NotifyNewSteamAnnouncementState#1", request);
+  }
+
+  /** Sends {@code PlayerClient.NotifyCommunityPreferencesChanged#1}, which has no response. */
+  public void notifyCommunityPreferencesChanged(
+      CPlayer_CommunityPreferencesChanged_Notification request) {
+    client.notify("PlayerClient.NotifyCommunityPreferencesChanged#1", request);
+  }
+
+  /** Sends {@code PlayerClient.NotifyTextFilterWordsChanged#1}, which has no response. */
+  public void notifyTextFilterWordsChanged(CPlayer_TextFilterWordsChanged_Notification request) {
+    client.notify("PlayerClient.NotifyTextFilterWordsChanged#1", request);
+  }
+
+  /** Sends {@code PlayerClient.NotifyPerFriendPreferencesChanged#1}, which has no response. */
+  public void notifyPerFriendPreferencesChanged(
+      CPlayer_PerFriendPreferencesChanged_Notification request) {
+    client.notify("PlayerClient.NotifyPerFriendPreferencesChanged#1", request);
+  }
+
+  /** Sends {@code PlayerClient.NotifyPrivacyPrivacySettingsChanged#1}, which has no response. */
+  public void notifyPrivacyPrivacySettingsChanged(
+      CPlayer_PrivacySettingsChanged_Notification request) {
+    client.notify("PlayerClient.NotifyPrivacyPrivacySettingsChanged#1", request);
+  }
+}
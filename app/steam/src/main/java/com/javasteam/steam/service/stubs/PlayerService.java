@@ -0,0 +1,947 @@
+package com.javasteam.steam.service.stubs;
+
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_AcceptSSA_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_AcceptSSA_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_AddFriend_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_AddFriend_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_DeletePostedStatus_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_DeletePostedStatus_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetAchievementsProgress_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetAchievementsProgress_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetAnimatedAvatar_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetAnimatedAvatar_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetAvatarFrame_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetAvatarFrame_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetCommunityBadgeProgress_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetCommunityBadgeProgress_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetCommunityPreferences_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetCommunityPreferences_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetDurationControl_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetDurationControl_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetEmoticonList_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetEmoticonList_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetFavoriteBadge_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetFavoriteBadge_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetFriendsGameplayInfo_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetFriendsGameplayInfo_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetGameAchievements_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetGameAchievements_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetGameBadgeLevels_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetGameBadgeLevels_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetLastPlayedTimes_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetLastPlayedTimes_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetMiniProfileBackground_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetMiniProfileBackground_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetMutualFriendsForIncomingInvites_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetMutualFriendsForIncomingInvites_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetNewSteamAnnouncementState_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetNewSteamAnnouncementState_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetNicknameList_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetNicknameList_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetOwnedGames_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetOwnedGames_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPerFriendPreferences_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPerFriendPreferences_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPlayNext_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPlayNext_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPlayerLinkDetails_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPlayerLinkDetails_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPostedStatus_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPostedStatus_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPrivacySettings_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPrivacySettings_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileBackground_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileBackground_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileCustomization_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileCustomization_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileItemsEquipped_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileItemsEquipped_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileItemsOwned_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileItemsOwned_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileThemesAvailable_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetProfileThemesAvailable_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPurchasedAndUpgradedProfileCustomizations_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPurchasedAndUpgradedProfileCustomizations_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPurchasedProfileCustomizations_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetPurchasedProfileCustomizations_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetRecentPlaytimeSessionsForChild_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetRecentPlaytimeSessionsForChild_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetSteamDeckKeyboardSkin_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetSteamDeckKeyboardSkin_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetTextFilterWords_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetTextFilterWords_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetTimeSSAAccepted_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetTimeSSAAccepted_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetTopAchievementsForGames_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_GetTopAchievementsForGames_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_IgnoreFriend_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_IgnoreFriend_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_PostStatusToFriends_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_PostStatusToFriends_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_RecordDisconnectedPlaytime_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_RecordDisconnectedPlaytime_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_RemoveFriend_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_RemoveFriend_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetAnimatedAvatar_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetAnimatedAvatar_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetAvatarFrame_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetAvatarFrame_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetCommunityPreferences_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetCommunityPreferences_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetEquippedProfileItemFlags_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetEquippedProfileItemFlags_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetFavoriteBadge_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetFavoriteBadge_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetMiniProfileBackground_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetMiniProfileBackground_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetPerFriendPreferences_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetPerFriendPreferences_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetProfileBackground_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetProfileBackground_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetProfilePreferences_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetProfilePreferences_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetProfileTheme_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetProfileTheme_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetSteamDeckKeyboardSkin_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_SetSteamDeckKeyboardSkin_Response;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_UpdateSteamAnnouncementLastRead_Request;
+import static com.javasteam.protobufs.SteammessagesPlayerSteamclient.CPlayer_UpdateSteamAnnouncementLastRead_Response;
+
+import com.javasteam.steam.service.UnifiedServiceClient;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stub of the {@code Player} unified service, generated from {@code
+ * steammessages_player.steamclient.proto} by {@code protobuf-generation/ServiceStubGenerator.java}.
+ * Do not edit.
+ */
+public class PlayerService {
+  private final UnifiedServiceClient client;
+
+  private PlayerService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static PlayerService of(UnifiedServiceClient client) {
+    return new PlayerService(client);
+  }
+
+  /** Calls {@code Player.GetRecentPlaytimeSessionsForChild#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetRecentPlaytimeSessionsForChild_Response>
+      getRecentPlaytimeSessionsForChild(CPlayer_GetRecentPlaytimeSessionsForChild_Request request) {
+    return getRecentPlaytimeSessionsForChild(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetRecentPlaytimeSessionsForChild#1}. */
+  public CompletableFuture<CPlayer_GetRecentPlaytimeSessionsForChild_Response>
+      getRecentPlaytimeSessionsForChild(
+          CPlayer_GetRecentPlaytimeSessionsForChild_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetRecentPlaytimeSessionsForChild#1",
+        request,
+        CPlayer_GetRecentPlaytimeSessionsForChild_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetPlayerLinkDetails#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetPlayerLinkDetails_Response> getPlayerLinkDetails(
+      CPlayer_GetPlayerLinkDetails_Request request) {
+    return getPlayerLinkDetails(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetPlayerLinkDetails#1}. */
+  public CompletableFuture<CPlayer_GetPlayerLinkDetails_Response> getPlayerLinkDetails(
+      CPlayer_GetPlayerLinkDetails_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetPlayerLinkDetails#1",
+        request,
+        CPlayer_GetPlayerLinkDetails_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetMutualFriendsForIncomingInvites#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetMutualFriendsForIncomingInvites_Response>
+      getMutualFriendsForIncomingInvites(
+          CPlayer_GetMutualFriendsForIncomingInvites_Request request) {
+    return getMutualFriendsForIncomingInvites(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetMutualFriendsForIncomingInvites#1}. */
+  public CompletableFuture<CPlayer_GetMutualFriendsForIncomingInvites_Response>
+      getMutualFriendsForIncomingInvites(
+          CPlayer_GetMutualFriendsForIncomingInvites_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetMutualFriendsForIncomingInvites#1",
+        request,
+        CPlayer_GetMutualFriendsForIncomingInvites_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetOwnedGames#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetOwnedGames_Response> getOwnedGames(
+      CPlayer_GetOwnedGames_Request request) {
+    return getOwnedGames(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetOwnedGames#1}. */
+  public CompletableFuture<CPlayer_GetOwnedGames_Response> getOwnedGames(
+      CPlayer_GetOwnedGames_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetOwnedGames#1", request, CPlayer_GetOwnedGames_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetPlayNext#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetPlayNext_Response> getPlayNext(
+      CPlayer_GetPlayNext_Request request) {
+    return getPlayNext(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetPlayNext#1}. */
+  public CompletableFuture<CPlayer_GetPlayNext_Response> getPlayNext(
+      CPlayer_GetPlayNext_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetPlayNext#1", request, CPlayer_GetPlayNext_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetFriendsGameplayInfo#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetFriendsGameplayInfo_Response> getFriendsGameplayInfo(
+      CPlayer_GetFriendsGameplayInfo_Request request) {
+    return getFriendsGameplayInfo(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetFriendsGameplayInfo#1}. */
+  public CompletableFuture<CPlayer_GetFriendsGameplayInfo_Response> getFriendsGameplayInfo(
+      CPlayer_GetFriendsGameplayInfo_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetFriendsGameplayInfo#1",
+        request,
+        CPlayer_GetFriendsGameplayInfo_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetGameBadgeLevels#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetGameBadgeLevels_Response> getGameBadgeLevels(
+      CPlayer_GetGameBadgeLevels_Request request) {
+    return getGameBadgeLevels(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetGameBadgeLevels#1}. */
+  public CompletableFuture<CPlayer_GetGameBadgeLevels_Response> getGameBadgeLevels(
+      CPlayer_GetGameBadgeLevels_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetGameBadgeLevels#1",
+        request,
+        CPlayer_GetGameBadgeLevels_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetProfileBackground#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetProfileBackground_Response> getProfileBackground(
+      CPlayer_GetProfileBackground_Request request) {
+    return getProfileBackground(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetProfileBackground#1}. */
+  public CompletableFuture<CPlayer_GetProfileBackground_Response> getProfileBackground(
+      CPlayer_GetProfileBackground_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetProfileBackground#1",
+        request,
+        CPlayer_GetProfileBackground_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetProfileBackground#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetProfileBackground_Response> setProfileBackground(
+      CPlayer_SetProfileBackground_Request request) {
+    return setProfileBackground(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetProfileBackground#1}. */
+  public CompletableFuture<CPlayer_SetProfileBackground_Response> setProfileBackground(
+      CPlayer_SetProfileBackground_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetProfileBackground#1",
+        request,
+        CPlayer_SetProfileBackground_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetMiniProfileBackground#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetMiniProfileBackground_Response> getMiniProfileBackground(
+      CPlayer_GetMiniProfileBackground_Request request) {
+    return getMiniProfileBackground(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetMiniProfileBackground#1}. */
+  public CompletableFuture<CPlayer_GetMiniProfileBackground_Response> getMiniProfileBackground(
+      CPlayer_GetMiniProfileBackground_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetMiniProfileBackground#1",
+        request,
+        CPlayer_GetMiniProfileBackground_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetMiniProfileBackground#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetMiniProfileBackground_Response> setMiniProfileBackground(
+      CPlayer_SetMiniProfileBackground_Request request) {
+    return setMiniProfileBackground(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetMiniProfileBackground#1}. */
+  public CompletableFuture<CPlayer_SetMiniProfileBackground_Response> setMiniProfileBackground(
+      CPlayer_SetMiniProfileBackground_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetMiniProfileBackground#1",
+        request,
+        CPlayer_SetMiniProfileBackground_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetAvatarFrame#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetAvatarFrame_Response> getAvatarFrame(
+      CPlayer_GetAvatarFrame_Request request) {
+    return getAvatarFrame(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetAvatarFrame#1}. */
+  public CompletableFuture<CPlayer_GetAvatarFrame_Response> getAvatarFrame(
+      CPlayer_GetAvatarFrame_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetAvatarFrame#1", request, CPlayer_GetAvatarFrame_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.SetAvatarFrame#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetAvatarFrame_Response> setAvatarFrame(
+      CPlayer_SetAvatarFrame_Request request) {
+    return setAvatarFrame(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetAvatarFrame#1}. */
+  public CompletableFuture<CPlayer_SetAvatarFrame_Response> setAvatarFrame(
+      CPlayer_SetAvatarFrame_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetAvatarFrame#1", request, CPlayer_SetAvatarFrame_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetAnimatedAvatar#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetAnimatedAvatar_Response> getAnimatedAvatar(
+      CPlayer_GetAnimatedAvatar_Request request) {
+    return getAnimatedAvatar(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetAnimatedAvatar#1}. */
+  public CompletableFuture<CPlayer_GetAnimatedAvatar_Response> getAnimatedAvatar(
+      CPlayer_GetAnimatedAvatar_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetAnimatedAvatar#1",
+        request,
+        CPlayer_GetAnimatedAvatar_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetAnimatedAvatar#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetAnimatedAvatar_Response> setAnimatedAvatar(
+      CPlayer_SetAnimatedAvatar_Request request) {
+    return setAnimatedAvatar(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetAnimatedAvatar#1}. */
+  public CompletableFuture<CPlayer_SetAnimatedAvatar_Response> setAnimatedAvatar(
+      CPlayer_SetAnimatedAvatar_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetAnimatedAvatar#1",
+        request,
+        CPlayer_SetAnimatedAvatar_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetSteamDeckKeyboardSkin#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetSteamDeckKeyboardSkin_Response> getSteamDeckKeyboardSkin(
+      CPlayer_GetSteamDeckKeyboardSkin_Request request) {
+    return getSteamDeckKeyboardSkin(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetSteamDeckKeyboardSkin#1}. */
+  public CompletableFuture<CPlayer_GetSteamDeckKeyboardSkin_Response> getSteamDeckKeyboardSkin(
+      CPlayer_GetSteamDeckKeyboardSkin_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetSteamDeckKeyboardSkin#1",
+        request,
+        CPlayer_GetSteamDeckKeyboardSkin_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetSteamDeckKeyboardSkin#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetSteamDeckKeyboardSkin_Response> setSteamDeckKeyboardSkin(
+      CPlayer_SetSteamDeckKeyboardSkin_Request request) {
+    return setSteamDeckKeyboardSkin(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetSteamDeckKeyboardSkin#1}. */
+  public CompletableFuture<CPlayer_SetSteamDeckKeyboardSkin_Response> setSteamDeckKeyboardSkin(
+      CPlayer_SetSteamDeckKeyboardSkin_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetSteamDeckKeyboardSkin#1",
+        request,
+        CPlayer_SetSteamDeckKeyboardSkin_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetProfileItemsOwned#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetProfileItemsOwned_Response> getProfileItemsOwned(
+      CPlayer_GetProfileItemsOwned_Request request) {
+    return getProfileItemsOwned(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetProfileItemsOwned#1}. */
+  public CompletableFuture<CPlayer_GetProfileItemsOwned_Response> getProfileItemsOwned(
+      CPlayer_GetProfileItemsOwned_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetProfileItemsOwned#1",
+        request,
+        CPlayer_GetProfileItemsOwned_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetProfileItemsEquipped#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetProfileItemsEquipped_Response> getProfileItemsEquipped(
+      CPlayer_GetProfileItemsEquipped_Request request) {
+    return getProfileItemsEquipped(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetProfileItemsEquipped#1}. */
+  public CompletableFuture<CPlayer_GetProfileItemsEquipped_Response> getProfileItemsEquipped(
+      CPlayer_GetProfileItemsEquipped_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetProfileItemsEquipped#1",
+        request,
+        CPlayer_GetProfileItemsEquipped_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetEquippedProfileItemFlags#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetEquippedProfileItemFlags_Response>
+      setEquippedProfileItemFlags(CPlayer_SetEquippedProfileItemFlags_Request request) {
+    return setEquippedProfileItemFlags(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetEquippedProfileItemFlags#1}. */
+  public CompletableFuture<CPlayer_SetEquippedProfileItemFlags_Response>
+      setEquippedProfileItemFlags(
+          CPlayer_SetEquippedProfileItemFlags_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetEquippedProfileItemFlags#1",
+        request,
+        CPlayer_SetEquippedProfileItemFlags_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetEmoticonList#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetEmoticonList_Response> getEmoticonList(
+      CPlayer_GetEmoticonList_Request request) {
+    return getEmoticonList(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetEmoticonList#1}. */
+  public CompletableFuture<CPlayer_GetEmoticonList_Response> getEmoticonList(
+      CPlayer_GetEmoticonList_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetEmoticonList#1", request, CPlayer_GetEmoticonList_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetCommunityBadgeProgress#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetCommunityBadgeProgress_Response> getCommunityBadgeProgress(
+      CPlayer_GetCommunityBadgeProgress_Request request) {
+    return getCommunityBadgeProgress(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetCommunityBadgeProgress#1}. */
+  public CompletableFuture<CPlayer_GetCommunityBadgeProgress_Response> getCommunityBadgeProgress(
+      CPlayer_GetCommunityBadgeProgress_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetCommunityBadgeProgress#1",
+        request,
+        CPlayer_GetCommunityBadgeProgress_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetTopAchievementsForGames#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetTopAchievementsForGames_Response> getTopAchievementsForGames(
+      CPlayer_GetTopAchievementsForGames_Request request) {
+    return getTopAchievementsForGames(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetTopAchievementsForGames#1}. */
+  public CompletableFuture<CPlayer_GetTopAchievementsForGames_Response> getTopAchievementsForGames(
+      CPlayer_GetTopAchievementsForGames_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetTopAchievementsForGames#1",
+        request,
+        CPlayer_GetTopAchievementsForGames_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetAchievementsProgress#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetAchievementsProgress_Response> getAchievementsProgress(
+      CPlayer_GetAchievementsProgress_Request request) {
+    return getAchievementsProgress(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetAchievementsProgress#1}. */
+  public CompletableFuture<CPlayer_GetAchievementsProgress_Response> getAchievementsProgress(
+      CPlayer_GetAchievementsProgress_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetAchievementsProgress#1",
+        request,
+        CPlayer_GetAchievementsProgress_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetGameAchievements#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetGameAchievements_Response> getGameAchievements(
+      CPlayer_GetGameAchievements_Request request) {
+    return getGameAchievements(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetGameAchievements#1}. */
+  public CompletableFuture<CPlayer_GetGameAchievements_Response> getGameAchievements(
+      CPlayer_GetGameAchievements_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetGameAchievements#1",
+        request,
+        CPlayer_GetGameAchievements_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetFavoriteBadge#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetFavoriteBadge_Response> getFavoriteBadge(
+      CPlayer_GetFavoriteBadge_Request request) {
+    return getFavoriteBadge(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetFavoriteBadge#1}. */
+  public CompletableFuture<CPlayer_GetFavoriteBadge_Response> getFavoriteBadge(
+      CPlayer_GetFavoriteBadge_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetFavoriteBadge#1", request, CPlayer_GetFavoriteBadge_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.SetFavoriteBadge#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetFavoriteBadge_Response> setFavoriteBadge(
+      CPlayer_SetFavoriteBadge_Request request) {
+    return setFavoriteBadge(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetFavoriteBadge#1}. */
+  public CompletableFuture<CPlayer_SetFavoriteBadge_Response> setFavoriteBadge(
+      CPlayer_SetFavoriteBadge_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetFavoriteBadge#1", request, CPlayer_SetFavoriteBadge_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetProfileCustomization#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetProfileCustomization_Response> getProfileCustomization(
+      CPlayer_GetProfileCustomization_Request request) {
+    return getProfileCustomization(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetProfileCustomization#1}. */
+  public CompletableFuture<CPlayer_GetProfileCustomization_Response> getProfileCustomization(
+      CPlayer_GetProfileCustomization_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetProfileCustomization#1",
+        request,
+        CPlayer_GetProfileCustomization_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetPurchasedProfileCustomizations#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetPurchasedProfileCustomizations_Response>
+      getPurchasedProfileCustomizations(CPlayer_GetPurchasedProfileCustomizations_Request request) {
+    return getPurchasedProfileCustomizations(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetPurchasedProfileCustomizations#1}. */
+  public CompletableFuture<CPlayer_GetPurchasedProfileCustomizations_Response>
+      getPurchasedProfileCustomizations(
+          CPlayer_GetPurchasedProfileCustomizations_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetPurchasedProfileCustomizations#1",
+        request,
+        CPlayer_GetPurchasedProfileCustomizations_Response.parser(),
+        deadline);
+  }
+
+  /**
+   * Calls {@code Player.GetPurchasedAndUpgradedProfileCustomizations#1} with the default deadline.
+   */
+  public CompletableFuture<CPlayer_GetPurchasedAndUpgradedProfileCustomizations_Response>
+      getPurchasedAndUpgradedProfileCustomizations(
+          CPlayer_GetPurchasedAndUpgradedProfileCustomizations_Request request) {
+    return getPurchasedAndUpgradedProfileCustomizations(
+        request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetPurchasedAndUpgradedProfileCustomizations#1}. */
+  public CompletableFuture<CPlayer_GetPurchasedAndUpgradedProfileCustomizations_Response>
+      getPurchasedAndUpgradedProfileCustomizations(
+          CPlayer_GetPurchasedAndUpgradedProfileCustomizations_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetPurchasedAndUpgradedProfileCustomizations#1",
+        request,
+        CPlayer_GetPurchasedAndUpgradedProfileCustomizations_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetProfileThemesAvailable#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetProfileThemesAvailable_Response> getProfileThemesAvailable(
+      CPlayer_GetProfileThemesAvailable_Request request) {
+    return getProfileThemesAvailable(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetProfileThemesAvailable#1}. */
+  public CompletableFuture<CPlayer_GetProfileThemesAvailable_Response> getProfileThemesAvailable(
+      CPlayer_GetProfileThemesAvailable_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetProfileThemesAvailable#1",
+        request,
+        CPlayer_GetProfileThemesAvailable_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetProfileTheme#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetProfileTheme_Response> setProfileTheme(
+      CPlayer_SetProfileTheme_Request request) {
+    return setProfileTheme(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetProfileTheme#1}. */
+  public CompletableFuture<CPlayer_SetProfileTheme_Response> setProfileTheme(
+      CPlayer_SetProfileTheme_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetProfileTheme#1", request, CPlayer_SetProfileTheme_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.SetProfilePreferences#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetProfilePreferences_Response> setProfilePreferences(
+      CPlayer_SetProfilePreferences_Request request) {
+    return setProfilePreferences(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetProfilePreferences#1}. */
+  public CompletableFuture<CPlayer_SetProfilePreferences_Response> setProfilePreferences(
+      CPlayer_SetProfilePreferences_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetProfilePreferences#1",
+        request,
+        CPlayer_SetProfilePreferences_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.PostStatusToFriends#1} with the default deadline. */
+  public CompletableFuture<CPlayer_PostStatusToFriends_Response> postStatusToFriends(
+      CPlayer_PostStatusToFriends_Request request) {
+    return postStatusToFriends(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.PostStatusToFriends#1}. */
+  public CompletableFuture<CPlayer_PostStatusToFriends_Response> postStatusToFriends(
+      CPlayer_PostStatusToFriends_Request request, Duration deadline) {
+    return client.call(
+        "Player.PostStatusToFriends#1",
+        request,
+        CPlayer_PostStatusToFriends_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetPostedStatus#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetPostedStatus_Response> getPostedStatus(
+      CPlayer_GetPostedStatus_Request request) {
+    return getPostedStatus(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetPostedStatus#1}. */
+  public CompletableFuture<CPlayer_GetPostedStatus_Response> getPostedStatus(
+      CPlayer_GetPostedStatus_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetPostedStatus#1", request, CPlayer_GetPostedStatus_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.DeletePostedStatus#1} with the default deadline. */
+  public CompletableFuture<CPlayer_DeletePostedStatus_Response> deletePostedStatus(
+      CPlayer_DeletePostedStatus_Request request) {
+    return deletePostedStatus(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.DeletePostedStatus#1}. */
+  public CompletableFuture<CPlayer_DeletePostedStatus_Response> deletePostedStatus(
+      CPlayer_DeletePostedStatus_Request request, Duration deadline) {
+    return client.call(
+        "Player.DeletePostedStatus#1",
+        request,
+        CPlayer_DeletePostedStatus_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.ClientGetLastPlayedTimes#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetLastPlayedTimes_Response> clientGetLastPlayedTimes(
+      CPlayer_GetLastPlayedTimes_Request request) {
+    return clientGetLastPlayedTimes(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.ClientGetLastPlayedTimes#1}. */
+  public CompletableFuture<CPlayer_GetLastPlayedTimes_Response> clientGetLastPlayedTimes(
+      CPlayer_GetLastPlayedTimes_Request request, Duration deadline) {
+    return client.call(
+        "Player.ClientGetLastPlayedTimes#1",
+        request,
+        CPlayer_GetLastPlayedTimes_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetTimeSSAAccepted#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetTimeSSAAccepted_Response> getTimeSSAAccepted(
+      CPlayer_GetTimeSSAAccepted_Request request) {
+    return getTimeSSAAccepted(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetTimeSSAAccepted#1}. */
+  public CompletableFuture<CPlayer_GetTimeSSAAccepted_Response> getTimeSSAAccepted(
+      CPlayer_GetTimeSSAAccepted_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetTimeSSAAccepted#1",
+        request,
+        CPlayer_GetTimeSSAAccepted_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.AcceptSSA#1} with the default deadline. */
+  public CompletableFuture<CPlayer_AcceptSSA_Response> acceptSSA(
+      CPlayer_AcceptSSA_Request request) {
+    return acceptSSA(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.AcceptSSA#1}. */
+  public CompletableFuture<CPlayer_AcceptSSA_Response> acceptSSA(
+      CPlayer_AcceptSSA_Request request, Duration deadline) {
+    return client.call(
+        "Player.AcceptSSA#1", request, CPlayer_AcceptSSA_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetNicknameList#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetNicknameList_Response> getNicknameList(
+      CPlayer_GetNicknameList_Request request) {
+    return getNicknameList(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetNicknameList#1}. */
+  public CompletableFuture<CPlayer_GetNicknameList_Response> getNicknameList(
+      CPlayer_GetNicknameList_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetNicknameList#1", request, CPlayer_GetNicknameList_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetPerFriendPreferences#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetPerFriendPreferences_Response> getPerFriendPreferences(
+      CPlayer_GetPerFriendPreferences_Request request) {
+    return getPerFriendPreferences(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetPerFriendPreferences#1}. */
+  public CompletableFuture<CPlayer_GetPerFriendPreferences_Response> getPerFriendPreferences(
+      CPlayer_GetPerFriendPreferences_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetPerFriendPreferences#1",
+        request,
+        CPlayer_GetPerFriendPreferences_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetPerFriendPreferences#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetPerFriendPreferences_Response> setPerFriendPreferences(
+      CPlayer_SetPerFriendPreferences_Request request) {
+    return setPerFriendPreferences(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetPerFriendPreferences#1}. */
+  public CompletableFuture<CPlayer_SetPerFriendPreferences_Response> setPerFriendPreferences(
+      CPlayer_SetPerFriendPreferences_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetPerFriendPreferences#1",
+        request,
+        CPlayer_SetPerFriendPreferences_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.AddFriend#1} with the default deadline. */
+  public CompletableFuture<CPlayer_AddFriend_Response> addFriend(
+      CPlayer_AddFriend_Request request) {
+    return addFriend(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.AddFriend#1}. */
+  public CompletableFuture<CPlayer_AddFriend_Response> addFriend(
+      CPlayer_AddFriend_Request request, Duration deadline) {
+    return client.call(
+        "Player.AddFriend#1", request, CPlayer_AddFriend_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.RemoveFriend#1} with the default deadline. */
+  public CompletableFuture<CPlayer_RemoveFriend_Response> removeFriend(
+      CPlayer_RemoveFriend_Request request) {
+    return removeFriend(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.RemoveFriend#1}. */
+  public CompletableFuture<CPlayer_RemoveFriend_Response> removeFriend(
+      CPlayer_RemoveFriend_Request request, Duration deadline) {
+    return client.call(
+        "Player.RemoveFriend#1", request, CPlayer_RemoveFriend_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.IgnoreFriend#1} with the default deadline. */
+  public CompletableFuture<CPlayer_IgnoreFriend_Response> ignoreFriend(
+      CPlayer_IgnoreFriend_Request request) {
+    return ignoreFriend(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.IgnoreFriend#1}. */
+  public CompletableFuture<CPlayer_IgnoreFriend_Response> ignoreFriend(
+      CPlayer_IgnoreFriend_Request request, Duration deadline) {
+    return client.call(
+        "Player.IgnoreFriend#1", request, CPlayer_IgnoreFriend_Response.parser(), deadline);
+  }
+
+  /** Calls {@code Player.GetCommunityPreferences#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetCommunityPreferences_Response> getCommunityPreferences(
+      CPlayer_GetCommunityPreferences_Request request) {
+    return getCommunityPreferences(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetCommunityPreferences#1}. */
+  public CompletableFuture<CPlayer_GetCommunityPreferences_Response> getCommunityPreferences(
+      CPlayer_GetCommunityPreferences_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetCommunityPreferences#1",
+        request,
+        CPlayer_GetCommunityPreferences_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.SetCommunityPreferences#1} with the default deadline. */
+  public CompletableFuture<CPlayer_SetCommunityPreferences_Response> setCommunityPreferences(
+      CPlayer_SetCommunityPreferences_Request request) {
+    return setCommunityPreferences(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.SetCommunityPreferences#1}. */
+  public CompletableFuture<CPlayer_SetCommunityPreferences_Response> setCommunityPreferences(
+      CPlayer_SetCommunityPreferences_Request request, Duration deadline) {
+    return client.call(
+        "Player.SetCommunityPreferences#1",
+        request,
+        CPlayer_SetCommunityPreferences_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetTextFilterWords#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetTextFilterWords_Response> getTextFilterWords(
+      CPlayer_GetTextFilterWords_Request request) {
+    return getTextFilterWords(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetTextFilterWords#1}. */
+  public CompletableFuture<CPlayer_GetTextFilterWords_Response> getTextFilterWords(
+      CPlayer_GetTextFilterWords_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetTextFilterWords#1",
+        request,
+        CPlayer_GetTextFilterWords_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetNewSteamAnnouncementState#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetNewSteamAnnouncementState_Response>
+      getNewSteamAnnouncementState(CPlayer_GetNewSteamAnnouncementState_Request request) {
+    return getNewSteamAnnouncementState(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetNewSteamAnnouncementState#1}. */
+  public CompletableFuture<CPlayer_GetNewSteamAnnouncementState_Response>
+      getNewSteamAnnouncementState(
+          CPlayer_GetNewSteamAnnouncementState_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetNewSteamAnnouncementState#1",
+        request,
+        CPlayer_GetNewSteamAnnouncementState_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.UpdateSteamAnnouncementLastRead#1} with the default deadline. */
+  public CompletableFuture<CPlayer_UpdateSteamAnnouncementLastRead_Response>
+      updateSteamAnnouncementLastRead(CPlayer_UpdateSteamAnnouncementLastRead_Request request) {
+    return updateSteamAnnouncementLastRead(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.UpdateSteamAnnouncementLastRead#1}. */
+  public CompletableFuture<CPlayer_UpdateSteamAnnouncementLastRead_Response>
+      updateSteamAnnouncementLastRead(
+          CPlayer_UpdateSteamAnnouncementLastRead_Request request, Duration deadline) {
+    return client.call(
+        "Player.UpdateSteamAnnouncementLastRead#1",
+        request,
+        CPlayer_UpdateSteamAnnouncementLastRead_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetPrivacySettings#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetPrivacySettings_Response> getPrivacySettings(
+      CPlayer_GetPrivacySettings_Request request) {
+    return getPrivacySettings(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetPrivacySettings#1}. */
+  public CompletableFuture<CPlayer_GetPrivacySettings_Response> getPrivacySettings(
+      CPlayer_GetPrivacySettings_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetPrivacySettings#1",
+        request,
+        CPlayer_GetPrivacySettings_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.GetDurationControl#1} with the default deadline. */
+  public CompletableFuture<CPlayer_GetDurationControl_Response> getDurationControl(
+      CPlayer_GetDurationControl_Request request) {
+    return getDurationControl(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.GetDurationControl#1}. */
+  public CompletableFuture<CPlayer_GetDurationControl_Response> getDurationControl(
+      CPlayer_GetDurationControl_Request request, Duration deadline) {
+    return client.call(
+        "Player.GetDurationControl#1",
+        request,
+        CPlayer_GetDurationControl_Response.parser(),
+        deadline);
+  }
+
+  /** Calls {@code Player.RecordDisconnectedPlaytime#1} with the default deadline. */
+  public CompletableFuture<CPlayer_RecordDisconnectedPlaytime_Response> recordDisconnectedPlaytime(
+      CPlayer_RecordDisconnectedPlaytime_Request request) {
+    return recordDisconnectedPlaytime(request, UnifiedServiceClient.DEFAULT_DEADLINE);
+  }
+
+  /** Calls {@code Player.RecordDisconnectedPlaytime#1}. */
+  public CompletableFuture<CPlayer_RecordDisconnectedPlaytime_Response> recordDisconnectedPlaytime(
+      CPlayer_RecordDisconnectedPlaytime_Request request, Duration deadline) {
+    return client.call(
+        "Player.RecordDisconnectedPlaytime#1",
+        request,
+        CPlayer_RecordDisconnectedPlaytime_Response.parser(),
+        deadline);
+  }
+}
@@ -8,17 +8,21 @@ import com.javasteam.utils.common.StorageUtils;
 import java.util.Base64;
 import java.util.function.Consumer;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 
-/** Holds the authentication session information. */
+/**
+ * Holds the authentication session information. The claims of the tokens are parsed once when a
+ * token is set, so expiry checks do not decode the tokens again.
+ */
+@Slf4j
 @Getter
 @Setter
-@Builder
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class AuthSession {
+  private static final long INVALID_CLAIM = Long.MIN_VALUE;
+
   @JsonProperty("username")
   private String username;
 
@@ -33,16 +37,42 @@ public class AuthSession {
 
   @JsonIgnore private Consumer<byte[]> sessionSaver;
 
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @JsonIgnore
+  private long refreshTokenSubject = INVALID_CLAIM;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @JsonIgnore
+  private long refreshTokenExpiration = INVALID_CLAIM;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @JsonIgnore
+  private long accessTokenExpiration = INVALID_CLAIM;
+
+  @Builder
+  private AuthSession(
+      String username,
+      String accessToken,
+      String refreshToken,
+      String machineId,
+      Consumer<byte[]> sessionSaver) {
+    this.username = username;
+    this.machineId = machineId;
+    this.sessionSaver = sessionSaver;
+    setAccessToken(accessToken);
+    setRefreshToken(refreshToken);
+  }
+
   @JsonCreator
   private AuthSession(
       @JsonProperty("username") String username,
       @JsonProperty("access_token") String accessToken,
       @JsonProperty("refresh_token") String refreshToken,
       @JsonProperty("machine_id") String machineId) {
-    this.username = username;
-    this.accessToken = accessToken;
-    this.refreshToken = refreshToken;
-    this.machineId = machineId;
+    this(username, accessToken, refreshToken, machineId, null);
   }
 
   public static AuthSession fromFile(String sessionFilePath, String password) {
@@ -56,9 +86,34 @@ public class AuthSession {
     return session;
   }
 
+  public void setAccessToken(String accessToken) {
+    this.accessToken = accessToken;
+    AuthSessionAccessToken claims = parseClaims(accessToken, AuthSessionAccessToken.class);
+    this.accessTokenExpiration = claims == null ? INVALID_CLAIM : claims.getExpiration();
+  }
+
+  public void setRefreshToken(String refreshToken) {
+    this.refreshToken = refreshToken;
+    AuthSessionRefreshToken claims = parseClaims(refreshToken, AuthSessionRefreshToken.class);
+    this.refreshTokenExpiration = claims == null ? INVALID_CLAIM : claims.getExpiration();
+    this.refreshTokenSubject = claims == null ? INVALID_CLAIM : parseSubject(claims.getSubject());
+  }
+
   @JsonIgnore
   public long getSteamIdFromRefreshToken() {
-    return Long.parseLong(parseRefreshToken().getSubject());
+    return requireClaim(refreshTokenSubject, "subject", "refresh");
+  }
+
+  /** Returns the expiration of the access token in epoch seconds. */
+  @JsonIgnore
+  public long getAccessTokenExpiration() {
+    return requireClaim(accessTokenExpiration, "expiration", "access");
+  }
+
+  /** Returns the expiration of the refresh token in epoch seconds. */
+  @JsonIgnore
+  public long getRefreshTokenExpiration() {
+    return requireClaim(refreshTokenExpiration, "expiration", "refresh");
   }
 
   @JsonIgnore
@@ -68,28 +123,48 @@ public class AuthSession {
 
   @JsonIgnore
   public boolean isRefreshTokenExpired() {
-    return parseRefreshToken().getExpiration() < System.currentTimeMillis() / 1000;
+    return getRefreshTokenExpiration() < System.currentTimeMillis() / 1000;
   }
 
   @JsonIgnore
   public boolean isAccessTokenExpired() {
-    return parseAccessToken().getExpiration() < System.currentTimeMillis() / 1000;
+    return getAccessTokenExpiration() < System.currentTimeMillis() / 1000;
   }
 
-  private AuthSessionRefreshToken parseRefreshToken() {
-    return JsonUtils.fromJson(parseJsonPart(refreshToken), AuthSessionRefreshToken.class);
+  private static long requireClaim(long claim, String name, String token) {
+    if (claim == INVALID_CLAIM) {
+      throw new RuntimeException("No %s in %s token".formatted(name, token));
+    }
+    return claim;
   }
 
-  private AuthSessionAccessToken parseAccessToken() {
-    return JsonUtils.fromJson(parseJsonPart(accessToken), AuthSessionAccessToken.class);
+  private static long parseSubject(String subject) {
+    try {
+      return subject == null ? INVALID_CLAIM : Long.parseLong(subject);
+    } catch (NumberFormatException e) {
+      return INVALID_CLAIM;
+    }
   }
 
-  private String parseJsonPart(String jwtToken) {
-    String jsonPart = jwtToken.split("\\.")[1];
-    if (jsonPart.length() % 4 != 0) {
-      jsonPart += "=".repeat(4 - jsonPart.length() % 4);
+  /** Returns the claims of the JWT or null if the token is missing or malformed. */
+  private static <T> T parseClaims(String jwtToken, Class<T> claimsClass) {
+    if (jwtToken == null) {
+      return null;
+    }
+
+    int start = jwtToken.indexOf('.');
+    int end = jwtToken.indexOf('.', start + 1);
+    if (start < 0 || end < 0) {
+      return null;
+    }
+
+    try {
+      byte[] json = Base64.getUrlDecoder().decode(jwtToken.substring(start + 1, end));
+      return JsonUtils.fromJson(json, claimsClass);
+    } catch (RuntimeException e) {
+      log.debug("Failed to parse JWT claims", e);
+      return null;
     }
-    return new String(Base64.getDecoder().decode(jsonPart));
   }
 
   @Override
@@ -1,9 +1,7 @@
 package com.javasteam.steam.session;
 
 import static com.javasteam.protobufs.Enums.ESessionPersistence;
-import static com.javasteam.protobufs.EnumsClientserver.EMsg;
 import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_AccessToken_GenerateForApp_Request;
-import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_AccessToken_GenerateForApp_Response;
 import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_BeginAuthSessionViaCredentials_Request;
 import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_BeginAuthSessionViaCredentials_Response;
 import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_DeviceDetails;
@@ -13,60 +11,84 @@ import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthenticati
 import static com.javasteam.protobufs.SteammessagesAuthSteamclient.CAuthentication_PollAuthSessionStatus_Response;
 import static com.javasteam.protobufs.SteammessagesAuthSteamclient.EAuthTokenPlatformType;
 import static com.javasteam.protobufs.SteammessagesAuthSteamclient.ETokenRenewalType;
-import static com.javasteam.protobufs.SteammessagesBase.CMsgProtoBufHeader;
 
 import com.google.protobuf.ByteString;
-import com.javasteam.models.Job;
-import com.javasteam.models.headers.ProtoMessageHeader;
-import com.javasteam.models.messages.ProtoMessage;
 import com.javasteam.steam.crypto.Crypto;
-import com.javasteam.steam.handlers.HasJobHandler;
-import com.javasteam.steam.handlers.HasJobSender;
+import com.javasteam.steam.service.UnifiedServiceClient;
+import com.javasteam.steam.service.stubs.AuthenticationService;
 import com.javasteam.utils.common.CryptoUtils;
 import com.javasteam.utils.common.JsonUtils;
 import com.javasteam.utils.common.StorageUtils;
 import java.math.BigInteger;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-/** Creates an auth session using jobs. */
+/** Creates an auth session using the {@link AuthenticationService} unified service. */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class AuthSessionService<T extends HasJobSender & HasJobHandler> {
-  private final T client;
+public class AuthSessionService {
+  private final AuthenticationService authentication;
   private final AuthSession.AuthSessionBuilder authSessionBuilder;
   private final Consumer<AuthSession> onAuthSessionCreated;
 
-  public static <T extends HasJobSender & HasJobHandler> AuthSessionService<T> of(
-      T client, Consumer<AuthSession> onAuthSessionCreated) {
-    return new AuthSessionService<>(client, AuthSession.builder(), onAuthSessionCreated);
+  public static AuthSessionService of(
+      UnifiedServiceClient serviceClient, Consumer<AuthSession> onAuthSessionCreated) {
+    return new AuthSessionService(
+        AuthenticationService.of(serviceClient), AuthSession.builder(), onAuthSessionCreated);
   }
 
   public void createAuthSession(String username, String password, String sessionSaveFilePath) {
+    createAuthSession(
+        username,
+        password,
+        bytes -> StorageUtils.saveEncryptedFile(sessionSaveFilePath, password, bytes));
+  }
+
+  /**
+   * Create an auth session for the user.
+   *
+   * @param username the username
+   * @param password the password
+   * @param sessionSaver saves the created session, for example to a {@link SessionVault}
+   */
+  public void createAuthSession(String username, String password, Consumer<byte[]> sessionSaver) {
     var message =
         CAuthentication_GetPasswordRSAPublicKey_Request.newBuilder()
             .setAccountName(username)
             .build();
 
-    authSessionBuilder.sessionSaver(
-        bytes -> StorageUtils.saveEncryptedFile(sessionSaveFilePath, password, bytes));
-
-    Job job =
-        client.sendJob(
-            ProtoMessage.of(createServiceMethodCallHeader(), message),
-            Job.of("Authentication.GetPasswordRSAPublicKey#1", 1));
-
-    client.addJobListener(
-        job.getSourceJobId(),
-        CAuthentication_GetPasswordRSAPublicKey_Response.class,
-        res -> onGetPasswordRSAPublicKeyResponse(res, username, password));
+    authSessionBuilder.sessionSaver(sessionSaver);
+
+    authentication
+        .getPasswordRSAPublicKey(message)
+        .thenCompose(res -> beginAuthSession(res, username, password))
+        .thenCompose(this::pollAuthSessionStatus)
+        .thenAccept(this::onPollAuthSessionStatusResponse)
+        .exceptionally(
+            e -> {
+              log.error("Failed to create auth session for user: {}", username, e);
+              return null;
+            });
   }
 
   public void updateAccessToken(AuthSession authSession, boolean renewRefreshToken) {
+    updateAccessTokenAsync(authSession, renewRefreshToken).join();
+  }
+
+  /**
+   * Generate a new access token for the session and save the session, without blocking.
+   *
+   * @param authSession the session to update
+   * @param renewRefreshToken allow Steam to renew the refresh token as well
+   * @return a future that completes when the session is updated
+   */
+  public CompletableFuture<Void> updateAccessTokenAsync(
+      AuthSession authSession, boolean renewRefreshToken) {
     var message =
         CAuthentication_AccessToken_GenerateForApp_Request.newBuilder()
             .setRefreshToken(authSession.getRefreshToken())
@@ -79,33 +101,32 @@ public class AuthSessionService<T extends HasJobSender & HasJobHandler> {
 
     log.debug("Updating access token for user: {}", authSession.getUsername());
 
-    Job job =
-        client.sendJob(
-            ProtoMessage.of(createServiceMethodCallHeader(), message),
-            Job.of("Authentication.GenerateAccessTokenForApp#1", 1));
-
-    var response =
-        client.waitForJob(
-            job.getSourceJobId(), CAuthentication_AccessToken_GenerateForApp_Response.class);
-
-    log.debug("Access token updated for user: {}", authSession.getUsername());
-    if (response.hasRefreshToken()) {
-      authSession.setRefreshToken(response.getRefreshToken());
-    }
-
-    authSession.setAccessToken(response.getAccessToken());
-    saveAuthSession(authSession);
+    return authentication
+        .generateAccessTokenForApp(message)
+        .thenAccept(
+            response -> {
+              log.debug("Access token updated for user: {}", authSession.getUsername());
+              if (response.hasRefreshToken()) {
+                authSession.setRefreshToken(response.getRefreshToken());
+              }
+
+              authSession.setAccessToken(response.getAccessToken());
+              saveAuthSession(authSession);
+            });
   }
 
   public void saveAuthSession(AuthSession authSession) {
     if (authSession.getSessionSaver() == null) {
       throw new IllegalStateException("Session saver is not set");
     }
-    authSession.getSessionSaver().accept(JsonUtils.toJson(authSession).getBytes());
+    authSession.getSessionSaver().accept(JsonUtils.toJsonBytes(authSession));
   }
 
-  private void onGetPasswordRSAPublicKeyResponse(
-      CAuthentication_GetPasswordRSAPublicKey_Response response, String username, String password) {
+  private CompletableFuture<CAuthentication_BeginAuthSessionViaCredentials_Response>
+      beginAuthSession(
+          CAuthentication_GetPasswordRSAPublicKey_Response response,
+          String username,
+          String password) {
     BigInteger modulus = new BigInteger(response.getPublickeyMod(), 16);
     BigInteger exponent = new BigInteger(response.getPublickeyExp(), 16);
 
@@ -129,18 +150,10 @@ public class AuthSessionService<T extends HasJobSender & HasJobHandler> {
                     .build())
             .build();
 
-    Job job =
-        client.sendJob(
-            ProtoMessage.of(createServiceMethodCallHeader(), request),
-            Job.of("Authentication.BeginAuthSessionViaCredentials#1", 1));
-
-    client.addJobListener(
-        job.getSourceJobId(),
-        CAuthentication_BeginAuthSessionViaCredentials_Response.class,
-        this::onAuthSessionResponse);
+    return authentication.beginAuthSessionViaCredentials(request);
   }
 
-  private void onAuthSessionResponse(
+  private CompletableFuture<CAuthentication_PollAuthSessionStatus_Response> pollAuthSessionStatus(
       CAuthentication_BeginAuthSessionViaCredentials_Response response) {
     var message =
         CAuthentication_PollAuthSessionStatus_Request.newBuilder()
@@ -148,15 +161,7 @@ public class AuthSessionService<T extends HasJobSender & HasJobHandler> {
             .setRequestId(response.getRequestId())
             .build();
 
-    Job job =
-        client.sendJob(
-            ProtoMessage.of(createServiceMethodCallHeader(), message),
-            Job.of("Authentication.PollAuthSessionStatus#1", 1));
-
-    client.addJobListener(
-        job.getSourceJobId(),
-        CAuthentication_PollAuthSessionStatus_Response.class,
-        this::onPollAuthSessionStatusResponse);
+    return authentication.pollAuthSessionStatus(message);
   }
 
   private void onPollAuthSessionStatusResponse(
@@ -171,9 +176,4 @@ public class AuthSessionService<T extends HasJobSender & HasJobHandler> {
     saveAuthSession(authSession);
     onAuthSessionCreated.accept(authSession);
   }
-
-  private ProtoMessageHeader createServiceMethodCallHeader() {
-    return ProtoMessageHeader.of(
-        EMsg.k_EMsgServiceMethodCallFromClient_VALUE, CMsgProtoBufHeader.newBuilder().build());
-  }
 }
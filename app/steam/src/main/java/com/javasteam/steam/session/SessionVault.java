@@ -0,0 +1,338 @@
+package com.javasteam.steam.session;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.javasteam.utils.common.ArrayUtils;
+import com.javasteam.utils.common.CryptoUtils;
+import com.javasteam.utils.common.JsonUtils;
+import com.javasteam.utils.common.StorageUtils;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import javax.crypto.SecretKey;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encrypted store for the auth sessions of many accounts in one directory. The key is derived from
+ * the vault password once, every session is an AES-GCM encrypted entry file and an encrypted
+ * manifest maps the usernames to their files. Files are written to a temporary file and renamed, so
+ * a crash never leaves a partially written file. Saves are coalesced for {@link
+ * SessionVaultConfig#getWriteDelay()} and the entries are decrypted in parallel when the vault is
+ * opened.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * SessionVault vault = SessionVault.open(SessionVaultConfig.of(Path.of("sessions"), password));
+ * client.setSessionVault(vault);
+ * client.login(LoginParameters.withSessionVault(vault, "username"));
+ * ...
+ * vault.close();
+ * }</pre>
+ */
+@Slf4j
+public class SessionVault implements AutoCloseable {
+  private static final String MANIFEST = "vault.bin";
+  private static final String ENTRY_SUFFIX = ".session";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private static final int MAGIC = 0x4A535356;
+  private static final int VERSION = 1;
+  private static final int SALT_SIZE = 16;
+  private static final int HEADER_SIZE = 8 + SALT_SIZE;
+
+  private final SessionVaultConfig config;
+  private final Path directory;
+  private final byte[] salt;
+  private final SecretKey key;
+  private final Map<String, AuthSession> sessions = new ConcurrentHashMap<>();
+  private final Map<String, byte[]> pendingSaves = new ConcurrentHashMap<>();
+  private final AtomicBoolean flushScheduled = new AtomicBoolean();
+  private final ScheduledExecutorService executor =
+      Executors.newSingleThreadScheduledExecutor(
+          Thread.ofPlatform().name("session-vault").daemon().factory());
+  // Guarded by this
+  private final Map<String, String> entries;
+  private long nextEntryId;
+  private boolean manifestChanged;
+  private volatile boolean closed;
+
+  private SessionVault(
+      SessionVaultConfig config, byte[] salt, SecretKey key, Map<String, String> entries, long id) {
+    this.config = config;
+    this.directory = config.getDirectory();
+    this.salt = salt;
+    this.key = key;
+    this.entries = entries;
+    this.nextEntryId = id;
+  }
+
+  /**
+   * Open the vault in the directory, creating it if it does not exist, and load every session.
+   *
+   * @param config the vault configuration
+   * @return the vault
+   * @throws RuntimeException if the password is wrong or the vault can not be read
+   */
+  public static SessionVault open(SessionVaultConfig config) {
+    Path manifest = config.getDirectory().resolve(MANIFEST);
+    if (!Files.exists(manifest)) {
+      byte[] salt = CryptoUtils.getStrongRandomBytes(SALT_SIZE);
+      var vault =
+          new SessionVault(
+              config,
+              salt,
+              CryptoUtils.getKeyFromPassword(config.getPassword(), salt),
+              new HashMap<>(),
+              1);
+      synchronized (vault) {
+        vault.writeManifest();
+      }
+      log.debug("Created session vault in {}", config.getDirectory());
+      return vault;
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(StorageUtils.readFile(manifest.toString()));
+    if (buffer.remaining() < HEADER_SIZE
+        || buffer.getInt() != MAGIC
+        || buffer.getInt() != VERSION) {
+      throw new RuntimeException("Invalid session vault manifest " + manifest);
+    }
+
+    byte[] salt = new byte[SALT_SIZE];
+    buffer.get(salt);
+    SecretKey key = CryptoUtils.getKeyFromPassword(config.getPassword(), salt);
+
+    VaultIndex index;
+    try {
+      index = JsonUtils.fromJson(decrypt(key, buffer), VaultIndex.class);
+    } catch (RuntimeException e) {
+      throw new RuntimeException("Wrong password or corrupted session vault " + manifest, e);
+    }
+
+    var vault = new SessionVault(config, salt, key, new HashMap<>(index.entries()), index.nextId());
+    vault.loadEntries();
+    return vault;
+  }
+
+  /** Decrypts the entries in parallel, they only need the already derived key. */
+  private void loadEntries() {
+    long start = System.nanoTime();
+    List<Map.Entry<String, String>> files = List.copyOf(entries.entrySet());
+    files.parallelStream()
+        .forEach(
+            entry -> {
+              Path file = directory.resolve(entry.getValue());
+              try {
+                String json = decrypt(key, ByteBuffer.wrap(Files.readAllBytes(file)));
+                sessions.put(entry.getKey(), attach(entry.getKey(), json));
+              } catch (IOException | RuntimeException e) {
+                log.error("Failed to load session of user {} from {}", entry.getKey(), file, e);
+              }
+            });
+    log.debug(
+        "Loaded {} sessions from {} in {} ms",
+        sessions.size(),
+        directory,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  public Optional<AuthSession> get(String username) {
+    return Optional.ofNullable(sessions.get(username));
+  }
+
+  public Set<String> getUsernames() {
+    return Set.copyOf(sessions.keySet());
+  }
+
+  public int size() {
+    return sessions.size();
+  }
+
+  /**
+   * Store a session in the vault, its session saver is replaced so later saves go to the vault.
+   *
+   * @param session the session, stored by its username
+   */
+  public void put(AuthSession session) {
+    session.setSessionSaver(saver(session.getUsername()));
+    sessions.put(session.getUsername(), session);
+    save(session.getUsername(), JsonUtils.toJsonBytes(session));
+  }
+
+  /**
+   * Returns a session saver that stores the saved session of the user in this vault.
+   *
+   * @param username the username of the session
+   * @return the session saver
+   */
+  public Consumer<byte[]> saver(String username) {
+    return bytes -> {
+      sessions.put(username, attach(username, new String(bytes, StandardCharsets.UTF_8)));
+      save(username, bytes);
+    };
+  }
+
+  /** Remove the session of the user from the vault and delete its file. */
+  public void remove(String username) {
+    sessions.remove(username);
+    pendingSaves.remove(username);
+    synchronized (this) {
+      String file = entries.remove(username);
+      if (file != null) {
+        writeManifest();
+        delete(directory.resolve(file));
+      }
+    }
+  }
+
+  /** Write the pending saves now, a save that fails to write stays pending. */
+  public void flush() {
+    flushScheduled.set(false);
+    synchronized (this) {
+      try {
+        for (String username : List.copyOf(pendingSaves.keySet())) {
+          byte[] json = pendingSaves.get(username);
+          if (json == null) {
+            continue;
+          }
+
+          String file = entries.get(username);
+          boolean added = file == null;
+          if (added) {
+            file = nextEntryId + ENTRY_SUFFIX;
+          }
+          writeAtomically(directory.resolve(file), encrypt(key, json));
+          if (added) {
+            nextEntryId++;
+            entries.put(username, file);
+            manifestChanged = true;
+          }
+          // A newer save of the user that arrived during the write stays pending
+          pendingSaves.remove(username, json);
+        }
+      } finally {
+        // The manifest is written after the entries, so it never points to a missing file
+        if (manifestChanged) {
+          writeManifest();
+          manifestChanged = false;
+        }
+      }
+    }
+  }
+
+  /** Write the pending saves and stop the background writer. */
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    executor.shutdown();
+    flush();
+  }
+
+  private void save(String username, byte[] json) {
+    if (closed) {
+      throw new IllegalStateException("Session vault is closed");
+    }
+
+    pendingSaves.put(username, json);
+    if (config.getWriteDelay().isZero()) {
+      flush();
+    } else {
+      scheduleFlush();
+    }
+  }
+
+  private void scheduleFlush() {
+    if (flushScheduled.compareAndSet(false, true)) {
+      executor.schedule(
+          this::flushInBackground, config.getWriteDelay().toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void flushInBackground() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Failed to write sessions to vault {}, retrying", directory, e);
+      if (!closed) {
+        scheduleFlush();
+      }
+    }
+  }
+
+  private AuthSession attach(String username, String json) {
+    AuthSession session = JsonUtils.fromJson(json, AuthSession.class);
+    session.setSessionSaver(saver(username));
+    return session;
+  }
+
+  private void writeManifest() {
+    byte[] index = JsonUtils.toJsonBytes(new VaultIndex(nextEntryId, entries));
+    byte[] header =
+        ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).put(salt).array();
+    writeAtomically(directory.resolve(MANIFEST), ArrayUtils.concat(header, encrypt(key, index)));
+  }
+
+  private static byte[] encrypt(SecretKey key, byte[] data) {
+    byte[] iv = CryptoUtils.getRandomBytes(CryptoUtils.GCM_IV_SIZE);
+    return ArrayUtils.concat(iv, CryptoUtils.encryptGCM(data, key, iv));
+  }
+
+  private static String decrypt(SecretKey key, ByteBuffer buffer) {
+    byte[] iv = new byte[CryptoUtils.GCM_IV_SIZE];
+    byte[] data = new byte[buffer.remaining() - iv.length];
+    buffer.get(iv).get(data);
+    return new String(CryptoUtils.decryptGCM(data, key, iv), StandardCharsets.UTF_8);
+  }
+
+  private static void writeAtomically(Path path, byte[] data) {
+    Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+    try {
+      Files.createDirectories(path.getParent());
+      try (FileChannel channel =
+          FileChannel.open(
+              temp,
+              StandardOpenOption.CREATE,
+              StandardOpenOption.TRUNCATE_EXISTING,
+              StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+      Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to write " + path, e);
+    }
+  }
+
+  private static void delete(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Failed to delete {}", path, e);
+    }
+  }
+
+  private record VaultIndex(
+      @JsonProperty("next_id") long nextId, @JsonProperty("entries") Map<String, String> entries) {}
+}
@@ -0,0 +1,35 @@
+package com.javasteam.steam.session;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration for a {@link SessionVault}. Saves of the same session within {@code writeDelay} are
+ * written once, zero writes every save right away.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * SessionVaultConfig config =
+ *     SessionVaultConfig.builder()
+ *         .withDirectory(Path.of("sessions"))
+ *         .withPassword(password)
+ *         .withWriteDelay(Duration.ofSeconds(5))
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class SessionVaultConfig {
+  public static final Duration DEFAULT_WRITE_DELAY = Duration.ofSeconds(1);
+
+  private final Path directory;
+  private final String password;
+  @Builder.Default private final Duration writeDelay = DEFAULT_WRITE_DELAY;
+
+  public static SessionVaultConfig of(Path directory, String password) {
+    return SessionVaultConfig.builder().withDirectory(directory).withPassword(password).build();
+  }
+}
@@ -0,0 +1,42 @@
+package com.javasteam.steam.session;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration for a {@link TokenRefreshScheduler}. Access tokens are refreshed {@code
+ * refreshBefore} their expiration minus a random part of {@code jitter}, so sessions that logged in
+ * together do not refresh together. At most {@code maxConcurrent} refreshes run at once, failed
+ * refreshes are retried after {@code retryDelay}, doubled on every failure up to {@code
+ * maxRetryDelay}.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * TokenRefreshConfig config =
+ *     TokenRefreshConfig.builder()
+ *         .withRefreshBefore(Duration.ofMinutes(10))
+ *         .withMaxConcurrent(4)
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class TokenRefreshConfig {
+  public static final Duration DEFAULT_REFRESH_BEFORE = Duration.ofMinutes(5);
+  public static final Duration DEFAULT_JITTER = Duration.ofMinutes(2);
+  public static final int DEFAULT_MAX_CONCURRENT = 16;
+  public static final Duration DEFAULT_RETRY_DELAY = Duration.ofMinutes(1);
+  public static final Duration DEFAULT_MAX_RETRY_DELAY = Duration.ofMinutes(30);
+
+  @Builder.Default private final Duration refreshBefore = DEFAULT_REFRESH_BEFORE;
+  @Builder.Default private final Duration jitter = DEFAULT_JITTER;
+  @Builder.Default private final int maxConcurrent = DEFAULT_MAX_CONCURRENT;
+  @Builder.Default private final Duration retryDelay = DEFAULT_RETRY_DELAY;
+  @Builder.Default private final Duration maxRetryDelay = DEFAULT_MAX_RETRY_DELAY;
+
+  public static TokenRefreshConfig defaults() {
+    return TokenRefreshConfig.builder().build();
+  }
+}
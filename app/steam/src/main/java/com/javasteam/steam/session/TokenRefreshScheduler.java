@@ -0,0 +1,280 @@
+package com.javasteam.steam.session;
+
+import com.javasteam.metrics.Counter;
+import com.javasteam.metrics.Histogram;
+import com.javasteam.metrics.MetricsRegistry;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Refreshes the access tokens of many auth sessions shortly before they expire. Every registered
+ * session has one timer, scheduled from the expiration of its access token, so idle sessions cost
+ * nothing and a session never runs with an expired token. Refreshes run asynchronously and at most
+ * {@link TokenRefreshConfig#getMaxConcurrent()} at once, the rest wait in a queue.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * TokenRefreshScheduler.Registration registration =
+ *     TokenRefreshScheduler.getShared()
+ *         .register(authSession, session -> authSessionService.updateAccessTokenAsync(session, true));
+ * ...
+ * registration.cancel();
+ * }</pre>
+ */
+@Slf4j
+public class TokenRefreshScheduler implements AutoCloseable {
+  private final ScheduledExecutorService executor;
+  private final TokenRefreshConfig config;
+  private final Semaphore permits;
+  private final Queue<Registration> waiting = new ConcurrentLinkedQueue<>();
+  private final Map<Registration, Boolean> registrations = new ConcurrentHashMap<>();
+  private volatile Histogram latency;
+  private volatile Counter refreshes;
+  private volatile Counter failures;
+
+  private TokenRefreshScheduler(ScheduledExecutorService executor, TokenRefreshConfig config) {
+    this.executor = executor;
+    this.config = config;
+    this.permits = new Semaphore(config.getMaxConcurrent());
+    setMetricsRegistry(MetricsRegistry.noop());
+  }
+
+  /** Returns the scheduler shared by all clients, its thread is created on first use. */
+  public static TokenRefreshScheduler getShared() {
+    return Shared.INSTANCE;
+  }
+
+  /**
+   * Create a scheduler that runs its timers on the executor. Refreshes only run on the executor to
+   * start them, so a single thread is enough for any number of sessions.
+   *
+   * @param executor the executor for the timers
+   * @param config the scheduler configuration
+   * @return the scheduler
+   */
+  public static TokenRefreshScheduler of(
+      ScheduledExecutorService executor, TokenRefreshConfig config) {
+    return new TokenRefreshScheduler(executor, config);
+  }
+
+  /**
+   * Refresh the access token of the session before it expires, until the registration is cancelled.
+   *
+   * @param session the session to refresh
+   * @param refresher refreshes the tokens of the session, the future completes when it is done
+   * @return the registration, cancel it when the session is no longer used
+   */
+  public Registration register(
+      AuthSession session, Function<AuthSession, CompletableFuture<?>> refresher) {
+    var registration = new Registration(session, refresher);
+    registrations.put(registration, Boolean.TRUE);
+    registration.scheduleFromExpiration(0);
+    return registration;
+  }
+
+  public int getRegisteredCount() {
+    return registrations.size();
+  }
+
+  public int getInFlightCount() {
+    return config.getMaxConcurrent() - permits.availablePermits();
+  }
+
+  /**
+   * Record the refresh latency in "auth.refresh.nanos", refreshes and failures in
+   * "auth.refresh.count" and "auth.refresh.failures", and the registered and running refreshes in
+   * the "auth.refresh.registered" and "auth.refresh.inflight" gauges.
+   *
+   * @param registry the registry
+   */
+  public void setMetricsRegistry(MetricsRegistry registry) {
+    this.latency = registry.histogram("auth.refresh.nanos");
+    this.refreshes = registry.counter("auth.refresh.count");
+    this.failures = registry.counter("auth.refresh.failures");
+    registry.gauge("auth.refresh.registered", this::getRegisteredCount);
+    registry.gauge("auth.refresh.inflight", this::getInFlightCount);
+  }
+
+  /** Cancel every registration and stop the executor. */
+  @Override
+  public void close() {
+    registrations.keySet().forEach(Registration::cancel);
+    executor.shutdownNow();
+  }
+
+  private void startOrQueue(Registration registration) {
+    if (permits.tryAcquire()) {
+      registration.refresh();
+      return;
+    }
+
+    waiting.add(registration);
+    // A refresh may have finished between the failed acquire and the add
+    drainWaiting();
+  }
+
+  private void release() {
+    permits.release();
+    drainWaiting();
+  }
+
+  private void drainWaiting() {
+    while (!waiting.isEmpty() && permits.tryAcquire()) {
+      Registration next = waiting.poll();
+      if (next == null) {
+        permits.release();
+        return;
+      }
+      next.refresh();
+    }
+  }
+
+  /** A session registered for refreshes. */
+  public final class Registration {
+    private final AuthSession session;
+    private final Function<AuthSession, CompletableFuture<?>> refresher;
+    // Guarded by this
+    private ScheduledFuture<?> timer;
+    private int failedAttempts;
+    private volatile boolean cancelled;
+
+    private Registration(
+        AuthSession session, Function<AuthSession, CompletableFuture<?>> refresher) {
+      this.session = session;
+      this.refresher = refresher;
+    }
+
+    public AuthSession getSession() {
+      return session;
+    }
+
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    /** Stop refreshing the session, a refresh that already started still completes. */
+    public void cancel() {
+      cancelled = true;
+      registrations.remove(this);
+      waiting.remove(this);
+      synchronized (this) {
+        if (timer != null) {
+          timer.cancel(false);
+          timer = null;
+        }
+      }
+    }
+
+    /** Schedules the refresh from the access token expiration, but not sooner than the delay. */
+    private void scheduleFromExpiration(long minDelayMillis) {
+      long expiration;
+      try {
+        if (session.isRefreshTokenExpired()) {
+          log.warn("Refresh token of user {} has expired, not refreshing", session.getUsername());
+          cancel();
+          return;
+        }
+        expiration = session.getAccessTokenExpiration();
+      } catch (RuntimeException e) {
+        log.debug("Could not read token expiration of user {}", session.getUsername(), e);
+        schedule(0);
+        return;
+      }
+
+      long jitter = config.getJitter().toMillis();
+      long due =
+          TimeUnit.SECONDS.toMillis(expiration)
+              - config.getRefreshBefore().toMillis()
+              - (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter) : 0);
+      schedule(Math.max(minDelayMillis, due - System.currentTimeMillis()));
+    }
+
+    private synchronized void schedule(long delayMillis) {
+      if (cancelled) {
+        return;
+      }
+
+      log.debug("Refreshing access token of user {} in {} ms", session.getUsername(), delayMillis);
+      timer =
+          executor.schedule(
+              () -> startOrQueue(this), Math.max(0, delayMillis), TimeUnit.MILLISECONDS);
+    }
+
+    private void refresh() {
+      if (cancelled) {
+        release();
+        return;
+      }
+
+      long start = System.nanoTime();
+      CompletableFuture<?> future;
+      try {
+        future = refresher.apply(session);
+      } catch (RuntimeException e) {
+        future = CompletableFuture.failedFuture(e);
+      }
+
+      future.whenComplete(
+          (result, throwable) -> {
+            latency.record(System.nanoTime() - start);
+            refreshes.increment();
+            release();
+            if (throwable == null) {
+              onRefreshed();
+            } else {
+              onFailed(throwable);
+            }
+          });
+    }
+
+    private void onRefreshed() {
+      synchronized (this) {
+        failedAttempts = 0;
+      }
+      log.debug("Refreshed access token of user {}", session.getUsername());
+      // A token that was not renewed would otherwise be refreshed again right away
+      scheduleFromExpiration(config.getRetryDelay().toMillis());
+    }
+
+    private void onFailed(Throwable throwable) {
+      failures.increment();
+      long delay;
+      synchronized (this) {
+        int shift = Math.min(failedAttempts++, 20);
+        delay =
+            Math.min(
+                config.getRetryDelay().toMillis() << shift, config.getMaxRetryDelay().toMillis());
+      }
+      log.warn(
+          "Failed to refresh access token of user {}, retrying in {} ms",
+          session.getUsername(),
+          delay,
+          throwable);
+      schedule(delay);
+    }
+  }
+
+  private static class Shared {
+    private static final TokenRefreshScheduler INSTANCE = create();
+
+    private static TokenRefreshScheduler create() {
+      var executor =
+          new ScheduledThreadPoolExecutor(
+              1, Thread.ofPlatform().name("token-refresh").daemon().factory());
+      executor.setRemoveOnCancelPolicy(true);
+      return new TokenRefreshScheduler(executor, TokenRefreshConfig.defaults());
+    }
+  }
+}
@@ -21,10 +21,19 @@ public enum Instance {
 
   private final int code;
 
+  private static final Instance[] BY_CODE = byCode();
+
   public static Instance fromCode(int code) {
-    return Arrays.stream(values())
-        .filter(instance -> instance.code == code)
-        .findFirst()
-        .orElse(ALL);
+    Instance instance = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    return instance == null ? ALL : instance;
+  }
+
+  private static Instance[] byCode() {
+    Instance[] byCode =
+        new Instance[Arrays.stream(values()).mapToInt(Instance::getCode).max().orElse(0) + 1];
+    for (Instance instance : values()) {
+      byCode[instance.code] = instance;
+    }
+    return byCode;
   }
 }
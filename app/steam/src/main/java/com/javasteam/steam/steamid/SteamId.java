@@ -2,45 +2,67 @@ package com.javasteam.steam.steamid;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
+/**
+ * A 64 bit Steam ID with its parts resolved. Use the static helpers of {@link SteamIds} to work on
+ * primitive longs without creating instances.
+ */
 @Getter
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class SteamId {
-  public static final long ACCOUNT_ID_MASK = 0xFFFFFFFFL;
-  public static final long ACCOUNT_INSTANCE_MASK = 0x000FFFFFL;
+  public static final long ACCOUNT_ID_MASK = SteamIds.ACCOUNT_ID_MASK;
+  public static final long ACCOUNT_INSTANCE_MASK = SteamIds.INSTANCE_MASK;
 
   private final Universe universe;
   private final Type type;
   private final Instance instance;
   private final int accountId;
+  @EqualsAndHashCode.Include private final long steamId64;
 
   public static SteamId of(long steamId) {
     return new SteamId(
-        Universe.fromCode((int) (steamId >> 56)),
-        Type.fromCode((int) (steamId >> 52) & 0x0F),
-        Instance.fromCode((int) (steamId >> 32) & 0xFFFFF),
-        (int) steamId);
+        SteamIds.universe(steamId),
+        SteamIds.type(steamId),
+        SteamIds.instance(steamId),
+        SteamIds.accountId(steamId),
+        steamId);
   }
 
   public static SteamId of(Universe universe, Type type, Instance instance) {
-    return new SteamId(universe, type, instance, 0);
+    return new SteamId(universe, type, instance, 0, SteamIds.of(universe, type, instance, 0));
   }
 
   public static SteamId of(Universe universe, Type type) {
-    return new SteamId(universe, type, Instance.DESKTOP, 0);
+    return of(universe, type, Instance.DESKTOP);
+  }
+
+  /**
+   * Parse a Steam ID in the 64 bit decimal, Steam2 or Steam3 form.
+   *
+   * @see SteamIds#parse(CharSequence)
+   */
+  public static SteamId parse(CharSequence text) {
+    return of(SteamIds.parse(text));
   }
 
   public long toSteamId64() {
-    return ((long) universe.getCode() << 56)
-        | ((long) type.getCode() << 52)
-        | ((long) instance.getCode() << 32)
-        | (accountId & ACCOUNT_ID_MASK);
+    return steamId64;
+  }
+
+  public String toSteam2() {
+    return SteamIds.toSteam2(steamId64);
+  }
+
+  public String toSteam3() {
+    return SteamIds.toSteam3(steamId64);
   }
 
   @Override
   public String toString() {
     return "SteamId(universe=%s, type=%s, instance=%s, accountId=%s, steamId64=%s)"
-        .formatted(universe, type, instance, accountId, toSteamId64());
+        .formatted(universe, type, instance, accountId, steamId64);
   }
 }
@@ -0,0 +1,248 @@
+package com.javasteam.steam.steamid;
+
+/**
+ * Static helpers that work on 64 bit Steam IDs stored as primitive longs, so caches and hot paths
+ * never allocate a {@link SteamId}. Also parses and formats the Steam2 ({@code STEAM_1:0:4491990})
+ * and Steam3 ({@code [U:1:8983980]}) text forms without regular expressions.
+ *
+ * <p>Layout of a Steam ID: universe (8 bits), type (4 bits), instance (20 bits), account id (32
+ * bits).
+ */
+public final class SteamIds {
+  public static final long ACCOUNT_ID_MASK = 0xFFFFFFFFL;
+  public static final int INSTANCE_MASK = 0xFFFFF;
+
+  /** Chat instance flag of a clan chat, formatted with the Steam3 prefix {@code c}. */
+  public static final int CLAN_CHAT_FLAG = 1 << 19;
+
+  /** Chat instance flag of a lobby, formatted with the Steam3 prefix {@code L}. */
+  public static final int LOBBY_CHAT_FLAG = 1 << 18;
+
+  private SteamIds() {}
+
+  public static long of(int universe, int type, int instance, int accountId) {
+    return ((long) universe << 56)
+        | ((long) (type & 0x0F) << 52)
+        | ((long) (instance & INSTANCE_MASK) << 32)
+        | (accountId & ACCOUNT_ID_MASK);
+  }
+
+  public static long of(Universe universe, Type type, Instance instance, int accountId) {
+    return of(universe.getCode(), type.getCode(), instance.getCode(), accountId);
+  }
+
+  /** Returns the Steam ID of a public individual desktop account. */
+  public static long ofIndividual(int accountId) {
+    return of(Universe.PUBLIC, Type.INDIVIDUAL, Instance.DESKTOP, accountId);
+  }
+
+  public static int universeCode(long steamId) {
+    return (int) (steamId >>> 56);
+  }
+
+  public static int typeCode(long steamId) {
+    return (int) (steamId >>> 52) & 0x0F;
+  }
+
+  public static int instanceCode(long steamId) {
+    return (int) (steamId >>> 32) & INSTANCE_MASK;
+  }
+
+  public static int accountId(long steamId) {
+    return (int) steamId;
+  }
+
+  public static Universe universe(long steamId) {
+    return Universe.fromCode(universeCode(steamId));
+  }
+
+  public static Type type(long steamId) {
+    return Type.fromCode(typeCode(steamId));
+  }
+
+  public static Instance instance(long steamId) {
+    return Instance.fromCode(instanceCode(steamId));
+  }
+
+  public static boolean isIndividual(long steamId) {
+    return typeCode(steamId) == Type.INDIVIDUAL.getCode();
+  }
+
+  public static boolean isClan(long steamId) {
+    return typeCode(steamId) == Type.CLAN.getCode();
+  }
+
+  /** Returns the Steam2 form, only defined for individual accounts. */
+  public static String toSteam2(long steamId) {
+    return appendSteam2(new StringBuilder(24), steamId).toString();
+  }
+
+  public static StringBuilder appendSteam2(StringBuilder builder, long steamId) {
+    int accountId = accountId(steamId);
+    return builder
+        .append("STEAM_")
+        .append(universeCode(steamId))
+        .append(':')
+        .append(accountId & 1)
+        .append(':')
+        .append(Integer.toUnsignedLong(accountId) >>> 1);
+  }
+
+  public static String toSteam3(long steamId) {
+    return appendSteam3(new StringBuilder(24), steamId).toString();
+  }
+
+  public static StringBuilder appendSteam3(StringBuilder builder, long steamId) {
+    int type = typeCode(steamId);
+    int instance = instanceCode(steamId);
+    char prefix = type(steamId).getPrefix().charAt(0);
+    if (type == Type.CHAT.getCode()) {
+      if ((instance & CLAN_CHAT_FLAG) != 0) {
+        prefix = 'c';
+      } else if ((instance & LOBBY_CHAT_FLAG) != 0) {
+        prefix = 'L';
+      }
+    }
+
+    builder
+        .append('[')
+        .append(prefix)
+        .append(':')
+        .append(universeCode(steamId))
+        .append(':')
+        .append(Integer.toUnsignedLong(accountId(steamId)));
+    boolean showInstance =
+        type == Type.ANON_GAMESERVER.getCode()
+            || type == Type.MULTISEAT.getCode()
+            || (type == Type.INDIVIDUAL.getCode() && instance != Instance.DESKTOP.getCode());
+    if (showInstance) {
+      builder.append(':').append(instance);
+    }
+    return builder.append(']');
+  }
+
+  /**
+   * Parse a Steam ID in the 64 bit decimal, Steam2 or Steam3 form.
+   *
+   * @param text the Steam ID
+   * @return the 64 bit Steam ID
+   * @throws RuntimeException if the text is not a valid Steam ID
+   */
+  public static long parse(CharSequence text) {
+    int length = text.length();
+    if (length > 0 && text.charAt(0) == '[') {
+      return parseSteam3(text);
+    }
+    if (length > 6 && text.charAt(0) == 'S') {
+      return parseSteam2(text);
+    }
+
+    return parseNumber(text, 0, length, Long.MAX_VALUE);
+  }
+
+  /** Parse the Steam2 form, {@code STEAM_X:Y:Z}, universe 0 is read as public. */
+  public static long parseSteam2(CharSequence text) {
+    int length = text.length();
+    if (!startsWith(text, "STEAM_")) {
+      throw invalid(text);
+    }
+
+    int universeEnd = indexOf(text, ':', 6);
+    int parityEnd = indexOf(text, ':', universeEnd + 1);
+    int universe = (int) parseNumber(text, 6, universeEnd, 0xFF);
+    int parity = (int) parseNumber(text, universeEnd + 1, parityEnd, 1);
+    long half = parseNumber(text, parityEnd + 1, length, ACCOUNT_ID_MASK >>> 1);
+    return of(
+        universe == 0 ? Universe.PUBLIC.getCode() : universe,
+        Type.INDIVIDUAL.getCode(),
+        Instance.DESKTOP.getCode(),
+        (int) (half << 1 | parity));
+  }
+
+  /** Parse the Steam3 form, {@code [T:U:A]} or {@code [T:U:A:I]}. */
+  public static long parseSteam3(CharSequence text) {
+    int length = text.length();
+    if (length < 7
+        || text.charAt(0) != '['
+        || text.charAt(length - 1) != ']'
+        || text.charAt(2) != ':') {
+      throw invalid(text);
+    }
+
+    char prefix = text.charAt(1);
+    int instanceFlags = 0;
+    Type type;
+    if (prefix == 'c') {
+      type = Type.CHAT;
+      instanceFlags = CLAN_CHAT_FLAG;
+    } else if (prefix == 'L') {
+      type = Type.CHAT;
+      instanceFlags = LOBBY_CHAT_FLAG;
+    } else {
+      type = Type.fromPrefix(prefix);
+      if (type == Type.INVALID && prefix != 'I') {
+        throw invalid(text);
+      }
+    }
+
+    int universeEnd = indexOf(text, ':', 3);
+    int universe = (int) parseNumber(text, 3, universeEnd, 0xFF);
+    int accountEnd = universeEnd + 1;
+    while (accountEnd < length - 1 && text.charAt(accountEnd) != ':') {
+      accountEnd++;
+    }
+    long accountId = parseNumber(text, universeEnd + 1, accountEnd, ACCOUNT_ID_MASK);
+
+    int instance;
+    if (accountEnd < length - 1) {
+      instance = (int) parseNumber(text, accountEnd + 1, length - 1, INSTANCE_MASK);
+    } else if (type == Type.INDIVIDUAL) {
+      instance = Instance.DESKTOP.getCode();
+    } else {
+      instance = Instance.ALL.getCode();
+    }
+
+    return of(universe, type.getCode(), instance | instanceFlags, (int) accountId);
+  }
+
+  private static long parseNumber(CharSequence text, int start, int end, long max) {
+    if (start >= end || end - start > 20) {
+      throw invalid(text);
+    }
+
+    long value = 0;
+    for (int i = start; i < end; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9 || digit > max || value > (max - digit) / 10) {
+        throw invalid(text);
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  private static int indexOf(CharSequence text, char c, int from) {
+    for (int i = from; i < text.length(); i++) {
+      if (text.charAt(i) == c) {
+        return i;
+      }
+    }
+    throw invalid(text);
+  }
+
+  private static boolean startsWith(CharSequence text, String prefix) {
+    if (text.length() < prefix.length()) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length(); i++) {
+      if (text.charAt(i) != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static RuntimeException invalid(CharSequence text) {
+    return new RuntimeException("Invalid Steam ID: %s".formatted(text));
+  }
+}
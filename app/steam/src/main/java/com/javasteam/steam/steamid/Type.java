@@ -28,7 +28,33 @@ public enum Type {
   private final int code;
   private final String prefix;
 
+  private static final Type[] BY_CODE = byCode();
+  private static final Type[] BY_PREFIX = byPrefix();
+
   public static Type fromCode(int code) {
-    return Arrays.stream(values()).filter(type -> type.code == code).findFirst().orElse(INVALID);
+    Type type = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    return type == null ? INVALID : type;
+  }
+
+  /** Returns the type of a Steam3 prefix character, {@link #INVALID} if unknown. */
+  public static Type fromPrefix(char prefix) {
+    Type type = prefix < BY_PREFIX.length ? BY_PREFIX[prefix] : null;
+    return type == null ? INVALID : type;
+  }
+
+  private static Type[] byPrefix() {
+    Type[] byPrefix = new Type[128];
+    for (Type type : values()) {
+      byPrefix[type.prefix.charAt(0)] = type;
+    }
+    return byPrefix;
+  }
+
+  private static Type[] byCode() {
+    Type[] byCode = new Type[Arrays.stream(values()).mapToInt(Type::getCode).max().orElse(0) + 1];
+    for (Type type : values()) {
+      byCode[type.code] = type;
+    }
+    return byCode;
   }
 }
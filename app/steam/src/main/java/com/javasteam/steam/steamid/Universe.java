@@ -23,10 +23,19 @@ public enum Universe {
 
   private final int code;
 
+  private static final Universe[] BY_CODE = byCode();
+
   public static Universe fromCode(int code) {
-    return Arrays.stream(values())
-        .filter(universe -> universe.code == code)
-        .findFirst()
-        .orElse(INVALID);
+    Universe universe = code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    return universe == null ? INVALID : universe;
+  }
+
+  private static Universe[] byCode() {
+    Universe[] byCode =
+        new Universe[Arrays.stream(values()).mapToInt(Universe::getCode).max().orElse(0) + 1];
+    for (Universe universe : values()) {
+      byCode[universe.code] = universe;
+    }
+    return byCode;
   }
 }
@@ -0,0 +1,73 @@
+package com.javasteam.steam.trace;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads {@link TraceRecord}s written by {@link CaptureWriter}. The timestamps of the records are
+ * relative to the first record, which has timestamp 0.
+ */
+public class CaptureReader implements AutoCloseable {
+  private static final TraceDirection[] DIRECTIONS = TraceDirection.values();
+  private final DataInputStream input;
+  private long timestampNanos;
+
+  public CaptureReader(InputStream inputStream) throws IOException {
+    this.input = new DataInputStream(new BufferedInputStream(inputStream));
+    int magic = input.readInt();
+    int version = input.readUnsignedByte();
+    if (magic != CaptureWriter.MAGIC || version != CaptureWriter.VERSION) {
+      throw new IOException("Unsupported capture format %s version %s".formatted(magic, version));
+    }
+  }
+
+  /** Returns the next record, or an empty optional at the end of the capture. */
+  public Optional<TraceRecord> next() throws IOException {
+    int direction = input.read();
+    if (direction < 0) {
+      return Optional.empty();
+    }
+
+    try {
+      timestampNanos += readVarLong();
+      int emsg = (int) readVarLong();
+      byte[] data = new byte[(int) readVarLong()];
+      input.readFully(data);
+      return Optional.of(new TraceRecord(timestampNanos, DIRECTIONS[direction], emsg, data));
+    } catch (EOFException e) {
+      throw new IOException("Capture ends with a truncated record", e);
+    }
+  }
+
+  public List<TraceRecord> readAll() throws IOException {
+    List<TraceRecord> records = new ArrayList<>();
+    Optional<TraceRecord> record;
+    while ((record = next()).isPresent()) {
+      records.add(record.get());
+    }
+    return records;
+  }
+
+  @Override
+  public void close() throws IOException {
+    input.close();
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      int b = input.readUnsignedByte();
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint in capture");
+  }
+}
@@ -0,0 +1,55 @@
+package com.javasteam.steam.trace;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes {@link TraceRecord}s in the compact capture format read by {@link CaptureReader}.
+ *
+ * <p>The stream starts with {@link #MAGIC} and {@link #VERSION}. Every record is written as the
+ * direction (byte), the nanoseconds since the previous record, the EMsg and the data length as
+ * unsigned varints, followed by the data.
+ */
+public class CaptureWriter implements AutoCloseable {
+  public static final int MAGIC = 0x4A534350; // "JSCP"
+  public static final int VERSION = 1;
+  private final DataOutputStream output;
+  private long previousNanos = Long.MIN_VALUE;
+
+  public CaptureWriter(OutputStream outputStream) throws IOException {
+    this.output = new DataOutputStream(new BufferedOutputStream(outputStream));
+    this.output.writeInt(MAGIC);
+    this.output.writeByte(VERSION);
+  }
+
+  public void write(TraceRecord record) throws IOException {
+    long delta =
+        previousNanos == Long.MIN_VALUE ? 0 : Math.max(0, record.timestampNanos() - previousNanos);
+    previousNanos = record.timestampNanos();
+
+    output.writeByte(record.direction().ordinal());
+    writeVarLong(delta);
+    writeVarLong(record.emsg() & 0xFFFFFFFFL);
+    writeVarLong(record.data().length);
+    output.write(record.data());
+  }
+
+  public void flush() throws IOException {
+    output.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    output.close();
+  }
+
+  private void writeVarLong(long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      output.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    output.writeByte((int) value);
+  }
+}
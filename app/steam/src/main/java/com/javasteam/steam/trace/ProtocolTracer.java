@@ -0,0 +1,63 @@
+package com.javasteam.steam.trace;
+
+import static com.javasteam.protobufs.EnumsClientserver.EMsg;
+
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sampled protocol tracer. Sampled messages are copied to a {@link TraceRingBuffer} and, if
+ * enabled, logged at debug level. Callers check {@link #isEnabled()} first, so with the disabled
+ * tracer the message path does no sampling and no string building.
+ */
+@Slf4j
+public class ProtocolTracer {
+  private static final ProtocolTracer DISABLED = new ProtocolTracer(null, false);
+  private final TraceConfig config;
+  @Getter private final boolean enabled;
+  @Getter private final TraceRingBuffer buffer;
+
+  private ProtocolTracer(TraceConfig config, boolean enabled) {
+    this.config = config;
+    this.enabled = enabled;
+    this.buffer = enabled ? new TraceRingBuffer(config.getCapacity()) : new TraceRingBuffer(1);
+  }
+
+  public static ProtocolTracer of(TraceConfig config) {
+    return new ProtocolTracer(config, true);
+  }
+
+  public static ProtocolTracer disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Trace a message if it is sampled.
+   *
+   * @param direction the direction of the message
+   * @param emsg the EMsg of the message without the proto mask
+   * @param data the unencrypted message bytes, copied if the message is sampled
+   */
+  public void trace(TraceDirection direction, int emsg, byte[] data) {
+    if (!enabled || !isSampled(emsg)) {
+      return;
+    }
+
+    buffer.add(new TraceRecord(System.nanoTime(), direction, emsg, data.clone()));
+    if (config.isLogMessages() && log.isDebugEnabled()) {
+      EMsg resolved = EMsg.forNumber(emsg);
+      log.debug(
+          "{} {} ({}) [{} bytes]",
+          direction,
+          resolved != null ? resolved.name() : "Unknown",
+          emsg,
+          data.length);
+    }
+  }
+
+  private boolean isSampled(int emsg) {
+    double rate = config.getSampleRate(emsg);
+    return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+  }
+}
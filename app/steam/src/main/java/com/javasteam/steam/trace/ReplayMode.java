@@ -0,0 +1,9 @@
+package com.javasteam.steam.trace;
+
+/** How fast a {@link SessionReplay} feeds the captured messages. */
+public enum ReplayMode {
+  /** Feed the messages back to back, for throughput measurements. */
+  FULL_SPEED,
+  /** Keep the captured time between the messages. */
+  REAL_TIME
+}
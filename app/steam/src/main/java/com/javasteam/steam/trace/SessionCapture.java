@@ -0,0 +1,75 @@
+package com.javasteam.steam.trace;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Captures every decrypted message of a connection, in both directions, to a capture file. The file
+ * can be fed back through a client with {@link SessionReplay}.
+ *
+ * <p>Capture files contain session ids, Steam IDs and message contents such as access tokens, so
+ * they should be handled like credentials.
+ */
+@Slf4j
+public class SessionCapture implements AutoCloseable {
+  private final CaptureWriter writer;
+  private volatile boolean open = true;
+
+  private SessionCapture(OutputStream outputStream) throws IOException {
+    this.writer = new CaptureWriter(outputStream);
+  }
+
+  public static SessionCapture of(OutputStream outputStream) {
+    try {
+      return new SessionCapture(outputStream);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to start session capture", e);
+    }
+  }
+
+  public static SessionCapture open(Path path) {
+    try {
+      return new SessionCapture(Files.newOutputStream(path));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open session capture %s".formatted(path), e);
+    }
+  }
+
+  /**
+   * Capture a message. A write error stops the capture, the connection is not affected.
+   *
+   * @param direction the direction of the message
+   * @param emsg the EMsg of the message without the proto mask
+   * @param data the decrypted message bytes
+   */
+  public void record(TraceDirection direction, int emsg, byte[] data) {
+    if (!open) {
+      return;
+    }
+
+    TraceRecord record = new TraceRecord(System.nanoTime(), direction, emsg, data);
+    synchronized (writer) {
+      try {
+        writer.write(record);
+      } catch (IOException e) {
+        log.error("Failed to write session capture, stopping capture", e);
+        open = false;
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    open = false;
+    synchronized (writer) {
+      try {
+        writer.close();
+      } catch (IOException e) {
+        log.warn("Failed to close session capture", e);
+      }
+    }
+  }
+}
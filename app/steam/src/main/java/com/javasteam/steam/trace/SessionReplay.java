@@ -0,0 +1,99 @@
+package com.javasteam.steam.trace;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import lombok.Getter;
+
+/**
+ * Replays the inbound messages of a capture, for example into {@code SteamCMClient::onRawMessage}.
+ * The records are loaded into memory first, so reading the capture is not part of the measured
+ * replay.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * SessionReplay replay = SessionReplay.load(Path.of("session.cap"));
+ * ReplayResult result = replay.replay(client::onRawMessage, ReplayMode.FULL_SPEED);
+ * log.info("Replayed {} messages per second", result.getMessagesPerSecond());
+ * }</pre>
+ */
+public class SessionReplay {
+  @Getter private final List<TraceRecord> records;
+
+  private SessionReplay(List<TraceRecord> records) {
+    this.records = List.copyOf(records);
+  }
+
+  public static SessionReplay of(List<TraceRecord> records) {
+    return new SessionReplay(records);
+  }
+
+  public static SessionReplay load(InputStream inputStream) {
+    try (CaptureReader reader = new CaptureReader(inputStream)) {
+      return new SessionReplay(reader.readAll());
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to load session capture", e);
+    }
+  }
+
+  public static SessionReplay load(Path path) {
+    try {
+      return load(Files.newInputStream(path));
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open session capture %s".formatted(path), e);
+    }
+  }
+
+  /**
+   * Feed the inbound messages to the consumer, outbound messages are skipped. In real time mode the
+   * timestamps are taken relative to the first record, so loaded captures and records taken from
+   * the tracer buffer, which use {@link System#nanoTime()} values, are replayed the same way.
+   *
+   * @param consumer receives the decrypted message bytes
+   * @param mode the replay speed
+   * @return the number of replayed messages and bytes and the elapsed time
+   */
+  public ReplayResult replay(Consumer<byte[]> consumer, ReplayMode mode) {
+    long messages = 0;
+    long bytes = 0;
+    long origin = records.isEmpty() ? 0 : records.get(0).timestampNanos();
+    long start = System.nanoTime();
+
+    for (TraceRecord record : records) {
+      if (record.direction() != TraceDirection.IN) {
+        continue;
+      }
+
+      if (mode == ReplayMode.REAL_TIME) {
+        long wait = (record.timestampNanos() - origin) - (System.nanoTime() - start);
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+      }
+
+      consumer.accept(record.data());
+      messages++;
+      bytes += record.data().length;
+    }
+
+    return new ReplayResult(messages, bytes, System.nanoTime() - start);
+  }
+
+  /**
+   * Result of a replay.
+   *
+   * @param messages the number of replayed messages
+   * @param bytes the number of replayed bytes
+   * @param elapsedNanos the time the replay took
+   */
+  public record ReplayResult(long messages, long bytes, long elapsedNanos) {
+    public double getMessagesPerSecond() {
+      return elapsedNanos == 0 ? 0 : messages * 1e9 / elapsedNanos;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.javasteam.steam.trace;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Singular;
+
+/**
+ * Configuration for a {@link ProtocolTracer}. Sample rates are between 0 (never) and 1 (every
+ * message) and can be set per EMsg, other messages use the default sample rate.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * TraceConfig config =
+ *     TraceConfig.builder()
+ *         .withDefaultSampleRate(0.01)
+ *         .withSampleRate(EMsg.k_EMsgClientLogOnResponse_VALUE, 1.0)
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class TraceConfig {
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  @Singular private final Map<Integer, Double> sampleRates;
+  @Builder.Default private final double defaultSampleRate = 1.0;
+  @Builder.Default private final int capacity = DEFAULT_CAPACITY;
+  @Builder.Default private final boolean logMessages = true;
+
+  public double getSampleRate(int emsg) {
+    return sampleRates.getOrDefault(emsg, defaultSampleRate);
+  }
+}
@@ -0,0 +1,7 @@
+package com.javasteam.steam.trace;
+
+/** Direction of a traced message. */
+public enum TraceDirection {
+  IN,
+  OUT
+}
@@ -0,0 +1,11 @@
+package com.javasteam.steam.trace;
+
+/**
+ * A captured message.
+ *
+ * @param timestampNanos the {@link System#nanoTime()} when the message was captured
+ * @param direction the direction of the message
+ * @param emsg the EMsg of the message without the proto mask
+ * @param data the unencrypted message bytes, including the header
+ */
+public record TraceRecord(long timestampNanos, TraceDirection direction, int emsg, byte[] data) {}
@@ -0,0 +1,60 @@
+package com.javasteam.steam.trace;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed size buffer of the most recent {@link TraceRecord}s. Writers never block, when the buffer
+ * is full the oldest record is overwritten.
+ */
+public class TraceRingBuffer {
+  private final AtomicReferenceArray<TraceRecord> records;
+  private final AtomicLong position = new AtomicLong();
+
+  public TraceRingBuffer(int capacity) {
+    this.records = new AtomicReferenceArray<>(capacity);
+  }
+
+  public void add(TraceRecord record) {
+    long index = position.getAndIncrement();
+    records.set((int) (index % records.length()), record);
+  }
+
+  /** Returns the buffered records, oldest first. */
+  public List<TraceRecord> snapshot() {
+    long end = position.get();
+    long start = Math.max(0, end - records.length());
+    List<TraceRecord> snapshot = new ArrayList<>((int) (end - start));
+    for (long i = start; i < end; i++) {
+      TraceRecord record = records.get((int) (i % records.length()));
+      if (record != null) {
+        snapshot.add(record);
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * Write the buffered records in the capture format of {@link CaptureWriter}, oldest first, so a
+   * dump can be replayed with {@link SessionReplay}.
+   *
+   * @param outputStream the stream to write to
+   */
+  public void writeTo(OutputStream outputStream) throws IOException {
+    CaptureWriter writer = new CaptureWriter(outputStream);
+    for (TraceRecord record : snapshot()) {
+      writer.write(record);
+    }
+    writer.flush();
+  }
+
+  public void clear() {
+    for (int i = 0; i < records.length(); i++) {
+      records.set(i, null);
+    }
+  }
+}
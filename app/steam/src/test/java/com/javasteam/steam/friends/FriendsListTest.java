@@ -0,0 +1,150 @@
+package com.javasteam.steam.friends;
+
+import static com.javasteam.protobufs.SteammessagesClientserverFriends.CMsgClientFriendsList;
+
+import com.javasteam.steam.common.EFriendRelationship;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import junit.framework.TestCase;
+
+/**
+ * Applies full and incremental friends lists to a {@link FriendsList} and checks the merged
+ * snapshot and the reported changes.
+ */
+public class FriendsListTest extends TestCase {
+  private static final long ALICE = 76561197960265729L;
+  private static final long BOB = 76561197960265730L;
+  private static final long CAROL = 76561197960265731L;
+  private static final long DAVE = 76561197960265732L;
+  private static final long GROUP = 103582791429521412L;
+
+  private final FriendsList friendsList = new FriendsList();
+  private final List<RelationshipChange> changes = new ArrayList<>();
+
+  @Override
+  protected void setUp() {
+    friendsList.addListener((snapshot, update) -> changes.addAll(update));
+  }
+
+  public void testFullListIsSorted() {
+    apply(false, friend(GROUP, 3), friend(CAROL, 3), friend(ALICE, 2), friend(BOB, 1));
+
+    FriendsSnapshot snapshot = friendsList.getSnapshot();
+    assertTrue(Arrays.equals(new long[] {ALICE, BOB, CAROL, GROUP}, snapshot.getSteamIds()));
+    assertEquals(EFriendRelationship.REQUEST_RECIPIENT, snapshot.getRelationship(ALICE));
+    assertEquals(EFriendRelationship.BLOCKED, snapshot.getRelationship(BOB));
+    assertTrue(snapshot.isFriend(CAROL));
+    assertTrue(
+        Arrays.equals(new long[] {CAROL, GROUP}, snapshot.getSteamIds(EFriendRelationship.FRIEND)));
+    assertEquals(4, changes.size());
+  }
+
+  public void testFullListReplacesRelationships() {
+    apply(false, friend(ALICE, 3), friend(BOB, 3), friend(CAROL, 3));
+    changes.clear();
+
+    apply(false, friend(BOB, 3), friend(DAVE, 3));
+
+    FriendsSnapshot snapshot = friendsList.getSnapshot();
+    assertTrue(Arrays.equals(new long[] {BOB, DAVE}, snapshot.getSteamIds()));
+    assertEquals(EFriendRelationship.NONE, snapshot.getRelationship(ALICE));
+    assertEquals(
+        List.of(
+            new RelationshipChange(ALICE, EFriendRelationship.FRIEND, EFriendRelationship.NONE),
+            new RelationshipChange(CAROL, EFriendRelationship.FRIEND, EFriendRelationship.NONE),
+            new RelationshipChange(DAVE, EFriendRelationship.NONE, EFriendRelationship.FRIEND)),
+        changes);
+  }
+
+  public void testIncrementalListMergesIntoTheSnapshot() {
+    apply(false, friend(ALICE, 3), friend(CAROL, 3), friend(GROUP, 3));
+    changes.clear();
+
+    // Adds one in the middle, one at the end, changes one and removes one
+    apply(true, friend(DAVE, 2), friend(BOB, 4), friend(CAROL, 0), friend(ALICE, 5));
+
+    FriendsSnapshot snapshot = friendsList.getSnapshot();
+    assertTrue(Arrays.equals(new long[] {ALICE, BOB, DAVE, GROUP}, snapshot.getSteamIds()));
+    assertEquals(EFriendRelationship.IGNORED, snapshot.getRelationship(ALICE));
+    assertEquals(EFriendRelationship.REQUEST_INITIATOR, snapshot.getRelationship(BOB));
+    assertEquals(EFriendRelationship.REQUEST_RECIPIENT, snapshot.getRelationship(DAVE));
+    assertFalse(snapshot.contains(CAROL));
+    assertEquals(
+        List.of(
+            new RelationshipChange(ALICE, EFriendRelationship.FRIEND, EFriendRelationship.IGNORED),
+            new RelationshipChange(
+                BOB, EFriendRelationship.NONE, EFriendRelationship.REQUEST_INITIATOR),
+            new RelationshipChange(CAROL, EFriendRelationship.FRIEND, EFriendRelationship.NONE),
+            new RelationshipChange(
+                DAVE, EFriendRelationship.NONE, EFriendRelationship.REQUEST_RECIPIENT)),
+        changes);
+  }
+
+  public void testIncrementalListWithoutChangesDoesNotNotify() {
+    apply(false, friend(ALICE, 3));
+    changes.clear();
+
+    apply(true, friend(ALICE, 3), friend(BOB, 0));
+
+    assertTrue(Arrays.equals(new long[] {ALICE}, friendsList.getSnapshot().getSteamIds()));
+    assertTrue(changes.isEmpty());
+  }
+
+  public void testLastEntryOfASteamIdWins() {
+    apply(false, friend(ALICE, 2), friend(ALICE, 3));
+
+    assertTrue(friendsList.getSnapshot().isFriend(ALICE));
+    assertEquals(1, friendsList.getSnapshot().size());
+  }
+
+  public void testUnknownRelationshipIsKept() {
+    apply(false, friend(ALICE, 3));
+    changes.clear();
+
+    apply(true, friend(ALICE, 9));
+
+    FriendsSnapshot snapshot = friendsList.getSnapshot();
+    assertTrue(snapshot.contains(ALICE));
+    assertEquals(EFriendRelationship.UNKNOWN, snapshot.getRelationship(ALICE));
+    assertEquals(
+        List.of(
+            new RelationshipChange(ALICE, EFriendRelationship.FRIEND, EFriendRelationship.UNKNOWN)),
+        changes);
+  }
+
+  public void testCountsKeepTheirValueWhenMissing() {
+    friendsList.apply(
+        CMsgClientFriendsList.newBuilder()
+            .setMaxFriendCount(250)
+            .setActiveFriendCount(1)
+            .addFriends(friend(ALICE, 3))
+            .build());
+    apply(true, friend(BOB, 3));
+
+    assertEquals(250, friendsList.getSnapshot().getMaxFriendCount());
+    assertEquals(1, friendsList.getSnapshot().getActiveFriendCount());
+  }
+
+  public void testClear() {
+    apply(false, friend(ALICE, 3));
+    friendsList.clear();
+
+    assertEquals(0, friendsList.getSnapshot().size());
+  }
+
+  private void apply(boolean incremental, CMsgClientFriendsList.Friend... friends) {
+    friendsList.apply(
+        CMsgClientFriendsList.newBuilder()
+            .setBincremental(incremental)
+            .addAllFriends(List.of(friends))
+            .build());
+  }
+
+  private static CMsgClientFriendsList.Friend friend(long steamId, int relationship) {
+    return CMsgClientFriendsList.Friend.newBuilder()
+        .setUlfriendid(steamId)
+        .setEfriendrelationship(relationship)
+        .build();
+  }
+}
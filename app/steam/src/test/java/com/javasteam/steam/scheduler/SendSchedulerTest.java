@@ -0,0 +1,154 @@
+package com.javasteam.steam.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import junit.framework.TestCase;
+
+/**
+ * Drives a manual {@link SendScheduler} with a fake clock and checks that the sent messages stay
+ * within the configured rate limits.
+ */
+public class SendSchedulerTest extends TestCase {
+  private static final int EMSG_A = 1001;
+  private static final int EMSG_B = 1002;
+  private static final int EMSG_HEARTBEAT = 703;
+  private static final int GC_EMSG = 5452;
+  private static final int GC_MSG_TYPE = 9172;
+  private static final long MILLISECOND = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final List<Integer> sent = new ArrayList<>();
+  private final Map<Integer, List<Long>> sendTimes = new HashMap<>();
+  private long now;
+
+  public void testEmsgLimit() {
+    SendScheduler scheduler =
+        manual(SendSchedulerConfig.builder().withEmsgLimit(EMSG_A, RateLimit.perSecond(10, 5)));
+    submit(scheduler, EMSG_A, 100);
+
+    Map<Integer, Integer> counts = run(scheduler, 3 * SECOND);
+    // The burst plus 10 per second
+    assertEquals(5 + 30, (int) counts.get(EMSG_A));
+    assertMaxInWindow(5 + 10, SECOND);
+  }
+
+  public void testGcMsgTypeLimit() {
+    SendScheduler scheduler =
+        manual(
+            SendSchedulerConfig.builder().withGcMsgLimit(GC_MSG_TYPE, RateLimit.perSecond(2, 1)));
+    for (int i = 0; i < 20; i++) {
+      scheduler.submit(GC_EMSG, SendScheduler.NO_GC_MSG_TYPE, send(-GC_EMSG));
+    }
+    for (int i = 0; i < 20; i++) {
+      scheduler.submit(GC_EMSG, GC_MSG_TYPE, send(GC_EMSG));
+    }
+
+    Map<Integer, Integer> counts = run(scheduler, 2 * SECOND);
+    assertEquals(1 + 4, (int) counts.get(GC_EMSG));
+    // Other game coordinator messages are not limited
+    assertEquals(20, (int) counts.get(-GC_EMSG));
+  }
+
+  public void testAccountLimit() {
+    SendScheduler scheduler =
+        manual(SendSchedulerConfig.builder().withAccountLimit(RateLimit.perSecond(20, 10)));
+    submit(scheduler, EMSG_A, 100);
+    submit(scheduler, EMSG_B, 100);
+
+    Map<Integer, Integer> counts = run(scheduler, 2 * SECOND);
+    assertEquals(10 + 40, counts.values().stream().mapToInt(Integer::intValue).sum());
+    assertMaxInWindow(10 + 20, SECOND);
+  }
+
+  public void testHighPriorityBypassesLimits() {
+    SendScheduler scheduler =
+        manual(SendSchedulerConfig.builder().withAccountLimit(RateLimit.perSecond(1, 1)));
+    submit(scheduler, EMSG_A, 10);
+    submit(scheduler, EMSG_HEARTBEAT, 10);
+
+    assertEquals(11, scheduler.drain());
+    assertEquals(10, sent.stream().filter(emsg -> emsg == EMSG_HEARTBEAT).count());
+    assertEquals(EMSG_HEARTBEAT, (int) sent.get(0));
+  }
+
+  public void testLaneKeepsOrder() {
+    SendScheduler scheduler =
+        manual(SendSchedulerConfig.builder().withEmsgLimit(EMSG_A, RateLimit.perSecond(1, 1)));
+    submit(scheduler, EMSG_A, 2);
+    submit(scheduler, EMSG_B, 1);
+
+    // The message behind the limited head of its lane waits for it
+    assertEquals(1, scheduler.drain());
+    now += SECOND;
+    assertEquals(2, scheduler.drain());
+    assertEquals(List.of(EMSG_A, EMSG_A, EMSG_B), sent);
+  }
+
+  public void testShedWhenFull() {
+    SendScheduler scheduler =
+        manual(
+            SendSchedulerConfig.builder()
+                .withQueueCapacity(4)
+                .withPriority(EMSG_B, SendPriority.LOW));
+    submit(scheduler, EMSG_B, 4);
+    submit(scheduler, EMSG_A, 4);
+
+    // Normal messages shed the low priority ones, then are shed themselves
+    assertFalse(scheduler.submit(EMSG_A, send(EMSG_A)));
+    assertEquals(5, scheduler.getStats().getShedCount());
+    assertEquals(4, scheduler.drain());
+    assertEquals(List.of(EMSG_A, EMSG_A, EMSG_A, EMSG_A), sent);
+  }
+
+  public void testManualRejectsDelay() {
+    try {
+      manual(SendSchedulerConfig.builder().withOverflowPolicy(OverflowPolicy.DELAY));
+      fail("Expected IllegalArgumentException");
+    } catch (IllegalArgumentException expected) {
+      // Expected
+    }
+  }
+
+  private SendScheduler manual(SendSchedulerConfig.SendSchedulerConfigBuilder config) {
+    return SendScheduler.manual(config.build(), () -> now);
+  }
+
+  private void submit(SendScheduler scheduler, int emsg, int count) {
+    for (int i = 0; i < count; i++) {
+      assertTrue(scheduler.submit(emsg, send(emsg)));
+    }
+  }
+
+  private Runnable send(int emsg) {
+    return () -> {
+      sent.add(emsg);
+      sendTimes.computeIfAbsent(emsg, key -> new ArrayList<>()).add(now);
+    };
+  }
+
+  /** Drains every millisecond until the duration has passed and counts the sent messages. */
+  private Map<Integer, Integer> run(SendScheduler scheduler, long duration) {
+    long end = now + duration;
+    for (; now <= end; now += MILLISECOND) {
+      scheduler.drain();
+    }
+
+    Map<Integer, Integer> counts = new HashMap<>();
+    sendTimes.forEach((emsg, times) -> counts.put(emsg, times.size()));
+    return counts;
+  }
+
+  /** Asserts that no window of the given length contains more than max sent messages. */
+  private void assertMaxInWindow(int max, long window) {
+    List<Long> times = sendTimes.values().stream().flatMap(List::stream).sorted().toList();
+    for (int start = 0, end = 0; end < times.size(); end++) {
+      while (times.get(end) - times.get(start) >= window) {
+        start++;
+      }
+      assertTrue("Sent more than " + max + " messages in a window", end - start + 1 <= max);
+    }
+  }
+}
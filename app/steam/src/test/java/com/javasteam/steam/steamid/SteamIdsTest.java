@@ -0,0 +1,117 @@
+package com.javasteam.steam.steamid;
+
+import junit.framework.TestCase;
+
+/** Round trips the Steam2 and Steam3 text forms of {@link SteamIds} and checks invalid input. */
+public class SteamIdsTest extends TestCase {
+  private static final long INDIVIDUAL = 76561197969249708L;
+  private static final long CLAN = 103582791429521412L;
+
+  public void testLayout() {
+    assertEquals(INDIVIDUAL, SteamIds.ofIndividual(8983980));
+    assertEquals(Universe.PUBLIC, SteamIds.universe(INDIVIDUAL));
+    assertEquals(Type.INDIVIDUAL, SteamIds.type(INDIVIDUAL));
+    assertEquals(Instance.DESKTOP, SteamIds.instance(INDIVIDUAL));
+    assertEquals(8983980, SteamIds.accountId(INDIVIDUAL));
+    assertTrue(SteamIds.isIndividual(INDIVIDUAL));
+    assertTrue(SteamIds.isClan(CLAN));
+
+    // Account ids above Integer.MAX_VALUE keep their unsigned value
+    long highAccount = SteamIds.ofIndividual(-1);
+    assertEquals(SteamIds.ACCOUNT_ID_MASK, highAccount & SteamIds.ACCOUNT_ID_MASK);
+    assertEquals(Instance.DESKTOP, SteamIds.instance(highAccount));
+  }
+
+  public void testSteam2RoundTrip() {
+    assertEquals("STEAM_1:0:4491990", SteamIds.toSteam2(INDIVIDUAL));
+    assertEquals(INDIVIDUAL, SteamIds.parseSteam2("STEAM_1:0:4491990"));
+    assertEquals(INDIVIDUAL + 1, SteamIds.parseSteam2("STEAM_1:1:4491990"));
+    assertEquals("STEAM_1:1:4491990", SteamIds.toSteam2(INDIVIDUAL + 1));
+
+    // Old clients print universe 0 for public accounts
+    assertEquals(INDIVIDUAL, SteamIds.parseSteam2("STEAM_0:0:4491990"));
+
+    long highAccount = SteamIds.ofIndividual(-1);
+    assertEquals("STEAM_1:1:2147483647", SteamIds.toSteam2(highAccount));
+    assertEquals(highAccount, SteamIds.parseSteam2("STEAM_1:1:2147483647"));
+  }
+
+  public void testSteam3RoundTrip() {
+    assertRoundTrip("[U:1:8983980]", INDIVIDUAL);
+    assertRoundTrip("[g:1:4]", CLAN);
+    assertRoundTrip("[U:1:4294967295]", SteamIds.ofIndividual(-1));
+    assertRoundTrip("[G:1:123]", SteamIds.of(1, Type.GAMESERVER.getCode(), 0, 123));
+    assertRoundTrip("[A:1:123:456]", SteamIds.of(1, Type.ANON_GAMESERVER.getCode(), 456, 123));
+    assertRoundTrip("[U:1:8983980:2]", SteamIds.of(1, Type.INDIVIDUAL.getCode(), 2, 8983980));
+    assertRoundTrip("[I:0:0]", 0L);
+  }
+
+  public void testSteam3ChatInstanceFlags() {
+    long clanChat = SteamIds.parseSteam3("[c:1:4]");
+    assertEquals(Type.CHAT, SteamIds.type(clanChat));
+    assertEquals(SteamIds.CLAN_CHAT_FLAG, SteamIds.instanceCode(clanChat));
+    assertEquals("[c:1:4]", SteamIds.toSteam3(clanChat));
+
+    long lobby = SteamIds.parseSteam3("[L:1:5]");
+    assertEquals(Type.CHAT, SteamIds.type(lobby));
+    assertEquals(SteamIds.LOBBY_CHAT_FLAG, SteamIds.instanceCode(lobby));
+    assertEquals("[L:1:5]", SteamIds.toSteam3(lobby));
+
+    // A chat without flags uses the type prefix
+    assertEquals("[T:1:6]", SteamIds.toSteam3(SteamIds.of(1, Type.CHAT.getCode(), 0, 6)));
+  }
+
+  public void testParseDetectsTheForm() {
+    assertEquals(INDIVIDUAL, SteamIds.parse("76561197969249708"));
+    assertEquals(INDIVIDUAL, SteamIds.parse("STEAM_1:0:4491990"));
+    assertEquals(INDIVIDUAL, SteamIds.parse("[U:1:8983980]"));
+    assertEquals(Long.MAX_VALUE, SteamIds.parse(String.valueOf(Long.MAX_VALUE)));
+  }
+
+  public void testAppendsToBuilder() {
+    StringBuilder builder = new StringBuilder("id=");
+    SteamIds.appendSteam3(builder, INDIVIDUAL).append(' ');
+    SteamIds.appendSteam2(builder, INDIVIDUAL);
+    assertEquals("id=[U:1:8983980] STEAM_1:0:4491990", builder.toString());
+  }
+
+  public void testRejectsOverflow() {
+    assertInvalid("9223372036854775808");
+    assertInvalid("123456789012345678901");
+    assertInvalid("[U:1:4294967296]");
+    assertInvalid("[U:256:1]");
+    assertInvalid("[A:1:1:1048576]");
+    assertInvalid("STEAM_1:0:2147483648");
+    assertInvalid("STEAM_256:0:1");
+    assertInvalid("STEAM_1:2:1");
+  }
+
+  public void testRejectsMalformedText() {
+    assertInvalid("");
+    assertInvalid("-1");
+    assertInvalid("7656119796924970x");
+    assertInvalid("[U:1]");
+    assertInvalid("[U:1:8983980");
+    assertInvalid("[X:1:8983980]");
+    assertInvalid("[U:1:]");
+    assertInvalid("[U:1:89a3980]");
+    assertInvalid("[U1:8983980]");
+    assertInvalid("STEAM_1:0");
+    assertInvalid("STEAM_1:0:");
+    assertInvalid("STEAN_1:0:4491990");
+  }
+
+  private static void assertRoundTrip(String steam3, long steamId) {
+    assertEquals(steamId, SteamIds.parseSteam3(steam3));
+    assertEquals(steam3, SteamIds.toSteam3(steamId));
+  }
+
+  private static void assertInvalid(String text) {
+    try {
+      SteamIds.parse(text);
+      fail("Expected an invalid Steam ID: " + text);
+    } catch (RuntimeException e) {
+      assertEquals("Invalid Steam ID: " + text, e.getMessage());
+    }
+  }
+}
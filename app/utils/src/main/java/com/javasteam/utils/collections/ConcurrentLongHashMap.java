@@ -0,0 +1,269 @@
+package com.javasteam.utils.collections;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * Thread safe hash map from primitive long keys to objects, without boxing. The keys are spread
+ * over independently locked shards, every shard is an open addressing table with linear probing and
+ * backward shift deletion like {@link LongIntHashMap}, so threads working on different keys rarely
+ * wait for each other.
+ *
+ * @param <V> the value type
+ */
+public class ConcurrentLongHashMap<V> {
+  private static final int DEFAULT_SHARD_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.6f;
+  private final Shard<V>[] shards;
+  private final int shardMask;
+
+  public ConcurrentLongHashMap() {
+    this(Runtime.getRuntime().availableProcessors() * 2);
+  }
+
+  @SuppressWarnings("unchecked")
+  public ConcurrentLongHashMap(int concurrency) {
+    int count = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+    this.shards = new Shard[count];
+    this.shardMask = count - 1;
+    for (int i = 0; i < count; i++) {
+      shards[i] = new Shard<>();
+    }
+  }
+
+  /** Returns the value of the key or null if the key is not in the map. */
+  public V get(long key) {
+    long hash = hash(key);
+    return shard(hash).get(key, hash);
+  }
+
+  public boolean containsKey(long key) {
+    return get(key) != null;
+  }
+
+  /**
+   * Put a value.
+   *
+   * @return the previous value of the key or null if the key was not in the map
+   */
+  public V put(long key, V value) {
+    long hash = hash(key);
+    return shard(hash).put(key, hash, value, false);
+  }
+
+  /**
+   * Put a value if the key is not in the map.
+   *
+   * @return the current value of the key or null if the value was put
+   */
+  public V putIfAbsent(long key, V value) {
+    long hash = hash(key);
+    return shard(hash).put(key, hash, value, true);
+  }
+
+  /** Returns the value of the key, putting the computed value first if the key is missing. */
+  public V computeIfAbsent(long key, LongFunction<V> function) {
+    long hash = hash(key);
+    return shard(hash).computeIfAbsent(key, hash, function);
+  }
+
+  /**
+   * Remove a key.
+   *
+   * @return the value of the removed key or null if the key was not in the map
+   */
+  public V remove(long key) {
+    long hash = hash(key);
+    return shard(hash).remove(key, hash);
+  }
+
+  /** Returns the number of entries, not an atomic snapshot while the map is modified. */
+  public int size() {
+    int size = 0;
+    for (Shard<V> shard : shards) {
+      size += shard.size;
+    }
+    return size;
+  }
+
+  public boolean isEmpty() {
+    for (Shard<V> shard : shards) {
+      if (shard.size != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public void clear() {
+    for (Shard<V> shard : shards) {
+      shard.clear();
+    }
+  }
+
+  /** Returns the keys, every shard is copied under its lock. */
+  public long[] keys() {
+    long[][] parts = new long[shards.length][];
+    int length = 0;
+    for (int i = 0; i < shards.length; i++) {
+      parts[i] = shards[i].keys();
+      length += parts[i].length;
+    }
+
+    long[] keys = new long[length];
+    int index = 0;
+    for (long[] part : parts) {
+      System.arraycopy(part, 0, keys, index, part.length);
+      index += part.length;
+    }
+    return keys;
+  }
+
+  private Shard<V> shard(long hash) {
+    return shards[(int) (hash >>> 32) & shardMask];
+  }
+
+  private static long hash(long key) {
+    // Job ids and Steam IDs are sequential or share their upper bits, mix them over both halves
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return hash ^ (hash >>> 29);
+  }
+
+  private static final class Shard<V> {
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private volatile int size;
+
+    private Shard() {
+      allocate(DEFAULT_SHARD_CAPACITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized V get(long key, long hash) {
+      int slot = find(key, hash);
+      return slot < 0 ? null : (V) values[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized V put(long key, long hash, V value, boolean onlyIfAbsent) {
+      int slot = (int) hash & mask;
+      while (values[slot] != null) {
+        if (keys[slot] == key) {
+          V previous = (V) values[slot];
+          if (!onlyIfAbsent) {
+            values[slot] = value;
+          }
+          return previous;
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      insert(slot, key, value);
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized V computeIfAbsent(long key, long hash, LongFunction<V> function) {
+      int slot = (int) hash & mask;
+      while (values[slot] != null) {
+        if (keys[slot] == key) {
+          return (V) values[slot];
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      V value = function.apply(key);
+      insert(slot, key, value);
+      return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized V remove(long key, long hash) {
+      int slot = find(key, hash);
+      if (slot < 0) {
+        return null;
+      }
+
+      V value = (V) values[slot];
+      size--;
+      // Shift the following entries of the probe sequence back into the freed slot
+      int free = slot;
+      int next = (free + 1) & mask;
+      while (values[next] != null) {
+        int ideal = (int) hash(keys[next]) & mask;
+        if (((next - ideal) & mask) >= ((next - free) & mask)) {
+          keys[free] = keys[next];
+          values[free] = values[next];
+          free = next;
+        }
+        next = (next + 1) & mask;
+      }
+      values[free] = null;
+      return value;
+    }
+
+    private synchronized void clear() {
+      Arrays.fill(values, null);
+      size = 0;
+    }
+
+    private synchronized long[] keys() {
+      long[] result = new long[size];
+      int index = 0;
+      for (int i = 0; i < keys.length; i++) {
+        if (values[i] != null) {
+          result[index++] = keys[i];
+        }
+      }
+      return result;
+    }
+
+    private int find(long key, long hash) {
+      int slot = (int) hash & mask;
+      while (values[slot] != null) {
+        if (keys[slot] == key) {
+          return slot;
+        }
+        slot = (slot + 1) & mask;
+      }
+      return -1;
+    }
+
+    private void insert(int slot, long key, Object value) {
+      if (value == null) {
+        throw new NullPointerException("Null values are not supported");
+      }
+
+      keys[slot] = key;
+      values[slot] = value;
+      if (++size >= resizeAt) {
+        resize(keys.length * 2);
+      }
+    }
+
+    private void resize(int capacity) {
+      long[] oldKeys = keys;
+      Object[] oldValues = values;
+      allocate(capacity);
+      for (int i = 0; i < oldKeys.length; i++) {
+        if (oldValues[i] != null) {
+          int slot = (int) hash(oldKeys[i]) & mask;
+          while (values[slot] != null) {
+            slot = (slot + 1) & mask;
+          }
+          keys[slot] = oldKeys[i];
+          values[slot] = oldValues[i];
+        }
+      }
+    }
+
+    private void allocate(int capacity) {
+      keys = new long[capacity];
+      values = new Object[capacity];
+      mask = capacity - 1;
+      resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.javasteam.utils.collections;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from primitive long keys to int values, without boxing. Uses linear
+ * probing and backward shift deletion, so there are no tombstones. Not thread safe.
+ */
+public class LongIntHashMap {
+  private static final int DEFAULT_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.6f;
+  private long[] keys;
+  private int[] values;
+  private boolean[] used;
+  private int size;
+  private int mask;
+  private int resizeAt;
+
+  public LongIntHashMap() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public LongIntHashMap(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  /** Returns the value of the key or {@code missing} if the key is not in the map. */
+  public int get(long key, int missing) {
+    int slot = find(key);
+    return slot < 0 ? missing : values[slot];
+  }
+
+  public boolean containsKey(long key) {
+    return find(key) >= 0;
+  }
+
+  /**
+   * Put a value.
+   *
+   * @return the previous value of the key or {@code missing} if the key was not in the map
+   */
+  public int put(long key, int value, int missing) {
+    int slot = slot(key);
+    while (used[slot]) {
+      if (keys[slot] == key) {
+        int previous = values[slot];
+        values[slot] = value;
+        return previous;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    used[slot] = true;
+    keys[slot] = key;
+    values[slot] = value;
+    if (++size >= resizeAt) {
+      resize(keys.length * 2);
+    }
+    return missing;
+  }
+
+  /**
+   * Remove a key.
+   *
+   * @return the value of the removed key or {@code missing} if the key was not in the map
+   */
+  public int remove(long key, int missing) {
+    int slot = find(key);
+    if (slot < 0) {
+      return missing;
+    }
+
+    int value = values[slot];
+    size--;
+    // Shift the following entries of the probe sequence back into the freed slot
+    int free = slot;
+    int next = (free + 1) & mask;
+    while (used[next]) {
+      int ideal = slot(keys[next]);
+      if (((next - ideal) & mask) >= ((next - free) & mask)) {
+        keys[free] = keys[next];
+        values[free] = values[next];
+        free = next;
+      }
+      next = (next + 1) & mask;
+    }
+    used[free] = false;
+    return value;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  public void clear() {
+    Arrays.fill(used, false);
+    size = 0;
+  }
+
+  public void forEach(Consumer consumer) {
+    for (int i = 0; i < keys.length; i++) {
+      if (used[i]) {
+        consumer.accept(keys[i], values[i]);
+      }
+    }
+  }
+
+  /** Returns the keys in iteration order. */
+  public long[] keys() {
+    long[] result = new long[size];
+    int index = 0;
+    for (int i = 0; i < keys.length; i++) {
+      if (used[i]) {
+        result[index++] = keys[i];
+      }
+    }
+    return result;
+  }
+
+  private int find(long key) {
+    int slot = slot(key);
+    while (used[slot]) {
+      if (keys[slot] == key) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private int slot(long key) {
+    // Steam IDs share their upper bits, mix them so the account ids spread over the table
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & mask;
+  }
+
+  private void resize(int capacity) {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+    boolean[] oldUsed = used;
+    allocate(capacity);
+    size = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldUsed[i]) {
+        put(oldKeys[i], oldValues[i], 0);
+      }
+    }
+  }
+
+  private void allocate(int capacity) {
+    keys = new long[capacity];
+    values = new int[capacity];
+    used = new boolean[capacity];
+    mask = capacity - 1;
+    resizeAt = (int) (capacity * LOAD_FACTOR);
+  }
+
+  private static int capacityFor(int expectedSize) {
+    int capacity = DEFAULT_CAPACITY;
+    while (capacity * LOAD_FACTOR <= expectedSize) {
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  /** Receives the entries of the map. */
+  @FunctionalInterface
+  public interface Consumer {
+    void accept(long key, int value);
+  }
+}
@@ -4,7 +4,6 @@ import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
@@ -16,6 +15,7 @@ import javax.crypto.Mac;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -24,6 +24,9 @@ import javax.crypto.spec.SecretKeySpec;
 public class CryptoUtils {
   public static final String AES_ECB_NO_PADDING = "AES/ECB/NoPadding";
   public static final String AES_CBC_PKCS5_PADDING = "AES/CBC/PKCS5Padding";
+  public static final String AES_GCM_NO_PADDING = "AES/GCM/NoPadding";
+  public static final int GCM_IV_SIZE = 12;
+  public static final int GCM_TAG_BITS = 128;
   public static final String RSA = "RSA";
   public static final String AES = "AES";
   public static final String HMAC_SHA1 = "HmacSHA1";
@@ -167,6 +170,46 @@ public class CryptoUtils {
     return decrypt(AES_CBC_PKCS5_PADDING, data, key, iv);
   }
 
+  /**
+   * Encrypt and authenticate data using AES/GCM/NoPadding
+   *
+   * @param data the data to encrypt
+   * @param key the key to use
+   * @param iv the IV to use, {@link #GCM_IV_SIZE} bytes that are never reused with the same key
+   * @return the encrypted data followed by the authentication tag
+   */
+  public static byte[] encryptGCM(byte[] data, SecretKey key, byte[] iv) {
+    return cryptGCM(Cipher.ENCRYPT_MODE, data, key, iv);
+  }
+
+  /**
+   * Decrypt data using AES/GCM/NoPadding, fails if the data or the key is wrong
+   *
+   * @param data the encrypted data followed by the authentication tag
+   * @param key the key to use
+   * @param iv the IV used to encrypt the data
+   * @return the decrypted data
+   */
+  public static byte[] decryptGCM(byte[] data, SecretKey key, byte[] iv) {
+    return cryptGCM(Cipher.DECRYPT_MODE, data, key, iv);
+  }
+
+  private static byte[] cryptGCM(int mode, byte[] data, SecretKey key, byte[] iv) {
+    try {
+      Cipher cipher = Cipher.getInstance(AES_GCM_NO_PADDING);
+      cipher.init(mode, key, new GCMParameterSpec(GCM_TAG_BITS, iv));
+      return cipher.doFinal(data);
+    } catch (NoSuchAlgorithmException
+        | NoSuchPaddingException
+        | InvalidKeyException
+        | IllegalBlockSizeException
+        | BadPaddingException
+        | InvalidAlgorithmParameterException e) {
+      throw new RuntimeException(
+          mode == Cipher.ENCRYPT_MODE ? "Failed to encrypt data" : "Failed to decrypt data", e);
+    }
+  }
+
   /**
    * Encrypt the given data using the given RSA public key
    *
@@ -197,19 +240,23 @@ public class CryptoUtils {
   }
 
   /**
-   * Generate random bytes
+   * Generate random bytes with the non-blocking DRBG of the calling thread
    *
    * @param size the size of the random bytes
    * @return the generated random bytes
    */
   public static byte[] getRandomBytes(int size) {
-    try {
-      byte[] randomBytes = new byte[size];
-      SecureRandom.getInstanceStrong().nextBytes(randomBytes);
-      return randomBytes;
-    } catch (NoSuchAlgorithmException e) {
-      throw new RuntimeException("Failed to generate random bytes", e);
-    }
+    return RandomSource.nextBytes(size);
+  }
+
+  /**
+   * Generate random bytes with the strong random source, only for keys as it may block
+   *
+   * @param size the size of the random bytes
+   * @return the generated random bytes
+   */
+  public static byte[] getStrongRandomBytes(int size) {
+    return RandomSource.strongBytes(size);
   }
 
   /**
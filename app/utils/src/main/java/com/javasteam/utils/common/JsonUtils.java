@@ -1,24 +1,71 @@
 package com.javasteam.utils.common;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
 
-/** Utility class for common JSON operations. */
+/**
+ * Utility class for common JSON operations. Uses one shared {@link ObjectMapper} and caches an
+ * {@link ObjectReader} and {@link ObjectWriter} per type, both are immutable and thread safe.
+ */
 public class JsonUtils {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final ClassValue<ObjectReader> READERS =
+      new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+          return OBJECT_MAPPER.readerFor(type);
+        }
+      };
+  private static final ClassValue<ObjectWriter> WRITERS =
+      new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+          return OBJECT_MAPPER.writerFor(type);
+        }
+      };
+
+  public static ObjectMapper getObjectMapper() {
+    return OBJECT_MAPPER;
+  }
+
+  public static ObjectReader readerFor(Class<?> clazz) {
+    return READERS.get(clazz);
+  }
+
+  public static ObjectWriter writerFor(Class<?> clazz) {
+    return WRITERS.get(clazz);
+  }
+
   public static <T> T fromJson(String jsonString, Class<T> clazz) {
-    ObjectMapper objectMapper = new ObjectMapper();
     try {
-      return objectMapper.readValue(jsonString, clazz);
-    } catch (JsonProcessingException e) {
+      return readerFor(clazz).readValue(jsonString);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to parse JSON", e);
+    }
+  }
+
+  public static <T> T fromJson(byte[] json, Class<T> clazz) {
+    try {
+      return readerFor(clazz).readValue(json);
+    } catch (IOException e) {
       throw new RuntimeException("Failed to parse JSON", e);
     }
   }
 
   public static <T> String toJson(T object) {
-    ObjectMapper objectMapper = new ObjectMapper();
     try {
-      return objectMapper.writeValueAsString(object);
-    } catch (JsonProcessingException e) {
+      return writerFor(object.getClass()).writeValueAsString(object);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to serialize object", e);
+    }
+  }
+
+  public static <T> byte[] toJsonBytes(T object) {
+    try {
+      return writerFor(object.getClass()).writeValueAsBytes(object);
+    } catch (IOException e) {
       throw new RuntimeException("Failed to serialize object", e);
     }
   }
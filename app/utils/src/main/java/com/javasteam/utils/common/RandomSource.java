@@ -0,0 +1,77 @@
+package com.javasteam.utils.common;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Source of cryptographically secure random bytes. {@link #nextBytes(int)} uses a DRBG per thread
+ * that never blocks after it is seeded, the seeds come from a root DRBG that is seeded once from
+ * {@link SecureRandom#getInstanceStrong()}. Use {@link #strongBytes(int)} only for long lived keys,
+ * like session keys, since the strong source can block when the host is low on entropy.
+ */
+public class RandomSource {
+  private static final int SECURITY_STRENGTH = 256;
+  private static final int SEED_SIZE = SECURITY_STRENGTH / 8;
+  private static final ThreadLocal<SecureRandom> DRBG =
+      ThreadLocal.withInitial(() -> createDrbg(Seeds.next()));
+
+  /**
+   * Generate random bytes with the DRBG of the calling thread.
+   *
+   * @param size the number of bytes
+   * @return the random bytes
+   */
+  public static byte[] nextBytes(int size) {
+    byte[] bytes = new byte[size];
+    DRBG.get().nextBytes(bytes);
+    return bytes;
+  }
+
+  /**
+   * Generate random bytes with the strong source, may block.
+   *
+   * @param size the number of bytes
+   * @return the random bytes
+   */
+  public static byte[] strongBytes(int size) {
+    byte[] bytes = new byte[size];
+    Seeds.STRONG.nextBytes(bytes);
+    return bytes;
+  }
+
+  private static SecureRandom createDrbg(byte[] seed) {
+    try {
+      SecureRandom drbg =
+          SecureRandom.getInstance(
+              "DRBG",
+              DrbgParameters.instantiation(
+                  SECURITY_STRENGTH, DrbgParameters.Capability.RESEED_ONLY, null));
+      drbg.setSeed(seed);
+      return drbg;
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException("Failed to create DRBG", e);
+    }
+  }
+
+  /** Created on first use, so the strong source is only touched once random bytes are needed. */
+  private static class Seeds {
+    private static final SecureRandom STRONG = createStrong();
+    private static final SecureRandom ROOT = createDrbg(STRONG.generateSeed(SEED_SIZE));
+
+    /** Returns a seed for a thread DRBG, drawn from the output of the root DRBG. */
+    private static byte[] next() {
+      byte[] seed = new byte[SEED_SIZE];
+      ROOT.nextBytes(seed);
+      return seed;
+    }
+
+    private static SecureRandom createStrong() {
+      try {
+        return SecureRandom.getInstanceStrong();
+      } catch (NoSuchAlgorithmException e) {
+        throw new RuntimeException("Failed to create strong random source", e);
+      }
+    }
+  }
+}
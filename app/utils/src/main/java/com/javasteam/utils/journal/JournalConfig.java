@@ -0,0 +1,38 @@
+package com.javasteam.utils.journal;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Configuration for a {@link MessageJournal}. Segments are rolled over when full, the oldest
+ * segments are deleted when there are more than {@code maxSegments} segments or when their newest
+ * record is older than {@code maxAge}. Zero disables the retention limit.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * JournalConfig config =
+ *     JournalConfig.builder()
+ *         .withDirectory(Path.of("journal"))
+ *         .withSegmentSize(16 * 1024 * 1024)
+ *         .withMaxAge(Duration.ofDays(1))
+ *         .build();
+ * }</pre>
+ */
+@Getter
+@Builder(setterPrefix = "with")
+public class JournalConfig {
+  public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+  public static final int DEFAULT_MAX_SEGMENTS = 16;
+
+  private final Path directory;
+  @Builder.Default private final int segmentSize = DEFAULT_SEGMENT_SIZE;
+  @Builder.Default private final int maxSegments = DEFAULT_MAX_SEGMENTS;
+  @Builder.Default private final Duration maxAge = Duration.ZERO;
+
+  public static JournalConfig of(Path directory) {
+    return JournalConfig.builder().withDirectory(directory).build();
+  }
+}
@@ -0,0 +1,16 @@
+package com.javasteam.utils.journal;
+
+import java.nio.ByteBuffer;
+
+/** Receives the records of a {@link MessageJournal}. */
+@FunctionalInterface
+public interface JournalHandler {
+  /**
+   * Called for every record.
+   *
+   * @param emsg the EMsg of the message
+   * @param timestampMillis the time the message was appended, in epoch milliseconds
+   * @param data read only view of the message in the mapped segment, only valid during the call
+   */
+  void onRecord(int emsg, long timestampMillis, ByteBuffer data);
+}
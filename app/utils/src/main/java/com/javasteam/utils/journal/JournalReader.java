@@ -0,0 +1,58 @@
+package com.javasteam.utils.journal;
+
+/**
+ * Reads the records of a {@link MessageJournal} in order and keeps its position, so it can be
+ * polled repeatedly to tail the journal. The records are passed as views of the mapped segments
+ * without copying. A reader is not thread safe.
+ */
+public class JournalReader {
+  private final MessageJournal journal;
+  private Segment segment;
+  private int offset;
+
+  JournalReader(MessageJournal journal, long segmentId, int offset) {
+    this.journal = journal;
+    this.segment = segmentId < 0 ? null : journal.getSegment(segmentId);
+    this.offset = offset;
+  }
+
+  /**
+   * Read the available records.
+   *
+   * @param handler receives the records
+   * @param limit the maximum number of records to read
+   * @return the number of records read, 0 if no new records are available
+   */
+  public int poll(JournalHandler handler, int limit) {
+    int read = 0;
+    while (read < limit) {
+      if (segment == null) {
+        segment = journal.nextSegment(-1);
+        offset = Segment.SEGMENT_HEADER_SIZE;
+        if (segment == null) {
+          return read;
+        }
+      }
+
+      int next = segment.read(offset, handler);
+      if (next > offset) {
+        offset = next;
+        read++;
+        continue;
+      }
+
+      // End of the segment, or an unpublished record in a segment that is no longer written
+      if (next == -1 || journal.isComplete(segment)) {
+        Segment following = journal.nextSegment(segment.getId());
+        if (following == null) {
+          return read;
+        }
+        segment = following;
+        offset = Segment.SEGMENT_HEADER_SIZE;
+        continue;
+      }
+      return read;
+    }
+    return read;
+  }
+}
@@ -0,0 +1,285 @@
+package com.javasteam.utils.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Append only journal of messages stored in fixed size memory mapped segment files. Appending
+ * copies the message into the mapped segment without a system call, any number of threads can
+ * append concurrently. Readers access the records in place, see {@link #reader()} and {@link
+ * #query(int, long, long, JournalHandler)}.
+ *
+ * <p>A journal opened for writing always starts a new segment, segments of earlier runs stay
+ * readable. The journal does not flush the segments itself, the operating system writes them back
+ * and {@link #close()} forces the active segment to disk.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * try (MessageJournal journal = MessageJournal.open(JournalConfig.of(Path.of("journal")))) {
+ *   journal.append(emsg, message);
+ *   journal.query(EMsg.k_EMsgClientPersonaState_VALUE, from, to, (emsg, time, data) -> {});
+ * }
+ * }</pre>
+ */
+@Slf4j
+public class MessageJournal implements AutoCloseable {
+  public static final int ANY_EMSG = -1;
+  private final ConcurrentNavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+  @Getter private final JournalConfig config;
+  private final boolean readOnly;
+  private volatile Segment active;
+  private volatile boolean closed;
+
+  private MessageJournal(JournalConfig config, boolean readOnly) {
+    this.config = config;
+    this.readOnly = readOnly;
+  }
+
+  /**
+   * Open a journal for appending, creating the directory if needed.
+   *
+   * @param config the journal configuration
+   * @return the journal
+   */
+  public static MessageJournal open(JournalConfig config) {
+    if (config.getSegmentSize() % 8 != 0
+        || config.getSegmentSize() < Segment.SEGMENT_HEADER_SIZE + Segment.RECORD_HEADER_SIZE) {
+      throw new RuntimeException(
+          "Invalid segment size %s, must be a multiple of 8".formatted(config.getSegmentSize()));
+    }
+
+    MessageJournal journal = new MessageJournal(config, false);
+    try {
+      Files.createDirectories(config.getDirectory());
+      journal.loadSegments();
+      long id = journal.segments.isEmpty() ? 0 : journal.segments.lastKey() + 1;
+      journal.active = Segment.create(config.getDirectory(), id, config.getSegmentSize());
+      journal.segments.put(id, journal.active);
+      journal.applyRetention();
+      return journal;
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open journal %s".formatted(config.getDirectory()), e);
+    }
+  }
+
+  /**
+   * Open a journal for reading only, for example to analyze or tail the journal of another process.
+   *
+   * @param directory the journal directory
+   * @return the journal
+   */
+  public static MessageJournal openReadOnly(Path directory) {
+    MessageJournal journal = new MessageJournal(JournalConfig.of(directory), true);
+    try {
+      journal.loadSegments();
+      return journal;
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to open journal %s".formatted(directory), e);
+    }
+  }
+
+  /**
+   * Append a message with the current time.
+   *
+   * @param emsg the EMsg of the message
+   * @param data the message bytes
+   */
+  public void append(int emsg, byte[] data) {
+    append(emsg, System.currentTimeMillis(), data, 0, data.length);
+  }
+
+  /**
+   * Append a message. Messages appended after the journal is closed are dropped.
+   *
+   * @param emsg the EMsg of the message
+   * @param timestampMillis the timestamp in epoch milliseconds
+   * @param data the array containing the message
+   * @param offset the offset of the message in the array
+   * @param length the length of the message
+   */
+  public void append(int emsg, long timestampMillis, byte[] data, int offset, int length) {
+    if (readOnly) {
+      throw new RuntimeException("Journal is read only");
+    }
+    if (closed) {
+      return;
+    }
+    if (Segment.SEGMENT_HEADER_SIZE + Segment.RECORD_HEADER_SIZE + length
+        > config.getSegmentSize()) {
+      throw new RuntimeException(
+          "Message of %s bytes does not fit in a journal segment".formatted(length));
+    }
+
+    Segment segment;
+    while (!(segment = active).append(emsg, timestampMillis, data, offset, length)) {
+      // The active segment of a closed journal is sealed and takes no more records
+      if (closed) {
+        return;
+      }
+      roll(segment);
+    }
+  }
+
+  /** Returns a reader that starts at the oldest record. */
+  public JournalReader reader() {
+    Map.Entry<Long, Segment> first = segments.firstEntry();
+    return new JournalReader(
+        this, first == null ? -1 : first.getKey(), Segment.SEGMENT_HEADER_SIZE);
+  }
+
+  /** Returns a reader that only reads records appended after this call. */
+  public JournalReader tailReader() {
+    Segment last = segments.isEmpty() ? null : segments.lastEntry().getValue();
+    return last == null ? reader() : new JournalReader(this, last.getId(), last.getWritePosition());
+  }
+
+  /**
+   * Read the records of an EMsg in a time range. Segments that have no matching records according
+   * to their index are skipped.
+   *
+   * @param emsg the EMsg or {@link #ANY_EMSG}
+   * @param fromMillis the start of the range in epoch milliseconds, inclusive
+   * @param toMillis the end of the range in epoch milliseconds, inclusive
+   * @param handler receives the matching records, oldest segment first
+   * @return the number of matching records
+   */
+  public long query(int emsg, long fromMillis, long toMillis, JournalHandler handler) {
+    long[] matches = new long[1];
+    Long lastId = segments.isEmpty() ? null : segments.lastKey();
+    for (Segment segment : segments.values()) {
+      boolean newest = lastId != null && segment.getId() == lastId;
+      if (!newest && !segment.getIndex().mayContain(emsg, fromMillis, toMillis)) {
+        continue;
+      }
+
+      segment.forEach(
+          (recordEMsg, timestampMillis, data) -> {
+            if ((emsg == ANY_EMSG || recordEMsg == emsg)
+                && timestampMillis >= fromMillis
+                && timestampMillis <= toMillis) {
+              matches[0]++;
+              handler.onRecord(recordEMsg, timestampMillis, data);
+            }
+          });
+    }
+    return matches[0];
+  }
+
+  /** Returns the ids of the segments, oldest first. */
+  public List<Long> getSegmentIds() {
+    return List.copyOf(segments.keySet());
+  }
+
+  /** Returns the segment after the given id, looking for new segment files if read only. */
+  Segment nextSegment(long id) {
+    Map.Entry<Long, Segment> next = segments.higherEntry(id);
+    if (next == null && readOnly) {
+      try {
+        loadSegments();
+      } catch (IOException e) {
+        log.warn("Failed to look for new journal segments", e);
+      }
+      next = segments.higherEntry(id);
+    }
+    return next == null ? null : next.getValue();
+  }
+
+  Segment getSegment(long id) {
+    return segments.get(id);
+  }
+
+  /**
+   * Returns true if an unpublished record in the segment will never be published. Every record
+   * reserved in a segment of this writer is published eventually, even after a rollover. Segments
+   * of earlier runs may end with a record of a crashed writer. When tailing read only, a full
+   * segment of the other process is complete once a newer segment exists.
+   */
+  boolean isComplete(Segment segment) {
+    if (segment.isWritable()) {
+      return false;
+    }
+    return !readOnly || segment.getId() != segments.lastKey();
+  }
+
+  private synchronized void roll(Segment full) {
+    if (active != full || closed) {
+      return;
+    }
+
+    try {
+      full.seal();
+      long id = full.getId() + 1;
+      Segment next = Segment.create(config.getDirectory(), id, config.getSegmentSize());
+      segments.put(id, next);
+      active = next;
+      log.debug("Rolled journal over to segment {}", id);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to roll journal over", e);
+    }
+    applyRetention();
+  }
+
+  private void applyRetention() {
+    long maxAgeMillis = config.getMaxAge().toMillis();
+    long now = System.currentTimeMillis();
+    while (segments.size() > 1) {
+      Segment oldest = segments.firstEntry().getValue();
+      boolean tooMany = config.getMaxSegments() > 0 && segments.size() > config.getMaxSegments();
+      boolean tooOld =
+          maxAgeMillis > 0 && now - oldest.getIndex().getLastTimestamp() > maxAgeMillis;
+      if (oldest == active || !(tooMany || tooOld)) {
+        return;
+      }
+
+      // The mapping stays valid for readers that still use the segment
+      segments.remove(oldest.getId());
+      try {
+        Files.deleteIfExists(oldest.getPath());
+        Files.deleteIfExists(Segment.indexPath(oldest.getPath()));
+      } catch (IOException e) {
+        log.warn("Failed to delete journal segment {}", oldest.getPath(), e);
+      }
+    }
+  }
+
+  private synchronized void loadSegments() throws IOException {
+    if (!Files.isDirectory(config.getDirectory())) {
+      return;
+    }
+
+    try (Stream<Path> files = Files.list(config.getDirectory())) {
+      for (Path path : files.filter(path -> path.toString().endsWith(".seg")).toList()) {
+        String name = path.getFileName().toString();
+        long id = Long.parseLong(name.substring(0, name.length() - 4));
+        if (!segments.containsKey(id)) {
+          segments.put(id, Segment.open(path, id));
+        }
+      }
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    if (active != null) {
+      try {
+        active.seal();
+      } catch (IOException e) {
+        log.warn("Failed to seal journal segment {}", active.getPath(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package com.javasteam.utils.journal;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * A fixed size memory mapped segment file. Writers reserve space with a single atomic add, copy the
+ * record into the mapping and publish it by writing the record size last with release semantics. A
+ * reader that sees a size of zero has reached a record that is not published yet. Sealing closes
+ * the segment to new reservations and waits for the writers that already hold one, so the saved
+ * index covers every record.
+ *
+ * <p>Record layout, aligned to 8 bytes: int record size (or {@link #PADDING} at the end of a full
+ * segment), int EMsg, long timestamp in epoch milliseconds, message bytes.
+ */
+class Segment {
+  static final int MAGIC = 0x4A534A4E; // "JSJN"
+  static final int VERSION = 1;
+  static final int SEGMENT_HEADER_SIZE = 16;
+  static final int RECORD_HEADER_SIZE = 16;
+  static final int PADDING = -1;
+  private static final VarHandle INT_HANDLE =
+      MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+  @Getter private final long id;
+  @Getter private final Path path;
+  @Getter private final SegmentIndex index;
+  @Getter private final boolean writable;
+  private final MappedByteBuffer buffer;
+  private final AtomicInteger position = new AtomicInteger(SEGMENT_HEADER_SIZE);
+  private final AtomicInteger writers = new AtomicInteger();
+
+  private Segment(
+      long id, Path path, MappedByteBuffer buffer, SegmentIndex index, boolean writable) {
+    this.id = id;
+    this.path = path;
+    this.buffer = buffer;
+    this.index = index;
+    this.writable = writable;
+    this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  static Path segmentPath(Path directory, long id) {
+    return directory.resolve("%020d.seg".formatted(id));
+  }
+
+  static Path indexPath(Path segmentPath) {
+    String name = segmentPath.getFileName().toString();
+    return segmentPath.resolveSibling(name.substring(0, name.length() - 4) + ".idx");
+  }
+
+  /** Create and map a new zero filled segment for writing. */
+  static Segment create(Path directory, long id, int size) throws IOException {
+    Path path = segmentPath(directory, id);
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.setLength(size);
+      MappedByteBuffer buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+      Segment segment = new Segment(id, path, buffer, new SegmentIndex(), true);
+      segment.buffer.putInt(0, MAGIC);
+      segment.buffer.putInt(4, VERSION);
+      return segment;
+    }
+  }
+
+  /** Map an existing segment for reading, rebuilding its index if it was never sealed. */
+  static Segment open(Path path, long id) throws IOException {
+    try (FileChannel channel = FileChannel.open(path)) {
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      buffer.order(ByteOrder.LITTLE_ENDIAN);
+      if (buffer.capacity() < SEGMENT_HEADER_SIZE
+          || buffer.getInt(0) != MAGIC
+          || buffer.getInt(4) != VERSION) {
+        throw new IOException("Not a journal segment: %s".formatted(path));
+      }
+
+      Path indexPath = indexPath(path);
+      boolean sealed = Files.exists(indexPath);
+      Segment segment =
+          new Segment(
+              id, path, buffer, sealed ? SegmentIndex.load(indexPath) : new SegmentIndex(), false);
+      if (!sealed) {
+        segment.forEach((emsg, timestampMillis, data) -> segment.index.add(emsg, timestampMillis));
+      }
+      return segment;
+    }
+  }
+
+  int capacity() {
+    return buffer.capacity();
+  }
+
+  /**
+   * Append a record.
+   *
+   * @return false if the segment is full and the journal has to roll over
+   */
+  boolean append(int emsg, long timestampMillis, byte[] data, int offset, int length) {
+    int size = align(RECORD_HEADER_SIZE + length);
+    // Counted before reserving, so seal sees every writer that gets space in the segment
+    writers.incrementAndGet();
+    try {
+      int start = position.getAndAdd(size);
+      if (start + size > buffer.capacity()) {
+        // The first writer that does not fit marks the end of the segment for the readers
+        if (start <= buffer.capacity() - 4) {
+          INT_HANDLE.setRelease(buffer, start, PADDING);
+        }
+        return false;
+      }
+
+      buffer.putInt(start + 4, emsg);
+      buffer.putLong(start + 8, timestampMillis);
+      buffer.put(start + RECORD_HEADER_SIZE, data, offset, length);
+      index.add(emsg, timestampMillis);
+      INT_HANDLE.setRelease(buffer, start, RECORD_HEADER_SIZE + length);
+      return true;
+    } finally {
+      writers.decrementAndGet();
+    }
+  }
+
+  /**
+   * Read the record at the offset.
+   *
+   * @return the offset of the next record, {@code -1} at the end of the segment or {@code offset}
+   *     if the record is not published yet
+   */
+  int read(int offset, JournalHandler handler) {
+    if (offset > buffer.capacity() - RECORD_HEADER_SIZE) {
+      return -1;
+    }
+
+    int size = (int) INT_HANDLE.getAcquire(buffer, offset);
+    if (size == 0) {
+      return offset;
+    }
+    if (size == PADDING) {
+      return -1;
+    }
+
+    handler.onRecord(
+        buffer.getInt(offset + 4),
+        buffer.getLong(offset + 8),
+        buffer
+            .slice(offset + RECORD_HEADER_SIZE, size - RECORD_HEADER_SIZE)
+            .asReadOnlyBuffer()
+            .order(ByteOrder.LITTLE_ENDIAN));
+    return offset + align(size);
+  }
+
+  /** Read the published records from the start of the segment. */
+  void forEach(JournalHandler handler) {
+    int offset = SEGMENT_HEADER_SIZE;
+    int next;
+    while ((next = read(offset, handler)) > offset) {
+      offset = next;
+    }
+  }
+
+  /** Returns the offset after the last reserved record, used to tail from the current end. */
+  int getWritePosition() {
+    return Math.min(position.get(), buffer.capacity());
+  }
+
+  /** Stop accepting records, wait for the records being written and save the index. */
+  void seal() throws IOException {
+    int end = buffer.capacity() + 1;
+    position.getAndUpdate(current -> Math.max(current, end));
+    while (writers.get() > 0) {
+      Thread.onSpinWait();
+    }
+
+    buffer.force();
+    index.save(indexPath(path));
+  }
+
+  private static int align(int size) {
+    return (size + 7) & ~7;
+  }
+}
@@ -0,0 +1,78 @@
+package com.javasteam.utils.journal;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Summary of a segment: the timestamp range and the EMsgs it contains. Used to skip segments when
+ * querying, the index of a full segment is stored next to it when the segment is sealed.
+ */
+class SegmentIndex {
+  private final AtomicLong firstTimestamp = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong lastTimestamp = new AtomicLong(Long.MIN_VALUE);
+  private final LongAdder count = new LongAdder();
+  private final Set<Integer> emsgs = ConcurrentHashMap.newKeySet();
+
+  void add(int emsg, long timestampMillis) {
+    if (timestampMillis < firstTimestamp.get()) {
+      firstTimestamp.accumulateAndGet(timestampMillis, Math::min);
+    }
+    if (timestampMillis > lastTimestamp.get()) {
+      lastTimestamp.accumulateAndGet(timestampMillis, Math::max);
+    }
+    if (!emsgs.contains(emsg)) {
+      emsgs.add(emsg);
+    }
+    count.increment();
+  }
+
+  /** Returns false if the segment has no records of the EMsg in the time range. */
+  boolean mayContain(int emsg, long fromMillis, long toMillis) {
+    return count.sum() > 0
+        && (emsg == MessageJournal.ANY_EMSG || emsgs.contains(emsg))
+        && firstTimestamp.get() <= toMillis
+        && lastTimestamp.get() >= fromMillis;
+  }
+
+  long getLastTimestamp() {
+    return lastTimestamp.get();
+  }
+
+  long getCount() {
+    return count.sum();
+  }
+
+  void save(Path path) throws IOException {
+    try (DataOutputStream output = new DataOutputStream(Files.newOutputStream(path))) {
+      output.writeLong(firstTimestamp.get());
+      output.writeLong(lastTimestamp.get());
+      output.writeLong(count.sum());
+      Integer[] values = emsgs.toArray(Integer[]::new);
+      output.writeInt(values.length);
+      for (int emsg : values) {
+        output.writeInt(emsg);
+      }
+    }
+  }
+
+  static SegmentIndex load(Path path) throws IOException {
+    SegmentIndex index = new SegmentIndex();
+    try (DataInputStream input = new DataInputStream(Files.newInputStream(path))) {
+      index.firstTimestamp.set(input.readLong());
+      index.lastTimestamp.set(input.readLong());
+      index.count.add(input.readLong());
+      int size = input.readInt();
+      for (int i = 0; i < size; i++) {
+        index.emsgs.add(input.readInt());
+      }
+    }
+    return index;
+  }
+}
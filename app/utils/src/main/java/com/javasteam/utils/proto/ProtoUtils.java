@@ -5,7 +5,6 @@ import static com.javasteam.protobufs.EnumsClientserver.EMsg;
 import com.google.protobuf.GeneratedMessage;
 import com.google.protobuf.InvalidProtocolBufferException;
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.Optional;
 
 /** Utility class for common proto operations. */
@@ -38,6 +37,6 @@ public class ProtoUtils {
   }
 
   public static Optional<EMsg> resolveEMsg(int emsg) {
-    return Arrays.stream(EMsg.values()).filter(value -> value.getNumber() == emsg).findFirst();
+    return Optional.ofNullable(EMsg.forNumber(emsg));
   }
 }
@@ -0,0 +1,158 @@
+package com.javasteam.utils.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import junit.framework.TestCase;
+
+/**
+ * Checks {@link LongIntHashMap} against a {@link HashMap}, with a focus on the backward shift
+ * deletion of colliding keys.
+ */
+public class LongIntHashMapTest extends TestCase {
+  private static final int MISSING = -1;
+  private static final int CAPACITY = 16;
+  private static final long STEAM_ID_BASE = 76561197960265728L;
+
+  public void testPutGetAndReplace() {
+    LongIntHashMap map = new LongIntHashMap();
+    assertTrue(map.isEmpty());
+    assertEquals(MISSING, map.get(STEAM_ID_BASE, MISSING));
+
+    assertEquals(MISSING, map.put(STEAM_ID_BASE, 1, MISSING));
+    assertEquals(1, map.put(STEAM_ID_BASE, 2, MISSING));
+    assertEquals(2, map.get(STEAM_ID_BASE, MISSING));
+    assertEquals(1, map.size());
+
+    // Zero and negative keys are ordinary keys, the used flags mark the free slots
+    map.put(0L, 3, MISSING);
+    map.put(-1L, 4, MISSING);
+    assertEquals(3, map.get(0L, MISSING));
+    assertEquals(4, map.get(-1L, MISSING));
+    assertEquals(3, map.size());
+  }
+
+  public void testRemoveMissingKey() {
+    LongIntHashMap map = new LongIntHashMap();
+    map.put(STEAM_ID_BASE, 1, MISSING);
+    assertEquals(MISSING, map.remove(STEAM_ID_BASE + 1, MISSING));
+    assertEquals(1, map.size());
+  }
+
+  public void testRemoveShiftsCollidingKeysBack() {
+    // Keys sharing an ideal slot form one probe sequence, removing its head must keep the rest
+    List<Long> colliding = keysWithIdealSlot(5, 4);
+    LongIntHashMap map = new LongIntHashMap(4);
+    for (int i = 0; i < colliding.size(); i++) {
+      map.put(colliding.get(i), i, MISSING);
+    }
+
+    assertEquals(0, map.remove(colliding.get(0), MISSING));
+    for (int i = 1; i < colliding.size(); i++) {
+      assertEquals(i, map.get(colliding.get(i), MISSING));
+    }
+
+    assertEquals(2, map.remove(colliding.get(2), MISSING));
+    assertEquals(1, map.get(colliding.get(1), MISSING));
+    assertEquals(3, map.get(colliding.get(3), MISSING));
+    assertEquals(2, map.size());
+  }
+
+  public void testRemoveKeepsKeysThatWrapAroundTheTable() {
+    // A probe sequence that starts in the last slot continues at slot 0
+    List<Long> last = keysWithIdealSlot(CAPACITY - 1, 3);
+    List<Long> first = keysWithIdealSlot(0, 1);
+    LongIntHashMap map = new LongIntHashMap(4);
+    map.put(last.get(0), 0, MISSING);
+    map.put(last.get(1), 1, MISSING);
+    map.put(first.get(0), 10, MISSING);
+    map.put(last.get(2), 2, MISSING);
+
+    assertEquals(0, map.remove(last.get(0), MISSING));
+    assertEquals(1, map.get(last.get(1), MISSING));
+    assertEquals(2, map.get(last.get(2), MISSING));
+    assertEquals(10, map.get(first.get(0), MISSING));
+
+    assertEquals(1, map.remove(last.get(1), MISSING));
+    assertEquals(2, map.get(last.get(2), MISSING));
+    assertEquals(10, map.get(first.get(0), MISSING));
+    assertEquals(2, map.size());
+  }
+
+  public void testMatchesHashMapAfterRandomOperations() {
+    Random random = new Random(42);
+    LongIntHashMap map = new LongIntHashMap();
+    Map<Long, Integer> expected = new HashMap<>();
+
+    for (int i = 0; i < 20_000; i++) {
+      // A small key range makes replacements, removals of present keys and collisions common
+      long key = STEAM_ID_BASE + random.nextInt(512);
+      int value = random.nextInt(1000);
+      if (random.nextInt(3) == 0) {
+        assertEquals(expected.getOrDefault(key, MISSING).intValue(), map.remove(key, MISSING));
+        expected.remove(key);
+      } else {
+        Integer previous = expected.put(key, value);
+        assertEquals(previous == null ? MISSING : previous, map.put(key, value, MISSING));
+      }
+    }
+
+    assertEquals(expected.size(), map.size());
+    for (long key = STEAM_ID_BASE; key < STEAM_ID_BASE + 512; key++) {
+      assertEquals(expected.getOrDefault(key, MISSING).intValue(), map.get(key, MISSING));
+      assertEquals(expected.containsKey(key), map.containsKey(key));
+    }
+
+    Map<Long, Integer> iterated = new HashMap<>();
+    map.forEach(iterated::put);
+    assertEquals(expected, iterated);
+
+    long[] keys = map.keys();
+    Arrays.sort(keys);
+    assertTrue(
+        Arrays.equals(
+            expected.keySet().stream().mapToLong(Long::longValue).sorted().toArray(), keys));
+  }
+
+  public void testGrowsPastTheExpectedSize() {
+    LongIntHashMap map = new LongIntHashMap(1);
+    for (int i = 0; i < 1000; i++) {
+      map.put(STEAM_ID_BASE + i, i, MISSING);
+    }
+
+    assertEquals(1000, map.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(i, map.get(STEAM_ID_BASE + i, MISSING));
+    }
+  }
+
+  public void testClear() {
+    LongIntHashMap map = new LongIntHashMap();
+    map.put(STEAM_ID_BASE, 1, MISSING);
+    map.clear();
+
+    assertTrue(map.isEmpty());
+    assertFalse(map.containsKey(STEAM_ID_BASE));
+    assertEquals(0, map.keys().length);
+  }
+
+  /** Finds Steam IDs whose ideal slot in a table of the default capacity is the given slot. */
+  private static List<Long> keysWithIdealSlot(int slot, int count) {
+    List<Long> keys = new ArrayList<>();
+    for (long key = STEAM_ID_BASE; keys.size() < count; key++) {
+      if (idealSlot(key) == slot) {
+        keys.add(key);
+      }
+    }
+    return keys;
+  }
+
+  // Same mixing as LongIntHashMap, the tests depend on which keys collide
+  private static int idealSlot(long key) {
+    long hash = key * 0x9E3779B97F4A7C15L;
+    return (int) (hash ^ (hash >>> 32)) & (CAPACITY - 1);
+  }
+}
@@ -0,0 +1,147 @@
+package com.javasteam.webapi;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.AllArgsConstructor;
+
+/**
+ * Web API clients on the JDK {@link HttpClient}, an alternative to {@link RESTAPIClientProvider}
+ * that implements the same endpoint interfaces. All clients share one HTTP/2 client and its
+ * connection pool, creating a client only creates a proxy. Methods returning a {@link
+ * java.util.concurrent.CompletionStage} are sent asynchronously, the others block. Responses are
+ * parsed with JSON-B while they are read, so a body is never buffered whole.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * SteamWebDirectoryRESTAPIClient client =
+ *     HttpAPIClientProvider.getHttpAPIClient(SteamWebDirectoryRESTAPIClient.class);
+ * client.getCMListAsync(0).thenAccept(response -> ...);
+ * }</pre>
+ */
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public class HttpAPIClientProvider {
+  private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(Thread.ofPlatform().name("webapi-http-", 0).daemon().factory());
+  private static final HttpClient HTTP_CLIENT =
+      HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_2)
+          .followRedirects(HttpClient.Redirect.NORMAL)
+          .connectTimeout(CONNECT_TIMEOUT)
+          .executor(EXECUTOR)
+          .build();
+  private static final Jsonb JSONB = JsonbBuilder.create();
+  private static final ClassValue<Map<Method, HttpEndpoint>> ENDPOINTS =
+      new ClassValue<>() {
+        @Override
+        protected Map<Method, HttpEndpoint> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  public static <T> T getHttpAPIClient(Class<T> clazz, String baseUri) {
+    return getHttpAPIClient(clazz, baseUri, Map.of());
+  }
+
+  public static <T> T getHttpAPIClient(
+      Class<T> clazz, String baseUri, Map<String, Object> headers) {
+    return clazz.cast(
+        Proxy.newProxyInstance(
+            clazz.getClassLoader(),
+            new Class<?>[] {clazz},
+            new Handler(clazz, baseUri, Map.copyOf(headers))));
+  }
+
+  public static <T> T getHttpAPIClient(Class<T> clazz) {
+    return getHttpAPIClient(clazz, RESTAPIClientProvider.STEAM_API_BASE_URI);
+  }
+
+  public static <T> T getHttpAPIClient(Class<T> clazz, Map<String, Object> headers) {
+    return getHttpAPIClient(clazz, RESTAPIClientProvider.STEAM_API_BASE_URI, headers);
+  }
+
+  /** Returns the HTTP client shared by all clients. */
+  public static HttpClient getHttpClient() {
+    return HTTP_CLIENT;
+  }
+
+  private static CompletableFuture<Object> send(HttpRequest request, Type responseType) {
+    // The body is read on the executor, the client's own threads must not block on it
+    return HTTP_CLIENT
+        .sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+        .thenApplyAsync(response -> read(response, responseType), EXECUTOR);
+  }
+
+  private static Object read(HttpResponse<InputStream> response, Type responseType) {
+    try (InputStream body = response.body()) {
+      if (response.statusCode() / 100 != 2) {
+        throw new HttpAPIException(response.statusCode(), response.uri());
+      }
+
+      if (responseType == void.class || responseType == Void.class) {
+        return null;
+      }
+
+      return JSONB.fromJson(body, responseType);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to read Web API response " + response.uri(), e);
+    }
+  }
+
+  @AllArgsConstructor
+  private static class Handler implements InvocationHandler {
+    private final Class<?> api;
+    private final String baseUri;
+    private final Map<String, Object> headers;
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        return switch (method.getName()) {
+          case "equals" -> proxy == args[0];
+          case "hashCode" -> System.identityHashCode(proxy);
+          default -> api.getName() + "[" + baseUri + "]";
+        };
+      }
+
+      if (method.isDefault()) {
+        return InvocationHandler.invokeDefault(proxy, method, args);
+      }
+
+      HttpEndpoint endpoint =
+          ENDPOINTS.get(api).computeIfAbsent(method, key -> HttpEndpoint.of(api, key));
+      HttpRequest request =
+          endpoint.toRequest(baseUri, headers, args != null ? args : new Object[0], JSONB::toJson);
+      CompletableFuture<Object> response = send(request, endpoint.responseType());
+      if (endpoint.async()) {
+        return response;
+      }
+
+      try {
+        return response.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+          throw cause;
+        }
+        throw new RuntimeException("Web API request " + request.uri() + " failed", e.getCause());
+      }
+    }
+  }
+}
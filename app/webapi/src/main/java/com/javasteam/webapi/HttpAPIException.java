@@ -0,0 +1,17 @@
+package com.javasteam.webapi;
+
+import java.net.URI;
+import lombok.Getter;
+
+/** Thrown by clients of {@link HttpAPIClientProvider} when the Web API answers with an error. */
+@Getter
+public class HttpAPIException extends RuntimeException {
+  private final int statusCode;
+  private final URI uri;
+
+  public HttpAPIException(int statusCode, URI uri) {
+    super("Web API request " + uri + " failed with status " + statusCode);
+    this.statusCode = statusCode;
+    this.uri = uri;
+  }
+}
@@ -0,0 +1,149 @@
+package com.javasteam.webapi;
+
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * A method of a Web API endpoint interface, read once from its JAX-RS annotations. Supports the
+ * HTTP method annotations, {@link Path}, {@link QueryParam}, {@link PathParam}, {@link
+ * HeaderParam}, {@link DefaultValue} and one unannotated parameter that is sent as the JSON body.
+ */
+record HttpEndpoint(
+    String httpMethod, String path, Parameter[] parameters, Type responseType, boolean async) {
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  enum Kind {
+    QUERY,
+    PATH,
+    HEADER,
+    BODY
+  }
+
+  record Parameter(Kind kind, String name, String defaultValue) {}
+
+  static HttpEndpoint of(Class<?> api, Method method) {
+    String httpMethod = null;
+    for (Annotation annotation : method.getAnnotations()) {
+      HttpMethod type = annotation.annotationType().getAnnotation(HttpMethod.class);
+      if (type != null) {
+        httpMethod = type.value();
+      }
+    }
+    if (httpMethod == null) {
+      throw new IllegalArgumentException("Method " + method + " has no HTTP method annotation");
+    }
+
+    Annotation[][] annotations = method.getParameterAnnotations();
+    Parameter[] parameters = new Parameter[annotations.length];
+    for (int i = 0; i < annotations.length; i++) {
+      parameters[i] = parameter(annotations[i]);
+    }
+
+    Type responseType = method.getGenericReturnType();
+    boolean async = CompletionStage.class.isAssignableFrom(method.getReturnType());
+    if (async) {
+      responseType = ((ParameterizedType) responseType).getActualTypeArguments()[0];
+    }
+
+    return new HttpEndpoint(
+        httpMethod,
+        path(api.getAnnotation(Path.class)) + path(method.getAnnotation(Path.class)),
+        parameters,
+        responseType,
+        async);
+  }
+
+  /** Builds the request for a call with the arguments, the body is serialized with the function. */
+  HttpRequest toRequest(
+      String baseUri,
+      Map<String, Object> headers,
+      Object[] args,
+      Function<Object, String> bodySerializer) {
+    String resolvedPath = path;
+    StringBuilder query = new StringBuilder();
+    HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.noBody();
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder().timeout(REQUEST_TIMEOUT).header("Accept", "application/json");
+    headers.forEach((key, value) -> builder.header(key, String.valueOf(value)));
+
+    for (int i = 0; i < parameters.length; i++) {
+      Parameter parameter = parameters[i];
+      Object arg = args[i] != null ? args[i] : parameter.defaultValue();
+      if (arg == null) {
+        continue;
+      }
+
+      switch (parameter.kind()) {
+        case QUERY ->
+            query
+                .append(query.isEmpty() ? '?' : '&')
+                .append(encode(parameter.name()))
+                .append('=')
+                .append(encode(arg.toString()));
+        case PATH ->
+            resolvedPath =
+                resolvedPath.replace("{" + parameter.name() + "}", encode(arg.toString()));
+        case HEADER -> builder.header(parameter.name(), arg.toString());
+        case BODY -> {
+          builder.header("Content-Type", "application/json");
+          body = HttpRequest.BodyPublishers.ofString(bodySerializer.apply(arg));
+        }
+      }
+    }
+
+    return builder.uri(URI.create(baseUri + resolvedPath + query)).method(httpMethod, body).build();
+  }
+
+  private static Parameter parameter(Annotation[] annotations) {
+    Kind kind = Kind.BODY;
+    String name = null;
+    String defaultValue = null;
+    for (Annotation annotation : annotations) {
+      if (annotation instanceof QueryParam queryParam) {
+        kind = Kind.QUERY;
+        name = queryParam.value();
+      } else if (annotation instanceof PathParam pathParam) {
+        kind = Kind.PATH;
+        name = pathParam.value();
+      } else if (annotation instanceof HeaderParam headerParam) {
+        kind = Kind.HEADER;
+        name = headerParam.value();
+      } else if (annotation instanceof DefaultValue value) {
+        defaultValue = value.value();
+      }
+    }
+    return new Parameter(kind, name, defaultValue);
+  }
+
+  private static String path(Path path) {
+    if (path == null || path.value().isEmpty() || path.value().equals("/")) {
+      return "";
+    }
+
+    String value =
+        path.value().endsWith("/")
+            ? path.value().substring(0, path.value().length() - 1)
+            : path.value();
+    return value.startsWith("/") ? value : "/" + value;
+  }
+
+  private static String encode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+  }
+}
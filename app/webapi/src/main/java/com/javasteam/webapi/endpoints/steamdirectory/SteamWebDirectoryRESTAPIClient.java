@@ -1,5 +1,6 @@
 package com.javasteam.webapi.endpoints.steamdirectory;
 
+import com.javasteam.webapi.HttpAPIClientProvider;
 import com.javasteam.webapi.RESTAPIClientProvider;
 import com.javasteam.webapi.Response;
 import com.javasteam.webapi.endpoints.steamdirectory.responses.CMListResponse;
@@ -8,6 +9,7 @@ import jakarta.ws.rs.GET;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.QueryParam;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
 
 @RegisterRestClient
@@ -17,6 +19,11 @@ public interface SteamWebDirectoryRESTAPIClient {
   @Path("/GetCMList/v1")
   Response<CMListResponse> getCMList(@QueryParam("cellid") @DefaultValue("0") int cellid);
 
+  @GET
+  @Path("/GetCMList/v1")
+  CompletionStage<Response<CMListResponse>> getCMListAsync(
+      @QueryParam("cellid") @DefaultValue("0") int cellid);
+
   static SteamWebDirectoryRESTAPIClient getInstance() {
     return RESTAPIClientProvider.getRESTAPIClient(SteamWebDirectoryRESTAPIClient.class);
   }
@@ -24,4 +31,13 @@ public interface SteamWebDirectoryRESTAPIClient {
   static SteamWebDirectoryRESTAPIClient getInstance(Map<String, Object> headers) {
     return RESTAPIClientProvider.getRESTAPIClient(SteamWebDirectoryRESTAPIClient.class, headers);
   }
+
+  /** Returns a client on the shared JDK HTTP client, see {@link HttpAPIClientProvider}. */
+  static SteamWebDirectoryRESTAPIClient getHttpInstance() {
+    return HttpAPIClientProvider.getHttpAPIClient(SteamWebDirectoryRESTAPIClient.class);
+  }
+
+  static SteamWebDirectoryRESTAPIClient getHttpInstance(Map<String, Object> headers) {
+    return HttpAPIClientProvider.getHttpAPIClient(SteamWebDirectoryRESTAPIClient.class, headers);
+  }
 }
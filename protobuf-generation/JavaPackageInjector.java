@@ -0,0 +1,62 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Copies proto files and adds a {@code java_package} option to every copy that has none, so protoc
+ * writes the Java classes into that package. The Steam proto files do not set the option and are
+ * left as they are downloaded.
+ *
+ * <p>Usage, from the {@code protobuf-generation} folder:
+ *
+ * <pre>
+ * java JavaPackageInjector.java ../app/protobufs/target/protos protobufs com.javasteam.protobufs
+ * </pre>
+ */
+public class JavaPackageInjector {
+  private static final String SYNTAX = "syntax";
+  private static final String JAVA_PACKAGE = "option java_package";
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 3) {
+      System.err.println("Usage: JavaPackageInjector <output dir> <proto dir> <java package>");
+      System.exit(1);
+    }
+
+    Path output = Path.of(args[0]);
+    Path protoDirectory = Path.of(args[1]);
+    String option = "%s = \"%s\";".formatted(JAVA_PACKAGE, args[2]);
+    Files.createDirectories(output);
+
+    int copied = 0;
+    try (Stream<Path> files = Files.list(protoDirectory)) {
+      for (Path proto : files.filter(path -> path.toString().endsWith(".proto")).toList()) {
+        List<String> lines = inject(Files.readAllLines(proto), option);
+        Files.write(output.resolve(proto.getFileName()), lines);
+        copied++;
+      }
+    }
+    System.out.printf("Copied %s proto files to %s with %s%n", copied, output, option);
+  }
+
+  /** Adds the option after the syntax statement, or as the first line if there is none. */
+  private static List<String> inject(List<String> lines, String option) {
+    List<String> result = new ArrayList<>(lines);
+    if (lines.stream().anyMatch(line -> line.strip().startsWith(JAVA_PACKAGE))) {
+      return result;
+    }
+
+    int index = 0;
+    for (int i = 0; i < lines.size(); i++) {
+      if (lines.get(i).strip().startsWith(SYNTAX)) {
+        index = i + 1;
+        break;
+      }
+    }
+    result.add(index, option);
+    return result;
+  }
+}
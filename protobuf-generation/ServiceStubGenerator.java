@@ -0,0 +1,276 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Generates typed unified service stubs from the {@code service} definitions of proto files. Every
+ * service becomes a {@code <Service>Service} class with one method per rpc that calls {@code
+ * UnifiedServiceClient}. Methods returning {@code NoResponse} are sent as notifications.
+ *
+ * <p>Usage, from the {@code protobuf-generation} folder:
+ *
+ * <pre>
+ * java ServiceStubGenerator.java ../app/steam/src/main/java protobufs steammessages_auth.steamclient.proto
+ * </pre>
+ *
+ * <p>The Java classes of the proto files and their imports must be in the protobufs module. The
+ * {@code generate-protobufs} profile of {@code app/steam} runs the generator on the {@code
+ * service.stub.files} property. The output is laid out as google-java-format would format it.
+ */
+public class ServiceStubGenerator {
+  private static final String PROTO_PACKAGE = "com.javasteam.protobufs";
+  private static final String STUB_PACKAGE = "com.javasteam.steam.service.stubs";
+  private static final String NO_RESPONSE = "NoResponse";
+  private static final String GENERATOR = "protobuf-generation/ServiceStubGenerator.java";
+  private static final int MAX_LINE_LENGTH = 100;
+  private static final String METHOD_INDENT = "  ";
+  private static final String CONTINUATION = "    ";
+  private static final Pattern MESSAGE = Pattern.compile("^(?:message|enum) (\\w+)");
+  private static final Pattern SERVICE = Pattern.compile("^service (\\w+) \\{");
+  private static final Pattern RPC =
+      Pattern.compile("^\\s*rpc (\\w+) \\(\\.?(\\w+)\\) returns \\(\\.?(\\w+)\\)");
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 3) {
+      System.err.println("Usage: ServiceStubGenerator <output dir> <proto dir> <proto files...>");
+      System.exit(1);
+    }
+
+    Path output = Path.of(args[0]).resolve(STUB_PACKAGE.replace('.', '/'));
+    Path protoDirectory = Path.of(args[1]);
+    Map<String, String> outerClasses = indexMessages(protoDirectory);
+    Files.createDirectories(output);
+
+    for (int i = 2; i < args.length; i++) {
+      Path proto = protoDirectory.resolve(args[i]);
+      for (Service service : parseServices(proto)) {
+        Path file = output.resolve(service.name() + "Service.java");
+        Files.writeString(file, generate(service, proto.getFileName().toString(), outerClasses));
+        System.out.printf("Generated %s with %s methods%n", file, service.rpcs().size());
+      }
+    }
+  }
+
+  /** Maps every top level message and enum to the outer class of its proto file. */
+  private static Map<String, String> indexMessages(Path protoDirectory) throws IOException {
+    Map<String, String> outerClasses = new HashMap<>();
+    try (Stream<Path> files = Files.list(protoDirectory)) {
+      for (Path proto : files.filter(path -> path.toString().endsWith(".proto")).toList()) {
+        List<String> names = new ArrayList<>();
+        for (String line : Files.readAllLines(proto)) {
+          Matcher matcher = MESSAGE.matcher(line);
+          if (matcher.find()) {
+            names.add(matcher.group(1));
+          }
+        }
+
+        String outerClass = outerClassName(proto.getFileName().toString(), names);
+        names.forEach(name -> outerClasses.put(name, outerClass));
+      }
+    }
+    return outerClasses;
+  }
+
+  /** Returns the outer class name protoc derives from the file name. */
+  private static String outerClassName(String fileName, List<String> messages) {
+    StringBuilder name = new StringBuilder();
+    boolean upper = true;
+    for (char c : fileName.substring(0, fileName.length() - ".proto".length()).toCharArray()) {
+      if (!Character.isLetterOrDigit(c)) {
+        upper = true;
+      } else {
+        name.append(upper ? Character.toUpperCase(c) : c);
+        upper = Character.isDigit(c);
+      }
+    }
+    return messages.contains(name.toString()) ? name + "OuterClass" : name.toString();
+  }
+
+  private static List<Service> parseServices(Path proto) throws IOException {
+    List<Service> services = new ArrayList<>();
+    Service current = null;
+    for (String line : Files.readAllLines(proto)) {
+      Matcher service = SERVICE.matcher(line);
+      Matcher rpc = RPC.matcher(line);
+      if (service.find()) {
+        current = new Service(service.group(1), new ArrayList<>());
+        services.add(current);
+      } else if (current != null && rpc.find()) {
+        current.rpcs().add(new Rpc(rpc.group(1), rpc.group(2), rpc.group(3)));
+      } else if (line.startsWith("}")) {
+        current = null;
+      }
+    }
+    return services;
+  }
+
+  private static String generate(
+      Service service, String protoFile, Map<String, String> outerClasses) {
+    TreeSet<String> imports = new TreeSet<>();
+    boolean hasCalls = false;
+    StringBuilder methods = new StringBuilder();
+    for (Rpc rpc : service.rpcs()) {
+      String request = rpc.request();
+      String response = rpc.response();
+      String method = Character.toLowerCase(rpc.name().charAt(0)) + rpc.name().substring(1);
+      String methodName = "%s.%s#1".formatted(service.name(), rpc.name());
+      String literal = '"' + methodName + '"';
+      imports.add(importOf(request, outerClasses));
+
+      if (response.equals(NO_RESPONSE)) {
+        methods.append('\n');
+        javadoc(methods, "Sends {@code %s}, which has no response.".formatted(methodName));
+        declare(methods, "void", method, request + " request");
+        wrap(methods, "    ", "client.notify(", ";", literal, "request");
+        methods.append("  }\n");
+        continue;
+      }
+
+      imports.add(importOf(response, outerClasses));
+      hasCalls = true;
+      String future = "CompletableFuture<%s>".formatted(response);
+      methods.append('\n');
+      javadoc(methods, "Calls {@code %s} with the default deadline.".formatted(methodName));
+      declare(methods, future, method, request + " request");
+      wrap(
+          methods,
+          "    ",
+          "return %s(".formatted(method),
+          ";",
+          "request",
+          "UnifiedServiceClient.DEFAULT_DEADLINE");
+      methods.append("  }\n\n");
+      javadoc(methods, "Calls {@code %s}.".formatted(methodName));
+      declare(methods, future, method, request + " request", "Duration deadline");
+      wrap(
+          methods,
+          "    ",
+          "return client.call(",
+          ";",
+          literal,
+          "request",
+          response + ".parser()",
+          "deadline");
+      methods.append("  }\n");
+    }
+
+    StringBuilder source = new StringBuilder("package %s;\n\n".formatted(STUB_PACKAGE));
+    imports.forEach(line -> source.append(line).append('\n'));
+    source.append("\nimport com.javasteam.steam.service.UnifiedServiceClient;\n");
+    if (hasCalls) {
+      source.append("import java.time.Duration;\nimport java.util.concurrent.CompletableFuture;\n");
+    }
+    source.append('\n');
+    javadoc(
+        source,
+        "",
+        "Stub of the {@code %s} unified service, generated from {@code %s} by {@code %s}. Do not edit."
+            .formatted(service.name(), protoFile, GENERATOR));
+    source.append(
+        """
+public class %sService {
+  private final UnifiedServiceClient client;
+
+  private %sService(UnifiedServiceClient client) {
+    this.client = client;
+  }
+
+  public static %sService of(UnifiedServiceClient client) {
+    return new %sService(client);
+  }
+"""
+            .formatted(service.name(), service.name(), service.name(), service.name()));
+    source.append(methods).append("}\n");
+    return source.toString();
+  }
+
+  private static void javadoc(StringBuilder source, String text) {
+    javadoc(source, "  ", text);
+  }
+
+  /**
+   * Appends a javadoc comment the way google-java-format lays it out, on one line if it fits and
+   * otherwise wrapped at the word boundaries.
+   */
+  private static void javadoc(StringBuilder source, String indent, String text) {
+    String line = "%s/** %s */".formatted(indent, text);
+    if (line.length() <= MAX_LINE_LENGTH) {
+      source.append(line).append('\n');
+      return;
+    }
+
+    source.append(indent).append("/**\n");
+    StringBuilder current = new StringBuilder(indent).append(" *");
+    for (String word : text.split(" ")) {
+      if (current.length() + 1 + word.length() > MAX_LINE_LENGTH) {
+        source.append(current).append('\n');
+        current = new StringBuilder(indent).append(" *");
+      }
+      current.append(' ').append(word);
+    }
+    source.append(current).append('\n').append(indent).append(" */\n");
+  }
+
+  /**
+   * Appends a public method declaration, breaking after the return type when the method name and
+   * its parenthesis do not fit on the first line.
+   */
+  private static void declare(
+      StringBuilder source, String type, String name, String... parameters) {
+    String head = "public %s %s(".formatted(type, name);
+    if (METHOD_INDENT.length() + head.length() <= MAX_LINE_LENGTH) {
+      wrap(source, METHOD_INDENT, head, " {", parameters);
+      return;
+    }
+
+    source.append(METHOD_INDENT).append("public ").append(type).append('\n');
+    wrap(source, METHOD_INDENT + CONTINUATION, name + "(", " {", parameters);
+  }
+
+  /**
+   * Appends a declaration or call the way google-java-format lays it out: on one line if it fits,
+   * otherwise with the arguments on a continuation line, or one argument per line.
+   */
+  private static void wrap(
+      StringBuilder source, String indent, String head, String tail, String... arguments) {
+    String joined = String.join(", ", arguments);
+    String line = indent + head + joined + ")" + tail;
+    if (line.length() <= MAX_LINE_LENGTH) {
+      source.append(line).append('\n');
+      return;
+    }
+
+    String continuation = indent + CONTINUATION;
+    source.append(indent).append(head).append('\n');
+    line = continuation + joined + ")" + tail;
+    if (line.length() <= MAX_LINE_LENGTH) {
+      source.append(line).append('\n');
+      return;
+    }
+
+    for (int i = 0; i < arguments.length; i++) {
+      source.append(continuation).append(arguments[i]);
+      source.append(i < arguments.length - 1 ? ",\n" : ")" + tail + "\n");
+    }
+  }
+
+  private static String importOf(String type, Map<String, String> outerClasses) {
+    String outerClass = outerClasses.get(type);
+    if (outerClass == null) {
+      throw new IllegalStateException("Unknown message type " + type);
+    }
+    return "import static %s.%s.%s;".formatted(PROTO_PACKAGE, outerClass, type);
+  }
+
+  private record Service(String name, List<Rpc> rpcs) {}
+
+  private record Rpc(String name, String request, String response) {}
+}